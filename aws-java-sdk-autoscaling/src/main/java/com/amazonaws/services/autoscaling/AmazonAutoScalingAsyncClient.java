@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.autoscaling.model.*;
+import com.amazonaws.services.autoscaling.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonAutoScaling.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Auto Scaling <p>
  * Auto Scaling is designed to automatically launch or terminate EC2
  * instances based on user-defined policies, schedules, and health
@@ -303,11 +307,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(final DescribeAccountLimitsRequest describeAccountLimitsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-        }
-    });
+        return describeAccountLimitsComposableAsync(describeAccountLimitsRequest);
     }
 
     /**
@@ -346,19 +346,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
+        return withAsyncHandler(describeAccountLimitsComposableAsync(describeAccountLimitsRequest),
+                describeAccountLimitsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAccountLimits operation like
+     * {@link #describeAccountLimitsAsync(DescribeAccountLimitsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAccountLimitsRequest Container for the necessary
+     *           parameters to execute the DescribeAccountLimits operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAccountLimits service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeAccountLimitsResult> describeAccountLimitsComposableAsync(final DescribeAccountLimitsRequest describeAccountLimitsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAccountLimitsResult>() {
             public DescribeAccountLimitsResult call() throws Exception {
-              DescribeAccountLimitsResult result;
-                try {
-                result = describeAccountLimits(describeAccountLimitsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                 return result;
-        }
-    });
+                return describeAccountLimits(describeAccountLimitsRequest);
+            }
+        }, describeAccountLimitsRequest,
+                new DescribeAccountLimitsRequestMarshaller(), new DescribeAccountLimitsResultStaxUnmarshaller());
     }
     
     /**
@@ -392,11 +404,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-        }
-    });
+        return describeAutoScalingGroupsComposableAsync(describeAutoScalingGroupsRequest);
     }
 
     /**
@@ -436,19 +444,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
             final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
+        return withAsyncHandler(describeAutoScalingGroupsComposableAsync(describeAutoScalingGroupsRequest),
+                describeAutoScalingGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAutoScalingGroups operation like
+     * {@link #describeAutoScalingGroupsAsync(DescribeAutoScalingGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAutoScalingGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingGroups operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAutoScalingGroups service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsComposableAsync(final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAutoScalingGroupsResult>() {
             public DescribeAutoScalingGroupsResult call() throws Exception {
-              DescribeAutoScalingGroupsResult result;
-                try {
-                result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
+            }
+        }, describeAutoScalingGroupsRequest,
+                new DescribeAutoScalingGroupsRequestMarshaller(), new DescribeAutoScalingGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -481,12 +501,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> enableMetricsCollectionAsync(final EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-                return null;
-        }
-    });
+        return enableMetricsCollectionComposableAsync(enableMetricsCollectionRequest);
     }
 
     /**
@@ -525,18 +540,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
             final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableMetricsCollectionComposableAsync(enableMetricsCollectionRequest),
+                enableMetricsCollectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableMetricsCollection operation like
+     * {@link #enableMetricsCollectionAsync(EnableMetricsCollectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the EnableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         EnableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> enableMetricsCollectionComposableAsync(final EnableMetricsCollectionRequest enableMetricsCollectionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableMetricsCollection(enableMetricsCollectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableMetricsCollectionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableMetricsCollectionRequest,
+                new EnableMetricsCollectionRequestMarshaller(), null);
     }
     
     /**
@@ -566,12 +595,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resumeProcesses(resumeProcessesRequest);
-                return null;
-        }
-    });
+        return resumeProcessesComposableAsync(resumeProcessesRequest);
     }
 
     /**
@@ -607,18 +631,30 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ResumeProcessesRequest resumeProcessesRequest,
             final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resumeProcessesComposableAsync(resumeProcessesRequest),
+                resumeProcessesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResumeProcesses operation like
+     * {@link #resumeProcessesAsync(ResumeProcessesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param resumeProcessesRequest Container for the necessary parameters
+     *           to execute the ResumeProcesses operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         ResumeProcesses service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> resumeProcessesComposableAsync(final ResumeProcessesRequest resumeProcessesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resumeProcesses(resumeProcessesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resumeProcessesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resumeProcessesRequest,
+                new ResumeProcessesRequestMarshaller(), null);
     }
     
     /**
@@ -645,11 +681,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(final DescribeLifecycleHooksRequest describeLifecycleHooksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                return describeLifecycleHooks(describeLifecycleHooksRequest);
-        }
-    });
+        return describeLifecycleHooksComposableAsync(describeLifecycleHooksRequest);
     }
 
     /**
@@ -682,19 +714,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest,
             final AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
+        return withAsyncHandler(describeLifecycleHooksComposableAsync(describeLifecycleHooksRequest),
+                describeLifecycleHooksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLifecycleHooks operation like
+     * {@link #describeLifecycleHooksAsync(DescribeLifecycleHooksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLifecycleHooksRequest Container for the necessary
+     *           parameters to execute the DescribeLifecycleHooks operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLifecycleHooks service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeLifecycleHooksResult> describeLifecycleHooksComposableAsync(final DescribeLifecycleHooksRequest describeLifecycleHooksRequest) {
+        return executeAsync(executorService, new Callable<DescribeLifecycleHooksResult>() {
             public DescribeLifecycleHooksResult call() throws Exception {
-              DescribeLifecycleHooksResult result;
-                try {
-                result = describeLifecycleHooks(describeLifecycleHooksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLifecycleHooksRequest, result);
-                 return result;
-        }
-    });
+                return describeLifecycleHooks(describeLifecycleHooksRequest);
+            }
+        }, describeLifecycleHooksRequest,
+                new DescribeLifecycleHooksRequestMarshaller(), new DescribeLifecycleHooksResultStaxUnmarshaller());
     }
     
     /**
@@ -725,11 +769,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribePoliciesResult> describePoliciesAsync(final DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                return describePolicies(describePoliciesRequest);
-        }
-    });
+        return describePoliciesComposableAsync(describePoliciesRequest);
     }
 
     /**
@@ -766,19 +806,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribePoliciesRequest describePoliciesRequest,
             final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
+        return withAsyncHandler(describePoliciesComposableAsync(describePoliciesRequest),
+                describePoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribePolicies operation like
+     * {@link #describePoliciesAsync(DescribePoliciesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describePoliciesRequest Container for the necessary parameters
+     *           to execute the DescribePolicies operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribePolicies service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribePoliciesResult> describePoliciesComposableAsync(final DescribePoliciesRequest describePoliciesRequest) {
+        return executeAsync(executorService, new Callable<DescribePoliciesResult>() {
             public DescribePoliciesResult call() throws Exception {
-              DescribePoliciesResult result;
-                try {
-                result = describePolicies(describePoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePoliciesRequest, result);
-                 return result;
-        }
-    });
+                return describePolicies(describePoliciesRequest);
+            }
+        }, describePoliciesRequest,
+                new DescribePoliciesRequestMarshaller(), new DescribePoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -806,11 +856,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
-        }
-    });
+        return describeScalingProcessTypesComposableAsync(describeScalingProcessTypesRequest);
     }
 
     /**
@@ -844,19 +890,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
             final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
+        return withAsyncHandler(describeScalingProcessTypesComposableAsync(describeScalingProcessTypesRequest),
+                describeScalingProcessTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeScalingProcessTypes operation
+     * like
+     * {@link #describeScalingProcessTypesAsync(DescribeScalingProcessTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeScalingProcessTypesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingProcessTypes operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeScalingProcessTypes service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeScalingProcessTypesResult> describeScalingProcessTypesComposableAsync(final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeScalingProcessTypesResult>() {
             public DescribeScalingProcessTypesResult call() throws Exception {
-              DescribeScalingProcessTypesResult result;
-                try {
-                result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScalingProcessTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
+            }
+        }, describeScalingProcessTypesRequest,
+                new DescribeScalingProcessTypesRequestMarshaller(), new DescribeScalingProcessTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -888,12 +947,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                return null;
-        }
-    });
+        return deleteLaunchConfigurationComposableAsync(deleteLaunchConfigurationRequest);
     }
 
     /**
@@ -931,18 +985,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
             final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLaunchConfigurationComposableAsync(deleteLaunchConfigurationRequest),
+                deleteLaunchConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLaunchConfiguration operation like
+     * {@link #deleteLaunchConfigurationAsync(DeleteLaunchConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the DeleteLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deleteLaunchConfigurationComposableAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLaunchConfigurationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLaunchConfigurationRequest,
+                new DeleteLaunchConfigurationRequestMarshaller(), null);
     }
     
     /**
@@ -974,12 +1042,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createAutoScalingGroupAsync(final CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return createAutoScalingGroupComposableAsync(createAutoScalingGroupRequest);
     }
 
     /**
@@ -1017,18 +1080,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
             final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createAutoScalingGroupComposableAsync(createAutoScalingGroupRequest),
+                createAutoScalingGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAutoScalingGroup operation like
+     * {@link #createAutoScalingGroupAsync(CreateAutoScalingGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the CreateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         CreateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> createAutoScalingGroupComposableAsync(final CreateAutoScalingGroupRequest createAutoScalingGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createAutoScalingGroup(createAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createAutoScalingGroupRequest,
+                new CreateAutoScalingGroupRequestMarshaller(), null);
     }
     
     /**
@@ -1059,12 +1136,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInstances(attachInstancesRequest);
-                return null;
-        }
-    });
+        return attachInstancesComposableAsync(attachInstancesRequest);
     }
 
     /**
@@ -1101,18 +1173,30 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachInstancesRequest attachInstancesRequest,
             final AsyncHandler<AttachInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(attachInstancesComposableAsync(attachInstancesRequest),
+                attachInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachInstances operation like
+     * {@link #attachInstancesAsync(AttachInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param attachInstancesRequest Container for the necessary parameters
+     *           to execute the AttachInstances operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         AttachInstances service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> attachInstancesComposableAsync(final AttachInstancesRequest attachInstancesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 attachInstances(attachInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInstancesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, attachInstancesRequest,
+                new AttachInstancesRequestMarshaller(), null);
     }
     
     /**
@@ -1149,11 +1233,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(final DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                return describeScalingActivities(describeScalingActivitiesRequest);
-        }
-    });
+        return describeScalingActivitiesComposableAsync(describeScalingActivitiesRequest);
     }
 
     /**
@@ -1196,19 +1276,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
             final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
+        return withAsyncHandler(describeScalingActivitiesComposableAsync(describeScalingActivitiesRequest),
+                describeScalingActivitiesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeScalingActivities operation like
+     * {@link #describeScalingActivitiesAsync(DescribeScalingActivitiesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeScalingActivitiesRequest Container for the necessary
+     *           parameters to execute the DescribeScalingActivities operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeScalingActivities service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeScalingActivitiesResult> describeScalingActivitiesComposableAsync(final DescribeScalingActivitiesRequest describeScalingActivitiesRequest) {
+        return executeAsync(executorService, new Callable<DescribeScalingActivitiesResult>() {
             public DescribeScalingActivitiesResult call() throws Exception {
-              DescribeScalingActivitiesResult result;
-                try {
-                result = describeScalingActivities(describeScalingActivitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScalingActivitiesRequest, result);
-                 return result;
-        }
-    });
+                return describeScalingActivities(describeScalingActivitiesRequest);
+            }
+        }, describeScalingActivitiesRequest,
+                new DescribeScalingActivitiesRequestMarshaller(), new DescribeScalingActivitiesResultStaxUnmarshaller());
     }
     
     /**
@@ -1236,11 +1328,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-        }
-    });
+        return describeNotificationConfigurationsComposableAsync(describeNotificationConfigurationsRequest);
     }
 
     /**
@@ -1274,19 +1362,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
             final AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
+        return withAsyncHandler(describeNotificationConfigurationsComposableAsync(describeNotificationConfigurationsRequest),
+                describeNotificationConfigurationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeNotificationConfigurations
+     * operation like
+     * {@link #describeNotificationConfigurationsAsync(DescribeNotificationConfigurationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeNotificationConfigurationsRequest Container for the
+     *           necessary parameters to execute the DescribeNotificationConfigurations
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeNotificationConfigurations service method, as
+     *         returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsComposableAsync(final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeNotificationConfigurationsResult>() {
             public DescribeNotificationConfigurationsResult call() throws Exception {
-              DescribeNotificationConfigurationsResult result;
-                try {
-                result = describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNotificationConfigurationsRequest, result);
-                 return result;
-        }
-    });
+                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
+            }
+        }, describeNotificationConfigurationsRequest,
+                new DescribeNotificationConfigurationsRequestMarshaller(), new DescribeNotificationConfigurationsResultStaxUnmarshaller());
     }
     
     /**
@@ -1317,11 +1418,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DeleteLifecycleHookResult> deleteLifecycleHookAsync(final DeleteLifecycleHookRequest deleteLifecycleHookRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                return deleteLifecycleHook(deleteLifecycleHookRequest);
-        }
-    });
+        return deleteLifecycleHookComposableAsync(deleteLifecycleHookRequest);
     }
 
     /**
@@ -1358,19 +1455,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest,
             final AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
+        return withAsyncHandler(deleteLifecycleHookComposableAsync(deleteLifecycleHookRequest),
+                deleteLifecycleHookRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLifecycleHook operation like
+     * {@link #deleteLifecycleHookAsync(DeleteLifecycleHookRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLifecycleHookRequest Container for the necessary
+     *           parameters to execute the DeleteLifecycleHook operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLifecycleHook service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DeleteLifecycleHookResult> deleteLifecycleHookComposableAsync(final DeleteLifecycleHookRequest deleteLifecycleHookRequest) {
+        return executeAsync(executorService, new Callable<DeleteLifecycleHookResult>() {
             public DeleteLifecycleHookResult call() throws Exception {
-              DeleteLifecycleHookResult result;
-                try {
-                result = deleteLifecycleHook(deleteLifecycleHookRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLifecycleHookRequest, result);
-                 return result;
-        }
-    });
+                return deleteLifecycleHook(deleteLifecycleHookRequest);
+            }
+        }, deleteLifecycleHookRequest,
+                new DeleteLifecycleHookRequestMarshaller(), new DeleteLifecycleHookResultStaxUnmarshaller());
     }
     
     /**
@@ -1419,11 +1528,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutLifecycleHookResult> putLifecycleHookAsync(final PutLifecycleHookRequest putLifecycleHookRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                return putLifecycleHook(putLifecycleHookRequest);
-        }
-    });
+        return putLifecycleHookComposableAsync(putLifecycleHookRequest);
     }
 
     /**
@@ -1478,19 +1583,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutLifecycleHookRequest putLifecycleHookRequest,
             final AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
+        return withAsyncHandler(putLifecycleHookComposableAsync(putLifecycleHookRequest),
+                putLifecycleHookRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutLifecycleHook operation like
+     * {@link #putLifecycleHookAsync(PutLifecycleHookRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putLifecycleHookRequest Container for the necessary parameters
+     *           to execute the PutLifecycleHook operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         PutLifecycleHook service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<PutLifecycleHookResult> putLifecycleHookComposableAsync(final PutLifecycleHookRequest putLifecycleHookRequest) {
+        return executeAsync(executorService, new Callable<PutLifecycleHookResult>() {
             public PutLifecycleHookResult call() throws Exception {
-              PutLifecycleHookResult result;
-                try {
-                result = putLifecycleHook(putLifecycleHookRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putLifecycleHookRequest, result);
-                 return result;
-        }
-    });
+                return putLifecycleHook(putLifecycleHookRequest);
+            }
+        }, putLifecycleHookRequest,
+                new PutLifecycleHookRequestMarshaller(), new PutLifecycleHookResultStaxUnmarshaller());
     }
     
     /**
@@ -1517,11 +1632,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-        }
-    });
+        return describeTerminationPolicyTypesComposableAsync(describeTerminationPolicyTypesRequest);
     }
 
     /**
@@ -1554,19 +1665,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
             final AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
+        return withAsyncHandler(describeTerminationPolicyTypesComposableAsync(describeTerminationPolicyTypesRequest),
+                describeTerminationPolicyTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTerminationPolicyTypes operation
+     * like
+     * {@link #describeTerminationPolicyTypesAsync(DescribeTerminationPolicyTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTerminationPolicyTypesRequest Container for the
+     *           necessary parameters to execute the DescribeTerminationPolicyTypes
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTerminationPolicyTypes service method, as returned
+     *         by AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesComposableAsync(final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeTerminationPolicyTypesResult>() {
             public DescribeTerminationPolicyTypesResult call() throws Exception {
-              DescribeTerminationPolicyTypesResult result;
-                try {
-                result = describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTerminationPolicyTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
+            }
+        }, describeTerminationPolicyTypesRequest,
+                new DescribeTerminationPolicyTypesRequestMarshaller(), new DescribeTerminationPolicyTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -1602,11 +1726,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return describeTagsComposableAsync(describeTagsRequest);
     }
 
     /**
@@ -1648,19 +1768,28 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return withAsyncHandler(describeTagsComposableAsync(describeTagsRequest),
+                describeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTags operation like
+     * {@link #describeTagsAsync(DescribeTagsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the DescribeTags
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeTagsResult> describeTagsComposableAsync(final DescribeTagsRequest describeTagsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+                return describeTags(describeTagsRequest);
+            }
+        }, describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -1685,12 +1814,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return deleteTagsComposableAsync(deleteTagsRequest);
     }
 
     /**
@@ -1721,18 +1845,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteTagsComposableAsync(deleteTagsRequest),
+                deleteTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTags operation like
+     * {@link #deleteTagsAsync(DeleteTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the DeleteTags
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deleteTagsComposableAsync(final DeleteTagsRequest deleteTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(), null);
     }
     
     /**
@@ -1757,12 +1892,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                executePolicy(executePolicyRequest);
-                return null;
-        }
-    });
+        return executePolicyComposableAsync(executePolicyRequest);
     }
 
     /**
@@ -1793,18 +1923,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExecutePolicyRequest executePolicyRequest,
             final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(executePolicyComposableAsync(executePolicyRequest),
+                executePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ExecutePolicy operation like
+     * {@link #executePolicyAsync(ExecutePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param executePolicyRequest Container for the necessary parameters to
+     *           execute the ExecutePolicy operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the ExecutePolicy
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> executePolicyComposableAsync(final ExecutePolicyRequest executePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 executePolicy(executePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(executePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, executePolicyRequest,
+                new ExecutePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -1832,11 +1973,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
-        }
-    });
+        return putScalingPolicyComposableAsync(putScalingPolicyRequest);
     }
 
     /**
@@ -1870,19 +2007,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScalingPolicyRequest putScalingPolicyRequest,
             final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
+        return withAsyncHandler(putScalingPolicyComposableAsync(putScalingPolicyRequest),
+                putScalingPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutScalingPolicy operation like
+     * {@link #putScalingPolicyAsync(PutScalingPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putScalingPolicyRequest Container for the necessary parameters
+     *           to execute the PutScalingPolicy operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         PutScalingPolicy service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<PutScalingPolicyResult> putScalingPolicyComposableAsync(final PutScalingPolicyRequest putScalingPolicyRequest) {
+        return executeAsync(executorService, new Callable<PutScalingPolicyResult>() {
             public PutScalingPolicyResult call() throws Exception {
-              PutScalingPolicyResult result;
-                try {
-                result = putScalingPolicy(putScalingPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putScalingPolicyRequest, result);
-                 return result;
-        }
-    });
+                return putScalingPolicy(putScalingPolicyRequest);
+            }
+        }, putScalingPolicyRequest,
+                new PutScalingPolicyRequestMarshaller(), new PutScalingPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -1919,12 +2066,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putNotificationConfigurationAsync(final PutNotificationConfigurationRequest putNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-                return null;
-        }
-    });
+        return putNotificationConfigurationComposableAsync(putNotificationConfigurationRequest);
     }
 
     /**
@@ -1967,20 +2109,35 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest,
             final AsyncHandler<PutNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putNotificationConfigurationRequest, null);
-                 return null;
-        }
-    });
+        return withAsyncHandler(putNotificationConfigurationComposableAsync(putNotificationConfigurationRequest),
+                putNotificationConfigurationRequest, asyncHandler);
     }
-    
+
+    /**
+     * Asynchronously executes the PutNotificationConfiguration operation
+     * like
+     * {@link #putNotificationConfigurationAsync(PutNotificationConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putNotificationConfigurationRequest Container for the necessary
+     *           parameters to execute the PutNotificationConfiguration operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         PutNotificationConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> putNotificationConfigurationComposableAsync(final PutNotificationConfigurationRequest putNotificationConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
+            public Void call() throws Exception {
+                putNotificationConfiguration(putNotificationConfigurationRequest);
+                return null;
+            }
+        }, putNotificationConfigurationRequest,
+                new PutNotificationConfigurationRequestMarshaller(), null);
+    }
+    
     /**
      * <p>
      * Moves the specified instances out of <code>Standby</code> mode.
@@ -2008,11 +2165,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                return exitStandby(exitStandbyRequest);
-        }
-    });
+        return exitStandbyComposableAsync(exitStandbyRequest);
     }
 
     /**
@@ -2048,19 +2201,28 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExitStandbyRequest exitStandbyRequest,
             final AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
+        return withAsyncHandler(exitStandbyComposableAsync(exitStandbyRequest),
+                exitStandbyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ExitStandby operation like
+     * {@link #exitStandbyAsync(ExitStandbyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param exitStandbyRequest Container for the necessary parameters to
+     *           execute the ExitStandby operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the ExitStandby
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<ExitStandbyResult> exitStandbyComposableAsync(final ExitStandbyRequest exitStandbyRequest) {
+        return executeAsync(executorService, new Callable<ExitStandbyResult>() {
             public ExitStandbyResult call() throws Exception {
-              ExitStandbyResult result;
-                try {
-                result = exitStandby(exitStandbyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(exitStandbyRequest, result);
-                 return result;
-        }
-    });
+                return exitStandby(exitStandbyRequest);
+            }
+        }, exitStandbyRequest,
+                new ExitStandbyRequestMarshaller(), new ExitStandbyResultStaxUnmarshaller());
     }
     
     /**
@@ -2085,12 +2247,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-        }
-    });
+        return deletePolicyComposableAsync(deletePolicyRequest);
     }
 
     /**
@@ -2121,18 +2278,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deletePolicyComposableAsync(deletePolicyRequest),
+                deletePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePolicy operation like
+     * {@link #deletePolicyAsync(DeletePolicyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deletePolicyRequest Container for the necessary parameters to
+     *           execute the DeletePolicy operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the DeletePolicy
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deletePolicyComposableAsync(final DeletePolicyRequest deletePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deletePolicy(deletePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deletePolicyRequest,
+                new DeletePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -2178,11 +2346,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<CompleteLifecycleActionResult> completeLifecycleActionAsync(final CompleteLifecycleActionRequest completeLifecycleActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                return completeLifecycleAction(completeLifecycleActionRequest);
-        }
-    });
+        return completeLifecycleActionComposableAsync(completeLifecycleActionRequest);
     }
 
     /**
@@ -2234,19 +2398,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CompleteLifecycleActionRequest completeLifecycleActionRequest,
             final AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
+        return withAsyncHandler(completeLifecycleActionComposableAsync(completeLifecycleActionRequest),
+                completeLifecycleActionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CompleteLifecycleAction operation like
+     * {@link #completeLifecycleActionAsync(CompleteLifecycleActionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param completeLifecycleActionRequest Container for the necessary
+     *           parameters to execute the CompleteLifecycleAction operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         CompleteLifecycleAction service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<CompleteLifecycleActionResult> completeLifecycleActionComposableAsync(final CompleteLifecycleActionRequest completeLifecycleActionRequest) {
+        return executeAsync(executorService, new Callable<CompleteLifecycleActionResult>() {
             public CompleteLifecycleActionResult call() throws Exception {
-              CompleteLifecycleActionResult result;
-                try {
-                result = completeLifecycleAction(completeLifecycleActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(completeLifecycleActionRequest, result);
-                 return result;
-        }
-    });
+                return completeLifecycleAction(completeLifecycleActionRequest);
+            }
+        }, completeLifecycleActionRequest,
+                new CompleteLifecycleActionRequestMarshaller(), new CompleteLifecycleActionResultStaxUnmarshaller());
     }
     
     /**
@@ -2273,12 +2449,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteNotificationConfigurationAsync(final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                return null;
-        }
-    });
+        return deleteNotificationConfigurationComposableAsync(deleteNotificationConfigurationRequest);
     }
 
     /**
@@ -2311,18 +2482,33 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
             final AsyncHandler<DeleteNotificationConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteNotificationConfigurationComposableAsync(deleteNotificationConfigurationRequest),
+                deleteNotificationConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteNotificationConfiguration
+     * operation like
+     * {@link #deleteNotificationConfigurationAsync(DeleteNotificationConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteNotificationConfigurationRequest Container for the
+     *           necessary parameters to execute the DeleteNotificationConfiguration
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DeleteNotificationConfiguration service method, as returned
+     *         by AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deleteNotificationConfigurationComposableAsync(final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNotificationConfigurationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteNotificationConfigurationRequest,
+                new DeleteNotificationConfigurationRequestMarshaller(), null);
     }
     
     /**
@@ -2349,12 +2535,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteScheduledActionAsync(final DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteScheduledAction(deleteScheduledActionRequest);
-                return null;
-        }
-    });
+        return deleteScheduledActionComposableAsync(deleteScheduledActionRequest);
     }
 
     /**
@@ -2387,18 +2568,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteScheduledActionRequest deleteScheduledActionRequest,
             final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteScheduledActionComposableAsync(deleteScheduledActionRequest),
+                deleteScheduledActionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteScheduledAction operation like
+     * {@link #deleteScheduledActionAsync(DeleteScheduledActionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteScheduledActionRequest Container for the necessary
+     *           parameters to execute the DeleteScheduledAction operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DeleteScheduledAction service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deleteScheduledActionComposableAsync(final DeleteScheduledActionRequest deleteScheduledActionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteScheduledAction(deleteScheduledActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteScheduledActionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteScheduledActionRequest,
+                new DeleteScheduledActionRequestMarshaller(), null);
     }
     
     /**
@@ -2428,12 +2623,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
-                return null;
-        }
-    });
+        return setInstanceHealthComposableAsync(setInstanceHealthRequest);
     }
 
     /**
@@ -2469,18 +2659,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceHealthRequest setInstanceHealthRequest,
             final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setInstanceHealthComposableAsync(setInstanceHealthRequest),
+                setInstanceHealthRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetInstanceHealth operation like
+     * {@link #setInstanceHealthAsync(SetInstanceHealthRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param setInstanceHealthRequest Container for the necessary parameters
+     *           to execute the SetInstanceHealth operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         SetInstanceHealth service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> setInstanceHealthComposableAsync(final SetInstanceHealthRequest setInstanceHealthRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setInstanceHealth(setInstanceHealthRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setInstanceHealthRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setInstanceHealthRequest,
+                new SetInstanceHealthRequestMarshaller(), null);
     }
     
     /**
@@ -2507,11 +2710,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-        }
-    });
+        return describeAutoScalingNotificationTypesComposableAsync(describeAutoScalingNotificationTypesRequest);
     }
 
     /**
@@ -2544,19 +2743,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
             final AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
+        return withAsyncHandler(describeAutoScalingNotificationTypesComposableAsync(describeAutoScalingNotificationTypesRequest),
+                describeAutoScalingNotificationTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAutoScalingNotificationTypes
+     * operation like
+     * {@link #describeAutoScalingNotificationTypesAsync(DescribeAutoScalingNotificationTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAutoScalingNotificationTypesRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeAutoScalingNotificationTypes operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAutoScalingNotificationTypes service method, as
+     *         returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesComposableAsync(final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAutoScalingNotificationTypesResult>() {
             public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-              DescribeAutoScalingNotificationTypesResult result;
-                try {
-                result = describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingNotificationTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
+            }
+        }, describeAutoScalingNotificationTypesRequest,
+                new DescribeAutoScalingNotificationTypesRequestMarshaller(), new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -2597,12 +2809,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                suspendProcesses(suspendProcessesRequest);
-                return null;
-        }
-    });
+        return suspendProcessesComposableAsync(suspendProcessesRequest);
     }
 
     /**
@@ -2649,18 +2856,30 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SuspendProcessesRequest suspendProcessesRequest,
             final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(suspendProcessesComposableAsync(suspendProcessesRequest),
+                suspendProcessesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SuspendProcesses operation like
+     * {@link #suspendProcessesAsync(SuspendProcessesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param suspendProcessesRequest Container for the necessary parameters
+     *           to execute the SuspendProcesses operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         SuspendProcesses service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> suspendProcessesComposableAsync(final SuspendProcessesRequest suspendProcessesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 suspendProcesses(suspendProcessesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(suspendProcessesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, suspendProcessesRequest,
+                new SuspendProcessesRequestMarshaller(), null);
     }
     
     /**
@@ -2697,12 +2916,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createOrUpdateTagsAsync(final CreateOrUpdateTagsRequest createOrUpdateTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-                return null;
-        }
-    });
+        return createOrUpdateTagsComposableAsync(createOrUpdateTagsRequest);
     }
 
     /**
@@ -2745,18 +2959,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
             final AsyncHandler<CreateOrUpdateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createOrUpdateTagsComposableAsync(createOrUpdateTagsRequest),
+                createOrUpdateTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateOrUpdateTags operation like
+     * {@link #createOrUpdateTagsAsync(CreateOrUpdateTagsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createOrUpdateTagsRequest Container for the necessary
+     *           parameters to execute the CreateOrUpdateTags operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         CreateOrUpdateTags service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> createOrUpdateTagsComposableAsync(final CreateOrUpdateTagsRequest createOrUpdateTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createOrUpdateTags(createOrUpdateTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createOrUpdateTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createOrUpdateTagsRequest,
+                new CreateOrUpdateTagsRequestMarshaller(), null);
     }
     
     /**
@@ -2788,11 +3016,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DetachInstancesResult> detachInstancesAsync(final DetachInstancesRequest detachInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                return detachInstances(detachInstancesRequest);
-        }
-    });
+        return detachInstancesComposableAsync(detachInstancesRequest);
     }
 
     /**
@@ -2830,19 +3054,29 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachInstancesRequest detachInstancesRequest,
             final AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
+        return withAsyncHandler(detachInstancesComposableAsync(detachInstancesRequest),
+                detachInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachInstances operation like
+     * {@link #detachInstancesAsync(DetachInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param detachInstancesRequest Container for the necessary parameters
+     *           to execute the DetachInstances operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DetachInstances service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DetachInstancesResult> detachInstancesComposableAsync(final DetachInstancesRequest detachInstancesRequest) {
+        return executeAsync(executorService, new Callable<DetachInstancesResult>() {
             public DetachInstancesResult call() throws Exception {
-              DetachInstancesResult result;
-                try {
-                result = detachInstances(detachInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInstancesRequest, result);
-                 return result;
-        }
-    });
+                return detachInstances(detachInstancesRequest);
+            }
+        }, detachInstancesRequest,
+                new DetachInstancesRequestMarshaller(), new DetachInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -2877,11 +3111,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-        }
-    });
+        return describeAutoScalingInstancesComposableAsync(describeAutoScalingInstancesRequest);
     }
 
     /**
@@ -2922,19 +3152,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
             final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
+        return withAsyncHandler(describeAutoScalingInstancesComposableAsync(describeAutoScalingInstancesRequest),
+                describeAutoScalingInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAutoScalingInstances operation
+     * like
+     * {@link #describeAutoScalingInstancesAsync(DescribeAutoScalingInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAutoScalingInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeAutoScalingInstances operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAutoScalingInstances service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesComposableAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAutoScalingInstancesResult>() {
             public DescribeAutoScalingInstancesResult call() throws Exception {
-              DescribeAutoScalingInstancesResult result;
-                try {
-                result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAutoScalingInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
+            }
+        }, describeAutoScalingInstancesRequest,
+                new DescribeAutoScalingInstancesRequestMarshaller(), new DescribeAutoScalingInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -2966,12 +3209,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createLaunchConfigurationAsync(final CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-                return null;
-        }
-    });
+        return createLaunchConfigurationComposableAsync(createLaunchConfigurationRequest);
     }
 
     /**
@@ -3009,18 +3247,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
             final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createLaunchConfigurationComposableAsync(createLaunchConfigurationRequest),
+                createLaunchConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLaunchConfiguration operation like
+     * {@link #createLaunchConfigurationAsync(CreateLaunchConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLaunchConfigurationRequest Container for the necessary
+     *           parameters to execute the CreateLaunchConfiguration operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         CreateLaunchConfiguration service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> createLaunchConfigurationComposableAsync(final CreateLaunchConfigurationRequest createLaunchConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createLaunchConfiguration(createLaunchConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLaunchConfigurationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createLaunchConfigurationRequest,
+                new CreateLaunchConfigurationRequestMarshaller(), null);
     }
     
     /**
@@ -3050,11 +3302,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<EnterStandbyResult> enterStandbyAsync(final EnterStandbyRequest enterStandbyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                return enterStandby(enterStandbyRequest);
-        }
-    });
+        return enterStandbyComposableAsync(enterStandbyRequest);
     }
 
     /**
@@ -3090,19 +3338,28 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnterStandbyRequest enterStandbyRequest,
             final AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
+        return withAsyncHandler(enterStandbyComposableAsync(enterStandbyRequest),
+                enterStandbyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnterStandby operation like
+     * {@link #enterStandbyAsync(EnterStandbyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param enterStandbyRequest Container for the necessary parameters to
+     *           execute the EnterStandby operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the EnterStandby
+     *         service method, as returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<EnterStandbyResult> enterStandbyComposableAsync(final EnterStandbyRequest enterStandbyRequest) {
+        return executeAsync(executorService, new Callable<EnterStandbyResult>() {
             public EnterStandbyResult call() throws Exception {
-              EnterStandbyResult result;
-                try {
-                result = enterStandby(enterStandbyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enterStandbyRequest, result);
-                 return result;
-        }
-    });
+                return enterStandby(enterStandbyRequest);
+            }
+        }, enterStandbyRequest,
+                new EnterStandbyRequestMarshaller(), new EnterStandbyResultStaxUnmarshaller());
     }
     
     /**
@@ -3129,11 +3386,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-        }
-    });
+        return describeLifecycleHookTypesComposableAsync(describeLifecycleHookTypesRequest);
     }
 
     /**
@@ -3166,19 +3419,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest,
             final AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
+        return withAsyncHandler(describeLifecycleHookTypesComposableAsync(describeLifecycleHookTypesRequest),
+                describeLifecycleHookTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLifecycleHookTypes operation
+     * like
+     * {@link #describeLifecycleHookTypesAsync(DescribeLifecycleHookTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLifecycleHookTypesRequest Container for the necessary
+     *           parameters to execute the DescribeLifecycleHookTypes operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLifecycleHookTypes service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesComposableAsync(final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeLifecycleHookTypesResult>() {
             public DescribeLifecycleHookTypesResult call() throws Exception {
-              DescribeLifecycleHookTypesResult result;
-                try {
-                result = describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLifecycleHookTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
+            }
+        }, describeLifecycleHookTypesRequest,
+                new DescribeLifecycleHookTypesRequestMarshaller(), new DescribeLifecycleHookTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -3214,12 +3480,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteAutoScalingGroupAsync(final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return deleteAutoScalingGroupComposableAsync(deleteAutoScalingGroupRequest);
     }
 
     /**
@@ -3261,18 +3522,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
             final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAutoScalingGroupComposableAsync(deleteAutoScalingGroupRequest),
+                deleteAutoScalingGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAutoScalingGroup operation like
+     * {@link #deleteAutoScalingGroupAsync(DeleteAutoScalingGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the DeleteAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> deleteAutoScalingGroupComposableAsync(final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAutoScalingGroupRequest,
+                new DeleteAutoScalingGroupRequestMarshaller(), null);
     }
     
     /**
@@ -3300,12 +3575,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> disableMetricsCollectionAsync(final DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-                return null;
-        }
-    });
+        return disableMetricsCollectionComposableAsync(disableMetricsCollectionRequest);
     }
 
     /**
@@ -3339,18 +3609,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
             final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disableMetricsCollectionComposableAsync(disableMetricsCollectionRequest),
+                disableMetricsCollectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableMetricsCollection operation like
+     * {@link #disableMetricsCollectionAsync(DisableMetricsCollectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableMetricsCollectionRequest Container for the necessary
+     *           parameters to execute the DisableMetricsCollection operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DisableMetricsCollection service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> disableMetricsCollectionComposableAsync(final DisableMetricsCollectionRequest disableMetricsCollectionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disableMetricsCollection(disableMetricsCollectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableMetricsCollectionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disableMetricsCollectionRequest,
+                new DisableMetricsCollectionRequestMarshaller(), null);
     }
     
     /**
@@ -3402,12 +3686,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                return null;
-        }
-    });
+        return updateAutoScalingGroupComposableAsync(updateAutoScalingGroupRequest);
     }
 
     /**
@@ -3465,18 +3744,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
             final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateAutoScalingGroupComposableAsync(updateAutoScalingGroupRequest),
+                updateAutoScalingGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAutoScalingGroup operation like
+     * {@link #updateAutoScalingGroupAsync(UpdateAutoScalingGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAutoScalingGroupRequest Container for the necessary
+     *           parameters to execute the UpdateAutoScalingGroup operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAutoScalingGroup service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> updateAutoScalingGroupComposableAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateAutoScalingGroup(updateAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAutoScalingGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateAutoScalingGroupRequest,
+                new UpdateAutoScalingGroupRequestMarshaller(), null);
     }
     
     /**
@@ -3510,11 +3803,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-        }
-    });
+        return describeLaunchConfigurationsComposableAsync(describeLaunchConfigurationsRequest);
     }
 
     /**
@@ -3554,19 +3843,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
             final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
+        return withAsyncHandler(describeLaunchConfigurationsComposableAsync(describeLaunchConfigurationsRequest),
+                describeLaunchConfigurationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLaunchConfigurations operation
+     * like
+     * {@link #describeLaunchConfigurationsAsync(DescribeLaunchConfigurationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLaunchConfigurationsRequest Container for the necessary
+     *           parameters to execute the DescribeLaunchConfigurations operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLaunchConfigurations service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsComposableAsync(final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeLaunchConfigurationsResult>() {
             public DescribeLaunchConfigurationsResult call() throws Exception {
-              DescribeLaunchConfigurationsResult result;
-                try {
-                result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLaunchConfigurationsRequest, result);
-                 return result;
-        }
-    });
+                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
+            }
+        }, describeLaunchConfigurationsRequest,
+                new DescribeLaunchConfigurationsRequestMarshaller(), new DescribeLaunchConfigurationsResultStaxUnmarshaller());
     }
     
     /**
@@ -3593,11 +3895,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
-        }
-    });
+        return describeAdjustmentTypesComposableAsync(describeAdjustmentTypesRequest);
     }
 
     /**
@@ -3630,19 +3928,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
             final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
+        return withAsyncHandler(describeAdjustmentTypesComposableAsync(describeAdjustmentTypesRequest),
+                describeAdjustmentTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAdjustmentTypes operation like
+     * {@link #describeAdjustmentTypesAsync(DescribeAdjustmentTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAdjustmentTypesRequest Container for the necessary
+     *           parameters to execute the DescribeAdjustmentTypes operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAdjustmentTypes service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeAdjustmentTypesResult> describeAdjustmentTypesComposableAsync(final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAdjustmentTypesResult>() {
             public DescribeAdjustmentTypesResult call() throws Exception {
-              DescribeAdjustmentTypesResult result;
-                try {
-                result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAdjustmentTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
+            }
+        }, describeAdjustmentTypesRequest,
+                new DescribeAdjustmentTypesRequestMarshaller(), new DescribeAdjustmentTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -3671,11 +3981,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(final DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                return describeScheduledActions(describeScheduledActionsRequest);
-        }
-    });
+        return describeScheduledActionsComposableAsync(describeScheduledActionsRequest);
     }
 
     /**
@@ -3710,19 +4016,31 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScheduledActionsRequest describeScheduledActionsRequest,
             final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
+        return withAsyncHandler(describeScheduledActionsComposableAsync(describeScheduledActionsRequest),
+                describeScheduledActionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeScheduledActions operation like
+     * {@link #describeScheduledActionsAsync(DescribeScheduledActionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeScheduledActionsRequest Container for the necessary
+     *           parameters to execute the DescribeScheduledActions operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeScheduledActions service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeScheduledActionsResult> describeScheduledActionsComposableAsync(final DescribeScheduledActionsRequest describeScheduledActionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeScheduledActionsResult>() {
             public DescribeScheduledActionsResult call() throws Exception {
-              DescribeScheduledActionsResult result;
-                try {
-                result = describeScheduledActions(describeScheduledActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledActionsRequest, result);
-                 return result;
-        }
-    });
+                return describeScheduledActions(describeScheduledActionsRequest);
+            }
+        }, describeScheduledActionsRequest,
+                new DescribeScheduledActionsRequestMarshaller(), new DescribeScheduledActionsResultStaxUnmarshaller());
     }
     
     /**
@@ -3769,11 +4087,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-        }
-    });
+        return recordLifecycleActionHeartbeatComposableAsync(recordLifecycleActionHeartbeatRequest);
     }
 
     /**
@@ -3826,19 +4140,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest,
             final AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
+        return withAsyncHandler(recordLifecycleActionHeartbeatComposableAsync(recordLifecycleActionHeartbeatRequest),
+                recordLifecycleActionHeartbeatRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RecordLifecycleActionHeartbeat operation
+     * like
+     * {@link #recordLifecycleActionHeartbeatAsync(RecordLifecycleActionHeartbeatRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param recordLifecycleActionHeartbeatRequest Container for the
+     *           necessary parameters to execute the RecordLifecycleActionHeartbeat
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         RecordLifecycleActionHeartbeat service method, as returned
+     *         by AmazonAutoScaling.
+     */
+    public ComposableFuture<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatComposableAsync(final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest) {
+        return executeAsync(executorService, new Callable<RecordLifecycleActionHeartbeatResult>() {
             public RecordLifecycleActionHeartbeatResult call() throws Exception {
-              RecordLifecycleActionHeartbeatResult result;
-                try {
-                result = recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(recordLifecycleActionHeartbeatRequest, result);
-                 return result;
-        }
-    });
+                return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
+            }
+        }, recordLifecycleActionHeartbeatRequest,
+                new RecordLifecycleActionHeartbeatRequestMarshaller(), new RecordLifecycleActionHeartbeatResultStaxUnmarshaller());
     }
     
     /**
@@ -3877,12 +4204,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putScheduledUpdateGroupActionAsync(final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                return null;
-        }
-    });
+        return putScheduledUpdateGroupActionComposableAsync(putScheduledUpdateGroupActionRequest);
     }
 
     /**
@@ -3927,18 +4249,33 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
             final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putScheduledUpdateGroupActionComposableAsync(putScheduledUpdateGroupActionRequest),
+                putScheduledUpdateGroupActionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutScheduledUpdateGroupAction operation
+     * like
+     * {@link #putScheduledUpdateGroupActionAsync(PutScheduledUpdateGroupActionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putScheduledUpdateGroupActionRequest Container for the
+     *           necessary parameters to execute the PutScheduledUpdateGroupAction
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         PutScheduledUpdateGroupAction service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> putScheduledUpdateGroupActionComposableAsync(final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putScheduledUpdateGroupActionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putScheduledUpdateGroupActionRequest,
+                new PutScheduledUpdateGroupActionRequestMarshaller(), null);
     }
     
     /**
@@ -3971,11 +4308,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-        }
-    });
+        return describeMetricCollectionTypesComposableAsync(describeMetricCollectionTypesRequest);
     }
 
     /**
@@ -4014,19 +4347,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
             final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
+        return withAsyncHandler(describeMetricCollectionTypesComposableAsync(describeMetricCollectionTypesRequest),
+                describeMetricCollectionTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeMetricCollectionTypes operation
+     * like
+     * {@link #describeMetricCollectionTypesAsync(DescribeMetricCollectionTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeMetricCollectionTypesRequest Container for the
+     *           necessary parameters to execute the DescribeMetricCollectionTypes
+     *           operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         DescribeMetricCollectionTypes service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesComposableAsync(final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeMetricCollectionTypesResult>() {
             public DescribeMetricCollectionTypesResult call() throws Exception {
-              DescribeMetricCollectionTypesResult result;
-                try {
-                result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMetricCollectionTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
+            }
+        }, describeMetricCollectionTypesRequest,
+                new DescribeMetricCollectionTypesRequestMarshaller(), new DescribeMetricCollectionTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -4052,12 +4398,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setDesiredCapacityAsync(final SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDesiredCapacity(setDesiredCapacityRequest);
-                return null;
-        }
-    });
+        return setDesiredCapacityComposableAsync(setDesiredCapacityRequest);
     }
 
     /**
@@ -4089,18 +4430,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetDesiredCapacityRequest setDesiredCapacityRequest,
             final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setDesiredCapacityComposableAsync(setDesiredCapacityRequest),
+                setDesiredCapacityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetDesiredCapacity operation like
+     * {@link #setDesiredCapacityAsync(SetDesiredCapacityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setDesiredCapacityRequest Container for the necessary
+     *           parameters to execute the SetDesiredCapacity operation on
+     *           AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         SetDesiredCapacity service method, as returned by
+     *         AmazonAutoScaling.
+     */
+    public ComposableFuture<Void> setDesiredCapacityComposableAsync(final SetDesiredCapacityRequest setDesiredCapacityRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setDesiredCapacity(setDesiredCapacityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setDesiredCapacityRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setDesiredCapacityRequest,
+                new SetDesiredCapacityRequestMarshaller(), null);
     }
     
     /**
@@ -4132,11 +4487,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-        }
-    });
+        return terminateInstanceInAutoScalingGroupComposableAsync(terminateInstanceInAutoScalingGroupRequest);
     }
 
     /**
@@ -4174,19 +4525,32 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
             final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
+        return withAsyncHandler(terminateInstanceInAutoScalingGroupComposableAsync(terminateInstanceInAutoScalingGroupRequest),
+                terminateInstanceInAutoScalingGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TerminateInstanceInAutoScalingGroup
+     * operation like
+     * {@link #terminateInstanceInAutoScalingGroupAsync(TerminateInstanceInAutoScalingGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param terminateInstanceInAutoScalingGroupRequest Container for the
+     *           necessary parameters to execute the
+     *           TerminateInstanceInAutoScalingGroup operation on AmazonAutoScaling.
+     *
+     * @return A composable future for the response from the
+     *         TerminateInstanceInAutoScalingGroup service method, as
+     *         returned by AmazonAutoScaling.
+     */
+    public ComposableFuture<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupComposableAsync(final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) {
+        return executeAsync(executorService, new Callable<TerminateInstanceInAutoScalingGroupResult>() {
             public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-              TerminateInstanceInAutoScalingGroupResult result;
-                try {
-                result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstanceInAutoScalingGroupRequest, result);
-                 return result;
-        }
-    });
+                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
+            }
+        }, terminateInstanceInAutoScalingGroupRequest,
+                new TerminateInstanceInAutoScalingGroupRequestMarshaller(), new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller());
     }
     
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Node;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.DefaultErrorResponseHandler;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.http.nio.NioHttpTransportFactory;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.transform.Unmarshaller;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Measures the end-to-end cost of executing requests against an in-process
+ * {@link StubServer}, with each of the HTTP transports: once directly through
+ * {@link AmazonHttpClient#execute}, and once through a service client, which
+ * adds request marshalling, signing and response unmarshalling.
+ * <p>
+ * Run with <code>-prof gc</code> to compare the allocation rate per request,
+ * and with <code>-t</code> to measure throughput under concurrency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HttpClientBenchmark {
+    private static final String MESSAGE_BODY = "{\"orderId\":12345,\"items\":[\"a\",\"b\",\"c\"]}";
+
+    /** The HTTP transport: the Apache HttpClient one, or the non-blocking one. */
+    @Param({"apache", "nio"})
+    public String transport;
+
+    private StubServer server;
+    private AmazonHttpClient httpClient;
+    private AmazonSQSClient sqs;
+    private URI endpoint;
+    private String queueUrl;
+    private StaxResponseHandler<Object> responseHandler;
+    private DefaultErrorResponseHandler errorResponseHandler;
+
+    @Setup
+    public void setup() throws Exception {
+        String md5 = BinaryUtils.toHex(Md5Utils.computeMD5Hash(
+                MESSAGE_BODY.getBytes(StringUtils.UTF8)));
+        String response = "<ReceiveMessageResponse><ReceiveMessageResult><Message>"
+            + "<MessageId>5fea7756-0ea4-451a-a703-a558b933e274</MessageId>"
+            + "<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw"
+            + "Lj1FjgXUv1uSj1gUPAWV66FU/WeR4mq2OKpEGYWbnLmpRCJVAyeMjeU5ZBdtcQ+QEauMZc8ZRv37sIW2iJKq3M9MFx1YvV11A2x/KSbkJ0=</ReceiptHandle>"
+            + "<MD5OfBody>" + md5 + "</MD5OfBody>"
+            + "<Body>" + MESSAGE_BODY + "</Body>"
+            + "<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>"
+            + "<Attribute><Name>ApproximateReceiveCount</Name><Value>5</Value></Attribute>"
+            + "</Message></ReceiveMessageResult>"
+            + "<ResponseMetadata><RequestId>b6633655-283d-45b4-aee0-4e84e0ae6afa</RequestId></ResponseMetadata>"
+            + "</ReceiveMessageResponse>";
+        server = new StubServer("text/xml", response.getBytes(StringUtils.UTF8));
+        endpoint = new URI(server.getEndpoint());
+        queueUrl = server.getEndpoint() + "/123456789012/benchmark";
+
+        ClientConfiguration config = new ClientConfiguration().withMaxConnections(64);
+        if ("nio".equals(transport))
+            config.setHttpTransportFactory(new NioHttpTransportFactory());
+
+        httpClient = new AmazonHttpClient(config);
+        responseHandler = new StaxResponseHandler<Object>(null);
+        errorResponseHandler = new DefaultErrorResponseHandler(
+                new ArrayList<Unmarshaller<AmazonServiceException, Node>>());
+
+        sqs = new AmazonSQSClient(new BasicAWSCredentials("access", "secret"), config);
+        sqs.setEndpoint(server.getEndpoint());
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.shutdown();
+        sqs.shutdown();
+        server.stop();
+    }
+
+    /** Executes an unsigned request directly through the HTTP client. */
+    @Benchmark
+    public Object execute() {
+        Request<Object> request = new DefaultRequest<Object>("benchmark");
+        request.setEndpoint(endpoint);
+        request.setHttpMethod(HttpMethodName.GET);
+        request.setResourcePath("/");
+        return httpClient.execute(request, responseHandler,
+                errorResponseHandler, new ExecutionContext()).getAwsResponse();
+    }
+
+    /** Receives a message through the Amazon SQS client. */
+    @Benchmark
+    public ReceiveMessageResult sqsReceiveMessage() {
+        return sqs.receiveMessage(new ReceiveMessageRequest(queueUrl));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchema;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchemas;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.ItemConverter;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Measures the cost of converting an annotated object to and from a DynamoDB
+ * item with the {@link ItemConverter} of each conversion schema, as
+ * <code>DynamoDBMapper</code> does when saving and loading objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ItemConverterBenchmark {
+
+    /** The conversion schema. */
+    @Param({"V1", "V2_COMPATIBLE", "V2"})
+    public String schema;
+
+    private ItemConverter converter;
+    private Order order;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setup() throws Exception {
+        ConversionSchema conversionSchema = (ConversionSchema)
+                ConversionSchemas.class.getField(schema).get(null);
+        converter = conversionSchema.getConverter(new ConversionSchema.Dependencies());
+
+        order = new Order();
+        order.setCustomerId("customer-42");
+        order.setOrderId(1425000000123L);
+        order.setTotal(129.95);
+        order.setGift(Boolean.TRUE);
+        order.setCreated(new Date(1425000000000L));
+        order.setTags(new HashSet<String>(Arrays.asList("gold", "newsletter", "eu")));
+        order.setNote("Leave at the front desk");
+        item = converter.convert(order);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> convert() {
+        return converter.convert(order);
+    }
+
+    @Benchmark
+    public Order unconvert() {
+        return converter.unconvert(Order.class, item);
+    }
+
+    @DynamoDBTable(tableName = "Orders")
+    public static class Order {
+        private String customerId;
+        private Long orderId;
+        private Double total;
+        private Boolean gift;
+        private Date created;
+        private Set<String> tags;
+        private String note;
+
+        @DynamoDBHashKey
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        public void setCustomerId(String customerId) {
+            this.customerId = customerId;
+        }
+
+        @DynamoDBRangeKey
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        public Double getTotal() {
+            return total;
+        }
+
+        public void setTotal(Double total) {
+            this.total = total;
+        }
+
+        public Boolean getGift() {
+            return gift;
+        }
+
+        public void setGift(Boolean gift) {
+            this.gift = gift;
+        }
+
+        public Date getCreated() {
+            return created;
+        }
+
+        public void setCreated(Date created) {
+            this.created = created;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+
+        @DynamoDBAttribute(attributeName = "Note")
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+}
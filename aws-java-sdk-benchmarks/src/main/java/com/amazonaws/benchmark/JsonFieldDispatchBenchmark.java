@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.amazonaws.transform.JsonFieldTable;
+
+/**
+ * Measures the cost of finding the field that a JSON field name refers to,
+ * for the fields of a wide shape such as the Amazon DynamoDB
+ * TableDescription, by comparing the name against each field in turn, as JSON
+ * unmarshallers used to do, and by looking it up in a {@link JsonFieldTable}.
+ * <p>
+ * The end-to-end effect on a response is measured by
+ * {@link UnmarshallerBenchmark#jsonQueryResult()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonFieldDispatchBenchmark {
+
+    private static final String[] FIELD_NAMES = {
+        "AttributeDefinitions", "TableName", "KeySchema", "TableStatus",
+        "CreationDateTime", "ProvisionedThroughput", "TableSizeBytes",
+        "ItemCount", "LocalSecondaryIndexes", "GlobalSecondaryIndexes" };
+
+    private static final JsonFieldTable FIELDS = new JsonFieldTable(FIELD_NAMES);
+
+    /** The field names of a response, in document order, as parsed. */
+    private final String[] parsedNames = {
+        "TableName", "TableStatus", "CreationDateTime", "ItemCount",
+        "TableSizeBytes", "KeySchema", "AttributeDefinitions",
+        "ProvisionedThroughput", "GlobalSecondaryIndexes", "Unknown" };
+
+    @Benchmark
+    public void linearTests(Blackhole blackhole) {
+        for (String name : parsedNames) {
+            for (int i = 0; i < FIELD_NAMES.length; i++) {
+                if (FIELD_NAMES[i].equals(name))
+                    blackhole.consume(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void fieldTable(Blackhole blackhole) {
+        for (String name : parsedNames)
+            blackhole.consume(FIELDS.indexOf(name));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.SigningAlgorithm;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.HttpUtils;
+
+/**
+ * Measures the cost of signing a request with {@link AWS4Signer}, for
+ * payloads of various sizes, along with the steps of signing that are cached
+ * or short-circuited: the derived signing key, the HMAC and SHA-256 instances
+ * of the current thread, and the URL encoding of values that need none.
+ * <p>
+ * Run with <code>-prof gc</code> to also compare the allocation rate per
+ * operation (<code>gc.alloc.rate.norm</code>), e.g.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar SignerBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SignerBenchmark {
+
+    /** A value that URL encoding leaves as it is. */
+    private static final String UNRESERVED_VALUE = "DynamoDB_20120810.GetItem";
+    /** A value of the same length that URL encoding changes. */
+    private static final String RESERVED_VALUE = "DynamoDB 20120810*GetItem";
+
+    /** Size of the request payload in bytes. */
+    @Param({"0", "1024", "65536"})
+    public int payloadSize;
+
+    private final AWSCredentials credentials =
+            new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private ExposedAWS4Signer signer;
+    private URI endpoint;
+    private byte[] payload;
+    private byte[] hmacKey;
+    private long secretKeyCount;
+
+    @Setup
+    public void setup() throws Exception {
+        signer = new ExposedAWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+        endpoint = new URI("https://dynamodb.us-east-1.amazonaws.com");
+        payload = new byte[payloadSize];
+        hmacKey = new byte[32];
+    }
+
+    /**
+     * Signs a request with the same credentials every time, so that the
+     * signing key derived from them is reused.
+     */
+    @Benchmark
+    public Request<?> sign() {
+        return sign(credentials);
+    }
+
+    /**
+     * Signs a request with a new secret key every time, so that the signing
+     * key has to be derived for each request.
+     */
+    @Benchmark
+    public Request<?> signWithNewSigningKey() {
+        return sign(new BasicAWSCredentials("AKIDEXAMPLE",
+                "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY" + secretKeyCount++));
+    }
+
+    /** Looks up a new HMAC instance for each signature of the payload. */
+    @Benchmark
+    public byte[] newMac() throws Exception {
+        Mac mac = Mac.getInstance(SigningAlgorithm.HmacSHA256.toString());
+        mac.init(new SecretKeySpec(hmacKey, SigningAlgorithm.HmacSHA256.toString()));
+        return mac.doFinal(payload);
+    }
+
+    /** Signs the payload with the HMAC instance of the current thread. */
+    @Benchmark
+    public byte[] cachedMac() {
+        return signer.hmac(payload, hmacKey);
+    }
+
+    /** Looks up a new SHA-256 message digest for each hash of the payload. */
+    @Benchmark
+    public byte[] newMessageDigest() throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(payload);
+    }
+
+    /** Hashes the payload with the message digest of the current thread. */
+    @Benchmark
+    public byte[] cachedMessageDigest() {
+        return signer.hash(payload);
+    }
+
+    /** URL encodes a value that is returned as it is. */
+    @Benchmark
+    public String urlEncodeUnreserved() {
+        return HttpUtils.urlEncode(UNRESERVED_VALUE, false);
+    }
+
+    /** URL encodes a value that has to be encoded. */
+    @Benchmark
+    public String urlEncodeReserved() {
+        return HttpUtils.urlEncode(RESERVED_VALUE, false);
+    }
+
+    private Request<?> sign(AWSCredentials credentials) {
+        Request<Object> request = new DefaultRequest<Object>("dynamodb");
+        request.setEndpoint(endpoint);
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setResourcePath("/");
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.setContent(new ByteArrayInputStream(payload));
+        signer.sign(request, credentials);
+        return request;
+    }
+
+    /** Exposes the HMAC computation of the signer. */
+    private static final class ExposedAWS4Signer extends AWS4Signer {
+        byte[] hmac(byte[] data, byte[] key) {
+            return sign(data, key, SigningAlgorithm.HmacSHA256);
+        }
+    }
+}
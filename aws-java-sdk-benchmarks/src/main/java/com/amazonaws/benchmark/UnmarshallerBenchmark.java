@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLEventReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.transform.JsonUnmarshallerContextImpl;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.XmlUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Measures the cost of unmarshalling typical responses with
+ * {@link JsonUnmarshallerContextImpl}, for an Amazon DynamoDB Query response,
+ * and with {@link StaxUnmarshallerContext}, for an Amazon SQS ReceiveMessage
+ * response, as the response handlers of the clients do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class UnmarshallerBenchmark {
+
+    /** Number of items or messages in the response. */
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private byte[] queryResponse;
+    private byte[] receiveMessageResponse;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder("{\"Count\":").append(itemCount)
+            .append(",\"ScannedCount\":").append(itemCount).append(",\"Items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0)
+                json.append(',');
+            json.append("{\"Id\":{\"S\":\"customer-").append(i).append("\"},")
+                .append("\"Timestamp\":{\"N\":\"14250000").append(i).append("\"},")
+                .append("\"Total\":{\"N\":\"129.95\"},")
+                .append("\"Active\":{\"BOOL\":true},")
+                .append("\"Tags\":{\"SS\":[\"gold\",\"newsletter\",\"eu\"]},")
+                .append("\"Address\":{\"M\":{\"City\":{\"S\":\"Seattle\"},\"Zip\":{\"S\":\"98109\"}}}}");
+        }
+        json.append("],\"LastEvaluatedKey\":{\"Id\":{\"S\":\"customer-last\"}}}");
+        queryResponse = json.toString().getBytes(StringUtils.UTF8);
+
+        StringBuilder xml = new StringBuilder(
+                "<ReceiveMessageResponse><ReceiveMessageResult>");
+        for (int i = 0; i < itemCount; i++) {
+            xml.append("<Message><MessageId>5fea7756-0ea4-451a-a703-").append(i).append("</MessageId>")
+               .append("<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw</ReceiptHandle>")
+               .append("<MD5OfBody>fafb00f5732ab283681e124bf8747ed1</MD5OfBody>")
+               .append("<Body>This is a test message</Body>")
+               .append("<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>")
+               .append("<Attribute><Name>SentTimestamp</Name><Value>1238099229000</Value></Attribute>")
+               .append("</Message>");
+        }
+        xml.append("</ReceiveMessageResult><ResponseMetadata>")
+           .append("<RequestId>b6633655-283d-45b4-aee0-4e84e0ae6afa</RequestId>")
+           .append("</ResponseMetadata></ReceiveMessageResponse>");
+        receiveMessageResponse = xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public QueryResult jsonQueryResult() throws Exception {
+        JsonParser parser = jsonFactory.createParser(
+                new ByteArrayInputStream(queryResponse));
+        try {
+            return QueryResultJsonUnmarshaller.getInstance().unmarshall(
+                    new JsonUnmarshallerContextImpl(parser));
+        } finally {
+            parser.close();
+        }
+    }
+
+    @Benchmark
+    public ReceiveMessageResult staxReceiveMessageResult() throws Exception {
+        XMLEventReader reader = XmlUtils.getXmlInputFactory().createXMLEventReader(
+                new ByteArrayInputStream(receiveMessageResponse));
+        try {
+            StaxUnmarshallerContext context = new StaxUnmarshallerContext(
+                    reader, new HashMap<String, String>());
+            context.registerMetadataExpression("ResponseMetadata/RequestId", 2, "AWS_REQUEST_ID");
+            return ReceiveMessageResultStaxUnmarshaller.getInstance().unmarshall(context);
+        } finally {
+            reader.close();
+        }
+    }
+}
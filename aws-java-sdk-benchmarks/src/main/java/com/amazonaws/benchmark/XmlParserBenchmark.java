@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLReaderFactory;
+
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser;
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser.ListBucketHandler;
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.XmlUtils;
+
+/**
+ * Measures the cost of parsing XML responses with a new parser per response,
+ * as opposed to a parser cached per thread.
+ * <p>
+ * Run with <code>-prof gc</code> to compare the allocation rate per response
+ * (<code>gc.alloc.rate.norm</code>) of each variant, e.g.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar XmlParserBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class XmlParserBenchmark {
+
+    /** Number of objects in the ListObjects response. */
+    @Param({"1", "100", "1000"})
+    public int objectCount;
+
+    private byte[] listObjectsResponse;
+
+    @Setup
+    public void setup() {
+        StringBuilder xml = new StringBuilder()
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+            .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+            .append("<Name>bucket</Name><Prefix></Prefix><Marker></Marker>")
+            .append("<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>");
+        for (int i = 0; i < objectCount; i++) {
+            xml.append("<Contents><Key>photos/2015/01/")
+               .append(i)
+               .append(".jpg</Key><LastModified>2015-01-01T00:00:00.000Z</LastModified>")
+               .append("<ETag>&quot;828ef3fdfa96f00ad9f27c383fc9ac7f&quot;</ETag>")
+               .append("<Size>434234</Size><Owner><ID>75aa57f09aa0c8caeab4f8c24e99d10f8e7faeebf76c078efc7c6caea54ba06a</ID>")
+               .append("<DisplayName>owner</DisplayName></Owner>")
+               .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        listObjectsResponse = xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    /** Looks up and constructs a new XML reader for each response. */
+    @Benchmark
+    public ListBucketHandler newXMLReader() throws Exception {
+        ListBucketHandler handler = new ListBucketHandler();
+        XMLReader reader = XMLReaderFactory.createXMLReader();
+        reader.setContentHandler(handler);
+        reader.setErrorHandler(handler);
+        reader.parse(new InputSource(new ByteArrayInputStream(listObjectsResponse)));
+        return handler;
+    }
+
+    /** Reuses the XML reader cached for the current thread. */
+    @Benchmark
+    public ListBucketHandler cachedXMLReader() throws Exception {
+        ListBucketHandler handler = new ListBucketHandler();
+        XMLReader reader = XmlUtils.getXMLReader();
+        reader.setContentHandler(handler);
+        reader.setErrorHandler(handler);
+        reader.parse(new InputSource(new ByteArrayInputStream(listObjectsResponse)));
+        XmlUtils.releaseXMLReader(reader);
+        return handler;
+    }
+
+    /** Parses the response as the Amazon S3 client does. */
+    @Benchmark
+    public ListBucketHandler parseListBucketObjectsResponse() throws Exception {
+        return new XmlResponsesSaxParser().parseListBucketObjectsResponse(
+                new ByteArrayInputStream(listObjectsResponse));
+    }
+
+    /** Looks up a new StAX factory for each response. */
+    @Benchmark
+    public void newXmlInputFactory(Blackhole blackhole) throws Exception {
+        drain(XMLInputFactory.newInstance(), blackhole);
+    }
+
+    /** Reuses the StAX factory of the current thread. */
+    @Benchmark
+    public void cachedXmlInputFactory(Blackhole blackhole) throws Exception {
+        drain(XmlUtils.getXmlInputFactory(), blackhole);
+    }
+
+    private void drain(XMLInputFactory factory, Blackhole blackhole)
+            throws Exception {
+        XMLEventReader reader = factory.createXMLEventReader(
+                new ByteArrayInputStream(listObjectsResponse));
+        while (reader.hasNext())
+            blackhole.consume(reader.nextEvent());
+        reader.close();
+    }
+}
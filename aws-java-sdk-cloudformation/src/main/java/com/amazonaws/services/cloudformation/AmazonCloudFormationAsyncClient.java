@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudformation.model.*;
+import com.amazonaws.services.cloudformation.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudFormation.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS CloudFormation <p>
  * AWS CloudFormation enables you to create and manage AWS infrastructure
  * deployments predictably and repeatedly. AWS CloudFormation helps you
@@ -332,11 +336,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<GetTemplateSummaryResult> getTemplateSummaryAsync(final GetTemplateSummaryRequest getTemplateSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateSummaryResult>() {
-            public GetTemplateSummaryResult call() throws Exception {
-                return getTemplateSummary(getTemplateSummaryRequest);
-        }
-    });
+        return getTemplateSummaryComposableAsync(getTemplateSummaryRequest);
     }
 
     /**
@@ -383,19 +383,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateSummaryRequest getTemplateSummaryRequest,
             final AsyncHandler<GetTemplateSummaryRequest, GetTemplateSummaryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateSummaryResult>() {
+        return withAsyncHandler(getTemplateSummaryComposableAsync(getTemplateSummaryRequest),
+                getTemplateSummaryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetTemplateSummary operation like
+     * {@link #getTemplateSummaryAsync(GetTemplateSummaryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getTemplateSummaryRequest Container for the necessary
+     *           parameters to execute the GetTemplateSummary operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         GetTemplateSummary service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<GetTemplateSummaryResult> getTemplateSummaryComposableAsync(final GetTemplateSummaryRequest getTemplateSummaryRequest) {
+        return executeAsync(executorService, new Callable<GetTemplateSummaryResult>() {
             public GetTemplateSummaryResult call() throws Exception {
-              GetTemplateSummaryResult result;
-                try {
-                result = getTemplateSummary(getTemplateSummaryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getTemplateSummaryRequest, result);
-                 return result;
-        }
-    });
+                return getTemplateSummary(getTemplateSummaryRequest);
+            }
+        }, getTemplateSummaryRequest,
+                new GetTemplateSummaryRequestMarshaller(), new GetTemplateSummaryResultStaxUnmarshaller());
     }
     
     /**
@@ -420,11 +432,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ValidateTemplateResult> validateTemplateAsync(final ValidateTemplateRequest validateTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateTemplateResult>() {
-            public ValidateTemplateResult call() throws Exception {
-                return validateTemplate(validateTemplateRequest);
-        }
-    });
+        return validateTemplateComposableAsync(validateTemplateRequest);
     }
 
     /**
@@ -455,19 +463,29 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ValidateTemplateRequest validateTemplateRequest,
             final AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateTemplateResult>() {
+        return withAsyncHandler(validateTemplateComposableAsync(validateTemplateRequest),
+                validateTemplateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ValidateTemplate operation like
+     * {@link #validateTemplateAsync(ValidateTemplateRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param validateTemplateRequest Container for the necessary parameters
+     *           to execute the ValidateTemplate operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         ValidateTemplate service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<ValidateTemplateResult> validateTemplateComposableAsync(final ValidateTemplateRequest validateTemplateRequest) {
+        return executeAsync(executorService, new Callable<ValidateTemplateResult>() {
             public ValidateTemplateResult call() throws Exception {
-              ValidateTemplateResult result;
-                try {
-                result = validateTemplate(validateTemplateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(validateTemplateRequest, result);
-                 return result;
-        }
-    });
+                return validateTemplate(validateTemplateRequest);
+            }
+        }, validateTemplateRequest,
+                new ValidateTemplateRequestMarshaller(), new ValidateTemplateResultStaxUnmarshaller());
     }
     
     /**
@@ -493,11 +511,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStacksResult> describeStacksAsync(final DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
-            public DescribeStacksResult call() throws Exception {
-                return describeStacks(describeStacksRequest);
-        }
-    });
+        return describeStacksComposableAsync(describeStacksRequest);
     }
 
     /**
@@ -529,19 +543,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStacksRequest describeStacksRequest,
             final AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return withAsyncHandler(describeStacksComposableAsync(describeStacksRequest),
+                describeStacksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStacks operation like
+     * {@link #describeStacksAsync(DescribeStacksRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeStacksRequest Container for the necessary parameters to
+     *           execute the DescribeStacks operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the DescribeStacks
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<DescribeStacksResult> describeStacksComposableAsync(final DescribeStacksRequest describeStacksRequest) {
+        return executeAsync(executorService, new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
-              DescribeStacksResult result;
-                try {
-                result = describeStacks(describeStacksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStacksRequest, result);
-                 return result;
-        }
-    });
+                return describeStacks(describeStacksRequest);
+            }
+        }, describeStacksRequest,
+                new DescribeStacksRequestMarshaller(), new DescribeStacksResultStaxUnmarshaller());
     }
     
     /**
@@ -575,11 +598,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                return getTemplate(getTemplateRequest);
-        }
-    });
+        return getTemplateComposableAsync(getTemplateRequest);
     }
 
     /**
@@ -619,19 +638,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
+        return withAsyncHandler(getTemplateComposableAsync(getTemplateRequest),
+                getTemplateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetTemplate operation like
+     * {@link #getTemplateAsync(GetTemplateRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getTemplateRequest Container for the necessary parameters to
+     *           execute the GetTemplate operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the GetTemplate
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<GetTemplateResult> getTemplateComposableAsync(final GetTemplateRequest getTemplateRequest) {
+        return executeAsync(executorService, new Callable<GetTemplateResult>() {
             public GetTemplateResult call() throws Exception {
-              GetTemplateResult result;
-                try {
-                result = getTemplate(getTemplateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getTemplateRequest, result);
-                 return result;
-        }
-    });
+                return getTemplate(getTemplateRequest);
+            }
+        }, getTemplateRequest,
+                new GetTemplateRequestMarshaller(), new GetTemplateResultStaxUnmarshaller());
     }
     
     /**
@@ -657,11 +685,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<GetStackPolicyResult> getStackPolicyAsync(final GetStackPolicyRequest getStackPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStackPolicyResult>() {
-            public GetStackPolicyResult call() throws Exception {
-                return getStackPolicy(getStackPolicyRequest);
-        }
-    });
+        return getStackPolicyComposableAsync(getStackPolicyRequest);
     }
 
     /**
@@ -693,19 +717,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetStackPolicyRequest getStackPolicyRequest,
             final AsyncHandler<GetStackPolicyRequest, GetStackPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStackPolicyResult>() {
+        return withAsyncHandler(getStackPolicyComposableAsync(getStackPolicyRequest),
+                getStackPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetStackPolicy operation like
+     * {@link #getStackPolicyAsync(GetStackPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getStackPolicyRequest Container for the necessary parameters to
+     *           execute the GetStackPolicy operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the GetStackPolicy
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<GetStackPolicyResult> getStackPolicyComposableAsync(final GetStackPolicyRequest getStackPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetStackPolicyResult>() {
             public GetStackPolicyResult call() throws Exception {
-              GetStackPolicyResult result;
-                try {
-                result = getStackPolicy(getStackPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getStackPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getStackPolicy(getStackPolicyRequest);
+            }
+        }, getStackPolicyRequest,
+                new GetStackPolicyRequestMarshaller(), new GetStackPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -735,11 +768,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStacksResult> listStacksAsync(final ListStacksRequest listStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStacksResult>() {
-            public ListStacksResult call() throws Exception {
-                return listStacks(listStacksRequest);
-        }
-    });
+        return listStacksComposableAsync(listStacksRequest);
     }
 
     /**
@@ -775,19 +804,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStacksRequest listStacksRequest,
             final AsyncHandler<ListStacksRequest, ListStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStacksResult>() {
+        return withAsyncHandler(listStacksComposableAsync(listStacksRequest),
+                listStacksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListStacks operation like
+     * {@link #listStacksAsync(ListStacksRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listStacksRequest Container for the necessary parameters to
+     *           execute the ListStacks operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the ListStacks
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<ListStacksResult> listStacksComposableAsync(final ListStacksRequest listStacksRequest) {
+        return executeAsync(executorService, new Callable<ListStacksResult>() {
             public ListStacksResult call() throws Exception {
-              ListStacksResult result;
-                try {
-                result = listStacks(listStacksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listStacksRequest, result);
-                 return result;
-        }
-    });
+                return listStacks(listStacksRequest);
+            }
+        }, listStacksRequest,
+                new ListStacksRequestMarshaller(), new ListStacksResultStaxUnmarshaller());
     }
     
     /**
@@ -812,12 +850,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> setStackPolicyAsync(final SetStackPolicyRequest setStackPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setStackPolicy(setStackPolicyRequest);
-                return null;
-        }
-    });
+        return setStackPolicyComposableAsync(setStackPolicyRequest);
     }
 
     /**
@@ -848,18 +881,29 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SetStackPolicyRequest setStackPolicyRequest,
             final AsyncHandler<SetStackPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setStackPolicyComposableAsync(setStackPolicyRequest),
+                setStackPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetStackPolicy operation like
+     * {@link #setStackPolicyAsync(SetStackPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param setStackPolicyRequest Container for the necessary parameters to
+     *           execute the SetStackPolicy operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the SetStackPolicy
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<Void> setStackPolicyComposableAsync(final SetStackPolicyRequest setStackPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setStackPolicy(setStackPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setStackPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setStackPolicyRequest,
+                new SetStackPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -886,11 +930,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<CreateStackResult> createStackAsync(final CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
-            public CreateStackResult call() throws Exception {
-                return createStack(createStackRequest);
-        }
-    });
+        return createStackComposableAsync(createStackRequest);
     }
 
     /**
@@ -923,19 +963,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateStackRequest createStackRequest,
             final AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return withAsyncHandler(createStackComposableAsync(createStackRequest),
+                createStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStack operation like
+     * {@link #createStackAsync(CreateStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createStackRequest Container for the necessary parameters to
+     *           execute the CreateStack operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the CreateStack
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<CreateStackResult> createStackComposableAsync(final CreateStackRequest createStackRequest) {
+        return executeAsync(executorService, new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
-              CreateStackResult result;
-                try {
-                result = createStack(createStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStackRequest, result);
-                 return result;
-        }
-    });
+                return createStack(createStackRequest);
+            }
+        }, createStackRequest,
+                new CreateStackRequestMarshaller(), new CreateStackResultStaxUnmarshaller());
     }
     
     /**
@@ -964,11 +1013,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<EstimateTemplateCostResult> estimateTemplateCostAsync(final EstimateTemplateCostRequest estimateTemplateCostRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EstimateTemplateCostResult>() {
-            public EstimateTemplateCostResult call() throws Exception {
-                return estimateTemplateCost(estimateTemplateCostRequest);
-        }
-    });
+        return estimateTemplateCostComposableAsync(estimateTemplateCostRequest);
     }
 
     /**
@@ -1003,19 +1048,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final EstimateTemplateCostRequest estimateTemplateCostRequest,
             final AsyncHandler<EstimateTemplateCostRequest, EstimateTemplateCostResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EstimateTemplateCostResult>() {
+        return withAsyncHandler(estimateTemplateCostComposableAsync(estimateTemplateCostRequest),
+                estimateTemplateCostRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EstimateTemplateCost operation like
+     * {@link #estimateTemplateCostAsync(EstimateTemplateCostRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param estimateTemplateCostRequest Container for the necessary
+     *           parameters to execute the EstimateTemplateCost operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         EstimateTemplateCost service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<EstimateTemplateCostResult> estimateTemplateCostComposableAsync(final EstimateTemplateCostRequest estimateTemplateCostRequest) {
+        return executeAsync(executorService, new Callable<EstimateTemplateCostResult>() {
             public EstimateTemplateCostResult call() throws Exception {
-              EstimateTemplateCostResult result;
-                try {
-                result = estimateTemplateCost(estimateTemplateCostRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(estimateTemplateCostRequest, result);
-                 return result;
-        }
-    });
+                return estimateTemplateCost(estimateTemplateCostRequest);
+            }
+        }, estimateTemplateCostRequest,
+                new EstimateTemplateCostRequestMarshaller(), new EstimateTemplateCostResultStaxUnmarshaller());
     }
     
     /**
@@ -1050,11 +1107,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackEventsResult> describeStackEventsAsync(final DescribeStackEventsRequest describeStackEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackEventsResult>() {
-            public DescribeStackEventsResult call() throws Exception {
-                return describeStackEvents(describeStackEventsRequest);
-        }
-    });
+        return describeStackEventsComposableAsync(describeStackEventsRequest);
     }
 
     /**
@@ -1095,19 +1148,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackEventsRequest describeStackEventsRequest,
             final AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackEventsResult>() {
+        return withAsyncHandler(describeStackEventsComposableAsync(describeStackEventsRequest),
+                describeStackEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStackEvents operation like
+     * {@link #describeStackEventsAsync(DescribeStackEventsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStackEventsRequest Container for the necessary
+     *           parameters to execute the DescribeStackEvents operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStackEvents service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<DescribeStackEventsResult> describeStackEventsComposableAsync(final DescribeStackEventsRequest describeStackEventsRequest) {
+        return executeAsync(executorService, new Callable<DescribeStackEventsResult>() {
             public DescribeStackEventsResult call() throws Exception {
-              DescribeStackEventsResult result;
-                try {
-                result = describeStackEvents(describeStackEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStackEventsRequest, result);
-                 return result;
-        }
-    });
+                return describeStackEvents(describeStackEventsRequest);
+            }
+        }, describeStackEventsRequest,
+                new DescribeStackEventsRequestMarshaller(), new DescribeStackEventsResultStaxUnmarshaller());
     }
     
     /**
@@ -1139,11 +1204,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourceResult> describeStackResourceAsync(final DescribeStackResourceRequest describeStackResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourceResult>() {
-            public DescribeStackResourceResult call() throws Exception {
-                return describeStackResource(describeStackResourceRequest);
-        }
-    });
+        return describeStackResourceComposableAsync(describeStackResourceRequest);
     }
 
     /**
@@ -1181,19 +1242,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourceRequest describeStackResourceRequest,
             final AsyncHandler<DescribeStackResourceRequest, DescribeStackResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourceResult>() {
+        return withAsyncHandler(describeStackResourceComposableAsync(describeStackResourceRequest),
+                describeStackResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStackResource operation like
+     * {@link #describeStackResourceAsync(DescribeStackResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStackResourceRequest Container for the necessary
+     *           parameters to execute the DescribeStackResource operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStackResource service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<DescribeStackResourceResult> describeStackResourceComposableAsync(final DescribeStackResourceRequest describeStackResourceRequest) {
+        return executeAsync(executorService, new Callable<DescribeStackResourceResult>() {
             public DescribeStackResourceResult call() throws Exception {
-              DescribeStackResourceResult result;
-                try {
-                result = describeStackResource(describeStackResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStackResourceRequest, result);
-                 return result;
-        }
-    });
+                return describeStackResource(describeStackResourceRequest);
+            }
+        }, describeStackResourceRequest,
+                new DescribeStackResourceRequestMarshaller(), new DescribeStackResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -1224,12 +1297,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> signalResourceAsync(final SignalResourceRequest signalResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                signalResource(signalResourceRequest);
-                return null;
-        }
-    });
+        return signalResourceComposableAsync(signalResourceRequest);
     }
 
     /**
@@ -1266,18 +1334,29 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SignalResourceRequest signalResourceRequest,
             final AsyncHandler<SignalResourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(signalResourceComposableAsync(signalResourceRequest),
+                signalResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SignalResource operation like
+     * {@link #signalResourceAsync(SignalResourceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param signalResourceRequest Container for the necessary parameters to
+     *           execute the SignalResource operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the SignalResource
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<Void> signalResourceComposableAsync(final SignalResourceRequest signalResourceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 signalResource(signalResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(signalResourceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, signalResourceRequest,
+                new SignalResourceRequestMarshaller(), null);
     }
     
     /**
@@ -1308,12 +1387,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> cancelUpdateStackAsync(final CancelUpdateStackRequest cancelUpdateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelUpdateStack(cancelUpdateStackRequest);
-                return null;
-        }
-    });
+        return cancelUpdateStackComposableAsync(cancelUpdateStackRequest);
     }
 
     /**
@@ -1350,18 +1424,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CancelUpdateStackRequest cancelUpdateStackRequest,
             final AsyncHandler<CancelUpdateStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(cancelUpdateStackComposableAsync(cancelUpdateStackRequest),
+                cancelUpdateStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelUpdateStack operation like
+     * {@link #cancelUpdateStackAsync(CancelUpdateStackRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param cancelUpdateStackRequest Container for the necessary parameters
+     *           to execute the CancelUpdateStack operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         CancelUpdateStack service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<Void> cancelUpdateStackComposableAsync(final CancelUpdateStackRequest cancelUpdateStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 cancelUpdateStack(cancelUpdateStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelUpdateStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, cancelUpdateStackRequest,
+                new CancelUpdateStackRequestMarshaller(), null);
     }
     
     /**
@@ -1403,11 +1490,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<UpdateStackResult> updateStackAsync(final UpdateStackRequest updateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStackResult>() {
-            public UpdateStackResult call() throws Exception {
-                return updateStack(updateStackRequest);
-        }
-    });
+        return updateStackComposableAsync(updateStackRequest);
     }
 
     /**
@@ -1455,19 +1538,28 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final UpdateStackRequest updateStackRequest,
             final AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStackResult>() {
+        return withAsyncHandler(updateStackComposableAsync(updateStackRequest),
+                updateStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateStack operation like
+     * {@link #updateStackAsync(UpdateStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateStackRequest Container for the necessary parameters to
+     *           execute the UpdateStack operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the UpdateStack
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<UpdateStackResult> updateStackComposableAsync(final UpdateStackRequest updateStackRequest) {
+        return executeAsync(executorService, new Callable<UpdateStackResult>() {
             public UpdateStackResult call() throws Exception {
-              UpdateStackResult result;
-                try {
-                result = updateStack(updateStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateStackRequest, result);
-                 return result;
-        }
-    });
+                return updateStack(updateStackRequest);
+            }
+        }, updateStackRequest,
+                new UpdateStackRequestMarshaller(), new UpdateStackResultStaxUnmarshaller());
     }
     
     /**
@@ -1522,11 +1614,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourcesResult> describeStackResourcesAsync(final DescribeStackResourcesRequest describeStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
-            public DescribeStackResourcesResult call() throws Exception {
-                return describeStackResources(describeStackResourcesRequest);
-        }
-    });
+        return describeStackResourcesComposableAsync(describeStackResourcesRequest);
     }
 
     /**
@@ -1587,19 +1675,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourcesRequest describeStackResourcesRequest,
             final AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
+        return withAsyncHandler(describeStackResourcesComposableAsync(describeStackResourcesRequest),
+                describeStackResourcesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStackResources operation like
+     * {@link #describeStackResourcesAsync(DescribeStackResourcesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStackResourcesRequest Container for the necessary
+     *           parameters to execute the DescribeStackResources operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStackResources service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<DescribeStackResourcesResult> describeStackResourcesComposableAsync(final DescribeStackResourcesRequest describeStackResourcesRequest) {
+        return executeAsync(executorService, new Callable<DescribeStackResourcesResult>() {
             public DescribeStackResourcesResult call() throws Exception {
-              DescribeStackResourcesResult result;
-                try {
-                result = describeStackResources(describeStackResourcesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStackResourcesRequest, result);
-                 return result;
-        }
-    });
+                return describeStackResources(describeStackResourcesRequest);
+            }
+        }, describeStackResourcesRequest,
+                new DescribeStackResourcesRequestMarshaller(), new DescribeStackResourcesResultStaxUnmarshaller());
     }
     
     /**
@@ -1630,11 +1730,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStackResourcesResult> listStackResourcesAsync(final ListStackResourcesRequest listStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStackResourcesResult>() {
-            public ListStackResourcesResult call() throws Exception {
-                return listStackResources(listStackResourcesRequest);
-        }
-    });
+        return listStackResourcesComposableAsync(listStackResourcesRequest);
     }
 
     /**
@@ -1671,19 +1767,31 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStackResourcesRequest listStackResourcesRequest,
             final AsyncHandler<ListStackResourcesRequest, ListStackResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStackResourcesResult>() {
+        return withAsyncHandler(listStackResourcesComposableAsync(listStackResourcesRequest),
+                listStackResourcesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListStackResources operation like
+     * {@link #listStackResourcesAsync(ListStackResourcesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listStackResourcesRequest Container for the necessary
+     *           parameters to execute the ListStackResources operation on
+     *           AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the
+     *         ListStackResources service method, as returned by
+     *         AmazonCloudFormation.
+     */
+    public ComposableFuture<ListStackResourcesResult> listStackResourcesComposableAsync(final ListStackResourcesRequest listStackResourcesRequest) {
+        return executeAsync(executorService, new Callable<ListStackResourcesResult>() {
             public ListStackResourcesResult call() throws Exception {
-              ListStackResourcesResult result;
-                try {
-                result = listStackResources(listStackResourcesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listStackResourcesRequest, result);
-                 return result;
-        }
-    });
+                return listStackResources(listStackResourcesRequest);
+            }
+        }, listStackResourcesRequest,
+                new ListStackResourcesRequestMarshaller(), new ListStackResourcesResultStaxUnmarshaller());
     }
     
     /**
@@ -1710,12 +1818,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> deleteStackAsync(final DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStack(deleteStackRequest);
-                return null;
-        }
-    });
+        return deleteStackComposableAsync(deleteStackRequest);
     }
 
     /**
@@ -1748,18 +1851,29 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteStackRequest deleteStackRequest,
             final AsyncHandler<DeleteStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteStackComposableAsync(deleteStackRequest),
+                deleteStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteStack operation like
+     * {@link #deleteStackAsync(DeleteStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteStackRequest Container for the necessary parameters to
+     *           execute the DeleteStack operation on AmazonCloudFormation.
+     *
+     * @return A composable future for the response from the DeleteStack
+     *         service method, as returned by AmazonCloudFormation.
+     */
+    public ComposableFuture<Void> deleteStackComposableAsync(final DeleteStackRequest deleteStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteStack(deleteStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteStackRequest,
+                new DeleteStackRequestMarshaller(), null);
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudfront.model.*;
+import com.amazonaws.services.cloudfront.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudFront.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * 
  */
 public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
@@ -291,12 +295,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteDistributionAsync(final DeleteDistributionRequest deleteDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDistribution(deleteDistributionRequest);
-                return null;
-        }
-    });
+        return deleteDistributionComposableAsync(deleteDistributionRequest);
     }
 
     /**
@@ -328,18 +327,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteDistributionRequest deleteDistributionRequest,
             final AsyncHandler<DeleteDistributionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDistributionComposableAsync(deleteDistributionRequest),
+                deleteDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDistribution operation like
+     * {@link #deleteDistributionAsync(DeleteDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDistributionRequest Container for the necessary
+     *           parameters to execute the DeleteDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<Void> deleteDistributionComposableAsync(final DeleteDistributionRequest deleteDistributionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDistribution(deleteDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDistributionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDistributionRequest,
+                new DeleteDistributionRequestMarshaller(), null);
     }
     
     /**
@@ -365,11 +378,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateDistributionResult> updateDistributionAsync(final UpdateDistributionRequest updateDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
-            public UpdateDistributionResult call() throws Exception {
-                return updateDistribution(updateDistributionRequest);
-        }
-    });
+        return updateDistributionComposableAsync(updateDistributionRequest);
     }
 
     /**
@@ -401,19 +410,31 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateDistributionRequest updateDistributionRequest,
             final AsyncHandler<UpdateDistributionRequest, UpdateDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
+        return withAsyncHandler(updateDistributionComposableAsync(updateDistributionRequest),
+                updateDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDistribution operation like
+     * {@link #updateDistributionAsync(UpdateDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDistributionRequest Container for the necessary
+     *           parameters to execute the UpdateDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<UpdateDistributionResult> updateDistributionComposableAsync(final UpdateDistributionRequest updateDistributionRequest) {
+        return executeAsync(executorService, new Callable<UpdateDistributionResult>() {
             public UpdateDistributionResult call() throws Exception {
-              UpdateDistributionResult result;
-                try {
-                result = updateDistribution(updateDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDistributionRequest, result);
-                 return result;
-        }
-    });
+                return updateDistribution(updateDistributionRequest);
+            }
+        }, updateDistributionRequest,
+                new UpdateDistributionRequestMarshaller(), new UpdateDistributionResultStaxUnmarshaller());
     }
     
     /**
@@ -438,11 +459,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListInvalidationsResult> listInvalidationsAsync(final ListInvalidationsRequest listInvalidationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
-            public ListInvalidationsResult call() throws Exception {
-                return listInvalidations(listInvalidationsRequest);
-        }
-    });
+        return listInvalidationsComposableAsync(listInvalidationsRequest);
     }
 
     /**
@@ -473,19 +490,30 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListInvalidationsRequest listInvalidationsRequest,
             final AsyncHandler<ListInvalidationsRequest, ListInvalidationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
+        return withAsyncHandler(listInvalidationsComposableAsync(listInvalidationsRequest),
+                listInvalidationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListInvalidations operation like
+     * {@link #listInvalidationsAsync(ListInvalidationsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listInvalidationsRequest Container for the necessary parameters
+     *           to execute the ListInvalidations operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         ListInvalidations service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<ListInvalidationsResult> listInvalidationsComposableAsync(final ListInvalidationsRequest listInvalidationsRequest) {
+        return executeAsync(executorService, new Callable<ListInvalidationsResult>() {
             public ListInvalidationsResult call() throws Exception {
-              ListInvalidationsResult result;
-                try {
-                result = listInvalidations(listInvalidationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listInvalidationsRequest, result);
-                 return result;
-        }
-    });
+                return listInvalidations(listInvalidationsRequest);
+            }
+        }, listInvalidationsRequest,
+                new ListInvalidationsRequestMarshaller(), new ListInvalidationsResultStaxUnmarshaller());
     }
     
     /**
@@ -512,11 +540,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateStreamingDistributionResult> updateStreamingDistributionAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
-            public UpdateStreamingDistributionResult call() throws Exception {
-                return updateStreamingDistribution(updateStreamingDistributionRequest);
-        }
-    });
+        return updateStreamingDistributionComposableAsync(updateStreamingDistributionRequest);
     }
 
     /**
@@ -549,19 +573,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateStreamingDistributionRequest updateStreamingDistributionRequest,
             final AsyncHandler<UpdateStreamingDistributionRequest, UpdateStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
+        return withAsyncHandler(updateStreamingDistributionComposableAsync(updateStreamingDistributionRequest),
+                updateStreamingDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateStreamingDistribution operation
+     * like
+     * {@link #updateStreamingDistributionAsync(UpdateStreamingDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateStreamingDistributionRequest Container for the necessary
+     *           parameters to execute the UpdateStreamingDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         UpdateStreamingDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<UpdateStreamingDistributionResult> updateStreamingDistributionComposableAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest) {
+        return executeAsync(executorService, new Callable<UpdateStreamingDistributionResult>() {
             public UpdateStreamingDistributionResult call() throws Exception {
-              UpdateStreamingDistributionResult result;
-                try {
-                result = updateStreamingDistribution(updateStreamingDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateStreamingDistributionRequest, result);
-                 return result;
-        }
-    });
+                return updateStreamingDistribution(updateStreamingDistributionRequest);
+            }
+        }, updateStreamingDistributionRequest,
+                new UpdateStreamingDistributionRequestMarshaller(), new UpdateStreamingDistributionResultStaxUnmarshaller());
     }
     
     /**
@@ -588,11 +625,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionResult> getStreamingDistributionAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
-            public GetStreamingDistributionResult call() throws Exception {
-                return getStreamingDistribution(getStreamingDistributionRequest);
-        }
-    });
+        return getStreamingDistributionComposableAsync(getStreamingDistributionRequest);
     }
 
     /**
@@ -625,19 +658,31 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionRequest getStreamingDistributionRequest,
             final AsyncHandler<GetStreamingDistributionRequest, GetStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
+        return withAsyncHandler(getStreamingDistributionComposableAsync(getStreamingDistributionRequest),
+                getStreamingDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetStreamingDistribution operation like
+     * {@link #getStreamingDistributionAsync(GetStreamingDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getStreamingDistributionRequest Container for the necessary
+     *           parameters to execute the GetStreamingDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetStreamingDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<GetStreamingDistributionResult> getStreamingDistributionComposableAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest) {
+        return executeAsync(executorService, new Callable<GetStreamingDistributionResult>() {
             public GetStreamingDistributionResult call() throws Exception {
-              GetStreamingDistributionResult result;
-                try {
-                result = getStreamingDistribution(getStreamingDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getStreamingDistributionRequest, result);
-                 return result;
-        }
-    });
+                return getStreamingDistribution(getStreamingDistributionRequest);
+            }
+        }, getStreamingDistributionRequest,
+                new GetStreamingDistributionRequestMarshaller(), new GetStreamingDistributionResultStaxUnmarshaller());
     }
     
     /**
@@ -664,12 +709,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteStreamingDistributionAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStreamingDistribution(deleteStreamingDistributionRequest);
-                return null;
-        }
-    });
+        return deleteStreamingDistributionComposableAsync(deleteStreamingDistributionRequest);
     }
 
     /**
@@ -702,18 +742,33 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest,
             final AsyncHandler<DeleteStreamingDistributionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteStreamingDistributionComposableAsync(deleteStreamingDistributionRequest),
+                deleteStreamingDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteStreamingDistribution operation
+     * like
+     * {@link #deleteStreamingDistributionAsync(DeleteStreamingDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteStreamingDistributionRequest Container for the necessary
+     *           parameters to execute the DeleteStreamingDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         DeleteStreamingDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<Void> deleteStreamingDistributionComposableAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteStreamingDistribution(deleteStreamingDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteStreamingDistributionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteStreamingDistributionRequest,
+                new DeleteStreamingDistributionRequestMarshaller(), null);
     }
     
     /**
@@ -740,11 +795,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
-            public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
-        }
-    });
+        return getCloudFrontOriginAccessIdentityComposableAsync(getCloudFrontOriginAccessIdentityRequest);
     }
 
     /**
@@ -777,19 +828,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<GetCloudFrontOriginAccessIdentityRequest, GetCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
+        return withAsyncHandler(getCloudFrontOriginAccessIdentityComposableAsync(getCloudFrontOriginAccessIdentityRequest),
+                getCloudFrontOriginAccessIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetCloudFrontOriginAccessIdentity
+     * operation like
+     * {@link #getCloudFrontOriginAccessIdentityAsync(GetCloudFrontOriginAccessIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getCloudFrontOriginAccessIdentityRequest Container for the
+     *           necessary parameters to execute the GetCloudFrontOriginAccessIdentity
+     *           operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetCloudFrontOriginAccessIdentity service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityComposableAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest) {
+        return executeAsync(executorService, new Callable<GetCloudFrontOriginAccessIdentityResult>() {
             public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
-              GetCloudFrontOriginAccessIdentityResult result;
-                try {
-                result = getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getCloudFrontOriginAccessIdentityRequest, result);
-                 return result;
-        }
-    });
+                return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
+            }
+        }, getCloudFrontOriginAccessIdentityRequest,
+                new GetCloudFrontOriginAccessIdentityRequestMarshaller(), new GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -816,11 +880,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
-            public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
-        }
-    });
+        return createCloudFrontOriginAccessIdentityComposableAsync(createCloudFrontOriginAccessIdentityRequest);
     }
 
     /**
@@ -853,19 +913,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<CreateCloudFrontOriginAccessIdentityRequest, CreateCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
+        return withAsyncHandler(createCloudFrontOriginAccessIdentityComposableAsync(createCloudFrontOriginAccessIdentityRequest),
+                createCloudFrontOriginAccessIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCloudFrontOriginAccessIdentity
+     * operation like
+     * {@link #createCloudFrontOriginAccessIdentityAsync(CreateCloudFrontOriginAccessIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCloudFrontOriginAccessIdentityRequest Container for the
+     *           necessary parameters to execute the
+     *           CreateCloudFrontOriginAccessIdentity operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         CreateCloudFrontOriginAccessIdentity service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityComposableAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest) {
+        return executeAsync(executorService, new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
             public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
-              CreateCloudFrontOriginAccessIdentityResult result;
-                try {
-                result = createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCloudFrontOriginAccessIdentityRequest, result);
-                 return result;
-        }
-    });
+                return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
+            }
+        }, createCloudFrontOriginAccessIdentityRequest,
+                new CreateCloudFrontOriginAccessIdentityRequestMarshaller(), new CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -891,11 +964,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionConfigResult> getDistributionConfigAsync(final GetDistributionConfigRequest getDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
-            public GetDistributionConfigResult call() throws Exception {
-                return getDistributionConfig(getDistributionConfigRequest);
-        }
-    });
+        return getDistributionConfigComposableAsync(getDistributionConfigRequest);
     }
 
     /**
@@ -927,19 +996,31 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionConfigRequest getDistributionConfigRequest,
             final AsyncHandler<GetDistributionConfigRequest, GetDistributionConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
+        return withAsyncHandler(getDistributionConfigComposableAsync(getDistributionConfigRequest),
+                getDistributionConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDistributionConfig operation like
+     * {@link #getDistributionConfigAsync(GetDistributionConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getDistributionConfigRequest Container for the necessary
+     *           parameters to execute the GetDistributionConfig operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetDistributionConfig service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<GetDistributionConfigResult> getDistributionConfigComposableAsync(final GetDistributionConfigRequest getDistributionConfigRequest) {
+        return executeAsync(executorService, new Callable<GetDistributionConfigResult>() {
             public GetDistributionConfigResult call() throws Exception {
-              GetDistributionConfigResult result;
-                try {
-                result = getDistributionConfig(getDistributionConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDistributionConfigRequest, result);
-                 return result;
-        }
-    });
+                return getDistributionConfig(getDistributionConfigRequest);
+            }
+        }, getDistributionConfigRequest,
+                new GetDistributionConfigRequestMarshaller(), new GetDistributionConfigResultStaxUnmarshaller());
     }
     
     /**
@@ -966,11 +1047,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
-            public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
-        }
-    });
+        return updateCloudFrontOriginAccessIdentityComposableAsync(updateCloudFrontOriginAccessIdentityRequest);
     }
 
     /**
@@ -1003,19 +1080,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<UpdateCloudFrontOriginAccessIdentityRequest, UpdateCloudFrontOriginAccessIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
+        return withAsyncHandler(updateCloudFrontOriginAccessIdentityComposableAsync(updateCloudFrontOriginAccessIdentityRequest),
+                updateCloudFrontOriginAccessIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateCloudFrontOriginAccessIdentity
+     * operation like
+     * {@link #updateCloudFrontOriginAccessIdentityAsync(UpdateCloudFrontOriginAccessIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateCloudFrontOriginAccessIdentityRequest Container for the
+     *           necessary parameters to execute the
+     *           UpdateCloudFrontOriginAccessIdentity operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         UpdateCloudFrontOriginAccessIdentity service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityComposableAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest) {
+        return executeAsync(executorService, new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
             public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
-              UpdateCloudFrontOriginAccessIdentityResult result;
-                try {
-                result = updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateCloudFrontOriginAccessIdentityRequest, result);
-                 return result;
-        }
-    });
+                return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
+            }
+        }, updateCloudFrontOriginAccessIdentityRequest,
+                new UpdateCloudFrontOriginAccessIdentityRequestMarshaller(), new UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -1041,11 +1131,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateDistributionResult> createDistributionAsync(final CreateDistributionRequest createDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
-            public CreateDistributionResult call() throws Exception {
-                return createDistribution(createDistributionRequest);
-        }
-    });
+        return createDistributionComposableAsync(createDistributionRequest);
     }
 
     /**
@@ -1077,19 +1163,31 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateDistributionRequest createDistributionRequest,
             final AsyncHandler<CreateDistributionRequest, CreateDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
+        return withAsyncHandler(createDistributionComposableAsync(createDistributionRequest),
+                createDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDistribution operation like
+     * {@link #createDistributionAsync(CreateDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDistributionRequest Container for the necessary
+     *           parameters to execute the CreateDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         CreateDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<CreateDistributionResult> createDistributionComposableAsync(final CreateDistributionRequest createDistributionRequest) {
+        return executeAsync(executorService, new Callable<CreateDistributionResult>() {
             public CreateDistributionResult call() throws Exception {
-              CreateDistributionResult result;
-                try {
-                result = createDistribution(createDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDistributionRequest, result);
-                 return result;
-        }
-    });
+                return createDistribution(createDistributionRequest);
+            }
+        }, createDistributionRequest,
+                new CreateDistributionRequestMarshaller(), new CreateDistributionResultStaxUnmarshaller());
     }
     
     /**
@@ -1116,11 +1214,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
-            public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
-                return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
-        }
-    });
+        return listCloudFrontOriginAccessIdentitiesComposableAsync(listCloudFrontOriginAccessIdentitiesRequest);
     }
 
     /**
@@ -1153,19 +1247,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest,
             final AsyncHandler<ListCloudFrontOriginAccessIdentitiesRequest, ListCloudFrontOriginAccessIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
+        return withAsyncHandler(listCloudFrontOriginAccessIdentitiesComposableAsync(listCloudFrontOriginAccessIdentitiesRequest),
+                listCloudFrontOriginAccessIdentitiesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListCloudFrontOriginAccessIdentities
+     * operation like
+     * {@link #listCloudFrontOriginAccessIdentitiesAsync(ListCloudFrontOriginAccessIdentitiesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listCloudFrontOriginAccessIdentitiesRequest Container for the
+     *           necessary parameters to execute the
+     *           ListCloudFrontOriginAccessIdentities operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         ListCloudFrontOriginAccessIdentities service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesComposableAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest) {
+        return executeAsync(executorService, new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
             public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
-              ListCloudFrontOriginAccessIdentitiesResult result;
-                try {
-                result = listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listCloudFrontOriginAccessIdentitiesRequest, result);
-                 return result;
-        }
-    });
+                return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
+            }
+        }, listCloudFrontOriginAccessIdentitiesRequest,
+                new ListCloudFrontOriginAccessIdentitiesRequestMarshaller(), new ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller());
     }
     
     /**
@@ -1192,11 +1299,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
-            public GetStreamingDistributionConfigResult call() throws Exception {
-                return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
-        }
-    });
+        return getStreamingDistributionConfigComposableAsync(getStreamingDistributionConfigRequest);
     }
 
     /**
@@ -1229,19 +1332,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest,
             final AsyncHandler<GetStreamingDistributionConfigRequest, GetStreamingDistributionConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
+        return withAsyncHandler(getStreamingDistributionConfigComposableAsync(getStreamingDistributionConfigRequest),
+                getStreamingDistributionConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetStreamingDistributionConfig operation
+     * like
+     * {@link #getStreamingDistributionConfigAsync(GetStreamingDistributionConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getStreamingDistributionConfigRequest Container for the
+     *           necessary parameters to execute the GetStreamingDistributionConfig
+     *           operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetStreamingDistributionConfig service method, as returned
+     *         by AmazonCloudFront.
+     */
+    public ComposableFuture<GetStreamingDistributionConfigResult> getStreamingDistributionConfigComposableAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest) {
+        return executeAsync(executorService, new Callable<GetStreamingDistributionConfigResult>() {
             public GetStreamingDistributionConfigResult call() throws Exception {
-              GetStreamingDistributionConfigResult result;
-                try {
-                result = getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getStreamingDistributionConfigRequest, result);
-                 return result;
-        }
-    });
+                return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
+            }
+        }, getStreamingDistributionConfigRequest,
+                new GetStreamingDistributionConfigRequestMarshaller(), new GetStreamingDistributionConfigResultStaxUnmarshaller());
     }
     
     /**
@@ -1268,11 +1384,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
-            public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
-        }
-    });
+        return getCloudFrontOriginAccessIdentityConfigComposableAsync(getCloudFrontOriginAccessIdentityConfigRequest);
     }
 
     /**
@@ -1305,19 +1417,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest,
             final AsyncHandler<GetCloudFrontOriginAccessIdentityConfigRequest, GetCloudFrontOriginAccessIdentityConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
+        return withAsyncHandler(getCloudFrontOriginAccessIdentityConfigComposableAsync(getCloudFrontOriginAccessIdentityConfigRequest),
+                getCloudFrontOriginAccessIdentityConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetCloudFrontOriginAccessIdentityConfig
+     * operation like
+     * {@link #getCloudFrontOriginAccessIdentityConfigAsync(GetCloudFrontOriginAccessIdentityConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getCloudFrontOriginAccessIdentityConfigRequest Container for
+     *           the necessary parameters to execute the
+     *           GetCloudFrontOriginAccessIdentityConfig operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetCloudFrontOriginAccessIdentityConfig service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigComposableAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest) {
+        return executeAsync(executorService, new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
             public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
-              GetCloudFrontOriginAccessIdentityConfigResult result;
-                try {
-                result = getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getCloudFrontOriginAccessIdentityConfigRequest, result);
-                 return result;
-        }
-    });
+                return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
+            }
+        }, getCloudFrontOriginAccessIdentityConfigRequest,
+                new GetCloudFrontOriginAccessIdentityConfigRequestMarshaller(), new GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller());
     }
     
     /**
@@ -1343,11 +1468,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateInvalidationResult> createInvalidationAsync(final CreateInvalidationRequest createInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
-            public CreateInvalidationResult call() throws Exception {
-                return createInvalidation(createInvalidationRequest);
-        }
-    });
+        return createInvalidationComposableAsync(createInvalidationRequest);
     }
 
     /**
@@ -1379,19 +1500,31 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateInvalidationRequest createInvalidationRequest,
             final AsyncHandler<CreateInvalidationRequest, CreateInvalidationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
+        return withAsyncHandler(createInvalidationComposableAsync(createInvalidationRequest),
+                createInvalidationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInvalidation operation like
+     * {@link #createInvalidationAsync(CreateInvalidationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createInvalidationRequest Container for the necessary
+     *           parameters to execute the CreateInvalidation operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         CreateInvalidation service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<CreateInvalidationResult> createInvalidationComposableAsync(final CreateInvalidationRequest createInvalidationRequest) {
+        return executeAsync(executorService, new Callable<CreateInvalidationResult>() {
             public CreateInvalidationResult call() throws Exception {
-              CreateInvalidationResult result;
-                try {
-                result = createInvalidation(createInvalidationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInvalidationRequest, result);
-                 return result;
-        }
-    });
+                return createInvalidation(createInvalidationRequest);
+            }
+        }, createInvalidationRequest,
+                new CreateInvalidationRequestMarshaller(), new CreateInvalidationResultStaxUnmarshaller());
     }
     
     /**
@@ -1418,12 +1551,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteCloudFrontOriginAccessIdentityAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
-                return null;
-        }
-    });
+        return deleteCloudFrontOriginAccessIdentityComposableAsync(deleteCloudFrontOriginAccessIdentityRequest);
     }
 
     /**
@@ -1456,18 +1584,33 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest,
             final AsyncHandler<DeleteCloudFrontOriginAccessIdentityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteCloudFrontOriginAccessIdentityComposableAsync(deleteCloudFrontOriginAccessIdentityRequest),
+                deleteCloudFrontOriginAccessIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCloudFrontOriginAccessIdentity
+     * operation like
+     * {@link #deleteCloudFrontOriginAccessIdentityAsync(DeleteCloudFrontOriginAccessIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCloudFrontOriginAccessIdentityRequest Container for the
+     *           necessary parameters to execute the
+     *           DeleteCloudFrontOriginAccessIdentity operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCloudFrontOriginAccessIdentity service method, as
+     *         returned by AmazonCloudFront.
+     */
+    public ComposableFuture<Void> deleteCloudFrontOriginAccessIdentityComposableAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCloudFrontOriginAccessIdentityRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteCloudFrontOriginAccessIdentityRequest,
+                new DeleteCloudFrontOriginAccessIdentityRequestMarshaller(), null);
     }
     
     /**
@@ -1492,11 +1635,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListDistributionsResult> listDistributionsAsync(final ListDistributionsRequest listDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
-            public ListDistributionsResult call() throws Exception {
-                return listDistributions(listDistributionsRequest);
-        }
-    });
+        return listDistributionsComposableAsync(listDistributionsRequest);
     }
 
     /**
@@ -1527,19 +1666,30 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsRequest listDistributionsRequest,
             final AsyncHandler<ListDistributionsRequest, ListDistributionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
+        return withAsyncHandler(listDistributionsComposableAsync(listDistributionsRequest),
+                listDistributionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDistributions operation like
+     * {@link #listDistributionsAsync(ListDistributionsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listDistributionsRequest Container for the necessary parameters
+     *           to execute the ListDistributions operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         ListDistributions service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<ListDistributionsResult> listDistributionsComposableAsync(final ListDistributionsRequest listDistributionsRequest) {
+        return executeAsync(executorService, new Callable<ListDistributionsResult>() {
             public ListDistributionsResult call() throws Exception {
-              ListDistributionsResult result;
-                try {
-                result = listDistributions(listDistributionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDistributionsRequest, result);
-                 return result;
-        }
-    });
+                return listDistributions(listDistributionsRequest);
+            }
+        }, listDistributionsRequest,
+                new ListDistributionsRequestMarshaller(), new ListDistributionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1564,11 +1714,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetInvalidationResult> getInvalidationAsync(final GetInvalidationRequest getInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
-            public GetInvalidationResult call() throws Exception {
-                return getInvalidation(getInvalidationRequest);
-        }
-    });
+        return getInvalidationComposableAsync(getInvalidationRequest);
     }
 
     /**
@@ -1599,19 +1745,29 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetInvalidationRequest getInvalidationRequest,
             final AsyncHandler<GetInvalidationRequest, GetInvalidationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
+        return withAsyncHandler(getInvalidationComposableAsync(getInvalidationRequest),
+                getInvalidationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetInvalidation operation like
+     * {@link #getInvalidationAsync(GetInvalidationRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getInvalidationRequest Container for the necessary parameters
+     *           to execute the GetInvalidation operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetInvalidation service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<GetInvalidationResult> getInvalidationComposableAsync(final GetInvalidationRequest getInvalidationRequest) {
+        return executeAsync(executorService, new Callable<GetInvalidationResult>() {
             public GetInvalidationResult call() throws Exception {
-              GetInvalidationResult result;
-                try {
-                result = getInvalidation(getInvalidationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getInvalidationRequest, result);
-                 return result;
-        }
-    });
+                return getInvalidation(getInvalidationRequest);
+            }
+        }, getInvalidationRequest,
+                new GetInvalidationRequestMarshaller(), new GetInvalidationResultStaxUnmarshaller());
     }
     
     /**
@@ -1638,11 +1794,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListStreamingDistributionsResult> listStreamingDistributionsAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
-            public ListStreamingDistributionsResult call() throws Exception {
-                return listStreamingDistributions(listStreamingDistributionsRequest);
-        }
-    });
+        return listStreamingDistributionsComposableAsync(listStreamingDistributionsRequest);
     }
 
     /**
@@ -1675,19 +1827,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListStreamingDistributionsRequest listStreamingDistributionsRequest,
             final AsyncHandler<ListStreamingDistributionsRequest, ListStreamingDistributionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
+        return withAsyncHandler(listStreamingDistributionsComposableAsync(listStreamingDistributionsRequest),
+                listStreamingDistributionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListStreamingDistributions operation
+     * like
+     * {@link #listStreamingDistributionsAsync(ListStreamingDistributionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listStreamingDistributionsRequest Container for the necessary
+     *           parameters to execute the ListStreamingDistributions operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         ListStreamingDistributions service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<ListStreamingDistributionsResult> listStreamingDistributionsComposableAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest) {
+        return executeAsync(executorService, new Callable<ListStreamingDistributionsResult>() {
             public ListStreamingDistributionsResult call() throws Exception {
-              ListStreamingDistributionsResult result;
-                try {
-                result = listStreamingDistributions(listStreamingDistributionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listStreamingDistributionsRequest, result);
-                 return result;
-        }
-    });
+                return listStreamingDistributions(listStreamingDistributionsRequest);
+            }
+        }, listStreamingDistributionsRequest,
+                new ListStreamingDistributionsRequestMarshaller(), new ListStreamingDistributionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1712,11 +1877,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionResult> getDistributionAsync(final GetDistributionRequest getDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
-            public GetDistributionResult call() throws Exception {
-                return getDistribution(getDistributionRequest);
-        }
-    });
+        return getDistributionComposableAsync(getDistributionRequest);
     }
 
     /**
@@ -1747,19 +1908,29 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionRequest getDistributionRequest,
             final AsyncHandler<GetDistributionRequest, GetDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
+        return withAsyncHandler(getDistributionComposableAsync(getDistributionRequest),
+                getDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDistribution operation like
+     * {@link #getDistributionAsync(GetDistributionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getDistributionRequest Container for the necessary parameters
+     *           to execute the GetDistribution operation on AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         GetDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<GetDistributionResult> getDistributionComposableAsync(final GetDistributionRequest getDistributionRequest) {
+        return executeAsync(executorService, new Callable<GetDistributionResult>() {
             public GetDistributionResult call() throws Exception {
-              GetDistributionResult result;
-                try {
-                result = getDistribution(getDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDistributionRequest, result);
-                 return result;
-        }
-    });
+                return getDistribution(getDistributionRequest);
+            }
+        }, getDistributionRequest,
+                new GetDistributionRequestMarshaller(), new GetDistributionResultStaxUnmarshaller());
     }
     
     /**
@@ -1786,11 +1957,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateStreamingDistributionResult> createStreamingDistributionAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
-            public CreateStreamingDistributionResult call() throws Exception {
-                return createStreamingDistribution(createStreamingDistributionRequest);
-        }
-    });
+        return createStreamingDistributionComposableAsync(createStreamingDistributionRequest);
     }
 
     /**
@@ -1823,19 +1990,32 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateStreamingDistributionRequest createStreamingDistributionRequest,
             final AsyncHandler<CreateStreamingDistributionRequest, CreateStreamingDistributionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
+        return withAsyncHandler(createStreamingDistributionComposableAsync(createStreamingDistributionRequest),
+                createStreamingDistributionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStreamingDistribution operation
+     * like
+     * {@link #createStreamingDistributionAsync(CreateStreamingDistributionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createStreamingDistributionRequest Container for the necessary
+     *           parameters to execute the CreateStreamingDistribution operation on
+     *           AmazonCloudFront.
+     *
+     * @return A composable future for the response from the
+     *         CreateStreamingDistribution service method, as returned by
+     *         AmazonCloudFront.
+     */
+    public ComposableFuture<CreateStreamingDistributionResult> createStreamingDistributionComposableAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest) {
+        return executeAsync(executorService, new Callable<CreateStreamingDistributionResult>() {
             public CreateStreamingDistributionResult call() throws Exception {
-              CreateStreamingDistributionResult result;
-                try {
-                result = createStreamingDistribution(createStreamingDistributionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStreamingDistributionRequest, result);
-                 return result;
-        }
-    });
+                return createStreamingDistribution(createStreamingDistributionRequest);
+            }
+        }, createStreamingDistributionRequest,
+                new CreateStreamingDistributionRequestMarshaller(), new CreateStreamingDistributionResultStaxUnmarshaller());
     }
     
 }
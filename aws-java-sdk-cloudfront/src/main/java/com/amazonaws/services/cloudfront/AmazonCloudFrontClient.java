@@ -18,10 +18,13 @@ import org.w3c.dom.*;
 
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.Map.Entry;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
+import com.amazonaws.concurrent.ComposableFuture;
 import com.amazonaws.handlers.*;
 import com.amazonaws.http.*;
 import com.amazonaws.internal.*;
@@ -1329,6 +1332,14 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
             Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
             ExecutionContext executionContext)
     {
+        prepareRequest(request, executionContext);
+        StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
+        return client.execute(request, responseHandler, errorResponseHandler, executionContext);
+    }
+
+    @Override
+    protected void prepareRequest(Request<?> request, ExecutionContext executionContext) {
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
         AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
@@ -1342,10 +1353,19 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
         }
 
         executionContext.setCredentials(credentials);
-        
-        StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
-        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(exceptionUnmarshallers);
-        return client.execute(request, responseHandler, errorResponseHandler, executionContext);
+    }
+
+    /**
+     * Executes the given request on behalf of the asynchronous client; see
+     * {@link AmazonWebServiceClient#executeAsync(ExecutorService, Callable, AmazonWebServiceRequest, Marshaller, HttpResponseHandler, HttpResponseHandler)}.
+     */
+    <X, Y extends AmazonWebServiceRequest> ComposableFuture<X> executeAsync(
+            ExecutorService executorService, Callable<X> blockingCall,
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller) {
+        return executeAsync(executorService, blockingCall, originalRequest, marshaller,
+                new StaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers));
     }
 }
         
\ No newline at end of file
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudhsm.model.*;
+import com.amazonaws.services.cloudhsm.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSCloudHSM.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS CloudHSM Service
  */
 public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
@@ -291,11 +295,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<GetConfigResult> getConfigAsync(final GetConfigRequest getConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConfigResult>() {
-            public GetConfigResult call() throws Exception {
-                return getConfig(getConfigRequest);
-        }
-    });
+        return getConfigComposableAsync(getConfigRequest);
     }
 
     /**
@@ -327,19 +327,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final GetConfigRequest getConfigRequest,
             final AsyncHandler<GetConfigRequest, GetConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConfigResult>() {
+        return withAsyncHandler(getConfigComposableAsync(getConfigRequest),
+                getConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetConfig operation like
+     * {@link #getConfigAsync(GetConfigRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getConfigRequest Container for the necessary parameters to
+     *           execute the GetConfig operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the GetConfig
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<GetConfigResult> getConfigComposableAsync(final GetConfigRequest getConfigRequest) {
+        return executeAsync(executorService, new Callable<GetConfigResult>() {
             public GetConfigResult call() throws Exception {
-              GetConfigResult result;
-                try {
-                result = getConfig(getConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConfigRequest, result);
-                 return result;
-        }
-    });
+                return getConfig(getConfigRequest);
+            }
+        }, getConfigRequest,
+                new GetConfigRequestMarshaller(), new GetConfigResultJsonUnmarshaller());
     }
     
     /**
@@ -366,11 +375,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<CreateHapgResult> createHapgAsync(final CreateHapgRequest createHapgRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHapgResult>() {
-            public CreateHapgResult call() throws Exception {
-                return createHapg(createHapgRequest);
-        }
-    });
+        return createHapgComposableAsync(createHapgRequest);
     }
 
     /**
@@ -403,19 +408,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final CreateHapgRequest createHapgRequest,
             final AsyncHandler<CreateHapgRequest, CreateHapgResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHapgResult>() {
+        return withAsyncHandler(createHapgComposableAsync(createHapgRequest),
+                createHapgRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHapg operation like
+     * {@link #createHapgAsync(CreateHapgRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createHapgRequest Container for the necessary parameters to
+     *           execute the CreateHapg operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the CreateHapg
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<CreateHapgResult> createHapgComposableAsync(final CreateHapgRequest createHapgRequest) {
+        return executeAsync(executorService, new Callable<CreateHapgResult>() {
             public CreateHapgResult call() throws Exception {
-              CreateHapgResult result;
-                try {
-                result = createHapg(createHapgRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHapgRequest, result);
-                 return result;
-        }
-    });
+                return createHapg(createHapgRequest);
+            }
+        }, createHapgRequest,
+                new CreateHapgRequestMarshaller(), new CreateHapgResultJsonUnmarshaller());
     }
     
     /**
@@ -440,11 +454,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DescribeHapgResult> describeHapgAsync(final DescribeHapgRequest describeHapgRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHapgResult>() {
-            public DescribeHapgResult call() throws Exception {
-                return describeHapg(describeHapgRequest);
-        }
-    });
+        return describeHapgComposableAsync(describeHapgRequest);
     }
 
     /**
@@ -475,19 +485,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DescribeHapgRequest describeHapgRequest,
             final AsyncHandler<DescribeHapgRequest, DescribeHapgResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHapgResult>() {
+        return withAsyncHandler(describeHapgComposableAsync(describeHapgRequest),
+                describeHapgRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeHapg operation like
+     * {@link #describeHapgAsync(DescribeHapgRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeHapgRequest Container for the necessary parameters to
+     *           execute the DescribeHapg operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the DescribeHapg
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<DescribeHapgResult> describeHapgComposableAsync(final DescribeHapgRequest describeHapgRequest) {
+        return executeAsync(executorService, new Callable<DescribeHapgResult>() {
             public DescribeHapgResult call() throws Exception {
-              DescribeHapgResult result;
-                try {
-                result = describeHapg(describeHapgRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHapgRequest, result);
-                 return result;
-        }
-    });
+                return describeHapg(describeHapgRequest);
+            }
+        }, describeHapgRequest,
+                new DescribeHapgRequestMarshaller(), new DescribeHapgResultJsonUnmarshaller());
     }
     
     /**
@@ -513,11 +532,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ListAvailableZonesResult> listAvailableZonesAsync(final ListAvailableZonesRequest listAvailableZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableZonesResult>() {
-            public ListAvailableZonesResult call() throws Exception {
-                return listAvailableZones(listAvailableZonesRequest);
-        }
-    });
+        return listAvailableZonesComposableAsync(listAvailableZonesRequest);
     }
 
     /**
@@ -549,19 +564,30 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ListAvailableZonesRequest listAvailableZonesRequest,
             final AsyncHandler<ListAvailableZonesRequest, ListAvailableZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableZonesResult>() {
+        return withAsyncHandler(listAvailableZonesComposableAsync(listAvailableZonesRequest),
+                listAvailableZonesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAvailableZones operation like
+     * {@link #listAvailableZonesAsync(ListAvailableZonesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAvailableZonesRequest Container for the necessary
+     *           parameters to execute the ListAvailableZones operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         ListAvailableZones service method, as returned by
+     *         AWSCloudHSM.
+     */
+    public ComposableFuture<ListAvailableZonesResult> listAvailableZonesComposableAsync(final ListAvailableZonesRequest listAvailableZonesRequest) {
+        return executeAsync(executorService, new Callable<ListAvailableZonesResult>() {
             public ListAvailableZonesResult call() throws Exception {
-              ListAvailableZonesResult result;
-                try {
-                result = listAvailableZones(listAvailableZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAvailableZonesRequest, result);
-                 return result;
-        }
-    });
+                return listAvailableZones(listAvailableZonesRequest);
+            }
+        }, listAvailableZonesRequest,
+                new ListAvailableZonesRequestMarshaller(), new ListAvailableZonesResultJsonUnmarshaller());
     }
     
     /**
@@ -586,11 +612,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ModifyHsmResult> modifyHsmAsync(final ModifyHsmRequest modifyHsmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHsmResult>() {
-            public ModifyHsmResult call() throws Exception {
-                return modifyHsm(modifyHsmRequest);
-        }
-    });
+        return modifyHsmComposableAsync(modifyHsmRequest);
     }
 
     /**
@@ -621,19 +643,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ModifyHsmRequest modifyHsmRequest,
             final AsyncHandler<ModifyHsmRequest, ModifyHsmResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHsmResult>() {
+        return withAsyncHandler(modifyHsmComposableAsync(modifyHsmRequest),
+                modifyHsmRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyHsm operation like
+     * {@link #modifyHsmAsync(ModifyHsmRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param modifyHsmRequest Container for the necessary parameters to
+     *           execute the ModifyHsm operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the ModifyHsm
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ModifyHsmResult> modifyHsmComposableAsync(final ModifyHsmRequest modifyHsmRequest) {
+        return executeAsync(executorService, new Callable<ModifyHsmResult>() {
             public ModifyHsmResult call() throws Exception {
-              ModifyHsmResult result;
-                try {
-                result = modifyHsm(modifyHsmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHsmRequest, result);
-                 return result;
-        }
-    });
+                return modifyHsm(modifyHsmRequest);
+            }
+        }, modifyHsmRequest,
+                new ModifyHsmRequestMarshaller(), new ModifyHsmResultJsonUnmarshaller());
     }
     
     /**
@@ -664,11 +695,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ListLunaClientsResult> listLunaClientsAsync(final ListLunaClientsRequest listLunaClientsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLunaClientsResult>() {
-            public ListLunaClientsResult call() throws Exception {
-                return listLunaClients(listLunaClientsRequest);
-        }
-    });
+        return listLunaClientsComposableAsync(listLunaClientsRequest);
     }
 
     /**
@@ -705,19 +732,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ListLunaClientsRequest listLunaClientsRequest,
             final AsyncHandler<ListLunaClientsRequest, ListLunaClientsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLunaClientsResult>() {
+        return withAsyncHandler(listLunaClientsComposableAsync(listLunaClientsRequest),
+                listLunaClientsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListLunaClients operation like
+     * {@link #listLunaClientsAsync(ListLunaClientsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listLunaClientsRequest Container for the necessary parameters
+     *           to execute the ListLunaClients operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         ListLunaClients service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ListLunaClientsResult> listLunaClientsComposableAsync(final ListLunaClientsRequest listLunaClientsRequest) {
+        return executeAsync(executorService, new Callable<ListLunaClientsResult>() {
             public ListLunaClientsResult call() throws Exception {
-              ListLunaClientsResult result;
-                try {
-                result = listLunaClients(listLunaClientsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listLunaClientsRequest, result);
-                 return result;
-        }
-    });
+                return listLunaClients(listLunaClientsRequest);
+            }
+        }, listLunaClientsRequest,
+                new ListLunaClientsRequestMarshaller(), new ListLunaClientsResultJsonUnmarshaller());
     }
     
     /**
@@ -748,11 +784,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ListHapgsResult> listHapgsAsync(final ListHapgsRequest listHapgsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHapgsResult>() {
-            public ListHapgsResult call() throws Exception {
-                return listHapgs(listHapgsRequest);
-        }
-    });
+        return listHapgsComposableAsync(listHapgsRequest);
     }
 
     /**
@@ -789,19 +821,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ListHapgsRequest listHapgsRequest,
             final AsyncHandler<ListHapgsRequest, ListHapgsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHapgsResult>() {
+        return withAsyncHandler(listHapgsComposableAsync(listHapgsRequest),
+                listHapgsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListHapgs operation like
+     * {@link #listHapgsAsync(ListHapgsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listHapgsRequest Container for the necessary parameters to
+     *           execute the ListHapgs operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the ListHapgs
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ListHapgsResult> listHapgsComposableAsync(final ListHapgsRequest listHapgsRequest) {
+        return executeAsync(executorService, new Callable<ListHapgsResult>() {
             public ListHapgsResult call() throws Exception {
-              ListHapgsResult result;
-                try {
-                result = listHapgs(listHapgsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listHapgsRequest, result);
-                 return result;
-        }
-    });
+                return listHapgs(listHapgsRequest);
+            }
+        }, listHapgsRequest,
+                new ListHapgsRequestMarshaller(), new ListHapgsResultJsonUnmarshaller());
     }
     
     /**
@@ -827,11 +868,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DeleteHsmResult> deleteHsmAsync(final DeleteHsmRequest deleteHsmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHsmResult>() {
-            public DeleteHsmResult call() throws Exception {
-                return deleteHsm(deleteHsmRequest);
-        }
-    });
+        return deleteHsmComposableAsync(deleteHsmRequest);
     }
 
     /**
@@ -863,19 +900,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DeleteHsmRequest deleteHsmRequest,
             final AsyncHandler<DeleteHsmRequest, DeleteHsmResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHsmResult>() {
+        return withAsyncHandler(deleteHsmComposableAsync(deleteHsmRequest),
+                deleteHsmRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHsm operation like
+     * {@link #deleteHsmAsync(DeleteHsmRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteHsmRequest Container for the necessary parameters to
+     *           execute the DeleteHsm operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the DeleteHsm
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<DeleteHsmResult> deleteHsmComposableAsync(final DeleteHsmRequest deleteHsmRequest) {
+        return executeAsync(executorService, new Callable<DeleteHsmResult>() {
             public DeleteHsmResult call() throws Exception {
-              DeleteHsmResult result;
-                try {
-                result = deleteHsm(deleteHsmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHsmRequest, result);
-                 return result;
-        }
-    });
+                return deleteHsm(deleteHsmRequest);
+            }
+        }, deleteHsmRequest,
+                new DeleteHsmRequestMarshaller(), new DeleteHsmResultJsonUnmarshaller());
     }
     
     /**
@@ -902,11 +948,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<CreateHsmResult> createHsmAsync(final CreateHsmRequest createHsmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHsmResult>() {
-            public CreateHsmResult call() throws Exception {
-                return createHsm(createHsmRequest);
-        }
-    });
+        return createHsmComposableAsync(createHsmRequest);
     }
 
     /**
@@ -939,19 +981,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final CreateHsmRequest createHsmRequest,
             final AsyncHandler<CreateHsmRequest, CreateHsmResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHsmResult>() {
+        return withAsyncHandler(createHsmComposableAsync(createHsmRequest),
+                createHsmRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHsm operation like
+     * {@link #createHsmAsync(CreateHsmRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createHsmRequest Container for the necessary parameters to
+     *           execute the CreateHsm operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the CreateHsm
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<CreateHsmResult> createHsmComposableAsync(final CreateHsmRequest createHsmRequest) {
+        return executeAsync(executorService, new Callable<CreateHsmResult>() {
             public CreateHsmResult call() throws Exception {
-              CreateHsmResult result;
-                try {
-                result = createHsm(createHsmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHsmRequest, result);
-                 return result;
-        }
-    });
+                return createHsm(createHsmRequest);
+            }
+        }, createHsmRequest,
+                new CreateHsmRequestMarshaller(), new CreateHsmResultJsonUnmarshaller());
     }
     
     /**
@@ -983,11 +1034,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ListHsmsResult> listHsmsAsync(final ListHsmsRequest listHsmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHsmsResult>() {
-            public ListHsmsResult call() throws Exception {
-                return listHsms(listHsmsRequest);
-        }
-    });
+        return listHsmsComposableAsync(listHsmsRequest);
     }
 
     /**
@@ -1025,19 +1072,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ListHsmsRequest listHsmsRequest,
             final AsyncHandler<ListHsmsRequest, ListHsmsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHsmsResult>() {
+        return withAsyncHandler(listHsmsComposableAsync(listHsmsRequest),
+                listHsmsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListHsms operation like
+     * {@link #listHsmsAsync(ListHsmsRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param listHsmsRequest Container for the necessary parameters to
+     *           execute the ListHsms operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the ListHsms
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ListHsmsResult> listHsmsComposableAsync(final ListHsmsRequest listHsmsRequest) {
+        return executeAsync(executorService, new Callable<ListHsmsResult>() {
             public ListHsmsResult call() throws Exception {
-              ListHsmsResult result;
-                try {
-                result = listHsms(listHsmsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listHsmsRequest, result);
-                 return result;
-        }
-    });
+                return listHsms(listHsmsRequest);
+            }
+        }, listHsmsRequest,
+                new ListHsmsRequestMarshaller(), new ListHsmsResultJsonUnmarshaller());
     }
     
     /**
@@ -1063,11 +1119,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DescribeHsmResult> describeHsmAsync(final DescribeHsmRequest describeHsmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmResult>() {
-            public DescribeHsmResult call() throws Exception {
-                return describeHsm(describeHsmRequest);
-        }
-    });
+        return describeHsmComposableAsync(describeHsmRequest);
     }
 
     /**
@@ -1099,19 +1151,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DescribeHsmRequest describeHsmRequest,
             final AsyncHandler<DescribeHsmRequest, DescribeHsmResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmResult>() {
+        return withAsyncHandler(describeHsmComposableAsync(describeHsmRequest),
+                describeHsmRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeHsm operation like
+     * {@link #describeHsmAsync(DescribeHsmRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param describeHsmRequest Container for the necessary parameters to
+     *           execute the DescribeHsm operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the DescribeHsm
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<DescribeHsmResult> describeHsmComposableAsync(final DescribeHsmRequest describeHsmRequest) {
+        return executeAsync(executorService, new Callable<DescribeHsmResult>() {
             public DescribeHsmResult call() throws Exception {
-              DescribeHsmResult result;
-                try {
-                result = describeHsm(describeHsmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHsmRequest, result);
-                 return result;
-        }
-    });
+                return describeHsm(describeHsmRequest);
+            }
+        }, describeHsmRequest,
+                new DescribeHsmRequestMarshaller(), new DescribeHsmResultJsonUnmarshaller());
     }
     
     /**
@@ -1136,11 +1197,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DeleteHapgResult> deleteHapgAsync(final DeleteHapgRequest deleteHapgRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHapgResult>() {
-            public DeleteHapgResult call() throws Exception {
-                return deleteHapg(deleteHapgRequest);
-        }
-    });
+        return deleteHapgComposableAsync(deleteHapgRequest);
     }
 
     /**
@@ -1171,19 +1228,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DeleteHapgRequest deleteHapgRequest,
             final AsyncHandler<DeleteHapgRequest, DeleteHapgResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHapgResult>() {
+        return withAsyncHandler(deleteHapgComposableAsync(deleteHapgRequest),
+                deleteHapgRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHapg operation like
+     * {@link #deleteHapgAsync(DeleteHapgRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteHapgRequest Container for the necessary parameters to
+     *           execute the DeleteHapg operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the DeleteHapg
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<DeleteHapgResult> deleteHapgComposableAsync(final DeleteHapgRequest deleteHapgRequest) {
+        return executeAsync(executorService, new Callable<DeleteHapgResult>() {
             public DeleteHapgResult call() throws Exception {
-              DeleteHapgResult result;
-                try {
-                result = deleteHapg(deleteHapgRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHapgRequest, result);
-                 return result;
-        }
-    });
+                return deleteHapg(deleteHapgRequest);
+            }
+        }, deleteHapgRequest,
+                new DeleteHapgRequestMarshaller(), new DeleteHapgResultJsonUnmarshaller());
     }
     
     /**
@@ -1208,11 +1274,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ModifyHapgResult> modifyHapgAsync(final ModifyHapgRequest modifyHapgRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHapgResult>() {
-            public ModifyHapgResult call() throws Exception {
-                return modifyHapg(modifyHapgRequest);
-        }
-    });
+        return modifyHapgComposableAsync(modifyHapgRequest);
     }
 
     /**
@@ -1243,19 +1305,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ModifyHapgRequest modifyHapgRequest,
             final AsyncHandler<ModifyHapgRequest, ModifyHapgResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHapgResult>() {
+        return withAsyncHandler(modifyHapgComposableAsync(modifyHapgRequest),
+                modifyHapgRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyHapg operation like
+     * {@link #modifyHapgAsync(ModifyHapgRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param modifyHapgRequest Container for the necessary parameters to
+     *           execute the ModifyHapg operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the ModifyHapg
+     *         service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ModifyHapgResult> modifyHapgComposableAsync(final ModifyHapgRequest modifyHapgRequest) {
+        return executeAsync(executorService, new Callable<ModifyHapgResult>() {
             public ModifyHapgResult call() throws Exception {
-              ModifyHapgResult result;
-                try {
-                result = modifyHapg(modifyHapgRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHapgRequest, result);
-                 return result;
-        }
-    });
+                return modifyHapg(modifyHapgRequest);
+            }
+        }, modifyHapgRequest,
+                new ModifyHapgRequestMarshaller(), new ModifyHapgResultJsonUnmarshaller());
     }
     
     /**
@@ -1280,11 +1351,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<CreateLunaClientResult> createLunaClientAsync(final CreateLunaClientRequest createLunaClientRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLunaClientResult>() {
-            public CreateLunaClientResult call() throws Exception {
-                return createLunaClient(createLunaClientRequest);
-        }
-    });
+        return createLunaClientComposableAsync(createLunaClientRequest);
     }
 
     /**
@@ -1315,19 +1382,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final CreateLunaClientRequest createLunaClientRequest,
             final AsyncHandler<CreateLunaClientRequest, CreateLunaClientResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLunaClientResult>() {
+        return withAsyncHandler(createLunaClientComposableAsync(createLunaClientRequest),
+                createLunaClientRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLunaClient operation like
+     * {@link #createLunaClientAsync(CreateLunaClientRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createLunaClientRequest Container for the necessary parameters
+     *           to execute the CreateLunaClient operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         CreateLunaClient service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<CreateLunaClientResult> createLunaClientComposableAsync(final CreateLunaClientRequest createLunaClientRequest) {
+        return executeAsync(executorService, new Callable<CreateLunaClientResult>() {
             public CreateLunaClientResult call() throws Exception {
-              CreateLunaClientResult result;
-                try {
-                result = createLunaClient(createLunaClientRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLunaClientRequest, result);
-                 return result;
-        }
-    });
+                return createLunaClient(createLunaClientRequest);
+            }
+        }, createLunaClientRequest,
+                new CreateLunaClientRequestMarshaller(), new CreateLunaClientResultJsonUnmarshaller());
     }
     
     /**
@@ -1352,11 +1428,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DeleteLunaClientResult> deleteLunaClientAsync(final DeleteLunaClientRequest deleteLunaClientRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLunaClientResult>() {
-            public DeleteLunaClientResult call() throws Exception {
-                return deleteLunaClient(deleteLunaClientRequest);
-        }
-    });
+        return deleteLunaClientComposableAsync(deleteLunaClientRequest);
     }
 
     /**
@@ -1387,19 +1459,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DeleteLunaClientRequest deleteLunaClientRequest,
             final AsyncHandler<DeleteLunaClientRequest, DeleteLunaClientResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLunaClientResult>() {
+        return withAsyncHandler(deleteLunaClientComposableAsync(deleteLunaClientRequest),
+                deleteLunaClientRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLunaClient operation like
+     * {@link #deleteLunaClientAsync(DeleteLunaClientRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteLunaClientRequest Container for the necessary parameters
+     *           to execute the DeleteLunaClient operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLunaClient service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<DeleteLunaClientResult> deleteLunaClientComposableAsync(final DeleteLunaClientRequest deleteLunaClientRequest) {
+        return executeAsync(executorService, new Callable<DeleteLunaClientResult>() {
             public DeleteLunaClientResult call() throws Exception {
-              DeleteLunaClientResult result;
-                try {
-                result = deleteLunaClient(deleteLunaClientRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLunaClientRequest, result);
-                 return result;
-        }
-    });
+                return deleteLunaClient(deleteLunaClientRequest);
+            }
+        }, deleteLunaClientRequest,
+                new DeleteLunaClientRequestMarshaller(), new DeleteLunaClientResultJsonUnmarshaller());
     }
     
     /**
@@ -1428,11 +1509,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<ModifyLunaClientResult> modifyLunaClientAsync(final ModifyLunaClientRequest modifyLunaClientRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLunaClientResult>() {
-            public ModifyLunaClientResult call() throws Exception {
-                return modifyLunaClient(modifyLunaClientRequest);
-        }
-    });
+        return modifyLunaClientComposableAsync(modifyLunaClientRequest);
     }
 
     /**
@@ -1467,19 +1544,28 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final ModifyLunaClientRequest modifyLunaClientRequest,
             final AsyncHandler<ModifyLunaClientRequest, ModifyLunaClientResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLunaClientResult>() {
+        return withAsyncHandler(modifyLunaClientComposableAsync(modifyLunaClientRequest),
+                modifyLunaClientRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyLunaClient operation like
+     * {@link #modifyLunaClientAsync(ModifyLunaClientRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param modifyLunaClientRequest Container for the necessary parameters
+     *           to execute the ModifyLunaClient operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         ModifyLunaClient service method, as returned by AWSCloudHSM.
+     */
+    public ComposableFuture<ModifyLunaClientResult> modifyLunaClientComposableAsync(final ModifyLunaClientRequest modifyLunaClientRequest) {
+        return executeAsync(executorService, new Callable<ModifyLunaClientResult>() {
             public ModifyLunaClientResult call() throws Exception {
-              ModifyLunaClientResult result;
-                try {
-                result = modifyLunaClient(modifyLunaClientRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyLunaClientRequest, result);
-                 return result;
-        }
-    });
+                return modifyLunaClient(modifyLunaClientRequest);
+            }
+        }, modifyLunaClientRequest,
+                new ModifyLunaClientRequestMarshaller(), new ModifyLunaClientResultJsonUnmarshaller());
     }
     
     /**
@@ -1504,11 +1590,7 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
      */
     public Future<DescribeLunaClientResult> describeLunaClientAsync(final DescribeLunaClientRequest describeLunaClientRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLunaClientResult>() {
-            public DescribeLunaClientResult call() throws Exception {
-                return describeLunaClient(describeLunaClientRequest);
-        }
-    });
+        return describeLunaClientComposableAsync(describeLunaClientRequest);
     }
 
     /**
@@ -1539,19 +1621,30 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient
             final DescribeLunaClientRequest describeLunaClientRequest,
             final AsyncHandler<DescribeLunaClientRequest, DescribeLunaClientResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLunaClientResult>() {
+        return withAsyncHandler(describeLunaClientComposableAsync(describeLunaClientRequest),
+                describeLunaClientRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLunaClient operation like
+     * {@link #describeLunaClientAsync(DescribeLunaClientRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLunaClientRequest Container for the necessary
+     *           parameters to execute the DescribeLunaClient operation on AWSCloudHSM.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLunaClient service method, as returned by
+     *         AWSCloudHSM.
+     */
+    public ComposableFuture<DescribeLunaClientResult> describeLunaClientComposableAsync(final DescribeLunaClientRequest describeLunaClientRequest) {
+        return executeAsync(executorService, new Callable<DescribeLunaClientResult>() {
             public DescribeLunaClientResult call() throws Exception {
-              DescribeLunaClientResult result;
-                try {
-                result = describeLunaClient(describeLunaClientRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLunaClientRequest, result);
-                 return result;
-        }
-    });
+                return describeLunaClient(describeLunaClientRequest);
+            }
+        }, describeLunaClientRequest,
+                new DescribeLunaClientRequestMarshaller(), new DescribeLunaClientResultJsonUnmarshaller());
     }
     
 }
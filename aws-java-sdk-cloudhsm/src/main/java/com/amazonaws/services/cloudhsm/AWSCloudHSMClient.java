@@ -16,12 +16,15 @@ package com.amazonaws.services.cloudhsm;
 
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.logging.*;
 
 import com.amazonaws.*;
 import com.amazonaws.regions.*;
 import com.amazonaws.auth.*;
+import com.amazonaws.concurrent.ComposableFuture;
 import com.amazonaws.handlers.*;
 import com.amazonaws.http.*;
 import com.amazonaws.regions.*;
@@ -1353,6 +1356,15 @@ public class AWSCloudHSMClient extends AmazonWebServiceClient implements AWSClou
     private <X, Y extends AmazonWebServiceRequest> Response<X> invoke(Request<Y> request,
             HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
             ExecutionContext executionContext) {
+        prepareRequest(request, executionContext);
+        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(jsonErrorUnmarshallers);
+        Response<X> result = client.execute(request, responseHandler,
+                errorResponseHandler, executionContext);
+        return result;
+    }
+
+    @Override
+    protected void prepareRequest(Request<?> request, ExecutionContext executionContext) {
         request.setEndpoint(endpoint);
         request.setTimeOffset(timeOffset);
 
@@ -1371,10 +1383,19 @@ public class AWSCloudHSMClient extends AmazonWebServiceClient implements AWSClou
         }
 
         executionContext.setCredentials(credentials);
-        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(jsonErrorUnmarshallers);
-        Response<X> result = client.execute(request, responseHandler,
-                errorResponseHandler, executionContext);
-        return result;
+    }
+
+    /**
+     * Executes the given request on behalf of the asynchronous client; see
+     * {@link AmazonWebServiceClient#executeAsync(ExecutorService, Callable, AmazonWebServiceRequest, Marshaller, HttpResponseHandler, HttpResponseHandler)}.
+     */
+    <X, Y extends AmazonWebServiceRequest> ComposableFuture<X> executeAsync(
+            ExecutorService executorService, Callable<X> blockingCall,
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, JsonUnmarshallerContext> unmarshaller) {
+        return executeAsync(executorService, blockingCall, originalRequest, marshaller,
+                new JsonResponseHandler<X>(unmarshaller),
+                new JsonErrorResponseHandler(jsonErrorUnmarshallers));
     }
 }
         
\ No newline at end of file
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudsearch.model.*;
+import com.amazonaws.services.cloudsearch.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudSearch.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon CloudSearch Configuration Service <p>
  * You use the configuration service to create, configure, and manage search domains. Configuration service requests are submitted using the AWS Query
  * protocol. AWS Query requests are HTTP or HTTPS requests submitted via HTTP GET or POST with a query parameter named Action.
@@ -309,11 +313,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateDefaultSearchFieldResult> updateDefaultSearchFieldAsync(final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDefaultSearchFieldResult>() {
-            public UpdateDefaultSearchFieldResult call() throws Exception {
-                return updateDefaultSearchField(updateDefaultSearchFieldRequest);
-        }
-    });
+        return updateDefaultSearchFieldComposableAsync(updateDefaultSearchFieldRequest);
     }
 
     /**
@@ -349,19 +349,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest,
             final AsyncHandler<UpdateDefaultSearchFieldRequest, UpdateDefaultSearchFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDefaultSearchFieldResult>() {
+        return withAsyncHandler(updateDefaultSearchFieldComposableAsync(updateDefaultSearchFieldRequest),
+                updateDefaultSearchFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDefaultSearchField operation like
+     * {@link #updateDefaultSearchFieldAsync(UpdateDefaultSearchFieldRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDefaultSearchFieldRequest Container for the necessary
+     *           parameters to execute the UpdateDefaultSearchField operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDefaultSearchField service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateDefaultSearchFieldResult> updateDefaultSearchFieldComposableAsync(final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest) {
+        return executeAsync(executorService, new Callable<UpdateDefaultSearchFieldResult>() {
             public UpdateDefaultSearchFieldResult call() throws Exception {
-              UpdateDefaultSearchFieldResult result;
-                try {
-                result = updateDefaultSearchField(updateDefaultSearchFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDefaultSearchFieldRequest, result);
-                 return result;
-        }
-    });
+                return updateDefaultSearchField(updateDefaultSearchFieldRequest);
+            }
+        }, updateDefaultSearchFieldRequest,
+                new UpdateDefaultSearchFieldRequestMarshaller(), new UpdateDefaultSearchFieldResultStaxUnmarshaller());
     }
 
     /**
@@ -387,11 +399,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteRankExpressionResult> deleteRankExpressionAsync(final DeleteRankExpressionRequest deleteRankExpressionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteRankExpressionResult>() {
-            public DeleteRankExpressionResult call() throws Exception {
-                return deleteRankExpression(deleteRankExpressionRequest);
-        }
-    });
+        return deleteRankExpressionComposableAsync(deleteRankExpressionRequest);
     }
 
     /**
@@ -423,19 +431,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteRankExpressionRequest deleteRankExpressionRequest,
             final AsyncHandler<DeleteRankExpressionRequest, DeleteRankExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteRankExpressionResult>() {
+        return withAsyncHandler(deleteRankExpressionComposableAsync(deleteRankExpressionRequest),
+                deleteRankExpressionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRankExpression operation like
+     * {@link #deleteRankExpressionAsync(DeleteRankExpressionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteRankExpressionRequest Container for the necessary
+     *           parameters to execute the DeleteRankExpression operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DeleteRankExpression service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DeleteRankExpressionResult> deleteRankExpressionComposableAsync(final DeleteRankExpressionRequest deleteRankExpressionRequest) {
+        return executeAsync(executorService, new Callable<DeleteRankExpressionResult>() {
             public DeleteRankExpressionResult call() throws Exception {
-              DeleteRankExpressionResult result;
-                try {
-                result = deleteRankExpression(deleteRankExpressionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRankExpressionRequest, result);
-                 return result;
-        }
-    });
+                return deleteRankExpression(deleteRankExpressionRequest);
+            }
+        }, deleteRankExpressionRequest,
+                new DeleteRankExpressionRequestMarshaller(), new DeleteRankExpressionResultStaxUnmarshaller());
     }
 
     /**
@@ -464,11 +484,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeRankExpressionsResult> describeRankExpressionsAsync(final DescribeRankExpressionsRequest describeRankExpressionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRankExpressionsResult>() {
-            public DescribeRankExpressionsResult call() throws Exception {
-                return describeRankExpressions(describeRankExpressionsRequest);
-        }
-    });
+        return describeRankExpressionsComposableAsync(describeRankExpressionsRequest);
     }
 
     /**
@@ -503,19 +519,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeRankExpressionsRequest describeRankExpressionsRequest,
             final AsyncHandler<DescribeRankExpressionsRequest, DescribeRankExpressionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRankExpressionsResult>() {
+        return withAsyncHandler(describeRankExpressionsComposableAsync(describeRankExpressionsRequest),
+                describeRankExpressionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeRankExpressions operation like
+     * {@link #describeRankExpressionsAsync(DescribeRankExpressionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeRankExpressionsRequest Container for the necessary
+     *           parameters to execute the DescribeRankExpressions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeRankExpressions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeRankExpressionsResult> describeRankExpressionsComposableAsync(final DescribeRankExpressionsRequest describeRankExpressionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeRankExpressionsResult>() {
             public DescribeRankExpressionsResult call() throws Exception {
-              DescribeRankExpressionsResult result;
-                try {
-                result = describeRankExpressions(describeRankExpressionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRankExpressionsRequest, result);
-                 return result;
-        }
-    });
+                return describeRankExpressions(describeRankExpressionsRequest);
+            }
+        }, describeRankExpressionsRequest,
+                new DescribeRankExpressionsRequestMarshaller(), new DescribeRankExpressionsResultStaxUnmarshaller());
     }
 
     /**
@@ -540,11 +568,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<CreateDomainResult> createDomainAsync(final CreateDomainRequest createDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
-            public CreateDomainResult call() throws Exception {
-                return createDomain(createDomainRequest);
-        }
-    });
+        return createDomainComposableAsync(createDomainRequest);
     }
 
     /**
@@ -575,19 +599,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
+        return withAsyncHandler(createDomainComposableAsync(createDomainRequest),
+                createDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDomain operation like
+     * {@link #createDomainAsync(CreateDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createDomainRequest Container for the necessary parameters to
+     *           execute the CreateDomain operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the CreateDomain
+     *         service method, as returned by AmazonCloudSearch.
+     */
+    public ComposableFuture<CreateDomainResult> createDomainComposableAsync(final CreateDomainRequest createDomainRequest) {
+        return executeAsync(executorService, new Callable<CreateDomainResult>() {
             public CreateDomainResult call() throws Exception {
-              CreateDomainResult result;
-                try {
-                result = createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, result);
-                 return result;
-        }
-    });
+                return createDomain(createDomainRequest);
+            }
+        }, createDomainRequest,
+                new CreateDomainRequestMarshaller(), new CreateDomainResultStaxUnmarshaller());
     }
 
     /**
@@ -616,11 +649,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
-            public UpdateServiceAccessPoliciesResult call() throws Exception {
-                return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
-        }
-    });
+        return updateServiceAccessPoliciesComposableAsync(updateServiceAccessPoliciesRequest);
     }
 
     /**
@@ -655,19 +684,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest,
             final AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
+        return withAsyncHandler(updateServiceAccessPoliciesComposableAsync(updateServiceAccessPoliciesRequest),
+                updateServiceAccessPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateServiceAccessPolicies operation
+     * like
+     * {@link #updateServiceAccessPoliciesAsync(UpdateServiceAccessPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateServiceAccessPoliciesRequest Container for the necessary
+     *           parameters to execute the UpdateServiceAccessPolicies operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateServiceAccessPolicies service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesComposableAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest) {
+        return executeAsync(executorService, new Callable<UpdateServiceAccessPoliciesResult>() {
             public UpdateServiceAccessPoliciesResult call() throws Exception {
-              UpdateServiceAccessPoliciesResult result;
-                try {
-                result = updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateServiceAccessPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
+            }
+        }, updateServiceAccessPoliciesRequest,
+                new UpdateServiceAccessPoliciesRequestMarshaller(), new UpdateServiceAccessPoliciesResultStaxUnmarshaller());
     }
 
     /**
@@ -695,11 +737,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineIndexFieldResult> defineIndexFieldAsync(final DefineIndexFieldRequest defineIndexFieldRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
-            public DefineIndexFieldResult call() throws Exception {
-                return defineIndexField(defineIndexFieldRequest);
-        }
-    });
+        return defineIndexFieldComposableAsync(defineIndexFieldRequest);
     }
 
     /**
@@ -733,19 +771,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineIndexFieldRequest defineIndexFieldRequest,
             final AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
+        return withAsyncHandler(defineIndexFieldComposableAsync(defineIndexFieldRequest),
+                defineIndexFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineIndexField operation like
+     * {@link #defineIndexFieldAsync(DefineIndexFieldRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param defineIndexFieldRequest Container for the necessary parameters
+     *           to execute the DefineIndexField operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DefineIndexField service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DefineIndexFieldResult> defineIndexFieldComposableAsync(final DefineIndexFieldRequest defineIndexFieldRequest) {
+        return executeAsync(executorService, new Callable<DefineIndexFieldResult>() {
             public DefineIndexFieldResult call() throws Exception {
-              DefineIndexFieldResult result;
-                try {
-                result = defineIndexField(defineIndexFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineIndexFieldRequest, result);
-                 return result;
-        }
-    });
+                return defineIndexField(defineIndexFieldRequest);
+            }
+        }, defineIndexFieldRequest,
+                new DefineIndexFieldRequestMarshaller(), new DefineIndexFieldResultStaxUnmarshaller());
     }
 
     /**
@@ -774,11 +822,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineRankExpressionResult> defineRankExpressionAsync(final DefineRankExpressionRequest defineRankExpressionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineRankExpressionResult>() {
-            public DefineRankExpressionResult call() throws Exception {
-                return defineRankExpression(defineRankExpressionRequest);
-        }
-    });
+        return defineRankExpressionComposableAsync(defineRankExpressionRequest);
     }
 
     /**
@@ -813,19 +857,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineRankExpressionRequest defineRankExpressionRequest,
             final AsyncHandler<DefineRankExpressionRequest, DefineRankExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineRankExpressionResult>() {
+        return withAsyncHandler(defineRankExpressionComposableAsync(defineRankExpressionRequest),
+                defineRankExpressionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineRankExpression operation like
+     * {@link #defineRankExpressionAsync(DefineRankExpressionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param defineRankExpressionRequest Container for the necessary
+     *           parameters to execute the DefineRankExpression operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DefineRankExpression service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DefineRankExpressionResult> defineRankExpressionComposableAsync(final DefineRankExpressionRequest defineRankExpressionRequest) {
+        return executeAsync(executorService, new Callable<DefineRankExpressionResult>() {
             public DefineRankExpressionResult call() throws Exception {
-              DefineRankExpressionResult result;
-                try {
-                result = defineRankExpression(defineRankExpressionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineRankExpressionRequest, result);
-                 return result;
-        }
-    });
+                return defineRankExpression(defineRankExpressionRequest);
+            }
+        }, defineRankExpressionRequest,
+                new DefineRankExpressionRequestMarshaller(), new DefineRankExpressionResultStaxUnmarshaller());
     }
 
     /**
@@ -852,11 +908,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeSynonymOptionsResult> describeSynonymOptionsAsync(final DescribeSynonymOptionsRequest describeSynonymOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSynonymOptionsResult>() {
-            public DescribeSynonymOptionsResult call() throws Exception {
-                return describeSynonymOptions(describeSynonymOptionsRequest);
-        }
-    });
+        return describeSynonymOptionsComposableAsync(describeSynonymOptionsRequest);
     }
 
     /**
@@ -889,19 +941,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeSynonymOptionsRequest describeSynonymOptionsRequest,
             final AsyncHandler<DescribeSynonymOptionsRequest, DescribeSynonymOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSynonymOptionsResult>() {
+        return withAsyncHandler(describeSynonymOptionsComposableAsync(describeSynonymOptionsRequest),
+                describeSynonymOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSynonymOptions operation like
+     * {@link #describeSynonymOptionsAsync(DescribeSynonymOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSynonymOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeSynonymOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSynonymOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeSynonymOptionsResult> describeSynonymOptionsComposableAsync(final DescribeSynonymOptionsRequest describeSynonymOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSynonymOptionsResult>() {
             public DescribeSynonymOptionsResult call() throws Exception {
-              DescribeSynonymOptionsResult result;
-                try {
-                result = describeSynonymOptions(describeSynonymOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSynonymOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeSynonymOptions(describeSynonymOptionsRequest);
+            }
+        }, describeSynonymOptionsRequest,
+                new DescribeSynonymOptionsRequestMarshaller(), new DescribeSynonymOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -928,11 +992,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStopwordOptionsResult> describeStopwordOptionsAsync(final DescribeStopwordOptionsRequest describeStopwordOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStopwordOptionsResult>() {
-            public DescribeStopwordOptionsResult call() throws Exception {
-                return describeStopwordOptions(describeStopwordOptionsRequest);
-        }
-    });
+        return describeStopwordOptionsComposableAsync(describeStopwordOptionsRequest);
     }
 
     /**
@@ -965,19 +1025,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeStopwordOptionsRequest describeStopwordOptionsRequest,
             final AsyncHandler<DescribeStopwordOptionsRequest, DescribeStopwordOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStopwordOptionsResult>() {
+        return withAsyncHandler(describeStopwordOptionsComposableAsync(describeStopwordOptionsRequest),
+                describeStopwordOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStopwordOptions operation like
+     * {@link #describeStopwordOptionsAsync(DescribeStopwordOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStopwordOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeStopwordOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStopwordOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeStopwordOptionsResult> describeStopwordOptionsComposableAsync(final DescribeStopwordOptionsRequest describeStopwordOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeStopwordOptionsResult>() {
             public DescribeStopwordOptionsResult call() throws Exception {
-              DescribeStopwordOptionsResult result;
-                try {
-                result = describeStopwordOptions(describeStopwordOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStopwordOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeStopwordOptions(describeStopwordOptionsRequest);
+            }
+        }, describeStopwordOptionsRequest,
+                new DescribeStopwordOptionsRequestMarshaller(), new DescribeStopwordOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -1002,11 +1074,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteDomainResult> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
-            public DeleteDomainResult call() throws Exception {
-                return deleteDomain(deleteDomainRequest);
-        }
-    });
+        return deleteDomainComposableAsync(deleteDomainRequest);
     }
 
     /**
@@ -1037,19 +1105,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
+        return withAsyncHandler(deleteDomainComposableAsync(deleteDomainRequest),
+                deleteDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDomain operation like
+     * {@link #deleteDomainAsync(DeleteDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteDomainRequest Container for the necessary parameters to
+     *           execute the DeleteDomain operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the DeleteDomain
+     *         service method, as returned by AmazonCloudSearch.
+     */
+    public ComposableFuture<DeleteDomainResult> deleteDomainComposableAsync(final DeleteDomainRequest deleteDomainRequest) {
+        return executeAsync(executorService, new Callable<DeleteDomainResult>() {
             public DeleteDomainResult call() throws Exception {
-              DeleteDomainResult result;
-                try {
-                result = deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, result);
-                 return result;
-        }
-    });
+                return deleteDomain(deleteDomainRequest);
+            }
+        }, deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(), new DeleteDomainResultStaxUnmarshaller());
     }
 
     /**
@@ -1077,11 +1154,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
-            public DescribeServiceAccessPoliciesResult call() throws Exception {
-                return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
-        }
-    });
+        return describeServiceAccessPoliciesComposableAsync(describeServiceAccessPoliciesRequest);
     }
 
     /**
@@ -1115,19 +1188,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest,
             final AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
+        return withAsyncHandler(describeServiceAccessPoliciesComposableAsync(describeServiceAccessPoliciesRequest),
+                describeServiceAccessPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeServiceAccessPolicies operation
+     * like
+     * {@link #describeServiceAccessPoliciesAsync(DescribeServiceAccessPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeServiceAccessPoliciesRequest Container for the
+     *           necessary parameters to execute the DescribeServiceAccessPolicies
+     *           operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeServiceAccessPolicies service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesComposableAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest) {
+        return executeAsync(executorService, new Callable<DescribeServiceAccessPoliciesResult>() {
             public DescribeServiceAccessPoliciesResult call() throws Exception {
-              DescribeServiceAccessPoliciesResult result;
-                try {
-                result = describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeServiceAccessPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
+            }
+        }, describeServiceAccessPoliciesRequest,
+                new DescribeServiceAccessPoliciesRequestMarshaller(), new DescribeServiceAccessPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -1160,11 +1246,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateAvailabilityOptionsResult> updateAvailabilityOptionsAsync(final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAvailabilityOptionsResult>() {
-            public UpdateAvailabilityOptionsResult call() throws Exception {
-                return updateAvailabilityOptions(updateAvailabilityOptionsRequest);
-        }
-    });
+        return updateAvailabilityOptionsComposableAsync(updateAvailabilityOptionsRequest);
     }
 
     /**
@@ -1203,19 +1285,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest,
             final AsyncHandler<UpdateAvailabilityOptionsRequest, UpdateAvailabilityOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAvailabilityOptionsResult>() {
+        return withAsyncHandler(updateAvailabilityOptionsComposableAsync(updateAvailabilityOptionsRequest),
+                updateAvailabilityOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAvailabilityOptions operation like
+     * {@link #updateAvailabilityOptionsAsync(UpdateAvailabilityOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAvailabilityOptionsRequest Container for the necessary
+     *           parameters to execute the UpdateAvailabilityOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAvailabilityOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateAvailabilityOptionsResult> updateAvailabilityOptionsComposableAsync(final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest) {
+        return executeAsync(executorService, new Callable<UpdateAvailabilityOptionsResult>() {
             public UpdateAvailabilityOptionsResult call() throws Exception {
-              UpdateAvailabilityOptionsResult result;
-                try {
-                result = updateAvailabilityOptions(updateAvailabilityOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAvailabilityOptionsRequest, result);
-                 return result;
-        }
-    });
+                return updateAvailabilityOptions(updateAvailabilityOptionsRequest);
+            }
+        }, updateAvailabilityOptionsRequest,
+                new UpdateAvailabilityOptionsRequestMarshaller(), new UpdateAvailabilityOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1242,11 +1336,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDefaultSearchFieldResult> describeDefaultSearchFieldAsync(final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDefaultSearchFieldResult>() {
-            public DescribeDefaultSearchFieldResult call() throws Exception {
-                return describeDefaultSearchField(describeDefaultSearchFieldRequest);
-        }
-    });
+        return describeDefaultSearchFieldComposableAsync(describeDefaultSearchFieldRequest);
     }
 
     /**
@@ -1279,19 +1369,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest,
             final AsyncHandler<DescribeDefaultSearchFieldRequest, DescribeDefaultSearchFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDefaultSearchFieldResult>() {
+        return withAsyncHandler(describeDefaultSearchFieldComposableAsync(describeDefaultSearchFieldRequest),
+                describeDefaultSearchFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDefaultSearchField operation
+     * like
+     * {@link #describeDefaultSearchFieldAsync(DescribeDefaultSearchFieldRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDefaultSearchFieldRequest Container for the necessary
+     *           parameters to execute the DescribeDefaultSearchField operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDefaultSearchField service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeDefaultSearchFieldResult> describeDefaultSearchFieldComposableAsync(final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest) {
+        return executeAsync(executorService, new Callable<DescribeDefaultSearchFieldResult>() {
             public DescribeDefaultSearchFieldResult call() throws Exception {
-              DescribeDefaultSearchFieldResult result;
-                try {
-                result = describeDefaultSearchField(describeDefaultSearchFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDefaultSearchFieldRequest, result);
-                 return result;
-        }
-    });
+                return describeDefaultSearchField(describeDefaultSearchFieldRequest);
+            }
+        }, describeDefaultSearchFieldRequest,
+                new DescribeDefaultSearchFieldRequestMarshaller(), new DescribeDefaultSearchFieldResultStaxUnmarshaller());
     }
 
     /**
@@ -1320,11 +1423,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStopwordOptionsResult> updateStopwordOptionsAsync(final UpdateStopwordOptionsRequest updateStopwordOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStopwordOptionsResult>() {
-            public UpdateStopwordOptionsResult call() throws Exception {
-                return updateStopwordOptions(updateStopwordOptionsRequest);
-        }
-    });
+        return updateStopwordOptionsComposableAsync(updateStopwordOptionsRequest);
     }
 
     /**
@@ -1359,19 +1458,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateStopwordOptionsRequest updateStopwordOptionsRequest,
             final AsyncHandler<UpdateStopwordOptionsRequest, UpdateStopwordOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStopwordOptionsResult>() {
+        return withAsyncHandler(updateStopwordOptionsComposableAsync(updateStopwordOptionsRequest),
+                updateStopwordOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateStopwordOptions operation like
+     * {@link #updateStopwordOptionsAsync(UpdateStopwordOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateStopwordOptionsRequest Container for the necessary
+     *           parameters to execute the UpdateStopwordOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateStopwordOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateStopwordOptionsResult> updateStopwordOptionsComposableAsync(final UpdateStopwordOptionsRequest updateStopwordOptionsRequest) {
+        return executeAsync(executorService, new Callable<UpdateStopwordOptionsResult>() {
             public UpdateStopwordOptionsResult call() throws Exception {
-              UpdateStopwordOptionsResult result;
-                try {
-                result = updateStopwordOptions(updateStopwordOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateStopwordOptionsRequest, result);
-                 return result;
-        }
-    });
+                return updateStopwordOptions(updateStopwordOptionsRequest);
+            }
+        }, updateStopwordOptionsRequest,
+                new UpdateStopwordOptionsRequestMarshaller(), new UpdateStopwordOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -1400,11 +1511,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateSynonymOptionsResult> updateSynonymOptionsAsync(final UpdateSynonymOptionsRequest updateSynonymOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSynonymOptionsResult>() {
-            public UpdateSynonymOptionsResult call() throws Exception {
-                return updateSynonymOptions(updateSynonymOptionsRequest);
-        }
-    });
+        return updateSynonymOptionsComposableAsync(updateSynonymOptionsRequest);
     }
 
     /**
@@ -1439,19 +1546,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateSynonymOptionsRequest updateSynonymOptionsRequest,
             final AsyncHandler<UpdateSynonymOptionsRequest, UpdateSynonymOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSynonymOptionsResult>() {
+        return withAsyncHandler(updateSynonymOptionsComposableAsync(updateSynonymOptionsRequest),
+                updateSynonymOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateSynonymOptions operation like
+     * {@link #updateSynonymOptionsAsync(UpdateSynonymOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateSynonymOptionsRequest Container for the necessary
+     *           parameters to execute the UpdateSynonymOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateSynonymOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateSynonymOptionsResult> updateSynonymOptionsComposableAsync(final UpdateSynonymOptionsRequest updateSynonymOptionsRequest) {
+        return executeAsync(executorService, new Callable<UpdateSynonymOptionsResult>() {
             public UpdateSynonymOptionsResult call() throws Exception {
-              UpdateSynonymOptionsResult result;
-                try {
-                result = updateSynonymOptions(updateSynonymOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateSynonymOptionsRequest, result);
-                 return result;
-        }
-    });
+                return updateSynonymOptions(updateSynonymOptionsRequest);
+            }
+        }, updateSynonymOptionsRequest,
+                new UpdateSynonymOptionsRequestMarshaller(), new UpdateSynonymOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -1480,11 +1599,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStemmingOptionsResult> updateStemmingOptionsAsync(final UpdateStemmingOptionsRequest updateStemmingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStemmingOptionsResult>() {
-            public UpdateStemmingOptionsResult call() throws Exception {
-                return updateStemmingOptions(updateStemmingOptionsRequest);
-        }
-    });
+        return updateStemmingOptionsComposableAsync(updateStemmingOptionsRequest);
     }
 
     /**
@@ -1519,19 +1634,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateStemmingOptionsRequest updateStemmingOptionsRequest,
             final AsyncHandler<UpdateStemmingOptionsRequest, UpdateStemmingOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStemmingOptionsResult>() {
+        return withAsyncHandler(updateStemmingOptionsComposableAsync(updateStemmingOptionsRequest),
+                updateStemmingOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateStemmingOptions operation like
+     * {@link #updateStemmingOptionsAsync(UpdateStemmingOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateStemmingOptionsRequest Container for the necessary
+     *           parameters to execute the UpdateStemmingOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         UpdateStemmingOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<UpdateStemmingOptionsResult> updateStemmingOptionsComposableAsync(final UpdateStemmingOptionsRequest updateStemmingOptionsRequest) {
+        return executeAsync(executorService, new Callable<UpdateStemmingOptionsResult>() {
             public UpdateStemmingOptionsResult call() throws Exception {
-              UpdateStemmingOptionsResult result;
-                try {
-                result = updateStemmingOptions(updateStemmingOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateStemmingOptionsRequest, result);
-                 return result;
-        }
-    });
+                return updateStemmingOptions(updateStemmingOptionsRequest);
+            }
+        }, updateStemmingOptionsRequest,
+                new UpdateStemmingOptionsRequestMarshaller(), new UpdateStemmingOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -1558,11 +1685,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStemmingOptionsResult> describeStemmingOptionsAsync(final DescribeStemmingOptionsRequest describeStemmingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStemmingOptionsResult>() {
-            public DescribeStemmingOptionsResult call() throws Exception {
-                return describeStemmingOptions(describeStemmingOptionsRequest);
-        }
-    });
+        return describeStemmingOptionsComposableAsync(describeStemmingOptionsRequest);
     }
 
     /**
@@ -1595,19 +1718,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeStemmingOptionsRequest describeStemmingOptionsRequest,
             final AsyncHandler<DescribeStemmingOptionsRequest, DescribeStemmingOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStemmingOptionsResult>() {
+        return withAsyncHandler(describeStemmingOptionsComposableAsync(describeStemmingOptionsRequest),
+                describeStemmingOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStemmingOptions operation like
+     * {@link #describeStemmingOptionsAsync(DescribeStemmingOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStemmingOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeStemmingOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStemmingOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeStemmingOptionsResult> describeStemmingOptionsComposableAsync(final DescribeStemmingOptionsRequest describeStemmingOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeStemmingOptionsResult>() {
             public DescribeStemmingOptionsResult call() throws Exception {
-              DescribeStemmingOptionsResult result;
-                try {
-                result = describeStemmingOptions(describeStemmingOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStemmingOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeStemmingOptions(describeStemmingOptionsRequest);
+            }
+        }, describeStemmingOptionsRequest,
+                new DescribeStemmingOptionsRequestMarshaller(), new DescribeStemmingOptionsResultStaxUnmarshaller());
     }
 
     /**
@@ -1633,11 +1768,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDomainsResult> describeDomainsAsync(final DescribeDomainsRequest describeDomainsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
-            public DescribeDomainsResult call() throws Exception {
-                return describeDomains(describeDomainsRequest);
-        }
-    });
+        return describeDomainsComposableAsync(describeDomainsRequest);
     }
 
     /**
@@ -1669,19 +1800,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDomainsRequest describeDomainsRequest,
             final AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
+        return withAsyncHandler(describeDomainsComposableAsync(describeDomainsRequest),
+                describeDomainsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDomains operation like
+     * {@link #describeDomainsAsync(DescribeDomainsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeDomainsRequest Container for the necessary parameters
+     *           to execute the DescribeDomains operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDomains service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeDomainsResult> describeDomainsComposableAsync(final DescribeDomainsRequest describeDomainsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDomainsResult>() {
             public DescribeDomainsResult call() throws Exception {
-              DescribeDomainsResult result;
-                try {
-                result = describeDomains(describeDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDomainsRequest, result);
-                 return result;
-        }
-    });
+                return describeDomains(describeDomainsRequest);
+            }
+        }, describeDomainsRequest,
+                new DescribeDomainsRequestMarshaller(), new DescribeDomainsResultStaxUnmarshaller());
     }
 
     /**
@@ -1710,11 +1851,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<IndexDocumentsResult> indexDocumentsAsync(final IndexDocumentsRequest indexDocumentsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
-            public IndexDocumentsResult call() throws Exception {
-                return indexDocuments(indexDocumentsRequest);
-        }
-    });
+        return indexDocumentsComposableAsync(indexDocumentsRequest);
     }
 
     /**
@@ -1749,19 +1886,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final IndexDocumentsRequest indexDocumentsRequest,
             final AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
+        return withAsyncHandler(indexDocumentsComposableAsync(indexDocumentsRequest),
+                indexDocumentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the IndexDocuments operation like
+     * {@link #indexDocumentsAsync(IndexDocumentsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param indexDocumentsRequest Container for the necessary parameters to
+     *           execute the IndexDocuments operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the IndexDocuments
+     *         service method, as returned by AmazonCloudSearch.
+     */
+    public ComposableFuture<IndexDocumentsResult> indexDocumentsComposableAsync(final IndexDocumentsRequest indexDocumentsRequest) {
+        return executeAsync(executorService, new Callable<IndexDocumentsResult>() {
             public IndexDocumentsResult call() throws Exception {
-              IndexDocumentsResult result;
-                try {
-                result = indexDocuments(indexDocumentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(indexDocumentsRequest, result);
-                 return result;
-        }
-    });
+                return indexDocuments(indexDocumentsRequest);
+            }
+        }, indexDocumentsRequest,
+                new IndexDocumentsRequestMarshaller(), new IndexDocumentsResultStaxUnmarshaller());
     }
     
     /**
@@ -1793,11 +1939,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeAvailabilityOptionsResult> describeAvailabilityOptionsAsync(final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityOptionsResult>() {
-            public DescribeAvailabilityOptionsResult call() throws Exception {
-                return describeAvailabilityOptions(describeAvailabilityOptionsRequest);
-        }
-    });
+        return describeAvailabilityOptionsComposableAsync(describeAvailabilityOptionsRequest);
     }
 
     /**
@@ -1835,19 +1977,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest,
             final AsyncHandler<DescribeAvailabilityOptionsRequest, DescribeAvailabilityOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityOptionsResult>() {
+        return withAsyncHandler(describeAvailabilityOptionsComposableAsync(describeAvailabilityOptionsRequest),
+                describeAvailabilityOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAvailabilityOptions operation
+     * like
+     * {@link #describeAvailabilityOptionsAsync(DescribeAvailabilityOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAvailabilityOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeAvailabilityOptions operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAvailabilityOptions service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeAvailabilityOptionsResult> describeAvailabilityOptionsComposableAsync(final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAvailabilityOptionsResult>() {
             public DescribeAvailabilityOptionsResult call() throws Exception {
-              DescribeAvailabilityOptionsResult result;
-                try {
-                result = describeAvailabilityOptions(describeAvailabilityOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeAvailabilityOptions(describeAvailabilityOptionsRequest);
+            }
+        }, describeAvailabilityOptionsRequest,
+                new DescribeAvailabilityOptionsRequestMarshaller(), new DescribeAvailabilityOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1875,11 +2030,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeIndexFieldsResult> describeIndexFieldsAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
-            public DescribeIndexFieldsResult call() throws Exception {
-                return describeIndexFields(describeIndexFieldsRequest);
-        }
-    });
+        return describeIndexFieldsComposableAsync(describeIndexFieldsRequest);
     }
 
     /**
@@ -1913,19 +2064,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeIndexFieldsRequest describeIndexFieldsRequest,
             final AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
+        return withAsyncHandler(describeIndexFieldsComposableAsync(describeIndexFieldsRequest),
+                describeIndexFieldsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIndexFields operation like
+     * {@link #describeIndexFieldsAsync(DescribeIndexFieldsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeIndexFieldsRequest Container for the necessary
+     *           parameters to execute the DescribeIndexFields operation on
+     *           AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIndexFields service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DescribeIndexFieldsResult> describeIndexFieldsComposableAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest) {
+        return executeAsync(executorService, new Callable<DescribeIndexFieldsResult>() {
             public DescribeIndexFieldsResult call() throws Exception {
-              DescribeIndexFieldsResult result;
-                try {
-                result = describeIndexFields(describeIndexFieldsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIndexFieldsRequest, result);
-                 return result;
-        }
-    });
+                return describeIndexFields(describeIndexFieldsRequest);
+            }
+        }, describeIndexFieldsRequest,
+                new DescribeIndexFieldsRequestMarshaller(), new DescribeIndexFieldsResultStaxUnmarshaller());
     }
 
     /**
@@ -1950,11 +2113,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteIndexFieldResult> deleteIndexFieldAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
-            public DeleteIndexFieldResult call() throws Exception {
-                return deleteIndexField(deleteIndexFieldRequest);
-        }
-    });
+        return deleteIndexFieldComposableAsync(deleteIndexFieldRequest);
     }
 
     /**
@@ -1985,19 +2144,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteIndexFieldRequest deleteIndexFieldRequest,
             final AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
+        return withAsyncHandler(deleteIndexFieldComposableAsync(deleteIndexFieldRequest),
+                deleteIndexFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteIndexField operation like
+     * {@link #deleteIndexFieldAsync(DeleteIndexFieldRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteIndexFieldRequest Container for the necessary parameters
+     *           to execute the DeleteIndexField operation on AmazonCloudSearch.
+     *
+     * @return A composable future for the response from the
+     *         DeleteIndexField service method, as returned by
+     *         AmazonCloudSearch.
+     */
+    public ComposableFuture<DeleteIndexFieldResult> deleteIndexFieldComposableAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest) {
+        return executeAsync(executorService, new Callable<DeleteIndexFieldResult>() {
             public DeleteIndexFieldResult call() throws Exception {
-              DeleteIndexFieldResult result;
-                try {
-                result = deleteIndexField(deleteIndexFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIndexFieldRequest, result);
-                 return result;
-        }
-    });
+                return deleteIndexField(deleteIndexFieldRequest);
+            }
+        }, deleteIndexFieldRequest,
+                new DeleteIndexFieldRequestMarshaller(), new DeleteIndexFieldResultStaxUnmarshaller());
     }
 
 }
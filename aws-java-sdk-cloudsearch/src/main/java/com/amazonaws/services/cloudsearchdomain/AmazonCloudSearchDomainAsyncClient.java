@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudsearchdomain.model.*;
+import com.amazonaws.services.cloudsearchdomain.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudSearchDomain.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * You use the AmazonCloudSearch2013 API to upload documents to a search
  * domain and search those documents.
@@ -332,11 +336,7 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
      */
     public Future<UploadDocumentsResult> uploadDocumentsAsync(final UploadDocumentsRequest uploadDocumentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadDocumentsResult>() {
-            public UploadDocumentsResult call() throws Exception {
-                return uploadDocuments(uploadDocumentsRequest);
-        }
-    });
+        return uploadDocumentsComposableAsync(uploadDocumentsRequest);
     }
 
     /**
@@ -392,19 +392,29 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
             final UploadDocumentsRequest uploadDocumentsRequest,
             final AsyncHandler<UploadDocumentsRequest, UploadDocumentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadDocumentsResult>() {
+        return withAsyncHandler(uploadDocumentsComposableAsync(uploadDocumentsRequest),
+                uploadDocumentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadDocuments operation like
+     * {@link #uploadDocumentsAsync(UploadDocumentsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param uploadDocumentsRequest Container for the necessary parameters
+     *           to execute the UploadDocuments operation on AmazonCloudSearchDomain.
+     *
+     * @return A composable future for the response from the
+     *         UploadDocuments service method, as returned by
+     *         AmazonCloudSearchDomain.
+     */
+    public ComposableFuture<UploadDocumentsResult> uploadDocumentsComposableAsync(final UploadDocumentsRequest uploadDocumentsRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<UploadDocumentsResult>() {
             public UploadDocumentsResult call() throws Exception {
-              UploadDocumentsResult result;
-                try {
-                result = uploadDocuments(uploadDocumentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadDocumentsRequest, result);
-                 return result;
-        }
-    });
+                return uploadDocuments(uploadDocumentsRequest);
+            }
+        });
     }
     
     /**
@@ -449,11 +459,7 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
      */
     public Future<SuggestResult> suggestAsync(final SuggestRequest suggestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuggestResult>() {
-            public SuggestResult call() throws Exception {
-                return suggest(suggestRequest);
-        }
-    });
+        return suggestComposableAsync(suggestRequest);
     }
 
     /**
@@ -504,19 +510,28 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
             final SuggestRequest suggestRequest,
             final AsyncHandler<SuggestRequest, SuggestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SuggestResult>() {
+        return withAsyncHandler(suggestComposableAsync(suggestRequest),
+                suggestRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Suggest operation like
+     * {@link #suggestAsync(SuggestRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param suggestRequest Container for the necessary parameters to
+     *           execute the Suggest operation on AmazonCloudSearchDomain.
+     *
+     * @return A composable future for the response from the Suggest
+     *         service method, as returned by AmazonCloudSearchDomain.
+     */
+    public ComposableFuture<SuggestResult> suggestComposableAsync(final SuggestRequest suggestRequest) {
+        return executeAsync(executorService, new Callable<SuggestResult>() {
             public SuggestResult call() throws Exception {
-              SuggestResult result;
-                try {
-                result = suggest(suggestRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(suggestRequest, result);
-                 return result;
-        }
-    });
+                return suggest(suggestRequest);
+            }
+        }, suggestRequest,
+                new SuggestRequestMarshaller(), new SuggestResultJsonUnmarshaller());
     }
     
     /**
@@ -571,11 +586,7 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
      */
     public Future<SearchResult> searchAsync(final SearchRequest searchRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchResult>() {
-            public SearchResult call() throws Exception {
-                return search(searchRequest);
-        }
-    });
+        return searchComposableAsync(searchRequest);
     }
 
     /**
@@ -636,19 +647,28 @@ public class AmazonCloudSearchDomainAsyncClient extends AmazonCloudSearchDomainC
             final SearchRequest searchRequest,
             final AsyncHandler<SearchRequest, SearchResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SearchResult>() {
+        return withAsyncHandler(searchComposableAsync(searchRequest),
+                searchRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Search operation like
+     * {@link #searchAsync(SearchRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param searchRequest Container for the necessary parameters to execute
+     *           the Search operation on AmazonCloudSearchDomain.
+     *
+     * @return A composable future for the response from the Search service
+     *         method, as returned by AmazonCloudSearchDomain.
+     */
+    public ComposableFuture<SearchResult> searchComposableAsync(final SearchRequest searchRequest) {
+        return executeAsync(executorService, new Callable<SearchResult>() {
             public SearchResult call() throws Exception {
-              SearchResult result;
-                try {
-                result = search(searchRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(searchRequest, result);
-                 return result;
-        }
-    });
+                return search(searchRequest);
+            }
+        }, searchRequest,
+                new SearchRequestMarshaller(), new SearchResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudsearchv2.model.*;
+import com.amazonaws.services.cloudsearchv2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudSearchv2.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon CloudSearch Configuration Service <p>
  * You use the Amazon CloudSearch configuration service to create,
  * configure, and manage search domains. Configuration service requests
@@ -314,11 +318,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeAnalysisSchemesResult> describeAnalysisSchemesAsync(final DescribeAnalysisSchemesRequest describeAnalysisSchemesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAnalysisSchemesResult>() {
-            public DescribeAnalysisSchemesResult call() throws Exception {
-                return describeAnalysisSchemes(describeAnalysisSchemesRequest);
-        }
-    });
+        return describeAnalysisSchemesComposableAsync(describeAnalysisSchemesRequest);
     }
 
     /**
@@ -359,19 +359,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAnalysisSchemesRequest describeAnalysisSchemesRequest,
             final AsyncHandler<DescribeAnalysisSchemesRequest, DescribeAnalysisSchemesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAnalysisSchemesResult>() {
+        return withAsyncHandler(describeAnalysisSchemesComposableAsync(describeAnalysisSchemesRequest),
+                describeAnalysisSchemesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAnalysisSchemes operation like
+     * {@link #describeAnalysisSchemesAsync(DescribeAnalysisSchemesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAnalysisSchemesRequest Container for the necessary
+     *           parameters to execute the DescribeAnalysisSchemes operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAnalysisSchemes service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeAnalysisSchemesResult> describeAnalysisSchemesComposableAsync(final DescribeAnalysisSchemesRequest describeAnalysisSchemesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAnalysisSchemesResult>() {
             public DescribeAnalysisSchemesResult call() throws Exception {
-              DescribeAnalysisSchemesResult result;
-                try {
-                result = describeAnalysisSchemes(describeAnalysisSchemesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAnalysisSchemesRequest, result);
-                 return result;
-        }
-    });
+                return describeAnalysisSchemes(describeAnalysisSchemesRequest);
+            }
+        }, describeAnalysisSchemesRequest,
+                new DescribeAnalysisSchemesRequestMarshaller(), new DescribeAnalysisSchemesResultStaxUnmarshaller());
     }
     
     /**
@@ -399,11 +411,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteIndexFieldResult> deleteIndexFieldAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
-            public DeleteIndexFieldResult call() throws Exception {
-                return deleteIndexField(deleteIndexFieldRequest);
-        }
-    });
+        return deleteIndexFieldComposableAsync(deleteIndexFieldRequest);
     }
 
     /**
@@ -437,19 +445,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteIndexFieldRequest deleteIndexFieldRequest,
             final AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
+        return withAsyncHandler(deleteIndexFieldComposableAsync(deleteIndexFieldRequest),
+                deleteIndexFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteIndexField operation like
+     * {@link #deleteIndexFieldAsync(DeleteIndexFieldRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteIndexFieldRequest Container for the necessary parameters
+     *           to execute the DeleteIndexField operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteIndexField service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DeleteIndexFieldResult> deleteIndexFieldComposableAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest) {
+        return executeAsync(executorService, new Callable<DeleteIndexFieldResult>() {
             public DeleteIndexFieldResult call() throws Exception {
-              DeleteIndexFieldResult result;
-                try {
-                result = deleteIndexField(deleteIndexFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIndexFieldRequest, result);
-                 return result;
-        }
-    });
+                return deleteIndexField(deleteIndexFieldRequest);
+            }
+        }, deleteIndexFieldRequest,
+                new DeleteIndexFieldRequestMarshaller(), new DeleteIndexFieldResultStaxUnmarshaller());
     }
     
     /**
@@ -482,11 +500,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateAvailabilityOptionsResult> updateAvailabilityOptionsAsync(final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAvailabilityOptionsResult>() {
-            public UpdateAvailabilityOptionsResult call() throws Exception {
-                return updateAvailabilityOptions(updateAvailabilityOptionsRequest);
-        }
-    });
+        return updateAvailabilityOptionsComposableAsync(updateAvailabilityOptionsRequest);
     }
 
     /**
@@ -525,19 +539,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest,
             final AsyncHandler<UpdateAvailabilityOptionsRequest, UpdateAvailabilityOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAvailabilityOptionsResult>() {
+        return withAsyncHandler(updateAvailabilityOptionsComposableAsync(updateAvailabilityOptionsRequest),
+                updateAvailabilityOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAvailabilityOptions operation like
+     * {@link #updateAvailabilityOptionsAsync(UpdateAvailabilityOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAvailabilityOptionsRequest Container for the necessary
+     *           parameters to execute the UpdateAvailabilityOptions operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAvailabilityOptions service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<UpdateAvailabilityOptionsResult> updateAvailabilityOptionsComposableAsync(final UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest) {
+        return executeAsync(executorService, new Callable<UpdateAvailabilityOptionsResult>() {
             public UpdateAvailabilityOptionsResult call() throws Exception {
-              UpdateAvailabilityOptionsResult result;
-                try {
-                result = updateAvailabilityOptions(updateAvailabilityOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAvailabilityOptionsRequest, result);
-                 return result;
-        }
-    });
+                return updateAvailabilityOptions(updateAvailabilityOptionsRequest);
+            }
+        }, updateAvailabilityOptionsRequest,
+                new UpdateAvailabilityOptionsRequestMarshaller(), new UpdateAvailabilityOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -571,11 +597,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeIndexFieldsResult> describeIndexFieldsAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
-            public DescribeIndexFieldsResult call() throws Exception {
-                return describeIndexFields(describeIndexFieldsRequest);
-        }
-    });
+        return describeIndexFieldsComposableAsync(describeIndexFieldsRequest);
     }
 
     /**
@@ -615,19 +637,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeIndexFieldsRequest describeIndexFieldsRequest,
             final AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
+        return withAsyncHandler(describeIndexFieldsComposableAsync(describeIndexFieldsRequest),
+                describeIndexFieldsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIndexFields operation like
+     * {@link #describeIndexFieldsAsync(DescribeIndexFieldsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeIndexFieldsRequest Container for the necessary
+     *           parameters to execute the DescribeIndexFields operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIndexFields service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeIndexFieldsResult> describeIndexFieldsComposableAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest) {
+        return executeAsync(executorService, new Callable<DescribeIndexFieldsResult>() {
             public DescribeIndexFieldsResult call() throws Exception {
-              DescribeIndexFieldsResult result;
-                try {
-                result = describeIndexFields(describeIndexFieldsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIndexFieldsRequest, result);
-                 return result;
-        }
-    });
+                return describeIndexFields(describeIndexFieldsRequest);
+            }
+        }, describeIndexFieldsRequest,
+                new DescribeIndexFieldsRequestMarshaller(), new DescribeIndexFieldsResultStaxUnmarshaller());
     }
     
     /**
@@ -657,11 +691,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineExpressionResult> defineExpressionAsync(final DefineExpressionRequest defineExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineExpressionResult>() {
-            public DefineExpressionResult call() throws Exception {
-                return defineExpression(defineExpressionRequest);
-        }
-    });
+        return defineExpressionComposableAsync(defineExpressionRequest);
     }
 
     /**
@@ -697,19 +727,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineExpressionRequest defineExpressionRequest,
             final AsyncHandler<DefineExpressionRequest, DefineExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineExpressionResult>() {
+        return withAsyncHandler(defineExpressionComposableAsync(defineExpressionRequest),
+                defineExpressionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineExpression operation like
+     * {@link #defineExpressionAsync(DefineExpressionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param defineExpressionRequest Container for the necessary parameters
+     *           to execute the DefineExpression operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DefineExpression service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DefineExpressionResult> defineExpressionComposableAsync(final DefineExpressionRequest defineExpressionRequest) {
+        return executeAsync(executorService, new Callable<DefineExpressionResult>() {
             public DefineExpressionResult call() throws Exception {
-              DefineExpressionResult result;
-                try {
-                result = defineExpression(defineExpressionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineExpressionRequest, result);
-                 return result;
-        }
-    });
+                return defineExpression(defineExpressionRequest);
+            }
+        }, defineExpressionRequest,
+                new DefineExpressionRequestMarshaller(), new DefineExpressionResultStaxUnmarshaller());
     }
     
     /**
@@ -739,11 +779,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
-            public UpdateServiceAccessPoliciesResult call() throws Exception {
-                return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
-        }
-    });
+        return updateServiceAccessPoliciesComposableAsync(updateServiceAccessPoliciesRequest);
     }
 
     /**
@@ -779,19 +815,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest,
             final AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
+        return withAsyncHandler(updateServiceAccessPoliciesComposableAsync(updateServiceAccessPoliciesRequest),
+                updateServiceAccessPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateServiceAccessPolicies operation
+     * like
+     * {@link #updateServiceAccessPoliciesAsync(UpdateServiceAccessPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateServiceAccessPoliciesRequest Container for the necessary
+     *           parameters to execute the UpdateServiceAccessPolicies operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         UpdateServiceAccessPolicies service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesComposableAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest) {
+        return executeAsync(executorService, new Callable<UpdateServiceAccessPoliciesResult>() {
             public UpdateServiceAccessPoliciesResult call() throws Exception {
-              UpdateServiceAccessPoliciesResult result;
-                try {
-                result = updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateServiceAccessPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
+            }
+        }, updateServiceAccessPoliciesRequest,
+                new UpdateServiceAccessPoliciesRequestMarshaller(), new UpdateServiceAccessPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -822,11 +871,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineSuggesterResult> defineSuggesterAsync(final DefineSuggesterRequest defineSuggesterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineSuggesterResult>() {
-            public DefineSuggesterResult call() throws Exception {
-                return defineSuggester(defineSuggesterRequest);
-        }
-    });
+        return defineSuggesterComposableAsync(defineSuggesterRequest);
     }
 
     /**
@@ -863,19 +908,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineSuggesterRequest defineSuggesterRequest,
             final AsyncHandler<DefineSuggesterRequest, DefineSuggesterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineSuggesterResult>() {
+        return withAsyncHandler(defineSuggesterComposableAsync(defineSuggesterRequest),
+                defineSuggesterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineSuggester operation like
+     * {@link #defineSuggesterAsync(DefineSuggesterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param defineSuggesterRequest Container for the necessary parameters
+     *           to execute the DefineSuggester operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DefineSuggester service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DefineSuggesterResult> defineSuggesterComposableAsync(final DefineSuggesterRequest defineSuggesterRequest) {
+        return executeAsync(executorService, new Callable<DefineSuggesterResult>() {
             public DefineSuggesterResult call() throws Exception {
-              DefineSuggesterResult result;
-                try {
-                result = defineSuggester(defineSuggesterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineSuggesterRequest, result);
-                 return result;
-        }
-    });
+                return defineSuggester(defineSuggesterRequest);
+            }
+        }, defineSuggesterRequest,
+                new DefineSuggesterRequestMarshaller(), new DefineSuggesterResultStaxUnmarshaller());
     }
     
     /**
@@ -904,11 +959,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteAnalysisSchemeResult> deleteAnalysisSchemeAsync(final DeleteAnalysisSchemeRequest deleteAnalysisSchemeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteAnalysisSchemeResult>() {
-            public DeleteAnalysisSchemeResult call() throws Exception {
-                return deleteAnalysisScheme(deleteAnalysisSchemeRequest);
-        }
-    });
+        return deleteAnalysisSchemeComposableAsync(deleteAnalysisSchemeRequest);
     }
 
     /**
@@ -943,19 +994,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteAnalysisSchemeRequest deleteAnalysisSchemeRequest,
             final AsyncHandler<DeleteAnalysisSchemeRequest, DeleteAnalysisSchemeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteAnalysisSchemeResult>() {
+        return withAsyncHandler(deleteAnalysisSchemeComposableAsync(deleteAnalysisSchemeRequest),
+                deleteAnalysisSchemeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAnalysisScheme operation like
+     * {@link #deleteAnalysisSchemeAsync(DeleteAnalysisSchemeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteAnalysisSchemeRequest Container for the necessary
+     *           parameters to execute the DeleteAnalysisScheme operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAnalysisScheme service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DeleteAnalysisSchemeResult> deleteAnalysisSchemeComposableAsync(final DeleteAnalysisSchemeRequest deleteAnalysisSchemeRequest) {
+        return executeAsync(executorService, new Callable<DeleteAnalysisSchemeResult>() {
             public DeleteAnalysisSchemeResult call() throws Exception {
-              DeleteAnalysisSchemeResult result;
-                try {
-                result = deleteAnalysisScheme(deleteAnalysisSchemeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAnalysisSchemeRequest, result);
-                 return result;
-        }
-    });
+                return deleteAnalysisScheme(deleteAnalysisSchemeRequest);
+            }
+        }, deleteAnalysisSchemeRequest,
+                new DeleteAnalysisSchemeRequestMarshaller(), new DeleteAnalysisSchemeResultStaxUnmarshaller());
     }
     
     /**
@@ -982,11 +1045,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<IndexDocumentsResult> indexDocumentsAsync(final IndexDocumentsRequest indexDocumentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
-            public IndexDocumentsResult call() throws Exception {
-                return indexDocuments(indexDocumentsRequest);
-        }
-    });
+        return indexDocumentsComposableAsync(indexDocumentsRequest);
     }
 
     /**
@@ -1019,19 +1078,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final IndexDocumentsRequest indexDocumentsRequest,
             final AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
+        return withAsyncHandler(indexDocumentsComposableAsync(indexDocumentsRequest),
+                indexDocumentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the IndexDocuments operation like
+     * {@link #indexDocumentsAsync(IndexDocumentsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param indexDocumentsRequest Container for the necessary parameters to
+     *           execute the IndexDocuments operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the IndexDocuments
+     *         service method, as returned by AmazonCloudSearchv2.
+     */
+    public ComposableFuture<IndexDocumentsResult> indexDocumentsComposableAsync(final IndexDocumentsRequest indexDocumentsRequest) {
+        return executeAsync(executorService, new Callable<IndexDocumentsResult>() {
             public IndexDocumentsResult call() throws Exception {
-              IndexDocumentsResult result;
-                try {
-                result = indexDocuments(indexDocumentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(indexDocumentsRequest, result);
-                 return result;
-        }
-    });
+                return indexDocuments(indexDocumentsRequest);
+            }
+        }, indexDocumentsRequest,
+                new IndexDocumentsRequestMarshaller(), new IndexDocumentsResultStaxUnmarshaller());
     }
     
     /**
@@ -1065,11 +1133,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeSuggestersResult> describeSuggestersAsync(final DescribeSuggestersRequest describeSuggestersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSuggestersResult>() {
-            public DescribeSuggestersResult call() throws Exception {
-                return describeSuggesters(describeSuggestersRequest);
-        }
-    });
+        return describeSuggestersComposableAsync(describeSuggestersRequest);
     }
 
     /**
@@ -1109,19 +1173,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeSuggestersRequest describeSuggestersRequest,
             final AsyncHandler<DescribeSuggestersRequest, DescribeSuggestersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSuggestersResult>() {
+        return withAsyncHandler(describeSuggestersComposableAsync(describeSuggestersRequest),
+                describeSuggestersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSuggesters operation like
+     * {@link #describeSuggestersAsync(DescribeSuggestersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSuggestersRequest Container for the necessary
+     *           parameters to execute the DescribeSuggesters operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSuggesters service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeSuggestersResult> describeSuggestersComposableAsync(final DescribeSuggestersRequest describeSuggestersRequest) {
+        return executeAsync(executorService, new Callable<DescribeSuggestersResult>() {
             public DescribeSuggestersResult call() throws Exception {
-              DescribeSuggestersResult result;
-                try {
-                result = describeSuggesters(describeSuggestersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSuggestersRequest, result);
-                 return result;
-        }
-    });
+                return describeSuggesters(describeSuggestersRequest);
+            }
+        }, describeSuggestersRequest,
+                new DescribeSuggestersRequestMarshaller(), new DescribeSuggestersResultStaxUnmarshaller());
     }
     
     /**
@@ -1156,11 +1232,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateScalingParametersResult> updateScalingParametersAsync(final UpdateScalingParametersRequest updateScalingParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateScalingParametersResult>() {
-            public UpdateScalingParametersResult call() throws Exception {
-                return updateScalingParameters(updateScalingParametersRequest);
-        }
-    });
+        return updateScalingParametersComposableAsync(updateScalingParametersRequest);
     }
 
     /**
@@ -1201,19 +1273,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateScalingParametersRequest updateScalingParametersRequest,
             final AsyncHandler<UpdateScalingParametersRequest, UpdateScalingParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateScalingParametersResult>() {
+        return withAsyncHandler(updateScalingParametersComposableAsync(updateScalingParametersRequest),
+                updateScalingParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateScalingParameters operation like
+     * {@link #updateScalingParametersAsync(UpdateScalingParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateScalingParametersRequest Container for the necessary
+     *           parameters to execute the UpdateScalingParameters operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         UpdateScalingParameters service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<UpdateScalingParametersResult> updateScalingParametersComposableAsync(final UpdateScalingParametersRequest updateScalingParametersRequest) {
+        return executeAsync(executorService, new Callable<UpdateScalingParametersResult>() {
             public UpdateScalingParametersResult call() throws Exception {
-              UpdateScalingParametersResult result;
-                try {
-                result = updateScalingParameters(updateScalingParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateScalingParametersRequest, result);
-                 return result;
-        }
-    });
+                return updateScalingParameters(updateScalingParametersRequest);
+            }
+        }, updateScalingParametersRequest,
+                new UpdateScalingParametersRequestMarshaller(), new UpdateScalingParametersResultStaxUnmarshaller());
     }
     
     /**
@@ -1238,11 +1322,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<ListDomainNamesResult> listDomainNamesAsync(final ListDomainNamesRequest listDomainNamesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainNamesResult>() {
-            public ListDomainNamesResult call() throws Exception {
-                return listDomainNames(listDomainNamesRequest);
-        }
-    });
+        return listDomainNamesComposableAsync(listDomainNamesRequest);
     }
 
     /**
@@ -1273,19 +1353,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final ListDomainNamesRequest listDomainNamesRequest,
             final AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainNamesResult>() {
+        return withAsyncHandler(listDomainNamesComposableAsync(listDomainNamesRequest),
+                listDomainNamesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDomainNames operation like
+     * {@link #listDomainNamesAsync(ListDomainNamesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listDomainNamesRequest Container for the necessary parameters
+     *           to execute the ListDomainNames operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         ListDomainNames service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<ListDomainNamesResult> listDomainNamesComposableAsync(final ListDomainNamesRequest listDomainNamesRequest) {
+        return executeAsync(executorService, new Callable<ListDomainNamesResult>() {
             public ListDomainNamesResult call() throws Exception {
-              ListDomainNamesResult result;
-                try {
-                result = listDomainNames(listDomainNamesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainNamesRequest, result);
-                 return result;
-        }
-    });
+                return listDomainNames(listDomainNamesRequest);
+            }
+        }, listDomainNamesRequest,
+                new ListDomainNamesRequestMarshaller(), new ListDomainNamesResultStaxUnmarshaller());
     }
     
     /**
@@ -1319,11 +1409,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineIndexFieldResult> defineIndexFieldAsync(final DefineIndexFieldRequest defineIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
-            public DefineIndexFieldResult call() throws Exception {
-                return defineIndexField(defineIndexFieldRequest);
-        }
-    });
+        return defineIndexFieldComposableAsync(defineIndexFieldRequest);
     }
 
     /**
@@ -1363,19 +1449,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineIndexFieldRequest defineIndexFieldRequest,
             final AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
+        return withAsyncHandler(defineIndexFieldComposableAsync(defineIndexFieldRequest),
+                defineIndexFieldRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineIndexField operation like
+     * {@link #defineIndexFieldAsync(DefineIndexFieldRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param defineIndexFieldRequest Container for the necessary parameters
+     *           to execute the DefineIndexField operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DefineIndexField service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DefineIndexFieldResult> defineIndexFieldComposableAsync(final DefineIndexFieldRequest defineIndexFieldRequest) {
+        return executeAsync(executorService, new Callable<DefineIndexFieldResult>() {
             public DefineIndexFieldResult call() throws Exception {
-              DefineIndexFieldResult result;
-                try {
-                result = defineIndexField(defineIndexFieldRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineIndexFieldRequest, result);
-                 return result;
-        }
-    });
+                return defineIndexField(defineIndexFieldRequest);
+            }
+        }, defineIndexFieldRequest,
+                new DefineIndexFieldRequestMarshaller(), new DefineIndexFieldResultStaxUnmarshaller());
     }
     
     /**
@@ -1402,11 +1498,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<CreateDomainResult> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
-            public CreateDomainResult call() throws Exception {
-                return createDomain(createDomainRequest);
-        }
-    });
+        return createDomainComposableAsync(createDomainRequest);
     }
 
     /**
@@ -1439,19 +1531,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
+        return withAsyncHandler(createDomainComposableAsync(createDomainRequest),
+                createDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDomain operation like
+     * {@link #createDomainAsync(CreateDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createDomainRequest Container for the necessary parameters to
+     *           execute the CreateDomain operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the CreateDomain
+     *         service method, as returned by AmazonCloudSearchv2.
+     */
+    public ComposableFuture<CreateDomainResult> createDomainComposableAsync(final CreateDomainRequest createDomainRequest) {
+        return executeAsync(executorService, new Callable<CreateDomainResult>() {
             public CreateDomainResult call() throws Exception {
-              CreateDomainResult result;
-                try {
-                result = createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, result);
-                 return result;
-        }
-    });
+                return createDomain(createDomainRequest);
+            }
+        }, createDomainRequest,
+                new CreateDomainRequestMarshaller(), new CreateDomainResultStaxUnmarshaller());
     }
     
     /**
@@ -1478,11 +1579,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteSuggesterResult> deleteSuggesterAsync(final DeleteSuggesterRequest deleteSuggesterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSuggesterResult>() {
-            public DeleteSuggesterResult call() throws Exception {
-                return deleteSuggester(deleteSuggesterRequest);
-        }
-    });
+        return deleteSuggesterComposableAsync(deleteSuggesterRequest);
     }
 
     /**
@@ -1515,19 +1612,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteSuggesterRequest deleteSuggesterRequest,
             final AsyncHandler<DeleteSuggesterRequest, DeleteSuggesterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSuggesterResult>() {
+        return withAsyncHandler(deleteSuggesterComposableAsync(deleteSuggesterRequest),
+                deleteSuggesterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSuggester operation like
+     * {@link #deleteSuggesterAsync(DeleteSuggesterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteSuggesterRequest Container for the necessary parameters
+     *           to execute the DeleteSuggester operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSuggester service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DeleteSuggesterResult> deleteSuggesterComposableAsync(final DeleteSuggesterRequest deleteSuggesterRequest) {
+        return executeAsync(executorService, new Callable<DeleteSuggesterResult>() {
             public DeleteSuggesterResult call() throws Exception {
-              DeleteSuggesterResult result;
-                try {
-                result = deleteSuggester(deleteSuggesterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSuggesterRequest, result);
-                 return result;
-        }
-    });
+                return deleteSuggester(deleteSuggesterRequest);
+            }
+        }, deleteSuggesterRequest,
+                new DeleteSuggesterRequestMarshaller(), new DeleteSuggesterResultStaxUnmarshaller());
     }
     
     /**
@@ -1555,11 +1662,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteExpressionResult> deleteExpressionAsync(final DeleteExpressionRequest deleteExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteExpressionResult>() {
-            public DeleteExpressionResult call() throws Exception {
-                return deleteExpression(deleteExpressionRequest);
-        }
-    });
+        return deleteExpressionComposableAsync(deleteExpressionRequest);
     }
 
     /**
@@ -1593,19 +1696,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteExpressionRequest deleteExpressionRequest,
             final AsyncHandler<DeleteExpressionRequest, DeleteExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteExpressionResult>() {
+        return withAsyncHandler(deleteExpressionComposableAsync(deleteExpressionRequest),
+                deleteExpressionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteExpression operation like
+     * {@link #deleteExpressionAsync(DeleteExpressionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteExpressionRequest Container for the necessary parameters
+     *           to execute the DeleteExpression operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteExpression service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DeleteExpressionResult> deleteExpressionComposableAsync(final DeleteExpressionRequest deleteExpressionRequest) {
+        return executeAsync(executorService, new Callable<DeleteExpressionResult>() {
             public DeleteExpressionResult call() throws Exception {
-              DeleteExpressionResult result;
-                try {
-                result = deleteExpression(deleteExpressionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteExpressionRequest, result);
-                 return result;
-        }
-    });
+                return deleteExpression(deleteExpressionRequest);
+            }
+        }, deleteExpressionRequest,
+                new DeleteExpressionRequestMarshaller(), new DeleteExpressionResultStaxUnmarshaller());
     }
     
     /**
@@ -1637,11 +1750,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeAvailabilityOptionsResult> describeAvailabilityOptionsAsync(final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityOptionsResult>() {
-            public DescribeAvailabilityOptionsResult call() throws Exception {
-                return describeAvailabilityOptions(describeAvailabilityOptionsRequest);
-        }
-    });
+        return describeAvailabilityOptionsComposableAsync(describeAvailabilityOptionsRequest);
     }
 
     /**
@@ -1679,19 +1788,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest,
             final AsyncHandler<DescribeAvailabilityOptionsRequest, DescribeAvailabilityOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityOptionsResult>() {
+        return withAsyncHandler(describeAvailabilityOptionsComposableAsync(describeAvailabilityOptionsRequest),
+                describeAvailabilityOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAvailabilityOptions operation
+     * like
+     * {@link #describeAvailabilityOptionsAsync(DescribeAvailabilityOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAvailabilityOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeAvailabilityOptions operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAvailabilityOptions service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeAvailabilityOptionsResult> describeAvailabilityOptionsComposableAsync(final DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAvailabilityOptionsResult>() {
             public DescribeAvailabilityOptionsResult call() throws Exception {
-              DescribeAvailabilityOptionsResult result;
-                try {
-                result = describeAvailabilityOptions(describeAvailabilityOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeAvailabilityOptions(describeAvailabilityOptionsRequest);
+            }
+        }, describeAvailabilityOptionsRequest,
+                new DescribeAvailabilityOptionsRequestMarshaller(), new DescribeAvailabilityOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1722,11 +1844,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineAnalysisSchemeResult> defineAnalysisSchemeAsync(final DefineAnalysisSchemeRequest defineAnalysisSchemeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineAnalysisSchemeResult>() {
-            public DefineAnalysisSchemeResult call() throws Exception {
-                return defineAnalysisScheme(defineAnalysisSchemeRequest);
-        }
-    });
+        return defineAnalysisSchemeComposableAsync(defineAnalysisSchemeRequest);
     }
 
     /**
@@ -1763,19 +1881,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineAnalysisSchemeRequest defineAnalysisSchemeRequest,
             final AsyncHandler<DefineAnalysisSchemeRequest, DefineAnalysisSchemeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineAnalysisSchemeResult>() {
+        return withAsyncHandler(defineAnalysisSchemeComposableAsync(defineAnalysisSchemeRequest),
+                defineAnalysisSchemeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DefineAnalysisScheme operation like
+     * {@link #defineAnalysisSchemeAsync(DefineAnalysisSchemeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param defineAnalysisSchemeRequest Container for the necessary
+     *           parameters to execute the DefineAnalysisScheme operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DefineAnalysisScheme service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DefineAnalysisSchemeResult> defineAnalysisSchemeComposableAsync(final DefineAnalysisSchemeRequest defineAnalysisSchemeRequest) {
+        return executeAsync(executorService, new Callable<DefineAnalysisSchemeResult>() {
             public DefineAnalysisSchemeResult call() throws Exception {
-              DefineAnalysisSchemeResult result;
-                try {
-                result = defineAnalysisScheme(defineAnalysisSchemeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(defineAnalysisSchemeRequest, result);
-                 return result;
-        }
-    });
+                return defineAnalysisScheme(defineAnalysisSchemeRequest);
+            }
+        }, defineAnalysisSchemeRequest,
+                new DefineAnalysisSchemeRequestMarshaller(), new DefineAnalysisSchemeResultStaxUnmarshaller());
     }
     
     /**
@@ -1802,11 +1932,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<BuildSuggestersResult> buildSuggestersAsync(final BuildSuggestersRequest buildSuggestersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BuildSuggestersResult>() {
-            public BuildSuggestersResult call() throws Exception {
-                return buildSuggesters(buildSuggestersRequest);
-        }
-    });
+        return buildSuggestersComposableAsync(buildSuggestersRequest);
     }
 
     /**
@@ -1839,19 +1965,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final BuildSuggestersRequest buildSuggestersRequest,
             final AsyncHandler<BuildSuggestersRequest, BuildSuggestersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BuildSuggestersResult>() {
+        return withAsyncHandler(buildSuggestersComposableAsync(buildSuggestersRequest),
+                buildSuggestersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BuildSuggesters operation like
+     * {@link #buildSuggestersAsync(BuildSuggestersRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param buildSuggestersRequest Container for the necessary parameters
+     *           to execute the BuildSuggesters operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         BuildSuggesters service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<BuildSuggestersResult> buildSuggestersComposableAsync(final BuildSuggestersRequest buildSuggestersRequest) {
+        return executeAsync(executorService, new Callable<BuildSuggestersResult>() {
             public BuildSuggestersResult call() throws Exception {
-              BuildSuggestersResult result;
-                try {
-                result = buildSuggesters(buildSuggestersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(buildSuggestersRequest, result);
-                 return result;
-        }
-    });
+                return buildSuggesters(buildSuggestersRequest);
+            }
+        }, buildSuggestersRequest,
+                new BuildSuggestersRequestMarshaller(), new BuildSuggestersResultStaxUnmarshaller());
     }
     
     /**
@@ -1884,11 +2020,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
-            public DescribeServiceAccessPoliciesResult call() throws Exception {
-                return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
-        }
-    });
+        return describeServiceAccessPoliciesComposableAsync(describeServiceAccessPoliciesRequest);
     }
 
     /**
@@ -1927,19 +2059,32 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest,
             final AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
+        return withAsyncHandler(describeServiceAccessPoliciesComposableAsync(describeServiceAccessPoliciesRequest),
+                describeServiceAccessPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeServiceAccessPolicies operation
+     * like
+     * {@link #describeServiceAccessPoliciesAsync(DescribeServiceAccessPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeServiceAccessPoliciesRequest Container for the
+     *           necessary parameters to execute the DescribeServiceAccessPolicies
+     *           operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeServiceAccessPolicies service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesComposableAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest) {
+        return executeAsync(executorService, new Callable<DescribeServiceAccessPoliciesResult>() {
             public DescribeServiceAccessPoliciesResult call() throws Exception {
-              DescribeServiceAccessPoliciesResult result;
-                try {
-                result = describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeServiceAccessPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
+            }
+        }, describeServiceAccessPoliciesRequest,
+                new DescribeServiceAccessPoliciesRequestMarshaller(), new DescribeServiceAccessPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -1968,11 +2113,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteDomainResult> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
-            public DeleteDomainResult call() throws Exception {
-                return deleteDomain(deleteDomainRequest);
-        }
-    });
+        return deleteDomainComposableAsync(deleteDomainRequest);
     }
 
     /**
@@ -2007,19 +2148,28 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
+        return withAsyncHandler(deleteDomainComposableAsync(deleteDomainRequest),
+                deleteDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDomain operation like
+     * {@link #deleteDomainAsync(DeleteDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteDomainRequest Container for the necessary parameters to
+     *           execute the DeleteDomain operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the DeleteDomain
+     *         service method, as returned by AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DeleteDomainResult> deleteDomainComposableAsync(final DeleteDomainRequest deleteDomainRequest) {
+        return executeAsync(executorService, new Callable<DeleteDomainResult>() {
             public DeleteDomainResult call() throws Exception {
-              DeleteDomainResult result;
-                try {
-                result = deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, result);
-                 return result;
-        }
-    });
+                return deleteDomain(deleteDomainRequest);
+            }
+        }, deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(), new DeleteDomainResultStaxUnmarshaller());
     }
     
     /**
@@ -2052,11 +2202,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeExpressionsResult> describeExpressionsAsync(final DescribeExpressionsRequest describeExpressionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExpressionsResult>() {
-            public DescribeExpressionsResult call() throws Exception {
-                return describeExpressions(describeExpressionsRequest);
-        }
-    });
+        return describeExpressionsComposableAsync(describeExpressionsRequest);
     }
 
     /**
@@ -2095,19 +2241,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeExpressionsRequest describeExpressionsRequest,
             final AsyncHandler<DescribeExpressionsRequest, DescribeExpressionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExpressionsResult>() {
+        return withAsyncHandler(describeExpressionsComposableAsync(describeExpressionsRequest),
+                describeExpressionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeExpressions operation like
+     * {@link #describeExpressionsAsync(DescribeExpressionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeExpressionsRequest Container for the necessary
+     *           parameters to execute the DescribeExpressions operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeExpressions service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeExpressionsResult> describeExpressionsComposableAsync(final DescribeExpressionsRequest describeExpressionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeExpressionsResult>() {
             public DescribeExpressionsResult call() throws Exception {
-              DescribeExpressionsResult result;
-                try {
-                result = describeExpressions(describeExpressionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExpressionsRequest, result);
-                 return result;
-        }
-    });
+                return describeExpressions(describeExpressionsRequest);
+            }
+        }, describeExpressionsRequest,
+                new DescribeExpressionsRequestMarshaller(), new DescribeExpressionsResultStaxUnmarshaller());
     }
     
     /**
@@ -2139,11 +2297,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDomainsResult> describeDomainsAsync(final DescribeDomainsRequest describeDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
-            public DescribeDomainsResult call() throws Exception {
-                return describeDomains(describeDomainsRequest);
-        }
-    });
+        return describeDomainsComposableAsync(describeDomainsRequest);
     }
 
     /**
@@ -2181,19 +2335,29 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDomainsRequest describeDomainsRequest,
             final AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
+        return withAsyncHandler(describeDomainsComposableAsync(describeDomainsRequest),
+                describeDomainsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDomains operation like
+     * {@link #describeDomainsAsync(DescribeDomainsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeDomainsRequest Container for the necessary parameters
+     *           to execute the DescribeDomains operation on AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDomains service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeDomainsResult> describeDomainsComposableAsync(final DescribeDomainsRequest describeDomainsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDomainsResult>() {
             public DescribeDomainsResult call() throws Exception {
-              DescribeDomainsResult result;
-                try {
-                result = describeDomains(describeDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDomainsRequest, result);
-                 return result;
-        }
-    });
+                return describeDomains(describeDomainsRequest);
+            }
+        }, describeDomainsRequest,
+                new DescribeDomainsRequestMarshaller(), new DescribeDomainsResultStaxUnmarshaller());
     }
     
     /**
@@ -2224,11 +2388,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeScalingParametersResult> describeScalingParametersAsync(final DescribeScalingParametersRequest describeScalingParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingParametersResult>() {
-            public DescribeScalingParametersResult call() throws Exception {
-                return describeScalingParameters(describeScalingParametersRequest);
-        }
-    });
+        return describeScalingParametersComposableAsync(describeScalingParametersRequest);
     }
 
     /**
@@ -2265,19 +2425,31 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeScalingParametersRequest describeScalingParametersRequest,
             final AsyncHandler<DescribeScalingParametersRequest, DescribeScalingParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingParametersResult>() {
+        return withAsyncHandler(describeScalingParametersComposableAsync(describeScalingParametersRequest),
+                describeScalingParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeScalingParameters operation like
+     * {@link #describeScalingParametersAsync(DescribeScalingParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeScalingParametersRequest Container for the necessary
+     *           parameters to execute the DescribeScalingParameters operation on
+     *           AmazonCloudSearchv2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeScalingParameters service method, as returned by
+     *         AmazonCloudSearchv2.
+     */
+    public ComposableFuture<DescribeScalingParametersResult> describeScalingParametersComposableAsync(final DescribeScalingParametersRequest describeScalingParametersRequest) {
+        return executeAsync(executorService, new Callable<DescribeScalingParametersResult>() {
             public DescribeScalingParametersResult call() throws Exception {
-              DescribeScalingParametersResult result;
-                try {
-                result = describeScalingParameters(describeScalingParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScalingParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeScalingParameters(describeScalingParametersRequest);
+            }
+        }, describeScalingParametersRequest,
+                new DescribeScalingParametersRequestMarshaller(), new DescribeScalingParametersResultStaxUnmarshaller());
     }
     
 }
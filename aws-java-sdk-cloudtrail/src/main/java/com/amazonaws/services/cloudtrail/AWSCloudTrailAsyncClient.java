@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudtrail.model.*;
+import com.amazonaws.services.cloudtrail.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSCloudTrail.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS CloudTrail <p>
  * This is the CloudTrail API Reference. It provides descriptions of
  * actions, data types, common parameters, and common errors for
@@ -317,11 +321,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<GetTrailStatusResult> getTrailStatusAsync(final GetTrailStatusRequest getTrailStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTrailStatusResult>() {
-            public GetTrailStatusResult call() throws Exception {
-                return getTrailStatus(getTrailStatusRequest);
-        }
-    });
+        return getTrailStatusComposableAsync(getTrailStatusRequest);
     }
 
     /**
@@ -354,19 +354,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final GetTrailStatusRequest getTrailStatusRequest,
             final AsyncHandler<GetTrailStatusRequest, GetTrailStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTrailStatusResult>() {
+        return withAsyncHandler(getTrailStatusComposableAsync(getTrailStatusRequest),
+                getTrailStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetTrailStatus operation like
+     * {@link #getTrailStatusAsync(GetTrailStatusRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getTrailStatusRequest Container for the necessary parameters to
+     *           execute the GetTrailStatus operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the GetTrailStatus
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<GetTrailStatusResult> getTrailStatusComposableAsync(final GetTrailStatusRequest getTrailStatusRequest) {
+        return executeAsync(executorService, new Callable<GetTrailStatusResult>() {
             public GetTrailStatusResult call() throws Exception {
-              GetTrailStatusResult result;
-                try {
-                result = getTrailStatus(getTrailStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getTrailStatusRequest, result);
-                 return result;
-        }
-    });
+                return getTrailStatus(getTrailStatusRequest);
+            }
+        }, getTrailStatusRequest,
+                new GetTrailStatusRequestMarshaller(), new GetTrailStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -391,11 +400,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<DeleteTrailResult> deleteTrailAsync(final DeleteTrailRequest deleteTrailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTrailResult>() {
-            public DeleteTrailResult call() throws Exception {
-                return deleteTrail(deleteTrailRequest);
-        }
-    });
+        return deleteTrailComposableAsync(deleteTrailRequest);
     }
 
     /**
@@ -426,19 +431,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final DeleteTrailRequest deleteTrailRequest,
             final AsyncHandler<DeleteTrailRequest, DeleteTrailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTrailResult>() {
+        return withAsyncHandler(deleteTrailComposableAsync(deleteTrailRequest),
+                deleteTrailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTrail operation like
+     * {@link #deleteTrailAsync(DeleteTrailRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTrailRequest Container for the necessary parameters to
+     *           execute the DeleteTrail operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the DeleteTrail
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<DeleteTrailResult> deleteTrailComposableAsync(final DeleteTrailRequest deleteTrailRequest) {
+        return executeAsync(executorService, new Callable<DeleteTrailResult>() {
             public DeleteTrailResult call() throws Exception {
-              DeleteTrailResult result;
-                try {
-                result = deleteTrail(deleteTrailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTrailRequest, result);
-                 return result;
-        }
-    });
+                return deleteTrail(deleteTrailRequest);
+            }
+        }, deleteTrailRequest,
+                new DeleteTrailRequestMarshaller(), new DeleteTrailResultJsonUnmarshaller());
     }
     
     /**
@@ -467,11 +481,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<CreateTrailResult> createTrailAsync(final CreateTrailRequest createTrailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTrailResult>() {
-            public CreateTrailResult call() throws Exception {
-                return createTrail(createTrailRequest);
-        }
-    });
+        return createTrailComposableAsync(createTrailRequest);
     }
 
     /**
@@ -506,19 +516,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final CreateTrailRequest createTrailRequest,
             final AsyncHandler<CreateTrailRequest, CreateTrailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTrailResult>() {
+        return withAsyncHandler(createTrailComposableAsync(createTrailRequest),
+                createTrailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTrail operation like
+     * {@link #createTrailAsync(CreateTrailRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTrailRequest Container for the necessary parameters to
+     *           execute the CreateTrail operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the CreateTrail
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<CreateTrailResult> createTrailComposableAsync(final CreateTrailRequest createTrailRequest) {
+        return executeAsync(executorService, new Callable<CreateTrailResult>() {
             public CreateTrailResult call() throws Exception {
-              CreateTrailResult result;
-                try {
-                result = createTrail(createTrailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTrailRequest, result);
-                 return result;
-        }
-    });
+                return createTrail(createTrailRequest);
+            }
+        }, createTrailRequest,
+                new CreateTrailRequestMarshaller(), new CreateTrailResultJsonUnmarshaller());
     }
     
     /**
@@ -550,11 +569,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<UpdateTrailResult> updateTrailAsync(final UpdateTrailRequest updateTrailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTrailResult>() {
-            public UpdateTrailResult call() throws Exception {
-                return updateTrail(updateTrailRequest);
-        }
-    });
+        return updateTrailComposableAsync(updateTrailRequest);
     }
 
     /**
@@ -592,19 +607,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final UpdateTrailRequest updateTrailRequest,
             final AsyncHandler<UpdateTrailRequest, UpdateTrailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTrailResult>() {
+        return withAsyncHandler(updateTrailComposableAsync(updateTrailRequest),
+                updateTrailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateTrail operation like
+     * {@link #updateTrailAsync(UpdateTrailRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateTrailRequest Container for the necessary parameters to
+     *           execute the UpdateTrail operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the UpdateTrail
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<UpdateTrailResult> updateTrailComposableAsync(final UpdateTrailRequest updateTrailRequest) {
+        return executeAsync(executorService, new Callable<UpdateTrailResult>() {
             public UpdateTrailResult call() throws Exception {
-              UpdateTrailResult result;
-                try {
-                result = updateTrail(updateTrailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateTrailRequest, result);
-                 return result;
-        }
-    });
+                return updateTrail(updateTrailRequest);
+            }
+        }, updateTrailRequest,
+                new UpdateTrailRequestMarshaller(), new UpdateTrailResultJsonUnmarshaller());
     }
     
     /**
@@ -630,11 +654,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<DescribeTrailsResult> describeTrailsAsync(final DescribeTrailsRequest describeTrailsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrailsResult>() {
-            public DescribeTrailsResult call() throws Exception {
-                return describeTrails(describeTrailsRequest);
-        }
-    });
+        return describeTrailsComposableAsync(describeTrailsRequest);
     }
 
     /**
@@ -666,19 +686,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final DescribeTrailsRequest describeTrailsRequest,
             final AsyncHandler<DescribeTrailsRequest, DescribeTrailsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrailsResult>() {
+        return withAsyncHandler(describeTrailsComposableAsync(describeTrailsRequest),
+                describeTrailsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTrails operation like
+     * {@link #describeTrailsAsync(DescribeTrailsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeTrailsRequest Container for the necessary parameters to
+     *           execute the DescribeTrails operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the DescribeTrails
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<DescribeTrailsResult> describeTrailsComposableAsync(final DescribeTrailsRequest describeTrailsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTrailsResult>() {
             public DescribeTrailsResult call() throws Exception {
-              DescribeTrailsResult result;
-                try {
-                result = describeTrails(describeTrailsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTrailsRequest, result);
-                 return result;
-        }
-    });
+                return describeTrails(describeTrailsRequest);
+            }
+        }, describeTrailsRequest,
+                new DescribeTrailsRequestMarshaller(), new DescribeTrailsResultJsonUnmarshaller());
     }
     
     /**
@@ -706,11 +735,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<StopLoggingResult> stopLoggingAsync(final StopLoggingRequest stopLoggingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopLoggingResult>() {
-            public StopLoggingResult call() throws Exception {
-                return stopLogging(stopLoggingRequest);
-        }
-    });
+        return stopLoggingComposableAsync(stopLoggingRequest);
     }
 
     /**
@@ -744,19 +769,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final StopLoggingRequest stopLoggingRequest,
             final AsyncHandler<StopLoggingRequest, StopLoggingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopLoggingResult>() {
+        return withAsyncHandler(stopLoggingComposableAsync(stopLoggingRequest),
+                stopLoggingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopLogging operation like
+     * {@link #stopLoggingAsync(StopLoggingRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param stopLoggingRequest Container for the necessary parameters to
+     *           execute the StopLogging operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the StopLogging
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<StopLoggingResult> stopLoggingComposableAsync(final StopLoggingRequest stopLoggingRequest) {
+        return executeAsync(executorService, new Callable<StopLoggingResult>() {
             public StopLoggingResult call() throws Exception {
-              StopLoggingResult result;
-                try {
-                result = stopLogging(stopLoggingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopLoggingRequest, result);
-                 return result;
-        }
-    });
+                return stopLogging(stopLoggingRequest);
+            }
+        }, stopLoggingRequest,
+                new StopLoggingRequestMarshaller(), new StopLoggingResultJsonUnmarshaller());
     }
     
     /**
@@ -782,11 +816,7 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
      */
     public Future<StartLoggingResult> startLoggingAsync(final StartLoggingRequest startLoggingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartLoggingResult>() {
-            public StartLoggingResult call() throws Exception {
-                return startLogging(startLoggingRequest);
-        }
-    });
+        return startLoggingComposableAsync(startLoggingRequest);
     }
 
     /**
@@ -818,19 +848,28 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient
             final StartLoggingRequest startLoggingRequest,
             final AsyncHandler<StartLoggingRequest, StartLoggingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartLoggingResult>() {
+        return withAsyncHandler(startLoggingComposableAsync(startLoggingRequest),
+                startLoggingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartLogging operation like
+     * {@link #startLoggingAsync(StartLoggingRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param startLoggingRequest Container for the necessary parameters to
+     *           execute the StartLogging operation on AWSCloudTrail.
+     *
+     * @return A composable future for the response from the StartLogging
+     *         service method, as returned by AWSCloudTrail.
+     */
+    public ComposableFuture<StartLoggingResult> startLoggingComposableAsync(final StartLoggingRequest startLoggingRequest) {
+        return executeAsync(executorService, new Callable<StartLoggingResult>() {
             public StartLoggingResult call() throws Exception {
-              StartLoggingResult result;
-                try {
-                result = startLogging(startLoggingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startLoggingRequest, result);
-                 return result;
-        }
-    });
+                return startLogging(startLoggingRequest);
+            }
+        }, startLoggingRequest,
+                new StartLoggingRequestMarshaller(), new StartLoggingResultJsonUnmarshaller());
     }
     
 }
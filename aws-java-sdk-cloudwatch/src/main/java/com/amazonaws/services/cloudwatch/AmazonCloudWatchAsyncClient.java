@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCloudWatch.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon CloudWatch <p>
  * This is the <i>Amazon CloudWatch API Reference</i> . This guide
  * provides detailed information about Amazon CloudWatch actions, data
@@ -343,12 +347,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-        }
-    });
+        return putMetricAlarmComposableAsync(putMetricAlarmRequest);
     }
 
     /**
@@ -391,18 +390,29 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putMetricAlarmComposableAsync(putMetricAlarmRequest),
+                putMetricAlarmRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutMetricAlarm operation like
+     * {@link #putMetricAlarmAsync(PutMetricAlarmRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putMetricAlarmRequest Container for the necessary parameters to
+     *           execute the PutMetricAlarm operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the PutMetricAlarm
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> putMetricAlarmComposableAsync(final PutMetricAlarmRequest putMetricAlarmRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putMetricAlarm(putMetricAlarmRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putMetricAlarmRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putMetricAlarmRequest,
+                new PutMetricAlarmRequestMarshaller(), null);
     }
     
     /**
@@ -445,12 +455,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-        }
-    });
+        return putMetricDataComposableAsync(putMetricDataRequest);
     }
 
     /**
@@ -499,18 +504,29 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putMetricDataComposableAsync(putMetricDataRequest),
+                putMetricDataRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutMetricData operation like
+     * {@link #putMetricDataAsync(PutMetricDataRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putMetricDataRequest Container for the necessary parameters to
+     *           execute the PutMetricData operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the PutMetricData
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> putMetricDataComposableAsync(final PutMetricDataRequest putMetricDataRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putMetricData(putMetricDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putMetricDataRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putMetricDataRequest,
+                new PutMetricDataRequestMarshaller(), null);
     }
     
     /**
@@ -547,11 +563,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-        }
-    });
+        return listMetricsComposableAsync(listMetricsRequest);
     }
 
     /**
@@ -594,19 +606,28 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
+        return withAsyncHandler(listMetricsComposableAsync(listMetricsRequest),
+                listMetricsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListMetrics operation like
+     * {@link #listMetricsAsync(ListMetricsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listMetricsRequest Container for the necessary parameters to
+     *           execute the ListMetrics operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the ListMetrics
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<ListMetricsResult> listMetricsComposableAsync(final ListMetricsRequest listMetricsRequest) {
+        return executeAsync(executorService, new Callable<ListMetricsResult>() {
             public ListMetricsResult call() throws Exception {
-              ListMetricsResult result;
-                try {
-                result = listMetrics(listMetricsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listMetricsRequest, result);
-                 return result;
-        }
-    });
+                return listMetrics(listMetricsRequest);
+            }
+        }, listMetricsRequest,
+                new ListMetricsRequestMarshaller(), new ListMetricsResultStaxUnmarshaller());
     }
     
     /**
@@ -665,11 +686,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(final GetMetricStatisticsRequest getMetricStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-        }
-    });
+        return getMetricStatisticsComposableAsync(getMetricStatisticsRequest);
     }
 
     /**
@@ -734,19 +751,31 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
+        return withAsyncHandler(getMetricStatisticsComposableAsync(getMetricStatisticsRequest),
+                getMetricStatisticsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetMetricStatistics operation like
+     * {@link #getMetricStatisticsAsync(GetMetricStatisticsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getMetricStatisticsRequest Container for the necessary
+     *           parameters to execute the GetMetricStatistics operation on
+     *           AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the
+     *         GetMetricStatistics service method, as returned by
+     *         AmazonCloudWatch.
+     */
+    public ComposableFuture<GetMetricStatisticsResult> getMetricStatisticsComposableAsync(final GetMetricStatisticsRequest getMetricStatisticsRequest) {
+        return executeAsync(executorService, new Callable<GetMetricStatisticsResult>() {
             public GetMetricStatisticsResult call() throws Exception {
-              GetMetricStatisticsResult result;
-                try {
-                result = getMetricStatistics(getMetricStatisticsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getMetricStatisticsRequest, result);
-                 return result;
-        }
-    });
+                return getMetricStatistics(getMetricStatisticsRequest);
+            }
+        }, getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(), new GetMetricStatisticsResultStaxUnmarshaller());
     }
     
     /**
@@ -774,12 +803,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> disableAlarmActionsAsync(final DisableAlarmActionsRequest disableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-        }
-    });
+        return disableAlarmActionsComposableAsync(disableAlarmActionsRequest);
     }
 
     /**
@@ -813,18 +837,32 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disableAlarmActionsComposableAsync(disableAlarmActionsRequest),
+                disableAlarmActionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableAlarmActions operation like
+     * {@link #disableAlarmActionsAsync(DisableAlarmActionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableAlarmActionsRequest Container for the necessary
+     *           parameters to execute the DisableAlarmActions operation on
+     *           AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the
+     *         DisableAlarmActions service method, as returned by
+     *         AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> disableAlarmActionsComposableAsync(final DisableAlarmActionsRequest disableAlarmActionsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disableAlarmActions(disableAlarmActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableAlarmActionsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(), null);
     }
     
     /**
@@ -852,11 +890,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsResult> describeAlarmsAsync(final DescribeAlarmsRequest describeAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-        }
-    });
+        return describeAlarmsComposableAsync(describeAlarmsRequest);
     }
 
     /**
@@ -890,19 +924,28 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
+        return withAsyncHandler(describeAlarmsComposableAsync(describeAlarmsRequest),
+                describeAlarmsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAlarms operation like
+     * {@link #describeAlarmsAsync(DescribeAlarmsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeAlarmsRequest Container for the necessary parameters to
+     *           execute the DescribeAlarms operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the DescribeAlarms
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<DescribeAlarmsResult> describeAlarmsComposableAsync(final DescribeAlarmsRequest describeAlarmsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAlarmsResult>() {
             public DescribeAlarmsResult call() throws Exception {
-              DescribeAlarmsResult result;
-                try {
-                result = describeAlarms(describeAlarmsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmsRequest, result);
-                 return result;
-        }
-    });
+                return describeAlarms(describeAlarmsRequest);
+            }
+        }, describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(), new DescribeAlarmsResultStaxUnmarshaller());
     }
     
     /**
@@ -930,11 +973,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-        }
-    });
+        return describeAlarmsForMetricComposableAsync(describeAlarmsForMetricRequest);
     }
 
     /**
@@ -968,19 +1007,31 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
+        return withAsyncHandler(describeAlarmsForMetricComposableAsync(describeAlarmsForMetricRequest),
+                describeAlarmsForMetricRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAlarmsForMetric operation like
+     * {@link #describeAlarmsForMetricAsync(DescribeAlarmsForMetricRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAlarmsForMetricRequest Container for the necessary
+     *           parameters to execute the DescribeAlarmsForMetric operation on
+     *           AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAlarmsForMetric service method, as returned by
+     *         AmazonCloudWatch.
+     */
+    public ComposableFuture<DescribeAlarmsForMetricResult> describeAlarmsForMetricComposableAsync(final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) {
+        return executeAsync(executorService, new Callable<DescribeAlarmsForMetricResult>() {
             public DescribeAlarmsForMetricResult call() throws Exception {
-              DescribeAlarmsForMetricResult result;
-                try {
-                result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
-                 return result;
-        }
-    });
+                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
+            }
+        }, describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(), new DescribeAlarmsForMetricResultStaxUnmarshaller());
     }
     
     /**
@@ -1012,11 +1063,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(final DescribeAlarmHistoryRequest describeAlarmHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-        }
-    });
+        return describeAlarmHistoryComposableAsync(describeAlarmHistoryRequest);
     }
 
     /**
@@ -1054,19 +1101,31 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
+        return withAsyncHandler(describeAlarmHistoryComposableAsync(describeAlarmHistoryRequest),
+                describeAlarmHistoryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAlarmHistory operation like
+     * {@link #describeAlarmHistoryAsync(DescribeAlarmHistoryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAlarmHistoryRequest Container for the necessary
+     *           parameters to execute the DescribeAlarmHistory operation on
+     *           AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAlarmHistory service method, as returned by
+     *         AmazonCloudWatch.
+     */
+    public ComposableFuture<DescribeAlarmHistoryResult> describeAlarmHistoryComposableAsync(final DescribeAlarmHistoryRequest describeAlarmHistoryRequest) {
+        return executeAsync(executorService, new Callable<DescribeAlarmHistoryResult>() {
             public DescribeAlarmHistoryResult call() throws Exception {
-              DescribeAlarmHistoryResult result;
-                try {
-                result = describeAlarmHistory(describeAlarmHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
-                 return result;
-        }
-    });
+                return describeAlarmHistory(describeAlarmHistoryRequest);
+            }
+        }, describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(), new DescribeAlarmHistoryResultStaxUnmarshaller());
     }
     
     /**
@@ -1092,12 +1151,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> enableAlarmActionsAsync(final EnableAlarmActionsRequest enableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-        }
-    });
+        return enableAlarmActionsComposableAsync(enableAlarmActionsRequest);
     }
 
     /**
@@ -1129,18 +1183,32 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableAlarmActionsComposableAsync(enableAlarmActionsRequest),
+                enableAlarmActionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableAlarmActions operation like
+     * {@link #enableAlarmActionsAsync(EnableAlarmActionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableAlarmActionsRequest Container for the necessary
+     *           parameters to execute the EnableAlarmActions operation on
+     *           AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the
+     *         EnableAlarmActions service method, as returned by
+     *         AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> enableAlarmActionsComposableAsync(final EnableAlarmActionsRequest enableAlarmActionsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableAlarmActions(enableAlarmActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableAlarmActionsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(), null);
     }
     
     /**
@@ -1166,12 +1234,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-        }
-    });
+        return deleteAlarmsComposableAsync(deleteAlarmsRequest);
     }
 
     /**
@@ -1203,18 +1266,29 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAlarmsComposableAsync(deleteAlarmsRequest),
+                deleteAlarmsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAlarms operation like
+     * {@link #deleteAlarmsAsync(DeleteAlarmsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteAlarmsRequest Container for the necessary parameters to
+     *           execute the DeleteAlarms operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the DeleteAlarms
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> deleteAlarmsComposableAsync(final DeleteAlarmsRequest deleteAlarmsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAlarms(deleteAlarmsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAlarmsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAlarmsRequest,
+                new DeleteAlarmsRequestMarshaller(), null);
     }
     
     /**
@@ -1243,12 +1317,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-        }
-    });
+        return setAlarmStateComposableAsync(setAlarmStateRequest);
     }
 
     /**
@@ -1283,18 +1352,29 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setAlarmStateComposableAsync(setAlarmStateRequest),
+                setAlarmStateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetAlarmState operation like
+     * {@link #setAlarmStateAsync(SetAlarmStateRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param setAlarmStateRequest Container for the necessary parameters to
+     *           execute the SetAlarmState operation on AmazonCloudWatch.
+     *
+     * @return A composable future for the response from the SetAlarmState
+     *         service method, as returned by AmazonCloudWatch.
+     */
+    public ComposableFuture<Void> setAlarmStateComposableAsync(final SetAlarmStateRequest setAlarmStateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setAlarmState(setAlarmStateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setAlarmStateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setAlarmStateRequest,
+                new SetAlarmStateRequestMarshaller(), null);
     }
     
 }
@@ -19,6 +19,7 @@ import static com.amazonaws.metrics.internal.cloudwatch.CloudWatchMetricConfig.N
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +34,6 @@ import com.amazonaws.services.cloudwatch.model.MetricDatum;
 import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
 import com.amazonaws.services.cloudwatch.model.StatisticSet;
 import com.amazonaws.util.AwsHostNameUtils;
-import com.amazonaws.util.json.Jackson;
 
 /**
  * An internal builder used to retrieve the next batch of requests to be sent to
@@ -42,9 +42,16 @@ import com.amazonaws.util.json.Jackson;
  */
 class BlockingRequestBuilder {
     private static final String OS_METRIC_NAME = MachineMetric.getOSMetricName();
+    /**
+     * Maximum number of metric data taken from the queue at once, so the queue
+     * lock is taken once per batch rather than once per datum.
+     */
+    private static final int DRAIN_BATCH_SIZE = 1024;
     private final MachineMetricFactory machineMetricFactory = new MachineMetricFactory();
     private final BlockingQueue<MetricDatum> queue;
     private final long timeoutNano;
+    private final List<MetricDatum> drained = new ArrayList<MetricDatum>();
+    private final StringBuilder keyBuilder = new StringBuilder();
 
     BlockingRequestBuilder(CloudWatchMetricConfig config, BlockingQueue<MetricDatum> queue) {
         this.queue = queue;
@@ -60,6 +67,15 @@ class BlockingRequestBuilder {
      * milliseconds.
      */
     Iterable<PutMetricDataRequest> nextUploadUnits() throws InterruptedException {
+        return nextUploadUnits(true);
+    }
+
+    /**
+     * Same as {@link #nextUploadUnits()}, except that if <code>idle</code> is
+     * false this call never blocks indefinitely, for the caller has work
+     * pending, such as failed uploads to be attempted again.
+     */
+    Iterable<PutMetricDataRequest> nextUploadUnits(boolean idle) throws InterruptedException {
         final Map<String,MetricDatum> uniqueMetrics = new HashMap<String,MetricDatum>();
         long startNano = System.nanoTime();
         
@@ -76,6 +92,9 @@ class BlockingRequestBuilder {
                     return toPutMetricDataRequests(uniqueMetrics);
                 }
                 // zero AWS related metrics
+                if (!idle) {
+                    return Collections.emptyList();
+                }
                 if (AwsSdkMetrics.isMachineMetricExcluded()) {
                     // Short note: nothing to do, so just wait indefinitely.
                     // (Long note: There exists a pedagogical case where the
@@ -95,8 +114,14 @@ class BlockingRequestBuilder {
             }
             // Note at this point datum is null if and only if there is no
             // pending AWS related metrics but machine metrics is enabled
-            if (datum != null)
+            if (datum != null) {
                 summarize(datum, uniqueMetrics);
+                queue.drainTo(drained, DRAIN_BATCH_SIZE);
+                for (MetricDatum d: drained) {
+                    summarize(d, uniqueMetrics);
+                }
+                drained.clear();
+            }
         }
     }
 
@@ -111,7 +136,7 @@ class BlockingRequestBuilder {
         List<Dimension> dims = datum.getDimensions();
         Collections.sort(dims, DimensionComparator.INSTANCE);
         String metricName = datum.getMetricName();
-        String key = metricName + Jackson.toJsonString(dims);
+        String key = uniqueKey(metricName, dims);
         MetricDatum statDatum = uniqueMetrics.get(key);
         if (statDatum == null) {
             statDatum = new MetricDatum()
@@ -135,6 +160,20 @@ class BlockingRequestBuilder {
             stat.setMinimum(value);
         }
     }
+    /**
+     * Returns the key of the unique metric of the given name and sorted
+     * dimensions.
+     */
+    private String uniqueKey(String metricName, List<Dimension> dims) {
+        StringBuilder sb = keyBuilder;
+        sb.setLength(0);
+        sb.append(metricName);
+        for (Dimension dim: dims) {
+            sb.append('\0').append(dim.getName()).append('\0').append(dim.getValue());
+        }
+        return sb.toString();
+    }
+
     /**
      * Consolidates the input metrics into a list of PutMetricDataRequest, each
      * within the maximum size limit imposed by CloudWatch.
@@ -147,7 +186,11 @@ class BlockingRequestBuilder {
         }
         List<PutMetricDataRequest> list = new ArrayList<PutMetricDataRequest>();
         List<MetricDatum> data = new ArrayList<MetricDatum>();
+        // Timestamped so that uploads attempted later still count for this
+        // period
+        Date timestamp = new Date();
         for (MetricDatum m: uniqueMetrics.values()) {
+            m.setTimestamp(timestamp);
             data.add(m);
             if (data.size() == CloudWatchMetricConfig.MAX_METRICS_DATUM_SIZE) {
                 list.addAll(newPutMetricDataRequests(data));
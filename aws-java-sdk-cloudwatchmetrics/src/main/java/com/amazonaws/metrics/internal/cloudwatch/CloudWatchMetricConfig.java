@@ -13,6 +13,7 @@
  */
 package com.amazonaws.metrics.internal.cloudwatch;
 
+import java.io.File;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.http.annotation.NotThreadSafe;
@@ -75,6 +76,18 @@ public class CloudWatchMetricConfig {
      * which is the finest granularity of Amazon CloudWatch. 
      */
     public static final int DEFAULT_QUEUE_POLL_TIMEOUT_MILLI = (int)TimeUnit.MINUTES.toMillis(1);
+    /**
+     * Default maximum number of requests uploaded to Amazon CloudWatch
+     * concurrently.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_UPLOADS = 4;
+    /**
+     * Default maximum number of times the upload of a request is attempted,
+     * once per queue polling period, before it is spilled or dropped.
+     */
+    public static final int DEFAULT_MAX_UPLOAD_ATTEMPTS = 3;
+    /** Default maximum size of the spill file in bytes: 16 MB. */
+    public static final long DEFAULT_MAX_SPILL_BYTES = 16L * 1024 * 1024;
 
     /** Credentials for the uploader to communicate with Amazon CloudWatch */
     private AWSCredentialsProvider credentialsProvider;
@@ -93,6 +106,18 @@ public class CloudWatchMetricConfig {
     
     private int metricQueueSize = DEFAULT_METRICS_QSIZE;
 
+    private int maxConcurrentUploads = DEFAULT_MAX_CONCURRENT_UPLOADS;
+
+    private int maxUploadAttempts = DEFAULT_MAX_UPLOAD_ATTEMPTS;
+
+    /**
+     * Directory of the file where the metric data that couldn't be uploaded
+     * is spilled; or null if such data is to be dropped.
+     */
+    private File spillDirectory;
+
+    private long maxSpillBytes = DEFAULT_MAX_SPILL_BYTES;
+
     /**
      * Returns the credential provider that holds the credentials to connect to
      * Amazon CloudWatch.
@@ -174,4 +199,98 @@ public class CloudWatchMetricConfig {
         setMetricQueueSize(metricQueueSize);
         return this;
     }
+
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Configure the maximum number of requests uploaded to Amazon CloudWatch
+     * concurrently, overriding the default. Must be at least 1.
+     *
+     * @see #DEFAULT_MAX_CONCURRENT_UPLOADS
+     */
+    public void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        if (maxConcurrentUploads < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    public CloudWatchMetricConfig withMaxConcurrentUploads(int maxConcurrentUploads) {
+        setMaxConcurrentUploads(maxConcurrentUploads);
+        return this;
+    }
+
+    public int getMaxUploadAttempts() {
+        return maxUploadAttempts;
+    }
+
+    /**
+     * Configure the maximum number of times the upload of a request is
+     * attempted before the request is spilled, or dropped if there is no
+     * spill directory, overriding the default. A failed upload is attempted
+     * again after the next queue polling timeout. Each attempt is itself
+     * retried as per the retry policy of the Amazon CloudWatch client. Must be
+     * at least 1.
+     *
+     * @see #DEFAULT_MAX_UPLOAD_ATTEMPTS
+     */
+    public void setMaxUploadAttempts(int maxUploadAttempts) {
+        if (maxUploadAttempts < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxUploadAttempts = maxUploadAttempts;
+    }
+
+    public CloudWatchMetricConfig withMaxUploadAttempts(int maxUploadAttempts) {
+        setMaxUploadAttempts(maxUploadAttempts);
+        return this;
+    }
+
+    /**
+     * Returns the directory of the file where the metric data that couldn't
+     * be uploaded is spilled; or null if such data is dropped.
+     */
+    public File getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Sets the directory of the file where the metric data is spilled if it
+     * can't be uploaded, because Amazon CloudWatch is unavailable or the
+     * uploads can't keep up. Spilled data is uploaded once uploads succeed
+     * again, including after a restart. If null, the default, such data is
+     * dropped.
+     */
+    public void setSpillDirectory(File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    public CloudWatchMetricConfig withSpillDirectory(File spillDirectory) {
+        setSpillDirectory(spillDirectory);
+        return this;
+    }
+
+    public long getMaxSpillBytes() {
+        return maxSpillBytes;
+    }
+
+    /**
+     * Configure the maximum size of the spill file in bytes, overriding the
+     * default. Metric data that doesn't fit is dropped. Must be at least 1.
+     *
+     * @see #DEFAULT_MAX_SPILL_BYTES
+     */
+    public void setMaxSpillBytes(long maxSpillBytes) {
+        if (maxSpillBytes < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxSpillBytes = maxSpillBytes;
+    }
+
+    public CloudWatchMetricConfig withMaxSpillBytes(long maxSpillBytes) {
+        setMaxSpillBytes(maxSpillBytes);
+        return this;
+    }
 }
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.metrics.internal.cloudwatch;
 
+import java.io.File;
+
 import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.metrics.AwsSdkMetrics;
@@ -38,6 +40,10 @@ public class DefaultMetricCollectorFactory
         Regions region = AwsSdkMetrics.getRegion();
         Integer qSize = AwsSdkMetrics.getMetricQueueSize();
         Long timeoutMilli = AwsSdkMetrics.getQueuePollTimeoutMilli();
+        String spillDirectory = AwsSdkMetrics.getSpillDirectory();
+        Long maxSpillBytes = AwsSdkMetrics.getMaxSpillBytes();
+        Integer maxConcurrentUploads = AwsSdkMetrics.getMaxConcurrentUploads();
+        Integer maxUploadAttempts = AwsSdkMetrics.getMaxUploadAttempts();
         CloudWatchMetricConfig config = new CloudWatchMetricConfig();
         if (provider != null)
             config.setCredentialsProvider(provider);
@@ -49,6 +55,14 @@ public class DefaultMetricCollectorFactory
             config.setMetricQueueSize(qSize.intValue());
         if (timeoutMilli != null)
             config.setQueuePollTimeoutMilli(timeoutMilli.longValue());
+        if (spillDirectory != null && spillDirectory.trim().length() > 0)
+            config.setSpillDirectory(new File(spillDirectory.trim()));
+        if (maxSpillBytes != null)
+            config.setMaxSpillBytes(maxSpillBytes.longValue());
+        if (maxConcurrentUploads != null)
+            config.setMaxConcurrentUploads(maxConcurrentUploads.intValue());
+        if (maxUploadAttempts != null)
+            config.setMaxUploadAttempts(maxUploadAttempts.intValue());
         MetricCollectorSupport.startSingleton(config);
         return MetricCollectorSupport.getInstance();
     }
@@ -89,7 +89,7 @@ public class MetricCollectorSupport extends MetricCollector {
     private final BlockingQueue<MetricDatum> queue;
 //    private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
     private final CloudWatchMetricConfig config;
-    private MetricUploaderThread uploaderThread;
+    private volatile MetricUploaderThread uploaderThread;
 
     protected MetricCollectorSupport(CloudWatchMetricConfig config) {
         if (config == null) {
@@ -138,6 +138,30 @@ public class MetricCollectorSupport extends MetricCollector {
     public AmazonCloudWatchClient getCloudwatchClient() {
         return uploaderThread == null ? null : uploaderThread.getCloudwatchClient();
     }
+    /**
+     * Returns the number of metric data dropped so far, either because the
+     * metrics queue was full, or because the metric data could neither be
+     * uploaded to Amazon CloudWatch nor spilled.
+     */
+    @Override
+    public long getDroppedMetricCount() {
+        MetricUploaderThread uploader = uploaderThread;
+        return requestMetricCollector.getDroppedMetricCount()
+            + serviceMetricCollector.getDroppedMetricCount()
+            + (uploader == null ? 0 : uploader.getDroppedMetricCount());
+    }
+
+    /**
+     * Returns the time in millisecond between the summarizing and the upload
+     * to Amazon CloudWatch of the metric data last uploaded; or zero if none
+     * has been uploaded.
+     */
+    @Override
+    public long getUploadLagMilli() {
+        MetricUploaderThread uploader = uploaderThread;
+        return uploader == null ? 0 : uploader.getUploadLagMilli();
+    }
+
     /** Always returns true. */
     @Override public final boolean isEnabled() { return true; }
 
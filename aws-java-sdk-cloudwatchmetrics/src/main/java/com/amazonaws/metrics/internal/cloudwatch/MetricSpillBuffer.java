@@ -0,0 +1,366 @@
+/*
+ * Copyright 2011-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringWriter;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.json.Jackson;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * An internal file buffer of the requests that couldn't be uploaded to Amazon
+ * CloudWatch, so they can be uploaded later. Requests are appended to the file
+ * as lines of JSON, and read back in order; the file is truncated once all of
+ * them have been read. Requests that don't fit within the maximum size of the
+ * file are rejected.
+ * <p>
+ * The file starts with the offset of the first request not read yet, which is
+ * updated as requests are read so they aren't uploaded again after a restart.
+ * The file is kept open and locked until {@link #close()}, so that it is used
+ * by a single process; if another process holds the lock, nothing is spilled.
+ */
+class MetricSpillBuffer {
+    static final String FILE_NAME = "aws-java-sdk-metrics.spill";
+    /** The size of the read offset at the start of the file. */
+    private static final int HEADER_SIZE = 8;
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private final Log log = LogFactory.getLog(getClass());
+    private final File file;
+    private final long maxBytes;
+    /** The open file; or null if it couldn't be opened and locked yet. */
+    private RandomAccessFile raf;
+    private boolean closed;
+    private boolean lockWarned;
+    /** The length of the file. */
+    private long length;
+    /** The offset in the file of the first request not read yet. */
+    private long readOffset;
+
+    MetricSpillBuffer(File directory, long maxBytes) {
+        if (directory == null) {
+            throw new IllegalArgumentException();
+        }
+        this.file = new File(directory, FILE_NAME);
+        this.maxBytes = maxBytes;
+        // requests spilled before a restart are uploaded as well
+        open();
+    }
+
+    /**
+     * Appends the given request to the file, returning true if successful or
+     * false if the file is full or can't be written.
+     */
+    synchronized boolean spill(PutMetricDataRequest request) {
+        if (!open()) {
+            return false;
+        }
+        byte[] line;
+        try {
+            line = toLine(request);
+        } catch (IOException e) {
+            log.warn("Unable to serialize the metric data", e);
+            return false;
+        }
+        if (length - HEADER_SIZE + line.length > maxBytes) {
+            return false;
+        }
+        try {
+            raf.seek(length);
+            try {
+                raf.write(line);
+            } catch (IOException e) {
+                // drop the partial line, which the next request would
+                // otherwise be appended to
+                raf.setLength(length);
+                throw e;
+            }
+            length += line.length;
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to spill the metric data to " + file, e);
+            return false;
+        }
+    }
+
+    /** Returns true if there are no requests to be read. */
+    synchronized boolean isEmpty() {
+        return readOffset >= length;
+    }
+
+    /**
+     * Returns the next spilled request; or null if there is none.
+     */
+    synchronized PutMetricDataRequest poll() {
+        while (readOffset < length && open()) {
+            byte[] line;
+            try {
+                line = readLine();
+            } catch (IOException e) {
+                log.warn("Unable to read the spilled metric data from " + file
+                        + "; discarding it", e);
+                truncate();
+                return null;
+            }
+            try {
+                return fromLine(new String(line, StringUtils.UTF8));
+            } catch (RuntimeException e) {
+                log.debug("Skipping unreadable spilled metric data", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Releases the lock and closes the file; subsequent requests are neither
+     * spilled nor read.
+     */
+    synchronized void close() {
+        closed = true;
+        readOffset = length = 0;
+        if (raf != null) {
+            try {
+                raf.close(); // releases the lock as well
+            } catch (IOException e) {
+                log.debug("Unable to close " + file, e);
+            }
+            raf = null;
+        }
+    }
+
+    /**
+     * Opens and locks the file unless already done, returning true if
+     * successful or false otherwise.
+     */
+    private boolean open() {
+        if (raf != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        RandomAccessFile f = null;
+        try {
+            f = new RandomAccessFile(file, "rw");
+            FileLock lock;
+            try {
+                lock = f.getChannel().tryLock();
+            } catch (OverlappingFileLockException e) {
+                // still held by a previous buffer of this process
+                lock = null;
+            }
+            if (lock == null) {
+                if (!lockWarned) {
+                    log.warn(file + " is in use by another metric collector;"
+                            + " metric data won't be spilled");
+                    lockWarned = true;
+                }
+                readOffset = length = 0;
+                f.close();
+                return false;
+            }
+            length = f.length();
+            readOffset = length < HEADER_SIZE ? HEADER_SIZE : f.readLong();
+            if (readOffset < HEADER_SIZE || readOffset > length) {
+                log.debug("Ignoring invalid read offset " + readOffset + " of " + file);
+                readOffset = HEADER_SIZE;
+            }
+            length = lastLineEnd(f, readOffset, length);
+            if (length == readOffset) {
+                readOffset = length = HEADER_SIZE;
+            }
+            f.setLength(length);
+            f.seek(0);
+            f.writeLong(readOffset);
+            raf = f;
+            return true;
+        } catch (IOException e) {
+            log.warn("Unable to open " + file, e);
+            readOffset = length = 0;
+            if (f != null) {
+                try {
+                    f.close();
+                } catch (IOException ignore) {
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the offset following the last line break between the given
+     * offsets, so that a line partially written before a crash is dropped;
+     * or the given start offset if there is none.
+     */
+    private static long lastLineEnd(RandomAccessFile f, long start, long end)
+            throws IOException {
+        byte[] buf = new byte[READ_BUFFER_SIZE];
+        while (end > start) {
+            int n = (int) Math.min(buf.length, end - start);
+            f.seek(end - n);
+            f.readFully(buf, 0, n);
+            for (int i = n - 1; i >= 0; i--) {
+                if (buf[i] == '\n') {
+                    return end - n + i + 1;
+                }
+            }
+            end -= n;
+        }
+        return start;
+    }
+
+    /**
+     * Reads the line at the read offset, advancing the offset past it and
+     * truncating the file once fully read.
+     */
+    private byte[] readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        raf.seek(readOffset);
+        byte[] buf = new byte[READ_BUFFER_SIZE];
+        int n;
+        boolean eol = false;
+        while (!eol && (n = raf.read(buf)) > 0) {
+            int len = 0;
+            while (len < n && buf[len] != '\n') {
+                len++;
+            }
+            eol = len < n;
+            line.write(buf, 0, len);
+            readOffset += eol ? len + 1 : len;
+        }
+        if (!eol) {
+            readOffset = length;
+        }
+        if (readOffset >= length) {
+            raf.setLength(HEADER_SIZE);
+            readOffset = length = HEADER_SIZE;
+        }
+        raf.seek(0);
+        raf.writeLong(readOffset);
+        return line.toByteArray();
+    }
+
+    /** Discards the content of the file. */
+    private void truncate() {
+        try {
+            raf.setLength(HEADER_SIZE);
+            raf.seek(0);
+            raf.writeLong(HEADER_SIZE);
+            readOffset = length = HEADER_SIZE;
+        } catch (IOException e) {
+            log.warn("Unable to truncate " + file, e);
+            close();
+        }
+    }
+
+    private static byte[] toLine(PutMetricDataRequest request) throws IOException {
+        StringWriter writer = new StringWriter();
+        JsonGenerator gen = Jackson.jsonGeneratorOf(writer);
+        gen.writeStartObject();
+        gen.writeStringField("namespace", request.getNamespace());
+        gen.writeArrayFieldStart("metricData");
+        for (MetricDatum datum: request.getMetricData()) {
+            gen.writeStartObject();
+            gen.writeStringField("metricName", datum.getMetricName());
+            if (datum.getUnit() != null) {
+                gen.writeStringField("unit", datum.getUnit());
+            }
+            if (datum.getTimestamp() != null) {
+                gen.writeNumberField("timestamp", datum.getTimestamp().getTime());
+            }
+            if (datum.getValue() != null) {
+                gen.writeNumberField("value", datum.getValue());
+            }
+            StatisticSet stat = datum.getStatisticValues();
+            if (stat != null) {
+                gen.writeObjectFieldStart("statisticValues");
+                gen.writeNumberField("sampleCount", stat.getSampleCount());
+                gen.writeNumberField("sum", stat.getSum());
+                gen.writeNumberField("minimum", stat.getMinimum());
+                gen.writeNumberField("maximum", stat.getMaximum());
+                gen.writeEndObject();
+            }
+            gen.writeArrayFieldStart("dimensions");
+            for (Dimension dim: datum.getDimensions()) {
+                gen.writeStartObject();
+                gen.writeStringField("name", dim.getName());
+                gen.writeStringField("value", dim.getValue());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.close();
+        // the generator escapes line breaks within strings
+        writer.write('\n');
+        return writer.toString().getBytes(StringUtils.UTF8);
+    }
+
+    private static PutMetricDataRequest fromLine(String line) {
+        JsonNode root = Jackson.jsonNodeOf(line);
+        List<MetricDatum> data = new ArrayList<MetricDatum>();
+        for (JsonNode node: root.get("metricData")) {
+            MetricDatum datum = new MetricDatum()
+                .withMetricName(node.get("metricName").asText());
+            if (node.has("unit")) {
+                datum.setUnit(node.get("unit").asText());
+            }
+            if (node.has("timestamp")) {
+                datum.setTimestamp(new Date(node.get("timestamp").asLong()));
+            }
+            if (node.has("value")) {
+                datum.setValue(node.get("value").asDouble());
+            }
+            JsonNode stat = node.get("statisticValues");
+            if (stat != null) {
+                datum.setStatisticValues(new StatisticSet()
+                    .withSampleCount(stat.get("sampleCount").asDouble())
+                    .withSum(stat.get("sum").asDouble())
+                    .withMinimum(stat.get("minimum").asDouble())
+                    .withMaximum(stat.get("maximum").asDouble()));
+            }
+            for (JsonNode dim: node.get("dimensions")) {
+                datum.withDimensions(new Dimension()
+                    .withName(dim.get("name").asText())
+                    .withValue(dim.get("value").asText()));
+            }
+            data.add(datum);
+        }
+        return new PutMetricDataRequest()
+            .withNamespace(root.get("namespace").asText())
+            .withMetricData(data)
+            .withRequestMetricCollector(RequestMetricCollector.NONE);
+    }
+}
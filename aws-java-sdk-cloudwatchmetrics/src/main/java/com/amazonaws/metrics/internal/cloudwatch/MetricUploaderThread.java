@@ -14,11 +14,25 @@
  */
 package com.amazonaws.metrics.internal.cloudwatch;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.cloudwatch.AmazonCloudWatchClient;
 import com.amazonaws.services.cloudwatch.model.MetricDatum;
 import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
@@ -26,14 +40,38 @@ import com.amazonaws.util.VersionInfoUtils;
 
 /**
  * A internal daemon thread used to upload request metrics to Amazon CloudWatch.
+ * <p>
+ * This thread only summarizes the metrics; the requests are uploaded
+ * concurrently by a pool of up to
+ * {@link CloudWatchMetricConfig#getMaxConcurrentUploads()} threads, so that a
+ * slow Amazon CloudWatch doesn't hold up the draining of the metrics queue.
+ * Uploads failing with a retryable error are attempted again after the next
+ * queue polling timeout, up to
+ * {@link CloudWatchMetricConfig#getMaxUploadAttempts()} times. Requests that
+ * can't be uploaded are then spilled to a file, if
+ * {@link CloudWatchMetricConfig#getSpillDirectory()} is set, and uploaded once
+ * uploads succeed again; or dropped otherwise.
  */
 class MetricUploaderThread extends Thread {
     private static final String USER_AGENT = MetricUploaderThread.class.getName() + "/" + VersionInfoUtils.getVersion();
     private static final String THREAD_NAME = "java-sdk-metric-uploader";
+    /**
+     * Maximum number of requests waiting for an upload thread. Requests
+     * beyond that are spilled or dropped.
+     */
+    private static final int MAX_PENDING_UPLOADS = 256;
     private volatile boolean cancelled;
     private final AmazonCloudWatchClient cloudwatchClient;
     private final Log log = LogFactory.getLog(getClass());
     private final BlockingRequestBuilder qIterator;
+    private final int maxUploadAttempts;
+    private final ThreadPoolExecutor uploadExecutor;
+    /** Failed uploads to be attempted again after the next polling timeout. */
+    private final Queue<Upload> retries = new ConcurrentLinkedQueue<Upload>();
+    /** Null if requests that can't be uploaded are dropped. */
+    private final MetricSpillBuffer spillBuffer;
+    private final AtomicLong droppedMetricCount = new AtomicLong();
+    private volatile long uploadLagMilli;
 
     MetricUploaderThread(CloudWatchMetricConfig config,
             BlockingQueue<MetricDatum> queue) {
@@ -57,6 +95,16 @@ class MetricUploaderThread extends Thread {
         String endpoint = config.getCloudWatchEndPoint();
         if (endpoint != null)
             cloudwatchClient.setEndpoint(endpoint);
+        this.maxUploadAttempts = config.getMaxUploadAttempts();
+        int threads = config.getMaxConcurrentUploads();
+        this.uploadExecutor = new ThreadPoolExecutor(threads, threads,
+                1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<Runnable>(MAX_PENDING_UPLOADS),
+                new UploadThreadFactory());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
+        this.spillBuffer = config.getSpillDirectory() == null
+            ? null
+            : new MetricSpillBuffer(config.getSpillDirectory(), config.getMaxSpillBytes());
         this.setPriority(MIN_PRIORITY);
         setDaemon(true);
     }
@@ -65,12 +113,23 @@ class MetricUploaderThread extends Thread {
     public void run() {
         while (!cancelled) {
             try {
-                Iterable<PutMetricDataRequest> requests = qIterator.nextUploadUnits();
+                boolean idle = retries.isEmpty()
+                    && (spillBuffer == null || spillBuffer.isEmpty());
+                Iterable<PutMetricDataRequest> requests = qIterator.nextUploadUnits(idle);
+                // The failed uploads go first, as they hold older data
+                Upload retry;
+                while ((retry = retries.poll()) != null) {
+                    submit(retry);
+                }
                 for (PutMetricDataRequest req: requests) {
                     appendUserAgent(req);
-                    log.debug(req);
-                    cloudwatchClient.putMetricData(req);
-                    Thread.yield();
+                    submit(new Upload(req));
+                }
+                if (spillBuffer != null && !spillBuffer.isEmpty()
+                        && uploadExecutor.getActiveCount() == 0) {
+                    // Probes whether uploads succeed again even if there is
+                    // no new metric data
+                    submit(new Upload(null));
                 }
             } catch(InterruptedException e) {
                 if (!cancelled) {
@@ -81,6 +140,18 @@ class MetricUploaderThread extends Thread {
                 Thread.yield();
             }
         }
+        // Keep the pending uploads if there is a spill file
+        List<Runnable> pending = uploadExecutor.shutdownNow();
+        for (Runnable r: pending) {
+            giveUp((Upload) r);
+        }
+        Upload retry;
+        while ((retry = retries.poll()) != null) {
+            giveUp(retry);
+        }
+        if (spillBuffer != null) {
+            spillBuffer.close();
+        }
     }
 
     void cancel() { cancelled = true; }
@@ -89,8 +160,135 @@ class MetricUploaderThread extends Thread {
         return cloudwatchClient;
     }
 
+    /**
+     * Returns the number of metric data dropped by this uploader, because they
+     * couldn't be uploaded nor spilled.
+     */
+    long getDroppedMetricCount() {
+        return droppedMetricCount.get();
+    }
+
+    /**
+     * Returns the time in millisecond between the summarizing and the
+     * upload of the metric data last uploaded; or zero if none has been
+     * uploaded.
+     */
+    long getUploadLagMilli() {
+        return uploadLagMilli;
+    }
+
     private void appendUserAgent(PutMetricDataRequest request) {
         request.getRequestClientOptions().appendUserAgent(USER_AGENT);
     }
 
+    private void submit(Upload upload) {
+        try {
+            uploadExecutor.execute(upload);
+        } catch (RejectedExecutionException e) {
+            giveUp(upload);
+        }
+    }
+
+    /** Spills the request of the given upload, or drops it. */
+    private void giveUp(Upload upload) {
+        if (upload.request == null) {
+            return;
+        }
+        if (spillBuffer != null && spillBuffer.spill(upload.request)) {
+            return;
+        }
+        int count = upload.request.getMetricData().size();
+        droppedMetricCount.addAndGet(count);
+        if (log.isDebugEnabled()) {
+            log.debug("Dropped " + count + " metric data for "
+                    + upload.request.getNamespace());
+        }
+    }
+
+    private static boolean isRetryable(AmazonClientException e) {
+        if (e instanceof AmazonServiceException) {
+            AmazonServiceException ase = (AmazonServiceException) e;
+            return ase.getStatusCode() >= 500 || RetryUtils.isThrottlingException(ase);
+        }
+        return e.isRetryable();
+    }
+
+    /**
+     * The upload of a request. Once it succeeds, the requests spilled so far
+     * are uploaded in turn.
+     */
+    private class Upload implements Runnable {
+        /** Null when only uploading the spilled requests. */
+        private final PutMetricDataRequest request;
+        private int attempts;
+
+        Upload(PutMetricDataRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            Upload upload = request == null ? nextSpilled() : this;
+            while (upload != null && upload.upload() && !cancelled) {
+                upload = nextSpilled();
+            }
+        }
+
+        /**
+         * Uploads the request, returning true if successful or false if the
+         * upload is to be attempted again, or the request spilled or dropped.
+         */
+        private boolean upload() {
+            attempts++;
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug(request);
+                }
+                cloudwatchClient.putMetricData(request);
+                List<MetricDatum> data = request.getMetricData();
+                Date timestamp = data.isEmpty() ? null : data.get(0).getTimestamp();
+                if (timestamp != null) {
+                    uploadLagMilli = System.currentTimeMillis() - timestamp.getTime();
+                }
+                return true;
+            } catch (AmazonClientException e) {
+                if (!isRetryable(e)) {
+                    log.warn("Unable to upload the metric data; dropping it", e);
+                    droppedMetricCount.addAndGet(request.getMetricData().size());
+                } else if (attempts < maxUploadAttempts && !cancelled) {
+                    log.debug("Unable to upload the metric data; will try again", e);
+                    retries.add(this);
+                } else {
+                    log.debug("Unable to upload the metric data", e);
+                    giveUp(this);
+                }
+                return false;
+            }
+        }
+    }
+
+    /** Returns the upload of the next spilled request; or null if none. */
+    private Upload nextSpilled() {
+        if (spillBuffer == null) {
+            return null;
+        }
+        PutMetricDataRequest req = spillBuffer.poll();
+        if (req == null) {
+            return null;
+        }
+        appendUserAgent(req);
+        return new Upload(req);
+    }
+
+    private static class UploadThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, THREAD_NAME + "-" + count.incrementAndGet());
+            t.setPriority(MIN_PRIORITY);
+            t.setDaemon(true);
+            return t;
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package com.amazonaws.metrics.internal.cloudwatch;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +41,7 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
 {
     protected final static Log log = LogFactory.getLog(RequestMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final AtomicLong droppedMetricCount = new AtomicLong();
     private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
 
     protected RequestMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
@@ -74,6 +76,7 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
             for (MetricDatum datum : transformer.toMetricData(type, request, response)) {
                 try {
                     if (!addMetricsToQueue(datum)) {
+                        droppedMetricCount.incrementAndGet();
                         if (log.isDebugEnabled()) {
                             log.debug("Failed to add to the metrics queue (due to no space available) for "
                                     + type.name()
@@ -99,4 +102,11 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
     }
     /** Returns the predefined metrics transformer. */
     protected PredefinedMetricTransformer getTransformer() { return transformer; }
+
+    /**
+     * Returns the number of metric data dropped because the queue was full.
+     */
+    public long getDroppedMetricCount() {
+        return droppedMetricCount.get();
+    }
 }
@@ -17,6 +17,7 @@ package com.amazonaws.metrics.internal.cloudwatch;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +48,7 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
     static final double NANO_PER_SEC = TimeUnit.SECONDS.toNanos(1);
     protected final static Log log = LogFactory.getLog(ServiceMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final AtomicLong droppedMetricCount = new AtomicLong();
 
     protected ServiceMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
         this.queue = queue;
@@ -139,6 +141,7 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
     private void safeAddMetricsToQueue(MetricDatum metric) {
         try {
             if (!addMetricsToQueue(metric)) {
+                droppedMetricCount.incrementAndGet();
                 if (log.isDebugEnabled()) {
                     log.debug("Failed to add to the metrics queue (due to no space available) for "
                             + metric.getMetricName());
@@ -156,4 +159,11 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
     protected boolean addMetricsToQueue(MetricDatum metric) {
         return queue.offer(metric); 
     }
+
+    /**
+     * Returns the number of metric data dropped because the queue was full.
+     */
+    public long getDroppedMetricCount() {
+        return droppedMetricCount.get();
+    }
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.codedeploy.model.*;
+import com.amazonaws.services.codedeploy.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCodeDeploy.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS CodeDeploy <b>Overview</b> <p>
  * This is the AWS CodeDeploy API Reference. This guide provides
  * descriptions of the AWS CodeDeploy APIs. For additional information,
@@ -386,11 +390,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetDeploymentGroupResult> getDeploymentGroupAsync(final GetDeploymentGroupRequest getDeploymentGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentGroupResult>() {
-            public GetDeploymentGroupResult call() throws Exception {
-                return getDeploymentGroup(getDeploymentGroupRequest);
-        }
-    });
+        return getDeploymentGroupComposableAsync(getDeploymentGroupRequest);
     }
 
     /**
@@ -422,19 +422,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentGroupRequest getDeploymentGroupRequest,
             final AsyncHandler<GetDeploymentGroupRequest, GetDeploymentGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentGroupResult>() {
+        return withAsyncHandler(getDeploymentGroupComposableAsync(getDeploymentGroupRequest),
+                getDeploymentGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDeploymentGroup operation like
+     * {@link #getDeploymentGroupAsync(GetDeploymentGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getDeploymentGroupRequest Container for the necessary
+     *           parameters to execute the GetDeploymentGroup operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         GetDeploymentGroup service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetDeploymentGroupResult> getDeploymentGroupComposableAsync(final GetDeploymentGroupRequest getDeploymentGroupRequest) {
+        return executeAsync(executorService, new Callable<GetDeploymentGroupResult>() {
             public GetDeploymentGroupResult call() throws Exception {
-              GetDeploymentGroupResult result;
-                try {
-                result = getDeploymentGroup(getDeploymentGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDeploymentGroupRequest, result);
-                 return result;
-        }
-    });
+                return getDeploymentGroup(getDeploymentGroupRequest);
+            }
+        }, getDeploymentGroupRequest,
+                new GetDeploymentGroupRequestMarshaller(), new GetDeploymentGroupResultJsonUnmarshaller());
     }
     
     /**
@@ -459,12 +471,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<Void> updateApplicationAsync(final UpdateApplicationRequest updateApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateApplication(updateApplicationRequest);
-                return null;
-        }
-    });
+        return updateApplicationComposableAsync(updateApplicationRequest);
     }
 
     /**
@@ -495,18 +502,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateApplicationRequest updateApplicationRequest,
             final AsyncHandler<UpdateApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateApplicationComposableAsync(updateApplicationRequest),
+                updateApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateApplication operation like
+     * {@link #updateApplicationAsync(UpdateApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param updateApplicationRequest Container for the necessary parameters
+     *           to execute the UpdateApplication operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         UpdateApplication service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<Void> updateApplicationComposableAsync(final UpdateApplicationRequest updateApplicationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateApplication(updateApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateApplicationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateApplicationRequest,
+                new UpdateApplicationRequestMarshaller(), null);
     }
     
     /**
@@ -533,11 +553,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<CreateDeploymentConfigResult> createDeploymentConfigAsync(final CreateDeploymentConfigRequest createDeploymentConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentConfigResult>() {
-            public CreateDeploymentConfigResult call() throws Exception {
-                return createDeploymentConfig(createDeploymentConfigRequest);
-        }
-    });
+        return createDeploymentConfigComposableAsync(createDeploymentConfigRequest);
     }
 
     /**
@@ -570,19 +586,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentConfigRequest createDeploymentConfigRequest,
             final AsyncHandler<CreateDeploymentConfigRequest, CreateDeploymentConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentConfigResult>() {
+        return withAsyncHandler(createDeploymentConfigComposableAsync(createDeploymentConfigRequest),
+                createDeploymentConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDeploymentConfig operation like
+     * {@link #createDeploymentConfigAsync(CreateDeploymentConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDeploymentConfigRequest Container for the necessary
+     *           parameters to execute the CreateDeploymentConfig operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         CreateDeploymentConfig service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<CreateDeploymentConfigResult> createDeploymentConfigComposableAsync(final CreateDeploymentConfigRequest createDeploymentConfigRequest) {
+        return executeAsync(executorService, new Callable<CreateDeploymentConfigResult>() {
             public CreateDeploymentConfigResult call() throws Exception {
-              CreateDeploymentConfigResult result;
-                try {
-                result = createDeploymentConfig(createDeploymentConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDeploymentConfigRequest, result);
-                 return result;
-        }
-    });
+                return createDeploymentConfig(createDeploymentConfigRequest);
+            }
+        }, createDeploymentConfigRequest,
+                new CreateDeploymentConfigRequestMarshaller(), new CreateDeploymentConfigResultJsonUnmarshaller());
     }
     
     /**
@@ -610,11 +638,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListDeploymentInstancesResult> listDeploymentInstancesAsync(final ListDeploymentInstancesRequest listDeploymentInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentInstancesResult>() {
-            public ListDeploymentInstancesResult call() throws Exception {
-                return listDeploymentInstances(listDeploymentInstancesRequest);
-        }
-    });
+        return listDeploymentInstancesComposableAsync(listDeploymentInstancesRequest);
     }
 
     /**
@@ -648,19 +672,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentInstancesRequest listDeploymentInstancesRequest,
             final AsyncHandler<ListDeploymentInstancesRequest, ListDeploymentInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentInstancesResult>() {
+        return withAsyncHandler(listDeploymentInstancesComposableAsync(listDeploymentInstancesRequest),
+                listDeploymentInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDeploymentInstances operation like
+     * {@link #listDeploymentInstancesAsync(ListDeploymentInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listDeploymentInstancesRequest Container for the necessary
+     *           parameters to execute the ListDeploymentInstances operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListDeploymentInstances service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListDeploymentInstancesResult> listDeploymentInstancesComposableAsync(final ListDeploymentInstancesRequest listDeploymentInstancesRequest) {
+        return executeAsync(executorService, new Callable<ListDeploymentInstancesResult>() {
             public ListDeploymentInstancesResult call() throws Exception {
-              ListDeploymentInstancesResult result;
-                try {
-                result = listDeploymentInstances(listDeploymentInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDeploymentInstancesRequest, result);
-                 return result;
-        }
-    });
+                return listDeploymentInstances(listDeploymentInstancesRequest);
+            }
+        }, listDeploymentInstancesRequest,
+                new ListDeploymentInstancesRequestMarshaller(), new ListDeploymentInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -685,11 +721,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListApplicationsResult> listApplicationsAsync(final ListApplicationsRequest listApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApplicationsResult>() {
-            public ListApplicationsResult call() throws Exception {
-                return listApplications(listApplicationsRequest);
-        }
-    });
+        return listApplicationsComposableAsync(listApplicationsRequest);
     }
 
     /**
@@ -720,19 +752,29 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationsRequest listApplicationsRequest,
             final AsyncHandler<ListApplicationsRequest, ListApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApplicationsResult>() {
+        return withAsyncHandler(listApplicationsComposableAsync(listApplicationsRequest),
+                listApplicationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListApplications operation like
+     * {@link #listApplicationsAsync(ListApplicationsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listApplicationsRequest Container for the necessary parameters
+     *           to execute the ListApplications operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListApplications service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListApplicationsResult> listApplicationsComposableAsync(final ListApplicationsRequest listApplicationsRequest) {
+        return executeAsync(executorService, new Callable<ListApplicationsResult>() {
             public ListApplicationsResult call() throws Exception {
-              ListApplicationsResult result;
-                try {
-                result = listApplications(listApplicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listApplicationsRequest, result);
-                 return result;
-        }
-    });
+                return listApplications(listApplicationsRequest);
+            }
+        }, listApplicationsRequest,
+                new ListApplicationsRequestMarshaller(), new ListApplicationsResultJsonUnmarshaller());
     }
     
     /**
@@ -760,12 +802,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<Void> registerApplicationRevisionAsync(final RegisterApplicationRevisionRequest registerApplicationRevisionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerApplicationRevision(registerApplicationRevisionRequest);
-                return null;
-        }
-    });
+        return registerApplicationRevisionComposableAsync(registerApplicationRevisionRequest);
     }
 
     /**
@@ -799,18 +836,33 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RegisterApplicationRevisionRequest registerApplicationRevisionRequest,
             final AsyncHandler<RegisterApplicationRevisionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(registerApplicationRevisionComposableAsync(registerApplicationRevisionRequest),
+                registerApplicationRevisionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterApplicationRevision operation
+     * like
+     * {@link #registerApplicationRevisionAsync(RegisterApplicationRevisionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerApplicationRevisionRequest Container for the necessary
+     *           parameters to execute the RegisterApplicationRevision operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         RegisterApplicationRevision service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<Void> registerApplicationRevisionComposableAsync(final RegisterApplicationRevisionRequest registerApplicationRevisionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 registerApplicationRevision(registerApplicationRevisionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerApplicationRevisionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, registerApplicationRevisionRequest,
+                new RegisterApplicationRevisionRequestMarshaller(), null);
     }
     
     /**
@@ -836,11 +888,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetDeploymentConfigResult> getDeploymentConfigAsync(final GetDeploymentConfigRequest getDeploymentConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentConfigResult>() {
-            public GetDeploymentConfigResult call() throws Exception {
-                return getDeploymentConfig(getDeploymentConfigRequest);
-        }
-    });
+        return getDeploymentConfigComposableAsync(getDeploymentConfigRequest);
     }
 
     /**
@@ -872,19 +920,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentConfigRequest getDeploymentConfigRequest,
             final AsyncHandler<GetDeploymentConfigRequest, GetDeploymentConfigResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentConfigResult>() {
+        return withAsyncHandler(getDeploymentConfigComposableAsync(getDeploymentConfigRequest),
+                getDeploymentConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDeploymentConfig operation like
+     * {@link #getDeploymentConfigAsync(GetDeploymentConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getDeploymentConfigRequest Container for the necessary
+     *           parameters to execute the GetDeploymentConfig operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         GetDeploymentConfig service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetDeploymentConfigResult> getDeploymentConfigComposableAsync(final GetDeploymentConfigRequest getDeploymentConfigRequest) {
+        return executeAsync(executorService, new Callable<GetDeploymentConfigResult>() {
             public GetDeploymentConfigResult call() throws Exception {
-              GetDeploymentConfigResult result;
-                try {
-                result = getDeploymentConfig(getDeploymentConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDeploymentConfigRequest, result);
-                 return result;
-        }
-    });
+                return getDeploymentConfig(getDeploymentConfigRequest);
+            }
+        }, getDeploymentConfigRequest,
+                new GetDeploymentConfigRequestMarshaller(), new GetDeploymentConfigResultJsonUnmarshaller());
     }
     
     /**
@@ -911,11 +971,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListDeploymentGroupsResult> listDeploymentGroupsAsync(final ListDeploymentGroupsRequest listDeploymentGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentGroupsResult>() {
-            public ListDeploymentGroupsResult call() throws Exception {
-                return listDeploymentGroups(listDeploymentGroupsRequest);
-        }
-    });
+        return listDeploymentGroupsComposableAsync(listDeploymentGroupsRequest);
     }
 
     /**
@@ -948,19 +1004,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentGroupsRequest listDeploymentGroupsRequest,
             final AsyncHandler<ListDeploymentGroupsRequest, ListDeploymentGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentGroupsResult>() {
+        return withAsyncHandler(listDeploymentGroupsComposableAsync(listDeploymentGroupsRequest),
+                listDeploymentGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDeploymentGroups operation like
+     * {@link #listDeploymentGroupsAsync(ListDeploymentGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listDeploymentGroupsRequest Container for the necessary
+     *           parameters to execute the ListDeploymentGroups operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListDeploymentGroups service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListDeploymentGroupsResult> listDeploymentGroupsComposableAsync(final ListDeploymentGroupsRequest listDeploymentGroupsRequest) {
+        return executeAsync(executorService, new Callable<ListDeploymentGroupsResult>() {
             public ListDeploymentGroupsResult call() throws Exception {
-              ListDeploymentGroupsResult result;
-                try {
-                result = listDeploymentGroups(listDeploymentGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDeploymentGroupsRequest, result);
-                 return result;
-        }
-    });
+                return listDeploymentGroups(listDeploymentGroupsRequest);
+            }
+        }, listDeploymentGroupsRequest,
+                new ListDeploymentGroupsRequestMarshaller(), new ListDeploymentGroupsResultJsonUnmarshaller());
     }
     
     /**
@@ -986,11 +1054,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<BatchGetApplicationsResult> batchGetApplicationsAsync(final BatchGetApplicationsRequest batchGetApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetApplicationsResult>() {
-            public BatchGetApplicationsResult call() throws Exception {
-                return batchGetApplications(batchGetApplicationsRequest);
-        }
-    });
+        return batchGetApplicationsComposableAsync(batchGetApplicationsRequest);
     }
 
     /**
@@ -1022,19 +1086,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetApplicationsRequest batchGetApplicationsRequest,
             final AsyncHandler<BatchGetApplicationsRequest, BatchGetApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetApplicationsResult>() {
+        return withAsyncHandler(batchGetApplicationsComposableAsync(batchGetApplicationsRequest),
+                batchGetApplicationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchGetApplications operation like
+     * {@link #batchGetApplicationsAsync(BatchGetApplicationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param batchGetApplicationsRequest Container for the necessary
+     *           parameters to execute the BatchGetApplications operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         BatchGetApplications service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<BatchGetApplicationsResult> batchGetApplicationsComposableAsync(final BatchGetApplicationsRequest batchGetApplicationsRequest) {
+        return executeAsync(executorService, new Callable<BatchGetApplicationsResult>() {
             public BatchGetApplicationsResult call() throws Exception {
-              BatchGetApplicationsResult result;
-                try {
-                result = batchGetApplications(batchGetApplicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchGetApplicationsRequest, result);
-                 return result;
-        }
-    });
+                return batchGetApplications(batchGetApplicationsRequest);
+            }
+        }, batchGetApplicationsRequest,
+                new BatchGetApplicationsRequestMarshaller(), new BatchGetApplicationsResultJsonUnmarshaller());
     }
     
     /**
@@ -1060,11 +1136,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<DeleteDeploymentGroupResult> deleteDeploymentGroupAsync(final DeleteDeploymentGroupRequest deleteDeploymentGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDeploymentGroupResult>() {
-            public DeleteDeploymentGroupResult call() throws Exception {
-                return deleteDeploymentGroup(deleteDeploymentGroupRequest);
-        }
-    });
+        return deleteDeploymentGroupComposableAsync(deleteDeploymentGroupRequest);
     }
 
     /**
@@ -1096,19 +1168,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentGroupRequest deleteDeploymentGroupRequest,
             final AsyncHandler<DeleteDeploymentGroupRequest, DeleteDeploymentGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDeploymentGroupResult>() {
+        return withAsyncHandler(deleteDeploymentGroupComposableAsync(deleteDeploymentGroupRequest),
+                deleteDeploymentGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDeploymentGroup operation like
+     * {@link #deleteDeploymentGroupAsync(DeleteDeploymentGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDeploymentGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDeploymentGroup operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDeploymentGroup service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<DeleteDeploymentGroupResult> deleteDeploymentGroupComposableAsync(final DeleteDeploymentGroupRequest deleteDeploymentGroupRequest) {
+        return executeAsync(executorService, new Callable<DeleteDeploymentGroupResult>() {
             public DeleteDeploymentGroupResult call() throws Exception {
-              DeleteDeploymentGroupResult result;
-                try {
-                result = deleteDeploymentGroup(deleteDeploymentGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDeploymentGroupRequest, result);
-                 return result;
-        }
-    });
+                return deleteDeploymentGroup(deleteDeploymentGroupRequest);
+            }
+        }, deleteDeploymentGroupRequest,
+                new DeleteDeploymentGroupRequestMarshaller(), new DeleteDeploymentGroupResultJsonUnmarshaller());
     }
     
     /**
@@ -1135,11 +1219,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListApplicationRevisionsResult> listApplicationRevisionsAsync(final ListApplicationRevisionsRequest listApplicationRevisionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApplicationRevisionsResult>() {
-            public ListApplicationRevisionsResult call() throws Exception {
-                return listApplicationRevisions(listApplicationRevisionsRequest);
-        }
-    });
+        return listApplicationRevisionsComposableAsync(listApplicationRevisionsRequest);
     }
 
     /**
@@ -1172,19 +1252,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationRevisionsRequest listApplicationRevisionsRequest,
             final AsyncHandler<ListApplicationRevisionsRequest, ListApplicationRevisionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListApplicationRevisionsResult>() {
+        return withAsyncHandler(listApplicationRevisionsComposableAsync(listApplicationRevisionsRequest),
+                listApplicationRevisionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListApplicationRevisions operation like
+     * {@link #listApplicationRevisionsAsync(ListApplicationRevisionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listApplicationRevisionsRequest Container for the necessary
+     *           parameters to execute the ListApplicationRevisions operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListApplicationRevisions service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListApplicationRevisionsResult> listApplicationRevisionsComposableAsync(final ListApplicationRevisionsRequest listApplicationRevisionsRequest) {
+        return executeAsync(executorService, new Callable<ListApplicationRevisionsResult>() {
             public ListApplicationRevisionsResult call() throws Exception {
-              ListApplicationRevisionsResult result;
-                try {
-                result = listApplicationRevisions(listApplicationRevisionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listApplicationRevisionsRequest, result);
-                 return result;
-        }
-    });
+                return listApplicationRevisions(listApplicationRevisionsRequest);
+            }
+        }, listApplicationRevisionsRequest,
+                new ListApplicationRevisionsRequestMarshaller(), new ListApplicationRevisionsResultJsonUnmarshaller());
     }
     
     /**
@@ -1210,11 +1302,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<UpdateDeploymentGroupResult> updateDeploymentGroupAsync(final UpdateDeploymentGroupRequest updateDeploymentGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDeploymentGroupResult>() {
-            public UpdateDeploymentGroupResult call() throws Exception {
-                return updateDeploymentGroup(updateDeploymentGroupRequest);
-        }
-    });
+        return updateDeploymentGroupComposableAsync(updateDeploymentGroupRequest);
     }
 
     /**
@@ -1246,19 +1334,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateDeploymentGroupRequest updateDeploymentGroupRequest,
             final AsyncHandler<UpdateDeploymentGroupRequest, UpdateDeploymentGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDeploymentGroupResult>() {
+        return withAsyncHandler(updateDeploymentGroupComposableAsync(updateDeploymentGroupRequest),
+                updateDeploymentGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDeploymentGroup operation like
+     * {@link #updateDeploymentGroupAsync(UpdateDeploymentGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDeploymentGroupRequest Container for the necessary
+     *           parameters to execute the UpdateDeploymentGroup operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDeploymentGroup service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<UpdateDeploymentGroupResult> updateDeploymentGroupComposableAsync(final UpdateDeploymentGroupRequest updateDeploymentGroupRequest) {
+        return executeAsync(executorService, new Callable<UpdateDeploymentGroupResult>() {
             public UpdateDeploymentGroupResult call() throws Exception {
-              UpdateDeploymentGroupResult result;
-                try {
-                result = updateDeploymentGroup(updateDeploymentGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDeploymentGroupRequest, result);
-                 return result;
-        }
-    });
+                return updateDeploymentGroup(updateDeploymentGroupRequest);
+            }
+        }, updateDeploymentGroupRequest,
+                new UpdateDeploymentGroupRequestMarshaller(), new UpdateDeploymentGroupResultJsonUnmarshaller());
     }
     
     /**
@@ -1284,11 +1384,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListDeploymentsResult> listDeploymentsAsync(final ListDeploymentsRequest listDeploymentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentsResult>() {
-            public ListDeploymentsResult call() throws Exception {
-                return listDeployments(listDeploymentsRequest);
-        }
-    });
+        return listDeploymentsComposableAsync(listDeploymentsRequest);
     }
 
     /**
@@ -1320,19 +1416,29 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentsRequest listDeploymentsRequest,
             final AsyncHandler<ListDeploymentsRequest, ListDeploymentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentsResult>() {
+        return withAsyncHandler(listDeploymentsComposableAsync(listDeploymentsRequest),
+                listDeploymentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDeployments operation like
+     * {@link #listDeploymentsAsync(ListDeploymentsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listDeploymentsRequest Container for the necessary parameters
+     *           to execute the ListDeployments operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListDeployments service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListDeploymentsResult> listDeploymentsComposableAsync(final ListDeploymentsRequest listDeploymentsRequest) {
+        return executeAsync(executorService, new Callable<ListDeploymentsResult>() {
             public ListDeploymentsResult call() throws Exception {
-              ListDeploymentsResult result;
-                try {
-                result = listDeployments(listDeploymentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDeploymentsRequest, result);
-                 return result;
-        }
-    });
+                return listDeployments(listDeploymentsRequest);
+            }
+        }, listDeploymentsRequest,
+                new ListDeploymentsRequestMarshaller(), new ListDeploymentsResultJsonUnmarshaller());
     }
     
     /**
@@ -1357,11 +1463,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetApplicationResult> getApplicationAsync(final GetApplicationRequest getApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetApplicationResult>() {
-            public GetApplicationResult call() throws Exception {
-                return getApplication(getApplicationRequest);
-        }
-    });
+        return getApplicationComposableAsync(getApplicationRequest);
     }
 
     /**
@@ -1392,19 +1494,28 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRequest getApplicationRequest,
             final AsyncHandler<GetApplicationRequest, GetApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetApplicationResult>() {
+        return withAsyncHandler(getApplicationComposableAsync(getApplicationRequest),
+                getApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetApplication operation like
+     * {@link #getApplicationAsync(GetApplicationRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getApplicationRequest Container for the necessary parameters to
+     *           execute the GetApplication operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the GetApplication
+     *         service method, as returned by AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetApplicationResult> getApplicationComposableAsync(final GetApplicationRequest getApplicationRequest) {
+        return executeAsync(executorService, new Callable<GetApplicationResult>() {
             public GetApplicationResult call() throws Exception {
-              GetApplicationResult result;
-                try {
-                result = getApplication(getApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getApplicationRequest, result);
-                 return result;
-        }
-    });
+                return getApplication(getApplicationRequest);
+            }
+        }, getApplicationRequest,
+                new GetApplicationRequestMarshaller(), new GetApplicationResultJsonUnmarshaller());
     }
     
     /**
@@ -1429,11 +1540,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<CreateApplicationResult> createApplicationAsync(final CreateApplicationRequest createApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
-            public CreateApplicationResult call() throws Exception {
-                return createApplication(createApplicationRequest);
-        }
-    });
+        return createApplicationComposableAsync(createApplicationRequest);
     }
 
     /**
@@ -1464,19 +1571,30 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateApplicationRequest createApplicationRequest,
             final AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
+        return withAsyncHandler(createApplicationComposableAsync(createApplicationRequest),
+                createApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateApplication operation like
+     * {@link #createApplicationAsync(CreateApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createApplicationRequest Container for the necessary parameters
+     *           to execute the CreateApplication operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         CreateApplication service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<CreateApplicationResult> createApplicationComposableAsync(final CreateApplicationRequest createApplicationRequest) {
+        return executeAsync(executorService, new Callable<CreateApplicationResult>() {
             public CreateApplicationResult call() throws Exception {
-              CreateApplicationResult result;
-                try {
-                result = createApplication(createApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createApplicationRequest, result);
-                 return result;
-        }
-    });
+                return createApplication(createApplicationRequest);
+            }
+        }, createApplicationRequest,
+                new CreateApplicationRequestMarshaller(), new CreateApplicationResultJsonUnmarshaller());
     }
     
     /**
@@ -1501,11 +1619,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<StopDeploymentResult> stopDeploymentAsync(final StopDeploymentRequest stopDeploymentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDeploymentResult>() {
-            public StopDeploymentResult call() throws Exception {
-                return stopDeployment(stopDeploymentRequest);
-        }
-    });
+        return stopDeploymentComposableAsync(stopDeploymentRequest);
     }
 
     /**
@@ -1536,19 +1650,28 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final StopDeploymentRequest stopDeploymentRequest,
             final AsyncHandler<StopDeploymentRequest, StopDeploymentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDeploymentResult>() {
+        return withAsyncHandler(stopDeploymentComposableAsync(stopDeploymentRequest),
+                stopDeploymentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopDeployment operation like
+     * {@link #stopDeploymentAsync(StopDeploymentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param stopDeploymentRequest Container for the necessary parameters to
+     *           execute the StopDeployment operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the StopDeployment
+     *         service method, as returned by AmazonCodeDeploy.
+     */
+    public ComposableFuture<StopDeploymentResult> stopDeploymentComposableAsync(final StopDeploymentRequest stopDeploymentRequest) {
+        return executeAsync(executorService, new Callable<StopDeploymentResult>() {
             public StopDeploymentResult call() throws Exception {
-              StopDeploymentResult result;
-                try {
-                result = stopDeployment(stopDeploymentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopDeploymentRequest, result);
-                 return result;
-        }
-    });
+                return stopDeployment(stopDeploymentRequest);
+            }
+        }, stopDeploymentRequest,
+                new StopDeploymentRequestMarshaller(), new StopDeploymentResultJsonUnmarshaller());
     }
     
     /**
@@ -1575,11 +1698,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<CreateDeploymentGroupResult> createDeploymentGroupAsync(final CreateDeploymentGroupRequest createDeploymentGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentGroupResult>() {
-            public CreateDeploymentGroupResult call() throws Exception {
-                return createDeploymentGroup(createDeploymentGroupRequest);
-        }
-    });
+        return createDeploymentGroupComposableAsync(createDeploymentGroupRequest);
     }
 
     /**
@@ -1612,19 +1731,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentGroupRequest createDeploymentGroupRequest,
             final AsyncHandler<CreateDeploymentGroupRequest, CreateDeploymentGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentGroupResult>() {
+        return withAsyncHandler(createDeploymentGroupComposableAsync(createDeploymentGroupRequest),
+                createDeploymentGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDeploymentGroup operation like
+     * {@link #createDeploymentGroupAsync(CreateDeploymentGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDeploymentGroupRequest Container for the necessary
+     *           parameters to execute the CreateDeploymentGroup operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         CreateDeploymentGroup service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<CreateDeploymentGroupResult> createDeploymentGroupComposableAsync(final CreateDeploymentGroupRequest createDeploymentGroupRequest) {
+        return executeAsync(executorService, new Callable<CreateDeploymentGroupResult>() {
             public CreateDeploymentGroupResult call() throws Exception {
-              CreateDeploymentGroupResult result;
-                try {
-                result = createDeploymentGroup(createDeploymentGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDeploymentGroupRequest, result);
-                 return result;
-        }
-    });
+                return createDeploymentGroup(createDeploymentGroupRequest);
+            }
+        }, createDeploymentGroupRequest,
+                new CreateDeploymentGroupRequestMarshaller(), new CreateDeploymentGroupResultJsonUnmarshaller());
     }
     
     /**
@@ -1649,12 +1780,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplication(deleteApplicationRequest);
-                return null;
-        }
-    });
+        return deleteApplicationComposableAsync(deleteApplicationRequest);
     }
 
     /**
@@ -1685,18 +1811,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteApplicationRequest deleteApplicationRequest,
             final AsyncHandler<DeleteApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteApplicationComposableAsync(deleteApplicationRequest),
+                deleteApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteApplication operation like
+     * {@link #deleteApplicationAsync(DeleteApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteApplicationRequest Container for the necessary parameters
+     *           to execute the DeleteApplication operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         DeleteApplication service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<Void> deleteApplicationComposableAsync(final DeleteApplicationRequest deleteApplicationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteApplication(deleteApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteApplicationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteApplicationRequest,
+                new DeleteApplicationRequestMarshaller(), null);
     }
     
     /**
@@ -1722,11 +1861,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<BatchGetDeploymentsResult> batchGetDeploymentsAsync(final BatchGetDeploymentsRequest batchGetDeploymentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetDeploymentsResult>() {
-            public BatchGetDeploymentsResult call() throws Exception {
-                return batchGetDeployments(batchGetDeploymentsRequest);
-        }
-    });
+        return batchGetDeploymentsComposableAsync(batchGetDeploymentsRequest);
     }
 
     /**
@@ -1758,19 +1893,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentsRequest batchGetDeploymentsRequest,
             final AsyncHandler<BatchGetDeploymentsRequest, BatchGetDeploymentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetDeploymentsResult>() {
+        return withAsyncHandler(batchGetDeploymentsComposableAsync(batchGetDeploymentsRequest),
+                batchGetDeploymentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchGetDeployments operation like
+     * {@link #batchGetDeploymentsAsync(BatchGetDeploymentsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param batchGetDeploymentsRequest Container for the necessary
+     *           parameters to execute the BatchGetDeployments operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         BatchGetDeployments service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<BatchGetDeploymentsResult> batchGetDeploymentsComposableAsync(final BatchGetDeploymentsRequest batchGetDeploymentsRequest) {
+        return executeAsync(executorService, new Callable<BatchGetDeploymentsResult>() {
             public BatchGetDeploymentsResult call() throws Exception {
-              BatchGetDeploymentsResult result;
-                try {
-                result = batchGetDeployments(batchGetDeploymentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchGetDeploymentsRequest, result);
-                 return result;
-        }
-    });
+                return batchGetDeployments(batchGetDeploymentsRequest);
+            }
+        }, batchGetDeploymentsRequest,
+                new BatchGetDeploymentsRequestMarshaller(), new BatchGetDeploymentsResultJsonUnmarshaller());
     }
     
     /**
@@ -1801,12 +1948,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<Void> deleteDeploymentConfigAsync(final DeleteDeploymentConfigRequest deleteDeploymentConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDeploymentConfig(deleteDeploymentConfigRequest);
-                return null;
-        }
-    });
+        return deleteDeploymentConfigComposableAsync(deleteDeploymentConfigRequest);
     }
 
     /**
@@ -1843,18 +1985,32 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentConfigRequest deleteDeploymentConfigRequest,
             final AsyncHandler<DeleteDeploymentConfigRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDeploymentConfigComposableAsync(deleteDeploymentConfigRequest),
+                deleteDeploymentConfigRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDeploymentConfig operation like
+     * {@link #deleteDeploymentConfigAsync(DeleteDeploymentConfigRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDeploymentConfigRequest Container for the necessary
+     *           parameters to execute the DeleteDeploymentConfig operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDeploymentConfig service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<Void> deleteDeploymentConfigComposableAsync(final DeleteDeploymentConfigRequest deleteDeploymentConfigRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDeploymentConfig(deleteDeploymentConfigRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDeploymentConfigRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDeploymentConfigRequest,
+                new DeleteDeploymentConfigRequestMarshaller(), null);
     }
     
     /**
@@ -1879,11 +2035,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetDeploymentResult> getDeploymentAsync(final GetDeploymentRequest getDeploymentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentResult>() {
-            public GetDeploymentResult call() throws Exception {
-                return getDeployment(getDeploymentRequest);
-        }
-    });
+        return getDeploymentComposableAsync(getDeploymentRequest);
     }
 
     /**
@@ -1914,19 +2066,28 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentRequest getDeploymentRequest,
             final AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentResult>() {
+        return withAsyncHandler(getDeploymentComposableAsync(getDeploymentRequest),
+                getDeploymentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDeployment operation like
+     * {@link #getDeploymentAsync(GetDeploymentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getDeploymentRequest Container for the necessary parameters to
+     *           execute the GetDeployment operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the GetDeployment
+     *         service method, as returned by AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetDeploymentResult> getDeploymentComposableAsync(final GetDeploymentRequest getDeploymentRequest) {
+        return executeAsync(executorService, new Callable<GetDeploymentResult>() {
             public GetDeploymentResult call() throws Exception {
-              GetDeploymentResult result;
-                try {
-                result = getDeployment(getDeploymentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDeploymentRequest, result);
-                 return result;
-        }
-    });
+                return getDeployment(getDeploymentRequest);
+            }
+        }, getDeploymentRequest,
+                new GetDeploymentRequestMarshaller(), new GetDeploymentResultJsonUnmarshaller());
     }
     
     /**
@@ -1951,11 +2112,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<CreateDeploymentResult> createDeploymentAsync(final CreateDeploymentRequest createDeploymentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
-            public CreateDeploymentResult call() throws Exception {
-                return createDeployment(createDeploymentRequest);
-        }
-    });
+        return createDeploymentComposableAsync(createDeploymentRequest);
     }
 
     /**
@@ -1986,19 +2143,29 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentRequest createDeploymentRequest,
             final AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
+        return withAsyncHandler(createDeploymentComposableAsync(createDeploymentRequest),
+                createDeploymentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDeployment operation like
+     * {@link #createDeploymentAsync(CreateDeploymentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createDeploymentRequest Container for the necessary parameters
+     *           to execute the CreateDeployment operation on AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         CreateDeployment service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<CreateDeploymentResult> createDeploymentComposableAsync(final CreateDeploymentRequest createDeploymentRequest) {
+        return executeAsync(executorService, new Callable<CreateDeploymentResult>() {
             public CreateDeploymentResult call() throws Exception {
-              CreateDeploymentResult result;
-                try {
-                result = createDeployment(createDeploymentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDeploymentRequest, result);
-                 return result;
-        }
-    });
+                return createDeployment(createDeploymentRequest);
+            }
+        }, createDeploymentRequest,
+                new CreateDeploymentRequestMarshaller(), new CreateDeploymentResultJsonUnmarshaller());
     }
     
     /**
@@ -2025,11 +2192,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetDeploymentInstanceResult> getDeploymentInstanceAsync(final GetDeploymentInstanceRequest getDeploymentInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentInstanceResult>() {
-            public GetDeploymentInstanceResult call() throws Exception {
-                return getDeploymentInstance(getDeploymentInstanceRequest);
-        }
-    });
+        return getDeploymentInstanceComposableAsync(getDeploymentInstanceRequest);
     }
 
     /**
@@ -2062,19 +2225,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentInstanceRequest getDeploymentInstanceRequest,
             final AsyncHandler<GetDeploymentInstanceRequest, GetDeploymentInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDeploymentInstanceResult>() {
+        return withAsyncHandler(getDeploymentInstanceComposableAsync(getDeploymentInstanceRequest),
+                getDeploymentInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDeploymentInstance operation like
+     * {@link #getDeploymentInstanceAsync(GetDeploymentInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getDeploymentInstanceRequest Container for the necessary
+     *           parameters to execute the GetDeploymentInstance operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         GetDeploymentInstance service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetDeploymentInstanceResult> getDeploymentInstanceComposableAsync(final GetDeploymentInstanceRequest getDeploymentInstanceRequest) {
+        return executeAsync(executorService, new Callable<GetDeploymentInstanceResult>() {
             public GetDeploymentInstanceResult call() throws Exception {
-              GetDeploymentInstanceResult result;
-                try {
-                result = getDeploymentInstance(getDeploymentInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDeploymentInstanceRequest, result);
-                 return result;
-        }
-    });
+                return getDeploymentInstance(getDeploymentInstanceRequest);
+            }
+        }, getDeploymentInstanceRequest,
+                new GetDeploymentInstanceRequestMarshaller(), new GetDeploymentInstanceResultJsonUnmarshaller());
     }
     
     /**
@@ -2100,11 +2275,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<ListDeploymentConfigsResult> listDeploymentConfigsAsync(final ListDeploymentConfigsRequest listDeploymentConfigsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentConfigsResult>() {
-            public ListDeploymentConfigsResult call() throws Exception {
-                return listDeploymentConfigs(listDeploymentConfigsRequest);
-        }
-    });
+        return listDeploymentConfigsComposableAsync(listDeploymentConfigsRequest);
     }
 
     /**
@@ -2136,19 +2307,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentConfigsRequest listDeploymentConfigsRequest,
             final AsyncHandler<ListDeploymentConfigsRequest, ListDeploymentConfigsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeploymentConfigsResult>() {
+        return withAsyncHandler(listDeploymentConfigsComposableAsync(listDeploymentConfigsRequest),
+                listDeploymentConfigsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDeploymentConfigs operation like
+     * {@link #listDeploymentConfigsAsync(ListDeploymentConfigsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listDeploymentConfigsRequest Container for the necessary
+     *           parameters to execute the ListDeploymentConfigs operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         ListDeploymentConfigs service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<ListDeploymentConfigsResult> listDeploymentConfigsComposableAsync(final ListDeploymentConfigsRequest listDeploymentConfigsRequest) {
+        return executeAsync(executorService, new Callable<ListDeploymentConfigsResult>() {
             public ListDeploymentConfigsResult call() throws Exception {
-              ListDeploymentConfigsResult result;
-                try {
-                result = listDeploymentConfigs(listDeploymentConfigsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDeploymentConfigsRequest, result);
-                 return result;
-        }
-    });
+                return listDeploymentConfigs(listDeploymentConfigsRequest);
+            }
+        }, listDeploymentConfigsRequest,
+                new ListDeploymentConfigsRequestMarshaller(), new ListDeploymentConfigsResultJsonUnmarshaller());
     }
     
     /**
@@ -2175,11 +2358,7 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public Future<GetApplicationRevisionResult> getApplicationRevisionAsync(final GetApplicationRevisionRequest getApplicationRevisionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetApplicationRevisionResult>() {
-            public GetApplicationRevisionResult call() throws Exception {
-                return getApplicationRevision(getApplicationRevisionRequest);
-        }
-    });
+        return getApplicationRevisionComposableAsync(getApplicationRevisionRequest);
     }
 
     /**
@@ -2212,19 +2391,31 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRevisionRequest getApplicationRevisionRequest,
             final AsyncHandler<GetApplicationRevisionRequest, GetApplicationRevisionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetApplicationRevisionResult>() {
+        return withAsyncHandler(getApplicationRevisionComposableAsync(getApplicationRevisionRequest),
+                getApplicationRevisionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetApplicationRevision operation like
+     * {@link #getApplicationRevisionAsync(GetApplicationRevisionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getApplicationRevisionRequest Container for the necessary
+     *           parameters to execute the GetApplicationRevision operation on
+     *           AmazonCodeDeploy.
+     *
+     * @return A composable future for the response from the
+     *         GetApplicationRevision service method, as returned by
+     *         AmazonCodeDeploy.
+     */
+    public ComposableFuture<GetApplicationRevisionResult> getApplicationRevisionComposableAsync(final GetApplicationRevisionRequest getApplicationRevisionRequest) {
+        return executeAsync(executorService, new Callable<GetApplicationRevisionResult>() {
             public GetApplicationRevisionResult call() throws Exception {
-              GetApplicationRevisionResult result;
-                try {
-                result = getApplicationRevision(getApplicationRevisionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getApplicationRevisionRequest, result);
-                 return result;
-        }
-    });
+                return getApplicationRevision(getApplicationRevisionRequest);
+            }
+        }, getApplicationRevisionRequest,
+                new GetApplicationRevisionRequestMarshaller(), new GetApplicationRevisionResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cognitoidentity.model.*;
+import com.amazonaws.services.cognitoidentity.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCognitoIdentity.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Cognito <p>
  * Amazon Cognito is a web service that delivers scoped temporary
  * credentials to mobile devices and other untrusted environments. Amazon
@@ -340,12 +344,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<Void> unlinkDeveloperIdentityAsync(final UnlinkDeveloperIdentityRequest unlinkDeveloperIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unlinkDeveloperIdentity(unlinkDeveloperIdentityRequest);
-                return null;
-        }
-    });
+        return unlinkDeveloperIdentityComposableAsync(unlinkDeveloperIdentityRequest);
     }
 
     /**
@@ -382,18 +381,32 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final UnlinkDeveloperIdentityRequest unlinkDeveloperIdentityRequest,
             final AsyncHandler<UnlinkDeveloperIdentityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unlinkDeveloperIdentityComposableAsync(unlinkDeveloperIdentityRequest),
+                unlinkDeveloperIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnlinkDeveloperIdentity operation like
+     * {@link #unlinkDeveloperIdentityAsync(UnlinkDeveloperIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param unlinkDeveloperIdentityRequest Container for the necessary
+     *           parameters to execute the UnlinkDeveloperIdentity operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         UnlinkDeveloperIdentity service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<Void> unlinkDeveloperIdentityComposableAsync(final UnlinkDeveloperIdentityRequest unlinkDeveloperIdentityRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unlinkDeveloperIdentity(unlinkDeveloperIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unlinkDeveloperIdentityRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unlinkDeveloperIdentityRequest,
+                new UnlinkDeveloperIdentityRequestMarshaller(), null);
     }
     
     /**
@@ -421,11 +434,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<DescribeIdentityPoolResult> describeIdentityPoolAsync(final DescribeIdentityPoolRequest describeIdentityPoolRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityPoolResult>() {
-            public DescribeIdentityPoolResult call() throws Exception {
-                return describeIdentityPool(describeIdentityPoolRequest);
-        }
-    });
+        return describeIdentityPoolComposableAsync(describeIdentityPoolRequest);
     }
 
     /**
@@ -459,19 +468,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final DescribeIdentityPoolRequest describeIdentityPoolRequest,
             final AsyncHandler<DescribeIdentityPoolRequest, DescribeIdentityPoolResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityPoolResult>() {
+        return withAsyncHandler(describeIdentityPoolComposableAsync(describeIdentityPoolRequest),
+                describeIdentityPoolRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIdentityPool operation like
+     * {@link #describeIdentityPoolAsync(DescribeIdentityPoolRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeIdentityPoolRequest Container for the necessary
+     *           parameters to execute the DescribeIdentityPool operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIdentityPool service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<DescribeIdentityPoolResult> describeIdentityPoolComposableAsync(final DescribeIdentityPoolRequest describeIdentityPoolRequest) {
+        return executeAsync(executorService, new Callable<DescribeIdentityPoolResult>() {
             public DescribeIdentityPoolResult call() throws Exception {
-              DescribeIdentityPoolResult result;
-                try {
-                result = describeIdentityPool(describeIdentityPoolRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdentityPoolRequest, result);
-                 return result;
-        }
-    });
+                return describeIdentityPool(describeIdentityPoolRequest);
+            }
+        }, describeIdentityPoolRequest,
+                new DescribeIdentityPoolRequestMarshaller(), new DescribeIdentityPoolResultJsonUnmarshaller());
     }
     
     /**
@@ -497,11 +518,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<GetIdResult> getIdAsync(final GetIdRequest getIdRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdResult>() {
-            public GetIdResult call() throws Exception {
-                return getId(getIdRequest);
-        }
-    });
+        return getIdComposableAsync(getIdRequest);
     }
 
     /**
@@ -533,19 +550,28 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final GetIdRequest getIdRequest,
             final AsyncHandler<GetIdRequest, GetIdResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdResult>() {
+        return withAsyncHandler(getIdComposableAsync(getIdRequest),
+                getIdRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetId operation like
+     * {@link #getIdAsync(GetIdRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param getIdRequest Container for the necessary parameters to execute
+     *           the GetId operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the GetId service
+     *         method, as returned by AmazonCognitoIdentity.
+     */
+    public ComposableFuture<GetIdResult> getIdComposableAsync(final GetIdRequest getIdRequest) {
+        return executeAsync(executorService, new Callable<GetIdResult>() {
             public GetIdResult call() throws Exception {
-              GetIdResult result;
-                try {
-                result = getId(getIdRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdRequest, result);
-                 return result;
-        }
-    });
+                return getId(getIdRequest);
+            }
+        }, getIdRequest,
+                new GetIdRequestMarshaller(), new GetIdResultJsonUnmarshaller());
     }
     
     /**
@@ -573,12 +599,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<Void> deleteIdentityPoolAsync(final DeleteIdentityPoolRequest deleteIdentityPoolRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteIdentityPool(deleteIdentityPoolRequest);
-                return null;
-        }
-    });
+        return deleteIdentityPoolComposableAsync(deleteIdentityPoolRequest);
     }
 
     /**
@@ -612,18 +633,32 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final DeleteIdentityPoolRequest deleteIdentityPoolRequest,
             final AsyncHandler<DeleteIdentityPoolRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteIdentityPoolComposableAsync(deleteIdentityPoolRequest),
+                deleteIdentityPoolRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteIdentityPool operation like
+     * {@link #deleteIdentityPoolAsync(DeleteIdentityPoolRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteIdentityPoolRequest Container for the necessary
+     *           parameters to execute the DeleteIdentityPool operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         DeleteIdentityPool service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<Void> deleteIdentityPoolComposableAsync(final DeleteIdentityPoolRequest deleteIdentityPoolRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteIdentityPool(deleteIdentityPoolRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIdentityPoolRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteIdentityPoolRequest,
+                new DeleteIdentityPoolRequestMarshaller(), null);
     }
     
     /**
@@ -650,11 +685,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<UpdateIdentityPoolResult> updateIdentityPoolAsync(final UpdateIdentityPoolRequest updateIdentityPoolRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateIdentityPoolResult>() {
-            public UpdateIdentityPoolResult call() throws Exception {
-                return updateIdentityPool(updateIdentityPoolRequest);
-        }
-    });
+        return updateIdentityPoolComposableAsync(updateIdentityPoolRequest);
     }
 
     /**
@@ -687,19 +718,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final UpdateIdentityPoolRequest updateIdentityPoolRequest,
             final AsyncHandler<UpdateIdentityPoolRequest, UpdateIdentityPoolResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateIdentityPoolResult>() {
+        return withAsyncHandler(updateIdentityPoolComposableAsync(updateIdentityPoolRequest),
+                updateIdentityPoolRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateIdentityPool operation like
+     * {@link #updateIdentityPoolAsync(UpdateIdentityPoolRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateIdentityPoolRequest Container for the necessary
+     *           parameters to execute the UpdateIdentityPool operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         UpdateIdentityPool service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<UpdateIdentityPoolResult> updateIdentityPoolComposableAsync(final UpdateIdentityPoolRequest updateIdentityPoolRequest) {
+        return executeAsync(executorService, new Callable<UpdateIdentityPoolResult>() {
             public UpdateIdentityPoolResult call() throws Exception {
-              UpdateIdentityPoolResult result;
-                try {
-                result = updateIdentityPool(updateIdentityPoolRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateIdentityPoolRequest, result);
-                 return result;
-        }
-    });
+                return updateIdentityPool(updateIdentityPoolRequest);
+            }
+        }, updateIdentityPoolRequest,
+                new UpdateIdentityPoolRequestMarshaller(), new UpdateIdentityPoolResultJsonUnmarshaller());
     }
     
     /**
@@ -729,11 +772,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<GetCredentialsForIdentityResult> getCredentialsForIdentityAsync(final GetCredentialsForIdentityRequest getCredentialsForIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCredentialsForIdentityResult>() {
-            public GetCredentialsForIdentityResult call() throws Exception {
-                return getCredentialsForIdentity(getCredentialsForIdentityRequest);
-        }
-    });
+        return getCredentialsForIdentityComposableAsync(getCredentialsForIdentityRequest);
     }
 
     /**
@@ -769,19 +808,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final GetCredentialsForIdentityRequest getCredentialsForIdentityRequest,
             final AsyncHandler<GetCredentialsForIdentityRequest, GetCredentialsForIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCredentialsForIdentityResult>() {
+        return withAsyncHandler(getCredentialsForIdentityComposableAsync(getCredentialsForIdentityRequest),
+                getCredentialsForIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetCredentialsForIdentity operation like
+     * {@link #getCredentialsForIdentityAsync(GetCredentialsForIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getCredentialsForIdentityRequest Container for the necessary
+     *           parameters to execute the GetCredentialsForIdentity operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         GetCredentialsForIdentity service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<GetCredentialsForIdentityResult> getCredentialsForIdentityComposableAsync(final GetCredentialsForIdentityRequest getCredentialsForIdentityRequest) {
+        return executeAsync(executorService, new Callable<GetCredentialsForIdentityResult>() {
             public GetCredentialsForIdentityResult call() throws Exception {
-              GetCredentialsForIdentityResult result;
-                try {
-                result = getCredentialsForIdentity(getCredentialsForIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getCredentialsForIdentityRequest, result);
-                 return result;
-        }
-    });
+                return getCredentialsForIdentity(getCredentialsForIdentityRequest);
+            }
+        }, getCredentialsForIdentityRequest,
+                new GetCredentialsForIdentityRequestMarshaller(), new GetCredentialsForIdentityResultJsonUnmarshaller());
     }
     
     /**
@@ -817,11 +868,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<MergeDeveloperIdentitiesResult> mergeDeveloperIdentitiesAsync(final MergeDeveloperIdentitiesRequest mergeDeveloperIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MergeDeveloperIdentitiesResult>() {
-            public MergeDeveloperIdentitiesResult call() throws Exception {
-                return mergeDeveloperIdentities(mergeDeveloperIdentitiesRequest);
-        }
-    });
+        return mergeDeveloperIdentitiesComposableAsync(mergeDeveloperIdentitiesRequest);
     }
 
     /**
@@ -863,19 +910,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final MergeDeveloperIdentitiesRequest mergeDeveloperIdentitiesRequest,
             final AsyncHandler<MergeDeveloperIdentitiesRequest, MergeDeveloperIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MergeDeveloperIdentitiesResult>() {
+        return withAsyncHandler(mergeDeveloperIdentitiesComposableAsync(mergeDeveloperIdentitiesRequest),
+                mergeDeveloperIdentitiesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the MergeDeveloperIdentities operation like
+     * {@link #mergeDeveloperIdentitiesAsync(MergeDeveloperIdentitiesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param mergeDeveloperIdentitiesRequest Container for the necessary
+     *           parameters to execute the MergeDeveloperIdentities operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         MergeDeveloperIdentities service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<MergeDeveloperIdentitiesResult> mergeDeveloperIdentitiesComposableAsync(final MergeDeveloperIdentitiesRequest mergeDeveloperIdentitiesRequest) {
+        return executeAsync(executorService, new Callable<MergeDeveloperIdentitiesResult>() {
             public MergeDeveloperIdentitiesResult call() throws Exception {
-              MergeDeveloperIdentitiesResult result;
-                try {
-                result = mergeDeveloperIdentities(mergeDeveloperIdentitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(mergeDeveloperIdentitiesRequest, result);
-                 return result;
-        }
-    });
+                return mergeDeveloperIdentities(mergeDeveloperIdentitiesRequest);
+            }
+        }, mergeDeveloperIdentitiesRequest,
+                new MergeDeveloperIdentitiesRequestMarshaller(), new MergeDeveloperIdentitiesResultJsonUnmarshaller());
     }
     
     /**
@@ -901,11 +960,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<ListIdentityPoolsResult> listIdentityPoolsAsync(final ListIdentityPoolsRequest listIdentityPoolsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoolsResult>() {
-            public ListIdentityPoolsResult call() throws Exception {
-                return listIdentityPools(listIdentityPoolsRequest);
-        }
-    });
+        return listIdentityPoolsComposableAsync(listIdentityPoolsRequest);
     }
 
     /**
@@ -937,19 +992,30 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final ListIdentityPoolsRequest listIdentityPoolsRequest,
             final AsyncHandler<ListIdentityPoolsRequest, ListIdentityPoolsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoolsResult>() {
+        return withAsyncHandler(listIdentityPoolsComposableAsync(listIdentityPoolsRequest),
+                listIdentityPoolsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListIdentityPools operation like
+     * {@link #listIdentityPoolsAsync(ListIdentityPoolsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listIdentityPoolsRequest Container for the necessary parameters
+     *           to execute the ListIdentityPools operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         ListIdentityPools service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<ListIdentityPoolsResult> listIdentityPoolsComposableAsync(final ListIdentityPoolsRequest listIdentityPoolsRequest) {
+        return executeAsync(executorService, new Callable<ListIdentityPoolsResult>() {
             public ListIdentityPoolsResult call() throws Exception {
-              ListIdentityPoolsResult result;
-                try {
-                result = listIdentityPools(listIdentityPoolsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentityPoolsRequest, result);
-                 return result;
-        }
-    });
+                return listIdentityPools(listIdentityPoolsRequest);
+            }
+        }, listIdentityPoolsRequest,
+                new ListIdentityPoolsRequestMarshaller(), new ListIdentityPoolsResultJsonUnmarshaller());
     }
     
     /**
@@ -979,11 +1045,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<GetOpenIdTokenResult> getOpenIdTokenAsync(final GetOpenIdTokenRequest getOpenIdTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIdTokenResult>() {
-            public GetOpenIdTokenResult call() throws Exception {
-                return getOpenIdToken(getOpenIdTokenRequest);
-        }
-    });
+        return getOpenIdTokenComposableAsync(getOpenIdTokenRequest);
     }
 
     /**
@@ -1019,19 +1081,28 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final GetOpenIdTokenRequest getOpenIdTokenRequest,
             final AsyncHandler<GetOpenIdTokenRequest, GetOpenIdTokenResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIdTokenResult>() {
+        return withAsyncHandler(getOpenIdTokenComposableAsync(getOpenIdTokenRequest),
+                getOpenIdTokenRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetOpenIdToken operation like
+     * {@link #getOpenIdTokenAsync(GetOpenIdTokenRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getOpenIdTokenRequest Container for the necessary parameters to
+     *           execute the GetOpenIdToken operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the GetOpenIdToken
+     *         service method, as returned by AmazonCognitoIdentity.
+     */
+    public ComposableFuture<GetOpenIdTokenResult> getOpenIdTokenComposableAsync(final GetOpenIdTokenRequest getOpenIdTokenRequest) {
+        return executeAsync(executorService, new Callable<GetOpenIdTokenResult>() {
             public GetOpenIdTokenResult call() throws Exception {
-              GetOpenIdTokenResult result;
-                try {
-                result = getOpenIdToken(getOpenIdTokenRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getOpenIdTokenRequest, result);
-                 return result;
-        }
-    });
+                return getOpenIdToken(getOpenIdTokenRequest);
+            }
+        }, getOpenIdTokenRequest,
+                new GetOpenIdTokenRequestMarshaller(), new GetOpenIdTokenResultJsonUnmarshaller());
     }
     
     /**
@@ -1057,11 +1128,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<DescribeIdentityResult> describeIdentityAsync(final DescribeIdentityRequest describeIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityResult>() {
-            public DescribeIdentityResult call() throws Exception {
-                return describeIdentity(describeIdentityRequest);
-        }
-    });
+        return describeIdentityComposableAsync(describeIdentityRequest);
     }
 
     /**
@@ -1093,19 +1160,29 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final DescribeIdentityRequest describeIdentityRequest,
             final AsyncHandler<DescribeIdentityRequest, DescribeIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityResult>() {
+        return withAsyncHandler(describeIdentityComposableAsync(describeIdentityRequest),
+                describeIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIdentity operation like
+     * {@link #describeIdentityAsync(DescribeIdentityRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeIdentityRequest Container for the necessary parameters
+     *           to execute the DescribeIdentity operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIdentity service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<DescribeIdentityResult> describeIdentityComposableAsync(final DescribeIdentityRequest describeIdentityRequest) {
+        return executeAsync(executorService, new Callable<DescribeIdentityResult>() {
             public DescribeIdentityResult call() throws Exception {
-              DescribeIdentityResult result;
-                try {
-                result = describeIdentity(describeIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdentityRequest, result);
-                 return result;
-        }
-    });
+                return describeIdentity(describeIdentityRequest);
+            }
+        }, describeIdentityRequest,
+                new DescribeIdentityRequestMarshaller(), new DescribeIdentityResultJsonUnmarshaller());
     }
     
     /**
@@ -1143,11 +1220,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<LookupDeveloperIdentityResult> lookupDeveloperIdentityAsync(final LookupDeveloperIdentityRequest lookupDeveloperIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<LookupDeveloperIdentityResult>() {
-            public LookupDeveloperIdentityResult call() throws Exception {
-                return lookupDeveloperIdentity(lookupDeveloperIdentityRequest);
-        }
-    });
+        return lookupDeveloperIdentityComposableAsync(lookupDeveloperIdentityRequest);
     }
 
     /**
@@ -1191,19 +1264,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final LookupDeveloperIdentityRequest lookupDeveloperIdentityRequest,
             final AsyncHandler<LookupDeveloperIdentityRequest, LookupDeveloperIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<LookupDeveloperIdentityResult>() {
+        return withAsyncHandler(lookupDeveloperIdentityComposableAsync(lookupDeveloperIdentityRequest),
+                lookupDeveloperIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the LookupDeveloperIdentity operation like
+     * {@link #lookupDeveloperIdentityAsync(LookupDeveloperIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param lookupDeveloperIdentityRequest Container for the necessary
+     *           parameters to execute the LookupDeveloperIdentity operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         LookupDeveloperIdentity service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<LookupDeveloperIdentityResult> lookupDeveloperIdentityComposableAsync(final LookupDeveloperIdentityRequest lookupDeveloperIdentityRequest) {
+        return executeAsync(executorService, new Callable<LookupDeveloperIdentityResult>() {
             public LookupDeveloperIdentityResult call() throws Exception {
-              LookupDeveloperIdentityResult result;
-                try {
-                result = lookupDeveloperIdentity(lookupDeveloperIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(lookupDeveloperIdentityRequest, result);
-                 return result;
-        }
-    });
+                return lookupDeveloperIdentity(lookupDeveloperIdentityRequest);
+            }
+        }, lookupDeveloperIdentityRequest,
+                new LookupDeveloperIdentityRequestMarshaller(), new LookupDeveloperIdentityResultJsonUnmarshaller());
     }
     
     /**
@@ -1231,12 +1316,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<Void> setIdentityPoolRolesAsync(final SetIdentityPoolRolesRequest setIdentityPoolRolesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setIdentityPoolRoles(setIdentityPoolRolesRequest);
-                return null;
-        }
-    });
+        return setIdentityPoolRolesComposableAsync(setIdentityPoolRolesRequest);
     }
 
     /**
@@ -1270,18 +1350,32 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final SetIdentityPoolRolesRequest setIdentityPoolRolesRequest,
             final AsyncHandler<SetIdentityPoolRolesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setIdentityPoolRolesComposableAsync(setIdentityPoolRolesRequest),
+                setIdentityPoolRolesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetIdentityPoolRoles operation like
+     * {@link #setIdentityPoolRolesAsync(SetIdentityPoolRolesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setIdentityPoolRolesRequest Container for the necessary
+     *           parameters to execute the SetIdentityPoolRoles operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         SetIdentityPoolRoles service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<Void> setIdentityPoolRolesComposableAsync(final SetIdentityPoolRolesRequest setIdentityPoolRolesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setIdentityPoolRoles(setIdentityPoolRolesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityPoolRolesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setIdentityPoolRolesRequest,
+                new SetIdentityPoolRolesRequestMarshaller(), null);
     }
     
     /**
@@ -1308,12 +1402,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<Void> unlinkIdentityAsync(final UnlinkIdentityRequest unlinkIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unlinkIdentity(unlinkIdentityRequest);
-                return null;
-        }
-    });
+        return unlinkIdentityComposableAsync(unlinkIdentityRequest);
     }
 
     /**
@@ -1346,18 +1435,29 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final UnlinkIdentityRequest unlinkIdentityRequest,
             final AsyncHandler<UnlinkIdentityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unlinkIdentityComposableAsync(unlinkIdentityRequest),
+                unlinkIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnlinkIdentity operation like
+     * {@link #unlinkIdentityAsync(UnlinkIdentityRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param unlinkIdentityRequest Container for the necessary parameters to
+     *           execute the UnlinkIdentity operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the UnlinkIdentity
+     *         service method, as returned by AmazonCognitoIdentity.
+     */
+    public ComposableFuture<Void> unlinkIdentityComposableAsync(final UnlinkIdentityRequest unlinkIdentityRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unlinkIdentity(unlinkIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unlinkIdentityRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unlinkIdentityRequest,
+                new UnlinkIdentityRequestMarshaller(), null);
     }
     
     /**
@@ -1382,11 +1482,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<ListIdentitiesResult> listIdentitiesAsync(final ListIdentitiesRequest listIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-        }
-    });
+        return listIdentitiesComposableAsync(listIdentitiesRequest);
     }
 
     /**
@@ -1417,19 +1513,28 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return withAsyncHandler(listIdentitiesComposableAsync(listIdentitiesRequest),
+                listIdentitiesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListIdentities operation like
+     * {@link #listIdentitiesAsync(ListIdentitiesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listIdentitiesRequest Container for the necessary parameters to
+     *           execute the ListIdentities operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the ListIdentities
+     *         service method, as returned by AmazonCognitoIdentity.
+     */
+    public ComposableFuture<ListIdentitiesResult> listIdentitiesComposableAsync(final ListIdentitiesRequest listIdentitiesRequest) {
+        return executeAsync(executorService, new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
-              ListIdentitiesResult result;
-                try {
-                result = listIdentities(listIdentitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentitiesRequest, result);
-                 return result;
-        }
-    });
+                return listIdentities(listIdentitiesRequest);
+            }
+        }, listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(), new ListIdentitiesResultJsonUnmarshaller());
     }
     
     /**
@@ -1456,11 +1561,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<GetIdentityPoolRolesResult> getIdentityPoolRolesAsync(final GetIdentityPoolRolesRequest getIdentityPoolRolesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoolRolesResult>() {
-            public GetIdentityPoolRolesResult call() throws Exception {
-                return getIdentityPoolRoles(getIdentityPoolRolesRequest);
-        }
-    });
+        return getIdentityPoolRolesComposableAsync(getIdentityPoolRolesRequest);
     }
 
     /**
@@ -1493,19 +1594,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final GetIdentityPoolRolesRequest getIdentityPoolRolesRequest,
             final AsyncHandler<GetIdentityPoolRolesRequest, GetIdentityPoolRolesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoolRolesResult>() {
+        return withAsyncHandler(getIdentityPoolRolesComposableAsync(getIdentityPoolRolesRequest),
+                getIdentityPoolRolesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetIdentityPoolRoles operation like
+     * {@link #getIdentityPoolRolesAsync(GetIdentityPoolRolesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getIdentityPoolRolesRequest Container for the necessary
+     *           parameters to execute the GetIdentityPoolRoles operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         GetIdentityPoolRoles service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<GetIdentityPoolRolesResult> getIdentityPoolRolesComposableAsync(final GetIdentityPoolRolesRequest getIdentityPoolRolesRequest) {
+        return executeAsync(executorService, new Callable<GetIdentityPoolRolesResult>() {
             public GetIdentityPoolRolesResult call() throws Exception {
-              GetIdentityPoolRolesResult result;
-                try {
-                result = getIdentityPoolRoles(getIdentityPoolRolesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityPoolRolesRequest, result);
-                 return result;
-        }
-    });
+                return getIdentityPoolRoles(getIdentityPoolRolesRequest);
+            }
+        }, getIdentityPoolRolesRequest,
+                new GetIdentityPoolRolesRequestMarshaller(), new GetIdentityPoolRolesResultJsonUnmarshaller());
     }
     
     /**
@@ -1549,11 +1662,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<GetOpenIdTokenForDeveloperIdentityResult> getOpenIdTokenForDeveloperIdentityAsync(final GetOpenIdTokenForDeveloperIdentityRequest getOpenIdTokenForDeveloperIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIdTokenForDeveloperIdentityResult>() {
-            public GetOpenIdTokenForDeveloperIdentityResult call() throws Exception {
-                return getOpenIdTokenForDeveloperIdentity(getOpenIdTokenForDeveloperIdentityRequest);
-        }
-    });
+        return getOpenIdTokenForDeveloperIdentityComposableAsync(getOpenIdTokenForDeveloperIdentityRequest);
     }
 
     /**
@@ -1603,19 +1712,32 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final GetOpenIdTokenForDeveloperIdentityRequest getOpenIdTokenForDeveloperIdentityRequest,
             final AsyncHandler<GetOpenIdTokenForDeveloperIdentityRequest, GetOpenIdTokenForDeveloperIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIdTokenForDeveloperIdentityResult>() {
+        return withAsyncHandler(getOpenIdTokenForDeveloperIdentityComposableAsync(getOpenIdTokenForDeveloperIdentityRequest),
+                getOpenIdTokenForDeveloperIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetOpenIdTokenForDeveloperIdentity
+     * operation like
+     * {@link #getOpenIdTokenForDeveloperIdentityAsync(GetOpenIdTokenForDeveloperIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getOpenIdTokenForDeveloperIdentityRequest Container for the
+     *           necessary parameters to execute the GetOpenIdTokenForDeveloperIdentity
+     *           operation on AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         GetOpenIdTokenForDeveloperIdentity service method, as
+     *         returned by AmazonCognitoIdentity.
+     */
+    public ComposableFuture<GetOpenIdTokenForDeveloperIdentityResult> getOpenIdTokenForDeveloperIdentityComposableAsync(final GetOpenIdTokenForDeveloperIdentityRequest getOpenIdTokenForDeveloperIdentityRequest) {
+        return executeAsync(executorService, new Callable<GetOpenIdTokenForDeveloperIdentityResult>() {
             public GetOpenIdTokenForDeveloperIdentityResult call() throws Exception {
-              GetOpenIdTokenForDeveloperIdentityResult result;
-                try {
-                result = getOpenIdTokenForDeveloperIdentity(getOpenIdTokenForDeveloperIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getOpenIdTokenForDeveloperIdentityRequest, result);
-                 return result;
-        }
-    });
+                return getOpenIdTokenForDeveloperIdentity(getOpenIdTokenForDeveloperIdentityRequest);
+            }
+        }, getOpenIdTokenForDeveloperIdentityRequest,
+                new GetOpenIdTokenForDeveloperIdentityRequestMarshaller(), new GetOpenIdTokenForDeveloperIdentityResultJsonUnmarshaller());
     }
     
     /**
@@ -1644,11 +1766,7 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
      */
     public Future<CreateIdentityPoolResult> createIdentityPoolAsync(final CreateIdentityPoolRequest createIdentityPoolRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIdentityPoolResult>() {
-            public CreateIdentityPoolResult call() throws Exception {
-                return createIdentityPool(createIdentityPoolRequest);
-        }
-    });
+        return createIdentityPoolComposableAsync(createIdentityPoolRequest);
     }
 
     /**
@@ -1683,19 +1801,31 @@ public class AmazonCognitoIdentityAsyncClient extends AmazonCognitoIdentityClien
             final CreateIdentityPoolRequest createIdentityPoolRequest,
             final AsyncHandler<CreateIdentityPoolRequest, CreateIdentityPoolResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateIdentityPoolResult>() {
+        return withAsyncHandler(createIdentityPoolComposableAsync(createIdentityPoolRequest),
+                createIdentityPoolRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateIdentityPool operation like
+     * {@link #createIdentityPoolAsync(CreateIdentityPoolRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createIdentityPoolRequest Container for the necessary
+     *           parameters to execute the CreateIdentityPool operation on
+     *           AmazonCognitoIdentity.
+     *
+     * @return A composable future for the response from the
+     *         CreateIdentityPool service method, as returned by
+     *         AmazonCognitoIdentity.
+     */
+    public ComposableFuture<CreateIdentityPoolResult> createIdentityPoolComposableAsync(final CreateIdentityPoolRequest createIdentityPoolRequest) {
+        return executeAsync(executorService, new Callable<CreateIdentityPoolResult>() {
             public CreateIdentityPoolResult call() throws Exception {
-              CreateIdentityPoolResult result;
-                try {
-                result = createIdentityPool(createIdentityPoolRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createIdentityPoolRequest, result);
-                 return result;
-        }
-    });
+                return createIdentityPool(createIdentityPoolRequest);
+            }
+        }, createIdentityPoolRequest,
+                new CreateIdentityPoolRequestMarshaller(), new CreateIdentityPoolResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.cognitosync.model.*;
+import com.amazonaws.services.cognitosync.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonCognitoSync.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Cognito Sync <p>
  * Amazon Cognito Sync provides an AWS service and client library that
  * enable cross-device syncing of application-related user data.
@@ -312,11 +316,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<UpdateRecordsResult> updateRecordsAsync(final UpdateRecordsRequest updateRecordsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateRecordsResult>() {
-            public UpdateRecordsResult call() throws Exception {
-                return updateRecords(updateRecordsRequest);
-        }
-    });
+        return updateRecordsComposableAsync(updateRecordsRequest);
     }
 
     /**
@@ -351,19 +351,28 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UpdateRecordsRequest updateRecordsRequest,
             final AsyncHandler<UpdateRecordsRequest, UpdateRecordsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateRecordsResult>() {
+        return withAsyncHandler(updateRecordsComposableAsync(updateRecordsRequest),
+                updateRecordsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateRecords operation like
+     * {@link #updateRecordsAsync(UpdateRecordsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param updateRecordsRequest Container for the necessary parameters to
+     *           execute the UpdateRecords operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the UpdateRecords
+     *         service method, as returned by AmazonCognitoSync.
+     */
+    public ComposableFuture<UpdateRecordsResult> updateRecordsComposableAsync(final UpdateRecordsRequest updateRecordsRequest) {
+        return executeAsync(executorService, new Callable<UpdateRecordsResult>() {
             public UpdateRecordsResult call() throws Exception {
-              UpdateRecordsResult result;
-                try {
-                result = updateRecords(updateRecordsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateRecordsRequest, result);
-                 return result;
-        }
-    });
+                return updateRecords(updateRecordsRequest);
+            }
+        }, updateRecordsRequest,
+                new UpdateRecordsRequestMarshaller(), new UpdateRecordsResultJsonUnmarshaller());
     }
     
     /**
@@ -391,11 +400,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<DescribeIdentityUsageResult> describeIdentityUsageAsync(final DescribeIdentityUsageRequest describeIdentityUsageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityUsageResult>() {
-            public DescribeIdentityUsageResult call() throws Exception {
-                return describeIdentityUsage(describeIdentityUsageRequest);
-        }
-    });
+        return describeIdentityUsageComposableAsync(describeIdentityUsageRequest);
     }
 
     /**
@@ -429,19 +434,31 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityUsageRequest describeIdentityUsageRequest,
             final AsyncHandler<DescribeIdentityUsageRequest, DescribeIdentityUsageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityUsageResult>() {
+        return withAsyncHandler(describeIdentityUsageComposableAsync(describeIdentityUsageRequest),
+                describeIdentityUsageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIdentityUsage operation like
+     * {@link #describeIdentityUsageAsync(DescribeIdentityUsageRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeIdentityUsageRequest Container for the necessary
+     *           parameters to execute the DescribeIdentityUsage operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIdentityUsage service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<DescribeIdentityUsageResult> describeIdentityUsageComposableAsync(final DescribeIdentityUsageRequest describeIdentityUsageRequest) {
+        return executeAsync(executorService, new Callable<DescribeIdentityUsageResult>() {
             public DescribeIdentityUsageResult call() throws Exception {
-              DescribeIdentityUsageResult result;
-                try {
-                result = describeIdentityUsage(describeIdentityUsageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdentityUsageRequest, result);
-                 return result;
-        }
-    });
+                return describeIdentityUsage(describeIdentityUsageRequest);
+            }
+        }, describeIdentityUsageRequest,
+                new DescribeIdentityUsageRequestMarshaller(), new DescribeIdentityUsageResultJsonUnmarshaller());
     }
     
     /**
@@ -469,11 +486,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<UnsubscribeFromDatasetResult> unsubscribeFromDatasetAsync(final UnsubscribeFromDatasetRequest unsubscribeFromDatasetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnsubscribeFromDatasetResult>() {
-            public UnsubscribeFromDatasetResult call() throws Exception {
-                return unsubscribeFromDataset(unsubscribeFromDatasetRequest);
-        }
-    });
+        return unsubscribeFromDatasetComposableAsync(unsubscribeFromDatasetRequest);
     }
 
     /**
@@ -507,19 +520,31 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UnsubscribeFromDatasetRequest unsubscribeFromDatasetRequest,
             final AsyncHandler<UnsubscribeFromDatasetRequest, UnsubscribeFromDatasetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnsubscribeFromDatasetResult>() {
+        return withAsyncHandler(unsubscribeFromDatasetComposableAsync(unsubscribeFromDatasetRequest),
+                unsubscribeFromDatasetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnsubscribeFromDataset operation like
+     * {@link #unsubscribeFromDatasetAsync(UnsubscribeFromDatasetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param unsubscribeFromDatasetRequest Container for the necessary
+     *           parameters to execute the UnsubscribeFromDataset operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         UnsubscribeFromDataset service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<UnsubscribeFromDatasetResult> unsubscribeFromDatasetComposableAsync(final UnsubscribeFromDatasetRequest unsubscribeFromDatasetRequest) {
+        return executeAsync(executorService, new Callable<UnsubscribeFromDatasetResult>() {
             public UnsubscribeFromDatasetResult call() throws Exception {
-              UnsubscribeFromDatasetResult result;
-                try {
-                result = unsubscribeFromDataset(unsubscribeFromDatasetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unsubscribeFromDatasetRequest, result);
-                 return result;
-        }
-    });
+                return unsubscribeFromDataset(unsubscribeFromDatasetRequest);
+            }
+        }, unsubscribeFromDatasetRequest,
+                new UnsubscribeFromDatasetRequestMarshaller(), new UnsubscribeFromDatasetResultJsonUnmarshaller());
     }
     
     /**
@@ -546,11 +571,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<SetIdentityPoolConfigurationResult> setIdentityPoolConfigurationAsync(final SetIdentityPoolConfigurationRequest setIdentityPoolConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityPoolConfigurationResult>() {
-            public SetIdentityPoolConfigurationResult call() throws Exception {
-                return setIdentityPoolConfiguration(setIdentityPoolConfigurationRequest);
-        }
-    });
+        return setIdentityPoolConfigurationComposableAsync(setIdentityPoolConfigurationRequest);
     }
 
     /**
@@ -583,19 +604,32 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SetIdentityPoolConfigurationRequest setIdentityPoolConfigurationRequest,
             final AsyncHandler<SetIdentityPoolConfigurationRequest, SetIdentityPoolConfigurationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityPoolConfigurationResult>() {
+        return withAsyncHandler(setIdentityPoolConfigurationComposableAsync(setIdentityPoolConfigurationRequest),
+                setIdentityPoolConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetIdentityPoolConfiguration operation
+     * like
+     * {@link #setIdentityPoolConfigurationAsync(SetIdentityPoolConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setIdentityPoolConfigurationRequest Container for the necessary
+     *           parameters to execute the SetIdentityPoolConfiguration operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         SetIdentityPoolConfiguration service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<SetIdentityPoolConfigurationResult> setIdentityPoolConfigurationComposableAsync(final SetIdentityPoolConfigurationRequest setIdentityPoolConfigurationRequest) {
+        return executeAsync(executorService, new Callable<SetIdentityPoolConfigurationResult>() {
             public SetIdentityPoolConfigurationResult call() throws Exception {
-              SetIdentityPoolConfigurationResult result;
-                try {
-                result = setIdentityPoolConfiguration(setIdentityPoolConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityPoolConfigurationRequest, result);
-                 return result;
-        }
-    });
+                return setIdentityPoolConfiguration(setIdentityPoolConfigurationRequest);
+            }
+        }, setIdentityPoolConfigurationRequest,
+                new SetIdentityPoolConfigurationRequestMarshaller(), new SetIdentityPoolConfigurationResultJsonUnmarshaller());
     }
     
     /**
@@ -622,11 +656,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<GetIdentityPoolConfigurationResult> getIdentityPoolConfigurationAsync(final GetIdentityPoolConfigurationRequest getIdentityPoolConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoolConfigurationResult>() {
-            public GetIdentityPoolConfigurationResult call() throws Exception {
-                return getIdentityPoolConfiguration(getIdentityPoolConfigurationRequest);
-        }
-    });
+        return getIdentityPoolConfigurationComposableAsync(getIdentityPoolConfigurationRequest);
     }
 
     /**
@@ -659,19 +689,32 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetIdentityPoolConfigurationRequest getIdentityPoolConfigurationRequest,
             final AsyncHandler<GetIdentityPoolConfigurationRequest, GetIdentityPoolConfigurationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoolConfigurationResult>() {
+        return withAsyncHandler(getIdentityPoolConfigurationComposableAsync(getIdentityPoolConfigurationRequest),
+                getIdentityPoolConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetIdentityPoolConfiguration operation
+     * like
+     * {@link #getIdentityPoolConfigurationAsync(GetIdentityPoolConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getIdentityPoolConfigurationRequest Container for the necessary
+     *           parameters to execute the GetIdentityPoolConfiguration operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         GetIdentityPoolConfiguration service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<GetIdentityPoolConfigurationResult> getIdentityPoolConfigurationComposableAsync(final GetIdentityPoolConfigurationRequest getIdentityPoolConfigurationRequest) {
+        return executeAsync(executorService, new Callable<GetIdentityPoolConfigurationResult>() {
             public GetIdentityPoolConfigurationResult call() throws Exception {
-              GetIdentityPoolConfigurationResult result;
-                try {
-                result = getIdentityPoolConfiguration(getIdentityPoolConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityPoolConfigurationRequest, result);
-                 return result;
-        }
-    });
+                return getIdentityPoolConfiguration(getIdentityPoolConfigurationRequest);
+            }
+        }, getIdentityPoolConfigurationRequest,
+                new GetIdentityPoolConfigurationRequestMarshaller(), new GetIdentityPoolConfigurationResultJsonUnmarshaller());
     }
     
     /**
@@ -698,11 +741,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<SubscribeToDatasetResult> subscribeToDatasetAsync(final SubscribeToDatasetRequest subscribeToDatasetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeToDatasetResult>() {
-            public SubscribeToDatasetResult call() throws Exception {
-                return subscribeToDataset(subscribeToDatasetRequest);
-        }
-    });
+        return subscribeToDatasetComposableAsync(subscribeToDatasetRequest);
     }
 
     /**
@@ -735,19 +774,31 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SubscribeToDatasetRequest subscribeToDatasetRequest,
             final AsyncHandler<SubscribeToDatasetRequest, SubscribeToDatasetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeToDatasetResult>() {
+        return withAsyncHandler(subscribeToDatasetComposableAsync(subscribeToDatasetRequest),
+                subscribeToDatasetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SubscribeToDataset operation like
+     * {@link #subscribeToDatasetAsync(SubscribeToDatasetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param subscribeToDatasetRequest Container for the necessary
+     *           parameters to execute the SubscribeToDataset operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         SubscribeToDataset service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<SubscribeToDatasetResult> subscribeToDatasetComposableAsync(final SubscribeToDatasetRequest subscribeToDatasetRequest) {
+        return executeAsync(executorService, new Callable<SubscribeToDatasetResult>() {
             public SubscribeToDatasetResult call() throws Exception {
-              SubscribeToDatasetResult result;
-                try {
-                result = subscribeToDataset(subscribeToDatasetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(subscribeToDatasetRequest, result);
-                 return result;
-        }
-    });
+                return subscribeToDataset(subscribeToDatasetRequest);
+            }
+        }, subscribeToDatasetRequest,
+                new SubscribeToDatasetRequestMarshaller(), new SubscribeToDatasetResultJsonUnmarshaller());
     }
     
     /**
@@ -775,11 +826,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<DescribeIdentityPoolUsageResult> describeIdentityPoolUsageAsync(final DescribeIdentityPoolUsageRequest describeIdentityPoolUsageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityPoolUsageResult>() {
-            public DescribeIdentityPoolUsageResult call() throws Exception {
-                return describeIdentityPoolUsage(describeIdentityPoolUsageRequest);
-        }
-    });
+        return describeIdentityPoolUsageComposableAsync(describeIdentityPoolUsageRequest);
     }
 
     /**
@@ -813,19 +860,31 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityPoolUsageRequest describeIdentityPoolUsageRequest,
             final AsyncHandler<DescribeIdentityPoolUsageRequest, DescribeIdentityPoolUsageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdentityPoolUsageResult>() {
+        return withAsyncHandler(describeIdentityPoolUsageComposableAsync(describeIdentityPoolUsageRequest),
+                describeIdentityPoolUsageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeIdentityPoolUsage operation like
+     * {@link #describeIdentityPoolUsageAsync(DescribeIdentityPoolUsageRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeIdentityPoolUsageRequest Container for the necessary
+     *           parameters to execute the DescribeIdentityPoolUsage operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         DescribeIdentityPoolUsage service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<DescribeIdentityPoolUsageResult> describeIdentityPoolUsageComposableAsync(final DescribeIdentityPoolUsageRequest describeIdentityPoolUsageRequest) {
+        return executeAsync(executorService, new Callable<DescribeIdentityPoolUsageResult>() {
             public DescribeIdentityPoolUsageResult call() throws Exception {
-              DescribeIdentityPoolUsageResult result;
-                try {
-                result = describeIdentityPoolUsage(describeIdentityPoolUsageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdentityPoolUsageRequest, result);
-                 return result;
-        }
-    });
+                return describeIdentityPoolUsage(describeIdentityPoolUsageRequest);
+            }
+        }, describeIdentityPoolUsageRequest,
+                new DescribeIdentityPoolUsageRequestMarshaller(), new DescribeIdentityPoolUsageResultJsonUnmarshaller());
     }
     
     /**
@@ -854,11 +913,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<ListDatasetsResult> listDatasetsAsync(final ListDatasetsRequest listDatasetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDatasetsResult>() {
-            public ListDatasetsResult call() throws Exception {
-                return listDatasets(listDatasetsRequest);
-        }
-    });
+        return listDatasetsComposableAsync(listDatasetsRequest);
     }
 
     /**
@@ -893,19 +948,28 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListDatasetsRequest listDatasetsRequest,
             final AsyncHandler<ListDatasetsRequest, ListDatasetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDatasetsResult>() {
+        return withAsyncHandler(listDatasetsComposableAsync(listDatasetsRequest),
+                listDatasetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDatasets operation like
+     * {@link #listDatasetsAsync(ListDatasetsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param listDatasetsRequest Container for the necessary parameters to
+     *           execute the ListDatasets operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the ListDatasets
+     *         service method, as returned by AmazonCognitoSync.
+     */
+    public ComposableFuture<ListDatasetsResult> listDatasetsComposableAsync(final ListDatasetsRequest listDatasetsRequest) {
+        return executeAsync(executorService, new Callable<ListDatasetsResult>() {
             public ListDatasetsResult call() throws Exception {
-              ListDatasetsResult result;
-                try {
-                result = listDatasets(listDatasetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDatasetsRequest, result);
-                 return result;
-        }
-    });
+                return listDatasets(listDatasetsRequest);
+            }
+        }, listDatasetsRequest,
+                new ListDatasetsRequestMarshaller(), new ListDatasetsResultJsonUnmarshaller());
     }
     
     /**
@@ -932,11 +996,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<ListIdentityPoolUsageResult> listIdentityPoolUsageAsync(final ListIdentityPoolUsageRequest listIdentityPoolUsageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoolUsageResult>() {
-            public ListIdentityPoolUsageResult call() throws Exception {
-                return listIdentityPoolUsage(listIdentityPoolUsageRequest);
-        }
-    });
+        return listIdentityPoolUsageComposableAsync(listIdentityPoolUsageRequest);
     }
 
     /**
@@ -969,19 +1029,31 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListIdentityPoolUsageRequest listIdentityPoolUsageRequest,
             final AsyncHandler<ListIdentityPoolUsageRequest, ListIdentityPoolUsageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoolUsageResult>() {
+        return withAsyncHandler(listIdentityPoolUsageComposableAsync(listIdentityPoolUsageRequest),
+                listIdentityPoolUsageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListIdentityPoolUsage operation like
+     * {@link #listIdentityPoolUsageAsync(ListIdentityPoolUsageRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listIdentityPoolUsageRequest Container for the necessary
+     *           parameters to execute the ListIdentityPoolUsage operation on
+     *           AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         ListIdentityPoolUsage service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<ListIdentityPoolUsageResult> listIdentityPoolUsageComposableAsync(final ListIdentityPoolUsageRequest listIdentityPoolUsageRequest) {
+        return executeAsync(executorService, new Callable<ListIdentityPoolUsageResult>() {
             public ListIdentityPoolUsageResult call() throws Exception {
-              ListIdentityPoolUsageResult result;
-                try {
-                result = listIdentityPoolUsage(listIdentityPoolUsageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentityPoolUsageRequest, result);
-                 return result;
-        }
-    });
+                return listIdentityPoolUsage(listIdentityPoolUsageRequest);
+            }
+        }, listIdentityPoolUsageRequest,
+                new ListIdentityPoolUsageRequestMarshaller(), new ListIdentityPoolUsageResultJsonUnmarshaller());
     }
     
     /**
@@ -1011,11 +1083,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<ListRecordsResult> listRecordsAsync(final ListRecordsRequest listRecordsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRecordsResult>() {
-            public ListRecordsResult call() throws Exception {
-                return listRecords(listRecordsRequest);
-        }
-    });
+        return listRecordsComposableAsync(listRecordsRequest);
     }
 
     /**
@@ -1051,19 +1119,28 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListRecordsRequest listRecordsRequest,
             final AsyncHandler<ListRecordsRequest, ListRecordsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRecordsResult>() {
+        return withAsyncHandler(listRecordsComposableAsync(listRecordsRequest),
+                listRecordsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListRecords operation like
+     * {@link #listRecordsAsync(ListRecordsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listRecordsRequest Container for the necessary parameters to
+     *           execute the ListRecords operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the ListRecords
+     *         service method, as returned by AmazonCognitoSync.
+     */
+    public ComposableFuture<ListRecordsResult> listRecordsComposableAsync(final ListRecordsRequest listRecordsRequest) {
+        return executeAsync(executorService, new Callable<ListRecordsResult>() {
             public ListRecordsResult call() throws Exception {
-              ListRecordsResult result;
-                try {
-                result = listRecords(listRecordsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listRecordsRequest, result);
-                 return result;
-        }
-    });
+                return listRecords(listRecordsRequest);
+            }
+        }, listRecordsRequest,
+                new ListRecordsRequestMarshaller(), new ListRecordsResultJsonUnmarshaller());
     }
     
     /**
@@ -1092,11 +1169,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<DescribeDatasetResult> describeDatasetAsync(final DescribeDatasetRequest describeDatasetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDatasetResult>() {
-            public DescribeDatasetResult call() throws Exception {
-                return describeDataset(describeDatasetRequest);
-        }
-    });
+        return describeDatasetComposableAsync(describeDatasetRequest);
     }
 
     /**
@@ -1131,19 +1204,29 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeDatasetRequest describeDatasetRequest,
             final AsyncHandler<DescribeDatasetRequest, DescribeDatasetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDatasetResult>() {
+        return withAsyncHandler(describeDatasetComposableAsync(describeDatasetRequest),
+                describeDatasetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDataset operation like
+     * {@link #describeDatasetAsync(DescribeDatasetRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeDatasetRequest Container for the necessary parameters
+     *           to execute the DescribeDataset operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDataset service method, as returned by
+     *         AmazonCognitoSync.
+     */
+    public ComposableFuture<DescribeDatasetResult> describeDatasetComposableAsync(final DescribeDatasetRequest describeDatasetRequest) {
+        return executeAsync(executorService, new Callable<DescribeDatasetResult>() {
             public DescribeDatasetResult call() throws Exception {
-              DescribeDatasetResult result;
-                try {
-                result = describeDataset(describeDatasetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDatasetRequest, result);
-                 return result;
-        }
-    });
+                return describeDataset(describeDatasetRequest);
+            }
+        }, describeDatasetRequest,
+                new DescribeDatasetRequestMarshaller(), new DescribeDatasetResultJsonUnmarshaller());
     }
     
     /**
@@ -1172,11 +1255,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<DeleteDatasetResult> deleteDatasetAsync(final DeleteDatasetRequest deleteDatasetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDatasetResult>() {
-            public DeleteDatasetResult call() throws Exception {
-                return deleteDataset(deleteDatasetRequest);
-        }
-    });
+        return deleteDatasetComposableAsync(deleteDatasetRequest);
     }
 
     /**
@@ -1211,19 +1290,28 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DeleteDatasetRequest deleteDatasetRequest,
             final AsyncHandler<DeleteDatasetRequest, DeleteDatasetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDatasetResult>() {
+        return withAsyncHandler(deleteDatasetComposableAsync(deleteDatasetRequest),
+                deleteDatasetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDataset operation like
+     * {@link #deleteDatasetAsync(DeleteDatasetRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteDatasetRequest Container for the necessary parameters to
+     *           execute the DeleteDataset operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the DeleteDataset
+     *         service method, as returned by AmazonCognitoSync.
+     */
+    public ComposableFuture<DeleteDatasetResult> deleteDatasetComposableAsync(final DeleteDatasetRequest deleteDatasetRequest) {
+        return executeAsync(executorService, new Callable<DeleteDatasetResult>() {
             public DeleteDatasetResult call() throws Exception {
-              DeleteDatasetResult result;
-                try {
-                result = deleteDataset(deleteDatasetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDatasetRequest, result);
-                 return result;
-        }
-    });
+                return deleteDataset(deleteDatasetRequest);
+            }
+        }, deleteDatasetRequest,
+                new DeleteDatasetRequestMarshaller(), new DeleteDatasetResultJsonUnmarshaller());
     }
     
     /**
@@ -1248,11 +1336,7 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public Future<RegisterDeviceResult> registerDeviceAsync(final RegisterDeviceRequest registerDeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterDeviceResult>() {
-            public RegisterDeviceResult call() throws Exception {
-                return registerDevice(registerDeviceRequest);
-        }
-    });
+        return registerDeviceComposableAsync(registerDeviceRequest);
     }
 
     /**
@@ -1283,19 +1367,28 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final RegisterDeviceRequest registerDeviceRequest,
             final AsyncHandler<RegisterDeviceRequest, RegisterDeviceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterDeviceResult>() {
+        return withAsyncHandler(registerDeviceComposableAsync(registerDeviceRequest),
+                registerDeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterDevice operation like
+     * {@link #registerDeviceAsync(RegisterDeviceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerDeviceRequest Container for the necessary parameters to
+     *           execute the RegisterDevice operation on AmazonCognitoSync.
+     *
+     * @return A composable future for the response from the RegisterDevice
+     *         service method, as returned by AmazonCognitoSync.
+     */
+    public ComposableFuture<RegisterDeviceResult> registerDeviceComposableAsync(final RegisterDeviceRequest registerDeviceRequest) {
+        return executeAsync(executorService, new Callable<RegisterDeviceResult>() {
             public RegisterDeviceResult call() throws Exception {
-              RegisterDeviceResult result;
-                try {
-                result = registerDevice(registerDeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerDeviceRequest, result);
-                 return result;
-        }
-    });
+                return registerDevice(registerDeviceRequest);
+            }
+        }, registerDeviceRequest,
+                new RegisterDeviceRequestMarshaller(), new RegisterDeviceResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.config.model.*;
+import com.amazonaws.services.config.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonConfig.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Config <p>
  * AWS Config provides a way to keep track of the configurations of all
  * the AWS resources associated with your AWS account. You can use AWS
@@ -332,11 +336,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<DescribeDeliveryChannelStatusResult> describeDeliveryChannelStatusAsync(final DescribeDeliveryChannelStatusRequest describeDeliveryChannelStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeliveryChannelStatusResult>() {
-            public DescribeDeliveryChannelStatusResult call() throws Exception {
-                return describeDeliveryChannelStatus(describeDeliveryChannelStatusRequest);
-        }
-    });
+        return describeDeliveryChannelStatusComposableAsync(describeDeliveryChannelStatusRequest);
     }
 
     /**
@@ -375,19 +375,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DescribeDeliveryChannelStatusRequest describeDeliveryChannelStatusRequest,
             final AsyncHandler<DescribeDeliveryChannelStatusRequest, DescribeDeliveryChannelStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeliveryChannelStatusResult>() {
+        return withAsyncHandler(describeDeliveryChannelStatusComposableAsync(describeDeliveryChannelStatusRequest),
+                describeDeliveryChannelStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDeliveryChannelStatus operation
+     * like
+     * {@link #describeDeliveryChannelStatusAsync(DescribeDeliveryChannelStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDeliveryChannelStatusRequest Container for the
+     *           necessary parameters to execute the DescribeDeliveryChannelStatus
+     *           operation on AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDeliveryChannelStatus service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<DescribeDeliveryChannelStatusResult> describeDeliveryChannelStatusComposableAsync(final DescribeDeliveryChannelStatusRequest describeDeliveryChannelStatusRequest) {
+        return executeAsync(executorService, new Callable<DescribeDeliveryChannelStatusResult>() {
             public DescribeDeliveryChannelStatusResult call() throws Exception {
-              DescribeDeliveryChannelStatusResult result;
-                try {
-                result = describeDeliveryChannelStatus(describeDeliveryChannelStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDeliveryChannelStatusRequest, result);
-                 return result;
-        }
-    });
+                return describeDeliveryChannelStatus(describeDeliveryChannelStatusRequest);
+            }
+        }, describeDeliveryChannelStatusRequest,
+                new DescribeDeliveryChannelStatusRequestMarshaller(), new DescribeDeliveryChannelStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -420,11 +433,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<DescribeConfigurationRecordersResult> describeConfigurationRecordersAsync(final DescribeConfigurationRecordersRequest describeConfigurationRecordersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationRecordersResult>() {
-            public DescribeConfigurationRecordersResult call() throws Exception {
-                return describeConfigurationRecorders(describeConfigurationRecordersRequest);
-        }
-    });
+        return describeConfigurationRecordersComposableAsync(describeConfigurationRecordersRequest);
     }
 
     /**
@@ -463,19 +472,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DescribeConfigurationRecordersRequest describeConfigurationRecordersRequest,
             final AsyncHandler<DescribeConfigurationRecordersRequest, DescribeConfigurationRecordersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationRecordersResult>() {
+        return withAsyncHandler(describeConfigurationRecordersComposableAsync(describeConfigurationRecordersRequest),
+                describeConfigurationRecordersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConfigurationRecorders operation
+     * like
+     * {@link #describeConfigurationRecordersAsync(DescribeConfigurationRecordersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConfigurationRecordersRequest Container for the
+     *           necessary parameters to execute the DescribeConfigurationRecorders
+     *           operation on AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConfigurationRecorders service method, as returned
+     *         by AmazonConfig.
+     */
+    public ComposableFuture<DescribeConfigurationRecordersResult> describeConfigurationRecordersComposableAsync(final DescribeConfigurationRecordersRequest describeConfigurationRecordersRequest) {
+        return executeAsync(executorService, new Callable<DescribeConfigurationRecordersResult>() {
             public DescribeConfigurationRecordersResult call() throws Exception {
-              DescribeConfigurationRecordersResult result;
-                try {
-                result = describeConfigurationRecorders(describeConfigurationRecordersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConfigurationRecordersRequest, result);
-                 return result;
-        }
-    });
+                return describeConfigurationRecorders(describeConfigurationRecordersRequest);
+            }
+        }, describeConfigurationRecordersRequest,
+                new DescribeConfigurationRecordersRequestMarshaller(), new DescribeConfigurationRecordersResultJsonUnmarshaller());
     }
     
     /**
@@ -507,12 +529,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<Void> startConfigurationRecorderAsync(final StartConfigurationRecorderRequest startConfigurationRecorderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                startConfigurationRecorder(startConfigurationRecorderRequest);
-                return null;
-        }
-    });
+        return startConfigurationRecorderComposableAsync(startConfigurationRecorderRequest);
     }
 
     /**
@@ -550,18 +567,33 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final StartConfigurationRecorderRequest startConfigurationRecorderRequest,
             final AsyncHandler<StartConfigurationRecorderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(startConfigurationRecorderComposableAsync(startConfigurationRecorderRequest),
+                startConfigurationRecorderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartConfigurationRecorder operation
+     * like
+     * {@link #startConfigurationRecorderAsync(StartConfigurationRecorderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param startConfigurationRecorderRequest Container for the necessary
+     *           parameters to execute the StartConfigurationRecorder operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         StartConfigurationRecorder service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<Void> startConfigurationRecorderComposableAsync(final StartConfigurationRecorderRequest startConfigurationRecorderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 startConfigurationRecorder(startConfigurationRecorderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startConfigurationRecorderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, startConfigurationRecorderRequest,
+                new StartConfigurationRecorderRequestMarshaller(), null);
     }
     
     /**
@@ -600,12 +632,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<Void> putDeliveryChannelAsync(final PutDeliveryChannelRequest putDeliveryChannelRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putDeliveryChannel(putDeliveryChannelRequest);
-                return null;
-        }
-    });
+        return putDeliveryChannelComposableAsync(putDeliveryChannelRequest);
     }
 
     /**
@@ -650,18 +677,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final PutDeliveryChannelRequest putDeliveryChannelRequest,
             final AsyncHandler<PutDeliveryChannelRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putDeliveryChannelComposableAsync(putDeliveryChannelRequest),
+                putDeliveryChannelRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutDeliveryChannel operation like
+     * {@link #putDeliveryChannelAsync(PutDeliveryChannelRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putDeliveryChannelRequest Container for the necessary
+     *           parameters to execute the PutDeliveryChannel operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         PutDeliveryChannel service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<Void> putDeliveryChannelComposableAsync(final PutDeliveryChannelRequest putDeliveryChannelRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putDeliveryChannel(putDeliveryChannelRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putDeliveryChannelRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putDeliveryChannelRequest,
+                new PutDeliveryChannelRequestMarshaller(), null);
     }
     
     /**
@@ -693,12 +734,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<Void> deleteDeliveryChannelAsync(final DeleteDeliveryChannelRequest deleteDeliveryChannelRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDeliveryChannel(deleteDeliveryChannelRequest);
-                return null;
-        }
-    });
+        return deleteDeliveryChannelComposableAsync(deleteDeliveryChannelRequest);
     }
 
     /**
@@ -736,18 +772,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DeleteDeliveryChannelRequest deleteDeliveryChannelRequest,
             final AsyncHandler<DeleteDeliveryChannelRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDeliveryChannelComposableAsync(deleteDeliveryChannelRequest),
+                deleteDeliveryChannelRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDeliveryChannel operation like
+     * {@link #deleteDeliveryChannelAsync(DeleteDeliveryChannelRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDeliveryChannelRequest Container for the necessary
+     *           parameters to execute the DeleteDeliveryChannel operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDeliveryChannel service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<Void> deleteDeliveryChannelComposableAsync(final DeleteDeliveryChannelRequest deleteDeliveryChannelRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDeliveryChannel(deleteDeliveryChannelRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDeliveryChannelRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDeliveryChannelRequest,
+                new DeleteDeliveryChannelRequestMarshaller(), null);
     }
     
     /**
@@ -774,12 +824,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<Void> stopConfigurationRecorderAsync(final StopConfigurationRecorderRequest stopConfigurationRecorderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                stopConfigurationRecorder(stopConfigurationRecorderRequest);
-                return null;
-        }
-    });
+        return stopConfigurationRecorderComposableAsync(stopConfigurationRecorderRequest);
     }
 
     /**
@@ -812,18 +857,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final StopConfigurationRecorderRequest stopConfigurationRecorderRequest,
             final AsyncHandler<StopConfigurationRecorderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(stopConfigurationRecorderComposableAsync(stopConfigurationRecorderRequest),
+                stopConfigurationRecorderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopConfigurationRecorder operation like
+     * {@link #stopConfigurationRecorderAsync(StopConfigurationRecorderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param stopConfigurationRecorderRequest Container for the necessary
+     *           parameters to execute the StopConfigurationRecorder operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         StopConfigurationRecorder service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<Void> stopConfigurationRecorderComposableAsync(final StopConfigurationRecorderRequest stopConfigurationRecorderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 stopConfigurationRecorder(stopConfigurationRecorderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopConfigurationRecorderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, stopConfigurationRecorderRequest,
+                new StopConfigurationRecorderRequestMarshaller(), null);
     }
     
     /**
@@ -861,11 +920,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<DeliverConfigSnapshotResult> deliverConfigSnapshotAsync(final DeliverConfigSnapshotRequest deliverConfigSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeliverConfigSnapshotResult>() {
-            public DeliverConfigSnapshotResult call() throws Exception {
-                return deliverConfigSnapshot(deliverConfigSnapshotRequest);
-        }
-    });
+        return deliverConfigSnapshotComposableAsync(deliverConfigSnapshotRequest);
     }
 
     /**
@@ -909,19 +964,31 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DeliverConfigSnapshotRequest deliverConfigSnapshotRequest,
             final AsyncHandler<DeliverConfigSnapshotRequest, DeliverConfigSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeliverConfigSnapshotResult>() {
+        return withAsyncHandler(deliverConfigSnapshotComposableAsync(deliverConfigSnapshotRequest),
+                deliverConfigSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeliverConfigSnapshot operation like
+     * {@link #deliverConfigSnapshotAsync(DeliverConfigSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deliverConfigSnapshotRequest Container for the necessary
+     *           parameters to execute the DeliverConfigSnapshot operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DeliverConfigSnapshot service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<DeliverConfigSnapshotResult> deliverConfigSnapshotComposableAsync(final DeliverConfigSnapshotRequest deliverConfigSnapshotRequest) {
+        return executeAsync(executorService, new Callable<DeliverConfigSnapshotResult>() {
             public DeliverConfigSnapshotResult call() throws Exception {
-              DeliverConfigSnapshotResult result;
-                try {
-                result = deliverConfigSnapshot(deliverConfigSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deliverConfigSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return deliverConfigSnapshot(deliverConfigSnapshotRequest);
+            }
+        }, deliverConfigSnapshotRequest,
+                new DeliverConfigSnapshotRequestMarshaller(), new DeliverConfigSnapshotResultJsonUnmarshaller());
     }
     
     /**
@@ -957,12 +1024,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<Void> putConfigurationRecorderAsync(final PutConfigurationRecorderRequest putConfigurationRecorderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putConfigurationRecorder(putConfigurationRecorderRequest);
-                return null;
-        }
-    });
+        return putConfigurationRecorderComposableAsync(putConfigurationRecorderRequest);
     }
 
     /**
@@ -1004,18 +1066,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final PutConfigurationRecorderRequest putConfigurationRecorderRequest,
             final AsyncHandler<PutConfigurationRecorderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putConfigurationRecorderComposableAsync(putConfigurationRecorderRequest),
+                putConfigurationRecorderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutConfigurationRecorder operation like
+     * {@link #putConfigurationRecorderAsync(PutConfigurationRecorderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putConfigurationRecorderRequest Container for the necessary
+     *           parameters to execute the PutConfigurationRecorder operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         PutConfigurationRecorder service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<Void> putConfigurationRecorderComposableAsync(final PutConfigurationRecorderRequest putConfigurationRecorderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putConfigurationRecorder(putConfigurationRecorderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putConfigurationRecorderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putConfigurationRecorderRequest,
+                new PutConfigurationRecorderRequestMarshaller(), null);
     }
     
     /**
@@ -1052,11 +1128,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<GetResourceConfigHistoryResult> getResourceConfigHistoryAsync(final GetResourceConfigHistoryRequest getResourceConfigHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetResourceConfigHistoryResult>() {
-            public GetResourceConfigHistoryResult call() throws Exception {
-                return getResourceConfigHistory(getResourceConfigHistoryRequest);
-        }
-    });
+        return getResourceConfigHistoryComposableAsync(getResourceConfigHistoryRequest);
     }
 
     /**
@@ -1099,19 +1171,31 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final GetResourceConfigHistoryRequest getResourceConfigHistoryRequest,
             final AsyncHandler<GetResourceConfigHistoryRequest, GetResourceConfigHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetResourceConfigHistoryResult>() {
+        return withAsyncHandler(getResourceConfigHistoryComposableAsync(getResourceConfigHistoryRequest),
+                getResourceConfigHistoryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetResourceConfigHistory operation like
+     * {@link #getResourceConfigHistoryAsync(GetResourceConfigHistoryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getResourceConfigHistoryRequest Container for the necessary
+     *           parameters to execute the GetResourceConfigHistory operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         GetResourceConfigHistory service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<GetResourceConfigHistoryResult> getResourceConfigHistoryComposableAsync(final GetResourceConfigHistoryRequest getResourceConfigHistoryRequest) {
+        return executeAsync(executorService, new Callable<GetResourceConfigHistoryResult>() {
             public GetResourceConfigHistoryResult call() throws Exception {
-              GetResourceConfigHistoryResult result;
-                try {
-                result = getResourceConfigHistory(getResourceConfigHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getResourceConfigHistoryRequest, result);
-                 return result;
-        }
-    });
+                return getResourceConfigHistory(getResourceConfigHistoryRequest);
+            }
+        }, getResourceConfigHistoryRequest,
+                new GetResourceConfigHistoryRequestMarshaller(), new GetResourceConfigHistoryResultJsonUnmarshaller());
     }
     
     /**
@@ -1143,11 +1227,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<DescribeDeliveryChannelsResult> describeDeliveryChannelsAsync(final DescribeDeliveryChannelsRequest describeDeliveryChannelsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeliveryChannelsResult>() {
-            public DescribeDeliveryChannelsResult call() throws Exception {
-                return describeDeliveryChannels(describeDeliveryChannelsRequest);
-        }
-    });
+        return describeDeliveryChannelsComposableAsync(describeDeliveryChannelsRequest);
     }
 
     /**
@@ -1185,19 +1265,31 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DescribeDeliveryChannelsRequest describeDeliveryChannelsRequest,
             final AsyncHandler<DescribeDeliveryChannelsRequest, DescribeDeliveryChannelsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeliveryChannelsResult>() {
+        return withAsyncHandler(describeDeliveryChannelsComposableAsync(describeDeliveryChannelsRequest),
+                describeDeliveryChannelsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDeliveryChannels operation like
+     * {@link #describeDeliveryChannelsAsync(DescribeDeliveryChannelsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDeliveryChannelsRequest Container for the necessary
+     *           parameters to execute the DescribeDeliveryChannels operation on
+     *           AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDeliveryChannels service method, as returned by
+     *         AmazonConfig.
+     */
+    public ComposableFuture<DescribeDeliveryChannelsResult> describeDeliveryChannelsComposableAsync(final DescribeDeliveryChannelsRequest describeDeliveryChannelsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDeliveryChannelsResult>() {
             public DescribeDeliveryChannelsResult call() throws Exception {
-              DescribeDeliveryChannelsResult result;
-                try {
-                result = describeDeliveryChannels(describeDeliveryChannelsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDeliveryChannelsRequest, result);
-                 return result;
-        }
-    });
+                return describeDeliveryChannels(describeDeliveryChannelsRequest);
+            }
+        }, describeDeliveryChannelsRequest,
+                new DescribeDeliveryChannelsRequestMarshaller(), new DescribeDeliveryChannelsResultJsonUnmarshaller());
     }
     
     /**
@@ -1230,11 +1322,7 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
      */
     public Future<DescribeConfigurationRecorderStatusResult> describeConfigurationRecorderStatusAsync(final DescribeConfigurationRecorderStatusRequest describeConfigurationRecorderStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationRecorderStatusResult>() {
-            public DescribeConfigurationRecorderStatusResult call() throws Exception {
-                return describeConfigurationRecorderStatus(describeConfigurationRecorderStatusRequest);
-        }
-    });
+        return describeConfigurationRecorderStatusComposableAsync(describeConfigurationRecorderStatusRequest);
     }
 
     /**
@@ -1273,19 +1361,32 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient
             final DescribeConfigurationRecorderStatusRequest describeConfigurationRecorderStatusRequest,
             final AsyncHandler<DescribeConfigurationRecorderStatusRequest, DescribeConfigurationRecorderStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationRecorderStatusResult>() {
+        return withAsyncHandler(describeConfigurationRecorderStatusComposableAsync(describeConfigurationRecorderStatusRequest),
+                describeConfigurationRecorderStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConfigurationRecorderStatus
+     * operation like
+     * {@link #describeConfigurationRecorderStatusAsync(DescribeConfigurationRecorderStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConfigurationRecorderStatusRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeConfigurationRecorderStatus operation on AmazonConfig.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConfigurationRecorderStatus service method, as
+     *         returned by AmazonConfig.
+     */
+    public ComposableFuture<DescribeConfigurationRecorderStatusResult> describeConfigurationRecorderStatusComposableAsync(final DescribeConfigurationRecorderStatusRequest describeConfigurationRecorderStatusRequest) {
+        return executeAsync(executorService, new Callable<DescribeConfigurationRecorderStatusResult>() {
             public DescribeConfigurationRecorderStatusResult call() throws Exception {
-              DescribeConfigurationRecorderStatusResult result;
-                try {
-                result = describeConfigurationRecorderStatus(describeConfigurationRecorderStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConfigurationRecorderStatusRequest, result);
-                 return result;
-        }
-    });
+                return describeConfigurationRecorderStatus(describeConfigurationRecorderStatusRequest);
+            }
+        }, describeConfigurationRecorderStatusRequest,
+                new DescribeConfigurationRecorderStatusRequestMarshaller(), new DescribeConfigurationRecorderStatusResultJsonUnmarshaller());
     }
     
 }
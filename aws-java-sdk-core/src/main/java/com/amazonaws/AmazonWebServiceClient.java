@@ -20,7 +20,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,16 +31,22 @@ import org.apache.commons.logging.LogFactory;
 import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
+import com.amazonaws.concurrent.Completion;
+import com.amazonaws.concurrent.ComposableFuture;
+import com.amazonaws.concurrent.Transformer;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AwsHostNameUtils;
@@ -664,6 +673,124 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Executes the given request on behalf of an asynchronous client, which
+     * submits its blocking calls to the given executor.
+     * <p>
+     * If the HTTP client is non-blocking, the request is marshalled and handed
+     * over to the transport on the calling thread, and no thread waits for the
+     * response: it is unmarshalled, and the returned future completed, by a
+     * short task on the given executor, so that neither unmarshalling nor the
+     * callbacks attached to the future run on a transport I/O thread.
+     * Otherwise the given blocking call is submitted to the executor.
+     *
+     * @param executorService
+     *            the executor of the asynchronous client
+     * @param blockingCall
+     *            the call to submit to the executor if the HTTP client blocks
+     * @param originalRequest
+     *            the request to execute
+     * @param marshaller
+     *            the marshaller of the request
+     * @param responseHandler
+     *            the handler of a successful response
+     * @param errorResponseHandler
+     *            the handler of an error response
+     * @return a future for the result of the request; cancelling it aborts
+     *         the request
+     */
+    protected final <X, Y extends AmazonWebServiceRequest> ComposableFuture<X> executeAsync(
+            ExecutorService executorService, Callable<X> blockingCall,
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler) {
+        if (!client.isNonBlocking())
+            return ComposableFuture.submit(executorService, blockingCall);
+        ExecutionContext executionContext = createExecutionContext(originalRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<Y> request = null;
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = marshaller.marshall(originalRequest);
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+            prepareRequest(request, executionContext);
+        } catch (Exception e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return ComposableFuture.failed(e);
+        }
+        return endClientExecutionOnCompletion(awsRequestMetrics, request,
+                client.executeAsync(request, responseHandler,
+                        errorResponseHandler, executionContext, executorService));
+    }
+
+    /**
+     * Sets up the given marshalled request, and its execution context, to be
+     * sent by this client: endpoint, time offset, credentials and so on.
+     * Clients must override this method to use
+     * {@link #executeAsync(ExecutorService, Callable, AmazonWebServiceRequest, Marshaller, HttpResponseHandler, HttpResponseHandler)}.
+     */
+    protected void prepareRequest(Request<?> request, ExecutionContext executionContext) {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " doesn't support non-blocking execution");
+    }
+
+    /**
+     * Returns a future for the AWS response contained in the given future
+     * response, ending the client execution once the latter completes. This is
+     * the asynchronous counterpart of
+     * {@link #endClientExecution(AWSRequestMetrics, Request, Response)}.
+     */
+    private <X> ComposableFuture<X> endClientExecutionOnCompletion(
+            final AWSRequestMetrics awsRequestMetrics, final Request<?> request,
+            ComposableFuture<Response<X>> response) {
+        return response.whenComplete(new Completion<Response<X>>() {
+            @Override
+            public void onSuccess(Response<X> result) {
+                endClientExecution(awsRequestMetrics, request, result);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                endClientExecution(awsRequestMetrics, request, null);
+            }
+        }).thenApply(new Transformer<Response<X>, X>() {
+            @Override
+            public X apply(Response<X> result) {
+                return result.getAwsResponse();
+            }
+        });
+    }
+
+    /**
+     * Returns a future completed like the given one, after notifying the given
+     * handler of its outcome. The handler isn't notified if the future gets
+     * cancelled.
+     */
+    protected static <REQUEST extends AmazonWebServiceRequest, RESULT> ComposableFuture<RESULT> withAsyncHandler(
+            ComposableFuture<RESULT> future, final REQUEST request,
+            final AsyncHandler<REQUEST, RESULT> asyncHandler) {
+        return future.exceptionally(new Transformer<Exception, RESULT>() {
+            @Override
+            public RESULT apply(Exception exception) throws Exception {
+                if (!(exception instanceof CancellationException))
+                    asyncHandler.onError(exception);
+                throw exception;
+            }
+        }).thenApply(new Transformer<RESULT, RESULT>() {
+            @Override
+            public RESULT apply(RESULT result) {
+                asyncHandler.onSuccess(request, result);
+                return result;
+            }
+        });
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
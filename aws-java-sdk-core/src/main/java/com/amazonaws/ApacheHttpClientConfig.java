@@ -23,11 +23,15 @@ import org.apache.http.conn.ssl.SSLSocketFactory;
 @NotThreadSafe
 public final class ApacheHttpClientConfig {
     private SSLSocketFactory sslSocketFactory;
+    private boolean useAdaptiveConnectionPool;
+    private int maxAdaptiveConnections;
 
     ApacheHttpClientConfig() {}
 
     ApacheHttpClientConfig(ApacheHttpClientConfig that) {
         this.sslSocketFactory = that.sslSocketFactory;
+        this.useAdaptiveConnectionPool = that.useAdaptiveConnectionPool;
+        this.maxAdaptiveConnections = that.maxAdaptiveConnections;
     }
 
     /**
@@ -60,4 +64,73 @@ public final class ApacheHttpClientConfig {
         this.sslSocketFactory = sslSocketFactory;
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns true if the maximum number of connections per route of the
+     * connection pool is adjusted from the time requests wait to lease a
+     * connection; false if it is fixed to
+     * {@link ClientConfiguration#getMaxConnections()}. Defaults to false.
+     */
+    public boolean useAdaptiveConnectionPool() {
+        return useAdaptiveConnectionPool;
+    }
+
+    /**
+     * Sets whether the maximum number of connections per route of the
+     * connection pool is adjusted from the time requests wait to lease a
+     * connection. When enabled, the limit of a route starts at
+     * {@link ClientConfiguration#getMaxConnections()}, grows while requests
+     * have to wait for a connection, up to
+     * {@link #getMaxAdaptiveConnections()}, and shrinks back when the
+     * connections are no longer in use.
+     * 
+     * @param useAdaptiveConnectionPool true if the connection pool is to be
+     * sized adaptively; false otherwise.
+     */
+    public void setUseAdaptiveConnectionPool(boolean useAdaptiveConnectionPool) {
+        this.useAdaptiveConnectionPool = useAdaptiveConnectionPool;
+    }
+
+    /**
+     * Fluent API for {@link #setUseAdaptiveConnectionPool(boolean)}.
+     */
+    public ApacheHttpClientConfig withUseAdaptiveConnectionPool(
+            boolean useAdaptiveConnectionPool) {
+        this.useAdaptiveConnectionPool = useAdaptiveConnectionPool;
+        return this;
+    }
+
+    /**
+     * Returns the ceiling of the number of connections per route when the
+     * connection pool is sized adaptively; or zero if the default of four
+     * times {@link ClientConfiguration#getMaxConnections()} is to be used.
+     */
+    public int getMaxAdaptiveConnections() {
+        return maxAdaptiveConnections;
+    }
+
+    /**
+     * Sets the ceiling of the number of connections per route when the
+     * connection pool is sized adaptively.
+     * 
+     * @param maxAdaptiveConnections the ceiling of the number of connections
+     * per route; or zero if the default of four times
+     * {@link ClientConfiguration#getMaxConnections()} is to be used.
+     */
+    public void setMaxAdaptiveConnections(int maxAdaptiveConnections) {
+        if (maxAdaptiveConnections < 0) {
+            throw new IllegalArgumentException("maxAdaptiveConnections: "
+                    + maxAdaptiveConnections);
+        }
+        this.maxAdaptiveConnections = maxAdaptiveConnections;
+    }
+
+    /**
+     * Fluent API for {@link #setMaxAdaptiveConnections(int)}.
+     */
+    public ApacheHttpClientConfig withMaxAdaptiveConnections(
+            int maxAdaptiveConnections) {
+        setMaxAdaptiveConnections(maxAdaptiveConnections);
+        return this;
+    }
+}
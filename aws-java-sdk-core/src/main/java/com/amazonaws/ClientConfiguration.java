@@ -18,6 +18,7 @@ import java.net.InetAddress;
 
 import org.apache.http.annotation.NotThreadSafe;
 
+import com.amazonaws.http.HttpTransportFactory;
 import com.amazonaws.http.IdleConnectionReaper;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
@@ -196,6 +197,12 @@ public class ClientConfiguration {
      */
     private boolean tcpKeepAlive = DEFAULT_TCP_KEEP_ALIVE;
     
+    /**
+     * Optional factory for the transport used to send HTTP requests. If not
+     * explicitly set, a blocking Apache HTTP client based transport is used.
+     */
+    private HttpTransportFactory httpTransportFactory;
+
     /**
      * Can be used to specify custom specific Apache HTTP client configurations.
      */
@@ -226,6 +233,7 @@ public class ClientConfiguration {
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint    = other.socketSendBufferSizeHint;
         this.signerOverride              = other.signerOverride;
+        this.httpTransportFactory        = other.httpTransportFactory;
         this.apacheHttpClientConfig =
             new ApacheHttpClientConfig(other.apacheHttpClientConfig);
     }
@@ -1140,6 +1148,45 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the factory for the transport used to send HTTP requests; or null
+     * if the default Apache HTTP client based transport is used.
+     */
+    public HttpTransportFactory getHttpTransportFactory() {
+        return httpTransportFactory;
+    }
+
+    /**
+     * Sets the factory for the transport used to send HTTP requests, such as
+     * the non-blocking {@link com.amazonaws.http.nio.NioHttpTransportFactory}.
+     * Request content read from a file is sent without copies through the
+     * Java heap only by the non-blocking transport; the default transport
+     * streams it through heap buffers.
+     *
+     * @param httpTransportFactory
+     *            the transport factory; or null to use the default Apache HTTP
+     *            client based transport.
+     */
+    public void setHttpTransportFactory(HttpTransportFactory httpTransportFactory) {
+        this.httpTransportFactory = httpTransportFactory;
+    }
+
+    /**
+     * Sets the factory for the transport used to send HTTP requests, and
+     * returns the updated ClientConfiguration object so that additional method
+     * calls may be chained together.
+     *
+     * @param httpTransportFactory
+     *            the transport factory; or null to use the default Apache HTTP
+     *            client based transport.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withHttpTransportFactory(HttpTransportFactory httpTransportFactory) {
+        setHttpTransportFactory(httpTransportFactory);
+        return this;
+    }
+
     /**
      * Returns a non-null object that can be used to specify Apache HTTP client
      * specific custom configurations.
@@ -49,7 +49,8 @@ import com.amazonaws.Request;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.internal.DigestableContent;
+import com.amazonaws.internal.ConcurrentLRUCache;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.HttpUtils;
@@ -89,7 +90,25 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
 
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final ConcurrentLRUCache<SigningKeyCacheKey, SignerKey> signerCache =
+            new ConcurrentLRUCache<SigningKeyCacheKey, SignerKey>(SIGNER_CACHE_MAX_SIZE);
+
+    /**
+     * Builders of the canonical request and string to sign of the current
+     * thread, which are reused unless they have grown too large to be kept.
+     */
+    private static final ThreadLocal<StringBuilder> stringBuilders = new ThreadLocal<StringBuilder>();
+    private static final int STRING_BUILDER_MAX_CAPACITY = 8 * 1024;
+
+    /**
+     * The signing key last used by this signer, which is typically the one
+     * for the credentials, region and service of the client this signer
+     * belongs to, so that it is reused without a cache lookup.
+     */
+    private volatile CachedSigningKey lastSigningKey;
+
+    /** The host header of the endpoint this signer last signed for. */
+    private volatile CachedHostHeader lastHostHeader;
 
     /**
      * Construct a new AWS4 signer instance. By default, enable double
@@ -282,8 +301,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
         final String path = HttpUtils.appendUri(
                 request.getEndpoint().getPath(), request.getResourcePath());
 
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
+        final StringBuilder canonicalRequestBuilder = newStringBuilder()
+                .append(request.getHttpMethod().toString());
 
         canonicalRequestBuilder.append(LINE_SEPARATOR)
                 // This would optionally double url-encode the resource path
@@ -312,8 +331,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
     protected String createStringToSign(String canonicalRequest,
             AWS4SignerRequestParams signerParams) {
 
-        final StringBuilder stringToSignBuilder = new StringBuilder(
-                signerParams.getSigningAlgorithm());
+        final StringBuilder stringToSignBuilder = newStringBuilder()
+                .append(signerParams.getSigningAlgorithm());
         stringToSignBuilder.append(LINE_SEPARATOR)
                 .append(signerParams.getFormattedSigningDateTime())
                 .append(LINE_SEPARATOR)
@@ -337,17 +356,29 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
+        final String secretKey = credentials.getAWSSecretKey();
+        final String regionName = signerRequestParams.getRegionName();
+        final String serviceName = signerRequestParams.getServiceName();
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
+        CachedSigningKey last = lastSigningKey;
+        if (last != null
+                && last.matches(secretKey, regionName, serviceName)
+                && daysSinceEpochSigningDate == last.signerKey
+                        .getNumberOfDaysSinceEpoch()) {
+            return last.signerKey.getSigningKey();
+        }
+
+        final SigningKeyCacheKey cacheKey = new SigningKeyCacheKey(secretKey,
+                regionName, serviceName);
         SignerKey signerKey = signerCache.get(cacheKey);
 
         if (signerKey != null) {
             if (daysSinceEpochSigningDate == signerKey
                     .getNumberOfDaysSinceEpoch()) {
+                lastSigningKey = new CachedSigningKey(cacheKey, signerKey);
                 return signerKey.getSigningKey();
             }
         }
@@ -357,27 +388,13 @@ public class AWS4Signer extends AbstractAWSSigner implements
         }
         byte[] signingKey = newSigningKey(credentials,
                 signerRequestParams.getFormattedSigningDate(),
-                signerRequestParams.getRegionName(),
-                signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
-                daysSinceEpochSigningDate, signingKey));
+                regionName, serviceName);
+        signerKey = new SignerKey(daysSinceEpochSigningDate, signingKey);
+        signerCache.add(cacheKey, signerKey);
+        lastSigningKey = new CachedSigningKey(cacheKey, signerKey);
         return signingKey;
     }
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private final String computeSigningCacheKeyName(AWSCredentials credentials,
-            AWS4SignerRequestParams signerRequestParams) {
-        final StringBuilder hashKeyBuilder = new StringBuilder(
-                credentials.getAWSSecretKey());
-
-        return hashKeyBuilder.append("-")
-                .append(signerRequestParams.getRegionName())
-                .append("-")
-                .append(signerRequestParams.getServiceName()).toString();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -450,14 +467,13 @@ public class AWS4Signer extends AbstractAWSSigner implements
         Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
 
         final Map<String, String> requestHeaders = request.getHeaders();
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = new StringBuilder(256);
         for (String header : sortedHeaders) {
-            String key = header.toLowerCase().replaceAll("\\s+", " ");
             String value = requestHeaders.get(header);
 
-            buffer.append(key).append(":");
+            appendCompactingWhitespace(buffer, header.toLowerCase()).append(":");
             if (value != null) {
-                buffer.append(value.replaceAll("\\s+", " "));
+                appendCompactingWhitespace(buffer, value);
             }
 
             buffer.append("\n");
@@ -466,6 +482,35 @@ public class AWS4Signer extends AbstractAWSSigner implements
         return buffer.toString();
     }
 
+    /**
+     * Appends the given string replacing each run of whitespace characters, as
+     * matched by the regular expression <code>\s+</code>, with a single space.
+     */
+    private static StringBuilder appendCompactingWhitespace(
+            StringBuilder buffer, String s) {
+        boolean inWhitespace = false;
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\u000B':
+                case '\f':
+                case '\r':
+                    if (!inWhitespace) {
+                        buffer.append(' ');
+                        inWhitespace = true;
+                    }
+                    break;
+                default:
+                    buffer.append(c);
+                    inWhitespace = false;
+            }
+        }
+        return buffer;
+    }
+
     protected String getSignedHeadersString(Request<?> request) {
         final List<String> sortedHeaders = new ArrayList<String>(request
                 .getHeaders().keySet());
@@ -486,13 +531,18 @@ public class AWS4Signer extends AbstractAWSSigner implements
         // have to have it in the request by the time we sign.
 
         final URI endpoint = request.getEndpoint();
-        final StringBuilder hostHeaderBuilder = new StringBuilder(
-                endpoint.getHost());
-        if (HttpUtils.isUsingNonDefaultPort(endpoint)) {
-            hostHeaderBuilder.append(":").append(endpoint.getPort());
+        CachedHostHeader last = lastHostHeader;
+        if (last == null || last.endpoint != endpoint) {
+            final StringBuilder hostHeaderBuilder = new StringBuilder(
+                    endpoint.getHost());
+            if (HttpUtils.isUsingNonDefaultPort(endpoint)) {
+                hostHeaderBuilder.append(":").append(endpoint.getPort());
+            }
+            lastHostHeader = last = new CachedHostHeader(endpoint,
+                    hostHeaderBuilder.toString());
         }
 
-        request.addHeader(HOST, hostHeaderBuilder.toString());
+        request.addHeader(HOST, last.hostHeader);
     }
 
     /**
@@ -501,9 +551,16 @@ public class AWS4Signer extends AbstractAWSSigner implements
      * do any other necessary set-ups on the request headers. (e.g. aws-chunked
      * uses a pre-defined header value, and needs to change some headers
      * relating to content-encoding and content-length.)
+     * <p>
+     * Content that can be hashed in place, such as a file or a byte array, is
+     * hashed without being marked, read and reset, and its hash is reused if
+     * the request is signed again on retry.
      */
     protected String calculateContentHash(Request<?> request) {
         InputStream payloadStream = getBinaryRequestPayloadStream(request);
+        if (payloadStream instanceof DigestableContent) {
+            return BinaryUtils.toHex(hashRemaining((DigestableContent) payloadStream));
+        }
         AmazonWebServiceRequest req = request.getOriginalRequest();
         payloadStream.mark(req == null ? -1 : req.getReadLimit());
         String contentSha256 = BinaryUtils.toHex(hash(payloadStream));
@@ -581,4 +638,100 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 SigningAlgorithm.HmacSHA256);
         return sign(AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
+
+    /**
+     * Returns the reusable string builder of the current thread, emptied.
+     */
+    private static StringBuilder newStringBuilder() {
+        StringBuilder sb = stringBuilders.get();
+        if (sb == null || sb.capacity() > STRING_BUILDER_MAX_CAPACITY) {
+            sb = new StringBuilder(512);
+            stringBuilders.set(sb);
+        } else {
+            sb.setLength(0);
+        }
+        return sb;
+    }
+
+    /**
+     * The key of a signing key in the cache, which is compared field by field
+     * rather than concatenated into a string.
+     */
+    private static final class SigningKeyCacheKey {
+        private final String secretKey;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        SigningKeyCacheKey(String secretKey, String regionName,
+                String serviceName) {
+            this.secretKey = secretKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            this.hashCode = (hashCodeOf(secretKey) * 31
+                    + hashCodeOf(regionName)) * 31 + hashCodeOf(serviceName);
+        }
+
+        boolean matches(String secretKey, String regionName,
+                String serviceName) {
+            return equal(this.secretKey, secretKey)
+                && equal(this.regionName, regionName)
+                && equal(this.serviceName, serviceName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof SigningKeyCacheKey))
+                return false;
+            SigningKeyCacheKey that = (SigningKeyCacheKey) o;
+            return hashCode == that.hashCode
+                && matches(that.secretKey, that.regionName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        private static int hashCodeOf(String s) {
+            return s == null ? 0 : s.hashCode();
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+
+    /**
+     * A signing key together with its key in the cache.
+     */
+    private static final class CachedSigningKey {
+        private final SigningKeyCacheKey cacheKey;
+        private final SignerKey signerKey;
+
+        CachedSigningKey(SigningKeyCacheKey cacheKey, SignerKey signerKey) {
+            this.cacheKey = cacheKey;
+            this.signerKey = signerKey;
+        }
+
+        boolean matches(String secretKey, String regionName,
+                String serviceName) {
+            return cacheKey.matches(secretKey, regionName, serviceName);
+        }
+    }
+
+    /**
+     * The host header of an endpoint.
+     */
+    private static final class CachedHostHeader {
+        private final URI endpoint;
+        private final String hostHeader;
+
+        CachedHostHeader(URI endpoint, String hostHeader) {
+            this.endpoint = endpoint;
+            this.hostHeader = hostHeader;
+        }
+    }
 }
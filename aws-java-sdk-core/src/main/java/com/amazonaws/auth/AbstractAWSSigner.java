@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
@@ -36,6 +37,7 @@ import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.Request;
 import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.event.ProgressInputStream;
+import com.amazonaws.internal.DigestableContent;
 import com.amazonaws.internal.SdkDigestInputStream;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.HttpUtils;
@@ -48,6 +50,19 @@ import com.amazonaws.util.HttpUtils;
  * Not intended to be sub-classed by developers.
  */
 public abstract class AbstractAWSSigner implements Signer {
+    /**
+     * The MACs of each signing algorithm, and the SHA-256 message digest, of
+     * the current thread, which are reused rather than looked up from the
+     * security providers on every use.
+     */
+    private static final ThreadLocal<Mac[]> MACS = new ThreadLocal<Mac[]>() {
+        @Override
+        protected Mac[] initialValue() {
+            return new Mac[SigningAlgorithm.values().length];
+        }
+    };
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST =
+            new ThreadLocal<MessageDigest>();
 
     /**
      * Computes an RFC 2104-compliant HMAC signature and returns the result as a
@@ -89,7 +104,7 @@ public abstract class AbstractAWSSigner implements Signer {
     protected byte[] sign(byte[] data, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
+            Mac mac = getMac(algorithm);
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -99,6 +114,34 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Returns the MAC of the given algorithm for the current thread.
+     */
+    private static Mac getMac(SigningAlgorithm algorithm)
+            throws NoSuchAlgorithmException {
+        Mac[] macs = MACS.get();
+        Mac mac = macs[algorithm.ordinal()];
+        if (mac == null) {
+            mac = macs[algorithm.ordinal()] = Mac.getInstance(algorithm.toString());
+        }
+        return mac;
+    }
+
+    /**
+     * Returns the SHA-256 message digest for the current thread, reset.
+     */
+    private static MessageDigest getSha256MessageDigest()
+            throws NoSuchAlgorithmException {
+        MessageDigest md = SHA256_MESSAGE_DIGEST.get();
+        if (md == null) {
+            md = MessageDigest.getInstance("SHA-256");
+            SHA256_MESSAGE_DIGEST.set(md);
+        } else {
+            md.reset();
+        }
+        return md;
+    }
+
     /**
      * Hashes the string contents (assumed to be UTF-8) using the SHA-256
      * algorithm.
@@ -113,7 +156,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getSha256MessageDigest();
             md.update(text.getBytes(UTF8));
             return md.digest();
         } catch (Exception e) {
@@ -140,6 +183,28 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Hashes the remaining content using the SHA-256 algorithm, in place and
+     * without consuming it.
+     *
+     * @param content
+     *            The content to hash.
+     *
+     * @return The hashed bytes from the specified content.
+     *
+     * @throws AmazonClientException
+     *             If the hash cannot be computed.
+     */
+    protected byte[] hashRemaining(DigestableContent content) throws AmazonClientException {
+        try {
+            return content.digestRemaining(getSha256MessageDigest());
+        } catch (Exception e) {
+            throw new AmazonClientException(
+                    "Unable to compute hash while signing request: "
+                            + e.getMessage(), e);
+        }
+    }
+
     /**
      * Hashes the binary data using the SHA-256 algorithm.
      *
@@ -153,7 +218,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getSha256MessageDigest();
             md.update(data);
             return md.digest();
         } catch (Exception e) {
@@ -176,6 +241,9 @@ public abstract class AbstractAWSSigner implements Signer {
      * @return A canonicalized form for the specified query string parameters.
      */
     protected String getCanonicalizedQueryString(Map<String, String> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
 
         SortedMap<String, String> sorted = new TreeMap<String, String>();
 
@@ -66,6 +66,12 @@ public final class AWS4SignerRequestParams {
      */
     private final String signingAlgorithm;
 
+    /**
+     * The last scope generated, which is typically the same for all the
+     * requests signed on the same day by a client.
+     */
+    private static volatile Scope lastScope;
+
     /**
      * Generates an instance of AWS4signerRequestParams that holds the
      * parameters used for computing a AWS 4 signature for a request
@@ -109,10 +115,16 @@ public final class AWS4SignerRequestParams {
      */
     private String generateScope(Request<?> request, String dateStamp,
             String serviceName, String regionName) {
+        Scope last = lastScope;
+        if (last != null && last.matches(dateStamp, serviceName, regionName)) {
+            return last.scope;
+        }
         final StringBuilder scopeBuilder = new StringBuilder();
-        return scopeBuilder.append(dateStamp).append("/").append(regionName)
+        final String scope = scopeBuilder.append(dateStamp).append("/").append(regionName)
                 .append("/").append(serviceName).append("/")
                 .append(SignerConstants.AWS4_TERMINATOR).toString();
+        lastScope = new Scope(dateStamp, serviceName, regionName, scope);
+        return scope;
     }
 
     /**
@@ -171,4 +183,33 @@ public final class AWS4SignerRequestParams {
     public String getSigningAlgorithm() {
         return signingAlgorithm;
     }
+
+    /**
+     * A credential scope together with the parts it was generated from.
+     */
+    private static final class Scope {
+        private final String dateStamp;
+        private final String serviceName;
+        private final String regionName;
+        private final String scope;
+
+        Scope(String dateStamp, String serviceName, String regionName,
+                String scope) {
+            this.dateStamp = dateStamp;
+            this.serviceName = serviceName;
+            this.regionName = regionName;
+            this.scope = scope;
+        }
+
+        boolean matches(String dateStamp, String serviceName,
+                String regionName) {
+            return this.dateStamp.equals(dateStamp)
+                && equal(this.serviceName, serviceName)
+                && equal(this.regionName, regionName);
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
 }
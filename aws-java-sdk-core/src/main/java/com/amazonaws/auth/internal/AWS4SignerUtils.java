@@ -29,6 +29,16 @@ public final class AWS4SignerUtils {
     private static final DateTimeFormatter timeFormatter = DateTimeFormat
             .forPattern("yyyyMMdd'T'HHmmss'Z'").withZoneUTC();
 
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * MILLIS_PER_SECOND;
+
+    /*
+     * The last formatted date stamp and timestamp, reused as long as the time
+     * to format falls in the same day or second respectively.
+     */
+    private static volatile Formatted lastDateStamp;
+    private static volatile Formatted lastTimestamp;
+
     /**
      * Returns a string representation of the given date time in yyyyMMdd
      * format. The date returned is in the UTC zone.
@@ -36,7 +46,15 @@ public final class AWS4SignerUtils {
      * For example, given a time "1416863450581", this method returns "20141124"
      */
     public static String formatDateStamp(long timeMilli) {
-        return dateFormatter.print(timeMilli);
+        if (timeMilli < 0)
+            return dateFormatter.print(timeMilli);
+        final long day = timeMilli / MILLIS_PER_DAY;
+        Formatted last = lastDateStamp;
+        if (last == null || last.period != day) {
+            lastDateStamp = last = new Formatted(day,
+                    dateFormatter.print(timeMilli));
+        }
+        return last.text;
     }
 
     /**
@@ -47,6 +65,27 @@ public final class AWS4SignerUtils {
      * "20141124T211050Z"
      */
     public static String formatTimestamp(long timeMilli) {
-        return timeFormatter.print(timeMilli);
+        if (timeMilli < 0)
+            return timeFormatter.print(timeMilli);
+        final long second = timeMilli / MILLIS_PER_SECOND;
+        Formatted last = lastTimestamp;
+        if (last == null || last.period != second) {
+            lastTimestamp = last = new Formatted(second,
+                    timeFormatter.print(timeMilli));
+        }
+        return last.text;
+    }
+
+    /**
+     * A time formatted for the day or second it falls in.
+     */
+    private static final class Formatted {
+        private final long period;
+        private final String text;
+
+        Formatted(long period, String text) {
+            this.period = period;
+            this.text = text;
+        }
     }
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.ThreadSafe;
+
+/**
+ * A {@link Future} that can be completed explicitly, and to which callbacks and
+ * dependent computations can be attached without blocking any thread.
+ * <p>
+ * Callbacks and transformations run on the thread that completes the future,
+ * or on the calling thread if the future has already completed. For futures
+ * returned by the asynchronous clients that thread is one of the threads of
+ * the client's executor, so callbacks that block tie it up; hand long-running
+ * work over to another executor instead.
+ * <p>
+ * Cancelling a future derived via {@link #thenApply(Transformer)},
+ * {@link #thenCompose(Transformer)} or {@link #exceptionally(Transformer)}
+ * also cancels the future it was derived from, so that cancelling the end of a
+ * chain aborts the underlying request.
+ *
+ * @param <T>
+ *            the type of the result
+ */
+@ThreadSafe
+public class ComposableFuture<T> implements Future<T> {
+    private static final Log log = LogFactory.getLog(ComposableFuture.class);
+
+    private boolean done;
+    private T result;
+    private Exception exception;
+    private List<Completion<? super T>> completions;
+
+    /** Creates a new, incomplete future. */
+    public ComposableFuture() {
+    }
+
+    /** Returns a future that has already completed with the given result. */
+    public static <T> ComposableFuture<T> succeeded(T result) {
+        ComposableFuture<T> future = new ComposableFuture<T>();
+        future.complete(result);
+        return future;
+    }
+
+    /** Returns a future that has already failed with the given exception. */
+    public static <T> ComposableFuture<T> failed(Exception exception) {
+        ComposableFuture<T> future = new ComposableFuture<T>();
+        future.fail(exception);
+        return future;
+    }
+
+    /**
+     * Submits the given task to the given executor, and returns a future
+     * completed with its outcome. Cancelling the returned future cancels the
+     * task.
+     */
+    public static <T> ComposableFuture<T> submit(ExecutorService executor,
+            final Callable<T> task) {
+        final ComposableFuture<T> future = new ComposableFuture<T>();
+        final Future<?> submitted = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone())
+                    return;
+                try {
+                    future.complete(task.call());
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            }
+        });
+        future.cancelWith(submitted);
+        return future;
+    }
+
+    /**
+     * Returns a future that completes with the results of all the given
+     * futures, in order, once all of them have completed successfully; or
+     * fails as soon as any of them fails.
+     */
+    public static <T> ComposableFuture<List<T>> allOf(
+            final List<? extends ComposableFuture<? extends T>> futures) {
+        final ComposableFuture<List<T>> all = new ComposableFuture<List<T>>();
+        if (futures.isEmpty()) {
+            all.complete(Collections.<T>emptyList());
+            return all;
+        }
+        final List<T> results = new ArrayList<T>(Collections.<T>nCopies(futures.size(), null));
+        final AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            final int index = i;
+            ComposableFuture<? extends T> future = futures.get(i);
+            all.cancelWith(future);
+            future.whenComplete(new Completion<T>() {
+                @Override
+                public void onSuccess(T result) {
+                    synchronized (results) {
+                        results.set(index, result);
+                    }
+                    if (remaining.decrementAndGet() == 0) {
+                        synchronized (results) {
+                            all.complete(new ArrayList<T>(results));
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    all.fail(exception);
+                }
+            });
+        }
+        return all;
+    }
+
+    /**
+     * Completes this future with the given result, unless it has already
+     * completed.
+     *
+     * @return true if this call has completed the future
+     */
+    public boolean complete(T result) {
+        List<Completion<? super T>> toNotify;
+        synchronized (this) {
+            if (done)
+                return false;
+            this.result = result;
+            toNotify = markDone();
+        }
+        notifySuccess(toNotify, result);
+        return true;
+    }
+
+    /**
+     * Fails this future with the given exception, unless it has already
+     * completed. A throwable that is not an {@link Exception}, such as an
+     * {@link Error}, is wrapped in an {@link ExecutionException} so that
+     * callbacks are still notified and {@link #get()} does not block forever.
+     *
+     * @return true if this call has completed the future
+     */
+    public boolean fail(Throwable failure) {
+        if (failure == null)
+            throw new IllegalArgumentException("exception must not be null");
+        final Exception exception = failure instanceof Exception
+                ? (Exception) failure
+                : new ExecutionException(failure);
+        List<Completion<? super T>> toNotify;
+        synchronized (this) {
+            if (done)
+                return false;
+            this.exception = exception;
+            toNotify = markDone();
+        }
+        notifyFailure(toNotify, exception);
+        return true;
+    }
+
+    /**
+     * Cancels this future, unless it has already completed; callbacks are
+     * notified with a {@link CancellationException}.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return fail(new CancellationException());
+    }
+
+    private List<Completion<? super T>> markDone() {
+        done = true;
+        notifyAll();
+        List<Completion<? super T>> toNotify = completions;
+        completions = null;
+        return toNotify;
+    }
+
+    /**
+     * Registers a callback to be notified of the outcome of this future. If
+     * the future has already completed, the callback is notified immediately
+     * on the calling thread.
+     *
+     * @return this future
+     */
+    public ComposableFuture<T> whenComplete(Completion<? super T> completion) {
+        T r;
+        Exception e;
+        synchronized (this) {
+            if (!done) {
+                if (completions == null)
+                    completions = new ArrayList<Completion<? super T>>(2);
+                completions.add(completion);
+                return this;
+            }
+            r = result;
+            e = exception;
+        }
+        if (e == null)
+            notifySuccess(Collections.<Completion<? super T>>singletonList(completion), r);
+        else
+            notifyFailure(Collections.<Completion<? super T>>singletonList(completion), e);
+        return this;
+    }
+
+    /**
+     * Returns a future completed with the result of applying the given
+     * transformer to the result of this future; or failed like this future.
+     */
+    public <U> ComposableFuture<U> thenApply(final Transformer<? super T, ? extends U> transformer) {
+        final ComposableFuture<U> derived = new ComposableFuture<U>();
+        derived.cancelWith(this);
+        whenComplete(new Completion<T>() {
+            @Override
+            public void onSuccess(T result) {
+                U u;
+                try {
+                    u = transformer.apply(result);
+                } catch (Throwable t) {
+                    derived.fail(t);
+                    return;
+                }
+                derived.complete(u);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                derived.fail(exception);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Returns a future completed like the future returned by applying the
+     * given transformer to the result of this future; or failed like this
+     * future. This allows asynchronous operations to be chained.
+     */
+    public <U> ComposableFuture<U> thenCompose(
+            final Transformer<? super T, ? extends ComposableFuture<U>> transformer) {
+        final ComposableFuture<U> derived = new ComposableFuture<U>();
+        derived.cancelWith(this);
+        whenComplete(new Completion<T>() {
+            @Override
+            public void onSuccess(T result) {
+                ComposableFuture<U> next;
+                try {
+                    next = transformer.apply(result);
+                } catch (Throwable t) {
+                    derived.fail(t);
+                    return;
+                }
+                derived.cancelWith(next);
+                next.whenComplete(derived.completer());
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                derived.fail(exception);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Returns a future completed like this future if it succeeds; or with the
+     * result of applying the given transformer to the exception if it fails.
+     * The transformer may rethrow the exception to propagate the failure.
+     */
+    public ComposableFuture<T> exceptionally(final Transformer<? super Exception, ? extends T> transformer) {
+        final ComposableFuture<T> derived = new ComposableFuture<T>();
+        derived.cancelWith(this);
+        whenComplete(new Completion<T>() {
+            @Override
+            public void onSuccess(T result) {
+                derived.complete(result);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                T t;
+                try {
+                    t = transformer.apply(exception);
+                } catch (Throwable e) {
+                    derived.fail(e);
+                    return;
+                }
+                derived.complete(t);
+            }
+        });
+        return derived;
+    }
+
+    /** Returns a callback that completes this future with the outcome it is notified of. */
+    private Completion<T> completer() {
+        return new Completion<T>() {
+            @Override
+            public void onSuccess(T result) {
+                complete(result);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                fail(exception);
+            }
+        };
+    }
+
+    /**
+     * Cancels the given future if this future gets cancelled.
+     *
+     * @return this future
+     */
+    public ComposableFuture<T> cancelWith(final Future<?> other) {
+        whenComplete(new Completion<T>() {
+            @Override
+            public void onSuccess(T result) {
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                if (exception instanceof CancellationException)
+                    other.cancel(true);
+            }
+        });
+        return this;
+    }
+
+    private static <T> void notifySuccess(List<Completion<? super T>> completions, T result) {
+        if (completions == null)
+            return;
+        for (Completion<? super T> completion : completions) {
+            try {
+                completion.onSuccess(result);
+            } catch (RuntimeException e) {
+                log.warn("Exception thrown by completion callback", e);
+            }
+        }
+    }
+
+    private static <T> void notifyFailure(List<Completion<? super T>> completions, Exception exception) {
+        if (completions == null)
+            return;
+        for (Completion<? super T> completion : completions) {
+            try {
+                completion.onFailure(exception);
+            } catch (RuntimeException e) {
+                log.warn("Exception thrown by completion callback", e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return exception instanceof CancellationException;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done)
+            wait();
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                throw new TimeoutException();
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return getResult();
+    }
+
+    private T getResult() throws ExecutionException {
+        if (exception instanceof CancellationException)
+            throw (CancellationException) new CancellationException().initCause(exception);
+        if (exception instanceof ExecutionException && exception.getCause() instanceof Error)
+            throw (ExecutionException) exception;
+        if (exception != null)
+            throw new ExecutionException(exception);
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.concurrent;
+
+/**
+ * A function applied to the outcome of a {@link ComposableFuture} to derive
+ * another one.
+ *
+ * @param <T>
+ *            the type of the input
+ * @param <U>
+ *            the type of the output
+ */
+public interface Transformer<T, U> {
+
+    /**
+     * Transforms the given input.
+     *
+     * @param input
+     *            the input
+     * @return the output
+     * @throws Exception
+     *             to fail the derived future with
+     */
+    public U apply(T input) throws Exception;
+}
@@ -16,17 +16,20 @@ package com.amazonaws.event;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.http.annotation.NotThreadSafe;
 
 import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.internal.ChannelTransferable;
 import com.amazonaws.internal.SdkFilterInputStream;
 
 /**
  * Used for input stream progress tracking purposes.
  */
 @NotThreadSafe
-public abstract class ProgressInputStream extends SdkFilterInputStream {
+public abstract class ProgressInputStream extends SdkFilterInputStream
+        implements ChannelTransferable {
     /**
      * Returns an input stream for request progress tracking purposes. If
      * request/response progress tracking is not enabled, this method simply
@@ -156,6 +159,30 @@ public abstract class ProgressInputStream extends SdkFilterInputStream {
         return bytesRead;
     }
 
+    @Override
+    public boolean isChannelTransferable() {
+        return in instanceof ChannelTransferable
+            && ((ChannelTransferable) in).isChannelTransferable();
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (!isChannelTransferable())
+            throw new IllegalStateException();
+        if (!hasBeenRead) {
+            onFirstRead();
+            hasBeenRead = true;
+        }
+        long bytesTransferred = ((ChannelTransferable) in).transferTo(target,
+                Math.min(maxCount, Integer.MAX_VALUE));
+        if (bytesTransferred == -1)
+            eof();
+        else
+            onBytesRead((int) bytesTransferred);
+        return bytesTransferred;
+    }
+
     private void eof() {
         if (doneEOF)
             return;
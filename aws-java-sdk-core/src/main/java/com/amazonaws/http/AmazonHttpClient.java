@@ -39,7 +39,6 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -47,8 +46,15 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
-import javax.net.ssl.SSLContext;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -60,9 +66,7 @@ import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.conn.ClientConnectionManager;
-import org.apache.http.conn.scheme.Scheme;
-import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.conn.ssl.SSLSocketFactory;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
@@ -84,12 +88,13 @@ import com.amazonaws.ResponseMetadata;
 import com.amazonaws.SDKGlobalConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
+import com.amazonaws.concurrent.Completion;
+import com.amazonaws.concurrent.ComposableFuture;
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
-import com.amazonaws.http.conn.ssl.SdkTLSSocketFactory;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.internal.ReleasableInputStream;
 import com.amazonaws.internal.ResettableInputStream;
@@ -127,7 +132,6 @@ public class AmazonHttpClient {
     static final Log log = LogFactory.getLog(AmazonHttpClient.class);
 
     private static final HttpRequestFactory httpRequestFactory = new HttpRequestFactory();
-    private static final HttpClientFactory httpClientFactory = new HttpClientFactory();
 
     static {
         // Customers have reported XML parsing issues with the following
@@ -143,8 +147,8 @@ public class AmazonHttpClient {
         }
     }
 
-    /** Internal client for sending HTTP requests */
-    private final HttpClient httpClient;
+    /** Internal transport for sending HTTP requests */
+    private final HttpTransport transport;
 
     /** Client configuration options, such as proxy settings, max retries, etc. */
     private final ClientConfiguration config;
@@ -190,7 +194,7 @@ public class AmazonHttpClient {
      *            is none.
      */
     public AmazonHttpClient(ClientConfiguration config, RequestMetricCollector requestMetricCollector) {
-        this(config, httpClientFactory.createHttpClient(config), requestMetricCollector);
+        this(config, createTransport(config), requestMetricCollector);
     }
 
     /**
@@ -200,12 +204,46 @@ public class AmazonHttpClient {
             ClientConfiguration config,
             HttpClient httpClient,
             RequestMetricCollector requestMetricCollector) {
+        this(config, new ApacheHttpTransport(httpClient), requestMetricCollector);
+    }
+
+    /**
+     * Constructs a new AWS client using the specified client configuration
+     * options, request metric collector, and HTTP transport.
+     *
+     * @param config
+     *            Configuration options specifying how this client will
+     *            communicate with AWS (ex: proxy settings, retry count, etc.).
+     * @param transport
+     *            the transport used to send the HTTP requests over the wire.
+     * @param requestMetricCollector
+     *            client specific request metric collector, which takes
+     *            precedence over the one at the AWS SDK level; or null if there
+     *            is none.
+     */
+    public AmazonHttpClient(
+            ClientConfiguration config,
+            HttpTransport transport,
+            RequestMetricCollector requestMetricCollector) {
 
         this.config = config;
-        this.httpClient = httpClient;
+        this.transport = transport;
         this.requestMetricCollector = requestMetricCollector;
     }
 
+    /**
+     * Returns a new transport created by the transport factory specified in
+     * the given configuration, or by the default Apache HttpClient based
+     * factory if there is none.
+     */
+    private static HttpTransport createTransport(ClientConfiguration config) {
+        HttpTransportFactory factory = config.getHttpTransportFactory();
+        if (factory == null) {
+            factory = ApacheHttpTransport.FACTORY;
+        }
+        return factory.createTransport(config);
+    }
+
     /**
      * Returns additional response metadata for an executed request. Response
      * metadata isn't considered part of the standard results returned by an
@@ -239,18 +277,7 @@ public class AmazonHttpClient {
             return;
         }
 
-        try {
-            SchemeRegistry schemeRegistry = httpClient.getConnectionManager().getSchemeRegistry();
-
-            SdkTLSSocketFactory sf = new SdkTLSSocketFactory(
-                    SSLContext.getDefault(),
-                    SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER);
-            Scheme https = new Scheme("https", 443, sf);
-
-            schemeRegistry.register(https);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AmazonClientException("Unable to access default SSL context to disable strict hostname verification");
-        }
+        transport.setHostnameVerifier(SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER);
     }
     /**
      * Executes the request and returns the result.
@@ -309,6 +336,76 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Returns true if {@link #executeAsync} sends requests without blocking
+     * the calling thread for network I/O, ie if this client is backed by a
+     * non-blocking {@link HttpTransport}.
+     */
+    public boolean isNonBlocking() {
+        return transport.isNonBlocking();
+    }
+
+    /**
+     * Executes the request asynchronously, going through the same signing,
+     * retry, redirect and response handling steps as
+     * {@link #execute(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext)}.
+     * <p>
+     * With a non-blocking transport, this method returns as soon as the first
+     * attempt has been handed over to the transport; the response is then
+     * handled, and the returned future completed, on a transport I/O thread.
+     * Retries are scheduled after the backoff delay rather than sleeping in
+     * any thread. With a blocking transport, the first attempt runs to
+     * completion on the calling thread.
+     * <p>
+     * The response content is fully buffered in memory before being passed to
+     * the response handler, which must therefore not need the connection left
+     * open.
+     *
+     * @param request
+     *            The AmazonWebServices request to send to the remote server
+     * @param responseHandler
+     *            A response handler to accept a successful response from the
+     *            remote server
+     * @param errorResponseHandler
+     *            A response handler to accept an unsuccessful response from the
+     *            remote server
+     * @param executionContext
+     *            Additional information about the context of this web service
+     *            call
+     * @return a future for the response; cancelling it aborts the request
+     */
+    public <T> ComposableFuture<Response<T>> executeAsync(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext) {
+        return executeAsync(request, responseHandler, errorResponseHandler,
+                executionContext, null);
+    }
+
+    /**
+     * Executes the request asynchronously like
+     * {@link #executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext)},
+     * but handles the response, and completes the returned future, on the
+     * given executor rather than on a transport I/O thread; so the response
+     * handlers, and the callbacks attached to the future, may take their time
+     * without holding up other requests. The tasks submitted to the executor
+     * never block. Should the executor reject them, they are run on the
+     * transport I/O thread instead.
+     *
+     * @param responseExecutor
+     *            the executor to handle the response on; or null to handle
+     *            it on the transport I/O thread
+     */
+    public <T> ComposableFuture<Response<T>> executeAsync(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, Executor responseExecutor) {
+        if (executionContext == null)
+            throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        return new AsyncExecution<T>(request, responseHandler,
+                errorResponseHandler, executionContext, responseExecutor).start();
+    }
+
     /**
      * Publishes the "request content length" event, and returns an input
      * stream, which will be made mark-and-resettable if possible, for progress
@@ -434,28 +531,8 @@ public class AmazonHttpClient {
         }
         final ExecOneRequestParams p = new ExecOneRequestParams();
         while (true) {
-            p.initPerRetry();
-            if (p.redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                String scheme = p.redirectedURI.getScheme();
-                String beforeAuthority = scheme == null ? "" : scheme + "://";
-                String authority = p.redirectedURI.getAuthority();
-                String path = p.redirectedURI.getPath();
-
-                request.setEndpoint(URI.create(beforeAuthority + authority));
-                request.setResourcePath(path);
-            }
-            if (p.authRetryParam != null) {
-                request.setEndpoint(p.authRetryParam.getEndpointForRetry());
-            }
-            awsRequestMetrics.setCounter(RequestCount, p.requestCount);
-            if (p.isRetry()) {
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
+            beginAttempt(request, p, originalParameters, originalHeaders,
+                    originalContent, awsRequestMetrics);
             try {
                 Response<T> response = executeOneRequest(request, responseHandler,
                     errorResponseHandler, executionContext, awsRequestMetrics,
@@ -463,23 +540,9 @@ public class AmazonHttpClient {
                 if (response != null)
                     return response;
             } catch (IOException ioe) {
-                if (log.isInfoEnabled()) {
-                    log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
-                captureExceptionMetrics(ioe, awsRequestMetrics);
-                awsRequestMetrics.addProperty(AWSRequestID, null);
-                AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(),
-                        ioe);
-                if (!shouldRetry(request.getOriginalRequest(),
-                                p.apacheRequest,
-                                ace,
-                                p.requestCount,
-                                config.getRetryPolicy())) {
-                    throw lastReset(ace, request);
-                }
                 // Cache the retryable exception
-                p.retriedException = ace;
+                p.retriedException = handleIOException(ioe, request,
+                        awsRequestMetrics, p);
             } catch(RuntimeException e) {
                 throw lastReset(
                         captureExceptionMetrics(e, awsRequestMetrics),
@@ -489,27 +552,93 @@ public class AmazonHttpClient {
                         captureExceptionMetrics(e, awsRequestMetrics),
                         request);
             } finally {
-                /*
-                 * Some response handlers need to manually manage the HTTP
-                 * connection and will take care of releasing the connection on
-                 * their own, but if this response handler doesn't need the
-                 * connection left open, we go ahead and release the it to free
-                 * up resources.
-                 */
-                if (!p.leaveHttpConnectionOpen) {
-                    if (p.apacheResponse != null) {
-                        HttpEntity entity = p.apacheResponse.getEntity();
-                        if (entity != null) {
-                            try {
-                                closeQuietly(entity.getContent(), log);
-                            } catch (IOException e) {
-                                log.warn("Cannot close the response content.", e);
-                            }
-                        }
+                releaseResponse(p);
+            }
+        } /* end while (true) */
+    }
+
+    /**
+     * Resets the request to its original state, pointing it to wherever the
+     * previous attempt (if any) has been redirected, before the next attempt.
+     */
+    private void beginAttempt(final Request<?> request,
+            final ExecOneRequestParams p,
+            final Map<String, String> originalParameters,
+            final Map<String, String> originalHeaders,
+            final InputStream originalContent,
+            final AWSRequestMetrics awsRequestMetrics) {
+        p.initPerRetry();
+        if (p.redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+            String scheme = p.redirectedURI.getScheme();
+            String beforeAuthority = scheme == null ? "" : scheme + "://";
+            String authority = p.redirectedURI.getAuthority();
+            String path = p.redirectedURI.getPath();
+
+            request.setEndpoint(URI.create(beforeAuthority + authority));
+            request.setResourcePath(path);
+        }
+        if (p.authRetryParam != null) {
+            request.setEndpoint(p.authRetryParam.getEndpointForRetry());
+        }
+        awsRequestMetrics.setCounter(RequestCount, p.requestCount);
+        if (p.isRetry()) {
+            request.setParameters(originalParameters);
+            request.setHeaders(originalHeaders);
+            request.setContent(originalContent);
+        }
+    }
+
+    /**
+     * Handles an I/O failure of the current attempt.
+     *
+     * @return the exception to retry the request upon
+     * @throws AmazonClientException
+     *             if the request shouldn't be retried
+     */
+    private AmazonClientException handleIOException(final IOException ioe,
+            final Request<?> request,
+            final AWSRequestMetrics awsRequestMetrics,
+            final ExecOneRequestParams p) {
+        if (log.isInfoEnabled()) {
+            log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        }
+        captureExceptionMetrics(ioe, awsRequestMetrics);
+        awsRequestMetrics.addProperty(AWSRequestID, null);
+        AmazonClientException ace = new AmazonClientException(
+                "Unable to execute HTTP request: " + ioe.getMessage(),
+                ioe);
+        if (!shouldRetry(request.getOriginalRequest(),
+                        p.apacheRequest,
+                        ace,
+                        p.requestCount,
+                        config.getRetryPolicy())) {
+            throw lastReset(ace, request);
+        }
+        return ace;
+    }
+
+    /**
+     * Some response handlers need to manually manage the HTTP connection and
+     * will take care of releasing the connection on their own, but if this
+     * response handler doesn't need the connection left open, we go ahead and
+     * release the it to free up resources.
+     */
+    private void releaseResponse(final ExecOneRequestParams p) {
+        if (!p.leaveHttpConnectionOpen) {
+            if (p.apacheResponse != null) {
+                HttpEntity entity = p.apacheResponse.getEntity();
+                if (entity != null) {
+                    try {
+                        closeQuietly(entity.getContent(), log);
+                    } catch (IOException e) {
+                        log.warn("Cannot close the response content.", e);
                     }
                 }
             }
-        } /* end while (true) */
+        }
     }
 
     /**
@@ -625,6 +754,43 @@ public class AmazonHttpClient {
             final AWSRequestMetrics awsRequestMetrics,
             ExecOneRequestParams p)
             throws IOException {
+        prepareRequest(request, execContext, awsRequestMetrics, p);
+        if (p.isRetry()) {
+            final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+            // Notify the progress listener of the retry
+            awsRequestMetrics.startEvent(RetryPauseTime);
+            try {
+                // don't pause if the retry was not due to a redirection
+                // ie when retried exception is null
+                if (p.retriedException != null) {
+                    pauseBeforeNextRetry(request.getOriginalRequest(),
+                        p.retriedException, p.requestCount,
+                        config.getRetryPolicy());
+                }
+            } finally {
+                awsRequestMetrics.endEvent(RetryPauseTime);
+            }
+        }
+        HttpContext httpContext = beginHttpRequest(request, awsRequestMetrics, p);
+        try {
+            p.apacheResponse = transport.execute(p.apacheRequest, httpContext);
+        } finally {
+            awsRequestMetrics.endEvent(HttpRequestTime);
+        }
+        return handleHttpResponse(request, responseHandler,
+                errorResponseHandler, execContext, awsRequestMetrics, p);
+    }
+
+    /**
+     * Resets the request content, signs the request and creates the Apache
+     * HTTP request for the current attempt.
+     */
+    private void prepareRequest(final Request<?> request,
+            final ExecutionContext execContext,
+            final AWSRequestMetrics awsRequestMetrics,
+            ExecOneRequestParams p)
+            throws IOException {
         // Reset the request input stream
         if (p.isRetry()) {
             InputStream requestInputStream = request.getContent();
@@ -641,7 +807,6 @@ public class AmazonHttpClient {
         if (requestLog.isDebugEnabled())
             requestLog.debug("Sending Request: " + request);
         final AWSCredentials credentials = execContext.getCredentials();
-        final AmazonWebServiceRequest awsreq = request.getOriginalRequest();
         // Sign the request if a signer was provided
         p.newSigner(request, execContext);
         if (p.signer != null && credentials != null) {
@@ -655,25 +820,19 @@ public class AmazonHttpClient {
             }
         }
         p.newApacheRequest(httpRequestFactory, request, config, execContext);
-        final ProgressListener listener = awsreq.getGeneralProgressListener();
+    }
 
-        if (p.isRetry()) {
-            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
-            // Notify the progress listener of the retry
-            awsRequestMetrics.startEvent(RetryPauseTime);
-            try {
-                // don't pause if the retry was not due to a redirection
-                // ie when retried exception is null
-                if (p.retriedException != null) {
-                    pauseBeforeNextRetry(request.getOriginalRequest(),
-                        p.retriedException, p.requestCount,
-                        config.getRetryPolicy());
-                }
-            } finally {
-                awsRequestMetrics.endEvent(RetryPauseTime);
-            }
-        }
-        captureConnectionPoolMetrics(httpClient.getConnectionManager(), awsRequestMetrics);
+    /**
+     * Captures the state of the connection pool and starts timing the HTTP
+     * request, right before it is handed over to the transport.
+     *
+     * @return the context to execute the HTTP request with
+     */
+    private HttpContext beginHttpRequest(final Request<?> request,
+            final AWSRequestMetrics awsRequestMetrics,
+            ExecOneRequestParams p) {
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
+        captureConnectionPoolMetrics(transport.getConnPoolControl(), awsRequestMetrics);
         HttpContext httpContext = new BasicHttpContext();
         httpContext.setAttribute(
             AWSRequestMetrics.class.getSimpleName(),
@@ -681,11 +840,22 @@ public class AmazonHttpClient {
         p.resetBeforeHttpRequest();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
         awsRequestMetrics.startEvent(HttpRequestTime);
-        try {
-            p.apacheResponse = httpClient.execute(p.apacheRequest, httpContext);
-        } finally {
-            awsRequestMetrics.endEvent(HttpRequestTime);
-        }
+        return httpContext;
+    }
+
+    /**
+     * Handles the HTTP response received for the current attempt.
+     *
+     * @return the response; or null for retry
+     */
+    private <T> Response<T> handleHttpResponse(final Request<?> request,
+            final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final ExecutionContext execContext,
+            final AWSRequestMetrics awsRequestMetrics,
+            ExecOneRequestParams p)
+            throws IOException {
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
         final StatusLine statusLine = p.apacheResponse.getStatusLine();
         final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
@@ -766,11 +936,9 @@ public class AmazonHttpClient {
     /**
      * Captures the connection pool metrics.
      */
-    private void captureConnectionPoolMetrics(ClientConnectionManager connectionManager,
+    private void captureConnectionPoolMetrics(ConnPoolControl<?> control,
             AWSRequestMetrics awsRequestMetrics) {
-        if (awsRequestMetrics.isEnabled()
-                && connectionManager instanceof ConnPoolControl) {
-            ConnPoolControl<?> control = (ConnPoolControl<?>) connectionManager;
+        if (awsRequestMetrics.isEnabled() && control != null) {
             PoolStats stats = control.getTotalStats();
             awsRequestMetrics
                 .withCounter(HttpClientPoolAvailableCount, stats.getAvailable())
@@ -838,8 +1006,7 @@ public class AmazonHttpClient {
      * Once a client has been shutdown, it cannot be used to make more requests.
      */
     public void shutdown() {
-        IdleConnectionReaper.removeConnectionManager(httpClient.getConnectionManager());
-        httpClient.getConnectionManager().shutdown();
+        transport.shutdown();
     }
 
     /**
@@ -1127,6 +1294,26 @@ public class AmazonHttpClient {
                                     AmazonClientException previousException,
                                     int requestCount,
                                     RetryPolicy retryPolicy) {
+        long delay = computeRetryDelay(originalRequest, previousException,
+                requestCount, retryPolicy);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds to wait before the next retry, as
+     * determined by the backoff strategy of the given retry policy.
+     *
+     * @see #pauseBeforeNextRetry(AmazonWebServiceRequest, AmazonClientException, int, RetryPolicy)
+     */
+    private long computeRetryDelay(AmazonWebServiceRequest originalRequest,
+                                   AmazonClientException previousException,
+                                   int requestCount,
+                                   RetryPolicy retryPolicy) {
         final int retries = requestCount // including next attempt
                             - 1          // number of attempted requests
                             - 1;         // number of attempted retries
@@ -1138,13 +1325,7 @@ public class AmazonHttpClient {
             log.debug("Retriable error detected, " +
                     "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new AmazonClientException(e.getMessage(), e);
-        }
+        return delay;
     }
 
     // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z (20140819T173329Z + 5 min.)
@@ -1241,4 +1422,295 @@ public class AmazonHttpClient {
     static void configUnreliableTestConditions(UnreliableTestConfig config) {
         unreliableTestConfig = config;
     }
+
+    /**
+     * Lazily started timer used to schedule the retries of asynchronous
+     * requests.
+     */
+    private static class RetryScheduler {
+        static final ScheduledExecutorService INSTANCE =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "aws-sdk-retry-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+    }
+
+    /**
+     * State of an asynchronous request execution, driven by the completion
+     * of each attempt rather than by a thread looping over them.
+     *
+     * @see AmazonHttpClient#executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext)
+     */
+    private class AsyncExecution<T> implements FutureCallback<org.apache.http.HttpResponse> {
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final Executor responseExecutor;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final ProgressListener listener;
+        private final ExecOneRequestParams p = new ExecOneRequestParams();
+        private final ComposableFuture<Response<T>> future = new ComposableFuture<Response<T>>();
+
+        private List<RequestHandler2> requestHandler2s = Collections.emptyList();
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private Map<String, String> originalParameters;
+        private Map<String, String> originalHeaders;
+        private InputStream originalContent;
+        /** The transport request or retry timer currently in progress. */
+        private volatile Future<?> pending;
+        /** The timer of the last retry scheduled, if any. */
+        private volatile Future<?> retryTimer;
+        /** Whether the execution has been cleaned up. */
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        AsyncExecution(Request<?> request,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext, Executor responseExecutor) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.responseExecutor = responseExecutor;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.listener = request.getOriginalRequest().getGeneralProgressListener();
+        }
+
+        ComposableFuture<Response<T>> start() {
+            future.whenComplete(new Completion<Response<T>>() {
+                @Override
+                public void onSuccess(Response<T> result) {
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    Future<?> f = pending;
+                    if (exception instanceof CancellationException && f != null
+                            && f.cancel(true) && f == retryTimer) {
+                        // The retry will not run, so it won't clean up
+                        skipRetry();
+                    }
+                }
+            });
+            try {
+                requestHandler2s = requestHandler2s(request, executionContext);
+                AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+                Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
+                if (customHeaders != null) {
+                    request.getHeaders().putAll(customHeaders);
+                }
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(request); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                request.setContent(toBeClosed == null
+                        ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose());
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+                awsRequestMetrics
+                    .addPropertyWith(ServiceName, request.getServiceName())
+                    .addPropertyWith(ServiceEndpoint, request.getEndpoint())
+                    ;
+                setUserAgent(request);
+                originalParameters = new LinkedHashMap<String, String>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                // Always mark the input stream before execution.
+                originalContent = request.getContent();
+                if (originalContent != null && originalContent.markSupported()) {
+                    final int readLimit = awsreq.getRequestClientOptions().getReadLimit();
+                    originalContent.mark(readLimit);
+                }
+            } catch (RuntimeException e) {
+                fail(e, null);
+                return future;
+            }
+            attempt();
+            return future;
+        }
+
+        /** Sends the next attempt, unless the execution has been cancelled. */
+        private void attempt() {
+            if (future.isDone()) {
+                finish();
+                return;
+            }
+            try {
+                beginAttempt(request, p, originalParameters, originalHeaders,
+                        originalContent, awsRequestMetrics);
+                prepareRequest(request, executionContext, awsRequestMetrics, p);
+                if (p.isRetry()) {
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+                }
+                HttpContext httpContext = beginHttpRequest(request, awsRequestMetrics, p);
+                pending = transport.execute(p.apacheRequest, httpContext, this);
+                if (future.isCancelled())
+                    pending.cancel(true);
+            } catch (IOException ioe) {
+                onIOException(ioe);
+            } catch (RuntimeException e) {
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request), null);
+            }
+        }
+
+        @Override
+        public void completed(final org.apache.http.HttpResponse apacheResponse) {
+            awsRequestMetrics.endEvent(HttpRequestTime);
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    handle(apacheResponse);
+                }
+            });
+        }
+
+        private void handle(org.apache.http.HttpResponse apacheResponse) {
+            p.apacheResponse = apacheResponse;
+            Response<T> response;
+            try {
+                response = handleHttpResponse(request, responseHandler,
+                        errorResponseHandler, executionContext,
+                        awsRequestMetrics, p);
+            } catch (IOException ioe) {
+                releaseResponse(p);
+                onIOException(ioe);
+                return;
+            } catch (RuntimeException e) {
+                releaseResponse(p);
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request), null);
+                return;
+            }
+            releaseResponse(p);
+            if (response == null)
+                retry();
+            else
+                succeed(response);
+        }
+
+        @Override
+        public void failed(final Exception ex) {
+            awsRequestMetrics.endEvent(HttpRequestTime);
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    if (ex instanceof IOException) {
+                        onIOException((IOException) ex);
+                    } else {
+                        AmazonClientException ace = new AmazonClientException(
+                                "Unable to execute HTTP request: " + ex.getMessage(), ex);
+                        fail(lastReset(captureExceptionMetrics(ace, awsRequestMetrics), request), null);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void cancelled() {
+            awsRequestMetrics.endEvent(HttpRequestTime);
+            fail(new CancellationException(), null);
+        }
+
+        /** Runs the given task on the response executor, if any. */
+        private void dispatch(Runnable task) {
+            if (responseExecutor != null) {
+                try {
+                    responseExecutor.execute(task);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // eg the executor has been shut down; carry on here
+                }
+            }
+            task.run();
+        }
+
+        private void onIOException(IOException ioe) {
+            try {
+                p.retriedException = handleIOException(ioe, request,
+                        awsRequestMetrics, p);
+            } catch (AmazonClientException e) {
+                fail(e, null);
+                return;
+            }
+            retry();
+        }
+
+        /** Schedules the next attempt after the backoff delay, if any. */
+        private void retry() {
+            awsRequestMetrics.startEvent(RetryPauseTime);
+            long delay = 0;
+            Future<?> timer;
+            try {
+                // don't pause if the retry was not due to a redirection
+                // ie when retried exception is null
+                if (p.retriedException != null) {
+                    delay = computeRetryDelay(request.getOriginalRequest(),
+                            p.retriedException, p.requestCount + 1,
+                            config.getRetryPolicy());
+                }
+                timer = RetryScheduler.INSTANCE.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        awsRequestMetrics.endEvent(RetryPauseTime);
+                        attempt();
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+                retryTimer = timer;
+                pending = timer;
+            } catch (RuntimeException e) {
+                awsRequestMetrics.endEvent(RetryPauseTime);
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request), null);
+                return;
+            }
+            if (future.isCancelled() && timer.cancel(false))
+                skipRetry();
+        }
+
+        /**
+         * Cleans up after a retry that has been cancelled before it could run,
+         * as the execution itself was cancelled.
+         */
+        private void skipRetry() {
+            awsRequestMetrics.endEvent(RetryPauseTime);
+            finish();
+        }
+
+        private void succeed(Response<T> response) {
+            try {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                afterResponse(request, requestHandler2s, response, timingInfo);
+            } catch (RuntimeException e) {
+                fail(e, response);
+                return;
+            }
+            finish();
+            future.complete(response);
+        }
+
+        private void fail(Exception e, Response<?> response) {
+            try {
+                if (e instanceof AmazonClientException) {
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                    afterError(request, response, requestHandler2s, (AmazonClientException) e);
+                }
+            } catch (RuntimeException handlerFailure) {
+                e = handlerFailure;
+            } finally {
+                finish();
+                future.fail(e);
+            }
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true))
+                return;
+            // Always close so any progress tracking would get the final events propagated.
+            closeQuietly(toBeClosed, log);
+            request.setContent(origContent); // restore the original content
+        }
+    }
 }
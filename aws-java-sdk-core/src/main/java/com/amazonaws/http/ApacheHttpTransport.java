@@ -0,0 +1,135 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.conn.ssl.SdkTLSSocketFactory;
+
+/**
+ * The default {@link HttpTransport}, backed by a blocking Apache HttpClient
+ * built by {@link HttpClientFactory}.
+ * <p>
+ * This transport has no I/O threads of its own, so the asynchronous variant of
+ * {@link #execute(HttpRequestBase, HttpContext, FutureCallback)} runs the
+ * request to completion on the calling thread before returning an already
+ * completed future.
+ */
+@ThreadSafe
+class ApacheHttpTransport implements HttpTransport {
+
+    /** Factory for the default transport. */
+    static final HttpTransportFactory FACTORY = new HttpTransportFactory() {
+        private final HttpClientFactory httpClientFactory = new HttpClientFactory();
+
+        @Override
+        public HttpTransport createTransport(ClientConfiguration config) {
+            return new ApacheHttpTransport(httpClientFactory.createHttpClient(config));
+        }
+    };
+
+    private final HttpClient httpClient;
+
+    ApacheHttpTransport(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /** Returns the underlying Apache HttpClient. */
+    HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequestBase request, HttpContext context)
+            throws IOException {
+        return httpClient.execute(request, context);
+    }
+
+    @Override
+    public Future<HttpResponse> execute(HttpRequestBase request,
+            HttpContext context, FutureCallback<HttpResponse> callback) {
+        BasicFuture<HttpResponse> future = new BasicFuture<HttpResponse>(callback);
+        try {
+            HttpResponse response = httpClient.execute(request, context);
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                try {
+                    response.setEntity(new BufferedHttpEntity(entity));
+                } finally {
+                    // releases the connection back to the pool
+                    EntityUtils.consumeQuietly(entity);
+                }
+            }
+            future.completed(response);
+        } catch (IOException e) {
+            future.failed(e);
+        } catch (RuntimeException e) {
+            future.failed(e);
+        }
+        return future;
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return false;
+    }
+
+    @Override
+    public ConnPoolControl<?> getConnPoolControl() {
+        ClientConnectionManager connectionManager = httpClient.getConnectionManager();
+        return connectionManager instanceof ConnPoolControl
+             ? (ConnPoolControl<?>) connectionManager
+             : null;
+    }
+
+    @Override
+    public void setHostnameVerifier(X509HostnameVerifier hostnameVerifier) {
+        try {
+            SdkTLSSocketFactory sf = new SdkTLSSocketFactory(
+                    SSLContext.getDefault(), hostnameVerifier);
+            httpClient.getConnectionManager().getSchemeRegistry()
+                    .register(new Scheme("https", 443, sf));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to access default SSL context to change the hostname verifier");
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        IdleConnectionReaper.removeConnectionManager(httpClient.getConnectionManager());
+        httpClient.getConnectionManager().shutdown();
+    }
+}
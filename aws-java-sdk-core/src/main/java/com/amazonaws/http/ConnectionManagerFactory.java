@@ -20,7 +20,10 @@ import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.apache.http.impl.conn.SchemeRegistryFactory;
 import org.apache.http.params.HttpParams;
 
+import com.amazonaws.ApacheHttpClientConfig;
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.conn.ConnectionPoolMetrics;
+import com.amazonaws.metrics.AwsSdkMetrics;
 
 /** Responsible for creating and configuring instances of Apache HttpClient4's Connection Manager. */
 class ConnectionManagerFactory {
@@ -36,4 +39,33 @@ class ConnectionManagerFactory {
         }
         return connectionManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the statistics to be collected for the given connection pool,
+     * registered for reporting via {@link AwsSdkMetrics}. If adaptive sizing is
+     * enabled, the total number of connections of the pool is raised to the
+     * ceiling so that only the per-route limits are adjusted.
+     */
+    public static ConnectionPoolMetrics createConnectionPoolMetrics(
+            ClientConfiguration config,
+            PoolingClientConnectionManager connectionManager) {
+        ApacheHttpClientConfig apacheConfig = config.getApacheHttpClientConfig();
+        int maxConnections = config.getMaxConnections();
+        ConnectionPoolMetrics poolMetrics;
+        if (apacheConfig.useAdaptiveConnectionPool()) {
+            int ceiling = apacheConfig.getMaxAdaptiveConnections();
+            if (ceiling == 0) {
+                ceiling = maxConnections > Integer.MAX_VALUE / 4
+                        ? Integer.MAX_VALUE
+                        : maxConnections * 4;
+            }
+            ceiling = Math.max(ceiling, maxConnections);
+            connectionManager.setMaxTotal(ceiling);
+            poolMetrics = new ConnectionPoolMetrics(connectionManager, ceiling);
+        } else {
+            poolMetrics = new ConnectionPoolMetrics(connectionManager);
+        }
+        AwsSdkMetrics.registerConnectionPool(poolMetrics);
+        return poolMetrics;
+    }
+}
@@ -67,6 +67,7 @@ import org.apache.http.protocol.HttpContext;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.conn.ConnectionPoolMetrics;
 import com.amazonaws.http.conn.ssl.SdkTLSSocketFactory;
 import com.amazonaws.http.impl.client.HttpRequestNoRetryHandler;
 import com.amazonaws.http.impl.client.SdkHttpClient;
@@ -103,7 +104,10 @@ class HttpClientFactory {
 
         PoolingClientConnectionManager connectionManager = ConnectionManagerFactory
                 .createPoolingClientConnManager(config, httpClientParams);
-        SdkHttpClient httpClient = new SdkHttpClient(connectionManager, httpClientParams);
+        ConnectionPoolMetrics poolMetrics = ConnectionManagerFactory
+                .createConnectionPoolMetrics(config, connectionManager);
+        SdkHttpClient httpClient = new SdkHttpClient(connectionManager,
+                httpClientParams, poolMetrics);
         httpClient.setHttpRequestRetryHandler(HttpRequestNoRetryHandler.Singleton);
         httpClient.setRedirectStrategy(new NeverFollowRedirectStrategy());
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Service provider interface for the layer that moves HTTP requests and
+ * responses over the wire on behalf of {@link AmazonHttpClient}.
+ * <p>
+ * Requests and responses are expressed using the Apache HttpCore model
+ * classes, so that signing, retries, redirects and response handling stay in
+ * {@link AmazonHttpClient} regardless of which transport is plugged in.
+ * Implementations must be thread safe.
+ *
+ * @see HttpTransportFactory
+ * @see com.amazonaws.ClientConfiguration#setHttpTransportFactory(HttpTransportFactory)
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends the given request and blocks until the response status line and
+     * headers have been received. The response entity, if any, may be
+     * streamed from the underlying connection; the caller is responsible for
+     * fully consuming or closing its content to release the connection.
+     *
+     * @param request
+     *            the request to send
+     * @param context
+     *            the per-request context; never null
+     * @return the response
+     * @throws IOException
+     *             if the request could not be sent or the response could not
+     *             be read
+     */
+    public HttpResponse execute(HttpRequestBase request, HttpContext context)
+            throws IOException;
+
+    /**
+     * Sends the given request without blocking the calling thread for network
+     * I/O. The returned future, and the optional callback, are completed once
+     * the entire response (including its entity, which is buffered in memory)
+     * has been received, or failed with the {@link IOException} that prevented
+     * it.
+     * <p>
+     * Callbacks may be invoked directly on a transport I/O thread, and so must
+     * not block.
+     *
+     * @param request
+     *            the request to send; its entity, if any, may still be
+     *            read by the transport after this method returns, until the
+     *            callback has been notified
+     * @param context
+     *            the per-request context; never null
+     * @param callback
+     *            optional callback to be notified on completion; or null
+     * @return a future for the fully buffered response
+     */
+    public Future<HttpResponse> execute(HttpRequestBase request,
+            HttpContext context, FutureCallback<HttpResponse> callback);
+
+    /**
+     * Returns true if
+     * {@link #execute(HttpRequestBase, HttpContext, FutureCallback)} returns
+     * without waiting for the response; false if it runs the request to
+     * completion on the calling thread.
+     */
+    public boolean isNonBlocking();
+
+    /**
+     * Returns the connection pool control of this transport, for statistics
+     * gathering purposes; or null if the transport doesn't pool connections.
+     */
+    public ConnPoolControl<?> getConnPoolControl();
+
+    /**
+     * Overrides the hostname verifier used to validate the server certificate
+     * of HTTPS connections opened after this call.
+     */
+    public void setHostnameVerifier(X509HostnameVerifier hostnameVerifier);
+
+    /**
+     * Shuts down this transport, closing any open connections. Requests that
+     * are still in flight are failed.
+     */
+    public void shutdown();
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Factory for the {@link HttpTransport} used by an {@link AmazonHttpClient}.
+ * A factory is invoked once per client, at client construction time.
+ *
+ * @see com.amazonaws.ClientConfiguration#setHttpTransportFactory(HttpTransportFactory)
+ */
+public interface HttpTransportFactory {
+
+    /**
+     * Returns a new transport configured using the given client configuration
+     * (ex: timeouts, connection limits, etc).
+     */
+    public HttpTransport createTransport(ClientConfiguration config);
+}
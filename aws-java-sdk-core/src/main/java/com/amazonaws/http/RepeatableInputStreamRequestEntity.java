@@ -17,6 +17,7 @@ package com.amazonaws.http;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -24,6 +25,7 @@ import org.apache.http.entity.BasicHttpEntity;
 import org.apache.http.entity.InputStreamEntity;
 
 import com.amazonaws.Request;
+import com.amazonaws.internal.ChannelTransferable;
 import com.amazonaws.metrics.MetricInputStreamEntity;
 import com.amazonaws.metrics.ServiceMetricType;
 import com.amazonaws.metrics.ThroughputMetricType;
@@ -35,8 +37,13 @@ import com.amazonaws.metrics.internal.ServiceMetricTypeGuesser;
  * the underlying InputStream supports being reset, this RequestEntity will
  * report that it is repeatable and will reset the stream on all subsequent
  * attempts to write out the request.
+ * <p>
+ * If the underlying InputStream is {@link ChannelTransferable}, such as the
+ * content of a file, HTTP transports with access to the underlying channel can
+ * also transfer the content directly, instead of writing it out.
  */
-class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
+class RepeatableInputStreamRequestEntity extends BasicHttpEntity implements
+        ChannelTransferable {
 
     /** True if the request entity hasn't been written out yet */
     private boolean firstAttempt = true;
@@ -157,4 +164,31 @@ class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
         }
     }
 
+    /**
+     * Returns true if the underlying InputStream can be transferred to a
+     * channel, unless throughput metrics are to be collected as the content is
+     * written out.
+     */
+    @Override
+    public boolean isChannelTransferable() {
+        return !(inputStreamRequestEntity instanceof MetricInputStreamEntity)
+            && content instanceof ChannelTransferable
+            && ((ChannelTransferable) content).isChannelTransferable();
+    }
+
+    /**
+     * Transfers the next bytes of the underlying InputStream. Unlike
+     * {@link #writeTo(OutputStream)}, this method is called repeatedly for the
+     * same attempt, and so never resets the stream itself; a fresh entity is
+     * created for each attempt, after the request content has been reset.
+     */
+    @Override
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (!isChannelTransferable())
+            throw new IllegalStateException();
+        firstAttempt = false;
+        return ((ChannelTransferable) content).transferTo(target, maxCount);
+    }
+
 }
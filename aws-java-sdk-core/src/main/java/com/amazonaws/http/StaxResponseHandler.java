@@ -19,7 +19,6 @@ import java.io.InputStream;
 import java.util.Map;
 
 import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.logging.Log;
@@ -30,6 +29,7 @@ import com.amazonaws.ResponseMetadata;
 import com.amazonaws.transform.StaxUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.VoidStaxUnmarshaller;
+import com.amazonaws.util.XmlUtils;
 
 /**
  * Default implementation of HttpResponseHandler that handles a successful
@@ -47,9 +47,6 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
     /** Shared logger for profiling information */
     private static final Log log = LogFactory.getLog("com.amazonaws.request");
 
-    /** Shared factory for creating XML event readers */
-    private static final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
-
 
     /**
      * Constructs a new response handler that will use the specified StAX
@@ -84,10 +81,8 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
         InputStream content = response.getContent();
         if (content == null) content = new ByteArrayInputStream("<eof/>".getBytes());
 
-        XMLEventReader eventReader;
-        synchronized (xmlInputFactory) {
-            eventReader = xmlInputFactory.createXMLEventReader(content);
-        }
+        XMLEventReader eventReader = XmlUtils.getXmlInputFactory()
+                .createXMLEventReader(content);
 
         try {
             AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
@@ -23,8 +23,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.conn.ClientConnectionManager;
 import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.pool.ConnPoolControl;
 
+import com.amazonaws.metrics.AwsSdkMetrics;
+
 public class ClientConnectionManagerFactory {
     private static final Log log = LogFactory.getLog(ClientConnectionManagerFactory.class);
 
@@ -34,6 +37,18 @@ public class ClientConnectionManagerFactory {
      * @param orig the target instance to be wrapped
      */
     public static ClientConnectionManager wrap(ClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link ClientConnectionManager}
+     * to capture the necessary performance metrics, and the statistics of its
+     * connection pool.
+     * @param orig the target instance to be wrapped
+     * @param poolMetrics the connection pool statistics to be updated; or null
+     */
+    public static ClientConnectionManager wrap(ClientConnectionManager orig,
+            ConnectionPoolMetrics poolMetrics) {
         if (orig instanceof Wrapped)
             throw new IllegalArgumentException();
         final Class<?>[] interfaces;
@@ -53,7 +68,7 @@ public class ClientConnectionManagerFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionManagerFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig, poolMetrics));
     }
 
     /**
@@ -63,17 +78,26 @@ public class ClientConnectionManagerFactory {
      */
     private static class Handler implements InvocationHandler {
         private final ClientConnectionManager orig;
-        Handler(ClientConnectionManager real) {
+        private final ConnectionPoolMetrics poolMetrics;
+        Handler(ClientConnectionManager real, ConnectionPoolMetrics poolMetrics) {
             this.orig = real;
+            this.poolMetrics = poolMetrics;
         }
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
+                if (poolMetrics != null && "shutdown".equals(method.getName()))
+                    AwsSdkMetrics.unregisterConnectionPool(poolMetrics);
                 Object ret = method.invoke(orig, args);
-                return ret instanceof ClientConnectionRequest
-                     ? ClientConnectionRequestFactory.wrap((ClientConnectionRequest) ret)
-                     : ret
-                     ;
+                if (ret instanceof ClientConnectionRequest) {
+                    HttpRoute route = args != null && args.length > 0
+                            && args[0] instanceof HttpRoute
+                            ? (HttpRoute) args[0]
+                            : null;
+                    return ClientConnectionRequestFactory.wrap(
+                            (ClientConnectionRequest) ret, route, poolMetrics);
+                }
+                return ret;
             } catch (InvocationTargetException e) {
                 log.debug("", e);
                 throw e.getCause();
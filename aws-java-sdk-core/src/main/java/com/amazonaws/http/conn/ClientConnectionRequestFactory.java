@@ -22,6 +22,8 @@ import java.lang.reflect.Proxy;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
 
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.ServiceLatencyProvider;
@@ -40,13 +42,27 @@ class ClientConnectionRequestFactory {
      * @param orig the target instance to be wrapped
      */
     static ClientConnectionRequest wrap(ClientConnectionRequest orig) {
+        return wrap(orig, null, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link ClientConnectionRequest}
+     * to capture the necessary performance metrics, and the lease wait time
+     * of the given route in the connection pool statistics.
+     * @param orig the target instance to be wrapped
+     * @param route the route the connection is requested for; or null
+     * @param poolMetrics the connection pool statistics to be updated; or null
+     */
+    static ClientConnectionRequest wrap(ClientConnectionRequest orig,
+            HttpRoute route, ConnectionPoolMetrics poolMetrics) {
         if (orig instanceof Wrapped)
             throw new IllegalArgumentException();
         return (ClientConnectionRequest) Proxy.newProxyInstance(
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionRequestFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig,
+                        route == null ? null : poolMetrics, route));
     }
 
     /**
@@ -57,8 +73,13 @@ class ClientConnectionRequestFactory {
      */
     private static class Handler implements InvocationHandler {
         private final ClientConnectionRequest orig;
-        Handler(ClientConnectionRequest orig) {
+        private final ConnectionPoolMetrics poolMetrics;
+        private final HttpRoute route;
+        Handler(ClientConnectionRequest orig, ConnectionPoolMetrics poolMetrics,
+                HttpRoute route) {
             this.orig = orig;
+            this.poolMetrics = poolMetrics;
+            this.route = route;
         }
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
@@ -66,9 +87,23 @@ class ClientConnectionRequestFactory {
                 if ("getConnection".equals(method.getName())) {
                     ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
                             AWSServiceMetrics.HttpClientGetConnectionTime);
+                    if (poolMetrics != null)
+                        poolMetrics.leaseRequested(route);
+                    long startNanos = System.nanoTime();
+                    boolean leased = false;
                     try {
-                        return method.invoke(orig, args);
+                        Object ret = method.invoke(orig, args);
+                        leased = true;
+                        if (poolMetrics != null) {
+                            boolean newConnection = ret instanceof ManagedClientConnection
+                                    && !((ManagedClientConnection) ret).isOpen();
+                            poolMetrics.leaseCompleted(route,
+                                    System.nanoTime() - startNanos, newConnection);
+                        }
+                        return ret;
                     } finally {
+                        if (!leased && poolMetrics != null)
+                            poolMetrics.leaseFailed(route, System.nanoTime() - startNanos);
                         AwsSdkMetrics.getServiceMetricCollector()
                                 .collectLatency(latencyProvider.endTiming());
                     }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Collects per-route statistics of an HTTP connection pool: the time requests
+ * wait to lease a connection, the number of requests waiting, and the number
+ * of connections opened and closed.
+ * <p>
+ * In adaptive mode, the maximum number of connections per route is also
+ * adjusted from these statistics. The limit of a route grows by a quarter when
+ * requests have to wait for a connection, up to a ceiling, and shrinks back by
+ * an eighth, down to its initial value, after a period in which less than half
+ * of the connections allowed were ever in use at the same time.
+ *
+ * @see ClientConnectionManagerFactory#wrap(org.apache.http.conn.ClientConnectionManager, ConnectionPoolMetrics)
+ * @see com.amazonaws.metrics.AwsSdkMetrics#getConnectionPoolStatistics()
+ */
+@ThreadSafe
+public final class ConnectionPoolMetrics {
+    private static final Log log = LogFactory.getLog(ConnectionPoolMetrics.class);
+
+    /** Lease wait beyond which the limit of a route is raised. */
+    static final long GROW_WAIT_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /** Minimum time between two increases of the limit of a route. */
+    static final long GROW_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    /** Period over which the peak use of a route is assessed for shrinking. */
+    static final long SHRINK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final ConcurrentMap<HttpRoute, RouteMetrics> routes =
+            new ConcurrentHashMap<HttpRoute, RouteMetrics>();
+    private final ConnPoolControl<HttpRoute> pool;
+    private final boolean adaptive;
+    private final int initialMaxPerRoute;
+    private final int maxPerRouteCeiling;
+
+    /**
+     * Creates the metrics of the given pool, without adjusting its limits.
+     */
+    public ConnectionPoolMetrics(ConnPoolControl<HttpRoute> pool) {
+        this(pool, pool.getDefaultMaxPerRoute(), false);
+    }
+
+    /**
+     * Creates the metrics of the given pool, adjusting the maximum number of
+     * connections per route between the current default of the pool and the
+     * given ceiling. The maximum total number of connections of the pool is
+     * expected to be at least the ceiling.
+     */
+    public ConnectionPoolMetrics(ConnPoolControl<HttpRoute> pool,
+            int maxPerRouteCeiling) {
+        this(pool, maxPerRouteCeiling, true);
+    }
+
+    private ConnectionPoolMetrics(ConnPoolControl<HttpRoute> pool,
+            int maxPerRouteCeiling, boolean adaptive) {
+        this.pool = pool;
+        this.adaptive = adaptive;
+        this.initialMaxPerRoute = pool.getDefaultMaxPerRoute();
+        if (maxPerRouteCeiling < initialMaxPerRoute) {
+            throw new IllegalArgumentException("maxPerRouteCeiling: "
+                    + maxPerRouteCeiling + " < " + initialMaxPerRoute);
+        }
+        this.maxPerRouteCeiling = maxPerRouteCeiling;
+    }
+
+    /** Returns true if the limits of the pool are adjusted. */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of each route connected to so far.
+     */
+    public List<ConnectionPoolRouteStatistics> getRouteStatistics() {
+        List<ConnectionPoolRouteStatistics> stats =
+                new ArrayList<ConnectionPoolRouteStatistics>(routes.size());
+        for (RouteMetrics m : routes.values()) {
+            stats.add(m.snapshot(pool.getStats(m.route)));
+        }
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return getRouteStatistics().toString();
+    }
+
+    /** Called before a request starts waiting for a connection to the route. */
+    void leaseRequested(HttpRoute route) {
+        routeMetrics(route).pending.incrementAndGet();
+    }
+
+    /**
+     * Called when a request has obtained a connection to the route, after
+     * waiting for the given time.
+     *
+     * @param newConnection
+     *            true if the connection has yet to be opened
+     */
+    void leaseCompleted(HttpRoute route, long waitNanos, boolean newConnection) {
+        RouteMetrics m = routeMetrics(route);
+        int pending = m.pending.decrementAndGet();
+        m.leaseCount.incrementAndGet();
+        m.totalLeaseWaitNanos.addAndGet(waitNanos);
+        m.leaseWaitHistogram.incrementAndGet(
+                ConnectionPoolRouteStatistics.bucketOf(waitNanos));
+        if (newConnection)
+            m.created.incrementAndGet();
+        if (adaptive) {
+            if (waitNanos >= GROW_WAIT_THRESHOLD_NANOS && pending > 0) {
+                grow(route, m);
+            } else {
+                updatePeak(m, pool.getStats(route).getLeased());
+                maybeShrink(route, m);
+            }
+        }
+    }
+
+    /**
+     * Called when a request failed to obtain a connection to the route, after
+     * waiting for the given time.
+     */
+    void leaseFailed(HttpRoute route, long waitNanos) {
+        RouteMetrics m = routeMetrics(route);
+        m.pending.decrementAndGet();
+        m.failedLeaseCount.incrementAndGet();
+        m.totalLeaseWaitNanos.addAndGet(waitNanos);
+        if (adaptive)
+            grow(route, m);
+    }
+
+    private RouteMetrics routeMetrics(HttpRoute route) {
+        RouteMetrics m = routes.get(route);
+        if (m == null) {
+            RouteMetrics newMetrics = new RouteMetrics(route, initialMaxPerRoute);
+            m = routes.putIfAbsent(route, newMetrics);
+            if (m == null)
+                m = newMetrics;
+        }
+        return m;
+    }
+
+    private static void updatePeak(RouteMetrics m, int leased) {
+        int peak;
+        while (leased > (peak = m.peakLeased.get())) {
+            if (m.peakLeased.compareAndSet(peak, leased))
+                return;
+        }
+    }
+
+    private void grow(HttpRoute route, RouteMetrics m) {
+        long now = System.nanoTime();
+        long last = m.lastAdjustNanos.get();
+        if (now - last < GROW_INTERVAL_NANOS
+                || !m.lastAdjustNanos.compareAndSet(last, now))
+            return;
+        int max = m.maxPerRoute;
+        if (max >= maxPerRouteCeiling)
+            return;
+        int newMax = Math.min(maxPerRouteCeiling, max + Math.max(1, max / 4));
+        setMaxPerRoute(route, m, newMax);
+        // A new window starts, in which the raised limit is expected to be used
+        m.shrinkWindowStartNanos = now;
+        m.peakLeased.set(max);
+    }
+
+    private void maybeShrink(HttpRoute route, RouteMetrics m) {
+        long now = System.nanoTime();
+        if (now - m.shrinkWindowStartNanos < SHRINK_INTERVAL_NANOS)
+            return;
+        long last = m.lastAdjustNanos.get();
+        if (!m.lastAdjustNanos.compareAndSet(last, now))
+            return;
+        int max = m.maxPerRoute;
+        int peak = m.peakLeased.getAndSet(0);
+        m.shrinkWindowStartNanos = now;
+        if (max > initialMaxPerRoute && peak < max / 2) {
+            setMaxPerRoute(route, m,
+                    Math.max(initialMaxPerRoute, max - Math.max(1, max / 8)));
+        }
+    }
+
+    private void setMaxPerRoute(HttpRoute route, RouteMetrics m, int newMax) {
+        if (log.isDebugEnabled()) {
+            log.debug("Adjusting the maximum connections to " + route
+                    + " from " + m.maxPerRoute + " to " + newMax);
+        }
+        m.maxPerRoute = newMax;
+        pool.setMaxPerRoute(route, newMax);
+    }
+
+    /**
+     * The live statistics of a route.
+     */
+    private static final class RouteMetrics {
+        final HttpRoute route;
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicLong leaseCount = new AtomicLong();
+        final AtomicLong failedLeaseCount = new AtomicLong();
+        final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+        final AtomicLongArray leaseWaitHistogram =
+                new AtomicLongArray(ConnectionPoolRouteStatistics.bucketCount());
+        final AtomicLong created = new AtomicLong();
+        /* Adaptive sizing state */
+        volatile int maxPerRoute;
+        final AtomicInteger peakLeased = new AtomicInteger();
+        final AtomicLong lastAdjustNanos;
+        volatile long shrinkWindowStartNanos;
+
+        RouteMetrics(HttpRoute route, int maxPerRoute) {
+            this.route = route;
+            this.maxPerRoute = maxPerRoute;
+            long now = System.nanoTime();
+            this.lastAdjustNanos = new AtomicLong(now - GROW_INTERVAL_NANOS);
+            this.shrinkWindowStartNanos = now;
+        }
+
+        ConnectionPoolRouteStatistics snapshot(PoolStats poolStats) {
+            long[] histogram = new long[leaseWaitHistogram.length()];
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = leaseWaitHistogram.get(i);
+            }
+            long createdCount = created.get();
+            // Connections no longer held by the pool have been closed
+            long closed = createdCount - poolStats.getLeased()
+                    - poolStats.getAvailable();
+            return new ConnectionPoolRouteStatistics(route.toString(),
+                    poolStats.getMax(), poolStats.getLeased(), pending.get(),
+                    leaseCount.get(), failedLeaseCount.get(),
+                    totalLeaseWaitNanos.get(), histogram, createdCount,
+                    Math.max(0, closed));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.annotation.Immutable;
+
+/**
+ * A snapshot of the statistics of the connections to one route of an HTTP
+ * connection pool.
+ *
+ * @see ConnectionPoolMetrics
+ */
+@Immutable
+public final class ConnectionPoolRouteStatistics {
+    /**
+     * Upper bounds, exclusive and in milliseconds, of the buckets of the lease
+     * wait time histogram, except for the last bucket which has none.
+     */
+    private static final long[] LEASE_WAIT_BUCKET_BOUNDS_MILLI = {
+        1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024, 2048
+    };
+
+    private final String route;
+    private final int maxConnections;
+    private final int leasedConnections;
+    private final int pendingLeases;
+    private final long leaseCount;
+    private final long failedLeaseCount;
+    private final long totalLeaseWaitNanos;
+    private final long[] leaseWaitHistogram;
+    private final long createdConnections;
+    private final long closedConnections;
+
+    ConnectionPoolRouteStatistics(String route, int maxConnections,
+            int leasedConnections, int pendingLeases, long leaseCount,
+            long failedLeaseCount, long totalLeaseWaitNanos,
+            long[] leaseWaitHistogram, long createdConnections,
+            long closedConnections) {
+        this.route = route;
+        this.maxConnections = maxConnections;
+        this.leasedConnections = leasedConnections;
+        this.pendingLeases = pendingLeases;
+        this.leaseCount = leaseCount;
+        this.failedLeaseCount = failedLeaseCount;
+        this.totalLeaseWaitNanos = totalLeaseWaitNanos;
+        this.leaseWaitHistogram = leaseWaitHistogram;
+        this.createdConnections = createdConnections;
+        this.closedConnections = closedConnections;
+    }
+
+    /**
+     * Returns the index of the lease wait time histogram bucket of the given
+     * wait time.
+     */
+    static int bucketOf(long waitNanos) {
+        long waitMilli = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        for (int i = 0; i < LEASE_WAIT_BUCKET_BOUNDS_MILLI.length; i++) {
+            if (waitMilli < LEASE_WAIT_BUCKET_BOUNDS_MILLI[i])
+                return i;
+        }
+        return LEASE_WAIT_BUCKET_BOUNDS_MILLI.length;
+    }
+
+    /** Returns the number of buckets of the lease wait time histogram. */
+    static int bucketCount() {
+        return LEASE_WAIT_BUCKET_BOUNDS_MILLI.length + 1;
+    }
+
+    /** Returns the route, as in "{s}->https://dynamodb.us-east-1.amazonaws.com:443". */
+    public String getRoute() {
+        return route;
+    }
+
+    /** Returns the maximum number of connections currently allowed to the route. */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /** Returns the number of connections to the route currently leased. */
+    public int getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    /** Returns the number of requests currently waiting for a connection. */
+    public int getPendingLeases() {
+        return pendingLeases;
+    }
+
+    /** Returns the number of connections leased so far. */
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * Returns the number of requests that failed to obtain a connection so
+     * far, for instance because the wait timed out.
+     */
+    public long getFailedLeaseCount() {
+        return failedLeaseCount;
+    }
+
+    /** Returns the total time spent waiting for connections, in nanoseconds. */
+    public long getTotalLeaseWaitNanos() {
+        return totalLeaseWaitNanos;
+    }
+
+    /**
+     * Returns the average time spent waiting for a connection, in
+     * milliseconds; or zero if no connection has been leased.
+     */
+    public double getAverageLeaseWaitMillis() {
+        return leaseCount == 0 ? 0
+             : totalLeaseWaitNanos / (double) leaseCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns a copy of the histogram of the time spent waiting for a
+     * connection. Bucket <code>i</code> counts the leases that waited less than
+     * <code>2^i</code> milliseconds, and at least <code>2^(i-1)</code>
+     * milliseconds for <code>i &gt; 0</code>. The last bucket counts the leases
+     * that waited at least that long.
+     */
+    public long[] getLeaseWaitHistogram() {
+        return leaseWaitHistogram.clone();
+    }
+
+    /** Returns the number of connections opened so far. */
+    public long getCreatedConnections() {
+        return createdConnections;
+    }
+
+    /**
+     * Returns the number of connections closed so far, whether they were not
+     * kept for reuse when released or were evicted from the pool while idle.
+     */
+    public long getClosedConnections() {
+        return closedConnections;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(route)
+            .append(": max=").append(maxConnections)
+            .append(", leased=").append(leasedConnections)
+            .append(", pending=").append(pendingLeases)
+            .append(", leases=").append(leaseCount)
+            .append(", failedLeases=").append(failedLeaseCount)
+            .append(", averageLeaseWaitMillis=").append(getAverageLeaseWaitMillis())
+            .append(", created=").append(createdConnections)
+            .append(", closed=").append(closedConnections)
+            .append(", leaseWaitHistogram={");
+        for (int i = 0; i < leaseWaitHistogram.length; i++) {
+            if (i > 0)
+                sb.append(", ");
+            if (i < LEASE_WAIT_BUCKET_BOUNDS_MILLI.length)
+                sb.append("<").append(LEASE_WAIT_BUCKET_BOUNDS_MILLI[i]);
+            else
+                sb.append(">=").append(LEASE_WAIT_BUCKET_BOUNDS_MILLI[i - 1]);
+            sb.append("ms=").append(leaseWaitHistogram[i]);
+        }
+        return sb.append("}").toString();
+    }
+}
@@ -20,6 +20,7 @@ import org.apache.http.params.HttpParams;
 import org.apache.http.protocol.HttpRequestExecutor;
 
 import com.amazonaws.http.conn.ClientConnectionManagerFactory;
+import com.amazonaws.http.conn.ConnectionPoolMetrics;
 import com.amazonaws.http.protocol.SdkHttpRequestExecutor;
 
 public class SdkHttpClient extends DefaultHttpClient {
@@ -29,6 +30,13 @@ public class SdkHttpClient extends DefaultHttpClient {
         super(ClientConnectionManagerFactory.wrap(conman), params);
     }
 
+    public SdkHttpClient(
+            final ClientConnectionManager conman,
+            final HttpParams params,
+            final ConnectionPoolMetrics poolMetrics) {
+        super(ClientConnectionManagerFactory.wrap(conman, poolMetrics), params);
+    }
+
     @Override
     protected HttpRequestExecutor createRequestExecutor() {
         return new SdkHttpRequestExecutor();
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded buffer through which the content of a streamed response entity is
+ * handed from the I/O thread receiving it to the thread consuming it. When the
+ * buffer is full the I/O thread stops reading from the connection until the
+ * consumer has caught up.
+ */
+final class ContentInputBuffer extends InputStream {
+    private final byte[] buffer;
+    private final Exchange exchange;
+    private int readPos;
+    private int writePos;
+    private boolean endOfStream;
+    private boolean closed;
+    private IOException failure;
+    /** True if the I/O thread has stopped reading because this buffer is full. */
+    private boolean suspended;
+
+    ContentInputBuffer(int capacity, Exchange exchange) {
+        this.buffer = new byte[capacity];
+        this.exchange = exchange;
+    }
+
+    /**
+     * Transfers up to the given number of bytes from the source buffer. Called
+     * on the I/O thread only.
+     *
+     * @return the number of bytes accepted, which is less than requested if
+     *         this buffer has become full
+     */
+    synchronized int offer(ByteBuffer src, int len) {
+        if (closed) {
+            // Nobody is interested in the rest of the content
+            src.position(src.position() + len);
+            return len;
+        }
+        if (writePos == buffer.length && readPos > 0) {
+            System.arraycopy(buffer, readPos, buffer, 0, writePos - readPos);
+            writePos -= readPos;
+            readPos = 0;
+        }
+        int n = Math.min(len, buffer.length - writePos);
+        src.get(buffer, writePos, n);
+        writePos += n;
+        if (n < len)
+            suspended = true;
+        notifyAll();
+        return n;
+    }
+
+    /** Marks the end of the content. Called on the I/O thread only. */
+    synchronized void endOfStream() {
+        endOfStream = true;
+        notifyAll();
+    }
+
+    /** Fails any subsequent read with the given exception. */
+    synchronized void fail(IOException e) {
+        if (failure == null && !endOfStream)
+            failure = e;
+        notifyAll();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int n = read(b, 0, 1);
+        return n == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        boolean resume = false;
+        int n;
+        synchronized (this) {
+            while (readPos == writePos) {
+                if (closed)
+                    throw new IOException("Stream closed");
+                if (failure != null)
+                    throw failure;
+                if (endOfStream)
+                    return -1;
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading response content");
+                }
+            }
+            n = Math.min(len, writePos - readPos);
+            System.arraycopy(buffer, readPos, b, off, n);
+            readPos += n;
+            if (readPos == writePos)
+                readPos = writePos = 0;
+            if (suspended && buffer.length - (writePos - readPos) >= buffer.length / 2) {
+                suspended = false;
+                resume = true;
+            }
+        }
+        if (resume)
+            exchange.resumeInput();
+        return n;
+    }
+
+    @Override
+    public synchronized int available() {
+        return writePos - readPos;
+    }
+
+    /**
+     * Closes this stream. If the content hasn't been fully received yet, the
+     * exchange is aborted and its connection discarded.
+     */
+    @Override
+    public void close() {
+        boolean abort;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            abort = !endOfStream && failure == null;
+            readPos = writePos = 0;
+            notifyAll();
+        }
+        if (abort)
+            exchange.cancel();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Bounded buffer through which the content of a request entity is handed from
+ * the thread producing it to the I/O thread transmitting it. Producers block
+ * when the buffer is full, which applies back-pressure to the entity without
+ * ever blocking the I/O thread.
+ */
+final class ContentOutputBuffer {
+    private final byte[] buffer;
+    private int readPos;
+    private int writePos;
+    private boolean endOfStream;
+    /** True if the content is no longer wanted, ie the response has arrived. */
+    private boolean abandoned;
+    private IOException failure;
+    /** Invoked whenever new content becomes available to the I/O thread. */
+    private Runnable contentListener;
+
+    /** Creates an empty buffer of the given capacity to be filled by a producer. */
+    ContentOutputBuffer(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    synchronized void setContentListener(Runnable contentListener) {
+        this.contentListener = contentListener;
+    }
+
+    /**
+     * Appends the given bytes, blocking while the buffer is full.
+     *
+     * @throws IOException
+     *             if the exchange this content belongs to has failed, or if
+     *             the content is no longer wanted, so that the producer stops
+     *             early; see {@link #isAbandoned()}
+     */
+    void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            Runnable listener = null;
+            synchronized (this) {
+                if (failure != null)
+                    throw failure;
+                if (abandoned)
+                    throw new InterruptedIOException("Request content no longer wanted");
+                if (endOfStream)
+                    throw new IOException("Content already completed");
+                if (writePos == buffer.length && readPos > 0) {
+                    System.arraycopy(buffer, readPos, buffer, 0, writePos - readPos);
+                    writePos -= readPos;
+                    readPos = 0;
+                }
+                int n = Math.min(len, buffer.length - writePos);
+                if (n == 0) {
+                    waitForSpace();
+                    continue;
+                }
+                if (readPos == writePos)
+                    listener = contentListener;
+                System.arraycopy(b, off, buffer, writePos, n);
+                writePos += n;
+                off += n;
+                len -= n;
+            }
+            // Notify outside the lock, and before possibly waiting for space
+            if (listener != null)
+                listener.run();
+        }
+    }
+
+    private void waitForSpace() throws IOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing request content");
+        }
+    }
+
+    /** Marks the end of the content. */
+    void writeCompleted() {
+        Runnable listener;
+        synchronized (this) {
+            if (endOfStream)
+                return;
+            endOfStream = true;
+            listener = contentListener;
+        }
+        if (listener != null)
+            listener.run();
+    }
+
+    /**
+     * Transfers as much buffered content as fits into the given buffer. Called
+     * on the I/O thread only.
+     *
+     * @return the number of bytes transferred; or -1 if the end of the content
+     *         has been reached
+     */
+    synchronized int read(ByteBuffer dst) {
+        int available = writePos - readPos;
+        if (available == 0)
+            return endOfStream ? -1 : 0;
+        int n = Math.min(available, dst.remaining());
+        dst.put(buffer, readPos, n);
+        readPos += n;
+        if (readPos == writePos)
+            readPos = writePos = 0;
+        notifyAll();
+        return n;
+    }
+
+    /** Returns true if the end of the content has been fully read. */
+    synchronized boolean isCompleted() {
+        return endOfStream && readPos == writePos;
+    }
+
+    /**
+     * Discards any further content; subsequent writes fail, which the
+     * producer should ignore once this has been called.
+     */
+    synchronized void abandon() {
+        abandoned = true;
+        notifyAll();
+    }
+
+    /**
+     * Returns true if the content is no longer wanted, because the response
+     * has arrived before all of it was sent.
+     */
+    synchronized boolean isAbandoned() {
+        return abandoned;
+    }
+
+    /** Fails any current and subsequent write with the given exception. */
+    synchronized void fail(IOException e) {
+        if (failure == null)
+            failure = e;
+        notifyAll();
+    }
+
+    /** Returns an output stream view of this buffer for use by a producer. */
+    OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                ContentOutputBuffer.this.write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ContentOutputBuffer.this.write(b, off, len);
+            }
+        };
+    }
+}
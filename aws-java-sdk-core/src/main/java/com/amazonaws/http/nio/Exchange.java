@@ -0,0 +1,270 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.Cancellable;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.util.ByteArrayBuffer;
+
+import com.amazonaws.internal.ChannelTransferable;
+
+/**
+ * A single request/response exchange, from the moment it is submitted to the
+ * transport until its response has been fully received or it has failed.
+ * <p>
+ * Methods prefixed with "on" are only ever called by the I/O thread of the
+ * connection the exchange has been assigned to.
+ */
+final class Exchange implements Cancellable {
+    final HttpRequestBase request;
+    final HttpHost route;
+    /** The serialized request line and headers. */
+    final byte[] head;
+    /**
+     * The request content; or null if the request has no entity, or if its
+     * content is transferred from its own channel instead.
+     */
+    final ContentOutputBuffer requestContent;
+    /**
+     * The request content to be transferred by the I/O thread straight from
+     * its own channel, such as a file; or null.
+     */
+    final ChannelTransferable transferableContent;
+    /** The declared length of the request content; or -1 if chunked. */
+    final long requestContentLength;
+    /** True if the whole response should be buffered before completion. */
+    final boolean buffered;
+    /**
+     * The time to wait for a 100 (Continue) response before sending the
+     * request content anyway; or 0 if the request doesn't expect one.
+     */
+    final int continueWaitMillis;
+
+    private final NioHttpTransport transport;
+    private final ExchangeFuture future;
+    private final AtomicBoolean aborted = new AtomicBoolean();
+    private volatile NioConnection connection;
+
+    private HttpResponse response;
+    private volatile ContentInputBuffer streamedContent;
+    private ByteArrayBuffer bufferedContent;
+
+    Exchange(NioHttpTransport transport, HttpRequestBase request, HttpHost route,
+            byte[] head, ContentOutputBuffer requestContent,
+            ChannelTransferable transferableContent,
+            long requestContentLength, boolean buffered, int continueWaitMillis,
+            FutureCallback<HttpResponse> callback) {
+        this.transport = transport;
+        this.request = request;
+        this.route = route;
+        this.head = head;
+        this.requestContent = requestContent;
+        this.transferableContent = transferableContent;
+        this.requestContentLength = requestContentLength;
+        this.buffered = buffered;
+        this.continueWaitMillis = continueWaitMillis;
+        this.future = new ExchangeFuture(callback);
+    }
+
+    BasicFuture<HttpResponse> getFuture() {
+        return future;
+    }
+
+    boolean isHeadRequest() {
+        return "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+
+    boolean isAborted() {
+        return aborted.get();
+    }
+
+    void onAssigned(NioConnection connection) {
+        this.connection = connection;
+    }
+
+    /** Called once the response head has been received. */
+    void onResponseHead(HttpResponse response, ResponseParser parser) {
+        this.response = response;
+        if (requestContent != null)
+            requestContent.abandon();
+        if (!parser.hasEntity()) {
+            if (!buffered)
+                complete(response);
+            return;
+        }
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContentLength(parser.getContentLength());
+        entity.setContentType(response.getFirstHeader("Content-Type"));
+        entity.setContentEncoding(response.getFirstHeader("Content-Encoding"));
+        if (buffered) {
+            long length = parser.getContentLength();
+            bufferedContent = new ByteArrayBuffer(length > 0 && length <= Integer.MAX_VALUE
+                    ? (int) length : transport.getBufferSize());
+            // the content is filled in on completion
+            response.setEntity(entity);
+        } else {
+            streamedContent = new ContentInputBuffer(transport.getBufferSize(), this);
+            entity.setContent(streamedContent);
+            response.setEntity(decode(entity));
+            complete(response);
+        }
+    }
+
+    /**
+     * Called with the next content bytes of the response.
+     *
+     * @return the number of bytes accepted, which is less than available if
+     *         the consumer has fallen behind and reading should be suspended
+     */
+    int onContent(ByteBuffer src, int len) {
+        if (streamedContent != null)
+            return streamedContent.offer(src, len);
+        int pos = src.position();
+        if (src.hasArray()) {
+            bufferedContent.append(src.array(), src.arrayOffset() + pos, len);
+        } else {
+            byte[] b = new byte[len];
+            src.get(b);
+            bufferedContent.append(b, 0, len);
+        }
+        src.position(pos + len);
+        return len;
+    }
+
+    /** Called once the response has been fully received. */
+    void onResponseCompleted() {
+        if (streamedContent != null) {
+            streamedContent.endOfStream();
+            return;
+        }
+        if (bufferedContent != null) {
+            BasicHttpEntity entity = (BasicHttpEntity) response.getEntity();
+            entity.setContent(new ByteArrayInputStream(
+                    bufferedContent.buffer(), 0, bufferedContent.length()));
+            entity.setContentLength(bufferedContent.length());
+            response.setEntity(decode(entity));
+        }
+        complete(response);
+    }
+
+    /** Called if the exchange fails for whatever reason. */
+    void onFailed(IOException e) {
+        if (requestContent != null)
+            requestContent.fail(e);
+        if (streamedContent != null)
+            streamedContent.fail(e);
+        try {
+            future.failed(e);
+        } catch (RuntimeException re) {
+            NioHttpTransport.log.warn("Exception thrown by response callback", re);
+        }
+    }
+
+    private void complete(HttpResponse result) {
+        try {
+            future.completed(result);
+        } catch (RuntimeException e) {
+            NioHttpTransport.log.warn("Exception thrown by response callback", e);
+        }
+    }
+
+    /** Asks the I/O thread to resume reading the response content. */
+    void resumeInput() {
+        NioConnection c = connection;
+        if (c != null)
+            c.signal();
+    }
+
+    /**
+     * Aborts this exchange, discarding the connection it has been assigned to,
+     * if any.
+     */
+    @Override
+    public boolean cancel() {
+        return abort(new InterruptedIOException("Request aborted"), true);
+    }
+
+    /**
+     * Fails this exchange with the given exception, such as one thrown while
+     * producing the request content, discarding the connection it has been
+     * assigned to, if any. May be called from any thread.
+     */
+    boolean fail(IOException cause) {
+        return abort(cause, false);
+    }
+
+    private boolean abort(IOException e, boolean cancel) {
+        if (!aborted.compareAndSet(false, true))
+            return false;
+        if (requestContent != null)
+            requestContent.fail(e);
+        if (streamedContent != null)
+            streamedContent.fail(e);
+        if (cancel)
+            future.cancel(true);
+        else
+            onFailed(e);
+        NioConnection c = connection;
+        if (c != null) {
+            c.abort(this, e);
+        } else {
+            transport.getPool().cancel(this);
+        }
+        return true;
+    }
+
+    private HttpEntity decode(HttpEntity entity) {
+        if (!transport.isGzipEnabled())
+            return entity;
+        Header ceheader = entity.getContentEncoding();
+        if (ceheader != null) {
+            for (HeaderElement codec : ceheader.getElements()) {
+                if (codec.getName().equalsIgnoreCase("gzip"))
+                    return new GzipDecompressingEntity(entity);
+            }
+        }
+        return entity;
+    }
+
+    /** Future that aborts the exchange when cancelled. */
+    private final class ExchangeFuture extends BasicFuture<HttpResponse> {
+        ExchangeFuture(FutureCallback<HttpResponse> callback) {
+            super(callback);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result)
+                Exchange.this.cancel();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A single I/O thread multiplexing any number of connections over a
+ * {@link Selector}. Everything that touches the state of a connection runs on
+ * this thread; other threads hand work over via {@link #execute(Runnable)}.
+ */
+final class IOReactor implements Runnable {
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+
+    final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+    private final Set<NioConnection> connections = new HashSet<NioConnection>();
+    private volatile boolean shutdown;
+    private long lastTimeoutCheck;
+
+    IOReactor(String name) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /** Runs the given task on the I/O thread. */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (Thread.currentThread() != thread)
+            selector.wakeup();
+    }
+
+    void register(NioConnection connection) {
+        connections.add(connection);
+    }
+
+    void unregister(NioConnection connection) {
+        connections.remove(connection);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!shutdown) {
+                // Tasks queued from this thread don't wake the selector up
+                if (tasks.isEmpty())
+                    selector.select(SELECT_TIMEOUT_MILLIS);
+                else
+                    selector.selectNow();
+                runTasks();
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (key.isValid())
+                        ((NioConnection) key.attachment()).handleEvent(key.readyOps());
+                }
+                checkTimeouts();
+            }
+        } catch (IOException e) {
+            NioHttpTransport.log.error("I/O reactor terminated unexpectedly", e);
+        } catch (RuntimeException e) {
+            NioHttpTransport.log.error("I/O reactor terminated unexpectedly", e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                NioHttpTransport.log.warn("Unexpected exception in I/O task", e);
+            }
+        }
+    }
+
+    private void checkTimeouts() {
+        long now = System.currentTimeMillis();
+        if (now - lastTimeoutCheck < SELECT_TIMEOUT_MILLIS)
+            return;
+        lastTimeoutCheck = now;
+        for (NioConnection connection : new ArrayList<NioConnection>(connections))
+            connection.checkTimeout(now);
+    }
+
+    private void closeAll() {
+        IOException e = new InterruptedIOException("Connection shut down");
+        for (NioConnection connection : new ArrayList<NioConnection>(connections))
+            connection.fail(e);
+        // Tasks submitted too late may still hold exchanges that need failing
+        runTasks();
+        try {
+            selector.close();
+        } catch (IOException ignore) {
+            NioHttpTransport.log.debug("Failed to close selector", ignore);
+        }
+    }
+
+    /** Stops the I/O thread, failing all the exchanges in progress. */
+    void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+}
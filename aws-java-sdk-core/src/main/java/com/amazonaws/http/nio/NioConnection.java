@@ -0,0 +1,907 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLEngineResult.Status;
+import javax.net.ssl.SSLException;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+
+import com.amazonaws.internal.ChannelTransferable;
+
+/**
+ * A non-blocking HTTP/1.1 client connection, optionally secured with TLS via
+ * an {@link SSLEngine}, and optionally going through an HTTP proxy, which TLS
+ * connections tunnel through via CONNECT. A connection carries at most one
+ * exchange at a time and is returned to its pool for reuse once the response
+ * has been completely received.
+ * <p>
+ * Except for {@link #signal()} and {@link #abort(Exchange, IOException)}, all
+ * methods must be called on the thread of the reactor owning the connection.
+ */
+final class NioConnection {
+    /** Maximum time a connection is kept in the pool without being used. */
+    private static final long MAX_IDLE_MILLIS = 60 * 1000;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+    private static final byte[] LAST_CHUNK = { '0', '\r', '\n', '\r', '\n' };
+    /** Room reserved for the zero-padded chunk size and CRLFs around a chunk. */
+    private static final int CHUNK_OVERHEAD = 12;
+
+    private enum State { NEW, CONNECTING, TUNNELLING, HANDSHAKING, OPEN, CLOSED }
+
+    final HttpHost route;
+    final IOReactor reactor;
+    private final NioHttpTransport transport;
+    private final long created = System.currentTimeMillis();
+    private final AtomicBoolean signalPending = new AtomicBoolean();
+    private final Runnable signalTask = new Runnable() {
+        @Override
+        public void run() {
+            signalPending.set(false);
+            onSignal();
+        }
+    };
+    private final Runnable contentListener = new Runnable() {
+        @Override
+        public void run() {
+            signal();
+        }
+    };
+
+    /**
+     * Channel view of the TLS session, through which request content is
+     * transferred; accepts nothing while previous TLS records are pending.
+     */
+    private final WritableByteChannel sslChannel = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int remaining = src.remaining();
+            if (!flushNet())
+                return 0;
+            wrap(src);
+            flushNet();
+            return remaining - src.remaining();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return state != State.CLOSED;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private State state = State.NEW;
+    private SocketChannel channel;
+    private SelectionKey key;
+    private SSLEngine engine;
+    /* All buffers are kept in "read" mode, ie flipped, between operations. */
+    private ByteBuffer netIn;
+    private ByteBuffer netOut;
+    private ByteBuffer appIn;
+    private ByteBuffer appOut;
+    /** Absolute time at which the current operation times out; or 0. */
+    private long deadline;
+    private int exchangeCount;
+
+    private Exchange exchange;
+    private ResponseParser parser;
+    private int headOffset;
+    private long contentSent;
+    private boolean requestComplete;
+    private boolean headReceived;
+    private boolean inputSuspended;
+    /** True while the request content is held back for a 100 (Continue) response. */
+    private boolean awaitingContinue;
+    /** Absolute time at which the content is sent without a 100 (Continue); or 0. */
+    private long continueDeadline;
+    /** Parser of the response of the proxy to CONNECT, while tunnelling. */
+    private ResponseParser tunnelParser;
+
+    NioConnection(NioHttpTransport transport, IOReactor reactor, HttpHost route) {
+        this.transport = transport;
+        this.reactor = reactor;
+        this.route = route;
+    }
+
+    /**
+     * Opens this new connection on behalf of the given exchange. The address of
+     * the route, or of the proxy, is looked up on the resolver threads of the
+     * transport, as the lookup may block, and the connection is then opened on
+     * the reactor.
+     */
+    void connect(final Exchange ex) {
+        final HttpHost target = transport.getProxy() != null ? transport.getProxy() : route;
+        transport.resolve(new Runnable() {
+            @Override
+            public void run() {
+                final InetSocketAddress address =
+                        new InetSocketAddress(target.getHostName(), target.getPort());
+                reactor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        open(ex, address);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Opens this new connection to the given, already resolved, address of
+     * the route on behalf of the given exchange.
+     */
+    private void open(Exchange ex, InetSocketAddress address) {
+        exchange = ex;
+        ex.onAssigned(this);
+        if (ex.isAborted()) {
+            close();
+            return;
+        }
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            Socket socket = channel.socket();
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(transport.isTcpKeepAlive());
+            if (transport.getSendBufferSizeHint() > 0)
+                socket.setSendBufferSize(transport.getSendBufferSizeHint());
+            if (transport.getReceiveBufferSizeHint() > 0)
+                socket.setReceiveBufferSize(transport.getReceiveBufferSizeHint());
+            if (transport.getLocalAddress() != null)
+                socket.bind(new InetSocketAddress(transport.getLocalAddress(), 0));
+            reactor.register(this);
+            key = channel.register(reactor.selector, 0, this);
+            if (address.isUnresolved())
+                throw new UnknownHostException(address.getHostName());
+            state = State.CONNECTING;
+            int connectionTimeout = transport.getConnectionTimeout();
+            deadline = connectionTimeout > 0 ? System.currentTimeMillis() + connectionTimeout : 0;
+            if (channel.connect(address)) {
+                connected();
+                pump();
+            } else {
+                updateInterest();
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    /** Starts the given exchange on this pooled connection. */
+    void start(Exchange ex) {
+        if (state == State.CLOSED) {
+            // Closed by the server while idle; try another connection
+            transport.getPool().lease(ex);
+            return;
+        }
+        if (ex.isAborted()) {
+            transport.getPool().release(this);
+            return;
+        }
+        if (isStale()) {
+            close();
+            transport.getPool().lease(ex);
+            return;
+        }
+        exchange = ex;
+        ex.onAssigned(this);
+        beginExchange();
+        try {
+            pump();
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    /**
+     * Returns true if the server has closed this idle connection, or sent
+     * something unsolicited on it, without the reactor having noticed yet.
+     */
+    private boolean isStale() {
+        try {
+            return fillInput() != 0;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /** Handles the readiness of the underlying channel. */
+    void handleEvent(int readyOps) {
+        try {
+            if (state == State.CONNECTING) {
+                if ((readyOps & SelectionKey.OP_CONNECT) == 0 || !channel.finishConnect())
+                    return;
+                connected();
+            }
+            pump();
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    /**
+     * Requests the reactor to resume processing this connection, because
+     * request content has been produced or response content consumed. May be
+     * called from any thread.
+     */
+    void signal() {
+        if (signalPending.compareAndSet(false, true))
+            reactor.execute(signalTask);
+    }
+
+    /**
+     * Aborts the given exchange if it is still being carried by this
+     * connection. May be called from any thread.
+     */
+    void abort(final Exchange ex, final IOException cause) {
+        reactor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (exchange == ex)
+                    fail(cause);
+            }
+        });
+    }
+
+    /**
+     * Times out the current operation if its deadline has passed, and sends
+     * the request content if the 100 (Continue) response is overdue.
+     */
+    void checkTimeout(long now) {
+        if (awaitingContinue && continueDeadline != 0 && now >= continueDeadline
+                && state == State.OPEN) {
+            // The server may not support 100-continue; send the content anyway
+            awaitingContinue = false;
+            try {
+                pump();
+            } catch (IOException e) {
+                fail(e);
+            } catch (RuntimeException e) {
+                fail(new IOException(e));
+            }
+        }
+        if (deadline == 0 || now < deadline || state == State.CLOSED)
+            return;
+        if (state == State.CONNECTING) {
+            fail(new ConnectTimeoutException("Connect to " + route + " timed out"));
+        } else if (exchange != null) {
+            fail(new SocketTimeoutException("Read timed out"));
+        } else {
+            close(); // idle for too long, or expired
+        }
+    }
+
+    private void onSignal() {
+        if (state != State.OPEN && state != State.HANDSHAKING)
+            return;
+        if (inputSuspended) {
+            inputSuspended = false;
+            touch();
+        }
+        try {
+            pump();
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    private void connected() throws IOException {
+        int size = transport.getBufferSize();
+        appIn = emptyBuffer(size);
+        appOut = emptyBuffer(size);
+        deadline = 0;
+        if (!"https".equalsIgnoreCase(route.getSchemeName())) {
+            state = State.OPEN;
+            beginExchange();
+        } else if (transport.getProxy() != null) {
+            // Open a tunnel through the proxy before starting TLS
+            appOut.clear();
+            appOut.put(transport.formatConnect(route));
+            appOut.flip();
+            tunnelParser = new ResponseParser(true);
+            state = State.TUNNELLING;
+            touch();
+        } else {
+            startHandshake();
+        }
+    }
+
+    private void startHandshake() throws IOException {
+        engine = transport.createSSLEngine(route);
+        int size = engine.getSession().getApplicationBufferSize();
+        if (appIn.capacity() < size)
+            appIn = grow(appIn, size - appIn.capacity());
+        if (appOut.capacity() < size)
+            appOut = emptyBuffer(size);
+        netIn = emptyBuffer(engine.getSession().getPacketBufferSize());
+        netOut = emptyBuffer(engine.getSession().getPacketBufferSize());
+        engine.beginHandshake();
+        state = State.HANDSHAKING;
+        touch();
+    }
+
+    /**
+     * Advances the CONNECT request opening a tunnel through the proxy, then
+     * starts the TLS handshake through it.
+     *
+     * @return true if the tunnel has been opened
+     */
+    private boolean tunnel() throws IOException {
+        while (appOut.hasRemaining()) {
+            if (channel.write(appOut) == 0)
+                return false;
+            touch();
+        }
+        HttpResponse response;
+        while ((response = tunnelParser.parseHead(appIn)) == null) {
+            int n = fillInput();
+            if (n < 0)
+                throw new NoHttpResponseException("Proxy " + transport.getProxy()
+                        + " closed the connection while opening a tunnel to " + route);
+            if (n == 0)
+                return false;
+        }
+        tunnelParser = null;
+        int status = response.getStatusLine().getStatusCode();
+        if (status < 200 || status >= 300) {
+            throw new IOException("Unable to open a tunnel to " + route
+                    + " through proxy " + transport.getProxy() + ": "
+                    + response.getStatusLine());
+        }
+        if (appIn.hasRemaining())
+            throw new IOException("Unexpected data received from proxy " + transport.getProxy());
+        startHandshake();
+        return true;
+    }
+
+    private static ByteBuffer emptyBuffer(int capacity) {
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        return buffer;
+    }
+
+    private void beginExchange() {
+        exchangeCount++;
+        parser = new ResponseParser(exchange.isHeadRequest());
+        headOffset = 0;
+        contentSent = 0;
+        requestComplete = false;
+        headReceived = false;
+        inputSuspended = false;
+        awaitingContinue = exchange.continueWaitMillis > 0;
+        continueDeadline = 0;
+        if (exchange.requestContent != null)
+            exchange.requestContent.setContentListener(contentListener);
+        touch();
+    }
+
+    /** Moves as much data in both directions as the channel allows. */
+    private void pump() throws IOException {
+        if (state == State.TUNNELLING) {
+            if (!tunnel()) {
+                updateInterest();
+                return;
+            }
+        }
+        if (state == State.HANDSHAKING) {
+            if (!handshake()) {
+                updateInterest();
+                return;
+            }
+            verifyHostname();
+            state = State.OPEN;
+            if (exchange != null)
+                beginExchange();
+        }
+        if (state != State.OPEN)
+            return;
+        if (exchange != null)
+            writeOutput();
+        if (!inputSuspended)
+            readInput();
+        updateInterest();
+    }
+
+    private void updateInterest() {
+        if (state == State.CLOSED || key == null || !key.isValid())
+            return;
+        int ops;
+        if (state == State.CONNECTING) {
+            ops = SelectionKey.OP_CONNECT;
+        } else {
+            ops = inputSuspended ? 0 : SelectionKey.OP_READ;
+            if (appOut.hasRemaining() || netOut != null && netOut.hasRemaining()
+                    || isTransferringContent())
+                ops |= SelectionKey.OP_WRITE;
+            if (state == State.HANDSHAKING
+                    && engine.getHandshakeStatus() == HandshakeStatus.NEED_WRAP)
+                ops |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(ops);
+    }
+
+    /** Extends the deadline of the current exchange after some progress. */
+    private void touch() {
+        int socketTimeout = transport.getSocketTimeout();
+        deadline = socketTimeout > 0 ? System.currentTimeMillis() + socketTimeout : 0;
+    }
+
+    /**
+     * Advances the TLS handshake.
+     *
+     * @return true if the handshake has completed
+     */
+    private boolean handshake() throws IOException {
+        while (true) {
+            HandshakeStatus status = engine.getHandshakeStatus();
+            switch (status) {
+            case NEED_TASK:
+                runDelegatedTasks();
+                break;
+            case NEED_WRAP:
+                if (!flushNet())
+                    return false;
+                wrap(EMPTY);
+                break;
+            case FINISHED:
+            case NOT_HANDSHAKING:
+                return flushNet();
+            default: // NEED_UNWRAP
+                if (!flushNet())
+                    return false;
+                appIn.compact();
+                SSLEngineResult result;
+                try {
+                    result = engine.unwrap(netIn, appIn);
+                } finally {
+                    appIn.flip();
+                }
+                if (result.getStatus() == Status.CLOSED)
+                    throw new SSLException("Connection closed during TLS handshake");
+                if (result.getStatus() == Status.BUFFER_UNDERFLOW
+                        || result.bytesConsumed() == 0 && result.bytesProduced() == 0
+                           && result.getHandshakeStatus() == status) {
+                    int n = readNet();
+                    if (n < 0)
+                        throw new SSLException("Connection closed during TLS handshake");
+                    if (n == 0)
+                        return false;
+                }
+            }
+        }
+    }
+
+    private void runDelegatedTasks() {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null)
+            task.run();
+    }
+
+    private void verifyHostname() throws IOException {
+        X509HostnameVerifier verifier = transport.getHostnameVerifier();
+        if (verifier == null)
+            return;
+        Certificate[] certificates = engine.getSession().getPeerCertificates();
+        verifier.verify(route.getHostName(), (X509Certificate) certificates[0]);
+    }
+
+    /** Wraps the given plain text into the outbound network buffer. */
+    private void wrap(ByteBuffer src) throws IOException {
+        netOut.compact();
+        SSLEngineResult result;
+        try {
+            result = engine.wrap(src, netOut);
+        } finally {
+            netOut.flip();
+        }
+        if (result.getStatus() == Status.CLOSED)
+            throw new SSLException("TLS session closed");
+        if (result.getStatus() == Status.BUFFER_OVERFLOW)
+            throw new SSLException("TLS packet exceeds the network buffer");
+        if (result.getHandshakeStatus() == HandshakeStatus.NEED_TASK)
+            runDelegatedTasks();
+    }
+
+    /**
+     * Writes out any pending TLS records.
+     *
+     * @return true if there is nothing left to write
+     */
+    private boolean flushNet() throws IOException {
+        if (netOut == null)
+            return true;
+        while (netOut.hasRemaining()) {
+            if (channel.write(netOut) == 0)
+                return false;
+            touch();
+        }
+        return true;
+    }
+
+    /** Reads from the channel into the inbound network buffer. */
+    private int readNet() throws IOException {
+        netIn.compact();
+        int n;
+        try {
+            n = channel.read(netIn);
+        } finally {
+            netIn.flip();
+        }
+        if (n > 0)
+            touch();
+        return n;
+    }
+
+    /** Writes out as much of the request as the channel accepts. */
+    private void writeOutput() throws IOException {
+        if (engine != null && !flushNet())
+            return;
+        while (true) {
+            if (!appOut.hasRemaining() && !fillOutput()) {
+                if (isTransferringContent())
+                    transferContent();
+                return;
+            }
+            if (engine == null) {
+                if (channel.write(appOut) == 0)
+                    return;
+                touch();
+            } else {
+                if (!flushNet())
+                    return;
+                wrap(appOut);
+                if (!flushNet())
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Stages the next portion of the request for writing.
+     *
+     * @return true if any bytes have been staged
+     */
+    private boolean fillOutput() throws IOException {
+        if (requestComplete || headReceived)
+            return false; // nothing more to send, or no longer wanted
+        appOut.clear();
+        try {
+            byte[] head = exchange.head;
+            if (headOffset < head.length) {
+                int n = Math.min(appOut.remaining(), head.length - headOffset);
+                appOut.put(head, headOffset, n);
+                headOffset += n;
+                if (headOffset < head.length)
+                    return true;
+            }
+            ContentOutputBuffer content = exchange.requestContent;
+            if (awaitingContinue) {
+                // Hold the content back until the server asks for it
+                if (continueDeadline == 0)
+                    continueDeadline = System.currentTimeMillis() + exchange.continueWaitMillis;
+            } else if (content == null) {
+                // otherwise transferred once the head has been written out
+                requestComplete = exchange.transferableContent == null;
+            } else if (exchange.requestContentLength >= 0) {
+                fillContent(content, exchange.requestContentLength);
+            } else {
+                fillChunk(content);
+            }
+        } finally {
+            appOut.flip();
+        }
+        return appOut.hasRemaining();
+    }
+
+    /**
+     * Returns true if the request content is to be transferred straight from
+     * its own channel, and the head of the request has already been sent.
+     */
+    private boolean isTransferringContent() {
+        return exchange != null && exchange.transferableContent != null
+            && headOffset == exchange.head.length && !appOut.hasRemaining()
+            && !requestComplete && !headReceived && !awaitingContinue;
+    }
+
+    /**
+     * Transfers as much of the request content as the channel accepts, from
+     * the channel of the content, such as a file, without staging it in the
+     * outbound application buffer.
+     */
+    private void transferContent() throws IOException {
+        ChannelTransferable content = exchange.transferableContent;
+        long contentLength = exchange.requestContentLength;
+        WritableByteChannel target = engine == null ? channel : sslChannel;
+        while (contentSent < contentLength) {
+            long n = content.transferTo(target, contentLength - contentSent);
+            if (n < 0) {
+                throw new IOException("Request content ended after " + contentSent
+                        + " bytes; expected " + contentLength);
+            }
+            if (n == 0)
+                return;
+            contentSent += n;
+            touch();
+        }
+        requestComplete = true;
+    }
+
+    private void fillContent(ContentOutputBuffer content, long contentLength) throws IOException {
+        int limit = appOut.limit();
+        long left = contentLength - contentSent;
+        if (left < appOut.remaining())
+            appOut.limit(appOut.position() + (int) left);
+        int n = content.read(appOut);
+        appOut.limit(limit);
+        if (n > 0)
+            contentSent += n;
+        if (contentSent == contentLength) {
+            requestComplete = true;
+        } else if (n < 0) {
+            throw new IOException("Request content ended after " + contentSent
+                    + " bytes; expected " + contentLength);
+        }
+    }
+
+    private void fillChunk(ContentOutputBuffer content) {
+        if (appOut.remaining() <= CHUNK_OVERHEAD)
+            return;
+        int start = appOut.position();
+        int limit = appOut.limit();
+        appOut.position(start + 10).limit(limit - 2);
+        int n = content.read(appOut);
+        appOut.limit(limit);
+        if (n > 0) {
+            // zero-padded, so that the size fits the reserved room
+            String size = Integer.toHexString(n);
+            for (int i = 0; i < 8; i++) {
+                int j = i - (8 - size.length());
+                appOut.put(start + i, (byte) (j < 0 ? '0' : size.charAt(j)));
+            }
+            appOut.put(start + 8, (byte) '\r').put(start + 9, (byte) '\n');
+            appOut.put((byte) '\r').put((byte) '\n');
+            contentSent += n;
+        } else {
+            appOut.position(start);
+            if (n < 0) {
+                appOut.put(LAST_CHUNK);
+                requestComplete = true;
+            }
+        }
+    }
+
+    /** Reads and processes as much of the response as is available. */
+    private void readInput() throws IOException {
+        while (state == State.OPEN) {
+            if (!processInput())
+                return;
+            int n = fillInput();
+            if (n == 0)
+                return;
+            if (n < 0) {
+                endOfInput();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads more plain text into the inbound application buffer.
+     *
+     * @return the number of bytes read; or -1 at the end of the input
+     */
+    private int fillInput() throws IOException {
+        if (engine == null) {
+            appIn.compact();
+            int n;
+            try {
+                n = channel.read(appIn);
+            } finally {
+                appIn.flip();
+            }
+            if (n > 0)
+                touch();
+            return n;
+        }
+        int produced = 0;
+        while (true) {
+            if (netIn.hasRemaining()) {
+                appIn.compact();
+                SSLEngineResult result;
+                try {
+                    result = engine.unwrap(netIn, appIn);
+                } finally {
+                    appIn.flip();
+                }
+                if (result.getHandshakeStatus() == HandshakeStatus.NEED_TASK)
+                    runDelegatedTasks();
+                if (engine.getHandshakeStatus() == HandshakeStatus.NEED_WRAP) {
+                    // Post-handshake message, such as a key update
+                    wrap(EMPTY);
+                    flushNet();
+                }
+                Status status = result.getStatus();
+                if (status == Status.CLOSED)
+                    return produced > 0 ? produced : -1;
+                if (status == Status.BUFFER_OVERFLOW) {
+                    if (produced > 0)
+                        return produced;
+                    appIn = grow(appIn, engine.getSession().getApplicationBufferSize());
+                    continue;
+                }
+                produced += result.bytesProduced();
+                if (status == Status.OK && result.bytesConsumed() > 0)
+                    continue;
+            }
+            if (produced > 0)
+                return produced;
+            int n = readNet();
+            if (n <= 0)
+                return n;
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int increment) {
+        ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() + increment);
+        grown.put(buffer);
+        grown.flip();
+        return grown;
+    }
+
+    /**
+     * Feeds the inbound plain text to the response parser, and the response
+     * content to the exchange.
+     *
+     * @return false if reading has been suspended because the consumer of the
+     *         response content has fallen behind
+     */
+    private boolean processInput() throws IOException {
+        if (exchange == null || parser == null) {
+            if (appIn.hasRemaining())
+                throw new IOException("Unexpected data received on idle connection");
+            return true;
+        }
+        if (!headReceived) {
+            HttpResponse response = parser.parseHead(appIn);
+            if (awaitingContinue && (response != null || parser.isContinueReceived())) {
+                // Send the content if asked to; it's abandoned otherwise
+                awaitingContinue = false;
+                if (response == null)
+                    writeOutput();
+            }
+            if (response == null)
+                return true;
+            headReceived = true;
+            exchange.onResponseHead(response, parser);
+        }
+        while (!parser.isComplete()) {
+            int n = parser.bodyBytesAvailable(appIn);
+            if (n == 0) {
+                if (parser.isComplete())
+                    break;
+                return true;
+            }
+            int accepted = exchange.onContent(appIn, n);
+            parser.bodyConsumed(accepted);
+            if (accepted < n) {
+                inputSuspended = true;
+                deadline = 0; // the consumer, not the server, is holding things up
+                return false;
+            }
+        }
+        completeExchange();
+        return true;
+    }
+
+    private void endOfInput() throws IOException {
+        if (exchange == null || parser == null) {
+            close(); // closed by the server, or the connect was aborted
+            return;
+        }
+        if (!parser.hasStarted() && exchangeCount > 1)
+            throw new NoHttpResponseException(route + " failed to respond");
+        parser.endOfInput();
+        completeExchange();
+    }
+
+    private void completeExchange() {
+        Exchange ex = exchange;
+        boolean reusable = parser.isKeepAlive() && requestComplete
+                && !appIn.hasRemaining() && state == State.OPEN;
+        exchange = null;
+        parser = null;
+        if (reusable && !isExpired()) {
+            long now = System.currentTimeMillis();
+            long ttl = transport.getConnectionTTL();
+            deadline = now + MAX_IDLE_MILLIS;
+            if (ttl > 0)
+                deadline = Math.min(deadline, created + ttl);
+            transport.getPool().release(this);
+        } else {
+            close();
+        }
+        ex.onResponseCompleted();
+    }
+
+    private boolean isExpired() {
+        long ttl = transport.getConnectionTTL();
+        return ttl > 0 && System.currentTimeMillis() >= created + ttl;
+    }
+
+    /** Closes this connection, failing the current exchange if any. */
+    void fail(IOException e) {
+        Exchange ex = exchange;
+        exchange = null;
+        parser = null;
+        close();
+        if (ex != null) {
+            if (NioHttpTransport.log.isDebugEnabled())
+                NioHttpTransport.log.debug("Connection to " + route + " failed", e);
+            ex.onFailed(e);
+        }
+    }
+
+    /** Closes this connection and removes it from its pool. */
+    void close() {
+        if (state == State.CLOSED)
+            return;
+        state = State.CLOSED;
+        deadline = 0;
+        if (engine != null)
+            engine.closeOutbound();
+        if (key != null)
+            key.cancel();
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                NioHttpTransport.log.debug("Failed to close the connection to " + route, e);
+            }
+        }
+        reactor.unregister(this);
+        transport.getPool().closed(this);
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.http.HttpHost;
+import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Pool of {@link NioConnection}s, keyed by route, that also queues exchanges
+ * waiting for a connection. Unlike a blocking pool no thread ever waits here:
+ * an exchange that can't be given a connection straight away is dispatched as
+ * soon as one becomes available.
+ */
+@ThreadSafe
+final class NioConnectionPool implements ConnPoolControl<HttpHost> {
+    private final NioHttpTransport transport;
+    private final Map<HttpHost, RoutePool> routes = new HashMap<HttpHost, RoutePool>();
+    /** Idle connections across all routes, least recently used first. */
+    private final LinkedList<NioConnection> available = new LinkedList<NioConnection>();
+    private final Map<HttpHost, Integer> maxPerRoute = new HashMap<HttpHost, Integer>();
+    private int maxTotal;
+    private int defaultMaxPerRoute;
+    private int leasedCount;
+    private int pendingCount;
+    private boolean shutdown;
+
+    NioConnectionPool(NioHttpTransport transport, int maxConnections) {
+        this.transport = transport;
+        this.maxTotal = maxConnections;
+        this.defaultMaxPerRoute = maxConnections;
+    }
+
+    /**
+     * Assigns a connection to the given exchange, now or as soon as one
+     * becomes available.
+     */
+    void lease(Exchange ex) {
+        Runnable dispatch;
+        synchronized (this) {
+            if (shutdown) {
+                dispatch = null;
+            } else {
+                dispatch = assign(ex);
+                if (dispatch == null) {
+                    routePool(ex.route).pending.add(ex);
+                    pendingCount++;
+                }
+            }
+        }
+        if (dispatch == null) {
+            if (isShutdown())
+                ex.onFailed(new InterruptedIOException("Connection pool shut down"));
+            return;
+        }
+        dispatch.run();
+    }
+
+    private synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns a task dispatching the given exchange to a connection; or null
+     * if all the connections allowed are in use. Must hold the lock.
+     */
+    private Runnable assign(final Exchange ex) {
+        RoutePool pool = routePool(ex.route);
+        if (!pool.available.isEmpty()) {
+            final NioConnection conn = pool.available.removeLast();
+            available.remove(conn);
+            pool.leased.add(conn);
+            leasedCount++;
+            return new Runnable() {
+                @Override
+                public void run() {
+                    conn.reactor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            conn.start(ex);
+                        }
+                    });
+                }
+            };
+        }
+        if (pool.leased.size() >= maxPerRoute(ex.route))
+            return null;
+        if (leasedCount + available.size() >= maxTotal) {
+            if (available.isEmpty())
+                return null;
+            // Make room by evicting an idle connection to another route
+            final NioConnection idle = available.removeFirst();
+            routePool(idle.route).available.remove(idle);
+            idle.reactor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    idle.close();
+                }
+            });
+        }
+        final NioConnection conn = transport.newConnection(ex.route);
+        pool.leased.add(conn);
+        leasedCount++;
+        return new Runnable() {
+            @Override
+            public void run() {
+                conn.connect(ex);
+            }
+        };
+    }
+
+    private RoutePool routePool(HttpHost route) {
+        RoutePool pool = routes.get(route);
+        if (pool == null) {
+            pool = new RoutePool();
+            routes.put(route, pool);
+        }
+        return pool;
+    }
+
+    /** Returns a connection whose exchange has completed to the pool. */
+    void release(NioConnection conn) {
+        List<Runnable> dispatches;
+        boolean close = false;
+        synchronized (this) {
+            RoutePool pool = routePool(conn.route);
+            if (!pool.leased.remove(conn))
+                return;
+            leasedCount--;
+            if (shutdown) {
+                close = true;
+                dispatches = null;
+            } else {
+                pool.available.add(conn);
+                available.add(conn);
+                dispatches = dispatchPending();
+            }
+        }
+        if (close) {
+            conn.close();
+            return;
+        }
+        for (Runnable dispatch : dispatches)
+            dispatch.run();
+    }
+
+    /** Removes a connection that has been closed from the pool. */
+    void closed(NioConnection conn) {
+        List<Runnable> dispatches;
+        synchronized (this) {
+            RoutePool pool = routePool(conn.route);
+            if (pool.leased.remove(conn)) {
+                leasedCount--;
+            } else if (pool.available.remove(conn)) {
+                available.remove(conn);
+            } else {
+                return;
+            }
+            if (shutdown)
+                return;
+            dispatches = dispatchPending();
+        }
+        for (Runnable dispatch : dispatches)
+            dispatch.run();
+    }
+
+    /** Removes an exchange that has been cancelled while waiting. */
+    synchronized void cancel(Exchange ex) {
+        if (routePool(ex.route).pending.remove(ex))
+            pendingCount--;
+    }
+
+    /**
+     * Assigns connections to as many pending exchanges as possible. Must hold
+     * the lock.
+     */
+    private List<Runnable> dispatchPending() {
+        List<Runnable> dispatches = new ArrayList<Runnable>();
+        if (pendingCount == 0)
+            return dispatches;
+        for (RoutePool pool : routes.values()) {
+            while (!pool.pending.isEmpty()) {
+                Exchange ex = pool.pending.getFirst();
+                if (ex.isAborted()) {
+                    pool.pending.removeFirst();
+                    pendingCount--;
+                    continue;
+                }
+                Runnable dispatch = assign(ex);
+                if (dispatch == null)
+                    break;
+                pool.pending.removeFirst();
+                pendingCount--;
+                dispatches.add(dispatch);
+            }
+        }
+        return dispatches;
+    }
+
+    /**
+     * Shuts down this pool, closing all idle connections and failing all the
+     * exchanges still waiting for a connection. Connections in use are closed
+     * by their reactor.
+     */
+    void shutdown() {
+        List<Exchange> pending = new ArrayList<Exchange>();
+        List<NioConnection> idle;
+        synchronized (this) {
+            if (shutdown)
+                return;
+            shutdown = true;
+            for (RoutePool pool : routes.values()) {
+                pending.addAll(pool.pending);
+                pool.pending.clear();
+            }
+            pendingCount = 0;
+            idle = new ArrayList<NioConnection>(available);
+        }
+        for (final NioConnection conn : idle) {
+            conn.reactor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    conn.close();
+                }
+            });
+        }
+        InterruptedIOException e = new InterruptedIOException("Connection pool shut down");
+        for (Exchange ex : pending)
+            ex.onFailed(e);
+    }
+
+    private int maxPerRoute(HttpHost route) {
+        Integer max = maxPerRoute.get(route);
+        return max == null ? defaultMaxPerRoute : max.intValue();
+    }
+
+    @Override
+    public synchronized void setMaxTotal(int max) {
+        this.maxTotal = max;
+    }
+
+    @Override
+    public synchronized int getMaxTotal() {
+        return maxTotal;
+    }
+
+    @Override
+    public synchronized void setDefaultMaxPerRoute(int max) {
+        this.defaultMaxPerRoute = max;
+    }
+
+    @Override
+    public synchronized int getDefaultMaxPerRoute() {
+        return defaultMaxPerRoute;
+    }
+
+    @Override
+    public synchronized void setMaxPerRoute(HttpHost route, int max) {
+        maxPerRoute.put(route, Integer.valueOf(max));
+    }
+
+    @Override
+    public synchronized int getMaxPerRoute(HttpHost route) {
+        return maxPerRoute(route);
+    }
+
+    @Override
+    public synchronized PoolStats getTotalStats() {
+        return new PoolStats(leasedCount, pendingCount, available.size(), maxTotal);
+    }
+
+    @Override
+    public synchronized PoolStats getStats(HttpHost route) {
+        RoutePool pool = routePool(route);
+        return new PoolStats(pool.leased.size(), pool.pending.size(),
+                pool.available.size(), maxPerRoute(route));
+    }
+
+    /** The connections and waiting exchanges of a single route. */
+    private static final class RoutePool {
+        /** Idle connections, most recently used last. */
+        final LinkedList<NioConnection> available = new LinkedList<NioConnection>();
+        final Set<NioConnection> leased = new HashSet<NioConnection>();
+        final LinkedList<Exchange> pending = new LinkedList<Exchange>();
+    }
+}
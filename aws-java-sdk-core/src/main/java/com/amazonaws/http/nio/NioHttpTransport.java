@@ -0,0 +1,668 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import static com.amazonaws.SDKGlobalConfiguration.DISABLE_CERT_CHECKING_SYSTEM_PROPERTY;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.params.CoreProtocolPNames;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.HttpTransport;
+import com.amazonaws.internal.ChannelTransferable;
+import com.amazonaws.util.Base64;
+
+/**
+ * An {@link HttpTransport} built directly on non-blocking NIO channels. A small,
+ * fixed number of I/O threads multiplex all the connections of the transport,
+ * so that a large number of requests can be in flight without dedicating a
+ * thread to each of them; the asynchronous variant of
+ * {@link #execute(HttpRequestBase, HttpContext, FutureCallback)} doesn't block
+ * the calling thread at all.
+ * <p>
+ * HTTPS is supported via {@link SSLEngine}, with the same TLS protocol
+ * preferences and hostname verification as the default transport. Requests
+ * may go through an HTTP proxy, with HTTPS requests tunnelled via CONNECT;
+ * only Basic proxy authentication is supported, and the credentials are sent
+ * preemptively. Requests that expect a 100 (Continue) response, such as PUT
+ * requests of the SDK, wait for it before sending their content, or at most
+ * {@link CoreProtocolPNames#WAIT_FOR_CONTINUE} milliseconds.
+ *
+ * @see NioHttpTransportFactory
+ */
+@ThreadSafe
+public class NioHttpTransport implements HttpTransport {
+    static final Log log = LogFactory.getLog(NioHttpTransport.class);
+
+    /** Size of the per-connection I/O buffers, and of the content buffers. */
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    /** TLS protocols to enable, in descending order of preference. */
+    private static final String[] PREFERRED_TLS_PROTOCOLS = { "TLSv1.2", "TLSv1.1", "TLSv1", "TLS" };
+
+    private static final AtomicInteger transportCount = new AtomicInteger();
+
+    /** Time after which an idle worker thread terminates. */
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+    /** Default time to wait for a 100 (Continue) response, as in HttpClient. */
+    private static final int DEFAULT_CONTINUE_WAIT_MILLIS = 3000;
+
+    private final ClientConfiguration config;
+    private final IOReactor[] reactors;
+    private final AtomicInteger nextReactor = new AtomicInteger();
+    private final NioConnectionPool pool;
+    /**
+     * Threads looking up the addresses of new connections, which would
+     * otherwise block the I/O threads. At most one thread per connection being
+     * opened; lookups run on the calling thread once the transport has been
+     * shut down.
+     */
+    private final ThreadPoolExecutor resolver;
+    /**
+     * Threads writing out the request content of asynchronous requests, which
+     * may block on its source, through the bounded buffer of the exchange.
+     */
+    private final ThreadPoolExecutor contentWriters;
+    /** The proxy all the connections go through; or null. */
+    private final HttpHost proxy;
+    /** The value of the Proxy-Authorization header; or null. */
+    private final String proxyAuthorization;
+    private final SSLContext sslContext;
+    private volatile X509HostnameVerifier hostnameVerifier;
+
+    /**
+     * Creates a transport with one I/O thread per available processor.
+     *
+     * @param config
+     *            the client configuration
+     */
+    public NioHttpTransport(ClientConfiguration config) {
+        this(config, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a transport with the given number of I/O threads.
+     *
+     * @param config
+     *            the client configuration
+     * @param ioThreadCount
+     *            the number of I/O threads
+     */
+    public NioHttpTransport(ClientConfiguration config, int ioThreadCount) {
+        if (ioThreadCount < 1)
+            throw new IllegalArgumentException("ioThreadCount must be positive");
+        this.config = new ClientConfiguration(config);
+        if (config.getProxyHost() != null && config.getProxyPort() > 0) {
+            if (config.getProxyDomain() != null || config.getProxyWorkstation() != null) {
+                throw new AmazonClientException(
+                        "NTLM proxy authentication is not supported by the NIO HTTP transport");
+            }
+            proxy = new HttpHost(config.getProxyHost(), config.getProxyPort());
+            if (config.getProxyUsername() != null && config.getProxyPassword() != null) {
+                proxyAuthorization = "Basic " + Base64.encodeAsString(toBytes(
+                        config.getProxyUsername() + ":" + config.getProxyPassword()));
+            } else {
+                proxyAuthorization = null;
+            }
+        } else {
+            proxy = null;
+            proxyAuthorization = null;
+        }
+        try {
+            if (System.getProperty(DISABLE_CERT_CHECKING_SYSTEM_PROPERTY) != null) {
+                sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, new TrustManager[] { new TrustingX509TrustManager() }, null);
+            } else {
+                sslContext = SSLContext.getDefault();
+                hostnameVerifier = SSLSocketFactory.STRICT_HOSTNAME_VERIFIER;
+            }
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException("Unable to access default SSL context", e);
+        }
+        this.pool = new NioConnectionPool(this, config.getMaxConnections());
+        final int id = transportCount.incrementAndGet();
+        this.resolver = newWorkerPool("aws-nio-" + id + "-resolver-");
+        this.contentWriters = newWorkerPool("aws-nio-" + id + "-writer-");
+        this.reactors = new IOReactor[ioThreadCount];
+        try {
+            for (int i = 0; i < ioThreadCount; i++)
+                reactors[i] = new IOReactor("aws-nio-" + id + "-" + i);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to open selector", e);
+        }
+        for (IOReactor reactor : reactors)
+            reactor.start();
+    }
+
+    /**
+     * Returns a pool of daemon threads, created on demand, for work that may
+     * block and so must not run on the I/O threads. Tasks run on the calling
+     * thread once the pool has been shut down, so that the reactors still fail
+     * the exchanges they belong to.
+     */
+    private static ThreadPoolExecutor newWorkerPool(final String namePrefix) {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, namePrefix + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                }, new RejectedExecutionHandler() {
+                    @Override
+                    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                        r.run();
+                    }
+                });
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequestBase request, HttpContext context)
+            throws IOException {
+        HttpEntity entity = getEntity(request);
+        if (entity == null || isChannelTransferable(entity))
+            return getResponse(submit(request, entity, null, false, null));
+        ContentOutputBuffer content = new ContentOutputBuffer(BUFFER_SIZE);
+        Exchange exchange = submit(request, entity, content, false, null);
+        try {
+            writeContent(entity, content);
+        } catch (IOException e) {
+            if (!exchange.getFuture().isDone())
+                exchange.cancel();
+            throw e;
+        }
+        return getResponse(exchange);
+    }
+
+    /** Blocks until the response head of the given exchange has been received. */
+    private static HttpResponse getResponse(Exchange exchange) throws IOException {
+        try {
+            return exchange.getFuture().get();
+        } catch (InterruptedException e) {
+            exchange.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        } catch (CancellationException e) {
+            throw new InterruptedIOException("Request aborted");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Request content that can't be transferred straight from its own channel
+     * is written out by a worker thread, through the same bounded buffer as
+     * for synchronous requests, so it is never held in memory as a whole. The
+     * callback is then notified once that thread is done with the content.
+     */
+    @Override
+    public Future<HttpResponse> execute(HttpRequestBase request,
+            HttpContext context, FutureCallback<HttpResponse> callback) {
+        HttpEntity entity = getEntity(request);
+        if (entity == null || isChannelTransferable(entity))
+            return submit(request, entity, null, true, callback).getFuture();
+        ContentOutputBuffer content = new ContentOutputBuffer(BUFFER_SIZE);
+        ContentWriter writer = new ContentWriter(entity, content, callback);
+        writer.exchange = submit(request, entity, content, true, writer);
+        contentWriters.execute(writer);
+        return writer.exchange.getFuture();
+    }
+
+    /**
+     * Writes out the content of the given entity through the given buffer,
+     * blocking while the buffer is full. Stops early, without failing, if the
+     * response arrives before all the content has been sent.
+     */
+    private static void writeContent(HttpEntity entity, ContentOutputBuffer content)
+            throws IOException {
+        try {
+            entity.writeTo(content.asOutputStream());
+            content.writeCompleted();
+        } catch (IOException e) {
+            if (!content.isAbandoned())
+                throw e;
+        }
+    }
+
+    private static HttpEntity getEntity(HttpRequestBase request) {
+        if (request instanceof HttpEntityEnclosingRequest)
+            return ((HttpEntityEnclosingRequest) request).getEntity();
+        return null;
+    }
+
+    /**
+     * Returns true if the content of the given entity, if any, has a known
+     * length and can be transferred straight from its own channel.
+     */
+    private static boolean isChannelTransferable(HttpEntity entity) {
+        return entity instanceof ChannelTransferable
+            && !entity.isChunked() && entity.getContentLength() >= 0
+            && ((ChannelTransferable) entity).isChannelTransferable();
+    }
+
+    /**
+     * Submits an exchange for the given request.
+     *
+     * @param entity
+     *            the entity of the request; or null
+     * @param content
+     *            the buffer through which the content of the entity is to be
+     *            written out; or null if the entity is to be transferred
+     *            straight from its own channel, or if there is none
+     */
+    private Exchange submit(HttpRequestBase request, HttpEntity entity,
+            ContentOutputBuffer content, boolean buffered,
+            FutureCallback<HttpResponse> callback) {
+        URI uri = request.getURI();
+        HttpHost route = toRoute(uri);
+        ChannelTransferable transferableContent = null;
+        long contentLength = 0;
+        if (entity != null) {
+            contentLength = entity.isChunked() || entity.getContentLength() < 0
+                    ? -1 : entity.getContentLength();
+            if (content == null) {
+                // The I/O thread transfers the content straight from its channel
+                transferableContent = (ChannelTransferable) entity;
+            }
+        }
+        int continueWaitMillis = getContinueWaitMillis(request, entity != null);
+        byte[] head = formatHead(request, uri, route, entity, contentLength,
+                continueWaitMillis > 0);
+        Exchange exchange = new Exchange(this, request, route, head, content,
+                transferableContent, contentLength, buffered,
+                continueWaitMillis, callback);
+        request.setCancellable(exchange);
+        pool.lease(exchange);
+        return exchange;
+    }
+
+    private static HttpHost toRoute(URI uri) {
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+        int port = uri.getPort();
+        if (port < 0)
+            port = "https".equals(scheme) ? 443 : 80;
+        return new HttpHost(uri.getHost(), port, scheme);
+    }
+
+    /**
+     * Returns the time to wait for a 100 (Continue) response before sending
+     * the content of the given request anyway; or 0 if the request doesn't
+     * expect one, either via its parameters as set by the SDK or via an
+     * explicit Expect header.
+     */
+    @SuppressWarnings("deprecation")
+    private static int getContinueWaitMillis(HttpRequestBase request, boolean hasContent) {
+        if (!hasContent)
+            return 0;
+        Header expect = request.getFirstHeader("Expect");
+        boolean expectContinue = expect != null
+                ? "100-continue".equalsIgnoreCase(expect.getValue().trim())
+                : request.getParams().getBooleanParameter(
+                        CoreProtocolPNames.USE_EXPECT_CONTINUE, false);
+        if (!expectContinue)
+            return 0;
+        return Math.max(1, request.getParams().getIntParameter(
+                CoreProtocolPNames.WAIT_FOR_CONTINUE, DEFAULT_CONTINUE_WAIT_MILLIS));
+    }
+
+    /** Returns true if requests to the given route are tunnelled through the proxy. */
+    private boolean isTunnelled(HttpHost route) {
+        return proxy != null && "https".equals(route.getSchemeName());
+    }
+
+    /** Serializes the request line and headers. */
+    private byte[] formatHead(HttpRequestBase request, URI uri, HttpHost route,
+            HttpEntity entity, long contentLength, boolean expectContinue) {
+        StringBuilder sb = new StringBuilder(512);
+        String path = uri.getRawPath();
+        sb.append(request.getMethod()).append(' ');
+        if (proxy != null && !isTunnelled(route)) {
+            // Requests to a proxy carry the absolute URI
+            sb.append(route.getSchemeName()).append("://").append(route.getHostName());
+            if (uri.getPort() >= 0)
+                sb.append(':').append(uri.getPort());
+        }
+        sb.append(path == null || path.length() == 0 ? "/" : path);
+        if (uri.getRawQuery() != null)
+            sb.append('?').append(uri.getRawQuery());
+        sb.append(" HTTP/1.1\r\n");
+        if (!request.containsHeader("Host")) {
+            sb.append("Host: ").append(route.getHostName());
+            if (uri.getPort() >= 0)
+                sb.append(':').append(uri.getPort());
+            sb.append("\r\n");
+        }
+        for (Header header : request.getAllHeaders()) {
+            String name = header.getName();
+            // Framing is determined by the entity, and so is Expect
+            if (name.equalsIgnoreCase("Content-Length")
+                    || name.equalsIgnoreCase("Transfer-Encoding")
+                    || name.equalsIgnoreCase("Expect"))
+                continue;
+            sb.append(name).append(": ").append(header.getValue()).append("\r\n");
+        }
+        if (entity != null) {
+            if (contentLength >= 0)
+                sb.append("Content-Length: ").append(contentLength).append("\r\n");
+            else
+                sb.append("Transfer-Encoding: chunked\r\n");
+            if (entity.getContentType() != null && !request.containsHeader("Content-Type"))
+                sb.append(entity.getContentType().getName()).append(": ")
+                  .append(entity.getContentType().getValue()).append("\r\n");
+            if (entity.getContentEncoding() != null && !request.containsHeader("Content-Encoding"))
+                sb.append(entity.getContentEncoding().getName()).append(": ")
+                  .append(entity.getContentEncoding().getValue()).append("\r\n");
+            if (expectContinue)
+                sb.append("Expect: 100-continue\r\n");
+        } else if (request instanceof HttpEntityEnclosingRequest) {
+            sb.append("Content-Length: 0\r\n");
+        }
+        if (config.useGzip() && !request.containsHeader("Accept-Encoding"))
+            sb.append("Accept-Encoding: gzip\r\n");
+        if (proxyAuthorization != null && !isTunnelled(route))
+            sb.append("Proxy-Authorization: ").append(proxyAuthorization).append("\r\n");
+        sb.append("\r\n");
+        return toBytes(sb.toString());
+    }
+
+    /**
+     * Serializes the CONNECT request opening a tunnel through the proxy to the
+     * given route.
+     */
+    byte[] formatConnect(HttpHost route) {
+        String authority = route.getHostName() + ":" + route.getPort();
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("CONNECT ").append(authority).append(" HTTP/1.1\r\n")
+          .append("Host: ").append(authority).append("\r\n");
+        if (proxyAuthorization != null)
+            sb.append("Proxy-Authorization: ").append(proxyAuthorization).append("\r\n");
+        sb.append("\r\n");
+        return toBytes(sb.toString());
+    }
+
+    private static byte[] toBytes(String s) {
+        try {
+            return s.getBytes("ISO-8859-1");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    @Override
+    public ConnPoolControl<?> getConnPoolControl() {
+        return pool;
+    }
+
+    @Override
+    public void setHostnameVerifier(X509HostnameVerifier hostnameVerifier) {
+        this.hostnameVerifier = hostnameVerifier;
+    }
+
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+        resolver.shutdown();
+        contentWriters.shutdown();
+        for (IOReactor reactor : reactors)
+            reactor.shutdown();
+    }
+
+    /** Runs the given address lookup off the I/O threads. */
+    void resolve(Runnable lookup) {
+        resolver.execute(lookup);
+    }
+
+    /** Creates a new, unconnected connection to the given route. */
+    NioConnection newConnection(HttpHost route) {
+        int i = (nextReactor.getAndIncrement() & Integer.MAX_VALUE) % reactors.length;
+        return new NioConnection(this, reactors[i], route);
+    }
+
+    /** Creates a client-side TLS engine for a connection to the given route. */
+    SSLEngine createSSLEngine(HttpHost route) {
+        SSLEngine engine = sslContext.createSSLEngine(route.getHostName(), route.getPort());
+        engine.setUseClientMode(true);
+        String[] supported = engine.getSupportedProtocols();
+        List<String> target = new ArrayList<String>();
+        List<String> supportedList = Arrays.asList(supported);
+        for (String protocol : PREFERRED_TLS_PROTOCOLS) {
+            if (supportedList.contains(protocol))
+                target.add(protocol);
+        }
+        for (String protocol : engine.getEnabledProtocols()) {
+            if (!target.contains(protocol))
+                target.add(protocol);
+        }
+        if (target.size() > 0)
+            engine.setEnabledProtocols(target.toArray(new String[target.size()]));
+        return engine;
+    }
+
+    NioConnectionPool getPool() {
+        return pool;
+    }
+
+    /** Returns the proxy all the connections go through; or null. */
+    HttpHost getProxy() {
+        return proxy;
+    }
+
+    X509HostnameVerifier getHostnameVerifier() {
+        return hostnameVerifier;
+    }
+
+    int getBufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    boolean isGzipEnabled() {
+        return config.useGzip();
+    }
+
+    int getConnectionTimeout() {
+        return config.getConnectionTimeout();
+    }
+
+    int getSocketTimeout() {
+        return config.getSocketTimeout();
+    }
+
+    long getConnectionTTL() {
+        return config.getConnectionTTL();
+    }
+
+    boolean isTcpKeepAlive() {
+        return config.useTcpKeepAlive();
+    }
+
+    int getSendBufferSizeHint() {
+        return config.getSocketBufferSizeHints()[0];
+    }
+
+    int getReceiveBufferSizeHint() {
+        return config.getSocketBufferSizeHints()[1];
+    }
+
+    InetAddress getLocalAddress() {
+        return config.getLocalAddress();
+    }
+
+    /**
+     * Writes out the content of an asynchronous request on a worker thread,
+     * and holds back the notification of the outcome of the exchange until
+     * done, as the content may be reset for a retry as soon as it's notified.
+     */
+    private static final class ContentWriter implements Runnable,
+            FutureCallback<HttpResponse> {
+        private final HttpEntity entity;
+        private final ContentOutputBuffer content;
+        private final FutureCallback<HttpResponse> callback;
+        private volatile Exchange exchange;
+        private boolean writing = true;
+        private Runnable notification;
+
+        ContentWriter(HttpEntity entity, ContentOutputBuffer content,
+                FutureCallback<HttpResponse> callback) {
+            this.entity = entity;
+            this.content = content;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            try {
+                writeContent(entity, content);
+            } catch (IOException e) {
+                exchange.fail(e);
+            } catch (RuntimeException e) {
+                exchange.fail(new IOException(e));
+            } finally {
+                Runnable n;
+                synchronized (this) {
+                    writing = false;
+                    n = notification;
+                }
+                if (n != null) {
+                    try {
+                        n.run();
+                    } catch (RuntimeException e) {
+                        log.warn("Exception thrown by response callback", e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void completed(final HttpResponse result) {
+            notify(new Runnable() {
+                @Override
+                public void run() {
+                    callback.completed(result);
+                }
+            });
+        }
+
+        @Override
+        public void failed(final Exception ex) {
+            notify(new Runnable() {
+                @Override
+                public void run() {
+                    callback.failed(ex);
+                }
+            });
+        }
+
+        @Override
+        public void cancelled() {
+            notify(new Runnable() {
+                @Override
+                public void run() {
+                    callback.cancelled();
+                }
+            });
+        }
+
+        private void notify(Runnable n) {
+            if (callback == null)
+                return;
+            synchronized (this) {
+                if (writing) {
+                    notification = n;
+                    return;
+                }
+            }
+            n.run();
+        }
+    }
+
+    /**
+     * Simple implementation of X509TrustManager that trusts all certificates.
+     * This class is only intended to be used for testing purposes.
+     */
+    private static class TrustingX509TrustManager implements X509TrustManager {
+        private static final X509Certificate[] X509_CERTIFICATES = new X509Certificate[0];
+
+        public X509Certificate[] getAcceptedIssuers() {
+            return X509_CERTIFICATES;
+        }
+
+        public void checkServerTrusted(X509Certificate[] chain, String authType)
+                throws CertificateException {
+            // No-op, to trust all certs
+        }
+
+        public void checkClientTrusted(X509Certificate[] chain, String authType)
+                throws CertificateException {
+            // No-op, to trust all certs
+        }
+    }
+}
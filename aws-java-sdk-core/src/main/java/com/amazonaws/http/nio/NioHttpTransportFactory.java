@@ -0,0 +1,55 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.HttpTransport;
+import com.amazonaws.http.HttpTransportFactory;
+
+/**
+ * Factory for {@link NioHttpTransport}s. To have a client use the non-blocking
+ * transport:
+ *
+ * <pre>
+ * ClientConfiguration config = new ClientConfiguration()
+ *         .withHttpTransportFactory(new NioHttpTransportFactory());
+ * AmazonS3 s3 = new AmazonS3Client(credentials, config);
+ * </pre>
+ */
+public class NioHttpTransportFactory implements HttpTransportFactory {
+    private final int ioThreadCount;
+
+    /** Creates transports with one I/O thread per available processor. */
+    public NioHttpTransportFactory() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates transports with the given number of I/O threads each.
+     *
+     * @param ioThreadCount
+     *            the number of I/O threads per transport
+     */
+    public NioHttpTransportFactory(int ioThreadCount) {
+        if (ioThreadCount < 1)
+            throw new IllegalArgumentException("ioThreadCount must be positive");
+        this.ioThreadCount = ioThreadCount;
+    }
+
+    @Override
+    public HttpTransport createTransport(ClientConfiguration config) {
+        return new NioHttpTransport(config, ioThreadCount);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.http.ConnectionClosedException;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.MalformedChunkCodingException;
+import org.apache.http.ParseException;
+import org.apache.http.StatusLine;
+import org.apache.http.TruncatedChunkException;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicLineParser;
+
+/**
+ * Incremental parser of a single HTTP/1.1 response, fed with whatever bytes
+ * have arrived on the connection so far.
+ * <p>
+ * The head is parsed into an {@link HttpResponse}; the body is decoded
+ * according to its framing (content length, chunked transfer coding, or up to
+ * the end of the connection), leaving the content bytes in place so they can
+ * be transferred without further copying.
+ */
+final class ResponseParser {
+    /** Maximum length of the status line plus all headers. */
+    private static final int MAX_HEAD_LENGTH = 64 * 1024;
+
+    private enum State { HEAD, FIXED, CHUNK_SIZE, CHUNK_DATA, CHUNK_CRLF, TRAILERS, UNTIL_CLOSE, DONE }
+
+    private final boolean headRequest;
+    private final StringBuilder line = new StringBuilder(128);
+    private int headLength;
+    private State state = State.HEAD;
+    private BasicHttpResponse response;
+    /** Remaining bytes of the content, or of the current chunk. */
+    private long remaining;
+    private long contentLength = -1;
+    private boolean hasEntity;
+    private boolean keepAlive;
+    private boolean continueReceived;
+
+    /**
+     * @param headRequest
+     *            true if the response is to a HEAD request, and so has no body
+     *            regardless of its headers
+     */
+    ResponseParser(boolean headRequest) {
+        this.headRequest = headRequest;
+    }
+
+    /**
+     * Parses the response head out of the given buffer.
+     *
+     * @return the response once its head is complete; or null if more input
+     *         is needed
+     */
+    HttpResponse parseHead(ByteBuffer src) throws IOException {
+        try {
+            return doParseHead(src);
+        } catch (ParseException e) {
+            throw new ClientProtocolException("Invalid response head: " + e.getMessage(), e);
+        }
+    }
+
+    private HttpResponse doParseHead(ByteBuffer src) throws IOException {
+        while (state == State.HEAD) {
+            if (!readLine(src))
+                return null;
+            if (response == null) {
+                if (line.length() == 0)
+                    continue; // tolerate leading empty lines
+                StatusLine statusLine = BasicLineParser.parseStatusLine(line.toString(), null);
+                response = new BasicHttpResponse(statusLine);
+            } else if (line.length() == 0) {
+                endOfHead();
+            } else {
+                response.addHeader(BasicLineParser.parseHeader(line.toString(), null));
+            }
+            line.setLength(0);
+        }
+        return response;
+    }
+
+    private void endOfHead() throws ClientProtocolException {
+        int status = response.getStatusLine().getStatusCode();
+        if (status >= 100 && status < 200) {
+            // Interim response, such as 100-continue; the real one follows
+            if (status == HttpStatus.SC_CONTINUE)
+                continueReceived = true;
+            response = null;
+            headLength = 0;
+            return;
+        }
+        keepAlive = isKeepAlive(response);
+        Header transferEncoding = response.getFirstHeader("Transfer-Encoding");
+        Header contentLengthHeader = response.getFirstHeader("Content-Length");
+        if (headRequest
+                || status == HttpStatus.SC_NO_CONTENT
+                || status == HttpStatus.SC_NOT_MODIFIED) {
+            state = State.DONE;
+            return;
+        }
+        hasEntity = true;
+        if (transferEncoding != null
+                && !"identity".equalsIgnoreCase(transferEncoding.getValue().trim())) {
+            if (!"chunked".equalsIgnoreCase(transferEncoding.getValue().trim()))
+                throw new ClientProtocolException("Unsupported transfer encoding: " + transferEncoding.getValue());
+            state = State.CHUNK_SIZE;
+        } else if (contentLengthHeader != null) {
+            try {
+                remaining = Long.parseLong(contentLengthHeader.getValue().trim());
+            } catch (NumberFormatException e) {
+                throw new ClientProtocolException("Invalid content length: " + contentLengthHeader.getValue());
+            }
+            if (remaining < 0)
+                throw new ClientProtocolException("Negative content length: " + remaining);
+            contentLength = remaining;
+            state = remaining == 0 ? State.DONE : State.FIXED;
+        } else {
+            keepAlive = false;
+            state = State.UNTIL_CLOSE;
+        }
+    }
+
+    private static boolean isKeepAlive(HttpResponse response) {
+        Header connection = response.getFirstHeader("Connection");
+        if (connection != null) {
+            String value = connection.getValue();
+            if ("close".equalsIgnoreCase(value))
+                return false;
+            if ("keep-alive".equalsIgnoreCase(value))
+                return true;
+        }
+        return !response.getStatusLine().getProtocolVersion().lessEquals(HttpVersion.HTTP_1_0);
+    }
+
+    /**
+     * Consumes any framing bytes at the front of the given buffer and returns
+     * the number of content bytes that immediately follow. The caller is
+     * expected to consume those bytes from the buffer and report them via
+     * {@link #bodyConsumed(int)}.
+     *
+     * @return the number of content bytes available; or 0 if more input is
+     *         needed, or the body is complete
+     */
+    int bodyBytesAvailable(ByteBuffer src) throws IOException {
+        while (true) {
+            switch (state) {
+            case FIXED:
+            case CHUNK_DATA:
+                return (int) Math.min(remaining, src.remaining());
+            case UNTIL_CLOSE:
+                return src.remaining();
+            case CHUNK_SIZE:
+                if (!readLine(src))
+                    return 0;
+                remaining = parseChunkSize();
+                line.setLength(0);
+                state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                break;
+            case CHUNK_CRLF:
+                if (!readLine(src))
+                    return 0;
+                if (line.length() != 0)
+                    throw new MalformedChunkCodingException("CRLF expected at end of chunk");
+                line.setLength(0);
+                state = State.CHUNK_SIZE;
+                break;
+            case TRAILERS:
+                if (!readLine(src))
+                    return 0;
+                if (line.length() == 0)
+                    state = State.DONE;
+                line.setLength(0);
+                break;
+            default:
+                return 0;
+            }
+        }
+    }
+
+    /** Records that the given number of content bytes have been consumed. */
+    void bodyConsumed(int n) {
+        if (state == State.FIXED) {
+            remaining -= n;
+            if (remaining == 0)
+                state = State.DONE;
+        } else if (state == State.CHUNK_DATA) {
+            remaining -= n;
+            if (remaining == 0)
+                state = State.CHUNK_CRLF;
+        }
+    }
+
+    private long parseChunkSize() throws MalformedChunkCodingException {
+        int end = line.indexOf(";");
+        String size = (end < 0 ? line.toString() : line.substring(0, end)).trim();
+        try {
+            return Long.parseLong(size, 16);
+        } catch (NumberFormatException e) {
+            throw new MalformedChunkCodingException("Bad chunk header: " + line);
+        }
+    }
+
+    /**
+     * Notifies this parser that the connection has reached the end of its
+     * input.
+     *
+     * @throws IOException
+     *             if the response was truncated
+     */
+    void endOfInput() throws IOException {
+        switch (state) {
+        case UNTIL_CLOSE:
+            state = State.DONE;
+            return;
+        case DONE:
+            return;
+        case HEAD:
+            throw new ConnectionClosedException("Connection closed before the response was complete");
+        case FIXED:
+            throw new ConnectionClosedException("Premature end of Content-Length delimited message body (expected more " + remaining + " bytes)");
+        default:
+            throw new TruncatedChunkException("Truncated chunk");
+        }
+    }
+
+    /** Returns true if the body has been completely received. */
+    boolean isComplete() {
+        return state == State.DONE;
+    }
+
+    /** Returns true if any part of the response has been received. */
+    boolean hasStarted() {
+        return response != null || headLength > 0;
+    }
+
+    /**
+     * Returns the content length as declared by the response; or -1 if the
+     * length isn't known in advance.
+     */
+    long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Returns true if the response carries an entity, which is not the case
+     * for responses to HEAD requests, and for 204 and 304 responses.
+     */
+    boolean hasEntity() {
+        return hasEntity;
+    }
+
+    /**
+     * Returns true if a 100 (Continue) interim response has been received
+     * ahead of the response.
+     */
+    boolean isContinueReceived() {
+        return continueReceived;
+    }
+
+    /**
+     * Returns true if the connection can be reused for another request once
+     * this response is complete.
+     */
+    boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Accumulates the next line, up to CRLF (or a bare LF), from the given
+     * buffer.
+     *
+     * @return true if a complete line is available in {@link #line}
+     */
+    private boolean readLine(ByteBuffer src) throws ClientProtocolException {
+        while (src.hasRemaining()) {
+            char c = (char) (src.get() & 0xFF);
+            if (state == State.HEAD && ++headLength > MAX_HEAD_LENGTH)
+                throw new ClientProtocolException("Response head exceeds " + MAX_HEAD_LENGTH + " bytes");
+            if (c == '\n') {
+                int len = line.length();
+                if (len > 0 && line.charAt(len - 1) == '\r')
+                    line.setLength(len - 1);
+                return true;
+            }
+            if (line.length() >= MAX_HEAD_LENGTH)
+                throw new ClientProtocolException("Line exceeds " + MAX_HEAD_LENGTH + " bytes");
+            line.append(c);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2011-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+/**
+ * A {@link ByteArrayInputStream} over request content that has been written
+ * to a byte array, which HTTP transports with access to the underlying channel
+ * can write out directly from the array, instead of copying it to a buffer.
+ * <p>
+ * The array is not copied, so it must not be modified once the stream has been
+ * created.
+ */
+public class ByteArrayContentInputStream extends ByteArrayInputStream
+        implements ChannelTransferable, DigestableContent {
+    private final ContentDigestCache digestCache = new ContentDigestCache();
+
+    /**
+     * @param buf
+     *            the array holding the content
+     * @param offset
+     *            the offset of the content in the array
+     * @param length
+     *            the number of bytes of content
+     */
+    public ByteArrayContentInputStream(byte[] buf, int offset, int length) {
+        super(buf, offset, length);
+    }
+
+    @Override
+    public boolean isChannelTransferable() {
+        return true;
+    }
+
+    @Override
+    public synchronized long transferTo(WritableByteChannel target,
+            long maxCount) throws IOException {
+        if (pos >= count)
+            return -1;
+        int length = (int) Math.min(count - pos, maxCount);
+        int written = target.write(ByteBuffer.wrap(buf, pos, length));
+        pos += written;
+        return written;
+    }
+
+    @Override
+    public synchronized byte[] digestRemaining(MessageDigest md) {
+        return digestCache.digest(md, buf, pos, count);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Request content that can be written directly to a channel, instead of being
+ * read into a heap buffer first. This is typically the case of content that
+ * comes from a file, such as {@link FileRegionInputStream}, and of the filter
+ * input streams wrapping it that don't need to transform the bytes.
+ * <p>
+ * Transferring content has the same effect as reading it, so that the content
+ * can be reset and transferred or read again, for instance to retry a request.
+ * Content may be transferred by the I/O thread of an HTTP transport, so the
+ * interrupted status of the current thread isn't checked while transferring.
+ */
+public interface ChannelTransferable {
+
+    /**
+     * Returns true if the remaining content can be written via
+     * {@link #transferTo(WritableByteChannel, long)}; false if it can only be
+     * read.
+     */
+    public boolean isChannelTransferable();
+
+    /**
+     * Writes up to the given number of bytes of the remaining content to the
+     * given channel, as if they had been read. Fewer bytes may be transferred
+     * if the channel is non-blocking and can't accept more for now.
+     *
+     * @param target
+     *            the channel to write to
+     * @param maxCount
+     *            the maximum number of bytes to transfer
+     * @return the number of bytes transferred, possibly zero; or -1 if the end
+     *         of the content has been reached
+     * @throws IllegalStateException
+     *             if the content isn't channel transferable
+     */
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException;
+}
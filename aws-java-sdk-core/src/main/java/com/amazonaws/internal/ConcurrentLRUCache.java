@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.http.annotation.ThreadSafe;
+
+/**
+ * A bounded cache that evicts the least recently used entry when the cache is
+ * full.
+ * <p>
+ * Lookups don't take any lock, and only write to the entry found if it hasn't
+ * been used since the last entry was added, so that frequently used entries
+ * can be read concurrently without contention. The recency of use is therefore
+ * tracked relative to the addition of entries, which is all that matters to
+ * decide which entry to evict when another one is added.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+@ThreadSafe
+public final class ConcurrentLRUCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> map;
+    private final int maxSize;
+    /** Incremented on every addition. */
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public ConcurrentLRUCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<K, Entry<V>>(maxSize + 1);
+    }
+
+    /**
+     * Adds an entry to the cache, evicting the least recently used entry if
+     * necessary.
+     *
+     * @return the previous value of the given key; or null if none
+     */
+    public V add(K key, V value) {
+        Entry<V> old = map.put(key, new Entry<V>(value, clock.incrementAndGet()));
+        if (map.size() > maxSize) {
+            evict();
+        }
+        return old == null ? null : old.value;
+    }
+
+    /** Returns the value of the given key; or null of no such entry exists. */
+    public V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.get();
+        if (entry.lastUsed != now) {
+            entry.lastUsed = now;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void evict() {
+        evictionLock.lock();
+        try {
+            while (map.size() > maxSize) {
+                Map.Entry<K, Entry<V>> eldest = null;
+                for (Map.Entry<K, Entry<V>> e : map.entrySet()) {
+                    if (eldest == null
+                            || e.getValue().lastUsed < eldest.getValue().lastUsed) {
+                        eldest = e;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                map.remove(eldest.getKey(), eldest.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        volatile long lastUsed;
+
+        Entry(V value, long lastUsed) {
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+import org.apache.http.annotation.NotThreadSafe;
+
+/**
+ * The last digest computed by a {@link DigestableContent}, together with the
+ * range of the content it was computed over.
+ */
+@NotThreadSafe
+public final class ContentDigestCache {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private String algorithm;
+    private long start;
+    private long end;
+    private byte[] digest;
+
+    /**
+     * Returns a copy of the cached digest of the given range of content with
+     * the given algorithm, or null if it isn't the one cached.
+     */
+    public byte[] get(String algorithm, long start, long end) {
+        if (digest == null || start != this.start || end != this.end
+                || !algorithm.equals(this.algorithm))
+            return null;
+        return digest.clone();
+    }
+
+    /**
+     * Caches the given digest of the given range of content, and returns a
+     * copy of it.
+     */
+    public byte[] put(String algorithm, long start, long end, byte[] digest) {
+        this.algorithm = algorithm;
+        this.start = start;
+        this.end = end;
+        this.digest = digest;
+        return digest.clone();
+    }
+
+    /**
+     * Returns the digest of the given range of the given array.
+     */
+    public byte[] digest(MessageDigest md, byte[] buf, int start, int end) {
+        String algorithm = md.getAlgorithm();
+        byte[] cached = get(algorithm, start, end);
+        if (cached != null)
+            return cached;
+        md.reset();
+        md.update(buf, start, end - start);
+        return put(algorithm, start, end, md.digest());
+    }
+
+    /**
+     * Returns the digest of the given range of the given file, read with
+     * positional reads so that the position of the channel is unchanged.
+     *
+     * @param file
+     *            the file the channel reads from, used in error messages; or
+     *            null if not known.
+     * @throws IOException
+     *             if the file ends before the given range does, in which case
+     *             nothing is cached.
+     */
+    public byte[] digest(MessageDigest md, File file, FileChannel channel,
+            long start, long end) throws IOException {
+        String algorithm = md.getAlgorithm();
+        byte[] cached = get(algorithm, start, end);
+        if (cached != null)
+            return cached;
+        md.reset();
+        ByteBuffer buffer = ByteBuffer.allocate(
+                (int) Math.max(1, Math.min(BUFFER_SIZE, end - start)));
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            if (end - position < buffer.capacity())
+                buffer.limit((int) (end - position));
+            int bytesRead = channel.read(buffer, position);
+            if (bytesRead < 0) {
+                throw new IOException((file == null ? "File" : "File " + file)
+                        + " was truncated while computing its digest: expected "
+                        + (end - start) + " bytes, but only "
+                        + (position - start) + " could be read");
+            }
+            md.update(buffer.array(), 0, bytesRead);
+            position += bytesRead;
+        }
+        return put(algorithm, start, end, md.digest());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+
+/**
+ * Request content that can compute the digest of its remaining bytes in place,
+ * without consuming them. Such content doesn't need to be marked, read through
+ * and reset to be hashed, for instance to sign a request, and the bytes are
+ * only read once more when the content is sent.
+ * <p>
+ * The digest is cached by the content, so that signing the request again for
+ * a retry, which resets the content to where it was, doesn't hash it again.
+ *
+ * @see ContentDigestCache
+ */
+public interface DigestableContent {
+
+    /**
+     * Returns the digest of the remaining content, computed with the given
+     * message digest unless a digest of the same bytes with the same algorithm
+     * has already been computed. The position of the content is unchanged.
+     *
+     * @param md
+     *            the message digest to use, which is reset before use
+     * @return a new array holding the digest
+     */
+    public byte[] digestRemaining(MessageDigest md) throws IOException;
+}
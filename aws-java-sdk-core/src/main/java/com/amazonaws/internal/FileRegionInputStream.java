@@ -0,0 +1,197 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+import org.apache.http.annotation.NotThreadSafe;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * A mark-and-resettable input stream over a region of a file, such as a part
+ * of a multi-part upload. The file is accessed with positional reads, and the
+ * region can be transferred to a channel via
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so that
+ * sending it needs no copy through the Java heap when the channel allows it.
+ * <p>
+ * Only the {@link com.amazonaws.http.nio.NioHttpTransport} transfers request
+ * content this way, and only for requests that aren't signed as aws-chunked
+ * payloads nor collect throughput metrics. The default Apache HTTP client
+ * based transport has no access to the socket channel, so it reads the region
+ * through a heap buffer like any other input stream.
+ * <p>
+ * As for {@link ResettableInputStream}, the close operation can be disabled
+ * via {@link #disableClose()}, in which case the creator of this input stream
+ * should always call {@link #release()} in a finally block to truly release
+ * the underlying file.
+ *
+ * @see ChannelTransferable
+ */
+@NotThreadSafe
+public class FileRegionInputStream extends ReleasableInputStream implements
+        ChannelTransferable, DigestableContent {
+    private final File file;
+    private final FileChannel fileChannel;
+    /** The position in the file where the region ends, exclusive. */
+    private final long end;
+    /** The position in the file of the next byte to read. */
+    private long position;
+    /** Marked position in the file; defaults to the start of the region. */
+    private long markPos;
+    private final ContentDigestCache digestCache = new ContentDigestCache();
+
+    /**
+     * Opens the given file, with the whole file as the region.
+     */
+    public FileRegionInputStream(File file) throws IOException {
+        this(file, 0, file.length());
+    }
+
+    /**
+     * Opens the given file, with the given number of bytes starting at the
+     * given offset as the region.
+     */
+    public FileRegionInputStream(File file, long offset, long length)
+            throws IOException {
+        this(new FileInputStream(file), file, offset, length);
+    }
+
+    private FileRegionInputStream(FileInputStream fis, File file, long offset,
+            long length) {
+        super(fis);
+        if (offset < 0 || length < 0)
+            throw new IllegalArgumentException();
+        this.file = file;
+        this.fileChannel = fis.getChannel();
+        this.position = this.markPos = offset;
+        this.end = offset + length;
+    }
+
+    @Override
+    public final boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Marks the current position in this input stream, regardless of the
+     * given read limit.
+     */
+    @Override
+    public void mark(int readlimit) {
+        abortIfNeeded();
+        markPos = position;
+    }
+
+    /**
+     * Repositions this stream to the position at the time the
+     * <code>mark</code> method was last called on this input stream, or to the
+     * start of the region if never marked.
+     */
+    @Override
+    public void reset() throws IOException {
+        abortIfNeeded();
+        position = markPos;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return (int) Math.min(Integer.MAX_VALUE,
+                Math.max(0, Math.min(end, fileChannel.size()) - position));
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int bytesRead = read(b, 0, 1);
+        return bytesRead == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0)
+            return 0;
+        if (position >= end)
+            return -1;
+        int n = (int) Math.min(len, end - position);
+        int bytesRead = fileChannel.read(ByteBuffer.wrap(b, off, n), position);
+        if (bytesRead > 0)
+            position += bytesRead;
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        long skipped = Math.max(0, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean isChannelTransferable() {
+        return true;
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (position >= end)
+            return -1;
+        long count = Math.min(maxCount, end - position);
+        long transferred = fileChannel.transferTo(position, count, target);
+        if (transferred == 0 && position >= fileChannel.size())
+            return -1; // the file has been truncated
+        position += transferred;
+        return transferred;
+    }
+
+    @Override
+    public byte[] digestRemaining(MessageDigest md) throws IOException {
+        abortIfNeeded();
+        return digestCache.digest(md, file, fileChannel, position, end);
+    }
+
+    /**
+     * Returns the underlying file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Convenient factory method to construct a new input stream over the given
+     * file, converting any IOException into AmazonClientException with the
+     * given error message.
+     */
+    public static FileRegionInputStream newFileRegionInputStream(File file,
+            String errmsg) {
+        try {
+            return new FileRegionInputStream(file);
+        } catch (IOException e) {
+            throw errmsg == null
+                ? new AmazonClientException(e)
+                : new AmazonClientException(errmsg, e);
+        }
+    }
+}
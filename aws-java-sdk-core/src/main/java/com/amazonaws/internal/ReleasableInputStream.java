@@ -18,7 +18,9 @@
 package com.amazonaws.internal;
 
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,7 +41,8 @@ import org.apache.http.annotation.NotThreadSafe;
  * @see ResettableInputStream
  */
 @NotThreadSafe
-public class ReleasableInputStream extends SdkFilterInputStream implements Releasable {
+public class ReleasableInputStream extends SdkFilterInputStream implements
+        Releasable, ChannelTransferable {
     private static final Log log = LogFactory
             .getLog(ReleasableInputStream.class);
     /**
@@ -95,6 +98,20 @@ public class ReleasableInputStream extends SdkFilterInputStream implements Relea
         abortIfNeeded();
     }
 
+    @Override
+    public boolean isChannelTransferable() {
+        return in instanceof ChannelTransferable
+            && ((ChannelTransferable) in).isChannelTransferable();
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (!isChannelTransferable())
+            throw new IllegalStateException();
+        return ((ChannelTransferable) in).transferTo(target, maxCount);
+    }
+
     /**
      * Returns true if the close method has been disabled; false otherwise. Once
      * the close method is disabled, caller would be responsible to release
@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -44,7 +45,8 @@ import com.amazonaws.AmazonClientException;
  * @see Releasable
  */
 @NotThreadSafe
-public class ResettableInputStream extends ReleasableInputStream {
+public class ResettableInputStream extends ReleasableInputStream implements
+        DigestableContent {
     private static final Log log = LogFactory
             .getLog(ResettableInputStream.class);
     private final File file; // null if the file is not known
@@ -54,6 +56,7 @@ public class ResettableInputStream extends ReleasableInputStream {
      * Marked position of the file; default to zero.
      */
     private long markPos;
+    private final ContentDigestCache digestCache = new ContentDigestCache();
 
     /**
      * @param file
@@ -200,6 +203,13 @@ public class ResettableInputStream extends ReleasableInputStream {
         return fis.read(arg0, arg1, arg2);
     }
 
+    @Override
+    public byte[] digestRemaining(MessageDigest md) throws IOException {
+        abortIfNeeded();
+        return digestCache.digest(md, file, fileChannel,
+                fileChannel.position(), fileChannel.size());
+    }
+
     /**
      * Returns the underlying file, if known; or null if not;
      */
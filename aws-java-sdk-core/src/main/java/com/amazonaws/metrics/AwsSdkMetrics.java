@@ -20,10 +20,13 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.apache.commons.logging.LogFactory;
 
@@ -32,6 +35,8 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.auth.PropertiesCredentials;
+import com.amazonaws.http.conn.ConnectionPoolMetrics;
+import com.amazonaws.http.conn.ConnectionPoolRouteStatistics;
 import com.amazonaws.jmx.spi.SdkMBeanRegistry;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.util.AWSRequestMetrics.Field;
@@ -188,6 +193,51 @@ public enum AwsSdkMetrics {
      */
     public static final String HOST_METRIC_NAME = "hostMetricName";
 
+    /**
+     * Used to specify the directory of the file where the metric data is
+     * spilled if it can't be uploaded to Amazon CloudWatch. By default, such
+     * metric data is dropped.
+     * 
+     * <pre>
+     * Example:
+     *  -Dcom.amazonaws.sdk.enableDefaultMetrics=spillDirectory=/var/spool/awssdk
+     * </pre>
+     */
+    public static final String SPILL_DIRECTORY = "spillDirectory";
+
+    /**
+     * Used to specify the maximum size of the spill file in bytes.
+     * The default size is 16 MB.
+     * 
+     * <pre>
+     * Example:
+     *  -Dcom.amazonaws.sdk.enableDefaultMetrics=maxSpillBytes=16777216
+     * </pre>
+     */
+    public static final String MAX_SPILL_BYTES = "maxSpillBytes";
+
+    /**
+     * Used to specify the maximum number of concurrent uploads to Amazon
+     * CloudWatch.
+     * 
+     * <pre>
+     * Example:
+     *  -Dcom.amazonaws.sdk.enableDefaultMetrics=maxConcurrentUploads=2
+     * </pre>
+     */
+    public static final String MAX_CONCURRENT_UPLOADS = "maxConcurrentUploads";
+
+    /**
+     * Used to specify the maximum number of times the upload of metric data
+     * to Amazon CloudWatch is attempted before the data is spilled or dropped.
+     * 
+     * <pre>
+     * Example:
+     *  -Dcom.amazonaws.sdk.enableDefaultMetrics=maxUploadAttempts=3
+     * </pre>
+     */
+    public static final String MAX_UPLOAD_ATTEMPTS = "maxUploadAttempts";
+
     private static final String DEFAULT_METRIC_COLLECTOR_FACTORY =
         "com.amazonaws.metrics.internal.cloudwatch.DefaultMetricCollectorFactory";
     /**
@@ -210,6 +260,10 @@ public enum AwsSdkMetrics {
     private static volatile Regions region;
     private static volatile Integer metricQueueSize;
     private static volatile Long queuePollTimeoutMilli;
+    private static volatile String spillDirectory;
+    private static volatile Long maxSpillBytes;
+    private static volatile Integer maxConcurrentUploads;
+    private static volatile Integer maxUploadAttempts;
     private static volatile String metricNameSpace = DEFAULT_METRIC_NAMESPACE;
     private static volatile String credentialFile;
 
@@ -275,6 +329,23 @@ public enum AwsSdkMetrics {
                                 if (i.intValue() < 1000)
                                     throw new IllegalArgumentException(QUEUE_POLL_TIMEOUT_MILLI + " must be at least 1000");
                                 queuePollTimeoutMilli = i;
+                            } else if (SPILL_DIRECTORY.equals(key)) {
+                                spillDirectory = value;
+                            } else if (MAX_SPILL_BYTES.equals(key)) {
+                                Long i = new Long(value);
+                                if (i.longValue() < 1)
+                                    throw new IllegalArgumentException(MAX_SPILL_BYTES + " must be at least 1");
+                                maxSpillBytes = i;
+                            } else if (MAX_CONCURRENT_UPLOADS.equals(key)) {
+                                Integer i = new Integer(value);
+                                if (i.intValue() < 1)
+                                    throw new IllegalArgumentException(MAX_CONCURRENT_UPLOADS + " must be at least 1");
+                                maxConcurrentUploads = i;
+                            } else if (MAX_UPLOAD_ATTEMPTS.equals(key)) {
+                                Integer i = new Integer(value);
+                                if (i.intValue() < 1)
+                                    throw new IllegalArgumentException(MAX_UPLOAD_ATTEMPTS + " must be at least 1");
+                                maxUploadAttempts = i;
                             } else if (METRIC_NAME_SPACE.equals(key)) {
                                 metricNameSpace = value;
                             } else if (JVM_METRIC_NAME.equals(key)) {
@@ -302,6 +373,14 @@ public enum AwsSdkMetrics {
      * Used to disallow re-entrancy in enabling the default metric collection system. 
      */
     private static boolean dirtyEnabling;
+    /**
+     * The statistics of the HTTP connection pools currently in use, weakly
+     * referenced so a client that is not shut down can still be garbage
+     * collected.
+     */
+    private static final Set<ConnectionPoolMetrics> connectionPools =
+            Collections.newSetFromMap(
+                    new WeakHashMap<ConnectionPoolMetrics, Boolean>());
     /** Exports AwsSdkMetrics for JMX access. */
     static {
         try {
@@ -339,6 +418,46 @@ public enum AwsSdkMetrics {
         SdkMBeanRegistry registry = SdkMBeanRegistry.Factory.getMBeanRegistry();
         return registry.unregisterMBean(MBEAN_OBJECT_NAME);
     }
+
+    /**
+     * Registers the statistics of an HTTP connection pool so they are reported
+     * by {@link #getConnectionPoolStatistics()}.
+     */
+    public static void registerConnectionPool(ConnectionPoolMetrics pool) {
+        synchronized (connectionPools) {
+            connectionPools.add(pool);
+        }
+    }
+
+    /**
+     * Unregisters the statistics of an HTTP connection pool, typically when
+     * the pool is shut down.
+     */
+    public static void unregisterConnectionPool(ConnectionPoolMetrics pool) {
+        synchronized (connectionPools) {
+            connectionPools.remove(pool);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the per-route statistics of all HTTP connection
+     * pools currently in use by the AWS SDK, including the lease wait time
+     * histograms, the number of requests waiting for a connection and the
+     * number of connections opened and closed.
+     */
+    public static List<ConnectionPoolRouteStatistics> getConnectionPoolStatistics() {
+        List<ConnectionPoolMetrics> pools;
+        synchronized (connectionPools) {
+            pools = new ArrayList<ConnectionPoolMetrics>(connectionPools);
+        }
+        List<ConnectionPoolRouteStatistics> stats =
+                new ArrayList<ConnectionPoolRouteStatistics>();
+        for (ConnectionPoolMetrics pool : pools) {
+            stats.addAll(pool.getRouteStatistics());
+        }
+        return stats;
+    }
+
     /**
      * Returns a non-null request metric collector for the SDK. If no custom
      * request metric collector has previously been specified via
@@ -694,6 +813,91 @@ public enum AwsSdkMetrics {
         queuePollTimeoutMilli = timeoutMilli;
     }
 
+    /**
+     * Returns the directory of the file where the default AWS SDK metric
+     * collector spills the metric data it can't upload; or null if such data
+     * is to be dropped.
+     */
+    public static String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Sets the directory of the file where the default AWS SDK metric
+     * collector spills the metric data it can't upload; or null if such data
+     * is to be dropped.
+     */
+    public static void setSpillDirectory(String directory) {
+        spillDirectory = directory;
+    }
+
+    /**
+     * Returns the maximum size of the spill file in bytes to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static Long getMaxSpillBytes() {
+        return maxSpillBytes;
+    }
+
+    /**
+     * Sets the maximum size of the spill file in bytes to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static void setMaxSpillBytes(Long bytes) {
+        maxSpillBytes = bytes;
+    }
+
+    /**
+     * Returns the maximum number of concurrent uploads to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static Integer getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    /**
+     * Sets the maximum number of concurrent uploads to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static void setMaxConcurrentUploads(Integer uploads) {
+        maxConcurrentUploads = uploads;
+    }
+
+    /**
+     * Returns the maximum number of upload attempts to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static Integer getMaxUploadAttempts() {
+        return maxUploadAttempts;
+    }
+
+    /**
+     * Sets the maximum number of upload attempts to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public static void setMaxUploadAttempts(Integer attempts) {
+        maxUploadAttempts = attempts;
+    }
+
+    /**
+     * Returns the number of metric data dropped so far by the metric collector
+     * currently in use at the AWS SDK level; or zero if there is none.
+     */
+    public static long getDroppedMetricCount() {
+        MetricCollector mc = AwsSdkMetrics.mc;
+        return mc == null ? 0 : mc.getDroppedMetricCount();
+    }
+
+    /**
+     * Returns the time in millisecond between the summarizing and the upload
+     * of the metric data last uploaded by the metric collector currently in
+     * use at the AWS SDK level; or zero if there is none.
+     */
+    public static long getUploadLagMilli() {
+        MetricCollector mc = AwsSdkMetrics.mc;
+        return mc == null ? 0 : mc.getUploadLagMilli();
+    }
+
     /**
      * Returns the metric name space, which is never null or blank.
      */
@@ -16,7 +16,9 @@ package com.amazonaws.metrics;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 
+import com.amazonaws.http.conn.ConnectionPoolRouteStatistics;
 import com.amazonaws.regions.Regions;
 
 /**
@@ -94,6 +96,47 @@ public class MetricAdmin implements MetricAdminMBean {
         AwsSdkMetrics.setQueuePollTimeoutMilli(timeoutMilli == null ? null : timeoutMilli.longValue());
     }
     @Override
+    public String getSpillDirectory() {
+        return AwsSdkMetrics.getSpillDirectory();
+    }
+    @Override
+    public void setSpillDirectory(String spillDirectory) {
+        AwsSdkMetrics.setSpillDirectory(spillDirectory);
+    }
+    @Override
+    public Integer getMaxSpillBytes() {
+        Long maxSpillBytes = AwsSdkMetrics.getMaxSpillBytes();
+        return maxSpillBytes == null ? null : (int)Math.min(maxSpillBytes.longValue(), Integer.MAX_VALUE);
+    }
+    @Override
+    public void setMaxSpillBytes(Integer maxSpillBytes) {
+        AwsSdkMetrics.setMaxSpillBytes(maxSpillBytes == null ? null : maxSpillBytes.longValue());
+    }
+    @Override
+    public Integer getMaxConcurrentUploads() {
+        return AwsSdkMetrics.getMaxConcurrentUploads();
+    }
+    @Override
+    public void setMaxConcurrentUploads(Integer maxConcurrentUploads) {
+        AwsSdkMetrics.setMaxConcurrentUploads(maxConcurrentUploads);
+    }
+    @Override
+    public Integer getMaxUploadAttempts() {
+        return AwsSdkMetrics.getMaxUploadAttempts();
+    }
+    @Override
+    public void setMaxUploadAttempts(Integer maxUploadAttempts) {
+        AwsSdkMetrics.setMaxUploadAttempts(maxUploadAttempts);
+    }
+    @Override
+    public long getDroppedMetricCount() {
+        return AwsSdkMetrics.getDroppedMetricCount();
+    }
+    @Override
+    public long getUploadLagMilli() {
+        return AwsSdkMetrics.getUploadLagMilli();
+    }
+    @Override
     public String getMetricNameSpace() {
         return AwsSdkMetrics.getMetricNameSpace();
     }
@@ -144,4 +187,14 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
-}
\ No newline at end of file
+    @Override
+    public String[] getConnectionPoolStatistics() {
+        List<ConnectionPoolRouteStatistics> stats =
+                AwsSdkMetrics.getConnectionPoolStatistics();
+        String[] lines = new String[stats.size()];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = stats.get(i).toString();
+        }
+        return lines;
+    }
+}
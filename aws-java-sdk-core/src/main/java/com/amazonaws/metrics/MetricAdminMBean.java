@@ -134,6 +134,73 @@ public interface MetricAdminMBean {
      */
     public void setQueuePollTimeoutMilli(Integer timeoutMilli);
 
+    /**
+     * Returns the directory of the file where the default AWS SDK metric
+     * collector spills the metric data it can't upload; or null if such data
+     * is to be dropped.
+     */
+    public String getSpillDirectory();
+
+    /**
+     * Sets the directory of the file where the default AWS SDK metric
+     * collector spills the metric data it can't upload; or null if such data
+     * is to be dropped.
+     */
+    public void setSpillDirectory(String spillDirectory);
+
+    /**
+     * Returns the maximum size of the spill file in bytes to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     * Use Integer instead of Long as it seems jconsole does not handle Long
+     * properly.
+     */
+    public Integer getMaxSpillBytes();
+
+    /**
+     * Sets the maximum size of the spill file in bytes to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     * Use Integer instead of Long as it seems jconsole does not handle Long
+     * properly.
+     */
+    public void setMaxSpillBytes(Integer maxSpillBytes);
+
+    /**
+     * Returns the maximum number of concurrent uploads to be used for the
+     * default AWS SDK metric collector; or null if the default is to be used.
+     */
+    public Integer getMaxConcurrentUploads();
+
+    /**
+     * Sets the maximum number of concurrent uploads to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public void setMaxConcurrentUploads(Integer maxConcurrentUploads);
+
+    /**
+     * Returns the maximum number of upload attempts to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public Integer getMaxUploadAttempts();
+
+    /**
+     * Sets the maximum number of upload attempts to be used for the default
+     * AWS SDK metric collector; or null if the default is to be used.
+     */
+    public void setMaxUploadAttempts(Integer maxUploadAttempts);
+
+    /**
+     * Returns the number of metric data dropped so far by the metric collector
+     * in use at the AWS SDK level.
+     */
+    public long getDroppedMetricCount();
+
+    /**
+     * Returns the time in millisecond between the summarizing and the upload
+     * of the metric data last uploaded by the metric collector in use at the
+     * AWS SDK level.
+     */
+    public long getUploadLagMilli();
+
     /**
      * Returns the metric name space.
      */
@@ -184,4 +251,10 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
-}
\ No newline at end of file
+
+    /**
+     * Returns the per-route statistics of the HTTP connection pools currently
+     * in use, one line per route.
+     */
+    public String[] getConnectionPoolStatistics();
+}
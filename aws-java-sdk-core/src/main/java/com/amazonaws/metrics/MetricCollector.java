@@ -51,6 +51,19 @@ public abstract class MetricCollector
     public abstract RequestMetricCollector getRequestMetricCollector();
     public abstract ServiceMetricCollector getServiceMetricCollector();
 
+    /**
+     * Returns the number of metric data dropped so far by this collector.
+     * The default implementation always returns zero.
+     */
+    public long getDroppedMetricCount() { return 0; }
+
+    /**
+     * Returns the time in millisecond between the summarizing and the upload
+     * of the metric data last uploaded by this collector. The default
+     * implementation always returns zero.
+     */
+    public long getUploadLagMilli() { return 0; }
+
     /** A convenient instance of a no-op request metric collector. */
     public static final MetricCollector NONE = new MetricCollector() {
         @Override public boolean start() { return true; }
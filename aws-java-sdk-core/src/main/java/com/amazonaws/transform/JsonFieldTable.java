@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+/**
+ * An immutable table of the JSON field names of a shape, used by JSON
+ * unmarshallers to dispatch on the name of the current field with a single
+ * lookup, instead of comparing it against each of their fields in turn.
+ * <p>
+ * Field names returned by the JSON parser are interned, as are the names given
+ * to this table, so a lookup normally takes one hash probe and one reference
+ * comparison; other strings with the same characters are still found.
+ */
+public final class JsonFieldTable {
+    private final String[] names;
+    private final int[] indexes;
+    private final int mask;
+
+    /**
+     * @param fieldNames
+     *            the field names of the shape, whose indexes in this array
+     *            are returned by {@link #indexOf(String)}
+     */
+    public JsonFieldTable(String... fieldNames) {
+        int capacity = Integer.highestOneBit(Math.max(fieldNames.length, 1)) << 2;
+        names = new String[capacity];
+        indexes = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < fieldNames.length; i++) {
+            String name = fieldNames[i].intern();
+            int slot = name.hashCode() & mask;
+            while (names[slot] != null) {
+                if (names[slot].equals(name))
+                    throw new IllegalArgumentException("Duplicate field name: " + name);
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = name;
+            indexes[slot] = i;
+        }
+    }
+
+    /**
+     * Returns the index of the given field name in this table, or -1 if the
+     * name is null or isn't one of the fields of this table.
+     */
+    public int indexOf(String fieldName) {
+        if (fieldName == null) return -1;
+        int slot = fieldName.hashCode() & mask;
+        String name;
+        while ((name = names[slot]) != null) {
+            if (name == fieldName || name.equals(fieldName))
+                return indexes[slot];
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -106,6 +106,24 @@ public abstract class JsonUnmarshallerContext {
         return null;
     }
 
+    /**
+     * Returns the name of the JSON field at the current position in the JSON
+     * document being parsed, if that position is at the specified depth in
+     * the stack. This is the name that
+     * {@link #testExpression(String, int)} would match, so that unmarshallers
+     * can look it up once, for instance in a {@link JsonFieldTable}, instead
+     * of testing each of their fields in turn.
+     *
+     * @param stackDepth
+     *            The depth in the stack at which the field must be.
+     *
+     * @return The name of the current JSON field, or null if the current
+     *         position isn't at the specified depth. Returns null by default.
+     */
+    public String getCurrentFieldName(int stackDepth) {
+        return null;
+    }
+
     /**
      * Tests the specified expression (a JSON field name) against the current
      * position in the JSON document being parsed, and restricts the expression
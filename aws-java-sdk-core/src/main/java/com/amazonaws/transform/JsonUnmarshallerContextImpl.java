@@ -21,9 +21,10 @@ import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import com.amazonaws.http.HttpResponse;
 import com.fasterxml.jackson.core.JsonParser;
@@ -58,8 +59,11 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
      * }
      * When the parser points to "D", the state of this stack should be (from top to bottom):
      *  [ (C, START_OBJECT), (B, START_ARRAY), (A, START_OBJECT) ]
+     * The top of the stack is the last element of the list, which, unlike a
+     * {@link java.util.Stack}, isn't synchronized, as this context is only
+     * ever used by one thread.
      */
-    private final Stack<JsonFieldTokenPair> stack = new Stack<JsonFieldTokenPair>();
+    private final List<JsonFieldTokenPair> stack = new ArrayList<JsonFieldTokenPair>();
 
     /**
      * The name of the field that is currently being parsed. This value is
@@ -161,7 +165,7 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
                 return currentField.equals(expression);
             } else {
                 return (!stack.isEmpty())
-                        && stack.peek().getField().equals(expression);
+                        && topOfStack().getField().equals(expression);
             }
         }
     }
@@ -172,13 +176,20 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
         if (currentField != null) {
             parentElement = currentField;
         } else if ( !stack.isEmpty() ) {
-            parentElement = stack.peek().getField();
+            parentElement = topOfStack().getField();
         } else {
             parentElement = "";
         }
         return parentElement;
     }
 
+    @Override
+    public String getCurrentFieldName(int stackDepth) {
+        if (stackDepth != getCurrentDepth()) return null;
+        if (currentField != null) return currentField;
+        return stack.isEmpty() ? null : topOfStack().getField();
+    }
+
     @Override
     public boolean testExpression(String expression, int stackDepth) {
         if (expression.equals(".")) {
@@ -237,15 +248,15 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
 
         if (currentToken == START_OBJECT || currentToken == START_ARRAY) {
             if (currentField != null) {
-                stack.push(new JsonFieldTokenPair(currentField, currentToken));
+                stack.add(new JsonFieldTokenPair(currentField, currentToken));
                 currentField = null;
             }
         } else if (currentToken == END_OBJECT || currentToken == END_ARRAY) {
             if (!stack.isEmpty()) {
-                boolean squareBracketsMatch = currentToken == END_ARRAY && stack.peek().getToken() == START_ARRAY;
-                boolean curlyBracketsMatch = currentToken == END_OBJECT && stack.peek().getToken() == START_OBJECT;
+                boolean squareBracketsMatch = currentToken == END_ARRAY && topOfStack().getToken() == START_ARRAY;
+                boolean curlyBracketsMatch = currentToken == END_OBJECT && topOfStack().getToken() == START_OBJECT;
                 if (squareBracketsMatch || curlyBracketsMatch) {
-                    lastParsedParentElement = stack.pop().getField();
+                    lastParsedParentElement = stack.remove(stack.size() - 1).getField();
                 }
             }
             currentField = null;
@@ -277,6 +288,10 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
         return lastParsedParentElement;
     }
 
+    private JsonFieldTokenPair topOfStack() {
+        return stack.get(stack.size() - 1);
+    }
+
     /**
      * An immutable class used to indicate a JSON field value followed by a
      * subsequent JSON token. This inner class should only be used by the
@@ -37,14 +37,37 @@ import com.amazonaws.metrics.RequestMetricCollector;
  * This class is instantiated instead of {@link AWSRequestMetrics} when request
  * metric collection is required during a particular service request/response
  * cycle.
+ * <p>
+ * The events, counters and properties of the predefined {@link Field}s are
+ * recorded into arrays indexed by the field ordinal, so that collecting them
+ * for every request involves neither hashing nor boxing; other names fall back
+ * to maps that are only created when first used.
  */
 @NotThreadSafe
 public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
-    /* Stores some key value pairs. */
-    private final Map<String, List<Object>> properties = new HashMap<String, List<Object>>();
-    
-    /* A map to store events that are being profiled. */
-    private final Map<String, TimingInfo> eventsBeingProfiled = new HashMap<String, TimingInfo>();
+    private static final Field[] FIELDS = TimingInfoFullSupport.FIELDS;
+
+    /*
+     * Property values of the predefined fields, indexed by ordinal. A slot
+     * holds the single value of a property, or a list of its values once the
+     * property has been added more than once or has been read.
+     */
+    private final Object[] propertyValues = new Object[FIELDS.length];
+    /* Bit mask of the predefined properties that have been added. */
+    private long propertyMask;
+    /* Bit mask of the predefined properties whose slot holds a list. */
+    private long propertyListMask;
+    /* Stores the key value pairs of other property names; lazily created. */
+    private Map<String, List<Object>> otherProperties;
+
+    /* Start times in nanosecond of the predefined events, indexed by ordinal. */
+    private final long[] eventStartTimeNanos = new long[FIELDS.length];
+    /* Bit mask of the predefined events that have been started. */
+    private long eventMask;
+    /* A map to store other events that are being profiled; lazily created. */
+    private Map<String, TimingInfo> otherEventsBeingProfiled;
+
+    private final TimingInfoFullSupport timingInfoFullSupport;
     /* Latency Logger */
     private static final Log latencyLogger = LogFactory.getLog("com.amazonaws.latency");
     private static final Object KEY_VALUE_SEPARATOR = "=";
@@ -58,6 +81,7 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     public AWSRequestMetricsFullSupport() {
         super(TimingInfo.startTimingFullSupport());
+        this.timingInfoFullSupport = (TimingInfoFullSupport) timingInfo;
     }
     
     /**
@@ -81,14 +105,32 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void startEvent(String eventName) {
+        Field field = TimingInfoFullSupport.fieldOf(eventName);
+        if (field != null) {
+            startEvent(field);
+            return;
+        }
+        if (otherEventsBeingProfiled == null) {
+            otherEventsBeingProfiled = new HashMap<String, TimingInfo>();
+        }
         /* This will overwrite past events */
-        eventsBeingProfiled.put // ignoring the wall clock time
+        otherEventsBeingProfiled.put // ignoring the wall clock time
             (eventName, TimingInfo.startTimingFullSupport(System.nanoTime()));
     }
 
     @Override
     public void startEvent(MetricType f) {
-        startEvent(f.name());
+        if (f instanceof Field) {
+            startEvent((Field) f);
+        } else {
+            startEvent(f.name());
+        }
+    }
+
+    private void startEvent(Field field) {
+        /* This will overwrite past events */
+        eventStartTimeNanos[field.ordinal()] = System.nanoTime();
+        eventMask |= 1L << field.ordinal();
     }
 
     /**
@@ -101,7 +143,14 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void endEvent(String eventName) {
-        TimingInfo event = eventsBeingProfiled.get(eventName);
+        Field field = TimingInfoFullSupport.fieldOf(eventName);
+        if (field != null) {
+            endEvent(field);
+            return;
+        }
+        TimingInfo event = otherEventsBeingProfiled == null
+                         ? null
+                         : otherEventsBeingProfiled.get(eventName);
         /* Somebody tried to end an event that was not started. */
         if (event == null) {
             LogFactory.getLog(getClass()).warn
@@ -118,7 +167,22 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void endEvent(MetricType f) {
-        endEvent(f.name());
+        if (f instanceof Field) {
+            endEvent((Field) f);
+        } else {
+            endEvent(f.name());
+        }
+    }
+
+    private void endEvent(Field field) {
+        /* Somebody tried to end an event that was not started. */
+        if ((eventMask & (1L << field.ordinal())) == 0) {
+            LogFactory.getLog(getClass()).warn
+                ("Trying to end an event which was never started: " + field.name());
+            return;
+        }
+        timingInfoFullSupport.addSubMeasurement(field,
+            eventStartTimeNanos[field.ordinal()], System.nanoTime());
     }
 
     /**
@@ -140,7 +204,11 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void incrementCounter(MetricType f) {
-        incrementCounter(f.name());
+        if (f instanceof Field) {
+            timingInfoFullSupport.incrementCounter((Field) f);
+        } else {
+            incrementCounter(f.name());
+        }
     }
     
     @Override
@@ -150,7 +218,11 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void setCounter(MetricType f, long count) {
-        setCounter(f.name(), count);
+        if (f instanceof Field) {
+            timingInfoFullSupport.setCounter((Field) f, count);
+        } else {
+            setCounter(f.name(), count);
+        }
     }
     
     /**
@@ -169,10 +241,18 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void addProperty(String propertyName, Object value) {
-        List<Object> propertyList = properties.get(propertyName);
+        Field field = TimingInfoFullSupport.fieldOf(propertyName);
+        if (field != null) {
+            addProperty(field, value);
+            return;
+        }
+        if (otherProperties == null) {
+            otherProperties = new HashMap<String, List<Object>>();
+        }
+        List<Object> propertyList = otherProperties.get(propertyName);
         if (propertyList == null) {
             propertyList = new ArrayList<Object>();
-            properties.put(propertyName, propertyList);
+            otherProperties.put(propertyName, propertyList);
         }
         
         propertyList.add(value);
@@ -180,7 +260,50 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void addProperty(MetricType f, Object value) {
-        addProperty(f.name(), value);
+        if (f instanceof Field) {
+            addProperty((Field) f, value);
+        } else {
+            addProperty(f.name(), value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addProperty(Field field, Object value) {
+        int i = field.ordinal();
+        long bit = 1L << i;
+        if ((propertyMask & bit) == 0) {
+            propertyValues[i] = value;
+            propertyMask |= bit;
+        } else if ((propertyListMask & bit) != 0) {
+            ((List<Object>) propertyValues[i]).add(value);
+        } else {
+            List<Object> propertyList = new ArrayList<Object>();
+            propertyList.add(propertyValues[i]);
+            propertyList.add(value);
+            propertyValues[i] = propertyList;
+            propertyListMask |= bit;
+        }
+    }
+
+    /**
+     * Returns the values of the given predefined property, or null if none
+     * has been added; the single value of a property is turned into a list on
+     * first read so that the same list is returned on subsequent reads.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> getProperty(Field field) {
+        int i = field.ordinal();
+        long bit = 1L << i;
+        if ((propertyMask & bit) == 0) {
+            return null;
+        }
+        if ((propertyListMask & bit) == 0) {
+            List<Object> propertyList = new ArrayList<Object>();
+            propertyList.add(propertyValues[i]);
+            propertyValues[i] = propertyList;
+            propertyListMask |= bit;
+        }
+        return (List<Object>) propertyValues[i];
     }
 
     @Override
@@ -188,8 +311,16 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
         if (latencyLogger.isInfoEnabled()) {
             StringBuilder builder = new StringBuilder();
 
-            for (Entry<String, List<Object>> entry : properties.entrySet()) {
-                keyValueFormat(entry.getKey(), entry.getValue(), builder);
+            for (Field field : FIELDS) {
+                List<Object> propertyList = getProperty(field);
+                if (propertyList != null) {
+                    keyValueFormat(field.name(), propertyList, builder);
+                }
+            }
+            if (otherProperties != null) {
+                for (Entry<String, List<Object>> entry : otherProperties.entrySet()) {
+                    keyValueFormat(entry.getKey(), entry.getValue(), builder);
+                }
             }
 
             for (Entry<String, Number> entry : timingInfo.getAllCounters()
@@ -210,12 +341,16 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public List<Object> getProperty(String propertyName){
-    	return properties.get(propertyName);
+        Field field = TimingInfoFullSupport.fieldOf(propertyName);
+        if (field != null) {
+            return getProperty(field);
+        }
+        return otherProperties == null ? null : otherProperties.get(propertyName);
     }
 
     @Override
     public List<Object> getProperty(MetricType f){
-        return getProperty(f.name());
+        return f instanceof Field ? getProperty((Field) f) : getProperty(f.name());
     }
 
     /** Always returns true. */
@@ -20,12 +20,13 @@ package com.amazonaws.util;
 import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.Locale;
 
 /**
  * Utilities for encoding and decoding binary data to and from different forms.
  */
 public class BinaryUtils {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /**
      * Converts byte data to a Hex-encoded string.
      *
@@ -35,19 +36,12 @@ public class BinaryUtils {
      * @return hex-encoded string.
      */
     public static String toHex(byte[] data) {
-        StringBuilder sb = new StringBuilder(data.length * 2);
-        for (int i = 0; i < data.length; i++) {
-            String hex = Integer.toHexString(data[i]);
-            if (hex.length() == 1) {
-                // Append leading zero.
-                sb.append("0");
-            } else if (hex.length() == 8) {
-                // Remove ff prefix from negative numbers.
-                hex = hex.substring(6);
-            }
-            sb.append(hex);
+        char[] hex = new char[data.length * 2];
+        for (int i = 0, j = 0; i < data.length; i++) {
+            hex[j++] = HEX_DIGITS[(data[i] >> 4) & 0xF];
+            hex[j++] = HEX_DIGITS[data[i] & 0xF];
         }
-        return sb.toString().toLowerCase(Locale.getDefault());
+        return new String(hex);
     }
 
     /**
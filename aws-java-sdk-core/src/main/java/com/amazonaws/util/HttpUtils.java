@@ -86,6 +86,9 @@ public class HttpUtils {
         if (value == null) {
             return "";
         }
+        if (isUnreserved(value, path)) {
+            return value;
+        }
 
         try {
             String encoded = URLEncoder.encode(value, DEFAULT_ENCODING);
@@ -117,6 +120,25 @@ public class HttpUtils {
         }
     }
 
+    /**
+     * Returns true if the given value only consists of characters that
+     * {@link #urlEncode(String, boolean)} leaves as they are, so that it
+     * doesn't need to be encoded.
+     */
+    private static boolean isUnreserved(final String value, final boolean path) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~'
+                    || (path && c == '/')) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Returns true if the specified URI is using a non-standard port (i.e. any
      * port other than 80 for HTTP URIs or any port other than 443 for HTTPS
@@ -16,10 +16,12 @@ package com.amazonaws.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.http.annotation.NotThreadSafe;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.internal.ChannelTransferable;
 import com.amazonaws.internal.SdkFilterInputStream;
 
 /**
@@ -27,7 +29,8 @@ import com.amazonaws.internal.SdkFilterInputStream;
  * underlying input stream is the same as the expected total.
  */
 @NotThreadSafe
-public class LengthCheckInputStream extends SdkFilterInputStream {
+public class LengthCheckInputStream extends SdkFilterInputStream
+        implements ChannelTransferable {
     public static final boolean INCLUDE_SKIPPED_BYTES = true;
     public static final boolean EXCLUDE_SKIPPED_BYTES = false;
     /**
@@ -111,6 +114,31 @@ public class LengthCheckInputStream extends SdkFilterInputStream {
         return readLen;
     }
 
+    @Override
+    public boolean isChannelTransferable() {
+        return in instanceof ChannelTransferable
+            && ((ChannelTransferable) in).isChannelTransferable();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws AmazonClientException
+     *             if the data length transferred has exceeded the expected
+     *             total, or if the total data length is not the same as the
+     *             expected total.
+     */
+    @Override
+    public long transferTo(WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (!isChannelTransferable())
+            throw new IllegalStateException();
+        long transferred = ((ChannelTransferable) in).transferTo(target, maxCount);
+        dataLength += transferred >= 0 ? transferred : 0;
+        checkLength(transferred == -1);
+        return transferred;
+    }
+
     @Override
     public void mark(int readlimit) {
         if (markSupported()) {
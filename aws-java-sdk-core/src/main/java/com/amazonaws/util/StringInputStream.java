@@ -17,14 +17,20 @@ import static com.amazonaws.util.StringUtils.UTF8;
 
 import java.io.ByteArrayInputStream;
 import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+
+import com.amazonaws.internal.ContentDigestCache;
+import com.amazonaws.internal.DigestableContent;
 
 /**
  * Simple wrapper for ByteArrayInputStream that will automatically encode the
  * string as UTF-8 data, and still allows access to the original string.
  */
-public class StringInputStream extends ByteArrayInputStream {
+public class StringInputStream extends ByteArrayInputStream implements
+        DigestableContent {
 
     private final String string;
+    private final ContentDigestCache digestCache = new ContentDigestCache();
 
     public StringInputStream(String s) throws UnsupportedEncodingException {
         super(s.getBytes(UTF8));
@@ -41,4 +47,9 @@ public class StringInputStream extends ByteArrayInputStream {
     public String getString() {
         return string;
     }
+
+    @Override
+    public synchronized byte[] digestRemaining(MessageDigest md) {
+        return digestCache.digest(md, buf, pos, count);
+    }
 }
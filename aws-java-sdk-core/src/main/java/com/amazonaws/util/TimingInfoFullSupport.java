@@ -15,6 +15,7 @@
 package com.amazonaws.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,8 @@ import java.util.Map;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.annotation.NotThreadSafe;
 
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
 /**
  * In contrast to {@link TimingInfo}, which is intended to be a minimal support
  * of the timing info, this class is the full support of timing info including
@@ -30,11 +33,57 @@ import org.apache.http.annotation.NotThreadSafe;
  * This class is instantiated instead of {@link TimingInfo} when
  * request metric collection is required during a particular service
  * request/response cycle.
+ * <p>
+ * Counters and sub-measurements of the predefined {@link Field}s, which are
+ * the ones recorded for every request, are kept in arrays indexed by the
+ * field ordinal rather than in maps keyed by name, so that recording them
+ * neither hashes nor boxes. Other names fall back to maps that are only
+ * created when first used. The {@link TimingInfo} and collection views
+ * returned by the getters are materialized on demand.
  */
 @NotThreadSafe
 class TimingInfoFullSupport extends TimingInfo {
-    private final Map<String, List<TimingInfo>> subMeasurementsByName = new HashMap<String, List<TimingInfo>>();
-    private final Map<String, Number> countersByName = new HashMap<String, Number>();
+    /**
+     * The predefined fields; their number must not exceed the number of bits
+     * in a long, as the presence of a value is tracked in a bit mask.
+     */
+    static final Field[] FIELDS = Field.values();
+    private static final Map<String, Field> FIELDS_BY_NAME = new HashMap<String, Field>();
+    static {
+        for (Field f : FIELDS) {
+            FIELDS_BY_NAME.put(f.name(), f);
+        }
+    }
+    /** Number of longs per entry in the sub-measurement log. */
+    private static final int ENTRY_SIZE = 3;
+    private static final int INITIAL_ENTRIES = 8;
+
+    /* Counter values of the predefined fields, indexed by ordinal. */
+    private final long[] counters = new long[FIELDS.length];
+    /* Bit mask of the predefined counters that have been set. */
+    private long counterMask;
+    /*
+     * Bit mask of the predefined counters last set via incrementCounter, which
+     * are reported as an Integer rather than a Long.
+     */
+    private long intCounterMask;
+    /* Counters of names other than the predefined fields; lazily created. */
+    private Map<String, Number> otherCounters;
+
+    /*
+     * Log of sub-measurements in the order added; each entry consists of the
+     * key, the start time and the end time in nanosecond. The key is the
+     * ordinal of a predefined field, or FIELDS.length plus the index of the
+     * name in otherSubMeasurementNames.
+     */
+    private long[] subMeasurements;
+    private int subMeasurementCount;
+    /*
+     * The TimingInfo of each entry in the log, either as given by the caller
+     * or as materialized on first read; lazily created.
+     */
+    private TimingInfo[] subMeasurementTimings;
+    private List<String> otherSubMeasurementNames;
 
     /**
      * A private ctor to facilitate the deprecation of using millisecond and
@@ -53,20 +102,33 @@ class TimingInfoFullSupport extends TimingInfo {
         super(startEpochTimeMilli, startTimeNano, endTimeNano);
     }
 
+    /**
+     * Returns the predefined field of the given name, or null if there is
+     * none.
+     */
+    static Field fieldOf(String name) {
+        return name == null ? null : FIELDS_BY_NAME.get(name);
+    }
+
+    /**
+     * Records a sub-measurement of a predefined field without allocating a
+     * {@link TimingInfo}.
+     */
+    void addSubMeasurement(Field field, long startTimeNano, long endTimeNano) {
+        append(field.ordinal(), startTimeNano, endTimeNano);
+    }
+
     @Override
     public void addSubMeasurement(String subMeasurementName, TimingInfo ti) {
-        List<TimingInfo> timings = subMeasurementsByName.get(subMeasurementName);
-        if (timings == null) {
-            timings = new ArrayList<TimingInfo>();
-            subMeasurementsByName.put(subMeasurementName, timings);
-        }
-        if (ti.isEndTimeKnown()) {
-            timings.add(ti);
-        } else {
+        if (!ti.isEndTimeKnown()) {
             LogFactory.getLog(getClass()).debug(
                 "Skip submeasurement timing info with no end time for "
                 + subMeasurementName);
+            return;
         }
+        int index = append(keyOf(subMeasurementName, true),
+                ti.getStartTimeNano(), ti.getEndTimeNano());
+        timingsFor(index)[index] = ti;
     }
 
     @Override
@@ -76,66 +138,222 @@ class TimingInfoFullSupport extends TimingInfo {
 
     @Override
     public TimingInfo getSubMeasurement(String subMesurementName, int index) {
-
-        List<TimingInfo> timings = subMeasurementsByName.get(subMesurementName);
-        if (index < 0 || timings == null || timings.size() == 0
-                || index >= timings.size()) {
+        long key = keyOf(subMesurementName, false);
+        if (key < 0 || index < 0) {
             return null;
         }
-
-        return timings.get(index);
+        for (int i = 0; i < subMeasurementCount; i++) {
+            if (subMeasurements[i * ENTRY_SIZE] == key && index-- == 0) {
+                return timingOf(i);
+            }
+        }
+        return null;
     }
 
     @Override
     public TimingInfo getLastSubMeasurement(String subMeasurementName) {
-
-        if (subMeasurementsByName == null || subMeasurementsByName.size() == 0) {
+        long key = keyOf(subMeasurementName, false);
+        if (key < 0) {
             return null;
         }
-
-        List<TimingInfo> timings = subMeasurementsByName.get(subMeasurementName);
-        if (timings == null || timings.size() == 0) {
-            return null;
+        for (int i = subMeasurementCount - 1; i >= 0; i--) {
+            if (subMeasurements[i * ENTRY_SIZE] == key) {
+                return timingOf(i);
+            }
         }
-
-        return timings.get(timings.size() - 1);
+        return null;
     }
 
     @Override
     public List<TimingInfo> getAllSubMeasurements(String subMeasurementName) {
-        return subMeasurementsByName.get(subMeasurementName);
+        long key = keyOf(subMeasurementName, false);
+        if (key < 0) {
+            return null;
+        }
+        List<TimingInfo> timings = null;
+        for (int i = 0; i < subMeasurementCount; i++) {
+            if (subMeasurements[i * ENTRY_SIZE] == key) {
+                if (timings == null) {
+                    timings = new ArrayList<TimingInfo>();
+                }
+                timings.add(timingOf(i));
+            }
+        }
+        return timings;
     }
 
+    /**
+     * Returns a snapshot of all sub-measurements grouped by name; changes to
+     * the returned map are not reflected in this timing info.
+     */
     @Override
     public Map<String, List<TimingInfo>> getSubMeasurementsByName() {
-        return subMeasurementsByName;
+        Map<String, List<TimingInfo>> byName = new HashMap<String, List<TimingInfo>>();
+        for (int i = 0; i < subMeasurementCount; i++) {
+            String name = nameOf(subMeasurements[i * ENTRY_SIZE]);
+            List<TimingInfo> timings = byName.get(name);
+            if (timings == null) {
+                timings = new ArrayList<TimingInfo>();
+                byName.put(name, timings);
+            }
+            timings.add(timingOf(i));
+        }
+        return byName;
     }
 
     @Override
     public Number getCounter(String key) {
-        return countersByName.get(key);
+        Field field = fieldOf(key);
+        if (field == null) {
+            return otherCounters == null ? null : otherCounters.get(key);
+        }
+        return getCounter(field);
     }
 
+    /**
+     * Returns a snapshot of all counters; changes to the returned map are not
+     * reflected in this timing info.
+     */
     @Override
     public Map<String, Number> getAllCounters() {
-        return countersByName;
+        Map<String, Number> all = otherCounters == null
+                ? new HashMap<String, Number>()
+                : new HashMap<String, Number>(otherCounters);
+        for (Field field : FIELDS) {
+            Number counter = getCounter(field);
+            if (counter != null) {
+                all.put(field.name(), counter);
+            }
+        }
+        return all;
     }
 
     @Override
     public void setCounter(String key, long count) {
-        countersByName.put(key, count);
+        Field field = fieldOf(key);
+        if (field == null) {
+            otherCounters().put(key, count);
+        } else {
+            setCounter(field, count);
+        }
     }
 
     @Override
     public void incrementCounter(String key) {
+        Field field = fieldOf(key);
+        if (field == null) {
+            int count = 0;
+            Number counter = getCounter(key);
+            if (counter != null) {
+                count = counter.intValue();
+            }
+            otherCounters().put(key, ++count);
+        } else {
+            incrementCounter(field);
+        }
+    }
+
+    Number getCounter(Field field) {
+        long bit = 1L << field.ordinal();
+        if ((counterMask & bit) == 0) {
+            return null;
+        }
+        long count = counters[field.ordinal()];
+        if ((intCounterMask & bit) == 0) {
+            return Long.valueOf(count);
+        }
+        return Integer.valueOf((int) count);
+    }
 
-        int count = 0;
-        Number counter = getCounter(key);
+    void setCounter(Field field, long count) {
+        long bit = 1L << field.ordinal();
+        counters[field.ordinal()] = count;
+        counterMask |= bit;
+        intCounterMask &= ~bit;
+    }
 
-        if (counter != null) {
-            count = counter.intValue();
+    void incrementCounter(Field field) {
+        long bit = 1L << field.ordinal();
+        int count = (counterMask & bit) == 0 ? 0 : (int) counters[field.ordinal()];
+        counters[field.ordinal()] = ++count;
+        counterMask |= bit;
+        intCounterMask |= bit;
+    }
+
+    private Map<String, Number> otherCounters() {
+        if (otherCounters == null) {
+            otherCounters = new HashMap<String, Number>();
         }
+        return otherCounters;
+    }
+
+    /**
+     * Appends an entry to the sub-measurement log, and returns its index.
+     */
+    private int append(long key, long startTimeNano, long endTimeNano) {
+        if (subMeasurements == null) {
+            subMeasurements = new long[INITIAL_ENTRIES * ENTRY_SIZE];
+        } else if (subMeasurementCount * ENTRY_SIZE == subMeasurements.length) {
+            subMeasurements = Arrays.copyOf(subMeasurements, subMeasurements.length * 2);
+        }
+        int offset = subMeasurementCount * ENTRY_SIZE;
+        subMeasurements[offset] = key;
+        subMeasurements[offset + 1] = startTimeNano;
+        subMeasurements[offset + 2] = endTimeNano;
+        return subMeasurementCount++;
+    }
+
+    /**
+     * Returns the TimingInfo array covering the given index of the
+     * sub-measurement log, creating or growing it as necessary.
+     */
+    private TimingInfo[] timingsFor(int index) {
+        if (subMeasurementTimings == null) {
+            subMeasurementTimings = new TimingInfo[subMeasurements.length / ENTRY_SIZE];
+        } else if (index >= subMeasurementTimings.length) {
+            subMeasurementTimings = Arrays.copyOf(subMeasurementTimings,
+                    subMeasurements.length / ENTRY_SIZE);
+        }
+        return subMeasurementTimings;
+    }
+
+    private TimingInfo timingOf(int index) {
+        TimingInfo[] timings = timingsFor(index);
+        TimingInfo ti = timings[index];
+        if (ti == null) {
+            int offset = index * ENTRY_SIZE;
+            ti = timings[index] = TimingInfo.unmodifiableTimingInfo(
+                    subMeasurements[offset + 1],
+                    Long.valueOf(subMeasurements[offset + 2]));
+        }
+        return ti;
+    }
+
+    /**
+     * Returns the key of the given sub-measurement name in the log, or -1 if
+     * the name is unknown and the key is not to be created.
+     */
+    private long keyOf(String name, boolean create) {
+        Field field = fieldOf(name);
+        if (field != null) {
+            return field.ordinal();
+        }
+        int index = otherSubMeasurementNames == null
+                  ? -1
+                  : otherSubMeasurementNames.indexOf(name);
+        if (index < 0 && create) {
+            if (otherSubMeasurementNames == null) {
+                otherSubMeasurementNames = new ArrayList<String>();
+            }
+            otherSubMeasurementNames.add(name);
+            index = otherSubMeasurementNames.size() - 1;
+        }
+        return index < 0 ? -1 : FIELDS.length + index;
+    }
 
-        setCounter(key, ++count);
+    private String nameOf(long key) {
+        return key < FIELDS.length
+             ? FIELDS[(int) key].name()
+             : otherSubMeasurementNames.get((int) key - FIELDS.length);
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2011-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Arrays;
+
+import com.amazonaws.internal.ByteArrayContentInputStream;
+
+/**
+ * A {@link Writer} that encodes the characters written to it as UTF-8 into a
+ * growable byte array, so that request content such as a JSON document can be
+ * written once, straight to the bytes that will be sent, instead of being
+ * built as a string and then encoded into a copy of it.
+ * <p>
+ * The encoded content is available via {@link #toInputStream()}, which doesn't
+ * copy it. Like {@link java.io.StringWriter}, this writer is not thread safe,
+ * and closing it has no effect.
+ */
+public class UTF8ByteArrayWriter extends Writer {
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private byte[] buf;
+    private int count;
+
+    /**
+     * A high surrogate written at the end of a previous call, whose low
+     * surrogate is expected to start the next one; or zero.
+     */
+    private char highSurrogate;
+
+    public UTF8ByteArrayWriter() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity
+     *            the initial capacity of the byte array, in bytes
+     */
+    public UTF8ByteArrayWriter(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Negative initial capacity: "
+                    + initialCapacity);
+        buf = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int c) {
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        if (off < 0 || len < 0 || off + len > cbuf.length)
+            throw new IndexOutOfBoundsException();
+        ensureCapacity(count + len);
+        for (int i = off, end = off + len; i < end; i++)
+            encode(cbuf[i]);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        if (off < 0 || len < 0 || off + len > str.length())
+            throw new IndexOutOfBoundsException();
+        ensureCapacity(count + len);
+        for (int i = off, end = off + len; i < end; i++)
+            encode(str.charAt(i));
+    }
+
+    @Override
+    public UTF8ByteArrayWriter append(CharSequence csq) {
+        String str = String.valueOf(csq);
+        write(str, 0, str.length());
+        return this;
+    }
+
+    private void encode(char c) {
+        if (c < 0x80 && highSurrogate == 0) {
+            // fast path for ASCII, which is most of a JSON document
+            if (count == buf.length)
+                ensureCapacity(count + 1);
+            buf[count++] = (byte) c;
+            return;
+        }
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                ensureCapacity(count + 4);
+                buf[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            writeReplacement();
+        }
+        if (c < 0x80) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) c;
+        } else if (c < 0x800) {
+            ensureCapacity(count + 2);
+            buf[count++] = (byte) (0xC0 | (c >> 6));
+            buf[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            writeReplacement();
+        } else {
+            ensureCapacity(count + 3);
+            buf[count++] = (byte) (0xE0 | (c >> 12));
+            buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buf[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Writes the '?' that {@link String#getBytes(java.nio.charset.Charset)}
+     * substitutes for an unpaired surrogate.
+     */
+    private void writeReplacement() {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) '?';
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length)
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+    }
+
+    /**
+     * Returns the number of bytes written so far, which is the length of the
+     * content returned by {@link #toInputStream()}.
+     */
+    public int size() {
+        return highSurrogate == 0 ? count : count + 1;
+    }
+
+    /**
+     * Returns an input stream over the bytes written so far, without copying
+     * them. Nothing should be written to this writer afterwards.
+     */
+    public InputStream toInputStream() {
+        flushSurrogate();
+        return new ByteArrayContentInputStream(buf, 0, count);
+    }
+
+    /**
+     * Returns a copy of the bytes written so far.
+     */
+    public byte[] toByteArray() {
+        flushSurrogate();
+        return Arrays.copyOf(buf, count);
+    }
+
+    private void flushSurrogate() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            writeReplacement();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, count, StringUtils.UTF8);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+}
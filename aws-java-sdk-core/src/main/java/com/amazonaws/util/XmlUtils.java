@@ -17,14 +17,72 @@ package com.amazonaws.util;
 import java.io.IOException;
 import java.io.InputStream;
 
+import javax.xml.stream.XMLInputFactory;
+
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLReaderFactory;
 
 public class XmlUtils {
 
+    /** Handler that idle cached XML readers are reset to. */
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
+
+    /**
+     * XML reader available for reuse by the current thread, if any. Looking up
+     * and constructing an XML reader is costly compared to parsing a typical
+     * response, so a reader is kept per thread across parses.
+     */
+    private static final ThreadLocal<XMLReader> xmlReader = new ThreadLocal<XMLReader>();
+
+    /**
+     * XML input factory of the current thread. Factories aren't thread safe,
+     * so having one per thread avoids synchronizing on a shared one.
+     */
+    private static final ThreadLocal<XMLInputFactory> xmlInputFactory = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            return XMLInputFactory.newInstance();
+        }
+    };
+
+    /**
+     * Returns an XML reader for exclusive use by the caller, reusing the one
+     * cached for the current thread if available. The reader should be handed
+     * back via {@link #releaseXMLReader(XMLReader)} once the parse has
+     * completed successfully; a reader that failed to parse a document should
+     * just be dropped.
+     */
+    public static XMLReader getXMLReader() throws SAXException {
+        XMLReader reader = xmlReader.get();
+        if (reader == null)
+            return XMLReaderFactory.createXMLReader();
+        // Nested parses on the same thread get a fresh reader
+        xmlReader.set(null);
+        return reader;
+    }
+
+    /**
+     * Resets the content and error handlers of the given reader, obtained from
+     * {@link #getXMLReader()}, and caches it for reuse by the current thread.
+     */
+    public static void releaseXMLReader(XMLReader reader) {
+        reader.setContentHandler(NO_OP_HANDLER);
+        reader.setErrorHandler(NO_OP_HANDLER);
+        xmlReader.set(reader);
+    }
+
+    /**
+     * Returns the XML input factory of the current thread, which must not be
+     * shared with other threads.
+     */
+    public static XMLInputFactory getXmlInputFactory() {
+        return xmlInputFactory.get();
+    }
+
     public static XMLReader parse(InputStream in, ContentHandler handler)
             throws SAXException, IOException {
 
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.params.CoreProtocolPNames;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Tests of {@link NioHttpTransport} against a {@link StubHttpServer}.
+ */
+@SuppressWarnings("deprecation")
+public class NioHttpTransportTest {
+    private StubHttpServer server;
+    private NioHttpTransport transport;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubHttpServer();
+        transport = new NioHttpTransport(new ClientConfiguration()
+                .withSocketTimeout(10 * 1000), 1);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        transport.shutdown();
+        server.close();
+    }
+
+    @Test
+    public void keepAliveReusesConnection() throws Exception {
+        server.setHandler(StubHttpServer.ok("hello"));
+        for (int i = 0; i < 3; i++) {
+            HttpResponse response = transport.execute(new HttpGet(server.uri("/" + i)), null);
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals("hello", EntityUtils.toString(response.getEntity()));
+        }
+        assertEquals(3, server.getRequests().size());
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    @Test
+    public void connectionClosedByServerIsNotReused() throws Exception {
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                StubHttpServer.write(out, "HTTP/1.1 200 OK\r\nContent-Length: 2\r\n"
+                        + "Connection: close\r\n\r\nok");
+                out.close();
+            }
+        });
+        for (int i = 0; i < 2; i++) {
+            HttpResponse response = transport.execute(new HttpGet(server.uri("/")), null);
+            assertEquals("ok", EntityUtils.toString(response.getEntity()));
+        }
+        assertEquals(2, server.getConnectionCount());
+    }
+
+    @Test
+    public void chunkedResponseIsDecoded() throws Exception {
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                StubHttpServer.write(out, "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n");
+                StubHttpServer.write(out, "5\r\nhello\r\n");
+                StubHttpServer.write(out, "7;ext=1\r\n, world\r\n");
+                StubHttpServer.write(out, "0\r\nTrailer: x\r\n\r\n");
+            }
+        });
+        HttpResponse response = transport.execute(new HttpGet(server.uri("/")), null);
+        assertEquals("hello, world", EntityUtils.toString(response.getEntity()));
+        assertEquals(-1, response.getEntity().getContentLength());
+
+        // The connection remains usable once the last chunk has been read
+        server.setHandler(StubHttpServer.ok("again"));
+        response = transport.execute(new HttpGet(server.uri("/")), null);
+        assertEquals("again", EntityUtils.toString(response.getEntity()));
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    @Test
+    public void contentOfUnknownLengthIsSentChunked() throws Exception {
+        byte[] content = randomBytes(100 * 1000);
+        HttpPut put = new HttpPut(server.uri("/"));
+        put.setEntity(new InputStreamEntity(new ByteArrayInputStream(content), -1));
+        HttpResponse response = transport.execute(put, null);
+        EntityUtils.consume(response.getEntity());
+
+        StubHttpServer.Request request = server.getRequests().get(0);
+        assertEquals("chunked", request.getHeader("Transfer-Encoding"));
+        assertArrayEquals(content, request.content);
+    }
+
+    @Test
+    public void contentIsSentAfterContinue() throws Exception {
+        byte[] content = randomBytes(100 * 1000);
+        HttpResponse response = transport.execute(expectContinuePut(content, 60 * 1000), null);
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        EntityUtils.consume(response.getEntity());
+
+        StubHttpServer.Request request = server.getRequests().get(0);
+        assertEquals("100-continue", request.getHeader("Expect"));
+        assertArrayEquals(content, request.content);
+    }
+
+    @Test
+    public void contentIsNotSentWhenRejectedBeforeContinue() throws Exception {
+        server.setContinueMode(StubHttpServer.ContinueMode.REJECT);
+        HttpResponse response = transport.execute(
+                expectContinuePut(randomBytes(1000 * 1000), 60 * 1000), null);
+        assertEquals(403, response.getStatusLine().getStatusCode());
+        EntityUtils.consume(response.getEntity());
+        assertNull(server.getRequests().get(0).content);
+
+        // The connection isn't reused, as the content was never sent
+        server.setContinueMode(StubHttpServer.ContinueMode.CONTINUE);
+        response = transport.execute(new HttpGet(server.uri("/")), null);
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        assertEquals(2, server.getConnectionCount());
+    }
+
+    @Test
+    public void contentIsSentWithoutContinueOnceWaitElapses() throws Exception {
+        server.setContinueMode(StubHttpServer.ContinueMode.IGNORE);
+        byte[] content = randomBytes(1000);
+        HttpResponse response = transport.execute(expectContinuePut(content, 100), null);
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        EntityUtils.consume(response.getEntity());
+        assertArrayEquals(content, server.getRequests().get(0).content);
+    }
+
+    @Test
+    public void socketTimeoutFailsRequest() throws Exception {
+        transport.shutdown();
+        transport = new NioHttpTransport(new ClientConfiguration()
+                .withSocketTimeout(500), 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        long start = System.currentTimeMillis();
+        try {
+            transport.execute(new HttpGet(server.uri("/")), null);
+            fail("Expected a socket timeout");
+        } catch (SocketTimeoutException expected) {
+        } finally {
+            release.countDown();
+        }
+        assertTrue(System.currentTimeMillis() - start < 5 * 1000);
+    }
+
+    @Test
+    public void connectTimeoutFailsRequest() throws Exception {
+        // A listening socket that never accepts, with its backlog filled up,
+        // leaves further connection attempts pending
+        ServerSocket unresponsive = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+        List<Socket> fillers = new ArrayList<Socket>();
+        try {
+            boolean full = false;
+            for (int i = 0; i < 16 && !full; i++) {
+                Socket filler = new Socket();
+                fillers.add(filler);
+                try {
+                    filler.connect(unresponsive.getLocalSocketAddress(), 200);
+                } catch (SocketTimeoutException e) {
+                    full = true;
+                }
+            }
+            assumeTrue(full);
+
+            transport.shutdown();
+            transport = new NioHttpTransport(new ClientConfiguration()
+                    .withConnectionTimeout(500), 1);
+            InetSocketAddress address = (InetSocketAddress) unresponsive.getLocalSocketAddress();
+            long start = System.currentTimeMillis();
+            try {
+                transport.execute(new HttpGet("http://127.0.0.1:" + address.getPort() + "/"), null);
+                fail("Expected a connect timeout");
+            } catch (ConnectTimeoutException expected) {
+            }
+            assertTrue(System.currentTimeMillis() - start < 5 * 1000);
+        } finally {
+            for (Socket filler : fillers)
+                filler.close();
+            unresponsive.close();
+        }
+    }
+
+    @Test
+    public void cancellingAsyncRequestAbortsIt() throws Exception {
+        final CountDownLatch received = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                received.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        RecordingCallback callback = new RecordingCallback();
+        Future<HttpResponse> future = transport.execute(new HttpGet(server.uri("/")), null, callback);
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(true));
+        release.countDown();
+        assertTrue(future.isCancelled());
+        assertTrue(callback.done.await(5, TimeUnit.SECONDS));
+        assertTrue(callback.cancelled);
+
+        // The aborted connection is discarded rather than reused
+        server.setHandler(StubHttpServer.ok("after"));
+        HttpResponse response = transport.execute(new HttpGet(server.uri("/")), null);
+        assertEquals("after", EntityUtils.toString(response.getEntity()));
+        assertEquals(2, server.getConnectionCount());
+        assertEquals(0, transport.getConnPoolControl().getTotalStats().getLeased());
+    }
+
+    @Test
+    public void asyncRequestContentIsStreamed() throws Exception {
+        final byte[] content = randomBytes(4 * 1000 * 1000);
+        final AtomicReference<Thread> writer = new AtomicReference<Thread>();
+        HttpPut put = new HttpPut(server.uri("/"));
+        put.setEntity(new AbstractHttpEntity() {
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+
+            @Override
+            public long getContentLength() {
+                return content.length;
+            }
+
+            @Override
+            public java.io.InputStream getContent() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                writer.set(Thread.currentThread());
+                for (int off = 0; off < content.length; off += 1000)
+                    out.write(content, off, Math.min(1000, content.length - off));
+            }
+
+            @Override
+            public boolean isStreaming() {
+                return true;
+            }
+        });
+        RecordingCallback callback = new RecordingCallback();
+        Future<HttpResponse> future = transport.execute(put, null, callback);
+        assertEquals(200, future.get(10, TimeUnit.SECONDS).getStatusLine().getStatusCode());
+        assertTrue(callback.done.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), writer.get());
+        assertArrayEquals(content, server.getRequests().get(0).content);
+    }
+
+    @Test
+    public void asyncRequestFailsIfContentCannotBeProduced() throws Exception {
+        HttpPut put = new HttpPut(server.uri("/"));
+        put.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[10]), 100));
+        RecordingCallback callback = new RecordingCallback();
+        Future<HttpResponse> future = transport.execute(put, null, callback);
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected the request to fail");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IOException);
+        }
+        assertTrue(callback.done.await(5, TimeUnit.SECONDS));
+        assertTrue(callback.failure instanceof IOException);
+    }
+
+    @Test
+    public void requestsGoThroughProxy() throws Exception {
+        transport.shutdown();
+        transport = new NioHttpTransport(new ClientConfiguration()
+                .withProxyHost("127.0.0.1").withProxyPort(server.getPort())
+                .withProxyUsername("user").withProxyPassword("pass"), 1);
+        server.setHandler(StubHttpServer.ok("proxied"));
+        HttpResponse response = transport.execute(
+                new HttpGet("http://example.invalid:8080/path?q=1"), null);
+        assertEquals("proxied", EntityUtils.toString(response.getEntity()));
+
+        StubHttpServer.Request request = server.getRequests().get(0);
+        assertEquals("http://example.invalid:8080/path?q=1", request.target);
+        assertEquals("example.invalid:8080", request.getHeader("Host"));
+        assertEquals("Basic dXNlcjpwYXNz", request.getHeader("Proxy-Authorization"));
+    }
+
+    @Test
+    public void httpsRequestsTunnelThroughProxy() throws Exception {
+        transport.shutdown();
+        transport = new NioHttpTransport(new ClientConfiguration()
+                .withProxyHost("127.0.0.1").withProxyPort(server.getPort())
+                .withProxyUsername("user").withProxyPassword("pass"), 1);
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                StubHttpServer.write(out, "HTTP/1.1 407 Proxy Authentication Required\r\n"
+                        + "Content-Length: 0\r\n\r\n");
+            }
+        });
+        try {
+            transport.execute(new HttpGet("https://example.invalid/path"), null);
+            fail("Expected the tunnel to be refused");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("407"));
+        }
+
+        StubHttpServer.Request request = server.getRequests().get(0);
+        assertEquals("CONNECT", request.method);
+        assertEquals("example.invalid:443", request.target);
+        assertEquals("Basic dXNlcjpwYXNz", request.getHeader("Proxy-Authorization"));
+    }
+
+    @Test
+    public void responseWithoutContentCompletesImmediately() throws Exception {
+        server.setHandler(new StubHttpServer.Handler() {
+            @Override
+            public void handle(StubHttpServer.Request request, OutputStream out) throws IOException {
+                StubHttpServer.write(out, "HTTP/1.1 204 No Content\r\n\r\n");
+            }
+        });
+        HttpResponse response = transport.execute(new HttpPut(server.uri("/")), null);
+        assertEquals(204, response.getStatusLine().getStatusCode());
+        assertNull(response.getEntity());
+        assertEquals("0", server.getRequests().get(0).getHeader("Content-Length"));
+        assertFalse(server.getRequests().get(0).headers.containsKey("expect"));
+    }
+
+    private HttpPut expectContinuePut(byte[] content, int waitMillis) {
+        HttpPut put = new HttpPut(server.uri("/"));
+        put.getParams().setParameter(CoreProtocolPNames.USE_EXPECT_CONTINUE, true);
+        put.getParams().setParameter(CoreProtocolPNames.WAIT_FOR_CONTINUE, waitMillis);
+        put.setEntity(new ByteArrayEntity(content));
+        return put;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class RecordingCallback implements FutureCallback<HttpResponse> {
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Exception failure;
+        volatile boolean cancelled;
+
+        @Override
+        public void completed(HttpResponse result) {
+            try {
+                EntityUtils.consume(result.getEntity());
+            } catch (IOException e) {
+                failure = e;
+            }
+            done.countDown();
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            failure = ex;
+            done.countDown();
+        }
+
+        @Override
+        public void cancelled() {
+            cancelled = true;
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.nio;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.util.StringUtils;
+
+/**
+ * A minimal HTTP/1.1 server on the loopback interface, working on raw sockets
+ * so that tests control the exact bytes of each response, including their
+ * framing and timing. Requests are read in full, according to their framing,
+ * before being handed to the {@link Handler}; connections are kept alive
+ * unless the request or the handler says otherwise.
+ */
+class StubHttpServer implements Closeable {
+    /** How requests expecting a 100 (Continue) response are answered. */
+    enum ContinueMode {
+        /** Send 100 (Continue), then read the content. */
+        CONTINUE,
+        /** Send nothing and wait for the content, like an older server. */
+        IGNORE,
+        /** Reject the request with a final response, without reading the content. */
+        REJECT
+    }
+
+    /** Writes the response to a request that has been read in full. */
+    interface Handler {
+        void handle(Request request, OutputStream out) throws IOException;
+    }
+
+    /** A request as received by the server. */
+    static final class Request {
+        final String method;
+        final String target;
+        /** The headers, keyed by lower-case name. */
+        final Map<String, String> headers;
+        /** The content, or null if it hasn't been read. */
+        final byte[] content;
+
+        Request(String method, String target, Map<String, String> headers,
+                byte[] content) {
+            this.method = method;
+            this.target = target;
+            this.headers = headers;
+            this.content = content;
+        }
+
+        String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final List<Request> requests =
+            Collections.synchronizedList(new ArrayList<Request>());
+    private final List<Socket> sockets =
+            Collections.synchronizedList(new ArrayList<Socket>());
+    private volatile Handler handler = ok("");
+    private volatile ContinueMode continueMode = ContinueMode.CONTINUE;
+
+    /** Starts a server on an ephemeral port. */
+    StubHttpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                acceptConnections();
+            }
+        });
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** Returns the URI of the given path on this server. */
+    String uri(String path) {
+        return "http://127.0.0.1:" + getPort() + path;
+    }
+
+    void setHandler(Handler handler) {
+        this.handler = handler;
+    }
+
+    void setContinueMode(ContinueMode continueMode) {
+        this.continueMode = continueMode;
+    }
+
+    /** Returns the number of connections accepted so far. */
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /** Returns the requests received so far, in order. */
+    List<Request> getRequests() {
+        synchronized (requests) {
+            return new ArrayList<Request>(requests);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        synchronized (sockets) {
+            for (Socket socket : sockets)
+                socket.close();
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return; // closed
+            }
+            connectionCount.incrementAndGet();
+            sockets.add(socket);
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        serve(socket);
+                    } catch (IOException e) {
+                        // the client went away, or the server is closing
+                    } finally {
+                        try {
+                            socket.close();
+                        } catch (IOException ignore) {
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    private void serve(Socket socket) throws IOException {
+        InputStream in = new BufferedInputStream(socket.getInputStream());
+        OutputStream out = socket.getOutputStream();
+        while (true) {
+            List<String> head = readHead(in);
+            if (head == null)
+                return;
+            String[] requestLine = head.get(0).split(" ");
+            Map<String, String> headers = new HashMap<String, String>();
+            for (String line : head.subList(1, head.size())) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH),
+                        line.substring(colon + 1).trim());
+            }
+            if ("100-continue".equalsIgnoreCase(headers.get("expect"))) {
+                ContinueMode mode = continueMode;
+                if (mode == ContinueMode.REJECT) {
+                    requests.add(new Request(requestLine[0], requestLine[1], headers, null));
+                    write(out, "HTTP/1.1 403 Forbidden\r\nContent-Length: 0\r\n"
+                            + "Connection: close\r\n\r\n");
+                    return;
+                }
+                if (mode == ContinueMode.CONTINUE)
+                    write(out, "HTTP/1.1 100 Continue\r\n\r\n");
+            }
+            byte[] content = readContent(in, headers);
+            Request request = new Request(requestLine[0], requestLine[1], headers, content);
+            requests.add(request);
+            handler.handle(request, out);
+            out.flush();
+            if ("close".equalsIgnoreCase(headers.get("connection")))
+                return;
+        }
+    }
+
+    /** Reads the lines of a request head; or returns null at the end of input. */
+    private static List<String> readHead(InputStream in) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        while (true) {
+            String line = readLine(in);
+            if (line == null)
+                return null;
+            if (line.length() == 0) {
+                if (lines.isEmpty())
+                    continue;
+                return lines;
+            }
+            lines.add(line);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0)
+                return null;
+            if (b != '\r')
+                sb.append((char) b);
+        }
+        return sb.toString();
+    }
+
+    private static byte[] readContent(InputStream in, Map<String, String> headers)
+            throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            while (true) {
+                int size = Integer.parseInt(readLine(in).split(";")[0].trim(), 16);
+                if (size == 0) {
+                    while (readLine(in).length() > 0) {
+                    }
+                    return content.toByteArray();
+                }
+                copy(in, content, size);
+                readLine(in);
+            }
+        }
+        String length = headers.get("content-length");
+        if (length != null)
+            copy(in, content, Long.parseLong(length));
+        return content.toByteArray();
+    }
+
+    private static void copy(InputStream in, OutputStream out, long count)
+            throws IOException {
+        byte[] buffer = new byte[8192];
+        while (count > 0) {
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, count));
+            if (n < 0)
+                throw new IOException("Unexpected end of request content");
+            out.write(buffer, 0, n);
+            count -= n;
+        }
+    }
+
+    static void write(OutputStream out, String s) throws IOException {
+        out.write(s.getBytes(StringUtils.UTF8));
+        out.flush();
+    }
+
+    /** Returns a handler responding with status 200 and the given body. */
+    static Handler ok(final String body) {
+        return new Handler() {
+            @Override
+            public void handle(Request request, OutputStream out) throws IOException {
+                byte[] bytes = body.getBytes(StringUtils.UTF8);
+                write(out, "HTTP/1.1 200 OK\r\nContent-Length: " + bytes.length + "\r\n\r\n");
+                out.write(bytes);
+            }
+        };
+    }
+}
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.datapipeline.model.*;
+import com.amazonaws.services.datapipeline.model.transform.*;
 
 /**
  * Asynchronous client for accessing DataPipeline.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * AWS Data Pipeline is a web service that configures and manages a
  * data-driven workflow called a pipeline. AWS Data Pipeline handles the
@@ -330,11 +334,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ActivatePipelineResult> activatePipelineAsync(final ActivatePipelineRequest activatePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivatePipelineResult>() {
-            public ActivatePipelineResult call() throws Exception {
-                return activatePipeline(activatePipelineRequest);
-        }
-    });
+        return activatePipelineComposableAsync(activatePipelineRequest);
     }
 
     /**
@@ -374,19 +374,29 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ActivatePipelineRequest activatePipelineRequest,
             final AsyncHandler<ActivatePipelineRequest, ActivatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivatePipelineResult>() {
+        return withAsyncHandler(activatePipelineComposableAsync(activatePipelineRequest),
+                activatePipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ActivatePipeline operation like
+     * {@link #activatePipelineAsync(ActivatePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param activatePipelineRequest Container for the necessary parameters
+     *           to execute the ActivatePipeline operation on DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         ActivatePipeline service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<ActivatePipelineResult> activatePipelineComposableAsync(final ActivatePipelineRequest activatePipelineRequest) {
+        return executeAsync(executorService, new Callable<ActivatePipelineResult>() {
             public ActivatePipelineResult call() throws Exception {
-              ActivatePipelineResult result;
-                try {
-                result = activatePipeline(activatePipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(activatePipelineRequest, result);
-                 return result;
-        }
-    });
+                return activatePipeline(activatePipelineRequest);
+            }
+        }, activatePipelineRequest,
+                new ActivatePipelineRequestMarshaller(), new ActivatePipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -413,11 +423,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ListPipelinesResult> listPipelinesAsync(final ListPipelinesRequest listPipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
-            public ListPipelinesResult call() throws Exception {
-                return listPipelines(listPipelinesRequest);
-        }
-    });
+        return listPipelinesComposableAsync(listPipelinesRequest);
     }
 
     /**
@@ -450,19 +456,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ListPipelinesRequest listPipelinesRequest,
             final AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return withAsyncHandler(listPipelinesComposableAsync(listPipelinesRequest),
+                listPipelinesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPipelines operation like
+     * {@link #listPipelinesAsync(ListPipelinesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listPipelinesRequest Container for the necessary parameters to
+     *           execute the ListPipelines operation on DataPipeline.
+     *
+     * @return A composable future for the response from the ListPipelines
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<ListPipelinesResult> listPipelinesComposableAsync(final ListPipelinesRequest listPipelinesRequest) {
+        return executeAsync(executorService, new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
-              ListPipelinesResult result;
-                try {
-                result = listPipelines(listPipelinesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPipelinesRequest, result);
-                 return result;
-        }
-    });
+                return listPipelines(listPipelinesRequest);
+            }
+        }, listPipelinesRequest,
+                new ListPipelinesRequestMarshaller(), new ListPipelinesResultJsonUnmarshaller());
     }
     
     /**
@@ -501,11 +516,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ReportTaskProgressResult> reportTaskProgressAsync(final ReportTaskProgressRequest reportTaskProgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskProgressResult>() {
-            public ReportTaskProgressResult call() throws Exception {
-                return reportTaskProgress(reportTaskProgressRequest);
-        }
-    });
+        return reportTaskProgressComposableAsync(reportTaskProgressRequest);
     }
 
     /**
@@ -550,19 +561,31 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ReportTaskProgressRequest reportTaskProgressRequest,
             final AsyncHandler<ReportTaskProgressRequest, ReportTaskProgressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskProgressResult>() {
+        return withAsyncHandler(reportTaskProgressComposableAsync(reportTaskProgressRequest),
+                reportTaskProgressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReportTaskProgress operation like
+     * {@link #reportTaskProgressAsync(ReportTaskProgressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param reportTaskProgressRequest Container for the necessary
+     *           parameters to execute the ReportTaskProgress operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         ReportTaskProgress service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<ReportTaskProgressResult> reportTaskProgressComposableAsync(final ReportTaskProgressRequest reportTaskProgressRequest) {
+        return executeAsync(executorService, new Callable<ReportTaskProgressResult>() {
             public ReportTaskProgressResult call() throws Exception {
-              ReportTaskProgressResult result;
-                try {
-                result = reportTaskProgress(reportTaskProgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportTaskProgressRequest, result);
-                 return result;
-        }
-    });
+                return reportTaskProgress(reportTaskProgressRequest);
+            }
+        }, reportTaskProgressRequest,
+                new ReportTaskProgressRequestMarshaller(), new ReportTaskProgressResultJsonUnmarshaller());
     }
     
     /**
@@ -590,11 +613,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ValidatePipelineDefinitionResult> validatePipelineDefinitionAsync(final ValidatePipelineDefinitionRequest validatePipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidatePipelineDefinitionResult>() {
-            public ValidatePipelineDefinitionResult call() throws Exception {
-                return validatePipelineDefinition(validatePipelineDefinitionRequest);
-        }
-    });
+        return validatePipelineDefinitionComposableAsync(validatePipelineDefinitionRequest);
     }
 
     /**
@@ -628,19 +647,32 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ValidatePipelineDefinitionRequest validatePipelineDefinitionRequest,
             final AsyncHandler<ValidatePipelineDefinitionRequest, ValidatePipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidatePipelineDefinitionResult>() {
+        return withAsyncHandler(validatePipelineDefinitionComposableAsync(validatePipelineDefinitionRequest),
+                validatePipelineDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ValidatePipelineDefinition operation
+     * like
+     * {@link #validatePipelineDefinitionAsync(ValidatePipelineDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param validatePipelineDefinitionRequest Container for the necessary
+     *           parameters to execute the ValidatePipelineDefinition operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         ValidatePipelineDefinition service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<ValidatePipelineDefinitionResult> validatePipelineDefinitionComposableAsync(final ValidatePipelineDefinitionRequest validatePipelineDefinitionRequest) {
+        return executeAsync(executorService, new Callable<ValidatePipelineDefinitionResult>() {
             public ValidatePipelineDefinitionResult call() throws Exception {
-              ValidatePipelineDefinitionResult result;
-                try {
-                result = validatePipelineDefinition(validatePipelineDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(validatePipelineDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return validatePipelineDefinition(validatePipelineDefinitionRequest);
+            }
+        }, validatePipelineDefinitionRequest,
+                new ValidatePipelineDefinitionRequestMarshaller(), new ValidatePipelineDefinitionResultJsonUnmarshaller());
     }
     
     /**
@@ -681,11 +713,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<PollForTaskResult> pollForTaskAsync(final PollForTaskRequest pollForTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PollForTaskResult>() {
-            public PollForTaskResult call() throws Exception {
-                return pollForTask(pollForTaskRequest);
-        }
-    });
+        return pollForTaskComposableAsync(pollForTaskRequest);
     }
 
     /**
@@ -732,19 +760,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final PollForTaskRequest pollForTaskRequest,
             final AsyncHandler<PollForTaskRequest, PollForTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PollForTaskResult>() {
+        return withAsyncHandler(pollForTaskComposableAsync(pollForTaskRequest),
+                pollForTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PollForTask operation like
+     * {@link #pollForTaskAsync(PollForTaskRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param pollForTaskRequest Container for the necessary parameters to
+     *           execute the PollForTask operation on DataPipeline.
+     *
+     * @return A composable future for the response from the PollForTask
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<PollForTaskResult> pollForTaskComposableAsync(final PollForTaskRequest pollForTaskRequest) {
+        return executeAsync(executorService, new Callable<PollForTaskResult>() {
             public PollForTaskResult call() throws Exception {
-              PollForTaskResult result;
-                try {
-                result = pollForTask(pollForTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(pollForTaskRequest, result);
-                 return result;
-        }
-    });
+                return pollForTask(pollForTaskRequest);
+            }
+        }, pollForTaskRequest,
+                new PollForTaskRequestMarshaller(), new PollForTaskResultJsonUnmarshaller());
     }
     
     /**
@@ -778,11 +815,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<QueryObjectsResult> queryObjectsAsync(final QueryObjectsRequest queryObjectsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryObjectsResult>() {
-            public QueryObjectsResult call() throws Exception {
-                return queryObjects(queryObjectsRequest);
-        }
-    });
+        return queryObjectsComposableAsync(queryObjectsRequest);
     }
 
     /**
@@ -822,19 +855,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final QueryObjectsRequest queryObjectsRequest,
             final AsyncHandler<QueryObjectsRequest, QueryObjectsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryObjectsResult>() {
+        return withAsyncHandler(queryObjectsComposableAsync(queryObjectsRequest),
+                queryObjectsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the QueryObjects operation like
+     * {@link #queryObjectsAsync(QueryObjectsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param queryObjectsRequest Container for the necessary parameters to
+     *           execute the QueryObjects operation on DataPipeline.
+     *
+     * @return A composable future for the response from the QueryObjects
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<QueryObjectsResult> queryObjectsComposableAsync(final QueryObjectsRequest queryObjectsRequest) {
+        return executeAsync(executorService, new Callable<QueryObjectsResult>() {
             public QueryObjectsResult call() throws Exception {
-              QueryObjectsResult result;
-                try {
-                result = queryObjects(queryObjectsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(queryObjectsRequest, result);
-                 return result;
-        }
-    });
+                return queryObjects(queryObjectsRequest);
+            }
+        }, queryObjectsRequest,
+                new QueryObjectsRequestMarshaller(), new QueryObjectsResultJsonUnmarshaller());
     }
     
     /**
@@ -864,12 +906,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<Void> setStatusAsync(final SetStatusRequest setStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setStatus(setStatusRequest);
-                return null;
-        }
-    });
+        return setStatusComposableAsync(setStatusRequest);
     }
 
     /**
@@ -905,18 +942,29 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final SetStatusRequest setStatusRequest,
             final AsyncHandler<SetStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setStatusComposableAsync(setStatusRequest),
+                setStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetStatus operation like
+     * {@link #setStatusAsync(SetStatusRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param setStatusRequest Container for the necessary parameters to
+     *           execute the SetStatus operation on DataPipeline.
+     *
+     * @return A composable future for the response from the SetStatus
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<Void> setStatusComposableAsync(final SetStatusRequest setStatusRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setStatus(setStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setStatusRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setStatusRequest,
+                new SetStatusRequestMarshaller(), null);
     }
     
     /**
@@ -950,12 +998,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<Void> deletePipelineAsync(final DeletePipelineRequest deletePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePipeline(deletePipelineRequest);
-                return null;
-        }
-    });
+        return deletePipelineComposableAsync(deletePipelineRequest);
     }
 
     /**
@@ -995,18 +1038,29 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DeletePipelineRequest deletePipelineRequest,
             final AsyncHandler<DeletePipelineRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deletePipelineComposableAsync(deletePipelineRequest),
+                deletePipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePipeline operation like
+     * {@link #deletePipelineAsync(DeletePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deletePipelineRequest Container for the necessary parameters to
+     *           execute the DeletePipeline operation on DataPipeline.
+     *
+     * @return A composable future for the response from the DeletePipeline
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<Void> deletePipelineComposableAsync(final DeletePipelineRequest deletePipelineRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deletePipeline(deletePipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePipelineRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deletePipelineRequest,
+                new DeletePipelineRequestMarshaller(), null);
     }
     
     /**
@@ -1034,11 +1088,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<GetPipelineDefinitionResult> getPipelineDefinitionAsync(final GetPipelineDefinitionRequest getPipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPipelineDefinitionResult>() {
-            public GetPipelineDefinitionResult call() throws Exception {
-                return getPipelineDefinition(getPipelineDefinitionRequest);
-        }
-    });
+        return getPipelineDefinitionComposableAsync(getPipelineDefinitionRequest);
     }
 
     /**
@@ -1072,19 +1122,31 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final GetPipelineDefinitionRequest getPipelineDefinitionRequest,
             final AsyncHandler<GetPipelineDefinitionRequest, GetPipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPipelineDefinitionResult>() {
+        return withAsyncHandler(getPipelineDefinitionComposableAsync(getPipelineDefinitionRequest),
+                getPipelineDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetPipelineDefinition operation like
+     * {@link #getPipelineDefinitionAsync(GetPipelineDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getPipelineDefinitionRequest Container for the necessary
+     *           parameters to execute the GetPipelineDefinition operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         GetPipelineDefinition service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<GetPipelineDefinitionResult> getPipelineDefinitionComposableAsync(final GetPipelineDefinitionRequest getPipelineDefinitionRequest) {
+        return executeAsync(executorService, new Callable<GetPipelineDefinitionResult>() {
             public GetPipelineDefinitionResult call() throws Exception {
-              GetPipelineDefinitionResult result;
-                try {
-                result = getPipelineDefinition(getPipelineDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPipelineDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return getPipelineDefinition(getPipelineDefinitionRequest);
+            }
+        }, getPipelineDefinitionRequest,
+                new GetPipelineDefinitionRequestMarshaller(), new GetPipelineDefinitionResultJsonUnmarshaller());
     }
     
     /**
@@ -1113,11 +1175,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<SetTaskStatusResult> setTaskStatusAsync(final SetTaskStatusRequest setTaskStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetTaskStatusResult>() {
-            public SetTaskStatusResult call() throws Exception {
-                return setTaskStatus(setTaskStatusRequest);
-        }
-    });
+        return setTaskStatusComposableAsync(setTaskStatusRequest);
     }
 
     /**
@@ -1152,19 +1210,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final SetTaskStatusRequest setTaskStatusRequest,
             final AsyncHandler<SetTaskStatusRequest, SetTaskStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetTaskStatusResult>() {
+        return withAsyncHandler(setTaskStatusComposableAsync(setTaskStatusRequest),
+                setTaskStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetTaskStatus operation like
+     * {@link #setTaskStatusAsync(SetTaskStatusRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param setTaskStatusRequest Container for the necessary parameters to
+     *           execute the SetTaskStatus operation on DataPipeline.
+     *
+     * @return A composable future for the response from the SetTaskStatus
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<SetTaskStatusResult> setTaskStatusComposableAsync(final SetTaskStatusRequest setTaskStatusRequest) {
+        return executeAsync(executorService, new Callable<SetTaskStatusResult>() {
             public SetTaskStatusResult call() throws Exception {
-              SetTaskStatusResult result;
-                try {
-                result = setTaskStatus(setTaskStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setTaskStatusRequest, result);
-                 return result;
-        }
-    });
+                return setTaskStatus(setTaskStatusRequest);
+            }
+        }, setTaskStatusRequest,
+                new SetTaskStatusRequestMarshaller(), new SetTaskStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -1192,11 +1259,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<EvaluateExpressionResult> evaluateExpressionAsync(final EvaluateExpressionRequest evaluateExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EvaluateExpressionResult>() {
-            public EvaluateExpressionResult call() throws Exception {
-                return evaluateExpression(evaluateExpressionRequest);
-        }
-    });
+        return evaluateExpressionComposableAsync(evaluateExpressionRequest);
     }
 
     /**
@@ -1230,19 +1293,31 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final EvaluateExpressionRequest evaluateExpressionRequest,
             final AsyncHandler<EvaluateExpressionRequest, EvaluateExpressionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EvaluateExpressionResult>() {
+        return withAsyncHandler(evaluateExpressionComposableAsync(evaluateExpressionRequest),
+                evaluateExpressionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EvaluateExpression operation like
+     * {@link #evaluateExpressionAsync(EvaluateExpressionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param evaluateExpressionRequest Container for the necessary
+     *           parameters to execute the EvaluateExpression operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         EvaluateExpression service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<EvaluateExpressionResult> evaluateExpressionComposableAsync(final EvaluateExpressionRequest evaluateExpressionRequest) {
+        return executeAsync(executorService, new Callable<EvaluateExpressionResult>() {
             public EvaluateExpressionResult call() throws Exception {
-              EvaluateExpressionResult result;
-                try {
-                result = evaluateExpression(evaluateExpressionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(evaluateExpressionRequest, result);
-                 return result;
-        }
-    });
+                return evaluateExpression(evaluateExpressionRequest);
+            }
+        }, evaluateExpressionRequest,
+                new EvaluateExpressionRequestMarshaller(), new EvaluateExpressionResultJsonUnmarshaller());
     }
     
     /**
@@ -1277,11 +1352,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<DescribePipelinesResult> describePipelinesAsync(final DescribePipelinesRequest describePipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePipelinesResult>() {
-            public DescribePipelinesResult call() throws Exception {
-                return describePipelines(describePipelinesRequest);
-        }
-    });
+        return describePipelinesComposableAsync(describePipelinesRequest);
     }
 
     /**
@@ -1322,19 +1393,30 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DescribePipelinesRequest describePipelinesRequest,
             final AsyncHandler<DescribePipelinesRequest, DescribePipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePipelinesResult>() {
+        return withAsyncHandler(describePipelinesComposableAsync(describePipelinesRequest),
+                describePipelinesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribePipelines operation like
+     * {@link #describePipelinesAsync(DescribePipelinesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describePipelinesRequest Container for the necessary parameters
+     *           to execute the DescribePipelines operation on DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         DescribePipelines service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<DescribePipelinesResult> describePipelinesComposableAsync(final DescribePipelinesRequest describePipelinesRequest) {
+        return executeAsync(executorService, new Callable<DescribePipelinesResult>() {
             public DescribePipelinesResult call() throws Exception {
-              DescribePipelinesResult result;
-                try {
-                result = describePipelines(describePipelinesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePipelinesRequest, result);
-                 return result;
-        }
-    });
+                return describePipelines(describePipelinesRequest);
+            }
+        }, describePipelinesRequest,
+                new DescribePipelinesRequestMarshaller(), new DescribePipelinesResultJsonUnmarshaller());
     }
     
     /**
@@ -1360,11 +1442,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<CreatePipelineResult> createPipelineAsync(final CreatePipelineRequest createPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
-            public CreatePipelineResult call() throws Exception {
-                return createPipeline(createPipelineRequest);
-        }
-    });
+        return createPipelineComposableAsync(createPipelineRequest);
     }
 
     /**
@@ -1396,19 +1474,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final CreatePipelineRequest createPipelineRequest,
             final AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return withAsyncHandler(createPipelineComposableAsync(createPipelineRequest),
+                createPipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePipeline operation like
+     * {@link #createPipelineAsync(CreatePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createPipelineRequest Container for the necessary parameters to
+     *           execute the CreatePipeline operation on DataPipeline.
+     *
+     * @return A composable future for the response from the CreatePipeline
+     *         service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<CreatePipelineResult> createPipelineComposableAsync(final CreatePipelineRequest createPipelineRequest) {
+        return executeAsync(executorService, new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
-              CreatePipelineResult result;
-                try {
-                result = createPipeline(createPipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPipelineRequest, result);
-                 return result;
-        }
-    });
+                return createPipeline(createPipelineRequest);
+            }
+        }, createPipelineRequest,
+                new CreatePipelineRequestMarshaller(), new CreatePipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -1435,11 +1522,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<DescribeObjectsResult> describeObjectsAsync(final DescribeObjectsRequest describeObjectsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeObjectsResult>() {
-            public DescribeObjectsResult call() throws Exception {
-                return describeObjects(describeObjectsRequest);
-        }
-    });
+        return describeObjectsComposableAsync(describeObjectsRequest);
     }
 
     /**
@@ -1472,19 +1555,28 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final DescribeObjectsRequest describeObjectsRequest,
             final AsyncHandler<DescribeObjectsRequest, DescribeObjectsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeObjectsResult>() {
+        return withAsyncHandler(describeObjectsComposableAsync(describeObjectsRequest),
+                describeObjectsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeObjects operation like
+     * {@link #describeObjectsAsync(DescribeObjectsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeObjectsRequest Container for the necessary parameters
+     *           to execute the DescribeObjects operation on DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         DescribeObjects service method, as returned by DataPipeline.
+     */
+    public ComposableFuture<DescribeObjectsResult> describeObjectsComposableAsync(final DescribeObjectsRequest describeObjectsRequest) {
+        return executeAsync(executorService, new Callable<DescribeObjectsResult>() {
             public DescribeObjectsResult call() throws Exception {
-              DescribeObjectsResult result;
-                try {
-                result = describeObjects(describeObjectsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeObjectsRequest, result);
-                 return result;
-        }
-    });
+                return describeObjects(describeObjectsRequest);
+            }
+        }, describeObjectsRequest,
+                new DescribeObjectsRequestMarshaller(), new DescribeObjectsResultJsonUnmarshaller());
     }
     
     /**
@@ -1514,11 +1606,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<ReportTaskRunnerHeartbeatResult> reportTaskRunnerHeartbeatAsync(final ReportTaskRunnerHeartbeatRequest reportTaskRunnerHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
-            public ReportTaskRunnerHeartbeatResult call() throws Exception {
-                return reportTaskRunnerHeartbeat(reportTaskRunnerHeartbeatRequest);
-        }
-    });
+        return reportTaskRunnerHeartbeatComposableAsync(reportTaskRunnerHeartbeatRequest);
     }
 
     /**
@@ -1554,19 +1642,31 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final ReportTaskRunnerHeartbeatRequest reportTaskRunnerHeartbeatRequest,
             final AsyncHandler<ReportTaskRunnerHeartbeatRequest, ReportTaskRunnerHeartbeatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReportTaskRunnerHeartbeatResult>() {
+        return withAsyncHandler(reportTaskRunnerHeartbeatComposableAsync(reportTaskRunnerHeartbeatRequest),
+                reportTaskRunnerHeartbeatRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReportTaskRunnerHeartbeat operation like
+     * {@link #reportTaskRunnerHeartbeatAsync(ReportTaskRunnerHeartbeatRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param reportTaskRunnerHeartbeatRequest Container for the necessary
+     *           parameters to execute the ReportTaskRunnerHeartbeat operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         ReportTaskRunnerHeartbeat service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<ReportTaskRunnerHeartbeatResult> reportTaskRunnerHeartbeatComposableAsync(final ReportTaskRunnerHeartbeatRequest reportTaskRunnerHeartbeatRequest) {
+        return executeAsync(executorService, new Callable<ReportTaskRunnerHeartbeatResult>() {
             public ReportTaskRunnerHeartbeatResult call() throws Exception {
-              ReportTaskRunnerHeartbeatResult result;
-                try {
-                result = reportTaskRunnerHeartbeat(reportTaskRunnerHeartbeatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportTaskRunnerHeartbeatRequest, result);
-                 return result;
-        }
-    });
+                return reportTaskRunnerHeartbeat(reportTaskRunnerHeartbeatRequest);
+            }
+        }, reportTaskRunnerHeartbeatRequest,
+                new ReportTaskRunnerHeartbeatRequestMarshaller(), new ReportTaskRunnerHeartbeatResultJsonUnmarshaller());
     }
     
     /**
@@ -1609,11 +1709,7 @@ public class DataPipelineAsyncClient extends DataPipelineClient
      */
     public Future<PutPipelineDefinitionResult> putPipelineDefinitionAsync(final PutPipelineDefinitionRequest putPipelineDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutPipelineDefinitionResult>() {
-            public PutPipelineDefinitionResult call() throws Exception {
-                return putPipelineDefinition(putPipelineDefinitionRequest);
-        }
-    });
+        return putPipelineDefinitionComposableAsync(putPipelineDefinitionRequest);
     }
 
     /**
@@ -1662,19 +1758,31 @@ public class DataPipelineAsyncClient extends DataPipelineClient
             final PutPipelineDefinitionRequest putPipelineDefinitionRequest,
             final AsyncHandler<PutPipelineDefinitionRequest, PutPipelineDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutPipelineDefinitionResult>() {
+        return withAsyncHandler(putPipelineDefinitionComposableAsync(putPipelineDefinitionRequest),
+                putPipelineDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutPipelineDefinition operation like
+     * {@link #putPipelineDefinitionAsync(PutPipelineDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putPipelineDefinitionRequest Container for the necessary
+     *           parameters to execute the PutPipelineDefinition operation on
+     *           DataPipeline.
+     *
+     * @return A composable future for the response from the
+     *         PutPipelineDefinition service method, as returned by
+     *         DataPipeline.
+     */
+    public ComposableFuture<PutPipelineDefinitionResult> putPipelineDefinitionComposableAsync(final PutPipelineDefinitionRequest putPipelineDefinitionRequest) {
+        return executeAsync(executorService, new Callable<PutPipelineDefinitionResult>() {
             public PutPipelineDefinitionResult call() throws Exception {
-              PutPipelineDefinitionResult result;
-                try {
-                result = putPipelineDefinition(putPipelineDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putPipelineDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return putPipelineDefinition(putPipelineDefinitionRequest);
+            }
+        }, putPipelineDefinitionRequest,
+                new PutPipelineDefinitionRequestMarshaller(), new PutPipelineDefinitionResultJsonUnmarshaller());
     }
     
 }
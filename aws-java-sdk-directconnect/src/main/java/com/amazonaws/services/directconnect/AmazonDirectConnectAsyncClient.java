@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.directconnect.model.*;
+import com.amazonaws.services.directconnect.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonDirectConnect.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * AWS Direct Connect makes it easy to establish a dedicated network
  * connection from your premises to Amazon Web Services (AWS). Using AWS
@@ -322,11 +326,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeLocationsResult> describeLocationsAsync(final DescribeLocationsRequest describeLocationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLocationsResult>() {
-            public DescribeLocationsResult call() throws Exception {
-                return describeLocations(describeLocationsRequest);
-        }
-    });
+        return describeLocationsComposableAsync(describeLocationsRequest);
     }
 
     /**
@@ -359,19 +359,30 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeLocationsRequest describeLocationsRequest,
             final AsyncHandler<DescribeLocationsRequest, DescribeLocationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLocationsResult>() {
+        return withAsyncHandler(describeLocationsComposableAsync(describeLocationsRequest),
+                describeLocationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLocations operation like
+     * {@link #describeLocationsAsync(DescribeLocationsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeLocationsRequest Container for the necessary parameters
+     *           to execute the DescribeLocations operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLocations service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeLocationsResult> describeLocationsComposableAsync(final DescribeLocationsRequest describeLocationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeLocationsResult>() {
             public DescribeLocationsResult call() throws Exception {
-              DescribeLocationsResult result;
-                try {
-                result = describeLocations(describeLocationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLocationsRequest, result);
-                 return result;
-        }
-    });
+                return describeLocations(describeLocationsRequest);
+            }
+        }, describeLocationsRequest,
+                new DescribeLocationsRequestMarshaller(), new DescribeLocationsResultJsonUnmarshaller());
     }
     
     /**
@@ -404,11 +415,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<ConfirmPublicVirtualInterfaceResult> confirmPublicVirtualInterfaceAsync(final ConfirmPublicVirtualInterfaceRequest confirmPublicVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmPublicVirtualInterfaceResult>() {
-            public ConfirmPublicVirtualInterfaceResult call() throws Exception {
-                return confirmPublicVirtualInterface(confirmPublicVirtualInterfaceRequest);
-        }
-    });
+        return confirmPublicVirtualInterfaceComposableAsync(confirmPublicVirtualInterfaceRequest);
     }
 
     /**
@@ -447,19 +454,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPublicVirtualInterfaceRequest confirmPublicVirtualInterfaceRequest,
             final AsyncHandler<ConfirmPublicVirtualInterfaceRequest, ConfirmPublicVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmPublicVirtualInterfaceResult>() {
+        return withAsyncHandler(confirmPublicVirtualInterfaceComposableAsync(confirmPublicVirtualInterfaceRequest),
+                confirmPublicVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfirmPublicVirtualInterface operation
+     * like
+     * {@link #confirmPublicVirtualInterfaceAsync(ConfirmPublicVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param confirmPublicVirtualInterfaceRequest Container for the
+     *           necessary parameters to execute the ConfirmPublicVirtualInterface
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         ConfirmPublicVirtualInterface service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<ConfirmPublicVirtualInterfaceResult> confirmPublicVirtualInterfaceComposableAsync(final ConfirmPublicVirtualInterfaceRequest confirmPublicVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<ConfirmPublicVirtualInterfaceResult>() {
             public ConfirmPublicVirtualInterfaceResult call() throws Exception {
-              ConfirmPublicVirtualInterfaceResult result;
-                try {
-                result = confirmPublicVirtualInterface(confirmPublicVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmPublicVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return confirmPublicVirtualInterface(confirmPublicVirtualInterfaceRequest);
+            }
+        }, confirmPublicVirtualInterfaceRequest,
+                new ConfirmPublicVirtualInterfaceRequestMarshaller(), new ConfirmPublicVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -489,11 +509,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreatePrivateVirtualInterfaceResult> createPrivateVirtualInterfaceAsync(final CreatePrivateVirtualInterfaceRequest createPrivateVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
-            public CreatePrivateVirtualInterfaceResult call() throws Exception {
-                return createPrivateVirtualInterface(createPrivateVirtualInterfaceRequest);
-        }
-    });
+        return createPrivateVirtualInterfaceComposableAsync(createPrivateVirtualInterfaceRequest);
     }
 
     /**
@@ -529,19 +545,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePrivateVirtualInterfaceRequest createPrivateVirtualInterfaceRequest,
             final AsyncHandler<CreatePrivateVirtualInterfaceRequest, CreatePrivateVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePrivateVirtualInterfaceResult>() {
+        return withAsyncHandler(createPrivateVirtualInterfaceComposableAsync(createPrivateVirtualInterfaceRequest),
+                createPrivateVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePrivateVirtualInterface operation
+     * like
+     * {@link #createPrivateVirtualInterfaceAsync(CreatePrivateVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPrivateVirtualInterfaceRequest Container for the
+     *           necessary parameters to execute the CreatePrivateVirtualInterface
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         CreatePrivateVirtualInterface service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<CreatePrivateVirtualInterfaceResult> createPrivateVirtualInterfaceComposableAsync(final CreatePrivateVirtualInterfaceRequest createPrivateVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<CreatePrivateVirtualInterfaceResult>() {
             public CreatePrivateVirtualInterfaceResult call() throws Exception {
-              CreatePrivateVirtualInterfaceResult result;
-                try {
-                result = createPrivateVirtualInterface(createPrivateVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPrivateVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return createPrivateVirtualInterface(createPrivateVirtualInterfaceRequest);
+            }
+        }, createPrivateVirtualInterfaceRequest,
+                new CreatePrivateVirtualInterfaceRequestMarshaller(), new CreatePrivateVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -568,11 +597,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DeleteVirtualInterfaceResult> deleteVirtualInterfaceAsync(final DeleteVirtualInterfaceRequest deleteVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVirtualInterfaceResult>() {
-            public DeleteVirtualInterfaceResult call() throws Exception {
-                return deleteVirtualInterface(deleteVirtualInterfaceRequest);
-        }
-    });
+        return deleteVirtualInterfaceComposableAsync(deleteVirtualInterfaceRequest);
     }
 
     /**
@@ -605,19 +630,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteVirtualInterfaceRequest deleteVirtualInterfaceRequest,
             final AsyncHandler<DeleteVirtualInterfaceRequest, DeleteVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVirtualInterfaceResult>() {
+        return withAsyncHandler(deleteVirtualInterfaceComposableAsync(deleteVirtualInterfaceRequest),
+                deleteVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVirtualInterface operation like
+     * {@link #deleteVirtualInterfaceAsync(DeleteVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVirtualInterfaceRequest Container for the necessary
+     *           parameters to execute the DeleteVirtualInterface operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVirtualInterface service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DeleteVirtualInterfaceResult> deleteVirtualInterfaceComposableAsync(final DeleteVirtualInterfaceRequest deleteVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<DeleteVirtualInterfaceResult>() {
             public DeleteVirtualInterfaceResult call() throws Exception {
-              DeleteVirtualInterfaceResult result;
-                try {
-                result = deleteVirtualInterface(deleteVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return deleteVirtualInterface(deleteVirtualInterfaceRequest);
+            }
+        }, deleteVirtualInterfaceRequest,
+                new DeleteVirtualInterfaceRequestMarshaller(), new DeleteVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -647,11 +684,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreatePublicVirtualInterfaceResult> createPublicVirtualInterfaceAsync(final CreatePublicVirtualInterfaceRequest createPublicVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePublicVirtualInterfaceResult>() {
-            public CreatePublicVirtualInterfaceResult call() throws Exception {
-                return createPublicVirtualInterface(createPublicVirtualInterfaceRequest);
-        }
-    });
+        return createPublicVirtualInterfaceComposableAsync(createPublicVirtualInterfaceRequest);
     }
 
     /**
@@ -687,19 +720,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePublicVirtualInterfaceRequest createPublicVirtualInterfaceRequest,
             final AsyncHandler<CreatePublicVirtualInterfaceRequest, CreatePublicVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePublicVirtualInterfaceResult>() {
+        return withAsyncHandler(createPublicVirtualInterfaceComposableAsync(createPublicVirtualInterfaceRequest),
+                createPublicVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePublicVirtualInterface operation
+     * like
+     * {@link #createPublicVirtualInterfaceAsync(CreatePublicVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPublicVirtualInterfaceRequest Container for the necessary
+     *           parameters to execute the CreatePublicVirtualInterface operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         CreatePublicVirtualInterface service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<CreatePublicVirtualInterfaceResult> createPublicVirtualInterfaceComposableAsync(final CreatePublicVirtualInterfaceRequest createPublicVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<CreatePublicVirtualInterfaceResult>() {
             public CreatePublicVirtualInterfaceResult call() throws Exception {
-              CreatePublicVirtualInterfaceResult result;
-                try {
-                result = createPublicVirtualInterface(createPublicVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPublicVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return createPublicVirtualInterface(createPublicVirtualInterfaceRequest);
+            }
+        }, createPublicVirtualInterfaceRequest,
+                new CreatePublicVirtualInterfaceRequestMarshaller(), new CreatePublicVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -743,11 +789,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreateInterconnectResult> createInterconnectAsync(final CreateInterconnectRequest createInterconnectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInterconnectResult>() {
-            public CreateInterconnectResult call() throws Exception {
-                return createInterconnect(createInterconnectRequest);
-        }
-    });
+        return createInterconnectComposableAsync(createInterconnectRequest);
     }
 
     /**
@@ -797,19 +839,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateInterconnectRequest createInterconnectRequest,
             final AsyncHandler<CreateInterconnectRequest, CreateInterconnectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInterconnectResult>() {
+        return withAsyncHandler(createInterconnectComposableAsync(createInterconnectRequest),
+                createInterconnectRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInterconnect operation like
+     * {@link #createInterconnectAsync(CreateInterconnectRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createInterconnectRequest Container for the necessary
+     *           parameters to execute the CreateInterconnect operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         CreateInterconnect service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<CreateInterconnectResult> createInterconnectComposableAsync(final CreateInterconnectRequest createInterconnectRequest) {
+        return executeAsync(executorService, new Callable<CreateInterconnectResult>() {
             public CreateInterconnectResult call() throws Exception {
-              CreateInterconnectResult result;
-                try {
-                result = createInterconnect(createInterconnectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInterconnectRequest, result);
-                 return result;
-        }
-    });
+                return createInterconnect(createInterconnectRequest);
+            }
+        }, createInterconnectRequest,
+                new CreateInterconnectRequestMarshaller(), new CreateInterconnectResultJsonUnmarshaller());
     }
     
     /**
@@ -851,11 +905,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeVirtualInterfacesResult> describeVirtualInterfacesAsync(final DescribeVirtualInterfacesRequest describeVirtualInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualInterfacesResult>() {
-            public DescribeVirtualInterfacesResult call() throws Exception {
-                return describeVirtualInterfaces(describeVirtualInterfacesRequest);
-        }
-    });
+        return describeVirtualInterfacesComposableAsync(describeVirtualInterfacesRequest);
     }
 
     /**
@@ -903,19 +953,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualInterfacesRequest describeVirtualInterfacesRequest,
             final AsyncHandler<DescribeVirtualInterfacesRequest, DescribeVirtualInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualInterfacesResult>() {
+        return withAsyncHandler(describeVirtualInterfacesComposableAsync(describeVirtualInterfacesRequest),
+                describeVirtualInterfacesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVirtualInterfaces operation like
+     * {@link #describeVirtualInterfacesAsync(DescribeVirtualInterfacesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVirtualInterfacesRequest Container for the necessary
+     *           parameters to execute the DescribeVirtualInterfaces operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVirtualInterfaces service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeVirtualInterfacesResult> describeVirtualInterfacesComposableAsync(final DescribeVirtualInterfacesRequest describeVirtualInterfacesRequest) {
+        return executeAsync(executorService, new Callable<DescribeVirtualInterfacesResult>() {
             public DescribeVirtualInterfacesResult call() throws Exception {
-              DescribeVirtualInterfacesResult result;
-                try {
-                result = describeVirtualInterfaces(describeVirtualInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVirtualInterfacesRequest, result);
-                 return result;
-        }
-    });
+                return describeVirtualInterfaces(describeVirtualInterfacesRequest);
+            }
+        }, describeVirtualInterfacesRequest,
+                new DescribeVirtualInterfacesRequestMarshaller(), new DescribeVirtualInterfacesResultJsonUnmarshaller());
     }
     
     /**
@@ -945,11 +1007,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<ConfirmConnectionResult> confirmConnectionAsync(final ConfirmConnectionRequest confirmConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmConnectionResult>() {
-            public ConfirmConnectionResult call() throws Exception {
-                return confirmConnection(confirmConnectionRequest);
-        }
-    });
+        return confirmConnectionComposableAsync(confirmConnectionRequest);
     }
 
     /**
@@ -985,19 +1043,30 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmConnectionRequest confirmConnectionRequest,
             final AsyncHandler<ConfirmConnectionRequest, ConfirmConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmConnectionResult>() {
+        return withAsyncHandler(confirmConnectionComposableAsync(confirmConnectionRequest),
+                confirmConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfirmConnection operation like
+     * {@link #confirmConnectionAsync(ConfirmConnectionRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param confirmConnectionRequest Container for the necessary parameters
+     *           to execute the ConfirmConnection operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         ConfirmConnection service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<ConfirmConnectionResult> confirmConnectionComposableAsync(final ConfirmConnectionRequest confirmConnectionRequest) {
+        return executeAsync(executorService, new Callable<ConfirmConnectionResult>() {
             public ConfirmConnectionResult call() throws Exception {
-              ConfirmConnectionResult result;
-                try {
-                result = confirmConnection(confirmConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmConnectionRequest, result);
-                 return result;
-        }
-    });
+                return confirmConnection(confirmConnectionRequest);
+            }
+        }, confirmConnectionRequest,
+                new ConfirmConnectionRequestMarshaller(), new ConfirmConnectionResultJsonUnmarshaller());
     }
     
     /**
@@ -1028,11 +1097,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeInterconnectsResult> describeInterconnectsAsync(final DescribeInterconnectsRequest describeInterconnectsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInterconnectsResult>() {
-            public DescribeInterconnectsResult call() throws Exception {
-                return describeInterconnects(describeInterconnectsRequest);
-        }
-    });
+        return describeInterconnectsComposableAsync(describeInterconnectsRequest);
     }
 
     /**
@@ -1069,19 +1134,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeInterconnectsRequest describeInterconnectsRequest,
             final AsyncHandler<DescribeInterconnectsRequest, DescribeInterconnectsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInterconnectsResult>() {
+        return withAsyncHandler(describeInterconnectsComposableAsync(describeInterconnectsRequest),
+                describeInterconnectsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInterconnects operation like
+     * {@link #describeInterconnectsAsync(DescribeInterconnectsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeInterconnectsRequest Container for the necessary
+     *           parameters to execute the DescribeInterconnects operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInterconnects service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeInterconnectsResult> describeInterconnectsComposableAsync(final DescribeInterconnectsRequest describeInterconnectsRequest) {
+        return executeAsync(executorService, new Callable<DescribeInterconnectsResult>() {
             public DescribeInterconnectsResult call() throws Exception {
-              DescribeInterconnectsResult result;
-                try {
-                result = describeInterconnects(describeInterconnectsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInterconnectsRequest, result);
-                 return result;
-        }
-    });
+                return describeInterconnects(describeInterconnectsRequest);
+            }
+        }, describeInterconnectsRequest,
+                new DescribeInterconnectsRequestMarshaller(), new DescribeInterconnectsResultJsonUnmarshaller());
     }
     
     /**
@@ -1116,11 +1193,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeVirtualGatewaysResult> describeVirtualGatewaysAsync(final DescribeVirtualGatewaysRequest describeVirtualGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualGatewaysResult>() {
-            public DescribeVirtualGatewaysResult call() throws Exception {
-                return describeVirtualGateways(describeVirtualGatewaysRequest);
-        }
-    });
+        return describeVirtualGatewaysComposableAsync(describeVirtualGatewaysRequest);
     }
 
     /**
@@ -1161,19 +1234,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualGatewaysRequest describeVirtualGatewaysRequest,
             final AsyncHandler<DescribeVirtualGatewaysRequest, DescribeVirtualGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVirtualGatewaysResult>() {
+        return withAsyncHandler(describeVirtualGatewaysComposableAsync(describeVirtualGatewaysRequest),
+                describeVirtualGatewaysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVirtualGateways operation like
+     * {@link #describeVirtualGatewaysAsync(DescribeVirtualGatewaysRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVirtualGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVirtualGateways operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVirtualGateways service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeVirtualGatewaysResult> describeVirtualGatewaysComposableAsync(final DescribeVirtualGatewaysRequest describeVirtualGatewaysRequest) {
+        return executeAsync(executorService, new Callable<DescribeVirtualGatewaysResult>() {
             public DescribeVirtualGatewaysResult call() throws Exception {
-              DescribeVirtualGatewaysResult result;
-                try {
-                result = describeVirtualGateways(describeVirtualGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVirtualGatewaysRequest, result);
-                 return result;
-        }
-    });
+                return describeVirtualGateways(describeVirtualGatewaysRequest);
+            }
+        }, describeVirtualGatewaysRequest,
+                new DescribeVirtualGatewaysRequestMarshaller(), new DescribeVirtualGatewaysResultJsonUnmarshaller());
     }
     
     /**
@@ -1206,11 +1291,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<ConfirmPrivateVirtualInterfaceResult> confirmPrivateVirtualInterfaceAsync(final ConfirmPrivateVirtualInterfaceRequest confirmPrivateVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmPrivateVirtualInterfaceResult>() {
-            public ConfirmPrivateVirtualInterfaceResult call() throws Exception {
-                return confirmPrivateVirtualInterface(confirmPrivateVirtualInterfaceRequest);
-        }
-    });
+        return confirmPrivateVirtualInterfaceComposableAsync(confirmPrivateVirtualInterfaceRequest);
     }
 
     /**
@@ -1249,19 +1330,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPrivateVirtualInterfaceRequest confirmPrivateVirtualInterfaceRequest,
             final AsyncHandler<ConfirmPrivateVirtualInterfaceRequest, ConfirmPrivateVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmPrivateVirtualInterfaceResult>() {
+        return withAsyncHandler(confirmPrivateVirtualInterfaceComposableAsync(confirmPrivateVirtualInterfaceRequest),
+                confirmPrivateVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfirmPrivateVirtualInterface operation
+     * like
+     * {@link #confirmPrivateVirtualInterfaceAsync(ConfirmPrivateVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param confirmPrivateVirtualInterfaceRequest Container for the
+     *           necessary parameters to execute the ConfirmPrivateVirtualInterface
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         ConfirmPrivateVirtualInterface service method, as returned
+     *         by AmazonDirectConnect.
+     */
+    public ComposableFuture<ConfirmPrivateVirtualInterfaceResult> confirmPrivateVirtualInterfaceComposableAsync(final ConfirmPrivateVirtualInterfaceRequest confirmPrivateVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<ConfirmPrivateVirtualInterfaceResult>() {
             public ConfirmPrivateVirtualInterfaceResult call() throws Exception {
-              ConfirmPrivateVirtualInterfaceResult result;
-                try {
-                result = confirmPrivateVirtualInterface(confirmPrivateVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmPrivateVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return confirmPrivateVirtualInterface(confirmPrivateVirtualInterfaceRequest);
+            }
+        }, confirmPrivateVirtualInterfaceRequest,
+                new ConfirmPrivateVirtualInterfaceRequestMarshaller(), new ConfirmPrivateVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -1292,11 +1386,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeConnectionsResult> describeConnectionsAsync(final DescribeConnectionsRequest describeConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsResult>() {
-            public DescribeConnectionsResult call() throws Exception {
-                return describeConnections(describeConnectionsRequest);
-        }
-    });
+        return describeConnectionsComposableAsync(describeConnectionsRequest);
     }
 
     /**
@@ -1333,19 +1423,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsRequest describeConnectionsRequest,
             final AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsResult>() {
+        return withAsyncHandler(describeConnectionsComposableAsync(describeConnectionsRequest),
+                describeConnectionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConnections operation like
+     * {@link #describeConnectionsAsync(DescribeConnectionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConnectionsRequest Container for the necessary
+     *           parameters to execute the DescribeConnections operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConnections service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeConnectionsResult> describeConnectionsComposableAsync(final DescribeConnectionsRequest describeConnectionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeConnectionsResult>() {
             public DescribeConnectionsResult call() throws Exception {
-              DescribeConnectionsResult result;
-                try {
-                result = describeConnections(describeConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConnectionsRequest, result);
-                 return result;
-        }
-    });
+                return describeConnections(describeConnectionsRequest);
+            }
+        }, describeConnectionsRequest,
+                new DescribeConnectionsRequestMarshaller(), new DescribeConnectionsResultJsonUnmarshaller());
     }
     
     /**
@@ -1383,11 +1485,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<AllocatePublicVirtualInterfaceResult> allocatePublicVirtualInterfaceAsync(final AllocatePublicVirtualInterfaceRequest allocatePublicVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocatePublicVirtualInterfaceResult>() {
-            public AllocatePublicVirtualInterfaceResult call() throws Exception {
-                return allocatePublicVirtualInterface(allocatePublicVirtualInterfaceRequest);
-        }
-    });
+        return allocatePublicVirtualInterfaceComposableAsync(allocatePublicVirtualInterfaceRequest);
     }
 
     /**
@@ -1431,19 +1529,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePublicVirtualInterfaceRequest allocatePublicVirtualInterfaceRequest,
             final AsyncHandler<AllocatePublicVirtualInterfaceRequest, AllocatePublicVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocatePublicVirtualInterfaceResult>() {
+        return withAsyncHandler(allocatePublicVirtualInterfaceComposableAsync(allocatePublicVirtualInterfaceRequest),
+                allocatePublicVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AllocatePublicVirtualInterface operation
+     * like
+     * {@link #allocatePublicVirtualInterfaceAsync(AllocatePublicVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param allocatePublicVirtualInterfaceRequest Container for the
+     *           necessary parameters to execute the AllocatePublicVirtualInterface
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         AllocatePublicVirtualInterface service method, as returned
+     *         by AmazonDirectConnect.
+     */
+    public ComposableFuture<AllocatePublicVirtualInterfaceResult> allocatePublicVirtualInterfaceComposableAsync(final AllocatePublicVirtualInterfaceRequest allocatePublicVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<AllocatePublicVirtualInterfaceResult>() {
             public AllocatePublicVirtualInterfaceResult call() throws Exception {
-              AllocatePublicVirtualInterfaceResult result;
-                try {
-                result = allocatePublicVirtualInterface(allocatePublicVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocatePublicVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return allocatePublicVirtualInterface(allocatePublicVirtualInterfaceRequest);
+            }
+        }, allocatePublicVirtualInterfaceRequest,
+                new AllocatePublicVirtualInterfaceRequestMarshaller(), new AllocatePublicVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -1481,11 +1592,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<AllocatePrivateVirtualInterfaceResult> allocatePrivateVirtualInterfaceAsync(final AllocatePrivateVirtualInterfaceRequest allocatePrivateVirtualInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocatePrivateVirtualInterfaceResult>() {
-            public AllocatePrivateVirtualInterfaceResult call() throws Exception {
-                return allocatePrivateVirtualInterface(allocatePrivateVirtualInterfaceRequest);
-        }
-    });
+        return allocatePrivateVirtualInterfaceComposableAsync(allocatePrivateVirtualInterfaceRequest);
     }
 
     /**
@@ -1529,19 +1636,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePrivateVirtualInterfaceRequest allocatePrivateVirtualInterfaceRequest,
             final AsyncHandler<AllocatePrivateVirtualInterfaceRequest, AllocatePrivateVirtualInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocatePrivateVirtualInterfaceResult>() {
+        return withAsyncHandler(allocatePrivateVirtualInterfaceComposableAsync(allocatePrivateVirtualInterfaceRequest),
+                allocatePrivateVirtualInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AllocatePrivateVirtualInterface
+     * operation like
+     * {@link #allocatePrivateVirtualInterfaceAsync(AllocatePrivateVirtualInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param allocatePrivateVirtualInterfaceRequest Container for the
+     *           necessary parameters to execute the AllocatePrivateVirtualInterface
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         AllocatePrivateVirtualInterface service method, as returned
+     *         by AmazonDirectConnect.
+     */
+    public ComposableFuture<AllocatePrivateVirtualInterfaceResult> allocatePrivateVirtualInterfaceComposableAsync(final AllocatePrivateVirtualInterfaceRequest allocatePrivateVirtualInterfaceRequest) {
+        return executeAsync(executorService, new Callable<AllocatePrivateVirtualInterfaceResult>() {
             public AllocatePrivateVirtualInterfaceResult call() throws Exception {
-              AllocatePrivateVirtualInterfaceResult result;
-                try {
-                result = allocatePrivateVirtualInterface(allocatePrivateVirtualInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocatePrivateVirtualInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return allocatePrivateVirtualInterface(allocatePrivateVirtualInterfaceRequest);
+            }
+        }, allocatePrivateVirtualInterfaceRequest,
+                new AllocatePrivateVirtualInterfaceRequestMarshaller(), new AllocatePrivateVirtualInterfaceResultJsonUnmarshaller());
     }
     
     /**
@@ -1572,11 +1692,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DeleteConnectionResult> deleteConnectionAsync(final DeleteConnectionRequest deleteConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConnectionResult>() {
-            public DeleteConnectionResult call() throws Exception {
-                return deleteConnection(deleteConnectionRequest);
-        }
-    });
+        return deleteConnectionComposableAsync(deleteConnectionRequest);
     }
 
     /**
@@ -1613,19 +1729,29 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteConnectionRequest deleteConnectionRequest,
             final AsyncHandler<DeleteConnectionRequest, DeleteConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConnectionResult>() {
+        return withAsyncHandler(deleteConnectionComposableAsync(deleteConnectionRequest),
+                deleteConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteConnection operation like
+     * {@link #deleteConnectionAsync(DeleteConnectionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteConnectionRequest Container for the necessary parameters
+     *           to execute the DeleteConnection operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DeleteConnection service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DeleteConnectionResult> deleteConnectionComposableAsync(final DeleteConnectionRequest deleteConnectionRequest) {
+        return executeAsync(executorService, new Callable<DeleteConnectionResult>() {
             public DeleteConnectionResult call() throws Exception {
-              DeleteConnectionResult result;
-                try {
-                result = deleteConnection(deleteConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteConnectionRequest, result);
-                 return result;
-        }
-    });
+                return deleteConnection(deleteConnectionRequest);
+            }
+        }, deleteConnectionRequest,
+                new DeleteConnectionRequestMarshaller(), new DeleteConnectionResultJsonUnmarshaller());
     }
     
     /**
@@ -1653,11 +1779,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DescribeConnectionsOnInterconnectResult> describeConnectionsOnInterconnectAsync(final DescribeConnectionsOnInterconnectRequest describeConnectionsOnInterconnectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsOnInterconnectResult>() {
-            public DescribeConnectionsOnInterconnectResult call() throws Exception {
-                return describeConnectionsOnInterconnect(describeConnectionsOnInterconnectRequest);
-        }
-    });
+        return describeConnectionsOnInterconnectComposableAsync(describeConnectionsOnInterconnectRequest);
     }
 
     /**
@@ -1691,19 +1813,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsOnInterconnectRequest describeConnectionsOnInterconnectRequest,
             final AsyncHandler<DescribeConnectionsOnInterconnectRequest, DescribeConnectionsOnInterconnectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConnectionsOnInterconnectResult>() {
+        return withAsyncHandler(describeConnectionsOnInterconnectComposableAsync(describeConnectionsOnInterconnectRequest),
+                describeConnectionsOnInterconnectRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConnectionsOnInterconnect
+     * operation like
+     * {@link #describeConnectionsOnInterconnectAsync(DescribeConnectionsOnInterconnectRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConnectionsOnInterconnectRequest Container for the
+     *           necessary parameters to execute the DescribeConnectionsOnInterconnect
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConnectionsOnInterconnect service method, as
+     *         returned by AmazonDirectConnect.
+     */
+    public ComposableFuture<DescribeConnectionsOnInterconnectResult> describeConnectionsOnInterconnectComposableAsync(final DescribeConnectionsOnInterconnectRequest describeConnectionsOnInterconnectRequest) {
+        return executeAsync(executorService, new Callable<DescribeConnectionsOnInterconnectResult>() {
             public DescribeConnectionsOnInterconnectResult call() throws Exception {
-              DescribeConnectionsOnInterconnectResult result;
-                try {
-                result = describeConnectionsOnInterconnect(describeConnectionsOnInterconnectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConnectionsOnInterconnectRequest, result);
-                 return result;
-        }
-    });
+                return describeConnectionsOnInterconnect(describeConnectionsOnInterconnectRequest);
+            }
+        }, describeConnectionsOnInterconnectRequest,
+                new DescribeConnectionsOnInterconnectRequestMarshaller(), new DescribeConnectionsOnInterconnectResultJsonUnmarshaller());
     }
     
     /**
@@ -1734,11 +1869,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<AllocateConnectionOnInterconnectResult> allocateConnectionOnInterconnectAsync(final AllocateConnectionOnInterconnectRequest allocateConnectionOnInterconnectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateConnectionOnInterconnectResult>() {
-            public AllocateConnectionOnInterconnectResult call() throws Exception {
-                return allocateConnectionOnInterconnect(allocateConnectionOnInterconnectRequest);
-        }
-    });
+        return allocateConnectionOnInterconnectComposableAsync(allocateConnectionOnInterconnectRequest);
     }
 
     /**
@@ -1775,19 +1906,32 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocateConnectionOnInterconnectRequest allocateConnectionOnInterconnectRequest,
             final AsyncHandler<AllocateConnectionOnInterconnectRequest, AllocateConnectionOnInterconnectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateConnectionOnInterconnectResult>() {
+        return withAsyncHandler(allocateConnectionOnInterconnectComposableAsync(allocateConnectionOnInterconnectRequest),
+                allocateConnectionOnInterconnectRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AllocateConnectionOnInterconnect
+     * operation like
+     * {@link #allocateConnectionOnInterconnectAsync(AllocateConnectionOnInterconnectRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param allocateConnectionOnInterconnectRequest Container for the
+     *           necessary parameters to execute the AllocateConnectionOnInterconnect
+     *           operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         AllocateConnectionOnInterconnect service method, as returned
+     *         by AmazonDirectConnect.
+     */
+    public ComposableFuture<AllocateConnectionOnInterconnectResult> allocateConnectionOnInterconnectComposableAsync(final AllocateConnectionOnInterconnectRequest allocateConnectionOnInterconnectRequest) {
+        return executeAsync(executorService, new Callable<AllocateConnectionOnInterconnectResult>() {
             public AllocateConnectionOnInterconnectResult call() throws Exception {
-              AllocateConnectionOnInterconnectResult result;
-                try {
-                result = allocateConnectionOnInterconnect(allocateConnectionOnInterconnectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateConnectionOnInterconnectRequest, result);
-                 return result;
-        }
-    });
+                return allocateConnectionOnInterconnect(allocateConnectionOnInterconnectRequest);
+            }
+        }, allocateConnectionOnInterconnectRequest,
+                new AllocateConnectionOnInterconnectRequestMarshaller(), new AllocateConnectionOnInterconnectResultJsonUnmarshaller());
     }
     
     /**
@@ -1823,11 +1967,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<CreateConnectionResult> createConnectionAsync(final CreateConnectionRequest createConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConnectionResult>() {
-            public CreateConnectionResult call() throws Exception {
-                return createConnection(createConnectionRequest);
-        }
-    });
+        return createConnectionComposableAsync(createConnectionRequest);
     }
 
     /**
@@ -1869,19 +2009,29 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateConnectionRequest createConnectionRequest,
             final AsyncHandler<CreateConnectionRequest, CreateConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConnectionResult>() {
+        return withAsyncHandler(createConnectionComposableAsync(createConnectionRequest),
+                createConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateConnection operation like
+     * {@link #createConnectionAsync(CreateConnectionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createConnectionRequest Container for the necessary parameters
+     *           to execute the CreateConnection operation on AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         CreateConnection service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<CreateConnectionResult> createConnectionComposableAsync(final CreateConnectionRequest createConnectionRequest) {
+        return executeAsync(executorService, new Callable<CreateConnectionResult>() {
             public CreateConnectionResult call() throws Exception {
-              CreateConnectionResult result;
-                try {
-                result = createConnection(createConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createConnectionRequest, result);
-                 return result;
-        }
-    });
+                return createConnection(createConnectionRequest);
+            }
+        }, createConnectionRequest,
+                new CreateConnectionRequestMarshaller(), new CreateConnectionResultJsonUnmarshaller());
     }
     
     /**
@@ -1907,11 +2057,7 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public Future<DeleteInterconnectResult> deleteInterconnectAsync(final DeleteInterconnectRequest deleteInterconnectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteInterconnectResult>() {
-            public DeleteInterconnectResult call() throws Exception {
-                return deleteInterconnect(deleteInterconnectRequest);
-        }
-    });
+        return deleteInterconnectComposableAsync(deleteInterconnectRequest);
     }
 
     /**
@@ -1943,19 +2089,31 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteInterconnectRequest deleteInterconnectRequest,
             final AsyncHandler<DeleteInterconnectRequest, DeleteInterconnectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteInterconnectResult>() {
+        return withAsyncHandler(deleteInterconnectComposableAsync(deleteInterconnectRequest),
+                deleteInterconnectRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteInterconnect operation like
+     * {@link #deleteInterconnectAsync(DeleteInterconnectRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteInterconnectRequest Container for the necessary
+     *           parameters to execute the DeleteInterconnect operation on
+     *           AmazonDirectConnect.
+     *
+     * @return A composable future for the response from the
+     *         DeleteInterconnect service method, as returned by
+     *         AmazonDirectConnect.
+     */
+    public ComposableFuture<DeleteInterconnectResult> deleteInterconnectComposableAsync(final DeleteInterconnectRequest deleteInterconnectRequest) {
+        return executeAsync(executorService, new Callable<DeleteInterconnectResult>() {
             public DeleteInterconnectResult call() throws Exception {
-              DeleteInterconnectResult result;
-                try {
-                result = deleteInterconnect(deleteInterconnectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInterconnectRequest, result);
-                 return result;
-        }
-    });
+                return deleteInterconnect(deleteInterconnectRequest);
+            }
+        }, deleteInterconnectRequest,
+                new DeleteInterconnectRequestMarshaller(), new DeleteInterconnectResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonDynamoDBv2.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon DynamoDB <p>
  * <b>Overview</b>
  * </p>
@@ -472,11 +476,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<ScanResult> scanAsync(final ScanRequest scanRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
-            public ScanResult call() throws Exception {
-                return scan(scanRequest);
-        }
-    });
+        return scanComposableAsync(scanRequest);
     }
 
     /**
@@ -530,19 +530,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final ScanRequest scanRequest,
             final AsyncHandler<ScanRequest, ScanResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
+        return withAsyncHandler(scanComposableAsync(scanRequest),
+                scanRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Scan operation like
+     * {@link #scanAsync(ScanRequest)}, returning a future to which further
+     * processing can be chained without blocking.
+     *
+     * @param scanRequest Container for the necessary parameters to execute
+     *           the Scan operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the Scan service
+     *         method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<ScanResult> scanComposableAsync(final ScanRequest scanRequest) {
+        return executeAsync(executorService, new Callable<ScanResult>() {
             public ScanResult call() throws Exception {
-              ScanResult result;
-                try {
-                result = scan(scanRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(scanRequest, result);
-                 return result;
-        }
-    });
+                return scan(scanRequest);
+            }
+        }, scanRequest,
+                new ScanRequestMarshaller(), new ScanResultJsonUnmarshaller());
     }
     
     /**
@@ -591,11 +600,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                return updateTable(updateTableRequest);
-        }
-    });
+        return updateTableComposableAsync(updateTableRequest);
     }
 
     /**
@@ -650,19 +655,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final UpdateTableRequest updateTableRequest,
             final AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
+        return withAsyncHandler(updateTableComposableAsync(updateTableRequest),
+                updateTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateTable operation like
+     * {@link #updateTableAsync(UpdateTableRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateTableRequest Container for the necessary parameters to
+     *           execute the UpdateTable operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the UpdateTable
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<UpdateTableResult> updateTableComposableAsync(final UpdateTableRequest updateTableRequest) {
+        return executeAsync(executorService, new Callable<UpdateTableResult>() {
             public UpdateTableResult call() throws Exception {
-              UpdateTableResult result;
-                try {
-                result = updateTable(updateTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateTableRequest, result);
-                 return result;
-        }
-    });
+                return updateTable(updateTableRequest);
+            }
+        }, updateTableRequest,
+                new UpdateTableRequestMarshaller(), new UpdateTableResultJsonUnmarshaller());
     }
     
     /**
@@ -706,11 +720,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                return deleteTable(deleteTableRequest);
-        }
-    });
+        return deleteTableComposableAsync(deleteTableRequest);
     }
 
     /**
@@ -760,19 +770,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final DeleteTableRequest deleteTableRequest,
             final AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
+        return withAsyncHandler(deleteTableComposableAsync(deleteTableRequest),
+                deleteTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTable operation like
+     * {@link #deleteTableAsync(DeleteTableRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTableRequest Container for the necessary parameters to
+     *           execute the DeleteTable operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the DeleteTable
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<DeleteTableResult> deleteTableComposableAsync(final DeleteTableRequest deleteTableRequest) {
+        return executeAsync(executorService, new Callable<DeleteTableResult>() {
             public DeleteTableResult call() throws Exception {
-              DeleteTableResult result;
-                try {
-                result = deleteTable(deleteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTableRequest, result);
-                 return result;
-        }
-    });
+                return deleteTable(deleteTableRequest);
+            }
+        }, deleteTableRequest,
+                new DeleteTableRequestMarshaller(), new DeleteTableResultJsonUnmarshaller());
     }
     
     /**
@@ -894,11 +913,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<BatchWriteItemResult> batchWriteItemAsync(final BatchWriteItemRequest batchWriteItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                return batchWriteItem(batchWriteItemRequest);
-        }
-    });
+        return batchWriteItemComposableAsync(batchWriteItemRequest);
     }
 
     /**
@@ -1026,19 +1041,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final BatchWriteItemRequest batchWriteItemRequest,
             final AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
+        return withAsyncHandler(batchWriteItemComposableAsync(batchWriteItemRequest),
+                batchWriteItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchWriteItem operation like
+     * {@link #batchWriteItemAsync(BatchWriteItemRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param batchWriteItemRequest Container for the necessary parameters to
+     *           execute the BatchWriteItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the BatchWriteItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<BatchWriteItemResult> batchWriteItemComposableAsync(final BatchWriteItemRequest batchWriteItemRequest) {
+        return executeAsync(executorService, new Callable<BatchWriteItemResult>() {
             public BatchWriteItemResult call() throws Exception {
-              BatchWriteItemResult result;
-                try {
-                result = batchWriteItem(batchWriteItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchWriteItemRequest, result);
-                 return result;
-        }
-    });
+                return batchWriteItem(batchWriteItemRequest);
+            }
+        }, batchWriteItemRequest,
+                new BatchWriteItemRequestMarshaller(), new BatchWriteItemResultJsonUnmarshaller());
     }
     
     /**
@@ -1073,11 +1097,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DescribeTableResult> describeTableAsync(final DescribeTableRequest describeTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                return describeTable(describeTableRequest);
-        }
-    });
+        return describeTableComposableAsync(describeTableRequest);
     }
 
     /**
@@ -1118,19 +1138,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final DescribeTableRequest describeTableRequest,
             final AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
+        return withAsyncHandler(describeTableComposableAsync(describeTableRequest),
+                describeTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTable operation like
+     * {@link #describeTableAsync(DescribeTableRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeTableRequest Container for the necessary parameters to
+     *           execute the DescribeTable operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the DescribeTable
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<DescribeTableResult> describeTableComposableAsync(final DescribeTableRequest describeTableRequest) {
+        return executeAsync(executorService, new Callable<DescribeTableResult>() {
             public DescribeTableResult call() throws Exception {
-              DescribeTableResult result;
-                try {
-                result = describeTable(describeTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTableRequest, result);
-                 return result;
-        }
-    });
+                return describeTable(describeTableRequest);
+            }
+        }, describeTableRequest,
+                new DescribeTableRequestMarshaller(), new DescribeTableResultJsonUnmarshaller());
     }
     
     /**
@@ -1164,11 +1193,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                return getItem(getItemRequest);
-        }
-    });
+        return getItemComposableAsync(getItemRequest);
     }
 
     /**
@@ -1208,19 +1233,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final GetItemRequest getItemRequest,
             final AsyncHandler<GetItemRequest, GetItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
+        return withAsyncHandler(getItemComposableAsync(getItemRequest),
+                getItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetItem operation like
+     * {@link #getItemAsync(GetItemRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param getItemRequest Container for the necessary parameters to
+     *           execute the GetItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the GetItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<GetItemResult> getItemComposableAsync(final GetItemRequest getItemRequest) {
+        return executeAsync(executorService, new Callable<GetItemResult>() {
             public GetItemResult call() throws Exception {
-              GetItemResult result;
-                try {
-                result = getItem(getItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getItemRequest, result);
-                 return result;
-        }
-    });
+                return getItem(getItemRequest);
+            }
+        }, getItemRequest,
+                new GetItemRequestMarshaller(), new GetItemResultJsonUnmarshaller());
     }
     
     /**
@@ -1262,11 +1296,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                return deleteItem(deleteItemRequest);
-        }
-    });
+        return deleteItemComposableAsync(deleteItemRequest);
     }
 
     /**
@@ -1314,19 +1344,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final DeleteItemRequest deleteItemRequest,
             final AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
+        return withAsyncHandler(deleteItemComposableAsync(deleteItemRequest),
+                deleteItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteItem operation like
+     * {@link #deleteItemAsync(DeleteItemRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteItemRequest Container for the necessary parameters to
+     *           execute the DeleteItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the DeleteItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<DeleteItemResult> deleteItemComposableAsync(final DeleteItemRequest deleteItemRequest) {
+        return executeAsync(executorService, new Callable<DeleteItemResult>() {
             public DeleteItemResult call() throws Exception {
-              DeleteItemResult result;
-                try {
-                result = deleteItem(deleteItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteItemRequest, result);
-                 return result;
-        }
-    });
+                return deleteItem(deleteItemRequest);
+            }
+        }, deleteItemRequest,
+                new DeleteItemRequestMarshaller(), new DeleteItemResultJsonUnmarshaller());
     }
     
     /**
@@ -1372,11 +1411,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                return createTable(createTableRequest);
-        }
-    });
+        return createTableComposableAsync(createTableRequest);
     }
 
     /**
@@ -1428,19 +1463,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final CreateTableRequest createTableRequest,
             final AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
+        return withAsyncHandler(createTableComposableAsync(createTableRequest),
+                createTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTable operation like
+     * {@link #createTableAsync(CreateTableRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTableRequest Container for the necessary parameters to
+     *           execute the CreateTable operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the CreateTable
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<CreateTableResult> createTableComposableAsync(final CreateTableRequest createTableRequest) {
+        return executeAsync(executorService, new Callable<CreateTableResult>() {
             public CreateTableResult call() throws Exception {
-              CreateTableResult result;
-                try {
-                result = createTable(createTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTableRequest, result);
-                 return result;
-        }
-    });
+                return createTable(createTableRequest);
+            }
+        }, createTableRequest,
+                new CreateTableRequestMarshaller(), new CreateTableResultJsonUnmarshaller());
     }
     
     /**
@@ -1491,11 +1535,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<QueryResult> queryAsync(final QueryRequest queryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                return query(queryRequest);
-        }
-    });
+        return queryComposableAsync(queryRequest);
     }
 
     /**
@@ -1552,19 +1592,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final QueryRequest queryRequest,
             final AsyncHandler<QueryRequest, QueryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
+        return withAsyncHandler(queryComposableAsync(queryRequest),
+                queryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Query operation like
+     * {@link #queryAsync(QueryRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param queryRequest Container for the necessary parameters to execute
+     *           the Query operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the Query service
+     *         method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<QueryResult> queryComposableAsync(final QueryRequest queryRequest) {
+        return executeAsync(executorService, new Callable<QueryResult>() {
             public QueryResult call() throws Exception {
-              QueryResult result;
-                try {
-                result = query(queryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(queryRequest, result);
-                 return result;
-        }
-    });
+                return query(queryRequest);
+            }
+        }, queryRequest,
+                new QueryRequestMarshaller(), new QueryResultJsonUnmarshaller());
     }
     
     /**
@@ -1622,11 +1671,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                return putItem(putItemRequest);
-        }
-    });
+        return putItemComposableAsync(putItemRequest);
     }
 
     /**
@@ -1690,19 +1735,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final PutItemRequest putItemRequest,
             final AsyncHandler<PutItemRequest, PutItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
+        return withAsyncHandler(putItemComposableAsync(putItemRequest),
+                putItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutItem operation like
+     * {@link #putItemAsync(PutItemRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param putItemRequest Container for the necessary parameters to
+     *           execute the PutItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the PutItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<PutItemResult> putItemComposableAsync(final PutItemRequest putItemRequest) {
+        return executeAsync(executorService, new Callable<PutItemResult>() {
             public PutItemResult call() throws Exception {
-              PutItemResult result;
-                try {
-                result = putItem(putItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putItemRequest, result);
-                 return result;
-        }
-    });
+                return putItem(putItemRequest);
+            }
+        }, putItemRequest,
+                new PutItemRequestMarshaller(), new PutItemResultJsonUnmarshaller());
     }
     
     /**
@@ -1729,11 +1783,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                return listTables(listTablesRequest);
-        }
-    });
+        return listTablesComposableAsync(listTablesRequest);
     }
 
     /**
@@ -1766,19 +1816,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final ListTablesRequest listTablesRequest,
             final AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
+        return withAsyncHandler(listTablesComposableAsync(listTablesRequest),
+                listTablesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTables operation like
+     * {@link #listTablesAsync(ListTablesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listTablesRequest Container for the necessary parameters to
+     *           execute the ListTables operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the ListTables
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<ListTablesResult> listTablesComposableAsync(final ListTablesRequest listTablesRequest) {
+        return executeAsync(executorService, new Callable<ListTablesResult>() {
             public ListTablesResult call() throws Exception {
-              ListTablesResult result;
-                try {
-                result = listTables(listTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTablesRequest, result);
-                 return result;
-        }
-    });
+                return listTables(listTablesRequest);
+            }
+        }, listTablesRequest,
+                new ListTablesRequestMarshaller(), new ListTablesResultJsonUnmarshaller());
     }
     
     /**
@@ -1813,11 +1872,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                return updateItem(updateItemRequest);
-        }
-    });
+        return updateItemComposableAsync(updateItemRequest);
     }
 
     /**
@@ -1858,19 +1913,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final UpdateItemRequest updateItemRequest,
             final AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
+        return withAsyncHandler(updateItemComposableAsync(updateItemRequest),
+                updateItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateItem operation like
+     * {@link #updateItemAsync(UpdateItemRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateItemRequest Container for the necessary parameters to
+     *           execute the UpdateItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the UpdateItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<UpdateItemResult> updateItemComposableAsync(final UpdateItemRequest updateItemRequest) {
+        return executeAsync(executorService, new Callable<UpdateItemResult>() {
             public UpdateItemResult call() throws Exception {
-              UpdateItemResult result;
-                try {
-                result = updateItem(updateItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateItemRequest, result);
-                 return result;
-        }
-    });
+                return updateItem(updateItemRequest);
+            }
+        }, updateItemRequest,
+                new UpdateItemRequestMarshaller(), new UpdateItemResultJsonUnmarshaller());
     }
     
     /**
@@ -1957,11 +2021,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<BatchGetItemResult> batchGetItemAsync(final BatchGetItemRequest batchGetItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                return batchGetItem(batchGetItemRequest);
-        }
-    });
+        return batchGetItemComposableAsync(batchGetItemRequest);
     }
 
     /**
@@ -2054,19 +2114,28 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
             final BatchGetItemRequest batchGetItemRequest,
             final AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
+        return withAsyncHandler(batchGetItemComposableAsync(batchGetItemRequest),
+                batchGetItemRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchGetItem operation like
+     * {@link #batchGetItemAsync(BatchGetItemRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param batchGetItemRequest Container for the necessary parameters to
+     *           execute the BatchGetItem operation on AmazonDynamoDBv2.
+     *
+     * @return A composable future for the response from the BatchGetItem
+     *         service method, as returned by AmazonDynamoDBv2.
+     */
+    public ComposableFuture<BatchGetItemResult> batchGetItemComposableAsync(final BatchGetItemRequest batchGetItemRequest) {
+        return executeAsync(executorService, new Callable<BatchGetItemResult>() {
             public BatchGetItemResult call() throws Exception {
-              BatchGetItemResult result;
-                try {
-                result = batchGetItem(batchGetItemRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchGetItemRequest, result);
-                 return result;
-        }
-    });
+                return batchGetItem(batchGetItemRequest);
+            }
+        }, batchGetItemRequest,
+                new BatchGetItemRequestMarshaller(), new BatchGetItemResultJsonUnmarshaller());
     }
     
 }
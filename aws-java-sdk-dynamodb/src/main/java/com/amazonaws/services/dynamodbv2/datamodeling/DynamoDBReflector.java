@@ -15,16 +15,12 @@
 package com.amazonaws.services.dynamodbv2.datamodeling;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
-
-import org.apache.http.annotation.GuardedBy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Reflection assistant for {@link DynamoDBMapper}
@@ -32,45 +28,106 @@ import org.apache.http.annotation.GuardedBy;
 class DynamoDBReflector {
 
     /*
-     * Several caches for performance. Collectively, they can make this class
-     * over twice as fast.
+     * Caches for performance. The reflection metadata of each mapped class and
+     * getter is computed once into an immutable model, and then read without
+     * locking; models computed concurrently for the same key are equivalent,
+     * so whichever is cached first wins.
      */
-    private final Map<Class<?>, Collection<Method>> getterCache = new HashMap<Class<?>, Collection<Method>>();
-    private final Map<Class<?>, Method> primaryHashKeyGetterCache = new HashMap<Class<?>, Method>();
-    private final Map<Class<?>, Method> primaryRangeKeyGetterCache = new HashMap<Class<?>, Method>();
+    private final ConcurrentMap<Class<?>, ClassModel> classModelCache =
+            new ConcurrentHashMap<Class<?>, ClassModel>();
 
     /*
      * All caches keyed by a Method use the getter for a particular mapped
      * property
      */
-    private final Map<Method, Method> setterCache = new HashMap<Method, Method>();
+    private final ConcurrentMap<Method, GetterModel> getterModelCache =
+            new ConcurrentHashMap<Method, GetterModel>();
+    private final ConcurrentMap<Method, Method> setterCache =
+            new ConcurrentHashMap<Method, Method>();
 
-    @GuardedBy("readWriteLockAttrName")
-    private final Map<Method, String> attributeNameCache = new HashMap<Method, String>();
+    /**
+     * The reflection metadata of a mapped class.
+     */
+    private static final class ClassModel {
+        private final List<Method> relevantGetters;
+        private final List<Method> primaryKeyGetters;
+        private final Method hashKeyGetter;
+        private final Method rangeKeyGetter;
 
-    private final Map<Method, Boolean> versionAttributeGetterCache = new HashMap<Method, Boolean>();
-    private final Map<Method, Boolean> autoGeneratedKeyGetterCache = new HashMap<Method, Boolean>();
+        ClassModel(Class<?> clazz) {
+            List<Method> getters = findRelevantGetters(clazz);
+            List<Method> keyGetters = new ArrayList<Method>();
+            Method hashKey = null;
+            Method rangeKey = null;
+            for (Method getter : getters) {
+                boolean isHashKey = ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class);
+                boolean isRangeKey = ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class);
+                if (isHashKey || isRangeKey)
+                    keyGetters.add(getter);
+                if (isHashKey && hashKey == null)
+                    hashKey = getter;
+                if (isRangeKey && rangeKey == null)
+                    rangeKey = getter;
+            }
+            this.relevantGetters = Collections.unmodifiableList(new ArrayList<Method>(getters));
+            this.primaryKeyGetters = Collections.unmodifiableList(keyGetters);
+            this.hashKeyGetter = hashKey;
+            this.rangeKeyGetter = rangeKey;
+        }
+    }
 
-    private final ReentrantReadWriteLock readWriteLockAttrName = new ReentrantReadWriteLock();
-    private final ReadLock readLockAttrName = readWriteLockAttrName.readLock();
-    private final WriteLock writeLockAttrName = readWriteLockAttrName.writeLock();
+    /**
+     * The reflection metadata of the getter of a mapped property.
+     */
+    private static final class GetterModel {
+        private final String attributeName;
+        private final boolean isVersionAttribute;
+        private final boolean isAssignableKey;
+
+        GetterModel(Method getter) {
+            this.attributeName = findAttributeName(getter);
+            this.isVersionAttribute = getter.getName().startsWith("get")
+                    && getter.getParameterTypes().length == 0
+                    && ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBVersionAttribute.class);
+            this.isAssignableKey =
+                    ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBAutoGeneratedKey.class)
+                    && ( ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class) ||
+                         ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class));
+        }
+    }
+
+    private ClassModel getClassModel(Class<?> clazz) {
+        ClassModel model = classModelCache.get(clazz);
+        if ( model == null ) {
+            model = new ClassModel(clazz);
+            ClassModel existing = classModelCache.putIfAbsent(clazz, model);
+            if ( existing != null )
+                model = existing;
+        }
+        return model;
+    }
+
+    private GetterModel getGetterModel(Method getter) {
+        GetterModel model = getterModelCache.get(getter);
+        if ( model == null ) {
+            model = new GetterModel(getter);
+            GetterModel existing = getterModelCache.putIfAbsent(getter, model);
+            if ( existing != null )
+                model = existing;
+        }
+        return model;
+    }
 
     /**
      * Returns the set of getter methods which are relevant when marshalling or
      * unmarshalling an object.
      */
     Collection<Method> getRelevantGetters(Class<?> clazz) {
-        synchronized (getterCache) {
-            if ( !getterCache.containsKey(clazz) ) {
-                List<Method> relevantGetters = findRelevantGetters(clazz);
-                getterCache.put(clazz, relevantGetters);
-            }
-            return getterCache.get(clazz);
-        }
+        return getClassModel(clazz).relevantGetters;
     }
 
     static List<Method> findRelevantGetters(Class<?> clazz) {
-        List<Method> relevantGetters = new LinkedList<Method>();
+        List<Method> relevantGetters = new ArrayList<Method>();
         for ( Method m : clazz.getMethods() ) {
             if ( isRelevantGetter(m) ) {
                 relevantGetters.add(m);
@@ -102,39 +159,16 @@ class DynamoDBReflector {
      * given, or null if the class doesn't have one.
      */
     <T> Method getPrimaryRangeKeyGetter(Class<T> clazz) {
-        synchronized (primaryRangeKeyGetterCache) {
-            if ( !primaryRangeKeyGetterCache.containsKey(clazz) ) {
-                Method rangeKeyMethod = null;
-                for ( Method method : getRelevantGetters(clazz) ) {
-                    if ( method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method, DynamoDBRangeKey.class)) {
-                        rangeKeyMethod = method;
-                        break;
-                    }
-                }
-                primaryRangeKeyGetterCache.put(clazz, rangeKeyMethod);
-            }
-            return primaryRangeKeyGetterCache.get(clazz);
-        }
+        return getClassModel(clazz).rangeKeyGetter;
     }
 
     /**
      * Returns all annotated {@link DynamoDBHashKey} and
      * {@link DynamoDBRangeKey} getters for the class given, throwing an
      * exception if there isn't one.
-     *
-     * TODO: caching
      */
     <T> Collection<Method> getPrimaryKeyGetters(Class<T> clazz) {
-        List<Method> keyGetters = new LinkedList<Method>();
-        for (Method getter : getRelevantGetters(clazz)) {
-            if (ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class)
-                    || ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class)) {
-                keyGetters.add(getter);
-            }
-        }
-
-        return keyGetters;
+        return getClassModel(clazz).primaryKeyGetters;
     }
 
 
@@ -143,20 +177,7 @@ class DynamoDBReflector {
      * throwing an exception if there isn't one.
      */
     <T> Method getPrimaryHashKeyGetter(Class<T> clazz) {
-        Method hashKeyMethod;
-        synchronized (primaryHashKeyGetterCache) {
-            if ( !primaryHashKeyGetterCache.containsKey(clazz) ) {
-                for ( Method method : getRelevantGetters(clazz) ) {
-                    if ( method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method, DynamoDBHashKey.class)) {
-                        primaryHashKeyGetterCache.put(clazz, method);
-                        break;
-                    }
-                }
-            }
-            hashKeyMethod = primaryHashKeyGetterCache.get(clazz);
-        }
-
+        Method hashKeyMethod = getClassModel(clazz).hashKeyGetter;
         if ( hashKeyMethod == null ) {
             throw new DynamoDBMappingException("Public, zero-parameter hash key property must be annotated with "
                     + DynamoDBHashKey.class);
@@ -179,64 +200,50 @@ class DynamoDBReflector {
      * Returns the attribute name corresponding to the given getter method.
      */
     String getAttributeName(Method getter) {
+        return getGetterModel(getter).attributeName;
+    }
+
+    private static String findAttributeName(Method getter) {
         String attributeName;
-        readLockAttrName.lock();
-        try {
-            attributeName = attributeNameCache.get(getter);
-        } finally {
-            readLockAttrName.unlock();
-        }
-        if ( attributeName != null )
-            return attributeName;
         DynamoDBHashKey hashKeyAnnotation = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBHashKey.class);
         if ( hashKeyAnnotation != null ) {
             attributeName = hashKeyAnnotation.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexHashKey indexHashKey = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBIndexHashKey.class);
         if ( indexHashKey != null ) {
             attributeName = indexHashKey.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBRangeKey rangeKey = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBRangeKey.class);
         if ( rangeKey != null ) {
             attributeName = rangeKey.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexRangeKey indexRangeKey = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBIndexRangeKey.class);
         if ( indexRangeKey != null ) {
             attributeName = indexRangeKey.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBAttribute attribute = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBAttribute.class);
         if ( attribute != null ) {
             attributeName = attribute.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBVersionAttribute version = ReflectionUtils.getAnnotationFromGetterOrField(getter, DynamoDBVersionAttribute.class);
         if ( version != null ) {
             attributeName = version.attributeName();
             if ( attributeName != null && attributeName.length() > 0 )
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         // Default to the camel-cased field name of the getter method, inferred
         // according to the Java naming convention.
         attributeName = ReflectionUtils.getFieldNameByGetter(getter, true);
-        return cacheAttributeName(getter, attributeName);
-    }
-
-    private String cacheAttributeName(Method getter, String attributeName) {
-        writeLockAttrName.lock();
-        try {
-            attributeNameCache.put(getter, attributeName);
-        } finally {
-            writeLockAttrName.unlock();
-        }
         return attributeName;
     }
 
@@ -245,24 +252,22 @@ class DynamoDBReflector {
      * setter exists.
      */
     Method getSetter(Method getter) {
-        synchronized (setterCache) {
-            if ( !setterCache.containsKey(getter) ) {
-                String fieldName = ReflectionUtils.getFieldNameByGetter(getter, false);
-                String setterName = "set" + fieldName;
-                Method setter = null;
-                try {
-                    setter = getter.getDeclaringClass().getMethod(setterName, getter.getReturnType());
-                } catch ( NoSuchMethodException e ) {
-                    throw new DynamoDBMappingException("Expected a public, one-argument method called " + setterName
-                            + " on class " + getter.getDeclaringClass(), e);
-                } catch ( SecurityException e ) {
-                    throw new DynamoDBMappingException("No access to public, one-argument method called " + setterName
-                            + " on class " + getter.getDeclaringClass(), e);
-                }
-                setterCache.put(getter, setter);
+        Method setter = setterCache.get(getter);
+        if ( setter == null ) {
+            String fieldName = ReflectionUtils.getFieldNameByGetter(getter, false);
+            String setterName = "set" + fieldName;
+            try {
+                setter = getter.getDeclaringClass().getMethod(setterName, getter.getReturnType());
+            } catch ( NoSuchMethodException e ) {
+                throw new DynamoDBMappingException("Expected a public, one-argument method called " + setterName
+                        + " on class " + getter.getDeclaringClass(), e);
+            } catch ( SecurityException e ) {
+                throw new DynamoDBMappingException("No access to public, one-argument method called " + setterName
+                        + " on class " + getter.getDeclaringClass(), e);
             }
-            return setterCache.get(getter);
+            setterCache.putIfAbsent(getter, setter);
         }
+        return setter;
     }
 
     /**
@@ -270,31 +275,14 @@ class DynamoDBReflector {
      * version attribute.
      */
     boolean isVersionAttributeGetter(Method getter) {
-        synchronized (versionAttributeGetterCache) {
-            if ( !versionAttributeGetterCache.containsKey(getter) ) {
-                versionAttributeGetterCache.put(
-                        getter,
-                        getter.getName().startsWith("get") && getter.getParameterTypes().length == 0
-                                && ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBVersionAttribute.class));
-            }
-            return versionAttributeGetterCache.get(getter);
-        }
+        return getGetterModel(getter).isVersionAttribute;
     }
 
     /**
      * Returns whether the method given is an assignable key getter.
      */
     boolean isAssignableKey(Method getter) {
-        synchronized (autoGeneratedKeyGetterCache) {
-            if ( !autoGeneratedKeyGetterCache.containsKey(getter) ) {
-                autoGeneratedKeyGetterCache.put(
-                        getter,
-                        ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBAutoGeneratedKey.class)
-                                && ( ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class) ||
-                                     ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class)));
-            }
-            return autoGeneratedKeyGetterCache.get(getter);
-        }
+        return getGetterModel(getter).isAssignableKey;
     }
 
     /**
@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class AttributeDefinitionJsonUnmarshaller implements Unmarshaller<AttributeDefinition, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("AttributeName", "AttributeType");
+
     public AttributeDefinition unmarshall(JsonUnmarshallerContext context) throws Exception {
         AttributeDefinition attributeDefinition = new AttributeDefinition();
 
@@ -45,13 +47,15 @@ public class AttributeDefinitionJsonUnmarshaller implements Unmarshaller<Attribu
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // AttributeName
                     context.nextToken();
                     attributeDefinition.setAttributeName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AttributeType", targetDepth)) {
+                    break;
+                case 1: // AttributeType
                     context.nextToken();
                     attributeDefinition.setAttributeType(StringJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,16 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class AttributeValueJsonUnmarshaller implements Unmarshaller<AttributeValue, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("S", "N", "B", "SS", "NS", "BS", "M", "L", "NULL", "BOOL");
+    private static final ListUnmarshaller<String> STRING_LIST_UNMARSHALLER =
+            new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<java.nio.ByteBuffer> BYTE_BUFFER_LIST_UNMARSHALLER =
+            new ListUnmarshaller<java.nio.ByteBuffer>(ByteBufferJsonUnmarshaller.getInstance());
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<AttributeValue> ATTRIBUTE_VALUE_LIST_UNMARSHALLER =
+            new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance());
+
     public AttributeValue unmarshall(JsonUnmarshallerContext context) throws Exception {
         AttributeValue attributeValue = new AttributeValue();
 
@@ -45,45 +55,47 @@ public class AttributeValueJsonUnmarshaller implements Unmarshaller<AttributeVal
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("S", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // S
                     context.nextToken();
                     attributeValue.setS(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("N", targetDepth)) {
+                    break;
+                case 1: // N
                     context.nextToken();
                     attributeValue.setN(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("B", targetDepth)) {
+                    break;
+                case 2: // B
                     context.nextToken();
                     attributeValue.setB(ByteBufferJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SS", targetDepth)) {
+                    break;
+                case 3: // SS
                     context.nextToken();
-                    attributeValue.setSS(new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NS", targetDepth)) {
+                    attributeValue.setSS(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 4: // NS
                     context.nextToken();
-                    attributeValue.setNS(new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("BS", targetDepth)) {
+                    attributeValue.setNS(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 5: // BS
                     context.nextToken();
-                    attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(ByteBufferJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("M", targetDepth)) {
+                    attributeValue.setBS(BYTE_BUFFER_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 6: // M
                     context.nextToken();
-                    attributeValue.setM(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("L", targetDepth)) {
+                    attributeValue.setM(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 7: // L
                     context.nextToken();
-                    attributeValue.setL(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NULL", targetDepth)) {
+                    attributeValue.setL(ATTRIBUTE_VALUE_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 8: // NULL
                     context.nextToken();
                     attributeValue.setNULL(BooleanJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("BOOL", targetDepth)) {
+                    break;
+                case 9: // BOOL
                     context.nextToken();
                     attributeValue.setBOOL(BooleanJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
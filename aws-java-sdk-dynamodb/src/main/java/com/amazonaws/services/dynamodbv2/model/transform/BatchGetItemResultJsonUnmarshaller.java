@@ -30,6 +30,14 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class BatchGetItemResultJsonUnmarshaller implements Unmarshaller<BatchGetItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Responses", "UnprocessedKeys", "ConsumedCapacity");
+    private static final MapUnmarshaller<String,java.util.List<java.util.Map<String,AttributeValue>>> ATTRIBUTE_VALUE_MAP_LIST_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,java.util.List<java.util.Map<String,AttributeValue>>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance())));
+    private static final MapUnmarshaller<String,KeysAndAttributes> KEYS_AND_ATTRIBUTES_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,KeysAndAttributes>(StringJsonUnmarshaller.getInstance(), KeysAndAttributesJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<ConsumedCapacity> CONSUMED_CAPACITY_LIST_UNMARSHALLER =
+            new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance());
+
     public BatchGetItemResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         BatchGetItemResult batchGetItemResult = new BatchGetItemResult();
 
@@ -45,17 +53,19 @@ public class BatchGetItemResultJsonUnmarshaller implements Unmarshaller<BatchGet
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Responses", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Responses
                     context.nextToken();
-                    batchGetItemResult.setResponses(new MapUnmarshaller<String,java.util.List<java.util.Map<String,AttributeValue>>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()))).unmarshall(context));
-                }
-                if (context.testExpression("UnprocessedKeys", targetDepth)) {
+                    batchGetItemResult.setResponses(ATTRIBUTE_VALUE_MAP_LIST_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // UnprocessedKeys
                     context.nextToken();
-                    batchGetItemResult.setUnprocessedKeys(new MapUnmarshaller<String,KeysAndAttributes>(StringJsonUnmarshaller.getInstance(), KeysAndAttributesJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    batchGetItemResult.setUnprocessedKeys(KEYS_AND_ATTRIBUTES_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 2: // ConsumedCapacity
                     context.nextToken();
-                    batchGetItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                    batchGetItemResult.setConsumedCapacity(CONSUMED_CAPACITY_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
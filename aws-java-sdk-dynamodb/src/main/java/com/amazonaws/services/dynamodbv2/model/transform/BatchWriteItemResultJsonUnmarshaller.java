@@ -30,6 +30,14 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class BatchWriteItemResultJsonUnmarshaller implements Unmarshaller<BatchWriteItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("UnprocessedItems", "ItemCollectionMetrics", "ConsumedCapacity");
+    private static final MapUnmarshaller<String,java.util.List<WriteRequest>> WRITE_REQUEST_LIST_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,java.util.List<WriteRequest>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<WriteRequest>(WriteRequestJsonUnmarshaller.getInstance()));
+    private static final MapUnmarshaller<String,java.util.List<ItemCollectionMetrics>> ITEM_COLLECTION_METRICS_LIST_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,java.util.List<ItemCollectionMetrics>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<ItemCollectionMetrics>(ItemCollectionMetricsJsonUnmarshaller.getInstance()));
+    private static final ListUnmarshaller<ConsumedCapacity> CONSUMED_CAPACITY_LIST_UNMARSHALLER =
+            new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance());
+
     public BatchWriteItemResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         BatchWriteItemResult batchWriteItemResult = new BatchWriteItemResult();
 
@@ -45,17 +53,19 @@ public class BatchWriteItemResultJsonUnmarshaller implements Unmarshaller<BatchW
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedItems", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // UnprocessedItems
                     context.nextToken();
-                    batchWriteItemResult.setUnprocessedItems(new MapUnmarshaller<String,java.util.List<WriteRequest>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<WriteRequest>(WriteRequestJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
+                    batchWriteItemResult.setUnprocessedItems(WRITE_REQUEST_LIST_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // ItemCollectionMetrics
                     context.nextToken();
-                    batchWriteItemResult.setItemCollectionMetrics(new MapUnmarshaller<String,java.util.List<ItemCollectionMetrics>>(StringJsonUnmarshaller.getInstance(), new ListUnmarshaller<ItemCollectionMetrics>(ItemCollectionMetricsJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    batchWriteItemResult.setItemCollectionMetrics(ITEM_COLLECTION_METRICS_LIST_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 2: // ConsumedCapacity
                     context.nextToken();
-                    batchWriteItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                    batchWriteItemResult.setConsumedCapacity(CONSUMED_CAPACITY_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
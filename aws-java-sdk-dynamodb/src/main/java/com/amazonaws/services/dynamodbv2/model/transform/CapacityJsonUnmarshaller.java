@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class CapacityJsonUnmarshaller implements Unmarshaller<Capacity, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("CapacityUnits");
+
     public Capacity unmarshall(JsonUnmarshallerContext context) throws Exception {
         Capacity capacity = new Capacity();
 
@@ -45,9 +47,11 @@ public class CapacityJsonUnmarshaller implements Unmarshaller<Capacity, JsonUnma
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CapacityUnits", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // CapacityUnits
                     context.nextToken();
                     capacity.setCapacityUnits(DoubleJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
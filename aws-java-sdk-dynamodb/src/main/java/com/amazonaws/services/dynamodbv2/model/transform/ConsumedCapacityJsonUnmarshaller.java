@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ConsumedCapacityJsonUnmarshaller implements Unmarshaller<ConsumedCapacity, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("TableName", "CapacityUnits", "Table", "LocalSecondaryIndexes", "GlobalSecondaryIndexes");
+    private static final MapUnmarshaller<String,Capacity> CAPACITY_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,Capacity>(StringJsonUnmarshaller.getInstance(), CapacityJsonUnmarshaller.getInstance());
+
     public ConsumedCapacity unmarshall(JsonUnmarshallerContext context) throws Exception {
         ConsumedCapacity consumedCapacity = new ConsumedCapacity();
 
@@ -45,25 +49,27 @@ public class ConsumedCapacityJsonUnmarshaller implements Unmarshaller<ConsumedCa
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // TableName
                     context.nextToken();
                     consumedCapacity.setTableName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CapacityUnits", targetDepth)) {
+                    break;
+                case 1: // CapacityUnits
                     context.nextToken();
                     consumedCapacity.setCapacityUnits(DoubleJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Table", targetDepth)) {
+                    break;
+                case 2: // Table
                     context.nextToken();
                     consumedCapacity.setTable(CapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
+                    break;
+                case 3: // LocalSecondaryIndexes
                     context.nextToken();
-                    consumedCapacity.setLocalSecondaryIndexes(new MapUnmarshaller<String,Capacity>(StringJsonUnmarshaller.getInstance(), CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
+                    consumedCapacity.setLocalSecondaryIndexes(CAPACITY_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 4: // GlobalSecondaryIndexes
                     context.nextToken();
-                    consumedCapacity.setGlobalSecondaryIndexes(new MapUnmarshaller<String,Capacity>(StringJsonUnmarshaller.getInstance(), CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                    consumedCapacity.setGlobalSecondaryIndexes(CAPACITY_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class CreateTableResultJsonUnmarshaller implements Unmarshaller<CreateTableResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("TableDescription");
+
     public CreateTableResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         CreateTableResult createTableResult = new CreateTableResult();
 
@@ -45,9 +47,11 @@ public class CreateTableResultJsonUnmarshaller implements Unmarshaller<CreateTab
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableDescription", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // TableDescription
                     context.nextToken();
                     createTableResult.setTableDescription(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -14,12 +14,10 @@
  */
 package com.amazonaws.services.dynamodbv2.model.transform;
 
-import static com.amazonaws.util.StringUtils.UTF8;
 import static com.amazonaws.util.StringUtils.COMMA_SEPARATOR;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStreamWriter;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,7 +33,7 @@ import com.amazonaws.services.dynamodbv2.model.*;
 import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.StringUtils;
-import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.UTF8ByteArrayWriter;
 import com.amazonaws.util.json.*;
 
 /**
@@ -56,8 +54,8 @@ public class DeleteItemRequestMarshaller implements Marshaller<Request<DeleteIte
         request.setResourcePath("");
         
         try {
-          StringWriter stringWriter = new StringWriter();
-          JSONWriter jsonWriter = new JSONWriter(stringWriter);
+          UTF8ByteArrayWriter contentWriter = new UTF8ByteArrayWriter();
+          JSONWriter jsonWriter = new JSONWriter(contentWriter);
 
           jsonWriter.object();
           
@@ -157,10 +155,8 @@ public class DeleteItemRequestMarshaller implements Marshaller<Request<DeleteIte
 
           jsonWriter.endObject();
 
-          String snippet = stringWriter.toString();
-          byte[] content = snippet.getBytes(UTF8);
-          request.setContent(new StringInputStream(snippet));
-          request.addHeader("Content-Length", Integer.toString(content.length));
+          request.setContent(contentWriter.toInputStream());
+          request.addHeader("Content-Length", Integer.toString(contentWriter.size()));
           request.addHeader("Content-Type", "application/x-amz-json-1.0");
         } catch(Throwable t) {
           throw new AmazonClientException("Unable to marshall request to JSON: " + t.getMessage(), t);
@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class DeleteItemResultJsonUnmarshaller implements Unmarshaller<DeleteItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Attributes", "ConsumedCapacity", "ItemCollectionMetrics");
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public DeleteItemResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         DeleteItemResult deleteItemResult = new DeleteItemResult();
 
@@ -45,17 +49,19 @@ public class DeleteItemResultJsonUnmarshaller implements Unmarshaller<DeleteItem
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Attributes
                     context.nextToken();
-                    deleteItemResult.setAttributes(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    deleteItemResult.setAttributes(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // ConsumedCapacity
                     context.nextToken();
                     deleteItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 2: // ItemCollectionMetrics
                     context.nextToken();
                     deleteItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class DeleteRequestJsonUnmarshaller implements Unmarshaller<DeleteRequest, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Key");
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public DeleteRequest unmarshall(JsonUnmarshallerContext context) throws Exception {
         DeleteRequest deleteRequest = new DeleteRequest();
 
@@ -45,9 +49,11 @@ public class DeleteRequestJsonUnmarshaller implements Unmarshaller<DeleteRequest
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Key
                     context.nextToken();
-                    deleteRequest.setKey(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
+                    deleteRequest.setKey(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
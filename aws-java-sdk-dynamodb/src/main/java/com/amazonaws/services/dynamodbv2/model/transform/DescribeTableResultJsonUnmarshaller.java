@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class DescribeTableResultJsonUnmarshaller implements Unmarshaller<DescribeTableResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Table");
+
     public DescribeTableResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         DescribeTableResult describeTableResult = new DescribeTableResult();
 
@@ -45,9 +47,11 @@ public class DescribeTableResultJsonUnmarshaller implements Unmarshaller<Describ
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Table", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Table
                     context.nextToken();
                     describeTableResult.setTable(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class GetItemResultJsonUnmarshaller implements Unmarshaller<GetItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Item", "ConsumedCapacity");
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public GetItemResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         GetItemResult getItemResult = new GetItemResult();
 
@@ -45,13 +49,15 @@ public class GetItemResultJsonUnmarshaller implements Unmarshaller<GetItemResult
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Item", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Item
                     context.nextToken();
-                    getItemResult.setItem(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    getItemResult.setItem(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // ConsumedCapacity
                     context.nextToken();
                     getItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarshaller<GlobalSecondaryIndexDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("IndexName", "KeySchema", "Projection", "IndexStatus", "Backfilling", "ProvisionedThroughput", "IndexSizeBytes", "ItemCount");
+    private static final ListUnmarshaller<KeySchemaElement> KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER =
+            new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+
     public GlobalSecondaryIndexDescription unmarshall(JsonUnmarshallerContext context) throws Exception {
         GlobalSecondaryIndexDescription globalSecondaryIndexDescription = new GlobalSecondaryIndexDescription();
 
@@ -45,37 +49,39 @@ public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarsha
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // IndexName
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1: // KeySchema
                     context.nextToken();
-                    globalSecondaryIndexDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    globalSecondaryIndexDescription.setKeySchema(KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 2: // Projection
                     context.nextToken();
                     globalSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexStatus", targetDepth)) {
+                    break;
+                case 3: // IndexStatus
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexStatus(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Backfilling", targetDepth)) {
+                    break;
+                case 4: // Backfilling
                     context.nextToken();
                     globalSecondaryIndexDescription.setBackfilling(BooleanJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 5: // ProvisionedThroughput
                     context.nextToken();
                     globalSecondaryIndexDescription.setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
+                    break;
+                case 6: // IndexSizeBytes
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexSizeBytes(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 7: // ItemCount
                     context.nextToken();
                     globalSecondaryIndexDescription.setItemCount(LongJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
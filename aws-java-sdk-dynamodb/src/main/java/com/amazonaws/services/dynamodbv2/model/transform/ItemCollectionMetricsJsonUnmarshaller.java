@@ -30,6 +30,12 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ItemCollectionMetricsJsonUnmarshaller implements Unmarshaller<ItemCollectionMetrics, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("ItemCollectionKey", "SizeEstimateRangeGB");
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<Double> DOUBLE_LIST_UNMARSHALLER =
+            new ListUnmarshaller<Double>(DoubleJsonUnmarshaller.getInstance());
+
     public ItemCollectionMetrics unmarshall(JsonUnmarshallerContext context) throws Exception {
         ItemCollectionMetrics itemCollectionMetrics = new ItemCollectionMetrics();
 
@@ -45,13 +51,15 @@ public class ItemCollectionMetricsJsonUnmarshaller implements Unmarshaller<ItemC
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ItemCollectionKey", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // ItemCollectionKey
                     context.nextToken();
-                    itemCollectionMetrics.setItemCollectionKey(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SizeEstimateRangeGB", targetDepth)) {
+                    itemCollectionMetrics.setItemCollectionKey(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // SizeEstimateRangeGB
                     context.nextToken();
-                    itemCollectionMetrics.setSizeEstimateRangeGB(new ListUnmarshaller<Double>(DoubleJsonUnmarshaller.getInstance()).unmarshall(context));
+                    itemCollectionMetrics.setSizeEstimateRangeGB(DOUBLE_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class KeySchemaElementJsonUnmarshaller implements Unmarshaller<KeySchemaElement, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("AttributeName", "KeyType");
+
     public KeySchemaElement unmarshall(JsonUnmarshallerContext context) throws Exception {
         KeySchemaElement keySchemaElement = new KeySchemaElement();
 
@@ -45,13 +47,15 @@ public class KeySchemaElementJsonUnmarshaller implements Unmarshaller<KeySchemaE
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // AttributeName
                     context.nextToken();
                     keySchemaElement.setAttributeName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeyType", targetDepth)) {
+                    break;
+                case 1: // KeyType
                     context.nextToken();
                     keySchemaElement.setKeyType(StringJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,14 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class KeysAndAttributesJsonUnmarshaller implements Unmarshaller<KeysAndAttributes, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Keys", "AttributesToGet", "ConsistentRead", "ProjectionExpression", "ExpressionAttributeNames");
+    private static final ListUnmarshaller<java.util.Map<String,AttributeValue>> ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER =
+            new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()));
+    private static final ListUnmarshaller<String> STRING_LIST_UNMARSHALLER =
+            new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance());
+    private static final MapUnmarshaller<String,String> STRING_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,String>(StringJsonUnmarshaller.getInstance(), StringJsonUnmarshaller.getInstance());
+
     public KeysAndAttributes unmarshall(JsonUnmarshallerContext context) throws Exception {
         KeysAndAttributes keysAndAttributes = new KeysAndAttributes();
 
@@ -45,25 +53,27 @@ public class KeysAndAttributesJsonUnmarshaller implements Unmarshaller<KeysAndAt
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Keys
                     context.nextToken();
-                    keysAndAttributes.setKeys(new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("AttributesToGet", targetDepth)) {
+                    keysAndAttributes.setKeys(ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // AttributesToGet
                     context.nextToken();
-                    keysAndAttributes.setAttributesToGet(new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsistentRead", targetDepth)) {
+                    keysAndAttributes.setAttributesToGet(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 2: // ConsistentRead
                     context.nextToken();
                     keysAndAttributes.setConsistentRead(BooleanJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProjectionExpression", targetDepth)) {
+                    break;
+                case 3: // ProjectionExpression
                     context.nextToken();
                     keysAndAttributes.setProjectionExpression(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ExpressionAttributeNames", targetDepth)) {
+                    break;
+                case 4: // ExpressionAttributeNames
                     context.nextToken();
-                    keysAndAttributes.setExpressionAttributeNames(new MapUnmarshaller<String,String>(StringJsonUnmarshaller.getInstance(), StringJsonUnmarshaller.getInstance()).unmarshall(context));
+                    keysAndAttributes.setExpressionAttributeNames(STRING_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
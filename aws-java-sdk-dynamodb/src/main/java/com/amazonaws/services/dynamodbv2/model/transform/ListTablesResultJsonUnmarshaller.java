@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ListTablesResultJsonUnmarshaller implements Unmarshaller<ListTablesResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("TableNames", "LastEvaluatedTableName");
+    private static final ListUnmarshaller<String> STRING_LIST_UNMARSHALLER =
+            new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance());
+
     public ListTablesResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         ListTablesResult listTablesResult = new ListTablesResult();
 
@@ -45,13 +49,15 @@ public class ListTablesResultJsonUnmarshaller implements Unmarshaller<ListTables
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableNames", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // TableNames
                     context.nextToken();
-                    listTablesResult.setTableNames(new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedTableName", targetDepth)) {
+                    listTablesResult.setTableNames(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // LastEvaluatedTableName
                     context.nextToken();
                     listTablesResult.setLastEvaluatedTableName(StringJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
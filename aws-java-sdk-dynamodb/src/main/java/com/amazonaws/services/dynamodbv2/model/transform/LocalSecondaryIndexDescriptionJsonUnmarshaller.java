@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarshaller<LocalSecondaryIndexDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("IndexName", "KeySchema", "Projection", "IndexSizeBytes", "ItemCount");
+    private static final ListUnmarshaller<KeySchemaElement> KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER =
+            new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+
     public LocalSecondaryIndexDescription unmarshall(JsonUnmarshallerContext context) throws Exception {
         LocalSecondaryIndexDescription localSecondaryIndexDescription = new LocalSecondaryIndexDescription();
 
@@ -45,25 +49,27 @@ public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarshal
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // IndexName
                     context.nextToken();
                     localSecondaryIndexDescription.setIndexName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1: // KeySchema
                     context.nextToken();
-                    localSecondaryIndexDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    localSecondaryIndexDescription.setKeySchema(KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 2: // Projection
                     context.nextToken();
                     localSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
+                    break;
+                case 3: // IndexSizeBytes
                     context.nextToken();
                     localSecondaryIndexDescription.setIndexSizeBytes(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 4: // ItemCount
                     context.nextToken();
                     localSecondaryIndexDescription.setItemCount(LongJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
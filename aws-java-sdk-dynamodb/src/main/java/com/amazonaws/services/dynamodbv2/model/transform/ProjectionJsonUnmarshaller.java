@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ProjectionJsonUnmarshaller implements Unmarshaller<Projection, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("ProjectionType", "NonKeyAttributes");
+    private static final ListUnmarshaller<String> STRING_LIST_UNMARSHALLER =
+            new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance());
+
     public Projection unmarshall(JsonUnmarshallerContext context) throws Exception {
         Projection projection = new Projection();
 
@@ -45,13 +49,15 @@ public class ProjectionJsonUnmarshaller implements Unmarshaller<Projection, Json
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProjectionType", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // ProjectionType
                     context.nextToken();
                     projection.setProjectionType(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("NonKeyAttributes", targetDepth)) {
+                    break;
+                case 1: // NonKeyAttributes
                     context.nextToken();
-                    projection.setNonKeyAttributes(new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance()).unmarshall(context));
+                    projection.setNonKeyAttributes(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ProvisionedThroughputDescriptionJsonUnmarshaller implements Unmarshaller<ProvisionedThroughputDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("LastIncreaseDateTime", "LastDecreaseDateTime", "NumberOfDecreasesToday", "ReadCapacityUnits", "WriteCapacityUnits");
+
     public ProvisionedThroughputDescription unmarshall(JsonUnmarshallerContext context) throws Exception {
         ProvisionedThroughputDescription provisionedThroughputDescription = new ProvisionedThroughputDescription();
 
@@ -45,25 +47,27 @@ public class ProvisionedThroughputDescriptionJsonUnmarshaller implements Unmarsh
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LastIncreaseDateTime", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // LastIncreaseDateTime
                     context.nextToken();
                     provisionedThroughputDescription.setLastIncreaseDateTime(DateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LastDecreaseDateTime", targetDepth)) {
+                    break;
+                case 1: // LastDecreaseDateTime
                     context.nextToken();
                     provisionedThroughputDescription.setLastDecreaseDateTime(DateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDecreasesToday", targetDepth)) {
+                    break;
+                case 2: // NumberOfDecreasesToday
                     context.nextToken();
                     provisionedThroughputDescription.setNumberOfDecreasesToday(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
+                    break;
+                case 3: // ReadCapacityUnits
                     context.nextToken();
                     provisionedThroughputDescription.setReadCapacityUnits(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
+                    break;
+                case 4: // WriteCapacityUnits
                     context.nextToken();
                     provisionedThroughputDescription.setWriteCapacityUnits(LongJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
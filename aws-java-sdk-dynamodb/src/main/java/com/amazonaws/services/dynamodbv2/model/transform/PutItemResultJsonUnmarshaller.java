@@ -30,6 +30,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class PutItemResultJsonUnmarshaller implements Unmarshaller<PutItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Attributes", "ConsumedCapacity", "ItemCollectionMetrics");
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public PutItemResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         PutItemResult putItemResult = new PutItemResult();
 
@@ -45,17 +49,19 @@ public class PutItemResultJsonUnmarshaller implements Unmarshaller<PutItemResult
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Attributes
                     context.nextToken();
-                    putItemResult.setAttributes(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    putItemResult.setAttributes(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // ConsumedCapacity
                     context.nextToken();
                     putItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 2: // ItemCollectionMetrics
                     context.nextToken();
                     putItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
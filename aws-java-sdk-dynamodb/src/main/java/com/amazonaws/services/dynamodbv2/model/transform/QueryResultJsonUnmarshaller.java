@@ -30,6 +30,12 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class QueryResultJsonUnmarshaller implements Unmarshaller<QueryResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Items", "Count", "ScannedCount", "LastEvaluatedKey", "ConsumedCapacity");
+    private static final ListUnmarshaller<java.util.Map<String,AttributeValue>> ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER =
+            new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()));
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public QueryResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         QueryResult queryResult = new QueryResult();
 
@@ -45,25 +51,27 @@ public class QueryResultJsonUnmarshaller implements Unmarshaller<QueryResult, Js
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Items
                     context.nextToken();
-                    queryResult.setItems(new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
+                    queryResult.setItems(ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // Count
                     context.nextToken();
                     queryResult.setCount(IntegerJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
+                    break;
+                case 2: // ScannedCount
                     context.nextToken();
                     queryResult.setScannedCount(IntegerJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
+                    break;
+                case 3: // LastEvaluatedKey
                     context.nextToken();
-                    queryResult.setLastEvaluatedKey(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    queryResult.setLastEvaluatedKey(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 4: // ConsumedCapacity
                     context.nextToken();
                     queryResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
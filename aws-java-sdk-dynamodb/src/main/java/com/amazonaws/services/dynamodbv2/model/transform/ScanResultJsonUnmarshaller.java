@@ -30,6 +30,12 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ScanResultJsonUnmarshaller implements Unmarshaller<ScanResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("Items", "Count", "ScannedCount", "LastEvaluatedKey", "ConsumedCapacity");
+    private static final ListUnmarshaller<java.util.Map<String,AttributeValue>> ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER =
+            new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()));
+    private static final MapUnmarshaller<String,AttributeValue> ATTRIBUTE_VALUE_MAP_UNMARSHALLER =
+            new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance());
+
     public ScanResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         ScanResult scanResult = new ScanResult();
 
@@ -45,25 +51,27 @@ public class ScanResultJsonUnmarshaller implements Unmarshaller<ScanResult, Json
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // Items
                     context.nextToken();
-                    scanResult.setItems(new ListUnmarshaller<java.util.Map<String,AttributeValue>>(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
+                    scanResult.setItems(ATTRIBUTE_VALUE_MAP_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // Count
                     context.nextToken();
                     scanResult.setCount(IntegerJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
+                    break;
+                case 2: // ScannedCount
                     context.nextToken();
                     scanResult.setScannedCount(IntegerJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
+                    break;
+                case 3: // LastEvaluatedKey
                     context.nextToken();
-                    scanResult.setLastEvaluatedKey(new MapUnmarshaller<String,AttributeValue>(StringJsonUnmarshaller.getInstance(), AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    scanResult.setLastEvaluatedKey(ATTRIBUTE_VALUE_MAP_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 4: // ConsumedCapacity
                     context.nextToken();
                     scanResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
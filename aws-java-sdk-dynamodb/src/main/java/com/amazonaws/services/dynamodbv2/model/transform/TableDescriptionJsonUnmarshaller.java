@@ -30,6 +30,16 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class TableDescriptionJsonUnmarshaller implements Unmarshaller<TableDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("AttributeDefinitions", "TableName", "KeySchema", "TableStatus", "CreationDateTime", "ProvisionedThroughput", "TableSizeBytes", "ItemCount", "LocalSecondaryIndexes", "GlobalSecondaryIndexes");
+    private static final ListUnmarshaller<AttributeDefinition> ATTRIBUTE_DEFINITION_LIST_UNMARSHALLER =
+            new ListUnmarshaller<AttributeDefinition>(AttributeDefinitionJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<KeySchemaElement> KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER =
+            new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<LocalSecondaryIndexDescription> LOCAL_SECONDARY_INDEX_DESCRIPTION_LIST_UNMARSHALLER =
+            new ListUnmarshaller<LocalSecondaryIndexDescription>(LocalSecondaryIndexDescriptionJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<GlobalSecondaryIndexDescription> GLOBAL_SECONDARY_INDEX_DESCRIPTION_LIST_UNMARSHALLER =
+            new ListUnmarshaller<GlobalSecondaryIndexDescription>(GlobalSecondaryIndexDescriptionJsonUnmarshaller.getInstance());
+
     public TableDescription unmarshall(JsonUnmarshallerContext context) throws Exception {
         TableDescription tableDescription = new TableDescription();
 
@@ -45,45 +55,47 @@ public class TableDescriptionJsonUnmarshaller implements Unmarshaller<TableDescr
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeDefinitions", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // AttributeDefinitions
                     context.nextToken();
-                    tableDescription.setAttributeDefinitions(new ListUnmarshaller<AttributeDefinition>(AttributeDefinitionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
+                    tableDescription.setAttributeDefinitions(ATTRIBUTE_DEFINITION_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 1: // TableName
                     context.nextToken();
                     tableDescription.setTableName(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 2: // KeySchema
                     context.nextToken();
-                    tableDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableStatus", targetDepth)) {
+                    tableDescription.setKeySchema(KEY_SCHEMA_ELEMENT_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 3: // TableStatus
                     context.nextToken();
                     tableDescription.setTableStatus(StringJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
+                    break;
+                case 4: // CreationDateTime
                     context.nextToken();
                     tableDescription.setCreationDateTime(DateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 5: // ProvisionedThroughput
                     context.nextToken();
                     tableDescription.setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TableSizeBytes", targetDepth)) {
+                    break;
+                case 6: // TableSizeBytes
                     context.nextToken();
                     tableDescription.setTableSizeBytes(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 7: // ItemCount
                     context.nextToken();
                     tableDescription.setItemCount(LongJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
+                    break;
+                case 8: // LocalSecondaryIndexes
                     context.nextToken();
-                    tableDescription.setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexDescription>(LocalSecondaryIndexDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
+                    tableDescription.setLocalSecondaryIndexes(LOCAL_SECONDARY_INDEX_DESCRIPTION_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case 9: // GlobalSecondaryIndexes
                     context.nextToken();
-                    tableDescription.setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexDescription>(GlobalSecondaryIndexDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
+                    tableDescription.setGlobalSecondaryIndexes(GLOBAL_SECONDARY_INDEX_DESCRIPTION_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
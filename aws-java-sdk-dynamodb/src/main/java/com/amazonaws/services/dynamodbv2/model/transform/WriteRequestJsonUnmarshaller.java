@@ -30,6 +30,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class WriteRequestJsonUnmarshaller implements Unmarshaller<WriteRequest, JsonUnmarshallerContext> {
 
+    private static final JsonFieldTable FIELDS = new JsonFieldTable("PutRequest", "DeleteRequest");
+
     public WriteRequest unmarshall(JsonUnmarshallerContext context) throws Exception {
         WriteRequest writeRequest = new WriteRequest();
 
@@ -45,13 +47,15 @@ public class WriteRequestJsonUnmarshaller implements Unmarshaller<WriteRequest,
             if (token == null) break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PutRequest", targetDepth)) {
+                switch (FIELDS.indexOf(context.getCurrentFieldName(targetDepth))) {
+                case 0: // PutRequest
                     context.nextToken();
                     writeRequest.setPutRequest(PutRequestJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DeleteRequest", targetDepth)) {
+                    break;
+                case 1: // DeleteRequest
                     context.nextToken();
                     writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
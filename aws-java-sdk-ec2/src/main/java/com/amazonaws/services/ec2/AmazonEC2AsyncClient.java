@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonEC2.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Elastic Compute Cloud <p>
  * Amazon Elastic Compute Cloud (Amazon EC2) provides resizable computing
  * capacity in the Amazon Web Services (AWS) cloud. Using Amazon EC2
@@ -307,12 +311,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-        }
-    });
+        return rebootInstancesComposableAsync(rebootInstancesRequest);
     }
 
     /**
@@ -355,18 +354,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(rebootInstancesComposableAsync(rebootInstancesRequest),
+                rebootInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebootInstances operation like
+     * {@link #rebootInstancesAsync(RebootInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param rebootInstancesRequest Container for the necessary parameters
+     *           to execute the RebootInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         RebootInstances service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> rebootInstancesComposableAsync(final RebootInstancesRequest rebootInstancesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 rebootInstances(rebootInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstancesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, rebootInstancesRequest,
+                new RebootInstancesRequestMarshaller(), null);
     }
     
     /**
@@ -397,11 +407,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-        }
-    });
+        return describeReservedInstancesComposableAsync(describeReservedInstancesRequest);
     }
 
     /**
@@ -438,19 +444,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
+        return withAsyncHandler(describeReservedInstancesComposableAsync(describeReservedInstancesRequest),
+                describeReservedInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedInstances operation like
+     * {@link #describeReservedInstancesAsync(DescribeReservedInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedInstances operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedInstances service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeReservedInstancesResult> describeReservedInstancesComposableAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedInstancesResult>() {
             public DescribeReservedInstancesResult call() throws Exception {
-              DescribeReservedInstancesResult result;
-                try {
-                result = describeReservedInstances(describeReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedInstances(describeReservedInstancesRequest);
+            }
+        }, describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(), new DescribeReservedInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -485,11 +503,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-        }
-    });
+        return describeAvailabilityZonesComposableAsync(describeAvailabilityZonesRequest);
     }
 
     /**
@@ -530,19 +544,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
+        return withAsyncHandler(describeAvailabilityZonesComposableAsync(describeAvailabilityZonesRequest),
+                describeAvailabilityZonesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAvailabilityZones operation like
+     * {@link #describeAvailabilityZonesAsync(DescribeAvailabilityZonesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAvailabilityZonesRequest Container for the necessary
+     *           parameters to execute the DescribeAvailabilityZones operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAvailabilityZones service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeAvailabilityZonesResult> describeAvailabilityZonesComposableAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAvailabilityZonesResult>() {
             public DescribeAvailabilityZonesResult call() throws Exception {
-              DescribeAvailabilityZonesResult result;
-                try {
-                result = describeAvailabilityZones(describeAvailabilityZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
-                 return result;
-        }
-    });
+                return describeAvailabilityZones(describeAvailabilityZonesRequest);
+            }
+        }, describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(), new DescribeAvailabilityZonesResultStaxUnmarshaller());
     }
     
     /**
@@ -585,11 +611,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-        }
-    });
+        return detachVolumeComposableAsync(detachVolumeRequest);
     }
 
     /**
@@ -638,19 +660,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
+        return withAsyncHandler(detachVolumeComposableAsync(detachVolumeRequest),
+                detachVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachVolume operation like
+     * {@link #detachVolumeAsync(DetachVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param detachVolumeRequest Container for the necessary parameters to
+     *           execute the DetachVolume operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DetachVolume
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DetachVolumeResult> detachVolumeComposableAsync(final DetachVolumeRequest detachVolumeRequest) {
+        return executeAsync(executorService, new Callable<DetachVolumeResult>() {
             public DetachVolumeResult call() throws Exception {
-              DetachVolumeResult result;
-                try {
-                result = detachVolume(detachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVolumeRequest, result);
-                 return result;
-        }
-    });
+                return detachVolume(detachVolumeRequest);
+            }
+        }, detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(), new DetachVolumeResultStaxUnmarshaller());
     }
     
     /**
@@ -676,12 +707,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-        }
-    });
+        return deleteKeyPairComposableAsync(deleteKeyPairRequest);
     }
 
     /**
@@ -713,18 +739,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteKeyPairComposableAsync(deleteKeyPairRequest),
+                deleteKeyPairRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteKeyPair operation like
+     * {@link #deleteKeyPairAsync(DeleteKeyPairRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteKeyPairRequest Container for the necessary parameters to
+     *           execute the DeleteKeyPair operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteKeyPair
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteKeyPairComposableAsync(final DeleteKeyPairRequest deleteKeyPairRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteKeyPair(deleteKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteKeyPairRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteKeyPairRequest,
+                new DeleteKeyPairRequestMarshaller(), null);
     }
     
     /**
@@ -752,11 +789,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-        }
-    });
+        return unmonitorInstancesComposableAsync(unmonitorInstancesRequest);
     }
 
     /**
@@ -790,19 +823,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
+        return withAsyncHandler(unmonitorInstancesComposableAsync(unmonitorInstancesRequest),
+                unmonitorInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnmonitorInstances operation like
+     * {@link #unmonitorInstancesAsync(UnmonitorInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param unmonitorInstancesRequest Container for the necessary
+     *           parameters to execute the UnmonitorInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         UnmonitorInstances service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<UnmonitorInstancesResult> unmonitorInstancesComposableAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) {
+        return executeAsync(executorService, new Callable<UnmonitorInstancesResult>() {
             public UnmonitorInstancesResult call() throws Exception {
-              UnmonitorInstancesResult result;
-                try {
-                result = unmonitorInstances(unmonitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unmonitorInstancesRequest, result);
-                 return result;
-        }
-    });
+                return unmonitorInstances(unmonitorInstancesRequest);
+            }
+        }, unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(), new UnmonitorInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -830,11 +873,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-        }
-    });
+        return attachVpnGatewayComposableAsync(attachVpnGatewayRequest);
     }
 
     /**
@@ -868,19 +907,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
+        return withAsyncHandler(attachVpnGatewayComposableAsync(attachVpnGatewayRequest),
+                attachVpnGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachVpnGateway operation like
+     * {@link #attachVpnGatewayAsync(AttachVpnGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param attachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the AttachVpnGateway operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AttachVpnGateway service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<AttachVpnGatewayResult> attachVpnGatewayComposableAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) {
+        return executeAsync(executorService, new Callable<AttachVpnGatewayResult>() {
             public AttachVpnGatewayResult call() throws Exception {
-              AttachVpnGatewayResult result;
-                try {
-                result = attachVpnGateway(attachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+                return attachVpnGateway(attachVpnGatewayRequest);
+            }
+        }, attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(), new AttachVpnGatewayResultStaxUnmarshaller());
     }
     
     /**
@@ -918,11 +966,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-        }
-    });
+        return createImageComposableAsync(createImageRequest);
     }
 
     /**
@@ -966,19 +1010,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
+        return withAsyncHandler(createImageComposableAsync(createImageRequest),
+                createImageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateImage operation like
+     * {@link #createImageAsync(CreateImageRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createImageRequest Container for the necessary parameters to
+     *           execute the CreateImage operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateImage
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateImageResult> createImageComposableAsync(final CreateImageRequest createImageRequest) {
+        return executeAsync(executorService, new Callable<CreateImageResult>() {
             public CreateImageResult call() throws Exception {
-              CreateImageResult result;
-                try {
-                result = createImage(createImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createImageRequest, result);
-                 return result;
-        }
-    });
+                return createImage(createImageRequest);
+            }
+        }, createImageRequest,
+                new CreateImageRequestMarshaller(), new CreateImageResultStaxUnmarshaller());
     }
     
     /**
@@ -1009,12 +1062,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-        }
-    });
+        return deleteSecurityGroupComposableAsync(deleteSecurityGroupRequest);
     }
 
     /**
@@ -1051,18 +1099,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteSecurityGroupComposableAsync(deleteSecurityGroupRequest),
+                deleteSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSecurityGroup operation like
+     * {@link #deleteSecurityGroupAsync(DeleteSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteSecurityGroup operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSecurityGroup service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteSecurityGroupComposableAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSecurityGroup(deleteSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(), null);
     }
     
     /**
@@ -1094,11 +1155,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-                return createInstanceExportTask(createInstanceExportTaskRequest);
-        }
-    });
+        return createInstanceExportTaskComposableAsync(createInstanceExportTaskRequest);
     }
 
     /**
@@ -1136,19 +1193,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
+        return withAsyncHandler(createInstanceExportTaskComposableAsync(createInstanceExportTaskRequest),
+                createInstanceExportTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInstanceExportTask operation like
+     * {@link #createInstanceExportTaskAsync(CreateInstanceExportTaskRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createInstanceExportTaskRequest Container for the necessary
+     *           parameters to execute the CreateInstanceExportTask operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateInstanceExportTask service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateInstanceExportTaskResult> createInstanceExportTaskComposableAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) {
+        return executeAsync(executorService, new Callable<CreateInstanceExportTaskResult>() {
             public CreateInstanceExportTaskResult call() throws Exception {
-              CreateInstanceExportTaskResult result;
-                try {
-                result = createInstanceExportTask(createInstanceExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceExportTaskRequest, result);
-                 return result;
-        }
-    });
+                return createInstanceExportTask(createInstanceExportTaskRequest);
+            }
+        }, createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(), new CreateInstanceExportTaskResultStaxUnmarshaller());
     }
     
     /**
@@ -1192,11 +1261,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-        }
-    });
+        return getPasswordDataComposableAsync(getPasswordDataRequest);
     }
 
     /**
@@ -1246,19 +1311,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
+        return withAsyncHandler(getPasswordDataComposableAsync(getPasswordDataRequest),
+                getPasswordDataRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetPasswordData operation like
+     * {@link #getPasswordDataAsync(GetPasswordDataRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getPasswordDataRequest Container for the necessary parameters
+     *           to execute the GetPasswordData operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         GetPasswordData service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<GetPasswordDataResult> getPasswordDataComposableAsync(final GetPasswordDataRequest getPasswordDataRequest) {
+        return executeAsync(executorService, new Callable<GetPasswordDataResult>() {
             public GetPasswordDataResult call() throws Exception {
-              GetPasswordDataResult result;
-                try {
-                result = getPasswordData(getPasswordDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPasswordDataRequest, result);
-                 return result;
-        }
-    });
+                return getPasswordData(getPasswordDataRequest);
+            }
+        }, getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(), new GetPasswordDataResultStaxUnmarshaller());
     }
     
     /**
@@ -1297,12 +1371,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return associateDhcpOptionsComposableAsync(associateDhcpOptionsRequest);
     }
 
     /**
@@ -1347,18 +1416,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(associateDhcpOptionsComposableAsync(associateDhcpOptionsRequest),
+                associateDhcpOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssociateDhcpOptions operation like
+     * {@link #associateDhcpOptionsAsync(AssociateDhcpOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param associateDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the AssociateDhcpOptions operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AssociateDhcpOptions service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> associateDhcpOptionsComposableAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 associateDhcpOptions(associateDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(), null);
     }
     
     /**
@@ -1409,12 +1491,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return authorizeSecurityGroupEgressComposableAsync(authorizeSecurityGroupEgressRequest);
     }
 
     /**
@@ -1471,18 +1548,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(authorizeSecurityGroupEgressComposableAsync(authorizeSecurityGroupEgressRequest),
+                authorizeSecurityGroupEgressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeSecurityGroupEgress operation
+     * like
+     * {@link #authorizeSecurityGroupEgressAsync(AuthorizeSecurityGroupEgressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the AuthorizeSecurityGroupEgress operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeSecurityGroupEgress service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> authorizeSecurityGroupEgressComposableAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(), null);
     }
     
     /**
@@ -1546,11 +1638,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-        }
-    });
+        return stopInstancesComposableAsync(stopInstancesRequest);
     }
 
     /**
@@ -1620,19 +1708,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
+        return withAsyncHandler(stopInstancesComposableAsync(stopInstancesRequest),
+                stopInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopInstances operation like
+     * {@link #stopInstancesAsync(StopInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param stopInstancesRequest Container for the necessary parameters to
+     *           execute the StopInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the StopInstances
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<StopInstancesResult> stopInstancesComposableAsync(final StopInstancesRequest stopInstancesRequest) {
+        return executeAsync(executorService, new Callable<StopInstancesResult>() {
             public StopInstancesResult call() throws Exception {
-              StopInstancesResult result;
-                try {
-                result = stopInstances(stopInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstancesRequest, result);
-                 return result;
-        }
-    });
+                return stopInstances(stopInstancesRequest);
+            }
+        }, stopInstancesRequest,
+                new StopInstancesRequestMarshaller(), new StopInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -1667,11 +1764,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-        }
-    });
+        return importKeyPairComposableAsync(importKeyPairRequest);
     }
 
     /**
@@ -1712,19 +1805,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
+        return withAsyncHandler(importKeyPairComposableAsync(importKeyPairRequest),
+                importKeyPairRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ImportKeyPair operation like
+     * {@link #importKeyPairAsync(ImportKeyPairRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param importKeyPairRequest Container for the necessary parameters to
+     *           execute the ImportKeyPair operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the ImportKeyPair
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<ImportKeyPairResult> importKeyPairComposableAsync(final ImportKeyPairRequest importKeyPairRequest) {
+        return executeAsync(executorService, new Callable<ImportKeyPairResult>() {
             public ImportKeyPairResult call() throws Exception {
-              ImportKeyPairResult result;
-                try {
-                result = importKeyPair(importKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importKeyPairRequest, result);
-                 return result;
-        }
-    });
+                return importKeyPair(importKeyPairRequest);
+            }
+        }, importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(), new ImportKeyPairResultStaxUnmarshaller());
     }
     
     /**
@@ -1751,12 +1853,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return deleteNetworkInterfaceComposableAsync(deleteNetworkInterfaceRequest);
     }
 
     /**
@@ -1789,18 +1886,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteNetworkInterfaceComposableAsync(deleteNetworkInterfaceRequest),
+                deleteNetworkInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteNetworkInterface operation like
+     * {@link #deleteNetworkInterfaceAsync(DeleteNetworkInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteNetworkInterfaceRequest Container for the necessary
+     *           parameters to execute the DeleteNetworkInterface operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteNetworkInterface service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteNetworkInterfaceComposableAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteNetworkInterface(deleteNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(), null);
     }
     
     /**
@@ -1825,12 +1936,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-                return null;
-        }
-    });
+        return modifyVpcAttributeComposableAsync(modifyVpcAttributeRequest);
     }
 
     /**
@@ -1861,18 +1967,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyVpcAttributeComposableAsync(modifyVpcAttributeRequest),
+                modifyVpcAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyVpcAttribute operation like
+     * {@link #modifyVpcAttributeAsync(ModifyVpcAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyVpcAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyVpcAttribute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyVpcAttribute service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> modifyVpcAttributeComposableAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyVpcAttribute(modifyVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -1927,11 +2045,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-        }
-    });
+        return createSecurityGroupComposableAsync(createSecurityGroupRequest);
     }
 
     /**
@@ -1992,19 +2106,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
+        return withAsyncHandler(createSecurityGroupComposableAsync(createSecurityGroupRequest),
+                createSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSecurityGroup operation like
+     * {@link #createSecurityGroupAsync(CreateSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateSecurityGroup operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateSecurityGroup service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateSecurityGroupResult> createSecurityGroupComposableAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<CreateSecurityGroupResult>() {
             public CreateSecurityGroupResult call() throws Exception {
-              CreateSecurityGroupResult result;
-                try {
-                result = createSecurityGroup(createSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+                return createSecurityGroup(createSecurityGroupRequest);
+            }
+        }, createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(), new CreateSecurityGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -2041,11 +2166,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-        }
-    });
+        return describeSpotPriceHistoryComposableAsync(describeSpotPriceHistoryRequest);
     }
 
     /**
@@ -2088,19 +2209,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
+        return withAsyncHandler(describeSpotPriceHistoryComposableAsync(describeSpotPriceHistoryRequest),
+                describeSpotPriceHistoryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSpotPriceHistory operation like
+     * {@link #describeSpotPriceHistoryAsync(DescribeSpotPriceHistoryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSpotPriceHistoryRequest Container for the necessary
+     *           parameters to execute the DescribeSpotPriceHistory operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSpotPriceHistory service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryComposableAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) {
+        return executeAsync(executorService, new Callable<DescribeSpotPriceHistoryResult>() {
             public DescribeSpotPriceHistoryResult call() throws Exception {
-              DescribeSpotPriceHistoryResult result;
-                try {
-                result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
-                 return result;
-        }
-    });
+                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
+            }
+        }, describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(), new DescribeSpotPriceHistoryResultStaxUnmarshaller());
     }
     
     /**
@@ -2126,11 +2259,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-        }
-    });
+        return describeNetworkInterfacesComposableAsync(describeNetworkInterfacesRequest);
     }
 
     /**
@@ -2162,19 +2291,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
+        return withAsyncHandler(describeNetworkInterfacesComposableAsync(describeNetworkInterfacesRequest),
+                describeNetworkInterfacesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeNetworkInterfaces operation like
+     * {@link #describeNetworkInterfacesAsync(DescribeNetworkInterfacesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeNetworkInterfacesRequest Container for the necessary
+     *           parameters to execute the DescribeNetworkInterfaces operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeNetworkInterfaces service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeNetworkInterfacesResult> describeNetworkInterfacesComposableAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) {
+        return executeAsync(executorService, new Callable<DescribeNetworkInterfacesResult>() {
             public DescribeNetworkInterfacesResult call() throws Exception {
-              DescribeNetworkInterfacesResult result;
-                try {
-                result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfacesRequest, result);
-                 return result;
-        }
-    });
+                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
+            }
+        }, describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(), new DescribeNetworkInterfacesResultStaxUnmarshaller());
     }
     
     /**
@@ -2204,11 +2345,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-        }
-    });
+        return describeRegionsComposableAsync(describeRegionsRequest);
     }
 
     /**
@@ -2244,24 +2381,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-              DescribeRegionsResult result;
-                try {
-                result = describeRegions(describeRegionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRegionsRequest, result);
-                 return result;
-        }
-    });
+        return withAsyncHandler(describeRegionsComposableAsync(describeRegionsRequest),
+                describeRegionsRequest, asyncHandler);
     }
-    
+
     /**
-     * <p>
-     * Creates a listing for Amazon EC2 Reserved Instances to be sold in the
+     * Asynchronously executes the DescribeRegions operation like
+     * {@link #describeRegionsAsync(DescribeRegionsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeRegionsRequest Container for the necessary parameters
+     *           to execute the DescribeRegions operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeRegions service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeRegionsResult> describeRegionsComposableAsync(final DescribeRegionsRequest describeRegionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeRegionsResult>() {
+            public DescribeRegionsResult call() throws Exception {
+                return describeRegions(describeRegionsRequest);
+            }
+        }, describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(), new DescribeRegionsResultStaxUnmarshaller());
+    }
+    
+    /**
+     * <p>
+     * Creates a listing for Amazon EC2 Reserved Instances to be sold in the
      * Reserved Instance Marketplace. You can submit one Reserved Instance
      * listing at a time. To get a list of your Reserved Instances, you can
      * use the DescribeReservedInstances operation.
@@ -2308,11 +2454,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-                return createReservedInstancesListing(createReservedInstancesListingRequest);
-        }
-    });
+        return createReservedInstancesListingComposableAsync(createReservedInstancesListingRequest);
     }
 
     /**
@@ -2370,19 +2512,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
+        return withAsyncHandler(createReservedInstancesListingComposableAsync(createReservedInstancesListingRequest),
+                createReservedInstancesListingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateReservedInstancesListing operation
+     * like
+     * {@link #createReservedInstancesListingAsync(CreateReservedInstancesListingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createReservedInstancesListingRequest Container for the
+     *           necessary parameters to execute the CreateReservedInstancesListing
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateReservedInstancesListing service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<CreateReservedInstancesListingResult> createReservedInstancesListingComposableAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) {
+        return executeAsync(executorService, new Callable<CreateReservedInstancesListingResult>() {
             public CreateReservedInstancesListingResult call() throws Exception {
-              CreateReservedInstancesListingResult result;
-                try {
-                result = createReservedInstancesListing(createReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+                return createReservedInstancesListing(createReservedInstancesListingRequest);
+            }
+        }, createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(), new CreateReservedInstancesListingResultStaxUnmarshaller());
     }
     
     /**
@@ -2454,11 +2609,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-        }
-    });
+        return createDhcpOptionsComposableAsync(createDhcpOptionsRequest);
     }
 
     /**
@@ -2536,19 +2687,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
+        return withAsyncHandler(createDhcpOptionsComposableAsync(createDhcpOptionsRequest),
+                createDhcpOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDhcpOptions operation like
+     * {@link #createDhcpOptionsAsync(CreateDhcpOptionsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the CreateDhcpOptions operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateDhcpOptions service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateDhcpOptionsResult> createDhcpOptionsComposableAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) {
+        return executeAsync(executorService, new Callable<CreateDhcpOptionsResult>() {
             public CreateDhcpOptionsResult call() throws Exception {
-              CreateDhcpOptionsResult result;
-                try {
-                result = createDhcpOptions(createDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+                return createDhcpOptions(createDhcpOptionsRequest);
+            }
+        }, createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(), new CreateDhcpOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -2579,12 +2740,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return resetSnapshotAttributeComposableAsync(resetSnapshotAttributeRequest);
     }
 
     /**
@@ -2621,18 +2777,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resetSnapshotAttributeComposableAsync(resetSnapshotAttributeRequest),
+                resetSnapshotAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetSnapshotAttribute operation like
+     * {@link #resetSnapshotAttributeAsync(ResetSnapshotAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ResetSnapshotAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ResetSnapshotAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> resetSnapshotAttributeComposableAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resetSnapshotAttribute(resetSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -2657,12 +2827,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-        }
-    });
+        return deleteRouteComposableAsync(deleteRouteRequest);
     }
 
     /**
@@ -2693,18 +2858,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteRouteComposableAsync(deleteRouteRequest),
+                deleteRouteRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRoute operation like
+     * {@link #deleteRouteAsync(DeleteRouteRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteRouteRequest Container for the necessary parameters to
+     *           execute the DeleteRoute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteRoute
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteRouteComposableAsync(final DeleteRouteRequest deleteRouteRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteRoute(deleteRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteRouteRequest,
+                new DeleteRouteRequestMarshaller(), null);
     }
     
     /**
@@ -2730,11 +2906,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-        }
-    });
+        return describeInternetGatewaysComposableAsync(describeInternetGatewaysRequest);
     }
 
     /**
@@ -2766,19 +2938,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
+        return withAsyncHandler(describeInternetGatewaysComposableAsync(describeInternetGatewaysRequest),
+                describeInternetGatewaysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInternetGateways operation like
+     * {@link #describeInternetGatewaysAsync(DescribeInternetGatewaysRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeInternetGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeInternetGateways operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInternetGateways service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeInternetGatewaysResult> describeInternetGatewaysComposableAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) {
+        return executeAsync(executorService, new Callable<DescribeInternetGatewaysResult>() {
             public DescribeInternetGatewaysResult call() throws Exception {
-              DescribeInternetGatewaysResult result;
-                try {
-                result = describeInternetGateways(describeInternetGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
-                 return result;
-        }
-    });
+                return describeInternetGateways(describeInternetGatewaysRequest);
+            }
+        }, describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(), new DescribeInternetGatewaysResultStaxUnmarshaller());
     }
     
     /**
@@ -2808,11 +2992,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-        }
-    });
+        return importVolumeComposableAsync(importVolumeRequest);
     }
 
     /**
@@ -2848,19 +3028,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
+        return withAsyncHandler(importVolumeComposableAsync(importVolumeRequest),
+                importVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ImportVolume operation like
+     * {@link #importVolumeAsync(ImportVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param importVolumeRequest Container for the necessary parameters to
+     *           execute the ImportVolume operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the ImportVolume
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<ImportVolumeResult> importVolumeComposableAsync(final ImportVolumeRequest importVolumeRequest) {
+        return executeAsync(executorService, new Callable<ImportVolumeResult>() {
             public ImportVolumeResult call() throws Exception {
-              ImportVolumeResult result;
-                try {
-                result = importVolume(importVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importVolumeRequest, result);
-                 return result;
-        }
-    });
+                return importVolume(importVolumeRequest);
+            }
+        }, importVolumeRequest,
+                new ImportVolumeRequestMarshaller(), new ImportVolumeResultStaxUnmarshaller());
     }
     
     /**
@@ -2892,11 +3081,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-        }
-    });
+        return describeSecurityGroupsComposableAsync(describeSecurityGroupsRequest);
     }
 
     /**
@@ -2934,19 +3119,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
+        return withAsyncHandler(describeSecurityGroupsComposableAsync(describeSecurityGroupsRequest),
+                describeSecurityGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSecurityGroups operation like
+     * {@link #describeSecurityGroupsAsync(DescribeSecurityGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeSecurityGroups operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSecurityGroups service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeSecurityGroupsResult> describeSecurityGroupsComposableAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSecurityGroupsResult>() {
             public DescribeSecurityGroupsResult call() throws Exception {
-              DescribeSecurityGroupsResult result;
-                try {
-                result = describeSecurityGroups(describeSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeSecurityGroups(describeSecurityGroupsRequest);
+            }
+        }, describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(), new DescribeSecurityGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -2977,11 +3174,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-        }
-    });
+        return rejectVpcPeeringConnectionComposableAsync(rejectVpcPeeringConnectionRequest);
     }
 
     /**
@@ -3018,19 +3211,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
+        return withAsyncHandler(rejectVpcPeeringConnectionComposableAsync(rejectVpcPeeringConnectionRequest),
+                rejectVpcPeeringConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RejectVpcPeeringConnection operation
+     * like
+     * {@link #rejectVpcPeeringConnectionAsync(RejectVpcPeeringConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param rejectVpcPeeringConnectionRequest Container for the necessary
+     *           parameters to execute the RejectVpcPeeringConnection operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         RejectVpcPeeringConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionComposableAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) {
+        return executeAsync(executorService, new Callable<RejectVpcPeeringConnectionResult>() {
             public RejectVpcPeeringConnectionResult call() throws Exception {
-              RejectVpcPeeringConnectionResult result;
-                try {
-                result = rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rejectVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
+            }
+        }, rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(), new RejectVpcPeeringConnectionResultStaxUnmarshaller());
     }
     
     /**
@@ -3064,12 +3270,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-        }
-    });
+        return detachVpnGatewayComposableAsync(detachVpnGatewayRequest);
     }
 
     /**
@@ -3109,18 +3310,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachVpnGatewayComposableAsync(detachVpnGatewayRequest),
+                detachVpnGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachVpnGateway operation like
+     * {@link #detachVpnGatewayAsync(DetachVpnGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param detachVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DetachVpnGateway operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DetachVpnGateway service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> detachVpnGatewayComposableAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachVpnGateway(detachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachVpnGatewayRequest,
+                new DetachVpnGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -3149,12 +3361,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-        }
-    });
+        return deregisterImageComposableAsync(deregisterImageRequest);
     }
 
     /**
@@ -3189,18 +3396,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deregisterImageComposableAsync(deregisterImageRequest),
+                deregisterImageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterImage operation like
+     * {@link #deregisterImageAsync(DeregisterImageRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deregisterImageRequest Container for the necessary parameters
+     *           to execute the DeregisterImage operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterImage service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deregisterImageComposableAsync(final DeregisterImageRequest deregisterImageRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deregisterImage(deregisterImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterImageRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deregisterImageRequest,
+                new DeregisterImageRequestMarshaller(), null);
     }
     
     /**
@@ -3229,11 +3447,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return describeSpotDatafeedSubscriptionComposableAsync(describeSpotDatafeedSubscriptionRequest);
     }
 
     /**
@@ -3268,19 +3482,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
+        return withAsyncHandler(describeSpotDatafeedSubscriptionComposableAsync(describeSpotDatafeedSubscriptionRequest),
+                describeSpotDatafeedSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSpotDatafeedSubscription
+     * operation like
+     * {@link #describeSpotDatafeedSubscriptionAsync(DescribeSpotDatafeedSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DescribeSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSpotDatafeedSubscription service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionComposableAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<DescribeSpotDatafeedSubscriptionResult>() {
             public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-              DescribeSpotDatafeedSubscriptionResult result;
-                try {
-                result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
+            }
+        }, describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(), new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller());
     }
     
     /**
@@ -3312,12 +3539,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return deleteTagsComposableAsync(deleteTagsRequest);
     }
 
     /**
@@ -3355,18 +3577,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteTagsComposableAsync(deleteTagsRequest),
+                deleteTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTags operation like
+     * {@link #deleteTagsAsync(DeleteTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteTags
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteTagsComposableAsync(final DeleteTagsRequest deleteTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(), null);
     }
     
     /**
@@ -3392,12 +3625,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-        }
-    });
+        return deleteSubnetComposableAsync(deleteSubnetRequest);
     }
 
     /**
@@ -3429,18 +3657,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteSubnetComposableAsync(deleteSubnetRequest),
+                deleteSubnetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSubnet operation like
+     * {@link #deleteSubnetAsync(DeleteSubnetRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteSubnetRequest Container for the necessary parameters to
+     *           execute the DeleteSubnet operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteSubnet
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteSubnetComposableAsync(final DeleteSubnetRequest deleteSubnetRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSubnet(deleteSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSubnetRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSubnetRequest,
+                new DeleteSubnetRequestMarshaller(), null);
     }
     
     /**
@@ -3501,11 +3740,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-                return describeAccountAttributes(describeAccountAttributesRequest);
-        }
-    });
+        return describeAccountAttributesComposableAsync(describeAccountAttributesRequest);
     }
 
     /**
@@ -3572,19 +3807,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
+        return withAsyncHandler(describeAccountAttributesComposableAsync(describeAccountAttributesRequest),
+                describeAccountAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAccountAttributes operation like
+     * {@link #describeAccountAttributesAsync(DescribeAccountAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAccountAttributesRequest Container for the necessary
+     *           parameters to execute the DescribeAccountAttributes operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAccountAttributes service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeAccountAttributesResult> describeAccountAttributesComposableAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAccountAttributesResult>() {
             public DescribeAccountAttributesResult call() throws Exception {
-              DescribeAccountAttributesResult result;
-                try {
-                result = describeAccountAttributes(describeAccountAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountAttributesRequest, result);
-                 return result;
-        }
-    });
+                return describeAccountAttributes(describeAccountAttributesRequest);
+            }
+        }, describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(), new DescribeAccountAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -3623,11 +3870,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
-        }
-    });
+        return attachClassicLinkVpcComposableAsync(attachClassicLinkVpcRequest);
     }
 
     /**
@@ -3672,19 +3915,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
+        return withAsyncHandler(attachClassicLinkVpcComposableAsync(attachClassicLinkVpcRequest),
+                attachClassicLinkVpcRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachClassicLinkVpc operation like
+     * {@link #attachClassicLinkVpcAsync(AttachClassicLinkVpcRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param attachClassicLinkVpcRequest Container for the necessary
+     *           parameters to execute the AttachClassicLinkVpc operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AttachClassicLinkVpc service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<AttachClassicLinkVpcResult> attachClassicLinkVpcComposableAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) {
+        return executeAsync(executorService, new Callable<AttachClassicLinkVpcResult>() {
             public AttachClassicLinkVpcResult call() throws Exception {
-              AttachClassicLinkVpcResult result;
-                try {
-                result = attachClassicLinkVpc(attachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
+            }
+        }, attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(), new AttachClassicLinkVpcResultStaxUnmarshaller());
     }
     
     /**
@@ -3716,11 +3970,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-        }
-    });
+        return createVpnGatewayComposableAsync(createVpnGatewayRequest);
     }
 
     /**
@@ -3758,19 +4008,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
+        return withAsyncHandler(createVpnGatewayComposableAsync(createVpnGatewayRequest),
+                createVpnGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVpnGateway operation like
+     * {@link #createVpnGatewayAsync(CreateVpnGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createVpnGatewayRequest Container for the necessary parameters
+     *           to execute the CreateVpnGateway operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateVpnGateway service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateVpnGatewayResult> createVpnGatewayComposableAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) {
+        return executeAsync(executorService, new Callable<CreateVpnGatewayResult>() {
             public CreateVpnGatewayResult call() throws Exception {
-              CreateVpnGatewayResult result;
-                try {
-                result = createVpnGateway(createVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+                return createVpnGateway(createVpnGatewayRequest);
+            }
+        }, createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(), new CreateVpnGatewayResultStaxUnmarshaller());
     }
     
     /**
@@ -3796,12 +4055,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-        }
-    });
+        return enableVolumeIOComposableAsync(enableVolumeIORequest);
     }
 
     /**
@@ -3833,18 +4087,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableVolumeIOComposableAsync(enableVolumeIORequest),
+                enableVolumeIORequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableVolumeIO operation like
+     * {@link #enableVolumeIOAsync(EnableVolumeIORequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param enableVolumeIORequest Container for the necessary parameters to
+     *           execute the EnableVolumeIO operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the EnableVolumeIO
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> enableVolumeIOComposableAsync(final EnableVolumeIORequest enableVolumeIORequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableVolumeIO(enableVolumeIORequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVolumeIORequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableVolumeIORequest,
+                new EnableVolumeIORequestMarshaller(), null);
     }
     
     /**
@@ -3873,12 +4138,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-        }
-    });
+        return deleteVpnGatewayComposableAsync(deleteVpnGatewayRequest);
     }
 
     /**
@@ -3913,18 +4173,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVpnGatewayComposableAsync(deleteVpnGatewayRequest),
+                deleteVpnGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVpnGateway operation like
+     * {@link #deleteVpnGatewayAsync(DeleteVpnGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteVpnGatewayRequest Container for the necessary parameters
+     *           to execute the DeleteVpnGateway operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVpnGateway service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteVpnGatewayComposableAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVpnGateway(deleteVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVpnGatewayRequest,
+                new DeleteVpnGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -3985,11 +4256,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-        }
-    });
+        return attachVolumeComposableAsync(attachVolumeRequest);
     }
 
     /**
@@ -4056,19 +4323,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
+        return withAsyncHandler(attachVolumeComposableAsync(attachVolumeRequest),
+                attachVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachVolume operation like
+     * {@link #attachVolumeAsync(AttachVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param attachVolumeRequest Container for the necessary parameters to
+     *           execute the AttachVolume operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the AttachVolume
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<AttachVolumeResult> attachVolumeComposableAsync(final AttachVolumeRequest attachVolumeRequest) {
+        return executeAsync(executorService, new Callable<AttachVolumeResult>() {
             public AttachVolumeResult call() throws Exception {
-              AttachVolumeResult result;
-                try {
-                result = attachVolume(attachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVolumeRequest, result);
-                 return result;
-        }
-    });
+                return attachVolume(attachVolumeRequest);
+            }
+        }, attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(), new AttachVolumeResultStaxUnmarshaller());
     }
     
     /**
@@ -4140,11 +4416,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-        }
-    });
+        return describeVolumeStatusComposableAsync(describeVolumeStatusRequest);
     }
 
     /**
@@ -4222,25 +4494,36 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-              DescribeVolumeStatusResult result;
-                try {
-                result = describeVolumeStatus(describeVolumeStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeStatusRequest, result);
-                 return result;
-        }
-    });
+        return withAsyncHandler(describeVolumeStatusComposableAsync(describeVolumeStatusRequest),
+                describeVolumeStatusRequest, asyncHandler);
     }
-    
+
     /**
-     * <p>
-     * Resets an attribute of an AMI to its default value.
-     * </p>
+     * Asynchronously executes the DescribeVolumeStatus operation like
+     * {@link #describeVolumeStatusAsync(DescribeVolumeStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVolumeStatusRequest Container for the necessary
+     *           parameters to execute the DescribeVolumeStatus operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVolumeStatus service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVolumeStatusResult> describeVolumeStatusComposableAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) {
+        return executeAsync(executorService, new Callable<DescribeVolumeStatusResult>() {
+            public DescribeVolumeStatusResult call() throws Exception {
+                return describeVolumeStatus(describeVolumeStatusRequest);
+            }
+        }, describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(), new DescribeVolumeStatusResultStaxUnmarshaller());
+    }
+    
+    /**
+     * <p>
+     * Resets an attribute of an AMI to its default value.
+     * </p>
      * <p>
      * <b>NOTE:</b> The productCodes attribute can't be reset.
      * </p>
@@ -4262,12 +4545,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-        }
-    });
+        return resetImageAttributeComposableAsync(resetImageAttributeRequest);
     }
 
     /**
@@ -4301,18 +4579,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resetImageAttributeComposableAsync(resetImageAttributeRequest),
+                resetImageAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetImageAttribute operation like
+     * {@link #resetImageAttributeAsync(ResetImageAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetImageAttributeRequest Container for the necessary
+     *           parameters to execute the ResetImageAttribute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ResetImageAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> resetImageAttributeComposableAsync(final ResetImageAttributeRequest resetImageAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resetImageAttribute(resetImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetImageAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -4343,11 +4634,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-        }
-    });
+        return describeVpnConnectionsComposableAsync(describeVpnConnectionsRequest);
     }
 
     /**
@@ -4384,19 +4671,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
+        return withAsyncHandler(describeVpnConnectionsComposableAsync(describeVpnConnectionsRequest),
+                describeVpnConnectionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpnConnections operation like
+     * {@link #describeVpnConnectionsAsync(DescribeVpnConnectionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVpnConnectionsRequest Container for the necessary
+     *           parameters to execute the DescribeVpnConnections operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVpnConnections service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpnConnectionsResult> describeVpnConnectionsComposableAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpnConnectionsResult>() {
             public DescribeVpnConnectionsResult call() throws Exception {
-              DescribeVpnConnectionsResult result;
-                try {
-                result = describeVpnConnections(describeVpnConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
-                 return result;
-        }
-    });
+                return describeVpnConnections(describeVpnConnectionsRequest);
+            }
+        }, describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(), new DescribeVpnConnectionsResultStaxUnmarshaller());
     }
     
     /**
@@ -4423,12 +4722,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return enableVgwRoutePropagationComposableAsync(enableVgwRoutePropagationRequest);
     }
 
     /**
@@ -4461,18 +4755,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableVgwRoutePropagationComposableAsync(enableVgwRoutePropagationRequest),
+                enableVgwRoutePropagationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableVgwRoutePropagation operation like
+     * {@link #enableVgwRoutePropagationAsync(EnableVgwRoutePropagationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableVgwRoutePropagationRequest Container for the necessary
+     *           parameters to execute the EnableVgwRoutePropagation operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         EnableVgwRoutePropagation service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> enableVgwRoutePropagationComposableAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(), null);
     }
     
     /**
@@ -4531,11 +4839,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return createSnapshotComposableAsync(createSnapshotRequest);
     }
 
     /**
@@ -4600,19 +4904,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return withAsyncHandler(createSnapshotComposableAsync(createSnapshotRequest),
+                createSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSnapshot operation like
+     * {@link #createSnapshotAsync(CreateSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateSnapshot
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateSnapshotResult> createSnapshotComposableAsync(final CreateSnapshotRequest createSnapshotRequest) {
+        return executeAsync(executorService, new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return createSnapshot(createSnapshotRequest);
+            }
+        }, createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(), new CreateSnapshotResultStaxUnmarshaller());
     }
     
     /**
@@ -4647,12 +4960,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-        }
-    });
+        return deleteVolumeComposableAsync(deleteVolumeRequest);
     }
 
     /**
@@ -4693,18 +5001,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVolumeComposableAsync(deleteVolumeRequest),
+                deleteVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVolume operation like
+     * {@link #deleteVolumeAsync(DeleteVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteVolumeRequest Container for the necessary parameters to
+     *           execute the DeleteVolume operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteVolume
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteVolumeComposableAsync(final DeleteVolumeRequest deleteVolumeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVolumeRequest,
+                new DeleteVolumeRequestMarshaller(), null);
     }
     
     /**
@@ -4735,11 +5054,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-        }
-    });
+        return createNetworkInterfaceComposableAsync(createNetworkInterfaceRequest);
     }
 
     /**
@@ -4776,19 +5091,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
+        return withAsyncHandler(createNetworkInterfaceComposableAsync(createNetworkInterfaceRequest),
+                createNetworkInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateNetworkInterface operation like
+     * {@link #createNetworkInterfaceAsync(CreateNetworkInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createNetworkInterfaceRequest Container for the necessary
+     *           parameters to execute the CreateNetworkInterface operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateNetworkInterface service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateNetworkInterfaceResult> createNetworkInterfaceComposableAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) {
+        return executeAsync(executorService, new Callable<CreateNetworkInterfaceResult>() {
             public CreateNetworkInterfaceResult call() throws Exception {
-              CreateNetworkInterfaceResult result;
-                try {
-                result = createNetworkInterface(createNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return createNetworkInterface(createNetworkInterfaceRequest);
+            }
+        }, createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(), new CreateNetworkInterfaceResultStaxUnmarshaller());
     }
     
     /**
@@ -4822,11 +5149,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-                return modifyReservedInstances(modifyReservedInstancesRequest);
-        }
-    });
+        return modifyReservedInstancesComposableAsync(modifyReservedInstancesRequest);
     }
 
     /**
@@ -4866,19 +5189,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
+        return withAsyncHandler(modifyReservedInstancesComposableAsync(modifyReservedInstancesRequest),
+                modifyReservedInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyReservedInstances operation like
+     * {@link #modifyReservedInstancesAsync(ModifyReservedInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyReservedInstancesRequest Container for the necessary
+     *           parameters to execute the ModifyReservedInstances operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyReservedInstances service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<ModifyReservedInstancesResult> modifyReservedInstancesComposableAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) {
+        return executeAsync(executorService, new Callable<ModifyReservedInstancesResult>() {
             public ModifyReservedInstancesResult call() throws Exception {
-              ModifyReservedInstancesResult result;
-                try {
-                result = modifyReservedInstances(modifyReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+                return modifyReservedInstances(modifyReservedInstancesRequest);
+            }
+        }, modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(), new ModifyReservedInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -4905,12 +5240,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return unassignPrivateIpAddressesComposableAsync(unassignPrivateIpAddressesRequest);
     }
 
     /**
@@ -4943,18 +5273,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unassignPrivateIpAddressesComposableAsync(unassignPrivateIpAddressesRequest),
+                unassignPrivateIpAddressesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnassignPrivateIpAddresses operation
+     * like
+     * {@link #unassignPrivateIpAddressesAsync(UnassignPrivateIpAddressesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param unassignPrivateIpAddressesRequest Container for the necessary
+     *           parameters to execute the UnassignPrivateIpAddresses operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         UnassignPrivateIpAddresses service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> unassignPrivateIpAddressesComposableAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(), null);
     }
     
     /**
@@ -4979,11 +5324,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-        }
-    });
+        return describeVpcsComposableAsync(describeVpcsRequest);
     }
 
     /**
@@ -5014,19 +5355,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
+        return withAsyncHandler(describeVpcsComposableAsync(describeVpcsRequest),
+                describeVpcsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpcs operation like
+     * {@link #describeVpcsAsync(DescribeVpcsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeVpcsRequest Container for the necessary parameters to
+     *           execute the DescribeVpcs operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DescribeVpcs
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpcsResult> describeVpcsComposableAsync(final DescribeVpcsRequest describeVpcsRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpcsResult>() {
             public DescribeVpcsResult call() throws Exception {
-              DescribeVpcsResult result;
-                try {
-                result = describeVpcs(describeVpcsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcsRequest, result);
-                 return result;
-        }
-    });
+                return describeVpcs(describeVpcsRequest);
+            }
+        }, describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(), new DescribeVpcsResultStaxUnmarshaller());
     }
     
     /**
@@ -5060,12 +5410,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-        }
-    });
+        return cancelConversionTaskComposableAsync(cancelConversionTaskRequest);
     }
 
     /**
@@ -5105,18 +5450,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(cancelConversionTaskComposableAsync(cancelConversionTaskRequest),
+                cancelConversionTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelConversionTask operation like
+     * {@link #cancelConversionTaskAsync(CancelConversionTaskRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param cancelConversionTaskRequest Container for the necessary
+     *           parameters to execute the CancelConversionTask operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CancelConversionTask service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> cancelConversionTaskComposableAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 cancelConversionTask(cancelConversionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelConversionTaskRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(), null);
     }
     
     /**
@@ -5165,11 +5523,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-        }
-    });
+        return associateAddressComposableAsync(associateAddressRequest);
     }
 
     /**
@@ -5224,19 +5578,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
+        return withAsyncHandler(associateAddressComposableAsync(associateAddressRequest),
+                associateAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssociateAddress operation like
+     * {@link #associateAddressAsync(AssociateAddressRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param associateAddressRequest Container for the necessary parameters
+     *           to execute the AssociateAddress operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AssociateAddress service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<AssociateAddressResult> associateAddressComposableAsync(final AssociateAddressRequest associateAddressRequest) {
+        return executeAsync(executorService, new Callable<AssociateAddressResult>() {
             public AssociateAddressResult call() throws Exception {
-              AssociateAddressResult result;
-                try {
-                result = associateAddress(associateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateAddressRequest, result);
-                 return result;
-        }
-    });
+                return associateAddress(associateAddressRequest);
+            }
+        }, associateAddressRequest,
+                new AssociateAddressRequestMarshaller(), new AssociateAddressResultStaxUnmarshaller());
     }
     
     /**
@@ -5263,12 +5626,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-        }
-    });
+        return deleteCustomerGatewayComposableAsync(deleteCustomerGatewayRequest);
     }
 
     /**
@@ -5301,18 +5659,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteCustomerGatewayComposableAsync(deleteCustomerGatewayRequest),
+                deleteCustomerGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCustomerGateway operation like
+     * {@link #deleteCustomerGatewayAsync(DeleteCustomerGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteCustomerGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCustomerGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteCustomerGatewayComposableAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteCustomerGateway(deleteCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -5359,12 +5731,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return createNetworkAclEntryComposableAsync(createNetworkAclEntryRequest);
     }
 
     /**
@@ -5417,18 +5784,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createNetworkAclEntryComposableAsync(createNetworkAclEntryRequest),
+                createNetworkAclEntryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateNetworkAclEntry operation like
+     * {@link #createNetworkAclEntryAsync(CreateNetworkAclEntryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the CreateNetworkAclEntry operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateNetworkAclEntry service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> createNetworkAclEntryComposableAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createNetworkAclEntry(createNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(), null);
     }
     
     /**
@@ -5458,11 +5839,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-        }
-    });
+        return acceptVpcPeeringConnectionComposableAsync(acceptVpcPeeringConnectionRequest);
     }
 
     /**
@@ -5498,19 +5875,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
+        return withAsyncHandler(acceptVpcPeeringConnectionComposableAsync(acceptVpcPeeringConnectionRequest),
+                acceptVpcPeeringConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AcceptVpcPeeringConnection operation
+     * like
+     * {@link #acceptVpcPeeringConnectionAsync(AcceptVpcPeeringConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param acceptVpcPeeringConnectionRequest Container for the necessary
+     *           parameters to execute the AcceptVpcPeeringConnection operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AcceptVpcPeeringConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionComposableAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) {
+        return executeAsync(executorService, new Callable<AcceptVpcPeeringConnectionResult>() {
             public AcceptVpcPeeringConnectionResult call() throws Exception {
-              AcceptVpcPeeringConnectionResult result;
-                try {
-                result = acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(acceptVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
+            }
+        }, acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(), new AcceptVpcPeeringConnectionResultStaxUnmarshaller());
     }
     
     /**
@@ -5535,11 +5925,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-                return describeExportTasks(describeExportTasksRequest);
-        }
-    });
+        return describeExportTasksComposableAsync(describeExportTasksRequest);
     }
 
     /**
@@ -5570,19 +5956,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
+        return withAsyncHandler(describeExportTasksComposableAsync(describeExportTasksRequest),
+                describeExportTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeExportTasks operation like
+     * {@link #describeExportTasksAsync(DescribeExportTasksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeExportTasksRequest Container for the necessary
+     *           parameters to execute the DescribeExportTasks operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeExportTasks service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeExportTasksResult> describeExportTasksComposableAsync(final DescribeExportTasksRequest describeExportTasksRequest) {
+        return executeAsync(executorService, new Callable<DescribeExportTasksResult>() {
             public DescribeExportTasksResult call() throws Exception {
-              DescribeExportTasksResult result;
-                try {
-                result = describeExportTasks(describeExportTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExportTasksRequest, result);
-                 return result;
-        }
-    });
+                return describeExportTasks(describeExportTasksRequest);
+            }
+        }, describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(), new DescribeExportTasksResultStaxUnmarshaller());
     }
     
     /**
@@ -5610,12 +6007,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return detachInternetGatewayComposableAsync(detachInternetGatewayRequest);
     }
 
     /**
@@ -5649,18 +6041,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachInternetGatewayComposableAsync(detachInternetGatewayRequest),
+                detachInternetGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachInternetGateway operation like
+     * {@link #detachInternetGatewayAsync(DetachInternetGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param detachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DetachInternetGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DetachInternetGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> detachInternetGatewayComposableAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachInternetGateway(detachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -5699,11 +6105,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-        }
-    });
+        return createVpcPeeringConnectionComposableAsync(createVpcPeeringConnectionRequest);
     }
 
     /**
@@ -5748,19 +6150,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
+        return withAsyncHandler(createVpcPeeringConnectionComposableAsync(createVpcPeeringConnectionRequest),
+                createVpcPeeringConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVpcPeeringConnection operation
+     * like
+     * {@link #createVpcPeeringConnectionAsync(CreateVpcPeeringConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createVpcPeeringConnectionRequest Container for the necessary
+     *           parameters to execute the CreateVpcPeeringConnection operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateVpcPeeringConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionComposableAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) {
+        return executeAsync(executorService, new Callable<CreateVpcPeeringConnectionResult>() {
             public CreateVpcPeeringConnectionResult call() throws Exception {
-              CreateVpcPeeringConnectionResult result;
-                try {
-                result = createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
+            }
+        }, createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(), new CreateVpcPeeringConnectionResultStaxUnmarshaller());
     }
     
     /**
@@ -5791,11 +6206,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-        }
-    });
+        return createRouteTableComposableAsync(createRouteTableRequest);
     }
 
     /**
@@ -5832,19 +6243,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
+        return withAsyncHandler(createRouteTableComposableAsync(createRouteTableRequest),
+                createRouteTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateRouteTable operation like
+     * {@link #createRouteTableAsync(CreateRouteTableRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createRouteTableRequest Container for the necessary parameters
+     *           to execute the CreateRouteTable operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateRouteTable service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateRouteTableResult> createRouteTableComposableAsync(final CreateRouteTableRequest createRouteTableRequest) {
+        return executeAsync(executorService, new Callable<CreateRouteTableResult>() {
             public CreateRouteTableResult call() throws Exception {
-              CreateRouteTableResult result;
-                try {
-                result = createRouteTable(createRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteTableRequest, result);
-                 return result;
-        }
-    });
+                return createRouteTable(createRouteTableRequest);
+            }
+        }, createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(), new CreateRouteTableResultStaxUnmarshaller());
     }
     
     /**
@@ -5884,11 +6304,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return describeVolumesComposableAsync(describeVolumesRequest);
     }
 
     /**
@@ -5934,19 +6350,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return withAsyncHandler(describeVolumesComposableAsync(describeVolumesRequest),
+                describeVolumesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVolumes operation like
+     * {@link #describeVolumesAsync(DescribeVolumesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVolumes service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeVolumesResult> describeVolumesComposableAsync(final DescribeVolumesRequest describeVolumesRequest) {
+        return executeAsync(executorService, new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+                return describeVolumes(describeVolumesRequest);
+            }
+        }, describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(), new DescribeVolumesResultStaxUnmarshaller());
     }
     
     /**
@@ -6000,11 +6425,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-        }
-    });
+        return describeReservedInstancesListingsComposableAsync(describeReservedInstancesListingsRequest);
     }
 
     /**
@@ -6064,19 +6485,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
+        return withAsyncHandler(describeReservedInstancesListingsComposableAsync(describeReservedInstancesListingsRequest),
+                describeReservedInstancesListingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedInstancesListings
+     * operation like
+     * {@link #describeReservedInstancesListingsAsync(DescribeReservedInstancesListingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedInstancesListingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedInstancesListings
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedInstancesListings service method, as
+     *         returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsComposableAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedInstancesListingsResult>() {
             public DescribeReservedInstancesListingsResult call() throws Exception {
-              DescribeReservedInstancesListingsResult result;
-                try {
-                result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesListingsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
+            }
+        }, describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(), new DescribeReservedInstancesListingsResultStaxUnmarshaller());
     }
     
     /**
@@ -6110,12 +6544,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-        }
-    });
+        return reportInstanceStatusComposableAsync(reportInstanceStatusRequest);
     }
 
     /**
@@ -6155,18 +6584,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(reportInstanceStatusComposableAsync(reportInstanceStatusRequest),
+                reportInstanceStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReportInstanceStatus operation like
+     * {@link #reportInstanceStatusAsync(ReportInstanceStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param reportInstanceStatusRequest Container for the necessary
+     *           parameters to execute the ReportInstanceStatus operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ReportInstanceStatus service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> reportInstanceStatusComposableAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 reportInstanceStatus(reportInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportInstanceStatusRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(), null);
     }
     
     /**
@@ -6196,11 +6638,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-        }
-    });
+        return describeRouteTablesComposableAsync(describeRouteTablesRequest);
     }
 
     /**
@@ -6236,19 +6674,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
+        return withAsyncHandler(describeRouteTablesComposableAsync(describeRouteTablesRequest),
+                describeRouteTablesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeRouteTables operation like
+     * {@link #describeRouteTablesAsync(DescribeRouteTablesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeRouteTablesRequest Container for the necessary
+     *           parameters to execute the DescribeRouteTables operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeRouteTables service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeRouteTablesResult> describeRouteTablesComposableAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) {
+        return executeAsync(executorService, new Callable<DescribeRouteTablesResult>() {
             public DescribeRouteTablesResult call() throws Exception {
-              DescribeRouteTablesResult result;
-                try {
-                result = describeRouteTables(describeRouteTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRouteTablesRequest, result);
-                 return result;
-        }
-    });
+                return describeRouteTables(describeRouteTablesRequest);
+            }
+        }, describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(), new DescribeRouteTablesResultStaxUnmarshaller());
     }
     
     /**
@@ -6278,11 +6727,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-        }
-    });
+        return describeDhcpOptionsComposableAsync(describeDhcpOptionsRequest);
     }
 
     /**
@@ -6318,19 +6763,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
+        return withAsyncHandler(describeDhcpOptionsComposableAsync(describeDhcpOptionsRequest),
+                describeDhcpOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDhcpOptions operation like
+     * {@link #describeDhcpOptionsAsync(DescribeDhcpOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDhcpOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeDhcpOptions operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDhcpOptions service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeDhcpOptionsResult> describeDhcpOptionsComposableAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDhcpOptionsResult>() {
             public DescribeDhcpOptionsResult call() throws Exception {
-              DescribeDhcpOptionsResult result;
-                try {
-                result = describeDhcpOptions(describeDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeDhcpOptions(describeDhcpOptionsRequest);
+            }
+        }, describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(), new DescribeDhcpOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -6358,11 +6814,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-        }
-    });
+        return monitorInstancesComposableAsync(monitorInstancesRequest);
     }
 
     /**
@@ -6396,19 +6848,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
+        return withAsyncHandler(monitorInstancesComposableAsync(monitorInstancesRequest),
+                monitorInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the MonitorInstances operation like
+     * {@link #monitorInstancesAsync(MonitorInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param monitorInstancesRequest Container for the necessary parameters
+     *           to execute the MonitorInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         MonitorInstances service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<MonitorInstancesResult> monitorInstancesComposableAsync(final MonitorInstancesRequest monitorInstancesRequest) {
+        return executeAsync(executorService, new Callable<MonitorInstancesResult>() {
             public MonitorInstancesResult call() throws Exception {
-              MonitorInstancesResult result;
-                try {
-                result = monitorInstances(monitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(monitorInstancesRequest, result);
-                 return result;
-        }
-    });
+                return monitorInstances(monitorInstancesRequest);
+            }
+        }, monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(), new MonitorInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -6438,11 +6899,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-        }
-    });
+        return describeNetworkAclsComposableAsync(describeNetworkAclsRequest);
     }
 
     /**
@@ -6478,19 +6935,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
+        return withAsyncHandler(describeNetworkAclsComposableAsync(describeNetworkAclsRequest),
+                describeNetworkAclsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeNetworkAcls operation like
+     * {@link #describeNetworkAclsAsync(DescribeNetworkAclsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeNetworkAclsRequest Container for the necessary
+     *           parameters to execute the DescribeNetworkAcls operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeNetworkAcls service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeNetworkAclsResult> describeNetworkAclsComposableAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) {
+        return executeAsync(executorService, new Callable<DescribeNetworkAclsResult>() {
             public DescribeNetworkAclsResult call() throws Exception {
-              DescribeNetworkAclsResult result;
-                try {
-                result = describeNetworkAcls(describeNetworkAclsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkAclsRequest, result);
-                 return result;
-        }
-    });
+                return describeNetworkAcls(describeNetworkAclsRequest);
+            }
+        }, describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(), new DescribeNetworkAclsResultStaxUnmarshaller());
     }
     
     /**
@@ -6521,11 +6989,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-        }
-    });
+        return describeBundleTasksComposableAsync(describeBundleTasksRequest);
     }
 
     /**
@@ -6562,19 +7026,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
+        return withAsyncHandler(describeBundleTasksComposableAsync(describeBundleTasksRequest),
+                describeBundleTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeBundleTasks operation like
+     * {@link #describeBundleTasksAsync(DescribeBundleTasksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeBundleTasksRequest Container for the necessary
+     *           parameters to execute the DescribeBundleTasks operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeBundleTasks service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeBundleTasksResult> describeBundleTasksComposableAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) {
+        return executeAsync(executorService, new Callable<DescribeBundleTasksResult>() {
             public DescribeBundleTasksResult call() throws Exception {
-              DescribeBundleTasksResult result;
-                try {
-                result = describeBundleTasks(describeBundleTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBundleTasksRequest, result);
-                 return result;
-        }
-    });
+                return describeBundleTasks(describeBundleTasksRequest);
+            }
+        }, describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(), new DescribeBundleTasksResultStaxUnmarshaller());
     }
     
     /**
@@ -6604,11 +7079,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-        }
-    });
+        return importInstanceComposableAsync(importInstanceRequest);
     }
 
     /**
@@ -6644,19 +7115,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
+        return withAsyncHandler(importInstanceComposableAsync(importInstanceRequest),
+                importInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ImportInstance operation like
+     * {@link #importInstanceAsync(ImportInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param importInstanceRequest Container for the necessary parameters to
+     *           execute the ImportInstance operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the ImportInstance
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<ImportInstanceResult> importInstanceComposableAsync(final ImportInstanceRequest importInstanceRequest) {
+        return executeAsync(executorService, new Callable<ImportInstanceResult>() {
             public ImportInstanceResult call() throws Exception {
-              ImportInstanceResult result;
-                try {
-                result = importInstance(importInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importInstanceRequest, result);
-                 return result;
-        }
-    });
+                return importInstance(importInstanceRequest);
+            }
+        }, importInstanceRequest,
+                new ImportInstanceRequestMarshaller(), new ImportInstanceResultStaxUnmarshaller());
     }
     
     /**
@@ -6694,12 +7174,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return revokeSecurityGroupIngressComposableAsync(revokeSecurityGroupIngressRequest);
     }
 
     /**
@@ -6743,18 +7218,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(revokeSecurityGroupIngressComposableAsync(revokeSecurityGroupIngressRequest),
+                revokeSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeSecurityGroupIngress operation
+     * like
+     * {@link #revokeSecurityGroupIngressAsync(RevokeSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupIngress operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         RevokeSecurityGroupIngress service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> revokeSecurityGroupIngressComposableAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(), null);
     }
     
     /**
@@ -6784,11 +7274,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-        }
-    });
+        return deleteVpcPeeringConnectionComposableAsync(deleteVpcPeeringConnectionRequest);
     }
 
     /**
@@ -6824,19 +7310,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
+        return withAsyncHandler(deleteVpcPeeringConnectionComposableAsync(deleteVpcPeeringConnectionRequest),
+                deleteVpcPeeringConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVpcPeeringConnection operation
+     * like
+     * {@link #deleteVpcPeeringConnectionAsync(DeleteVpcPeeringConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVpcPeeringConnectionRequest Container for the necessary
+     *           parameters to execute the DeleteVpcPeeringConnection operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVpcPeeringConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionComposableAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) {
+        return executeAsync(executorService, new Callable<DeleteVpcPeeringConnectionResult>() {
             public DeleteVpcPeeringConnectionResult call() throws Exception {
-              DeleteVpcPeeringConnectionResult result;
-                try {
-                result = deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
+            }
+        }, deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(), new DeleteVpcPeeringConnectionResultStaxUnmarshaller());
     }
     
     /**
@@ -6884,11 +7383,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-        }
-    });
+        return getConsoleOutputComposableAsync(getConsoleOutputRequest);
     }
 
     /**
@@ -6942,19 +7437,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
+        return withAsyncHandler(getConsoleOutputComposableAsync(getConsoleOutputRequest),
+                getConsoleOutputRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetConsoleOutput operation like
+     * {@link #getConsoleOutputAsync(GetConsoleOutputRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getConsoleOutputRequest Container for the necessary parameters
+     *           to execute the GetConsoleOutput operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         GetConsoleOutput service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<GetConsoleOutputResult> getConsoleOutputComposableAsync(final GetConsoleOutputRequest getConsoleOutputRequest) {
+        return executeAsync(executorService, new Callable<GetConsoleOutputResult>() {
             public GetConsoleOutputResult call() throws Exception {
-              GetConsoleOutputResult result;
-                try {
-                result = getConsoleOutput(getConsoleOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleOutputRequest, result);
-                 return result;
-        }
-    });
+                return getConsoleOutput(getConsoleOutputRequest);
+            }
+        }, getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(), new GetConsoleOutputResultStaxUnmarshaller());
     }
     
     /**
@@ -6986,11 +7490,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-        }
-    });
+        return createInternetGatewayComposableAsync(createInternetGatewayRequest);
     }
 
     /**
@@ -7028,19 +7528,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
+        return withAsyncHandler(createInternetGatewayComposableAsync(createInternetGatewayRequest),
+                createInternetGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInternetGateway operation like
+     * {@link #createInternetGatewayAsync(CreateInternetGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createInternetGatewayRequest Container for the necessary
+     *           parameters to execute the CreateInternetGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateInternetGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateInternetGatewayResult> createInternetGatewayComposableAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) {
+        return executeAsync(executorService, new Callable<CreateInternetGatewayResult>() {
             public CreateInternetGatewayResult call() throws Exception {
-              CreateInternetGatewayResult result;
-                try {
-                result = createInternetGateway(createInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInternetGatewayRequest, result);
-                 return result;
-        }
-    });
+                return createInternetGateway(createInternetGatewayRequest);
+            }
+        }, createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(), new CreateInternetGatewayResultStaxUnmarshaller());
     }
     
     /**
@@ -7069,12 +7581,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return deleteVpnConnectionRouteComposableAsync(deleteVpnConnectionRouteRequest);
     }
 
     /**
@@ -7109,18 +7616,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVpnConnectionRouteComposableAsync(deleteVpnConnectionRouteRequest),
+                deleteVpnConnectionRouteRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVpnConnectionRoute operation like
+     * {@link #deleteVpnConnectionRouteAsync(DeleteVpnConnectionRouteRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVpnConnectionRouteRequest Container for the necessary
+     *           parameters to execute the DeleteVpnConnectionRoute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVpnConnectionRoute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteVpnConnectionRouteComposableAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(), null);
     }
     
     /**
@@ -7146,12 +7667,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return detachNetworkInterfaceComposableAsync(detachNetworkInterfaceRequest);
     }
 
     /**
@@ -7183,18 +7699,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachNetworkInterfaceComposableAsync(detachNetworkInterfaceRequest),
+                detachNetworkInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachNetworkInterface operation like
+     * {@link #detachNetworkInterfaceAsync(DetachNetworkInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param detachNetworkInterfaceRequest Container for the necessary
+     *           parameters to execute the DetachNetworkInterface operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DetachNetworkInterface service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> detachNetworkInterfaceComposableAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachNetworkInterface(detachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(), null);
     }
     
     /**
@@ -7224,12 +7754,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-        }
-    });
+        return modifyImageAttributeComposableAsync(modifyImageAttributeRequest);
     }
 
     /**
@@ -7265,18 +7790,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyImageAttributeComposableAsync(modifyImageAttributeRequest),
+                modifyImageAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyImageAttribute operation like
+     * {@link #modifyImageAttributeAsync(ModifyImageAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyImageAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyImageAttribute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyImageAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> modifyImageAttributeComposableAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyImageAttribute(modifyImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyImageAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -7324,11 +7862,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-        }
-    });
+        return createCustomerGatewayComposableAsync(createCustomerGatewayRequest);
     }
 
     /**
@@ -7382,19 +7916,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
+        return withAsyncHandler(createCustomerGatewayComposableAsync(createCustomerGatewayRequest),
+                createCustomerGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCustomerGateway operation like
+     * {@link #createCustomerGatewayAsync(CreateCustomerGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCustomerGatewayRequest Container for the necessary
+     *           parameters to execute the CreateCustomerGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateCustomerGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateCustomerGatewayResult> createCustomerGatewayComposableAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) {
+        return executeAsync(executorService, new Callable<CreateCustomerGatewayResult>() {
             public CreateCustomerGatewayResult call() throws Exception {
-              CreateCustomerGatewayResult result;
-                try {
-                result = createCustomerGateway(createCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCustomerGatewayRequest, result);
-                 return result;
-        }
-    });
+                return createCustomerGateway(createCustomerGatewayRequest);
+            }
+        }, createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(), new CreateCustomerGatewayResultStaxUnmarshaller());
     }
     
     /**
@@ -7425,11 +7971,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return createSpotDatafeedSubscriptionComposableAsync(createSpotDatafeedSubscriptionRequest);
     }
 
     /**
@@ -7466,19 +8008,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
+        return withAsyncHandler(createSpotDatafeedSubscriptionComposableAsync(createSpotDatafeedSubscriptionRequest),
+                createSpotDatafeedSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSpotDatafeedSubscription operation
+     * like
+     * {@link #createSpotDatafeedSubscriptionAsync(CreateSpotDatafeedSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the CreateSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateSpotDatafeedSubscription service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionComposableAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<CreateSpotDatafeedSubscriptionResult>() {
             public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-              CreateSpotDatafeedSubscriptionResult result;
-                try {
-                result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
+            }
+        }, createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(), new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller());
     }
     
     /**
@@ -7508,12 +8063,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return attachInternetGatewayComposableAsync(attachInternetGatewayRequest);
     }
 
     /**
@@ -7549,18 +8099,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(attachInternetGatewayComposableAsync(attachInternetGatewayRequest),
+                attachInternetGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachInternetGateway operation like
+     * {@link #attachInternetGatewayAsync(AttachInternetGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param attachInternetGatewayRequest Container for the necessary
+     *           parameters to execute the AttachInternetGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AttachInternetGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> attachInternetGatewayComposableAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 attachInternetGateway(attachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -7596,12 +8160,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-        }
-    });
+        return deleteVpnConnectionComposableAsync(deleteVpnConnectionRequest);
     }
 
     /**
@@ -7643,18 +8202,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVpnConnectionComposableAsync(deleteVpnConnectionRequest),
+                deleteVpnConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVpnConnection operation like
+     * {@link #deleteVpnConnectionAsync(DeleteVpnConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVpnConnectionRequest Container for the necessary
+     *           parameters to execute the DeleteVpnConnection operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVpnConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteVpnConnectionComposableAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVpnConnection(deleteVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(), null);
     }
     
     /**
@@ -7683,11 +8255,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-        }
-    });
+        return describeConversionTasksComposableAsync(describeConversionTasksRequest);
     }
 
     /**
@@ -7722,19 +8290,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
+        return withAsyncHandler(describeConversionTasksComposableAsync(describeConversionTasksRequest),
+                describeConversionTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConversionTasks operation like
+     * {@link #describeConversionTasksAsync(DescribeConversionTasksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConversionTasksRequest Container for the necessary
+     *           parameters to execute the DescribeConversionTasks operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConversionTasks service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeConversionTasksResult> describeConversionTasksComposableAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) {
+        return executeAsync(executorService, new Callable<DescribeConversionTasksResult>() {
             public DescribeConversionTasksResult call() throws Exception {
-              DescribeConversionTasksResult result;
-                try {
-                result = describeConversionTasks(describeConversionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConversionTasksRequest, result);
-                 return result;
-        }
-    });
+                return describeConversionTasks(describeConversionTasksRequest);
+            }
+        }, describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(), new DescribeConversionTasksResultStaxUnmarshaller());
     }
     
     /**
@@ -7780,11 +8360,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-        }
-    });
+        return createVpnConnectionComposableAsync(createVpnConnectionRequest);
     }
 
     /**
@@ -7836,19 +8412,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
+        return withAsyncHandler(createVpnConnectionComposableAsync(createVpnConnectionRequest),
+                createVpnConnectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVpnConnection operation like
+     * {@link #createVpnConnectionAsync(CreateVpnConnectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createVpnConnectionRequest Container for the necessary
+     *           parameters to execute the CreateVpnConnection operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateVpnConnection service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CreateVpnConnectionResult> createVpnConnectionComposableAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) {
+        return executeAsync(executorService, new Callable<CreateVpnConnectionResult>() {
             public CreateVpnConnectionResult call() throws Exception {
-              CreateVpnConnectionResult result;
-                try {
-                result = createVpnConnection(createVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRequest, result);
-                 return result;
-        }
-    });
+                return createVpnConnection(createVpnConnectionRequest);
+            }
+        }, createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(), new CreateVpnConnectionResultStaxUnmarshaller());
     }
     
     /**
@@ -7875,11 +8462,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-                return disableVpcClassicLink(disableVpcClassicLinkRequest);
-        }
-    });
+        return disableVpcClassicLinkComposableAsync(disableVpcClassicLinkRequest);
     }
 
     /**
@@ -7912,19 +8495,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
+        return withAsyncHandler(disableVpcClassicLinkComposableAsync(disableVpcClassicLinkRequest),
+                disableVpcClassicLinkRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableVpcClassicLink operation like
+     * {@link #disableVpcClassicLinkAsync(DisableVpcClassicLinkRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableVpcClassicLinkRequest Container for the necessary
+     *           parameters to execute the DisableVpcClassicLink operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DisableVpcClassicLink service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DisableVpcClassicLinkResult> disableVpcClassicLinkComposableAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) {
+        return executeAsync(executorService, new Callable<DisableVpcClassicLinkResult>() {
             public DisableVpcClassicLinkResult call() throws Exception {
-              DisableVpcClassicLinkResult result;
-                try {
-                result = disableVpcClassicLink(disableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+                return disableVpcClassicLink(disableVpcClassicLinkRequest);
+            }
+        }, disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(), new DisableVpcClassicLinkResultStaxUnmarshaller());
     }
     
     /**
@@ -7958,11 +8553,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-        }
-    });
+        return describeInstanceAttributeComposableAsync(describeInstanceAttributeRequest);
     }
 
     /**
@@ -8002,19 +8593,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
+        return withAsyncHandler(describeInstanceAttributeComposableAsync(describeInstanceAttributeRequest),
+                describeInstanceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInstanceAttribute operation like
+     * {@link #describeInstanceAttributeAsync(DescribeInstanceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInstanceAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeInstanceAttributeResult> describeInstanceAttributeComposableAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeInstanceAttributeResult>() {
             public DescribeInstanceAttributeResult call() throws Exception {
-              DescribeInstanceAttributeResult result;
-                try {
-                result = describeInstanceAttribute(describeInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeInstanceAttribute(describeInstanceAttributeRequest);
+            }
+        }, describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(), new DescribeInstanceAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -8041,11 +8644,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-        }
-    });
+        return describeVpcPeeringConnectionsComposableAsync(describeVpcPeeringConnectionsRequest);
     }
 
     /**
@@ -8078,19 +8677,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
+        return withAsyncHandler(describeVpcPeeringConnectionsComposableAsync(describeVpcPeeringConnectionsRequest),
+                describeVpcPeeringConnectionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpcPeeringConnections operation
+     * like
+     * {@link #describeVpcPeeringConnectionsAsync(DescribeVpcPeeringConnectionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVpcPeeringConnectionsRequest Container for the
+     *           necessary parameters to execute the DescribeVpcPeeringConnections
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVpcPeeringConnections service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsComposableAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpcPeeringConnectionsResult>() {
             public DescribeVpcPeeringConnectionsResult call() throws Exception {
-              DescribeVpcPeeringConnectionsResult result;
-                try {
-                result = describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcPeeringConnectionsRequest, result);
-                 return result;
-        }
-    });
+                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
+            }
+        }, describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(), new DescribeVpcPeeringConnectionsResultStaxUnmarshaller());
     }
     
     /**
@@ -8120,11 +8732,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-        }
-    });
+        return describeSubnetsComposableAsync(describeSubnetsRequest);
     }
 
     /**
@@ -8160,19 +8768,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
+        return withAsyncHandler(describeSubnetsComposableAsync(describeSubnetsRequest),
+                describeSubnetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSubnets operation like
+     * {@link #describeSubnetsAsync(DescribeSubnetsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeSubnetsRequest Container for the necessary parameters
+     *           to execute the DescribeSubnets operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSubnets service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeSubnetsResult> describeSubnetsComposableAsync(final DescribeSubnetsRequest describeSubnetsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSubnetsResult>() {
             public DescribeSubnetsResult call() throws Exception {
-              DescribeSubnetsResult result;
-                try {
-                result = describeSubnets(describeSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSubnetsRequest, result);
-                 return result;
-        }
-    });
+                return describeSubnets(describeSubnetsRequest);
+            }
+        }, describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(), new DescribeSubnetsResultStaxUnmarshaller());
     }
     
     /**
@@ -8238,11 +8855,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-        }
-    });
+        return runInstancesComposableAsync(runInstancesRequest);
     }
 
     /**
@@ -8314,19 +8927,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
+        return withAsyncHandler(runInstancesComposableAsync(runInstancesRequest),
+                runInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RunInstances operation like
+     * {@link #runInstancesAsync(RunInstancesRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param runInstancesRequest Container for the necessary parameters to
+     *           execute the RunInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the RunInstances
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<RunInstancesResult> runInstancesComposableAsync(final RunInstancesRequest runInstancesRequest) {
+        return executeAsync(executorService, new Callable<RunInstancesResult>() {
             public RunInstancesResult call() throws Exception {
-              RunInstancesResult result;
-                try {
-                result = runInstances(runInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runInstancesRequest, result);
-                 return result;
-        }
-    });
+                return runInstances(runInstancesRequest);
+            }
+        }, runInstancesRequest,
+                new RunInstancesRequestMarshaller(), new RunInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -8355,11 +8977,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-        }
-    });
+        return describePlacementGroupsComposableAsync(describePlacementGroupsRequest);
     }
 
     /**
@@ -8394,19 +9012,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
+        return withAsyncHandler(describePlacementGroupsComposableAsync(describePlacementGroupsRequest),
+                describePlacementGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribePlacementGroups operation like
+     * {@link #describePlacementGroupsAsync(DescribePlacementGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describePlacementGroupsRequest Container for the necessary
+     *           parameters to execute the DescribePlacementGroups operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribePlacementGroups service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribePlacementGroupsResult> describePlacementGroupsComposableAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribePlacementGroupsResult>() {
             public DescribePlacementGroupsResult call() throws Exception {
-              DescribePlacementGroupsResult result;
-                try {
-                result = describePlacementGroups(describePlacementGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePlacementGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describePlacementGroups(describePlacementGroupsRequest);
+            }
+        }, describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(), new DescribePlacementGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -8441,11 +9071,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-        }
-    });
+        return associateRouteTableComposableAsync(associateRouteTableRequest);
     }
 
     /**
@@ -8486,19 +9112,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
+        return withAsyncHandler(associateRouteTableComposableAsync(associateRouteTableRequest),
+                associateRouteTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssociateRouteTable operation like
+     * {@link #associateRouteTableAsync(AssociateRouteTableRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param associateRouteTableRequest Container for the necessary
+     *           parameters to execute the AssociateRouteTable operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AssociateRouteTable service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<AssociateRouteTableResult> associateRouteTableComposableAsync(final AssociateRouteTableRequest associateRouteTableRequest) {
+        return executeAsync(executorService, new Callable<AssociateRouteTableResult>() {
             public AssociateRouteTableResult call() throws Exception {
-              AssociateRouteTableResult result;
-                try {
-                result = associateRouteTable(associateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateRouteTableRequest, result);
-                 return result;
-        }
-    });
+                return associateRouteTable(associateRouteTableRequest);
+            }
+        }, associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(), new AssociateRouteTableResultStaxUnmarshaller());
     }
     
     /**
@@ -8535,11 +9172,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return describeInstancesComposableAsync(describeInstancesRequest);
     }
 
     /**
@@ -8582,19 +9215,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return withAsyncHandler(describeInstancesComposableAsync(describeInstancesRequest),
+                describeInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInstances operation like
+     * {@link #describeInstancesAsync(DescribeInstancesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeInstancesRequest Container for the necessary parameters
+     *           to execute the DescribeInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInstances service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeInstancesResult> describeInstancesComposableAsync(final DescribeInstancesRequest describeInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeInstances(describeInstancesRequest);
+            }
+        }, describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(), new DescribeInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -8620,12 +9263,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-        }
-    });
+        return deleteNetworkAclComposableAsync(deleteNetworkAclRequest);
     }
 
     /**
@@ -8657,18 +9295,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteNetworkAclComposableAsync(deleteNetworkAclRequest),
+                deleteNetworkAclRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteNetworkAcl operation like
+     * {@link #deleteNetworkAclAsync(DeleteNetworkAclRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteNetworkAclRequest Container for the necessary parameters
+     *           to execute the DeleteNetworkAcl operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteNetworkAcl service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteNetworkAclComposableAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteNetworkAcl(deleteNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteNetworkAclRequest,
+                new DeleteNetworkAclRequestMarshaller(), null);
     }
     
     /**
@@ -8706,12 +9355,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-        }
-    });
+        return modifyVolumeAttributeComposableAsync(modifyVolumeAttributeRequest);
     }
 
     /**
@@ -8755,18 +9399,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyVolumeAttributeComposableAsync(modifyVolumeAttributeRequest),
+                modifyVolumeAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyVolumeAttribute operation like
+     * {@link #modifyVolumeAttributeAsync(ModifyVolumeAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyVolumeAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyVolumeAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyVolumeAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> modifyVolumeAttributeComposableAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyVolumeAttribute(modifyVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVolumeAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -8798,11 +9456,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-        }
-    });
+        return describeImagesComposableAsync(describeImagesRequest);
     }
 
     /**
@@ -8840,19 +9494,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
+        return withAsyncHandler(describeImagesComposableAsync(describeImagesRequest),
+                describeImagesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeImages operation like
+     * {@link #describeImagesAsync(DescribeImagesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeImagesRequest Container for the necessary parameters to
+     *           execute the DescribeImages operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DescribeImages
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeImagesResult> describeImagesComposableAsync(final DescribeImagesRequest describeImagesRequest) {
+        return executeAsync(executorService, new Callable<DescribeImagesResult>() {
             public DescribeImagesResult call() throws Exception {
-              DescribeImagesResult result;
-                try {
-                result = describeImages(describeImagesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImagesRequest, result);
-                 return result;
-        }
-    });
+                return describeImages(describeImagesRequest);
+            }
+        }, describeImagesRequest,
+                new DescribeImagesRequestMarshaller(), new DescribeImagesResultStaxUnmarshaller());
     }
     
     /**
@@ -8902,11 +9565,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-        }
-    });
+        return startInstancesComposableAsync(startInstancesRequest);
     }
 
     /**
@@ -8962,19 +9621,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
+        return withAsyncHandler(startInstancesComposableAsync(startInstancesRequest),
+                startInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartInstances operation like
+     * {@link #startInstancesAsync(StartInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param startInstancesRequest Container for the necessary parameters to
+     *           execute the StartInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the StartInstances
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<StartInstancesResult> startInstancesComposableAsync(final StartInstancesRequest startInstancesRequest) {
+        return executeAsync(executorService, new Callable<StartInstancesResult>() {
             public StartInstancesResult call() throws Exception {
-              StartInstancesResult result;
-                try {
-                result = startInstances(startInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstancesRequest, result);
-                 return result;
-        }
-    });
+                return startInstances(startInstancesRequest);
+            }
+        }, startInstancesRequest,
+                new StartInstancesRequestMarshaller(), new StartInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -9007,11 +9675,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-        }
-    });
+        return cancelReservedInstancesListingComposableAsync(cancelReservedInstancesListingRequest);
     }
 
     /**
@@ -9050,19 +9714,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
+        return withAsyncHandler(cancelReservedInstancesListingComposableAsync(cancelReservedInstancesListingRequest),
+                cancelReservedInstancesListingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelReservedInstancesListing operation
+     * like
+     * {@link #cancelReservedInstancesListingAsync(CancelReservedInstancesListingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param cancelReservedInstancesListingRequest Container for the
+     *           necessary parameters to execute the CancelReservedInstancesListing
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CancelReservedInstancesListing service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<CancelReservedInstancesListingResult> cancelReservedInstancesListingComposableAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) {
+        return executeAsync(executorService, new Callable<CancelReservedInstancesListingResult>() {
             public CancelReservedInstancesListingResult call() throws Exception {
-              CancelReservedInstancesListingResult result;
-                try {
-                result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
+            }
+        }, cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(), new CancelReservedInstancesListingResultStaxUnmarshaller());
     }
     
     /**
@@ -9095,12 +9772,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return modifyInstanceAttributeComposableAsync(modifyInstanceAttributeRequest);
     }
 
     /**
@@ -9139,18 +9811,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyInstanceAttributeComposableAsync(modifyInstanceAttributeRequest),
+                modifyInstanceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyInstanceAttribute operation like
+     * {@link #modifyInstanceAttributeAsync(ModifyInstanceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyInstanceAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> modifyInstanceAttributeComposableAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyInstanceAttribute(modifyInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -9178,12 +9864,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return deleteDhcpOptionsComposableAsync(deleteDhcpOptionsRequest);
     }
 
     /**
@@ -9217,18 +9898,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDhcpOptionsComposableAsync(deleteDhcpOptionsRequest),
+                deleteDhcpOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDhcpOptions operation like
+     * {@link #deleteDhcpOptionsAsync(DeleteDhcpOptionsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteDhcpOptionsRequest Container for the necessary parameters
+     *           to execute the DeleteDhcpOptions operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDhcpOptions service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteDhcpOptionsComposableAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDhcpOptions(deleteDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDhcpOptionsRequest,
+                new DeleteDhcpOptionsRequestMarshaller(), null);
     }
     
     /**
@@ -9278,12 +9971,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return authorizeSecurityGroupIngressComposableAsync(authorizeSecurityGroupIngressRequest);
     }
 
     /**
@@ -9339,18 +10027,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(authorizeSecurityGroupIngressComposableAsync(authorizeSecurityGroupIngressRequest),
+                authorizeSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeSecurityGroupIngress operation
+     * like
+     * {@link #authorizeSecurityGroupIngressAsync(AuthorizeSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeSecurityGroupIngress
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeSecurityGroupIngress service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> authorizeSecurityGroupIngressComposableAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(), null);
     }
     
     /**
@@ -9390,11 +10093,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-        }
-    });
+        return describeSpotInstanceRequestsComposableAsync(describeSpotInstanceRequestsRequest);
     }
 
     /**
@@ -9440,19 +10139,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
+        return withAsyncHandler(describeSpotInstanceRequestsComposableAsync(describeSpotInstanceRequestsRequest),
+                describeSpotInstanceRequestsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSpotInstanceRequests operation
+     * like
+     * {@link #describeSpotInstanceRequestsAsync(DescribeSpotInstanceRequestsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the DescribeSpotInstanceRequests operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSpotInstanceRequests service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsComposableAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSpotInstanceRequestsResult>() {
             public DescribeSpotInstanceRequestsResult call() throws Exception {
-              DescribeSpotInstanceRequestsResult result;
-                try {
-                result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
+            }
+        }, describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(), new DescribeSpotInstanceRequestsResultStaxUnmarshaller());
     }
     
     /**
@@ -9491,11 +10203,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-        }
-    });
+        return createVpcComposableAsync(createVpcRequest);
     }
 
     /**
@@ -9540,19 +10248,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
+        return withAsyncHandler(createVpcComposableAsync(createVpcRequest),
+                createVpcRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVpc operation like
+     * {@link #createVpcAsync(CreateVpcRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createVpcRequest Container for the necessary parameters to
+     *           execute the CreateVpc operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateVpc
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateVpcResult> createVpcComposableAsync(final CreateVpcRequest createVpcRequest) {
+        return executeAsync(executorService, new Callable<CreateVpcResult>() {
             public CreateVpcResult call() throws Exception {
-              CreateVpcResult result;
-                try {
-                result = createVpc(createVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcRequest, result);
-                 return result;
-        }
-    });
+                return createVpc(createVpcRequest);
+            }
+        }, createVpcRequest,
+                new CreateVpcRequestMarshaller(), new CreateVpcResultStaxUnmarshaller());
     }
     
     /**
@@ -9583,11 +10300,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-        }
-    });
+        return describeCustomerGatewaysComposableAsync(describeCustomerGatewaysRequest);
     }
 
     /**
@@ -9620,23 +10333,35 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
-            final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
-            final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
-                    throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
+    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
+            final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
+            final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return withAsyncHandler(describeCustomerGatewaysComposableAsync(describeCustomerGatewaysRequest),
+                describeCustomerGatewaysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCustomerGateways operation like
+     * {@link #describeCustomerGatewaysAsync(DescribeCustomerGatewaysRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCustomerGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeCustomerGateways operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCustomerGateways service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeCustomerGatewaysResult> describeCustomerGatewaysComposableAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) {
+        return executeAsync(executorService, new Callable<DescribeCustomerGatewaysResult>() {
             public DescribeCustomerGatewaysResult call() throws Exception {
-              DescribeCustomerGatewaysResult result;
-                try {
-                result = describeCustomerGateways(describeCustomerGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
-                 return result;
-        }
-    });
+                return describeCustomerGateways(describeCustomerGatewaysRequest);
+            }
+        }, describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(), new DescribeCustomerGatewaysResultStaxUnmarshaller());
     }
     
     /**
@@ -9664,12 +10389,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelExportTask(cancelExportTaskRequest);
-                return null;
-        }
-    });
+        return cancelExportTaskComposableAsync(cancelExportTaskRequest);
     }
 
     /**
@@ -9703,18 +10423,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(cancelExportTaskComposableAsync(cancelExportTaskRequest),
+                cancelExportTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelExportTask operation like
+     * {@link #cancelExportTaskAsync(CancelExportTaskRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param cancelExportTaskRequest Container for the necessary parameters
+     *           to execute the CancelExportTask operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CancelExportTask service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> cancelExportTaskComposableAsync(final CancelExportTaskRequest cancelExportTaskRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 cancelExportTask(cancelExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelExportTaskRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, cancelExportTaskRequest,
+                new CancelExportTaskRequestMarshaller(), null);
     }
     
     /**
@@ -9773,12 +10504,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createRoute(createRouteRequest);
-                return null;
-        }
-    });
+        return createRouteComposableAsync(createRouteRequest);
     }
 
     /**
@@ -9843,18 +10569,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createRouteComposableAsync(createRouteRequest),
+                createRouteRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateRoute operation like
+     * {@link #createRouteAsync(CreateRouteRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createRouteRequest Container for the necessary parameters to
+     *           execute the CreateRoute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateRoute
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> createRouteComposableAsync(final CreateRouteRequest createRouteRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createRoute(createRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createRouteRequest,
+                new CreateRouteRequestMarshaller(), null);
     }
     
     /**
@@ -9887,11 +10624,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-                return copyImage(copyImageRequest);
-        }
-    });
+        return copyImageComposableAsync(copyImageRequest);
     }
 
     /**
@@ -9930,19 +10663,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
+        return withAsyncHandler(copyImageComposableAsync(copyImageRequest),
+                copyImageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopyImage operation like
+     * {@link #copyImageAsync(CopyImageRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param copyImageRequest Container for the necessary parameters to
+     *           execute the CopyImage operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CopyImage
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CopyImageResult> copyImageComposableAsync(final CopyImageRequest copyImageRequest) {
+        return executeAsync(executorService, new Callable<CopyImageResult>() {
             public CopyImageResult call() throws Exception {
-              CopyImageResult result;
-                try {
-                result = copyImage(copyImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyImageRequest, result);
-                 return result;
-        }
-    });
+                return copyImage(copyImageRequest);
+            }
+        }, copyImageRequest,
+                new CopyImageRequestMarshaller(), new CopyImageResultStaxUnmarshaller());
     }
     
     /**
@@ -9968,11 +10710,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-                return describeVpcClassicLink(describeVpcClassicLinkRequest);
-        }
-    });
+        return describeVpcClassicLinkComposableAsync(describeVpcClassicLinkRequest);
     }
 
     /**
@@ -10004,19 +10742,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
+        return withAsyncHandler(describeVpcClassicLinkComposableAsync(describeVpcClassicLinkRequest),
+                describeVpcClassicLinkRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpcClassicLink operation like
+     * {@link #describeVpcClassicLinkAsync(DescribeVpcClassicLinkRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVpcClassicLinkRequest Container for the necessary
+     *           parameters to execute the DescribeVpcClassicLink operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVpcClassicLink service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpcClassicLinkResult> describeVpcClassicLinkComposableAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpcClassicLinkResult>() {
             public DescribeVpcClassicLinkResult call() throws Exception {
-              DescribeVpcClassicLinkResult result;
-                try {
-                result = describeVpcClassicLink(describeVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+                return describeVpcClassicLink(describeVpcClassicLinkRequest);
+            }
+        }, describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(), new DescribeVpcClassicLinkResultStaxUnmarshaller());
     }
     
     /**
@@ -10044,12 +10794,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return modifyNetworkInterfaceAttributeComposableAsync(modifyNetworkInterfaceAttributeRequest);
     }
 
     /**
@@ -10083,18 +10828,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyNetworkInterfaceAttributeComposableAsync(modifyNetworkInterfaceAttributeRequest),
+                modifyNetworkInterfaceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyNetworkInterfaceAttribute
+     * operation like
+     * {@link #modifyNetworkInterfaceAttributeAsync(ModifyNetworkInterfaceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyNetworkInterfaceAttributeRequest Container for the
+     *           necessary parameters to execute the ModifyNetworkInterfaceAttribute
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifyNetworkInterfaceAttribute service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<Void> modifyNetworkInterfaceAttributeComposableAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -10121,12 +10881,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-        }
-    });
+        return deleteRouteTableComposableAsync(deleteRouteTableRequest);
     }
 
     /**
@@ -10159,18 +10914,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteRouteTableComposableAsync(deleteRouteTableRequest),
+                deleteRouteTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRouteTable operation like
+     * {@link #deleteRouteTableAsync(DeleteRouteTableRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteRouteTableRequest Container for the necessary parameters
+     *           to execute the DeleteRouteTable operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteRouteTable service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteRouteTableComposableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteRouteTable(deleteRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteTableRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteRouteTableRequest,
+                new DeleteRouteTableRequestMarshaller(), null);
     }
     
     /**
@@ -10198,11 +10964,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-        }
-    });
+        return describeNetworkInterfaceAttributeComposableAsync(describeNetworkInterfaceAttributeRequest);
     }
 
     /**
@@ -10236,19 +10998,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
+        return withAsyncHandler(describeNetworkInterfaceAttributeComposableAsync(describeNetworkInterfaceAttributeRequest),
+                describeNetworkInterfaceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeNetworkInterfaceAttribute
+     * operation like
+     * {@link #describeNetworkInterfaceAttributeAsync(DescribeNetworkInterfaceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeNetworkInterfaceAttributeRequest Container for the
+     *           necessary parameters to execute the DescribeNetworkInterfaceAttribute
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeNetworkInterfaceAttribute service method, as
+     *         returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeComposableAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeNetworkInterfaceAttributeResult>() {
             public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-              DescribeNetworkInterfaceAttributeResult result;
-                try {
-                result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfaceAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
+            }
+        }, describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(), new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -10277,11 +11052,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-        }
-    });
+        return describeClassicLinkInstancesComposableAsync(describeClassicLinkInstancesRequest);
     }
 
     /**
@@ -10316,19 +11087,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
+        return withAsyncHandler(describeClassicLinkInstancesComposableAsync(describeClassicLinkInstancesRequest),
+                describeClassicLinkInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClassicLinkInstances operation
+     * like
+     * {@link #describeClassicLinkInstancesAsync(DescribeClassicLinkInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClassicLinkInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeClassicLinkInstances operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClassicLinkInstances service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesComposableAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeClassicLinkInstancesResult>() {
             public DescribeClassicLinkInstancesResult call() throws Exception {
-              DescribeClassicLinkInstancesResult result;
-                try {
-                result = describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClassicLinkInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
+            }
+        }, describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(), new DescribeClassicLinkInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -10359,11 +11143,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-        }
-    });
+        return requestSpotInstancesComposableAsync(requestSpotInstancesRequest);
     }
 
     /**
@@ -10400,19 +11180,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
+        return withAsyncHandler(requestSpotInstancesComposableAsync(requestSpotInstancesRequest),
+                requestSpotInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RequestSpotInstances operation like
+     * {@link #requestSpotInstancesAsync(RequestSpotInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param requestSpotInstancesRequest Container for the necessary
+     *           parameters to execute the RequestSpotInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         RequestSpotInstances service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<RequestSpotInstancesResult> requestSpotInstancesComposableAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) {
+        return executeAsync(executorService, new Callable<RequestSpotInstancesResult>() {
             public RequestSpotInstancesResult call() throws Exception {
-              RequestSpotInstancesResult result;
-                try {
-                result = requestSpotInstances(requestSpotInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotInstancesRequest, result);
-                 return result;
-        }
-    });
+                return requestSpotInstances(requestSpotInstancesRequest);
+            }
+        }, requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(), new RequestSpotInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -10445,12 +11236,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-        }
-    });
+        return createTagsComposableAsync(createTagsRequest);
     }
 
     /**
@@ -10489,18 +11275,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createTagsComposableAsync(createTagsRequest),
+                createTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTags operation like
+     * {@link #createTagsAsync(CreateTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTagsRequest Container for the necessary parameters to
+     *           execute the CreateTags operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateTags
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> createTagsComposableAsync(final CreateTagsRequest createTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createTagsRequest,
+                new CreateTagsRequestMarshaller(), null);
     }
     
     /**
@@ -10532,11 +11329,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-        }
-    });
+        return describeVolumeAttributeComposableAsync(describeVolumeAttributeRequest);
     }
 
     /**
@@ -10574,19 +11367,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
+        return withAsyncHandler(describeVolumeAttributeComposableAsync(describeVolumeAttributeRequest),
+                describeVolumeAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVolumeAttribute operation like
+     * {@link #describeVolumeAttributeAsync(DescribeVolumeAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVolumeAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeVolumeAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVolumeAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVolumeAttributeResult> describeVolumeAttributeComposableAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeVolumeAttributeResult>() {
             public DescribeVolumeAttributeResult call() throws Exception {
-              DescribeVolumeAttributeResult result;
-                try {
-                result = describeVolumeAttribute(describeVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeVolumeAttribute(describeVolumeAttributeRequest);
+            }
+        }, describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(), new DescribeVolumeAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -10612,11 +11417,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-        }
-    });
+        return attachNetworkInterfaceComposableAsync(attachNetworkInterfaceRequest);
     }
 
     /**
@@ -10648,19 +11449,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
+        return withAsyncHandler(attachNetworkInterfaceComposableAsync(attachNetworkInterfaceRequest),
+                attachNetworkInterfaceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachNetworkInterface operation like
+     * {@link #attachNetworkInterfaceAsync(AttachNetworkInterfaceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param attachNetworkInterfaceRequest Container for the necessary
+     *           parameters to execute the AttachNetworkInterface operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AttachNetworkInterface service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<AttachNetworkInterfaceResult> attachNetworkInterfaceComposableAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) {
+        return executeAsync(executorService, new Callable<AttachNetworkInterfaceResult>() {
             public AttachNetworkInterfaceResult call() throws Exception {
-              AttachNetworkInterfaceResult result;
-                try {
-                result = attachNetworkInterface(attachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+                return attachNetworkInterface(attachNetworkInterfaceRequest);
+            }
+        }, attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(), new AttachNetworkInterfaceResultStaxUnmarshaller());
     }
     
     /**
@@ -10692,12 +11505,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-        }
-    });
+        return replaceRouteComposableAsync(replaceRouteRequest);
     }
 
     /**
@@ -10735,18 +11543,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(replaceRouteComposableAsync(replaceRouteRequest),
+                replaceRouteRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReplaceRoute operation like
+     * {@link #replaceRouteAsync(ReplaceRouteRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param replaceRouteRequest Container for the necessary parameters to
+     *           execute the ReplaceRoute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the ReplaceRoute
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> replaceRouteComposableAsync(final ReplaceRouteRequest replaceRouteRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 replaceRoute(replaceRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, replaceRouteRequest,
+                new ReplaceRouteRequestMarshaller(), null);
     }
     
     /**
@@ -10776,11 +11595,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return describeTagsComposableAsync(describeTagsRequest);
     }
 
     /**
@@ -10816,19 +11631,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return withAsyncHandler(describeTagsComposableAsync(describeTagsRequest),
+                describeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTags operation like
+     * {@link #describeTagsAsync(DescribeTagsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DescribeTags
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeTagsResult> describeTagsComposableAsync(final DescribeTagsRequest describeTagsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+                return describeTags(describeTagsRequest);
+            }
+        }, describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -10854,11 +11678,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-        }
-    });
+        return cancelBundleTaskComposableAsync(cancelBundleTaskRequest);
     }
 
     /**
@@ -10890,19 +11710,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
+        return withAsyncHandler(cancelBundleTaskComposableAsync(cancelBundleTaskRequest),
+                cancelBundleTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelBundleTask operation like
+     * {@link #cancelBundleTaskAsync(CancelBundleTaskRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param cancelBundleTaskRequest Container for the necessary parameters
+     *           to execute the CancelBundleTask operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CancelBundleTask service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CancelBundleTaskResult> cancelBundleTaskComposableAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) {
+        return executeAsync(executorService, new Callable<CancelBundleTaskResult>() {
             public CancelBundleTaskResult call() throws Exception {
-              CancelBundleTaskResult result;
-                try {
-                result = cancelBundleTask(cancelBundleTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelBundleTaskRequest, result);
-                 return result;
-        }
-    });
+                return cancelBundleTask(cancelBundleTaskRequest);
+            }
+        }, cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(), new CancelBundleTaskResultStaxUnmarshaller());
     }
     
     /**
@@ -10929,12 +11758,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return disableVgwRoutePropagationComposableAsync(disableVgwRoutePropagationRequest);
     }
 
     /**
@@ -10967,18 +11791,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disableVgwRoutePropagationComposableAsync(disableVgwRoutePropagationRequest),
+                disableVgwRoutePropagationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableVgwRoutePropagation operation
+     * like
+     * {@link #disableVgwRoutePropagationAsync(DisableVgwRoutePropagationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableVgwRoutePropagationRequest Container for the necessary
+     *           parameters to execute the DisableVgwRoutePropagation operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DisableVgwRoutePropagation service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> disableVgwRoutePropagationComposableAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(), null);
     }
     
     /**
@@ -11014,11 +11853,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-        }
-    });
+        return cancelSpotInstanceRequestsComposableAsync(cancelSpotInstanceRequestsRequest);
     }
 
     /**
@@ -11060,19 +11895,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
+        return withAsyncHandler(cancelSpotInstanceRequestsComposableAsync(cancelSpotInstanceRequestsRequest),
+                cancelSpotInstanceRequestsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelSpotInstanceRequests operation
+     * like
+     * {@link #cancelSpotInstanceRequestsAsync(CancelSpotInstanceRequestsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param cancelSpotInstanceRequestsRequest Container for the necessary
+     *           parameters to execute the CancelSpotInstanceRequests operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CancelSpotInstanceRequests service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsComposableAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) {
+        return executeAsync(executorService, new Callable<CancelSpotInstanceRequestsResult>() {
             public CancelSpotInstanceRequestsResult call() throws Exception {
-              CancelSpotInstanceRequestsResult result;
-                try {
-                result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
+            }
+        }, cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(), new CancelSpotInstanceRequestsResultStaxUnmarshaller());
     }
     
     /**
@@ -11114,11 +11962,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-        }
-    });
+        return purchaseReservedInstancesOfferingComposableAsync(purchaseReservedInstancesOfferingRequest);
     }
 
     /**
@@ -11166,19 +12010,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
+        return withAsyncHandler(purchaseReservedInstancesOfferingComposableAsync(purchaseReservedInstancesOfferingRequest),
+                purchaseReservedInstancesOfferingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PurchaseReservedInstancesOffering
+     * operation like
+     * {@link #purchaseReservedInstancesOfferingAsync(PurchaseReservedInstancesOfferingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param purchaseReservedInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the PurchaseReservedInstancesOffering
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         PurchaseReservedInstancesOffering service method, as
+     *         returned by AmazonEC2.
+     */
+    public ComposableFuture<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingComposableAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) {
+        return executeAsync(executorService, new Callable<PurchaseReservedInstancesOfferingResult>() {
             public PurchaseReservedInstancesOfferingResult call() throws Exception {
-              PurchaseReservedInstancesOfferingResult result;
-                try {
-                result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
+            }
+        }, purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(), new PurchaseReservedInstancesOfferingResultStaxUnmarshaller());
     }
     
     /**
@@ -11217,12 +12074,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return modifySnapshotAttributeComposableAsync(modifySnapshotAttributeRequest);
     }
 
     /**
@@ -11267,18 +12119,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifySnapshotAttributeComposableAsync(modifySnapshotAttributeRequest),
+                modifySnapshotAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifySnapshotAttribute operation like
+     * {@link #modifySnapshotAttributeAsync(ModifySnapshotAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifySnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the ModifySnapshotAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifySnapshotAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> modifySnapshotAttributeComposableAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifySnapshotAttribute(modifySnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -11313,11 +12179,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-        }
-    });
+        return describeReservedInstancesModificationsComposableAsync(describeReservedInstancesModificationsRequest);
     }
 
     /**
@@ -11358,19 +12220,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
+        return withAsyncHandler(describeReservedInstancesModificationsComposableAsync(describeReservedInstancesModificationsRequest),
+                describeReservedInstancesModificationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedInstancesModifications
+     * operation like
+     * {@link #describeReservedInstancesModificationsAsync(DescribeReservedInstancesModificationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedInstancesModificationsRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeReservedInstancesModifications operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedInstancesModifications service method, as
+     *         returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsComposableAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedInstancesModificationsResult>() {
             public DescribeReservedInstancesModificationsResult call() throws Exception {
-              DescribeReservedInstancesModificationsResult result;
-                try {
-                result = describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesModificationsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
+            }
+        }, describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(), new DescribeReservedInstancesModificationsResultStaxUnmarshaller());
     }
     
     /**
@@ -11422,11 +12297,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-        }
-    });
+        return terminateInstancesComposableAsync(terminateInstancesRequest);
     }
 
     /**
@@ -11484,19 +12355,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
+        return withAsyncHandler(terminateInstancesComposableAsync(terminateInstancesRequest),
+                terminateInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TerminateInstances operation like
+     * {@link #terminateInstancesAsync(TerminateInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param terminateInstancesRequest Container for the necessary
+     *           parameters to execute the TerminateInstances operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         TerminateInstances service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<TerminateInstancesResult> terminateInstancesComposableAsync(final TerminateInstancesRequest terminateInstancesRequest) {
+        return executeAsync(executorService, new Callable<TerminateInstancesResult>() {
             public TerminateInstancesResult call() throws Exception {
-              TerminateInstancesResult result;
-                try {
-                result = terminateInstances(terminateInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstancesRequest, result);
-                 return result;
-        }
-    });
+                return terminateInstances(terminateInstancesRequest);
+            }
+        }, terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(), new TerminateInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -11525,12 +12406,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-        }
-    });
+        return deleteSpotDatafeedSubscriptionComposableAsync(deleteSpotDatafeedSubscriptionRequest);
     }
 
     /**
@@ -11565,18 +12441,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteSpotDatafeedSubscriptionComposableAsync(deleteSpotDatafeedSubscriptionRequest),
+                deleteSpotDatafeedSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSpotDatafeedSubscription operation
+     * like
+     * {@link #deleteSpotDatafeedSubscriptionAsync(DeleteSpotDatafeedSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteSpotDatafeedSubscriptionRequest Container for the
+     *           necessary parameters to execute the DeleteSpotDatafeedSubscription
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSpotDatafeedSubscription service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteSpotDatafeedSubscriptionComposableAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(), null);
     }
     
     /**
@@ -11603,12 +12494,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-        }
-    });
+        return deleteInternetGatewayComposableAsync(deleteInternetGatewayRequest);
     }
 
     /**
@@ -11641,18 +12527,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteInternetGatewayComposableAsync(deleteInternetGatewayRequest),
+                deleteInternetGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteInternetGateway operation like
+     * {@link #deleteInternetGatewayAsync(DeleteInternetGatewayRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteInternetGatewayRequest Container for the necessary
+     *           parameters to execute the DeleteInternetGateway operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteInternetGateway service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteInternetGatewayComposableAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteInternetGateway(deleteInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(), null);
     }
     
     /**
@@ -11684,11 +12584,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-        }
-    });
+        return describeSnapshotAttributeComposableAsync(describeSnapshotAttributeRequest);
     }
 
     /**
@@ -11726,19 +12622,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
+        return withAsyncHandler(describeSnapshotAttributeComposableAsync(describeSnapshotAttributeRequest),
+                describeSnapshotAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSnapshotAttribute operation like
+     * {@link #describeSnapshotAttributeAsync(DescribeSnapshotAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSnapshotAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeSnapshotAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSnapshotAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeSnapshotAttributeResult> describeSnapshotAttributeComposableAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeSnapshotAttributeResult>() {
             public DescribeSnapshotAttributeResult call() throws Exception {
-              DescribeSnapshotAttributeResult result;
-                try {
-                result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
+            }
+        }, describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(), new DescribeSnapshotAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -11775,11 +12683,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-        }
-    });
+        return replaceRouteTableAssociationComposableAsync(replaceRouteTableAssociationRequest);
     }
 
     /**
@@ -11822,19 +12726,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
+        return withAsyncHandler(replaceRouteTableAssociationComposableAsync(replaceRouteTableAssociationRequest),
+                replaceRouteTableAssociationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReplaceRouteTableAssociation operation
+     * like
+     * {@link #replaceRouteTableAssociationAsync(ReplaceRouteTableAssociationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param replaceRouteTableAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceRouteTableAssociation operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ReplaceRouteTableAssociation service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationComposableAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) {
+        return executeAsync(executorService, new Callable<ReplaceRouteTableAssociationResult>() {
             public ReplaceRouteTableAssociationResult call() throws Exception {
-              ReplaceRouteTableAssociationResult result;
-                try {
-                result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
-                 return result;
-        }
-    });
+                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
+            }
+        }, replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(), new ReplaceRouteTableAssociationResultStaxUnmarshaller());
     }
     
     /**
@@ -11865,11 +12782,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-        }
-    });
+        return describeAddressesComposableAsync(describeAddressesRequest);
     }
 
     /**
@@ -11906,19 +12819,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
+        return withAsyncHandler(describeAddressesComposableAsync(describeAddressesRequest),
+                describeAddressesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAddresses operation like
+     * {@link #describeAddressesAsync(DescribeAddressesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeAddressesRequest Container for the necessary parameters
+     *           to execute the DescribeAddresses operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAddresses service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeAddressesResult> describeAddressesComposableAsync(final DescribeAddressesRequest describeAddressesRequest) {
+        return executeAsync(executorService, new Callable<DescribeAddressesResult>() {
             public DescribeAddressesResult call() throws Exception {
-              DescribeAddressesResult result;
-                try {
-                result = describeAddresses(describeAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAddressesRequest, result);
-                 return result;
-        }
-    });
+                return describeAddresses(describeAddressesRequest);
+            }
+        }, describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(), new DescribeAddressesResultStaxUnmarshaller());
     }
     
     /**
@@ -11945,11 +12868,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-        }
-    });
+        return describeImageAttributeComposableAsync(describeImageAttributeRequest);
     }
 
     /**
@@ -11982,19 +12901,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
+        return withAsyncHandler(describeImageAttributeComposableAsync(describeImageAttributeRequest),
+                describeImageAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeImageAttribute operation like
+     * {@link #describeImageAttributeAsync(DescribeImageAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeImageAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeImageAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeImageAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeImageAttributeResult> describeImageAttributeComposableAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeImageAttributeResult>() {
             public DescribeImageAttributeResult call() throws Exception {
-              DescribeImageAttributeResult result;
-                try {
-                result = describeImageAttribute(describeImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImageAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeImageAttribute(describeImageAttributeRequest);
+            }
+        }, describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(), new DescribeImageAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -12024,11 +12955,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-        }
-    });
+        return describeKeyPairsComposableAsync(describeKeyPairsRequest);
     }
 
     /**
@@ -12064,19 +12991,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
+        return withAsyncHandler(describeKeyPairsComposableAsync(describeKeyPairsRequest),
+                describeKeyPairsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeKeyPairs operation like
+     * {@link #describeKeyPairsAsync(DescribeKeyPairsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeKeyPairsRequest Container for the necessary parameters
+     *           to execute the DescribeKeyPairs operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeKeyPairs service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeKeyPairsResult> describeKeyPairsComposableAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) {
+        return executeAsync(executorService, new Callable<DescribeKeyPairsResult>() {
             public DescribeKeyPairsResult call() throws Exception {
-              DescribeKeyPairsResult result;
-                try {
-                result = describeKeyPairs(describeKeyPairsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyPairsRequest, result);
-                 return result;
-        }
-    });
+                return describeKeyPairs(describeKeyPairsRequest);
+            }
+        }, describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(), new DescribeKeyPairsResultStaxUnmarshaller());
     }
     
     /**
@@ -12105,11 +13041,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-        }
-    });
+        return confirmProductInstanceComposableAsync(confirmProductInstanceRequest);
     }
 
     /**
@@ -12144,19 +13076,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
+        return withAsyncHandler(confirmProductInstanceComposableAsync(confirmProductInstanceRequest),
+                confirmProductInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfirmProductInstance operation like
+     * {@link #confirmProductInstanceAsync(ConfirmProductInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param confirmProductInstanceRequest Container for the necessary
+     *           parameters to execute the ConfirmProductInstance operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ConfirmProductInstance service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<ConfirmProductInstanceResult> confirmProductInstanceComposableAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) {
+        return executeAsync(executorService, new Callable<ConfirmProductInstanceResult>() {
             public ConfirmProductInstanceResult call() throws Exception {
-              ConfirmProductInstanceResult result;
-                try {
-                result = confirmProductInstance(confirmProductInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmProductInstanceRequest, result);
-                 return result;
-        }
-    });
+                return confirmProductInstance(confirmProductInstanceRequest);
+            }
+        }, confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(), new ConfirmProductInstanceResultStaxUnmarshaller());
     }
     
     /**
@@ -12189,12 +13133,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-        }
-    });
+        return disassociateRouteTableComposableAsync(disassociateRouteTableRequest);
     }
 
     /**
@@ -12233,18 +13172,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disassociateRouteTableComposableAsync(disassociateRouteTableRequest),
+                disassociateRouteTableRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisassociateRouteTable operation like
+     * {@link #disassociateRouteTableAsync(DisassociateRouteTableRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disassociateRouteTableRequest Container for the necessary
+     *           parameters to execute the DisassociateRouteTable operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DisassociateRouteTable service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> disassociateRouteTableComposableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disassociateRouteTable(disassociateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateRouteTableRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(), null);
     }
     
     /**
@@ -12270,11 +13223,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-                return describeVpcAttribute(describeVpcAttributeRequest);
-        }
-    });
+        return describeVpcAttributeComposableAsync(describeVpcAttributeRequest);
     }
 
     /**
@@ -12306,19 +13255,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
+        return withAsyncHandler(describeVpcAttributeComposableAsync(describeVpcAttributeRequest),
+                describeVpcAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpcAttribute operation like
+     * {@link #describeVpcAttributeAsync(DescribeVpcAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVpcAttributeRequest Container for the necessary
+     *           parameters to execute the DescribeVpcAttribute operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVpcAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpcAttributeResult> describeVpcAttributeComposableAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpcAttributeResult>() {
             public DescribeVpcAttributeResult call() throws Exception {
-              DescribeVpcAttributeResult result;
-                try {
-                result = describeVpcAttribute(describeVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcAttributeRequest, result);
-                 return result;
-        }
-    });
+                return describeVpcAttribute(describeVpcAttributeRequest);
+            }
+        }, describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(), new DescribeVpcAttributeResultStaxUnmarshaller());
     }
     
     /**
@@ -12356,12 +13316,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return revokeSecurityGroupEgressComposableAsync(revokeSecurityGroupEgressRequest);
     }
 
     /**
@@ -12405,18 +13360,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(revokeSecurityGroupEgressComposableAsync(revokeSecurityGroupEgressRequest),
+                revokeSecurityGroupEgressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeSecurityGroupEgress operation like
+     * {@link #revokeSecurityGroupEgressAsync(RevokeSecurityGroupEgressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeSecurityGroupEgressRequest Container for the necessary
+     *           parameters to execute the RevokeSecurityGroupEgress operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         RevokeSecurityGroupEgress service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> revokeSecurityGroupEgressComposableAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(), null);
     }
     
     /**
@@ -12443,12 +13412,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return deleteNetworkAclEntryComposableAsync(deleteNetworkAclEntryRequest);
     }
 
     /**
@@ -12481,18 +13445,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteNetworkAclEntryComposableAsync(deleteNetworkAclEntryRequest),
+                deleteNetworkAclEntryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteNetworkAclEntry operation like
+     * {@link #deleteNetworkAclEntryAsync(DeleteNetworkAclEntryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the DeleteNetworkAclEntry operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeleteNetworkAclEntry service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteNetworkAclEntryComposableAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(), null);
     }
     
     /**
@@ -12539,11 +13517,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-        }
-    });
+        return createVolumeComposableAsync(createVolumeRequest);
     }
 
     /**
@@ -12596,19 +13570,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
+        return withAsyncHandler(createVolumeComposableAsync(createVolumeRequest),
+                createVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVolume operation like
+     * {@link #createVolumeAsync(CreateVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createVolumeRequest Container for the necessary parameters to
+     *           execute the CreateVolume operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateVolume
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateVolumeResult> createVolumeComposableAsync(final CreateVolumeRequest createVolumeRequest) {
+        return executeAsync(executorService, new Callable<CreateVolumeResult>() {
             public CreateVolumeResult call() throws Exception {
-              CreateVolumeResult result;
-                try {
-                result = createVolume(createVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVolumeRequest, result);
-                 return result;
-        }
-    });
+                return createVolume(createVolumeRequest);
+            }
+        }, createVolumeRequest,
+                new CreateVolumeRequestMarshaller(), new CreateVolumeResultStaxUnmarshaller());
     }
     
     /**
@@ -12722,11 +13705,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-        }
-    });
+        return describeInstanceStatusComposableAsync(describeInstanceStatusRequest);
     }
 
     /**
@@ -12846,19 +13825,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
+        return withAsyncHandler(describeInstanceStatusComposableAsync(describeInstanceStatusRequest),
+                describeInstanceStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInstanceStatus operation like
+     * {@link #describeInstanceStatusAsync(DescribeInstanceStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeInstanceStatusRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceStatus operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInstanceStatus service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeInstanceStatusResult> describeInstanceStatusComposableAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) {
+        return executeAsync(executorService, new Callable<DescribeInstanceStatusResult>() {
             public DescribeInstanceStatusResult call() throws Exception {
-              DescribeInstanceStatusResult result;
-                try {
-                result = describeInstanceStatus(describeInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceStatusRequest, result);
-                 return result;
-        }
-    });
+                return describeInstanceStatus(describeInstanceStatusRequest);
+            }
+        }, describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(), new DescribeInstanceStatusResultStaxUnmarshaller());
     }
     
     /**
@@ -12888,11 +13879,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-        }
-    });
+        return describeVpnGatewaysComposableAsync(describeVpnGatewaysRequest);
     }
 
     /**
@@ -12928,19 +13915,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
+        return withAsyncHandler(describeVpnGatewaysComposableAsync(describeVpnGatewaysRequest),
+                describeVpnGatewaysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVpnGateways operation like
+     * {@link #describeVpnGatewaysAsync(DescribeVpnGatewaysRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVpnGatewaysRequest Container for the necessary
+     *           parameters to execute the DescribeVpnGateways operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVpnGateways service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DescribeVpnGatewaysResult> describeVpnGatewaysComposableAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) {
+        return executeAsync(executorService, new Callable<DescribeVpnGatewaysResult>() {
             public DescribeVpnGatewaysResult call() throws Exception {
-              DescribeVpnGatewaysResult result;
-                try {
-                result = describeVpnGateways(describeVpnGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
-                 return result;
-        }
-    });
+                return describeVpnGateways(describeVpnGatewaysRequest);
+            }
+        }, describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(), new DescribeVpnGatewaysResultStaxUnmarshaller());
     }
     
     /**
@@ -12996,11 +13994,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-        }
-    });
+        return createSubnetComposableAsync(createSubnetRequest);
     }
 
     /**
@@ -13062,19 +14056,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
+        return withAsyncHandler(createSubnetComposableAsync(createSubnetRequest),
+                createSubnetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSubnet operation like
+     * {@link #createSubnetAsync(CreateSubnetRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createSubnetRequest Container for the necessary parameters to
+     *           execute the CreateSubnet operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateSubnet
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateSubnetResult> createSubnetComposableAsync(final CreateSubnetRequest createSubnetRequest) {
+        return executeAsync(executorService, new Callable<CreateSubnetResult>() {
             public CreateSubnetResult call() throws Exception {
-              CreateSubnetResult result;
-                try {
-                result = createSubnet(createSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSubnetRequest, result);
-                 return result;
-        }
-    });
+                return createSubnet(createSubnetRequest);
+            }
+        }, createSubnetRequest,
+                new CreateSubnetRequestMarshaller(), new CreateSubnetResultStaxUnmarshaller());
     }
     
     /**
@@ -13111,11 +14114,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-        }
-    });
+        return describeReservedInstancesOfferingsComposableAsync(describeReservedInstancesOfferingsRequest);
     }
 
     /**
@@ -13158,19 +14157,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
+        return withAsyncHandler(describeReservedInstancesOfferingsComposableAsync(describeReservedInstancesOfferingsRequest),
+                describeReservedInstancesOfferingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedInstancesOfferings
+     * operation like
+     * {@link #describeReservedInstancesOfferingsAsync(DescribeReservedInstancesOfferingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedInstancesOfferings
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedInstancesOfferings service method, as
+     *         returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsComposableAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedInstancesOfferingsResult>() {
             public DescribeReservedInstancesOfferingsResult call() throws Exception {
-              DescribeReservedInstancesOfferingsResult result;
-                try {
-                result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
+            }
+        }, describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(), new DescribeReservedInstancesOfferingsResultStaxUnmarshaller());
     }
     
     /**
@@ -13206,12 +14218,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return assignPrivateIpAddressesComposableAsync(assignPrivateIpAddressesRequest);
     }
 
     /**
@@ -13253,18 +14260,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(assignPrivateIpAddressesComposableAsync(assignPrivateIpAddressesRequest),
+                assignPrivateIpAddressesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssignPrivateIpAddresses operation like
+     * {@link #assignPrivateIpAddressesAsync(AssignPrivateIpAddressesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param assignPrivateIpAddressesRequest Container for the necessary
+     *           parameters to execute the AssignPrivateIpAddresses operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AssignPrivateIpAddresses service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> assignPrivateIpAddressesComposableAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(), null);
     }
     
     /**
@@ -13308,12 +14329,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-        }
-    });
+        return deleteSnapshotComposableAsync(deleteSnapshotRequest);
     }
 
     /**
@@ -13359,22 +14375,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(
-            final DeleteSnapshotRequest deleteSnapshotRequest,
-            final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
-                    throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+    public Future<Void> deleteSnapshotAsync(
+            final DeleteSnapshotRequest deleteSnapshotRequest,
+            final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
+                    throws AmazonServiceException, AmazonClientException {
+        return withAsyncHandler(deleteSnapshotComposableAsync(deleteSnapshotRequest),
+                deleteSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSnapshot operation like
+     * {@link #deleteSnapshotAsync(DeleteSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteSnapshotRequest Container for the necessary parameters to
+     *           execute the DeleteSnapshot operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteSnapshot
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteSnapshotComposableAsync(final DeleteSnapshotRequest deleteSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSnapshotRequest,
+                new DeleteSnapshotRequestMarshaller(), null);
     }
     
     /**
@@ -13404,11 +14431,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-        }
-    });
+        return replaceNetworkAclAssociationComposableAsync(replaceNetworkAclAssociationRequest);
     }
 
     /**
@@ -13444,19 +14467,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
+        return withAsyncHandler(replaceNetworkAclAssociationComposableAsync(replaceNetworkAclAssociationRequest),
+                replaceNetworkAclAssociationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReplaceNetworkAclAssociation operation
+     * like
+     * {@link #replaceNetworkAclAssociationAsync(ReplaceNetworkAclAssociationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param replaceNetworkAclAssociationRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclAssociation operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ReplaceNetworkAclAssociation service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationComposableAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) {
+        return executeAsync(executorService, new Callable<ReplaceNetworkAclAssociationResult>() {
             public ReplaceNetworkAclAssociationResult call() throws Exception {
-              ReplaceNetworkAclAssociationResult result;
-                try {
-                result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
-                 return result;
-        }
-    });
+                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
+            }
+        }, replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(), new ReplaceNetworkAclAssociationResultStaxUnmarshaller());
     }
     
     /**
@@ -13492,12 +14528,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-        }
-    });
+        return disassociateAddressComposableAsync(disassociateAddressRequest);
     }
 
     /**
@@ -13539,18 +14570,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disassociateAddressComposableAsync(disassociateAddressRequest),
+                disassociateAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisassociateAddress operation like
+     * {@link #disassociateAddressAsync(DisassociateAddressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disassociateAddressRequest Container for the necessary
+     *           parameters to execute the DisassociateAddress operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DisassociateAddress service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> disassociateAddressComposableAsync(final DisassociateAddressRequest disassociateAddressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disassociateAddress(disassociateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateAddressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(), null);
     }
     
     /**
@@ -13583,12 +14627,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-        }
-    });
+        return createPlacementGroupComposableAsync(createPlacementGroupRequest);
     }
 
     /**
@@ -13627,18 +14666,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createPlacementGroupComposableAsync(createPlacementGroupRequest),
+                createPlacementGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePlacementGroup operation like
+     * {@link #createPlacementGroupAsync(CreatePlacementGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPlacementGroupRequest Container for the necessary
+     *           parameters to execute the CreatePlacementGroup operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreatePlacementGroup service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> createPlacementGroupComposableAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createPlacementGroup(createPlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlacementGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(), null);
     }
     
     /**
@@ -13676,11 +14728,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-        }
-    });
+        return bundleInstanceComposableAsync(bundleInstanceRequest);
     }
 
     /**
@@ -13724,19 +14772,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
+        return withAsyncHandler(bundleInstanceComposableAsync(bundleInstanceRequest),
+                bundleInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BundleInstance operation like
+     * {@link #bundleInstanceAsync(BundleInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param bundleInstanceRequest Container for the necessary parameters to
+     *           execute the BundleInstance operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the BundleInstance
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<BundleInstanceResult> bundleInstanceComposableAsync(final BundleInstanceRequest bundleInstanceRequest) {
+        return executeAsync(executorService, new Callable<BundleInstanceResult>() {
             public BundleInstanceResult call() throws Exception {
-              BundleInstanceResult result;
-                try {
-                result = bundleInstance(bundleInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(bundleInstanceRequest, result);
-                 return result;
-        }
-    });
+                return bundleInstance(bundleInstanceRequest);
+            }
+        }, bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(), new BundleInstanceResultStaxUnmarshaller());
     }
     
     /**
@@ -13766,12 +14823,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-        }
-    });
+        return deletePlacementGroupComposableAsync(deletePlacementGroupRequest);
     }
 
     /**
@@ -13807,18 +14859,31 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deletePlacementGroupComposableAsync(deletePlacementGroupRequest),
+                deletePlacementGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePlacementGroup operation like
+     * {@link #deletePlacementGroupAsync(DeletePlacementGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deletePlacementGroupRequest Container for the necessary
+     *           parameters to execute the DeletePlacementGroup operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DeletePlacementGroup service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> deletePlacementGroupComposableAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deletePlacementGroup(deletePlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlacementGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(), null);
     }
     
     /**
@@ -13844,12 +14909,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-                return null;
-        }
-    });
+        return modifySubnetAttributeComposableAsync(modifySubnetAttributeRequest);
     }
 
     /**
@@ -13881,18 +14941,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifySubnetAttributeComposableAsync(modifySubnetAttributeRequest),
+                modifySubnetAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifySubnetAttribute operation like
+     * {@link #modifySubnetAttributeAsync(ModifySubnetAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifySubnetAttributeRequest Container for the necessary
+     *           parameters to execute the ModifySubnetAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ModifySubnetAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> modifySubnetAttributeComposableAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifySubnetAttribute(modifySubnetAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySubnetAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -13922,12 +14996,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
-                return null;
-        }
-    });
+        return deleteVpcComposableAsync(deleteVpcRequest);
     }
 
     /**
@@ -13963,18 +15032,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVpcComposableAsync(deleteVpcRequest),
+                deleteVpcRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVpc operation like
+     * {@link #deleteVpcAsync(DeleteVpcRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteVpcRequest Container for the necessary parameters to
+     *           execute the DeleteVpc operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the DeleteVpc
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> deleteVpcComposableAsync(final DeleteVpcRequest deleteVpcRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVpc(deleteVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVpcRequest,
+                new DeleteVpcRequestMarshaller(), null);
     }
     
     /**
@@ -14017,11 +15097,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return copySnapshotComposableAsync(copySnapshotRequest);
     }
 
     /**
@@ -14070,19 +15146,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
+        return withAsyncHandler(copySnapshotComposableAsync(copySnapshotRequest),
+                copySnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopySnapshot operation like
+     * {@link #copySnapshotAsync(CopySnapshotRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param copySnapshotRequest Container for the necessary parameters to
+     *           execute the CopySnapshot operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CopySnapshot
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CopySnapshotResult> copySnapshotComposableAsync(final CopySnapshotRequest copySnapshotRequest) {
+        return executeAsync(executorService, new Callable<CopySnapshotResult>() {
             public CopySnapshotResult call() throws Exception {
-              CopySnapshotResult result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+                return copySnapshot(copySnapshotRequest);
+            }
+        }, copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(), new CopySnapshotResultStaxUnmarshaller());
     }
     
     /**
@@ -14113,11 +15198,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-        }
-    });
+        return allocateAddressComposableAsync(allocateAddressRequest);
     }
 
     /**
@@ -14154,19 +15235,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
+        return withAsyncHandler(allocateAddressComposableAsync(allocateAddressRequest),
+                allocateAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AllocateAddress operation like
+     * {@link #allocateAddressAsync(AllocateAddressRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param allocateAddressRequest Container for the necessary parameters
+     *           to execute the AllocateAddress operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         AllocateAddress service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<AllocateAddressResult> allocateAddressComposableAsync(final AllocateAddressRequest allocateAddressRequest) {
+        return executeAsync(executorService, new Callable<AllocateAddressResult>() {
             public AllocateAddressResult call() throws Exception {
-              AllocateAddressResult result;
-                try {
-                result = allocateAddress(allocateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateAddressRequest, result);
-                 return result;
-        }
-    });
+                return allocateAddress(allocateAddressRequest);
+            }
+        }, allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(), new AllocateAddressResultStaxUnmarshaller());
     }
     
     /**
@@ -14210,12 +15300,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-        }
-    });
+        return releaseAddressComposableAsync(releaseAddressRequest);
     }
 
     /**
@@ -14265,18 +15350,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(releaseAddressComposableAsync(releaseAddressRequest),
+                releaseAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReleaseAddress operation like
+     * {@link #releaseAddressAsync(ReleaseAddressRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param releaseAddressRequest Container for the necessary parameters to
+     *           execute the ReleaseAddress operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the ReleaseAddress
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<Void> releaseAddressComposableAsync(final ReleaseAddressRequest releaseAddressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 releaseAddress(releaseAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseAddressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, releaseAddressRequest,
+                new ReleaseAddressRequestMarshaller(), null);
     }
     
     /**
@@ -14314,12 +15410,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return resetInstanceAttributeComposableAsync(resetInstanceAttributeRequest);
     }
 
     /**
@@ -14363,18 +15454,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resetInstanceAttributeComposableAsync(resetInstanceAttributeRequest),
+                resetInstanceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetInstanceAttribute operation like
+     * {@link #resetInstanceAttributeAsync(ResetInstanceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetInstanceAttributeRequest Container for the necessary
+     *           parameters to execute the ResetInstanceAttribute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ResetInstanceAttribute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> resetInstanceAttributeComposableAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resetInstanceAttribute(resetInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -14416,11 +15521,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-        }
-    });
+        return createKeyPairComposableAsync(createKeyPairRequest);
     }
 
     /**
@@ -14468,19 +15569,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
+        return withAsyncHandler(createKeyPairComposableAsync(createKeyPairRequest),
+                createKeyPairRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateKeyPair operation like
+     * {@link #createKeyPairAsync(CreateKeyPairRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createKeyPairRequest Container for the necessary parameters to
+     *           execute the CreateKeyPair operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the CreateKeyPair
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateKeyPairResult> createKeyPairComposableAsync(final CreateKeyPairRequest createKeyPairRequest) {
+        return executeAsync(executorService, new Callable<CreateKeyPairResult>() {
             public CreateKeyPairResult call() throws Exception {
-              CreateKeyPairResult result;
-                try {
-                result = createKeyPair(createKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyPairRequest, result);
-                 return result;
-        }
-    });
+                return createKeyPair(createKeyPairRequest);
+            }
+        }, createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(), new CreateKeyPairResultStaxUnmarshaller());
     }
     
     /**
@@ -14509,12 +15619,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return replaceNetworkAclEntryComposableAsync(replaceNetworkAclEntryRequest);
     }
 
     /**
@@ -14549,18 +15654,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(replaceNetworkAclEntryComposableAsync(replaceNetworkAclEntryRequest),
+                replaceNetworkAclEntryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReplaceNetworkAclEntry operation like
+     * {@link #replaceNetworkAclEntryAsync(ReplaceNetworkAclEntryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param replaceNetworkAclEntryRequest Container for the necessary
+     *           parameters to execute the ReplaceNetworkAclEntry operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ReplaceNetworkAclEntry service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> replaceNetworkAclEntryComposableAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(), null);
     }
     
     /**
@@ -14634,11 +15753,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return describeSnapshotsComposableAsync(describeSnapshotsRequest);
     }
 
     /**
@@ -14718,19 +15833,29 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return withAsyncHandler(describeSnapshotsComposableAsync(describeSnapshotsRequest),
+                describeSnapshotsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSnapshots operation like
+     * {@link #describeSnapshotsAsync(DescribeSnapshotsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeSnapshotsRequest Container for the necessary parameters
+     *           to execute the DescribeSnapshots operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSnapshots service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<DescribeSnapshotsResult> describeSnapshotsComposableAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+                return describeSnapshots(describeSnapshotsRequest);
+            }
+        }, describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(), new DescribeSnapshotsResultStaxUnmarshaller());
     }
     
     /**
@@ -14762,11 +15887,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-        }
-    });
+        return createNetworkAclComposableAsync(createNetworkAclRequest);
     }
 
     /**
@@ -14804,19 +15925,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
+        return withAsyncHandler(createNetworkAclComposableAsync(createNetworkAclRequest),
+                createNetworkAclRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateNetworkAcl operation like
+     * {@link #createNetworkAclAsync(CreateNetworkAclRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createNetworkAclRequest Container for the necessary parameters
+     *           to execute the CreateNetworkAcl operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateNetworkAcl service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<CreateNetworkAclResult> createNetworkAclComposableAsync(final CreateNetworkAclRequest createNetworkAclRequest) {
+        return executeAsync(executorService, new Callable<CreateNetworkAclResult>() {
             public CreateNetworkAclResult call() throws Exception {
-              CreateNetworkAclResult result;
-                try {
-                result = createNetworkAcl(createNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclRequest, result);
-                 return result;
-        }
-    });
+                return createNetworkAcl(createNetworkAclRequest);
+            }
+        }, createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(), new CreateNetworkAclResultStaxUnmarshaller());
     }
     
     /**
@@ -14867,11 +15997,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-        }
-    });
+        return registerImageComposableAsync(registerImageRequest);
     }
 
     /**
@@ -14928,19 +16054,28 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
+        return withAsyncHandler(registerImageComposableAsync(registerImageRequest),
+                registerImageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterImage operation like
+     * {@link #registerImageAsync(RegisterImageRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerImageRequest Container for the necessary parameters to
+     *           execute the RegisterImage operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the RegisterImage
+     *         service method, as returned by AmazonEC2.
+     */
+    public ComposableFuture<RegisterImageResult> registerImageComposableAsync(final RegisterImageRequest registerImageRequest) {
+        return executeAsync(executorService, new Callable<RegisterImageResult>() {
             public RegisterImageResult call() throws Exception {
-              RegisterImageResult result;
-                try {
-                result = registerImage(registerImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerImageRequest, result);
-                 return result;
-        }
-    });
+                return registerImage(registerImageRequest);
+            }
+        }, registerImageRequest,
+                new RegisterImageRequestMarshaller(), new RegisterImageResultStaxUnmarshaller());
     }
     
     /**
@@ -14968,12 +16103,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return resetNetworkInterfaceAttributeComposableAsync(resetNetworkInterfaceAttributeRequest);
     }
 
     /**
@@ -15007,18 +16137,33 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resetNetworkInterfaceAttributeComposableAsync(resetNetworkInterfaceAttributeRequest),
+                resetNetworkInterfaceAttributeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetNetworkInterfaceAttribute operation
+     * like
+     * {@link #resetNetworkInterfaceAttributeAsync(ResetNetworkInterfaceAttributeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetNetworkInterfaceAttributeRequest Container for the
+     *           necessary parameters to execute the ResetNetworkInterfaceAttribute
+     *           operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         ResetNetworkInterfaceAttribute service method, as returned
+     *         by AmazonEC2.
+     */
+    public ComposableFuture<Void> resetNetworkInterfaceAttributeComposableAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(), null);
     }
     
     /**
@@ -15051,11 +16196,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-                return enableVpcClassicLink(enableVpcClassicLinkRequest);
-        }
-    });
+        return enableVpcClassicLinkComposableAsync(enableVpcClassicLinkRequest);
     }
 
     /**
@@ -15094,19 +16235,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
+        return withAsyncHandler(enableVpcClassicLinkComposableAsync(enableVpcClassicLinkRequest),
+                enableVpcClassicLinkRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableVpcClassicLink operation like
+     * {@link #enableVpcClassicLinkAsync(EnableVpcClassicLinkRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableVpcClassicLinkRequest Container for the necessary
+     *           parameters to execute the EnableVpcClassicLink operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         EnableVpcClassicLink service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<EnableVpcClassicLinkResult> enableVpcClassicLinkComposableAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) {
+        return executeAsync(executorService, new Callable<EnableVpcClassicLinkResult>() {
             public EnableVpcClassicLinkResult call() throws Exception {
-              EnableVpcClassicLinkResult result;
-                try {
-                result = enableVpcClassicLink(enableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+                return enableVpcClassicLink(enableVpcClassicLinkRequest);
+            }
+        }, enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(), new EnableVpcClassicLinkResultStaxUnmarshaller());
     }
     
     /**
@@ -15140,12 +16292,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return createVpnConnectionRouteComposableAsync(createVpnConnectionRouteRequest);
     }
 
     /**
@@ -15185,18 +16332,32 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createVpnConnectionRouteComposableAsync(createVpnConnectionRouteRequest),
+                createVpnConnectionRouteRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVpnConnectionRoute operation like
+     * {@link #createVpnConnectionRouteAsync(CreateVpnConnectionRouteRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createVpnConnectionRouteRequest Container for the necessary
+     *           parameters to execute the CreateVpnConnectionRoute operation on
+     *           AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         CreateVpnConnectionRoute service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<Void> createVpnConnectionRouteComposableAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createVpnConnectionRoute(createVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(), null);
     }
     
     /**
@@ -15224,11 +16385,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
-        }
-    });
+        return detachClassicLinkVpcComposableAsync(detachClassicLinkVpcRequest);
     }
 
     /**
@@ -15262,19 +16419,30 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
+        return withAsyncHandler(detachClassicLinkVpcComposableAsync(detachClassicLinkVpcRequest),
+                detachClassicLinkVpcRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachClassicLinkVpc operation like
+     * {@link #detachClassicLinkVpcAsync(DetachClassicLinkVpcRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param detachClassicLinkVpcRequest Container for the necessary
+     *           parameters to execute the DetachClassicLinkVpc operation on AmazonEC2.
+     *
+     * @return A composable future for the response from the
+     *         DetachClassicLinkVpc service method, as returned by
+     *         AmazonEC2.
+     */
+    public ComposableFuture<DetachClassicLinkVpcResult> detachClassicLinkVpcComposableAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) {
+        return executeAsync(executorService, new Callable<DetachClassicLinkVpcResult>() {
             public DetachClassicLinkVpcResult call() throws Exception {
-              DetachClassicLinkVpcResult result;
-                try {
-                result = detachClassicLinkVpc(detachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
+            }
+        }, detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(), new DetachClassicLinkVpcResultStaxUnmarshaller());
     }
     
 }
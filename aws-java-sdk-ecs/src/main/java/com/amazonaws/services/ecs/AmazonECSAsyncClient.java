@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.ecs.model.*;
+import com.amazonaws.services.ecs.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonECS.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * Amazon EC2 Container Service (Amazon ECS) is a highly scalable, fast,
  * container management service that makes it easy to run, stop, and
@@ -311,11 +315,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<SubmitTaskStateChangeResult> submitTaskStateChangeAsync(final SubmitTaskStateChangeRequest submitTaskStateChangeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitTaskStateChangeResult>() {
-            public SubmitTaskStateChangeResult call() throws Exception {
-                return submitTaskStateChange(submitTaskStateChangeRequest);
-        }
-    });
+        return submitTaskStateChangeComposableAsync(submitTaskStateChangeRequest);
     }
 
     /**
@@ -351,19 +351,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final SubmitTaskStateChangeRequest submitTaskStateChangeRequest,
             final AsyncHandler<SubmitTaskStateChangeRequest, SubmitTaskStateChangeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitTaskStateChangeResult>() {
+        return withAsyncHandler(submitTaskStateChangeComposableAsync(submitTaskStateChangeRequest),
+                submitTaskStateChangeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SubmitTaskStateChange operation like
+     * {@link #submitTaskStateChangeAsync(SubmitTaskStateChangeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param submitTaskStateChangeRequest Container for the necessary
+     *           parameters to execute the SubmitTaskStateChange operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         SubmitTaskStateChange service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<SubmitTaskStateChangeResult> submitTaskStateChangeComposableAsync(final SubmitTaskStateChangeRequest submitTaskStateChangeRequest) {
+        return executeAsync(executorService, new Callable<SubmitTaskStateChangeResult>() {
             public SubmitTaskStateChangeResult call() throws Exception {
-              SubmitTaskStateChangeResult result;
-                try {
-                result = submitTaskStateChange(submitTaskStateChangeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(submitTaskStateChangeRequest, result);
-                 return result;
-        }
-    });
+                return submitTaskStateChange(submitTaskStateChangeRequest);
+            }
+        }, submitTaskStateChangeRequest,
+                new SubmitTaskStateChangeRequestMarshaller(), new SubmitTaskStateChangeResultJsonUnmarshaller());
     }
     
     /**
@@ -391,11 +403,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DeleteClusterResult> deleteClusterAsync(final DeleteClusterRequest deleteClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteClusterResult>() {
-            public DeleteClusterResult call() throws Exception {
-                return deleteCluster(deleteClusterRequest);
-        }
-    });
+        return deleteClusterComposableAsync(deleteClusterRequest);
     }
 
     /**
@@ -429,19 +437,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DeleteClusterRequest deleteClusterRequest,
             final AsyncHandler<DeleteClusterRequest, DeleteClusterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteClusterResult>() {
+        return withAsyncHandler(deleteClusterComposableAsync(deleteClusterRequest),
+                deleteClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCluster operation like
+     * {@link #deleteClusterAsync(DeleteClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteClusterRequest Container for the necessary parameters to
+     *           execute the DeleteCluster operation on AmazonECS.
+     *
+     * @return A composable future for the response from the DeleteCluster
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<DeleteClusterResult> deleteClusterComposableAsync(final DeleteClusterRequest deleteClusterRequest) {
+        return executeAsync(executorService, new Callable<DeleteClusterResult>() {
             public DeleteClusterResult call() throws Exception {
-              DeleteClusterResult result;
-                try {
-                result = deleteCluster(deleteClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterRequest, result);
-                 return result;
-        }
-    });
+                return deleteCluster(deleteClusterRequest);
+            }
+        }, deleteClusterRequest,
+                new DeleteClusterRequestMarshaller(), new DeleteClusterResultJsonUnmarshaller());
     }
     
     /**
@@ -472,11 +489,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<RegisterContainerInstanceResult> registerContainerInstanceAsync(final RegisterContainerInstanceRequest registerContainerInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterContainerInstanceResult>() {
-            public RegisterContainerInstanceResult call() throws Exception {
-                return registerContainerInstance(registerContainerInstanceRequest);
-        }
-    });
+        return registerContainerInstanceComposableAsync(registerContainerInstanceRequest);
     }
 
     /**
@@ -513,19 +526,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final RegisterContainerInstanceRequest registerContainerInstanceRequest,
             final AsyncHandler<RegisterContainerInstanceRequest, RegisterContainerInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterContainerInstanceResult>() {
+        return withAsyncHandler(registerContainerInstanceComposableAsync(registerContainerInstanceRequest),
+                registerContainerInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterContainerInstance operation like
+     * {@link #registerContainerInstanceAsync(RegisterContainerInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerContainerInstanceRequest Container for the necessary
+     *           parameters to execute the RegisterContainerInstance operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         RegisterContainerInstance service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<RegisterContainerInstanceResult> registerContainerInstanceComposableAsync(final RegisterContainerInstanceRequest registerContainerInstanceRequest) {
+        return executeAsync(executorService, new Callable<RegisterContainerInstanceResult>() {
             public RegisterContainerInstanceResult call() throws Exception {
-              RegisterContainerInstanceResult result;
-                try {
-                result = registerContainerInstance(registerContainerInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerContainerInstanceRequest, result);
-                 return result;
-        }
-    });
+                return registerContainerInstance(registerContainerInstanceRequest);
+            }
+        }, registerContainerInstanceRequest,
+                new RegisterContainerInstanceRequestMarshaller(), new RegisterContainerInstanceResultJsonUnmarshaller());
     }
     
     /**
@@ -553,11 +578,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DescribeContainerInstancesResult> describeContainerInstancesAsync(final DescribeContainerInstancesRequest describeContainerInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContainerInstancesResult>() {
-            public DescribeContainerInstancesResult call() throws Exception {
-                return describeContainerInstances(describeContainerInstancesRequest);
-        }
-    });
+        return describeContainerInstancesComposableAsync(describeContainerInstancesRequest);
     }
 
     /**
@@ -591,19 +612,32 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DescribeContainerInstancesRequest describeContainerInstancesRequest,
             final AsyncHandler<DescribeContainerInstancesRequest, DescribeContainerInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContainerInstancesResult>() {
+        return withAsyncHandler(describeContainerInstancesComposableAsync(describeContainerInstancesRequest),
+                describeContainerInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeContainerInstances operation
+     * like
+     * {@link #describeContainerInstancesAsync(DescribeContainerInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeContainerInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeContainerInstances operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeContainerInstances service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<DescribeContainerInstancesResult> describeContainerInstancesComposableAsync(final DescribeContainerInstancesRequest describeContainerInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeContainerInstancesResult>() {
             public DescribeContainerInstancesResult call() throws Exception {
-              DescribeContainerInstancesResult result;
-                try {
-                result = describeContainerInstances(describeContainerInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeContainerInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeContainerInstances(describeContainerInstancesRequest);
+            }
+        }, describeContainerInstancesRequest,
+                new DescribeContainerInstancesRequestMarshaller(), new DescribeContainerInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -633,11 +667,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<SubmitContainerStateChangeResult> submitContainerStateChangeAsync(final SubmitContainerStateChangeRequest submitContainerStateChangeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitContainerStateChangeResult>() {
-            public SubmitContainerStateChangeResult call() throws Exception {
-                return submitContainerStateChange(submitContainerStateChangeRequest);
-        }
-    });
+        return submitContainerStateChangeComposableAsync(submitContainerStateChangeRequest);
     }
 
     /**
@@ -673,19 +703,32 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final SubmitContainerStateChangeRequest submitContainerStateChangeRequest,
             final AsyncHandler<SubmitContainerStateChangeRequest, SubmitContainerStateChangeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubmitContainerStateChangeResult>() {
+        return withAsyncHandler(submitContainerStateChangeComposableAsync(submitContainerStateChangeRequest),
+                submitContainerStateChangeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SubmitContainerStateChange operation
+     * like
+     * {@link #submitContainerStateChangeAsync(SubmitContainerStateChangeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param submitContainerStateChangeRequest Container for the necessary
+     *           parameters to execute the SubmitContainerStateChange operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         SubmitContainerStateChange service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<SubmitContainerStateChangeResult> submitContainerStateChangeComposableAsync(final SubmitContainerStateChangeRequest submitContainerStateChangeRequest) {
+        return executeAsync(executorService, new Callable<SubmitContainerStateChangeResult>() {
             public SubmitContainerStateChangeResult call() throws Exception {
-              SubmitContainerStateChangeResult result;
-                try {
-                result = submitContainerStateChange(submitContainerStateChangeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(submitContainerStateChangeRequest, result);
-                 return result;
-        }
-    });
+                return submitContainerStateChange(submitContainerStateChangeRequest);
+            }
+        }, submitContainerStateChangeRequest,
+                new SubmitContainerStateChangeRequestMarshaller(), new SubmitContainerStateChangeResultJsonUnmarshaller());
     }
     
     /**
@@ -712,11 +755,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<ListTaskDefinitionsResult> listTaskDefinitionsAsync(final ListTaskDefinitionsRequest listTaskDefinitionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTaskDefinitionsResult>() {
-            public ListTaskDefinitionsResult call() throws Exception {
-                return listTaskDefinitions(listTaskDefinitionsRequest);
-        }
-    });
+        return listTaskDefinitionsComposableAsync(listTaskDefinitionsRequest);
     }
 
     /**
@@ -749,19 +788,30 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final ListTaskDefinitionsRequest listTaskDefinitionsRequest,
             final AsyncHandler<ListTaskDefinitionsRequest, ListTaskDefinitionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTaskDefinitionsResult>() {
+        return withAsyncHandler(listTaskDefinitionsComposableAsync(listTaskDefinitionsRequest),
+                listTaskDefinitionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTaskDefinitions operation like
+     * {@link #listTaskDefinitionsAsync(ListTaskDefinitionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listTaskDefinitionsRequest Container for the necessary
+     *           parameters to execute the ListTaskDefinitions operation on AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         ListTaskDefinitions service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<ListTaskDefinitionsResult> listTaskDefinitionsComposableAsync(final ListTaskDefinitionsRequest listTaskDefinitionsRequest) {
+        return executeAsync(executorService, new Callable<ListTaskDefinitionsResult>() {
             public ListTaskDefinitionsResult call() throws Exception {
-              ListTaskDefinitionsResult result;
-                try {
-                result = listTaskDefinitions(listTaskDefinitionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTaskDefinitionsRequest, result);
-                 return result;
-        }
-    });
+                return listTaskDefinitions(listTaskDefinitionsRequest);
+            }
+        }, listTaskDefinitionsRequest,
+                new ListTaskDefinitionsRequestMarshaller(), new ListTaskDefinitionsResultJsonUnmarshaller());
     }
     
     /**
@@ -786,11 +836,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DescribeTasksResult> describeTasksAsync(final DescribeTasksRequest describeTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTasksResult>() {
-            public DescribeTasksResult call() throws Exception {
-                return describeTasks(describeTasksRequest);
-        }
-    });
+        return describeTasksComposableAsync(describeTasksRequest);
     }
 
     /**
@@ -821,19 +867,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DescribeTasksRequest describeTasksRequest,
             final AsyncHandler<DescribeTasksRequest, DescribeTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTasksResult>() {
+        return withAsyncHandler(describeTasksComposableAsync(describeTasksRequest),
+                describeTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTasks operation like
+     * {@link #describeTasksAsync(DescribeTasksRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeTasksRequest Container for the necessary parameters to
+     *           execute the DescribeTasks operation on AmazonECS.
+     *
+     * @return A composable future for the response from the DescribeTasks
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<DescribeTasksResult> describeTasksComposableAsync(final DescribeTasksRequest describeTasksRequest) {
+        return executeAsync(executorService, new Callable<DescribeTasksResult>() {
             public DescribeTasksResult call() throws Exception {
-              DescribeTasksResult result;
-                try {
-                result = describeTasks(describeTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTasksRequest, result);
-                 return result;
-        }
-    });
+                return describeTasks(describeTasksRequest);
+            }
+        }, describeTasksRequest,
+                new DescribeTasksRequestMarshaller(), new DescribeTasksResultJsonUnmarshaller());
     }
     
     /**
@@ -860,11 +915,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<RunTaskResult> runTaskAsync(final RunTaskRequest runTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunTaskResult>() {
-            public RunTaskResult call() throws Exception {
-                return runTask(runTaskRequest);
-        }
-    });
+        return runTaskComposableAsync(runTaskRequest);
     }
 
     /**
@@ -897,19 +948,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final RunTaskRequest runTaskRequest,
             final AsyncHandler<RunTaskRequest, RunTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunTaskResult>() {
+        return withAsyncHandler(runTaskComposableAsync(runTaskRequest),
+                runTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RunTask operation like
+     * {@link #runTaskAsync(RunTaskRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param runTaskRequest Container for the necessary parameters to
+     *           execute the RunTask operation on AmazonECS.
+     *
+     * @return A composable future for the response from the RunTask
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<RunTaskResult> runTaskComposableAsync(final RunTaskRequest runTaskRequest) {
+        return executeAsync(executorService, new Callable<RunTaskResult>() {
             public RunTaskResult call() throws Exception {
-              RunTaskResult result;
-                try {
-                result = runTask(runTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runTaskRequest, result);
-                 return result;
-        }
-    });
+                return runTask(runTaskRequest);
+            }
+        }, runTaskRequest,
+                new RunTaskRequestMarshaller(), new RunTaskResultJsonUnmarshaller());
     }
     
     /**
@@ -934,11 +994,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<ListClustersResult> listClustersAsync(final ListClustersRequest listClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListClustersResult>() {
-            public ListClustersResult call() throws Exception {
-                return listClusters(listClustersRequest);
-        }
-    });
+        return listClustersComposableAsync(listClustersRequest);
     }
 
     /**
@@ -969,19 +1025,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final ListClustersRequest listClustersRequest,
             final AsyncHandler<ListClustersRequest, ListClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListClustersResult>() {
+        return withAsyncHandler(listClustersComposableAsync(listClustersRequest),
+                listClustersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListClusters operation like
+     * {@link #listClustersAsync(ListClustersRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param listClustersRequest Container for the necessary parameters to
+     *           execute the ListClusters operation on AmazonECS.
+     *
+     * @return A composable future for the response from the ListClusters
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<ListClustersResult> listClustersComposableAsync(final ListClustersRequest listClustersRequest) {
+        return executeAsync(executorService, new Callable<ListClustersResult>() {
             public ListClustersResult call() throws Exception {
-              ListClustersResult result;
-                try {
-                result = listClusters(listClustersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listClustersRequest, result);
-                 return result;
-        }
-    });
+                return listClusters(listClustersRequest);
+            }
+        }, listClustersRequest,
+                new ListClustersRequestMarshaller(), new ListClustersResultJsonUnmarshaller());
     }
     
     /**
@@ -1011,11 +1076,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DiscoverPollEndpointResult> discoverPollEndpointAsync(final DiscoverPollEndpointRequest discoverPollEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DiscoverPollEndpointResult>() {
-            public DiscoverPollEndpointResult call() throws Exception {
-                return discoverPollEndpoint(discoverPollEndpointRequest);
-        }
-    });
+        return discoverPollEndpointComposableAsync(discoverPollEndpointRequest);
     }
 
     /**
@@ -1051,19 +1112,30 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DiscoverPollEndpointRequest discoverPollEndpointRequest,
             final AsyncHandler<DiscoverPollEndpointRequest, DiscoverPollEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DiscoverPollEndpointResult>() {
+        return withAsyncHandler(discoverPollEndpointComposableAsync(discoverPollEndpointRequest),
+                discoverPollEndpointRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DiscoverPollEndpoint operation like
+     * {@link #discoverPollEndpointAsync(DiscoverPollEndpointRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param discoverPollEndpointRequest Container for the necessary
+     *           parameters to execute the DiscoverPollEndpoint operation on AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DiscoverPollEndpoint service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<DiscoverPollEndpointResult> discoverPollEndpointComposableAsync(final DiscoverPollEndpointRequest discoverPollEndpointRequest) {
+        return executeAsync(executorService, new Callable<DiscoverPollEndpointResult>() {
             public DiscoverPollEndpointResult call() throws Exception {
-              DiscoverPollEndpointResult result;
-                try {
-                result = discoverPollEndpoint(discoverPollEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(discoverPollEndpointRequest, result);
-                 return result;
-        }
-    });
+                return discoverPollEndpoint(discoverPollEndpointRequest);
+            }
+        }, discoverPollEndpointRequest,
+                new DiscoverPollEndpointRequestMarshaller(), new DiscoverPollEndpointResultJsonUnmarshaller());
     }
     
     /**
@@ -1095,11 +1167,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<CreateClusterResult> createClusterAsync(final CreateClusterRequest createClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateClusterResult>() {
-            public CreateClusterResult call() throws Exception {
-                return createCluster(createClusterRequest);
-        }
-    });
+        return createClusterComposableAsync(createClusterRequest);
     }
 
     /**
@@ -1137,19 +1205,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final CreateClusterRequest createClusterRequest,
             final AsyncHandler<CreateClusterRequest, CreateClusterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateClusterResult>() {
+        return withAsyncHandler(createClusterComposableAsync(createClusterRequest),
+                createClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCluster operation like
+     * {@link #createClusterAsync(CreateClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createClusterRequest Container for the necessary parameters to
+     *           execute the CreateCluster operation on AmazonECS.
+     *
+     * @return A composable future for the response from the CreateCluster
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<CreateClusterResult> createClusterComposableAsync(final CreateClusterRequest createClusterRequest) {
+        return executeAsync(executorService, new Callable<CreateClusterResult>() {
             public CreateClusterResult call() throws Exception {
-              CreateClusterResult result;
-                try {
-                result = createCluster(createClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterRequest, result);
-                 return result;
-        }
-    });
+                return createCluster(createClusterRequest);
+            }
+        }, createClusterRequest,
+                new CreateClusterRequestMarshaller(), new CreateClusterResultJsonUnmarshaller());
     }
     
     /**
@@ -1174,11 +1251,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DescribeClustersResult> describeClustersAsync(final DescribeClustersRequest describeClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
-            public DescribeClustersResult call() throws Exception {
-                return describeClusters(describeClustersRequest);
-        }
-    });
+        return describeClustersComposableAsync(describeClustersRequest);
     }
 
     /**
@@ -1209,19 +1282,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DescribeClustersRequest describeClustersRequest,
             final AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
+        return withAsyncHandler(describeClustersComposableAsync(describeClustersRequest),
+                describeClustersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusters operation like
+     * {@link #describeClustersAsync(DescribeClustersRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeClustersRequest Container for the necessary parameters
+     *           to execute the DescribeClusters operation on AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusters service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<DescribeClustersResult> describeClustersComposableAsync(final DescribeClustersRequest describeClustersRequest) {
+        return executeAsync(executorService, new Callable<DescribeClustersResult>() {
             public DescribeClustersResult call() throws Exception {
-              DescribeClustersResult result;
-                try {
-                result = describeClusters(describeClustersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClustersRequest, result);
-                 return result;
-        }
-    });
+                return describeClusters(describeClustersRequest);
+            }
+        }, describeClustersRequest,
+                new DescribeClustersRequestMarshaller(), new DescribeClustersResultJsonUnmarshaller());
     }
     
     /**
@@ -1251,11 +1333,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DeregisterTaskDefinitionResult> deregisterTaskDefinitionAsync(final DeregisterTaskDefinitionRequest deregisterTaskDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterTaskDefinitionResult>() {
-            public DeregisterTaskDefinitionResult call() throws Exception {
-                return deregisterTaskDefinition(deregisterTaskDefinitionRequest);
-        }
-    });
+        return deregisterTaskDefinitionComposableAsync(deregisterTaskDefinitionRequest);
     }
 
     /**
@@ -1291,19 +1369,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DeregisterTaskDefinitionRequest deregisterTaskDefinitionRequest,
             final AsyncHandler<DeregisterTaskDefinitionRequest, DeregisterTaskDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterTaskDefinitionResult>() {
+        return withAsyncHandler(deregisterTaskDefinitionComposableAsync(deregisterTaskDefinitionRequest),
+                deregisterTaskDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterTaskDefinition operation like
+     * {@link #deregisterTaskDefinitionAsync(DeregisterTaskDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterTaskDefinitionRequest Container for the necessary
+     *           parameters to execute the DeregisterTaskDefinition operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterTaskDefinition service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<DeregisterTaskDefinitionResult> deregisterTaskDefinitionComposableAsync(final DeregisterTaskDefinitionRequest deregisterTaskDefinitionRequest) {
+        return executeAsync(executorService, new Callable<DeregisterTaskDefinitionResult>() {
             public DeregisterTaskDefinitionResult call() throws Exception {
-              DeregisterTaskDefinitionResult result;
-                try {
-                result = deregisterTaskDefinition(deregisterTaskDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterTaskDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return deregisterTaskDefinition(deregisterTaskDefinitionRequest);
+            }
+        }, deregisterTaskDefinitionRequest,
+                new DeregisterTaskDefinitionRequestMarshaller(), new DeregisterTaskDefinitionResultJsonUnmarshaller());
     }
     
     /**
@@ -1329,11 +1419,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<ListContainerInstancesResult> listContainerInstancesAsync(final ListContainerInstancesRequest listContainerInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContainerInstancesResult>() {
-            public ListContainerInstancesResult call() throws Exception {
-                return listContainerInstances(listContainerInstancesRequest);
-        }
-    });
+        return listContainerInstancesComposableAsync(listContainerInstancesRequest);
     }
 
     /**
@@ -1365,19 +1451,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final ListContainerInstancesRequest listContainerInstancesRequest,
             final AsyncHandler<ListContainerInstancesRequest, ListContainerInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContainerInstancesResult>() {
+        return withAsyncHandler(listContainerInstancesComposableAsync(listContainerInstancesRequest),
+                listContainerInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListContainerInstances operation like
+     * {@link #listContainerInstancesAsync(ListContainerInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listContainerInstancesRequest Container for the necessary
+     *           parameters to execute the ListContainerInstances operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         ListContainerInstances service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<ListContainerInstancesResult> listContainerInstancesComposableAsync(final ListContainerInstancesRequest listContainerInstancesRequest) {
+        return executeAsync(executorService, new Callable<ListContainerInstancesResult>() {
             public ListContainerInstancesResult call() throws Exception {
-              ListContainerInstancesResult result;
-                try {
-                result = listContainerInstances(listContainerInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listContainerInstancesRequest, result);
-                 return result;
-        }
-    });
+                return listContainerInstances(listContainerInstancesRequest);
+            }
+        }, listContainerInstancesRequest,
+                new ListContainerInstancesRequestMarshaller(), new ListContainerInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -1404,11 +1502,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DeregisterContainerInstanceResult> deregisterContainerInstanceAsync(final DeregisterContainerInstanceRequest deregisterContainerInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterContainerInstanceResult>() {
-            public DeregisterContainerInstanceResult call() throws Exception {
-                return deregisterContainerInstance(deregisterContainerInstanceRequest);
-        }
-    });
+        return deregisterContainerInstanceComposableAsync(deregisterContainerInstanceRequest);
     }
 
     /**
@@ -1441,19 +1535,32 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DeregisterContainerInstanceRequest deregisterContainerInstanceRequest,
             final AsyncHandler<DeregisterContainerInstanceRequest, DeregisterContainerInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterContainerInstanceResult>() {
+        return withAsyncHandler(deregisterContainerInstanceComposableAsync(deregisterContainerInstanceRequest),
+                deregisterContainerInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterContainerInstance operation
+     * like
+     * {@link #deregisterContainerInstanceAsync(DeregisterContainerInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterContainerInstanceRequest Container for the necessary
+     *           parameters to execute the DeregisterContainerInstance operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterContainerInstance service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<DeregisterContainerInstanceResult> deregisterContainerInstanceComposableAsync(final DeregisterContainerInstanceRequest deregisterContainerInstanceRequest) {
+        return executeAsync(executorService, new Callable<DeregisterContainerInstanceResult>() {
             public DeregisterContainerInstanceResult call() throws Exception {
-              DeregisterContainerInstanceResult result;
-                try {
-                result = deregisterContainerInstance(deregisterContainerInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterContainerInstanceRequest, result);
-                 return result;
-        }
-    });
+                return deregisterContainerInstance(deregisterContainerInstanceRequest);
+            }
+        }, deregisterContainerInstanceRequest,
+                new DeregisterContainerInstanceRequestMarshaller(), new DeregisterContainerInstanceResultJsonUnmarshaller());
     }
     
     /**
@@ -1480,11 +1587,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<StartTaskResult> startTaskAsync(final StartTaskRequest startTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTaskResult>() {
-            public StartTaskResult call() throws Exception {
-                return startTask(startTaskRequest);
-        }
-    });
+        return startTaskComposableAsync(startTaskRequest);
     }
 
     /**
@@ -1517,19 +1620,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final StartTaskRequest startTaskRequest,
             final AsyncHandler<StartTaskRequest, StartTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTaskResult>() {
+        return withAsyncHandler(startTaskComposableAsync(startTaskRequest),
+                startTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartTask operation like
+     * {@link #startTaskAsync(StartTaskRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param startTaskRequest Container for the necessary parameters to
+     *           execute the StartTask operation on AmazonECS.
+     *
+     * @return A composable future for the response from the StartTask
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<StartTaskResult> startTaskComposableAsync(final StartTaskRequest startTaskRequest) {
+        return executeAsync(executorService, new Callable<StartTaskResult>() {
             public StartTaskResult call() throws Exception {
-              StartTaskResult result;
-                try {
-                result = startTask(startTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startTaskRequest, result);
-                 return result;
-        }
-    });
+                return startTask(startTaskRequest);
+            }
+        }, startTaskRequest,
+                new StartTaskRequestMarshaller(), new StartTaskResultJsonUnmarshaller());
     }
     
     /**
@@ -1555,11 +1667,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<DescribeTaskDefinitionResult> describeTaskDefinitionAsync(final DescribeTaskDefinitionRequest describeTaskDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTaskDefinitionResult>() {
-            public DescribeTaskDefinitionResult call() throws Exception {
-                return describeTaskDefinition(describeTaskDefinitionRequest);
-        }
-    });
+        return describeTaskDefinitionComposableAsync(describeTaskDefinitionRequest);
     }
 
     /**
@@ -1591,19 +1699,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final DescribeTaskDefinitionRequest describeTaskDefinitionRequest,
             final AsyncHandler<DescribeTaskDefinitionRequest, DescribeTaskDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTaskDefinitionResult>() {
+        return withAsyncHandler(describeTaskDefinitionComposableAsync(describeTaskDefinitionRequest),
+                describeTaskDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTaskDefinition operation like
+     * {@link #describeTaskDefinitionAsync(DescribeTaskDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTaskDefinitionRequest Container for the necessary
+     *           parameters to execute the DescribeTaskDefinition operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTaskDefinition service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<DescribeTaskDefinitionResult> describeTaskDefinitionComposableAsync(final DescribeTaskDefinitionRequest describeTaskDefinitionRequest) {
+        return executeAsync(executorService, new Callable<DescribeTaskDefinitionResult>() {
             public DescribeTaskDefinitionResult call() throws Exception {
-              DescribeTaskDefinitionResult result;
-                try {
-                result = describeTaskDefinition(describeTaskDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTaskDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return describeTaskDefinition(describeTaskDefinitionRequest);
+            }
+        }, describeTaskDefinitionRequest,
+                new DescribeTaskDefinitionRequestMarshaller(), new DescribeTaskDefinitionResultJsonUnmarshaller());
     }
     
     /**
@@ -1630,11 +1750,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<ListTasksResult> listTasksAsync(final ListTasksRequest listTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTasksResult>() {
-            public ListTasksResult call() throws Exception {
-                return listTasks(listTasksRequest);
-        }
-    });
+        return listTasksComposableAsync(listTasksRequest);
     }
 
     /**
@@ -1667,19 +1783,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final ListTasksRequest listTasksRequest,
             final AsyncHandler<ListTasksRequest, ListTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTasksResult>() {
+        return withAsyncHandler(listTasksComposableAsync(listTasksRequest),
+                listTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTasks operation like
+     * {@link #listTasksAsync(ListTasksRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listTasksRequest Container for the necessary parameters to
+     *           execute the ListTasks operation on AmazonECS.
+     *
+     * @return A composable future for the response from the ListTasks
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<ListTasksResult> listTasksComposableAsync(final ListTasksRequest listTasksRequest) {
+        return executeAsync(executorService, new Callable<ListTasksResult>() {
             public ListTasksResult call() throws Exception {
-              ListTasksResult result;
-                try {
-                result = listTasks(listTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTasksRequest, result);
-                 return result;
-        }
-    });
+                return listTasks(listTasksRequest);
+            }
+        }, listTasksRequest,
+                new ListTasksRequestMarshaller(), new ListTasksResultJsonUnmarshaller());
     }
     
     /**
@@ -1706,11 +1831,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<RegisterTaskDefinitionResult> registerTaskDefinitionAsync(final RegisterTaskDefinitionRequest registerTaskDefinitionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterTaskDefinitionResult>() {
-            public RegisterTaskDefinitionResult call() throws Exception {
-                return registerTaskDefinition(registerTaskDefinitionRequest);
-        }
-    });
+        return registerTaskDefinitionComposableAsync(registerTaskDefinitionRequest);
     }
 
     /**
@@ -1743,19 +1864,31 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final RegisterTaskDefinitionRequest registerTaskDefinitionRequest,
             final AsyncHandler<RegisterTaskDefinitionRequest, RegisterTaskDefinitionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterTaskDefinitionResult>() {
+        return withAsyncHandler(registerTaskDefinitionComposableAsync(registerTaskDefinitionRequest),
+                registerTaskDefinitionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterTaskDefinition operation like
+     * {@link #registerTaskDefinitionAsync(RegisterTaskDefinitionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerTaskDefinitionRequest Container for the necessary
+     *           parameters to execute the RegisterTaskDefinition operation on
+     *           AmazonECS.
+     *
+     * @return A composable future for the response from the
+     *         RegisterTaskDefinition service method, as returned by
+     *         AmazonECS.
+     */
+    public ComposableFuture<RegisterTaskDefinitionResult> registerTaskDefinitionComposableAsync(final RegisterTaskDefinitionRequest registerTaskDefinitionRequest) {
+        return executeAsync(executorService, new Callable<RegisterTaskDefinitionResult>() {
             public RegisterTaskDefinitionResult call() throws Exception {
-              RegisterTaskDefinitionResult result;
-                try {
-                result = registerTaskDefinition(registerTaskDefinitionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerTaskDefinitionRequest, result);
-                 return result;
-        }
-    });
+                return registerTaskDefinition(registerTaskDefinitionRequest);
+            }
+        }, registerTaskDefinitionRequest,
+                new RegisterTaskDefinitionRequestMarshaller(), new RegisterTaskDefinitionResultJsonUnmarshaller());
     }
     
     /**
@@ -1780,11 +1913,7 @@ public class AmazonECSAsyncClient extends AmazonECSClient
      */
     public Future<StopTaskResult> stopTaskAsync(final StopTaskRequest stopTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTaskResult>() {
-            public StopTaskResult call() throws Exception {
-                return stopTask(stopTaskRequest);
-        }
-    });
+        return stopTaskComposableAsync(stopTaskRequest);
     }
 
     /**
@@ -1815,19 +1944,28 @@ public class AmazonECSAsyncClient extends AmazonECSClient
             final StopTaskRequest stopTaskRequest,
             final AsyncHandler<StopTaskRequest, StopTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTaskResult>() {
+        return withAsyncHandler(stopTaskComposableAsync(stopTaskRequest),
+                stopTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopTask operation like
+     * {@link #stopTaskAsync(StopTaskRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param stopTaskRequest Container for the necessary parameters to
+     *           execute the StopTask operation on AmazonECS.
+     *
+     * @return A composable future for the response from the StopTask
+     *         service method, as returned by AmazonECS.
+     */
+    public ComposableFuture<StopTaskResult> stopTaskComposableAsync(final StopTaskRequest stopTaskRequest) {
+        return executeAsync(executorService, new Callable<StopTaskResult>() {
             public StopTaskResult call() throws Exception {
-              StopTaskResult result;
-                try {
-                result = stopTask(stopTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopTaskRequest, result);
-                 return result;
-        }
-    });
+                return stopTask(stopTaskRequest);
+            }
+        }, stopTaskRequest,
+                new StopTaskRequestMarshaller(), new StopTaskResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.elasticache.model.*;
+import com.amazonaws.services.elasticache.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonElastiCache.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon ElastiCache <p>
  * Amazon ElastiCache is a web service that makes it easier to set up,
  * operate, and scale a distributed cache in the cloud.
@@ -310,11 +314,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
-            public EngineDefaults call() throws Exception {
-                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-        }
-    });
+        return describeEngineDefaultParametersComposableAsync(describeEngineDefaultParametersRequest);
     }
 
     /**
@@ -349,19 +349,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
             final AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return withAsyncHandler(describeEngineDefaultParametersComposableAsync(describeEngineDefaultParametersRequest),
+                describeEngineDefaultParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEngineDefaultParameters
+     * operation like
+     * {@link #describeEngineDefaultParametersAsync(DescribeEngineDefaultParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEngineDefaultParametersRequest Container for the
+     *           necessary parameters to execute the DescribeEngineDefaultParameters
+     *           operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEngineDefaultParameters service method, as returned
+     *         by AmazonElastiCache.
+     */
+    public ComposableFuture<EngineDefaults> describeEngineDefaultParametersComposableAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) {
+        return executeAsync(executorService, new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
-              EngineDefaults result;
-                try {
-                result = describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEngineDefaultParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
+            }
+        }, describeEngineDefaultParametersRequest,
+                new DescribeEngineDefaultParametersRequestMarshaller(), new EngineDefaultsStaxUnmarshaller());
     }
     
     /**
@@ -396,11 +409,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> deleteCacheClusterAsync(final DeleteCacheClusterRequest deleteCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return deleteCacheCluster(deleteCacheClusterRequest);
-        }
-    });
+        return deleteCacheClusterComposableAsync(deleteCacheClusterRequest);
     }
 
     /**
@@ -441,19 +450,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheClusterRequest deleteCacheClusterRequest,
             final AsyncHandler<DeleteCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return withAsyncHandler(deleteCacheClusterComposableAsync(deleteCacheClusterRequest),
+                deleteCacheClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCacheCluster operation like
+     * {@link #deleteCacheClusterAsync(DeleteCacheClusterRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCacheClusterRequest Container for the necessary
+     *           parameters to execute the DeleteCacheCluster operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCacheCluster service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheCluster> deleteCacheClusterComposableAsync(final DeleteCacheClusterRequest deleteCacheClusterRequest) {
+        return executeAsync(executorService, new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
-              CacheCluster result;
-                try {
-                result = deleteCacheCluster(deleteCacheClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCacheClusterRequest, result);
-                 return result;
-        }
-    });
+                return deleteCacheCluster(deleteCacheClusterRequest);
+            }
+        }, deleteCacheClusterRequest,
+                new DeleteCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller());
     }
     
     /**
@@ -482,11 +503,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesResult> describeReservedCacheNodesAsync(final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesResult>() {
-            public DescribeReservedCacheNodesResult call() throws Exception {
-                return describeReservedCacheNodes(describeReservedCacheNodesRequest);
-        }
-    });
+        return describeReservedCacheNodesComposableAsync(describeReservedCacheNodesRequest);
     }
 
     /**
@@ -521,19 +538,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest,
             final AsyncHandler<DescribeReservedCacheNodesRequest, DescribeReservedCacheNodesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesResult>() {
+        return withAsyncHandler(describeReservedCacheNodesComposableAsync(describeReservedCacheNodesRequest),
+                describeReservedCacheNodesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedCacheNodes operation
+     * like
+     * {@link #describeReservedCacheNodesAsync(DescribeReservedCacheNodesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedCacheNodesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedCacheNodes operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedCacheNodes service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeReservedCacheNodesResult> describeReservedCacheNodesComposableAsync(final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedCacheNodesResult>() {
             public DescribeReservedCacheNodesResult call() throws Exception {
-              DescribeReservedCacheNodesResult result;
-                try {
-                result = describeReservedCacheNodes(describeReservedCacheNodesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedCacheNodesRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedCacheNodes(describeReservedCacheNodesRequest);
+            }
+        }, describeReservedCacheNodesRequest,
+                new DescribeReservedCacheNodesRequestMarshaller(), new DescribeReservedCacheNodesResultStaxUnmarshaller());
     }
     
     /**
@@ -569,11 +599,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReplicationGroup> deleteReplicationGroupAsync(final DeleteReplicationGroupRequest deleteReplicationGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
-            public ReplicationGroup call() throws Exception {
-                return deleteReplicationGroup(deleteReplicationGroupRequest);
-        }
-    });
+        return deleteReplicationGroupComposableAsync(deleteReplicationGroupRequest);
     }
 
     /**
@@ -615,19 +641,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteReplicationGroupRequest deleteReplicationGroupRequest,
             final AsyncHandler<DeleteReplicationGroupRequest, ReplicationGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
+        return withAsyncHandler(deleteReplicationGroupComposableAsync(deleteReplicationGroupRequest),
+                deleteReplicationGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteReplicationGroup operation like
+     * {@link #deleteReplicationGroupAsync(DeleteReplicationGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteReplicationGroupRequest Container for the necessary
+     *           parameters to execute the DeleteReplicationGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DeleteReplicationGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ReplicationGroup> deleteReplicationGroupComposableAsync(final DeleteReplicationGroupRequest deleteReplicationGroupRequest) {
+        return executeAsync(executorService, new Callable<ReplicationGroup>() {
             public ReplicationGroup call() throws Exception {
-              ReplicationGroup result;
-                try {
-                result = deleteReplicationGroup(deleteReplicationGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteReplicationGroupRequest, result);
-                 return result;
-        }
-    });
+                return deleteReplicationGroup(deleteReplicationGroupRequest);
+            }
+        }, deleteReplicationGroupRequest,
+                new DeleteReplicationGroupRequestMarshaller(), new ReplicationGroupStaxUnmarshaller());
     }
     
     /**
@@ -655,11 +693,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Snapshot> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return deleteSnapshot(deleteSnapshotRequest);
-        }
-    });
+        return deleteSnapshotComposableAsync(deleteSnapshotRequest);
     }
 
     /**
@@ -693,19 +727,28 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(deleteSnapshotComposableAsync(deleteSnapshotRequest),
+                deleteSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSnapshot operation like
+     * {@link #deleteSnapshotAsync(DeleteSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteSnapshotRequest Container for the necessary parameters to
+     *           execute the DeleteSnapshot operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the DeleteSnapshot
+     *         service method, as returned by AmazonElastiCache.
+     */
+    public ComposableFuture<Snapshot> deleteSnapshotComposableAsync(final DeleteSnapshotRequest deleteSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return deleteSnapshot(deleteSnapshotRequest);
+            }
+        }, deleteSnapshotRequest,
+                new DeleteSnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -737,11 +780,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSubnetGroup> createCacheSubnetGroupAsync(final CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
-            public CacheSubnetGroup call() throws Exception {
-                return createCacheSubnetGroup(createCacheSubnetGroupRequest);
-        }
-    });
+        return createCacheSubnetGroupComposableAsync(createCacheSubnetGroupRequest);
     }
 
     /**
@@ -779,19 +818,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest,
             final AsyncHandler<CreateCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return withAsyncHandler(createCacheSubnetGroupComposableAsync(createCacheSubnetGroupRequest),
+                createCacheSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCacheSubnetGroup operation like
+     * {@link #createCacheSubnetGroupAsync(CreateCacheSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCacheSubnetGroupRequest Container for the necessary
+     *           parameters to execute the CreateCacheSubnetGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         CreateCacheSubnetGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheSubnetGroup> createCacheSubnetGroupComposableAsync(final CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
-              CacheSubnetGroup result;
-                try {
-                result = createCacheSubnetGroup(createCacheSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCacheSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return createCacheSubnetGroup(createCacheSubnetGroupRequest);
+            }
+        }, createCacheSubnetGroupRequest,
+                new CreateCacheSubnetGroupRequestMarshaller(), new CacheSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -823,12 +874,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheSubnetGroupAsync(final DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCacheSubnetGroup(deleteCacheSubnetGroupRequest);
-                return null;
-        }
-    });
+        return deleteCacheSubnetGroupComposableAsync(deleteCacheSubnetGroupRequest);
     }
 
     /**
@@ -866,18 +912,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest,
             final AsyncHandler<DeleteCacheSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteCacheSubnetGroupComposableAsync(deleteCacheSubnetGroupRequest),
+                deleteCacheSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCacheSubnetGroup operation like
+     * {@link #deleteCacheSubnetGroupAsync(DeleteCacheSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCacheSubnetGroupRequest Container for the necessary
+     *           parameters to execute the DeleteCacheSubnetGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCacheSubnetGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<Void> deleteCacheSubnetGroupComposableAsync(final DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteCacheSubnetGroup(deleteCacheSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCacheSubnetGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteCacheSubnetGroupRequest,
+                new DeleteCacheSubnetGroupRequestMarshaller(), null);
     }
     
     /**
@@ -905,11 +965,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParametersResult> describeCacheParametersAsync(final DescribeCacheParametersRequest describeCacheParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParametersResult>() {
-            public DescribeCacheParametersResult call() throws Exception {
-                return describeCacheParameters(describeCacheParametersRequest);
-        }
-    });
+        return describeCacheParametersComposableAsync(describeCacheParametersRequest);
     }
 
     /**
@@ -943,19 +999,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParametersRequest describeCacheParametersRequest,
             final AsyncHandler<DescribeCacheParametersRequest, DescribeCacheParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParametersResult>() {
+        return withAsyncHandler(describeCacheParametersComposableAsync(describeCacheParametersRequest),
+                describeCacheParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheParameters operation like
+     * {@link #describeCacheParametersAsync(DescribeCacheParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheParametersRequest Container for the necessary
+     *           parameters to execute the DescribeCacheParameters operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheParameters service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheParametersResult> describeCacheParametersComposableAsync(final DescribeCacheParametersRequest describeCacheParametersRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheParametersResult>() {
             public DescribeCacheParametersResult call() throws Exception {
-              DescribeCacheParametersResult result;
-                try {
-                result = describeCacheParameters(describeCacheParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheParameters(describeCacheParametersRequest);
+            }
+        }, describeCacheParametersRequest,
+                new DescribeCacheParametersRequestMarshaller(), new DescribeCacheParametersResultStaxUnmarshaller());
     }
     
     /**
@@ -991,11 +1059,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(final ListTagsForResourceRequest listTagsForResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-        }
-    });
+        return listTagsForResourceComposableAsync(listTagsForResourceRequest);
     }
 
     /**
@@ -1037,19 +1101,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return withAsyncHandler(listTagsForResourceComposableAsync(listTagsForResourceRequest),
+                listTagsForResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForResource operation like
+     * {@link #listTagsForResourceAsync(ListTagsForResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listTagsForResourceRequest Container for the necessary
+     *           parameters to execute the ListTagsForResource operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForResource service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ListTagsForResourceResult> listTagsForResourceComposableAsync(final ListTagsForResourceRequest listTagsForResourceRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
-              ListTagsForResourceResult result;
-                try {
-                result = listTagsForResource(listTagsForResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForResource(listTagsForResourceRequest);
+            }
+        }, listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(), new ListTagsForResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -1081,12 +1157,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheSecurityGroupAsync(final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCacheSecurityGroup(deleteCacheSecurityGroupRequest);
-                return null;
-        }
-    });
+        return deleteCacheSecurityGroupComposableAsync(deleteCacheSecurityGroupRequest);
     }
 
     /**
@@ -1124,18 +1195,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest,
             final AsyncHandler<DeleteCacheSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteCacheSecurityGroupComposableAsync(deleteCacheSecurityGroupRequest),
+                deleteCacheSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCacheSecurityGroup operation like
+     * {@link #deleteCacheSecurityGroupAsync(DeleteCacheSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCacheSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteCacheSecurityGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCacheSecurityGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<Void> deleteCacheSecurityGroupComposableAsync(final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteCacheSecurityGroup(deleteCacheSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCacheSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteCacheSecurityGroupRequest,
+                new DeleteCacheSecurityGroupRequestMarshaller(), null);
     }
     
     /**
@@ -1173,11 +1258,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<AddTagsToResourceResult> addTagsToResourceAsync(final AddTagsToResourceRequest addTagsToResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsToResourceResult>() {
-            public AddTagsToResourceResult call() throws Exception {
-                return addTagsToResource(addTagsToResourceRequest);
-        }
-    });
+        return addTagsToResourceComposableAsync(addTagsToResourceRequest);
     }
 
     /**
@@ -1221,19 +1302,30 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AddTagsToResourceRequest addTagsToResourceRequest,
             final AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsToResourceResult>() {
+        return withAsyncHandler(addTagsToResourceComposableAsync(addTagsToResourceRequest),
+                addTagsToResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddTagsToResource operation like
+     * {@link #addTagsToResourceAsync(AddTagsToResourceRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param addTagsToResourceRequest Container for the necessary parameters
+     *           to execute the AddTagsToResource operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         AddTagsToResource service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<AddTagsToResourceResult> addTagsToResourceComposableAsync(final AddTagsToResourceRequest addTagsToResourceRequest) {
+        return executeAsync(executorService, new Callable<AddTagsToResourceResult>() {
             public AddTagsToResourceResult call() throws Exception {
-              AddTagsToResourceResult result;
-                try {
-                result = addTagsToResource(addTagsToResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsToResourceRequest, result);
-                 return result;
-        }
-    });
+                return addTagsToResource(addTagsToResourceRequest);
+            }
+        }, addTagsToResourceRequest,
+                new AddTagsToResourceRequestMarshaller(), new AddTagsToResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -1258,11 +1350,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Snapshot> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return copySnapshotComposableAsync(copySnapshotRequest);
     }
 
     /**
@@ -1293,19 +1381,28 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(copySnapshotComposableAsync(copySnapshotRequest),
+                copySnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopySnapshot operation like
+     * {@link #copySnapshotAsync(CopySnapshotRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param copySnapshotRequest Container for the necessary parameters to
+     *           execute the CopySnapshot operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the CopySnapshot
+     *         service method, as returned by AmazonElastiCache.
+     */
+    public ComposableFuture<Snapshot> copySnapshotComposableAsync(final CopySnapshotRequest copySnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+                return copySnapshot(copySnapshotRequest);
+            }
+        }, copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -1333,11 +1430,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return describeSnapshotsComposableAsync(describeSnapshotsRequest);
     }
 
     /**
@@ -1371,19 +1464,30 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
+        return withAsyncHandler(describeSnapshotsComposableAsync(describeSnapshotsRequest),
+                describeSnapshotsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSnapshots operation like
+     * {@link #describeSnapshotsAsync(DescribeSnapshotsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeSnapshotsRequest Container for the necessary parameters
+     *           to execute the DescribeSnapshots operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSnapshots service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeSnapshotsResult> describeSnapshotsComposableAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSnapshotsResult>() {
             public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+                return describeSnapshots(describeSnapshotsRequest);
+            }
+        }, describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(), new DescribeSnapshotsResultStaxUnmarshaller());
     }
     
     /**
@@ -1412,11 +1516,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheSecurityGroupsResult> describeCacheSecurityGroupsAsync(final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSecurityGroupsResult>() {
-            public DescribeCacheSecurityGroupsResult call() throws Exception {
-                return describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
-        }
-    });
+        return describeCacheSecurityGroupsComposableAsync(describeCacheSecurityGroupsRequest);
     }
 
     /**
@@ -1451,19 +1551,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest,
             final AsyncHandler<DescribeCacheSecurityGroupsRequest, DescribeCacheSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSecurityGroupsResult>() {
+        return withAsyncHandler(describeCacheSecurityGroupsComposableAsync(describeCacheSecurityGroupsRequest),
+                describeCacheSecurityGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheSecurityGroups operation
+     * like
+     * {@link #describeCacheSecurityGroupsAsync(DescribeCacheSecurityGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeCacheSecurityGroups operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheSecurityGroups service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheSecurityGroupsResult> describeCacheSecurityGroupsComposableAsync(final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheSecurityGroupsResult>() {
             public DescribeCacheSecurityGroupsResult call() throws Exception {
-              DescribeCacheSecurityGroupsResult result;
-                try {
-                result = describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
+            }
+        }, describeCacheSecurityGroupsRequest,
+                new DescribeCacheSecurityGroupsRequestMarshaller(), new DescribeCacheSecurityGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -1492,11 +1605,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> revokeCacheSecurityGroupIngressAsync(final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
-        }
-    });
+        return revokeCacheSecurityGroupIngressComposableAsync(revokeCacheSecurityGroupIngressRequest);
     }
 
     /**
@@ -1531,19 +1640,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest,
             final AsyncHandler<RevokeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return withAsyncHandler(revokeCacheSecurityGroupIngressComposableAsync(revokeCacheSecurityGroupIngressRequest),
+                revokeCacheSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeCacheSecurityGroupIngress
+     * operation like
+     * {@link #revokeCacheSecurityGroupIngressAsync(RevokeCacheSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeCacheSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the RevokeCacheSecurityGroupIngress
+     *           operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         RevokeCacheSecurityGroupIngress service method, as returned
+     *         by AmazonElastiCache.
+     */
+    public ComposableFuture<CacheSecurityGroup> revokeCacheSecurityGroupIngressComposableAsync(final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
-              CacheSecurityGroup result;
-                try {
-                result = revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeCacheSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
+            }
+        }, revokeCacheSecurityGroupIngressRequest,
+                new RevokeCacheSecurityGroupIngressRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -1583,11 +1705,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReplicationGroup> createReplicationGroupAsync(final CreateReplicationGroupRequest createReplicationGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
-            public ReplicationGroup call() throws Exception {
-                return createReplicationGroup(createReplicationGroupRequest);
-        }
-    });
+        return createReplicationGroupComposableAsync(createReplicationGroupRequest);
     }
 
     /**
@@ -1633,19 +1751,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateReplicationGroupRequest createReplicationGroupRequest,
             final AsyncHandler<CreateReplicationGroupRequest, ReplicationGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
+        return withAsyncHandler(createReplicationGroupComposableAsync(createReplicationGroupRequest),
+                createReplicationGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateReplicationGroup operation like
+     * {@link #createReplicationGroupAsync(CreateReplicationGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createReplicationGroupRequest Container for the necessary
+     *           parameters to execute the CreateReplicationGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         CreateReplicationGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ReplicationGroup> createReplicationGroupComposableAsync(final CreateReplicationGroupRequest createReplicationGroupRequest) {
+        return executeAsync(executorService, new Callable<ReplicationGroup>() {
             public ReplicationGroup call() throws Exception {
-              ReplicationGroup result;
-                try {
-                result = createReplicationGroup(createReplicationGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReplicationGroupRequest, result);
-                 return result;
-        }
-    });
+                return createReplicationGroup(createReplicationGroupRequest);
+            }
+        }, createReplicationGroupRequest,
+                new CreateReplicationGroupRequestMarshaller(), new ReplicationGroupStaxUnmarshaller());
     }
     
     /**
@@ -1673,11 +1803,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<RemoveTagsFromResourceResult> removeTagsFromResourceAsync(final RemoveTagsFromResourceRequest removeTagsFromResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsFromResourceResult>() {
-            public RemoveTagsFromResourceResult call() throws Exception {
-                return removeTagsFromResource(removeTagsFromResourceRequest);
-        }
-    });
+        return removeTagsFromResourceComposableAsync(removeTagsFromResourceRequest);
     }
 
     /**
@@ -1711,19 +1837,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RemoveTagsFromResourceRequest removeTagsFromResourceRequest,
             final AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsFromResourceResult>() {
+        return withAsyncHandler(removeTagsFromResourceComposableAsync(removeTagsFromResourceRequest),
+                removeTagsFromResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveTagsFromResource operation like
+     * {@link #removeTagsFromResourceAsync(RemoveTagsFromResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeTagsFromResourceRequest Container for the necessary
+     *           parameters to execute the RemoveTagsFromResource operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         RemoveTagsFromResource service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<RemoveTagsFromResourceResult> removeTagsFromResourceComposableAsync(final RemoveTagsFromResourceRequest removeTagsFromResourceRequest) {
+        return executeAsync(executorService, new Callable<RemoveTagsFromResourceResult>() {
             public RemoveTagsFromResourceResult call() throws Exception {
-              RemoveTagsFromResourceResult result;
-                try {
-                result = removeTagsFromResource(removeTagsFromResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsFromResourceRequest, result);
-                 return result;
-        }
-    });
+                return removeTagsFromResource(removeTagsFromResourceRequest);
+            }
+        }, removeTagsFromResourceRequest,
+                new RemoveTagsFromResourceRequestMarshaller(), new RemoveTagsFromResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -1751,11 +1889,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> createCacheClusterAsync(final CreateCacheClusterRequest createCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return createCacheCluster(createCacheClusterRequest);
-        }
-    });
+        return createCacheClusterComposableAsync(createCacheClusterRequest);
     }
 
     /**
@@ -1789,19 +1923,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheClusterRequest createCacheClusterRequest,
             final AsyncHandler<CreateCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return withAsyncHandler(createCacheClusterComposableAsync(createCacheClusterRequest),
+                createCacheClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCacheCluster operation like
+     * {@link #createCacheClusterAsync(CreateCacheClusterRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCacheClusterRequest Container for the necessary
+     *           parameters to execute the CreateCacheCluster operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         CreateCacheCluster service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheCluster> createCacheClusterComposableAsync(final CreateCacheClusterRequest createCacheClusterRequest) {
+        return executeAsync(executorService, new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
-              CacheCluster result;
-                try {
-                result = createCacheCluster(createCacheClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCacheClusterRequest, result);
-                 return result;
-        }
-    });
+                return createCacheCluster(createCacheClusterRequest);
+            }
+        }, createCacheClusterRequest,
+                new CreateCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller());
     }
     
     /**
@@ -1829,11 +1975,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheEngineVersionsResult> describeCacheEngineVersionsAsync(final DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheEngineVersionsResult>() {
-            public DescribeCacheEngineVersionsResult call() throws Exception {
-                return describeCacheEngineVersions(describeCacheEngineVersionsRequest);
-        }
-    });
+        return describeCacheEngineVersionsComposableAsync(describeCacheEngineVersionsRequest);
     }
 
     /**
@@ -1867,19 +2009,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest,
             final AsyncHandler<DescribeCacheEngineVersionsRequest, DescribeCacheEngineVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheEngineVersionsResult>() {
+        return withAsyncHandler(describeCacheEngineVersionsComposableAsync(describeCacheEngineVersionsRequest),
+                describeCacheEngineVersionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheEngineVersions operation
+     * like
+     * {@link #describeCacheEngineVersionsAsync(DescribeCacheEngineVersionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheEngineVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeCacheEngineVersions operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheEngineVersions service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheEngineVersionsResult> describeCacheEngineVersionsComposableAsync(final DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheEngineVersionsResult>() {
             public DescribeCacheEngineVersionsResult call() throws Exception {
-              DescribeCacheEngineVersionsResult result;
-                try {
-                result = describeCacheEngineVersions(describeCacheEngineVersionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheEngineVersionsRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheEngineVersions(describeCacheEngineVersionsRequest);
+            }
+        }, describeCacheEngineVersionsRequest,
+                new DescribeCacheEngineVersionsRequestMarshaller(), new DescribeCacheEngineVersionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1907,11 +2062,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSubnetGroup> modifyCacheSubnetGroupAsync(final ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
-            public CacheSubnetGroup call() throws Exception {
-                return modifyCacheSubnetGroup(modifyCacheSubnetGroupRequest);
-        }
-    });
+        return modifyCacheSubnetGroupComposableAsync(modifyCacheSubnetGroupRequest);
     }
 
     /**
@@ -1945,19 +2096,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest,
             final AsyncHandler<ModifyCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSubnetGroup>() {
+        return withAsyncHandler(modifyCacheSubnetGroupComposableAsync(modifyCacheSubnetGroupRequest),
+                modifyCacheSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyCacheSubnetGroup operation like
+     * {@link #modifyCacheSubnetGroupAsync(ModifyCacheSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyCacheSubnetGroupRequest Container for the necessary
+     *           parameters to execute the ModifyCacheSubnetGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ModifyCacheSubnetGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheSubnetGroup> modifyCacheSubnetGroupComposableAsync(final ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<CacheSubnetGroup>() {
             public CacheSubnetGroup call() throws Exception {
-              CacheSubnetGroup result;
-                try {
-                result = modifyCacheSubnetGroup(modifyCacheSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyCacheSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyCacheSubnetGroup(modifyCacheSubnetGroupRequest);
+            }
+        }, modifyCacheSubnetGroupRequest,
+                new ModifyCacheSubnetGroupRequestMarshaller(), new CacheSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -1986,12 +2149,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheParameterGroupAsync(final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCacheParameterGroup(deleteCacheParameterGroupRequest);
-                return null;
-        }
-    });
+        return deleteCacheParameterGroupComposableAsync(deleteCacheParameterGroupRequest);
     }
 
     /**
@@ -2026,18 +2184,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest,
             final AsyncHandler<DeleteCacheParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteCacheParameterGroupComposableAsync(deleteCacheParameterGroupRequest),
+                deleteCacheParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCacheParameterGroup operation like
+     * {@link #deleteCacheParameterGroupAsync(DeleteCacheParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteCacheParameterGroupRequest Container for the necessary
+     *           parameters to execute the DeleteCacheParameterGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DeleteCacheParameterGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<Void> deleteCacheParameterGroupComposableAsync(final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteCacheParameterGroup(deleteCacheParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCacheParameterGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteCacheParameterGroupRequest,
+                new DeleteCacheParameterGroupRequestMarshaller(), null);
     }
     
     /**
@@ -2063,11 +2235,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Snapshot> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return createSnapshotComposableAsync(createSnapshotRequest);
     }
 
     /**
@@ -2099,19 +2267,28 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(createSnapshotComposableAsync(createSnapshotRequest),
+                createSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSnapshot operation like
+     * {@link #createSnapshotAsync(CreateSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the CreateSnapshot
+     *         service method, as returned by AmazonElastiCache.
+     */
+    public ComposableFuture<Snapshot> createSnapshotComposableAsync(final CreateSnapshotRequest createSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return createSnapshot(createSnapshotRequest);
+            }
+        }, createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -2144,11 +2321,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-        }
-    });
+        return describeEventsComposableAsync(describeEventsRequest);
     }
 
     /**
@@ -2187,19 +2360,28 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return withAsyncHandler(describeEventsComposableAsync(describeEventsRequest),
+                describeEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEvents operation like
+     * {@link #describeEventsAsync(DescribeEventsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the DescribeEvents
+     *         service method, as returned by AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeEventsResult> describeEventsComposableAsync(final DescribeEventsRequest describeEventsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
-              DescribeEventsResult result;
-                try {
-                result = describeEvents(describeEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventsRequest, result);
-                 return result;
-        }
-    });
+                return describeEvents(describeEventsRequest);
+            }
+        }, describeEventsRequest,
+                new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller());
     }
     
     /**
@@ -2233,11 +2415,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> authorizeCacheSecurityGroupIngressAsync(final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
-        }
-    });
+        return authorizeCacheSecurityGroupIngressComposableAsync(authorizeCacheSecurityGroupIngressRequest);
     }
 
     /**
@@ -2277,19 +2455,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return withAsyncHandler(authorizeCacheSecurityGroupIngressComposableAsync(authorizeCacheSecurityGroupIngressRequest),
+                authorizeCacheSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeCacheSecurityGroupIngress
+     * operation like
+     * {@link #authorizeCacheSecurityGroupIngressAsync(AuthorizeCacheSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeCacheSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeCacheSecurityGroupIngress
+     *           operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeCacheSecurityGroupIngress service method, as
+     *         returned by AmazonElastiCache.
+     */
+    public ComposableFuture<CacheSecurityGroup> authorizeCacheSecurityGroupIngressComposableAsync(final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
-              CacheSecurityGroup result;
-                try {
-                result = authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeCacheSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
+            }
+        }, authorizeCacheSecurityGroupIngressRequest,
+                new AuthorizeCacheSecurityGroupIngressRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -2317,11 +2508,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReservedCacheNode> purchaseReservedCacheNodesOfferingAsync(final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedCacheNode>() {
-            public ReservedCacheNode call() throws Exception {
-                return purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
-        }
-    });
+        return purchaseReservedCacheNodesOfferingComposableAsync(purchaseReservedCacheNodesOfferingRequest);
     }
 
     /**
@@ -2355,19 +2542,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest,
             final AsyncHandler<PurchaseReservedCacheNodesOfferingRequest, ReservedCacheNode> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedCacheNode>() {
+        return withAsyncHandler(purchaseReservedCacheNodesOfferingComposableAsync(purchaseReservedCacheNodesOfferingRequest),
+                purchaseReservedCacheNodesOfferingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PurchaseReservedCacheNodesOffering
+     * operation like
+     * {@link #purchaseReservedCacheNodesOfferingAsync(PurchaseReservedCacheNodesOfferingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param purchaseReservedCacheNodesOfferingRequest Container for the
+     *           necessary parameters to execute the PurchaseReservedCacheNodesOffering
+     *           operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         PurchaseReservedCacheNodesOffering service method, as
+     *         returned by AmazonElastiCache.
+     */
+    public ComposableFuture<ReservedCacheNode> purchaseReservedCacheNodesOfferingComposableAsync(final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest) {
+        return executeAsync(executorService, new Callable<ReservedCacheNode>() {
             public ReservedCacheNode call() throws Exception {
-              ReservedCacheNode result;
-                try {
-                result = purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedCacheNodesOfferingRequest, result);
-                 return result;
-        }
-    });
+                return purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
+            }
+        }, purchaseReservedCacheNodesOfferingRequest,
+                new PurchaseReservedCacheNodesOfferingRequestMarshaller(), new ReservedCacheNodeStaxUnmarshaller());
     }
     
     /**
@@ -2395,11 +2595,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReplicationGroup> modifyReplicationGroupAsync(final ModifyReplicationGroupRequest modifyReplicationGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
-            public ReplicationGroup call() throws Exception {
-                return modifyReplicationGroup(modifyReplicationGroupRequest);
-        }
-    });
+        return modifyReplicationGroupComposableAsync(modifyReplicationGroupRequest);
     }
 
     /**
@@ -2433,19 +2629,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyReplicationGroupRequest modifyReplicationGroupRequest,
             final AsyncHandler<ModifyReplicationGroupRequest, ReplicationGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplicationGroup>() {
+        return withAsyncHandler(modifyReplicationGroupComposableAsync(modifyReplicationGroupRequest),
+                modifyReplicationGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyReplicationGroup operation like
+     * {@link #modifyReplicationGroupAsync(ModifyReplicationGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyReplicationGroupRequest Container for the necessary
+     *           parameters to execute the ModifyReplicationGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ModifyReplicationGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ReplicationGroup> modifyReplicationGroupComposableAsync(final ModifyReplicationGroupRequest modifyReplicationGroupRequest) {
+        return executeAsync(executorService, new Callable<ReplicationGroup>() {
             public ReplicationGroup call() throws Exception {
-              ReplicationGroup result;
-                try {
-                result = modifyReplicationGroup(modifyReplicationGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReplicationGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyReplicationGroup(modifyReplicationGroupRequest);
+            }
+        }, modifyReplicationGroupRequest,
+                new ModifyReplicationGroupRequestMarshaller(), new ReplicationGroupStaxUnmarshaller());
     }
     
     /**
@@ -2475,11 +2683,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReplicationGroupsResult> describeReplicationGroupsAsync(final DescribeReplicationGroupsRequest describeReplicationGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReplicationGroupsResult>() {
-            public DescribeReplicationGroupsResult call() throws Exception {
-                return describeReplicationGroups(describeReplicationGroupsRequest);
-        }
-    });
+        return describeReplicationGroupsComposableAsync(describeReplicationGroupsRequest);
     }
 
     /**
@@ -2515,19 +2719,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReplicationGroupsRequest describeReplicationGroupsRequest,
             final AsyncHandler<DescribeReplicationGroupsRequest, DescribeReplicationGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReplicationGroupsResult>() {
+        return withAsyncHandler(describeReplicationGroupsComposableAsync(describeReplicationGroupsRequest),
+                describeReplicationGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReplicationGroups operation like
+     * {@link #describeReplicationGroupsAsync(DescribeReplicationGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReplicationGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeReplicationGroups operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReplicationGroups service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeReplicationGroupsResult> describeReplicationGroupsComposableAsync(final DescribeReplicationGroupsRequest describeReplicationGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReplicationGroupsResult>() {
             public DescribeReplicationGroupsResult call() throws Exception {
-              DescribeReplicationGroupsResult result;
-                try {
-                result = describeReplicationGroups(describeReplicationGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReplicationGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeReplicationGroups(describeReplicationGroupsRequest);
+            }
+        }, describeReplicationGroupsRequest,
+                new DescribeReplicationGroupsRequestMarshaller(), new DescribeReplicationGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -2556,11 +2772,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ModifyCacheParameterGroupResult> modifyCacheParameterGroupAsync(final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyCacheParameterGroupResult>() {
-            public ModifyCacheParameterGroupResult call() throws Exception {
-                return modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
-        }
-    });
+        return modifyCacheParameterGroupComposableAsync(modifyCacheParameterGroupRequest);
     }
 
     /**
@@ -2595,19 +2807,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest,
             final AsyncHandler<ModifyCacheParameterGroupRequest, ModifyCacheParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyCacheParameterGroupResult>() {
+        return withAsyncHandler(modifyCacheParameterGroupComposableAsync(modifyCacheParameterGroupRequest),
+                modifyCacheParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyCacheParameterGroup operation like
+     * {@link #modifyCacheParameterGroupAsync(ModifyCacheParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyCacheParameterGroupRequest Container for the necessary
+     *           parameters to execute the ModifyCacheParameterGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ModifyCacheParameterGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ModifyCacheParameterGroupResult> modifyCacheParameterGroupComposableAsync(final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ModifyCacheParameterGroupResult>() {
             public ModifyCacheParameterGroupResult call() throws Exception {
-              ModifyCacheParameterGroupResult result;
-                try {
-                result = modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyCacheParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
+            }
+        }, modifyCacheParameterGroupRequest,
+                new ModifyCacheParameterGroupRequestMarshaller(), new ModifyCacheParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -2635,11 +2859,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesOfferingsResult> describeReservedCacheNodesOfferingsAsync(final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
-            public DescribeReservedCacheNodesOfferingsResult call() throws Exception {
-                return describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
-        }
-    });
+        return describeReservedCacheNodesOfferingsComposableAsync(describeReservedCacheNodesOfferingsRequest);
     }
 
     /**
@@ -2673,19 +2893,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest,
             final AsyncHandler<DescribeReservedCacheNodesOfferingsRequest, DescribeReservedCacheNodesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
+        return withAsyncHandler(describeReservedCacheNodesOfferingsComposableAsync(describeReservedCacheNodesOfferingsRequest),
+                describeReservedCacheNodesOfferingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedCacheNodesOfferings
+     * operation like
+     * {@link #describeReservedCacheNodesOfferingsAsync(DescribeReservedCacheNodesOfferingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedCacheNodesOfferingsRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeReservedCacheNodesOfferings operation on AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedCacheNodesOfferings service method, as
+     *         returned by AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeReservedCacheNodesOfferingsResult> describeReservedCacheNodesOfferingsComposableAsync(final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedCacheNodesOfferingsResult>() {
             public DescribeReservedCacheNodesOfferingsResult call() throws Exception {
-              DescribeReservedCacheNodesOfferingsResult result;
-                try {
-                result = describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedCacheNodesOfferingsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
+            }
+        }, describeReservedCacheNodesOfferingsRequest,
+                new DescribeReservedCacheNodesOfferingsRequestMarshaller(), new DescribeReservedCacheNodesOfferingsResultStaxUnmarshaller());
     }
     
     /**
@@ -2714,11 +2947,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> modifyCacheClusterAsync(final ModifyCacheClusterRequest modifyCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return modifyCacheCluster(modifyCacheClusterRequest);
-        }
-    });
+        return modifyCacheClusterComposableAsync(modifyCacheClusterRequest);
     }
 
     /**
@@ -2753,19 +2982,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheClusterRequest modifyCacheClusterRequest,
             final AsyncHandler<ModifyCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return withAsyncHandler(modifyCacheClusterComposableAsync(modifyCacheClusterRequest),
+                modifyCacheClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyCacheCluster operation like
+     * {@link #modifyCacheClusterAsync(ModifyCacheClusterRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyCacheClusterRequest Container for the necessary
+     *           parameters to execute the ModifyCacheCluster operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ModifyCacheCluster service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheCluster> modifyCacheClusterComposableAsync(final ModifyCacheClusterRequest modifyCacheClusterRequest) {
+        return executeAsync(executorService, new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
-              CacheCluster result;
-                try {
-                result = modifyCacheCluster(modifyCacheClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyCacheClusterRequest, result);
-                 return result;
-        }
-    });
+                return modifyCacheCluster(modifyCacheClusterRequest);
+            }
+        }, modifyCacheClusterRequest,
+                new ModifyCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller());
     }
     
     /**
@@ -2797,11 +3038,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ResetCacheParameterGroupResult> resetCacheParameterGroupAsync(final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheParameterGroupResult>() {
-            public ResetCacheParameterGroupResult call() throws Exception {
-                return resetCacheParameterGroup(resetCacheParameterGroupRequest);
-        }
-    });
+        return resetCacheParameterGroupComposableAsync(resetCacheParameterGroupRequest);
     }
 
     /**
@@ -2839,19 +3076,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest,
             final AsyncHandler<ResetCacheParameterGroupRequest, ResetCacheParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheParameterGroupResult>() {
+        return withAsyncHandler(resetCacheParameterGroupComposableAsync(resetCacheParameterGroupRequest),
+                resetCacheParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetCacheParameterGroup operation like
+     * {@link #resetCacheParameterGroupAsync(ResetCacheParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetCacheParameterGroupRequest Container for the necessary
+     *           parameters to execute the ResetCacheParameterGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         ResetCacheParameterGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<ResetCacheParameterGroupResult> resetCacheParameterGroupComposableAsync(final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ResetCacheParameterGroupResult>() {
             public ResetCacheParameterGroupResult call() throws Exception {
-              ResetCacheParameterGroupResult result;
-                try {
-                result = resetCacheParameterGroup(resetCacheParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetCacheParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return resetCacheParameterGroup(resetCacheParameterGroupRequest);
+            }
+        }, resetCacheParameterGroupRequest,
+                new ResetCacheParameterGroupRequestMarshaller(), new ResetCacheParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -2907,11 +3156,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheClustersResult> describeCacheClustersAsync(final DescribeCacheClustersRequest describeCacheClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheClustersResult>() {
-            public DescribeCacheClustersResult call() throws Exception {
-                return describeCacheClusters(describeCacheClustersRequest);
-        }
-    });
+        return describeCacheClustersComposableAsync(describeCacheClustersRequest);
     }
 
     /**
@@ -2973,19 +3218,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheClustersRequest describeCacheClustersRequest,
             final AsyncHandler<DescribeCacheClustersRequest, DescribeCacheClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheClustersResult>() {
+        return withAsyncHandler(describeCacheClustersComposableAsync(describeCacheClustersRequest),
+                describeCacheClustersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheClusters operation like
+     * {@link #describeCacheClustersAsync(DescribeCacheClustersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheClustersRequest Container for the necessary
+     *           parameters to execute the DescribeCacheClusters operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheClusters service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheClustersResult> describeCacheClustersComposableAsync(final DescribeCacheClustersRequest describeCacheClustersRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheClustersResult>() {
             public DescribeCacheClustersResult call() throws Exception {
-              DescribeCacheClustersResult result;
-                try {
-                result = describeCacheClusters(describeCacheClustersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheClustersRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheClusters(describeCacheClustersRequest);
+            }
+        }, describeCacheClustersRequest,
+                new DescribeCacheClustersRequestMarshaller(), new DescribeCacheClustersResultStaxUnmarshaller());
     }
     
     /**
@@ -3022,11 +3279,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> createCacheSecurityGroupAsync(final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return createCacheSecurityGroup(createCacheSecurityGroupRequest);
-        }
-    });
+        return createCacheSecurityGroupComposableAsync(createCacheSecurityGroupRequest);
     }
 
     /**
@@ -3069,19 +3322,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest,
             final AsyncHandler<CreateCacheSecurityGroupRequest, CacheSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
+        return withAsyncHandler(createCacheSecurityGroupComposableAsync(createCacheSecurityGroupRequest),
+                createCacheSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCacheSecurityGroup operation like
+     * {@link #createCacheSecurityGroupAsync(CreateCacheSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCacheSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateCacheSecurityGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         CreateCacheSecurityGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheSecurityGroup> createCacheSecurityGroupComposableAsync(final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<CacheSecurityGroup>() {
             public CacheSecurityGroup call() throws Exception {
-              CacheSecurityGroup result;
-                try {
-                result = createCacheSecurityGroup(createCacheSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCacheSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+                return createCacheSecurityGroup(createCacheSecurityGroupRequest);
+            }
+        }, createCacheSecurityGroupRequest,
+                new CreateCacheSecurityGroupRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -3110,11 +3375,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheSubnetGroupsResult> describeCacheSubnetGroupsAsync(final DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSubnetGroupsResult>() {
-            public DescribeCacheSubnetGroupsResult call() throws Exception {
-                return describeCacheSubnetGroups(describeCacheSubnetGroupsRequest);
-        }
-    });
+        return describeCacheSubnetGroupsComposableAsync(describeCacheSubnetGroupsRequest);
     }
 
     /**
@@ -3149,19 +3410,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest,
             final AsyncHandler<DescribeCacheSubnetGroupsRequest, DescribeCacheSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSubnetGroupsResult>() {
+        return withAsyncHandler(describeCacheSubnetGroupsComposableAsync(describeCacheSubnetGroupsRequest),
+                describeCacheSubnetGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheSubnetGroups operation like
+     * {@link #describeCacheSubnetGroupsAsync(DescribeCacheSubnetGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheSubnetGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeCacheSubnetGroups operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheSubnetGroups service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheSubnetGroupsResult> describeCacheSubnetGroupsComposableAsync(final DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheSubnetGroupsResult>() {
             public DescribeCacheSubnetGroupsResult call() throws Exception {
-              DescribeCacheSubnetGroupsResult result;
-                try {
-                result = describeCacheSubnetGroups(describeCacheSubnetGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheSubnetGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheSubnetGroups(describeCacheSubnetGroupsRequest);
+            }
+        }, describeCacheSubnetGroupsRequest,
+                new DescribeCacheSubnetGroupsRequestMarshaller(), new DescribeCacheSubnetGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3190,11 +3463,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParameterGroupsResult> describeCacheParameterGroupsAsync(final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParameterGroupsResult>() {
-            public DescribeCacheParameterGroupsResult call() throws Exception {
-                return describeCacheParameterGroups(describeCacheParameterGroupsRequest);
-        }
-    });
+        return describeCacheParameterGroupsComposableAsync(describeCacheParameterGroupsRequest);
     }
 
     /**
@@ -3229,19 +3498,32 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest,
             final AsyncHandler<DescribeCacheParameterGroupsRequest, DescribeCacheParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParameterGroupsResult>() {
+        return withAsyncHandler(describeCacheParameterGroupsComposableAsync(describeCacheParameterGroupsRequest),
+                describeCacheParameterGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCacheParameterGroups operation
+     * like
+     * {@link #describeCacheParameterGroupsAsync(DescribeCacheParameterGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCacheParameterGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeCacheParameterGroups operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCacheParameterGroups service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<DescribeCacheParameterGroupsResult> describeCacheParameterGroupsComposableAsync(final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheParameterGroupsResult>() {
             public DescribeCacheParameterGroupsResult call() throws Exception {
-              DescribeCacheParameterGroupsResult result;
-                try {
-                result = describeCacheParameterGroups(describeCacheParameterGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheParameterGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeCacheParameterGroups(describeCacheParameterGroupsRequest);
+            }
+        }, describeCacheParameterGroupsRequest,
+                new DescribeCacheParameterGroupsRequestMarshaller(), new DescribeCacheParameterGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3279,11 +3561,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> rebootCacheClusterAsync(final RebootCacheClusterRequest rebootCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return rebootCacheCluster(rebootCacheClusterRequest);
-        }
-    });
+        return rebootCacheClusterComposableAsync(rebootCacheClusterRequest);
     }
 
     /**
@@ -3327,19 +3605,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RebootCacheClusterRequest rebootCacheClusterRequest,
             final AsyncHandler<RebootCacheClusterRequest, CacheCluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
+        return withAsyncHandler(rebootCacheClusterComposableAsync(rebootCacheClusterRequest),
+                rebootCacheClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebootCacheCluster operation like
+     * {@link #rebootCacheClusterAsync(RebootCacheClusterRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param rebootCacheClusterRequest Container for the necessary
+     *           parameters to execute the RebootCacheCluster operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         RebootCacheCluster service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheCluster> rebootCacheClusterComposableAsync(final RebootCacheClusterRequest rebootCacheClusterRequest) {
+        return executeAsync(executorService, new Callable<CacheCluster>() {
             public CacheCluster call() throws Exception {
-              CacheCluster result;
-                try {
-                result = rebootCacheCluster(rebootCacheClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootCacheClusterRequest, result);
-                 return result;
-        }
-    });
+                return rebootCacheCluster(rebootCacheClusterRequest);
+            }
+        }, rebootCacheClusterRequest,
+                new RebootCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller());
     }
     
     /**
@@ -3368,11 +3658,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheParameterGroup> createCacheParameterGroupAsync(final CreateCacheParameterGroupRequest createCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheParameterGroup>() {
-            public CacheParameterGroup call() throws Exception {
-                return createCacheParameterGroup(createCacheParameterGroupRequest);
-        }
-    });
+        return createCacheParameterGroupComposableAsync(createCacheParameterGroupRequest);
     }
 
     /**
@@ -3407,19 +3693,31 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheParameterGroupRequest createCacheParameterGroupRequest,
             final AsyncHandler<CreateCacheParameterGroupRequest, CacheParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheParameterGroup>() {
+        return withAsyncHandler(createCacheParameterGroupComposableAsync(createCacheParameterGroupRequest),
+                createCacheParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCacheParameterGroup operation like
+     * {@link #createCacheParameterGroupAsync(CreateCacheParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCacheParameterGroupRequest Container for the necessary
+     *           parameters to execute the CreateCacheParameterGroup operation on
+     *           AmazonElastiCache.
+     *
+     * @return A composable future for the response from the
+     *         CreateCacheParameterGroup service method, as returned by
+     *         AmazonElastiCache.
+     */
+    public ComposableFuture<CacheParameterGroup> createCacheParameterGroupComposableAsync(final CreateCacheParameterGroupRequest createCacheParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<CacheParameterGroup>() {
             public CacheParameterGroup call() throws Exception {
-              CacheParameterGroup result;
-                try {
-                result = createCacheParameterGroup(createCacheParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCacheParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return createCacheParameterGroup(createCacheParameterGroupRequest);
+            }
+        }, createCacheParameterGroupRequest,
+                new CreateCacheParameterGroupRequestMarshaller(), new CacheParameterGroupStaxUnmarshaller());
     }
     
 }
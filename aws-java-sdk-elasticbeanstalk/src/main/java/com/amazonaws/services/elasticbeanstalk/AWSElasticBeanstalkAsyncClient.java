@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.elasticbeanstalk.model.*;
+import com.amazonaws.services.elasticbeanstalk.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSElasticBeanstalk.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Elastic Beanstalk <p>
  * This is the AWS Elastic Beanstalk API Reference. This guide provides
  * detailed information about AWS Elastic Beanstalk actions, data types,
@@ -315,11 +319,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CheckDNSAvailabilityResult> checkDNSAvailabilityAsync(final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
-            public CheckDNSAvailabilityResult call() throws Exception {
-                return checkDNSAvailability(checkDNSAvailabilityRequest);
-        }
-    });
+        return checkDNSAvailabilityComposableAsync(checkDNSAvailabilityRequest);
     }
 
     /**
@@ -352,19 +352,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest,
             final AsyncHandler<CheckDNSAvailabilityRequest, CheckDNSAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
+        return withAsyncHandler(checkDNSAvailabilityComposableAsync(checkDNSAvailabilityRequest),
+                checkDNSAvailabilityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CheckDNSAvailability operation like
+     * {@link #checkDNSAvailabilityAsync(CheckDNSAvailabilityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param checkDNSAvailabilityRequest Container for the necessary
+     *           parameters to execute the CheckDNSAvailability operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CheckDNSAvailability service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CheckDNSAvailabilityResult> checkDNSAvailabilityComposableAsync(final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest) {
+        return executeAsync(executorService, new Callable<CheckDNSAvailabilityResult>() {
             public CheckDNSAvailabilityResult call() throws Exception {
-              CheckDNSAvailabilityResult result;
-                try {
-                result = checkDNSAvailability(checkDNSAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(checkDNSAvailabilityRequest, result);
-                 return result;
-        }
-    });
+                return checkDNSAvailability(checkDNSAvailabilityRequest);
+            }
+        }, checkDNSAvailabilityRequest,
+                new CheckDNSAvailabilityRequestMarshaller(), new CheckDNSAvailabilityResultStaxUnmarshaller());
     }
     
     /**
@@ -395,11 +407,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationOptionsResult> describeConfigurationOptionsAsync(final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
-            public DescribeConfigurationOptionsResult call() throws Exception {
-                return describeConfigurationOptions(describeConfigurationOptionsRequest);
-        }
-    });
+        return describeConfigurationOptionsComposableAsync(describeConfigurationOptionsRequest);
     }
 
     /**
@@ -436,19 +444,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest,
             final AsyncHandler<DescribeConfigurationOptionsRequest, DescribeConfigurationOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
+        return withAsyncHandler(describeConfigurationOptionsComposableAsync(describeConfigurationOptionsRequest),
+                describeConfigurationOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConfigurationOptions operation
+     * like
+     * {@link #describeConfigurationOptionsAsync(DescribeConfigurationOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConfigurationOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeConfigurationOptions operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConfigurationOptions service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeConfigurationOptionsResult> describeConfigurationOptionsComposableAsync(final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeConfigurationOptionsResult>() {
             public DescribeConfigurationOptionsResult call() throws Exception {
-              DescribeConfigurationOptionsResult result;
-                try {
-                result = describeConfigurationOptions(describeConfigurationOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConfigurationOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeConfigurationOptions(describeConfigurationOptionsRequest);
+            }
+        }, describeConfigurationOptionsRequest,
+                new DescribeConfigurationOptionsRequestMarshaller(), new DescribeConfigurationOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -481,12 +502,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteConfigurationTemplateAsync(final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
-                return null;
-        }
-    });
+        return deleteConfigurationTemplateComposableAsync(deleteConfigurationTemplateRequest);
     }
 
     /**
@@ -525,18 +541,33 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest,
             final AsyncHandler<DeleteConfigurationTemplateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteConfigurationTemplateComposableAsync(deleteConfigurationTemplateRequest),
+                deleteConfigurationTemplateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteConfigurationTemplate operation
+     * like
+     * {@link #deleteConfigurationTemplateAsync(DeleteConfigurationTemplateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the DeleteConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DeleteConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> deleteConfigurationTemplateComposableAsync(final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteConfigurationTemplateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteConfigurationTemplateRequest,
+                new DeleteConfigurationTemplateRequestMarshaller(), null);
     }
     
     /**
@@ -562,11 +593,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateEnvironmentResult> createEnvironmentAsync(final CreateEnvironmentRequest createEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEnvironmentResult>() {
-            public CreateEnvironmentResult call() throws Exception {
-                return createEnvironment(createEnvironmentRequest);
-        }
-    });
+        return createEnvironmentComposableAsync(createEnvironmentRequest);
     }
 
     /**
@@ -598,19 +625,30 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateEnvironmentRequest createEnvironmentRequest,
             final AsyncHandler<CreateEnvironmentRequest, CreateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEnvironmentResult>() {
+        return withAsyncHandler(createEnvironmentComposableAsync(createEnvironmentRequest),
+                createEnvironmentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateEnvironment operation like
+     * {@link #createEnvironmentAsync(CreateEnvironmentRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createEnvironmentRequest Container for the necessary parameters
+     *           to execute the CreateEnvironment operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CreateEnvironment service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CreateEnvironmentResult> createEnvironmentComposableAsync(final CreateEnvironmentRequest createEnvironmentRequest) {
+        return executeAsync(executorService, new Callable<CreateEnvironmentResult>() {
             public CreateEnvironmentResult call() throws Exception {
-              CreateEnvironmentResult result;
-                try {
-                result = createEnvironment(createEnvironmentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createEnvironmentRequest, result);
-                 return result;
-        }
-    });
+                return createEnvironment(createEnvironmentRequest);
+            }
+        }, createEnvironmentRequest,
+                new CreateEnvironmentRequestMarshaller(), new CreateEnvironmentResultStaxUnmarshaller());
     }
     
     /**
@@ -640,11 +678,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateStorageLocationResult> createStorageLocationAsync(final CreateStorageLocationRequest createStorageLocationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorageLocationResult>() {
-            public CreateStorageLocationResult call() throws Exception {
-                return createStorageLocation(createStorageLocationRequest);
-        }
-    });
+        return createStorageLocationComposableAsync(createStorageLocationRequest);
     }
 
     /**
@@ -680,19 +714,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateStorageLocationRequest createStorageLocationRequest,
             final AsyncHandler<CreateStorageLocationRequest, CreateStorageLocationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorageLocationResult>() {
+        return withAsyncHandler(createStorageLocationComposableAsync(createStorageLocationRequest),
+                createStorageLocationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStorageLocation operation like
+     * {@link #createStorageLocationAsync(CreateStorageLocationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createStorageLocationRequest Container for the necessary
+     *           parameters to execute the CreateStorageLocation operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CreateStorageLocation service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CreateStorageLocationResult> createStorageLocationComposableAsync(final CreateStorageLocationRequest createStorageLocationRequest) {
+        return executeAsync(executorService, new Callable<CreateStorageLocationResult>() {
             public CreateStorageLocationResult call() throws Exception {
-              CreateStorageLocationResult result;
-                try {
-                result = createStorageLocation(createStorageLocationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStorageLocationRequest, result);
-                 return result;
-        }
-    });
+                return createStorageLocation(createStorageLocationRequest);
+            }
+        }, createStorageLocationRequest,
+                new CreateStorageLocationRequestMarshaller(), new CreateStorageLocationResultStaxUnmarshaller());
     }
     
     /**
@@ -734,12 +780,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> requestEnvironmentInfoAsync(final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                requestEnvironmentInfo(requestEnvironmentInfoRequest);
-                return null;
-        }
-    });
+        return requestEnvironmentInfoComposableAsync(requestEnvironmentInfoRequest);
     }
 
     /**
@@ -787,18 +828,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest,
             final AsyncHandler<RequestEnvironmentInfoRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(requestEnvironmentInfoComposableAsync(requestEnvironmentInfoRequest),
+                requestEnvironmentInfoRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RequestEnvironmentInfo operation like
+     * {@link #requestEnvironmentInfoAsync(RequestEnvironmentInfoRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param requestEnvironmentInfoRequest Container for the necessary
+     *           parameters to execute the RequestEnvironmentInfo operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         RequestEnvironmentInfo service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> requestEnvironmentInfoComposableAsync(final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 requestEnvironmentInfo(requestEnvironmentInfoRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestEnvironmentInfoRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, requestEnvironmentInfoRequest,
+                new RequestEnvironmentInfoRequestMarshaller(), null);
     }
     
     /**
@@ -832,11 +887,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationVersionResult> createApplicationVersionAsync(final CreateApplicationVersionRequest createApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
-            public CreateApplicationVersionResult call() throws Exception {
-                return createApplicationVersion(createApplicationVersionRequest);
-        }
-    });
+        return createApplicationVersionComposableAsync(createApplicationVersionRequest);
     }
 
     /**
@@ -876,19 +927,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationVersionRequest createApplicationVersionRequest,
             final AsyncHandler<CreateApplicationVersionRequest, CreateApplicationVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
+        return withAsyncHandler(createApplicationVersionComposableAsync(createApplicationVersionRequest),
+                createApplicationVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateApplicationVersion operation like
+     * {@link #createApplicationVersionAsync(CreateApplicationVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createApplicationVersionRequest Container for the necessary
+     *           parameters to execute the CreateApplicationVersion operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CreateApplicationVersion service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CreateApplicationVersionResult> createApplicationVersionComposableAsync(final CreateApplicationVersionRequest createApplicationVersionRequest) {
+        return executeAsync(executorService, new Callable<CreateApplicationVersionResult>() {
             public CreateApplicationVersionResult call() throws Exception {
-              CreateApplicationVersionResult result;
-                try {
-                result = createApplicationVersion(createApplicationVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createApplicationVersionRequest, result);
-                 return result;
-        }
-    });
+                return createApplicationVersion(createApplicationVersionRequest);
+            }
+        }, createApplicationVersionRequest,
+                new CreateApplicationVersionRequestMarshaller(), new CreateApplicationVersionResultStaxUnmarshaller());
     }
     
     /**
@@ -919,12 +982,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationVersionAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplicationVersion(deleteApplicationVersionRequest);
-                return null;
-        }
-    });
+        return deleteApplicationVersionComposableAsync(deleteApplicationVersionRequest);
     }
 
     /**
@@ -961,18 +1019,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationVersionRequest deleteApplicationVersionRequest,
             final AsyncHandler<DeleteApplicationVersionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteApplicationVersionComposableAsync(deleteApplicationVersionRequest),
+                deleteApplicationVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteApplicationVersion operation like
+     * {@link #deleteApplicationVersionAsync(DeleteApplicationVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteApplicationVersionRequest Container for the necessary
+     *           parameters to execute the DeleteApplicationVersion operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DeleteApplicationVersion service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> deleteApplicationVersionComposableAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteApplicationVersion(deleteApplicationVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteApplicationVersionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteApplicationVersionRequest,
+                new DeleteApplicationVersionRequestMarshaller(), null);
     }
     
     /**
@@ -999,11 +1071,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
-            public DescribeApplicationVersionsResult call() throws Exception {
-                return describeApplicationVersions(describeApplicationVersionsRequest);
-        }
-    });
+        return describeApplicationVersionsComposableAsync(describeApplicationVersionsRequest);
     }
 
     /**
@@ -1036,19 +1104,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationVersionsRequest describeApplicationVersionsRequest,
             final AsyncHandler<DescribeApplicationVersionsRequest, DescribeApplicationVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
+        return withAsyncHandler(describeApplicationVersionsComposableAsync(describeApplicationVersionsRequest),
+                describeApplicationVersionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeApplicationVersions operation
+     * like
+     * {@link #describeApplicationVersionsAsync(DescribeApplicationVersionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeApplicationVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeApplicationVersions operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeApplicationVersions service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeApplicationVersionsResult> describeApplicationVersionsComposableAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeApplicationVersionsResult>() {
             public DescribeApplicationVersionsResult call() throws Exception {
-              DescribeApplicationVersionsResult result;
-                try {
-                result = describeApplicationVersions(describeApplicationVersionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeApplicationVersionsRequest, result);
-                 return result;
-        }
-    });
+                return describeApplicationVersions(describeApplicationVersionsRequest);
+            }
+        }, describeApplicationVersionsRequest,
+                new DescribeApplicationVersionsRequestMarshaller(), new DescribeApplicationVersionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1079,12 +1160,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplication(deleteApplicationRequest);
-                return null;
-        }
-    });
+        return deleteApplicationComposableAsync(deleteApplicationRequest);
     }
 
     /**
@@ -1121,18 +1197,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationRequest deleteApplicationRequest,
             final AsyncHandler<DeleteApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteApplicationComposableAsync(deleteApplicationRequest),
+                deleteApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteApplication operation like
+     * {@link #deleteApplicationAsync(DeleteApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteApplicationRequest Container for the necessary parameters
+     *           to execute the DeleteApplication operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DeleteApplication service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> deleteApplicationComposableAsync(final DeleteApplicationRequest deleteApplicationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteApplication(deleteApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteApplicationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteApplicationRequest,
+                new DeleteApplicationRequestMarshaller(), null);
     }
     
     /**
@@ -1165,11 +1254,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationVersionResult> updateApplicationVersionAsync(final UpdateApplicationVersionRequest updateApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
-            public UpdateApplicationVersionResult call() throws Exception {
-                return updateApplicationVersion(updateApplicationVersionRequest);
-        }
-    });
+        return updateApplicationVersionComposableAsync(updateApplicationVersionRequest);
     }
 
     /**
@@ -1208,19 +1293,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationVersionRequest updateApplicationVersionRequest,
             final AsyncHandler<UpdateApplicationVersionRequest, UpdateApplicationVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
+        return withAsyncHandler(updateApplicationVersionComposableAsync(updateApplicationVersionRequest),
+                updateApplicationVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateApplicationVersion operation like
+     * {@link #updateApplicationVersionAsync(UpdateApplicationVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateApplicationVersionRequest Container for the necessary
+     *           parameters to execute the UpdateApplicationVersion operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         UpdateApplicationVersion service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<UpdateApplicationVersionResult> updateApplicationVersionComposableAsync(final UpdateApplicationVersionRequest updateApplicationVersionRequest) {
+        return executeAsync(executorService, new Callable<UpdateApplicationVersionResult>() {
             public UpdateApplicationVersionResult call() throws Exception {
-              UpdateApplicationVersionResult result;
-                try {
-                result = updateApplicationVersion(updateApplicationVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateApplicationVersionRequest, result);
-                 return result;
-        }
-    });
+                return updateApplicationVersion(updateApplicationVersionRequest);
+            }
+        }, updateApplicationVersionRequest,
+                new UpdateApplicationVersionRequestMarshaller(), new UpdateApplicationVersionResultStaxUnmarshaller());
     }
     
     /**
@@ -1246,11 +1343,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationResult> createApplicationAsync(final CreateApplicationRequest createApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
-            public CreateApplicationResult call() throws Exception {
-                return createApplication(createApplicationRequest);
-        }
-    });
+        return createApplicationComposableAsync(createApplicationRequest);
     }
 
     /**
@@ -1282,19 +1375,30 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationRequest createApplicationRequest,
             final AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
+        return withAsyncHandler(createApplicationComposableAsync(createApplicationRequest),
+                createApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateApplication operation like
+     * {@link #createApplicationAsync(CreateApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createApplicationRequest Container for the necessary parameters
+     *           to execute the CreateApplication operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CreateApplication service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CreateApplicationResult> createApplicationComposableAsync(final CreateApplicationRequest createApplicationRequest) {
+        return executeAsync(executorService, new Callable<CreateApplicationResult>() {
             public CreateApplicationResult call() throws Exception {
-              CreateApplicationResult result;
-                try {
-                result = createApplication(createApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createApplicationRequest, result);
-                 return result;
-        }
-    });
+                return createApplication(createApplicationRequest);
+            }
+        }, createApplicationRequest,
+                new CreateApplicationRequestMarshaller(), new CreateApplicationResultStaxUnmarshaller());
     }
     
     /**
@@ -1321,12 +1425,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> swapEnvironmentCNAMEsAsync(final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                swapEnvironmentCNAMEs(swapEnvironmentCNAMEsRequest);
-                return null;
-        }
-    });
+        return swapEnvironmentCNAMEsComposableAsync(swapEnvironmentCNAMEsRequest);
     }
 
     /**
@@ -1359,18 +1458,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest,
             final AsyncHandler<SwapEnvironmentCNAMEsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(swapEnvironmentCNAMEsComposableAsync(swapEnvironmentCNAMEsRequest),
+                swapEnvironmentCNAMEsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SwapEnvironmentCNAMEs operation like
+     * {@link #swapEnvironmentCNAMEsAsync(SwapEnvironmentCNAMEsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param swapEnvironmentCNAMEsRequest Container for the necessary
+     *           parameters to execute the SwapEnvironmentCNAMEs operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         SwapEnvironmentCNAMEs service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> swapEnvironmentCNAMEsComposableAsync(final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 swapEnvironmentCNAMEs(swapEnvironmentCNAMEsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(swapEnvironmentCNAMEsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, swapEnvironmentCNAMEsRequest,
+                new SwapEnvironmentCNAMEsRequestMarshaller(), null);
     }
     
     /**
@@ -1411,11 +1524,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateConfigurationTemplateResult> updateConfigurationTemplateAsync(final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
-            public UpdateConfigurationTemplateResult call() throws Exception {
-                return updateConfigurationTemplate(updateConfigurationTemplateRequest);
-        }
-    });
+        return updateConfigurationTemplateComposableAsync(updateConfigurationTemplateRequest);
     }
 
     /**
@@ -1462,19 +1571,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest,
             final AsyncHandler<UpdateConfigurationTemplateRequest, UpdateConfigurationTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
+        return withAsyncHandler(updateConfigurationTemplateComposableAsync(updateConfigurationTemplateRequest),
+                updateConfigurationTemplateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateConfigurationTemplate operation
+     * like
+     * {@link #updateConfigurationTemplateAsync(UpdateConfigurationTemplateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the UpdateConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         UpdateConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<UpdateConfigurationTemplateResult> updateConfigurationTemplateComposableAsync(final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest) {
+        return executeAsync(executorService, new Callable<UpdateConfigurationTemplateResult>() {
             public UpdateConfigurationTemplateResult call() throws Exception {
-              UpdateConfigurationTemplateResult result;
-                try {
-                result = updateConfigurationTemplate(updateConfigurationTemplateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateConfigurationTemplateRequest, result);
-                 return result;
-        }
-    });
+                return updateConfigurationTemplate(updateConfigurationTemplateRequest);
+            }
+        }, updateConfigurationTemplateRequest,
+                new UpdateConfigurationTemplateRequestMarshaller(), new UpdateConfigurationTemplateResultStaxUnmarshaller());
     }
     
     /**
@@ -1510,11 +1632,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<RetrieveEnvironmentInfoResult> retrieveEnvironmentInfoAsync(final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
-            public RetrieveEnvironmentInfoResult call() throws Exception {
-                return retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
-        }
-    });
+        return retrieveEnvironmentInfoComposableAsync(retrieveEnvironmentInfoRequest);
     }
 
     /**
@@ -1556,19 +1674,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest,
             final AsyncHandler<RetrieveEnvironmentInfoRequest, RetrieveEnvironmentInfoResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
+        return withAsyncHandler(retrieveEnvironmentInfoComposableAsync(retrieveEnvironmentInfoRequest),
+                retrieveEnvironmentInfoRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RetrieveEnvironmentInfo operation like
+     * {@link #retrieveEnvironmentInfoAsync(RetrieveEnvironmentInfoRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param retrieveEnvironmentInfoRequest Container for the necessary
+     *           parameters to execute the RetrieveEnvironmentInfo operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         RetrieveEnvironmentInfo service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<RetrieveEnvironmentInfoResult> retrieveEnvironmentInfoComposableAsync(final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest) {
+        return executeAsync(executorService, new Callable<RetrieveEnvironmentInfoResult>() {
             public RetrieveEnvironmentInfoResult call() throws Exception {
-              RetrieveEnvironmentInfoResult result;
-                try {
-                result = retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(retrieveEnvironmentInfoRequest, result);
-                 return result;
-        }
-    });
+                return retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
+            }
+        }, retrieveEnvironmentInfoRequest,
+                new RetrieveEnvironmentInfoRequestMarshaller(), new RetrieveEnvironmentInfoResultStaxUnmarshaller());
     }
     
     /**
@@ -1595,11 +1725,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ListAvailableSolutionStacksResult> listAvailableSolutionStacksAsync(final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
-            public ListAvailableSolutionStacksResult call() throws Exception {
-                return listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
-        }
-    });
+        return listAvailableSolutionStacksComposableAsync(listAvailableSolutionStacksRequest);
     }
 
     /**
@@ -1632,19 +1758,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest,
             final AsyncHandler<ListAvailableSolutionStacksRequest, ListAvailableSolutionStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
+        return withAsyncHandler(listAvailableSolutionStacksComposableAsync(listAvailableSolutionStacksRequest),
+                listAvailableSolutionStacksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAvailableSolutionStacks operation
+     * like
+     * {@link #listAvailableSolutionStacksAsync(ListAvailableSolutionStacksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAvailableSolutionStacksRequest Container for the necessary
+     *           parameters to execute the ListAvailableSolutionStacks operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         ListAvailableSolutionStacks service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<ListAvailableSolutionStacksResult> listAvailableSolutionStacksComposableAsync(final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest) {
+        return executeAsync(executorService, new Callable<ListAvailableSolutionStacksResult>() {
             public ListAvailableSolutionStacksResult call() throws Exception {
-              ListAvailableSolutionStacksResult result;
-                try {
-                result = listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAvailableSolutionStacksRequest, result);
-                 return result;
-        }
-    });
+                return listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
+            }
+        }, listAvailableSolutionStacksRequest,
+                new ListAvailableSolutionStacksRequestMarshaller(), new ListAvailableSolutionStacksResultStaxUnmarshaller());
     }
     
     /**
@@ -1674,11 +1813,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationResult> updateApplicationAsync(final UpdateApplicationRequest updateApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationResult>() {
-            public UpdateApplicationResult call() throws Exception {
-                return updateApplication(updateApplicationRequest);
-        }
-    });
+        return updateApplicationComposableAsync(updateApplicationRequest);
     }
 
     /**
@@ -1714,19 +1849,30 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationRequest updateApplicationRequest,
             final AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationResult>() {
+        return withAsyncHandler(updateApplicationComposableAsync(updateApplicationRequest),
+                updateApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateApplication operation like
+     * {@link #updateApplicationAsync(UpdateApplicationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param updateApplicationRequest Container for the necessary parameters
+     *           to execute the UpdateApplication operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         UpdateApplication service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<UpdateApplicationResult> updateApplicationComposableAsync(final UpdateApplicationRequest updateApplicationRequest) {
+        return executeAsync(executorService, new Callable<UpdateApplicationResult>() {
             public UpdateApplicationResult call() throws Exception {
-              UpdateApplicationResult result;
-                try {
-                result = updateApplication(updateApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateApplicationRequest, result);
-                 return result;
-        }
-    });
+                return updateApplication(updateApplicationRequest);
+            }
+        }, updateApplicationRequest,
+                new UpdateApplicationRequestMarshaller(), new UpdateApplicationResultStaxUnmarshaller());
     }
     
     /**
@@ -1753,11 +1899,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentsResult> describeEnvironmentsAsync(final DescribeEnvironmentsRequest describeEnvironmentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
-            public DescribeEnvironmentsResult call() throws Exception {
-                return describeEnvironments(describeEnvironmentsRequest);
-        }
-    });
+        return describeEnvironmentsComposableAsync(describeEnvironmentsRequest);
     }
 
     /**
@@ -1790,19 +1932,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentsRequest describeEnvironmentsRequest,
             final AsyncHandler<DescribeEnvironmentsRequest, DescribeEnvironmentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
+        return withAsyncHandler(describeEnvironmentsComposableAsync(describeEnvironmentsRequest),
+                describeEnvironmentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEnvironments operation like
+     * {@link #describeEnvironmentsAsync(DescribeEnvironmentsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEnvironmentsRequest Container for the necessary
+     *           parameters to execute the DescribeEnvironments operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEnvironments service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeEnvironmentsResult> describeEnvironmentsComposableAsync(final DescribeEnvironmentsRequest describeEnvironmentsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEnvironmentsResult>() {
             public DescribeEnvironmentsResult call() throws Exception {
-              DescribeEnvironmentsResult result;
-                try {
-                result = describeEnvironments(describeEnvironmentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEnvironmentsRequest, result);
-                 return result;
-        }
-    });
+                return describeEnvironments(describeEnvironmentsRequest);
+            }
+        }, describeEnvironmentsRequest,
+                new DescribeEnvironmentsRequestMarshaller(), new DescribeEnvironmentsResultStaxUnmarshaller());
     }
     
     /**
@@ -1829,11 +1983,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentResourcesResult> describeEnvironmentResourcesAsync(final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
-            public DescribeEnvironmentResourcesResult call() throws Exception {
-                return describeEnvironmentResources(describeEnvironmentResourcesRequest);
-        }
-    });
+        return describeEnvironmentResourcesComposableAsync(describeEnvironmentResourcesRequest);
     }
 
     /**
@@ -1866,19 +2016,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest,
             final AsyncHandler<DescribeEnvironmentResourcesRequest, DescribeEnvironmentResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
+        return withAsyncHandler(describeEnvironmentResourcesComposableAsync(describeEnvironmentResourcesRequest),
+                describeEnvironmentResourcesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEnvironmentResources operation
+     * like
+     * {@link #describeEnvironmentResourcesAsync(DescribeEnvironmentResourcesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEnvironmentResourcesRequest Container for the necessary
+     *           parameters to execute the DescribeEnvironmentResources operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEnvironmentResources service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeEnvironmentResourcesResult> describeEnvironmentResourcesComposableAsync(final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest) {
+        return executeAsync(executorService, new Callable<DescribeEnvironmentResourcesResult>() {
             public DescribeEnvironmentResourcesResult call() throws Exception {
-              DescribeEnvironmentResourcesResult result;
-                try {
-                result = describeEnvironmentResources(describeEnvironmentResourcesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEnvironmentResourcesRequest, result);
-                 return result;
-        }
-    });
+                return describeEnvironmentResources(describeEnvironmentResourcesRequest);
+            }
+        }, describeEnvironmentResourcesRequest,
+                new DescribeEnvironmentResourcesRequestMarshaller(), new DescribeEnvironmentResourcesResultStaxUnmarshaller());
     }
     
     /**
@@ -1905,11 +2068,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<TerminateEnvironmentResult> terminateEnvironmentAsync(final TerminateEnvironmentRequest terminateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
-            public TerminateEnvironmentResult call() throws Exception {
-                return terminateEnvironment(terminateEnvironmentRequest);
-        }
-    });
+        return terminateEnvironmentComposableAsync(terminateEnvironmentRequest);
     }
 
     /**
@@ -1942,19 +2101,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final TerminateEnvironmentRequest terminateEnvironmentRequest,
             final AsyncHandler<TerminateEnvironmentRequest, TerminateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
+        return withAsyncHandler(terminateEnvironmentComposableAsync(terminateEnvironmentRequest),
+                terminateEnvironmentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TerminateEnvironment operation like
+     * {@link #terminateEnvironmentAsync(TerminateEnvironmentRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param terminateEnvironmentRequest Container for the necessary
+     *           parameters to execute the TerminateEnvironment operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         TerminateEnvironment service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<TerminateEnvironmentResult> terminateEnvironmentComposableAsync(final TerminateEnvironmentRequest terminateEnvironmentRequest) {
+        return executeAsync(executorService, new Callable<TerminateEnvironmentResult>() {
             public TerminateEnvironmentResult call() throws Exception {
-              TerminateEnvironmentResult result;
-                try {
-                result = terminateEnvironment(terminateEnvironmentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateEnvironmentRequest, result);
-                 return result;
-        }
-    });
+                return terminateEnvironment(terminateEnvironmentRequest);
+            }
+        }, terminateEnvironmentRequest,
+                new TerminateEnvironmentRequestMarshaller(), new TerminateEnvironmentResultStaxUnmarshaller());
     }
     
     /**
@@ -1987,11 +2158,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
-            public ValidateConfigurationSettingsResult call() throws Exception {
-                return validateConfigurationSettings(validateConfigurationSettingsRequest);
-        }
-    });
+        return validateConfigurationSettingsComposableAsync(validateConfigurationSettingsRequest);
     }
 
     /**
@@ -2030,19 +2197,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest,
             final AsyncHandler<ValidateConfigurationSettingsRequest, ValidateConfigurationSettingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
+        return withAsyncHandler(validateConfigurationSettingsComposableAsync(validateConfigurationSettingsRequest),
+                validateConfigurationSettingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ValidateConfigurationSettings operation
+     * like
+     * {@link #validateConfigurationSettingsAsync(ValidateConfigurationSettingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param validateConfigurationSettingsRequest Container for the
+     *           necessary parameters to execute the ValidateConfigurationSettings
+     *           operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         ValidateConfigurationSettings service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<ValidateConfigurationSettingsResult> validateConfigurationSettingsComposableAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) {
+        return executeAsync(executorService, new Callable<ValidateConfigurationSettingsResult>() {
             public ValidateConfigurationSettingsResult call() throws Exception {
-              ValidateConfigurationSettingsResult result;
-                try {
-                result = validateConfigurationSettings(validateConfigurationSettingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(validateConfigurationSettingsRequest, result);
-                 return result;
-        }
-    });
+                return validateConfigurationSettings(validateConfigurationSettingsRequest);
+            }
+        }, validateConfigurationSettingsRequest,
+                new ValidateConfigurationSettingsRequestMarshaller(), new ValidateConfigurationSettingsResultStaxUnmarshaller());
     }
     
     /**
@@ -2068,12 +2248,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> restartAppServerAsync(final RestartAppServerRequest restartAppServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                restartAppServer(restartAppServerRequest);
-                return null;
-        }
-    });
+        return restartAppServerComposableAsync(restartAppServerRequest);
     }
 
     /**
@@ -2105,18 +2280,30 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RestartAppServerRequest restartAppServerRequest,
             final AsyncHandler<RestartAppServerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(restartAppServerComposableAsync(restartAppServerRequest),
+                restartAppServerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RestartAppServer operation like
+     * {@link #restartAppServerAsync(RestartAppServerRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param restartAppServerRequest Container for the necessary parameters
+     *           to execute the RestartAppServer operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         RestartAppServer service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> restartAppServerComposableAsync(final RestartAppServerRequest restartAppServerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 restartAppServer(restartAppServerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restartAppServerRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, restartAppServerRequest,
+                new RestartAppServerRequestMarshaller(), null);
     }
     
     /**
@@ -2153,12 +2340,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteEnvironmentConfigurationAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
-                return null;
-        }
-    });
+        return deleteEnvironmentConfigurationComposableAsync(deleteEnvironmentConfigurationRequest);
     }
 
     /**
@@ -2201,18 +2383,33 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest,
             final AsyncHandler<DeleteEnvironmentConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteEnvironmentConfigurationComposableAsync(deleteEnvironmentConfigurationRequest),
+                deleteEnvironmentConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteEnvironmentConfiguration operation
+     * like
+     * {@link #deleteEnvironmentConfigurationAsync(DeleteEnvironmentConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteEnvironmentConfigurationRequest Container for the
+     *           necessary parameters to execute the DeleteEnvironmentConfiguration
+     *           operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DeleteEnvironmentConfiguration service method, as returned
+     *         by AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> deleteEnvironmentConfigurationComposableAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteEnvironmentConfigurationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteEnvironmentConfigurationRequest,
+                new DeleteEnvironmentConfigurationRequestMarshaller(), null);
     }
     
     /**
@@ -2251,11 +2448,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateEnvironmentResult> updateEnvironmentAsync(final UpdateEnvironmentRequest updateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
-            public UpdateEnvironmentResult call() throws Exception {
-                return updateEnvironment(updateEnvironmentRequest);
-        }
-    });
+        return updateEnvironmentComposableAsync(updateEnvironmentRequest);
     }
 
     /**
@@ -2300,19 +2493,30 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateEnvironmentRequest updateEnvironmentRequest,
             final AsyncHandler<UpdateEnvironmentRequest, UpdateEnvironmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
+        return withAsyncHandler(updateEnvironmentComposableAsync(updateEnvironmentRequest),
+                updateEnvironmentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateEnvironment operation like
+     * {@link #updateEnvironmentAsync(UpdateEnvironmentRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param updateEnvironmentRequest Container for the necessary parameters
+     *           to execute the UpdateEnvironment operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         UpdateEnvironment service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<UpdateEnvironmentResult> updateEnvironmentComposableAsync(final UpdateEnvironmentRequest updateEnvironmentRequest) {
+        return executeAsync(executorService, new Callable<UpdateEnvironmentResult>() {
             public UpdateEnvironmentResult call() throws Exception {
-              UpdateEnvironmentResult result;
-                try {
-                result = updateEnvironment(updateEnvironmentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateEnvironmentRequest, result);
-                 return result;
-        }
-    });
+                return updateEnvironment(updateEnvironmentRequest);
+            }
+        }, updateEnvironmentRequest,
+                new UpdateEnvironmentRequestMarshaller(), new UpdateEnvironmentResultStaxUnmarshaller());
     }
     
     /**
@@ -2351,11 +2555,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateConfigurationTemplateResult> createConfigurationTemplateAsync(final CreateConfigurationTemplateRequest createConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
-            public CreateConfigurationTemplateResult call() throws Exception {
-                return createConfigurationTemplate(createConfigurationTemplateRequest);
-        }
-    });
+        return createConfigurationTemplateComposableAsync(createConfigurationTemplateRequest);
     }
 
     /**
@@ -2400,19 +2600,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateConfigurationTemplateRequest createConfigurationTemplateRequest,
             final AsyncHandler<CreateConfigurationTemplateRequest, CreateConfigurationTemplateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
+        return withAsyncHandler(createConfigurationTemplateComposableAsync(createConfigurationTemplateRequest),
+                createConfigurationTemplateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateConfigurationTemplate operation
+     * like
+     * {@link #createConfigurationTemplateAsync(CreateConfigurationTemplateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createConfigurationTemplateRequest Container for the necessary
+     *           parameters to execute the CreateConfigurationTemplate operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         CreateConfigurationTemplate service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<CreateConfigurationTemplateResult> createConfigurationTemplateComposableAsync(final CreateConfigurationTemplateRequest createConfigurationTemplateRequest) {
+        return executeAsync(executorService, new Callable<CreateConfigurationTemplateResult>() {
             public CreateConfigurationTemplateResult call() throws Exception {
-              CreateConfigurationTemplateResult result;
-                try {
-                result = createConfigurationTemplate(createConfigurationTemplateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createConfigurationTemplateRequest, result);
-                 return result;
-        }
-    });
+                return createConfigurationTemplate(createConfigurationTemplateRequest);
+            }
+        }, createConfigurationTemplateRequest,
+                new CreateConfigurationTemplateRequestMarshaller(), new CreateConfigurationTemplateResultStaxUnmarshaller());
     }
     
     /**
@@ -2456,11 +2669,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationSettingsResult> describeConfigurationSettingsAsync(final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
-            public DescribeConfigurationSettingsResult call() throws Exception {
-                return describeConfigurationSettings(describeConfigurationSettingsRequest);
-        }
-    });
+        return describeConfigurationSettingsComposableAsync(describeConfigurationSettingsRequest);
     }
 
     /**
@@ -2510,19 +2719,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest,
             final AsyncHandler<DescribeConfigurationSettingsRequest, DescribeConfigurationSettingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
+        return withAsyncHandler(describeConfigurationSettingsComposableAsync(describeConfigurationSettingsRequest),
+                describeConfigurationSettingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeConfigurationSettings operation
+     * like
+     * {@link #describeConfigurationSettingsAsync(DescribeConfigurationSettingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeConfigurationSettingsRequest Container for the
+     *           necessary parameters to execute the DescribeConfigurationSettings
+     *           operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeConfigurationSettings service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeConfigurationSettingsResult> describeConfigurationSettingsComposableAsync(final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeConfigurationSettingsResult>() {
             public DescribeConfigurationSettingsResult call() throws Exception {
-              DescribeConfigurationSettingsResult result;
-                try {
-                result = describeConfigurationSettings(describeConfigurationSettingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConfigurationSettingsRequest, result);
-                 return result;
-        }
-    });
+                return describeConfigurationSettings(describeConfigurationSettingsRequest);
+            }
+        }, describeConfigurationSettingsRequest,
+                new DescribeConfigurationSettingsRequestMarshaller(), new DescribeConfigurationSettingsResultStaxUnmarshaller());
     }
     
     /**
@@ -2549,11 +2771,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationsResult> describeApplicationsAsync(final DescribeApplicationsRequest describeApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationsResult>() {
-            public DescribeApplicationsResult call() throws Exception {
-                return describeApplications(describeApplicationsRequest);
-        }
-    });
+        return describeApplicationsComposableAsync(describeApplicationsRequest);
     }
 
     /**
@@ -2586,19 +2804,31 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationsRequest describeApplicationsRequest,
             final AsyncHandler<DescribeApplicationsRequest, DescribeApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationsResult>() {
+        return withAsyncHandler(describeApplicationsComposableAsync(describeApplicationsRequest),
+                describeApplicationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeApplications operation like
+     * {@link #describeApplicationsAsync(DescribeApplicationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeApplicationsRequest Container for the necessary
+     *           parameters to execute the DescribeApplications operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         DescribeApplications service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeApplicationsResult> describeApplicationsComposableAsync(final DescribeApplicationsRequest describeApplicationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeApplicationsResult>() {
             public DescribeApplicationsResult call() throws Exception {
-              DescribeApplicationsResult result;
-                try {
-                result = describeApplications(describeApplicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeApplicationsRequest, result);
-                 return result;
-        }
-    });
+                return describeApplications(describeApplicationsRequest);
+            }
+        }, describeApplicationsRequest,
+                new DescribeApplicationsRequestMarshaller(), new DescribeApplicationsResultStaxUnmarshaller());
     }
     
     /**
@@ -2626,12 +2856,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> rebuildEnvironmentAsync(final RebuildEnvironmentRequest rebuildEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebuildEnvironment(rebuildEnvironmentRequest);
-                return null;
-        }
-    });
+        return rebuildEnvironmentComposableAsync(rebuildEnvironmentRequest);
     }
 
     /**
@@ -2665,18 +2890,32 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RebuildEnvironmentRequest rebuildEnvironmentRequest,
             final AsyncHandler<RebuildEnvironmentRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(rebuildEnvironmentComposableAsync(rebuildEnvironmentRequest),
+                rebuildEnvironmentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebuildEnvironment operation like
+     * {@link #rebuildEnvironmentAsync(RebuildEnvironmentRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param rebuildEnvironmentRequest Container for the necessary
+     *           parameters to execute the RebuildEnvironment operation on
+     *           AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the
+     *         RebuildEnvironment service method, as returned by
+     *         AWSElasticBeanstalk.
+     */
+    public ComposableFuture<Void> rebuildEnvironmentComposableAsync(final RebuildEnvironmentRequest rebuildEnvironmentRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 rebuildEnvironment(rebuildEnvironmentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebuildEnvironmentRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, rebuildEnvironmentRequest,
+                new RebuildEnvironmentRequestMarshaller(), null);
     }
     
     /**
@@ -2706,11 +2945,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-        }
-    });
+        return describeEventsComposableAsync(describeEventsRequest);
     }
 
     /**
@@ -2746,19 +2981,28 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return withAsyncHandler(describeEventsComposableAsync(describeEventsRequest),
+                describeEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEvents operation like
+     * {@link #describeEventsAsync(DescribeEventsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AWSElasticBeanstalk.
+     *
+     * @return A composable future for the response from the DescribeEvents
+     *         service method, as returned by AWSElasticBeanstalk.
+     */
+    public ComposableFuture<DescribeEventsResult> describeEventsComposableAsync(final DescribeEventsRequest describeEventsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
-              DescribeEventsResult result;
-                try {
-                result = describeEvents(describeEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventsRequest, result);
-                 return result;
-        }
-    });
+                return describeEvents(describeEventsRequest);
+            }
+        }, describeEventsRequest,
+                new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller());
     }
     
 }
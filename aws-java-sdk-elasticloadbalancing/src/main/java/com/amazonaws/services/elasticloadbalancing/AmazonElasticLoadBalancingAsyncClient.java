@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
+import com.amazonaws.services.elasticloadbalancing.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonElasticLoadBalancing.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Elastic Load Balancing <p>
  * Elastic Load Balancing is a way to automatically distribute incoming
  * web traffic across applications that run on multiple Amazon Elastic
@@ -349,11 +353,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-        }
-    });
+        return describeLoadBalancerPolicyTypesComposableAsync(describeLoadBalancerPolicyTypesRequest);
     }
 
     /**
@@ -390,19 +390,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest,
             final AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
+        return withAsyncHandler(describeLoadBalancerPolicyTypesComposableAsync(describeLoadBalancerPolicyTypesRequest),
+                describeLoadBalancerPolicyTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoadBalancerPolicyTypes
+     * operation like
+     * {@link #describeLoadBalancerPolicyTypesAsync(DescribeLoadBalancerPolicyTypesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoadBalancerPolicyTypesRequest Container for the
+     *           necessary parameters to execute the DescribeLoadBalancerPolicyTypes
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoadBalancerPolicyTypes service method, as returned
+     *         by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesComposableAsync(final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoadBalancerPolicyTypesResult>() {
             public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-              DescribeLoadBalancerPolicyTypesResult result;
-                try {
-                result = describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerPolicyTypesRequest, result);
-                 return result;
-        }
-    });
+                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
+            }
+        }, describeLoadBalancerPolicyTypesRequest,
+                new DescribeLoadBalancerPolicyTypesRequestMarshaller(), new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller());
     }
     
     /**
@@ -435,11 +448,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(final ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                return configureHealthCheck(configureHealthCheckRequest);
-        }
-    });
+        return configureHealthCheckComposableAsync(configureHealthCheckRequest);
     }
 
     /**
@@ -478,19 +487,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ConfigureHealthCheckRequest configureHealthCheckRequest,
             final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
+        return withAsyncHandler(configureHealthCheckComposableAsync(configureHealthCheckRequest),
+                configureHealthCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfigureHealthCheck operation like
+     * {@link #configureHealthCheckAsync(ConfigureHealthCheckRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param configureHealthCheckRequest Container for the necessary
+     *           parameters to execute the ConfigureHealthCheck operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         ConfigureHealthCheck service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<ConfigureHealthCheckResult> configureHealthCheckComposableAsync(final ConfigureHealthCheckRequest configureHealthCheckRequest) {
+        return executeAsync(executorService, new Callable<ConfigureHealthCheckResult>() {
             public ConfigureHealthCheckResult call() throws Exception {
-              ConfigureHealthCheckResult result;
-                try {
-                result = configureHealthCheck(configureHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(configureHealthCheckRequest, result);
-                 return result;
-        }
-    });
+                return configureHealthCheck(configureHealthCheckRequest);
+            }
+        }, configureHealthCheckRequest,
+                new ConfigureHealthCheckRequestMarshaller(), new ConfigureHealthCheckResultStaxUnmarshaller());
     }
     
     /**
@@ -525,11 +546,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-        }
-    });
+        return detachLoadBalancerFromSubnetsComposableAsync(detachLoadBalancerFromSubnetsRequest);
     }
 
     /**
@@ -570,19 +587,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest,
             final AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
+        return withAsyncHandler(detachLoadBalancerFromSubnetsComposableAsync(detachLoadBalancerFromSubnetsRequest),
+                detachLoadBalancerFromSubnetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachLoadBalancerFromSubnets operation
+     * like
+     * {@link #detachLoadBalancerFromSubnetsAsync(DetachLoadBalancerFromSubnetsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param detachLoadBalancerFromSubnetsRequest Container for the
+     *           necessary parameters to execute the DetachLoadBalancerFromSubnets
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DetachLoadBalancerFromSubnets service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsComposableAsync(final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest) {
+        return executeAsync(executorService, new Callable<DetachLoadBalancerFromSubnetsResult>() {
             public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-              DetachLoadBalancerFromSubnetsResult result;
-                try {
-                result = detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachLoadBalancerFromSubnetsRequest, result);
-                 return result;
-        }
-    });
+                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
+            }
+        }, detachLoadBalancerFromSubnetsRequest,
+                new DetachLoadBalancerFromSubnetsRequestMarshaller(), new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller());
     }
     
     /**
@@ -619,11 +649,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                return addTags(addTagsRequest);
-        }
-    });
+        return addTagsComposableAsync(addTagsRequest);
     }
 
     /**
@@ -666,19 +692,28 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AddTagsRequest addTagsRequest,
             final AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
+        return withAsyncHandler(addTagsComposableAsync(addTagsRequest),
+                addTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddTags operation like
+     * {@link #addTagsAsync(AddTagsRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param addTagsRequest Container for the necessary parameters to
+     *           execute the AddTags operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the AddTags
+     *         service method, as returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<AddTagsResult> addTagsComposableAsync(final AddTagsRequest addTagsRequest) {
+        return executeAsync(executorService, new Callable<AddTagsResult>() {
             public AddTagsResult call() throws Exception {
-              AddTagsResult result;
-                try {
-                result = addTags(addTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsRequest, result);
-                 return result;
-        }
-    });
+                return addTags(addTagsRequest);
+            }
+        }, addTagsRequest,
+                new AddTagsRequestMarshaller(), new AddTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -732,11 +767,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-        }
-    });
+        return modifyLoadBalancerAttributesComposableAsync(modifyLoadBalancerAttributesRequest);
     }
 
     /**
@@ -796,19 +827,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest,
             final AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
+        return withAsyncHandler(modifyLoadBalancerAttributesComposableAsync(modifyLoadBalancerAttributesRequest),
+                modifyLoadBalancerAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyLoadBalancerAttributes operation
+     * like
+     * {@link #modifyLoadBalancerAttributesAsync(ModifyLoadBalancerAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyLoadBalancerAttributesRequest Container for the necessary
+     *           parameters to execute the ModifyLoadBalancerAttributes operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         ModifyLoadBalancerAttributes service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesComposableAsync(final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest) {
+        return executeAsync(executorService, new Callable<ModifyLoadBalancerAttributesResult>() {
             public ModifyLoadBalancerAttributesResult call() throws Exception {
-              ModifyLoadBalancerAttributesResult result;
-                try {
-                result = modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyLoadBalancerAttributesRequest, result);
-                 return result;
-        }
-    });
+                return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
+            }
+        }, modifyLoadBalancerAttributesRequest,
+                new ModifyLoadBalancerAttributesRequestMarshaller(), new ModifyLoadBalancerAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -843,12 +887,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> createLoadBalancerListenersAsync(final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLoadBalancerListeners(createLoadBalancerListenersRequest);
-                return null;
-        }
-    });
+        return createLoadBalancerListenersComposableAsync(createLoadBalancerListenersRequest);
     }
 
     /**
@@ -889,18 +928,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
             final AsyncHandler<CreateLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createLoadBalancerListenersComposableAsync(createLoadBalancerListenersRequest),
+                createLoadBalancerListenersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLoadBalancerListeners operation
+     * like
+     * {@link #createLoadBalancerListenersAsync(CreateLoadBalancerListenersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         CreateLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<Void> createLoadBalancerListenersComposableAsync(final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createLoadBalancerListeners(createLoadBalancerListenersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerListenersRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createLoadBalancerListenersRequest,
+                new CreateLoadBalancerListenersRequestMarshaller(), null);
     }
     
     /**
@@ -927,12 +981,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerListenersAsync(final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-                return null;
-        }
-    });
+        return deleteLoadBalancerListenersComposableAsync(deleteLoadBalancerListenersRequest);
     }
 
     /**
@@ -965,18 +1014,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
             final AsyncHandler<DeleteLoadBalancerListenersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLoadBalancerListenersComposableAsync(deleteLoadBalancerListenersRequest),
+                deleteLoadBalancerListenersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLoadBalancerListeners operation
+     * like
+     * {@link #deleteLoadBalancerListenersAsync(DeleteLoadBalancerListenersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLoadBalancerListenersRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerListeners operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLoadBalancerListeners service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<Void> deleteLoadBalancerListenersComposableAsync(final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerListenersRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLoadBalancerListenersRequest,
+                new DeleteLoadBalancerListenersRequestMarshaller(), null);
     }
     
     /**
@@ -1028,11 +1092,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-        }
-    });
+        return createAppCookieStickinessPolicyComposableAsync(createAppCookieStickinessPolicyRequest);
     }
 
     /**
@@ -1090,19 +1150,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
             final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
+        return withAsyncHandler(createAppCookieStickinessPolicyComposableAsync(createAppCookieStickinessPolicyRequest),
+                createAppCookieStickinessPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAppCookieStickinessPolicy
+     * operation like
+     * {@link #createAppCookieStickinessPolicyAsync(CreateAppCookieStickinessPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createAppCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateAppCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         CreateAppCookieStickinessPolicy service method, as returned
+     *         by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyComposableAsync(final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) {
+        return executeAsync(executorService, new Callable<CreateAppCookieStickinessPolicyResult>() {
             public CreateAppCookieStickinessPolicyResult call() throws Exception {
-              CreateAppCookieStickinessPolicyResult result;
-                try {
-                result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAppCookieStickinessPolicyRequest, result);
-                 return result;
-        }
-    });
+                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
+            }
+        }, createAppCookieStickinessPolicyRequest,
+                new CreateAppCookieStickinessPolicyRequestMarshaller(), new CreateAppCookieStickinessPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -1136,11 +1209,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-        }
-    });
+        return applySecurityGroupsToLoadBalancerComposableAsync(applySecurityGroupsToLoadBalancerRequest);
     }
 
     /**
@@ -1180,19 +1249,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest,
             final AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
+        return withAsyncHandler(applySecurityGroupsToLoadBalancerComposableAsync(applySecurityGroupsToLoadBalancerRequest),
+                applySecurityGroupsToLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ApplySecurityGroupsToLoadBalancer
+     * operation like
+     * {@link #applySecurityGroupsToLoadBalancerAsync(ApplySecurityGroupsToLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param applySecurityGroupsToLoadBalancerRequest Container for the
+     *           necessary parameters to execute the ApplySecurityGroupsToLoadBalancer
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         ApplySecurityGroupsToLoadBalancer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerComposableAsync(final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
             public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-              ApplySecurityGroupsToLoadBalancerResult result;
-                try {
-                result = applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(applySecurityGroupsToLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
+            }
+        }, applySecurityGroupsToLoadBalancerRequest,
+                new ApplySecurityGroupsToLoadBalancerRequestMarshaller(), new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -1226,11 +1308,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-        }
-    });
+        return describeLoadBalancerPoliciesComposableAsync(describeLoadBalancerPoliciesRequest);
     }
 
     /**
@@ -1270,19 +1348,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest,
             final AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
+        return withAsyncHandler(describeLoadBalancerPoliciesComposableAsync(describeLoadBalancerPoliciesRequest),
+                describeLoadBalancerPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoadBalancerPolicies operation
+     * like
+     * {@link #describeLoadBalancerPoliciesAsync(DescribeLoadBalancerPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoadBalancerPoliciesRequest Container for the necessary
+     *           parameters to execute the DescribeLoadBalancerPolicies operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoadBalancerPolicies service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesComposableAsync(final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoadBalancerPoliciesResult>() {
             public DescribeLoadBalancerPoliciesResult call() throws Exception {
-              DescribeLoadBalancerPoliciesResult result;
-                try {
-                result = describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
+            }
+        }, describeLoadBalancerPoliciesRequest,
+                new DescribeLoadBalancerPoliciesRequestMarshaller(), new DescribeLoadBalancerPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -1310,11 +1401,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-        }
-    });
+        return setLoadBalancerPoliciesOfListenerComposableAsync(setLoadBalancerPoliciesOfListenerRequest);
     }
 
     /**
@@ -1348,19 +1435,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
+        return withAsyncHandler(setLoadBalancerPoliciesOfListenerComposableAsync(setLoadBalancerPoliciesOfListenerRequest),
+                setLoadBalancerPoliciesOfListenerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetLoadBalancerPoliciesOfListener
+     * operation like
+     * {@link #setLoadBalancerPoliciesOfListenerAsync(SetLoadBalancerPoliciesOfListenerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setLoadBalancerPoliciesOfListenerRequest Container for the
+     *           necessary parameters to execute the SetLoadBalancerPoliciesOfListener
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         SetLoadBalancerPoliciesOfListener service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerComposableAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) {
+        return executeAsync(executorService, new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
             public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-              SetLoadBalancerPoliciesOfListenerResult result;
-                try {
-                result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerPoliciesOfListenerRequest, result);
-                 return result;
-        }
-    });
+                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
+            }
+        }, setLoadBalancerPoliciesOfListenerRequest,
+                new SetLoadBalancerPoliciesOfListenerRequestMarshaller(), new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller());
     }
     
     /**
@@ -1404,11 +1504,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-            public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-        }
-    });
+        return disableAvailabilityZonesForLoadBalancerComposableAsync(disableAvailabilityZonesForLoadBalancerRequest);
     }
 
     /**
@@ -1458,19 +1554,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
+        return withAsyncHandler(disableAvailabilityZonesForLoadBalancerComposableAsync(disableAvailabilityZonesForLoadBalancerRequest),
+                disableAvailabilityZonesForLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableAvailabilityZonesForLoadBalancer
+     * operation like
+     * {@link #disableAvailabilityZonesForLoadBalancerAsync(DisableAvailabilityZonesForLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableAvailabilityZonesForLoadBalancerRequest Container for
+     *           the necessary parameters to execute the
+     *           DisableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DisableAvailabilityZonesForLoadBalancer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerComposableAsync(final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
             public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-              DisableAvailabilityZonesForLoadBalancerResult result;
-                try {
-                result = disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableAvailabilityZonesForLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
+            }
+        }, disableAvailabilityZonesForLoadBalancerRequest,
+                new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(), new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -1503,11 +1613,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(final DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                return describeInstanceHealth(describeInstanceHealthRequest);
-        }
-    });
+        return describeInstanceHealthComposableAsync(describeInstanceHealthRequest);
     }
 
     /**
@@ -1546,19 +1652,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeInstanceHealthRequest describeInstanceHealthRequest,
             final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
+        return withAsyncHandler(describeInstanceHealthComposableAsync(describeInstanceHealthRequest),
+                describeInstanceHealthRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInstanceHealth operation like
+     * {@link #describeInstanceHealthAsync(DescribeInstanceHealthRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeInstanceHealthRequest Container for the necessary
+     *           parameters to execute the DescribeInstanceHealth operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInstanceHealth service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeInstanceHealthResult> describeInstanceHealthComposableAsync(final DescribeInstanceHealthRequest describeInstanceHealthRequest) {
+        return executeAsync(executorService, new Callable<DescribeInstanceHealthResult>() {
             public DescribeInstanceHealthResult call() throws Exception {
-              DescribeInstanceHealthResult result;
-                try {
-                result = describeInstanceHealth(describeInstanceHealthRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceHealthRequest, result);
-                 return result;
-        }
-    });
+                return describeInstanceHealth(describeInstanceHealthRequest);
+            }
+        }, describeInstanceHealthRequest,
+                new DescribeInstanceHealthRequestMarshaller(), new DescribeInstanceHealthResultStaxUnmarshaller());
     }
     
     /**
@@ -1586,11 +1704,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-        }
-    });
+        return deleteLoadBalancerPolicyComposableAsync(deleteLoadBalancerPolicyRequest);
     }
 
     /**
@@ -1624,19 +1738,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
             final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
+        return withAsyncHandler(deleteLoadBalancerPolicyComposableAsync(deleteLoadBalancerPolicyRequest),
+                deleteLoadBalancerPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLoadBalancerPolicy operation like
+     * {@link #deleteLoadBalancerPolicyAsync(DeleteLoadBalancerPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLoadBalancerPolicyRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancerPolicy operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLoadBalancerPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyComposableAsync(final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) {
+        return executeAsync(executorService, new Callable<DeleteLoadBalancerPolicyResult>() {
             public DeleteLoadBalancerPolicyResult call() throws Exception {
-              DeleteLoadBalancerPolicyResult result;
-                try {
-                result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerPolicyRequest, result);
-                 return result;
-        }
-    });
+                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
+            }
+        }, deleteLoadBalancerPolicyRequest,
+                new DeleteLoadBalancerPolicyRequestMarshaller(), new DeleteLoadBalancerPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -1662,11 +1788,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return describeTagsComposableAsync(describeTagsRequest);
     }
 
     /**
@@ -1698,19 +1820,28 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return withAsyncHandler(describeTagsComposableAsync(describeTagsRequest),
+                describeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTags operation like
+     * {@link #describeTagsAsync(DescribeTagsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the DescribeTags
+     *         service method, as returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeTagsResult> describeTagsComposableAsync(final DescribeTagsRequest describeTagsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+                return describeTags(describeTagsRequest);
+            }
+        }, describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -1740,11 +1871,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-        }
-    });
+        return createLoadBalancerPolicyComposableAsync(createLoadBalancerPolicyRequest);
     }
 
     /**
@@ -1780,19 +1907,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest,
             final AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
+        return withAsyncHandler(createLoadBalancerPolicyComposableAsync(createLoadBalancerPolicyRequest),
+                createLoadBalancerPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLoadBalancerPolicy operation like
+     * {@link #createLoadBalancerPolicyAsync(CreateLoadBalancerPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLoadBalancerPolicyRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancerPolicy operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         CreateLoadBalancerPolicy service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyComposableAsync(final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest) {
+        return executeAsync(executorService, new Callable<CreateLoadBalancerPolicyResult>() {
             public CreateLoadBalancerPolicyResult call() throws Exception {
-              CreateLoadBalancerPolicyResult result;
-                try {
-                result = createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerPolicyRequest, result);
-                 return result;
-        }
-    });
+                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
+            }
+        }, createLoadBalancerPolicyRequest,
+                new CreateLoadBalancerPolicyRequestMarshaller(), new CreateLoadBalancerPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -1817,11 +1956,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                return removeTags(removeTagsRequest);
-        }
-    });
+        return removeTagsComposableAsync(removeTagsRequest);
     }
 
     /**
@@ -1852,19 +1987,28 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RemoveTagsRequest removeTagsRequest,
             final AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
+        return withAsyncHandler(removeTagsComposableAsync(removeTagsRequest),
+                removeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveTags operation like
+     * {@link #removeTagsAsync(RemoveTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param removeTagsRequest Container for the necessary parameters to
+     *           execute the RemoveTags operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the RemoveTags
+     *         service method, as returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<RemoveTagsResult> removeTagsComposableAsync(final RemoveTagsRequest removeTagsRequest) {
+        return executeAsync(executorService, new Callable<RemoveTagsResult>() {
             public RemoveTagsResult call() throws Exception {
-              RemoveTagsResult result;
-                try {
-                result = removeTags(removeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsRequest, result);
-                 return result;
-        }
-    });
+                return removeTags(removeTagsRequest);
+            }
+        }, removeTagsRequest,
+                new RemoveTagsRequestMarshaller(), new RemoveTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -1906,11 +2050,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-        }
-    });
+        return enableAvailabilityZonesForLoadBalancerComposableAsync(enableAvailabilityZonesForLoadBalancerRequest);
     }
 
     /**
@@ -1958,19 +2098,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
+        return withAsyncHandler(enableAvailabilityZonesForLoadBalancerComposableAsync(enableAvailabilityZonesForLoadBalancerRequest),
+                enableAvailabilityZonesForLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableAvailabilityZonesForLoadBalancer
+     * operation like
+     * {@link #enableAvailabilityZonesForLoadBalancerAsync(EnableAvailabilityZonesForLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableAvailabilityZonesForLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           EnableAvailabilityZonesForLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         EnableAvailabilityZonesForLoadBalancer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerComposableAsync(final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
             public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-              EnableAvailabilityZonesForLoadBalancerResult result;
-                try {
-                result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableAvailabilityZonesForLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
+            }
+        }, enableAvailabilityZonesForLoadBalancerRequest,
+                new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(), new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -2013,12 +2167,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerAsync(final DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancer(deleteLoadBalancerRequest);
-                return null;
-        }
-    });
+        return deleteLoadBalancerComposableAsync(deleteLoadBalancerRequest);
     }
 
     /**
@@ -2067,18 +2216,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
             final AsyncHandler<DeleteLoadBalancerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLoadBalancerComposableAsync(deleteLoadBalancerRequest),
+                deleteLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLoadBalancer operation like
+     * {@link #deleteLoadBalancerAsync(DeleteLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLoadBalancerRequest Container for the necessary
+     *           parameters to execute the DeleteLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<Void> deleteLoadBalancerComposableAsync(final DeleteLoadBalancerRequest deleteLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLoadBalancer(deleteLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoadBalancerRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLoadBalancerRequest,
+                new DeleteLoadBalancerRequestMarshaller(), null);
     }
     
     /**
@@ -2151,11 +2314,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
-        }
-    });
+        return createLoadBalancerComposableAsync(createLoadBalancerRequest);
     }
 
     /**
@@ -2234,19 +2393,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLoadBalancerRequest createLoadBalancerRequest,
             final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
+        return withAsyncHandler(createLoadBalancerComposableAsync(createLoadBalancerRequest),
+                createLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLoadBalancer operation like
+     * {@link #createLoadBalancerAsync(CreateLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLoadBalancerRequest Container for the necessary
+     *           parameters to execute the CreateLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         CreateLoadBalancer service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<CreateLoadBalancerResult> createLoadBalancerComposableAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<CreateLoadBalancerResult>() {
             public CreateLoadBalancerResult call() throws Exception {
-              CreateLoadBalancerResult result;
-                try {
-                result = createLoadBalancer(createLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return createLoadBalancer(createLoadBalancerRequest);
+            }
+        }, createLoadBalancerRequest,
+                new CreateLoadBalancerRequestMarshaller(), new CreateLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -2290,11 +2461,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-            public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-                return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-        }
-    });
+        return setLoadBalancerPoliciesForBackendServerComposableAsync(setLoadBalancerPoliciesForBackendServerRequest);
     }
 
     /**
@@ -2344,19 +2511,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
+        return withAsyncHandler(setLoadBalancerPoliciesForBackendServerComposableAsync(setLoadBalancerPoliciesForBackendServerRequest),
+                setLoadBalancerPoliciesForBackendServerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetLoadBalancerPoliciesForBackendServer
+     * operation like
+     * {@link #setLoadBalancerPoliciesForBackendServerAsync(SetLoadBalancerPoliciesForBackendServerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setLoadBalancerPoliciesForBackendServerRequest Container for
+     *           the necessary parameters to execute the
+     *           SetLoadBalancerPoliciesForBackendServer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         SetLoadBalancerPoliciesForBackendServer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerComposableAsync(final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest) {
+        return executeAsync(executorService, new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
             public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-              SetLoadBalancerPoliciesForBackendServerResult result;
-                try {
-                result = setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerPoliciesForBackendServerRequest, result);
-                 return result;
-        }
-    });
+                return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
+            }
+        }, setLoadBalancerPoliciesForBackendServerRequest,
+                new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(), new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller());
     }
     
     /**
@@ -2398,11 +2579,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-        }
-    });
+        return deregisterInstancesFromLoadBalancerComposableAsync(deregisterInstancesFromLoadBalancerRequest);
     }
 
     /**
@@ -2450,19 +2627,33 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
             final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
+        return withAsyncHandler(deregisterInstancesFromLoadBalancerComposableAsync(deregisterInstancesFromLoadBalancerRequest),
+                deregisterInstancesFromLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterInstancesFromLoadBalancer
+     * operation like
+     * {@link #deregisterInstancesFromLoadBalancerAsync(DeregisterInstancesFromLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterInstancesFromLoadBalancerRequest Container for the
+     *           necessary parameters to execute the
+     *           DeregisterInstancesFromLoadBalancer operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterInstancesFromLoadBalancer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerComposableAsync(final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<DeregisterInstancesFromLoadBalancerResult>() {
             public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-              DeregisterInstancesFromLoadBalancerResult result;
-                try {
-                result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterInstancesFromLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
+            }
+        }, deregisterInstancesFromLoadBalancerRequest,
+                new DeregisterInstancesFromLoadBalancerRequestMarshaller(), new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -2497,12 +2688,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> setLoadBalancerListenerSSLCertificateAsync(final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-                return null;
-        }
-    });
+        return setLoadBalancerListenerSSLCertificateComposableAsync(setLoadBalancerListenerSSLCertificateRequest);
     }
 
     /**
@@ -2543,18 +2729,34 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
             final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setLoadBalancerListenerSSLCertificateComposableAsync(setLoadBalancerListenerSSLCertificateRequest),
+                setLoadBalancerListenerSSLCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetLoadBalancerListenerSSLCertificate
+     * operation like
+     * {@link #setLoadBalancerListenerSSLCertificateAsync(SetLoadBalancerListenerSSLCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setLoadBalancerListenerSSLCertificateRequest Container for the
+     *           necessary parameters to execute the
+     *           SetLoadBalancerListenerSSLCertificate operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         SetLoadBalancerListenerSSLCertificate service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<Void> setLoadBalancerListenerSSLCertificateComposableAsync(final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBalancerListenerSSLCertificateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setLoadBalancerListenerSSLCertificateRequest,
+                new SetLoadBalancerListenerSSLCertificateRequestMarshaller(), null);
     }
     
     /**
@@ -2582,11 +2784,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-        }
-    });
+        return describeLoadBalancerAttributesComposableAsync(describeLoadBalancerAttributesRequest);
     }
 
     /**
@@ -2620,19 +2818,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest,
             final AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
+        return withAsyncHandler(describeLoadBalancerAttributesComposableAsync(describeLoadBalancerAttributesRequest),
+                describeLoadBalancerAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoadBalancerAttributes operation
+     * like
+     * {@link #describeLoadBalancerAttributesAsync(DescribeLoadBalancerAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoadBalancerAttributesRequest Container for the
+     *           necessary parameters to execute the DescribeLoadBalancerAttributes
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoadBalancerAttributes service method, as returned
+     *         by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesComposableAsync(final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoadBalancerAttributesResult>() {
             public DescribeLoadBalancerAttributesResult call() throws Exception {
-              DescribeLoadBalancerAttributesResult result;
-                try {
-                result = describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancerAttributesRequest, result);
-                 return result;
-        }
-    });
+                return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
+            }
+        }, describeLoadBalancerAttributesRequest,
+                new DescribeLoadBalancerAttributesRequestMarshaller(), new DescribeLoadBalancerAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -2682,11 +2893,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-        }
-    });
+        return createLBCookieStickinessPolicyComposableAsync(createLBCookieStickinessPolicyRequest);
     }
 
     /**
@@ -2742,19 +2949,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
             final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
+        return withAsyncHandler(createLBCookieStickinessPolicyComposableAsync(createLBCookieStickinessPolicyRequest),
+                createLBCookieStickinessPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLBCookieStickinessPolicy operation
+     * like
+     * {@link #createLBCookieStickinessPolicyAsync(CreateLBCookieStickinessPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLBCookieStickinessPolicyRequest Container for the
+     *           necessary parameters to execute the CreateLBCookieStickinessPolicy
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         CreateLBCookieStickinessPolicy service method, as returned
+     *         by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyComposableAsync(final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) {
+        return executeAsync(executorService, new Callable<CreateLBCookieStickinessPolicyResult>() {
             public CreateLBCookieStickinessPolicyResult call() throws Exception {
-              CreateLBCookieStickinessPolicyResult result;
-                try {
-                result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLBCookieStickinessPolicyRequest, result);
-                 return result;
-        }
-    });
+                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
+            }
+        }, createLBCookieStickinessPolicyRequest,
+                new CreateLBCookieStickinessPolicyRequestMarshaller(), new CreateLBCookieStickinessPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -2788,11 +3008,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-        }
-    });
+        return attachLoadBalancerToSubnetsComposableAsync(attachLoadBalancerToSubnetsRequest);
     }
 
     /**
@@ -2832,19 +3048,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest,
             final AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
+        return withAsyncHandler(attachLoadBalancerToSubnetsComposableAsync(attachLoadBalancerToSubnetsRequest),
+                attachLoadBalancerToSubnetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachLoadBalancerToSubnets operation
+     * like
+     * {@link #attachLoadBalancerToSubnetsAsync(AttachLoadBalancerToSubnetsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param attachLoadBalancerToSubnetsRequest Container for the necessary
+     *           parameters to execute the AttachLoadBalancerToSubnets operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         AttachLoadBalancerToSubnets service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsComposableAsync(final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest) {
+        return executeAsync(executorService, new Callable<AttachLoadBalancerToSubnetsResult>() {
             public AttachLoadBalancerToSubnetsResult call() throws Exception {
-              AttachLoadBalancerToSubnetsResult result;
-                try {
-                result = attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachLoadBalancerToSubnetsRequest, result);
-                 return result;
-        }
-    });
+                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
+            }
+        }, attachLoadBalancerToSubnetsRequest,
+                new AttachLoadBalancerToSubnetsRequestMarshaller(), new AttachLoadBalancerToSubnetsResultStaxUnmarshaller());
     }
     
     /**
@@ -2907,11 +3136,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-        }
-    });
+        return registerInstancesWithLoadBalancerComposableAsync(registerInstancesWithLoadBalancerRequest);
     }
 
     /**
@@ -2980,19 +3205,32 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
             final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
+        return withAsyncHandler(registerInstancesWithLoadBalancerComposableAsync(registerInstancesWithLoadBalancerRequest),
+                registerInstancesWithLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterInstancesWithLoadBalancer
+     * operation like
+     * {@link #registerInstancesWithLoadBalancerAsync(RegisterInstancesWithLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerInstancesWithLoadBalancerRequest Container for the
+     *           necessary parameters to execute the RegisterInstancesWithLoadBalancer
+     *           operation on AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         RegisterInstancesWithLoadBalancer service method, as
+     *         returned by AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerComposableAsync(final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<RegisterInstancesWithLoadBalancerResult>() {
             public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-              RegisterInstancesWithLoadBalancerResult result;
-                try {
-                result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerInstancesWithLoadBalancerRequest, result);
-                 return result;
-        }
-    });
+                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
+            }
+        }, registerInstancesWithLoadBalancerRequest,
+                new RegisterInstancesWithLoadBalancerRequestMarshaller(), new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller());
     }
     
     /**
@@ -3027,11 +3265,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-        }
-    });
+        return describeLoadBalancersComposableAsync(describeLoadBalancersRequest);
     }
 
     /**
@@ -3072,19 +3306,31 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
+        return withAsyncHandler(describeLoadBalancersComposableAsync(describeLoadBalancersRequest),
+                describeLoadBalancersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoadBalancers operation like
+     * {@link #describeLoadBalancersAsync(DescribeLoadBalancersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoadBalancersRequest Container for the necessary
+     *           parameters to execute the DescribeLoadBalancers operation on
+     *           AmazonElasticLoadBalancing.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoadBalancers service method, as returned by
+     *         AmazonElasticLoadBalancing.
+     */
+    public ComposableFuture<DescribeLoadBalancersResult> describeLoadBalancersComposableAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoadBalancersResult>() {
             public DescribeLoadBalancersResult call() throws Exception {
-              DescribeLoadBalancersResult result;
-                try {
-                result = describeLoadBalancers(describeLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+                return describeLoadBalancers(describeLoadBalancersRequest);
+            }
+        }, describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(), new DescribeLoadBalancersResultStaxUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.elastictranscoder.model.*;
+import com.amazonaws.services.elastictranscoder.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonElasticTranscoder.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Elastic Transcoder Service <p>
  * The AWS Elastic Transcoder Service.
  * </p>
@@ -302,11 +306,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<UpdatePipelineStatusResult> updatePipelineStatusAsync(final UpdatePipelineStatusRequest updatePipelineStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineStatusResult>() {
-            public UpdatePipelineStatusResult call() throws Exception {
-                return updatePipelineStatus(updatePipelineStatusRequest);
-        }
-    });
+        return updatePipelineStatusComposableAsync(updatePipelineStatusRequest);
     }
 
     /**
@@ -347,19 +347,31 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final UpdatePipelineStatusRequest updatePipelineStatusRequest,
             final AsyncHandler<UpdatePipelineStatusRequest, UpdatePipelineStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineStatusResult>() {
+        return withAsyncHandler(updatePipelineStatusComposableAsync(updatePipelineStatusRequest),
+                updatePipelineStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdatePipelineStatus operation like
+     * {@link #updatePipelineStatusAsync(UpdatePipelineStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updatePipelineStatusRequest Container for the necessary
+     *           parameters to execute the UpdatePipelineStatus operation on
+     *           AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the
+     *         UpdatePipelineStatus service method, as returned by
+     *         AmazonElasticTranscoder.
+     */
+    public ComposableFuture<UpdatePipelineStatusResult> updatePipelineStatusComposableAsync(final UpdatePipelineStatusRequest updatePipelineStatusRequest) {
+        return executeAsync(executorService, new Callable<UpdatePipelineStatusResult>() {
             public UpdatePipelineStatusResult call() throws Exception {
-              UpdatePipelineStatusResult result;
-                try {
-                result = updatePipelineStatus(updatePipelineStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updatePipelineStatusRequest, result);
-                 return result;
-        }
-    });
+                return updatePipelineStatus(updatePipelineStatusRequest);
+            }
+        }, updatePipelineStatusRequest,
+                new UpdatePipelineStatusRequestMarshaller(), new UpdatePipelineStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -391,11 +403,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<UpdatePipelineNotificationsResult> updatePipelineNotificationsAsync(final UpdatePipelineNotificationsRequest updatePipelineNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineNotificationsResult>() {
-            public UpdatePipelineNotificationsResult call() throws Exception {
-                return updatePipelineNotifications(updatePipelineNotificationsRequest);
-        }
-    });
+        return updatePipelineNotificationsComposableAsync(updatePipelineNotificationsRequest);
     }
 
     /**
@@ -433,19 +441,32 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final UpdatePipelineNotificationsRequest updatePipelineNotificationsRequest,
             final AsyncHandler<UpdatePipelineNotificationsRequest, UpdatePipelineNotificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineNotificationsResult>() {
+        return withAsyncHandler(updatePipelineNotificationsComposableAsync(updatePipelineNotificationsRequest),
+                updatePipelineNotificationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdatePipelineNotifications operation
+     * like
+     * {@link #updatePipelineNotificationsAsync(UpdatePipelineNotificationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updatePipelineNotificationsRequest Container for the necessary
+     *           parameters to execute the UpdatePipelineNotifications operation on
+     *           AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the
+     *         UpdatePipelineNotifications service method, as returned by
+     *         AmazonElasticTranscoder.
+     */
+    public ComposableFuture<UpdatePipelineNotificationsResult> updatePipelineNotificationsComposableAsync(final UpdatePipelineNotificationsRequest updatePipelineNotificationsRequest) {
+        return executeAsync(executorService, new Callable<UpdatePipelineNotificationsResult>() {
             public UpdatePipelineNotificationsResult call() throws Exception {
-              UpdatePipelineNotificationsResult result;
-                try {
-                result = updatePipelineNotifications(updatePipelineNotificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updatePipelineNotificationsRequest, result);
-                 return result;
-        }
-    });
+                return updatePipelineNotifications(updatePipelineNotificationsRequest);
+            }
+        }, updatePipelineNotificationsRequest,
+                new UpdatePipelineNotificationsRequestMarshaller(), new UpdatePipelineNotificationsResultJsonUnmarshaller());
     }
     
     /**
@@ -470,11 +491,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadJobResult> readJobAsync(final ReadJobRequest readJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadJobResult>() {
-            public ReadJobResult call() throws Exception {
-                return readJob(readJobRequest);
-        }
-    });
+        return readJobComposableAsync(readJobRequest);
     }
 
     /**
@@ -505,19 +522,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadJobRequest readJobRequest,
             final AsyncHandler<ReadJobRequest, ReadJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadJobResult>() {
+        return withAsyncHandler(readJobComposableAsync(readJobRequest),
+                readJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReadJob operation like
+     * {@link #readJobAsync(ReadJobRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param readJobRequest Container for the necessary parameters to
+     *           execute the ReadJob operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the ReadJob
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ReadJobResult> readJobComposableAsync(final ReadJobRequest readJobRequest) {
+        return executeAsync(executorService, new Callable<ReadJobResult>() {
             public ReadJobResult call() throws Exception {
-              ReadJobResult result;
-                try {
-                result = readJob(readJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(readJobRequest, result);
-                 return result;
-        }
-    });
+                return readJob(readJobRequest);
+            }
+        }, readJobRequest,
+                new ReadJobRequestMarshaller(), new ReadJobResultJsonUnmarshaller());
     }
     
     /**
@@ -545,11 +571,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListJobsByStatusResult> listJobsByStatusAsync(final ListJobsByStatusRequest listJobsByStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByStatusResult>() {
-            public ListJobsByStatusResult call() throws Exception {
-                return listJobsByStatus(listJobsByStatusRequest);
-        }
-    });
+        return listJobsByStatusComposableAsync(listJobsByStatusRequest);
     }
 
     /**
@@ -583,19 +605,29 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListJobsByStatusRequest listJobsByStatusRequest,
             final AsyncHandler<ListJobsByStatusRequest, ListJobsByStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByStatusResult>() {
+        return withAsyncHandler(listJobsByStatusComposableAsync(listJobsByStatusRequest),
+                listJobsByStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListJobsByStatus operation like
+     * {@link #listJobsByStatusAsync(ListJobsByStatusRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listJobsByStatusRequest Container for the necessary parameters
+     *           to execute the ListJobsByStatus operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the
+     *         ListJobsByStatus service method, as returned by
+     *         AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ListJobsByStatusResult> listJobsByStatusComposableAsync(final ListJobsByStatusRequest listJobsByStatusRequest) {
+        return executeAsync(executorService, new Callable<ListJobsByStatusResult>() {
             public ListJobsByStatusResult call() throws Exception {
-              ListJobsByStatusResult result;
-                try {
-                result = listJobsByStatus(listJobsByStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listJobsByStatusRequest, result);
-                 return result;
-        }
-    });
+                return listJobsByStatus(listJobsByStatusRequest);
+            }
+        }, listJobsByStatusRequest,
+                new ListJobsByStatusRequestMarshaller(), new ListJobsByStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -620,11 +652,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadPresetResult> readPresetAsync(final ReadPresetRequest readPresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPresetResult>() {
-            public ReadPresetResult call() throws Exception {
-                return readPreset(readPresetRequest);
-        }
-    });
+        return readPresetComposableAsync(readPresetRequest);
     }
 
     /**
@@ -655,19 +683,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadPresetRequest readPresetRequest,
             final AsyncHandler<ReadPresetRequest, ReadPresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPresetResult>() {
+        return withAsyncHandler(readPresetComposableAsync(readPresetRequest),
+                readPresetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReadPreset operation like
+     * {@link #readPresetAsync(ReadPresetRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param readPresetRequest Container for the necessary parameters to
+     *           execute the ReadPreset operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the ReadPreset
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ReadPresetResult> readPresetComposableAsync(final ReadPresetRequest readPresetRequest) {
+        return executeAsync(executorService, new Callable<ReadPresetResult>() {
             public ReadPresetResult call() throws Exception {
-              ReadPresetResult result;
-                try {
-                result = readPreset(readPresetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(readPresetRequest, result);
-                 return result;
-        }
-    });
+                return readPreset(readPresetRequest);
+            }
+        }, readPresetRequest,
+                new ReadPresetRequestMarshaller(), new ReadPresetResultJsonUnmarshaller());
     }
     
     /**
@@ -693,11 +730,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreatePipelineResult> createPipelineAsync(final CreatePipelineRequest createPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
-            public CreatePipelineResult call() throws Exception {
-                return createPipeline(createPipelineRequest);
-        }
-    });
+        return createPipelineComposableAsync(createPipelineRequest);
     }
 
     /**
@@ -729,19 +762,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreatePipelineRequest createPipelineRequest,
             final AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePipelineResult>() {
+        return withAsyncHandler(createPipelineComposableAsync(createPipelineRequest),
+                createPipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePipeline operation like
+     * {@link #createPipelineAsync(CreatePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createPipelineRequest Container for the necessary parameters to
+     *           execute the CreatePipeline operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the CreatePipeline
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<CreatePipelineResult> createPipelineComposableAsync(final CreatePipelineRequest createPipelineRequest) {
+        return executeAsync(executorService, new Callable<CreatePipelineResult>() {
             public CreatePipelineResult call() throws Exception {
-              CreatePipelineResult result;
-                try {
-                result = createPipeline(createPipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPipelineRequest, result);
-                 return result;
-        }
-    });
+                return createPipeline(createPipelineRequest);
+            }
+        }, createPipelineRequest,
+                new CreatePipelineRequestMarshaller(), new CreatePipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -772,11 +814,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CancelJobResult> cancelJobAsync(final CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
-            public CancelJobResult call() throws Exception {
-                return cancelJob(cancelJobRequest);
-        }
-    });
+        return cancelJobComposableAsync(cancelJobRequest);
     }
 
     /**
@@ -813,19 +851,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CancelJobRequest cancelJobRequest,
             final AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return withAsyncHandler(cancelJobComposableAsync(cancelJobRequest),
+                cancelJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelJob operation like
+     * {@link #cancelJobAsync(CancelJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param cancelJobRequest Container for the necessary parameters to
+     *           execute the CancelJob operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the CancelJob
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<CancelJobResult> cancelJobComposableAsync(final CancelJobRequest cancelJobRequest) {
+        return executeAsync(executorService, new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
-              CancelJobResult result;
-                try {
-                result = cancelJob(cancelJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelJobRequest, result);
-                 return result;
-        }
-    });
+                return cancelJob(cancelJobRequest);
+            }
+        }, cancelJobRequest,
+                new CancelJobRequestMarshaller(), new CancelJobResultJsonUnmarshaller());
     }
     
     /**
@@ -857,11 +904,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<UpdatePipelineResult> updatePipelineAsync(final UpdatePipelineRequest updatePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineResult>() {
-            public UpdatePipelineResult call() throws Exception {
-                return updatePipeline(updatePipelineRequest);
-        }
-    });
+        return updatePipelineComposableAsync(updatePipelineRequest);
     }
 
     /**
@@ -899,19 +942,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final UpdatePipelineRequest updatePipelineRequest,
             final AsyncHandler<UpdatePipelineRequest, UpdatePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdatePipelineResult>() {
+        return withAsyncHandler(updatePipelineComposableAsync(updatePipelineRequest),
+                updatePipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdatePipeline operation like
+     * {@link #updatePipelineAsync(UpdatePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param updatePipelineRequest Container for the necessary parameters to
+     *           execute the UpdatePipeline operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the UpdatePipeline
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<UpdatePipelineResult> updatePipelineComposableAsync(final UpdatePipelineRequest updatePipelineRequest) {
+        return executeAsync(executorService, new Callable<UpdatePipelineResult>() {
             public UpdatePipelineResult call() throws Exception {
-              UpdatePipelineResult result;
-                try {
-                result = updatePipeline(updatePipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updatePipelineRequest, result);
-                 return result;
-        }
-    });
+                return updatePipeline(updatePipelineRequest);
+            }
+        }, updatePipelineRequest,
+                new UpdatePipelineRequestMarshaller(), new UpdatePipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -938,11 +990,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListPresetsResult> listPresetsAsync(final ListPresetsRequest listPresetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPresetsResult>() {
-            public ListPresetsResult call() throws Exception {
-                return listPresets(listPresetsRequest);
-        }
-    });
+        return listPresetsComposableAsync(listPresetsRequest);
     }
 
     /**
@@ -975,19 +1023,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListPresetsRequest listPresetsRequest,
             final AsyncHandler<ListPresetsRequest, ListPresetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPresetsResult>() {
+        return withAsyncHandler(listPresetsComposableAsync(listPresetsRequest),
+                listPresetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPresets operation like
+     * {@link #listPresetsAsync(ListPresetsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listPresetsRequest Container for the necessary parameters to
+     *           execute the ListPresets operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the ListPresets
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ListPresetsResult> listPresetsComposableAsync(final ListPresetsRequest listPresetsRequest) {
+        return executeAsync(executorService, new Callable<ListPresetsResult>() {
             public ListPresetsResult call() throws Exception {
-              ListPresetsResult result;
-                try {
-                result = listPresets(listPresetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPresetsRequest, result);
-                 return result;
-        }
-    });
+                return listPresets(listPresetsRequest);
+            }
+        }, listPresetsRequest,
+                new ListPresetsRequestMarshaller(), new ListPresetsResultJsonUnmarshaller());
     }
     
     /**
@@ -1018,11 +1075,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<DeletePipelineResult> deletePipelineAsync(final DeletePipelineRequest deletePipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePipelineResult>() {
-            public DeletePipelineResult call() throws Exception {
-                return deletePipeline(deletePipelineRequest);
-        }
-    });
+        return deletePipelineComposableAsync(deletePipelineRequest);
     }
 
     /**
@@ -1059,19 +1112,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final DeletePipelineRequest deletePipelineRequest,
             final AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePipelineResult>() {
+        return withAsyncHandler(deletePipelineComposableAsync(deletePipelineRequest),
+                deletePipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePipeline operation like
+     * {@link #deletePipelineAsync(DeletePipelineRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deletePipelineRequest Container for the necessary parameters to
+     *           execute the DeletePipeline operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the DeletePipeline
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<DeletePipelineResult> deletePipelineComposableAsync(final DeletePipelineRequest deletePipelineRequest) {
+        return executeAsync(executorService, new Callable<DeletePipelineResult>() {
             public DeletePipelineResult call() throws Exception {
-              DeletePipelineResult result;
-                try {
-                result = deletePipeline(deletePipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePipelineRequest, result);
-                 return result;
-        }
-    });
+                return deletePipeline(deletePipelineRequest);
+            }
+        }, deletePipelineRequest,
+                new DeletePipelineRequestMarshaller(), new DeletePipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -1105,11 +1167,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<TestRoleResult> testRoleAsync(final TestRoleRequest testRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRoleResult>() {
-            public TestRoleResult call() throws Exception {
-                return testRole(testRoleRequest);
-        }
-    });
+        return testRoleComposableAsync(testRoleRequest);
     }
 
     /**
@@ -1149,19 +1207,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final TestRoleRequest testRoleRequest,
             final AsyncHandler<TestRoleRequest, TestRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRoleResult>() {
+        return withAsyncHandler(testRoleComposableAsync(testRoleRequest),
+                testRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TestRole operation like
+     * {@link #testRoleAsync(TestRoleRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param testRoleRequest Container for the necessary parameters to
+     *           execute the TestRole operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the TestRole
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<TestRoleResult> testRoleComposableAsync(final TestRoleRequest testRoleRequest) {
+        return executeAsync(executorService, new Callable<TestRoleResult>() {
             public TestRoleResult call() throws Exception {
-              TestRoleResult result;
-                try {
-                result = testRole(testRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(testRoleRequest, result);
-                 return result;
-        }
-    });
+                return testRole(testRoleRequest);
+            }
+        }, testRoleRequest,
+                new TestRoleRequestMarshaller(), new TestRoleResultJsonUnmarshaller());
     }
     
     /**
@@ -1187,11 +1254,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListPipelinesResult> listPipelinesAsync(final ListPipelinesRequest listPipelinesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
-            public ListPipelinesResult call() throws Exception {
-                return listPipelines(listPipelinesRequest);
-        }
-    });
+        return listPipelinesComposableAsync(listPipelinesRequest);
     }
 
     /**
@@ -1223,19 +1286,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListPipelinesRequest listPipelinesRequest,
             final AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPipelinesResult>() {
+        return withAsyncHandler(listPipelinesComposableAsync(listPipelinesRequest),
+                listPipelinesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPipelines operation like
+     * {@link #listPipelinesAsync(ListPipelinesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listPipelinesRequest Container for the necessary parameters to
+     *           execute the ListPipelines operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the ListPipelines
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ListPipelinesResult> listPipelinesComposableAsync(final ListPipelinesRequest listPipelinesRequest) {
+        return executeAsync(executorService, new Callable<ListPipelinesResult>() {
             public ListPipelinesResult call() throws Exception {
-              ListPipelinesResult result;
-                try {
-                result = listPipelines(listPipelinesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPipelinesRequest, result);
-                 return result;
-        }
-    });
+                return listPipelines(listPipelinesRequest);
+            }
+        }, listPipelinesRequest,
+                new ListPipelinesRequestMarshaller(), new ListPipelinesResultJsonUnmarshaller());
     }
     
     /**
@@ -1261,11 +1333,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ReadPipelineResult> readPipelineAsync(final ReadPipelineRequest readPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPipelineResult>() {
-            public ReadPipelineResult call() throws Exception {
-                return readPipeline(readPipelineRequest);
-        }
-    });
+        return readPipelineComposableAsync(readPipelineRequest);
     }
 
     /**
@@ -1297,19 +1365,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ReadPipelineRequest readPipelineRequest,
             final AsyncHandler<ReadPipelineRequest, ReadPipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReadPipelineResult>() {
+        return withAsyncHandler(readPipelineComposableAsync(readPipelineRequest),
+                readPipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReadPipeline operation like
+     * {@link #readPipelineAsync(ReadPipelineRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param readPipelineRequest Container for the necessary parameters to
+     *           execute the ReadPipeline operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the ReadPipeline
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ReadPipelineResult> readPipelineComposableAsync(final ReadPipelineRequest readPipelineRequest) {
+        return executeAsync(executorService, new Callable<ReadPipelineResult>() {
             public ReadPipelineResult call() throws Exception {
-              ReadPipelineResult result;
-                try {
-                result = readPipeline(readPipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(readPipelineRequest, result);
-                 return result;
-        }
-    });
+                return readPipeline(readPipelineRequest);
+            }
+        }, readPipelineRequest,
+                new ReadPipelineRequestMarshaller(), new ReadPipelineResultJsonUnmarshaller());
     }
     
     /**
@@ -1354,11 +1431,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreatePresetResult> createPresetAsync(final CreatePresetRequest createPresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePresetResult>() {
-            public CreatePresetResult call() throws Exception {
-                return createPreset(createPresetRequest);
-        }
-    });
+        return createPresetComposableAsync(createPresetRequest);
     }
 
     /**
@@ -1409,19 +1482,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreatePresetRequest createPresetRequest,
             final AsyncHandler<CreatePresetRequest, CreatePresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePresetResult>() {
+        return withAsyncHandler(createPresetComposableAsync(createPresetRequest),
+                createPresetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePreset operation like
+     * {@link #createPresetAsync(CreatePresetRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createPresetRequest Container for the necessary parameters to
+     *           execute the CreatePreset operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the CreatePreset
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<CreatePresetResult> createPresetComposableAsync(final CreatePresetRequest createPresetRequest) {
+        return executeAsync(executorService, new Callable<CreatePresetResult>() {
             public CreatePresetResult call() throws Exception {
-              CreatePresetResult result;
-                try {
-                result = createPreset(createPresetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPresetRequest, result);
-                 return result;
-        }
-    });
+                return createPreset(createPresetRequest);
+            }
+        }, createPresetRequest,
+                new CreatePresetRequestMarshaller(), new CreatePresetResultJsonUnmarshaller());
     }
     
     /**
@@ -1451,11 +1533,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<DeletePresetResult> deletePresetAsync(final DeletePresetRequest deletePresetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePresetResult>() {
-            public DeletePresetResult call() throws Exception {
-                return deletePreset(deletePresetRequest);
-        }
-    });
+        return deletePresetComposableAsync(deletePresetRequest);
     }
 
     /**
@@ -1491,19 +1569,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final DeletePresetRequest deletePresetRequest,
             final AsyncHandler<DeletePresetRequest, DeletePresetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeletePresetResult>() {
+        return withAsyncHandler(deletePresetComposableAsync(deletePresetRequest),
+                deletePresetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePreset operation like
+     * {@link #deletePresetAsync(DeletePresetRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deletePresetRequest Container for the necessary parameters to
+     *           execute the DeletePreset operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the DeletePreset
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<DeletePresetResult> deletePresetComposableAsync(final DeletePresetRequest deletePresetRequest) {
+        return executeAsync(executorService, new Callable<DeletePresetResult>() {
             public DeletePresetResult call() throws Exception {
-              DeletePresetResult result;
-                try {
-                result = deletePreset(deletePresetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePresetRequest, result);
-                 return result;
-        }
-    });
+                return deletePreset(deletePresetRequest);
+            }
+        }, deletePresetRequest,
+                new DeletePresetRequestMarshaller(), new DeletePresetResultJsonUnmarshaller());
     }
     
     /**
@@ -1536,11 +1623,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<CreateJobResult> createJobAsync(final CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
-            public CreateJobResult call() throws Exception {
-                return createJob(createJobRequest);
-        }
-    });
+        return createJobComposableAsync(createJobRequest);
     }
 
     /**
@@ -1579,19 +1662,28 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final CreateJobRequest createJobRequest,
             final AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return withAsyncHandler(createJobComposableAsync(createJobRequest),
+                createJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateJob operation like
+     * {@link #createJobAsync(CreateJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createJobRequest Container for the necessary parameters to
+     *           execute the CreateJob operation on AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the CreateJob
+     *         service method, as returned by AmazonElasticTranscoder.
+     */
+    public ComposableFuture<CreateJobResult> createJobComposableAsync(final CreateJobRequest createJobRequest) {
+        return executeAsync(executorService, new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
-              CreateJobResult result;
-                try {
-                result = createJob(createJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createJobRequest, result);
-                 return result;
-        }
-    });
+                return createJob(createJobRequest);
+            }
+        }, createJobRequest,
+                new CreateJobRequestMarshaller(), new CreateJobResultJsonUnmarshaller());
     }
     
     /**
@@ -1624,11 +1716,7 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
      */
     public Future<ListJobsByPipelineResult> listJobsByPipelineAsync(final ListJobsByPipelineRequest listJobsByPipelineRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByPipelineResult>() {
-            public ListJobsByPipelineResult call() throws Exception {
-                return listJobsByPipeline(listJobsByPipelineRequest);
-        }
-    });
+        return listJobsByPipelineComposableAsync(listJobsByPipelineRequest);
     }
 
     /**
@@ -1667,19 +1755,31 @@ public class AmazonElasticTranscoderAsyncClient extends AmazonElasticTranscoderC
             final ListJobsByPipelineRequest listJobsByPipelineRequest,
             final AsyncHandler<ListJobsByPipelineRequest, ListJobsByPipelineResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsByPipelineResult>() {
+        return withAsyncHandler(listJobsByPipelineComposableAsync(listJobsByPipelineRequest),
+                listJobsByPipelineRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListJobsByPipeline operation like
+     * {@link #listJobsByPipelineAsync(ListJobsByPipelineRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listJobsByPipelineRequest Container for the necessary
+     *           parameters to execute the ListJobsByPipeline operation on
+     *           AmazonElasticTranscoder.
+     *
+     * @return A composable future for the response from the
+     *         ListJobsByPipeline service method, as returned by
+     *         AmazonElasticTranscoder.
+     */
+    public ComposableFuture<ListJobsByPipelineResult> listJobsByPipelineComposableAsync(final ListJobsByPipelineRequest listJobsByPipelineRequest) {
+        return executeAsync(executorService, new Callable<ListJobsByPipelineResult>() {
             public ListJobsByPipelineResult call() throws Exception {
-              ListJobsByPipelineResult result;
-                try {
-                result = listJobsByPipeline(listJobsByPipelineRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listJobsByPipelineRequest, result);
-                 return result;
-        }
-    });
+                return listJobsByPipeline(listJobsByPipelineRequest);
+            }
+        }, listJobsByPipelineRequest,
+                new ListJobsByPipelineRequestMarshaller(), new ListJobsByPipelineResultJsonUnmarshaller());
     }
     
 }
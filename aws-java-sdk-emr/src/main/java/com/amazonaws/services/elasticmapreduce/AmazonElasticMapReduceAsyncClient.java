@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.elasticmapreduce.model.*;
+import com.amazonaws.services.elasticmapreduce.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonElasticMapReduce.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * Amazon Elastic MapReduce (Amazon EMR) is a web service that makes it
  * easy to process large amounts of data efficiently. Amazon EMR uses
@@ -299,11 +303,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<ListBootstrapActionsResult> listBootstrapActionsAsync(final ListBootstrapActionsRequest listBootstrapActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBootstrapActionsResult>() {
-            public ListBootstrapActionsResult call() throws Exception {
-                return listBootstrapActions(listBootstrapActionsRequest);
-        }
-    });
+        return listBootstrapActionsComposableAsync(listBootstrapActionsRequest);
     }
 
     /**
@@ -337,19 +337,31 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ListBootstrapActionsRequest listBootstrapActionsRequest,
             final AsyncHandler<ListBootstrapActionsRequest, ListBootstrapActionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBootstrapActionsResult>() {
+        return withAsyncHandler(listBootstrapActionsComposableAsync(listBootstrapActionsRequest),
+                listBootstrapActionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListBootstrapActions operation like
+     * {@link #listBootstrapActionsAsync(ListBootstrapActionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listBootstrapActionsRequest Container for the necessary
+     *           parameters to execute the ListBootstrapActions operation on
+     *           AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         ListBootstrapActions service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<ListBootstrapActionsResult> listBootstrapActionsComposableAsync(final ListBootstrapActionsRequest listBootstrapActionsRequest) {
+        return executeAsync(executorService, new Callable<ListBootstrapActionsResult>() {
             public ListBootstrapActionsResult call() throws Exception {
-              ListBootstrapActionsResult result;
-                try {
-                result = listBootstrapActions(listBootstrapActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listBootstrapActionsRequest, result);
-                 return result;
-        }
-    });
+                return listBootstrapActions(listBootstrapActionsRequest);
+            }
+        }, listBootstrapActionsRequest,
+                new ListBootstrapActionsRequestMarshaller(), new ListBootstrapActionsResultJsonUnmarshaller());
     }
     
     /**
@@ -378,11 +390,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                return addTags(addTagsRequest);
-        }
-    });
+        return addTagsComposableAsync(addTagsRequest);
     }
 
     /**
@@ -417,19 +425,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final AddTagsRequest addTagsRequest,
             final AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
+        return withAsyncHandler(addTagsComposableAsync(addTagsRequest),
+                addTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddTags operation like
+     * {@link #addTagsAsync(AddTagsRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param addTagsRequest Container for the necessary parameters to
+     *           execute the AddTags operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the AddTags
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<AddTagsResult> addTagsComposableAsync(final AddTagsRequest addTagsRequest) {
+        return executeAsync(executorService, new Callable<AddTagsResult>() {
             public AddTagsResult call() throws Exception {
-              AddTagsResult result;
-                try {
-                result = addTags(addTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsRequest, result);
-                 return result;
-        }
-    });
+                return addTags(addTagsRequest);
+            }
+        }, addTagsRequest,
+                new AddTagsRequestMarshaller(), new AddTagsResultJsonUnmarshaller());
     }
     
     /**
@@ -462,12 +479,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> setVisibleToAllUsersAsync(final SetVisibleToAllUsersRequest setVisibleToAllUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setVisibleToAllUsers(setVisibleToAllUsersRequest);
-                return null;
-        }
-    });
+        return setVisibleToAllUsersComposableAsync(setVisibleToAllUsersRequest);
     }
 
     /**
@@ -506,18 +518,32 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final SetVisibleToAllUsersRequest setVisibleToAllUsersRequest,
             final AsyncHandler<SetVisibleToAllUsersRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setVisibleToAllUsersComposableAsync(setVisibleToAllUsersRequest),
+                setVisibleToAllUsersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetVisibleToAllUsers operation like
+     * {@link #setVisibleToAllUsersAsync(SetVisibleToAllUsersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setVisibleToAllUsersRequest Container for the necessary
+     *           parameters to execute the SetVisibleToAllUsers operation on
+     *           AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         SetVisibleToAllUsers service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<Void> setVisibleToAllUsersComposableAsync(final SetVisibleToAllUsersRequest setVisibleToAllUsersRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setVisibleToAllUsers(setVisibleToAllUsersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setVisibleToAllUsersRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setVisibleToAllUsersRequest,
+                new SetVisibleToAllUsersRequestMarshaller(), null);
     }
     
     /**
@@ -542,11 +568,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<ListStepsResult> listStepsAsync(final ListStepsRequest listStepsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStepsResult>() {
-            public ListStepsResult call() throws Exception {
-                return listSteps(listStepsRequest);
-        }
-    });
+        return listStepsComposableAsync(listStepsRequest);
     }
 
     /**
@@ -577,19 +599,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ListStepsRequest listStepsRequest,
             final AsyncHandler<ListStepsRequest, ListStepsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStepsResult>() {
+        return withAsyncHandler(listStepsComposableAsync(listStepsRequest),
+                listStepsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListSteps operation like
+     * {@link #listStepsAsync(ListStepsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listStepsRequest Container for the necessary parameters to
+     *           execute the ListSteps operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the ListSteps
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<ListStepsResult> listStepsComposableAsync(final ListStepsRequest listStepsRequest) {
+        return executeAsync(executorService, new Callable<ListStepsResult>() {
             public ListStepsResult call() throws Exception {
-              ListStepsResult result;
-                try {
-                result = listSteps(listStepsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listStepsRequest, result);
-                 return result;
-        }
-    });
+                return listSteps(listStepsRequest);
+            }
+        }, listStepsRequest,
+                new ListStepsRequestMarshaller(), new ListStepsResultJsonUnmarshaller());
     }
     
     /**
@@ -642,11 +673,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<AddJobFlowStepsResult> addJobFlowStepsAsync(final AddJobFlowStepsRequest addJobFlowStepsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddJobFlowStepsResult>() {
-            public AddJobFlowStepsResult call() throws Exception {
-                return addJobFlowSteps(addJobFlowStepsRequest);
-        }
-    });
+        return addJobFlowStepsComposableAsync(addJobFlowStepsRequest);
     }
 
     /**
@@ -705,19 +732,29 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final AddJobFlowStepsRequest addJobFlowStepsRequest,
             final AsyncHandler<AddJobFlowStepsRequest, AddJobFlowStepsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddJobFlowStepsResult>() {
+        return withAsyncHandler(addJobFlowStepsComposableAsync(addJobFlowStepsRequest),
+                addJobFlowStepsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddJobFlowSteps operation like
+     * {@link #addJobFlowStepsAsync(AddJobFlowStepsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addJobFlowStepsRequest Container for the necessary parameters
+     *           to execute the AddJobFlowSteps operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         AddJobFlowSteps service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<AddJobFlowStepsResult> addJobFlowStepsComposableAsync(final AddJobFlowStepsRequest addJobFlowStepsRequest) {
+        return executeAsync(executorService, new Callable<AddJobFlowStepsResult>() {
             public AddJobFlowStepsResult call() throws Exception {
-              AddJobFlowStepsResult result;
-                try {
-                result = addJobFlowSteps(addJobFlowStepsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addJobFlowStepsRequest, result);
-                 return result;
-        }
-    });
+                return addJobFlowSteps(addJobFlowStepsRequest);
+            }
+        }, addJobFlowStepsRequest,
+                new AddJobFlowStepsRequestMarshaller(), new AddJobFlowStepsResultJsonUnmarshaller());
     }
     
     /**
@@ -742,11 +779,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<DescribeStepResult> describeStepAsync(final DescribeStepRequest describeStepRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStepResult>() {
-            public DescribeStepResult call() throws Exception {
-                return describeStep(describeStepRequest);
-        }
-    });
+        return describeStepComposableAsync(describeStepRequest);
     }
 
     /**
@@ -777,19 +810,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final DescribeStepRequest describeStepRequest,
             final AsyncHandler<DescribeStepRequest, DescribeStepResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStepResult>() {
+        return withAsyncHandler(describeStepComposableAsync(describeStepRequest),
+                describeStepRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStep operation like
+     * {@link #describeStepAsync(DescribeStepRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeStepRequest Container for the necessary parameters to
+     *           execute the DescribeStep operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the DescribeStep
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<DescribeStepResult> describeStepComposableAsync(final DescribeStepRequest describeStepRequest) {
+        return executeAsync(executorService, new Callable<DescribeStepResult>() {
             public DescribeStepResult call() throws Exception {
-              DescribeStepResult result;
-                try {
-                result = describeStep(describeStepRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStepRequest, result);
-                 return result;
-        }
-    });
+                return describeStep(describeStepRequest);
+            }
+        }, describeStepRequest,
+                new DescribeStepRequestMarshaller(), new DescribeStepResultJsonUnmarshaller());
     }
     
     /**
@@ -819,11 +861,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<ListClustersResult> listClustersAsync(final ListClustersRequest listClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListClustersResult>() {
-            public ListClustersResult call() throws Exception {
-                return listClusters(listClustersRequest);
-        }
-    });
+        return listClustersComposableAsync(listClustersRequest);
     }
 
     /**
@@ -859,19 +897,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ListClustersRequest listClustersRequest,
             final AsyncHandler<ListClustersRequest, ListClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListClustersResult>() {
+        return withAsyncHandler(listClustersComposableAsync(listClustersRequest),
+                listClustersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListClusters operation like
+     * {@link #listClustersAsync(ListClustersRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param listClustersRequest Container for the necessary parameters to
+     *           execute the ListClusters operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the ListClusters
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<ListClustersResult> listClustersComposableAsync(final ListClustersRequest listClustersRequest) {
+        return executeAsync(executorService, new Callable<ListClustersResult>() {
             public ListClustersResult call() throws Exception {
-              ListClustersResult result;
-                try {
-                result = listClusters(listClustersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listClustersRequest, result);
-                 return result;
-        }
-    });
+                return listClusters(listClustersRequest);
+            }
+        }, listClustersRequest,
+                new ListClustersRequestMarshaller(), new ListClustersResultJsonUnmarshaller());
     }
     
     /**
@@ -904,11 +951,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                return removeTags(removeTagsRequest);
-        }
-    });
+        return removeTagsComposableAsync(removeTagsRequest);
     }
 
     /**
@@ -947,19 +990,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final RemoveTagsRequest removeTagsRequest,
             final AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
+        return withAsyncHandler(removeTagsComposableAsync(removeTagsRequest),
+                removeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveTags operation like
+     * {@link #removeTagsAsync(RemoveTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param removeTagsRequest Container for the necessary parameters to
+     *           execute the RemoveTags operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the RemoveTags
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<RemoveTagsResult> removeTagsComposableAsync(final RemoveTagsRequest removeTagsRequest) {
+        return executeAsync(executorService, new Callable<RemoveTagsResult>() {
             public RemoveTagsResult call() throws Exception {
-              RemoveTagsResult result;
-                try {
-                result = removeTags(removeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsRequest, result);
-                 return result;
-        }
-    });
+                return removeTags(removeTagsRequest);
+            }
+        }, removeTagsRequest,
+                new RemoveTagsRequestMarshaller(), new RemoveTagsResultJsonUnmarshaller());
     }
     
     /**
@@ -987,11 +1039,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<ListInstanceGroupsResult> listInstanceGroupsAsync(final ListInstanceGroupsRequest listInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceGroupsResult>() {
-            public ListInstanceGroupsResult call() throws Exception {
-                return listInstanceGroups(listInstanceGroupsRequest);
-        }
-    });
+        return listInstanceGroupsComposableAsync(listInstanceGroupsRequest);
     }
 
     /**
@@ -1025,19 +1073,31 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ListInstanceGroupsRequest listInstanceGroupsRequest,
             final AsyncHandler<ListInstanceGroupsRequest, ListInstanceGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceGroupsResult>() {
+        return withAsyncHandler(listInstanceGroupsComposableAsync(listInstanceGroupsRequest),
+                listInstanceGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListInstanceGroups operation like
+     * {@link #listInstanceGroupsAsync(ListInstanceGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listInstanceGroupsRequest Container for the necessary
+     *           parameters to execute the ListInstanceGroups operation on
+     *           AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         ListInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<ListInstanceGroupsResult> listInstanceGroupsComposableAsync(final ListInstanceGroupsRequest listInstanceGroupsRequest) {
+        return executeAsync(executorService, new Callable<ListInstanceGroupsResult>() {
             public ListInstanceGroupsResult call() throws Exception {
-              ListInstanceGroupsResult result;
-                try {
-                result = listInstanceGroups(listInstanceGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listInstanceGroupsRequest, result);
-                 return result;
-        }
-    });
+                return listInstanceGroups(listInstanceGroupsRequest);
+            }
+        }, listInstanceGroupsRequest,
+                new ListInstanceGroupsRequestMarshaller(), new ListInstanceGroupsResultJsonUnmarshaller());
     }
     
     /**
@@ -1067,12 +1127,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> modifyInstanceGroupsAsync(final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceGroups(modifyInstanceGroupsRequest);
-                return null;
-        }
-    });
+        return modifyInstanceGroupsComposableAsync(modifyInstanceGroupsRequest);
     }
 
     /**
@@ -1108,18 +1163,32 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest,
             final AsyncHandler<ModifyInstanceGroupsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(modifyInstanceGroupsComposableAsync(modifyInstanceGroupsRequest),
+                modifyInstanceGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyInstanceGroups operation like
+     * {@link #modifyInstanceGroupsAsync(ModifyInstanceGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyInstanceGroupsRequest Container for the necessary
+     *           parameters to execute the ModifyInstanceGroups operation on
+     *           AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         ModifyInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<Void> modifyInstanceGroupsComposableAsync(final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 modifyInstanceGroups(modifyInstanceGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceGroupsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, modifyInstanceGroupsRequest,
+                new ModifyInstanceGroupsRequestMarshaller(), null);
     }
     
     /**
@@ -1148,11 +1217,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<ListInstancesResult> listInstancesAsync(final ListInstancesRequest listInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
-            public ListInstancesResult call() throws Exception {
-                return listInstances(listInstancesRequest);
-        }
-    });
+        return listInstancesComposableAsync(listInstancesRequest);
     }
 
     /**
@@ -1187,19 +1252,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final ListInstancesRequest listInstancesRequest,
             final AsyncHandler<ListInstancesRequest, ListInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstancesResult>() {
+        return withAsyncHandler(listInstancesComposableAsync(listInstancesRequest),
+                listInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListInstances operation like
+     * {@link #listInstancesAsync(ListInstancesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listInstancesRequest Container for the necessary parameters to
+     *           execute the ListInstances operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the ListInstances
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<ListInstancesResult> listInstancesComposableAsync(final ListInstancesRequest listInstancesRequest) {
+        return executeAsync(executorService, new Callable<ListInstancesResult>() {
             public ListInstancesResult call() throws Exception {
-              ListInstancesResult result;
-                try {
-                result = listInstances(listInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listInstancesRequest, result);
-                 return result;
-        }
-    });
+                return listInstances(listInstancesRequest);
+            }
+        }, listInstancesRequest,
+                new ListInstancesRequestMarshaller(), new ListInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -1225,11 +1299,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(final AddInstanceGroupsRequest addInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
-            public AddInstanceGroupsResult call() throws Exception {
-                return addInstanceGroups(addInstanceGroupsRequest);
-        }
-    });
+        return addInstanceGroupsComposableAsync(addInstanceGroupsRequest);
     }
 
     /**
@@ -1261,19 +1331,30 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final AddInstanceGroupsRequest addInstanceGroupsRequest,
             final AsyncHandler<AddInstanceGroupsRequest, AddInstanceGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
+        return withAsyncHandler(addInstanceGroupsComposableAsync(addInstanceGroupsRequest),
+                addInstanceGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddInstanceGroups operation like
+     * {@link #addInstanceGroupsAsync(AddInstanceGroupsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param addInstanceGroupsRequest Container for the necessary parameters
+     *           to execute the AddInstanceGroups operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         AddInstanceGroups service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<AddInstanceGroupsResult> addInstanceGroupsComposableAsync(final AddInstanceGroupsRequest addInstanceGroupsRequest) {
+        return executeAsync(executorService, new Callable<AddInstanceGroupsResult>() {
             public AddInstanceGroupsResult call() throws Exception {
-              AddInstanceGroupsResult result;
-                try {
-                result = addInstanceGroups(addInstanceGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addInstanceGroupsRequest, result);
-                 return result;
-        }
-    });
+                return addInstanceGroups(addInstanceGroupsRequest);
+            }
+        }, addInstanceGroupsRequest,
+                new AddInstanceGroupsRequestMarshaller(), new AddInstanceGroupsResultJsonUnmarshaller());
     }
     
     /**
@@ -1310,12 +1391,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> terminateJobFlowsAsync(final TerminateJobFlowsRequest terminateJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                terminateJobFlows(terminateJobFlowsRequest);
-                return null;
-        }
-    });
+        return terminateJobFlowsComposableAsync(terminateJobFlowsRequest);
     }
 
     /**
@@ -1358,18 +1434,31 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final TerminateJobFlowsRequest terminateJobFlowsRequest,
             final AsyncHandler<TerminateJobFlowsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(terminateJobFlowsComposableAsync(terminateJobFlowsRequest),
+                terminateJobFlowsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TerminateJobFlows operation like
+     * {@link #terminateJobFlowsAsync(TerminateJobFlowsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param terminateJobFlowsRequest Container for the necessary parameters
+     *           to execute the TerminateJobFlows operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         TerminateJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<Void> terminateJobFlowsComposableAsync(final TerminateJobFlowsRequest terminateJobFlowsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 terminateJobFlows(terminateJobFlowsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateJobFlowsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, terminateJobFlowsRequest,
+                new TerminateJobFlowsRequestMarshaller(), null);
     }
     
     /**
@@ -1419,12 +1508,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> setTerminationProtectionAsync(final SetTerminationProtectionRequest setTerminationProtectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTerminationProtection(setTerminationProtectionRequest);
-                return null;
-        }
-    });
+        return setTerminationProtectionComposableAsync(setTerminationProtectionRequest);
     }
 
     /**
@@ -1480,18 +1564,32 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final SetTerminationProtectionRequest setTerminationProtectionRequest,
             final AsyncHandler<SetTerminationProtectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setTerminationProtectionComposableAsync(setTerminationProtectionRequest),
+                setTerminationProtectionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetTerminationProtection operation like
+     * {@link #setTerminationProtectionAsync(SetTerminationProtectionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setTerminationProtectionRequest Container for the necessary
+     *           parameters to execute the SetTerminationProtection operation on
+     *           AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         SetTerminationProtection service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<Void> setTerminationProtectionComposableAsync(final SetTerminationProtectionRequest setTerminationProtectionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setTerminationProtection(setTerminationProtectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setTerminationProtectionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setTerminationProtectionRequest,
+                new SetTerminationProtectionRequestMarshaller(), null);
     }
     
     /**
@@ -1546,11 +1644,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
     @Deprecated
     public Future<DescribeJobFlowsResult> describeJobFlowsAsync(final DescribeJobFlowsRequest describeJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
-            public DescribeJobFlowsResult call() throws Exception {
-                return describeJobFlows(describeJobFlowsRequest);
-        }
-    });
+        return describeJobFlowsComposableAsync(describeJobFlowsRequest);
     }
 
     /**
@@ -1610,19 +1704,29 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final DescribeJobFlowsRequest describeJobFlowsRequest,
             final AsyncHandler<DescribeJobFlowsRequest, DescribeJobFlowsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
+        return withAsyncHandler(describeJobFlowsComposableAsync(describeJobFlowsRequest),
+                describeJobFlowsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeJobFlows operation like
+     * {@link #describeJobFlowsAsync(DescribeJobFlowsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeJobFlowsRequest Container for the necessary parameters
+     *           to execute the DescribeJobFlows operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         DescribeJobFlows service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<DescribeJobFlowsResult> describeJobFlowsComposableAsync(final DescribeJobFlowsRequest describeJobFlowsRequest) {
+        return executeAsync(executorService, new Callable<DescribeJobFlowsResult>() {
             public DescribeJobFlowsResult call() throws Exception {
-              DescribeJobFlowsResult result;
-                try {
-                result = describeJobFlows(describeJobFlowsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeJobFlowsRequest, result);
-                 return result;
-        }
-    });
+                return describeJobFlows(describeJobFlowsRequest);
+            }
+        }, describeJobFlowsRequest,
+                new DescribeJobFlowsRequestMarshaller(), new DescribeJobFlowsResultJsonUnmarshaller());
     }
     
     /**
@@ -1677,11 +1781,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<RunJobFlowResult> runJobFlowAsync(final RunJobFlowRequest runJobFlowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunJobFlowResult>() {
-            public RunJobFlowResult call() throws Exception {
-                return runJobFlow(runJobFlowRequest);
-        }
-    });
+        return runJobFlowComposableAsync(runJobFlowRequest);
     }
 
     /**
@@ -1742,19 +1842,28 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final RunJobFlowRequest runJobFlowRequest,
             final AsyncHandler<RunJobFlowRequest, RunJobFlowResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunJobFlowResult>() {
+        return withAsyncHandler(runJobFlowComposableAsync(runJobFlowRequest),
+                runJobFlowRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RunJobFlow operation like
+     * {@link #runJobFlowAsync(RunJobFlowRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param runJobFlowRequest Container for the necessary parameters to
+     *           execute the RunJobFlow operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the RunJobFlow
+     *         service method, as returned by AmazonElasticMapReduce.
+     */
+    public ComposableFuture<RunJobFlowResult> runJobFlowComposableAsync(final RunJobFlowRequest runJobFlowRequest) {
+        return executeAsync(executorService, new Callable<RunJobFlowResult>() {
             public RunJobFlowResult call() throws Exception {
-              RunJobFlowResult result;
-                try {
-                result = runJobFlow(runJobFlowRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runJobFlowRequest, result);
-                 return result;
-        }
-    });
+                return runJobFlow(runJobFlowRequest);
+            }
+        }, runJobFlowRequest,
+                new RunJobFlowRequestMarshaller(), new RunJobFlowResultJsonUnmarshaller());
     }
     
     /**
@@ -1781,11 +1890,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<DescribeClusterResult> describeClusterAsync(final DescribeClusterRequest describeClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterResult>() {
-            public DescribeClusterResult call() throws Exception {
-                return describeCluster(describeClusterRequest);
-        }
-    });
+        return describeClusterComposableAsync(describeClusterRequest);
     }
 
     /**
@@ -1818,19 +1923,29 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
             final DescribeClusterRequest describeClusterRequest,
             final AsyncHandler<DescribeClusterRequest, DescribeClusterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterResult>() {
+        return withAsyncHandler(describeClusterComposableAsync(describeClusterRequest),
+                describeClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCluster operation like
+     * {@link #describeClusterAsync(DescribeClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeClusterRequest Container for the necessary parameters
+     *           to execute the DescribeCluster operation on AmazonElasticMapReduce.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCluster service method, as returned by
+     *         AmazonElasticMapReduce.
+     */
+    public ComposableFuture<DescribeClusterResult> describeClusterComposableAsync(final DescribeClusterRequest describeClusterRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterResult>() {
             public DescribeClusterResult call() throws Exception {
-              DescribeClusterResult result;
-                try {
-                result = describeCluster(describeClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterRequest, result);
-                 return result;
-        }
-    });
+                return describeCluster(describeClusterRequest);
+            }
+        }, describeClusterRequest,
+                new DescribeClusterRequestMarshaller(), new DescribeClusterResultJsonUnmarshaller());
     }
     
 }
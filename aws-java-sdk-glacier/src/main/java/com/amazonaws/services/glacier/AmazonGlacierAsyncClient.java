@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.glacier.model.*;
+import com.amazonaws.services.glacier.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonGlacier.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * Amazon Glacier is a storage solution for "cold data."
  * </p>
@@ -365,11 +369,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListVaultsResult> listVaultsAsync(final ListVaultsRequest listVaultsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVaultsResult>() {
-            public ListVaultsResult call() throws Exception {
-                return listVaults(listVaultsRequest);
-        }
-    });
+        return listVaultsComposableAsync(listVaultsRequest);
     }
 
     /**
@@ -425,19 +425,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListVaultsRequest listVaultsRequest,
             final AsyncHandler<ListVaultsRequest, ListVaultsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVaultsResult>() {
+        return withAsyncHandler(listVaultsComposableAsync(listVaultsRequest),
+                listVaultsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListVaults operation like
+     * {@link #listVaultsAsync(ListVaultsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listVaultsRequest Container for the necessary parameters to
+     *           execute the ListVaults operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the ListVaults
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<ListVaultsResult> listVaultsComposableAsync(final ListVaultsRequest listVaultsRequest) {
+        return executeAsync(executorService, new Callable<ListVaultsResult>() {
             public ListVaultsResult call() throws Exception {
-              ListVaultsResult result;
-                try {
-                result = listVaults(listVaultsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVaultsRequest, result);
-                 return result;
-        }
-    });
+                return listVaults(listVaultsRequest);
+            }
+        }, listVaultsRequest,
+                new ListVaultsRequestMarshaller(), new ListVaultsResultJsonUnmarshaller());
     }
     
     /**
@@ -489,11 +498,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<DescribeJobResult> describeJobAsync(final DescribeJobRequest describeJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobResult>() {
-            public DescribeJobResult call() throws Exception {
-                return describeJob(describeJobRequest);
-        }
-    });
+        return describeJobComposableAsync(describeJobRequest);
     }
 
     /**
@@ -551,19 +556,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DescribeJobRequest describeJobRequest,
             final AsyncHandler<DescribeJobRequest, DescribeJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobResult>() {
+        return withAsyncHandler(describeJobComposableAsync(describeJobRequest),
+                describeJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeJob operation like
+     * {@link #describeJobAsync(DescribeJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param describeJobRequest Container for the necessary parameters to
+     *           execute the DescribeJob operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the DescribeJob
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<DescribeJobResult> describeJobComposableAsync(final DescribeJobRequest describeJobRequest) {
+        return executeAsync(executorService, new Callable<DescribeJobResult>() {
             public DescribeJobResult call() throws Exception {
-              DescribeJobResult result;
-                try {
-                result = describeJob(describeJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeJobRequest, result);
-                 return result;
-        }
-    });
+                return describeJob(describeJobRequest);
+            }
+        }, describeJobRequest,
+                new DescribeJobRequestMarshaller(), new DescribeJobResultJsonUnmarshaller());
     }
     
     /**
@@ -617,11 +631,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListPartsResult> listPartsAsync(final ListPartsRequest listPartsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPartsResult>() {
-            public ListPartsResult call() throws Exception {
-                return listParts(listPartsRequest);
-        }
-    });
+        return listPartsComposableAsync(listPartsRequest);
     }
 
     /**
@@ -681,19 +691,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListPartsRequest listPartsRequest,
             final AsyncHandler<ListPartsRequest, ListPartsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPartsResult>() {
+        return withAsyncHandler(listPartsComposableAsync(listPartsRequest),
+                listPartsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListParts operation like
+     * {@link #listPartsAsync(ListPartsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listPartsRequest Container for the necessary parameters to
+     *           execute the ListParts operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the ListParts
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<ListPartsResult> listPartsComposableAsync(final ListPartsRequest listPartsRequest) {
+        return executeAsync(executorService, new Callable<ListPartsResult>() {
             public ListPartsResult call() throws Exception {
-              ListPartsResult result;
-                try {
-                result = listParts(listPartsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPartsRequest, result);
-                 return result;
-        }
-    });
+                return listParts(listPartsRequest);
+            }
+        }, listPartsRequest,
+                new ListPartsRequestMarshaller(), new ListPartsResultJsonUnmarshaller());
     }
     
     /**
@@ -741,11 +760,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<GetVaultNotificationsResult> getVaultNotificationsAsync(final GetVaultNotificationsRequest getVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVaultNotificationsResult>() {
-            public GetVaultNotificationsResult call() throws Exception {
-                return getVaultNotifications(getVaultNotificationsRequest);
-        }
-    });
+        return getVaultNotificationsComposableAsync(getVaultNotificationsRequest);
     }
 
     /**
@@ -799,19 +814,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final GetVaultNotificationsRequest getVaultNotificationsRequest,
             final AsyncHandler<GetVaultNotificationsRequest, GetVaultNotificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVaultNotificationsResult>() {
+        return withAsyncHandler(getVaultNotificationsComposableAsync(getVaultNotificationsRequest),
+                getVaultNotificationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetVaultNotifications operation like
+     * {@link #getVaultNotificationsAsync(GetVaultNotificationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getVaultNotificationsRequest Container for the necessary
+     *           parameters to execute the GetVaultNotifications operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         GetVaultNotifications service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<GetVaultNotificationsResult> getVaultNotificationsComposableAsync(final GetVaultNotificationsRequest getVaultNotificationsRequest) {
+        return executeAsync(executorService, new Callable<GetVaultNotificationsResult>() {
             public GetVaultNotificationsResult call() throws Exception {
-              GetVaultNotificationsResult result;
-                try {
-                result = getVaultNotifications(getVaultNotificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getVaultNotificationsRequest, result);
-                 return result;
-        }
-    });
+                return getVaultNotifications(getVaultNotificationsRequest);
+            }
+        }, getVaultNotificationsRequest,
+                new GetVaultNotificationsRequestMarshaller(), new GetVaultNotificationsResultJsonUnmarshaller());
     }
     
     /**
@@ -890,11 +917,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListJobsResult> listJobsAsync(final ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
-            public ListJobsResult call() throws Exception {
-                return listJobs(listJobsRequest);
-        }
-    });
+        return listJobsComposableAsync(listJobsRequest);
     }
 
     /**
@@ -979,19 +1002,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListJobsRequest listJobsRequest,
             final AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return withAsyncHandler(listJobsComposableAsync(listJobsRequest),
+                listJobsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListJobs operation like
+     * {@link #listJobsAsync(ListJobsRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param listJobsRequest Container for the necessary parameters to
+     *           execute the ListJobs operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the ListJobs
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<ListJobsResult> listJobsComposableAsync(final ListJobsRequest listJobsRequest) {
+        return executeAsync(executorService, new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
-              ListJobsResult result;
-                try {
-                result = listJobs(listJobsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listJobsRequest, result);
-                 return result;
-        }
-    });
+                return listJobs(listJobsRequest);
+            }
+        }, listJobsRequest,
+                new ListJobsRequestMarshaller(), new ListJobsResultJsonUnmarshaller());
     }
     
     /**
@@ -1054,11 +1086,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<CreateVaultResult> createVaultAsync(final CreateVaultRequest createVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVaultResult>() {
-            public CreateVaultResult call() throws Exception {
-                return createVault(createVaultRequest);
-        }
-    });
+        return createVaultComposableAsync(createVaultRequest);
     }
 
     /**
@@ -1127,19 +1155,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final CreateVaultRequest createVaultRequest,
             final AsyncHandler<CreateVaultRequest, CreateVaultResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVaultResult>() {
+        return withAsyncHandler(createVaultComposableAsync(createVaultRequest),
+                createVaultRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVault operation like
+     * {@link #createVaultAsync(CreateVaultRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createVaultRequest Container for the necessary parameters to
+     *           execute the CreateVault operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the CreateVault
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<CreateVaultResult> createVaultComposableAsync(final CreateVaultRequest createVaultRequest) {
+        return executeAsync(executorService, new Callable<CreateVaultResult>() {
             public CreateVaultResult call() throws Exception {
-              CreateVaultResult result;
-                try {
-                result = createVault(createVaultRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVaultRequest, result);
-                 return result;
-        }
-    });
+                return createVault(createVaultRequest);
+            }
+        }, createVaultRequest,
+                new CreateVaultRequestMarshaller(), new CreateVaultResultJsonUnmarshaller());
     }
     
     /**
@@ -1207,11 +1244,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<InitiateMultipartUploadResult> initiateMultipartUploadAsync(final InitiateMultipartUploadRequest initiateMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
-            public InitiateMultipartUploadResult call() throws Exception {
-                return initiateMultipartUpload(initiateMultipartUploadRequest);
-        }
-    });
+        return initiateMultipartUploadComposableAsync(initiateMultipartUploadRequest);
     }
 
     /**
@@ -1285,19 +1318,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final InitiateMultipartUploadRequest initiateMultipartUploadRequest,
             final AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateMultipartUploadResult>() {
+        return withAsyncHandler(initiateMultipartUploadComposableAsync(initiateMultipartUploadRequest),
+                initiateMultipartUploadRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the InitiateMultipartUpload operation like
+     * {@link #initiateMultipartUploadAsync(InitiateMultipartUploadRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param initiateMultipartUploadRequest Container for the necessary
+     *           parameters to execute the InitiateMultipartUpload operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         InitiateMultipartUpload service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<InitiateMultipartUploadResult> initiateMultipartUploadComposableAsync(final InitiateMultipartUploadRequest initiateMultipartUploadRequest) {
+        return executeAsync(executorService, new Callable<InitiateMultipartUploadResult>() {
             public InitiateMultipartUploadResult call() throws Exception {
-              InitiateMultipartUploadResult result;
-                try {
-                result = initiateMultipartUpload(initiateMultipartUploadRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(initiateMultipartUploadRequest, result);
-                 return result;
-        }
-    });
+                return initiateMultipartUpload(initiateMultipartUploadRequest);
+            }
+        }, initiateMultipartUploadRequest,
+                new InitiateMultipartUploadRequestMarshaller(), new InitiateMultipartUploadResultJsonUnmarshaller());
     }
     
     /**
@@ -1347,12 +1392,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> abortMultipartUploadAsync(final AbortMultipartUploadRequest abortMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                abortMultipartUpload(abortMultipartUploadRequest);
-                return null;
-        }
-    });
+        return abortMultipartUploadComposableAsync(abortMultipartUploadRequest);
     }
 
     /**
@@ -1408,18 +1448,32 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final AbortMultipartUploadRequest abortMultipartUploadRequest,
             final AsyncHandler<AbortMultipartUploadRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(abortMultipartUploadComposableAsync(abortMultipartUploadRequest),
+                abortMultipartUploadRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AbortMultipartUpload operation like
+     * {@link #abortMultipartUploadAsync(AbortMultipartUploadRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param abortMultipartUploadRequest Container for the necessary
+     *           parameters to execute the AbortMultipartUpload operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         AbortMultipartUpload service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<Void> abortMultipartUploadComposableAsync(final AbortMultipartUploadRequest abortMultipartUploadRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 abortMultipartUpload(abortMultipartUploadRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(abortMultipartUploadRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, abortMultipartUploadRequest,
+                new AbortMultipartUploadRequestMarshaller(), null);
     }
     
     /**
@@ -1474,12 +1528,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteArchiveAsync(final DeleteArchiveRequest deleteArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteArchive(deleteArchiveRequest);
-                return null;
-        }
-    });
+        return deleteArchiveComposableAsync(deleteArchiveRequest);
     }
 
     /**
@@ -1540,18 +1589,29 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteArchiveRequest deleteArchiveRequest,
             final AsyncHandler<DeleteArchiveRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteArchiveComposableAsync(deleteArchiveRequest),
+                deleteArchiveRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteArchive operation like
+     * {@link #deleteArchiveAsync(DeleteArchiveRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteArchiveRequest Container for the necessary parameters to
+     *           execute the DeleteArchive operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the DeleteArchive
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<Void> deleteArchiveComposableAsync(final DeleteArchiveRequest deleteArchiveRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteArchive(deleteArchiveRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteArchiveRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteArchiveRequest,
+                new DeleteArchiveRequestMarshaller(), null);
     }
     
     /**
@@ -1633,11 +1693,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<GetJobOutputResult> getJobOutputAsync(final GetJobOutputRequest getJobOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetJobOutputResult>() {
-            public GetJobOutputResult call() throws Exception {
-                return getJobOutput(getJobOutputRequest);
-        }
-    });
+        return getJobOutputComposableAsync(getJobOutputRequest);
     }
 
     /**
@@ -1725,19 +1781,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final GetJobOutputRequest getJobOutputRequest,
             final AsyncHandler<GetJobOutputRequest, GetJobOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetJobOutputResult>() {
+        return withAsyncHandler(getJobOutputComposableAsync(getJobOutputRequest),
+                getJobOutputRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetJobOutput operation like
+     * {@link #getJobOutputAsync(GetJobOutputRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param getJobOutputRequest Container for the necessary parameters to
+     *           execute the GetJobOutput operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the GetJobOutput
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<GetJobOutputResult> getJobOutputComposableAsync(final GetJobOutputRequest getJobOutputRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<GetJobOutputResult>() {
             public GetJobOutputResult call() throws Exception {
-              GetJobOutputResult result;
-                try {
-                result = getJobOutput(getJobOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getJobOutputRequest, result);
-                 return result;
-        }
-    });
+                return getJobOutput(getJobOutputRequest);
+            }
+        });
     }
     
     /**
@@ -1924,11 +1989,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<InitiateJobResult> initiateJobAsync(final InitiateJobRequest initiateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateJobResult>() {
-            public InitiateJobResult call() throws Exception {
-                return initiateJob(initiateJobRequest);
-        }
-    });
+        return initiateJobComposableAsync(initiateJobRequest);
     }
 
     /**
@@ -2121,19 +2182,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final InitiateJobRequest initiateJobRequest,
             final AsyncHandler<InitiateJobRequest, InitiateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InitiateJobResult>() {
+        return withAsyncHandler(initiateJobComposableAsync(initiateJobRequest),
+                initiateJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the InitiateJob operation like
+     * {@link #initiateJobAsync(InitiateJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param initiateJobRequest Container for the necessary parameters to
+     *           execute the InitiateJob operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the InitiateJob
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<InitiateJobResult> initiateJobComposableAsync(final InitiateJobRequest initiateJobRequest) {
+        return executeAsync(executorService, new Callable<InitiateJobResult>() {
             public InitiateJobResult call() throws Exception {
-              InitiateJobResult result;
-                try {
-                result = initiateJob(initiateJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(initiateJobRequest, result);
-                 return result;
-        }
-    });
+                return initiateJob(initiateJobRequest);
+            }
+        }, initiateJobRequest,
+                new InitiateJobRequestMarshaller(), new InitiateJobResultJsonUnmarshaller());
     }
     
     /**
@@ -2204,11 +2274,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<UploadArchiveResult> uploadArchiveAsync(final UploadArchiveRequest uploadArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadArchiveResult>() {
-            public UploadArchiveResult call() throws Exception {
-                return uploadArchive(uploadArchiveRequest);
-        }
-    });
+        return uploadArchiveComposableAsync(uploadArchiveRequest);
     }
 
     /**
@@ -2285,19 +2351,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final UploadArchiveRequest uploadArchiveRequest,
             final AsyncHandler<UploadArchiveRequest, UploadArchiveResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadArchiveResult>() {
+        return withAsyncHandler(uploadArchiveComposableAsync(uploadArchiveRequest),
+                uploadArchiveRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadArchive operation like
+     * {@link #uploadArchiveAsync(UploadArchiveRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param uploadArchiveRequest Container for the necessary parameters to
+     *           execute the UploadArchive operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the UploadArchive
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<UploadArchiveResult> uploadArchiveComposableAsync(final UploadArchiveRequest uploadArchiveRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<UploadArchiveResult>() {
             public UploadArchiveResult call() throws Exception {
-              UploadArchiveResult result;
-                try {
-                result = uploadArchive(uploadArchiveRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadArchiveRequest, result);
-                 return result;
-        }
-    });
+                return uploadArchive(uploadArchiveRequest);
+            }
+        });
     }
     
     /**
@@ -2364,12 +2439,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> setVaultNotificationsAsync(final SetVaultNotificationsRequest setVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setVaultNotifications(setVaultNotificationsRequest);
-                return null;
-        }
-    });
+        return setVaultNotificationsComposableAsync(setVaultNotificationsRequest);
     }
 
     /**
@@ -2442,18 +2512,32 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final SetVaultNotificationsRequest setVaultNotificationsRequest,
             final AsyncHandler<SetVaultNotificationsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setVaultNotificationsComposableAsync(setVaultNotificationsRequest),
+                setVaultNotificationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetVaultNotifications operation like
+     * {@link #setVaultNotificationsAsync(SetVaultNotificationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setVaultNotificationsRequest Container for the necessary
+     *           parameters to execute the SetVaultNotifications operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         SetVaultNotifications service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<Void> setVaultNotificationsComposableAsync(final SetVaultNotificationsRequest setVaultNotificationsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setVaultNotifications(setVaultNotificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setVaultNotificationsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setVaultNotificationsRequest,
+                new SetVaultNotificationsRequestMarshaller(), null);
     }
     
     /**
@@ -2531,11 +2615,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<CompleteMultipartUploadResult> completeMultipartUploadAsync(final CompleteMultipartUploadRequest completeMultipartUploadRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
-            public CompleteMultipartUploadResult call() throws Exception {
-                return completeMultipartUpload(completeMultipartUploadRequest);
-        }
-    });
+        return completeMultipartUploadComposableAsync(completeMultipartUploadRequest);
     }
 
     /**
@@ -2619,19 +2699,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final CompleteMultipartUploadRequest completeMultipartUploadRequest,
             final AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteMultipartUploadResult>() {
+        return withAsyncHandler(completeMultipartUploadComposableAsync(completeMultipartUploadRequest),
+                completeMultipartUploadRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CompleteMultipartUpload operation like
+     * {@link #completeMultipartUploadAsync(CompleteMultipartUploadRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param completeMultipartUploadRequest Container for the necessary
+     *           parameters to execute the CompleteMultipartUpload operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         CompleteMultipartUpload service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<CompleteMultipartUploadResult> completeMultipartUploadComposableAsync(final CompleteMultipartUploadRequest completeMultipartUploadRequest) {
+        return executeAsync(executorService, new Callable<CompleteMultipartUploadResult>() {
             public CompleteMultipartUploadResult call() throws Exception {
-              CompleteMultipartUploadResult result;
-                try {
-                result = completeMultipartUpload(completeMultipartUploadRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(completeMultipartUploadRequest, result);
-                 return result;
-        }
-    });
+                return completeMultipartUpload(completeMultipartUploadRequest);
+            }
+        }, completeMultipartUploadRequest,
+                new CompleteMultipartUploadRequestMarshaller(), new CompleteMultipartUploadResultJsonUnmarshaller());
     }
     
     /**
@@ -2716,11 +2808,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<UploadMultipartPartResult> uploadMultipartPartAsync(final UploadMultipartPartRequest uploadMultipartPartRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadMultipartPartResult>() {
-            public UploadMultipartPartResult call() throws Exception {
-                return uploadMultipartPart(uploadMultipartPartRequest);
-        }
-    });
+        return uploadMultipartPartComposableAsync(uploadMultipartPartRequest);
     }
 
     /**
@@ -2811,19 +2899,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final UploadMultipartPartRequest uploadMultipartPartRequest,
             final AsyncHandler<UploadMultipartPartRequest, UploadMultipartPartResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadMultipartPartResult>() {
+        return withAsyncHandler(uploadMultipartPartComposableAsync(uploadMultipartPartRequest),
+                uploadMultipartPartRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadMultipartPart operation like
+     * {@link #uploadMultipartPartAsync(UploadMultipartPartRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param uploadMultipartPartRequest Container for the necessary
+     *           parameters to execute the UploadMultipartPart operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         UploadMultipartPart service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<UploadMultipartPartResult> uploadMultipartPartComposableAsync(final UploadMultipartPartRequest uploadMultipartPartRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<UploadMultipartPartResult>() {
             public UploadMultipartPartResult call() throws Exception {
-              UploadMultipartPartResult result;
-                try {
-                result = uploadMultipartPart(uploadMultipartPartRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadMultipartPartRequest, result);
-                 return result;
-        }
-    });
+                return uploadMultipartPart(uploadMultipartPartRequest);
+            }
+        });
     }
     
     /**
@@ -2872,11 +2972,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<DescribeVaultResult> describeVaultAsync(final DescribeVaultRequest describeVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVaultResult>() {
-            public DescribeVaultResult call() throws Exception {
-                return describeVault(describeVaultRequest);
-        }
-    });
+        return describeVaultComposableAsync(describeVaultRequest);
     }
 
     /**
@@ -2931,19 +3027,28 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DescribeVaultRequest describeVaultRequest,
             final AsyncHandler<DescribeVaultRequest, DescribeVaultResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVaultResult>() {
+        return withAsyncHandler(describeVaultComposableAsync(describeVaultRequest),
+                describeVaultRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVault operation like
+     * {@link #describeVaultAsync(DescribeVaultRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeVaultRequest Container for the necessary parameters to
+     *           execute the DescribeVault operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the DescribeVault
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<DescribeVaultResult> describeVaultComposableAsync(final DescribeVaultRequest describeVaultRequest) {
+        return executeAsync(executorService, new Callable<DescribeVaultResult>() {
             public DescribeVaultResult call() throws Exception {
-              DescribeVaultResult result;
-                try {
-                result = describeVault(describeVaultRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVaultRequest, result);
-                 return result;
-        }
-    });
+                return describeVault(describeVaultRequest);
+            }
+        }, describeVaultRequest,
+                new DescribeVaultRequestMarshaller(), new DescribeVaultResultJsonUnmarshaller());
     }
     
     /**
@@ -2986,12 +3091,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteVaultNotificationsAsync(final DeleteVaultNotificationsRequest deleteVaultNotificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVaultNotifications(deleteVaultNotificationsRequest);
-                return null;
-        }
-    });
+        return deleteVaultNotificationsComposableAsync(deleteVaultNotificationsRequest);
     }
 
     /**
@@ -3040,18 +3140,32 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteVaultNotificationsRequest deleteVaultNotificationsRequest,
             final AsyncHandler<DeleteVaultNotificationsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVaultNotificationsComposableAsync(deleteVaultNotificationsRequest),
+                deleteVaultNotificationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVaultNotifications operation like
+     * {@link #deleteVaultNotificationsAsync(DeleteVaultNotificationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVaultNotificationsRequest Container for the necessary
+     *           parameters to execute the DeleteVaultNotifications operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVaultNotifications service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<Void> deleteVaultNotificationsComposableAsync(final DeleteVaultNotificationsRequest deleteVaultNotificationsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVaultNotifications(deleteVaultNotificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVaultNotificationsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVaultNotificationsRequest,
+                new DeleteVaultNotificationsRequestMarshaller(), null);
     }
     
     /**
@@ -3113,11 +3227,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<ListMultipartUploadsResult> listMultipartUploadsAsync(final ListMultipartUploadsRequest listMultipartUploadsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMultipartUploadsResult>() {
-            public ListMultipartUploadsResult call() throws Exception {
-                return listMultipartUploads(listMultipartUploadsRequest);
-        }
-    });
+        return listMultipartUploadsComposableAsync(listMultipartUploadsRequest);
     }
 
     /**
@@ -3185,19 +3295,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final ListMultipartUploadsRequest listMultipartUploadsRequest,
             final AsyncHandler<ListMultipartUploadsRequest, ListMultipartUploadsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMultipartUploadsResult>() {
+        return withAsyncHandler(listMultipartUploadsComposableAsync(listMultipartUploadsRequest),
+                listMultipartUploadsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListMultipartUploads operation like
+     * {@link #listMultipartUploadsAsync(ListMultipartUploadsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listMultipartUploadsRequest Container for the necessary
+     *           parameters to execute the ListMultipartUploads operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         ListMultipartUploads service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<ListMultipartUploadsResult> listMultipartUploadsComposableAsync(final ListMultipartUploadsRequest listMultipartUploadsRequest) {
+        return executeAsync(executorService, new Callable<ListMultipartUploadsResult>() {
             public ListMultipartUploadsResult call() throws Exception {
-              ListMultipartUploadsResult result;
-                try {
-                result = listMultipartUploads(listMultipartUploadsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listMultipartUploadsRequest, result);
-                 return result;
-        }
-    });
+                return listMultipartUploads(listMultipartUploadsRequest);
+            }
+        }, listMultipartUploadsRequest,
+                new ListMultipartUploadsRequestMarshaller(), new ListMultipartUploadsResultJsonUnmarshaller());
     }
     
     /**
@@ -3233,12 +3355,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> setDataRetrievalPolicyAsync(final SetDataRetrievalPolicyRequest setDataRetrievalPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDataRetrievalPolicy(setDataRetrievalPolicyRequest);
-                return null;
-        }
-    });
+        return setDataRetrievalPolicyComposableAsync(setDataRetrievalPolicyRequest);
     }
 
     /**
@@ -3280,18 +3397,32 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final SetDataRetrievalPolicyRequest setDataRetrievalPolicyRequest,
             final AsyncHandler<SetDataRetrievalPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setDataRetrievalPolicyComposableAsync(setDataRetrievalPolicyRequest),
+                setDataRetrievalPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetDataRetrievalPolicy operation like
+     * {@link #setDataRetrievalPolicyAsync(SetDataRetrievalPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setDataRetrievalPolicyRequest Container for the necessary
+     *           parameters to execute the SetDataRetrievalPolicy operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         SetDataRetrievalPolicy service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<Void> setDataRetrievalPolicyComposableAsync(final SetDataRetrievalPolicyRequest setDataRetrievalPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setDataRetrievalPolicy(setDataRetrievalPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setDataRetrievalPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setDataRetrievalPolicyRequest,
+                new SetDataRetrievalPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -3340,12 +3471,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<Void> deleteVaultAsync(final DeleteVaultRequest deleteVaultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVault(deleteVaultRequest);
-                return null;
-        }
-    });
+        return deleteVaultComposableAsync(deleteVaultRequest);
     }
 
     /**
@@ -3400,18 +3526,29 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final DeleteVaultRequest deleteVaultRequest,
             final AsyncHandler<DeleteVaultRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVaultComposableAsync(deleteVaultRequest),
+                deleteVaultRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVault operation like
+     * {@link #deleteVaultAsync(DeleteVaultRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteVaultRequest Container for the necessary parameters to
+     *           execute the DeleteVault operation on AmazonGlacier.
+     *
+     * @return A composable future for the response from the DeleteVault
+     *         service method, as returned by AmazonGlacier.
+     */
+    public ComposableFuture<Void> deleteVaultComposableAsync(final DeleteVaultRequest deleteVaultRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVault(deleteVaultRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVaultRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVaultRequest,
+                new DeleteVaultRequestMarshaller(), null);
     }
     
     /**
@@ -3441,11 +3578,7 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
      */
     public Future<GetDataRetrievalPolicyResult> getDataRetrievalPolicyAsync(final GetDataRetrievalPolicyRequest getDataRetrievalPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDataRetrievalPolicyResult>() {
-            public GetDataRetrievalPolicyResult call() throws Exception {
-                return getDataRetrievalPolicy(getDataRetrievalPolicyRequest);
-        }
-    });
+        return getDataRetrievalPolicyComposableAsync(getDataRetrievalPolicyRequest);
     }
 
     /**
@@ -3481,19 +3614,31 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient
             final GetDataRetrievalPolicyRequest getDataRetrievalPolicyRequest,
             final AsyncHandler<GetDataRetrievalPolicyRequest, GetDataRetrievalPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDataRetrievalPolicyResult>() {
+        return withAsyncHandler(getDataRetrievalPolicyComposableAsync(getDataRetrievalPolicyRequest),
+                getDataRetrievalPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDataRetrievalPolicy operation like
+     * {@link #getDataRetrievalPolicyAsync(GetDataRetrievalPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getDataRetrievalPolicyRequest Container for the necessary
+     *           parameters to execute the GetDataRetrievalPolicy operation on
+     *           AmazonGlacier.
+     *
+     * @return A composable future for the response from the
+     *         GetDataRetrievalPolicy service method, as returned by
+     *         AmazonGlacier.
+     */
+    public ComposableFuture<GetDataRetrievalPolicyResult> getDataRetrievalPolicyComposableAsync(final GetDataRetrievalPolicyRequest getDataRetrievalPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetDataRetrievalPolicyResult>() {
             public GetDataRetrievalPolicyResult call() throws Exception {
-              GetDataRetrievalPolicyResult result;
-                try {
-                result = getDataRetrievalPolicy(getDataRetrievalPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDataRetrievalPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getDataRetrievalPolicy(getDataRetrievalPolicyRequest);
+            }
+        }, getDataRetrievalPolicyRequest,
+                new GetDataRetrievalPolicyRequestMarshaller(), new GetDataRetrievalPolicyResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.identitymanagement.model.*;
+import com.amazonaws.services.identitymanagement.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonIdentityManagement.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Identity and Access Management <p>
  * AWS Identity and Access Management (IAM) is a web service that you
  * can use to manage users and user permissions under your AWS account.
@@ -382,12 +386,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountAliasAsync(final DeleteAccountAliasRequest deleteAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccountAlias(deleteAccountAliasRequest);
-                return null;
-        }
-    });
+        return deleteAccountAliasComposableAsync(deleteAccountAliasRequest);
     }
 
     /**
@@ -423,18 +422,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccountAliasRequest deleteAccountAliasRequest,
             final AsyncHandler<DeleteAccountAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAccountAliasComposableAsync(deleteAccountAliasRequest),
+                deleteAccountAliasRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAccountAlias operation like
+     * {@link #deleteAccountAliasAsync(DeleteAccountAliasRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteAccountAliasRequest Container for the necessary
+     *           parameters to execute the DeleteAccountAlias operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteAccountAliasComposableAsync(final DeleteAccountAliasRequest deleteAccountAliasRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAccountAlias(deleteAccountAliasRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAccountAliasRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAccountAliasRequest,
+                new DeleteAccountAliasRequestMarshaller(), null);
     }
     
     /**
@@ -463,11 +476,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsResult> listGroupsAsync(final ListGroupsRequest listGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsResult>() {
-            public ListGroupsResult call() throws Exception {
-                return listGroups(listGroupsRequest);
-        }
-    });
+        return listGroupsComposableAsync(listGroupsRequest);
     }
 
     /**
@@ -502,19 +511,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupsRequest listGroupsRequest,
             final AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsResult>() {
+        return withAsyncHandler(listGroupsComposableAsync(listGroupsRequest),
+                listGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGroups operation like
+     * {@link #listGroupsAsync(ListGroupsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listGroupsRequest Container for the necessary parameters to
+     *           execute the ListGroups operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListGroups
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListGroupsResult> listGroupsComposableAsync(final ListGroupsRequest listGroupsRequest) {
+        return executeAsync(executorService, new Callable<ListGroupsResult>() {
             public ListGroupsResult call() throws Exception {
-              ListGroupsResult result;
-                try {
-                result = listGroups(listGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGroupsRequest, result);
-                 return result;
-        }
-    });
+                return listGroups(listGroupsRequest);
+            }
+        }, listGroupsRequest,
+                new ListGroupsRequestMarshaller(), new ListGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -546,12 +564,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteVirtualMFADeviceAsync(final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVirtualMFADevice(deleteVirtualMFADeviceRequest);
-                return null;
-        }
-    });
+        return deleteVirtualMFADeviceComposableAsync(deleteVirtualMFADeviceRequest);
     }
 
     /**
@@ -589,18 +602,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest,
             final AsyncHandler<DeleteVirtualMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVirtualMFADeviceComposableAsync(deleteVirtualMFADeviceRequest),
+                deleteVirtualMFADeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVirtualMFADevice operation like
+     * {@link #deleteVirtualMFADeviceAsync(DeleteVirtualMFADeviceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVirtualMFADeviceRequest Container for the necessary
+     *           parameters to execute the DeleteVirtualMFADevice operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVirtualMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteVirtualMFADeviceComposableAsync(final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVirtualMFADevice(deleteVirtualMFADeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVirtualMFADeviceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVirtualMFADeviceRequest,
+                new DeleteVirtualMFADeviceRequestMarshaller(), null);
     }
     
     /**
@@ -646,12 +673,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putUserPolicyAsync(final PutUserPolicyRequest putUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putUserPolicy(putUserPolicyRequest);
-                return null;
-        }
-    });
+        return putUserPolicyComposableAsync(putUserPolicyRequest);
     }
 
     /**
@@ -703,18 +725,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutUserPolicyRequest putUserPolicyRequest,
             final AsyncHandler<PutUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putUserPolicyComposableAsync(putUserPolicyRequest),
+                putUserPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutUserPolicy operation like
+     * {@link #putUserPolicyAsync(PutUserPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putUserPolicyRequest Container for the necessary parameters to
+     *           execute the PutUserPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the PutUserPolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> putUserPolicyComposableAsync(final PutUserPolicyRequest putUserPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putUserPolicy(putUserPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putUserPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putUserPolicyRequest,
+                new PutUserPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -744,11 +777,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListSAMLProvidersResult> listSAMLProvidersAsync(final ListSAMLProvidersRequest listSAMLProvidersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSAMLProvidersResult>() {
-            public ListSAMLProvidersResult call() throws Exception {
-                return listSAMLProviders(listSAMLProvidersRequest);
-        }
-    });
+        return listSAMLProvidersComposableAsync(listSAMLProvidersRequest);
     }
 
     /**
@@ -784,19 +813,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListSAMLProvidersRequest listSAMLProvidersRequest,
             final AsyncHandler<ListSAMLProvidersRequest, ListSAMLProvidersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSAMLProvidersResult>() {
+        return withAsyncHandler(listSAMLProvidersComposableAsync(listSAMLProvidersRequest),
+                listSAMLProvidersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListSAMLProviders operation like
+     * {@link #listSAMLProvidersAsync(ListSAMLProvidersRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listSAMLProvidersRequest Container for the necessary parameters
+     *           to execute the ListSAMLProviders operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListSAMLProviders service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListSAMLProvidersResult> listSAMLProvidersComposableAsync(final ListSAMLProvidersRequest listSAMLProvidersRequest) {
+        return executeAsync(executorService, new Callable<ListSAMLProvidersResult>() {
             public ListSAMLProvidersResult call() throws Exception {
-              ListSAMLProvidersResult result;
-                try {
-                result = listSAMLProviders(listSAMLProvidersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSAMLProvidersRequest, result);
-                 return result;
-        }
-    });
+                return listSAMLProviders(listSAMLProvidersRequest);
+            }
+        }, listSAMLProvidersRequest,
+                new ListSAMLProvidersRequestMarshaller(), new ListSAMLProvidersResultStaxUnmarshaller());
     }
     
     /**
@@ -833,11 +874,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserPolicyResult> getUserPolicyAsync(final GetUserPolicyRequest getUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserPolicyResult>() {
-            public GetUserPolicyResult call() throws Exception {
-                return getUserPolicy(getUserPolicyRequest);
-        }
-    });
+        return getUserPolicyComposableAsync(getUserPolicyRequest);
     }
 
     /**
@@ -880,19 +917,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetUserPolicyRequest getUserPolicyRequest,
             final AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserPolicyResult>() {
+        return withAsyncHandler(getUserPolicyComposableAsync(getUserPolicyRequest),
+                getUserPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetUserPolicy operation like
+     * {@link #getUserPolicyAsync(GetUserPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getUserPolicyRequest Container for the necessary parameters to
+     *           execute the GetUserPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetUserPolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetUserPolicyResult> getUserPolicyComposableAsync(final GetUserPolicyRequest getUserPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetUserPolicyResult>() {
             public GetUserPolicyResult call() throws Exception {
-              GetUserPolicyResult result;
-                try {
-                result = getUserPolicy(getUserPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getUserPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getUserPolicy(getUserPolicyRequest);
+            }
+        }, getUserPolicyRequest,
+                new GetUserPolicyRequestMarshaller(), new GetUserPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -929,12 +975,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteOpenIDConnectProviderAsync(final DeleteOpenIDConnectProviderRequest deleteOpenIDConnectProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteOpenIDConnectProvider(deleteOpenIDConnectProviderRequest);
-                return null;
-        }
-    });
+        return deleteOpenIDConnectProviderComposableAsync(deleteOpenIDConnectProviderRequest);
     }
 
     /**
@@ -977,18 +1018,33 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteOpenIDConnectProviderRequest deleteOpenIDConnectProviderRequest,
             final AsyncHandler<DeleteOpenIDConnectProviderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteOpenIDConnectProviderComposableAsync(deleteOpenIDConnectProviderRequest),
+                deleteOpenIDConnectProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteOpenIDConnectProvider operation
+     * like
+     * {@link #deleteOpenIDConnectProviderAsync(DeleteOpenIDConnectProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteOpenIDConnectProviderRequest Container for the necessary
+     *           parameters to execute the DeleteOpenIDConnectProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteOpenIDConnectProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteOpenIDConnectProviderComposableAsync(final DeleteOpenIDConnectProviderRequest deleteOpenIDConnectProviderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteOpenIDConnectProvider(deleteOpenIDConnectProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteOpenIDConnectProviderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteOpenIDConnectProviderRequest,
+                new DeleteOpenIDConnectProviderRequestMarshaller(), null);
     }
     
     /**
@@ -1030,12 +1086,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateSigningCertificateAsync(final UpdateSigningCertificateRequest updateSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateSigningCertificate(updateSigningCertificateRequest);
-                return null;
-        }
-    });
+        return updateSigningCertificateComposableAsync(updateSigningCertificateRequest);
     }
 
     /**
@@ -1083,18 +1134,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateSigningCertificateRequest updateSigningCertificateRequest,
             final AsyncHandler<UpdateSigningCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateSigningCertificateComposableAsync(updateSigningCertificateRequest),
+                updateSigningCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateSigningCertificate operation like
+     * {@link #updateSigningCertificateAsync(UpdateSigningCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateSigningCertificateComposableAsync(final UpdateSigningCertificateRequest updateSigningCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateSigningCertificate(updateSigningCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateSigningCertificateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateSigningCertificateRequest,
+                new UpdateSigningCertificateRequestMarshaller(), null);
     }
     
     /**
@@ -1125,11 +1190,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                return listUsers(listUsersRequest);
-        }
-    });
+        return listUsersComposableAsync(listUsersRequest);
     }
 
     /**
@@ -1166,19 +1227,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
+        return withAsyncHandler(listUsersComposableAsync(listUsersRequest),
+                listUsersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListUsers operation like
+     * {@link #listUsersAsync(ListUsersRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listUsersRequest Container for the necessary parameters to
+     *           execute the ListUsers operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListUsers
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListUsersResult> listUsersComposableAsync(final ListUsersRequest listUsersRequest) {
+        return executeAsync(executorService, new Callable<ListUsersResult>() {
             public ListUsersResult call() throws Exception {
-              ListUsersResult result;
-                try {
-                result = listUsers(listUsersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listUsersRequest, result);
-                 return result;
-        }
-    });
+                return listUsers(listUsersRequest);
+            }
+        }, listUsersRequest,
+                new ListUsersRequestMarshaller(), new ListUsersResultStaxUnmarshaller());
     }
     
     /**
@@ -1218,12 +1288,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> attachRolePolicyAsync(final AttachRolePolicyRequest attachRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachRolePolicy(attachRolePolicyRequest);
-                return null;
-        }
-    });
+        return attachRolePolicyComposableAsync(attachRolePolicyRequest);
     }
 
     /**
@@ -1269,18 +1334,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AttachRolePolicyRequest attachRolePolicyRequest,
             final AsyncHandler<AttachRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(attachRolePolicyComposableAsync(attachRolePolicyRequest),
+                attachRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachRolePolicy operation like
+     * {@link #attachRolePolicyAsync(AttachRolePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param attachRolePolicyRequest Container for the necessary parameters
+     *           to execute the AttachRolePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         AttachRolePolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> attachRolePolicyComposableAsync(final AttachRolePolicyRequest attachRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 attachRolePolicy(attachRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachRolePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, attachRolePolicyRequest,
+                new AttachRolePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -1310,11 +1387,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetCredentialReportResult> getCredentialReportAsync(final GetCredentialReportRequest getCredentialReportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCredentialReportResult>() {
-            public GetCredentialReportResult call() throws Exception {
-                return getCredentialReport(getCredentialReportRequest);
-        }
-    });
+        return getCredentialReportComposableAsync(getCredentialReportRequest);
     }
 
     /**
@@ -1350,19 +1423,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetCredentialReportRequest getCredentialReportRequest,
             final AsyncHandler<GetCredentialReportRequest, GetCredentialReportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCredentialReportResult>() {
+        return withAsyncHandler(getCredentialReportComposableAsync(getCredentialReportRequest),
+                getCredentialReportRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetCredentialReport operation like
+     * {@link #getCredentialReportAsync(GetCredentialReportRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getCredentialReportRequest Container for the necessary
+     *           parameters to execute the GetCredentialReport operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetCredentialReport service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetCredentialReportResult> getCredentialReportComposableAsync(final GetCredentialReportRequest getCredentialReportRequest) {
+        return executeAsync(executorService, new Callable<GetCredentialReportResult>() {
             public GetCredentialReportResult call() throws Exception {
-              GetCredentialReportResult result;
-                try {
-                result = getCredentialReport(getCredentialReportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getCredentialReportRequest, result);
-                 return result;
-        }
-    });
+                return getCredentialReport(getCredentialReportRequest);
+            }
+        }, getCredentialReportRequest,
+                new GetCredentialReportRequestMarshaller(), new GetCredentialReportResultStaxUnmarshaller());
     }
     
     /**
@@ -1390,12 +1475,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> enableMFADeviceAsync(final EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMFADevice(enableMFADeviceRequest);
-                return null;
-        }
-    });
+        return enableMFADeviceComposableAsync(enableMFADeviceRequest);
     }
 
     /**
@@ -1429,18 +1509,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final EnableMFADeviceRequest enableMFADeviceRequest,
             final AsyncHandler<EnableMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableMFADeviceComposableAsync(enableMFADeviceRequest),
+                enableMFADeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableMFADevice operation like
+     * {@link #enableMFADeviceAsync(EnableMFADeviceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param enableMFADeviceRequest Container for the necessary parameters
+     *           to execute the EnableMFADevice operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         EnableMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> enableMFADeviceComposableAsync(final EnableMFADeviceRequest enableMFADeviceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableMFADevice(enableMFADeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableMFADeviceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableMFADeviceRequest,
+                new EnableMFADeviceRequestMarshaller(), null);
     }
     
     /**
@@ -1467,12 +1559,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountPasswordPolicyAsync(final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccountPasswordPolicy(deleteAccountPasswordPolicyRequest);
-                return null;
-        }
-    });
+        return deleteAccountPasswordPolicyComposableAsync(deleteAccountPasswordPolicyRequest);
     }
 
     /**
@@ -1505,18 +1592,33 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest,
             final AsyncHandler<DeleteAccountPasswordPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAccountPasswordPolicyComposableAsync(deleteAccountPasswordPolicyRequest),
+                deleteAccountPasswordPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAccountPasswordPolicy operation
+     * like
+     * {@link #deleteAccountPasswordPolicyAsync(DeleteAccountPasswordPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteAccountPasswordPolicyRequest Container for the necessary
+     *           parameters to execute the DeleteAccountPasswordPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAccountPasswordPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteAccountPasswordPolicyComposableAsync(final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAccountPasswordPolicy(deleteAccountPasswordPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAccountPasswordPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAccountPasswordPolicyRequest,
+                new DeleteAccountPasswordPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -1544,11 +1646,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetLoginProfileResult> getLoginProfileAsync(final GetLoginProfileRequest getLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLoginProfileResult>() {
-            public GetLoginProfileResult call() throws Exception {
-                return getLoginProfile(getLoginProfileRequest);
-        }
-    });
+        return getLoginProfileComposableAsync(getLoginProfileRequest);
     }
 
     /**
@@ -1582,19 +1680,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetLoginProfileRequest getLoginProfileRequest,
             final AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLoginProfileResult>() {
+        return withAsyncHandler(getLoginProfileComposableAsync(getLoginProfileRequest),
+                getLoginProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetLoginProfile operation like
+     * {@link #getLoginProfileAsync(GetLoginProfileRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getLoginProfileRequest Container for the necessary parameters
+     *           to execute the GetLoginProfile operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetLoginProfileResult> getLoginProfileComposableAsync(final GetLoginProfileRequest getLoginProfileRequest) {
+        return executeAsync(executorService, new Callable<GetLoginProfileResult>() {
             public GetLoginProfileResult call() throws Exception {
-              GetLoginProfileResult result;
-                try {
-                result = getLoginProfile(getLoginProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getLoginProfileRequest, result);
-                 return result;
-        }
-    });
+                return getLoginProfile(getLoginProfileRequest);
+            }
+        }, getLoginProfileRequest,
+                new GetLoginProfileRequestMarshaller(), new GetLoginProfileResultStaxUnmarshaller());
     }
     
     /**
@@ -1624,11 +1732,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UpdateSAMLProviderResult> updateSAMLProviderAsync(final UpdateSAMLProviderRequest updateSAMLProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSAMLProviderResult>() {
-            public UpdateSAMLProviderResult call() throws Exception {
-                return updateSAMLProvider(updateSAMLProviderRequest);
-        }
-    });
+        return updateSAMLProviderComposableAsync(updateSAMLProviderRequest);
     }
 
     /**
@@ -1664,19 +1768,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateSAMLProviderRequest updateSAMLProviderRequest,
             final AsyncHandler<UpdateSAMLProviderRequest, UpdateSAMLProviderResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSAMLProviderResult>() {
+        return withAsyncHandler(updateSAMLProviderComposableAsync(updateSAMLProviderRequest),
+                updateSAMLProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateSAMLProvider operation like
+     * {@link #updateSAMLProviderAsync(UpdateSAMLProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateSAMLProviderRequest Container for the necessary
+     *           parameters to execute the UpdateSAMLProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateSAMLProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<UpdateSAMLProviderResult> updateSAMLProviderComposableAsync(final UpdateSAMLProviderRequest updateSAMLProviderRequest) {
+        return executeAsync(executorService, new Callable<UpdateSAMLProviderResult>() {
             public UpdateSAMLProviderResult call() throws Exception {
-              UpdateSAMLProviderResult result;
-                try {
-                result = updateSAMLProvider(updateSAMLProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateSAMLProviderRequest, result);
-                 return result;
-        }
-    });
+                return updateSAMLProvider(updateSAMLProviderRequest);
+            }
+        }, updateSAMLProviderRequest,
+                new UpdateSAMLProviderRequestMarshaller(), new UpdateSAMLProviderResultStaxUnmarshaller());
     }
     
     /**
@@ -1720,11 +1836,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadServerCertificateResult> uploadServerCertificateAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
-            public UploadServerCertificateResult call() throws Exception {
-                return uploadServerCertificate(uploadServerCertificateRequest);
-        }
-    });
+        return uploadServerCertificateComposableAsync(uploadServerCertificateRequest);
     }
 
     /**
@@ -1774,19 +1886,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UploadServerCertificateRequest uploadServerCertificateRequest,
             final AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
+        return withAsyncHandler(uploadServerCertificateComposableAsync(uploadServerCertificateRequest),
+                uploadServerCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadServerCertificate operation like
+     * {@link #uploadServerCertificateAsync(UploadServerCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param uploadServerCertificateRequest Container for the necessary
+     *           parameters to execute the UploadServerCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UploadServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<UploadServerCertificateResult> uploadServerCertificateComposableAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) {
+        return executeAsync(executorService, new Callable<UploadServerCertificateResult>() {
             public UploadServerCertificateResult call() throws Exception {
-              UploadServerCertificateResult result;
-                try {
-                result = uploadServerCertificate(uploadServerCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadServerCertificateRequest, result);
-                 return result;
-        }
-    });
+                return uploadServerCertificate(uploadServerCertificateRequest);
+            }
+        }, uploadServerCertificateRequest,
+                new UploadServerCertificateRequestMarshaller(), new UploadServerCertificateResultStaxUnmarshaller());
     }
     
     /**
@@ -1816,12 +1940,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> createAccountAliasAsync(final CreateAccountAliasRequest createAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAccountAlias(createAccountAliasRequest);
-                return null;
-        }
-    });
+        return createAccountAliasComposableAsync(createAccountAliasRequest);
     }
 
     /**
@@ -1857,18 +1976,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateAccountAliasRequest createAccountAliasRequest,
             final AsyncHandler<CreateAccountAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createAccountAliasComposableAsync(createAccountAliasRequest),
+                createAccountAliasRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAccountAlias operation like
+     * {@link #createAccountAliasAsync(CreateAccountAliasRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createAccountAliasRequest Container for the necessary
+     *           parameters to execute the CreateAccountAlias operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateAccountAlias service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> createAccountAliasComposableAsync(final CreateAccountAliasRequest createAccountAliasRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createAccountAlias(createAccountAliasRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAccountAliasRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createAccountAliasRequest,
+                new CreateAccountAliasRequestMarshaller(), null);
     }
     
     /**
@@ -1910,11 +2043,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAttachedUserPoliciesResult> listAttachedUserPoliciesAsync(final ListAttachedUserPoliciesRequest listAttachedUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedUserPoliciesResult>() {
-            public ListAttachedUserPoliciesResult call() throws Exception {
-                return listAttachedUserPolicies(listAttachedUserPoliciesRequest);
-        }
-    });
+        return listAttachedUserPoliciesComposableAsync(listAttachedUserPoliciesRequest);
     }
 
     /**
@@ -1962,19 +2091,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAttachedUserPoliciesRequest listAttachedUserPoliciesRequest,
             final AsyncHandler<ListAttachedUserPoliciesRequest, ListAttachedUserPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedUserPoliciesResult>() {
+        return withAsyncHandler(listAttachedUserPoliciesComposableAsync(listAttachedUserPoliciesRequest),
+                listAttachedUserPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAttachedUserPolicies operation like
+     * {@link #listAttachedUserPoliciesAsync(ListAttachedUserPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAttachedUserPoliciesRequest Container for the necessary
+     *           parameters to execute the ListAttachedUserPolicies operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListAttachedUserPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListAttachedUserPoliciesResult> listAttachedUserPoliciesComposableAsync(final ListAttachedUserPoliciesRequest listAttachedUserPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListAttachedUserPoliciesResult>() {
             public ListAttachedUserPoliciesResult call() throws Exception {
-              ListAttachedUserPoliciesResult result;
-                try {
-                result = listAttachedUserPolicies(listAttachedUserPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAttachedUserPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listAttachedUserPolicies(listAttachedUserPoliciesRequest);
+            }
+        }, listAttachedUserPoliciesRequest,
+                new ListAttachedUserPoliciesRequestMarshaller(), new ListAttachedUserPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -2022,12 +2163,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-        }
-    });
+        return deletePolicyComposableAsync(deletePolicyRequest);
     }
 
     /**
@@ -2081,20 +2217,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePolicy(deletePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePolicyRequest, null);
-                 return null;
-        }
-    });
+        return withAsyncHandler(deletePolicyComposableAsync(deletePolicyRequest),
+                deletePolicyRequest, asyncHandler);
     }
-    
+
+    /**
+     * Asynchronously executes the DeletePolicy operation like
+     * {@link #deletePolicyAsync(DeletePolicyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deletePolicyRequest Container for the necessary parameters to
+     *           execute the DeletePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the DeletePolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deletePolicyComposableAsync(final DeletePolicyRequest deletePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
+            public Void call() throws Exception {
+                deletePolicy(deletePolicyRequest);
+                return null;
+            }
+        }, deletePolicyRequest,
+                new DeletePolicyRequestMarshaller(), null);
+    }
+    
     /**
      * <p>
      * Deletes the specified role. The role must not have any policies
@@ -2126,12 +2273,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteRoleAsync(final DeleteRoleRequest deleteRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRole(deleteRoleRequest);
-                return null;
-        }
-    });
+        return deleteRoleComposableAsync(deleteRoleRequest);
     }
 
     /**
@@ -2171,18 +2313,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteRoleRequest deleteRoleRequest,
             final AsyncHandler<DeleteRoleRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteRoleComposableAsync(deleteRoleRequest),
+                deleteRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRole operation like
+     * {@link #deleteRoleAsync(DeleteRoleRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteRoleRequest Container for the necessary parameters to
+     *           execute the DeleteRole operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the DeleteRole
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteRoleComposableAsync(final DeleteRoleRequest deleteRoleRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteRole(deleteRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRoleRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteRoleRequest,
+                new DeleteRoleRequestMarshaller(), null);
     }
     
     /**
@@ -2230,11 +2383,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateAccessKeyResult> createAccessKeyAsync(final CreateAccessKeyRequest createAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAccessKeyResult>() {
-            public CreateAccessKeyResult call() throws Exception {
-                return createAccessKey(createAccessKeyRequest);
-        }
-    });
+        return createAccessKeyComposableAsync(createAccessKeyRequest);
     }
 
     /**
@@ -2288,19 +2437,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateAccessKeyRequest createAccessKeyRequest,
             final AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAccessKeyResult>() {
+        return withAsyncHandler(createAccessKeyComposableAsync(createAccessKeyRequest),
+                createAccessKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAccessKey operation like
+     * {@link #createAccessKeyAsync(CreateAccessKeyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createAccessKeyRequest Container for the necessary parameters
+     *           to execute the CreateAccessKey operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateAccessKeyResult> createAccessKeyComposableAsync(final CreateAccessKeyRequest createAccessKeyRequest) {
+        return executeAsync(executorService, new Callable<CreateAccessKeyResult>() {
             public CreateAccessKeyResult call() throws Exception {
-              CreateAccessKeyResult result;
-                try {
-                result = createAccessKey(createAccessKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAccessKeyRequest, result);
-                 return result;
-        }
-    });
+                return createAccessKey(createAccessKeyRequest);
+            }
+        }, createAccessKeyRequest,
+                new CreateAccessKeyRequestMarshaller(), new CreateAccessKeyResultStaxUnmarshaller());
     }
     
     /**
@@ -2330,11 +2489,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserResult> getUserAsync(final GetUserRequest getUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserResult>() {
-            public GetUserResult call() throws Exception {
-                return getUser(getUserRequest);
-        }
-    });
+        return getUserComposableAsync(getUserRequest);
     }
 
     /**
@@ -2370,19 +2525,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetUserRequest getUserRequest,
             final AsyncHandler<GetUserRequest, GetUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserResult>() {
+        return withAsyncHandler(getUserComposableAsync(getUserRequest),
+                getUserRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetUser operation like
+     * {@link #getUserAsync(GetUserRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param getUserRequest Container for the necessary parameters to
+     *           execute the GetUser operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetUser
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetUserResult> getUserComposableAsync(final GetUserRequest getUserRequest) {
+        return executeAsync(executorService, new Callable<GetUserResult>() {
             public GetUserResult call() throws Exception {
-              GetUserResult result;
-                try {
-                result = getUser(getUserRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getUserRequest, result);
-                 return result;
-        }
-    });
+                return getUser(getUserRequest);
+            }
+        }, getUserRequest,
+                new GetUserRequestMarshaller(), new GetUserResultStaxUnmarshaller());
     }
     
     /**
@@ -2424,11 +2588,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAttachedGroupPoliciesResult> listAttachedGroupPoliciesAsync(final ListAttachedGroupPoliciesRequest listAttachedGroupPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedGroupPoliciesResult>() {
-            public ListAttachedGroupPoliciesResult call() throws Exception {
-                return listAttachedGroupPolicies(listAttachedGroupPoliciesRequest);
-        }
-    });
+        return listAttachedGroupPoliciesComposableAsync(listAttachedGroupPoliciesRequest);
     }
 
     /**
@@ -2476,19 +2636,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAttachedGroupPoliciesRequest listAttachedGroupPoliciesRequest,
             final AsyncHandler<ListAttachedGroupPoliciesRequest, ListAttachedGroupPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedGroupPoliciesResult>() {
+        return withAsyncHandler(listAttachedGroupPoliciesComposableAsync(listAttachedGroupPoliciesRequest),
+                listAttachedGroupPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAttachedGroupPolicies operation like
+     * {@link #listAttachedGroupPoliciesAsync(ListAttachedGroupPoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAttachedGroupPoliciesRequest Container for the necessary
+     *           parameters to execute the ListAttachedGroupPolicies operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListAttachedGroupPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListAttachedGroupPoliciesResult> listAttachedGroupPoliciesComposableAsync(final ListAttachedGroupPoliciesRequest listAttachedGroupPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListAttachedGroupPoliciesResult>() {
             public ListAttachedGroupPoliciesResult call() throws Exception {
-              ListAttachedGroupPoliciesResult result;
-                try {
-                result = listAttachedGroupPolicies(listAttachedGroupPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAttachedGroupPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listAttachedGroupPolicies(listAttachedGroupPoliciesRequest);
+            }
+        }, listAttachedGroupPoliciesRequest,
+                new ListAttachedGroupPoliciesRequestMarshaller(), new ListAttachedGroupPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -2521,11 +2693,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListMFADevicesResult> listMFADevicesAsync(final ListMFADevicesRequest listMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMFADevicesResult>() {
-            public ListMFADevicesResult call() throws Exception {
-                return listMFADevices(listMFADevicesRequest);
-        }
-    });
+        return listMFADevicesComposableAsync(listMFADevicesRequest);
     }
 
     /**
@@ -2564,19 +2732,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListMFADevicesRequest listMFADevicesRequest,
             final AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMFADevicesResult>() {
+        return withAsyncHandler(listMFADevicesComposableAsync(listMFADevicesRequest),
+                listMFADevicesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListMFADevices operation like
+     * {@link #listMFADevicesAsync(ListMFADevicesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listMFADevicesRequest Container for the necessary parameters to
+     *           execute the ListMFADevices operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListMFADevices
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListMFADevicesResult> listMFADevicesComposableAsync(final ListMFADevicesRequest listMFADevicesRequest) {
+        return executeAsync(executorService, new Callable<ListMFADevicesResult>() {
             public ListMFADevicesResult call() throws Exception {
-              ListMFADevicesResult result;
-                try {
-                result = listMFADevices(listMFADevicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listMFADevicesRequest, result);
-                 return result;
-        }
-    });
+                return listMFADevices(listMFADevicesRequest);
+            }
+        }, listMFADevicesRequest,
+                new ListMFADevicesRequestMarshaller(), new ListMFADevicesResultStaxUnmarshaller());
     }
     
     /**
@@ -2608,12 +2785,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> resyncMFADeviceAsync(final ResyncMFADeviceRequest resyncMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resyncMFADevice(resyncMFADeviceRequest);
-                return null;
-        }
-    });
+        return resyncMFADeviceComposableAsync(resyncMFADeviceRequest);
     }
 
     /**
@@ -2651,18 +2823,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ResyncMFADeviceRequest resyncMFADeviceRequest,
             final AsyncHandler<ResyncMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(resyncMFADeviceComposableAsync(resyncMFADeviceRequest),
+                resyncMFADeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResyncMFADevice operation like
+     * {@link #resyncMFADeviceAsync(ResyncMFADeviceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param resyncMFADeviceRequest Container for the necessary parameters
+     *           to execute the ResyncMFADevice operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ResyncMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> resyncMFADeviceComposableAsync(final ResyncMFADeviceRequest resyncMFADeviceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 resyncMFADevice(resyncMFADeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resyncMFADeviceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, resyncMFADeviceRequest,
+                new ResyncMFADeviceRequestMarshaller(), null);
     }
     
     /**
@@ -2707,11 +2891,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateVirtualMFADeviceResult> createVirtualMFADeviceAsync(final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVirtualMFADeviceResult>() {
-            public CreateVirtualMFADeviceResult call() throws Exception {
-                return createVirtualMFADevice(createVirtualMFADeviceRequest);
-        }
-    });
+        return createVirtualMFADeviceComposableAsync(createVirtualMFADeviceRequest);
     }
 
     /**
@@ -2762,19 +2942,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest,
             final AsyncHandler<CreateVirtualMFADeviceRequest, CreateVirtualMFADeviceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVirtualMFADeviceResult>() {
+        return withAsyncHandler(createVirtualMFADeviceComposableAsync(createVirtualMFADeviceRequest),
+                createVirtualMFADeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateVirtualMFADevice operation like
+     * {@link #createVirtualMFADeviceAsync(CreateVirtualMFADeviceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createVirtualMFADeviceRequest Container for the necessary
+     *           parameters to execute the CreateVirtualMFADevice operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateVirtualMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateVirtualMFADeviceResult> createVirtualMFADeviceComposableAsync(final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest) {
+        return executeAsync(executorService, new Callable<CreateVirtualMFADeviceResult>() {
             public CreateVirtualMFADeviceResult call() throws Exception {
-              CreateVirtualMFADeviceResult result;
-                try {
-                result = createVirtualMFADevice(createVirtualMFADeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVirtualMFADeviceRequest, result);
-                 return result;
-        }
-    });
+                return createVirtualMFADevice(createVirtualMFADeviceRequest);
+            }
+        }, createVirtualMFADeviceRequest,
+                new CreateVirtualMFADeviceRequestMarshaller(), new CreateVirtualMFADeviceResultStaxUnmarshaller());
     }
     
     /**
@@ -2812,12 +3004,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deletePolicyVersionAsync(final DeletePolicyVersionRequest deletePolicyVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicyVersion(deletePolicyVersionRequest);
-                return null;
-        }
-    });
+        return deletePolicyVersionComposableAsync(deletePolicyVersionRequest);
     }
 
     /**
@@ -2861,18 +3048,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeletePolicyVersionRequest deletePolicyVersionRequest,
             final AsyncHandler<DeletePolicyVersionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deletePolicyVersionComposableAsync(deletePolicyVersionRequest),
+                deletePolicyVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePolicyVersion operation like
+     * {@link #deletePolicyVersionAsync(DeletePolicyVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deletePolicyVersionRequest Container for the necessary
+     *           parameters to execute the DeletePolicyVersion operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeletePolicyVersion service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deletePolicyVersionComposableAsync(final DeletePolicyVersionRequest deletePolicyVersionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deletePolicyVersion(deletePolicyVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePolicyVersionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deletePolicyVersionRequest,
+                new DeletePolicyVersionRequestMarshaller(), null);
     }
     
     /**
@@ -2922,11 +3123,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateOpenIDConnectProviderResult> createOpenIDConnectProviderAsync(final CreateOpenIDConnectProviderRequest createOpenIDConnectProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateOpenIDConnectProviderResult>() {
-            public CreateOpenIDConnectProviderResult call() throws Exception {
-                return createOpenIDConnectProvider(createOpenIDConnectProviderRequest);
-        }
-    });
+        return createOpenIDConnectProviderComposableAsync(createOpenIDConnectProviderRequest);
     }
 
     /**
@@ -2982,19 +3179,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateOpenIDConnectProviderRequest createOpenIDConnectProviderRequest,
             final AsyncHandler<CreateOpenIDConnectProviderRequest, CreateOpenIDConnectProviderResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateOpenIDConnectProviderResult>() {
+        return withAsyncHandler(createOpenIDConnectProviderComposableAsync(createOpenIDConnectProviderRequest),
+                createOpenIDConnectProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateOpenIDConnectProvider operation
+     * like
+     * {@link #createOpenIDConnectProviderAsync(CreateOpenIDConnectProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createOpenIDConnectProviderRequest Container for the necessary
+     *           parameters to execute the CreateOpenIDConnectProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateOpenIDConnectProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateOpenIDConnectProviderResult> createOpenIDConnectProviderComposableAsync(final CreateOpenIDConnectProviderRequest createOpenIDConnectProviderRequest) {
+        return executeAsync(executorService, new Callable<CreateOpenIDConnectProviderResult>() {
             public CreateOpenIDConnectProviderResult call() throws Exception {
-              CreateOpenIDConnectProviderResult result;
-                try {
-                result = createOpenIDConnectProvider(createOpenIDConnectProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createOpenIDConnectProviderRequest, result);
-                 return result;
-        }
-    });
+                return createOpenIDConnectProvider(createOpenIDConnectProviderRequest);
+            }
+        }, createOpenIDConnectProviderRequest,
+                new CreateOpenIDConnectProviderRequestMarshaller(), new CreateOpenIDConnectProviderResultStaxUnmarshaller());
     }
     
     /**
@@ -3028,11 +3238,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccountAliasesResult> listAccountAliasesAsync(final ListAccountAliasesRequest listAccountAliasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccountAliasesResult>() {
-            public ListAccountAliasesResult call() throws Exception {
-                return listAccountAliases(listAccountAliasesRequest);
-        }
-    });
+        return listAccountAliasesComposableAsync(listAccountAliasesRequest);
     }
 
     /**
@@ -3072,19 +3278,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAccountAliasesRequest listAccountAliasesRequest,
             final AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccountAliasesResult>() {
+        return withAsyncHandler(listAccountAliasesComposableAsync(listAccountAliasesRequest),
+                listAccountAliasesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAccountAliases operation like
+     * {@link #listAccountAliasesAsync(ListAccountAliasesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAccountAliasesRequest Container for the necessary
+     *           parameters to execute the ListAccountAliases operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListAccountAliases service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListAccountAliasesResult> listAccountAliasesComposableAsync(final ListAccountAliasesRequest listAccountAliasesRequest) {
+        return executeAsync(executorService, new Callable<ListAccountAliasesResult>() {
             public ListAccountAliasesResult call() throws Exception {
-              ListAccountAliasesResult result;
-                try {
-                result = listAccountAliases(listAccountAliasesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAccountAliasesRequest, result);
-                 return result;
-        }
-    });
+                return listAccountAliases(listAccountAliasesRequest);
+            }
+        }, listAccountAliasesRequest,
+                new ListAccountAliasesRequestMarshaller(), new ListAccountAliasesResultStaxUnmarshaller());
     }
     
     /**
@@ -3119,11 +3337,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetRoleResult> getRoleAsync(final GetRoleRequest getRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRoleResult>() {
-            public GetRoleResult call() throws Exception {
-                return getRole(getRoleRequest);
-        }
-    });
+        return getRoleComposableAsync(getRoleRequest);
     }
 
     /**
@@ -3164,19 +3378,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetRoleRequest getRoleRequest,
             final AsyncHandler<GetRoleRequest, GetRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRoleResult>() {
+        return withAsyncHandler(getRoleComposableAsync(getRoleRequest),
+                getRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetRole operation like
+     * {@link #getRoleAsync(GetRoleRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param getRoleRequest Container for the necessary parameters to
+     *           execute the GetRole operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetRole
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetRoleResult> getRoleComposableAsync(final GetRoleRequest getRoleRequest) {
+        return executeAsync(executorService, new Callable<GetRoleResult>() {
             public GetRoleResult call() throws Exception {
-              GetRoleResult result;
-                try {
-                result = getRole(getRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getRoleRequest, result);
-                 return result;
-        }
-    });
+                return getRole(getRoleRequest);
+            }
+        }, getRoleRequest,
+                new GetRoleRequestMarshaller(), new GetRoleResultStaxUnmarshaller());
     }
     
     /**
@@ -3216,11 +3439,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListRolePoliciesResult> listRolePoliciesAsync(final ListRolePoliciesRequest listRolePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolePoliciesResult>() {
-            public ListRolePoliciesResult call() throws Exception {
-                return listRolePolicies(listRolePoliciesRequest);
-        }
-    });
+        return listRolePoliciesComposableAsync(listRolePoliciesRequest);
     }
 
     /**
@@ -3266,19 +3485,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListRolePoliciesRequest listRolePoliciesRequest,
             final AsyncHandler<ListRolePoliciesRequest, ListRolePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolePoliciesResult>() {
+        return withAsyncHandler(listRolePoliciesComposableAsync(listRolePoliciesRequest),
+                listRolePoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListRolePolicies operation like
+     * {@link #listRolePoliciesAsync(ListRolePoliciesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listRolePoliciesRequest Container for the necessary parameters
+     *           to execute the ListRolePolicies operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListRolePolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListRolePoliciesResult> listRolePoliciesComposableAsync(final ListRolePoliciesRequest listRolePoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListRolePoliciesResult>() {
             public ListRolePoliciesResult call() throws Exception {
-              ListRolePoliciesResult result;
-                try {
-                result = listRolePolicies(listRolePoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listRolePoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listRolePolicies(listRolePoliciesRequest);
+            }
+        }, listRolePoliciesRequest,
+                new ListRolePoliciesRequestMarshaller(), new ListRolePoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -3319,11 +3548,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(final ListSigningCertificatesRequest listSigningCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
-            public ListSigningCertificatesResult call() throws Exception {
-                return listSigningCertificates(listSigningCertificatesRequest);
-        }
-    });
+        return listSigningCertificatesComposableAsync(listSigningCertificatesRequest);
     }
 
     /**
@@ -3370,19 +3595,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListSigningCertificatesRequest listSigningCertificatesRequest,
             final AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
+        return withAsyncHandler(listSigningCertificatesComposableAsync(listSigningCertificatesRequest),
+                listSigningCertificatesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListSigningCertificates operation like
+     * {@link #listSigningCertificatesAsync(ListSigningCertificatesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listSigningCertificatesRequest Container for the necessary
+     *           parameters to execute the ListSigningCertificates operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListSigningCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListSigningCertificatesResult> listSigningCertificatesComposableAsync(final ListSigningCertificatesRequest listSigningCertificatesRequest) {
+        return executeAsync(executorService, new Callable<ListSigningCertificatesResult>() {
             public ListSigningCertificatesResult call() throws Exception {
-              ListSigningCertificatesResult result;
-                try {
-                result = listSigningCertificates(listSigningCertificatesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSigningCertificatesRequest, result);
-                 return result;
-        }
-    });
+                return listSigningCertificates(listSigningCertificatesRequest);
+            }
+        }, listSigningCertificatesRequest,
+                new ListSigningCertificatesRequestMarshaller(), new ListSigningCertificatesResultStaxUnmarshaller());
     }
     
     /**
@@ -3428,11 +3665,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(final UploadSigningCertificateRequest uploadSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
-            public UploadSigningCertificateResult call() throws Exception {
-                return uploadSigningCertificate(uploadSigningCertificateRequest);
-        }
-    });
+        return uploadSigningCertificateComposableAsync(uploadSigningCertificateRequest);
     }
 
     /**
@@ -3484,19 +3717,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UploadSigningCertificateRequest uploadSigningCertificateRequest,
             final AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
+        return withAsyncHandler(uploadSigningCertificateComposableAsync(uploadSigningCertificateRequest),
+                uploadSigningCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadSigningCertificate operation like
+     * {@link #uploadSigningCertificateAsync(UploadSigningCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param uploadSigningCertificateRequest Container for the necessary
+     *           parameters to execute the UploadSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UploadSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<UploadSigningCertificateResult> uploadSigningCertificateComposableAsync(final UploadSigningCertificateRequest uploadSigningCertificateRequest) {
+        return executeAsync(executorService, new Callable<UploadSigningCertificateResult>() {
             public UploadSigningCertificateResult call() throws Exception {
-              UploadSigningCertificateResult result;
-                try {
-                result = uploadSigningCertificate(uploadSigningCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadSigningCertificateRequest, result);
-                 return result;
-        }
-    });
+                return uploadSigningCertificate(uploadSigningCertificateRequest);
+            }
+        }, uploadSigningCertificateRequest,
+                new UploadSigningCertificateRequestMarshaller(), new UploadSigningCertificateResultStaxUnmarshaller());
     }
     
     /**
@@ -3532,11 +3777,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountAuthorizationDetailsResult> getAccountAuthorizationDetailsAsync(final GetAccountAuthorizationDetailsRequest getAccountAuthorizationDetailsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountAuthorizationDetailsResult>() {
-            public GetAccountAuthorizationDetailsResult call() throws Exception {
-                return getAccountAuthorizationDetails(getAccountAuthorizationDetailsRequest);
-        }
-    });
+        return getAccountAuthorizationDetailsComposableAsync(getAccountAuthorizationDetailsRequest);
     }
 
     /**
@@ -3578,19 +3819,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetAccountAuthorizationDetailsRequest getAccountAuthorizationDetailsRequest,
             final AsyncHandler<GetAccountAuthorizationDetailsRequest, GetAccountAuthorizationDetailsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountAuthorizationDetailsResult>() {
+        return withAsyncHandler(getAccountAuthorizationDetailsComposableAsync(getAccountAuthorizationDetailsRequest),
+                getAccountAuthorizationDetailsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetAccountAuthorizationDetails operation
+     * like
+     * {@link #getAccountAuthorizationDetailsAsync(GetAccountAuthorizationDetailsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getAccountAuthorizationDetailsRequest Container for the
+     *           necessary parameters to execute the GetAccountAuthorizationDetails
+     *           operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetAccountAuthorizationDetails service method, as returned
+     *         by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetAccountAuthorizationDetailsResult> getAccountAuthorizationDetailsComposableAsync(final GetAccountAuthorizationDetailsRequest getAccountAuthorizationDetailsRequest) {
+        return executeAsync(executorService, new Callable<GetAccountAuthorizationDetailsResult>() {
             public GetAccountAuthorizationDetailsResult call() throws Exception {
-              GetAccountAuthorizationDetailsResult result;
-                try {
-                result = getAccountAuthorizationDetails(getAccountAuthorizationDetailsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAccountAuthorizationDetailsRequest, result);
-                 return result;
-        }
-    });
+                return getAccountAuthorizationDetails(getAccountAuthorizationDetailsRequest);
+            }
+        }, getAccountAuthorizationDetailsRequest,
+                new GetAccountAuthorizationDetailsRequestMarshaller(), new GetAccountAuthorizationDetailsResultStaxUnmarshaller());
     }
     
     /**
@@ -3623,12 +3877,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> changePasswordAsync(final ChangePasswordRequest changePasswordRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changePassword(changePasswordRequest);
-                return null;
-        }
-    });
+        return changePasswordComposableAsync(changePasswordRequest);
     }
 
     /**
@@ -3667,18 +3916,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ChangePasswordRequest changePasswordRequest,
             final AsyncHandler<ChangePasswordRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(changePasswordComposableAsync(changePasswordRequest),
+                changePasswordRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ChangePassword operation like
+     * {@link #changePasswordAsync(ChangePasswordRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param changePasswordRequest Container for the necessary parameters to
+     *           execute the ChangePassword operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ChangePassword
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> changePasswordComposableAsync(final ChangePasswordRequest changePasswordRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 changePassword(changePasswordRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(changePasswordRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, changePasswordRequest,
+                new ChangePasswordRequestMarshaller(), null);
     }
     
     /**
@@ -3725,12 +3985,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putGroupPolicyAsync(final PutGroupPolicyRequest putGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putGroupPolicy(putGroupPolicyRequest);
-                return null;
-        }
-    });
+        return putGroupPolicyComposableAsync(putGroupPolicyRequest);
     }
 
     /**
@@ -3783,18 +4038,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutGroupPolicyRequest putGroupPolicyRequest,
             final AsyncHandler<PutGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putGroupPolicyComposableAsync(putGroupPolicyRequest),
+                putGroupPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutGroupPolicy operation like
+     * {@link #putGroupPolicyAsync(PutGroupPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putGroupPolicyRequest Container for the necessary parameters to
+     *           execute the PutGroupPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the PutGroupPolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> putGroupPolicyComposableAsync(final PutGroupPolicyRequest putGroupPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putGroupPolicy(putGroupPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putGroupPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putGroupPolicyRequest,
+                new PutGroupPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -3829,12 +4095,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteSigningCertificateAsync(final DeleteSigningCertificateRequest deleteSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSigningCertificate(deleteSigningCertificateRequest);
-                return null;
-        }
-    });
+        return deleteSigningCertificateComposableAsync(deleteSigningCertificateRequest);
     }
 
     /**
@@ -3875,18 +4136,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteSigningCertificateRequest deleteSigningCertificateRequest,
             final AsyncHandler<DeleteSigningCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteSigningCertificateComposableAsync(deleteSigningCertificateRequest),
+                deleteSigningCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSigningCertificate operation like
+     * {@link #deleteSigningCertificateAsync(DeleteSigningCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteSigningCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteSigningCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSigningCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteSigningCertificateComposableAsync(final DeleteSigningCertificateRequest deleteSigningCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSigningCertificate(deleteSigningCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSigningCertificateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSigningCertificateRequest,
+                new DeleteSigningCertificateRequestMarshaller(), null);
     }
     
     /**
@@ -3929,11 +4204,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccessKeysResult> listAccessKeysAsync(final ListAccessKeysRequest listAccessKeysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccessKeysResult>() {
-            public ListAccessKeysResult call() throws Exception {
-                return listAccessKeys(listAccessKeysRequest);
-        }
-    });
+        return listAccessKeysComposableAsync(listAccessKeysRequest);
     }
 
     /**
@@ -3982,19 +4253,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAccessKeysRequest listAccessKeysRequest,
             final AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccessKeysResult>() {
+        return withAsyncHandler(listAccessKeysComposableAsync(listAccessKeysRequest),
+                listAccessKeysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAccessKeys operation like
+     * {@link #listAccessKeysAsync(ListAccessKeysRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listAccessKeysRequest Container for the necessary parameters to
+     *           execute the ListAccessKeys operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListAccessKeys
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListAccessKeysResult> listAccessKeysComposableAsync(final ListAccessKeysRequest listAccessKeysRequest) {
+        return executeAsync(executorService, new Callable<ListAccessKeysResult>() {
             public ListAccessKeysResult call() throws Exception {
-              ListAccessKeysResult result;
-                try {
-                result = listAccessKeys(listAccessKeysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAccessKeysRequest, result);
-                 return result;
-        }
-    });
+                return listAccessKeys(listAccessKeysRequest);
+            }
+        }, listAccessKeysRequest,
+                new ListAccessKeysRequestMarshaller(), new ListAccessKeysResultStaxUnmarshaller());
     }
     
     /**
@@ -4022,11 +4302,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListOpenIDConnectProvidersResult> listOpenIDConnectProvidersAsync(final ListOpenIDConnectProvidersRequest listOpenIDConnectProvidersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOpenIDConnectProvidersResult>() {
-            public ListOpenIDConnectProvidersResult call() throws Exception {
-                return listOpenIDConnectProviders(listOpenIDConnectProvidersRequest);
-        }
-    });
+        return listOpenIDConnectProvidersComposableAsync(listOpenIDConnectProvidersRequest);
     }
 
     /**
@@ -4060,19 +4336,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListOpenIDConnectProvidersRequest listOpenIDConnectProvidersRequest,
             final AsyncHandler<ListOpenIDConnectProvidersRequest, ListOpenIDConnectProvidersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOpenIDConnectProvidersResult>() {
+        return withAsyncHandler(listOpenIDConnectProvidersComposableAsync(listOpenIDConnectProvidersRequest),
+                listOpenIDConnectProvidersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListOpenIDConnectProviders operation
+     * like
+     * {@link #listOpenIDConnectProvidersAsync(ListOpenIDConnectProvidersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listOpenIDConnectProvidersRequest Container for the necessary
+     *           parameters to execute the ListOpenIDConnectProviders operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListOpenIDConnectProviders service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListOpenIDConnectProvidersResult> listOpenIDConnectProvidersComposableAsync(final ListOpenIDConnectProvidersRequest listOpenIDConnectProvidersRequest) {
+        return executeAsync(executorService, new Callable<ListOpenIDConnectProvidersResult>() {
             public ListOpenIDConnectProvidersResult call() throws Exception {
-              ListOpenIDConnectProvidersResult result;
-                try {
-                result = listOpenIDConnectProviders(listOpenIDConnectProvidersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listOpenIDConnectProvidersRequest, result);
-                 return result;
-        }
-    });
+                return listOpenIDConnectProviders(listOpenIDConnectProvidersRequest);
+            }
+        }, listOpenIDConnectProvidersRequest,
+                new ListOpenIDConnectProvidersRequestMarshaller(), new ListOpenIDConnectProvidersResultStaxUnmarshaller());
     }
     
     /**
@@ -4119,12 +4408,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateOpenIDConnectProviderThumbprintAsync(final UpdateOpenIDConnectProviderThumbprintRequest updateOpenIDConnectProviderThumbprintRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateOpenIDConnectProviderThumbprint(updateOpenIDConnectProviderThumbprintRequest);
-                return null;
-        }
-    });
+        return updateOpenIDConnectProviderThumbprintComposableAsync(updateOpenIDConnectProviderThumbprintRequest);
     }
 
     /**
@@ -4177,18 +4461,34 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateOpenIDConnectProviderThumbprintRequest updateOpenIDConnectProviderThumbprintRequest,
             final AsyncHandler<UpdateOpenIDConnectProviderThumbprintRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateOpenIDConnectProviderThumbprintComposableAsync(updateOpenIDConnectProviderThumbprintRequest),
+                updateOpenIDConnectProviderThumbprintRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateOpenIDConnectProviderThumbprint
+     * operation like
+     * {@link #updateOpenIDConnectProviderThumbprintAsync(UpdateOpenIDConnectProviderThumbprintRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateOpenIDConnectProviderThumbprintRequest Container for the
+     *           necessary parameters to execute the
+     *           UpdateOpenIDConnectProviderThumbprint operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateOpenIDConnectProviderThumbprint service method, as
+     *         returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateOpenIDConnectProviderThumbprintComposableAsync(final UpdateOpenIDConnectProviderThumbprintRequest updateOpenIDConnectProviderThumbprintRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateOpenIDConnectProviderThumbprint(updateOpenIDConnectProviderThumbprintRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateOpenIDConnectProviderThumbprintRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateOpenIDConnectProviderThumbprintRequest,
+                new UpdateOpenIDConnectProviderThumbprintRequestMarshaller(), null);
     }
     
     /**
@@ -4221,12 +4521,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> detachRolePolicyAsync(final DetachRolePolicyRequest detachRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachRolePolicy(detachRolePolicyRequest);
-                return null;
-        }
-    });
+        return detachRolePolicyComposableAsync(detachRolePolicyRequest);
     }
 
     /**
@@ -4265,18 +4560,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DetachRolePolicyRequest detachRolePolicyRequest,
             final AsyncHandler<DetachRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachRolePolicyComposableAsync(detachRolePolicyRequest),
+                detachRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachRolePolicy operation like
+     * {@link #detachRolePolicyAsync(DetachRolePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param detachRolePolicyRequest Container for the necessary parameters
+     *           to execute the DetachRolePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DetachRolePolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> detachRolePolicyComposableAsync(final DetachRolePolicyRequest detachRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachRolePolicy(detachRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachRolePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachRolePolicyRequest,
+                new DetachRolePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -4313,11 +4620,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreatePolicyResult> createPolicyAsync(final CreatePolicyRequest createPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePolicyResult>() {
-            public CreatePolicyResult call() throws Exception {
-                return createPolicy(createPolicyRequest);
-        }
-    });
+        return createPolicyComposableAsync(createPolicyRequest);
     }
 
     /**
@@ -4360,19 +4663,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreatePolicyRequest createPolicyRequest,
             final AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePolicyResult>() {
+        return withAsyncHandler(createPolicyComposableAsync(createPolicyRequest),
+                createPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePolicy operation like
+     * {@link #createPolicyAsync(CreatePolicyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createPolicyRequest Container for the necessary parameters to
+     *           execute the CreatePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the CreatePolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreatePolicyResult> createPolicyComposableAsync(final CreatePolicyRequest createPolicyRequest) {
+        return executeAsync(executorService, new Callable<CreatePolicyResult>() {
             public CreatePolicyResult call() throws Exception {
-              CreatePolicyResult result;
-                try {
-                result = createPolicy(createPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPolicyRequest, result);
-                 return result;
-        }
-    });
+                return createPolicy(createPolicyRequest);
+            }
+        }, createPolicyRequest,
+                new CreatePolicyRequestMarshaller(), new CreatePolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -4408,11 +4720,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateInstanceProfileResult> createInstanceProfileAsync(final CreateInstanceProfileRequest createInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceProfileResult>() {
-            public CreateInstanceProfileResult call() throws Exception {
-                return createInstanceProfile(createInstanceProfileRequest);
-        }
-    });
+        return createInstanceProfileComposableAsync(createInstanceProfileRequest);
     }
 
     /**
@@ -4454,19 +4762,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateInstanceProfileRequest createInstanceProfileRequest,
             final AsyncHandler<CreateInstanceProfileRequest, CreateInstanceProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceProfileResult>() {
+        return withAsyncHandler(createInstanceProfileComposableAsync(createInstanceProfileRequest),
+                createInstanceProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInstanceProfile operation like
+     * {@link #createInstanceProfileAsync(CreateInstanceProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createInstanceProfileRequest Container for the necessary
+     *           parameters to execute the CreateInstanceProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateInstanceProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateInstanceProfileResult> createInstanceProfileComposableAsync(final CreateInstanceProfileRequest createInstanceProfileRequest) {
+        return executeAsync(executorService, new Callable<CreateInstanceProfileResult>() {
             public CreateInstanceProfileResult call() throws Exception {
-              CreateInstanceProfileResult result;
-                try {
-                result = createInstanceProfile(createInstanceProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceProfileRequest, result);
-                 return result;
-        }
-    });
+                return createInstanceProfile(createInstanceProfileRequest);
+            }
+        }, createInstanceProfileRequest,
+                new CreateInstanceProfileRequestMarshaller(), new CreateInstanceProfileResultStaxUnmarshaller());
     }
     
     /**
@@ -4505,12 +4825,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeRoleFromInstanceProfileAsync(final RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeRoleFromInstanceProfile(removeRoleFromInstanceProfileRequest);
-                return null;
-        }
-    });
+        return removeRoleFromInstanceProfileComposableAsync(removeRoleFromInstanceProfileRequest);
     }
 
     /**
@@ -4555,18 +4870,33 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest,
             final AsyncHandler<RemoveRoleFromInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeRoleFromInstanceProfileComposableAsync(removeRoleFromInstanceProfileRequest),
+                removeRoleFromInstanceProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveRoleFromInstanceProfile operation
+     * like
+     * {@link #removeRoleFromInstanceProfileAsync(RemoveRoleFromInstanceProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeRoleFromInstanceProfileRequest Container for the
+     *           necessary parameters to execute the RemoveRoleFromInstanceProfile
+     *           operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         RemoveRoleFromInstanceProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> removeRoleFromInstanceProfileComposableAsync(final RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeRoleFromInstanceProfile(removeRoleFromInstanceProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeRoleFromInstanceProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeRoleFromInstanceProfileRequest,
+                new RemoveRoleFromInstanceProfileRequestMarshaller(), null);
     }
     
     /**
@@ -4597,11 +4927,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateLoginProfileResult> createLoginProfileAsync(final CreateLoginProfileRequest createLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoginProfileResult>() {
-            public CreateLoginProfileResult call() throws Exception {
-                return createLoginProfile(createLoginProfileRequest);
-        }
-    });
+        return createLoginProfileComposableAsync(createLoginProfileRequest);
     }
 
     /**
@@ -4638,19 +4964,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateLoginProfileRequest createLoginProfileRequest,
             final AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoginProfileResult>() {
+        return withAsyncHandler(createLoginProfileComposableAsync(createLoginProfileRequest),
+                createLoginProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLoginProfile operation like
+     * {@link #createLoginProfileAsync(CreateLoginProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createLoginProfileRequest Container for the necessary
+     *           parameters to execute the CreateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateLoginProfileResult> createLoginProfileComposableAsync(final CreateLoginProfileRequest createLoginProfileRequest) {
+        return executeAsync(executorService, new Callable<CreateLoginProfileResult>() {
             public CreateLoginProfileResult call() throws Exception {
-              CreateLoginProfileResult result;
-                try {
-                result = createLoginProfile(createLoginProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLoginProfileRequest, result);
-                 return result;
-        }
-    });
+                return createLoginProfile(createLoginProfileRequest);
+            }
+        }, createLoginProfileRequest,
+                new CreateLoginProfileRequestMarshaller(), new CreateLoginProfileResultStaxUnmarshaller());
     }
     
     /**
@@ -4688,12 +5026,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccountPasswordPolicyAsync(final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccountPasswordPolicy(updateAccountPasswordPolicyRequest);
-                return null;
-        }
-    });
+        return updateAccountPasswordPolicyComposableAsync(updateAccountPasswordPolicyRequest);
     }
 
     /**
@@ -4737,18 +5070,33 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest,
             final AsyncHandler<UpdateAccountPasswordPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateAccountPasswordPolicyComposableAsync(updateAccountPasswordPolicyRequest),
+                updateAccountPasswordPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAccountPasswordPolicy operation
+     * like
+     * {@link #updateAccountPasswordPolicyAsync(UpdateAccountPasswordPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAccountPasswordPolicyRequest Container for the necessary
+     *           parameters to execute the UpdateAccountPasswordPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAccountPasswordPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateAccountPasswordPolicyComposableAsync(final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateAccountPasswordPolicy(updateAccountPasswordPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAccountPasswordPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateAccountPasswordPolicyRequest,
+                new UpdateAccountPasswordPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -4779,11 +5127,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetInstanceProfileResult> getInstanceProfileAsync(final GetInstanceProfileRequest getInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInstanceProfileResult>() {
-            public GetInstanceProfileResult call() throws Exception {
-                return getInstanceProfile(getInstanceProfileRequest);
-        }
-    });
+        return getInstanceProfileComposableAsync(getInstanceProfileRequest);
     }
 
     /**
@@ -4820,19 +5164,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetInstanceProfileRequest getInstanceProfileRequest,
             final AsyncHandler<GetInstanceProfileRequest, GetInstanceProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInstanceProfileResult>() {
+        return withAsyncHandler(getInstanceProfileComposableAsync(getInstanceProfileRequest),
+                getInstanceProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetInstanceProfile operation like
+     * {@link #getInstanceProfileAsync(GetInstanceProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getInstanceProfileRequest Container for the necessary
+     *           parameters to execute the GetInstanceProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetInstanceProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetInstanceProfileResult> getInstanceProfileComposableAsync(final GetInstanceProfileRequest getInstanceProfileRequest) {
+        return executeAsync(executorService, new Callable<GetInstanceProfileResult>() {
             public GetInstanceProfileResult call() throws Exception {
-              GetInstanceProfileResult result;
-                try {
-                result = getInstanceProfile(getInstanceProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getInstanceProfileRequest, result);
-                 return result;
-        }
-    });
+                return getInstanceProfile(getInstanceProfileRequest);
+            }
+        }, getInstanceProfileRequest,
+                new GetInstanceProfileRequestMarshaller(), new GetInstanceProfileResultStaxUnmarshaller());
     }
     
     /**
@@ -4862,12 +5218,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAssumeRolePolicyAsync(final UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAssumeRolePolicy(updateAssumeRolePolicyRequest);
-                return null;
-        }
-    });
+        return updateAssumeRolePolicyComposableAsync(updateAssumeRolePolicyRequest);
     }
 
     /**
@@ -4903,18 +5254,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest,
             final AsyncHandler<UpdateAssumeRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateAssumeRolePolicyComposableAsync(updateAssumeRolePolicyRequest),
+                updateAssumeRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAssumeRolePolicy operation like
+     * {@link #updateAssumeRolePolicyAsync(UpdateAssumeRolePolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAssumeRolePolicyRequest Container for the necessary
+     *           parameters to execute the UpdateAssumeRolePolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAssumeRolePolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateAssumeRolePolicyComposableAsync(final UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateAssumeRolePolicy(updateAssumeRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAssumeRolePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateAssumeRolePolicyRequest,
+                new UpdateAssumeRolePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -4947,11 +5312,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountSummaryResult> getAccountSummaryAsync(final GetAccountSummaryRequest getAccountSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSummaryResult>() {
-            public GetAccountSummaryResult call() throws Exception {
-                return getAccountSummary(getAccountSummaryRequest);
-        }
-    });
+        return getAccountSummaryComposableAsync(getAccountSummaryRequest);
     }
 
     /**
@@ -4990,19 +5351,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetAccountSummaryRequest getAccountSummaryRequest,
             final AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSummaryResult>() {
+        return withAsyncHandler(getAccountSummaryComposableAsync(getAccountSummaryRequest),
+                getAccountSummaryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetAccountSummary operation like
+     * {@link #getAccountSummaryAsync(GetAccountSummaryRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param getAccountSummaryRequest Container for the necessary parameters
+     *           to execute the GetAccountSummary operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetAccountSummary service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetAccountSummaryResult> getAccountSummaryComposableAsync(final GetAccountSummaryRequest getAccountSummaryRequest) {
+        return executeAsync(executorService, new Callable<GetAccountSummaryResult>() {
             public GetAccountSummaryResult call() throws Exception {
-              GetAccountSummaryResult result;
-                try {
-                result = getAccountSummary(getAccountSummaryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAccountSummaryRequest, result);
-                 return result;
-        }
-    });
+                return getAccountSummary(getAccountSummaryRequest);
+            }
+        }, getAccountSummaryRequest,
+                new GetAccountSummaryRequestMarshaller(), new GetAccountSummaryResultStaxUnmarshaller());
     }
     
     /**
@@ -5053,11 +5426,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateSAMLProviderResult> createSAMLProviderAsync(final CreateSAMLProviderRequest createSAMLProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSAMLProviderResult>() {
-            public CreateSAMLProviderResult call() throws Exception {
-                return createSAMLProvider(createSAMLProviderRequest);
-        }
-    });
+        return createSAMLProviderComposableAsync(createSAMLProviderRequest);
     }
 
     /**
@@ -5114,19 +5483,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateSAMLProviderRequest createSAMLProviderRequest,
             final AsyncHandler<CreateSAMLProviderRequest, CreateSAMLProviderResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSAMLProviderResult>() {
+        return withAsyncHandler(createSAMLProviderComposableAsync(createSAMLProviderRequest),
+                createSAMLProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSAMLProvider operation like
+     * {@link #createSAMLProviderAsync(CreateSAMLProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createSAMLProviderRequest Container for the necessary
+     *           parameters to execute the CreateSAMLProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateSAMLProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateSAMLProviderResult> createSAMLProviderComposableAsync(final CreateSAMLProviderRequest createSAMLProviderRequest) {
+        return executeAsync(executorService, new Callable<CreateSAMLProviderResult>() {
             public CreateSAMLProviderResult call() throws Exception {
-              CreateSAMLProviderResult result;
-                try {
-                result = createSAMLProvider(createSAMLProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSAMLProviderRequest, result);
-                 return result;
-        }
-    });
+                return createSAMLProvider(createSAMLProviderRequest);
+            }
+        }, createSAMLProviderRequest,
+                new CreateSAMLProviderRequestMarshaller(), new CreateSAMLProviderResultStaxUnmarshaller());
     }
     
     /**
@@ -5168,11 +5549,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetPolicyResult> getPolicyAsync(final GetPolicyRequest getPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPolicyResult>() {
-            public GetPolicyResult call() throws Exception {
-                return getPolicy(getPolicyRequest);
-        }
-    });
+        return getPolicyComposableAsync(getPolicyRequest);
     }
 
     /**
@@ -5220,19 +5597,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetPolicyRequest getPolicyRequest,
             final AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPolicyResult>() {
+        return withAsyncHandler(getPolicyComposableAsync(getPolicyRequest),
+                getPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetPolicy operation like
+     * {@link #getPolicyAsync(GetPolicyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getPolicyRequest Container for the necessary parameters to
+     *           execute the GetPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetPolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetPolicyResult> getPolicyComposableAsync(final GetPolicyRequest getPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetPolicyResult>() {
             public GetPolicyResult call() throws Exception {
-              GetPolicyResult result;
-                try {
-                result = getPolicy(getPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getPolicy(getPolicyRequest);
+            }
+        }, getPolicyRequest,
+                new GetPolicyRequestMarshaller(), new GetPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -5265,11 +5651,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListPolicyVersionsResult> listPolicyVersionsAsync(final ListPolicyVersionsRequest listPolicyVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPolicyVersionsResult>() {
-            public ListPolicyVersionsResult call() throws Exception {
-                return listPolicyVersions(listPolicyVersionsRequest);
-        }
-    });
+        return listPolicyVersionsComposableAsync(listPolicyVersionsRequest);
     }
 
     /**
@@ -5308,19 +5690,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListPolicyVersionsRequest listPolicyVersionsRequest,
             final AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPolicyVersionsResult>() {
+        return withAsyncHandler(listPolicyVersionsComposableAsync(listPolicyVersionsRequest),
+                listPolicyVersionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPolicyVersions operation like
+     * {@link #listPolicyVersionsAsync(ListPolicyVersionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listPolicyVersionsRequest Container for the necessary
+     *           parameters to execute the ListPolicyVersions operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListPolicyVersions service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListPolicyVersionsResult> listPolicyVersionsComposableAsync(final ListPolicyVersionsRequest listPolicyVersionsRequest) {
+        return executeAsync(executorService, new Callable<ListPolicyVersionsResult>() {
             public ListPolicyVersionsResult call() throws Exception {
-              ListPolicyVersionsResult result;
-                try {
-                result = listPolicyVersions(listPolicyVersionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPolicyVersionsRequest, result);
-                 return result;
-        }
-    });
+                return listPolicyVersions(listPolicyVersionsRequest);
+            }
+        }, listPolicyVersionsRequest,
+                new ListPolicyVersionsRequestMarshaller(), new ListPolicyVersionsResultStaxUnmarshaller());
     }
     
     /**
@@ -5353,12 +5747,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccessKeyAsync(final DeleteAccessKeyRequest deleteAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccessKey(deleteAccessKeyRequest);
-                return null;
-        }
-    });
+        return deleteAccessKeyComposableAsync(deleteAccessKeyRequest);
     }
 
     /**
@@ -5397,18 +5786,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteAccessKeyRequest deleteAccessKeyRequest,
             final AsyncHandler<DeleteAccessKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAccessKeyComposableAsync(deleteAccessKeyRequest),
+                deleteAccessKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAccessKey operation like
+     * {@link #deleteAccessKeyAsync(DeleteAccessKeyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteAccessKeyRequest Container for the necessary parameters
+     *           to execute the DeleteAccessKey operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteAccessKeyComposableAsync(final DeleteAccessKeyRequest deleteAccessKeyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAccessKey(deleteAccessKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAccessKeyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAccessKeyRequest,
+                new DeleteAccessKeyRequestMarshaller(), null);
     }
     
     /**
@@ -5442,12 +5843,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserPolicyAsync(final DeleteUserPolicyRequest deleteUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUserPolicy(deleteUserPolicyRequest);
-                return null;
-        }
-    });
+        return deleteUserPolicyComposableAsync(deleteUserPolicyRequest);
     }
 
     /**
@@ -5487,18 +5883,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteUserPolicyRequest deleteUserPolicyRequest,
             final AsyncHandler<DeleteUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteUserPolicyComposableAsync(deleteUserPolicyRequest),
+                deleteUserPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteUserPolicy operation like
+     * {@link #deleteUserPolicyAsync(DeleteUserPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteUserPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteUserPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteUserPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteUserPolicyComposableAsync(final DeleteUserPolicyRequest deleteUserPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteUserPolicy(deleteUserPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteUserPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteUserPolicyRequest,
+                new DeleteUserPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -5530,11 +5938,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListServerCertificatesResult> listServerCertificatesAsync(final ListServerCertificatesRequest listServerCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListServerCertificatesResult>() {
-            public ListServerCertificatesResult call() throws Exception {
-                return listServerCertificates(listServerCertificatesRequest);
-        }
-    });
+        return listServerCertificatesComposableAsync(listServerCertificatesRequest);
     }
 
     /**
@@ -5572,19 +5976,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListServerCertificatesRequest listServerCertificatesRequest,
             final AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListServerCertificatesResult>() {
+        return withAsyncHandler(listServerCertificatesComposableAsync(listServerCertificatesRequest),
+                listServerCertificatesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListServerCertificates operation like
+     * {@link #listServerCertificatesAsync(ListServerCertificatesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listServerCertificatesRequest Container for the necessary
+     *           parameters to execute the ListServerCertificates operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListServerCertificates service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListServerCertificatesResult> listServerCertificatesComposableAsync(final ListServerCertificatesRequest listServerCertificatesRequest) {
+        return executeAsync(executorService, new Callable<ListServerCertificatesResult>() {
             public ListServerCertificatesResult call() throws Exception {
-              ListServerCertificatesResult result;
-                try {
-                result = listServerCertificates(listServerCertificatesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listServerCertificatesRequest, result);
-                 return result;
-        }
-    });
+                return listServerCertificates(listServerCertificatesRequest);
+            }
+        }, listServerCertificatesRequest,
+                new ListServerCertificatesRequestMarshaller(), new ListServerCertificatesResultStaxUnmarshaller());
     }
     
     /**
@@ -5624,12 +6040,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateServerCertificateAsync(final UpdateServerCertificateRequest updateServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateServerCertificate(updateServerCertificateRequest);
-                return null;
-        }
-    });
+        return updateServerCertificateComposableAsync(updateServerCertificateRequest);
     }
 
     /**
@@ -5675,23 +6086,37 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateServerCertificateRequest updateServerCertificateRequest,
             final AsyncHandler<UpdateServerCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                updateServerCertificate(updateServerCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateServerCertificateRequest, null);
-                 return null;
-        }
-    });
+        return withAsyncHandler(updateServerCertificateComposableAsync(updateServerCertificateRequest),
+                updateServerCertificateRequest, asyncHandler);
     }
-    
+
     /**
-     * <p>
-     * Updates the name and/or the path of the specified user.
+     * Asynchronously executes the UpdateServerCertificate operation like
+     * {@link #updateServerCertificateAsync(UpdateServerCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateServerCertificateRequest Container for the necessary
+     *           parameters to execute the UpdateServerCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateServerCertificateComposableAsync(final UpdateServerCertificateRequest updateServerCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
+            public Void call() throws Exception {
+                updateServerCertificate(updateServerCertificateRequest);
+                return null;
+            }
+        }, updateServerCertificateRequest,
+                new UpdateServerCertificateRequestMarshaller(), null);
+    }
+    
+    /**
+     * <p>
+     * Updates the name and/or the path of the specified user.
      * </p>
      * <p>
      * <b>IMPORTANT:</b> You should understand the implications of changing
@@ -5724,12 +6149,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateUserAsync(final UpdateUserRequest updateUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUser(updateUserRequest);
-                return null;
-        }
-    });
+        return updateUserComposableAsync(updateUserRequest);
     }
 
     /**
@@ -5773,18 +6193,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateUserRequest updateUserRequest,
             final AsyncHandler<UpdateUserRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateUserComposableAsync(updateUserRequest),
+                updateUserRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateUser operation like
+     * {@link #updateUserAsync(UpdateUserRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateUserRequest Container for the necessary parameters to
+     *           execute the UpdateUser operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the UpdateUser
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateUserComposableAsync(final UpdateUserRequest updateUserRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateUser(updateUserRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateUserRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateUserRequest,
+                new UpdateUserRequestMarshaller(), null);
     }
     
     /**
@@ -5839,12 +6270,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putRolePolicyAsync(final PutRolePolicyRequest putRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putRolePolicy(putRolePolicyRequest);
-                return null;
-        }
-    });
+        return putRolePolicyComposableAsync(putRolePolicyRequest);
     }
 
     /**
@@ -5905,18 +6331,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final PutRolePolicyRequest putRolePolicyRequest,
             final AsyncHandler<PutRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putRolePolicyComposableAsync(putRolePolicyRequest),
+                putRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutRolePolicy operation like
+     * {@link #putRolePolicyAsync(PutRolePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putRolePolicyRequest Container for the necessary parameters to
+     *           execute the PutRolePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the PutRolePolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> putRolePolicyComposableAsync(final PutRolePolicyRequest putRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putRolePolicy(putRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putRolePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putRolePolicyRequest,
+                new PutRolePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -5951,12 +6388,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupPolicyAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteGroupPolicy(deleteGroupPolicyRequest);
-                return null;
-        }
-    });
+        return deleteGroupPolicyComposableAsync(deleteGroupPolicyRequest);
     }
 
     /**
@@ -5997,18 +6429,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteGroupPolicyRequest deleteGroupPolicyRequest,
             final AsyncHandler<DeleteGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteGroupPolicyComposableAsync(deleteGroupPolicyRequest),
+                deleteGroupPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteGroupPolicy operation like
+     * {@link #deleteGroupPolicyAsync(DeleteGroupPolicyRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteGroupPolicyRequest Container for the necessary parameters
+     *           to execute the DeleteGroupPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteGroupPolicyComposableAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteGroupPolicy(deleteGroupPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteGroupPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteGroupPolicyRequest,
+                new DeleteGroupPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -6046,12 +6492,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateGroupAsync(final UpdateGroupRequest updateGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateGroup(updateGroupRequest);
-                return null;
-        }
-    });
+        return updateGroupComposableAsync(updateGroupRequest);
     }
 
     /**
@@ -6095,18 +6536,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateGroupRequest updateGroupRequest,
             final AsyncHandler<UpdateGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateGroupComposableAsync(updateGroupRequest),
+                updateGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateGroup operation like
+     * {@link #updateGroupAsync(UpdateGroupRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateGroupRequest Container for the necessary parameters to
+     *           execute the UpdateGroup operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the UpdateGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateGroupComposableAsync(final UpdateGroupRequest updateGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateGroup(updateGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateGroupRequest,
+                new UpdateGroupRequestMarshaller(), null);
     }
     
     /**
@@ -6150,11 +6602,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListPoliciesResult> listPoliciesAsync(final ListPoliciesRequest listPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPoliciesResult>() {
-            public ListPoliciesResult call() throws Exception {
-                return listPolicies(listPoliciesRequest);
-        }
-    });
+        return listPoliciesComposableAsync(listPoliciesRequest);
     }
 
     /**
@@ -6204,19 +6652,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListPoliciesRequest listPoliciesRequest,
             final AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPoliciesResult>() {
+        return withAsyncHandler(listPoliciesComposableAsync(listPoliciesRequest),
+                listPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPolicies operation like
+     * {@link #listPoliciesAsync(ListPoliciesRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param listPoliciesRequest Container for the necessary parameters to
+     *           execute the ListPolicies operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListPolicies
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListPoliciesResult> listPoliciesComposableAsync(final ListPoliciesRequest listPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListPoliciesResult>() {
             public ListPoliciesResult call() throws Exception {
-              ListPoliciesResult result;
-                try {
-                result = listPolicies(listPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listPolicies(listPoliciesRequest);
+            }
+        }, listPoliciesRequest,
+                new ListPoliciesRequestMarshaller(), new ListPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -6247,11 +6704,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                return createUser(createUserRequest);
-        }
-    });
+        return createUserComposableAsync(createUserRequest);
     }
 
     /**
@@ -6288,19 +6741,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
+        return withAsyncHandler(createUserComposableAsync(createUserRequest),
+                createUserRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateUser operation like
+     * {@link #createUserAsync(CreateUserRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createUserRequest Container for the necessary parameters to
+     *           execute the CreateUser operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the CreateUser
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateUserResult> createUserComposableAsync(final CreateUserRequest createUserRequest) {
+        return executeAsync(executorService, new Callable<CreateUserResult>() {
             public CreateUserResult call() throws Exception {
-              CreateUserResult result;
-                try {
-                result = createUser(createUserRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createUserRequest, result);
-                 return result;
-        }
-    });
+                return createUser(createUserRequest);
+            }
+        }, createUserRequest,
+                new CreateUserRequestMarshaller(), new CreateUserResultStaxUnmarshaller());
     }
     
     /**
@@ -6332,12 +6794,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addClientIDToOpenIDConnectProviderAsync(final AddClientIDToOpenIDConnectProviderRequest addClientIDToOpenIDConnectProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addClientIDToOpenIDConnectProvider(addClientIDToOpenIDConnectProviderRequest);
-                return null;
-        }
-    });
+        return addClientIDToOpenIDConnectProviderComposableAsync(addClientIDToOpenIDConnectProviderRequest);
     }
 
     /**
@@ -6375,18 +6832,33 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AddClientIDToOpenIDConnectProviderRequest addClientIDToOpenIDConnectProviderRequest,
             final AsyncHandler<AddClientIDToOpenIDConnectProviderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addClientIDToOpenIDConnectProviderComposableAsync(addClientIDToOpenIDConnectProviderRequest),
+                addClientIDToOpenIDConnectProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddClientIDToOpenIDConnectProvider
+     * operation like
+     * {@link #addClientIDToOpenIDConnectProviderAsync(AddClientIDToOpenIDConnectProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param addClientIDToOpenIDConnectProviderRequest Container for the
+     *           necessary parameters to execute the AddClientIDToOpenIDConnectProvider
+     *           operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         AddClientIDToOpenIDConnectProvider service method, as
+     *         returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> addClientIDToOpenIDConnectProviderComposableAsync(final AddClientIDToOpenIDConnectProviderRequest addClientIDToOpenIDConnectProviderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addClientIDToOpenIDConnectProvider(addClientIDToOpenIDConnectProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addClientIDToOpenIDConnectProviderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addClientIDToOpenIDConnectProviderRequest,
+                new AddClientIDToOpenIDConnectProviderRequestMarshaller(), null);
     }
     
     /**
@@ -6422,12 +6894,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteSAMLProviderAsync(final DeleteSAMLProviderRequest deleteSAMLProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSAMLProvider(deleteSAMLProviderRequest);
-                return null;
-        }
-    });
+        return deleteSAMLProviderComposableAsync(deleteSAMLProviderRequest);
     }
 
     /**
@@ -6469,18 +6936,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteSAMLProviderRequest deleteSAMLProviderRequest,
             final AsyncHandler<DeleteSAMLProviderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteSAMLProviderComposableAsync(deleteSAMLProviderRequest),
+                deleteSAMLProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSAMLProvider operation like
+     * {@link #deleteSAMLProviderAsync(DeleteSAMLProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteSAMLProviderRequest Container for the necessary
+     *           parameters to execute the DeleteSAMLProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSAMLProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteSAMLProviderComposableAsync(final DeleteSAMLProviderRequest deleteSAMLProviderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteSAMLProvider(deleteSAMLProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSAMLProviderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteSAMLProviderRequest,
+                new DeleteSAMLProviderRequestMarshaller(), null);
     }
     
     /**
@@ -6514,12 +6995,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeClientIDFromOpenIDConnectProviderAsync(final RemoveClientIDFromOpenIDConnectProviderRequest removeClientIDFromOpenIDConnectProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeClientIDFromOpenIDConnectProvider(removeClientIDFromOpenIDConnectProviderRequest);
-                return null;
-        }
-    });
+        return removeClientIDFromOpenIDConnectProviderComposableAsync(removeClientIDFromOpenIDConnectProviderRequest);
     }
 
     /**
@@ -6559,18 +7035,34 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final RemoveClientIDFromOpenIDConnectProviderRequest removeClientIDFromOpenIDConnectProviderRequest,
             final AsyncHandler<RemoveClientIDFromOpenIDConnectProviderRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeClientIDFromOpenIDConnectProviderComposableAsync(removeClientIDFromOpenIDConnectProviderRequest),
+                removeClientIDFromOpenIDConnectProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveClientIDFromOpenIDConnectProvider
+     * operation like
+     * {@link #removeClientIDFromOpenIDConnectProviderAsync(RemoveClientIDFromOpenIDConnectProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeClientIDFromOpenIDConnectProviderRequest Container for
+     *           the necessary parameters to execute the
+     *           RemoveClientIDFromOpenIDConnectProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         RemoveClientIDFromOpenIDConnectProvider service method, as
+     *         returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> removeClientIDFromOpenIDConnectProviderComposableAsync(final RemoveClientIDFromOpenIDConnectProviderRequest removeClientIDFromOpenIDConnectProviderRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeClientIDFromOpenIDConnectProvider(removeClientIDFromOpenIDConnectProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeClientIDFromOpenIDConnectProviderRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeClientIDFromOpenIDConnectProviderRequest,
+                new RemoveClientIDFromOpenIDConnectProviderRequestMarshaller(), null);
     }
     
     /**
@@ -6600,11 +7092,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateGroupResult> createGroupAsync(final CreateGroupRequest createGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGroupResult>() {
-            public CreateGroupResult call() throws Exception {
-                return createGroup(createGroupRequest);
-        }
-    });
+        return createGroupComposableAsync(createGroupRequest);
     }
 
     /**
@@ -6640,19 +7128,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateGroupRequest createGroupRequest,
             final AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGroupResult>() {
+        return withAsyncHandler(createGroupComposableAsync(createGroupRequest),
+                createGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateGroup operation like
+     * {@link #createGroupAsync(CreateGroupRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createGroupRequest Container for the necessary parameters to
+     *           execute the CreateGroup operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the CreateGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateGroupResult> createGroupComposableAsync(final CreateGroupRequest createGroupRequest) {
+        return executeAsync(executorService, new Callable<CreateGroupResult>() {
             public CreateGroupResult call() throws Exception {
-              CreateGroupResult result;
-                try {
-                result = createGroup(createGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createGroupRequest, result);
-                 return result;
-        }
-    });
+                return createGroup(createGroupRequest);
+            }
+        }, createGroupRequest,
+                new CreateGroupRequestMarshaller(), new CreateGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -6678,12 +7175,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUser(deleteUserRequest);
-                return null;
-        }
-    });
+        return deleteUserComposableAsync(deleteUserRequest);
     }
 
     /**
@@ -6715,18 +7207,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteUserComposableAsync(deleteUserRequest),
+                deleteUserRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteUser operation like
+     * {@link #deleteUserAsync(DeleteUserRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteUserRequest Container for the necessary parameters to
+     *           execute the DeleteUser operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the DeleteUser
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteUserComposableAsync(final DeleteUserRequest deleteUserRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteUser(deleteUserRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteUserRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteUserRequest,
+                new DeleteUserRequestMarshaller(), null);
     }
     
     /**
@@ -6760,12 +7263,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deactivateMFADeviceAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deactivateMFADevice(deactivateMFADeviceRequest);
-                return null;
-        }
-    });
+        return deactivateMFADeviceComposableAsync(deactivateMFADeviceRequest);
     }
 
     /**
@@ -6805,18 +7303,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeactivateMFADeviceRequest deactivateMFADeviceRequest,
             final AsyncHandler<DeactivateMFADeviceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deactivateMFADeviceComposableAsync(deactivateMFADeviceRequest),
+                deactivateMFADeviceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeactivateMFADevice operation like
+     * {@link #deactivateMFADeviceAsync(DeactivateMFADeviceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deactivateMFADeviceRequest Container for the necessary
+     *           parameters to execute the DeactivateMFADevice operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeactivateMFADevice service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deactivateMFADeviceComposableAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deactivateMFADevice(deactivateMFADeviceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deactivateMFADeviceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deactivateMFADeviceRequest,
+                new DeactivateMFADeviceRequestMarshaller(), null);
     }
     
     /**
@@ -6856,11 +7368,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetPolicyVersionResult> getPolicyVersionAsync(final GetPolicyVersionRequest getPolicyVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPolicyVersionResult>() {
-            public GetPolicyVersionResult call() throws Exception {
-                return getPolicyVersion(getPolicyVersionRequest);
-        }
-    });
+        return getPolicyVersionComposableAsync(getPolicyVersionRequest);
     }
 
     /**
@@ -6906,19 +7414,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetPolicyVersionRequest getPolicyVersionRequest,
             final AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPolicyVersionResult>() {
+        return withAsyncHandler(getPolicyVersionComposableAsync(getPolicyVersionRequest),
+                getPolicyVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetPolicyVersion operation like
+     * {@link #getPolicyVersionAsync(GetPolicyVersionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getPolicyVersionRequest Container for the necessary parameters
+     *           to execute the GetPolicyVersion operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetPolicyVersion service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetPolicyVersionResult> getPolicyVersionComposableAsync(final GetPolicyVersionRequest getPolicyVersionRequest) {
+        return executeAsync(executorService, new Callable<GetPolicyVersionResult>() {
             public GetPolicyVersionResult call() throws Exception {
-              GetPolicyVersionResult result;
-                try {
-                result = getPolicyVersion(getPolicyVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPolicyVersionRequest, result);
-                 return result;
-        }
-    });
+                return getPolicyVersion(getPolicyVersionRequest);
+            }
+        }, getPolicyVersionRequest,
+                new GetPolicyVersionRequestMarshaller(), new GetPolicyVersionResultStaxUnmarshaller());
     }
     
     /**
@@ -6948,11 +7466,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GenerateCredentialReportResult> generateCredentialReportAsync(final GenerateCredentialReportRequest generateCredentialReportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateCredentialReportResult>() {
-            public GenerateCredentialReportResult call() throws Exception {
-                return generateCredentialReport(generateCredentialReportRequest);
-        }
-    });
+        return generateCredentialReportComposableAsync(generateCredentialReportRequest);
     }
 
     /**
@@ -6988,19 +7502,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GenerateCredentialReportRequest generateCredentialReportRequest,
             final AsyncHandler<GenerateCredentialReportRequest, GenerateCredentialReportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateCredentialReportResult>() {
+        return withAsyncHandler(generateCredentialReportComposableAsync(generateCredentialReportRequest),
+                generateCredentialReportRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GenerateCredentialReport operation like
+     * {@link #generateCredentialReportAsync(GenerateCredentialReportRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param generateCredentialReportRequest Container for the necessary
+     *           parameters to execute the GenerateCredentialReport operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GenerateCredentialReport service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GenerateCredentialReportResult> generateCredentialReportComposableAsync(final GenerateCredentialReportRequest generateCredentialReportRequest) {
+        return executeAsync(executorService, new Callable<GenerateCredentialReportResult>() {
             public GenerateCredentialReportResult call() throws Exception {
-              GenerateCredentialReportResult result;
-                try {
-                result = generateCredentialReport(generateCredentialReportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(generateCredentialReportRequest, result);
-                 return result;
-        }
-    });
+                return generateCredentialReport(generateCredentialReportRequest);
+            }
+        }, generateCredentialReportRequest,
+                new GenerateCredentialReportRequestMarshaller(), new GenerateCredentialReportResultStaxUnmarshaller());
     }
     
     /**
@@ -7027,12 +7553,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeUserFromGroupAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeUserFromGroup(removeUserFromGroupRequest);
-                return null;
-        }
-    });
+        return removeUserFromGroupComposableAsync(removeUserFromGroupRequest);
     }
 
     /**
@@ -7065,18 +7586,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final RemoveUserFromGroupRequest removeUserFromGroupRequest,
             final AsyncHandler<RemoveUserFromGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeUserFromGroupComposableAsync(removeUserFromGroupRequest),
+                removeUserFromGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveUserFromGroup operation like
+     * {@link #removeUserFromGroupAsync(RemoveUserFromGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeUserFromGroupRequest Container for the necessary
+     *           parameters to execute the RemoveUserFromGroup operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         RemoveUserFromGroup service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> removeUserFromGroupComposableAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeUserFromGroup(removeUserFromGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeUserFromGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeUserFromGroupRequest,
+                new RemoveUserFromGroupRequestMarshaller(), null);
     }
     
     /**
@@ -7118,11 +7653,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAttachedRolePoliciesResult> listAttachedRolePoliciesAsync(final ListAttachedRolePoliciesRequest listAttachedRolePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedRolePoliciesResult>() {
-            public ListAttachedRolePoliciesResult call() throws Exception {
-                return listAttachedRolePolicies(listAttachedRolePoliciesRequest);
-        }
-    });
+        return listAttachedRolePoliciesComposableAsync(listAttachedRolePoliciesRequest);
     }
 
     /**
@@ -7170,19 +7701,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListAttachedRolePoliciesRequest listAttachedRolePoliciesRequest,
             final AsyncHandler<ListAttachedRolePoliciesRequest, ListAttachedRolePoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAttachedRolePoliciesResult>() {
+        return withAsyncHandler(listAttachedRolePoliciesComposableAsync(listAttachedRolePoliciesRequest),
+                listAttachedRolePoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAttachedRolePolicies operation like
+     * {@link #listAttachedRolePoliciesAsync(ListAttachedRolePoliciesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listAttachedRolePoliciesRequest Container for the necessary
+     *           parameters to execute the ListAttachedRolePolicies operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListAttachedRolePolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListAttachedRolePoliciesResult> listAttachedRolePoliciesComposableAsync(final ListAttachedRolePoliciesRequest listAttachedRolePoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListAttachedRolePoliciesResult>() {
             public ListAttachedRolePoliciesResult call() throws Exception {
-              ListAttachedRolePoliciesResult result;
-                try {
-                result = listAttachedRolePolicies(listAttachedRolePoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAttachedRolePoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listAttachedRolePolicies(listAttachedRolePoliciesRequest);
+            }
+        }, listAttachedRolePoliciesRequest,
+                new ListAttachedRolePoliciesRequestMarshaller(), new ListAttachedRolePoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -7221,12 +7764,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteServerCertificateAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteServerCertificate(deleteServerCertificateRequest);
-                return null;
-        }
-    });
+        return deleteServerCertificateComposableAsync(deleteServerCertificateRequest);
     }
 
     /**
@@ -7271,18 +7809,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteServerCertificateRequest deleteServerCertificateRequest,
             final AsyncHandler<DeleteServerCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteServerCertificateComposableAsync(deleteServerCertificateRequest),
+                deleteServerCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteServerCertificate operation like
+     * {@link #deleteServerCertificateAsync(DeleteServerCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteServerCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteServerCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteServerCertificateComposableAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteServerCertificate(deleteServerCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteServerCertificateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteServerCertificateRequest,
+                new DeleteServerCertificateRequestMarshaller(), null);
     }
     
     /**
@@ -7320,11 +7872,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListEntitiesForPolicyResult> listEntitiesForPolicyAsync(final ListEntitiesForPolicyRequest listEntitiesForPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesForPolicyResult>() {
-            public ListEntitiesForPolicyResult call() throws Exception {
-                return listEntitiesForPolicy(listEntitiesForPolicyRequest);
-        }
-    });
+        return listEntitiesForPolicyComposableAsync(listEntitiesForPolicyRequest);
     }
 
     /**
@@ -7368,26 +7916,38 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListEntitiesForPolicyRequest listEntitiesForPolicyRequest,
             final AsyncHandler<ListEntitiesForPolicyRequest, ListEntitiesForPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesForPolicyResult>() {
-            public ListEntitiesForPolicyResult call() throws Exception {
-              ListEntitiesForPolicyResult result;
-                try {
-                result = listEntitiesForPolicy(listEntitiesForPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listEntitiesForPolicyRequest, result);
-                 return result;
-        }
-    });
+        return withAsyncHandler(listEntitiesForPolicyComposableAsync(listEntitiesForPolicyRequest),
+                listEntitiesForPolicyRequest, asyncHandler);
     }
-    
+
     /**
-     * <p>
-     * Removes the specified managed policy from the specified group.
-     * </p>
-     * <p>
+     * Asynchronously executes the ListEntitiesForPolicy operation like
+     * {@link #listEntitiesForPolicyAsync(ListEntitiesForPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listEntitiesForPolicyRequest Container for the necessary
+     *           parameters to execute the ListEntitiesForPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListEntitiesForPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListEntitiesForPolicyResult> listEntitiesForPolicyComposableAsync(final ListEntitiesForPolicyRequest listEntitiesForPolicyRequest) {
+        return executeAsync(executorService, new Callable<ListEntitiesForPolicyResult>() {
+            public ListEntitiesForPolicyResult call() throws Exception {
+                return listEntitiesForPolicy(listEntitiesForPolicyRequest);
+            }
+        }, listEntitiesForPolicyRequest,
+                new ListEntitiesForPolicyRequestMarshaller(), new ListEntitiesForPolicyResultStaxUnmarshaller());
+    }
+    
+    /**
+     * <p>
+     * Removes the specified managed policy from the specified group.
+     * </p>
+     * <p>
      * A group can also have inline policies embedded with it. To delete an
      * inline policy, use the DeleteGroupPolicy API. For information about
      * policies, refer to
@@ -7414,12 +7974,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> detachGroupPolicyAsync(final DetachGroupPolicyRequest detachGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachGroupPolicy(detachGroupPolicyRequest);
-                return null;
-        }
-    });
+        return detachGroupPolicyComposableAsync(detachGroupPolicyRequest);
     }
 
     /**
@@ -7459,18 +8014,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DetachGroupPolicyRequest detachGroupPolicyRequest,
             final AsyncHandler<DetachGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachGroupPolicyComposableAsync(detachGroupPolicyRequest),
+                detachGroupPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachGroupPolicy operation like
+     * {@link #detachGroupPolicyAsync(DetachGroupPolicyRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param detachGroupPolicyRequest Container for the necessary parameters
+     *           to execute the DetachGroupPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DetachGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> detachGroupPolicyComposableAsync(final DetachGroupPolicyRequest detachGroupPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachGroupPolicy(detachGroupPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachGroupPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachGroupPolicyRequest,
+                new DetachGroupPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -7505,11 +8074,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListInstanceProfilesResult> listInstanceProfilesAsync(final ListInstanceProfilesRequest listInstanceProfilesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesResult>() {
-            public ListInstanceProfilesResult call() throws Exception {
-                return listInstanceProfiles(listInstanceProfilesRequest);
-        }
-    });
+        return listInstanceProfilesComposableAsync(listInstanceProfilesRequest);
     }
 
     /**
@@ -7550,19 +8115,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListInstanceProfilesRequest listInstanceProfilesRequest,
             final AsyncHandler<ListInstanceProfilesRequest, ListInstanceProfilesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesResult>() {
+        return withAsyncHandler(listInstanceProfilesComposableAsync(listInstanceProfilesRequest),
+                listInstanceProfilesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListInstanceProfiles operation like
+     * {@link #listInstanceProfilesAsync(ListInstanceProfilesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listInstanceProfilesRequest Container for the necessary
+     *           parameters to execute the ListInstanceProfiles operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListInstanceProfiles service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListInstanceProfilesResult> listInstanceProfilesComposableAsync(final ListInstanceProfilesRequest listInstanceProfilesRequest) {
+        return executeAsync(executorService, new Callable<ListInstanceProfilesResult>() {
             public ListInstanceProfilesResult call() throws Exception {
-              ListInstanceProfilesResult result;
-                try {
-                result = listInstanceProfiles(listInstanceProfilesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listInstanceProfilesRequest, result);
-                 return result;
-        }
-    });
+                return listInstanceProfiles(listInstanceProfilesRequest);
+            }
+        }, listInstanceProfilesRequest,
+                new ListInstanceProfilesRequestMarshaller(), new ListInstanceProfilesResultStaxUnmarshaller());
     }
     
     /**
@@ -7602,12 +8179,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccessKeyAsync(final UpdateAccessKeyRequest updateAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccessKey(updateAccessKeyRequest);
-                return null;
-        }
-    });
+        return updateAccessKeyComposableAsync(updateAccessKeyRequest);
     }
 
     /**
@@ -7653,18 +8225,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateAccessKeyRequest updateAccessKeyRequest,
             final AsyncHandler<UpdateAccessKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateAccessKeyComposableAsync(updateAccessKeyRequest),
+                updateAccessKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAccessKey operation like
+     * {@link #updateAccessKeyAsync(UpdateAccessKeyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param updateAccessKeyRequest Container for the necessary parameters
+     *           to execute the UpdateAccessKey operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAccessKey service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateAccessKeyComposableAsync(final UpdateAccessKeyRequest updateAccessKeyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateAccessKey(updateAccessKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAccessKeyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateAccessKeyRequest,
+                new UpdateAccessKeyRequestMarshaller(), null);
     }
     
     /**
@@ -7691,11 +8275,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetOpenIDConnectProviderResult> getOpenIDConnectProviderAsync(final GetOpenIDConnectProviderRequest getOpenIDConnectProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIDConnectProviderResult>() {
-            public GetOpenIDConnectProviderResult call() throws Exception {
-                return getOpenIDConnectProvider(getOpenIDConnectProviderRequest);
-        }
-    });
+        return getOpenIDConnectProviderComposableAsync(getOpenIDConnectProviderRequest);
     }
 
     /**
@@ -7728,19 +8308,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetOpenIDConnectProviderRequest getOpenIDConnectProviderRequest,
             final AsyncHandler<GetOpenIDConnectProviderRequest, GetOpenIDConnectProviderResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOpenIDConnectProviderResult>() {
+        return withAsyncHandler(getOpenIDConnectProviderComposableAsync(getOpenIDConnectProviderRequest),
+                getOpenIDConnectProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetOpenIDConnectProvider operation like
+     * {@link #getOpenIDConnectProviderAsync(GetOpenIDConnectProviderRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getOpenIDConnectProviderRequest Container for the necessary
+     *           parameters to execute the GetOpenIDConnectProvider operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetOpenIDConnectProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetOpenIDConnectProviderResult> getOpenIDConnectProviderComposableAsync(final GetOpenIDConnectProviderRequest getOpenIDConnectProviderRequest) {
+        return executeAsync(executorService, new Callable<GetOpenIDConnectProviderResult>() {
             public GetOpenIDConnectProviderResult call() throws Exception {
-              GetOpenIDConnectProviderResult result;
-                try {
-                result = getOpenIDConnectProvider(getOpenIDConnectProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getOpenIDConnectProviderRequest, result);
-                 return result;
-        }
-    });
+                return getOpenIDConnectProvider(getOpenIDConnectProviderRequest);
+            }
+        }, getOpenIDConnectProviderRequest,
+                new GetOpenIDConnectProviderRequestMarshaller(), new GetOpenIDConnectProviderResultStaxUnmarshaller());
     }
     
     /**
@@ -7766,12 +8358,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addUserToGroupAsync(final AddUserToGroupRequest addUserToGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addUserToGroup(addUserToGroupRequest);
-                return null;
-        }
-    });
+        return addUserToGroupComposableAsync(addUserToGroupRequest);
     }
 
     /**
@@ -7803,18 +8390,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AddUserToGroupRequest addUserToGroupRequest,
             final AsyncHandler<AddUserToGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addUserToGroupComposableAsync(addUserToGroupRequest),
+                addUserToGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddUserToGroup operation like
+     * {@link #addUserToGroupAsync(AddUserToGroupRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addUserToGroupRequest Container for the necessary parameters to
+     *           execute the AddUserToGroup operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the AddUserToGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> addUserToGroupComposableAsync(final AddUserToGroupRequest addUserToGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addUserToGroup(addUserToGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addUserToGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addUserToGroupRequest,
+                new AddUserToGroupRequestMarshaller(), null);
     }
     
     /**
@@ -7841,11 +8439,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupResult> getGroupAsync(final GetGroupRequest getGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupResult>() {
-            public GetGroupResult call() throws Exception {
-                return getGroup(getGroupRequest);
-        }
-    });
+        return getGroupComposableAsync(getGroupRequest);
     }
 
     /**
@@ -7878,19 +8472,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetGroupRequest getGroupRequest,
             final AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupResult>() {
+        return withAsyncHandler(getGroupComposableAsync(getGroupRequest),
+                getGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetGroup operation like
+     * {@link #getGroupAsync(GetGroupRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param getGroupRequest Container for the necessary parameters to
+     *           execute the GetGroup operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetGroupResult> getGroupComposableAsync(final GetGroupRequest getGroupRequest) {
+        return executeAsync(executorService, new Callable<GetGroupResult>() {
             public GetGroupResult call() throws Exception {
-              GetGroupResult result;
-                try {
-                result = getGroup(getGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getGroupRequest, result);
-                 return result;
-        }
-    });
+                return getGroup(getGroupRequest);
+            }
+        }, getGroupRequest,
+                new GetGroupRequestMarshaller(), new GetGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -7916,12 +8519,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupAsync(final DeleteGroupRequest deleteGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteGroup(deleteGroupRequest);
-                return null;
-        }
-    });
+        return deleteGroupComposableAsync(deleteGroupRequest);
     }
 
     /**
@@ -7953,18 +8551,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteGroupRequest deleteGroupRequest,
             final AsyncHandler<DeleteGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteGroupComposableAsync(deleteGroupRequest),
+                deleteGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteGroup operation like
+     * {@link #deleteGroupAsync(DeleteGroupRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteGroupRequest Container for the necessary parameters to
+     *           execute the DeleteGroup operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the DeleteGroup
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteGroupComposableAsync(final DeleteGroupRequest deleteGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteGroup(deleteGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteGroupRequest,
+                new DeleteGroupRequestMarshaller(), null);
     }
     
     /**
@@ -7997,12 +8606,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> detachUserPolicyAsync(final DetachUserPolicyRequest detachUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachUserPolicy(detachUserPolicyRequest);
-                return null;
-        }
-    });
+        return detachUserPolicyComposableAsync(detachUserPolicyRequest);
     }
 
     /**
@@ -8041,18 +8645,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DetachUserPolicyRequest detachUserPolicyRequest,
             final AsyncHandler<DetachUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachUserPolicyComposableAsync(detachUserPolicyRequest),
+                detachUserPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachUserPolicy operation like
+     * {@link #detachUserPolicyAsync(DetachUserPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param detachUserPolicyRequest Container for the necessary parameters
+     *           to execute the DetachUserPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DetachUserPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> detachUserPolicyComposableAsync(final DetachUserPolicyRequest detachUserPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachUserPolicy(detachUserPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachUserPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachUserPolicyRequest,
+                new DetachUserPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -8091,12 +8707,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteInstanceProfileAsync(final DeleteInstanceProfileRequest deleteInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInstanceProfile(deleteInstanceProfileRequest);
-                return null;
-        }
-    });
+        return deleteInstanceProfileComposableAsync(deleteInstanceProfileRequest);
     }
 
     /**
@@ -8141,18 +8752,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteInstanceProfileRequest deleteInstanceProfileRequest,
             final AsyncHandler<DeleteInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteInstanceProfileComposableAsync(deleteInstanceProfileRequest),
+                deleteInstanceProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteInstanceProfile operation like
+     * {@link #deleteInstanceProfileAsync(DeleteInstanceProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteInstanceProfileRequest Container for the necessary
+     *           parameters to execute the DeleteInstanceProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteInstanceProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteInstanceProfileComposableAsync(final DeleteInstanceProfileRequest deleteInstanceProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteInstanceProfile(deleteInstanceProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInstanceProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteInstanceProfileRequest,
+                new DeleteInstanceProfileRequestMarshaller(), null);
     }
     
     /**
@@ -8187,11 +8812,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateRoleResult> createRoleAsync(final CreateRoleRequest createRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoleResult>() {
-            public CreateRoleResult call() throws Exception {
-                return createRole(createRoleRequest);
-        }
-    });
+        return createRoleComposableAsync(createRoleRequest);
     }
 
     /**
@@ -8232,19 +8853,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreateRoleRequest createRoleRequest,
             final AsyncHandler<CreateRoleRequest, CreateRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRoleResult>() {
+        return withAsyncHandler(createRoleComposableAsync(createRoleRequest),
+                createRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateRole operation like
+     * {@link #createRoleAsync(CreateRoleRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createRoleRequest Container for the necessary parameters to
+     *           execute the CreateRole operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the CreateRole
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreateRoleResult> createRoleComposableAsync(final CreateRoleRequest createRoleRequest) {
+        return executeAsync(executorService, new Callable<CreateRoleResult>() {
             public CreateRoleResult call() throws Exception {
-              CreateRoleResult result;
-                try {
-                result = createRole(createRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRoleRequest, result);
-                 return result;
-        }
-    });
+                return createRole(createRoleRequest);
+            }
+        }, createRoleRequest,
+                new CreateRoleRequestMarshaller(), new CreateRoleResultStaxUnmarshaller());
     }
     
     /**
@@ -8274,11 +8904,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetSAMLProviderResult> getSAMLProviderAsync(final GetSAMLProviderRequest getSAMLProviderRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSAMLProviderResult>() {
-            public GetSAMLProviderResult call() throws Exception {
-                return getSAMLProvider(getSAMLProviderRequest);
-        }
-    });
+        return getSAMLProviderComposableAsync(getSAMLProviderRequest);
     }
 
     /**
@@ -8314,19 +8940,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetSAMLProviderRequest getSAMLProviderRequest,
             final AsyncHandler<GetSAMLProviderRequest, GetSAMLProviderResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSAMLProviderResult>() {
+        return withAsyncHandler(getSAMLProviderComposableAsync(getSAMLProviderRequest),
+                getSAMLProviderRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetSAMLProvider operation like
+     * {@link #getSAMLProviderAsync(GetSAMLProviderRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getSAMLProviderRequest Container for the necessary parameters
+     *           to execute the GetSAMLProvider operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetSAMLProvider service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetSAMLProviderResult> getSAMLProviderComposableAsync(final GetSAMLProviderRequest getSAMLProviderRequest) {
+        return executeAsync(executorService, new Callable<GetSAMLProviderResult>() {
             public GetSAMLProviderResult call() throws Exception {
-              GetSAMLProviderResult result;
-                try {
-                result = getSAMLProvider(getSAMLProviderRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSAMLProviderRequest, result);
-                 return result;
-        }
-    });
+                return getSAMLProvider(getSAMLProviderRequest);
+            }
+        }, getSAMLProviderRequest,
+                new GetSAMLProviderRequestMarshaller(), new GetSAMLProviderResultStaxUnmarshaller());
     }
     
     /**
@@ -8359,12 +8995,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateLoginProfileAsync(final UpdateLoginProfileRequest updateLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateLoginProfile(updateLoginProfileRequest);
-                return null;
-        }
-    });
+        return updateLoginProfileComposableAsync(updateLoginProfileRequest);
     }
 
     /**
@@ -8403,18 +9034,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final UpdateLoginProfileRequest updateLoginProfileRequest,
             final AsyncHandler<UpdateLoginProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateLoginProfileComposableAsync(updateLoginProfileRequest),
+                updateLoginProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateLoginProfile operation like
+     * {@link #updateLoginProfileAsync(UpdateLoginProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateLoginProfileRequest Container for the necessary
+     *           parameters to execute the UpdateLoginProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> updateLoginProfileComposableAsync(final UpdateLoginProfileRequest updateLoginProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateLoginProfile(updateLoginProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateLoginProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateLoginProfileRequest,
+                new UpdateLoginProfileRequestMarshaller(), null);
     }
     
     /**
@@ -8450,12 +9095,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteLoginProfileAsync(final DeleteLoginProfileRequest deleteLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoginProfile(deleteLoginProfileRequest);
-                return null;
-        }
-    });
+        return deleteLoginProfileComposableAsync(deleteLoginProfileRequest);
     }
 
     /**
@@ -8497,18 +9137,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteLoginProfileRequest deleteLoginProfileRequest,
             final AsyncHandler<DeleteLoginProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLoginProfileComposableAsync(deleteLoginProfileRequest),
+                deleteLoginProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLoginProfile operation like
+     * {@link #deleteLoginProfileAsync(DeleteLoginProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteLoginProfileRequest Container for the necessary
+     *           parameters to execute the DeleteLoginProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLoginProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteLoginProfileComposableAsync(final DeleteLoginProfileRequest deleteLoginProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLoginProfile(deleteLoginProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLoginProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLoginProfileRequest,
+                new DeleteLoginProfileRequestMarshaller(), null);
     }
     
     /**
@@ -8543,12 +9197,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> attachUserPolicyAsync(final AttachUserPolicyRequest attachUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachUserPolicy(attachUserPolicyRequest);
-                return null;
-        }
-    });
+        return attachUserPolicyComposableAsync(attachUserPolicyRequest);
     }
 
     /**
@@ -8589,18 +9238,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AttachUserPolicyRequest attachUserPolicyRequest,
             final AsyncHandler<AttachUserPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(attachUserPolicyComposableAsync(attachUserPolicyRequest),
+                attachUserPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachUserPolicy operation like
+     * {@link #attachUserPolicyAsync(AttachUserPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param attachUserPolicyRequest Container for the necessary parameters
+     *           to execute the AttachUserPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         AttachUserPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> attachUserPolicyComposableAsync(final AttachUserPolicyRequest attachUserPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 attachUserPolicy(attachUserPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachUserPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, attachUserPolicyRequest,
+                new AttachUserPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -8627,11 +9288,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetServerCertificateResult> getServerCertificateAsync(final GetServerCertificateRequest getServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetServerCertificateResult>() {
-            public GetServerCertificateResult call() throws Exception {
-                return getServerCertificate(getServerCertificateRequest);
-        }
-    });
+        return getServerCertificateComposableAsync(getServerCertificateRequest);
     }
 
     /**
@@ -8664,19 +9321,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetServerCertificateRequest getServerCertificateRequest,
             final AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetServerCertificateResult>() {
+        return withAsyncHandler(getServerCertificateComposableAsync(getServerCertificateRequest),
+                getServerCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetServerCertificate operation like
+     * {@link #getServerCertificateAsync(GetServerCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getServerCertificateRequest Container for the necessary
+     *           parameters to execute the GetServerCertificate operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetServerCertificate service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetServerCertificateResult> getServerCertificateComposableAsync(final GetServerCertificateRequest getServerCertificateRequest) {
+        return executeAsync(executorService, new Callable<GetServerCertificateResult>() {
             public GetServerCertificateResult call() throws Exception {
-              GetServerCertificateResult result;
-                try {
-                result = getServerCertificate(getServerCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getServerCertificateRequest, result);
-                 return result;
-        }
-    });
+                return getServerCertificate(getServerCertificateRequest);
+            }
+        }, getServerCertificateRequest,
+                new GetServerCertificateRequestMarshaller(), new GetServerCertificateResultStaxUnmarshaller());
     }
     
     /**
@@ -8714,12 +9383,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> setDefaultPolicyVersionAsync(final SetDefaultPolicyVersionRequest setDefaultPolicyVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDefaultPolicyVersion(setDefaultPolicyVersionRequest);
-                return null;
-        }
-    });
+        return setDefaultPolicyVersionComposableAsync(setDefaultPolicyVersionRequest);
     }
 
     /**
@@ -8763,18 +9427,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final SetDefaultPolicyVersionRequest setDefaultPolicyVersionRequest,
             final AsyncHandler<SetDefaultPolicyVersionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setDefaultPolicyVersionComposableAsync(setDefaultPolicyVersionRequest),
+                setDefaultPolicyVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetDefaultPolicyVersion operation like
+     * {@link #setDefaultPolicyVersionAsync(SetDefaultPolicyVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setDefaultPolicyVersionRequest Container for the necessary
+     *           parameters to execute the SetDefaultPolicyVersion operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         SetDefaultPolicyVersion service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> setDefaultPolicyVersionComposableAsync(final SetDefaultPolicyVersionRequest setDefaultPolicyVersionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setDefaultPolicyVersion(setDefaultPolicyVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setDefaultPolicyVersionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setDefaultPolicyVersionRequest,
+                new SetDefaultPolicyVersionRequestMarshaller(), null);
     }
     
     /**
@@ -8810,12 +9488,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> attachGroupPolicyAsync(final AttachGroupPolicyRequest attachGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachGroupPolicy(attachGroupPolicyRequest);
-                return null;
-        }
-    });
+        return attachGroupPolicyComposableAsync(attachGroupPolicyRequest);
     }
 
     /**
@@ -8857,18 +9530,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AttachGroupPolicyRequest attachGroupPolicyRequest,
             final AsyncHandler<AttachGroupPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(attachGroupPolicyComposableAsync(attachGroupPolicyRequest),
+                attachGroupPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AttachGroupPolicy operation like
+     * {@link #attachGroupPolicyAsync(AttachGroupPolicyRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param attachGroupPolicyRequest Container for the necessary parameters
+     *           to execute the AttachGroupPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         AttachGroupPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> attachGroupPolicyComposableAsync(final AttachGroupPolicyRequest attachGroupPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 attachGroupPolicy(attachGroupPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachGroupPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, attachGroupPolicyRequest,
+                new AttachGroupPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -8908,11 +9595,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUserPoliciesResult> listUserPoliciesAsync(final ListUserPoliciesRequest listUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserPoliciesResult>() {
-            public ListUserPoliciesResult call() throws Exception {
-                return listUserPolicies(listUserPoliciesRequest);
-        }
-    });
+        return listUserPoliciesComposableAsync(listUserPoliciesRequest);
     }
 
     /**
@@ -8958,19 +9641,29 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListUserPoliciesRequest listUserPoliciesRequest,
             final AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserPoliciesResult>() {
+        return withAsyncHandler(listUserPoliciesComposableAsync(listUserPoliciesRequest),
+                listUserPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListUserPolicies operation like
+     * {@link #listUserPoliciesAsync(ListUserPoliciesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listUserPoliciesRequest Container for the necessary parameters
+     *           to execute the ListUserPolicies operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListUserPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListUserPoliciesResult> listUserPoliciesComposableAsync(final ListUserPoliciesRequest listUserPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListUserPoliciesResult>() {
             public ListUserPoliciesResult call() throws Exception {
-              ListUserPoliciesResult result;
-                try {
-                result = listUserPolicies(listUserPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listUserPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listUserPolicies(listUserPoliciesRequest);
+            }
+        }, listUserPoliciesRequest,
+                new ListUserPoliciesRequestMarshaller(), new ListUserPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -9001,11 +9694,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsForUserResult> listGroupsForUserAsync(final ListGroupsForUserRequest listGroupsForUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsForUserResult>() {
-            public ListGroupsForUserResult call() throws Exception {
-                return listGroupsForUser(listGroupsForUserRequest);
-        }
-    });
+        return listGroupsForUserComposableAsync(listGroupsForUserRequest);
     }
 
     /**
@@ -9042,19 +9731,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupsForUserRequest listGroupsForUserRequest,
             final AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsForUserResult>() {
+        return withAsyncHandler(listGroupsForUserComposableAsync(listGroupsForUserRequest),
+                listGroupsForUserRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGroupsForUser operation like
+     * {@link #listGroupsForUserAsync(ListGroupsForUserRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listGroupsForUserRequest Container for the necessary parameters
+     *           to execute the ListGroupsForUser operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListGroupsForUser service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListGroupsForUserResult> listGroupsForUserComposableAsync(final ListGroupsForUserRequest listGroupsForUserRequest) {
+        return executeAsync(executorService, new Callable<ListGroupsForUserResult>() {
             public ListGroupsForUserResult call() throws Exception {
-              ListGroupsForUserResult result;
-                try {
-                result = listGroupsForUser(listGroupsForUserRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGroupsForUserRequest, result);
-                 return result;
-        }
-    });
+                return listGroupsForUser(listGroupsForUserRequest);
+            }
+        }, listGroupsForUserRequest,
+                new ListGroupsForUserRequestMarshaller(), new ListGroupsForUserResultStaxUnmarshaller());
     }
     
     /**
@@ -9096,11 +9797,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreatePolicyVersionResult> createPolicyVersionAsync(final CreatePolicyVersionRequest createPolicyVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePolicyVersionResult>() {
-            public CreatePolicyVersionResult call() throws Exception {
-                return createPolicyVersion(createPolicyVersionRequest);
-        }
-    });
+        return createPolicyVersionComposableAsync(createPolicyVersionRequest);
     }
 
     /**
@@ -9148,19 +9845,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final CreatePolicyVersionRequest createPolicyVersionRequest,
             final AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePolicyVersionResult>() {
+        return withAsyncHandler(createPolicyVersionComposableAsync(createPolicyVersionRequest),
+                createPolicyVersionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePolicyVersion operation like
+     * {@link #createPolicyVersionAsync(CreatePolicyVersionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPolicyVersionRequest Container for the necessary
+     *           parameters to execute the CreatePolicyVersion operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreatePolicyVersion service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<CreatePolicyVersionResult> createPolicyVersionComposableAsync(final CreatePolicyVersionRequest createPolicyVersionRequest) {
+        return executeAsync(executorService, new Callable<CreatePolicyVersionResult>() {
             public CreatePolicyVersionResult call() throws Exception {
-              CreatePolicyVersionResult result;
-                try {
-                result = createPolicyVersion(createPolicyVersionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPolicyVersionRequest, result);
-                 return result;
-        }
-    });
+                return createPolicyVersion(createPolicyVersionRequest);
+            }
+        }, createPolicyVersionRequest,
+                new CreatePolicyVersionRequestMarshaller(), new CreatePolicyVersionResultStaxUnmarshaller());
     }
     
     /**
@@ -9190,12 +9899,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addRoleToInstanceProfileAsync(final AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addRoleToInstanceProfile(addRoleToInstanceProfileRequest);
-                return null;
-        }
-    });
+        return addRoleToInstanceProfileComposableAsync(addRoleToInstanceProfileRequest);
     }
 
     /**
@@ -9231,18 +9935,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest,
             final AsyncHandler<AddRoleToInstanceProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addRoleToInstanceProfileComposableAsync(addRoleToInstanceProfileRequest),
+                addRoleToInstanceProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddRoleToInstanceProfile operation like
+     * {@link #addRoleToInstanceProfileAsync(AddRoleToInstanceProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param addRoleToInstanceProfileRequest Container for the necessary
+     *           parameters to execute the AddRoleToInstanceProfile operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         AddRoleToInstanceProfile service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> addRoleToInstanceProfileComposableAsync(final AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addRoleToInstanceProfile(addRoleToInstanceProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addRoleToInstanceProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addRoleToInstanceProfileRequest,
+                new AddRoleToInstanceProfileRequestMarshaller(), null);
     }
     
     /**
@@ -9280,11 +9998,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupPolicyResult> getGroupPolicyAsync(final GetGroupPolicyRequest getGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
-            public GetGroupPolicyResult call() throws Exception {
-                return getGroupPolicy(getGroupPolicyRequest);
-        }
-    });
+        return getGroupPolicyComposableAsync(getGroupPolicyRequest);
     }
 
     /**
@@ -9328,19 +10042,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetGroupPolicyRequest getGroupPolicyRequest,
             final AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
+        return withAsyncHandler(getGroupPolicyComposableAsync(getGroupPolicyRequest),
+                getGroupPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetGroupPolicy operation like
+     * {@link #getGroupPolicyAsync(GetGroupPolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getGroupPolicyRequest Container for the necessary parameters to
+     *           execute the GetGroupPolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetGroupPolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetGroupPolicyResult> getGroupPolicyComposableAsync(final GetGroupPolicyRequest getGroupPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetGroupPolicyResult>() {
             public GetGroupPolicyResult call() throws Exception {
-              GetGroupPolicyResult result;
-                try {
-                result = getGroupPolicy(getGroupPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getGroupPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getGroupPolicy(getGroupPolicyRequest);
+            }
+        }, getGroupPolicyRequest,
+                new GetGroupPolicyRequestMarshaller(), new GetGroupPolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -9382,11 +10105,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetRolePolicyResult> getRolePolicyAsync(final GetRolePolicyRequest getRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRolePolicyResult>() {
-            public GetRolePolicyResult call() throws Exception {
-                return getRolePolicy(getRolePolicyRequest);
-        }
-    });
+        return getRolePolicyComposableAsync(getRolePolicyRequest);
     }
 
     /**
@@ -9434,19 +10153,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetRolePolicyRequest getRolePolicyRequest,
             final AsyncHandler<GetRolePolicyRequest, GetRolePolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRolePolicyResult>() {
+        return withAsyncHandler(getRolePolicyComposableAsync(getRolePolicyRequest),
+                getRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetRolePolicy operation like
+     * {@link #getRolePolicyAsync(GetRolePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getRolePolicyRequest Container for the necessary parameters to
+     *           execute the GetRolePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the GetRolePolicy
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetRolePolicyResult> getRolePolicyComposableAsync(final GetRolePolicyRequest getRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<GetRolePolicyResult>() {
             public GetRolePolicyResult call() throws Exception {
-              GetRolePolicyResult result;
-                try {
-                result = getRolePolicy(getRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getRolePolicyRequest, result);
-                 return result;
-        }
-    });
+                return getRolePolicy(getRolePolicyRequest);
+            }
+        }, getRolePolicyRequest,
+                new GetRolePolicyRequestMarshaller(), new GetRolePolicyResultStaxUnmarshaller());
     }
     
     /**
@@ -9481,11 +10209,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListInstanceProfilesForRoleResult> listInstanceProfilesForRoleAsync(final ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesForRoleResult>() {
-            public ListInstanceProfilesForRoleResult call() throws Exception {
-                return listInstanceProfilesForRole(listInstanceProfilesForRoleRequest);
-        }
-    });
+        return listInstanceProfilesForRoleComposableAsync(listInstanceProfilesForRoleRequest);
     }
 
     /**
@@ -9526,19 +10250,32 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest,
             final AsyncHandler<ListInstanceProfilesForRoleRequest, ListInstanceProfilesForRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInstanceProfilesForRoleResult>() {
+        return withAsyncHandler(listInstanceProfilesForRoleComposableAsync(listInstanceProfilesForRoleRequest),
+                listInstanceProfilesForRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListInstanceProfilesForRole operation
+     * like
+     * {@link #listInstanceProfilesForRoleAsync(ListInstanceProfilesForRoleRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listInstanceProfilesForRoleRequest Container for the necessary
+     *           parameters to execute the ListInstanceProfilesForRole operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListInstanceProfilesForRole service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListInstanceProfilesForRoleResult> listInstanceProfilesForRoleComposableAsync(final ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest) {
+        return executeAsync(executorService, new Callable<ListInstanceProfilesForRoleResult>() {
             public ListInstanceProfilesForRoleResult call() throws Exception {
-              ListInstanceProfilesForRoleResult result;
-                try {
-                result = listInstanceProfilesForRole(listInstanceProfilesForRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listInstanceProfilesForRoleRequest, result);
-                 return result;
-        }
-    });
+                return listInstanceProfilesForRole(listInstanceProfilesForRoleRequest);
+            }
+        }, listInstanceProfilesForRoleRequest,
+                new ListInstanceProfilesForRoleRequestMarshaller(), new ListInstanceProfilesForRoleResultStaxUnmarshaller());
     }
     
     /**
@@ -9572,12 +10309,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteRolePolicyAsync(final DeleteRolePolicyRequest deleteRolePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRolePolicy(deleteRolePolicyRequest);
-                return null;
-        }
-    });
+        return deleteRolePolicyComposableAsync(deleteRolePolicyRequest);
     }
 
     /**
@@ -9617,18 +10349,30 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final DeleteRolePolicyRequest deleteRolePolicyRequest,
             final AsyncHandler<DeleteRolePolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteRolePolicyComposableAsync(deleteRolePolicyRequest),
+                deleteRolePolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRolePolicy operation like
+     * {@link #deleteRolePolicyAsync(DeleteRolePolicyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteRolePolicyRequest Container for the necessary parameters
+     *           to execute the DeleteRolePolicy operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteRolePolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<Void> deleteRolePolicyComposableAsync(final DeleteRolePolicyRequest deleteRolePolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteRolePolicy(deleteRolePolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRolePolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteRolePolicyRequest,
+                new DeleteRolePolicyRequestMarshaller(), null);
     }
     
     /**
@@ -9663,11 +10407,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListVirtualMFADevicesResult> listVirtualMFADevicesAsync(final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVirtualMFADevicesResult>() {
-            public ListVirtualMFADevicesResult call() throws Exception {
-                return listVirtualMFADevices(listVirtualMFADevicesRequest);
-        }
-    });
+        return listVirtualMFADevicesComposableAsync(listVirtualMFADevicesRequest);
     }
 
     /**
@@ -9708,19 +10448,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest,
             final AsyncHandler<ListVirtualMFADevicesRequest, ListVirtualMFADevicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVirtualMFADevicesResult>() {
+        return withAsyncHandler(listVirtualMFADevicesComposableAsync(listVirtualMFADevicesRequest),
+                listVirtualMFADevicesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListVirtualMFADevices operation like
+     * {@link #listVirtualMFADevicesAsync(ListVirtualMFADevicesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listVirtualMFADevicesRequest Container for the necessary
+     *           parameters to execute the ListVirtualMFADevices operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListVirtualMFADevices service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListVirtualMFADevicesResult> listVirtualMFADevicesComposableAsync(final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest) {
+        return executeAsync(executorService, new Callable<ListVirtualMFADevicesResult>() {
             public ListVirtualMFADevicesResult call() throws Exception {
-              ListVirtualMFADevicesResult result;
-                try {
-                result = listVirtualMFADevices(listVirtualMFADevicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVirtualMFADevicesRequest, result);
-                 return result;
-        }
-    });
+                return listVirtualMFADevices(listVirtualMFADevicesRequest);
+            }
+        }, listVirtualMFADevicesRequest,
+                new ListVirtualMFADevicesRequestMarshaller(), new ListVirtualMFADevicesResultStaxUnmarshaller());
     }
     
     /**
@@ -9761,11 +10513,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupPoliciesResult> listGroupPoliciesAsync(final ListGroupPoliciesRequest listGroupPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
-            public ListGroupPoliciesResult call() throws Exception {
-                return listGroupPolicies(listGroupPoliciesRequest);
-        }
-    });
+        return listGroupPoliciesComposableAsync(listGroupPoliciesRequest);
     }
 
     /**
@@ -9812,19 +10560,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListGroupPoliciesRequest listGroupPoliciesRequest,
             final AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
+        return withAsyncHandler(listGroupPoliciesComposableAsync(listGroupPoliciesRequest),
+                listGroupPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGroupPolicies operation like
+     * {@link #listGroupPoliciesAsync(ListGroupPoliciesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listGroupPoliciesRequest Container for the necessary parameters
+     *           to execute the ListGroupPolicies operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListGroupPolicies service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListGroupPoliciesResult> listGroupPoliciesComposableAsync(final ListGroupPoliciesRequest listGroupPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListGroupPoliciesResult>() {
             public ListGroupPoliciesResult call() throws Exception {
-              ListGroupPoliciesResult result;
-                try {
-                result = listGroupPolicies(listGroupPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGroupPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listGroupPolicies(listGroupPoliciesRequest);
+            }
+        }, listGroupPoliciesRequest,
+                new ListGroupPoliciesRequestMarshaller(), new ListGroupPoliciesResultStaxUnmarshaller());
     }
     
     /**
@@ -9863,11 +10623,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListRolesResult> listRolesAsync(final ListRolesRequest listRolesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolesResult>() {
-            public ListRolesResult call() throws Exception {
-                return listRoles(listRolesRequest);
-        }
-    });
+        return listRolesComposableAsync(listRolesRequest);
     }
 
     /**
@@ -9912,19 +10668,28 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final ListRolesRequest listRolesRequest,
             final AsyncHandler<ListRolesRequest, ListRolesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRolesResult>() {
+        return withAsyncHandler(listRolesComposableAsync(listRolesRequest),
+                listRolesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListRoles operation like
+     * {@link #listRolesAsync(ListRolesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listRolesRequest Container for the necessary parameters to
+     *           execute the ListRoles operation on AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the ListRoles
+     *         service method, as returned by AmazonIdentityManagement.
+     */
+    public ComposableFuture<ListRolesResult> listRolesComposableAsync(final ListRolesRequest listRolesRequest) {
+        return executeAsync(executorService, new Callable<ListRolesResult>() {
             public ListRolesResult call() throws Exception {
-              ListRolesResult result;
-                try {
-                result = listRoles(listRolesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listRolesRequest, result);
-                 return result;
-        }
-    });
+                return listRoles(listRolesRequest);
+            }
+        }, listRolesRequest,
+                new ListRolesRequestMarshaller(), new ListRolesResultStaxUnmarshaller());
     }
     
     /**
@@ -9954,11 +10719,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountPasswordPolicyResult> getAccountPasswordPolicyAsync(final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountPasswordPolicyResult>() {
-            public GetAccountPasswordPolicyResult call() throws Exception {
-                return getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
-        }
-    });
+        return getAccountPasswordPolicyComposableAsync(getAccountPasswordPolicyRequest);
     }
 
     /**
@@ -9994,19 +10755,31 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
             final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest,
             final AsyncHandler<GetAccountPasswordPolicyRequest, GetAccountPasswordPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountPasswordPolicyResult>() {
+        return withAsyncHandler(getAccountPasswordPolicyComposableAsync(getAccountPasswordPolicyRequest),
+                getAccountPasswordPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetAccountPasswordPolicy operation like
+     * {@link #getAccountPasswordPolicyAsync(GetAccountPasswordPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getAccountPasswordPolicyRequest Container for the necessary
+     *           parameters to execute the GetAccountPasswordPolicy operation on
+     *           AmazonIdentityManagement.
+     *
+     * @return A composable future for the response from the
+     *         GetAccountPasswordPolicy service method, as returned by
+     *         AmazonIdentityManagement.
+     */
+    public ComposableFuture<GetAccountPasswordPolicyResult> getAccountPasswordPolicyComposableAsync(final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetAccountPasswordPolicyResult>() {
             public GetAccountPasswordPolicyResult call() throws Exception {
-              GetAccountPasswordPolicyResult result;
-                try {
-                result = getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAccountPasswordPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
+            }
+        }, getAccountPasswordPolicyRequest,
+                new GetAccountPasswordPolicyRequestMarshaller(), new GetAccountPasswordPolicyResultStaxUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.importexport.model.*;
+import com.amazonaws.services.importexport.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonImportExport.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Import/Export Service <p>
  * AWS Import/Export accelerates transferring large amounts of data
  * between the AWS cloud and portable storage devices that you mail to
@@ -303,11 +307,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CreateJobResult> createJobAsync(final CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
-            public CreateJobResult call() throws Exception {
-                return createJob(createJobRequest);
-        }
-    });
+        return createJobComposableAsync(createJobRequest);
     }
 
     /**
@@ -343,19 +343,28 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CreateJobRequest createJobRequest,
             final AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
+        return withAsyncHandler(createJobComposableAsync(createJobRequest),
+                createJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateJob operation like
+     * {@link #createJobAsync(CreateJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createJobRequest Container for the necessary parameters to
+     *           execute the CreateJob operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the CreateJob
+     *         service method, as returned by AmazonImportExport.
+     */
+    public ComposableFuture<CreateJobResult> createJobComposableAsync(final CreateJobRequest createJobRequest) {
+        return executeAsync(executorService, new Callable<CreateJobResult>() {
             public CreateJobResult call() throws Exception {
-              CreateJobResult result;
-                try {
-                result = createJob(createJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createJobRequest, result);
-                 return result;
-        }
-    });
+                return createJob(createJobRequest);
+            }
+        }, createJobRequest,
+                new CreateJobRequestMarshaller(), new CreateJobResultStaxUnmarshaller());
     }
     
     /**
@@ -383,11 +392,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<GetShippingLabelResult> getShippingLabelAsync(final GetShippingLabelRequest getShippingLabelRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetShippingLabelResult>() {
-            public GetShippingLabelResult call() throws Exception {
-                return getShippingLabel(getShippingLabelRequest);
-        }
-    });
+        return getShippingLabelComposableAsync(getShippingLabelRequest);
     }
 
     /**
@@ -421,19 +426,29 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetShippingLabelRequest getShippingLabelRequest,
             final AsyncHandler<GetShippingLabelRequest, GetShippingLabelResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetShippingLabelResult>() {
+        return withAsyncHandler(getShippingLabelComposableAsync(getShippingLabelRequest),
+                getShippingLabelRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetShippingLabel operation like
+     * {@link #getShippingLabelAsync(GetShippingLabelRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getShippingLabelRequest Container for the necessary parameters
+     *           to execute the GetShippingLabel operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the
+     *         GetShippingLabel service method, as returned by
+     *         AmazonImportExport.
+     */
+    public ComposableFuture<GetShippingLabelResult> getShippingLabelComposableAsync(final GetShippingLabelRequest getShippingLabelRequest) {
+        return executeAsync(executorService, new Callable<GetShippingLabelResult>() {
             public GetShippingLabelResult call() throws Exception {
-              GetShippingLabelResult result;
-                try {
-                result = getShippingLabel(getShippingLabelRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getShippingLabelRequest, result);
-                 return result;
-        }
-    });
+                return getShippingLabel(getShippingLabelRequest);
+            }
+        }, getShippingLabelRequest,
+                new GetShippingLabelRequestMarshaller(), new GetShippingLabelResultStaxUnmarshaller());
     }
     
     /**
@@ -459,11 +474,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CancelJobResult> cancelJobAsync(final CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
-            public CancelJobResult call() throws Exception {
-                return cancelJob(cancelJobRequest);
-        }
-    });
+        return cancelJobComposableAsync(cancelJobRequest);
     }
 
     /**
@@ -495,19 +506,28 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CancelJobRequest cancelJobRequest,
             final AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
+        return withAsyncHandler(cancelJobComposableAsync(cancelJobRequest),
+                cancelJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelJob operation like
+     * {@link #cancelJobAsync(CancelJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param cancelJobRequest Container for the necessary parameters to
+     *           execute the CancelJob operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the CancelJob
+     *         service method, as returned by AmazonImportExport.
+     */
+    public ComposableFuture<CancelJobResult> cancelJobComposableAsync(final CancelJobRequest cancelJobRequest) {
+        return executeAsync(executorService, new Callable<CancelJobResult>() {
             public CancelJobResult call() throws Exception {
-              CancelJobResult result;
-                try {
-                result = cancelJob(cancelJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelJobRequest, result);
-                 return result;
-        }
-    });
+                return cancelJob(cancelJobRequest);
+            }
+        }, cancelJobRequest,
+                new CancelJobRequestMarshaller(), new CancelJobResultStaxUnmarshaller());
     }
     
     /**
@@ -535,11 +555,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<GetStatusResult> getStatusAsync(final GetStatusRequest getStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStatusResult>() {
-            public GetStatusResult call() throws Exception {
-                return getStatus(getStatusRequest);
-        }
-    });
+        return getStatusComposableAsync(getStatusRequest);
     }
 
     /**
@@ -573,19 +589,28 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetStatusRequest getStatusRequest,
             final AsyncHandler<GetStatusRequest, GetStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStatusResult>() {
+        return withAsyncHandler(getStatusComposableAsync(getStatusRequest),
+                getStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetStatus operation like
+     * {@link #getStatusAsync(GetStatusRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getStatusRequest Container for the necessary parameters to
+     *           execute the GetStatus operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the GetStatus
+     *         service method, as returned by AmazonImportExport.
+     */
+    public ComposableFuture<GetStatusResult> getStatusComposableAsync(final GetStatusRequest getStatusRequest) {
+        return executeAsync(executorService, new Callable<GetStatusResult>() {
             public GetStatusResult call() throws Exception {
-              GetStatusResult result;
-                try {
-                result = getStatus(getStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getStatusRequest, result);
-                 return result;
-        }
-    });
+                return getStatus(getStatusRequest);
+            }
+        }, getStatusRequest,
+                new GetStatusRequestMarshaller(), new GetStatusResultStaxUnmarshaller());
     }
     
     /**
@@ -614,11 +639,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<ListJobsResult> listJobsAsync(final ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
-            public ListJobsResult call() throws Exception {
-                return listJobs(listJobsRequest);
-        }
-    });
+        return listJobsComposableAsync(listJobsRequest);
     }
 
     /**
@@ -653,19 +674,28 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final ListJobsRequest listJobsRequest,
             final AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
+        return withAsyncHandler(listJobsComposableAsync(listJobsRequest),
+                listJobsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListJobs operation like
+     * {@link #listJobsAsync(ListJobsRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param listJobsRequest Container for the necessary parameters to
+     *           execute the ListJobs operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the ListJobs
+     *         service method, as returned by AmazonImportExport.
+     */
+    public ComposableFuture<ListJobsResult> listJobsComposableAsync(final ListJobsRequest listJobsRequest) {
+        return executeAsync(executorService, new Callable<ListJobsResult>() {
             public ListJobsResult call() throws Exception {
-              ListJobsResult result;
-                try {
-                result = listJobs(listJobsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listJobsRequest, result);
-                 return result;
-        }
-    });
+                return listJobs(listJobsRequest);
+            }
+        }, listJobsRequest,
+                new ListJobsRequestMarshaller(), new ListJobsResultStaxUnmarshaller());
     }
     
     /**
@@ -694,11 +724,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<UpdateJobResult> updateJobAsync(final UpdateJobRequest updateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateJobResult>() {
-            public UpdateJobResult call() throws Exception {
-                return updateJob(updateJobRequest);
-        }
-    });
+        return updateJobComposableAsync(updateJobRequest);
     }
 
     /**
@@ -733,19 +759,28 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final UpdateJobRequest updateJobRequest,
             final AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateJobResult>() {
+        return withAsyncHandler(updateJobComposableAsync(updateJobRequest),
+                updateJobRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateJob operation like
+     * {@link #updateJobAsync(UpdateJobRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateJobRequest Container for the necessary parameters to
+     *           execute the UpdateJob operation on AmazonImportExport.
+     *
+     * @return A composable future for the response from the UpdateJob
+     *         service method, as returned by AmazonImportExport.
+     */
+    public ComposableFuture<UpdateJobResult> updateJobComposableAsync(final UpdateJobRequest updateJobRequest) {
+        return executeAsync(executorService, new Callable<UpdateJobResult>() {
             public UpdateJobResult call() throws Exception {
-              UpdateJobResult result;
-                try {
-                result = updateJob(updateJobRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateJobRequest, result);
-                 return result;
-        }
-    });
+                return updateJob(updateJobRequest);
+            }
+        }, updateJobRequest,
+                new UpdateJobRequestMarshaller(), new UpdateJobResultStaxUnmarshaller());
     }
     
 }
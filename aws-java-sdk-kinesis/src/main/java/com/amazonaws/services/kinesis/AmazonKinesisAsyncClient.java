@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.kinesis.model.*;
+import com.amazonaws.services.kinesis.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonKinesis.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Kinesis Service API Reference <p>
  * Amazon Kinesis is a managed service that scales elastically for real
  * time processing of streaming big data.
@@ -299,12 +303,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> addTagsToStreamAsync(final AddTagsToStreamRequest addTagsToStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addTagsToStream(addTagsToStreamRequest);
-                return null;
-        }
-    });
+        return addTagsToStreamComposableAsync(addTagsToStreamRequest);
     }
 
     /**
@@ -341,18 +340,30 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final AddTagsToStreamRequest addTagsToStreamRequest,
             final AsyncHandler<AddTagsToStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addTagsToStreamComposableAsync(addTagsToStreamRequest),
+                addTagsToStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddTagsToStream operation like
+     * {@link #addTagsToStreamAsync(AddTagsToStreamRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addTagsToStreamRequest Container for the necessary parameters
+     *           to execute the AddTagsToStream operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the
+     *         AddTagsToStream service method, as returned by
+     *         AmazonKinesis.
+     */
+    public ComposableFuture<Void> addTagsToStreamComposableAsync(final AddTagsToStreamRequest addTagsToStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addTagsToStream(addTagsToStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsToStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addTagsToStreamRequest,
+                new AddTagsToStreamRequestMarshaller(), null);
     }
     
     /**
@@ -431,11 +442,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<PutRecordResult> putRecordAsync(final PutRecordRequest putRecordRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutRecordResult>() {
-            public PutRecordResult call() throws Exception {
-                return putRecord(putRecordRequest);
-        }
-    });
+        return putRecordComposableAsync(putRecordRequest);
     }
 
     /**
@@ -520,19 +527,28 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final PutRecordRequest putRecordRequest,
             final AsyncHandler<PutRecordRequest, PutRecordResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutRecordResult>() {
+        return withAsyncHandler(putRecordComposableAsync(putRecordRequest),
+                putRecordRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutRecord operation like
+     * {@link #putRecordAsync(PutRecordRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param putRecordRequest Container for the necessary parameters to
+     *           execute the PutRecord operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the PutRecord
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<PutRecordResult> putRecordComposableAsync(final PutRecordRequest putRecordRequest) {
+        return executeAsync(executorService, new Callable<PutRecordResult>() {
             public PutRecordResult call() throws Exception {
-              PutRecordResult result;
-                try {
-                result = putRecord(putRecordRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putRecordRequest, result);
-                 return result;
-        }
-    });
+                return putRecord(putRecordRequest);
+            }
+        }, putRecordRequest,
+                new PutRecordRequestMarshaller(), new PutRecordResultJsonUnmarshaller());
     }
     
     /**
@@ -611,12 +627,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> createStreamAsync(final CreateStreamRequest createStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createStream(createStreamRequest);
-                return null;
-        }
-    });
+        return createStreamComposableAsync(createStreamRequest);
     }
 
     /**
@@ -701,18 +712,29 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final CreateStreamRequest createStreamRequest,
             final AsyncHandler<CreateStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createStreamComposableAsync(createStreamRequest),
+                createStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStream operation like
+     * {@link #createStreamAsync(CreateStreamRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createStreamRequest Container for the necessary parameters to
+     *           execute the CreateStream operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the CreateStream
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<Void> createStreamComposableAsync(final CreateStreamRequest createStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createStream(createStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createStreamRequest,
+                new CreateStreamRequestMarshaller(), null);
     }
     
     /**
@@ -764,12 +786,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> deleteStreamAsync(final DeleteStreamRequest deleteStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStream(deleteStreamRequest);
-                return null;
-        }
-    });
+        return deleteStreamComposableAsync(deleteStreamRequest);
     }
 
     /**
@@ -827,18 +844,29 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final DeleteStreamRequest deleteStreamRequest,
             final AsyncHandler<DeleteStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteStreamComposableAsync(deleteStreamRequest),
+                deleteStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteStream operation like
+     * {@link #deleteStreamAsync(DeleteStreamRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteStreamRequest Container for the necessary parameters to
+     *           execute the DeleteStream operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the DeleteStream
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<Void> deleteStreamComposableAsync(final DeleteStreamRequest deleteStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteStream(deleteStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteStreamRequest,
+                new DeleteStreamRequestMarshaller(), null);
     }
     
     /**
@@ -914,12 +942,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> mergeShardsAsync(final MergeShardsRequest mergeShardsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                mergeShards(mergeShardsRequest);
-                return null;
-        }
-    });
+        return mergeShardsComposableAsync(mergeShardsRequest);
     }
 
     /**
@@ -1001,18 +1024,29 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final MergeShardsRequest mergeShardsRequest,
             final AsyncHandler<MergeShardsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(mergeShardsComposableAsync(mergeShardsRequest),
+                mergeShardsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the MergeShards operation like
+     * {@link #mergeShardsAsync(MergeShardsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param mergeShardsRequest Container for the necessary parameters to
+     *           execute the MergeShards operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the MergeShards
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<Void> mergeShardsComposableAsync(final MergeShardsRequest mergeShardsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 mergeShards(mergeShardsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(mergeShardsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, mergeShardsRequest,
+                new MergeShardsRequestMarshaller(), null);
     }
     
     /**
@@ -1108,11 +1142,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<PutRecordsResult> putRecordsAsync(final PutRecordsRequest putRecordsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutRecordsResult>() {
-            public PutRecordsResult call() throws Exception {
-                return putRecords(putRecordsRequest);
-        }
-    });
+        return putRecordsComposableAsync(putRecordsRequest);
     }
 
     /**
@@ -1214,19 +1244,28 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final PutRecordsRequest putRecordsRequest,
             final AsyncHandler<PutRecordsRequest, PutRecordsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutRecordsResult>() {
+        return withAsyncHandler(putRecordsComposableAsync(putRecordsRequest),
+                putRecordsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutRecords operation like
+     * {@link #putRecordsAsync(PutRecordsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param putRecordsRequest Container for the necessary parameters to
+     *           execute the PutRecords operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the PutRecords
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<PutRecordsResult> putRecordsComposableAsync(final PutRecordsRequest putRecordsRequest) {
+        return executeAsync(executorService, new Callable<PutRecordsResult>() {
             public PutRecordsResult call() throws Exception {
-              PutRecordsResult result;
-                try {
-                result = putRecords(putRecordsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putRecordsRequest, result);
-                 return result;
-        }
-    });
+                return putRecords(putRecordsRequest);
+            }
+        }, putRecordsRequest,
+                new PutRecordsRequestMarshaller(), new PutRecordsResultJsonUnmarshaller());
     }
     
     /**
@@ -1280,11 +1319,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<DescribeStreamResult> describeStreamAsync(final DescribeStreamRequest describeStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStreamResult>() {
-            public DescribeStreamResult call() throws Exception {
-                return describeStream(describeStreamRequest);
-        }
-    });
+        return describeStreamComposableAsync(describeStreamRequest);
     }
 
     /**
@@ -1344,19 +1379,28 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final DescribeStreamRequest describeStreamRequest,
             final AsyncHandler<DescribeStreamRequest, DescribeStreamResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStreamResult>() {
+        return withAsyncHandler(describeStreamComposableAsync(describeStreamRequest),
+                describeStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStream operation like
+     * {@link #describeStreamAsync(DescribeStreamRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeStreamRequest Container for the necessary parameters to
+     *           execute the DescribeStream operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the DescribeStream
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<DescribeStreamResult> describeStreamComposableAsync(final DescribeStreamRequest describeStreamRequest) {
+        return executeAsync(executorService, new Callable<DescribeStreamResult>() {
             public DescribeStreamResult call() throws Exception {
-              DescribeStreamResult result;
-                try {
-                result = describeStream(describeStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStreamRequest, result);
-                 return result;
-        }
-    });
+                return describeStream(describeStreamRequest);
+            }
+        }, describeStreamRequest,
+                new DescribeStreamRequestMarshaller(), new DescribeStreamResultJsonUnmarshaller());
     }
     
     /**
@@ -1432,11 +1476,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<GetShardIteratorResult> getShardIteratorAsync(final GetShardIteratorRequest getShardIteratorRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetShardIteratorResult>() {
-            public GetShardIteratorResult call() throws Exception {
-                return getShardIterator(getShardIteratorRequest);
-        }
-    });
+        return getShardIteratorComposableAsync(getShardIteratorRequest);
     }
 
     /**
@@ -1518,19 +1558,29 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final GetShardIteratorRequest getShardIteratorRequest,
             final AsyncHandler<GetShardIteratorRequest, GetShardIteratorResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetShardIteratorResult>() {
+        return withAsyncHandler(getShardIteratorComposableAsync(getShardIteratorRequest),
+                getShardIteratorRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetShardIterator operation like
+     * {@link #getShardIteratorAsync(GetShardIteratorRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getShardIteratorRequest Container for the necessary parameters
+     *           to execute the GetShardIterator operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the
+     *         GetShardIterator service method, as returned by
+     *         AmazonKinesis.
+     */
+    public ComposableFuture<GetShardIteratorResult> getShardIteratorComposableAsync(final GetShardIteratorRequest getShardIteratorRequest) {
+        return executeAsync(executorService, new Callable<GetShardIteratorResult>() {
             public GetShardIteratorResult call() throws Exception {
-              GetShardIteratorResult result;
-                try {
-                result = getShardIterator(getShardIteratorRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getShardIteratorRequest, result);
-                 return result;
-        }
-    });
+                return getShardIterator(getShardIteratorRequest);
+            }
+        }, getShardIteratorRequest,
+                new GetShardIteratorRequestMarshaller(), new GetShardIteratorResultJsonUnmarshaller());
     }
     
     /**
@@ -1555,11 +1605,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<ListTagsForStreamResult> listTagsForStreamAsync(final ListTagsForStreamRequest listTagsForStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForStreamResult>() {
-            public ListTagsForStreamResult call() throws Exception {
-                return listTagsForStream(listTagsForStreamRequest);
-        }
-    });
+        return listTagsForStreamComposableAsync(listTagsForStreamRequest);
     }
 
     /**
@@ -1590,19 +1636,30 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final ListTagsForStreamRequest listTagsForStreamRequest,
             final AsyncHandler<ListTagsForStreamRequest, ListTagsForStreamResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForStreamResult>() {
+        return withAsyncHandler(listTagsForStreamComposableAsync(listTagsForStreamRequest),
+                listTagsForStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForStream operation like
+     * {@link #listTagsForStreamAsync(ListTagsForStreamRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listTagsForStreamRequest Container for the necessary parameters
+     *           to execute the ListTagsForStream operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForStream service method, as returned by
+     *         AmazonKinesis.
+     */
+    public ComposableFuture<ListTagsForStreamResult> listTagsForStreamComposableAsync(final ListTagsForStreamRequest listTagsForStreamRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForStreamResult>() {
             public ListTagsForStreamResult call() throws Exception {
-              ListTagsForStreamResult result;
-                try {
-                result = listTagsForStream(listTagsForStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForStreamRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForStream(listTagsForStreamRequest);
+            }
+        }, listTagsForStreamRequest,
+                new ListTagsForStreamRequestMarshaller(), new ListTagsForStreamResultJsonUnmarshaller());
     }
     
     /**
@@ -1685,11 +1742,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<GetRecordsResult> getRecordsAsync(final GetRecordsRequest getRecordsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRecordsResult>() {
-            public GetRecordsResult call() throws Exception {
-                return getRecords(getRecordsRequest);
-        }
-    });
+        return getRecordsComposableAsync(getRecordsRequest);
     }
 
     /**
@@ -1778,19 +1831,28 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final GetRecordsRequest getRecordsRequest,
             final AsyncHandler<GetRecordsRequest, GetRecordsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetRecordsResult>() {
+        return withAsyncHandler(getRecordsComposableAsync(getRecordsRequest),
+                getRecordsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetRecords operation like
+     * {@link #getRecordsAsync(GetRecordsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getRecordsRequest Container for the necessary parameters to
+     *           execute the GetRecords operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the GetRecords
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<GetRecordsResult> getRecordsComposableAsync(final GetRecordsRequest getRecordsRequest) {
+        return executeAsync(executorService, new Callable<GetRecordsResult>() {
             public GetRecordsResult call() throws Exception {
-              GetRecordsResult result;
-                try {
-                result = getRecords(getRecordsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getRecordsRequest, result);
-                 return result;
-        }
-    });
+                return getRecords(getRecordsRequest);
+            }
+        }, getRecordsRequest,
+                new GetRecordsRequestMarshaller(), new GetRecordsResultJsonUnmarshaller());
     }
     
     /**
@@ -1882,12 +1944,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> splitShardAsync(final SplitShardRequest splitShardRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                splitShard(splitShardRequest);
-                return null;
-        }
-    });
+        return splitShardComposableAsync(splitShardRequest);
     }
 
     /**
@@ -1985,18 +2042,29 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final SplitShardRequest splitShardRequest,
             final AsyncHandler<SplitShardRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(splitShardComposableAsync(splitShardRequest),
+                splitShardRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SplitShard operation like
+     * {@link #splitShardAsync(SplitShardRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param splitShardRequest Container for the necessary parameters to
+     *           execute the SplitShard operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the SplitShard
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<Void> splitShardComposableAsync(final SplitShardRequest splitShardRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 splitShard(splitShardRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(splitShardRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, splitShardRequest,
+                new SplitShardRequestMarshaller(), null);
     }
     
     /**
@@ -2025,12 +2093,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<Void> removeTagsFromStreamAsync(final RemoveTagsFromStreamRequest removeTagsFromStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeTagsFromStream(removeTagsFromStreamRequest);
-                return null;
-        }
-    });
+        return removeTagsFromStreamComposableAsync(removeTagsFromStreamRequest);
     }
 
     /**
@@ -2065,18 +2128,32 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final RemoveTagsFromStreamRequest removeTagsFromStreamRequest,
             final AsyncHandler<RemoveTagsFromStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeTagsFromStreamComposableAsync(removeTagsFromStreamRequest),
+                removeTagsFromStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveTagsFromStream operation like
+     * {@link #removeTagsFromStreamAsync(RemoveTagsFromStreamRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeTagsFromStreamRequest Container for the necessary
+     *           parameters to execute the RemoveTagsFromStream operation on
+     *           AmazonKinesis.
+     *
+     * @return A composable future for the response from the
+     *         RemoveTagsFromStream service method, as returned by
+     *         AmazonKinesis.
+     */
+    public ComposableFuture<Void> removeTagsFromStreamComposableAsync(final RemoveTagsFromStreamRequest removeTagsFromStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeTagsFromStream(removeTagsFromStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsFromStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeTagsFromStreamRequest,
+                new RemoveTagsFromStreamRequestMarshaller(), null);
     }
     
     /**
@@ -2124,11 +2201,7 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
      */
     public Future<ListStreamsResult> listStreamsAsync(final ListStreamsRequest listStreamsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamsResult>() {
-            public ListStreamsResult call() throws Exception {
-                return listStreams(listStreamsRequest);
-        }
-    });
+        return listStreamsComposableAsync(listStreamsRequest);
     }
 
     /**
@@ -2182,19 +2255,28 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient
             final ListStreamsRequest listStreamsRequest,
             final AsyncHandler<ListStreamsRequest, ListStreamsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamsResult>() {
+        return withAsyncHandler(listStreamsComposableAsync(listStreamsRequest),
+                listStreamsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListStreams operation like
+     * {@link #listStreamsAsync(ListStreamsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listStreamsRequest Container for the necessary parameters to
+     *           execute the ListStreams operation on AmazonKinesis.
+     *
+     * @return A composable future for the response from the ListStreams
+     *         service method, as returned by AmazonKinesis.
+     */
+    public ComposableFuture<ListStreamsResult> listStreamsComposableAsync(final ListStreamsRequest listStreamsRequest) {
+        return executeAsync(executorService, new Callable<ListStreamsResult>() {
             public ListStreamsResult call() throws Exception {
-              ListStreamsResult result;
-                try {
-                result = listStreams(listStreamsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listStreamsRequest, result);
-                 return result;
-        }
-    });
+                return listStreams(listStreamsRequest);
+            }
+        }, listStreamsRequest,
+                new ListStreamsRequestMarshaller(), new ListStreamsResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.kms.model.*;
+import com.amazonaws.services.kms.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSKMS.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Key Management Service <p>
  * AWS Key Management Service (KMS) is an encryption and key management
  * web service. This guide describes the KMS actions that you can call
@@ -367,11 +371,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<CreateKeyResult> createKeyAsync(final CreateKeyRequest createKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyResult>() {
-            public CreateKeyResult call() throws Exception {
-                return createKey(createKeyRequest);
-        }
-    });
+        return createKeyComposableAsync(createKeyRequest);
     }
 
     /**
@@ -406,19 +406,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final CreateKeyRequest createKeyRequest,
             final AsyncHandler<CreateKeyRequest, CreateKeyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyResult>() {
+        return withAsyncHandler(createKeyComposableAsync(createKeyRequest),
+                createKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateKey operation like
+     * {@link #createKeyAsync(CreateKeyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createKeyRequest Container for the necessary parameters to
+     *           execute the CreateKey operation on AWSKMS.
+     *
+     * @return A composable future for the response from the CreateKey
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<CreateKeyResult> createKeyComposableAsync(final CreateKeyRequest createKeyRequest) {
+        return executeAsync(executorService, new Callable<CreateKeyResult>() {
             public CreateKeyResult call() throws Exception {
-              CreateKeyResult result;
-                try {
-                result = createKey(createKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyRequest, result);
-                 return result;
-        }
-    });
+                return createKey(createKeyRequest);
+            }
+        }, createKeyRequest,
+                new CreateKeyRequestMarshaller(), new CreateKeyResultJsonUnmarshaller());
     }
     
     /**
@@ -443,11 +452,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<EncryptResult> encryptAsync(final EncryptRequest encryptRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EncryptResult>() {
-            public EncryptResult call() throws Exception {
-                return encrypt(encryptRequest);
-        }
-    });
+        return encryptComposableAsync(encryptRequest);
     }
 
     /**
@@ -478,19 +483,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final EncryptRequest encryptRequest,
             final AsyncHandler<EncryptRequest, EncryptResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EncryptResult>() {
+        return withAsyncHandler(encryptComposableAsync(encryptRequest),
+                encryptRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Encrypt operation like
+     * {@link #encryptAsync(EncryptRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param encryptRequest Container for the necessary parameters to
+     *           execute the Encrypt operation on AWSKMS.
+     *
+     * @return A composable future for the response from the Encrypt
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<EncryptResult> encryptComposableAsync(final EncryptRequest encryptRequest) {
+        return executeAsync(executorService, new Callable<EncryptResult>() {
             public EncryptResult call() throws Exception {
-              EncryptResult result;
-                try {
-                result = encrypt(encryptRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(encryptRequest, result);
-                 return result;
-        }
-    });
+                return encrypt(encryptRequest);
+            }
+        }, encryptRequest,
+                new EncryptRequestMarshaller(), new EncryptResultJsonUnmarshaller());
     }
     
     /**
@@ -515,11 +529,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<GetKeyPolicyResult> getKeyPolicyAsync(final GetKeyPolicyRequest getKeyPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetKeyPolicyResult>() {
-            public GetKeyPolicyResult call() throws Exception {
-                return getKeyPolicy(getKeyPolicyRequest);
-        }
-    });
+        return getKeyPolicyComposableAsync(getKeyPolicyRequest);
     }
 
     /**
@@ -550,19 +560,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final GetKeyPolicyRequest getKeyPolicyRequest,
             final AsyncHandler<GetKeyPolicyRequest, GetKeyPolicyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetKeyPolicyResult>() {
+        return withAsyncHandler(getKeyPolicyComposableAsync(getKeyPolicyRequest),
+                getKeyPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetKeyPolicy operation like
+     * {@link #getKeyPolicyAsync(GetKeyPolicyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param getKeyPolicyRequest Container for the necessary parameters to
+     *           execute the GetKeyPolicy operation on AWSKMS.
+     *
+     * @return A composable future for the response from the GetKeyPolicy
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<GetKeyPolicyResult> getKeyPolicyComposableAsync(final GetKeyPolicyRequest getKeyPolicyRequest) {
+        return executeAsync(executorService, new Callable<GetKeyPolicyResult>() {
             public GetKeyPolicyResult call() throws Exception {
-              GetKeyPolicyResult result;
-                try {
-                result = getKeyPolicy(getKeyPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getKeyPolicyRequest, result);
-                 return result;
-        }
-    });
+                return getKeyPolicy(getKeyPolicyRequest);
+            }
+        }, getKeyPolicyRequest,
+                new GetKeyPolicyRequestMarshaller(), new GetKeyPolicyResultJsonUnmarshaller());
     }
     
     /**
@@ -587,12 +606,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> updateKeyDescriptionAsync(final UpdateKeyDescriptionRequest updateKeyDescriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateKeyDescription(updateKeyDescriptionRequest);
-                return null;
-        }
-    });
+        return updateKeyDescriptionComposableAsync(updateKeyDescriptionRequest);
     }
 
     /**
@@ -623,18 +637,30 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final UpdateKeyDescriptionRequest updateKeyDescriptionRequest,
             final AsyncHandler<UpdateKeyDescriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateKeyDescriptionComposableAsync(updateKeyDescriptionRequest),
+                updateKeyDescriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateKeyDescription operation like
+     * {@link #updateKeyDescriptionAsync(UpdateKeyDescriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateKeyDescriptionRequest Container for the necessary
+     *           parameters to execute the UpdateKeyDescription operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         UpdateKeyDescription service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> updateKeyDescriptionComposableAsync(final UpdateKeyDescriptionRequest updateKeyDescriptionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateKeyDescription(updateKeyDescriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateKeyDescriptionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateKeyDescriptionRequest,
+                new UpdateKeyDescriptionRequestMarshaller(), null);
     }
     
     /**
@@ -659,11 +685,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<ListKeysResult> listKeysAsync(final ListKeysRequest listKeysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeysResult>() {
-            public ListKeysResult call() throws Exception {
-                return listKeys(listKeysRequest);
-        }
-    });
+        return listKeysComposableAsync(listKeysRequest);
     }
 
     /**
@@ -694,19 +716,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final ListKeysRequest listKeysRequest,
             final AsyncHandler<ListKeysRequest, ListKeysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeysResult>() {
+        return withAsyncHandler(listKeysComposableAsync(listKeysRequest),
+                listKeysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListKeys operation like
+     * {@link #listKeysAsync(ListKeysRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param listKeysRequest Container for the necessary parameters to
+     *           execute the ListKeys operation on AWSKMS.
+     *
+     * @return A composable future for the response from the ListKeys
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<ListKeysResult> listKeysComposableAsync(final ListKeysRequest listKeysRequest) {
+        return executeAsync(executorService, new Callable<ListKeysResult>() {
             public ListKeysResult call() throws Exception {
-              ListKeysResult result;
-                try {
-                result = listKeys(listKeysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listKeysRequest, result);
-                 return result;
-        }
-    });
+                return listKeys(listKeysRequest);
+            }
+        }, listKeysRequest,
+                new ListKeysRequestMarshaller(), new ListKeysResultJsonUnmarshaller());
     }
     
     /**
@@ -732,11 +763,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<GenerateDataKeyResult> generateDataKeyAsync(final GenerateDataKeyRequest generateDataKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateDataKeyResult>() {
-            public GenerateDataKeyResult call() throws Exception {
-                return generateDataKey(generateDataKeyRequest);
-        }
-    });
+        return generateDataKeyComposableAsync(generateDataKeyRequest);
     }
 
     /**
@@ -768,19 +795,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final GenerateDataKeyRequest generateDataKeyRequest,
             final AsyncHandler<GenerateDataKeyRequest, GenerateDataKeyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateDataKeyResult>() {
+        return withAsyncHandler(generateDataKeyComposableAsync(generateDataKeyRequest),
+                generateDataKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GenerateDataKey operation like
+     * {@link #generateDataKeyAsync(GenerateDataKeyRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param generateDataKeyRequest Container for the necessary parameters
+     *           to execute the GenerateDataKey operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         GenerateDataKey service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<GenerateDataKeyResult> generateDataKeyComposableAsync(final GenerateDataKeyRequest generateDataKeyRequest) {
+        return executeAsync(executorService, new Callable<GenerateDataKeyResult>() {
             public GenerateDataKeyResult call() throws Exception {
-              GenerateDataKeyResult result;
-                try {
-                result = generateDataKey(generateDataKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(generateDataKeyRequest, result);
-                 return result;
-        }
-    });
+                return generateDataKey(generateDataKeyRequest);
+            }
+        }, generateDataKeyRequest,
+                new GenerateDataKeyRequestMarshaller(), new GenerateDataKeyResultJsonUnmarshaller());
     }
     
     /**
@@ -817,11 +853,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<CreateGrantResult> createGrantAsync(final CreateGrantRequest createGrantRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGrantResult>() {
-            public CreateGrantResult call() throws Exception {
-                return createGrant(createGrantRequest);
-        }
-    });
+        return createGrantComposableAsync(createGrantRequest);
     }
 
     /**
@@ -864,19 +896,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final CreateGrantRequest createGrantRequest,
             final AsyncHandler<CreateGrantRequest, CreateGrantResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGrantResult>() {
+        return withAsyncHandler(createGrantComposableAsync(createGrantRequest),
+                createGrantRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateGrant operation like
+     * {@link #createGrantAsync(CreateGrantRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createGrantRequest Container for the necessary parameters to
+     *           execute the CreateGrant operation on AWSKMS.
+     *
+     * @return A composable future for the response from the CreateGrant
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<CreateGrantResult> createGrantComposableAsync(final CreateGrantRequest createGrantRequest) {
+        return executeAsync(executorService, new Callable<CreateGrantResult>() {
             public CreateGrantResult call() throws Exception {
-              CreateGrantResult result;
-                try {
-                result = createGrant(createGrantRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createGrantRequest, result);
-                 return result;
-        }
-    });
+                return createGrant(createGrantRequest);
+            }
+        }, createGrantRequest,
+                new CreateGrantRequestMarshaller(), new CreateGrantResultJsonUnmarshaller());
     }
     
     /**
@@ -901,11 +942,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<ListAliasesResult> listAliasesAsync(final ListAliasesRequest listAliasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAliasesResult>() {
-            public ListAliasesResult call() throws Exception {
-                return listAliases(listAliasesRequest);
-        }
-    });
+        return listAliasesComposableAsync(listAliasesRequest);
     }
 
     /**
@@ -936,19 +973,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final ListAliasesRequest listAliasesRequest,
             final AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAliasesResult>() {
+        return withAsyncHandler(listAliasesComposableAsync(listAliasesRequest),
+                listAliasesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAliases operation like
+     * {@link #listAliasesAsync(ListAliasesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listAliasesRequest Container for the necessary parameters to
+     *           execute the ListAliases operation on AWSKMS.
+     *
+     * @return A composable future for the response from the ListAliases
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<ListAliasesResult> listAliasesComposableAsync(final ListAliasesRequest listAliasesRequest) {
+        return executeAsync(executorService, new Callable<ListAliasesResult>() {
             public ListAliasesResult call() throws Exception {
-              ListAliasesResult result;
-                try {
-                result = listAliases(listAliasesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAliasesRequest, result);
-                 return result;
-        }
-    });
+                return listAliases(listAliasesRequest);
+            }
+        }, listAliasesRequest,
+                new ListAliasesRequestMarshaller(), new ListAliasesResultJsonUnmarshaller());
     }
     
     /**
@@ -975,11 +1021,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<GenerateDataKeyWithoutPlaintextResult> generateDataKeyWithoutPlaintextAsync(final GenerateDataKeyWithoutPlaintextRequest generateDataKeyWithoutPlaintextRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateDataKeyWithoutPlaintextResult>() {
-            public GenerateDataKeyWithoutPlaintextResult call() throws Exception {
-                return generateDataKeyWithoutPlaintext(generateDataKeyWithoutPlaintextRequest);
-        }
-    });
+        return generateDataKeyWithoutPlaintextComposableAsync(generateDataKeyWithoutPlaintextRequest);
     }
 
     /**
@@ -1012,19 +1054,32 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final GenerateDataKeyWithoutPlaintextRequest generateDataKeyWithoutPlaintextRequest,
             final AsyncHandler<GenerateDataKeyWithoutPlaintextRequest, GenerateDataKeyWithoutPlaintextResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateDataKeyWithoutPlaintextResult>() {
+        return withAsyncHandler(generateDataKeyWithoutPlaintextComposableAsync(generateDataKeyWithoutPlaintextRequest),
+                generateDataKeyWithoutPlaintextRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GenerateDataKeyWithoutPlaintext
+     * operation like
+     * {@link #generateDataKeyWithoutPlaintextAsync(GenerateDataKeyWithoutPlaintextRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param generateDataKeyWithoutPlaintextRequest Container for the
+     *           necessary parameters to execute the GenerateDataKeyWithoutPlaintext
+     *           operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         GenerateDataKeyWithoutPlaintext service method, as returned
+     *         by AWSKMS.
+     */
+    public ComposableFuture<GenerateDataKeyWithoutPlaintextResult> generateDataKeyWithoutPlaintextComposableAsync(final GenerateDataKeyWithoutPlaintextRequest generateDataKeyWithoutPlaintextRequest) {
+        return executeAsync(executorService, new Callable<GenerateDataKeyWithoutPlaintextResult>() {
             public GenerateDataKeyWithoutPlaintextResult call() throws Exception {
-              GenerateDataKeyWithoutPlaintextResult result;
-                try {
-                result = generateDataKeyWithoutPlaintext(generateDataKeyWithoutPlaintextRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(generateDataKeyWithoutPlaintextRequest, result);
-                 return result;
-        }
-    });
+                return generateDataKeyWithoutPlaintext(generateDataKeyWithoutPlaintextRequest);
+            }
+        }, generateDataKeyWithoutPlaintextRequest,
+                new GenerateDataKeyWithoutPlaintextRequestMarshaller(), new GenerateDataKeyWithoutPlaintextResultJsonUnmarshaller());
     }
     
     /**
@@ -1049,12 +1104,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> deleteAliasAsync(final DeleteAliasRequest deleteAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlias(deleteAliasRequest);
-                return null;
-        }
-    });
+        return deleteAliasComposableAsync(deleteAliasRequest);
     }
 
     /**
@@ -1085,18 +1135,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final DeleteAliasRequest deleteAliasRequest,
             final AsyncHandler<DeleteAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAliasComposableAsync(deleteAliasRequest),
+                deleteAliasRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAlias operation like
+     * {@link #deleteAliasAsync(DeleteAliasRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteAliasRequest Container for the necessary parameters to
+     *           execute the DeleteAlias operation on AWSKMS.
+     *
+     * @return A composable future for the response from the DeleteAlias
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> deleteAliasComposableAsync(final DeleteAliasRequest deleteAliasRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAlias(deleteAliasRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAliasRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAliasRequest,
+                new DeleteAliasRequestMarshaller(), null);
     }
     
     /**
@@ -1121,12 +1182,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> enableKeyRotationAsync(final EnableKeyRotationRequest enableKeyRotationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableKeyRotation(enableKeyRotationRequest);
-                return null;
-        }
-    });
+        return enableKeyRotationComposableAsync(enableKeyRotationRequest);
     }
 
     /**
@@ -1157,18 +1213,30 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final EnableKeyRotationRequest enableKeyRotationRequest,
             final AsyncHandler<EnableKeyRotationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableKeyRotationComposableAsync(enableKeyRotationRequest),
+                enableKeyRotationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableKeyRotation operation like
+     * {@link #enableKeyRotationAsync(EnableKeyRotationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param enableKeyRotationRequest Container for the necessary parameters
+     *           to execute the EnableKeyRotation operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         EnableKeyRotation service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> enableKeyRotationComposableAsync(final EnableKeyRotationRequest enableKeyRotationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableKeyRotation(enableKeyRotationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableKeyRotationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableKeyRotationRequest,
+                new EnableKeyRotationRequestMarshaller(), null);
     }
     
     /**
@@ -1195,12 +1263,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> retireGrantAsync(final RetireGrantRequest retireGrantRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                retireGrant(retireGrantRequest);
-                return null;
-        }
-    });
+        return retireGrantComposableAsync(retireGrantRequest);
     }
 
     /**
@@ -1233,18 +1296,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final RetireGrantRequest retireGrantRequest,
             final AsyncHandler<RetireGrantRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(retireGrantComposableAsync(retireGrantRequest),
+                retireGrantRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RetireGrant operation like
+     * {@link #retireGrantAsync(RetireGrantRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param retireGrantRequest Container for the necessary parameters to
+     *           execute the RetireGrant operation on AWSKMS.
+     *
+     * @return A composable future for the response from the RetireGrant
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> retireGrantComposableAsync(final RetireGrantRequest retireGrantRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 retireGrant(retireGrantRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(retireGrantRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, retireGrantRequest,
+                new RetireGrantRequestMarshaller(), null);
     }
     
     /**
@@ -1270,11 +1344,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<DescribeKeyResult> describeKeyAsync(final DescribeKeyRequest describeKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyResult>() {
-            public DescribeKeyResult call() throws Exception {
-                return describeKey(describeKeyRequest);
-        }
-    });
+        return describeKeyComposableAsync(describeKeyRequest);
     }
 
     /**
@@ -1306,19 +1376,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final DescribeKeyRequest describeKeyRequest,
             final AsyncHandler<DescribeKeyRequest, DescribeKeyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyResult>() {
+        return withAsyncHandler(describeKeyComposableAsync(describeKeyRequest),
+                describeKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeKey operation like
+     * {@link #describeKeyAsync(DescribeKeyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param describeKeyRequest Container for the necessary parameters to
+     *           execute the DescribeKey operation on AWSKMS.
+     *
+     * @return A composable future for the response from the DescribeKey
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<DescribeKeyResult> describeKeyComposableAsync(final DescribeKeyRequest describeKeyRequest) {
+        return executeAsync(executorService, new Callable<DescribeKeyResult>() {
             public DescribeKeyResult call() throws Exception {
-              DescribeKeyResult result;
-                try {
-                result = describeKey(describeKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyRequest, result);
-                 return result;
-        }
-    });
+                return describeKey(describeKeyRequest);
+            }
+        }, describeKeyRequest,
+                new DescribeKeyRequestMarshaller(), new DescribeKeyResultJsonUnmarshaller());
     }
     
     /**
@@ -1343,11 +1422,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<ListGrantsResult> listGrantsAsync(final ListGrantsRequest listGrantsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGrantsResult>() {
-            public ListGrantsResult call() throws Exception {
-                return listGrants(listGrantsRequest);
-        }
-    });
+        return listGrantsComposableAsync(listGrantsRequest);
     }
 
     /**
@@ -1378,19 +1453,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final ListGrantsRequest listGrantsRequest,
             final AsyncHandler<ListGrantsRequest, ListGrantsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGrantsResult>() {
+        return withAsyncHandler(listGrantsComposableAsync(listGrantsRequest),
+                listGrantsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGrants operation like
+     * {@link #listGrantsAsync(ListGrantsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listGrantsRequest Container for the necessary parameters to
+     *           execute the ListGrants operation on AWSKMS.
+     *
+     * @return A composable future for the response from the ListGrants
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<ListGrantsResult> listGrantsComposableAsync(final ListGrantsRequest listGrantsRequest) {
+        return executeAsync(executorService, new Callable<ListGrantsResult>() {
             public ListGrantsResult call() throws Exception {
-              ListGrantsResult result;
-                try {
-                result = listGrants(listGrantsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGrantsRequest, result);
-                 return result;
-        }
-    });
+                return listGrants(listGrantsRequest);
+            }
+        }, listGrantsRequest,
+                new ListGrantsRequestMarshaller(), new ListGrantsResultJsonUnmarshaller());
     }
     
     /**
@@ -1416,11 +1500,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<DecryptResult> decryptAsync(final DecryptRequest decryptRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecryptResult>() {
-            public DecryptResult call() throws Exception {
-                return decrypt(decryptRequest);
-        }
-    });
+        return decryptComposableAsync(decryptRequest);
     }
 
     /**
@@ -1452,19 +1532,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final DecryptRequest decryptRequest,
             final AsyncHandler<DecryptRequest, DecryptResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecryptResult>() {
+        return withAsyncHandler(decryptComposableAsync(decryptRequest),
+                decryptRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Decrypt operation like
+     * {@link #decryptAsync(DecryptRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param decryptRequest Container for the necessary parameters to
+     *           execute the Decrypt operation on AWSKMS.
+     *
+     * @return A composable future for the response from the Decrypt
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<DecryptResult> decryptComposableAsync(final DecryptRequest decryptRequest) {
+        return executeAsync(executorService, new Callable<DecryptResult>() {
             public DecryptResult call() throws Exception {
-              DecryptResult result;
-                try {
-                result = decrypt(decryptRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(decryptRequest, result);
-                 return result;
-        }
-    });
+                return decrypt(decryptRequest);
+            }
+        }, decryptRequest,
+                new DecryptRequestMarshaller(), new DecryptResultJsonUnmarshaller());
     }
     
     /**
@@ -1489,11 +1578,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<GenerateRandomResult> generateRandomAsync(final GenerateRandomRequest generateRandomRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateRandomResult>() {
-            public GenerateRandomResult call() throws Exception {
-                return generateRandom(generateRandomRequest);
-        }
-    });
+        return generateRandomComposableAsync(generateRandomRequest);
     }
 
     /**
@@ -1524,19 +1609,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final GenerateRandomRequest generateRandomRequest,
             final AsyncHandler<GenerateRandomRequest, GenerateRandomResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GenerateRandomResult>() {
+        return withAsyncHandler(generateRandomComposableAsync(generateRandomRequest),
+                generateRandomRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GenerateRandom operation like
+     * {@link #generateRandomAsync(GenerateRandomRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param generateRandomRequest Container for the necessary parameters to
+     *           execute the GenerateRandom operation on AWSKMS.
+     *
+     * @return A composable future for the response from the GenerateRandom
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<GenerateRandomResult> generateRandomComposableAsync(final GenerateRandomRequest generateRandomRequest) {
+        return executeAsync(executorService, new Callable<GenerateRandomResult>() {
             public GenerateRandomResult call() throws Exception {
-              GenerateRandomResult result;
-                try {
-                result = generateRandom(generateRandomRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(generateRandomRequest, result);
-                 return result;
-        }
-    });
+                return generateRandom(generateRandomRequest);
+            }
+        }, generateRandomRequest,
+                new GenerateRandomRequestMarshaller(), new GenerateRandomResultJsonUnmarshaller());
     }
     
     /**
@@ -1562,11 +1656,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<GetKeyRotationStatusResult> getKeyRotationStatusAsync(final GetKeyRotationStatusRequest getKeyRotationStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetKeyRotationStatusResult>() {
-            public GetKeyRotationStatusResult call() throws Exception {
-                return getKeyRotationStatus(getKeyRotationStatusRequest);
-        }
-    });
+        return getKeyRotationStatusComposableAsync(getKeyRotationStatusRequest);
     }
 
     /**
@@ -1598,19 +1688,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final GetKeyRotationStatusRequest getKeyRotationStatusRequest,
             final AsyncHandler<GetKeyRotationStatusRequest, GetKeyRotationStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetKeyRotationStatusResult>() {
+        return withAsyncHandler(getKeyRotationStatusComposableAsync(getKeyRotationStatusRequest),
+                getKeyRotationStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetKeyRotationStatus operation like
+     * {@link #getKeyRotationStatusAsync(GetKeyRotationStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getKeyRotationStatusRequest Container for the necessary
+     *           parameters to execute the GetKeyRotationStatus operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         GetKeyRotationStatus service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<GetKeyRotationStatusResult> getKeyRotationStatusComposableAsync(final GetKeyRotationStatusRequest getKeyRotationStatusRequest) {
+        return executeAsync(executorService, new Callable<GetKeyRotationStatusResult>() {
             public GetKeyRotationStatusResult call() throws Exception {
-              GetKeyRotationStatusResult result;
-                try {
-                result = getKeyRotationStatus(getKeyRotationStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getKeyRotationStatusRequest, result);
-                 return result;
-        }
-    });
+                return getKeyRotationStatus(getKeyRotationStatusRequest);
+            }
+        }, getKeyRotationStatusRequest,
+                new GetKeyRotationStatusRequestMarshaller(), new GetKeyRotationStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -1635,12 +1735,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> disableKeyRotationAsync(final DisableKeyRotationRequest disableKeyRotationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableKeyRotation(disableKeyRotationRequest);
-                return null;
-        }
-    });
+        return disableKeyRotationComposableAsync(disableKeyRotationRequest);
     }
 
     /**
@@ -1671,18 +1766,30 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final DisableKeyRotationRequest disableKeyRotationRequest,
             final AsyncHandler<DisableKeyRotationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disableKeyRotationComposableAsync(disableKeyRotationRequest),
+                disableKeyRotationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableKeyRotation operation like
+     * {@link #disableKeyRotationAsync(DisableKeyRotationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableKeyRotationRequest Container for the necessary
+     *           parameters to execute the DisableKeyRotation operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         DisableKeyRotation service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> disableKeyRotationComposableAsync(final DisableKeyRotationRequest disableKeyRotationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disableKeyRotation(disableKeyRotationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableKeyRotationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disableKeyRotationRequest,
+                new DisableKeyRotationRequestMarshaller(), null);
     }
     
     /**
@@ -1707,11 +1814,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<ListKeyPoliciesResult> listKeyPoliciesAsync(final ListKeyPoliciesRequest listKeyPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPoliciesResult>() {
-            public ListKeyPoliciesResult call() throws Exception {
-                return listKeyPolicies(listKeyPoliciesRequest);
-        }
-    });
+        return listKeyPoliciesComposableAsync(listKeyPoliciesRequest);
     }
 
     /**
@@ -1742,19 +1845,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final ListKeyPoliciesRequest listKeyPoliciesRequest,
             final AsyncHandler<ListKeyPoliciesRequest, ListKeyPoliciesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPoliciesResult>() {
+        return withAsyncHandler(listKeyPoliciesComposableAsync(listKeyPoliciesRequest),
+                listKeyPoliciesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListKeyPolicies operation like
+     * {@link #listKeyPoliciesAsync(ListKeyPoliciesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listKeyPoliciesRequest Container for the necessary parameters
+     *           to execute the ListKeyPolicies operation on AWSKMS.
+     *
+     * @return A composable future for the response from the
+     *         ListKeyPolicies service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<ListKeyPoliciesResult> listKeyPoliciesComposableAsync(final ListKeyPoliciesRequest listKeyPoliciesRequest) {
+        return executeAsync(executorService, new Callable<ListKeyPoliciesResult>() {
             public ListKeyPoliciesResult call() throws Exception {
-              ListKeyPoliciesResult result;
-                try {
-                result = listKeyPolicies(listKeyPoliciesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listKeyPoliciesRequest, result);
-                 return result;
-        }
-    });
+                return listKeyPolicies(listKeyPoliciesRequest);
+            }
+        }, listKeyPoliciesRequest,
+                new ListKeyPoliciesRequestMarshaller(), new ListKeyPoliciesResultJsonUnmarshaller());
     }
     
     /**
@@ -1786,12 +1898,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> createAliasAsync(final CreateAliasRequest createAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAlias(createAliasRequest);
-                return null;
-        }
-    });
+        return createAliasComposableAsync(createAliasRequest);
     }
 
     /**
@@ -1829,18 +1936,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final CreateAliasRequest createAliasRequest,
             final AsyncHandler<CreateAliasRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createAliasComposableAsync(createAliasRequest),
+                createAliasRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAlias operation like
+     * {@link #createAliasAsync(CreateAliasRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createAliasRequest Container for the necessary parameters to
+     *           execute the CreateAlias operation on AWSKMS.
+     *
+     * @return A composable future for the response from the CreateAlias
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> createAliasComposableAsync(final CreateAliasRequest createAliasRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createAlias(createAliasRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAliasRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createAliasRequest,
+                new CreateAliasRequestMarshaller(), null);
     }
     
     /**
@@ -1865,12 +1983,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> putKeyPolicyAsync(final PutKeyPolicyRequest putKeyPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putKeyPolicy(putKeyPolicyRequest);
-                return null;
-        }
-    });
+        return putKeyPolicyComposableAsync(putKeyPolicyRequest);
     }
 
     /**
@@ -1901,18 +2014,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final PutKeyPolicyRequest putKeyPolicyRequest,
             final AsyncHandler<PutKeyPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putKeyPolicyComposableAsync(putKeyPolicyRequest),
+                putKeyPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutKeyPolicy operation like
+     * {@link #putKeyPolicyAsync(PutKeyPolicyRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param putKeyPolicyRequest Container for the necessary parameters to
+     *           execute the PutKeyPolicy operation on AWSKMS.
+     *
+     * @return A composable future for the response from the PutKeyPolicy
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> putKeyPolicyComposableAsync(final PutKeyPolicyRequest putKeyPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putKeyPolicy(putKeyPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putKeyPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putKeyPolicyRequest,
+                new PutKeyPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -1940,11 +2064,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<ReEncryptResult> reEncryptAsync(final ReEncryptRequest reEncryptRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReEncryptResult>() {
-            public ReEncryptResult call() throws Exception {
-                return reEncrypt(reEncryptRequest);
-        }
-    });
+        return reEncryptComposableAsync(reEncryptRequest);
     }
 
     /**
@@ -1978,19 +2098,28 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final ReEncryptRequest reEncryptRequest,
             final AsyncHandler<ReEncryptRequest, ReEncryptResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReEncryptResult>() {
+        return withAsyncHandler(reEncryptComposableAsync(reEncryptRequest),
+                reEncryptRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReEncrypt operation like
+     * {@link #reEncryptAsync(ReEncryptRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param reEncryptRequest Container for the necessary parameters to
+     *           execute the ReEncrypt operation on AWSKMS.
+     *
+     * @return A composable future for the response from the ReEncrypt
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<ReEncryptResult> reEncryptComposableAsync(final ReEncryptRequest reEncryptRequest) {
+        return executeAsync(executorService, new Callable<ReEncryptResult>() {
             public ReEncryptResult call() throws Exception {
-              ReEncryptResult result;
-                try {
-                result = reEncrypt(reEncryptRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reEncryptRequest, result);
-                 return result;
-        }
-    });
+                return reEncrypt(reEncryptRequest);
+            }
+        }, reEncryptRequest,
+                new ReEncryptRequestMarshaller(), new ReEncryptResultJsonUnmarshaller());
     }
     
     /**
@@ -2016,12 +2145,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> revokeGrantAsync(final RevokeGrantRequest revokeGrantRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeGrant(revokeGrantRequest);
-                return null;
-        }
-    });
+        return revokeGrantComposableAsync(revokeGrantRequest);
     }
 
     /**
@@ -2053,18 +2177,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final RevokeGrantRequest revokeGrantRequest,
             final AsyncHandler<RevokeGrantRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(revokeGrantComposableAsync(revokeGrantRequest),
+                revokeGrantRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeGrant operation like
+     * {@link #revokeGrantAsync(RevokeGrantRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param revokeGrantRequest Container for the necessary parameters to
+     *           execute the RevokeGrant operation on AWSKMS.
+     *
+     * @return A composable future for the response from the RevokeGrant
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> revokeGrantComposableAsync(final RevokeGrantRequest revokeGrantRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 revokeGrant(revokeGrantRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeGrantRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, revokeGrantRequest,
+                new RevokeGrantRequestMarshaller(), null);
     }
     
     /**
@@ -2090,12 +2225,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> enableKeyAsync(final EnableKeyRequest enableKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableKey(enableKeyRequest);
-                return null;
-        }
-    });
+        return enableKeyComposableAsync(enableKeyRequest);
     }
 
     /**
@@ -2127,18 +2257,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final EnableKeyRequest enableKeyRequest,
             final AsyncHandler<EnableKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(enableKeyComposableAsync(enableKeyRequest),
+                enableKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableKey operation like
+     * {@link #enableKeyAsync(EnableKeyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param enableKeyRequest Container for the necessary parameters to
+     *           execute the EnableKey operation on AWSKMS.
+     *
+     * @return A composable future for the response from the EnableKey
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> enableKeyComposableAsync(final EnableKeyRequest enableKeyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 enableKey(enableKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableKeyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, enableKeyRequest,
+                new EnableKeyRequestMarshaller(), null);
     }
     
     /**
@@ -2163,12 +2304,7 @@ public class AWSKMSAsyncClient extends AWSKMSClient
      */
     public Future<Void> disableKeyAsync(final DisableKeyRequest disableKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableKey(disableKeyRequest);
-                return null;
-        }
-    });
+        return disableKeyComposableAsync(disableKeyRequest);
     }
 
     /**
@@ -2199,18 +2335,29 @@ public class AWSKMSAsyncClient extends AWSKMSClient
             final DisableKeyRequest disableKeyRequest,
             final AsyncHandler<DisableKeyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disableKeyComposableAsync(disableKeyRequest),
+                disableKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableKey operation like
+     * {@link #disableKeyAsync(DisableKeyRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param disableKeyRequest Container for the necessary parameters to
+     *           execute the DisableKey operation on AWSKMS.
+     *
+     * @return A composable future for the response from the DisableKey
+     *         service method, as returned by AWSKMS.
+     */
+    public ComposableFuture<Void> disableKeyComposableAsync(final DisableKeyRequest disableKeyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disableKey(disableKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableKeyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disableKeyRequest,
+                new DisableKeyRequestMarshaller(), null);
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.lambda.model.*;
+import com.amazonaws.services.lambda.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSLambda.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Lambda <p>
  * <b>Overview</b>
  * </p>
@@ -303,11 +307,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<GetEventSourceResult> getEventSourceAsync(final GetEventSourceRequest getEventSourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEventSourceResult>() {
-            public GetEventSourceResult call() throws Exception {
-                return getEventSource(getEventSourceRequest);
-        }
-    });
+        return getEventSourceComposableAsync(getEventSourceRequest);
     }
 
     /**
@@ -343,19 +343,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final GetEventSourceRequest getEventSourceRequest,
             final AsyncHandler<GetEventSourceRequest, GetEventSourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEventSourceResult>() {
+        return withAsyncHandler(getEventSourceComposableAsync(getEventSourceRequest),
+                getEventSourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetEventSource operation like
+     * {@link #getEventSourceAsync(GetEventSourceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getEventSourceRequest Container for the necessary parameters to
+     *           execute the GetEventSource operation on AWSLambda.
+     *
+     * @return A composable future for the response from the GetEventSource
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<GetEventSourceResult> getEventSourceComposableAsync(final GetEventSourceRequest getEventSourceRequest) {
+        return executeAsync(executorService, new Callable<GetEventSourceResult>() {
             public GetEventSourceResult call() throws Exception {
-              GetEventSourceResult result;
-                try {
-                result = getEventSource(getEventSourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getEventSourceRequest, result);
-                 return result;
-        }
-    });
+                return getEventSource(getEventSourceRequest);
+            }
+        }, getEventSourceRequest,
+                new GetEventSourceRequestMarshaller(), new GetEventSourceResultJsonUnmarshaller());
     }
     
     /**
@@ -384,12 +393,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<Void> deleteFunctionAsync(final DeleteFunctionRequest deleteFunctionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteFunction(deleteFunctionRequest);
-                return null;
-        }
-    });
+        return deleteFunctionComposableAsync(deleteFunctionRequest);
     }
 
     /**
@@ -424,18 +428,29 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final DeleteFunctionRequest deleteFunctionRequest,
             final AsyncHandler<DeleteFunctionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteFunctionComposableAsync(deleteFunctionRequest),
+                deleteFunctionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteFunction operation like
+     * {@link #deleteFunctionAsync(DeleteFunctionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteFunctionRequest Container for the necessary parameters to
+     *           execute the DeleteFunction operation on AWSLambda.
+     *
+     * @return A composable future for the response from the DeleteFunction
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<Void> deleteFunctionComposableAsync(final DeleteFunctionRequest deleteFunctionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteFunction(deleteFunctionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteFunctionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteFunctionRequest,
+                new DeleteFunctionRequestMarshaller(), null);
     }
     
     /**
@@ -466,11 +481,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<ListFunctionsResult> listFunctionsAsync(final ListFunctionsRequest listFunctionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListFunctionsResult>() {
-            public ListFunctionsResult call() throws Exception {
-                return listFunctions(listFunctionsRequest);
-        }
-    });
+        return listFunctionsComposableAsync(listFunctionsRequest);
     }
 
     /**
@@ -507,19 +518,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final ListFunctionsRequest listFunctionsRequest,
             final AsyncHandler<ListFunctionsRequest, ListFunctionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListFunctionsResult>() {
+        return withAsyncHandler(listFunctionsComposableAsync(listFunctionsRequest),
+                listFunctionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListFunctions operation like
+     * {@link #listFunctionsAsync(ListFunctionsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listFunctionsRequest Container for the necessary parameters to
+     *           execute the ListFunctions operation on AWSLambda.
+     *
+     * @return A composable future for the response from the ListFunctions
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<ListFunctionsResult> listFunctionsComposableAsync(final ListFunctionsRequest listFunctionsRequest) {
+        return executeAsync(executorService, new Callable<ListFunctionsResult>() {
             public ListFunctionsResult call() throws Exception {
-              ListFunctionsResult result;
-                try {
-                result = listFunctions(listFunctionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listFunctionsRequest, result);
-                 return result;
-        }
-    });
+                return listFunctions(listFunctionsRequest);
+            }
+        }, listFunctionsRequest,
+                new ListFunctionsRequestMarshaller(), new ListFunctionsResultJsonUnmarshaller());
     }
     
     /**
@@ -572,11 +592,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<AddEventSourceResult> addEventSourceAsync(final AddEventSourceRequest addEventSourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddEventSourceResult>() {
-            public AddEventSourceResult call() throws Exception {
-                return addEventSource(addEventSourceRequest);
-        }
-    });
+        return addEventSourceComposableAsync(addEventSourceRequest);
     }
 
     /**
@@ -635,19 +651,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final AddEventSourceRequest addEventSourceRequest,
             final AsyncHandler<AddEventSourceRequest, AddEventSourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddEventSourceResult>() {
+        return withAsyncHandler(addEventSourceComposableAsync(addEventSourceRequest),
+                addEventSourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddEventSource operation like
+     * {@link #addEventSourceAsync(AddEventSourceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addEventSourceRequest Container for the necessary parameters to
+     *           execute the AddEventSource operation on AWSLambda.
+     *
+     * @return A composable future for the response from the AddEventSource
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<AddEventSourceResult> addEventSourceComposableAsync(final AddEventSourceRequest addEventSourceRequest) {
+        return executeAsync(executorService, new Callable<AddEventSourceResult>() {
             public AddEventSourceResult call() throws Exception {
-              AddEventSourceResult result;
-                try {
-                result = addEventSource(addEventSourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addEventSourceRequest, result);
-                 return result;
-        }
-    });
+                return addEventSource(addEventSourceRequest);
+            }
+        }, addEventSourceRequest,
+                new AddEventSourceRequestMarshaller(), new AddEventSourceResultJsonUnmarshaller());
     }
     
     /**
@@ -680,11 +705,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<UploadFunctionResult> uploadFunctionAsync(final UploadFunctionRequest uploadFunctionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadFunctionResult>() {
-            public UploadFunctionResult call() throws Exception {
-                return uploadFunction(uploadFunctionRequest);
-        }
-    });
+        return uploadFunctionComposableAsync(uploadFunctionRequest);
     }
 
     /**
@@ -723,19 +744,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final UploadFunctionRequest uploadFunctionRequest,
             final AsyncHandler<UploadFunctionRequest, UploadFunctionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadFunctionResult>() {
+        return withAsyncHandler(uploadFunctionComposableAsync(uploadFunctionRequest),
+                uploadFunctionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UploadFunction operation like
+     * {@link #uploadFunctionAsync(UploadFunctionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param uploadFunctionRequest Container for the necessary parameters to
+     *           execute the UploadFunction operation on AWSLambda.
+     *
+     * @return A composable future for the response from the UploadFunction
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<UploadFunctionResult> uploadFunctionComposableAsync(final UploadFunctionRequest uploadFunctionRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<UploadFunctionResult>() {
             public UploadFunctionResult call() throws Exception {
-              UploadFunctionResult result;
-                try {
-                result = uploadFunction(uploadFunctionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(uploadFunctionRequest, result);
-                 return result;
-        }
-    });
+                return uploadFunction(uploadFunctionRequest);
+            }
+        });
     }
     
     /**
@@ -767,11 +797,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<GetFunctionConfigurationResult> getFunctionConfigurationAsync(final GetFunctionConfigurationRequest getFunctionConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFunctionConfigurationResult>() {
-            public GetFunctionConfigurationResult call() throws Exception {
-                return getFunctionConfiguration(getFunctionConfigurationRequest);
-        }
-    });
+        return getFunctionConfigurationComposableAsync(getFunctionConfigurationRequest);
     }
 
     /**
@@ -809,19 +835,31 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final GetFunctionConfigurationRequest getFunctionConfigurationRequest,
             final AsyncHandler<GetFunctionConfigurationRequest, GetFunctionConfigurationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFunctionConfigurationResult>() {
+        return withAsyncHandler(getFunctionConfigurationComposableAsync(getFunctionConfigurationRequest),
+                getFunctionConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetFunctionConfiguration operation like
+     * {@link #getFunctionConfigurationAsync(GetFunctionConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getFunctionConfigurationRequest Container for the necessary
+     *           parameters to execute the GetFunctionConfiguration operation on
+     *           AWSLambda.
+     *
+     * @return A composable future for the response from the
+     *         GetFunctionConfiguration service method, as returned by
+     *         AWSLambda.
+     */
+    public ComposableFuture<GetFunctionConfigurationResult> getFunctionConfigurationComposableAsync(final GetFunctionConfigurationRequest getFunctionConfigurationRequest) {
+        return executeAsync(executorService, new Callable<GetFunctionConfigurationResult>() {
             public GetFunctionConfigurationResult call() throws Exception {
-              GetFunctionConfigurationResult result;
-                try {
-                result = getFunctionConfiguration(getFunctionConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getFunctionConfigurationRequest, result);
-                 return result;
-        }
-    });
+                return getFunctionConfiguration(getFunctionConfigurationRequest);
+            }
+        }, getFunctionConfigurationRequest,
+                new GetFunctionConfigurationRequestMarshaller(), new GetFunctionConfigurationResultJsonUnmarshaller());
     }
     
     /**
@@ -853,11 +891,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<InvokeAsyncResult> invokeAsyncAsync(final InvokeAsyncRequest invokeAsyncRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InvokeAsyncResult>() {
-            public InvokeAsyncResult call() throws Exception {
-                return invokeAsync(invokeAsyncRequest);
-        }
-    });
+        return invokeAsyncComposableAsync(invokeAsyncRequest);
     }
 
     /**
@@ -895,19 +929,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final InvokeAsyncRequest invokeAsyncRequest,
             final AsyncHandler<InvokeAsyncRequest, InvokeAsyncResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<InvokeAsyncResult>() {
+        return withAsyncHandler(invokeAsyncComposableAsync(invokeAsyncRequest),
+                invokeAsyncRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the InvokeAsync operation like
+     * {@link #invokeAsyncAsync(InvokeAsyncRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param invokeAsyncRequest Container for the necessary parameters to
+     *           execute the InvokeAsync operation on AWSLambda.
+     *
+     * @return A composable future for the response from the InvokeAsync
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<InvokeAsyncResult> invokeAsyncComposableAsync(final InvokeAsyncRequest invokeAsyncRequest) {
+        // Always goes through the blocking client, as the operation streams its content
+        return ComposableFuture.submit(executorService, new Callable<InvokeAsyncResult>() {
             public InvokeAsyncResult call() throws Exception {
-              InvokeAsyncResult result;
-                try {
-                result = invokeAsync(invokeAsyncRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(invokeAsyncRequest, result);
-                 return result;
-        }
-    });
+                return invokeAsync(invokeAsyncRequest);
+            }
+        });
     }
     
     /**
@@ -943,11 +986,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<ListEventSourcesResult> listEventSourcesAsync(final ListEventSourcesRequest listEventSourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventSourcesResult>() {
-            public ListEventSourcesResult call() throws Exception {
-                return listEventSources(listEventSourcesRequest);
-        }
-    });
+        return listEventSourcesComposableAsync(listEventSourcesRequest);
     }
 
     /**
@@ -989,19 +1028,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final ListEventSourcesRequest listEventSourcesRequest,
             final AsyncHandler<ListEventSourcesRequest, ListEventSourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEventSourcesResult>() {
+        return withAsyncHandler(listEventSourcesComposableAsync(listEventSourcesRequest),
+                listEventSourcesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListEventSources operation like
+     * {@link #listEventSourcesAsync(ListEventSourcesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listEventSourcesRequest Container for the necessary parameters
+     *           to execute the ListEventSources operation on AWSLambda.
+     *
+     * @return A composable future for the response from the
+     *         ListEventSources service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<ListEventSourcesResult> listEventSourcesComposableAsync(final ListEventSourcesRequest listEventSourcesRequest) {
+        return executeAsync(executorService, new Callable<ListEventSourcesResult>() {
             public ListEventSourcesResult call() throws Exception {
-              ListEventSourcesResult result;
-                try {
-                result = listEventSources(listEventSourcesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listEventSourcesRequest, result);
-                 return result;
-        }
-    });
+                return listEventSources(listEventSourcesRequest);
+            }
+        }, listEventSourcesRequest,
+                new ListEventSourcesRequestMarshaller(), new ListEventSourcesResultJsonUnmarshaller());
     }
     
     /**
@@ -1034,11 +1082,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<GetFunctionResult> getFunctionAsync(final GetFunctionRequest getFunctionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFunctionResult>() {
-            public GetFunctionResult call() throws Exception {
-                return getFunction(getFunctionRequest);
-        }
-    });
+        return getFunctionComposableAsync(getFunctionRequest);
     }
 
     /**
@@ -1077,19 +1121,28 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final GetFunctionRequest getFunctionRequest,
             final AsyncHandler<GetFunctionRequest, GetFunctionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFunctionResult>() {
+        return withAsyncHandler(getFunctionComposableAsync(getFunctionRequest),
+                getFunctionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetFunction operation like
+     * {@link #getFunctionAsync(GetFunctionRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getFunctionRequest Container for the necessary parameters to
+     *           execute the GetFunction operation on AWSLambda.
+     *
+     * @return A composable future for the response from the GetFunction
+     *         service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<GetFunctionResult> getFunctionComposableAsync(final GetFunctionRequest getFunctionRequest) {
+        return executeAsync(executorService, new Callable<GetFunctionResult>() {
             public GetFunctionResult call() throws Exception {
-              GetFunctionResult result;
-                try {
-                result = getFunction(getFunctionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getFunctionRequest, result);
-                 return result;
-        }
-    });
+                return getFunction(getFunctionRequest);
+            }
+        }, getFunctionRequest,
+                new GetFunctionRequestMarshaller(), new GetFunctionResultJsonUnmarshaller());
     }
     
     /**
@@ -1123,11 +1176,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<UpdateFunctionConfigurationResult> updateFunctionConfigurationAsync(final UpdateFunctionConfigurationRequest updateFunctionConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateFunctionConfigurationResult>() {
-            public UpdateFunctionConfigurationResult call() throws Exception {
-                return updateFunctionConfiguration(updateFunctionConfigurationRequest);
-        }
-    });
+        return updateFunctionConfigurationComposableAsync(updateFunctionConfigurationRequest);
     }
 
     /**
@@ -1167,19 +1216,32 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final UpdateFunctionConfigurationRequest updateFunctionConfigurationRequest,
             final AsyncHandler<UpdateFunctionConfigurationRequest, UpdateFunctionConfigurationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateFunctionConfigurationResult>() {
+        return withAsyncHandler(updateFunctionConfigurationComposableAsync(updateFunctionConfigurationRequest),
+                updateFunctionConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateFunctionConfiguration operation
+     * like
+     * {@link #updateFunctionConfigurationAsync(UpdateFunctionConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateFunctionConfigurationRequest Container for the necessary
+     *           parameters to execute the UpdateFunctionConfiguration operation on
+     *           AWSLambda.
+     *
+     * @return A composable future for the response from the
+     *         UpdateFunctionConfiguration service method, as returned by
+     *         AWSLambda.
+     */
+    public ComposableFuture<UpdateFunctionConfigurationResult> updateFunctionConfigurationComposableAsync(final UpdateFunctionConfigurationRequest updateFunctionConfigurationRequest) {
+        return executeAsync(executorService, new Callable<UpdateFunctionConfigurationResult>() {
             public UpdateFunctionConfigurationResult call() throws Exception {
-              UpdateFunctionConfigurationResult result;
-                try {
-                result = updateFunctionConfiguration(updateFunctionConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateFunctionConfigurationRequest, result);
-                 return result;
-        }
-    });
+                return updateFunctionConfiguration(updateFunctionConfigurationRequest);
+            }
+        }, updateFunctionConfigurationRequest,
+                new UpdateFunctionConfigurationRequestMarshaller(), new UpdateFunctionConfigurationResultJsonUnmarshaller());
     }
     
     /**
@@ -1209,12 +1271,7 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
      */
     public Future<Void> removeEventSourceAsync(final RemoveEventSourceRequest removeEventSourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeEventSource(removeEventSourceRequest);
-                return null;
-        }
-    });
+        return removeEventSourceComposableAsync(removeEventSourceRequest);
     }
 
     /**
@@ -1250,18 +1307,30 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient
             final RemoveEventSourceRequest removeEventSourceRequest,
             final AsyncHandler<RemoveEventSourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeEventSourceComposableAsync(removeEventSourceRequest),
+                removeEventSourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveEventSource operation like
+     * {@link #removeEventSourceAsync(RemoveEventSourceRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param removeEventSourceRequest Container for the necessary parameters
+     *           to execute the RemoveEventSource operation on AWSLambda.
+     *
+     * @return A composable future for the response from the
+     *         RemoveEventSource service method, as returned by AWSLambda.
+     */
+    public ComposableFuture<Void> removeEventSourceComposableAsync(final RemoveEventSourceRequest removeEventSourceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeEventSource(removeEventSourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeEventSourceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeEventSourceRequest,
+                new RemoveEventSourceRequestMarshaller(), null);
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.logs.model.*;
+import com.amazonaws.services.logs.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSLogs.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon CloudWatch Logs Service API Reference <p>
  * This is the <i>Amazon CloudWatch Logs API Reference</i> . Amazon
  * CloudWatch Logs is a managed service for real time monitoring and
@@ -368,12 +372,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> putRetentionPolicyAsync(final PutRetentionPolicyRequest putRetentionPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putRetentionPolicy(putRetentionPolicyRequest);
-                return null;
-        }
-    });
+        return putRetentionPolicyComposableAsync(putRetentionPolicyRequest);
     }
 
     /**
@@ -406,18 +405,30 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final PutRetentionPolicyRequest putRetentionPolicyRequest,
             final AsyncHandler<PutRetentionPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putRetentionPolicyComposableAsync(putRetentionPolicyRequest),
+                putRetentionPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutRetentionPolicy operation like
+     * {@link #putRetentionPolicyAsync(PutRetentionPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param putRetentionPolicyRequest Container for the necessary
+     *           parameters to execute the PutRetentionPolicy operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         PutRetentionPolicy service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> putRetentionPolicyComposableAsync(final PutRetentionPolicyRequest putRetentionPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putRetentionPolicy(putRetentionPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putRetentionPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putRetentionPolicyRequest,
+                new PutRetentionPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -451,11 +462,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<DescribeMetricFiltersResult> describeMetricFiltersAsync(final DescribeMetricFiltersRequest describeMetricFiltersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricFiltersResult>() {
-            public DescribeMetricFiltersResult call() throws Exception {
-                return describeMetricFilters(describeMetricFiltersRequest);
-        }
-    });
+        return describeMetricFiltersComposableAsync(describeMetricFiltersRequest);
     }
 
     /**
@@ -495,19 +502,30 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DescribeMetricFiltersRequest describeMetricFiltersRequest,
             final AsyncHandler<DescribeMetricFiltersRequest, DescribeMetricFiltersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricFiltersResult>() {
+        return withAsyncHandler(describeMetricFiltersComposableAsync(describeMetricFiltersRequest),
+                describeMetricFiltersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeMetricFilters operation like
+     * {@link #describeMetricFiltersAsync(DescribeMetricFiltersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeMetricFiltersRequest Container for the necessary
+     *           parameters to execute the DescribeMetricFilters operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DescribeMetricFilters service method, as returned by
+     *         AWSLogs.
+     */
+    public ComposableFuture<DescribeMetricFiltersResult> describeMetricFiltersComposableAsync(final DescribeMetricFiltersRequest describeMetricFiltersRequest) {
+        return executeAsync(executorService, new Callable<DescribeMetricFiltersResult>() {
             public DescribeMetricFiltersResult call() throws Exception {
-              DescribeMetricFiltersResult result;
-                try {
-                result = describeMetricFilters(describeMetricFiltersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMetricFiltersRequest, result);
-                 return result;
-        }
-    });
+                return describeMetricFilters(describeMetricFiltersRequest);
+            }
+        }, describeMetricFiltersRequest,
+                new DescribeMetricFiltersRequestMarshaller(), new DescribeMetricFiltersResultJsonUnmarshaller());
     }
     
     /**
@@ -541,11 +559,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<DescribeLogStreamsResult> describeLogStreamsAsync(final DescribeLogStreamsRequest describeLogStreamsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLogStreamsResult>() {
-            public DescribeLogStreamsResult call() throws Exception {
-                return describeLogStreams(describeLogStreamsRequest);
-        }
-    });
+        return describeLogStreamsComposableAsync(describeLogStreamsRequest);
     }
 
     /**
@@ -585,19 +599,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DescribeLogStreamsRequest describeLogStreamsRequest,
             final AsyncHandler<DescribeLogStreamsRequest, DescribeLogStreamsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLogStreamsResult>() {
+        return withAsyncHandler(describeLogStreamsComposableAsync(describeLogStreamsRequest),
+                describeLogStreamsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLogStreams operation like
+     * {@link #describeLogStreamsAsync(DescribeLogStreamsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLogStreamsRequest Container for the necessary
+     *           parameters to execute the DescribeLogStreams operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLogStreams service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<DescribeLogStreamsResult> describeLogStreamsComposableAsync(final DescribeLogStreamsRequest describeLogStreamsRequest) {
+        return executeAsync(executorService, new Callable<DescribeLogStreamsResult>() {
             public DescribeLogStreamsResult call() throws Exception {
-              DescribeLogStreamsResult result;
-                try {
-                result = describeLogStreams(describeLogStreamsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLogStreamsRequest, result);
-                 return result;
-        }
-    });
+                return describeLogStreams(describeLogStreamsRequest);
+            }
+        }, describeLogStreamsRequest,
+                new DescribeLogStreamsRequestMarshaller(), new DescribeLogStreamsResultJsonUnmarshaller());
     }
     
     /**
@@ -623,12 +647,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> deleteLogGroupAsync(final DeleteLogGroupRequest deleteLogGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLogGroup(deleteLogGroupRequest);
-                return null;
-        }
-    });
+        return deleteLogGroupComposableAsync(deleteLogGroupRequest);
     }
 
     /**
@@ -660,18 +679,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DeleteLogGroupRequest deleteLogGroupRequest,
             final AsyncHandler<DeleteLogGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLogGroupComposableAsync(deleteLogGroupRequest),
+                deleteLogGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLogGroup operation like
+     * {@link #deleteLogGroupAsync(DeleteLogGroupRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteLogGroupRequest Container for the necessary parameters to
+     *           execute the DeleteLogGroup operation on AWSLogs.
+     *
+     * @return A composable future for the response from the DeleteLogGroup
+     *         service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> deleteLogGroupComposableAsync(final DeleteLogGroupRequest deleteLogGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLogGroup(deleteLogGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLogGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLogGroupRequest,
+                new DeleteLogGroupRequestMarshaller(), null);
     }
     
     /**
@@ -708,12 +738,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> createLogGroupAsync(final CreateLogGroupRequest createLogGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLogGroup(createLogGroupRequest);
-                return null;
-        }
-    });
+        return createLogGroupComposableAsync(createLogGroupRequest);
     }
 
     /**
@@ -756,18 +781,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final CreateLogGroupRequest createLogGroupRequest,
             final AsyncHandler<CreateLogGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createLogGroupComposableAsync(createLogGroupRequest),
+                createLogGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLogGroup operation like
+     * {@link #createLogGroupAsync(CreateLogGroupRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createLogGroupRequest Container for the necessary parameters to
+     *           execute the CreateLogGroup operation on AWSLogs.
+     *
+     * @return A composable future for the response from the CreateLogGroup
+     *         service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> createLogGroupComposableAsync(final CreateLogGroupRequest createLogGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createLogGroup(createLogGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLogGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createLogGroupRequest,
+                new CreateLogGroupRequestMarshaller(), null);
     }
     
     /**
@@ -795,12 +831,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> putMetricFilterAsync(final PutMetricFilterRequest putMetricFilterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricFilter(putMetricFilterRequest);
-                return null;
-        }
-    });
+        return putMetricFilterComposableAsync(putMetricFilterRequest);
     }
 
     /**
@@ -834,18 +865,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final PutMetricFilterRequest putMetricFilterRequest,
             final AsyncHandler<PutMetricFilterRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putMetricFilterComposableAsync(putMetricFilterRequest),
+                putMetricFilterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutMetricFilter operation like
+     * {@link #putMetricFilterAsync(PutMetricFilterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putMetricFilterRequest Container for the necessary parameters
+     *           to execute the PutMetricFilter operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         PutMetricFilter service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> putMetricFilterComposableAsync(final PutMetricFilterRequest putMetricFilterRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putMetricFilter(putMetricFilterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putMetricFilterRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putMetricFilterRequest,
+                new PutMetricFilterRequestMarshaller(), null);
     }
     
     /**
@@ -870,12 +912,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> deleteMetricFilterAsync(final DeleteMetricFilterRequest deleteMetricFilterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMetricFilter(deleteMetricFilterRequest);
-                return null;
-        }
-    });
+        return deleteMetricFilterComposableAsync(deleteMetricFilterRequest);
     }
 
     /**
@@ -906,18 +943,30 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DeleteMetricFilterRequest deleteMetricFilterRequest,
             final AsyncHandler<DeleteMetricFilterRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteMetricFilterComposableAsync(deleteMetricFilterRequest),
+                deleteMetricFilterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteMetricFilter operation like
+     * {@link #deleteMetricFilterAsync(DeleteMetricFilterRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteMetricFilterRequest Container for the necessary
+     *           parameters to execute the DeleteMetricFilter operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DeleteMetricFilter service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> deleteMetricFilterComposableAsync(final DeleteMetricFilterRequest deleteMetricFilterRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteMetricFilter(deleteMetricFilterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteMetricFilterRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteMetricFilterRequest,
+                new DeleteMetricFilterRequestMarshaller(), null);
     }
     
     /**
@@ -944,11 +993,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<TestMetricFilterResult> testMetricFilterAsync(final TestMetricFilterRequest testMetricFilterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestMetricFilterResult>() {
-            public TestMetricFilterResult call() throws Exception {
-                return testMetricFilter(testMetricFilterRequest);
-        }
-    });
+        return testMetricFilterComposableAsync(testMetricFilterRequest);
     }
 
     /**
@@ -981,19 +1026,28 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final TestMetricFilterRequest testMetricFilterRequest,
             final AsyncHandler<TestMetricFilterRequest, TestMetricFilterResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestMetricFilterResult>() {
+        return withAsyncHandler(testMetricFilterComposableAsync(testMetricFilterRequest),
+                testMetricFilterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TestMetricFilter operation like
+     * {@link #testMetricFilterAsync(TestMetricFilterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param testMetricFilterRequest Container for the necessary parameters
+     *           to execute the TestMetricFilter operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         TestMetricFilter service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<TestMetricFilterResult> testMetricFilterComposableAsync(final TestMetricFilterRequest testMetricFilterRequest) {
+        return executeAsync(executorService, new Callable<TestMetricFilterResult>() {
             public TestMetricFilterResult call() throws Exception {
-              TestMetricFilterResult result;
-                try {
-                result = testMetricFilter(testMetricFilterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(testMetricFilterRequest, result);
-                 return result;
-        }
-    });
+                return testMetricFilter(testMetricFilterRequest);
+            }
+        }, testMetricFilterRequest,
+                new TestMetricFilterRequestMarshaller(), new TestMetricFilterResultJsonUnmarshaller());
     }
     
     /**
@@ -1041,11 +1095,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<PutLogEventsResult> putLogEventsAsync(final PutLogEventsRequest putLogEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLogEventsResult>() {
-            public PutLogEventsResult call() throws Exception {
-                return putLogEvents(putLogEventsRequest);
-        }
-    });
+        return putLogEventsComposableAsync(putLogEventsRequest);
     }
 
     /**
@@ -1099,19 +1149,28 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final PutLogEventsRequest putLogEventsRequest,
             final AsyncHandler<PutLogEventsRequest, PutLogEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLogEventsResult>() {
+        return withAsyncHandler(putLogEventsComposableAsync(putLogEventsRequest),
+                putLogEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutLogEvents operation like
+     * {@link #putLogEventsAsync(PutLogEventsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param putLogEventsRequest Container for the necessary parameters to
+     *           execute the PutLogEvents operation on AWSLogs.
+     *
+     * @return A composable future for the response from the PutLogEvents
+     *         service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<PutLogEventsResult> putLogEventsComposableAsync(final PutLogEventsRequest putLogEventsRequest) {
+        return executeAsync(executorService, new Callable<PutLogEventsResult>() {
             public PutLogEventsResult call() throws Exception {
-              PutLogEventsResult result;
-                try {
-                result = putLogEvents(putLogEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putLogEventsRequest, result);
-                 return result;
-        }
-    });
+                return putLogEvents(putLogEventsRequest);
+            }
+        }, putLogEventsRequest,
+                new PutLogEventsRequestMarshaller(), new PutLogEventsResultJsonUnmarshaller());
     }
     
     /**
@@ -1138,12 +1197,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> deleteRetentionPolicyAsync(final DeleteRetentionPolicyRequest deleteRetentionPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRetentionPolicy(deleteRetentionPolicyRequest);
-                return null;
-        }
-    });
+        return deleteRetentionPolicyComposableAsync(deleteRetentionPolicyRequest);
     }
 
     /**
@@ -1176,18 +1230,31 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DeleteRetentionPolicyRequest deleteRetentionPolicyRequest,
             final AsyncHandler<DeleteRetentionPolicyRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteRetentionPolicyComposableAsync(deleteRetentionPolicyRequest),
+                deleteRetentionPolicyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteRetentionPolicy operation like
+     * {@link #deleteRetentionPolicyAsync(DeleteRetentionPolicyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteRetentionPolicyRequest Container for the necessary
+     *           parameters to execute the DeleteRetentionPolicy operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DeleteRetentionPolicy service method, as returned by
+     *         AWSLogs.
+     */
+    public ComposableFuture<Void> deleteRetentionPolicyComposableAsync(final DeleteRetentionPolicyRequest deleteRetentionPolicyRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteRetentionPolicy(deleteRetentionPolicyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRetentionPolicyRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteRetentionPolicyRequest,
+                new DeleteRetentionPolicyRequestMarshaller(), null);
     }
     
     /**
@@ -1224,11 +1291,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<GetLogEventsResult> getLogEventsAsync(final GetLogEventsRequest getLogEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLogEventsResult>() {
-            public GetLogEventsResult call() throws Exception {
-                return getLogEvents(getLogEventsRequest);
-        }
-    });
+        return getLogEventsComposableAsync(getLogEventsRequest);
     }
 
     /**
@@ -1271,19 +1334,28 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final GetLogEventsRequest getLogEventsRequest,
             final AsyncHandler<GetLogEventsRequest, GetLogEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLogEventsResult>() {
+        return withAsyncHandler(getLogEventsComposableAsync(getLogEventsRequest),
+                getLogEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetLogEvents operation like
+     * {@link #getLogEventsAsync(GetLogEventsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param getLogEventsRequest Container for the necessary parameters to
+     *           execute the GetLogEvents operation on AWSLogs.
+     *
+     * @return A composable future for the response from the GetLogEvents
+     *         service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<GetLogEventsResult> getLogEventsComposableAsync(final GetLogEventsRequest getLogEventsRequest) {
+        return executeAsync(executorService, new Callable<GetLogEventsResult>() {
             public GetLogEventsResult call() throws Exception {
-              GetLogEventsResult result;
-                try {
-                result = getLogEvents(getLogEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getLogEventsRequest, result);
-                 return result;
-        }
-    });
+                return getLogEvents(getLogEventsRequest);
+            }
+        }, getLogEventsRequest,
+                new GetLogEventsRequestMarshaller(), new GetLogEventsResultJsonUnmarshaller());
     }
     
     /**
@@ -1319,12 +1391,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> createLogStreamAsync(final CreateLogStreamRequest createLogStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLogStream(createLogStreamRequest);
-                return null;
-        }
-    });
+        return createLogStreamComposableAsync(createLogStreamRequest);
     }
 
     /**
@@ -1366,18 +1433,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final CreateLogStreamRequest createLogStreamRequest,
             final AsyncHandler<CreateLogStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createLogStreamComposableAsync(createLogStreamRequest),
+                createLogStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLogStream operation like
+     * {@link #createLogStreamAsync(CreateLogStreamRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createLogStreamRequest Container for the necessary parameters
+     *           to execute the CreateLogStream operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         CreateLogStream service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> createLogStreamComposableAsync(final CreateLogStreamRequest createLogStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createLogStream(createLogStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLogStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createLogStreamRequest,
+                new CreateLogStreamRequestMarshaller(), null);
     }
     
     /**
@@ -1403,12 +1481,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<Void> deleteLogStreamAsync(final DeleteLogStreamRequest deleteLogStreamRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLogStream(deleteLogStreamRequest);
-                return null;
-        }
-    });
+        return deleteLogStreamComposableAsync(deleteLogStreamRequest);
     }
 
     /**
@@ -1440,18 +1513,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DeleteLogStreamRequest deleteLogStreamRequest,
             final AsyncHandler<DeleteLogStreamRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLogStreamComposableAsync(deleteLogStreamRequest),
+                deleteLogStreamRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLogStream operation like
+     * {@link #deleteLogStreamAsync(DeleteLogStreamRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteLogStreamRequest Container for the necessary parameters
+     *           to execute the DeleteLogStream operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DeleteLogStream service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<Void> deleteLogStreamComposableAsync(final DeleteLogStreamRequest deleteLogStreamRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLogStream(deleteLogStreamRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLogStreamRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLogStreamRequest,
+                new DeleteLogStreamRequestMarshaller(), null);
     }
     
     /**
@@ -1485,11 +1569,7 @@ public class AWSLogsAsyncClient extends AWSLogsClient
      */
     public Future<DescribeLogGroupsResult> describeLogGroupsAsync(final DescribeLogGroupsRequest describeLogGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLogGroupsResult>() {
-            public DescribeLogGroupsResult call() throws Exception {
-                return describeLogGroups(describeLogGroupsRequest);
-        }
-    });
+        return describeLogGroupsComposableAsync(describeLogGroupsRequest);
     }
 
     /**
@@ -1529,19 +1609,29 @@ public class AWSLogsAsyncClient extends AWSLogsClient
             final DescribeLogGroupsRequest describeLogGroupsRequest,
             final AsyncHandler<DescribeLogGroupsRequest, DescribeLogGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLogGroupsResult>() {
+        return withAsyncHandler(describeLogGroupsComposableAsync(describeLogGroupsRequest),
+                describeLogGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLogGroups operation like
+     * {@link #describeLogGroupsAsync(DescribeLogGroupsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeLogGroupsRequest Container for the necessary parameters
+     *           to execute the DescribeLogGroups operation on AWSLogs.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLogGroups service method, as returned by AWSLogs.
+     */
+    public ComposableFuture<DescribeLogGroupsResult> describeLogGroupsComposableAsync(final DescribeLogGroupsRequest describeLogGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeLogGroupsResult>() {
             public DescribeLogGroupsResult call() throws Exception {
-              DescribeLogGroupsResult result;
-                try {
-                result = describeLogGroups(describeLogGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLogGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeLogGroups(describeLogGroupsRequest);
+            }
+        }, describeLogGroupsRequest,
+                new DescribeLogGroupsRequestMarshaller(), new DescribeLogGroupsResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.opsworks.model.*;
+import com.amazonaws.services.opsworks.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSOpsWorks.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS OpsWorks <p>
  * Welcome to the <i>AWS OpsWorks API Reference</i> . This guide provides
  * descriptions, syntax, and usage examples about AWS OpsWorks actions
@@ -371,12 +375,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deregisterRdsDbInstanceAsync(final DeregisterRdsDbInstanceRequest deregisterRdsDbInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterRdsDbInstance(deregisterRdsDbInstanceRequest);
-                return null;
-        }
-    });
+        return deregisterRdsDbInstanceComposableAsync(deregisterRdsDbInstanceRequest);
     }
 
     /**
@@ -416,18 +415,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeregisterRdsDbInstanceRequest deregisterRdsDbInstanceRequest,
             final AsyncHandler<DeregisterRdsDbInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deregisterRdsDbInstanceComposableAsync(deregisterRdsDbInstanceRequest),
+                deregisterRdsDbInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterRdsDbInstance operation like
+     * {@link #deregisterRdsDbInstanceAsync(DeregisterRdsDbInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterRdsDbInstanceRequest Container for the necessary
+     *           parameters to execute the DeregisterRdsDbInstance operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterRdsDbInstance service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deregisterRdsDbInstanceComposableAsync(final DeregisterRdsDbInstanceRequest deregisterRdsDbInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deregisterRdsDbInstance(deregisterRdsDbInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterRdsDbInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deregisterRdsDbInstanceRequest,
+                new DeregisterRdsDbInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -461,12 +474,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> registerRdsDbInstanceAsync(final RegisterRdsDbInstanceRequest registerRdsDbInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerRdsDbInstance(registerRdsDbInstanceRequest);
-                return null;
-        }
-    });
+        return registerRdsDbInstanceComposableAsync(registerRdsDbInstanceRequest);
     }
 
     /**
@@ -506,18 +514,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RegisterRdsDbInstanceRequest registerRdsDbInstanceRequest,
             final AsyncHandler<RegisterRdsDbInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(registerRdsDbInstanceComposableAsync(registerRdsDbInstanceRequest),
+                registerRdsDbInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterRdsDbInstance operation like
+     * {@link #registerRdsDbInstanceAsync(RegisterRdsDbInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerRdsDbInstanceRequest Container for the necessary
+     *           parameters to execute the RegisterRdsDbInstance operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         RegisterRdsDbInstance service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> registerRdsDbInstanceComposableAsync(final RegisterRdsDbInstanceRequest registerRdsDbInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 registerRdsDbInstance(registerRdsDbInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerRdsDbInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, registerRdsDbInstanceRequest,
+                new RegisterRdsDbInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -550,12 +572,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateMyUserProfileAsync(final UpdateMyUserProfileRequest updateMyUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateMyUserProfile(updateMyUserProfileRequest);
-                return null;
-        }
-    });
+        return updateMyUserProfileComposableAsync(updateMyUserProfileRequest);
     }
 
     /**
@@ -594,18 +611,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateMyUserProfileRequest updateMyUserProfileRequest,
             final AsyncHandler<UpdateMyUserProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateMyUserProfileComposableAsync(updateMyUserProfileRequest),
+                updateMyUserProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateMyUserProfile operation like
+     * {@link #updateMyUserProfileAsync(UpdateMyUserProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateMyUserProfileRequest Container for the necessary
+     *           parameters to execute the UpdateMyUserProfile operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         UpdateMyUserProfile service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateMyUserProfileComposableAsync(final UpdateMyUserProfileRequest updateMyUserProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateMyUserProfile(updateMyUserProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateMyUserProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateMyUserProfileRequest,
+                new UpdateMyUserProfileRequestMarshaller(), null);
     }
     
     /**
@@ -641,12 +672,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deregisterVolumeAsync(final DeregisterVolumeRequest deregisterVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterVolume(deregisterVolumeRequest);
-                return null;
-        }
-    });
+        return deregisterVolumeComposableAsync(deregisterVolumeRequest);
     }
 
     /**
@@ -688,18 +714,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeregisterVolumeRequest deregisterVolumeRequest,
             final AsyncHandler<DeregisterVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deregisterVolumeComposableAsync(deregisterVolumeRequest),
+                deregisterVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterVolume operation like
+     * {@link #deregisterVolumeAsync(DeregisterVolumeRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deregisterVolumeRequest Container for the necessary parameters
+     *           to execute the DeregisterVolume operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterVolume service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deregisterVolumeComposableAsync(final DeregisterVolumeRequest deregisterVolumeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deregisterVolume(deregisterVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterVolumeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deregisterVolumeRequest,
+                new DeregisterVolumeRequestMarshaller(), null);
     }
     
     /**
@@ -734,12 +771,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setPermissionAsync(final SetPermissionRequest setPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPermission(setPermissionRequest);
-                return null;
-        }
-    });
+        return setPermissionComposableAsync(setPermissionRequest);
     }
 
     /**
@@ -780,18 +812,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetPermissionRequest setPermissionRequest,
             final AsyncHandler<SetPermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setPermissionComposableAsync(setPermissionRequest),
+                setPermissionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetPermission operation like
+     * {@link #setPermissionAsync(SetPermissionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param setPermissionRequest Container for the necessary parameters to
+     *           execute the SetPermission operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the SetPermission
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> setPermissionComposableAsync(final SetPermissionRequest setPermissionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setPermission(setPermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setPermissionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setPermissionRequest,
+                new SetPermissionRequestMarshaller(), null);
     }
     
     /**
@@ -827,11 +870,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return describeInstancesComposableAsync(describeInstancesRequest);
     }
 
     /**
@@ -873,19 +912,30 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
+        return withAsyncHandler(describeInstancesComposableAsync(describeInstancesRequest),
+                describeInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeInstances operation like
+     * {@link #describeInstancesAsync(DescribeInstancesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param describeInstancesRequest Container for the necessary parameters
+     *           to execute the DescribeInstances operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeInstances service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeInstancesResult> describeInstancesComposableAsync(final DescribeInstancesRequest describeInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeInstancesResult>() {
             public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeInstances(describeInstancesRequest);
+            }
+        }, describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(), new DescribeInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -919,11 +969,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribePermissionsResult> describePermissionsAsync(final DescribePermissionsRequest describePermissionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePermissionsResult>() {
-            public DescribePermissionsResult call() throws Exception {
-                return describePermissions(describePermissionsRequest);
-        }
-    });
+        return describePermissionsComposableAsync(describePermissionsRequest);
     }
 
     /**
@@ -963,19 +1009,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribePermissionsRequest describePermissionsRequest,
             final AsyncHandler<DescribePermissionsRequest, DescribePermissionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePermissionsResult>() {
+        return withAsyncHandler(describePermissionsComposableAsync(describePermissionsRequest),
+                describePermissionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribePermissions operation like
+     * {@link #describePermissionsAsync(DescribePermissionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describePermissionsRequest Container for the necessary
+     *           parameters to execute the DescribePermissions operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribePermissions service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribePermissionsResult> describePermissionsComposableAsync(final DescribePermissionsRequest describePermissionsRequest) {
+        return executeAsync(executorService, new Callable<DescribePermissionsResult>() {
             public DescribePermissionsResult call() throws Exception {
-              DescribePermissionsResult result;
-                try {
-                result = describePermissions(describePermissionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePermissionsRequest, result);
-                 return result;
-        }
-    });
+                return describePermissions(describePermissionsRequest);
+            }
+        }, describePermissionsRequest,
+                new DescribePermissionsRequestMarshaller(), new DescribePermissionsResultJsonUnmarshaller());
     }
     
     /**
@@ -1014,12 +1072,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteInstanceAsync(final DeleteInstanceRequest deleteInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInstance(deleteInstanceRequest);
-                return null;
-        }
-    });
+        return deleteInstanceComposableAsync(deleteInstanceRequest);
     }
 
     /**
@@ -1064,18 +1117,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteInstanceRequest deleteInstanceRequest,
             final AsyncHandler<DeleteInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteInstanceComposableAsync(deleteInstanceRequest),
+                deleteInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteInstance operation like
+     * {@link #deleteInstanceAsync(DeleteInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteInstanceRequest Container for the necessary parameters to
+     *           execute the DeleteInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DeleteInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deleteInstanceComposableAsync(final DeleteInstanceRequest deleteInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteInstance(deleteInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteInstanceRequest,
+                new DeleteInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -1109,11 +1173,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CloneStackResult> cloneStackAsync(final CloneStackRequest cloneStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneStackResult>() {
-            public CloneStackResult call() throws Exception {
-                return cloneStack(cloneStackRequest);
-        }
-    });
+        return cloneStackComposableAsync(cloneStackRequest);
     }
 
     /**
@@ -1153,19 +1213,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CloneStackRequest cloneStackRequest,
             final AsyncHandler<CloneStackRequest, CloneStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneStackResult>() {
+        return withAsyncHandler(cloneStackComposableAsync(cloneStackRequest),
+                cloneStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CloneStack operation like
+     * {@link #cloneStackAsync(CloneStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param cloneStackRequest Container for the necessary parameters to
+     *           execute the CloneStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the CloneStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CloneStackResult> cloneStackComposableAsync(final CloneStackRequest cloneStackRequest) {
+        return executeAsync(executorService, new Callable<CloneStackResult>() {
             public CloneStackResult call() throws Exception {
-              CloneStackResult result;
-                try {
-                result = cloneStack(cloneStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cloneStackRequest, result);
-                 return result;
-        }
-    });
+                return cloneStack(cloneStackRequest);
+            }
+        }, cloneStackRequest,
+                new CloneStackRequestMarshaller(), new CloneStackResultJsonUnmarshaller());
     }
     
     /**
@@ -1199,12 +1268,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> detachElasticLoadBalancerAsync(final DetachElasticLoadBalancerRequest detachElasticLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachElasticLoadBalancer(detachElasticLoadBalancerRequest);
-                return null;
-        }
-    });
+        return detachElasticLoadBalancerComposableAsync(detachElasticLoadBalancerRequest);
     }
 
     /**
@@ -1244,18 +1308,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DetachElasticLoadBalancerRequest detachElasticLoadBalancerRequest,
             final AsyncHandler<DetachElasticLoadBalancerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(detachElasticLoadBalancerComposableAsync(detachElasticLoadBalancerRequest),
+                detachElasticLoadBalancerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DetachElasticLoadBalancer operation like
+     * {@link #detachElasticLoadBalancerAsync(DetachElasticLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param detachElasticLoadBalancerRequest Container for the necessary
+     *           parameters to execute the DetachElasticLoadBalancer operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DetachElasticLoadBalancer service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> detachElasticLoadBalancerComposableAsync(final DetachElasticLoadBalancerRequest detachElasticLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 detachElasticLoadBalancer(detachElasticLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachElasticLoadBalancerRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, detachElasticLoadBalancerRequest,
+                new DetachElasticLoadBalancerRequestMarshaller(), null);
     }
     
     /**
@@ -1293,12 +1371,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> stopInstanceAsync(final StopInstanceRequest stopInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                stopInstance(stopInstanceRequest);
-                return null;
-        }
-    });
+        return stopInstanceComposableAsync(stopInstanceRequest);
     }
 
     /**
@@ -1342,18 +1415,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StopInstanceRequest stopInstanceRequest,
             final AsyncHandler<StopInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(stopInstanceComposableAsync(stopInstanceRequest),
+                stopInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopInstance operation like
+     * {@link #stopInstanceAsync(StopInstanceRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param stopInstanceRequest Container for the necessary parameters to
+     *           execute the StopInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the StopInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> stopInstanceComposableAsync(final StopInstanceRequest stopInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 stopInstance(stopInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, stopInstanceRequest,
+                new StopInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -1386,12 +1470,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateAppAsync(final UpdateAppRequest updateAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateApp(updateAppRequest);
-                return null;
-        }
-    });
+        return updateAppComposableAsync(updateAppRequest);
     }
 
     /**
@@ -1430,18 +1509,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateAppRequest updateAppRequest,
             final AsyncHandler<UpdateAppRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateAppComposableAsync(updateAppRequest),
+                updateAppRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateApp operation like
+     * {@link #updateAppAsync(UpdateAppRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateAppRequest Container for the necessary parameters to
+     *           execute the UpdateApp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UpdateApp
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateAppComposableAsync(final UpdateAppRequest updateAppRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateApp(updateAppRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAppRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateAppRequest,
+                new UpdateAppRequestMarshaller(), null);
     }
     
     /**
@@ -1475,11 +1565,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeRdsDbInstancesResult> describeRdsDbInstancesAsync(final DescribeRdsDbInstancesRequest describeRdsDbInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRdsDbInstancesResult>() {
-            public DescribeRdsDbInstancesResult call() throws Exception {
-                return describeRdsDbInstances(describeRdsDbInstancesRequest);
-        }
-    });
+        return describeRdsDbInstancesComposableAsync(describeRdsDbInstancesRequest);
     }
 
     /**
@@ -1519,19 +1605,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeRdsDbInstancesRequest describeRdsDbInstancesRequest,
             final AsyncHandler<DescribeRdsDbInstancesRequest, DescribeRdsDbInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRdsDbInstancesResult>() {
+        return withAsyncHandler(describeRdsDbInstancesComposableAsync(describeRdsDbInstancesRequest),
+                describeRdsDbInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeRdsDbInstances operation like
+     * {@link #describeRdsDbInstancesAsync(DescribeRdsDbInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeRdsDbInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeRdsDbInstances operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeRdsDbInstances service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeRdsDbInstancesResult> describeRdsDbInstancesComposableAsync(final DescribeRdsDbInstancesRequest describeRdsDbInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeRdsDbInstancesResult>() {
             public DescribeRdsDbInstancesResult call() throws Exception {
-              DescribeRdsDbInstancesResult result;
-                try {
-                result = describeRdsDbInstances(describeRdsDbInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRdsDbInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeRdsDbInstances(describeRdsDbInstancesRequest);
+            }
+        }, describeRdsDbInstancesRequest,
+                new DescribeRdsDbInstancesRequestMarshaller(), new DescribeRdsDbInstancesResultJsonUnmarshaller());
     }
     
     /**
@@ -1567,11 +1665,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeCommandsResult> describeCommandsAsync(final DescribeCommandsRequest describeCommandsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommandsResult>() {
-            public DescribeCommandsResult call() throws Exception {
-                return describeCommands(describeCommandsRequest);
-        }
-    });
+        return describeCommandsComposableAsync(describeCommandsRequest);
     }
 
     /**
@@ -1613,19 +1707,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeCommandsRequest describeCommandsRequest,
             final AsyncHandler<DescribeCommandsRequest, DescribeCommandsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommandsResult>() {
+        return withAsyncHandler(describeCommandsComposableAsync(describeCommandsRequest),
+                describeCommandsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCommands operation like
+     * {@link #describeCommandsAsync(DescribeCommandsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeCommandsRequest Container for the necessary parameters
+     *           to execute the DescribeCommands operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCommands service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeCommandsResult> describeCommandsComposableAsync(final DescribeCommandsRequest describeCommandsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCommandsResult>() {
             public DescribeCommandsResult call() throws Exception {
-              DescribeCommandsResult result;
-                try {
-                result = describeCommands(describeCommandsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCommandsRequest, result);
-                 return result;
-        }
-    });
+                return describeCommands(describeCommandsRequest);
+            }
+        }, describeCommandsRequest,
+                new DescribeCommandsRequestMarshaller(), new DescribeCommandsResultJsonUnmarshaller());
     }
     
     /**
@@ -1662,12 +1765,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> associateElasticIpAsync(final AssociateElasticIpRequest associateElasticIpRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateElasticIp(associateElasticIpRequest);
-                return null;
-        }
-    });
+        return associateElasticIpComposableAsync(associateElasticIpRequest);
     }
 
     /**
@@ -1710,18 +1808,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final AssociateElasticIpRequest associateElasticIpRequest,
             final AsyncHandler<AssociateElasticIpRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(associateElasticIpComposableAsync(associateElasticIpRequest),
+                associateElasticIpRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssociateElasticIp operation like
+     * {@link #associateElasticIpAsync(AssociateElasticIpRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param associateElasticIpRequest Container for the necessary
+     *           parameters to execute the AssociateElasticIp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         AssociateElasticIp service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> associateElasticIpComposableAsync(final AssociateElasticIpRequest associateElasticIpRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 associateElasticIp(associateElasticIpRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateElasticIpRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, associateElasticIpRequest,
+                new AssociateElasticIpRequestMarshaller(), null);
     }
     
     /**
@@ -1757,12 +1868,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> unassignVolumeAsync(final UnassignVolumeRequest unassignVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignVolume(unassignVolumeRequest);
-                return null;
-        }
-    });
+        return unassignVolumeComposableAsync(unassignVolumeRequest);
     }
 
     /**
@@ -1804,18 +1910,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UnassignVolumeRequest unassignVolumeRequest,
             final AsyncHandler<UnassignVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unassignVolumeComposableAsync(unassignVolumeRequest),
+                unassignVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnassignVolume operation like
+     * {@link #unassignVolumeAsync(UnassignVolumeRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param unassignVolumeRequest Container for the necessary parameters to
+     *           execute the UnassignVolume operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UnassignVolume
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> unassignVolumeComposableAsync(final UnassignVolumeRequest unassignVolumeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unassignVolume(unassignVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignVolumeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unassignVolumeRequest,
+                new UnassignVolumeRequestMarshaller(), null);
     }
     
     /**
@@ -1851,11 +1968,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeRaidArraysResult> describeRaidArraysAsync(final DescribeRaidArraysRequest describeRaidArraysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRaidArraysResult>() {
-            public DescribeRaidArraysResult call() throws Exception {
-                return describeRaidArrays(describeRaidArraysRequest);
-        }
-    });
+        return describeRaidArraysComposableAsync(describeRaidArraysRequest);
     }
 
     /**
@@ -1897,19 +2010,30 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeRaidArraysRequest describeRaidArraysRequest,
             final AsyncHandler<DescribeRaidArraysRequest, DescribeRaidArraysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRaidArraysResult>() {
+        return withAsyncHandler(describeRaidArraysComposableAsync(describeRaidArraysRequest),
+                describeRaidArraysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeRaidArrays operation like
+     * {@link #describeRaidArraysAsync(DescribeRaidArraysRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeRaidArraysRequest Container for the necessary
+     *           parameters to execute the DescribeRaidArrays operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeRaidArrays service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeRaidArraysResult> describeRaidArraysComposableAsync(final DescribeRaidArraysRequest describeRaidArraysRequest) {
+        return executeAsync(executorService, new Callable<DescribeRaidArraysResult>() {
             public DescribeRaidArraysResult call() throws Exception {
-              DescribeRaidArraysResult result;
-                try {
-                result = describeRaidArrays(describeRaidArraysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRaidArraysRequest, result);
-                 return result;
-        }
-    });
+                return describeRaidArrays(describeRaidArraysRequest);
+            }
+        }, describeRaidArraysRequest,
+                new DescribeRaidArraysRequestMarshaller(), new DescribeRaidArraysResultJsonUnmarshaller());
     }
     
     /**
@@ -1944,11 +2068,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<GetHostnameSuggestionResult> getHostnameSuggestionAsync(final GetHostnameSuggestionRequest getHostnameSuggestionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostnameSuggestionResult>() {
-            public GetHostnameSuggestionResult call() throws Exception {
-                return getHostnameSuggestion(getHostnameSuggestionRequest);
-        }
-    });
+        return getHostnameSuggestionComposableAsync(getHostnameSuggestionRequest);
     }
 
     /**
@@ -1989,19 +2109,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final GetHostnameSuggestionRequest getHostnameSuggestionRequest,
             final AsyncHandler<GetHostnameSuggestionRequest, GetHostnameSuggestionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostnameSuggestionResult>() {
+        return withAsyncHandler(getHostnameSuggestionComposableAsync(getHostnameSuggestionRequest),
+                getHostnameSuggestionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHostnameSuggestion operation like
+     * {@link #getHostnameSuggestionAsync(GetHostnameSuggestionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getHostnameSuggestionRequest Container for the necessary
+     *           parameters to execute the GetHostnameSuggestion operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         GetHostnameSuggestion service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<GetHostnameSuggestionResult> getHostnameSuggestionComposableAsync(final GetHostnameSuggestionRequest getHostnameSuggestionRequest) {
+        return executeAsync(executorService, new Callable<GetHostnameSuggestionResult>() {
             public GetHostnameSuggestionResult call() throws Exception {
-              GetHostnameSuggestionResult result;
-                try {
-                result = getHostnameSuggestion(getHostnameSuggestionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHostnameSuggestionRequest, result);
-                 return result;
-        }
-    });
+                return getHostnameSuggestion(getHostnameSuggestionRequest);
+            }
+        }, getHostnameSuggestionRequest,
+                new GetHostnameSuggestionRequestMarshaller(), new GetHostnameSuggestionResultJsonUnmarshaller());
     }
     
     /**
@@ -2044,12 +2176,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setLoadBasedAutoScalingAsync(final SetLoadBasedAutoScalingRequest setLoadBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setLoadBasedAutoScaling(setLoadBasedAutoScalingRequest);
-                return null;
-        }
-    });
+        return setLoadBasedAutoScalingComposableAsync(setLoadBasedAutoScalingRequest);
     }
 
     /**
@@ -2098,18 +2225,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetLoadBasedAutoScalingRequest setLoadBasedAutoScalingRequest,
             final AsyncHandler<SetLoadBasedAutoScalingRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setLoadBasedAutoScalingComposableAsync(setLoadBasedAutoScalingRequest),
+                setLoadBasedAutoScalingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetLoadBasedAutoScaling operation like
+     * {@link #setLoadBasedAutoScalingAsync(SetLoadBasedAutoScalingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setLoadBasedAutoScalingRequest Container for the necessary
+     *           parameters to execute the SetLoadBasedAutoScaling operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         SetLoadBasedAutoScaling service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> setLoadBasedAutoScalingComposableAsync(final SetLoadBasedAutoScalingRequest setLoadBasedAutoScalingRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setLoadBasedAutoScaling(setLoadBasedAutoScalingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setLoadBasedAutoScalingRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setLoadBasedAutoScalingRequest,
+                new SetLoadBasedAutoScalingRequestMarshaller(), null);
     }
     
     /**
@@ -2145,11 +2286,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return describeVolumesComposableAsync(describeVolumesRequest);
     }
 
     /**
@@ -2191,19 +2328,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
+        return withAsyncHandler(describeVolumesComposableAsync(describeVolumesRequest),
+                describeVolumesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVolumes operation like
+     * {@link #describeVolumesAsync(DescribeVolumesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeVolumesRequest Container for the necessary parameters
+     *           to execute the DescribeVolumes operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVolumes service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeVolumesResult> describeVolumesComposableAsync(final DescribeVolumesRequest describeVolumesRequest) {
+        return executeAsync(executorService, new Callable<DescribeVolumesResult>() {
             public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+                return describeVolumes(describeVolumesRequest);
+            }
+        }, describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(), new DescribeVolumesResultJsonUnmarshaller());
     }
     
     /**
@@ -2240,12 +2386,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> assignVolumeAsync(final AssignVolumeRequest assignVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignVolume(assignVolumeRequest);
-                return null;
-        }
-    });
+        return assignVolumeComposableAsync(assignVolumeRequest);
     }
 
     /**
@@ -2288,18 +2429,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final AssignVolumeRequest assignVolumeRequest,
             final AsyncHandler<AssignVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(assignVolumeComposableAsync(assignVolumeRequest),
+                assignVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssignVolume operation like
+     * {@link #assignVolumeAsync(AssignVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param assignVolumeRequest Container for the necessary parameters to
+     *           execute the AssignVolume operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the AssignVolume
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> assignVolumeComposableAsync(final AssignVolumeRequest assignVolumeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 assignVolume(assignVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignVolumeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, assignVolumeRequest,
+                new AssignVolumeRequestMarshaller(), null);
     }
     
     /**
@@ -2335,12 +2487,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> unassignInstanceAsync(final UnassignInstanceRequest unassignInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignInstance(unassignInstanceRequest);
-                return null;
-        }
-    });
+        return unassignInstanceComposableAsync(unassignInstanceRequest);
     }
 
     /**
@@ -2382,18 +2529,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UnassignInstanceRequest unassignInstanceRequest,
             final AsyncHandler<UnassignInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unassignInstanceComposableAsync(unassignInstanceRequest),
+                unassignInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UnassignInstance operation like
+     * {@link #unassignInstanceAsync(UnassignInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param unassignInstanceRequest Container for the necessary parameters
+     *           to execute the UnassignInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         UnassignInstance service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> unassignInstanceComposableAsync(final UnassignInstanceRequest unassignInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unassignInstance(unassignInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unassignInstanceRequest,
+                new UnassignInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -2427,11 +2585,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeServiceErrorsResult> describeServiceErrorsAsync(final DescribeServiceErrorsRequest describeServiceErrorsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceErrorsResult>() {
-            public DescribeServiceErrorsResult call() throws Exception {
-                return describeServiceErrors(describeServiceErrorsRequest);
-        }
-    });
+        return describeServiceErrorsComposableAsync(describeServiceErrorsRequest);
     }
 
     /**
@@ -2471,19 +2625,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeServiceErrorsRequest describeServiceErrorsRequest,
             final AsyncHandler<DescribeServiceErrorsRequest, DescribeServiceErrorsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceErrorsResult>() {
+        return withAsyncHandler(describeServiceErrorsComposableAsync(describeServiceErrorsRequest),
+                describeServiceErrorsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeServiceErrors operation like
+     * {@link #describeServiceErrorsAsync(DescribeServiceErrorsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeServiceErrorsRequest Container for the necessary
+     *           parameters to execute the DescribeServiceErrors operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeServiceErrors service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeServiceErrorsResult> describeServiceErrorsComposableAsync(final DescribeServiceErrorsRequest describeServiceErrorsRequest) {
+        return executeAsync(executorService, new Callable<DescribeServiceErrorsResult>() {
             public DescribeServiceErrorsResult call() throws Exception {
-              DescribeServiceErrorsResult result;
-                try {
-                result = describeServiceErrors(describeServiceErrorsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeServiceErrorsRequest, result);
-                 return result;
-        }
-    });
+                return describeServiceErrors(describeServiceErrorsRequest);
+            }
+        }, describeServiceErrorsRequest,
+                new DescribeServiceErrorsRequestMarshaller(), new DescribeServiceErrorsResultJsonUnmarshaller());
     }
     
     /**
@@ -2516,12 +2682,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateLayerAsync(final UpdateLayerRequest updateLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateLayer(updateLayerRequest);
-                return null;
-        }
-    });
+        return updateLayerComposableAsync(updateLayerRequest);
     }
 
     /**
@@ -2560,18 +2721,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateLayerRequest updateLayerRequest,
             final AsyncHandler<UpdateLayerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateLayerComposableAsync(updateLayerRequest),
+                updateLayerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateLayer operation like
+     * {@link #updateLayerAsync(UpdateLayerRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateLayerRequest Container for the necessary parameters to
+     *           execute the UpdateLayer operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UpdateLayer
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateLayerComposableAsync(final UpdateLayerRequest updateLayerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateLayer(updateLayerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateLayerRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateLayerRequest,
+                new UpdateLayerRequestMarshaller(), null);
     }
     
     /**
@@ -2607,12 +2779,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateElasticIpAsync(final UpdateElasticIpRequest updateElasticIpRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateElasticIp(updateElasticIpRequest);
-                return null;
-        }
-    });
+        return updateElasticIpComposableAsync(updateElasticIpRequest);
     }
 
     /**
@@ -2654,18 +2821,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateElasticIpRequest updateElasticIpRequest,
             final AsyncHandler<UpdateElasticIpRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateElasticIpComposableAsync(updateElasticIpRequest),
+                updateElasticIpRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateElasticIp operation like
+     * {@link #updateElasticIpAsync(UpdateElasticIpRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param updateElasticIpRequest Container for the necessary parameters
+     *           to execute the UpdateElasticIp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         UpdateElasticIp service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateElasticIpComposableAsync(final UpdateElasticIpRequest updateElasticIpRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateElasticIp(updateElasticIpRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateElasticIpRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateElasticIpRequest,
+                new UpdateElasticIpRequestMarshaller(), null);
     }
     
     /**
@@ -2700,12 +2878,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> startInstanceAsync(final StartInstanceRequest startInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                startInstance(startInstanceRequest);
-                return null;
-        }
-    });
+        return startInstanceComposableAsync(startInstanceRequest);
     }
 
     /**
@@ -2746,18 +2919,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StartInstanceRequest startInstanceRequest,
             final AsyncHandler<StartInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(startInstanceComposableAsync(startInstanceRequest),
+                startInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartInstance operation like
+     * {@link #startInstanceAsync(StartInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param startInstanceRequest Container for the necessary parameters to
+     *           execute the StartInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the StartInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> startInstanceComposableAsync(final StartInstanceRequest startInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 startInstance(startInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, startInstanceRequest,
+                new StartInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -2801,11 +2985,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateLayerResult> createLayerAsync(final CreateLayerRequest createLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLayerResult>() {
-            public CreateLayerResult call() throws Exception {
-                return createLayer(createLayerRequest);
-        }
-    });
+        return createLayerComposableAsync(createLayerRequest);
     }
 
     /**
@@ -2855,19 +3035,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateLayerRequest createLayerRequest,
             final AsyncHandler<CreateLayerRequest, CreateLayerResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLayerResult>() {
+        return withAsyncHandler(createLayerComposableAsync(createLayerRequest),
+                createLayerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateLayer operation like
+     * {@link #createLayerAsync(CreateLayerRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createLayerRequest Container for the necessary parameters to
+     *           execute the CreateLayer operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the CreateLayer
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CreateLayerResult> createLayerComposableAsync(final CreateLayerRequest createLayerRequest) {
+        return executeAsync(executorService, new Callable<CreateLayerResult>() {
             public CreateLayerResult call() throws Exception {
-              CreateLayerResult result;
-                try {
-                result = createLayer(createLayerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createLayerRequest, result);
-                 return result;
-        }
-    });
+                return createLayer(createLayerRequest);
+            }
+        }, createLayerRequest,
+                new CreateLayerRequestMarshaller(), new CreateLayerResultJsonUnmarshaller());
     }
     
     /**
@@ -2904,12 +3093,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> disassociateElasticIpAsync(final DisassociateElasticIpRequest disassociateElasticIpRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateElasticIp(disassociateElasticIpRequest);
-                return null;
-        }
-    });
+        return disassociateElasticIpComposableAsync(disassociateElasticIpRequest);
     }
 
     /**
@@ -2952,18 +3136,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DisassociateElasticIpRequest disassociateElasticIpRequest,
             final AsyncHandler<DisassociateElasticIpRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(disassociateElasticIpComposableAsync(disassociateElasticIpRequest),
+                disassociateElasticIpRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisassociateElasticIp operation like
+     * {@link #disassociateElasticIpAsync(DisassociateElasticIpRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disassociateElasticIpRequest Container for the necessary
+     *           parameters to execute the DisassociateElasticIp operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DisassociateElasticIp service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> disassociateElasticIpComposableAsync(final DisassociateElasticIpRequest disassociateElasticIpRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 disassociateElasticIp(disassociateElasticIpRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateElasticIpRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, disassociateElasticIpRequest,
+                new DisassociateElasticIpRequestMarshaller(), null);
     }
     
     /**
@@ -3000,12 +3198,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteStackAsync(final DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStack(deleteStackRequest);
-                return null;
-        }
-    });
+        return deleteStackComposableAsync(deleteStackRequest);
     }
 
     /**
@@ -3048,18 +3241,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteStackRequest deleteStackRequest,
             final AsyncHandler<DeleteStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteStackComposableAsync(deleteStackRequest),
+                deleteStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteStack operation like
+     * {@link #deleteStackAsync(DeleteStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteStackRequest Container for the necessary parameters to
+     *           execute the DeleteStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DeleteStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deleteStackComposableAsync(final DeleteStackRequest deleteStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteStack(deleteStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteStackRequest,
+                new DeleteStackRequestMarshaller(), null);
     }
     
     /**
@@ -3092,12 +3296,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> startStackAsync(final StartStackRequest startStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                startStack(startStackRequest);
-                return null;
-        }
-    });
+        return startStackComposableAsync(startStackRequest);
     }
 
     /**
@@ -3136,18 +3335,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StartStackRequest startStackRequest,
             final AsyncHandler<StartStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(startStackComposableAsync(startStackRequest),
+                startStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartStack operation like
+     * {@link #startStackAsync(StartStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param startStackRequest Container for the necessary parameters to
+     *           execute the StartStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the StartStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> startStackComposableAsync(final StartStackRequest startStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 startStack(startStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, startStackRequest,
+                new StartStackRequestMarshaller(), null);
     }
     
     /**
@@ -3185,11 +3395,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<RegisterVolumeResult> registerVolumeAsync(final RegisterVolumeRequest registerVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterVolumeResult>() {
-            public RegisterVolumeResult call() throws Exception {
-                return registerVolume(registerVolumeRequest);
-        }
-    });
+        return registerVolumeComposableAsync(registerVolumeRequest);
     }
 
     /**
@@ -3233,19 +3439,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RegisterVolumeRequest registerVolumeRequest,
             final AsyncHandler<RegisterVolumeRequest, RegisterVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterVolumeResult>() {
+        return withAsyncHandler(registerVolumeComposableAsync(registerVolumeRequest),
+                registerVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterVolume operation like
+     * {@link #registerVolumeAsync(RegisterVolumeRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerVolumeRequest Container for the necessary parameters to
+     *           execute the RegisterVolume operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the RegisterVolume
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<RegisterVolumeResult> registerVolumeComposableAsync(final RegisterVolumeRequest registerVolumeRequest) {
+        return executeAsync(executorService, new Callable<RegisterVolumeResult>() {
             public RegisterVolumeResult call() throws Exception {
-              RegisterVolumeResult result;
-                try {
-                result = registerVolume(registerVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerVolumeRequest, result);
-                 return result;
-        }
-    });
+                return registerVolume(registerVolumeRequest);
+            }
+        }, registerVolumeRequest,
+                new RegisterVolumeRequestMarshaller(), new RegisterVolumeResultJsonUnmarshaller());
     }
     
     /**
@@ -3279,12 +3494,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateRdsDbInstanceAsync(final UpdateRdsDbInstanceRequest updateRdsDbInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateRdsDbInstance(updateRdsDbInstanceRequest);
-                return null;
-        }
-    });
+        return updateRdsDbInstanceComposableAsync(updateRdsDbInstanceRequest);
     }
 
     /**
@@ -3324,18 +3534,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateRdsDbInstanceRequest updateRdsDbInstanceRequest,
             final AsyncHandler<UpdateRdsDbInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateRdsDbInstanceComposableAsync(updateRdsDbInstanceRequest),
+                updateRdsDbInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateRdsDbInstance operation like
+     * {@link #updateRdsDbInstanceAsync(UpdateRdsDbInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateRdsDbInstanceRequest Container for the necessary
+     *           parameters to execute the UpdateRdsDbInstance operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         UpdateRdsDbInstance service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateRdsDbInstanceComposableAsync(final UpdateRdsDbInstanceRequest updateRdsDbInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateRdsDbInstance(updateRdsDbInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateRdsDbInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateRdsDbInstanceRequest,
+                new UpdateRdsDbInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -3377,11 +3601,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<RegisterInstanceResult> registerInstanceAsync(final RegisterInstanceRequest registerInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstanceResult>() {
-            public RegisterInstanceResult call() throws Exception {
-                return registerInstance(registerInstanceRequest);
-        }
-    });
+        return registerInstanceComposableAsync(registerInstanceRequest);
     }
 
     /**
@@ -3429,19 +3649,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RegisterInstanceRequest registerInstanceRequest,
             final AsyncHandler<RegisterInstanceRequest, RegisterInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstanceResult>() {
+        return withAsyncHandler(registerInstanceComposableAsync(registerInstanceRequest),
+                registerInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterInstance operation like
+     * {@link #registerInstanceAsync(RegisterInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerInstanceRequest Container for the necessary parameters
+     *           to execute the RegisterInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         RegisterInstance service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<RegisterInstanceResult> registerInstanceComposableAsync(final RegisterInstanceRequest registerInstanceRequest) {
+        return executeAsync(executorService, new Callable<RegisterInstanceResult>() {
             public RegisterInstanceResult call() throws Exception {
-              RegisterInstanceResult result;
-                try {
-                result = registerInstance(registerInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerInstanceRequest, result);
-                 return result;
-        }
-    });
+                return registerInstance(registerInstanceRequest);
+            }
+        }, registerInstanceRequest,
+                new RegisterInstanceRequestMarshaller(), new RegisterInstanceResultJsonUnmarshaller());
     }
     
     /**
@@ -3473,12 +3702,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateUserProfileAsync(final UpdateUserProfileRequest updateUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserProfile(updateUserProfileRequest);
-                return null;
-        }
-    });
+        return updateUserProfileComposableAsync(updateUserProfileRequest);
     }
 
     /**
@@ -3516,18 +3740,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateUserProfileRequest updateUserProfileRequest,
             final AsyncHandler<UpdateUserProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateUserProfileComposableAsync(updateUserProfileRequest),
+                updateUserProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateUserProfile operation like
+     * {@link #updateUserProfileAsync(UpdateUserProfileRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param updateUserProfileRequest Container for the necessary parameters
+     *           to execute the UpdateUserProfile operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         UpdateUserProfile service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateUserProfileComposableAsync(final UpdateUserProfileRequest updateUserProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateUserProfile(updateUserProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateUserProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateUserProfileRequest,
+                new UpdateUserProfileRequestMarshaller(), null);
     }
     
     /**
@@ -3562,12 +3799,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> rebootInstanceAsync(final RebootInstanceRequest rebootInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstance(rebootInstanceRequest);
-                return null;
-        }
-    });
+        return rebootInstanceComposableAsync(rebootInstanceRequest);
     }
 
     /**
@@ -3608,18 +3840,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RebootInstanceRequest rebootInstanceRequest,
             final AsyncHandler<RebootInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(rebootInstanceComposableAsync(rebootInstanceRequest),
+                rebootInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebootInstance operation like
+     * {@link #rebootInstanceAsync(RebootInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param rebootInstanceRequest Container for the necessary parameters to
+     *           execute the RebootInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the RebootInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> rebootInstanceComposableAsync(final RebootInstanceRequest rebootInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 rebootInstance(rebootInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, rebootInstanceRequest,
+                new RebootInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -3653,11 +3896,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateStackResult> createStackAsync(final CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
-            public CreateStackResult call() throws Exception {
-                return createStack(createStackRequest);
-        }
-    });
+        return createStackComposableAsync(createStackRequest);
     }
 
     /**
@@ -3697,19 +3936,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateStackRequest createStackRequest,
             final AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
+        return withAsyncHandler(createStackComposableAsync(createStackRequest),
+                createStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStack operation like
+     * {@link #createStackAsync(CreateStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createStackRequest Container for the necessary parameters to
+     *           execute the CreateStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the CreateStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CreateStackResult> createStackComposableAsync(final CreateStackRequest createStackRequest) {
+        return executeAsync(executorService, new Callable<CreateStackResult>() {
             public CreateStackResult call() throws Exception {
-              CreateStackResult result;
-                try {
-                result = createStack(createStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStackRequest, result);
-                 return result;
-        }
-    });
+                return createStack(createStackRequest);
+            }
+        }, createStackRequest,
+                new CreateStackRequestMarshaller(), new CreateStackResultJsonUnmarshaller());
     }
     
     /**
@@ -3744,11 +3992,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateInstanceResult> createInstanceAsync(final CreateInstanceRequest createInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
-            public CreateInstanceResult call() throws Exception {
-                return createInstance(createInstanceRequest);
-        }
-    });
+        return createInstanceComposableAsync(createInstanceRequest);
     }
 
     /**
@@ -3789,19 +4033,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateInstanceRequest createInstanceRequest,
             final AsyncHandler<CreateInstanceRequest, CreateInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceResult>() {
+        return withAsyncHandler(createInstanceComposableAsync(createInstanceRequest),
+                createInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateInstance operation like
+     * {@link #createInstanceAsync(CreateInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createInstanceRequest Container for the necessary parameters to
+     *           execute the CreateInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the CreateInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CreateInstanceResult> createInstanceComposableAsync(final CreateInstanceRequest createInstanceRequest) {
+        return executeAsync(executorService, new Callable<CreateInstanceResult>() {
             public CreateInstanceResult call() throws Exception {
-              CreateInstanceResult result;
-                try {
-                result = createInstance(createInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceRequest, result);
-                 return result;
-        }
-    });
+                return createInstance(createInstanceRequest);
+            }
+        }, createInstanceRequest,
+                new CreateInstanceRequestMarshaller(), new CreateInstanceResultJsonUnmarshaller());
     }
     
     /**
@@ -3834,12 +4087,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteAppAsync(final DeleteAppRequest deleteAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApp(deleteAppRequest);
-                return null;
-        }
-    });
+        return deleteAppComposableAsync(deleteAppRequest);
     }
 
     /**
@@ -3878,18 +4126,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteAppRequest deleteAppRequest,
             final AsyncHandler<DeleteAppRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAppComposableAsync(deleteAppRequest),
+                deleteAppRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteApp operation like
+     * {@link #deleteAppAsync(DeleteAppRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteAppRequest Container for the necessary parameters to
+     *           execute the DeleteApp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DeleteApp
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deleteAppComposableAsync(final DeleteAppRequest deleteAppRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteApp(deleteAppRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAppRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAppRequest,
+                new DeleteAppRequestMarshaller(), null);
     }
     
     /**
@@ -3924,11 +4183,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeStackProvisioningParametersResult> describeStackProvisioningParametersAsync(final DescribeStackProvisioningParametersRequest describeStackProvisioningParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackProvisioningParametersResult>() {
-            public DescribeStackProvisioningParametersResult call() throws Exception {
-                return describeStackProvisioningParameters(describeStackProvisioningParametersRequest);
-        }
-    });
+        return describeStackProvisioningParametersComposableAsync(describeStackProvisioningParametersRequest);
     }
 
     /**
@@ -3969,19 +4224,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeStackProvisioningParametersRequest describeStackProvisioningParametersRequest,
             final AsyncHandler<DescribeStackProvisioningParametersRequest, DescribeStackProvisioningParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackProvisioningParametersResult>() {
+        return withAsyncHandler(describeStackProvisioningParametersComposableAsync(describeStackProvisioningParametersRequest),
+                describeStackProvisioningParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStackProvisioningParameters
+     * operation like
+     * {@link #describeStackProvisioningParametersAsync(DescribeStackProvisioningParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStackProvisioningParametersRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeStackProvisioningParameters operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStackProvisioningParameters service method, as
+     *         returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeStackProvisioningParametersResult> describeStackProvisioningParametersComposableAsync(final DescribeStackProvisioningParametersRequest describeStackProvisioningParametersRequest) {
+        return executeAsync(executorService, new Callable<DescribeStackProvisioningParametersResult>() {
             public DescribeStackProvisioningParametersResult call() throws Exception {
-              DescribeStackProvisioningParametersResult result;
-                try {
-                result = describeStackProvisioningParameters(describeStackProvisioningParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStackProvisioningParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeStackProvisioningParameters(describeStackProvisioningParametersRequest);
+            }
+        }, describeStackProvisioningParametersRequest,
+                new DescribeStackProvisioningParametersRequestMarshaller(), new DescribeStackProvisioningParametersResultJsonUnmarshaller());
     }
     
     /**
@@ -4018,12 +4286,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deregisterElasticIpAsync(final DeregisterElasticIpRequest deregisterElasticIpRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterElasticIp(deregisterElasticIpRequest);
-                return null;
-        }
-    });
+        return deregisterElasticIpComposableAsync(deregisterElasticIpRequest);
     }
 
     /**
@@ -4066,18 +4329,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeregisterElasticIpRequest deregisterElasticIpRequest,
             final AsyncHandler<DeregisterElasticIpRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deregisterElasticIpComposableAsync(deregisterElasticIpRequest),
+                deregisterElasticIpRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterElasticIp operation like
+     * {@link #deregisterElasticIpAsync(DeregisterElasticIpRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterElasticIpRequest Container for the necessary
+     *           parameters to execute the DeregisterElasticIp operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterElasticIp service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deregisterElasticIpComposableAsync(final DeregisterElasticIpRequest deregisterElasticIpRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deregisterElasticIp(deregisterElasticIpRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterElasticIpRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deregisterElasticIpRequest,
+                new DeregisterElasticIpRequestMarshaller(), null);
     }
     
     /**
@@ -4119,12 +4396,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> attachElasticLoadBalancerAsync(final AttachElasticLoadBalancerRequest attachElasticLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachElasticLoadBalancer(attachElasticLoadBalancerRequest);
-                return null;
-        }
-    });
+        return attachElasticLoadBalancerComposableAsync(attachElasticLoadBalancerRequest);
     }
 
     /**
@@ -4172,26 +4444,40 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final AttachElasticLoadBalancerRequest attachElasticLoadBalancerRequest,
             final AsyncHandler<AttachElasticLoadBalancerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachElasticLoadBalancer(attachElasticLoadBalancerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachElasticLoadBalancerRequest, null);
-                 return null;
-        }
-    });
+        return withAsyncHandler(attachElasticLoadBalancerComposableAsync(attachElasticLoadBalancerRequest),
+                attachElasticLoadBalancerRequest, asyncHandler);
     }
-    
+
     /**
-     * <p>
-     * Updates a specified stack.
-     * </p>
-     * <p>
-     * <b>Required Permissions</b> : To use this action, an IAM user must
+     * Asynchronously executes the AttachElasticLoadBalancer operation like
+     * {@link #attachElasticLoadBalancerAsync(AttachElasticLoadBalancerRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param attachElasticLoadBalancerRequest Container for the necessary
+     *           parameters to execute the AttachElasticLoadBalancer operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         AttachElasticLoadBalancer service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> attachElasticLoadBalancerComposableAsync(final AttachElasticLoadBalancerRequest attachElasticLoadBalancerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
+            public Void call() throws Exception {
+                attachElasticLoadBalancer(attachElasticLoadBalancerRequest);
+                return null;
+            }
+        }, attachElasticLoadBalancerRequest,
+                new AttachElasticLoadBalancerRequestMarshaller(), null);
+    }
+    
+    /**
+     * <p>
+     * Updates a specified stack.
+     * </p>
+     * <p>
+     * <b>Required Permissions</b> : To use this action, an IAM user must
      * have a Manage permissions level for the stack, or an attached policy
      * that explicitly grants permissions. For more information on user
      * permissions, see
@@ -4216,12 +4502,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateStackAsync(final UpdateStackRequest updateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateStack(updateStackRequest);
-                return null;
-        }
-    });
+        return updateStackComposableAsync(updateStackRequest);
     }
 
     /**
@@ -4260,18 +4541,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateStackRequest updateStackRequest,
             final AsyncHandler<UpdateStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateStackComposableAsync(updateStackRequest),
+                updateStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateStack operation like
+     * {@link #updateStackAsync(UpdateStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param updateStackRequest Container for the necessary parameters to
+     *           execute the UpdateStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UpdateStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateStackComposableAsync(final UpdateStackRequest updateStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateStack(updateStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateStackRequest,
+                new UpdateStackRequestMarshaller(), null);
     }
     
     /**
@@ -4303,11 +4595,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateUserProfileResult> createUserProfileAsync(final CreateUserProfileRequest createUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserProfileResult>() {
-            public CreateUserProfileResult call() throws Exception {
-                return createUserProfile(createUserProfileRequest);
-        }
-    });
+        return createUserProfileComposableAsync(createUserProfileRequest);
     }
 
     /**
@@ -4345,19 +4633,30 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateUserProfileRequest createUserProfileRequest,
             final AsyncHandler<CreateUserProfileRequest, CreateUserProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserProfileResult>() {
+        return withAsyncHandler(createUserProfileComposableAsync(createUserProfileRequest),
+                createUserProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateUserProfile operation like
+     * {@link #createUserProfileAsync(CreateUserProfileRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createUserProfileRequest Container for the necessary parameters
+     *           to execute the CreateUserProfile operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         CreateUserProfile service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<CreateUserProfileResult> createUserProfileComposableAsync(final CreateUserProfileRequest createUserProfileRequest) {
+        return executeAsync(executorService, new Callable<CreateUserProfileResult>() {
             public CreateUserProfileResult call() throws Exception {
-              CreateUserProfileResult result;
-                try {
-                result = createUserProfile(createUserProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createUserProfileRequest, result);
-                 return result;
-        }
-    });
+                return createUserProfile(createUserProfileRequest);
+            }
+        }, createUserProfileRequest,
+                new CreateUserProfileRequestMarshaller(), new CreateUserProfileResultJsonUnmarshaller());
     }
     
     /**
@@ -4393,11 +4692,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeLayersResult> describeLayersAsync(final DescribeLayersRequest describeLayersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLayersResult>() {
-            public DescribeLayersResult call() throws Exception {
-                return describeLayers(describeLayersRequest);
-        }
-    });
+        return describeLayersComposableAsync(describeLayersRequest);
     }
 
     /**
@@ -4439,19 +4734,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeLayersRequest describeLayersRequest,
             final AsyncHandler<DescribeLayersRequest, DescribeLayersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLayersResult>() {
+        return withAsyncHandler(describeLayersComposableAsync(describeLayersRequest),
+                describeLayersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLayers operation like
+     * {@link #describeLayersAsync(DescribeLayersRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeLayersRequest Container for the necessary parameters to
+     *           execute the DescribeLayers operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DescribeLayers
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeLayersResult> describeLayersComposableAsync(final DescribeLayersRequest describeLayersRequest) {
+        return executeAsync(executorService, new Callable<DescribeLayersResult>() {
             public DescribeLayersResult call() throws Exception {
-              DescribeLayersResult result;
-                try {
-                result = describeLayers(describeLayersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLayersRequest, result);
-                 return result;
-        }
-    });
+                return describeLayers(describeLayersRequest);
+            }
+        }, describeLayersRequest,
+                new DescribeLayersRequestMarshaller(), new DescribeLayersResultJsonUnmarshaller());
     }
     
     /**
@@ -4490,11 +4794,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeLoadBasedAutoScalingResult> describeLoadBasedAutoScalingAsync(final DescribeLoadBasedAutoScalingRequest describeLoadBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
-            public DescribeLoadBasedAutoScalingResult call() throws Exception {
-                return describeLoadBasedAutoScaling(describeLoadBasedAutoScalingRequest);
-        }
-    });
+        return describeLoadBasedAutoScalingComposableAsync(describeLoadBasedAutoScalingRequest);
     }
 
     /**
@@ -4539,19 +4839,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeLoadBasedAutoScalingRequest describeLoadBasedAutoScalingRequest,
             final AsyncHandler<DescribeLoadBasedAutoScalingRequest, DescribeLoadBasedAutoScalingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBasedAutoScalingResult>() {
+        return withAsyncHandler(describeLoadBasedAutoScalingComposableAsync(describeLoadBasedAutoScalingRequest),
+                describeLoadBasedAutoScalingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoadBasedAutoScaling operation
+     * like
+     * {@link #describeLoadBasedAutoScalingAsync(DescribeLoadBasedAutoScalingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoadBasedAutoScalingRequest Container for the necessary
+     *           parameters to execute the DescribeLoadBasedAutoScaling operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoadBasedAutoScaling service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeLoadBasedAutoScalingResult> describeLoadBasedAutoScalingComposableAsync(final DescribeLoadBasedAutoScalingRequest describeLoadBasedAutoScalingRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoadBasedAutoScalingResult>() {
             public DescribeLoadBasedAutoScalingResult call() throws Exception {
-              DescribeLoadBasedAutoScalingResult result;
-                try {
-                result = describeLoadBasedAutoScaling(describeLoadBasedAutoScalingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoadBasedAutoScalingRequest, result);
-                 return result;
-        }
-    });
+                return describeLoadBasedAutoScaling(describeLoadBasedAutoScalingRequest);
+            }
+        }, describeLoadBasedAutoScalingRequest,
+                new DescribeLoadBasedAutoScalingRequestMarshaller(), new DescribeLoadBasedAutoScalingResultJsonUnmarshaller());
     }
     
     /**
@@ -4589,11 +4902,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeElasticLoadBalancersResult> describeElasticLoadBalancersAsync(final DescribeElasticLoadBalancersRequest describeElasticLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticLoadBalancersResult>() {
-            public DescribeElasticLoadBalancersResult call() throws Exception {
-                return describeElasticLoadBalancers(describeElasticLoadBalancersRequest);
-        }
-    });
+        return describeElasticLoadBalancersComposableAsync(describeElasticLoadBalancersRequest);
     }
 
     /**
@@ -4637,19 +4946,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeElasticLoadBalancersRequest describeElasticLoadBalancersRequest,
             final AsyncHandler<DescribeElasticLoadBalancersRequest, DescribeElasticLoadBalancersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticLoadBalancersResult>() {
+        return withAsyncHandler(describeElasticLoadBalancersComposableAsync(describeElasticLoadBalancersRequest),
+                describeElasticLoadBalancersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeElasticLoadBalancers operation
+     * like
+     * {@link #describeElasticLoadBalancersAsync(DescribeElasticLoadBalancersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeElasticLoadBalancersRequest Container for the necessary
+     *           parameters to execute the DescribeElasticLoadBalancers operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeElasticLoadBalancers service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeElasticLoadBalancersResult> describeElasticLoadBalancersComposableAsync(final DescribeElasticLoadBalancersRequest describeElasticLoadBalancersRequest) {
+        return executeAsync(executorService, new Callable<DescribeElasticLoadBalancersResult>() {
             public DescribeElasticLoadBalancersResult call() throws Exception {
-              DescribeElasticLoadBalancersResult result;
-                try {
-                result = describeElasticLoadBalancers(describeElasticLoadBalancersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeElasticLoadBalancersRequest, result);
-                 return result;
-        }
-    });
+                return describeElasticLoadBalancers(describeElasticLoadBalancersRequest);
+            }
+        }, describeElasticLoadBalancersRequest,
+                new DescribeElasticLoadBalancersRequestMarshaller(), new DescribeElasticLoadBalancersResultJsonUnmarshaller());
     }
     
     /**
@@ -4683,12 +5005,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> assignInstanceAsync(final AssignInstanceRequest assignInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignInstance(assignInstanceRequest);
-                return null;
-        }
-    });
+        return assignInstanceComposableAsync(assignInstanceRequest);
     }
 
     /**
@@ -4728,18 +5045,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final AssignInstanceRequest assignInstanceRequest,
             final AsyncHandler<AssignInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(assignInstanceComposableAsync(assignInstanceRequest),
+                assignInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssignInstance operation like
+     * {@link #assignInstanceAsync(AssignInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param assignInstanceRequest Container for the necessary parameters to
+     *           execute the AssignInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the AssignInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> assignInstanceComposableAsync(final AssignInstanceRequest assignInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 assignInstance(assignInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, assignInstanceRequest,
+                new AssignInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -4775,12 +5103,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deregisterInstanceAsync(final DeregisterInstanceRequest deregisterInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterInstance(deregisterInstanceRequest);
-                return null;
-        }
-    });
+        return deregisterInstanceComposableAsync(deregisterInstanceRequest);
     }
 
     /**
@@ -4822,18 +5145,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeregisterInstanceRequest deregisterInstanceRequest,
             final AsyncHandler<DeregisterInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deregisterInstanceComposableAsync(deregisterInstanceRequest),
+                deregisterInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeregisterInstance operation like
+     * {@link #deregisterInstanceAsync(DeregisterInstanceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deregisterInstanceRequest Container for the necessary
+     *           parameters to execute the DeregisterInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DeregisterInstance service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deregisterInstanceComposableAsync(final DeregisterInstanceRequest deregisterInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deregisterInstance(deregisterInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deregisterInstanceRequest,
+                new DeregisterInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -4870,12 +5206,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteLayerAsync(final DeleteLayerRequest deleteLayerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLayer(deleteLayerRequest);
-                return null;
-        }
-    });
+        return deleteLayerComposableAsync(deleteLayerRequest);
     }
 
     /**
@@ -4918,18 +5249,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteLayerRequest deleteLayerRequest,
             final AsyncHandler<DeleteLayerRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteLayerComposableAsync(deleteLayerRequest),
+                deleteLayerRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteLayer operation like
+     * {@link #deleteLayerAsync(DeleteLayerRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteLayerRequest Container for the necessary parameters to
+     *           execute the DeleteLayer operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DeleteLayer
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deleteLayerComposableAsync(final DeleteLayerRequest deleteLayerRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteLayer(deleteLayerRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteLayerRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteLayerRequest,
+                new DeleteLayerRequestMarshaller(), null);
     }
     
     /**
@@ -4966,12 +5308,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> setTimeBasedAutoScalingAsync(final SetTimeBasedAutoScalingRequest setTimeBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTimeBasedAutoScaling(setTimeBasedAutoScalingRequest);
-                return null;
-        }
-    });
+        return setTimeBasedAutoScalingComposableAsync(setTimeBasedAutoScalingRequest);
     }
 
     /**
@@ -5014,18 +5351,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final SetTimeBasedAutoScalingRequest setTimeBasedAutoScalingRequest,
             final AsyncHandler<SetTimeBasedAutoScalingRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setTimeBasedAutoScalingComposableAsync(setTimeBasedAutoScalingRequest),
+                setTimeBasedAutoScalingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetTimeBasedAutoScaling operation like
+     * {@link #setTimeBasedAutoScalingAsync(SetTimeBasedAutoScalingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setTimeBasedAutoScalingRequest Container for the necessary
+     *           parameters to execute the SetTimeBasedAutoScaling operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         SetTimeBasedAutoScaling service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> setTimeBasedAutoScalingComposableAsync(final SetTimeBasedAutoScalingRequest setTimeBasedAutoScalingRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setTimeBasedAutoScaling(setTimeBasedAutoScalingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setTimeBasedAutoScalingRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setTimeBasedAutoScalingRequest,
+                new SetTimeBasedAutoScalingRequestMarshaller(), null);
     }
     
     /**
@@ -5058,11 +5409,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeMyUserProfileResult> describeMyUserProfileAsync(final DescribeMyUserProfileRequest describeMyUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMyUserProfileResult>() {
-            public DescribeMyUserProfileResult call() throws Exception {
-                return describeMyUserProfile(describeMyUserProfileRequest);
-        }
-    });
+        return describeMyUserProfileComposableAsync(describeMyUserProfileRequest);
     }
 
     /**
@@ -5101,19 +5448,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeMyUserProfileRequest describeMyUserProfileRequest,
             final AsyncHandler<DescribeMyUserProfileRequest, DescribeMyUserProfileResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMyUserProfileResult>() {
+        return withAsyncHandler(describeMyUserProfileComposableAsync(describeMyUserProfileRequest),
+                describeMyUserProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeMyUserProfile operation like
+     * {@link #describeMyUserProfileAsync(DescribeMyUserProfileRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeMyUserProfileRequest Container for the necessary
+     *           parameters to execute the DescribeMyUserProfile operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeMyUserProfile service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeMyUserProfileResult> describeMyUserProfileComposableAsync(final DescribeMyUserProfileRequest describeMyUserProfileRequest) {
+        return executeAsync(executorService, new Callable<DescribeMyUserProfileResult>() {
             public DescribeMyUserProfileResult call() throws Exception {
-              DescribeMyUserProfileResult result;
-                try {
-                result = describeMyUserProfile(describeMyUserProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMyUserProfileRequest, result);
-                 return result;
-        }
-    });
+                return describeMyUserProfile(describeMyUserProfileRequest);
+            }
+        }, describeMyUserProfileRequest,
+                new DescribeMyUserProfileRequestMarshaller(), new DescribeMyUserProfileResultJsonUnmarshaller());
     }
     
     /**
@@ -5148,11 +5507,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateAppResult> createAppAsync(final CreateAppRequest createAppRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppResult>() {
-            public CreateAppResult call() throws Exception {
-                return createApp(createAppRequest);
-        }
-    });
+        return createAppComposableAsync(createAppRequest);
     }
 
     /**
@@ -5193,19 +5548,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateAppRequest createAppRequest,
             final AsyncHandler<CreateAppRequest, CreateAppResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppResult>() {
+        return withAsyncHandler(createAppComposableAsync(createAppRequest),
+                createAppRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateApp operation like
+     * {@link #createAppAsync(CreateAppRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createAppRequest Container for the necessary parameters to
+     *           execute the CreateApp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the CreateApp
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CreateAppResult> createAppComposableAsync(final CreateAppRequest createAppRequest) {
+        return executeAsync(executorService, new Callable<CreateAppResult>() {
             public CreateAppResult call() throws Exception {
-              CreateAppResult result;
-                try {
-                result = createApp(createAppRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAppRequest, result);
-                 return result;
-        }
-    });
+                return createApp(createAppRequest);
+            }
+        }, createAppRequest,
+                new CreateAppRequestMarshaller(), new CreateAppResultJsonUnmarshaller());
     }
     
     /**
@@ -5241,12 +5605,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateVolumeAsync(final UpdateVolumeRequest updateVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateVolume(updateVolumeRequest);
-                return null;
-        }
-    });
+        return updateVolumeComposableAsync(updateVolumeRequest);
     }
 
     /**
@@ -5288,18 +5647,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateVolumeRequest updateVolumeRequest,
             final AsyncHandler<UpdateVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateVolumeComposableAsync(updateVolumeRequest),
+                updateVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateVolume operation like
+     * {@link #updateVolumeAsync(UpdateVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param updateVolumeRequest Container for the necessary parameters to
+     *           execute the UpdateVolume operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UpdateVolume
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateVolumeComposableAsync(final UpdateVolumeRequest updateVolumeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateVolume(updateVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateVolumeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateVolumeRequest,
+                new UpdateVolumeRequestMarshaller(), null);
     }
     
     /**
@@ -5338,11 +5708,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeTimeBasedAutoScalingResult> describeTimeBasedAutoScalingAsync(final DescribeTimeBasedAutoScalingRequest describeTimeBasedAutoScalingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
-            public DescribeTimeBasedAutoScalingResult call() throws Exception {
-                return describeTimeBasedAutoScaling(describeTimeBasedAutoScalingRequest);
-        }
-    });
+        return describeTimeBasedAutoScalingComposableAsync(describeTimeBasedAutoScalingRequest);
     }
 
     /**
@@ -5387,19 +5753,32 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeTimeBasedAutoScalingRequest describeTimeBasedAutoScalingRequest,
             final AsyncHandler<DescribeTimeBasedAutoScalingRequest, DescribeTimeBasedAutoScalingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeBasedAutoScalingResult>() {
+        return withAsyncHandler(describeTimeBasedAutoScalingComposableAsync(describeTimeBasedAutoScalingRequest),
+                describeTimeBasedAutoScalingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTimeBasedAutoScaling operation
+     * like
+     * {@link #describeTimeBasedAutoScalingAsync(DescribeTimeBasedAutoScalingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTimeBasedAutoScalingRequest Container for the necessary
+     *           parameters to execute the DescribeTimeBasedAutoScaling operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTimeBasedAutoScaling service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeTimeBasedAutoScalingResult> describeTimeBasedAutoScalingComposableAsync(final DescribeTimeBasedAutoScalingRequest describeTimeBasedAutoScalingRequest) {
+        return executeAsync(executorService, new Callable<DescribeTimeBasedAutoScalingResult>() {
             public DescribeTimeBasedAutoScalingResult call() throws Exception {
-              DescribeTimeBasedAutoScalingResult result;
-                try {
-                result = describeTimeBasedAutoScaling(describeTimeBasedAutoScalingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTimeBasedAutoScalingRequest, result);
-                 return result;
-        }
-    });
+                return describeTimeBasedAutoScaling(describeTimeBasedAutoScalingRequest);
+            }
+        }, describeTimeBasedAutoScalingRequest,
+                new DescribeTimeBasedAutoScalingRequestMarshaller(), new DescribeTimeBasedAutoScalingResultJsonUnmarshaller());
     }
     
     /**
@@ -5431,12 +5810,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> deleteUserProfileAsync(final DeleteUserProfileRequest deleteUserProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUserProfile(deleteUserProfileRequest);
-                return null;
-        }
-    });
+        return deleteUserProfileComposableAsync(deleteUserProfileRequest);
     }
 
     /**
@@ -5474,18 +5848,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DeleteUserProfileRequest deleteUserProfileRequest,
             final AsyncHandler<DeleteUserProfileRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteUserProfileComposableAsync(deleteUserProfileRequest),
+                deleteUserProfileRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteUserProfile operation like
+     * {@link #deleteUserProfileAsync(DeleteUserProfileRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteUserProfileRequest Container for the necessary parameters
+     *           to execute the DeleteUserProfile operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DeleteUserProfile service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<Void> deleteUserProfileComposableAsync(final DeleteUserProfileRequest deleteUserProfileRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteUserProfile(deleteUserProfileRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteUserProfileRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteUserProfileRequest,
+                new DeleteUserProfileRequestMarshaller(), null);
     }
     
     /**
@@ -5518,11 +5905,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeUserProfilesResult> describeUserProfilesAsync(final DescribeUserProfilesRequest describeUserProfilesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserProfilesResult>() {
-            public DescribeUserProfilesResult call() throws Exception {
-                return describeUserProfiles(describeUserProfilesRequest);
-        }
-    });
+        return describeUserProfilesComposableAsync(describeUserProfilesRequest);
     }
 
     /**
@@ -5561,19 +5944,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeUserProfilesRequest describeUserProfilesRequest,
             final AsyncHandler<DescribeUserProfilesRequest, DescribeUserProfilesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserProfilesResult>() {
+        return withAsyncHandler(describeUserProfilesComposableAsync(describeUserProfilesRequest),
+                describeUserProfilesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeUserProfiles operation like
+     * {@link #describeUserProfilesAsync(DescribeUserProfilesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeUserProfilesRequest Container for the necessary
+     *           parameters to execute the DescribeUserProfiles operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeUserProfiles service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeUserProfilesResult> describeUserProfilesComposableAsync(final DescribeUserProfilesRequest describeUserProfilesRequest) {
+        return executeAsync(executorService, new Callable<DescribeUserProfilesResult>() {
             public DescribeUserProfilesResult call() throws Exception {
-              DescribeUserProfilesResult result;
-                try {
-                result = describeUserProfiles(describeUserProfilesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeUserProfilesRequest, result);
-                 return result;
-        }
-    });
+                return describeUserProfiles(describeUserProfilesRequest);
+            }
+        }, describeUserProfilesRequest,
+                new DescribeUserProfilesRequestMarshaller(), new DescribeUserProfilesResultJsonUnmarshaller());
     }
     
     /**
@@ -5606,12 +6001,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> updateInstanceAsync(final UpdateInstanceRequest updateInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateInstance(updateInstanceRequest);
-                return null;
-        }
-    });
+        return updateInstanceComposableAsync(updateInstanceRequest);
     }
 
     /**
@@ -5650,18 +6040,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final UpdateInstanceRequest updateInstanceRequest,
             final AsyncHandler<UpdateInstanceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(updateInstanceComposableAsync(updateInstanceRequest),
+                updateInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateInstance operation like
+     * {@link #updateInstanceAsync(UpdateInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param updateInstanceRequest Container for the necessary parameters to
+     *           execute the UpdateInstance operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the UpdateInstance
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> updateInstanceComposableAsync(final UpdateInstanceRequest updateInstanceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 updateInstance(updateInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateInstanceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, updateInstanceRequest,
+                new UpdateInstanceRequestMarshaller(), null);
     }
     
     /**
@@ -5698,11 +6099,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeDeploymentsResult> describeDeploymentsAsync(final DescribeDeploymentsRequest describeDeploymentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeploymentsResult>() {
-            public DescribeDeploymentsResult call() throws Exception {
-                return describeDeployments(describeDeploymentsRequest);
-        }
-    });
+        return describeDeploymentsComposableAsync(describeDeploymentsRequest);
     }
 
     /**
@@ -5745,19 +6142,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeDeploymentsRequest describeDeploymentsRequest,
             final AsyncHandler<DescribeDeploymentsRequest, DescribeDeploymentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDeploymentsResult>() {
+        return withAsyncHandler(describeDeploymentsComposableAsync(describeDeploymentsRequest),
+                describeDeploymentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDeployments operation like
+     * {@link #describeDeploymentsAsync(DescribeDeploymentsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDeploymentsRequest Container for the necessary
+     *           parameters to execute the DescribeDeployments operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDeployments service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeDeploymentsResult> describeDeploymentsComposableAsync(final DescribeDeploymentsRequest describeDeploymentsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDeploymentsResult>() {
             public DescribeDeploymentsResult call() throws Exception {
-              DescribeDeploymentsResult result;
-                try {
-                result = describeDeployments(describeDeploymentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDeploymentsRequest, result);
-                 return result;
-        }
-    });
+                return describeDeployments(describeDeploymentsRequest);
+            }
+        }, describeDeploymentsRequest,
+                new DescribeDeploymentsRequestMarshaller(), new DescribeDeploymentsResultJsonUnmarshaller());
     }
     
     /**
@@ -5795,11 +6204,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<RegisterElasticIpResult> registerElasticIpAsync(final RegisterElasticIpRequest registerElasticIpRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterElasticIpResult>() {
-            public RegisterElasticIpResult call() throws Exception {
-                return registerElasticIp(registerElasticIpRequest);
-        }
-    });
+        return registerElasticIpComposableAsync(registerElasticIpRequest);
     }
 
     /**
@@ -5843,19 +6248,30 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final RegisterElasticIpRequest registerElasticIpRequest,
             final AsyncHandler<RegisterElasticIpRequest, RegisterElasticIpResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterElasticIpResult>() {
+        return withAsyncHandler(registerElasticIpComposableAsync(registerElasticIpRequest),
+                registerElasticIpRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterElasticIp operation like
+     * {@link #registerElasticIpAsync(RegisterElasticIpRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param registerElasticIpRequest Container for the necessary parameters
+     *           to execute the RegisterElasticIp operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         RegisterElasticIp service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<RegisterElasticIpResult> registerElasticIpComposableAsync(final RegisterElasticIpRequest registerElasticIpRequest) {
+        return executeAsync(executorService, new Callable<RegisterElasticIpResult>() {
             public RegisterElasticIpResult call() throws Exception {
-              RegisterElasticIpResult result;
-                try {
-                result = registerElasticIp(registerElasticIpRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerElasticIpRequest, result);
-                 return result;
-        }
-    });
+                return registerElasticIp(registerElasticIpRequest);
+            }
+        }, registerElasticIpRequest,
+                new RegisterElasticIpRequestMarshaller(), new RegisterElasticIpResultJsonUnmarshaller());
     }
     
     /**
@@ -5893,11 +6309,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeElasticIpsResult> describeElasticIpsAsync(final DescribeElasticIpsRequest describeElasticIpsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticIpsResult>() {
-            public DescribeElasticIpsResult call() throws Exception {
-                return describeElasticIps(describeElasticIpsRequest);
-        }
-    });
+        return describeElasticIpsComposableAsync(describeElasticIpsRequest);
     }
 
     /**
@@ -5941,19 +6353,30 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeElasticIpsRequest describeElasticIpsRequest,
             final AsyncHandler<DescribeElasticIpsRequest, DescribeElasticIpsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeElasticIpsResult>() {
+        return withAsyncHandler(describeElasticIpsComposableAsync(describeElasticIpsRequest),
+                describeElasticIpsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeElasticIps operation like
+     * {@link #describeElasticIpsAsync(DescribeElasticIpsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeElasticIpsRequest Container for the necessary
+     *           parameters to execute the DescribeElasticIps operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeElasticIps service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeElasticIpsResult> describeElasticIpsComposableAsync(final DescribeElasticIpsRequest describeElasticIpsRequest) {
+        return executeAsync(executorService, new Callable<DescribeElasticIpsResult>() {
             public DescribeElasticIpsResult call() throws Exception {
-              DescribeElasticIpsResult result;
-                try {
-                result = describeElasticIps(describeElasticIpsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeElasticIpsRequest, result);
-                 return result;
-        }
-    });
+                return describeElasticIps(describeElasticIpsRequest);
+            }
+        }, describeElasticIpsRequest,
+                new DescribeElasticIpsRequestMarshaller(), new DescribeElasticIpsResultJsonUnmarshaller());
     }
     
     /**
@@ -5986,11 +6409,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeStacksResult> describeStacksAsync(final DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
-            public DescribeStacksResult call() throws Exception {
-                return describeStacks(describeStacksRequest);
-        }
-    });
+        return describeStacksComposableAsync(describeStacksRequest);
     }
 
     /**
@@ -6029,19 +6448,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeStacksRequest describeStacksRequest,
             final AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
+        return withAsyncHandler(describeStacksComposableAsync(describeStacksRequest),
+                describeStacksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStacks operation like
+     * {@link #describeStacksAsync(DescribeStacksRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeStacksRequest Container for the necessary parameters to
+     *           execute the DescribeStacks operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DescribeStacks
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeStacksResult> describeStacksComposableAsync(final DescribeStacksRequest describeStacksRequest) {
+        return executeAsync(executorService, new Callable<DescribeStacksResult>() {
             public DescribeStacksResult call() throws Exception {
-              DescribeStacksResult result;
-                try {
-                result = describeStacks(describeStacksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStacksRequest, result);
-                 return result;
-        }
-    });
+                return describeStacks(describeStacksRequest);
+            }
+        }, describeStacksRequest,
+                new DescribeStacksRequestMarshaller(), new DescribeStacksResultJsonUnmarshaller());
     }
     
     /**
@@ -6077,11 +6505,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeAppsResult> describeAppsAsync(final DescribeAppsRequest describeAppsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAppsResult>() {
-            public DescribeAppsResult call() throws Exception {
-                return describeApps(describeAppsRequest);
-        }
-    });
+        return describeAppsComposableAsync(describeAppsRequest);
     }
 
     /**
@@ -6123,19 +6547,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeAppsRequest describeAppsRequest,
             final AsyncHandler<DescribeAppsRequest, DescribeAppsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAppsResult>() {
+        return withAsyncHandler(describeAppsComposableAsync(describeAppsRequest),
+                describeAppsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeApps operation like
+     * {@link #describeAppsAsync(DescribeAppsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeAppsRequest Container for the necessary parameters to
+     *           execute the DescribeApps operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the DescribeApps
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeAppsResult> describeAppsComposableAsync(final DescribeAppsRequest describeAppsRequest) {
+        return executeAsync(executorService, new Callable<DescribeAppsResult>() {
             public DescribeAppsResult call() throws Exception {
-              DescribeAppsResult result;
-                try {
-                result = describeApps(describeAppsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAppsRequest, result);
-                 return result;
-        }
-    });
+                return describeApps(describeAppsRequest);
+            }
+        }, describeAppsRequest,
+                new DescribeAppsRequestMarshaller(), new DescribeAppsResultJsonUnmarshaller());
     }
     
     /**
@@ -6171,11 +6604,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<DescribeStackSummaryResult> describeStackSummaryAsync(final DescribeStackSummaryRequest describeStackSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackSummaryResult>() {
-            public DescribeStackSummaryResult call() throws Exception {
-                return describeStackSummary(describeStackSummaryRequest);
-        }
-    });
+        return describeStackSummaryComposableAsync(describeStackSummaryRequest);
     }
 
     /**
@@ -6217,19 +6646,31 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final DescribeStackSummaryRequest describeStackSummaryRequest,
             final AsyncHandler<DescribeStackSummaryRequest, DescribeStackSummaryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackSummaryResult>() {
+        return withAsyncHandler(describeStackSummaryComposableAsync(describeStackSummaryRequest),
+                describeStackSummaryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStackSummary operation like
+     * {@link #describeStackSummaryAsync(DescribeStackSummaryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStackSummaryRequest Container for the necessary
+     *           parameters to execute the DescribeStackSummary operation on
+     *           AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStackSummary service method, as returned by
+     *         AWSOpsWorks.
+     */
+    public ComposableFuture<DescribeStackSummaryResult> describeStackSummaryComposableAsync(final DescribeStackSummaryRequest describeStackSummaryRequest) {
+        return executeAsync(executorService, new Callable<DescribeStackSummaryResult>() {
             public DescribeStackSummaryResult call() throws Exception {
-              DescribeStackSummaryResult result;
-                try {
-                result = describeStackSummary(describeStackSummaryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStackSummaryRequest, result);
-                 return result;
-        }
-    });
+                return describeStackSummary(describeStackSummaryRequest);
+            }
+        }, describeStackSummaryRequest,
+                new DescribeStackSummaryRequestMarshaller(), new DescribeStackSummaryResultJsonUnmarshaller());
     }
     
     /**
@@ -6262,12 +6703,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<Void> stopStackAsync(final StopStackRequest stopStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                stopStack(stopStackRequest);
-                return null;
-        }
-    });
+        return stopStackComposableAsync(stopStackRequest);
     }
 
     /**
@@ -6306,18 +6742,29 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final StopStackRequest stopStackRequest,
             final AsyncHandler<StopStackRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(stopStackComposableAsync(stopStackRequest),
+                stopStackRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StopStack operation like
+     * {@link #stopStackAsync(StopStackRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param stopStackRequest Container for the necessary parameters to
+     *           execute the StopStack operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the StopStack
+     *         service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<Void> stopStackComposableAsync(final StopStackRequest stopStackRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 stopStack(stopStackRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopStackRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, stopStackRequest,
+                new StopStackRequestMarshaller(), null);
     }
     
     /**
@@ -6352,11 +6799,7 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
      */
     public Future<CreateDeploymentResult> createDeploymentAsync(final CreateDeploymentRequest createDeploymentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
-            public CreateDeploymentResult call() throws Exception {
-                return createDeployment(createDeploymentRequest);
-        }
-    });
+        return createDeploymentComposableAsync(createDeploymentRequest);
     }
 
     /**
@@ -6397,19 +6840,28 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient
             final CreateDeploymentRequest createDeploymentRequest,
             final AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDeploymentResult>() {
+        return withAsyncHandler(createDeploymentComposableAsync(createDeploymentRequest),
+                createDeploymentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDeployment operation like
+     * {@link #createDeploymentAsync(CreateDeploymentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createDeploymentRequest Container for the necessary parameters
+     *           to execute the CreateDeployment operation on AWSOpsWorks.
+     *
+     * @return A composable future for the response from the
+     *         CreateDeployment service method, as returned by AWSOpsWorks.
+     */
+    public ComposableFuture<CreateDeploymentResult> createDeploymentComposableAsync(final CreateDeploymentRequest createDeploymentRequest) {
+        return executeAsync(executorService, new Callable<CreateDeploymentResult>() {
             public CreateDeploymentResult call() throws Exception {
-              CreateDeploymentResult result;
-                try {
-                result = createDeployment(createDeploymentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDeploymentRequest, result);
-                 return result;
-        }
-    });
+                return createDeployment(createDeploymentRequest);
+            }
+        }, createDeploymentRequest,
+                new CreateDeploymentRequestMarshaller(), new CreateDeploymentResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.rds.model.*;
+import com.amazonaws.services.rds.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonRDS.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Relational Database Service <p>
  * Amazon Relational Database Service (Amazon RDS) is a web service that
  * makes it easier to set up, operate, and scale a relational database in
@@ -325,12 +329,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSubnetGroupAsync(final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBSubnetGroup(deleteDBSubnetGroupRequest);
-                return null;
-        }
-    });
+        return deleteDBSubnetGroupComposableAsync(deleteDBSubnetGroupRequest);
     }
 
     /**
@@ -365,18 +364,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest,
             final AsyncHandler<DeleteDBSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDBSubnetGroupComposableAsync(deleteDBSubnetGroupRequest),
+                deleteDBSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDBSubnetGroup operation like
+     * {@link #deleteDBSubnetGroupAsync(DeleteDBSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDBSubnetGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDBSubnetGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDBSubnetGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<Void> deleteDBSubnetGroupComposableAsync(final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDBSubnetGroup(deleteDBSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDBSubnetGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDBSubnetGroupRequest,
+                new DeleteDBSubnetGroupRequestMarshaller(), null);
     }
     
     /**
@@ -401,11 +413,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<OptionGroup> copyOptionGroupAsync(final CopyOptionGroupRequest copyOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
-            public OptionGroup call() throws Exception {
-                return copyOptionGroup(copyOptionGroupRequest);
-        }
-    });
+        return copyOptionGroupComposableAsync(copyOptionGroupRequest);
     }
 
     /**
@@ -436,19 +444,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CopyOptionGroupRequest copyOptionGroupRequest,
             final AsyncHandler<CopyOptionGroupRequest, OptionGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return withAsyncHandler(copyOptionGroupComposableAsync(copyOptionGroupRequest),
+                copyOptionGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopyOptionGroup operation like
+     * {@link #copyOptionGroupAsync(CopyOptionGroupRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param copyOptionGroupRequest Container for the necessary parameters
+     *           to execute the CopyOptionGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CopyOptionGroup service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<OptionGroup> copyOptionGroupComposableAsync(final CopyOptionGroupRequest copyOptionGroupRequest) {
+        return executeAsync(executorService, new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
-              OptionGroup result;
-                try {
-                result = copyOptionGroup(copyOptionGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyOptionGroupRequest, result);
-                 return result;
-        }
-    });
+                return copyOptionGroup(copyOptionGroupRequest);
+            }
+        }, copyOptionGroupRequest,
+                new CopyOptionGroupRequestMarshaller(), new OptionGroupStaxUnmarshaller());
     }
     
     /**
@@ -480,11 +497,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceToPointInTimeAsync(final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
-        }
-    });
+        return restoreDBInstanceToPointInTimeComposableAsync(restoreDBInstanceToPointInTimeRequest);
     }
 
     /**
@@ -522,19 +535,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest,
             final AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(restoreDBInstanceToPointInTimeComposableAsync(restoreDBInstanceToPointInTimeRequest),
+                restoreDBInstanceToPointInTimeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RestoreDBInstanceToPointInTime operation
+     * like
+     * {@link #restoreDBInstanceToPointInTimeAsync(RestoreDBInstanceToPointInTimeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param restoreDBInstanceToPointInTimeRequest Container for the
+     *           necessary parameters to execute the RestoreDBInstanceToPointInTime
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RestoreDBInstanceToPointInTime service method, as returned
+     *         by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> restoreDBInstanceToPointInTimeComposableAsync(final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreDBInstanceToPointInTimeRequest, result);
-                 return result;
-        }
-    });
+                return restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
+            }
+        }, restoreDBInstanceToPointInTimeRequest,
+                new RestoreDBInstanceToPointInTimeRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -560,11 +586,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> copyDBSnapshotAsync(final CopyDBSnapshotRequest copyDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return copyDBSnapshot(copyDBSnapshotRequest);
-        }
-    });
+        return copyDBSnapshotComposableAsync(copyDBSnapshotRequest);
     }
 
     /**
@@ -596,19 +618,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CopyDBSnapshotRequest copyDBSnapshotRequest,
             final AsyncHandler<CopyDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return withAsyncHandler(copyDBSnapshotComposableAsync(copyDBSnapshotRequest),
+                copyDBSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopyDBSnapshot operation like
+     * {@link #copyDBSnapshotAsync(CopyDBSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param copyDBSnapshotRequest Container for the necessary parameters to
+     *           execute the CopyDBSnapshot operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the CopyDBSnapshot
+     *         service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBSnapshot> copyDBSnapshotComposableAsync(final CopyDBSnapshotRequest copyDBSnapshotRequest) {
+        return executeAsync(executorService, new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
-              DBSnapshot result;
-                try {
-                result = copyDBSnapshot(copyDBSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyDBSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return copyDBSnapshot(copyDBSnapshotRequest);
+            }
+        }, copyDBSnapshotRequest,
+                new CopyDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller());
     }
     
     /**
@@ -636,11 +667,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribePendingMaintenanceActionsResult> describePendingMaintenanceActionsAsync(final DescribePendingMaintenanceActionsRequest describePendingMaintenanceActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePendingMaintenanceActionsResult>() {
-            public DescribePendingMaintenanceActionsResult call() throws Exception {
-                return describePendingMaintenanceActions(describePendingMaintenanceActionsRequest);
-        }
-    });
+        return describePendingMaintenanceActionsComposableAsync(describePendingMaintenanceActionsRequest);
     }
 
     /**
@@ -674,19 +701,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribePendingMaintenanceActionsRequest describePendingMaintenanceActionsRequest,
             final AsyncHandler<DescribePendingMaintenanceActionsRequest, DescribePendingMaintenanceActionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePendingMaintenanceActionsResult>() {
+        return withAsyncHandler(describePendingMaintenanceActionsComposableAsync(describePendingMaintenanceActionsRequest),
+                describePendingMaintenanceActionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribePendingMaintenanceActions
+     * operation like
+     * {@link #describePendingMaintenanceActionsAsync(DescribePendingMaintenanceActionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describePendingMaintenanceActionsRequest Container for the
+     *           necessary parameters to execute the DescribePendingMaintenanceActions
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribePendingMaintenanceActions service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<DescribePendingMaintenanceActionsResult> describePendingMaintenanceActionsComposableAsync(final DescribePendingMaintenanceActionsRequest describePendingMaintenanceActionsRequest) {
+        return executeAsync(executorService, new Callable<DescribePendingMaintenanceActionsResult>() {
             public DescribePendingMaintenanceActionsResult call() throws Exception {
-              DescribePendingMaintenanceActionsResult result;
-                try {
-                result = describePendingMaintenanceActions(describePendingMaintenanceActionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePendingMaintenanceActionsRequest, result);
-                 return result;
-        }
-    });
+                return describePendingMaintenanceActions(describePendingMaintenanceActionsRequest);
+            }
+        }, describePendingMaintenanceActionsRequest,
+                new DescribePendingMaintenanceActionsRequestMarshaller(), new DescribePendingMaintenanceActionsResultStaxUnmarshaller());
     }
     
     /**
@@ -711,11 +751,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceAsync(final CreateDBInstanceRequest createDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return createDBInstance(createDBInstanceRequest);
-        }
-    });
+        return createDBInstanceComposableAsync(createDBInstanceRequest);
     }
 
     /**
@@ -746,19 +782,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBInstanceRequest createDBInstanceRequest,
             final AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(createDBInstanceComposableAsync(createDBInstanceRequest),
+                createDBInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBInstance operation like
+     * {@link #createDBInstanceAsync(CreateDBInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createDBInstanceRequest Container for the necessary parameters
+     *           to execute the CreateDBInstance operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBInstance service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> createDBInstanceComposableAsync(final CreateDBInstanceRequest createDBInstanceRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = createDBInstance(createDBInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBInstanceRequest, result);
-                 return result;
-        }
-    });
+                return createDBInstance(createDBInstanceRequest);
+            }
+        }, createDBInstanceRequest,
+                new CreateDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -785,11 +830,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> createDBSecurityGroupAsync(final CreateDBSecurityGroupRequest createDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return createDBSecurityGroup(createDBSecurityGroupRequest);
-        }
-    });
+        return createDBSecurityGroupComposableAsync(createDBSecurityGroupRequest);
     }
 
     /**
@@ -822,19 +863,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSecurityGroupRequest createDBSecurityGroupRequest,
             final AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return withAsyncHandler(createDBSecurityGroupComposableAsync(createDBSecurityGroupRequest),
+                createDBSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBSecurityGroup operation like
+     * {@link #createDBSecurityGroupAsync(CreateDBSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDBSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateDBSecurityGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBSecurityGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBSecurityGroup> createDBSecurityGroupComposableAsync(final CreateDBSecurityGroupRequest createDBSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
-              DBSecurityGroup result;
-                try {
-                result = createDBSecurityGroup(createDBSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+                return createDBSecurityGroup(createDBSecurityGroupRequest);
+            }
+        }, createDBSecurityGroupRequest,
+                new CreateDBSecurityGroupRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -859,11 +912,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOptionGroupsResult> describeOptionGroupsAsync(final DescribeOptionGroupsRequest describeOptionGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupsResult>() {
-            public DescribeOptionGroupsResult call() throws Exception {
-                return describeOptionGroups(describeOptionGroupsRequest);
-        }
-    });
+        return describeOptionGroupsComposableAsync(describeOptionGroupsRequest);
     }
 
     /**
@@ -894,19 +943,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOptionGroupsRequest describeOptionGroupsRequest,
             final AsyncHandler<DescribeOptionGroupsRequest, DescribeOptionGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupsResult>() {
+        return withAsyncHandler(describeOptionGroupsComposableAsync(describeOptionGroupsRequest),
+                describeOptionGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeOptionGroups operation like
+     * {@link #describeOptionGroupsAsync(DescribeOptionGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeOptionGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeOptionGroups operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeOptionGroups service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeOptionGroupsResult> describeOptionGroupsComposableAsync(final DescribeOptionGroupsRequest describeOptionGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeOptionGroupsResult>() {
             public DescribeOptionGroupsResult call() throws Exception {
-              DescribeOptionGroupsResult result;
-                try {
-                result = describeOptionGroups(describeOptionGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeOptionGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeOptionGroups(describeOptionGroupsRequest);
+            }
+        }, describeOptionGroupsRequest,
+                new DescribeOptionGroupsRequestMarshaller(), new DescribeOptionGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -932,11 +992,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBInstancesResult> describeDBInstancesAsync(final DescribeDBInstancesRequest describeDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
-            public DescribeDBInstancesResult call() throws Exception {
-                return describeDBInstances(describeDBInstancesRequest);
-        }
-    });
+        return describeDBInstancesComposableAsync(describeDBInstancesRequest);
     }
 
     /**
@@ -968,19 +1024,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBInstancesRequest describeDBInstancesRequest,
             final AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
+        return withAsyncHandler(describeDBInstancesComposableAsync(describeDBInstancesRequest),
+                describeDBInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBInstances operation like
+     * {@link #describeDBInstancesAsync(DescribeDBInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeDBInstances operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBInstances service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBInstancesResult> describeDBInstancesComposableAsync(final DescribeDBInstancesRequest describeDBInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBInstancesResult>() {
             public DescribeDBInstancesResult call() throws Exception {
-              DescribeDBInstancesResult result;
-                try {
-                result = describeDBInstances(describeDBInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeDBInstances(describeDBInstancesRequest);
+            }
+        }, describeDBInstancesRequest,
+                new DescribeDBInstancesRequestMarshaller(), new DescribeDBInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -1008,11 +1075,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> removeSourceIdentifierFromSubscriptionAsync(final RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return removeSourceIdentifierFromSubscription(removeSourceIdentifierFromSubscriptionRequest);
-        }
-    });
+        return removeSourceIdentifierFromSubscriptionComposableAsync(removeSourceIdentifierFromSubscriptionRequest);
     }
 
     /**
@@ -1046,19 +1109,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest,
             final AsyncHandler<RemoveSourceIdentifierFromSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(removeSourceIdentifierFromSubscriptionComposableAsync(removeSourceIdentifierFromSubscriptionRequest),
+                removeSourceIdentifierFromSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveSourceIdentifierFromSubscription
+     * operation like
+     * {@link #removeSourceIdentifierFromSubscriptionAsync(RemoveSourceIdentifierFromSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeSourceIdentifierFromSubscriptionRequest Container for the
+     *           necessary parameters to execute the
+     *           RemoveSourceIdentifierFromSubscription operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RemoveSourceIdentifierFromSubscription service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<EventSubscription> removeSourceIdentifierFromSubscriptionComposableAsync(final RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = removeSourceIdentifierFromSubscription(removeSourceIdentifierFromSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeSourceIdentifierFromSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return removeSourceIdentifierFromSubscription(removeSourceIdentifierFromSubscriptionRequest);
+            }
+        }, removeSourceIdentifierFromSubscriptionRequest,
+                new RemoveSourceIdentifierFromSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -1088,12 +1164,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSecurityGroupAsync(final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
-                return null;
-        }
-    });
+        return deleteDBSecurityGroupComposableAsync(deleteDBSecurityGroupRequest);
     }
 
     /**
@@ -1129,18 +1200,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest,
             final AsyncHandler<DeleteDBSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDBSecurityGroupComposableAsync(deleteDBSecurityGroupRequest),
+                deleteDBSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDBSecurityGroup operation like
+     * {@link #deleteDBSecurityGroupAsync(DeleteDBSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDBSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDBSecurityGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDBSecurityGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<Void> deleteDBSecurityGroupComposableAsync(final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDBSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDBSecurityGroupRequest,
+                new DeleteDBSecurityGroupRequestMarshaller(), null);
     }
     
     /**
@@ -1185,11 +1270,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> authorizeDBSecurityGroupIngressAsync(final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
-        }
-    });
+        return authorizeDBSecurityGroupIngressComposableAsync(authorizeDBSecurityGroupIngressRequest);
     }
 
     /**
@@ -1240,19 +1321,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return withAsyncHandler(authorizeDBSecurityGroupIngressComposableAsync(authorizeDBSecurityGroupIngressRequest),
+                authorizeDBSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeDBSecurityGroupIngress
+     * operation like
+     * {@link #authorizeDBSecurityGroupIngressAsync(AuthorizeDBSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeDBSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the AuthorizeDBSecurityGroupIngress
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeDBSecurityGroupIngress service method, as returned
+     *         by AmazonRDS.
+     */
+    public ComposableFuture<DBSecurityGroup> authorizeDBSecurityGroupIngressComposableAsync(final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
-              DBSecurityGroup result;
-                try {
-                result = authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeDBSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
+            }
+        }, authorizeDBSecurityGroupIngressRequest,
+                new AuthorizeDBSecurityGroupIngressRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -1279,11 +1373,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ResourcePendingMaintenanceActions> applyPendingMaintenanceActionAsync(final ApplyPendingMaintenanceActionRequest applyPendingMaintenanceActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResourcePendingMaintenanceActions>() {
-            public ResourcePendingMaintenanceActions call() throws Exception {
-                return applyPendingMaintenanceAction(applyPendingMaintenanceActionRequest);
-        }
-    });
+        return applyPendingMaintenanceActionComposableAsync(applyPendingMaintenanceActionRequest);
     }
 
     /**
@@ -1316,19 +1406,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ApplyPendingMaintenanceActionRequest applyPendingMaintenanceActionRequest,
             final AsyncHandler<ApplyPendingMaintenanceActionRequest, ResourcePendingMaintenanceActions> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResourcePendingMaintenanceActions>() {
+        return withAsyncHandler(applyPendingMaintenanceActionComposableAsync(applyPendingMaintenanceActionRequest),
+                applyPendingMaintenanceActionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ApplyPendingMaintenanceAction operation
+     * like
+     * {@link #applyPendingMaintenanceActionAsync(ApplyPendingMaintenanceActionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param applyPendingMaintenanceActionRequest Container for the
+     *           necessary parameters to execute the ApplyPendingMaintenanceAction
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ApplyPendingMaintenanceAction service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<ResourcePendingMaintenanceActions> applyPendingMaintenanceActionComposableAsync(final ApplyPendingMaintenanceActionRequest applyPendingMaintenanceActionRequest) {
+        return executeAsync(executorService, new Callable<ResourcePendingMaintenanceActions>() {
             public ResourcePendingMaintenanceActions call() throws Exception {
-              ResourcePendingMaintenanceActions result;
-                try {
-                result = applyPendingMaintenanceAction(applyPendingMaintenanceActionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(applyPendingMaintenanceActionRequest, result);
-                 return result;
-        }
-    });
+                return applyPendingMaintenanceAction(applyPendingMaintenanceActionRequest);
+            }
+        }, applyPendingMaintenanceActionRequest,
+                new ApplyPendingMaintenanceActionRequestMarshaller(), new ResourcePendingMaintenanceActionsStaxUnmarshaller());
     }
     
     /**
@@ -1355,11 +1458,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> modifyDBInstanceAsync(final ModifyDBInstanceRequest modifyDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return modifyDBInstance(modifyDBInstanceRequest);
-        }
-    });
+        return modifyDBInstanceComposableAsync(modifyDBInstanceRequest);
     }
 
     /**
@@ -1392,19 +1491,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBInstanceRequest modifyDBInstanceRequest,
             final AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(modifyDBInstanceComposableAsync(modifyDBInstanceRequest),
+                modifyDBInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyDBInstance operation like
+     * {@link #modifyDBInstanceAsync(ModifyDBInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param modifyDBInstanceRequest Container for the necessary parameters
+     *           to execute the ModifyDBInstance operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ModifyDBInstance service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> modifyDBInstanceComposableAsync(final ModifyDBInstanceRequest modifyDBInstanceRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = modifyDBInstance(modifyDBInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyDBInstanceRequest, result);
-                 return result;
-        }
-    });
+                return modifyDBInstance(modifyDBInstanceRequest);
+            }
+        }, modifyDBInstanceRequest,
+                new ModifyDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -1430,11 +1538,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> deleteEventSubscriptionAsync(final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return deleteEventSubscription(deleteEventSubscriptionRequest);
-        }
-    });
+        return deleteEventSubscriptionComposableAsync(deleteEventSubscriptionRequest);
     }
 
     /**
@@ -1466,19 +1570,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest,
             final AsyncHandler<DeleteEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(deleteEventSubscriptionComposableAsync(deleteEventSubscriptionRequest),
+                deleteEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteEventSubscription operation like
+     * {@link #deleteEventSubscriptionAsync(DeleteEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the DeleteEventSubscription operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteEventSubscription service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<EventSubscription> deleteEventSubscriptionComposableAsync(final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = deleteEventSubscription(deleteEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteEventSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return deleteEventSubscription(deleteEventSubscriptionRequest);
+            }
+        }, deleteEventSubscriptionRequest,
+                new DeleteEventSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -1509,12 +1625,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> removeTagsFromResourceAsync(final RemoveTagsFromResourceRequest removeTagsFromResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeTagsFromResource(removeTagsFromResourceRequest);
-                return null;
-        }
-    });
+        return removeTagsFromResourceComposableAsync(removeTagsFromResourceRequest);
     }
 
     /**
@@ -1551,18 +1662,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RemoveTagsFromResourceRequest removeTagsFromResourceRequest,
             final AsyncHandler<RemoveTagsFromResourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removeTagsFromResourceComposableAsync(removeTagsFromResourceRequest),
+                removeTagsFromResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemoveTagsFromResource operation like
+     * {@link #removeTagsFromResourceAsync(RemoveTagsFromResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param removeTagsFromResourceRequest Container for the necessary
+     *           parameters to execute the RemoveTagsFromResource operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RemoveTagsFromResource service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<Void> removeTagsFromResourceComposableAsync(final RemoveTagsFromResourceRequest removeTagsFromResourceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removeTagsFromResource(removeTagsFromResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removeTagsFromResourceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removeTagsFromResourceRequest,
+                new RemoveTagsFromResourceRequestMarshaller(), null);
     }
     
     /**
@@ -1592,11 +1717,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventCategoriesResult> describeEventCategoriesAsync(final DescribeEventCategoriesRequest describeEventCategoriesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
-            public DescribeEventCategoriesResult call() throws Exception {
-                return describeEventCategories(describeEventCategoriesRequest);
-        }
-    });
+        return describeEventCategoriesComposableAsync(describeEventCategoriesRequest);
     }
 
     /**
@@ -1632,19 +1753,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventCategoriesRequest describeEventCategoriesRequest,
             final AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
+        return withAsyncHandler(describeEventCategoriesComposableAsync(describeEventCategoriesRequest),
+                describeEventCategoriesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEventCategories operation like
+     * {@link #describeEventCategoriesAsync(DescribeEventCategoriesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEventCategoriesRequest Container for the necessary
+     *           parameters to execute the DescribeEventCategories operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEventCategories service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeEventCategoriesResult> describeEventCategoriesComposableAsync(final DescribeEventCategoriesRequest describeEventCategoriesRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventCategoriesResult>() {
             public DescribeEventCategoriesResult call() throws Exception {
-              DescribeEventCategoriesResult result;
-                try {
-                result = describeEventCategories(describeEventCategoriesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventCategoriesRequest, result);
-                 return result;
-        }
-    });
+                return describeEventCategories(describeEventCategoriesRequest);
+            }
+        }, describeEventCategoriesRequest,
+                new DescribeEventCategoriesRequestMarshaller(), new DescribeEventCategoriesResultStaxUnmarshaller());
     }
     
     /**
@@ -1669,11 +1802,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBParameterGroup> copyDBParameterGroupAsync(final CopyDBParameterGroupRequest copyDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
-            public DBParameterGroup call() throws Exception {
-                return copyDBParameterGroup(copyDBParameterGroupRequest);
-        }
-    });
+        return copyDBParameterGroupComposableAsync(copyDBParameterGroupRequest);
     }
 
     /**
@@ -1704,19 +1833,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CopyDBParameterGroupRequest copyDBParameterGroupRequest,
             final AsyncHandler<CopyDBParameterGroupRequest, DBParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
+        return withAsyncHandler(copyDBParameterGroupComposableAsync(copyDBParameterGroupRequest),
+                copyDBParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopyDBParameterGroup operation like
+     * {@link #copyDBParameterGroupAsync(CopyDBParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param copyDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the CopyDBParameterGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CopyDBParameterGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBParameterGroup> copyDBParameterGroupComposableAsync(final CopyDBParameterGroupRequest copyDBParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<DBParameterGroup>() {
             public DBParameterGroup call() throws Exception {
-              DBParameterGroup result;
-                try {
-                result = copyDBParameterGroup(copyDBParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyDBParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return copyDBParameterGroup(copyDBParameterGroupRequest);
+            }
+        }, copyDBParameterGroupRequest,
+                new CopyDBParameterGroupRequestMarshaller(), new DBParameterGroupStaxUnmarshaller());
     }
     
     /**
@@ -1753,11 +1893,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceReadReplicaAsync(final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
-        }
-    });
+        return createDBInstanceReadReplicaComposableAsync(createDBInstanceReadReplicaRequest);
     }
 
     /**
@@ -1800,19 +1936,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest,
             final AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(createDBInstanceReadReplicaComposableAsync(createDBInstanceReadReplicaRequest),
+                createDBInstanceReadReplicaRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBInstanceReadReplica operation
+     * like
+     * {@link #createDBInstanceReadReplicaAsync(CreateDBInstanceReadReplicaRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDBInstanceReadReplicaRequest Container for the necessary
+     *           parameters to execute the CreateDBInstanceReadReplica operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBInstanceReadReplica service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> createDBInstanceReadReplicaComposableAsync(final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBInstanceReadReplicaRequest, result);
-                 return result;
-        }
-    });
+                return createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
+            }
+        }, createDBInstanceReadReplicaRequest,
+                new CreateDBInstanceReadReplicaRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -1842,11 +1991,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> deleteDBSnapshotAsync(final DeleteDBSnapshotRequest deleteDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return deleteDBSnapshot(deleteDBSnapshotRequest);
-        }
-    });
+        return deleteDBSnapshotComposableAsync(deleteDBSnapshotRequest);
     }
 
     /**
@@ -1882,19 +2027,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBSnapshotRequest deleteDBSnapshotRequest,
             final AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return withAsyncHandler(deleteDBSnapshotComposableAsync(deleteDBSnapshotRequest),
+                deleteDBSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDBSnapshot operation like
+     * {@link #deleteDBSnapshotAsync(DeleteDBSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteDBSnapshotRequest Container for the necessary parameters
+     *           to execute the DeleteDBSnapshot operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDBSnapshot service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBSnapshot> deleteDBSnapshotComposableAsync(final DeleteDBSnapshotRequest deleteDBSnapshotRequest) {
+        return executeAsync(executorService, new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
-              DBSnapshot result;
-                try {
-                result = deleteDBSnapshot(deleteDBSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDBSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return deleteDBSnapshot(deleteDBSnapshotRequest);
+            }
+        }, deleteDBSnapshotRequest,
+                new DeleteDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller());
     }
     
     /**
@@ -1940,11 +2094,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> rebootDBInstanceAsync(final RebootDBInstanceRequest rebootDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return rebootDBInstance(rebootDBInstanceRequest);
-        }
-    });
+        return rebootDBInstanceComposableAsync(rebootDBInstanceRequest);
     }
 
     /**
@@ -1996,19 +2146,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RebootDBInstanceRequest rebootDBInstanceRequest,
             final AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(rebootDBInstanceComposableAsync(rebootDBInstanceRequest),
+                rebootDBInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebootDBInstance operation like
+     * {@link #rebootDBInstanceAsync(RebootDBInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param rebootDBInstanceRequest Container for the necessary parameters
+     *           to execute the RebootDBInstance operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RebootDBInstance service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> rebootDBInstanceComposableAsync(final RebootDBInstanceRequest rebootDBInstanceRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = rebootDBInstance(rebootDBInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootDBInstanceRequest, result);
-                 return result;
-        }
-    });
+                return rebootDBInstance(rebootDBInstanceRequest);
+            }
+        }, rebootDBInstanceRequest,
+                new RebootDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -2037,11 +2196,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-        }
-    });
+        return describeEventsComposableAsync(describeEventsRequest);
     }
 
     /**
@@ -2076,19 +2231,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return withAsyncHandler(describeEventsComposableAsync(describeEventsRequest),
+                describeEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEvents operation like
+     * {@link #describeEventsAsync(DescribeEventsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the DescribeEvents
+     *         service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DescribeEventsResult> describeEventsComposableAsync(final DescribeEventsRequest describeEventsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
-              DescribeEventsResult result;
-                try {
-                result = describeEvents(describeEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventsRequest, result);
-                 return result;
-        }
-    });
+                return describeEvents(describeEventsRequest);
+            }
+        }, describeEventsRequest,
+                new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller());
     }
     
     /**
@@ -2118,11 +2282,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(final ListTagsForResourceRequest listTagsForResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-        }
-    });
+        return listTagsForResourceComposableAsync(listTagsForResourceRequest);
     }
 
     /**
@@ -2158,19 +2318,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return withAsyncHandler(listTagsForResourceComposableAsync(listTagsForResourceRequest),
+                listTagsForResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForResource operation like
+     * {@link #listTagsForResourceAsync(ListTagsForResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listTagsForResourceRequest Container for the necessary
+     *           parameters to execute the ListTagsForResource operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForResource service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<ListTagsForResourceResult> listTagsForResourceComposableAsync(final ListTagsForResourceRequest listTagsForResourceRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
-              ListTagsForResourceResult result;
-                try {
-                result = listTagsForResource(listTagsForResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForResource(listTagsForResourceRequest);
+            }
+        }, listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(), new ListTagsForResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -2196,11 +2367,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOptionGroupOptionsResult> describeOptionGroupOptionsAsync(final DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupOptionsResult>() {
-            public DescribeOptionGroupOptionsResult call() throws Exception {
-                return describeOptionGroupOptions(describeOptionGroupOptionsRequest);
-        }
-    });
+        return describeOptionGroupOptionsComposableAsync(describeOptionGroupOptionsRequest);
     }
 
     /**
@@ -2232,19 +2399,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest,
             final AsyncHandler<DescribeOptionGroupOptionsRequest, DescribeOptionGroupOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOptionGroupOptionsResult>() {
+        return withAsyncHandler(describeOptionGroupOptionsComposableAsync(describeOptionGroupOptionsRequest),
+                describeOptionGroupOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeOptionGroupOptions operation
+     * like
+     * {@link #describeOptionGroupOptionsAsync(DescribeOptionGroupOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeOptionGroupOptionsRequest Container for the necessary
+     *           parameters to execute the DescribeOptionGroupOptions operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeOptionGroupOptions service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeOptionGroupOptionsResult> describeOptionGroupOptionsComposableAsync(final DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeOptionGroupOptionsResult>() {
             public DescribeOptionGroupOptionsResult call() throws Exception {
-              DescribeOptionGroupOptionsResult result;
-                try {
-                result = describeOptionGroupOptions(describeOptionGroupOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeOptionGroupOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeOptionGroupOptions(describeOptionGroupOptionsRequest);
+            }
+        }, describeOptionGroupOptionsRequest,
+                new DescribeOptionGroupOptionsRequestMarshaller(), new DescribeOptionGroupOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -2270,11 +2450,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParametersResult> describeDBParametersAsync(final DescribeDBParametersRequest describeDBParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParametersResult>() {
-            public DescribeDBParametersResult call() throws Exception {
-                return describeDBParameters(describeDBParametersRequest);
-        }
-    });
+        return describeDBParametersComposableAsync(describeDBParametersRequest);
     }
 
     /**
@@ -2306,19 +2482,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBParametersRequest describeDBParametersRequest,
             final AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParametersResult>() {
+        return withAsyncHandler(describeDBParametersComposableAsync(describeDBParametersRequest),
+                describeDBParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBParameters operation like
+     * {@link #describeDBParametersAsync(DescribeDBParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBParametersRequest Container for the necessary
+     *           parameters to execute the DescribeDBParameters operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBParameters service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBParametersResult> describeDBParametersComposableAsync(final DescribeDBParametersRequest describeDBParametersRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBParametersResult>() {
             public DescribeDBParametersResult call() throws Exception {
-              DescribeDBParametersResult result;
-                try {
-                result = describeDBParameters(describeDBParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeDBParameters(describeDBParametersRequest);
+            }
+        }, describeDBParametersRequest,
+                new DescribeDBParametersRequestMarshaller(), new DescribeDBParametersResultStaxUnmarshaller());
     }
     
     /**
@@ -2345,11 +2532,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ReservedDBInstance> purchaseReservedDBInstancesOfferingAsync(final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedDBInstance>() {
-            public ReservedDBInstance call() throws Exception {
-                return purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
-        }
-    });
+        return purchaseReservedDBInstancesOfferingComposableAsync(purchaseReservedDBInstancesOfferingRequest);
     }
 
     /**
@@ -2382,19 +2565,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedDBInstance>() {
+        return withAsyncHandler(purchaseReservedDBInstancesOfferingComposableAsync(purchaseReservedDBInstancesOfferingRequest),
+                purchaseReservedDBInstancesOfferingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PurchaseReservedDBInstancesOffering
+     * operation like
+     * {@link #purchaseReservedDBInstancesOfferingAsync(PurchaseReservedDBInstancesOfferingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param purchaseReservedDBInstancesOfferingRequest Container for the
+     *           necessary parameters to execute the
+     *           PurchaseReservedDBInstancesOffering operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         PurchaseReservedDBInstancesOffering service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<ReservedDBInstance> purchaseReservedDBInstancesOfferingComposableAsync(final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest) {
+        return executeAsync(executorService, new Callable<ReservedDBInstance>() {
             public ReservedDBInstance call() throws Exception {
-              ReservedDBInstance result;
-                try {
-                result = purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedDBInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+                return purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
+            }
+        }, purchaseReservedDBInstancesOfferingRequest,
+                new PurchaseReservedDBInstancesOfferingRequestMarshaller(), new ReservedDBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -2422,11 +2618,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
-            public DescribeDBSecurityGroupsResult call() throws Exception {
-                return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
-        }
-    });
+        return describeDBSecurityGroupsComposableAsync(describeDBSecurityGroupsRequest);
     }
 
     /**
@@ -2460,19 +2652,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest,
             final AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
+        return withAsyncHandler(describeDBSecurityGroupsComposableAsync(describeDBSecurityGroupsRequest),
+                describeDBSecurityGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBSecurityGroups operation like
+     * {@link #describeDBSecurityGroupsAsync(DescribeDBSecurityGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBSecurityGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeDBSecurityGroups operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBSecurityGroups service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsComposableAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBSecurityGroupsResult>() {
             public DescribeDBSecurityGroupsResult call() throws Exception {
-              DescribeDBSecurityGroupsResult result;
-                try {
-                result = describeDBSecurityGroups(describeDBSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
+            }
+        }, describeDBSecurityGroupsRequest,
+                new DescribeDBSecurityGroupsRequestMarshaller(), new DescribeDBSecurityGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -2509,11 +2713,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> modifyEventSubscriptionAsync(final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return modifyEventSubscription(modifyEventSubscriptionRequest);
-        }
-    });
+        return modifyEventSubscriptionComposableAsync(modifyEventSubscriptionRequest);
     }
 
     /**
@@ -2556,19 +2756,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest,
             final AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(modifyEventSubscriptionComposableAsync(modifyEventSubscriptionRequest),
+                modifyEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyEventSubscription operation like
+     * {@link #modifyEventSubscriptionAsync(ModifyEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the ModifyEventSubscription operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ModifyEventSubscription service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<EventSubscription> modifyEventSubscriptionComposableAsync(final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = modifyEventSubscription(modifyEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyEventSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return modifyEventSubscription(modifyEventSubscriptionRequest);
+            }
+        }, modifyEventSubscriptionRequest,
+                new ModifyEventSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -2604,11 +2816,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> deleteDBInstanceAsync(final DeleteDBInstanceRequest deleteDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return deleteDBInstance(deleteDBInstanceRequest);
-        }
-    });
+        return deleteDBInstanceComposableAsync(deleteDBInstanceRequest);
     }
 
     /**
@@ -2650,19 +2858,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBInstanceRequest deleteDBInstanceRequest,
             final AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(deleteDBInstanceComposableAsync(deleteDBInstanceRequest),
+                deleteDBInstanceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDBInstance operation like
+     * {@link #deleteDBInstanceAsync(DeleteDBInstanceRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteDBInstanceRequest Container for the necessary parameters
+     *           to execute the DeleteDBInstance operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDBInstance service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> deleteDBInstanceComposableAsync(final DeleteDBInstanceRequest deleteDBInstanceRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = deleteDBInstance(deleteDBInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDBInstanceRequest, result);
-                 return result;
-        }
-    });
+                return deleteDBInstance(deleteDBInstanceRequest);
+            }
+        }, deleteDBInstanceRequest,
+                new DeleteDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -2703,11 +2920,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceFromDBSnapshotAsync(final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
-        }
-    });
+        return restoreDBInstanceFromDBSnapshotComposableAsync(restoreDBInstanceFromDBSnapshotRequest);
     }
 
     /**
@@ -2754,19 +2967,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest,
             final AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(restoreDBInstanceFromDBSnapshotComposableAsync(restoreDBInstanceFromDBSnapshotRequest),
+                restoreDBInstanceFromDBSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RestoreDBInstanceFromDBSnapshot
+     * operation like
+     * {@link #restoreDBInstanceFromDBSnapshotAsync(RestoreDBInstanceFromDBSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param restoreDBInstanceFromDBSnapshotRequest Container for the
+     *           necessary parameters to execute the RestoreDBInstanceFromDBSnapshot
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RestoreDBInstanceFromDBSnapshot service method, as returned
+     *         by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> restoreDBInstanceFromDBSnapshotComposableAsync(final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreDBInstanceFromDBSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
+            }
+        }, restoreDBInstanceFromDBSnapshotRequest,
+                new RestoreDBInstanceFromDBSnapshotRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -2791,11 +3017,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<OptionGroup> createOptionGroupAsync(final CreateOptionGroupRequest createOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
-            public OptionGroup call() throws Exception {
-                return createOptionGroup(createOptionGroupRequest);
-        }
-    });
+        return createOptionGroupComposableAsync(createOptionGroupRequest);
     }
 
     /**
@@ -2826,19 +3048,29 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateOptionGroupRequest createOptionGroupRequest,
             final AsyncHandler<CreateOptionGroupRequest, OptionGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return withAsyncHandler(createOptionGroupComposableAsync(createOptionGroupRequest),
+                createOptionGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateOptionGroup operation like
+     * {@link #createOptionGroupAsync(CreateOptionGroupRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createOptionGroupRequest Container for the necessary parameters
+     *           to execute the CreateOptionGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateOptionGroup service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<OptionGroup> createOptionGroupComposableAsync(final CreateOptionGroupRequest createOptionGroupRequest) {
+        return executeAsync(executorService, new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
-              OptionGroup result;
-                try {
-                result = createOptionGroup(createOptionGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createOptionGroupRequest, result);
-                 return result;
-        }
-    });
+                return createOptionGroup(createOptionGroupRequest);
+            }
+        }, createOptionGroupRequest,
+                new CreateOptionGroupRequestMarshaller(), new OptionGroupStaxUnmarshaller());
     }
     
     /**
@@ -2863,11 +3095,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<OptionGroup> modifyOptionGroupAsync(final ModifyOptionGroupRequest modifyOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
-            public OptionGroup call() throws Exception {
-                return modifyOptionGroup(modifyOptionGroupRequest);
-        }
-    });
+        return modifyOptionGroupComposableAsync(modifyOptionGroupRequest);
     }
 
     /**
@@ -2898,19 +3126,29 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyOptionGroupRequest modifyOptionGroupRequest,
             final AsyncHandler<ModifyOptionGroupRequest, OptionGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptionGroup>() {
+        return withAsyncHandler(modifyOptionGroupComposableAsync(modifyOptionGroupRequest),
+                modifyOptionGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyOptionGroup operation like
+     * {@link #modifyOptionGroupAsync(ModifyOptionGroupRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param modifyOptionGroupRequest Container for the necessary parameters
+     *           to execute the ModifyOptionGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ModifyOptionGroup service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<OptionGroup> modifyOptionGroupComposableAsync(final ModifyOptionGroupRequest modifyOptionGroupRequest) {
+        return executeAsync(executorService, new Callable<OptionGroup>() {
             public OptionGroup call() throws Exception {
-              OptionGroup result;
-                try {
-                result = modifyOptionGroup(modifyOptionGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyOptionGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyOptionGroup(modifyOptionGroupRequest);
+            }
+        }, modifyOptionGroupRequest,
+                new ModifyOptionGroupRequestMarshaller(), new OptionGroupStaxUnmarshaller());
     }
     
     /**
@@ -2943,11 +3181,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSubnetGroupsResult> describeDBSubnetGroupsAsync(final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSubnetGroupsResult>() {
-            public DescribeDBSubnetGroupsResult call() throws Exception {
-                return describeDBSubnetGroups(describeDBSubnetGroupsRequest);
-        }
-    });
+        return describeDBSubnetGroupsComposableAsync(describeDBSubnetGroupsRequest);
     }
 
     /**
@@ -2986,19 +3220,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest,
             final AsyncHandler<DescribeDBSubnetGroupsRequest, DescribeDBSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSubnetGroupsResult>() {
+        return withAsyncHandler(describeDBSubnetGroupsComposableAsync(describeDBSubnetGroupsRequest),
+                describeDBSubnetGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBSubnetGroups operation like
+     * {@link #describeDBSubnetGroupsAsync(DescribeDBSubnetGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBSubnetGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeDBSubnetGroups operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBSubnetGroups service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBSubnetGroupsResult> describeDBSubnetGroupsComposableAsync(final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBSubnetGroupsResult>() {
             public DescribeDBSubnetGroupsResult call() throws Exception {
-              DescribeDBSubnetGroupsResult result;
-                try {
-                result = describeDBSubnetGroups(describeDBSubnetGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBSubnetGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeDBSubnetGroups(describeDBSubnetGroupsRequest);
+            }
+        }, describeDBSubnetGroupsRequest,
+                new DescribeDBSubnetGroupsRequestMarshaller(), new DescribeDBSubnetGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3026,11 +3272,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParameterGroupsResult> describeDBParameterGroupsAsync(final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
-            public DescribeDBParameterGroupsResult call() throws Exception {
-                return describeDBParameterGroups(describeDBParameterGroupsRequest);
-        }
-    });
+        return describeDBParameterGroupsComposableAsync(describeDBParameterGroupsRequest);
     }
 
     /**
@@ -3064,19 +3306,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest,
             final AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
+        return withAsyncHandler(describeDBParameterGroupsComposableAsync(describeDBParameterGroupsRequest),
+                describeDBParameterGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBParameterGroups operation like
+     * {@link #describeDBParameterGroupsAsync(DescribeDBParameterGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBParameterGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeDBParameterGroups operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBParameterGroups service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBParameterGroupsResult> describeDBParameterGroupsComposableAsync(final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBParameterGroupsResult>() {
             public DescribeDBParameterGroupsResult call() throws Exception {
-              DescribeDBParameterGroupsResult result;
-                try {
-                result = describeDBParameterGroups(describeDBParameterGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBParameterGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeDBParameterGroups(describeDBParameterGroupsRequest);
+            }
+        }, describeDBParameterGroupsRequest,
+                new DescribeDBParameterGroupsRequestMarshaller(), new DescribeDBParameterGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3108,11 +3362,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventSubscriptionsResult> describeEventSubscriptionsAsync(final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
-            public DescribeEventSubscriptionsResult call() throws Exception {
-                return describeEventSubscriptions(describeEventSubscriptionsRequest);
-        }
-    });
+        return describeEventSubscriptionsComposableAsync(describeEventSubscriptionsRequest);
     }
 
     /**
@@ -3150,19 +3400,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest,
             final AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
+        return withAsyncHandler(describeEventSubscriptionsComposableAsync(describeEventSubscriptionsRequest),
+                describeEventSubscriptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEventSubscriptions operation
+     * like
+     * {@link #describeEventSubscriptionsAsync(DescribeEventSubscriptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEventSubscriptionsRequest Container for the necessary
+     *           parameters to execute the DescribeEventSubscriptions operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEventSubscriptions service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeEventSubscriptionsResult> describeEventSubscriptionsComposableAsync(final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventSubscriptionsResult>() {
             public DescribeEventSubscriptionsResult call() throws Exception {
-              DescribeEventSubscriptionsResult result;
-                try {
-                result = describeEventSubscriptions(describeEventSubscriptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventSubscriptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeEventSubscriptions(describeEventSubscriptionsRequest);
+            }
+        }, describeEventSubscriptionsRequest,
+                new DescribeEventSubscriptionsRequestMarshaller(), new DescribeEventSubscriptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -3188,11 +3451,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> modifyDBSubnetGroupAsync(final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
-            public DBSubnetGroup call() throws Exception {
-                return modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
-        }
-    });
+        return modifyDBSubnetGroupComposableAsync(modifyDBSubnetGroupRequest);
     }
 
     /**
@@ -3224,19 +3483,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest,
             final AsyncHandler<ModifyDBSubnetGroupRequest, DBSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return withAsyncHandler(modifyDBSubnetGroupComposableAsync(modifyDBSubnetGroupRequest),
+                modifyDBSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyDBSubnetGroup operation like
+     * {@link #modifyDBSubnetGroupAsync(ModifyDBSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyDBSubnetGroupRequest Container for the necessary
+     *           parameters to execute the ModifyDBSubnetGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ModifyDBSubnetGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBSubnetGroup> modifyDBSubnetGroupComposableAsync(final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
-              DBSubnetGroup result;
-                try {
-                result = modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyDBSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
+            }
+        }, modifyDBSubnetGroupRequest,
+                new ModifyDBSubnetGroupRequestMarshaller(), new DBSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -3261,11 +3531,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSnapshotsResult> describeDBSnapshotsAsync(final DescribeDBSnapshotsRequest describeDBSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
-            public DescribeDBSnapshotsResult call() throws Exception {
-                return describeDBSnapshots(describeDBSnapshotsRequest);
-        }
-    });
+        return describeDBSnapshotsComposableAsync(describeDBSnapshotsRequest);
     }
 
     /**
@@ -3296,19 +3562,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBSnapshotsRequest describeDBSnapshotsRequest,
             final AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
+        return withAsyncHandler(describeDBSnapshotsComposableAsync(describeDBSnapshotsRequest),
+                describeDBSnapshotsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBSnapshots operation like
+     * {@link #describeDBSnapshotsAsync(DescribeDBSnapshotsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBSnapshotsRequest Container for the necessary
+     *           parameters to execute the DescribeDBSnapshots operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBSnapshots service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBSnapshotsResult> describeDBSnapshotsComposableAsync(final DescribeDBSnapshotsRequest describeDBSnapshotsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBSnapshotsResult>() {
             public DescribeDBSnapshotsResult call() throws Exception {
-              DescribeDBSnapshotsResult result;
-                try {
-                result = describeDBSnapshots(describeDBSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBSnapshotsRequest, result);
-                 return result;
-        }
-    });
+                return describeDBSnapshots(describeDBSnapshotsRequest);
+            }
+        }, describeDBSnapshotsRequest,
+                new DescribeDBSnapshotsRequestMarshaller(), new DescribeDBSnapshotsResultStaxUnmarshaller());
     }
     
     /**
@@ -3334,11 +3611,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> createDBSubnetGroupAsync(final CreateDBSubnetGroupRequest createDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
-            public DBSubnetGroup call() throws Exception {
-                return createDBSubnetGroup(createDBSubnetGroupRequest);
-        }
-    });
+        return createDBSubnetGroupComposableAsync(createDBSubnetGroupRequest);
     }
 
     /**
@@ -3370,19 +3643,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSubnetGroupRequest createDBSubnetGroupRequest,
             final AsyncHandler<CreateDBSubnetGroupRequest, DBSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
+        return withAsyncHandler(createDBSubnetGroupComposableAsync(createDBSubnetGroupRequest),
+                createDBSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBSubnetGroup operation like
+     * {@link #createDBSubnetGroupAsync(CreateDBSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDBSubnetGroupRequest Container for the necessary
+     *           parameters to execute the CreateDBSubnetGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBSubnetGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBSubnetGroup> createDBSubnetGroupComposableAsync(final CreateDBSubnetGroupRequest createDBSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<DBSubnetGroup>() {
             public DBSubnetGroup call() throws Exception {
-              DBSubnetGroup result;
-                try {
-                result = createDBSubnetGroup(createDBSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return createDBSubnetGroup(createDBSubnetGroupRequest);
+            }
+        }, createDBSubnetGroupRequest,
+                new CreateDBSubnetGroupRequestMarshaller(), new DBSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -3408,11 +3692,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBEngineVersionsResult> describeDBEngineVersionsAsync(final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
-            public DescribeDBEngineVersionsResult call() throws Exception {
-                return describeDBEngineVersions(describeDBEngineVersionsRequest);
-        }
-    });
+        return describeDBEngineVersionsComposableAsync(describeDBEngineVersionsRequest);
     }
 
     /**
@@ -3444,19 +3724,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest,
             final AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
+        return withAsyncHandler(describeDBEngineVersionsComposableAsync(describeDBEngineVersionsRequest),
+                describeDBEngineVersionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBEngineVersions operation like
+     * {@link #describeDBEngineVersionsAsync(DescribeDBEngineVersionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBEngineVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeDBEngineVersions operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBEngineVersions service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBEngineVersionsResult> describeDBEngineVersionsComposableAsync(final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBEngineVersionsResult>() {
             public DescribeDBEngineVersionsResult call() throws Exception {
-              DescribeDBEngineVersionsResult result;
-                try {
-                result = describeDBEngineVersions(describeDBEngineVersionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBEngineVersionsRequest, result);
-                 return result;
-        }
-    });
+                return describeDBEngineVersions(describeDBEngineVersionsRequest);
+            }
+        }, describeDBEngineVersionsRequest,
+                new DescribeDBEngineVersionsRequestMarshaller(), new DescribeDBEngineVersionsResultStaxUnmarshaller());
     }
     
     /**
@@ -3505,11 +3797,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ModifyDBParameterGroupResult> modifyDBParameterGroupAsync(final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
-            public ModifyDBParameterGroupResult call() throws Exception {
-                return modifyDBParameterGroup(modifyDBParameterGroupRequest);
-        }
-    });
+        return modifyDBParameterGroupComposableAsync(modifyDBParameterGroupRequest);
     }
 
     /**
@@ -3564,19 +3852,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest,
             final AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
+        return withAsyncHandler(modifyDBParameterGroupComposableAsync(modifyDBParameterGroupRequest),
+                modifyDBParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyDBParameterGroup operation like
+     * {@link #modifyDBParameterGroupAsync(ModifyDBParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the ModifyDBParameterGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ModifyDBParameterGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<ModifyDBParameterGroupResult> modifyDBParameterGroupComposableAsync(final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ModifyDBParameterGroupResult>() {
             public ModifyDBParameterGroupResult call() throws Exception {
-              ModifyDBParameterGroupResult result;
-                try {
-                result = modifyDBParameterGroup(modifyDBParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyDBParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyDBParameterGroup(modifyDBParameterGroupRequest);
+            }
+        }, modifyDBParameterGroupRequest,
+                new ModifyDBParameterGroupRequestMarshaller(), new ModifyDBParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -3604,11 +3904,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
-            public EngineDefaults call() throws Exception {
-                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-        }
-    });
+        return describeEngineDefaultParametersComposableAsync(describeEngineDefaultParametersRequest);
     }
 
     /**
@@ -3642,19 +3938,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
             final AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
+        return withAsyncHandler(describeEngineDefaultParametersComposableAsync(describeEngineDefaultParametersRequest),
+                describeEngineDefaultParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEngineDefaultParameters
+     * operation like
+     * {@link #describeEngineDefaultParametersAsync(DescribeEngineDefaultParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEngineDefaultParametersRequest Container for the
+     *           necessary parameters to execute the DescribeEngineDefaultParameters
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEngineDefaultParameters service method, as returned
+     *         by AmazonRDS.
+     */
+    public ComposableFuture<EngineDefaults> describeEngineDefaultParametersComposableAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) {
+        return executeAsync(executorService, new Callable<EngineDefaults>() {
             public EngineDefaults call() throws Exception {
-              EngineDefaults result;
-                try {
-                result = describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEngineDefaultParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
+            }
+        }, describeEngineDefaultParametersRequest,
+                new DescribeEngineDefaultParametersRequestMarshaller(), new EngineDefaultsStaxUnmarshaller());
     }
     
     /**
@@ -3680,11 +3989,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> createDBSnapshotAsync(final CreateDBSnapshotRequest createDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return createDBSnapshot(createDBSnapshotRequest);
-        }
-    });
+        return createDBSnapshotComposableAsync(createDBSnapshotRequest);
     }
 
     /**
@@ -3716,19 +4021,28 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBSnapshotRequest createDBSnapshotRequest,
             final AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
+        return withAsyncHandler(createDBSnapshotComposableAsync(createDBSnapshotRequest),
+                createDBSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBSnapshot operation like
+     * {@link #createDBSnapshotAsync(CreateDBSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createDBSnapshotRequest Container for the necessary parameters
+     *           to execute the CreateDBSnapshot operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBSnapshot service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBSnapshot> createDBSnapshotComposableAsync(final CreateDBSnapshotRequest createDBSnapshotRequest) {
+        return executeAsync(executorService, new Callable<DBSnapshot>() {
             public DBSnapshot call() throws Exception {
-              DBSnapshot result;
-                try {
-                result = createDBSnapshot(createDBSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return createDBSnapshot(createDBSnapshotRequest);
+            }
+        }, createDBSnapshotRequest,
+                new CreateDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller());
     }
     
     /**
@@ -3756,11 +4070,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> addSourceIdentifierToSubscriptionAsync(final AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return addSourceIdentifierToSubscription(addSourceIdentifierToSubscriptionRequest);
-        }
-    });
+        return addSourceIdentifierToSubscriptionComposableAsync(addSourceIdentifierToSubscriptionRequest);
     }
 
     /**
@@ -3794,19 +4104,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest,
             final AsyncHandler<AddSourceIdentifierToSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(addSourceIdentifierToSubscriptionComposableAsync(addSourceIdentifierToSubscriptionRequest),
+                addSourceIdentifierToSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddSourceIdentifierToSubscription
+     * operation like
+     * {@link #addSourceIdentifierToSubscriptionAsync(AddSourceIdentifierToSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param addSourceIdentifierToSubscriptionRequest Container for the
+     *           necessary parameters to execute the AddSourceIdentifierToSubscription
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         AddSourceIdentifierToSubscription service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<EventSubscription> addSourceIdentifierToSubscriptionComposableAsync(final AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = addSourceIdentifierToSubscription(addSourceIdentifierToSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addSourceIdentifierToSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return addSourceIdentifierToSubscription(addSourceIdentifierToSubscriptionRequest);
+            }
+        }, addSourceIdentifierToSubscriptionRequest,
+                new AddSourceIdentifierToSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -3840,11 +4163,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ResetDBParameterGroupResult> resetDBParameterGroupAsync(final ResetDBParameterGroupRequest resetDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
-            public ResetDBParameterGroupResult call() throws Exception {
-                return resetDBParameterGroup(resetDBParameterGroupRequest);
-        }
-    });
+        return resetDBParameterGroupComposableAsync(resetDBParameterGroupRequest);
     }
 
     /**
@@ -3884,19 +4203,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final ResetDBParameterGroupRequest resetDBParameterGroupRequest,
             final AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
+        return withAsyncHandler(resetDBParameterGroupComposableAsync(resetDBParameterGroupRequest),
+                resetDBParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetDBParameterGroup operation like
+     * {@link #resetDBParameterGroupAsync(ResetDBParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the ResetDBParameterGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         ResetDBParameterGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<ResetDBParameterGroupResult> resetDBParameterGroupComposableAsync(final ResetDBParameterGroupRequest resetDBParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ResetDBParameterGroupResult>() {
             public ResetDBParameterGroupResult call() throws Exception {
-              ResetDBParameterGroupResult result;
-                try {
-                result = resetDBParameterGroup(resetDBParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetDBParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return resetDBParameterGroup(resetDBParameterGroupRequest);
+            }
+        }, resetDBParameterGroupRequest,
+                new ResetDBParameterGroupRequestMarshaller(), new ResetDBParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -3927,12 +4258,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBParameterGroupAsync(final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBParameterGroup(deleteDBParameterGroupRequest);
-                return null;
-        }
-    });
+        return deleteDBParameterGroupComposableAsync(deleteDBParameterGroupRequest);
     }
 
     /**
@@ -3969,18 +4295,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest,
             final AsyncHandler<DeleteDBParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDBParameterGroupComposableAsync(deleteDBParameterGroupRequest),
+                deleteDBParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDBParameterGroup operation like
+     * {@link #deleteDBParameterGroupAsync(DeleteDBParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the DeleteDBParameterGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteDBParameterGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<Void> deleteDBParameterGroupComposableAsync(final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDBParameterGroup(deleteDBParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDBParameterGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDBParameterGroupRequest,
+                new DeleteDBParameterGroupRequestMarshaller(), null);
     }
     
     /**
@@ -4005,11 +4345,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBLogFilesResult> describeDBLogFilesAsync(final DescribeDBLogFilesRequest describeDBLogFilesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBLogFilesResult>() {
-            public DescribeDBLogFilesResult call() throws Exception {
-                return describeDBLogFiles(describeDBLogFilesRequest);
-        }
-    });
+        return describeDBLogFilesComposableAsync(describeDBLogFilesRequest);
     }
 
     /**
@@ -4040,19 +4376,29 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeDBLogFilesRequest describeDBLogFilesRequest,
             final AsyncHandler<DescribeDBLogFilesRequest, DescribeDBLogFilesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBLogFilesResult>() {
+        return withAsyncHandler(describeDBLogFilesComposableAsync(describeDBLogFilesRequest),
+                describeDBLogFilesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDBLogFiles operation like
+     * {@link #describeDBLogFilesAsync(DescribeDBLogFilesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDBLogFilesRequest Container for the necessary
+     *           parameters to execute the DescribeDBLogFiles operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDBLogFiles service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DescribeDBLogFilesResult> describeDBLogFilesComposableAsync(final DescribeDBLogFilesRequest describeDBLogFilesRequest) {
+        return executeAsync(executorService, new Callable<DescribeDBLogFilesResult>() {
             public DescribeDBLogFilesResult call() throws Exception {
-              DescribeDBLogFilesResult result;
-                try {
-                result = describeDBLogFiles(describeDBLogFilesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDBLogFilesRequest, result);
-                 return result;
-        }
-    });
+                return describeDBLogFiles(describeDBLogFilesRequest);
+            }
+        }, describeDBLogFilesRequest,
+                new DescribeDBLogFilesRequestMarshaller(), new DescribeDBLogFilesResultStaxUnmarshaller());
     }
     
     /**
@@ -4079,11 +4425,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesResult> describeReservedDBInstancesAsync(final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
-            public DescribeReservedDBInstancesResult call() throws Exception {
-                return describeReservedDBInstances(describeReservedDBInstancesRequest);
-        }
-    });
+        return describeReservedDBInstancesComposableAsync(describeReservedDBInstancesRequest);
     }
 
     /**
@@ -4116,19 +4458,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest,
             final AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
+        return withAsyncHandler(describeReservedDBInstancesComposableAsync(describeReservedDBInstancesRequest),
+                describeReservedDBInstancesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedDBInstances operation
+     * like
+     * {@link #describeReservedDBInstancesAsync(DescribeReservedDBInstancesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedDBInstancesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedDBInstances operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedDBInstances service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DescribeReservedDBInstancesResult> describeReservedDBInstancesComposableAsync(final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedDBInstancesResult>() {
             public DescribeReservedDBInstancesResult call() throws Exception {
-              DescribeReservedDBInstancesResult result;
-                try {
-                result = describeReservedDBInstances(describeReservedDBInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedDBInstancesRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedDBInstances(describeReservedDBInstancesRequest);
+            }
+        }, describeReservedDBInstancesRequest,
+                new DescribeReservedDBInstancesRequestMarshaller(), new DescribeReservedDBInstancesResultStaxUnmarshaller());
     }
     
     /**
@@ -4160,11 +4515,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> promoteReadReplicaAsync(final PromoteReadReplicaRequest promoteReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return promoteReadReplica(promoteReadReplicaRequest);
-        }
-    });
+        return promoteReadReplicaComposableAsync(promoteReadReplicaRequest);
     }
 
     /**
@@ -4202,19 +4553,29 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final PromoteReadReplicaRequest promoteReadReplicaRequest,
             final AsyncHandler<PromoteReadReplicaRequest, DBInstance> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
+        return withAsyncHandler(promoteReadReplicaComposableAsync(promoteReadReplicaRequest),
+                promoteReadReplicaRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PromoteReadReplica operation like
+     * {@link #promoteReadReplicaAsync(PromoteReadReplicaRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param promoteReadReplicaRequest Container for the necessary
+     *           parameters to execute the PromoteReadReplica operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         PromoteReadReplica service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<DBInstance> promoteReadReplicaComposableAsync(final PromoteReadReplicaRequest promoteReadReplicaRequest) {
+        return executeAsync(executorService, new Callable<DBInstance>() {
             public DBInstance call() throws Exception {
-              DBInstance result;
-                try {
-                result = promoteReadReplica(promoteReadReplicaRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(promoteReadReplicaRequest, result);
-                 return result;
-        }
-    });
+                return promoteReadReplica(promoteReadReplicaRequest);
+            }
+        }, promoteReadReplicaRequest,
+                new PromoteReadReplicaRequestMarshaller(), new DBInstanceStaxUnmarshaller());
     }
     
     /**
@@ -4247,12 +4608,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> addTagsToResourceAsync(final AddTagsToResourceRequest addTagsToResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addTagsToResource(addTagsToResourceRequest);
-                return null;
-        }
-    });
+        return addTagsToResourceComposableAsync(addTagsToResourceRequest);
     }
 
     /**
@@ -4291,18 +4647,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final AddTagsToResourceRequest addTagsToResourceRequest,
             final AsyncHandler<AddTagsToResourceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addTagsToResourceComposableAsync(addTagsToResourceRequest),
+                addTagsToResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddTagsToResource operation like
+     * {@link #addTagsToResourceAsync(AddTagsToResourceRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param addTagsToResourceRequest Container for the necessary parameters
+     *           to execute the AddTagsToResource operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         AddTagsToResource service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<Void> addTagsToResourceComposableAsync(final AddTagsToResourceRequest addTagsToResourceRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addTagsToResource(addTagsToResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addTagsToResourceRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addTagsToResourceRequest,
+                new AddTagsToResourceRequestMarshaller(), null);
     }
     
     /**
@@ -4328,11 +4696,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DownloadDBLogFilePortionResult> downloadDBLogFilePortionAsync(final DownloadDBLogFilePortionRequest downloadDBLogFilePortionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DownloadDBLogFilePortionResult>() {
-            public DownloadDBLogFilePortionResult call() throws Exception {
-                return downloadDBLogFilePortion(downloadDBLogFilePortionRequest);
-        }
-    });
+        return downloadDBLogFilePortionComposableAsync(downloadDBLogFilePortionRequest);
     }
 
     /**
@@ -4364,19 +4728,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DownloadDBLogFilePortionRequest downloadDBLogFilePortionRequest,
             final AsyncHandler<DownloadDBLogFilePortionRequest, DownloadDBLogFilePortionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DownloadDBLogFilePortionResult>() {
+        return withAsyncHandler(downloadDBLogFilePortionComposableAsync(downloadDBLogFilePortionRequest),
+                downloadDBLogFilePortionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DownloadDBLogFilePortion operation like
+     * {@link #downloadDBLogFilePortionAsync(DownloadDBLogFilePortionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param downloadDBLogFilePortionRequest Container for the necessary
+     *           parameters to execute the DownloadDBLogFilePortion operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DownloadDBLogFilePortion service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DownloadDBLogFilePortionResult> downloadDBLogFilePortionComposableAsync(final DownloadDBLogFilePortionRequest downloadDBLogFilePortionRequest) {
+        return executeAsync(executorService, new Callable<DownloadDBLogFilePortionResult>() {
             public DownloadDBLogFilePortionResult call() throws Exception {
-              DownloadDBLogFilePortionResult result;
-                try {
-                result = downloadDBLogFilePortion(downloadDBLogFilePortionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(downloadDBLogFilePortionRequest, result);
-                 return result;
-        }
-    });
+                return downloadDBLogFilePortion(downloadDBLogFilePortionRequest);
+            }
+        }, downloadDBLogFilePortionRequest,
+                new DownloadDBLogFilePortionRequestMarshaller(), new DownloadDBLogFilePortionResultStaxUnmarshaller());
     }
     
     /**
@@ -4424,11 +4800,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EventSubscription> createEventSubscriptionAsync(final CreateEventSubscriptionRequest createEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return createEventSubscription(createEventSubscriptionRequest);
-        }
-    });
+        return createEventSubscriptionComposableAsync(createEventSubscriptionRequest);
     }
 
     /**
@@ -4482,19 +4854,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateEventSubscriptionRequest createEventSubscriptionRequest,
             final AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(createEventSubscriptionComposableAsync(createEventSubscriptionRequest),
+                createEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateEventSubscription operation like
+     * {@link #createEventSubscriptionAsync(CreateEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the CreateEventSubscription operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateEventSubscription service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<EventSubscription> createEventSubscriptionComposableAsync(final CreateEventSubscriptionRequest createEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = createEventSubscription(createEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createEventSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return createEventSubscription(createEventSubscriptionRequest);
+            }
+        }, createEventSubscriptionRequest,
+                new CreateEventSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -4524,11 +4908,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> revokeDBSecurityGroupIngressAsync(final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
-        }
-    });
+        return revokeDBSecurityGroupIngressComposableAsync(revokeDBSecurityGroupIngressRequest);
     }
 
     /**
@@ -4564,19 +4944,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest,
             final AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
+        return withAsyncHandler(revokeDBSecurityGroupIngressComposableAsync(revokeDBSecurityGroupIngressRequest),
+                revokeDBSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeDBSecurityGroupIngress operation
+     * like
+     * {@link #revokeDBSecurityGroupIngressAsync(RevokeDBSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeDBSecurityGroupIngressRequest Container for the necessary
+     *           parameters to execute the RevokeDBSecurityGroupIngress operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         RevokeDBSecurityGroupIngress service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBSecurityGroup> revokeDBSecurityGroupIngressComposableAsync(final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<DBSecurityGroup>() {
             public DBSecurityGroup call() throws Exception {
-              DBSecurityGroup result;
-                try {
-                result = revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeDBSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
+            }
+        }, revokeDBSecurityGroupIngressRequest,
+                new RevokeDBSecurityGroupIngressRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -4604,11 +4997,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOrderableDBInstanceOptionsResult> describeOrderableDBInstanceOptionsAsync(final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
-            public DescribeOrderableDBInstanceOptionsResult call() throws Exception {
-                return describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
-        }
-    });
+        return describeOrderableDBInstanceOptionsComposableAsync(describeOrderableDBInstanceOptionsRequest);
     }
 
     /**
@@ -4642,19 +5031,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest,
             final AsyncHandler<DescribeOrderableDBInstanceOptionsRequest, DescribeOrderableDBInstanceOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
+        return withAsyncHandler(describeOrderableDBInstanceOptionsComposableAsync(describeOrderableDBInstanceOptionsRequest),
+                describeOrderableDBInstanceOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeOrderableDBInstanceOptions
+     * operation like
+     * {@link #describeOrderableDBInstanceOptionsAsync(DescribeOrderableDBInstanceOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeOrderableDBInstanceOptionsRequest Container for the
+     *           necessary parameters to execute the DescribeOrderableDBInstanceOptions
+     *           operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeOrderableDBInstanceOptions service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<DescribeOrderableDBInstanceOptionsResult> describeOrderableDBInstanceOptionsComposableAsync(final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeOrderableDBInstanceOptionsResult>() {
             public DescribeOrderableDBInstanceOptionsResult call() throws Exception {
-              DescribeOrderableDBInstanceOptionsResult result;
-                try {
-                result = describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeOrderableDBInstanceOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
+            }
+        }, describeOrderableDBInstanceOptionsRequest,
+                new DescribeOrderableDBInstanceOptionsRequestMarshaller(), new DescribeOrderableDBInstanceOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -4704,11 +5106,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBParameterGroup> createDBParameterGroupAsync(final CreateDBParameterGroupRequest createDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
-            public DBParameterGroup call() throws Exception {
-                return createDBParameterGroup(createDBParameterGroupRequest);
-        }
-    });
+        return createDBParameterGroupComposableAsync(createDBParameterGroupRequest);
     }
 
     /**
@@ -4764,19 +5162,31 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final CreateDBParameterGroupRequest createDBParameterGroupRequest,
             final AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
+        return withAsyncHandler(createDBParameterGroupComposableAsync(createDBParameterGroupRequest),
+                createDBParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDBParameterGroup operation like
+     * {@link #createDBParameterGroupAsync(CreateDBParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createDBParameterGroupRequest Container for the necessary
+     *           parameters to execute the CreateDBParameterGroup operation on
+     *           AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         CreateDBParameterGroup service method, as returned by
+     *         AmazonRDS.
+     */
+    public ComposableFuture<DBParameterGroup> createDBParameterGroupComposableAsync(final CreateDBParameterGroupRequest createDBParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<DBParameterGroup>() {
             public DBParameterGroup call() throws Exception {
-              DBParameterGroup result;
-                try {
-                result = createDBParameterGroup(createDBParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDBParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return createDBParameterGroup(createDBParameterGroupRequest);
+            }
+        }, createDBParameterGroupRequest,
+                new CreateDBParameterGroupRequestMarshaller(), new DBParameterGroupStaxUnmarshaller());
     }
     
     /**
@@ -4803,11 +5213,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsAsync(final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
-            public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
-                return describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
-        }
-    });
+        return describeReservedDBInstancesOfferingsComposableAsync(describeReservedDBInstancesOfferingsRequest);
     }
 
     /**
@@ -4840,19 +5246,32 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
+        return withAsyncHandler(describeReservedDBInstancesOfferingsComposableAsync(describeReservedDBInstancesOfferingsRequest),
+                describeReservedDBInstancesOfferingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedDBInstancesOfferings
+     * operation like
+     * {@link #describeReservedDBInstancesOfferingsAsync(DescribeReservedDBInstancesOfferingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedDBInstancesOfferingsRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeReservedDBInstancesOfferings operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedDBInstancesOfferings service method, as
+     *         returned by AmazonRDS.
+     */
+    public ComposableFuture<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsComposableAsync(final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedDBInstancesOfferingsResult>() {
             public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
-              DescribeReservedDBInstancesOfferingsResult result;
-                try {
-                result = describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedDBInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
+            }
+        }, describeReservedDBInstancesOfferingsRequest,
+                new DescribeReservedDBInstancesOfferingsRequestMarshaller(), new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller());
     }
     
     /**
@@ -4877,12 +5296,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteOptionGroupAsync(final DeleteOptionGroupRequest deleteOptionGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteOptionGroup(deleteOptionGroupRequest);
-                return null;
-        }
-    });
+        return deleteOptionGroupComposableAsync(deleteOptionGroupRequest);
     }
 
     /**
@@ -4913,18 +5327,30 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
             final DeleteOptionGroupRequest deleteOptionGroupRequest,
             final AsyncHandler<DeleteOptionGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteOptionGroupComposableAsync(deleteOptionGroupRequest),
+                deleteOptionGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteOptionGroup operation like
+     * {@link #deleteOptionGroupAsync(DeleteOptionGroupRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteOptionGroupRequest Container for the necessary parameters
+     *           to execute the DeleteOptionGroup operation on AmazonRDS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteOptionGroup service method, as returned by AmazonRDS.
+     */
+    public ComposableFuture<Void> deleteOptionGroupComposableAsync(final DeleteOptionGroupRequest deleteOptionGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteOptionGroup(deleteOptionGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteOptionGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteOptionGroupRequest,
+                new DeleteOptionGroupRequestMarshaller(), null);
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.redshift.model.*;
+import com.amazonaws.services.redshift.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonRedshift.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Redshift <b>Overview</b> <p>
  * This is an interface reference for Amazon Redshift. It contains
  * documentation for one of the programming or command line interfaces
@@ -330,11 +334,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> revokeSnapshotAccessAsync(final RevokeSnapshotAccessRequest revokeSnapshotAccessRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return revokeSnapshotAccess(revokeSnapshotAccessRequest);
-        }
-    });
+        return revokeSnapshotAccessComposableAsync(revokeSnapshotAccessRequest);
     }
 
     /**
@@ -373,19 +373,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RevokeSnapshotAccessRequest revokeSnapshotAccessRequest,
             final AsyncHandler<RevokeSnapshotAccessRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(revokeSnapshotAccessComposableAsync(revokeSnapshotAccessRequest),
+                revokeSnapshotAccessRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeSnapshotAccess operation like
+     * {@link #revokeSnapshotAccessAsync(RevokeSnapshotAccessRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeSnapshotAccessRequest Container for the necessary
+     *           parameters to execute the RevokeSnapshotAccess operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         RevokeSnapshotAccess service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Snapshot> revokeSnapshotAccessComposableAsync(final RevokeSnapshotAccessRequest revokeSnapshotAccessRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = revokeSnapshotAccess(revokeSnapshotAccessRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSnapshotAccessRequest, result);
-                 return result;
-        }
-    });
+                return revokeSnapshotAccess(revokeSnapshotAccessRequest);
+            }
+        }, revokeSnapshotAccessRequest,
+                new RevokeSnapshotAccessRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -413,11 +425,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> modifySnapshotCopyRetentionPeriodAsync(final ModifySnapshotCopyRetentionPeriodRequest modifySnapshotCopyRetentionPeriodRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return modifySnapshotCopyRetentionPeriod(modifySnapshotCopyRetentionPeriodRequest);
-        }
-    });
+        return modifySnapshotCopyRetentionPeriodComposableAsync(modifySnapshotCopyRetentionPeriodRequest);
     }
 
     /**
@@ -451,19 +459,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifySnapshotCopyRetentionPeriodRequest modifySnapshotCopyRetentionPeriodRequest,
             final AsyncHandler<ModifySnapshotCopyRetentionPeriodRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(modifySnapshotCopyRetentionPeriodComposableAsync(modifySnapshotCopyRetentionPeriodRequest),
+                modifySnapshotCopyRetentionPeriodRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifySnapshotCopyRetentionPeriod
+     * operation like
+     * {@link #modifySnapshotCopyRetentionPeriodAsync(ModifySnapshotCopyRetentionPeriodRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifySnapshotCopyRetentionPeriodRequest Container for the
+     *           necessary parameters to execute the ModifySnapshotCopyRetentionPeriod
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         ModifySnapshotCopyRetentionPeriod service method, as
+     *         returned by AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> modifySnapshotCopyRetentionPeriodComposableAsync(final ModifySnapshotCopyRetentionPeriodRequest modifySnapshotCopyRetentionPeriodRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = modifySnapshotCopyRetentionPeriod(modifySnapshotCopyRetentionPeriodRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotCopyRetentionPeriodRequest, result);
-                 return result;
-        }
-    });
+                return modifySnapshotCopyRetentionPeriod(modifySnapshotCopyRetentionPeriodRequest);
+            }
+        }, modifySnapshotCopyRetentionPeriodRequest,
+                new ModifySnapshotCopyRetentionPeriodRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -492,11 +513,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSubnetGroup> modifyClusterSubnetGroupAsync(final ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
-            public ClusterSubnetGroup call() throws Exception {
-                return modifyClusterSubnetGroup(modifyClusterSubnetGroupRequest);
-        }
-    });
+        return modifyClusterSubnetGroupComposableAsync(modifyClusterSubnetGroupRequest);
     }
 
     /**
@@ -531,19 +548,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest,
             final AsyncHandler<ModifyClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return withAsyncHandler(modifyClusterSubnetGroupComposableAsync(modifyClusterSubnetGroupRequest),
+                modifyClusterSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyClusterSubnetGroup operation like
+     * {@link #modifyClusterSubnetGroupAsync(ModifyClusterSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyClusterSubnetGroupRequest Container for the necessary
+     *           parameters to execute the ModifyClusterSubnetGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         ModifyClusterSubnetGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ClusterSubnetGroup> modifyClusterSubnetGroupComposableAsync(final ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
-              ClusterSubnetGroup result;
-                try {
-                result = modifyClusterSubnetGroup(modifyClusterSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyClusterSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyClusterSubnetGroup(modifyClusterSubnetGroupRequest);
+            }
+        }, modifyClusterSubnetGroupRequest,
+                new ModifyClusterSubnetGroupRequestMarshaller(), new ClusterSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -580,11 +609,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ReservedNode> purchaseReservedNodeOfferingAsync(final PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedNode>() {
-            public ReservedNode call() throws Exception {
-                return purchaseReservedNodeOffering(purchaseReservedNodeOfferingRequest);
-        }
-    });
+        return purchaseReservedNodeOfferingComposableAsync(purchaseReservedNodeOfferingRequest);
     }
 
     /**
@@ -627,19 +652,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest,
             final AsyncHandler<PurchaseReservedNodeOfferingRequest, ReservedNode> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedNode>() {
+        return withAsyncHandler(purchaseReservedNodeOfferingComposableAsync(purchaseReservedNodeOfferingRequest),
+                purchaseReservedNodeOfferingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PurchaseReservedNodeOffering operation
+     * like
+     * {@link #purchaseReservedNodeOfferingAsync(PurchaseReservedNodeOfferingRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param purchaseReservedNodeOfferingRequest Container for the necessary
+     *           parameters to execute the PurchaseReservedNodeOffering operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         PurchaseReservedNodeOffering service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ReservedNode> purchaseReservedNodeOfferingComposableAsync(final PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest) {
+        return executeAsync(executorService, new Callable<ReservedNode>() {
             public ReservedNode call() throws Exception {
-              ReservedNode result;
-                try {
-                result = purchaseReservedNodeOffering(purchaseReservedNodeOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedNodeOfferingRequest, result);
-                 return result;
-        }
-    });
+                return purchaseReservedNodeOffering(purchaseReservedNodeOfferingRequest);
+            }
+        }, purchaseReservedNodeOfferingRequest,
+                new PurchaseReservedNodeOfferingRequestMarshaller(), new ReservedNodeStaxUnmarshaller());
     }
     
     /**
@@ -665,12 +703,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteHsmConfigurationAsync(final DeleteHsmConfigurationRequest deleteHsmConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteHsmConfiguration(deleteHsmConfigurationRequest);
-                return null;
-        }
-    });
+        return deleteHsmConfigurationComposableAsync(deleteHsmConfigurationRequest);
     }
 
     /**
@@ -702,18 +735,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteHsmConfigurationRequest deleteHsmConfigurationRequest,
             final AsyncHandler<DeleteHsmConfigurationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteHsmConfigurationComposableAsync(deleteHsmConfigurationRequest),
+                deleteHsmConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHsmConfiguration operation like
+     * {@link #deleteHsmConfigurationAsync(DeleteHsmConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteHsmConfigurationRequest Container for the necessary
+     *           parameters to execute the DeleteHsmConfiguration operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteHsmConfiguration service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteHsmConfigurationComposableAsync(final DeleteHsmConfigurationRequest deleteHsmConfigurationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteHsmConfiguration(deleteHsmConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHsmConfigurationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteHsmConfigurationRequest,
+                new DeleteHsmConfigurationRequestMarshaller(), null);
     }
     
     /**
@@ -739,11 +786,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DisableLoggingResult> disableLoggingAsync(final DisableLoggingRequest disableLoggingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableLoggingResult>() {
-            public DisableLoggingResult call() throws Exception {
-                return disableLogging(disableLoggingRequest);
-        }
-    });
+        return disableLoggingComposableAsync(disableLoggingRequest);
     }
 
     /**
@@ -775,19 +818,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DisableLoggingRequest disableLoggingRequest,
             final AsyncHandler<DisableLoggingRequest, DisableLoggingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableLoggingResult>() {
+        return withAsyncHandler(disableLoggingComposableAsync(disableLoggingRequest),
+                disableLoggingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableLogging operation like
+     * {@link #disableLoggingAsync(DisableLoggingRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param disableLoggingRequest Container for the necessary parameters to
+     *           execute the DisableLogging operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DisableLogging
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<DisableLoggingResult> disableLoggingComposableAsync(final DisableLoggingRequest disableLoggingRequest) {
+        return executeAsync(executorService, new Callable<DisableLoggingResult>() {
             public DisableLoggingResult call() throws Exception {
-              DisableLoggingResult result;
-                try {
-                result = disableLogging(disableLoggingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableLoggingRequest, result);
-                 return result;
-        }
-    });
+                return disableLogging(disableLoggingRequest);
+            }
+        }, disableLoggingRequest,
+                new DisableLoggingRequestMarshaller(), new DisableLoggingResultStaxUnmarshaller());
     }
     
     /**
@@ -826,11 +878,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> modifyClusterAsync(final ModifyClusterRequest modifyClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return modifyCluster(modifyClusterRequest);
-        }
-    });
+        return modifyClusterComposableAsync(modifyClusterRequest);
     }
 
     /**
@@ -875,19 +923,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterRequest modifyClusterRequest,
             final AsyncHandler<ModifyClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(modifyClusterComposableAsync(modifyClusterRequest),
+                modifyClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyCluster operation like
+     * {@link #modifyClusterAsync(ModifyClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param modifyClusterRequest Container for the necessary parameters to
+     *           execute the ModifyCluster operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the ModifyCluster
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> modifyClusterComposableAsync(final ModifyClusterRequest modifyClusterRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = modifyCluster(modifyClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyClusterRequest, result);
-                 return result;
-        }
-    });
+                return modifyCluster(modifyClusterRequest);
+            }
+        }, modifyClusterRequest,
+                new ModifyClusterRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -913,12 +970,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return deleteTagsComposableAsync(deleteTagsRequest);
     }
 
     /**
@@ -950,18 +1002,29 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteTagsComposableAsync(deleteTagsRequest),
+                deleteTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTags operation like
+     * {@link #deleteTagsAsync(DeleteTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTagsRequest Container for the necessary parameters to
+     *           execute the DeleteTags operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DeleteTags
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteTagsComposableAsync(final DeleteTagsRequest deleteTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(), null);
     }
     
     /**
@@ -1002,11 +1065,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> copyClusterSnapshotAsync(final CopyClusterSnapshotRequest copyClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return copyClusterSnapshot(copyClusterSnapshotRequest);
-        }
-    });
+        return copyClusterSnapshotComposableAsync(copyClusterSnapshotRequest);
     }
 
     /**
@@ -1053,19 +1112,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CopyClusterSnapshotRequest copyClusterSnapshotRequest,
             final AsyncHandler<CopyClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(copyClusterSnapshotComposableAsync(copyClusterSnapshotRequest),
+                copyClusterSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CopyClusterSnapshot operation like
+     * {@link #copyClusterSnapshotAsync(CopyClusterSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param copyClusterSnapshotRequest Container for the necessary
+     *           parameters to execute the CopyClusterSnapshot operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CopyClusterSnapshot service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Snapshot> copyClusterSnapshotComposableAsync(final CopyClusterSnapshotRequest copyClusterSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = copyClusterSnapshot(copyClusterSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyClusterSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return copyClusterSnapshot(copyClusterSnapshotRequest);
+            }
+        }, copyClusterSnapshotRequest,
+                new CopyClusterSnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -1101,11 +1172,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeOrderableClusterOptionsResult> describeOrderableClusterOptionsAsync(final DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableClusterOptionsResult>() {
-            public DescribeOrderableClusterOptionsResult call() throws Exception {
-                return describeOrderableClusterOptions(describeOrderableClusterOptionsRequest);
-        }
-    });
+        return describeOrderableClusterOptionsComposableAsync(describeOrderableClusterOptionsRequest);
     }
 
     /**
@@ -1147,19 +1214,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest,
             final AsyncHandler<DescribeOrderableClusterOptionsRequest, DescribeOrderableClusterOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableClusterOptionsResult>() {
+        return withAsyncHandler(describeOrderableClusterOptionsComposableAsync(describeOrderableClusterOptionsRequest),
+                describeOrderableClusterOptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeOrderableClusterOptions
+     * operation like
+     * {@link #describeOrderableClusterOptionsAsync(DescribeOrderableClusterOptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeOrderableClusterOptionsRequest Container for the
+     *           necessary parameters to execute the DescribeOrderableClusterOptions
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeOrderableClusterOptions service method, as returned
+     *         by AmazonRedshift.
+     */
+    public ComposableFuture<DescribeOrderableClusterOptionsResult> describeOrderableClusterOptionsComposableAsync(final DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeOrderableClusterOptionsResult>() {
             public DescribeOrderableClusterOptionsResult call() throws Exception {
-              DescribeOrderableClusterOptionsResult result;
-                try {
-                result = describeOrderableClusterOptions(describeOrderableClusterOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeOrderableClusterOptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeOrderableClusterOptions(describeOrderableClusterOptionsRequest);
+            }
+        }, describeOrderableClusterOptionsRequest,
+                new DescribeOrderableClusterOptionsRequestMarshaller(), new DescribeOrderableClusterOptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1185,11 +1265,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<EnableLoggingResult> enableLoggingAsync(final EnableLoggingRequest enableLoggingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableLoggingResult>() {
-            public EnableLoggingResult call() throws Exception {
-                return enableLogging(enableLoggingRequest);
-        }
-    });
+        return enableLoggingComposableAsync(enableLoggingRequest);
     }
 
     /**
@@ -1221,19 +1297,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final EnableLoggingRequest enableLoggingRequest,
             final AsyncHandler<EnableLoggingRequest, EnableLoggingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableLoggingResult>() {
+        return withAsyncHandler(enableLoggingComposableAsync(enableLoggingRequest),
+                enableLoggingRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableLogging operation like
+     * {@link #enableLoggingAsync(EnableLoggingRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param enableLoggingRequest Container for the necessary parameters to
+     *           execute the EnableLogging operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the EnableLogging
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<EnableLoggingResult> enableLoggingComposableAsync(final EnableLoggingRequest enableLoggingRequest) {
+        return executeAsync(executorService, new Callable<EnableLoggingResult>() {
             public EnableLoggingResult call() throws Exception {
-              EnableLoggingResult result;
-                try {
-                result = enableLogging(enableLoggingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableLoggingRequest, result);
-                 return result;
-        }
-    });
+                return enableLogging(enableLoggingRequest);
+            }
+        }, enableLoggingRequest,
+                new EnableLoggingRequestMarshaller(), new EnableLoggingResultStaxUnmarshaller());
     }
     
     /**
@@ -1267,11 +1352,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSubnetGroup> createClusterSubnetGroupAsync(final CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
-            public ClusterSubnetGroup call() throws Exception {
-                return createClusterSubnetGroup(createClusterSubnetGroupRequest);
-        }
-    });
+        return createClusterSubnetGroupComposableAsync(createClusterSubnetGroupRequest);
     }
 
     /**
@@ -1311,19 +1392,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest,
             final AsyncHandler<CreateClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSubnetGroup>() {
+        return withAsyncHandler(createClusterSubnetGroupComposableAsync(createClusterSubnetGroupRequest),
+                createClusterSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateClusterSubnetGroup operation like
+     * {@link #createClusterSubnetGroupAsync(CreateClusterSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createClusterSubnetGroupRequest Container for the necessary
+     *           parameters to execute the CreateClusterSubnetGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateClusterSubnetGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ClusterSubnetGroup> createClusterSubnetGroupComposableAsync(final CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<ClusterSubnetGroup>() {
             public ClusterSubnetGroup call() throws Exception {
-              ClusterSubnetGroup result;
-                try {
-                result = createClusterSubnetGroup(createClusterSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterSubnetGroupRequest, result);
-                 return result;
-        }
-    });
+                return createClusterSubnetGroup(createClusterSubnetGroupRequest);
+            }
+        }, createClusterSubnetGroupRequest,
+                new CreateClusterSubnetGroupRequestMarshaller(), new ClusterSubnetGroupStaxUnmarshaller());
     }
     
     /**
@@ -1350,12 +1443,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteHsmClientCertificateAsync(final DeleteHsmClientCertificateRequest deleteHsmClientCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteHsmClientCertificate(deleteHsmClientCertificateRequest);
-                return null;
-        }
-    });
+        return deleteHsmClientCertificateComposableAsync(deleteHsmClientCertificateRequest);
     }
 
     /**
@@ -1388,18 +1476,33 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteHsmClientCertificateRequest deleteHsmClientCertificateRequest,
             final AsyncHandler<DeleteHsmClientCertificateRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteHsmClientCertificateComposableAsync(deleteHsmClientCertificateRequest),
+                deleteHsmClientCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHsmClientCertificate operation
+     * like
+     * {@link #deleteHsmClientCertificateAsync(DeleteHsmClientCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteHsmClientCertificateRequest Container for the necessary
+     *           parameters to execute the DeleteHsmClientCertificate operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteHsmClientCertificate service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteHsmClientCertificateComposableAsync(final DeleteHsmClientCertificateRequest deleteHsmClientCertificateRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteHsmClientCertificate(deleteHsmClientCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHsmClientCertificateRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteHsmClientCertificateRequest,
+                new DeleteHsmClientCertificateRequestMarshaller(), null);
     }
     
     /**
@@ -1431,11 +1534,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> rebootClusterAsync(final RebootClusterRequest rebootClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return rebootCluster(rebootClusterRequest);
-        }
-    });
+        return rebootClusterComposableAsync(rebootClusterRequest);
     }
 
     /**
@@ -1473,19 +1572,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RebootClusterRequest rebootClusterRequest,
             final AsyncHandler<RebootClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(rebootClusterComposableAsync(rebootClusterRequest),
+                rebootClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RebootCluster operation like
+     * {@link #rebootClusterAsync(RebootClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param rebootClusterRequest Container for the necessary parameters to
+     *           execute the RebootCluster operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the RebootCluster
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> rebootClusterComposableAsync(final RebootClusterRequest rebootClusterRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = rebootCluster(rebootClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootClusterRequest, result);
-                 return result;
-        }
-    });
+                return rebootCluster(rebootClusterRequest);
+            }
+        }, rebootClusterRequest,
+                new RebootClusterRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -1512,12 +1620,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterSubnetGroupAsync(final DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteClusterSubnetGroup(deleteClusterSubnetGroupRequest);
-                return null;
-        }
-    });
+        return deleteClusterSubnetGroupComposableAsync(deleteClusterSubnetGroupRequest);
     }
 
     /**
@@ -1550,18 +1653,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest,
             final AsyncHandler<DeleteClusterSubnetGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteClusterSubnetGroupComposableAsync(deleteClusterSubnetGroupRequest),
+                deleteClusterSubnetGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteClusterSubnetGroup operation like
+     * {@link #deleteClusterSubnetGroupAsync(DeleteClusterSubnetGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteClusterSubnetGroupRequest Container for the necessary
+     *           parameters to execute the DeleteClusterSubnetGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteClusterSubnetGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteClusterSubnetGroupComposableAsync(final DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteClusterSubnetGroup(deleteClusterSubnetGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterSubnetGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteClusterSubnetGroupRequest,
+                new DeleteClusterSubnetGroupRequestMarshaller(), null);
     }
     
     /**
@@ -1606,11 +1723,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> deleteClusterAsync(final DeleteClusterRequest deleteClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return deleteCluster(deleteClusterRequest);
-        }
-    });
+        return deleteClusterComposableAsync(deleteClusterRequest);
     }
 
     /**
@@ -1661,19 +1774,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterRequest deleteClusterRequest,
             final AsyncHandler<DeleteClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(deleteClusterComposableAsync(deleteClusterRequest),
+                deleteClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteCluster operation like
+     * {@link #deleteClusterAsync(DeleteClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteClusterRequest Container for the necessary parameters to
+     *           execute the DeleteCluster operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DeleteCluster
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> deleteClusterComposableAsync(final DeleteClusterRequest deleteClusterRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = deleteCluster(deleteClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterRequest, result);
-                 return result;
-        }
-    });
+                return deleteCluster(deleteClusterRequest);
+            }
+        }, deleteClusterRequest,
+                new DeleteClusterRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -1705,11 +1827,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> createClusterSnapshotAsync(final CreateClusterSnapshotRequest createClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return createClusterSnapshot(createClusterSnapshotRequest);
-        }
-    });
+        return createClusterSnapshotComposableAsync(createClusterSnapshotRequest);
     }
 
     /**
@@ -1747,19 +1865,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSnapshotRequest createClusterSnapshotRequest,
             final AsyncHandler<CreateClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(createClusterSnapshotComposableAsync(createClusterSnapshotRequest),
+                createClusterSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateClusterSnapshot operation like
+     * {@link #createClusterSnapshotAsync(CreateClusterSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createClusterSnapshotRequest Container for the necessary
+     *           parameters to execute the CreateClusterSnapshot operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateClusterSnapshot service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Snapshot> createClusterSnapshotComposableAsync(final CreateClusterSnapshotRequest createClusterSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = createClusterSnapshot(createClusterSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return createClusterSnapshot(createClusterSnapshotRequest);
+            }
+        }, createClusterSnapshotRequest,
+                new CreateClusterSnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -1791,11 +1921,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> createClusterAsync(final CreateClusterRequest createClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return createCluster(createClusterRequest);
-        }
-    });
+        return createClusterComposableAsync(createClusterRequest);
     }
 
     /**
@@ -1833,19 +1959,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterRequest createClusterRequest,
             final AsyncHandler<CreateClusterRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(createClusterComposableAsync(createClusterRequest),
+                createClusterRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCluster operation like
+     * {@link #createClusterAsync(CreateClusterRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createClusterRequest Container for the necessary parameters to
+     *           execute the CreateCluster operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the CreateCluster
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> createClusterComposableAsync(final CreateClusterRequest createClusterRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = createCluster(createClusterRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterRequest, result);
-                 return result;
-        }
-    });
+                return createCluster(createClusterRequest);
+            }
+        }, createClusterRequest,
+                new CreateClusterRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -1874,11 +2009,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-        }
-    });
+        return describeEventsComposableAsync(describeEventsRequest);
     }
 
     /**
@@ -1913,19 +2044,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeEventsRequest describeEventsRequest,
             final AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
+        return withAsyncHandler(describeEventsComposableAsync(describeEventsRequest),
+                describeEventsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEvents operation like
+     * {@link #describeEventsAsync(DescribeEventsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeEventsRequest Container for the necessary parameters to
+     *           execute the DescribeEvents operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DescribeEvents
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<DescribeEventsResult> describeEventsComposableAsync(final DescribeEventsRequest describeEventsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventsResult>() {
             public DescribeEventsResult call() throws Exception {
-              DescribeEventsResult result;
-                try {
-                result = describeEvents(describeEventsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventsRequest, result);
-                 return result;
-        }
-    });
+                return describeEvents(describeEventsRequest);
+            }
+        }, describeEventsRequest,
+                new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller());
     }
     
     /**
@@ -1974,11 +2114,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> authorizeClusterSecurityGroupIngressAsync(final AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
-            public ClusterSecurityGroup call() throws Exception {
-                return authorizeClusterSecurityGroupIngress(authorizeClusterSecurityGroupIngressRequest);
-        }
-    });
+        return authorizeClusterSecurityGroupIngressComposableAsync(authorizeClusterSecurityGroupIngressRequest);
     }
 
     /**
@@ -2033,19 +2169,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return withAsyncHandler(authorizeClusterSecurityGroupIngressComposableAsync(authorizeClusterSecurityGroupIngressRequest),
+                authorizeClusterSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeClusterSecurityGroupIngress
+     * operation like
+     * {@link #authorizeClusterSecurityGroupIngressAsync(AuthorizeClusterSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeClusterSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the
+     *           AuthorizeClusterSecurityGroupIngress operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeClusterSecurityGroupIngress service method, as
+     *         returned by AmazonRedshift.
+     */
+    public ComposableFuture<ClusterSecurityGroup> authorizeClusterSecurityGroupIngressComposableAsync(final AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
-              ClusterSecurityGroup result;
-                try {
-                result = authorizeClusterSecurityGroupIngress(authorizeClusterSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeClusterSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return authorizeClusterSecurityGroupIngress(authorizeClusterSecurityGroupIngressRequest);
+            }
+        }, authorizeClusterSecurityGroupIngressRequest,
+                new AuthorizeClusterSecurityGroupIngressRequestMarshaller(), new ClusterSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -2071,11 +2220,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> rotateEncryptionKeyAsync(final RotateEncryptionKeyRequest rotateEncryptionKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return rotateEncryptionKey(rotateEncryptionKeyRequest);
-        }
-    });
+        return rotateEncryptionKeyComposableAsync(rotateEncryptionKeyRequest);
     }
 
     /**
@@ -2107,19 +2252,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RotateEncryptionKeyRequest rotateEncryptionKeyRequest,
             final AsyncHandler<RotateEncryptionKeyRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(rotateEncryptionKeyComposableAsync(rotateEncryptionKeyRequest),
+                rotateEncryptionKeyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RotateEncryptionKey operation like
+     * {@link #rotateEncryptionKeyAsync(RotateEncryptionKeyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param rotateEncryptionKeyRequest Container for the necessary
+     *           parameters to execute the RotateEncryptionKey operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         RotateEncryptionKey service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> rotateEncryptionKeyComposableAsync(final RotateEncryptionKeyRequest rotateEncryptionKeyRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = rotateEncryptionKey(rotateEncryptionKeyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rotateEncryptionKeyRequest, result);
-                 return result;
-        }
-    });
+                return rotateEncryptionKey(rotateEncryptionKeyRequest);
+            }
+        }, rotateEncryptionKeyRequest,
+                new RotateEncryptionKeyRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -2155,12 +2312,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterSecurityGroupAsync(final DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteClusterSecurityGroup(deleteClusterSecurityGroupRequest);
-                return null;
-        }
-    });
+        return deleteClusterSecurityGroupComposableAsync(deleteClusterSecurityGroupRequest);
     }
 
     /**
@@ -2202,18 +2354,33 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest,
             final AsyncHandler<DeleteClusterSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteClusterSecurityGroupComposableAsync(deleteClusterSecurityGroupRequest),
+                deleteClusterSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteClusterSecurityGroup operation
+     * like
+     * {@link #deleteClusterSecurityGroupAsync(DeleteClusterSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteClusterSecurityGroupRequest Container for the necessary
+     *           parameters to execute the DeleteClusterSecurityGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteClusterSecurityGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteClusterSecurityGroupComposableAsync(final DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteClusterSecurityGroup(deleteClusterSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteClusterSecurityGroupRequest,
+                new DeleteClusterSecurityGroupRequestMarshaller(), null);
     }
     
     /**
@@ -2239,11 +2406,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeReservedNodesResult> describeReservedNodesAsync(final DescribeReservedNodesRequest describeReservedNodesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodesResult>() {
-            public DescribeReservedNodesResult call() throws Exception {
-                return describeReservedNodes(describeReservedNodesRequest);
-        }
-    });
+        return describeReservedNodesComposableAsync(describeReservedNodesRequest);
     }
 
     /**
@@ -2275,19 +2438,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeReservedNodesRequest describeReservedNodesRequest,
             final AsyncHandler<DescribeReservedNodesRequest, DescribeReservedNodesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodesResult>() {
+        return withAsyncHandler(describeReservedNodesComposableAsync(describeReservedNodesRequest),
+                describeReservedNodesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedNodes operation like
+     * {@link #describeReservedNodesAsync(DescribeReservedNodesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedNodesRequest Container for the necessary
+     *           parameters to execute the DescribeReservedNodes operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedNodes service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeReservedNodesResult> describeReservedNodesComposableAsync(final DescribeReservedNodesRequest describeReservedNodesRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedNodesResult>() {
             public DescribeReservedNodesResult call() throws Exception {
-              DescribeReservedNodesResult result;
-                try {
-                result = describeReservedNodes(describeReservedNodesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedNodesRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedNodes(describeReservedNodesRequest);
+            }
+        }, describeReservedNodesRequest,
+                new DescribeReservedNodesRequestMarshaller(), new DescribeReservedNodesResultStaxUnmarshaller());
     }
     
     /**
@@ -2320,11 +2495,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DefaultClusterParameters> describeDefaultClusterParametersAsync(final DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefaultClusterParameters>() {
-            public DefaultClusterParameters call() throws Exception {
-                return describeDefaultClusterParameters(describeDefaultClusterParametersRequest);
-        }
-    });
+        return describeDefaultClusterParametersComposableAsync(describeDefaultClusterParametersRequest);
     }
 
     /**
@@ -2363,19 +2534,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest,
             final AsyncHandler<DescribeDefaultClusterParametersRequest, DefaultClusterParameters> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefaultClusterParameters>() {
+        return withAsyncHandler(describeDefaultClusterParametersComposableAsync(describeDefaultClusterParametersRequest),
+                describeDefaultClusterParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDefaultClusterParameters
+     * operation like
+     * {@link #describeDefaultClusterParametersAsync(DescribeDefaultClusterParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeDefaultClusterParametersRequest Container for the
+     *           necessary parameters to execute the DescribeDefaultClusterParameters
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDefaultClusterParameters service method, as returned
+     *         by AmazonRedshift.
+     */
+    public ComposableFuture<DefaultClusterParameters> describeDefaultClusterParametersComposableAsync(final DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest) {
+        return executeAsync(executorService, new Callable<DefaultClusterParameters>() {
             public DefaultClusterParameters call() throws Exception {
-              DefaultClusterParameters result;
-                try {
-                result = describeDefaultClusterParameters(describeDefaultClusterParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDefaultClusterParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeDefaultClusterParameters(describeDefaultClusterParametersRequest);
+            }
+        }, describeDefaultClusterParametersRequest,
+                new DescribeDefaultClusterParametersRequestMarshaller(), new DefaultClusterParametersStaxUnmarshaller());
     }
     
     /**
@@ -2401,11 +2585,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<EventSubscription> modifyEventSubscriptionAsync(final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return modifyEventSubscription(modifyEventSubscriptionRequest);
-        }
-    });
+        return modifyEventSubscriptionComposableAsync(modifyEventSubscriptionRequest);
     }
 
     /**
@@ -2437,19 +2617,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest,
             final AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(modifyEventSubscriptionComposableAsync(modifyEventSubscriptionRequest),
+                modifyEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyEventSubscription operation like
+     * {@link #modifyEventSubscriptionAsync(ModifyEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the ModifyEventSubscription operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         ModifyEventSubscription service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<EventSubscription> modifyEventSubscriptionComposableAsync(final ModifyEventSubscriptionRequest modifyEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = modifyEventSubscription(modifyEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyEventSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return modifyEventSubscription(modifyEventSubscriptionRequest);
+            }
+        }, modifyEventSubscriptionRequest,
+                new ModifyEventSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -2482,11 +2674,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> createClusterSecurityGroupAsync(final CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
-            public ClusterSecurityGroup call() throws Exception {
-                return createClusterSecurityGroup(createClusterSecurityGroupRequest);
-        }
-    });
+        return createClusterSecurityGroupComposableAsync(createClusterSecurityGroupRequest);
     }
 
     /**
@@ -2525,19 +2713,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest,
             final AsyncHandler<CreateClusterSecurityGroupRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return withAsyncHandler(createClusterSecurityGroupComposableAsync(createClusterSecurityGroupRequest),
+                createClusterSecurityGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateClusterSecurityGroup operation
+     * like
+     * {@link #createClusterSecurityGroupAsync(CreateClusterSecurityGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createClusterSecurityGroupRequest Container for the necessary
+     *           parameters to execute the CreateClusterSecurityGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateClusterSecurityGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ClusterSecurityGroup> createClusterSecurityGroupComposableAsync(final CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest) {
+        return executeAsync(executorService, new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
-              ClusterSecurityGroup result;
-                try {
-                result = createClusterSecurityGroup(createClusterSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+                return createClusterSecurityGroup(createClusterSecurityGroupRequest);
+            }
+        }, createClusterSecurityGroupRequest,
+                new CreateClusterSecurityGroupRequestMarshaller(), new ClusterSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -2570,11 +2771,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeResizeResult> describeResizeAsync(final DescribeResizeRequest describeResizeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResizeResult>() {
-            public DescribeResizeResult call() throws Exception {
-                return describeResize(describeResizeRequest);
-        }
-    });
+        return describeResizeComposableAsync(describeResizeRequest);
     }
 
     /**
@@ -2613,19 +2810,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeResizeRequest describeResizeRequest,
             final AsyncHandler<DescribeResizeRequest, DescribeResizeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeResizeResult>() {
+        return withAsyncHandler(describeResizeComposableAsync(describeResizeRequest),
+                describeResizeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeResize operation like
+     * {@link #describeResizeAsync(DescribeResizeRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeResizeRequest Container for the necessary parameters to
+     *           execute the DescribeResize operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DescribeResize
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<DescribeResizeResult> describeResizeComposableAsync(final DescribeResizeRequest describeResizeRequest) {
+        return executeAsync(executorService, new Callable<DescribeResizeResult>() {
             public DescribeResizeResult call() throws Exception {
-              DescribeResizeResult result;
-                try {
-                result = describeResize(describeResizeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeResizeRequest, result);
-                 return result;
-        }
-    });
+                return describeResize(describeResizeRequest);
+            }
+        }, describeResizeRequest,
+                new DescribeResizeRequestMarshaller(), new DescribeResizeResultStaxUnmarshaller());
     }
     
     /**
@@ -2656,11 +2862,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterVersionsResult> describeClusterVersionsAsync(final DescribeClusterVersionsRequest describeClusterVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterVersionsResult>() {
-            public DescribeClusterVersionsResult call() throws Exception {
-                return describeClusterVersions(describeClusterVersionsRequest);
-        }
-    });
+        return describeClusterVersionsComposableAsync(describeClusterVersionsRequest);
     }
 
     /**
@@ -2697,19 +2899,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterVersionsRequest describeClusterVersionsRequest,
             final AsyncHandler<DescribeClusterVersionsRequest, DescribeClusterVersionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterVersionsResult>() {
+        return withAsyncHandler(describeClusterVersionsComposableAsync(describeClusterVersionsRequest),
+                describeClusterVersionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterVersions operation like
+     * {@link #describeClusterVersionsAsync(DescribeClusterVersionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterVersionsRequest Container for the necessary
+     *           parameters to execute the DescribeClusterVersions operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterVersions service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterVersionsResult> describeClusterVersionsComposableAsync(final DescribeClusterVersionsRequest describeClusterVersionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterVersionsResult>() {
             public DescribeClusterVersionsResult call() throws Exception {
-              DescribeClusterVersionsResult result;
-                try {
-                result = describeClusterVersions(describeClusterVersionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterVersionsRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterVersions(describeClusterVersionsRequest);
+            }
+        }, describeClusterVersionsRequest,
+                new DescribeClusterVersionsRequestMarshaller(), new DescribeClusterVersionsResultStaxUnmarshaller());
     }
     
     /**
@@ -2751,11 +2965,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> restoreFromClusterSnapshotAsync(final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return restoreFromClusterSnapshot(restoreFromClusterSnapshotRequest);
-        }
-    });
+        return restoreFromClusterSnapshotComposableAsync(restoreFromClusterSnapshotRequest);
     }
 
     /**
@@ -2803,19 +3013,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest,
             final AsyncHandler<RestoreFromClusterSnapshotRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(restoreFromClusterSnapshotComposableAsync(restoreFromClusterSnapshotRequest),
+                restoreFromClusterSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RestoreFromClusterSnapshot operation
+     * like
+     * {@link #restoreFromClusterSnapshotAsync(RestoreFromClusterSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param restoreFromClusterSnapshotRequest Container for the necessary
+     *           parameters to execute the RestoreFromClusterSnapshot operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         RestoreFromClusterSnapshot service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> restoreFromClusterSnapshotComposableAsync(final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = restoreFromClusterSnapshot(restoreFromClusterSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreFromClusterSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return restoreFromClusterSnapshot(restoreFromClusterSnapshotRequest);
+            }
+        }, restoreFromClusterSnapshotRequest,
+                new RestoreFromClusterSnapshotRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -2849,12 +3072,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-        }
-    });
+        return createTagsComposableAsync(createTagsRequest);
     }
 
     /**
@@ -2894,18 +3112,29 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createTagsComposableAsync(createTagsRequest),
+                createTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTags operation like
+     * {@link #createTagsAsync(CreateTagsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTagsRequest Container for the necessary parameters to
+     *           execute the CreateTags operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the CreateTags
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<Void> createTagsComposableAsync(final CreateTagsRequest createTagsRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createTagsRequest,
+                new CreateTagsRequestMarshaller(), null);
     }
     
     /**
@@ -2958,11 +3187,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return describeTagsComposableAsync(describeTagsRequest);
     }
 
     /**
@@ -3021,19 +3246,28 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
+        return withAsyncHandler(describeTagsComposableAsync(describeTagsRequest),
+                describeTagsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTags operation like
+     * {@link #describeTagsAsync(DescribeTagsRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param describeTagsRequest Container for the necessary parameters to
+     *           execute the DescribeTags operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the DescribeTags
+     *         service method, as returned by AmazonRedshift.
+     */
+    public ComposableFuture<DescribeTagsResult> describeTagsComposableAsync(final DescribeTagsRequest describeTagsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTagsResult>() {
             public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+                return describeTags(describeTagsRequest);
+            }
+        }, describeTagsRequest,
+                new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller());
     }
     
     /**
@@ -3065,11 +3299,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ModifyClusterParameterGroupResult> modifyClusterParameterGroupAsync(final ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyClusterParameterGroupResult>() {
-            public ModifyClusterParameterGroupResult call() throws Exception {
-                return modifyClusterParameterGroup(modifyClusterParameterGroupRequest);
-        }
-    });
+        return modifyClusterParameterGroupComposableAsync(modifyClusterParameterGroupRequest);
     }
 
     /**
@@ -3107,19 +3337,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest,
             final AsyncHandler<ModifyClusterParameterGroupRequest, ModifyClusterParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyClusterParameterGroupResult>() {
+        return withAsyncHandler(modifyClusterParameterGroupComposableAsync(modifyClusterParameterGroupRequest),
+                modifyClusterParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ModifyClusterParameterGroup operation
+     * like
+     * {@link #modifyClusterParameterGroupAsync(ModifyClusterParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param modifyClusterParameterGroupRequest Container for the necessary
+     *           parameters to execute the ModifyClusterParameterGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         ModifyClusterParameterGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ModifyClusterParameterGroupResult> modifyClusterParameterGroupComposableAsync(final ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ModifyClusterParameterGroupResult>() {
             public ModifyClusterParameterGroupResult call() throws Exception {
-              ModifyClusterParameterGroupResult result;
-                try {
-                result = modifyClusterParameterGroup(modifyClusterParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyClusterParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return modifyClusterParameterGroup(modifyClusterParameterGroupRequest);
+            }
+        }, modifyClusterParameterGroupRequest,
+                new ModifyClusterParameterGroupRequestMarshaller(), new ModifyClusterParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -3149,11 +3392,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeEventCategoriesResult> describeEventCategoriesAsync(final DescribeEventCategoriesRequest describeEventCategoriesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
-            public DescribeEventCategoriesResult call() throws Exception {
-                return describeEventCategories(describeEventCategoriesRequest);
-        }
-    });
+        return describeEventCategoriesComposableAsync(describeEventCategoriesRequest);
     }
 
     /**
@@ -3189,19 +3428,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeEventCategoriesRequest describeEventCategoriesRequest,
             final AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventCategoriesResult>() {
+        return withAsyncHandler(describeEventCategoriesComposableAsync(describeEventCategoriesRequest),
+                describeEventCategoriesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEventCategories operation like
+     * {@link #describeEventCategoriesAsync(DescribeEventCategoriesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEventCategoriesRequest Container for the necessary
+     *           parameters to execute the DescribeEventCategories operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEventCategories service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeEventCategoriesResult> describeEventCategoriesComposableAsync(final DescribeEventCategoriesRequest describeEventCategoriesRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventCategoriesResult>() {
             public DescribeEventCategoriesResult call() throws Exception {
-              DescribeEventCategoriesResult result;
-                try {
-                result = describeEventCategories(describeEventCategoriesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventCategoriesRequest, result);
-                 return result;
-        }
-    });
+                return describeEventCategories(describeEventCategoriesRequest);
+            }
+        }, describeEventCategoriesRequest,
+                new DescribeEventCategoriesRequestMarshaller(), new DescribeEventCategoriesResultStaxUnmarshaller());
     }
     
     /**
@@ -3248,11 +3499,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSecurityGroupsResult> describeClusterSecurityGroupsAsync(final DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSecurityGroupsResult>() {
-            public DescribeClusterSecurityGroupsResult call() throws Exception {
-                return describeClusterSecurityGroups(describeClusterSecurityGroupsRequest);
-        }
-    });
+        return describeClusterSecurityGroupsComposableAsync(describeClusterSecurityGroupsRequest);
     }
 
     /**
@@ -3305,19 +3552,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest,
             final AsyncHandler<DescribeClusterSecurityGroupsRequest, DescribeClusterSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSecurityGroupsResult>() {
+        return withAsyncHandler(describeClusterSecurityGroupsComposableAsync(describeClusterSecurityGroupsRequest),
+                describeClusterSecurityGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterSecurityGroups operation
+     * like
+     * {@link #describeClusterSecurityGroupsAsync(DescribeClusterSecurityGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterSecurityGroupsRequest Container for the
+     *           necessary parameters to execute the DescribeClusterSecurityGroups
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterSecurityGroups service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterSecurityGroupsResult> describeClusterSecurityGroupsComposableAsync(final DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterSecurityGroupsResult>() {
             public DescribeClusterSecurityGroupsResult call() throws Exception {
-              DescribeClusterSecurityGroupsResult result;
-                try {
-                result = describeClusterSecurityGroups(describeClusterSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterSecurityGroups(describeClusterSecurityGroupsRequest);
+            }
+        }, describeClusterSecurityGroupsRequest,
+                new DescribeClusterSecurityGroupsRequestMarshaller(), new DescribeClusterSecurityGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3360,11 +3620,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSubnetGroupsResult> describeClusterSubnetGroupsAsync(final DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSubnetGroupsResult>() {
-            public DescribeClusterSubnetGroupsResult call() throws Exception {
-                return describeClusterSubnetGroups(describeClusterSubnetGroupsRequest);
-        }
-    });
+        return describeClusterSubnetGroupsComposableAsync(describeClusterSubnetGroupsRequest);
     }
 
     /**
@@ -3413,19 +3669,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest,
             final AsyncHandler<DescribeClusterSubnetGroupsRequest, DescribeClusterSubnetGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSubnetGroupsResult>() {
+        return withAsyncHandler(describeClusterSubnetGroupsComposableAsync(describeClusterSubnetGroupsRequest),
+                describeClusterSubnetGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterSubnetGroups operation
+     * like
+     * {@link #describeClusterSubnetGroupsAsync(DescribeClusterSubnetGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterSubnetGroupsRequest Container for the necessary
+     *           parameters to execute the DescribeClusterSubnetGroups operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterSubnetGroups service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterSubnetGroupsResult> describeClusterSubnetGroupsComposableAsync(final DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterSubnetGroupsResult>() {
             public DescribeClusterSubnetGroupsResult call() throws Exception {
-              DescribeClusterSubnetGroupsResult result;
-                try {
-                result = describeClusterSubnetGroups(describeClusterSubnetGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterSubnetGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterSubnetGroups(describeClusterSubnetGroupsRequest);
+            }
+        }, describeClusterSubnetGroupsRequest,
+                new DescribeClusterSubnetGroupsRequestMarshaller(), new DescribeClusterSubnetGroupsResultStaxUnmarshaller());
     }
     
     /**
@@ -3468,11 +3737,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeHsmConfigurationsResult> describeHsmConfigurationsAsync(final DescribeHsmConfigurationsRequest describeHsmConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmConfigurationsResult>() {
-            public DescribeHsmConfigurationsResult call() throws Exception {
-                return describeHsmConfigurations(describeHsmConfigurationsRequest);
-        }
-    });
+        return describeHsmConfigurationsComposableAsync(describeHsmConfigurationsRequest);
     }
 
     /**
@@ -3521,19 +3786,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeHsmConfigurationsRequest describeHsmConfigurationsRequest,
             final AsyncHandler<DescribeHsmConfigurationsRequest, DescribeHsmConfigurationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmConfigurationsResult>() {
+        return withAsyncHandler(describeHsmConfigurationsComposableAsync(describeHsmConfigurationsRequest),
+                describeHsmConfigurationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeHsmConfigurations operation like
+     * {@link #describeHsmConfigurationsAsync(DescribeHsmConfigurationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeHsmConfigurationsRequest Container for the necessary
+     *           parameters to execute the DescribeHsmConfigurations operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeHsmConfigurations service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeHsmConfigurationsResult> describeHsmConfigurationsComposableAsync(final DescribeHsmConfigurationsRequest describeHsmConfigurationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeHsmConfigurationsResult>() {
             public DescribeHsmConfigurationsResult call() throws Exception {
-              DescribeHsmConfigurationsResult result;
-                try {
-                result = describeHsmConfigurations(describeHsmConfigurationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHsmConfigurationsRequest, result);
-                 return result;
-        }
-    });
+                return describeHsmConfigurations(describeHsmConfigurationsRequest);
+            }
+        }, describeHsmConfigurationsRequest,
+                new DescribeHsmConfigurationsRequestMarshaller(), new DescribeHsmConfigurationsResultStaxUnmarshaller());
     }
     
     /**
@@ -3569,11 +3846,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> deleteClusterSnapshotAsync(final DeleteClusterSnapshotRequest deleteClusterSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return deleteClusterSnapshot(deleteClusterSnapshotRequest);
-        }
-    });
+        return deleteClusterSnapshotComposableAsync(deleteClusterSnapshotRequest);
     }
 
     /**
@@ -3615,19 +3888,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterSnapshotRequest deleteClusterSnapshotRequest,
             final AsyncHandler<DeleteClusterSnapshotRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(deleteClusterSnapshotComposableAsync(deleteClusterSnapshotRequest),
+                deleteClusterSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteClusterSnapshot operation like
+     * {@link #deleteClusterSnapshotAsync(DeleteClusterSnapshotRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteClusterSnapshotRequest Container for the necessary
+     *           parameters to execute the DeleteClusterSnapshot operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteClusterSnapshot service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Snapshot> deleteClusterSnapshotComposableAsync(final DeleteClusterSnapshotRequest deleteClusterSnapshotRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = deleteClusterSnapshot(deleteClusterSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return deleteClusterSnapshot(deleteClusterSnapshotRequest);
+            }
+        }, deleteClusterSnapshotRequest,
+                new DeleteClusterSnapshotRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -3658,12 +3943,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteClusterParameterGroupAsync(final DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteClusterParameterGroup(deleteClusterParameterGroupRequest);
-                return null;
-        }
-    });
+        return deleteClusterParameterGroupComposableAsync(deleteClusterParameterGroupRequest);
     }
 
     /**
@@ -3700,18 +3980,33 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest,
             final AsyncHandler<DeleteClusterParameterGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteClusterParameterGroupComposableAsync(deleteClusterParameterGroupRequest),
+                deleteClusterParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteClusterParameterGroup operation
+     * like
+     * {@link #deleteClusterParameterGroupAsync(DeleteClusterParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteClusterParameterGroupRequest Container for the necessary
+     *           parameters to execute the DeleteClusterParameterGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteClusterParameterGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteClusterParameterGroupComposableAsync(final DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteClusterParameterGroup(deleteClusterParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteClusterParameterGroupRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteClusterParameterGroupRequest,
+                new DeleteClusterParameterGroupRequestMarshaller(), null);
     }
     
     /**
@@ -3738,11 +4033,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> disableSnapshotCopyAsync(final DisableSnapshotCopyRequest disableSnapshotCopyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return disableSnapshotCopy(disableSnapshotCopyRequest);
-        }
-    });
+        return disableSnapshotCopyComposableAsync(disableSnapshotCopyRequest);
     }
 
     /**
@@ -3775,19 +4066,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DisableSnapshotCopyRequest disableSnapshotCopyRequest,
             final AsyncHandler<DisableSnapshotCopyRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(disableSnapshotCopyComposableAsync(disableSnapshotCopyRequest),
+                disableSnapshotCopyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableSnapshotCopy operation like
+     * {@link #disableSnapshotCopyAsync(DisableSnapshotCopyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableSnapshotCopyRequest Container for the necessary
+     *           parameters to execute the DisableSnapshotCopy operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DisableSnapshotCopy service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> disableSnapshotCopyComposableAsync(final DisableSnapshotCopyRequest disableSnapshotCopyRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = disableSnapshotCopy(disableSnapshotCopyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableSnapshotCopyRequest, result);
-                 return result;
-        }
-    });
+                return disableSnapshotCopy(disableSnapshotCopyRequest);
+            }
+        }, disableSnapshotCopyRequest,
+                new DisableSnapshotCopyRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -3839,11 +4142,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<EventSubscription> createEventSubscriptionAsync(final CreateEventSubscriptionRequest createEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
-            public EventSubscription call() throws Exception {
-                return createEventSubscription(createEventSubscriptionRequest);
-        }
-    });
+        return createEventSubscriptionComposableAsync(createEventSubscriptionRequest);
     }
 
     /**
@@ -3901,19 +4200,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateEventSubscriptionRequest createEventSubscriptionRequest,
             final AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EventSubscription>() {
+        return withAsyncHandler(createEventSubscriptionComposableAsync(createEventSubscriptionRequest),
+                createEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateEventSubscription operation like
+     * {@link #createEventSubscriptionAsync(CreateEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the CreateEventSubscription operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateEventSubscription service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<EventSubscription> createEventSubscriptionComposableAsync(final CreateEventSubscriptionRequest createEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<EventSubscription>() {
             public EventSubscription call() throws Exception {
-              EventSubscription result;
-                try {
-                result = createEventSubscription(createEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createEventSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return createEventSubscription(createEventSubscriptionRequest);
+            }
+        }, createEventSubscriptionRequest,
+                new CreateEventSubscriptionRequestMarshaller(), new EventSubscriptionStaxUnmarshaller());
     }
     
     /**
@@ -3944,11 +4255,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ResetClusterParameterGroupResult> resetClusterParameterGroupAsync(final ResetClusterParameterGroupRequest resetClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetClusterParameterGroupResult>() {
-            public ResetClusterParameterGroupResult call() throws Exception {
-                return resetClusterParameterGroup(resetClusterParameterGroupRequest);
-        }
-    });
+        return resetClusterParameterGroupComposableAsync(resetClusterParameterGroupRequest);
     }
 
     /**
@@ -3985,19 +4292,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final ResetClusterParameterGroupRequest resetClusterParameterGroupRequest,
             final AsyncHandler<ResetClusterParameterGroupRequest, ResetClusterParameterGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetClusterParameterGroupResult>() {
+        return withAsyncHandler(resetClusterParameterGroupComposableAsync(resetClusterParameterGroupRequest),
+                resetClusterParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetClusterParameterGroup operation
+     * like
+     * {@link #resetClusterParameterGroupAsync(ResetClusterParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param resetClusterParameterGroupRequest Container for the necessary
+     *           parameters to execute the ResetClusterParameterGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         ResetClusterParameterGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ResetClusterParameterGroupResult> resetClusterParameterGroupComposableAsync(final ResetClusterParameterGroupRequest resetClusterParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ResetClusterParameterGroupResult>() {
             public ResetClusterParameterGroupResult call() throws Exception {
-              ResetClusterParameterGroupResult result;
-                try {
-                result = resetClusterParameterGroup(resetClusterParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetClusterParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return resetClusterParameterGroup(resetClusterParameterGroupRequest);
+            }
+        }, resetClusterParameterGroupRequest,
+                new ResetClusterParameterGroupRequestMarshaller(), new ResetClusterParameterGroupResultStaxUnmarshaller());
     }
     
     /**
@@ -4029,11 +4349,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Snapshot> authorizeSnapshotAccessAsync(final AuthorizeSnapshotAccessRequest authorizeSnapshotAccessRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
-            public Snapshot call() throws Exception {
-                return authorizeSnapshotAccess(authorizeSnapshotAccessRequest);
-        }
-    });
+        return authorizeSnapshotAccessComposableAsync(authorizeSnapshotAccessRequest);
     }
 
     /**
@@ -4071,19 +4387,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final AuthorizeSnapshotAccessRequest authorizeSnapshotAccessRequest,
             final AsyncHandler<AuthorizeSnapshotAccessRequest, Snapshot> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Snapshot>() {
+        return withAsyncHandler(authorizeSnapshotAccessComposableAsync(authorizeSnapshotAccessRequest),
+                authorizeSnapshotAccessRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AuthorizeSnapshotAccess operation like
+     * {@link #authorizeSnapshotAccessAsync(AuthorizeSnapshotAccessRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param authorizeSnapshotAccessRequest Container for the necessary
+     *           parameters to execute the AuthorizeSnapshotAccess operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         AuthorizeSnapshotAccess service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Snapshot> authorizeSnapshotAccessComposableAsync(final AuthorizeSnapshotAccessRequest authorizeSnapshotAccessRequest) {
+        return executeAsync(executorService, new Callable<Snapshot>() {
             public Snapshot call() throws Exception {
-              Snapshot result;
-                try {
-                result = authorizeSnapshotAccess(authorizeSnapshotAccessRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSnapshotAccessRequest, result);
-                 return result;
-        }
-    });
+                return authorizeSnapshotAccess(authorizeSnapshotAccessRequest);
+            }
+        }, authorizeSnapshotAccessRequest,
+                new AuthorizeSnapshotAccessRequestMarshaller(), new SnapshotStaxUnmarshaller());
     }
     
     /**
@@ -4110,11 +4438,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Cluster> enableSnapshotCopyAsync(final EnableSnapshotCopyRequest enableSnapshotCopyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
-            public Cluster call() throws Exception {
-                return enableSnapshotCopy(enableSnapshotCopyRequest);
-        }
-    });
+        return enableSnapshotCopyComposableAsync(enableSnapshotCopyRequest);
     }
 
     /**
@@ -4147,19 +4471,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final EnableSnapshotCopyRequest enableSnapshotCopyRequest,
             final AsyncHandler<EnableSnapshotCopyRequest, Cluster> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Cluster>() {
+        return withAsyncHandler(enableSnapshotCopyComposableAsync(enableSnapshotCopyRequest),
+                enableSnapshotCopyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableSnapshotCopy operation like
+     * {@link #enableSnapshotCopyAsync(EnableSnapshotCopyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableSnapshotCopyRequest Container for the necessary
+     *           parameters to execute the EnableSnapshotCopy operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         EnableSnapshotCopy service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Cluster> enableSnapshotCopyComposableAsync(final EnableSnapshotCopyRequest enableSnapshotCopyRequest) {
+        return executeAsync(executorService, new Callable<Cluster>() {
             public Cluster call() throws Exception {
-              Cluster result;
-                try {
-                result = enableSnapshotCopy(enableSnapshotCopyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableSnapshotCopyRequest, result);
-                 return result;
-        }
-    });
+                return enableSnapshotCopy(enableSnapshotCopyRequest);
+            }
+        }, enableSnapshotCopyRequest,
+                new EnableSnapshotCopyRequestMarshaller(), new ClusterStaxUnmarshaller());
     }
     
     /**
@@ -4197,11 +4533,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeReservedNodeOfferingsResult> describeReservedNodeOfferingsAsync(final DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodeOfferingsResult>() {
-            public DescribeReservedNodeOfferingsResult call() throws Exception {
-                return describeReservedNodeOfferings(describeReservedNodeOfferingsRequest);
-        }
-    });
+        return describeReservedNodeOfferingsComposableAsync(describeReservedNodeOfferingsRequest);
     }
 
     /**
@@ -4245,19 +4577,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest,
             final AsyncHandler<DescribeReservedNodeOfferingsRequest, DescribeReservedNodeOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedNodeOfferingsResult>() {
+        return withAsyncHandler(describeReservedNodeOfferingsComposableAsync(describeReservedNodeOfferingsRequest),
+                describeReservedNodeOfferingsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeReservedNodeOfferings operation
+     * like
+     * {@link #describeReservedNodeOfferingsAsync(DescribeReservedNodeOfferingsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeReservedNodeOfferingsRequest Container for the
+     *           necessary parameters to execute the DescribeReservedNodeOfferings
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeReservedNodeOfferings service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeReservedNodeOfferingsResult> describeReservedNodeOfferingsComposableAsync(final DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest) {
+        return executeAsync(executorService, new Callable<DescribeReservedNodeOfferingsResult>() {
             public DescribeReservedNodeOfferingsResult call() throws Exception {
-              DescribeReservedNodeOfferingsResult result;
-                try {
-                result = describeReservedNodeOfferings(describeReservedNodeOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedNodeOfferingsRequest, result);
-                 return result;
-        }
-    });
+                return describeReservedNodeOfferings(describeReservedNodeOfferingsRequest);
+            }
+        }, describeReservedNodeOfferingsRequest,
+                new DescribeReservedNodeOfferingsRequestMarshaller(), new DescribeReservedNodeOfferingsResultStaxUnmarshaller());
     }
     
     /**
@@ -4286,11 +4631,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeEventSubscriptionsResult> describeEventSubscriptionsAsync(final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
-            public DescribeEventSubscriptionsResult call() throws Exception {
-                return describeEventSubscriptions(describeEventSubscriptionsRequest);
-        }
-    });
+        return describeEventSubscriptionsComposableAsync(describeEventSubscriptionsRequest);
     }
 
     /**
@@ -4325,19 +4666,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest,
             final AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventSubscriptionsResult>() {
+        return withAsyncHandler(describeEventSubscriptionsComposableAsync(describeEventSubscriptionsRequest),
+                describeEventSubscriptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeEventSubscriptions operation
+     * like
+     * {@link #describeEventSubscriptionsAsync(DescribeEventSubscriptionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeEventSubscriptionsRequest Container for the necessary
+     *           parameters to execute the DescribeEventSubscriptions operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeEventSubscriptions service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeEventSubscriptionsResult> describeEventSubscriptionsComposableAsync(final DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest) {
+        return executeAsync(executorService, new Callable<DescribeEventSubscriptionsResult>() {
             public DescribeEventSubscriptionsResult call() throws Exception {
-              DescribeEventSubscriptionsResult result;
-                try {
-                result = describeEventSubscriptions(describeEventSubscriptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeEventSubscriptionsRequest, result);
-                 return result;
-        }
-    });
+                return describeEventSubscriptions(describeEventSubscriptionsRequest);
+            }
+        }, describeEventSubscriptionsRequest,
+                new DescribeEventSubscriptionsRequestMarshaller(), new DescribeEventSubscriptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -4364,11 +4718,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeLoggingStatusResult> describeLoggingStatusAsync(final DescribeLoggingStatusRequest describeLoggingStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoggingStatusResult>() {
-            public DescribeLoggingStatusResult call() throws Exception {
-                return describeLoggingStatus(describeLoggingStatusRequest);
-        }
-    });
+        return describeLoggingStatusComposableAsync(describeLoggingStatusRequest);
     }
 
     /**
@@ -4401,19 +4751,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeLoggingStatusRequest describeLoggingStatusRequest,
             final AsyncHandler<DescribeLoggingStatusRequest, DescribeLoggingStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoggingStatusResult>() {
+        return withAsyncHandler(describeLoggingStatusComposableAsync(describeLoggingStatusRequest),
+                describeLoggingStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeLoggingStatus operation like
+     * {@link #describeLoggingStatusAsync(DescribeLoggingStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeLoggingStatusRequest Container for the necessary
+     *           parameters to execute the DescribeLoggingStatus operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeLoggingStatus service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeLoggingStatusResult> describeLoggingStatusComposableAsync(final DescribeLoggingStatusRequest describeLoggingStatusRequest) {
+        return executeAsync(executorService, new Callable<DescribeLoggingStatusResult>() {
             public DescribeLoggingStatusResult call() throws Exception {
-              DescribeLoggingStatusResult result;
-                try {
-                result = describeLoggingStatus(describeLoggingStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeLoggingStatusRequest, result);
-                 return result;
-        }
-    });
+                return describeLoggingStatus(describeLoggingStatusRequest);
+            }
+        }, describeLoggingStatusRequest,
+                new DescribeLoggingStatusRequestMarshaller(), new DescribeLoggingStatusResultStaxUnmarshaller());
     }
     
     /**
@@ -4439,12 +4801,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<Void> deleteEventSubscriptionAsync(final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEventSubscription(deleteEventSubscriptionRequest);
-                return null;
-        }
-    });
+        return deleteEventSubscriptionComposableAsync(deleteEventSubscriptionRequest);
     }
 
     /**
@@ -4476,18 +4833,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest,
             final AsyncHandler<DeleteEventSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteEventSubscriptionComposableAsync(deleteEventSubscriptionRequest),
+                deleteEventSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteEventSubscription operation like
+     * {@link #deleteEventSubscriptionAsync(DeleteEventSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteEventSubscriptionRequest Container for the necessary
+     *           parameters to execute the DeleteEventSubscription operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DeleteEventSubscription service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<Void> deleteEventSubscriptionComposableAsync(final DeleteEventSubscriptionRequest deleteEventSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteEventSubscription(deleteEventSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteEventSubscriptionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteEventSubscriptionRequest,
+                new DeleteEventSubscriptionRequestMarshaller(), null);
     }
     
     /**
@@ -4525,11 +4896,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<HsmClientCertificate> createHsmClientCertificateAsync(final CreateHsmClientCertificateRequest createHsmClientCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<HsmClientCertificate>() {
-            public HsmClientCertificate call() throws Exception {
-                return createHsmClientCertificate(createHsmClientCertificateRequest);
-        }
-    });
+        return createHsmClientCertificateComposableAsync(createHsmClientCertificateRequest);
     }
 
     /**
@@ -4573,19 +4940,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateHsmClientCertificateRequest createHsmClientCertificateRequest,
             final AsyncHandler<CreateHsmClientCertificateRequest, HsmClientCertificate> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<HsmClientCertificate>() {
+        return withAsyncHandler(createHsmClientCertificateComposableAsync(createHsmClientCertificateRequest),
+                createHsmClientCertificateRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHsmClientCertificate operation
+     * like
+     * {@link #createHsmClientCertificateAsync(CreateHsmClientCertificateRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createHsmClientCertificateRequest Container for the necessary
+     *           parameters to execute the CreateHsmClientCertificate operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateHsmClientCertificate service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<HsmClientCertificate> createHsmClientCertificateComposableAsync(final CreateHsmClientCertificateRequest createHsmClientCertificateRequest) {
+        return executeAsync(executorService, new Callable<HsmClientCertificate>() {
             public HsmClientCertificate call() throws Exception {
-              HsmClientCertificate result;
-                try {
-                result = createHsmClientCertificate(createHsmClientCertificateRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHsmClientCertificateRequest, result);
-                 return result;
-        }
-    });
+                return createHsmClientCertificate(createHsmClientCertificateRequest);
+            }
+        }, createHsmClientCertificateRequest,
+                new CreateHsmClientCertificateRequestMarshaller(), new HsmClientCertificateStaxUnmarshaller());
     }
     
     /**
@@ -4628,11 +5008,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeHsmClientCertificatesResult> describeHsmClientCertificatesAsync(final DescribeHsmClientCertificatesRequest describeHsmClientCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmClientCertificatesResult>() {
-            public DescribeHsmClientCertificatesResult call() throws Exception {
-                return describeHsmClientCertificates(describeHsmClientCertificatesRequest);
-        }
-    });
+        return describeHsmClientCertificatesComposableAsync(describeHsmClientCertificatesRequest);
     }
 
     /**
@@ -4681,19 +5057,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeHsmClientCertificatesRequest describeHsmClientCertificatesRequest,
             final AsyncHandler<DescribeHsmClientCertificatesRequest, DescribeHsmClientCertificatesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHsmClientCertificatesResult>() {
+        return withAsyncHandler(describeHsmClientCertificatesComposableAsync(describeHsmClientCertificatesRequest),
+                describeHsmClientCertificatesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeHsmClientCertificates operation
+     * like
+     * {@link #describeHsmClientCertificatesAsync(DescribeHsmClientCertificatesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeHsmClientCertificatesRequest Container for the
+     *           necessary parameters to execute the DescribeHsmClientCertificates
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeHsmClientCertificates service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeHsmClientCertificatesResult> describeHsmClientCertificatesComposableAsync(final DescribeHsmClientCertificatesRequest describeHsmClientCertificatesRequest) {
+        return executeAsync(executorService, new Callable<DescribeHsmClientCertificatesResult>() {
             public DescribeHsmClientCertificatesResult call() throws Exception {
-              DescribeHsmClientCertificatesResult result;
-                try {
-                result = describeHsmClientCertificates(describeHsmClientCertificatesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHsmClientCertificatesRequest, result);
-                 return result;
-        }
-    });
+                return describeHsmClientCertificates(describeHsmClientCertificatesRequest);
+            }
+        }, describeHsmClientCertificatesRequest,
+                new DescribeHsmClientCertificatesRequestMarshaller(), new DescribeHsmClientCertificatesResultStaxUnmarshaller());
     }
     
     /**
@@ -4734,11 +5123,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterParametersResult> describeClusterParametersAsync(final DescribeClusterParametersRequest describeClusterParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParametersResult>() {
-            public DescribeClusterParametersResult call() throws Exception {
-                return describeClusterParameters(describeClusterParametersRequest);
-        }
-    });
+        return describeClusterParametersComposableAsync(describeClusterParametersRequest);
     }
 
     /**
@@ -4785,19 +5170,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterParametersRequest describeClusterParametersRequest,
             final AsyncHandler<DescribeClusterParametersRequest, DescribeClusterParametersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParametersResult>() {
+        return withAsyncHandler(describeClusterParametersComposableAsync(describeClusterParametersRequest),
+                describeClusterParametersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterParameters operation like
+     * {@link #describeClusterParametersAsync(DescribeClusterParametersRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterParametersRequest Container for the necessary
+     *           parameters to execute the DescribeClusterParameters operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterParameters service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterParametersResult> describeClusterParametersComposableAsync(final DescribeClusterParametersRequest describeClusterParametersRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterParametersResult>() {
             public DescribeClusterParametersResult call() throws Exception {
-              DescribeClusterParametersResult result;
-                try {
-                result = describeClusterParameters(describeClusterParametersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterParametersRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterParameters(describeClusterParametersRequest);
+            }
+        }, describeClusterParametersRequest,
+                new DescribeClusterParametersRequestMarshaller(), new DescribeClusterParametersResultStaxUnmarshaller());
     }
     
     /**
@@ -4829,11 +5226,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterSecurityGroup> revokeClusterSecurityGroupIngressAsync(final RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
-            public ClusterSecurityGroup call() throws Exception {
-                return revokeClusterSecurityGroupIngress(revokeClusterSecurityGroupIngressRequest);
-        }
-    });
+        return revokeClusterSecurityGroupIngressComposableAsync(revokeClusterSecurityGroupIngressRequest);
     }
 
     /**
@@ -4871,19 +5264,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest,
             final AsyncHandler<RevokeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterSecurityGroup>() {
+        return withAsyncHandler(revokeClusterSecurityGroupIngressComposableAsync(revokeClusterSecurityGroupIngressRequest),
+                revokeClusterSecurityGroupIngressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RevokeClusterSecurityGroupIngress
+     * operation like
+     * {@link #revokeClusterSecurityGroupIngressAsync(RevokeClusterSecurityGroupIngressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param revokeClusterSecurityGroupIngressRequest Container for the
+     *           necessary parameters to execute the RevokeClusterSecurityGroupIngress
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         RevokeClusterSecurityGroupIngress service method, as
+     *         returned by AmazonRedshift.
+     */
+    public ComposableFuture<ClusterSecurityGroup> revokeClusterSecurityGroupIngressComposableAsync(final RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest) {
+        return executeAsync(executorService, new Callable<ClusterSecurityGroup>() {
             public ClusterSecurityGroup call() throws Exception {
-              ClusterSecurityGroup result;
-                try {
-                result = revokeClusterSecurityGroupIngress(revokeClusterSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeClusterSecurityGroupIngressRequest, result);
-                 return result;
-        }
-    });
+                return revokeClusterSecurityGroupIngress(revokeClusterSecurityGroupIngressRequest);
+            }
+        }, revokeClusterSecurityGroupIngressRequest,
+                new RevokeClusterSecurityGroupIngressRequestMarshaller(), new ClusterSecurityGroupStaxUnmarshaller());
     }
     
     /**
@@ -4919,11 +5325,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<HsmConfiguration> createHsmConfigurationAsync(final CreateHsmConfigurationRequest createHsmConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<HsmConfiguration>() {
-            public HsmConfiguration call() throws Exception {
-                return createHsmConfiguration(createHsmConfigurationRequest);
-        }
-    });
+        return createHsmConfigurationComposableAsync(createHsmConfigurationRequest);
     }
 
     /**
@@ -4965,19 +5367,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateHsmConfigurationRequest createHsmConfigurationRequest,
             final AsyncHandler<CreateHsmConfigurationRequest, HsmConfiguration> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<HsmConfiguration>() {
+        return withAsyncHandler(createHsmConfigurationComposableAsync(createHsmConfigurationRequest),
+                createHsmConfigurationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHsmConfiguration operation like
+     * {@link #createHsmConfigurationAsync(CreateHsmConfigurationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createHsmConfigurationRequest Container for the necessary
+     *           parameters to execute the CreateHsmConfiguration operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateHsmConfiguration service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<HsmConfiguration> createHsmConfigurationComposableAsync(final CreateHsmConfigurationRequest createHsmConfigurationRequest) {
+        return executeAsync(executorService, new Callable<HsmConfiguration>() {
             public HsmConfiguration call() throws Exception {
-              HsmConfiguration result;
-                try {
-                result = createHsmConfiguration(createHsmConfigurationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHsmConfigurationRequest, result);
-                 return result;
-        }
-    });
+                return createHsmConfiguration(createHsmConfigurationRequest);
+            }
+        }, createHsmConfigurationRequest,
+                new CreateHsmConfigurationRequestMarshaller(), new HsmConfigurationStaxUnmarshaller());
     }
     
     /**
@@ -5021,11 +5435,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClustersResult> describeClustersAsync(final DescribeClustersRequest describeClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
-            public DescribeClustersResult call() throws Exception {
-                return describeClusters(describeClustersRequest);
-        }
-    });
+        return describeClustersComposableAsync(describeClustersRequest);
     }
 
     /**
@@ -5075,19 +5485,29 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClustersRequest describeClustersRequest,
             final AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClustersResult>() {
+        return withAsyncHandler(describeClustersComposableAsync(describeClustersRequest),
+                describeClustersRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusters operation like
+     * {@link #describeClustersAsync(DescribeClustersRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeClustersRequest Container for the necessary parameters
+     *           to execute the DescribeClusters operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusters service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClustersResult> describeClustersComposableAsync(final DescribeClustersRequest describeClustersRequest) {
+        return executeAsync(executorService, new Callable<DescribeClustersResult>() {
             public DescribeClustersResult call() throws Exception {
-              DescribeClustersResult result;
-                try {
-                result = describeClusters(describeClustersRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClustersRequest, result);
-                 return result;
-        }
-    });
+                return describeClusters(describeClustersRequest);
+            }
+        }, describeClustersRequest,
+                new DescribeClustersRequestMarshaller(), new DescribeClustersResultStaxUnmarshaller());
     }
     
     /**
@@ -5133,11 +5553,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterSnapshotsResult> describeClusterSnapshotsAsync(final DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSnapshotsResult>() {
-            public DescribeClusterSnapshotsResult call() throws Exception {
-                return describeClusterSnapshots(describeClusterSnapshotsRequest);
-        }
-    });
+        return describeClusterSnapshotsComposableAsync(describeClusterSnapshotsRequest);
     }
 
     /**
@@ -5189,19 +5605,31 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest,
             final AsyncHandler<DescribeClusterSnapshotsRequest, DescribeClusterSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterSnapshotsResult>() {
+        return withAsyncHandler(describeClusterSnapshotsComposableAsync(describeClusterSnapshotsRequest),
+                describeClusterSnapshotsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterSnapshots operation like
+     * {@link #describeClusterSnapshotsAsync(DescribeClusterSnapshotsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterSnapshotsRequest Container for the necessary
+     *           parameters to execute the DescribeClusterSnapshots operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterSnapshots service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterSnapshotsResult> describeClusterSnapshotsComposableAsync(final DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterSnapshotsResult>() {
             public DescribeClusterSnapshotsResult call() throws Exception {
-              DescribeClusterSnapshotsResult result;
-                try {
-                result = describeClusterSnapshots(describeClusterSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterSnapshotsRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterSnapshots(describeClusterSnapshotsRequest);
+            }
+        }, describeClusterSnapshotsRequest,
+                new DescribeClusterSnapshotsRequestMarshaller(), new DescribeClusterSnapshotsResultStaxUnmarshaller());
     }
     
     /**
@@ -5241,11 +5669,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<ClusterParameterGroup> createClusterParameterGroupAsync(final CreateClusterParameterGroupRequest createClusterParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterParameterGroup>() {
-            public ClusterParameterGroup call() throws Exception {
-                return createClusterParameterGroup(createClusterParameterGroupRequest);
-        }
-    });
+        return createClusterParameterGroupComposableAsync(createClusterParameterGroupRequest);
     }
 
     /**
@@ -5291,19 +5715,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final CreateClusterParameterGroupRequest createClusterParameterGroupRequest,
             final AsyncHandler<CreateClusterParameterGroupRequest, ClusterParameterGroup> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClusterParameterGroup>() {
+        return withAsyncHandler(createClusterParameterGroupComposableAsync(createClusterParameterGroupRequest),
+                createClusterParameterGroupRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateClusterParameterGroup operation
+     * like
+     * {@link #createClusterParameterGroupAsync(CreateClusterParameterGroupRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createClusterParameterGroupRequest Container for the necessary
+     *           parameters to execute the CreateClusterParameterGroup operation on
+     *           AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         CreateClusterParameterGroup service method, as returned by
+     *         AmazonRedshift.
+     */
+    public ComposableFuture<ClusterParameterGroup> createClusterParameterGroupComposableAsync(final CreateClusterParameterGroupRequest createClusterParameterGroupRequest) {
+        return executeAsync(executorService, new Callable<ClusterParameterGroup>() {
             public ClusterParameterGroup call() throws Exception {
-              ClusterParameterGroup result;
-                try {
-                result = createClusterParameterGroup(createClusterParameterGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createClusterParameterGroupRequest, result);
-                 return result;
-        }
-    });
+                return createClusterParameterGroup(createClusterParameterGroupRequest);
+            }
+        }, createClusterParameterGroupRequest,
+                new CreateClusterParameterGroupRequestMarshaller(), new ClusterParameterGroupStaxUnmarshaller());
     }
     
     /**
@@ -5353,11 +5790,7 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
      */
     public Future<DescribeClusterParameterGroupsResult> describeClusterParameterGroupsAsync(final DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParameterGroupsResult>() {
-            public DescribeClusterParameterGroupsResult call() throws Exception {
-                return describeClusterParameterGroups(describeClusterParameterGroupsRequest);
-        }
-    });
+        return describeClusterParameterGroupsComposableAsync(describeClusterParameterGroupsRequest);
     }
 
     /**
@@ -5413,19 +5846,32 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient
             final DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest,
             final AsyncHandler<DescribeClusterParameterGroupsRequest, DescribeClusterParameterGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClusterParameterGroupsResult>() {
+        return withAsyncHandler(describeClusterParameterGroupsComposableAsync(describeClusterParameterGroupsRequest),
+                describeClusterParameterGroupsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeClusterParameterGroups operation
+     * like
+     * {@link #describeClusterParameterGroupsAsync(DescribeClusterParameterGroupsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeClusterParameterGroupsRequest Container for the
+     *           necessary parameters to execute the DescribeClusterParameterGroups
+     *           operation on AmazonRedshift.
+     *
+     * @return A composable future for the response from the
+     *         DescribeClusterParameterGroups service method, as returned
+     *         by AmazonRedshift.
+     */
+    public ComposableFuture<DescribeClusterParameterGroupsResult> describeClusterParameterGroupsComposableAsync(final DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest) {
+        return executeAsync(executorService, new Callable<DescribeClusterParameterGroupsResult>() {
             public DescribeClusterParameterGroupsResult call() throws Exception {
-              DescribeClusterParameterGroupsResult result;
-                try {
-                result = describeClusterParameterGroups(describeClusterParameterGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClusterParameterGroupsRequest, result);
-                 return result;
-        }
-    });
+                return describeClusterParameterGroups(describeClusterParameterGroupsRequest);
+            }
+        }, describeClusterParameterGroupsRequest,
+                new DescribeClusterParameterGroupsRequestMarshaller(), new DescribeClusterParameterGroupsResultStaxUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.route53.model.*;
+import com.amazonaws.services.route53.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonRoute53.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * 
  */
 public class AmazonRoute53AsyncClient extends AmazonRoute53Client
@@ -293,11 +297,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHostedZoneResult> getHostedZoneAsync(final GetHostedZoneRequest getHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostedZoneResult>() {
-            public GetHostedZoneResult call() throws Exception {
-                return getHostedZone(getHostedZoneRequest);
-        }
-    });
+        return getHostedZoneComposableAsync(getHostedZoneRequest);
     }
 
     /**
@@ -331,19 +331,28 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHostedZoneRequest getHostedZoneRequest,
             final AsyncHandler<GetHostedZoneRequest, GetHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostedZoneResult>() {
+        return withAsyncHandler(getHostedZoneComposableAsync(getHostedZoneRequest),
+                getHostedZoneRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHostedZone operation like
+     * {@link #getHostedZoneAsync(GetHostedZoneRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getHostedZoneRequest Container for the necessary parameters to
+     *           execute the GetHostedZone operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the GetHostedZone
+     *         service method, as returned by AmazonRoute53.
+     */
+    public ComposableFuture<GetHostedZoneResult> getHostedZoneComposableAsync(final GetHostedZoneRequest getHostedZoneRequest) {
+        return executeAsync(executorService, new Callable<GetHostedZoneResult>() {
             public GetHostedZoneResult call() throws Exception {
-              GetHostedZoneResult result;
-                try {
-                result = getHostedZone(getHostedZoneRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHostedZoneRequest, result);
-                 return result;
-        }
-    });
+                return getHostedZone(getHostedZoneRequest);
+            }
+        }, getHostedZoneRequest,
+                new GetHostedZoneRequestMarshaller(), new GetHostedZoneResultStaxUnmarshaller());
     }
     
     /**
@@ -378,11 +387,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetChangeResult> getChangeAsync(final GetChangeRequest getChangeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetChangeResult>() {
-            public GetChangeResult call() throws Exception {
-                return getChange(getChangeRequest);
-        }
-    });
+        return getChangeComposableAsync(getChangeRequest);
     }
 
     /**
@@ -423,19 +428,28 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetChangeRequest getChangeRequest,
             final AsyncHandler<GetChangeRequest, GetChangeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetChangeResult>() {
+        return withAsyncHandler(getChangeComposableAsync(getChangeRequest),
+                getChangeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetChange operation like
+     * {@link #getChangeAsync(GetChangeRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getChangeRequest Container for the necessary parameters to
+     *           execute the GetChange operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the GetChange
+     *         service method, as returned by AmazonRoute53.
+     */
+    public ComposableFuture<GetChangeResult> getChangeComposableAsync(final GetChangeRequest getChangeRequest) {
+        return executeAsync(executorService, new Callable<GetChangeResult>() {
             public GetChangeResult call() throws Exception {
-              GetChangeResult result;
-                try {
-                result = getChange(getChangeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getChangeRequest, result);
-                 return result;
-        }
-    });
+                return getChange(getChangeRequest);
+            }
+        }, getChangeRequest,
+                new GetChangeRequestMarshaller(), new GetChangeResultStaxUnmarshaller());
     }
     
     /**
@@ -463,11 +477,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetGeoLocationResult> getGeoLocationAsync(final GetGeoLocationRequest getGeoLocationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGeoLocationResult>() {
-            public GetGeoLocationResult call() throws Exception {
-                return getGeoLocation(getGeoLocationRequest);
-        }
-    });
+        return getGeoLocationComposableAsync(getGeoLocationRequest);
     }
 
     /**
@@ -501,19 +511,28 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetGeoLocationRequest getGeoLocationRequest,
             final AsyncHandler<GetGeoLocationRequest, GetGeoLocationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGeoLocationResult>() {
+        return withAsyncHandler(getGeoLocationComposableAsync(getGeoLocationRequest),
+                getGeoLocationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetGeoLocation operation like
+     * {@link #getGeoLocationAsync(GetGeoLocationRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getGeoLocationRequest Container for the necessary parameters to
+     *           execute the GetGeoLocation operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the GetGeoLocation
+     *         service method, as returned by AmazonRoute53.
+     */
+    public ComposableFuture<GetGeoLocationResult> getGeoLocationComposableAsync(final GetGeoLocationRequest getGeoLocationRequest) {
+        return executeAsync(executorService, new Callable<GetGeoLocationResult>() {
             public GetGeoLocationResult call() throws Exception {
-              GetGeoLocationResult result;
-                try {
-                result = getGeoLocation(getGeoLocationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getGeoLocationRequest, result);
-                 return result;
-        }
-    });
+                return getGeoLocation(getGeoLocationRequest);
+            }
+        }, getGeoLocationRequest,
+                new GetGeoLocationRequestMarshaller(), new GetGeoLocationResultStaxUnmarshaller());
     }
     
     /**
@@ -546,11 +565,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<UpdateHostedZoneCommentResult> updateHostedZoneCommentAsync(final UpdateHostedZoneCommentRequest updateHostedZoneCommentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateHostedZoneCommentResult>() {
-            public UpdateHostedZoneCommentResult call() throws Exception {
-                return updateHostedZoneComment(updateHostedZoneCommentRequest);
-        }
-    });
+        return updateHostedZoneCommentComposableAsync(updateHostedZoneCommentRequest);
     }
 
     /**
@@ -589,19 +604,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final UpdateHostedZoneCommentRequest updateHostedZoneCommentRequest,
             final AsyncHandler<UpdateHostedZoneCommentRequest, UpdateHostedZoneCommentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateHostedZoneCommentResult>() {
+        return withAsyncHandler(updateHostedZoneCommentComposableAsync(updateHostedZoneCommentRequest),
+                updateHostedZoneCommentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateHostedZoneComment operation like
+     * {@link #updateHostedZoneCommentAsync(UpdateHostedZoneCommentRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateHostedZoneCommentRequest Container for the necessary
+     *           parameters to execute the UpdateHostedZoneComment operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         UpdateHostedZoneComment service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<UpdateHostedZoneCommentResult> updateHostedZoneCommentComposableAsync(final UpdateHostedZoneCommentRequest updateHostedZoneCommentRequest) {
+        return executeAsync(executorService, new Callable<UpdateHostedZoneCommentResult>() {
             public UpdateHostedZoneCommentResult call() throws Exception {
-              UpdateHostedZoneCommentResult result;
-                try {
-                result = updateHostedZoneComment(updateHostedZoneCommentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateHostedZoneCommentRequest, result);
-                 return result;
-        }
-    });
+                return updateHostedZoneComment(updateHostedZoneCommentRequest);
+            }
+        }, updateHostedZoneCommentRequest,
+                new UpdateHostedZoneCommentRequestMarshaller(), new UpdateHostedZoneCommentResultStaxUnmarshaller());
     }
     
     /**
@@ -624,11 +651,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListTagsForResourcesResult> listTagsForResourcesAsync(final ListTagsForResourcesRequest listTagsForResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourcesResult>() {
-            public ListTagsForResourcesResult call() throws Exception {
-                return listTagsForResources(listTagsForResourcesRequest);
-        }
-    });
+        return listTagsForResourcesComposableAsync(listTagsForResourcesRequest);
     }
 
     /**
@@ -657,19 +680,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListTagsForResourcesRequest listTagsForResourcesRequest,
             final AsyncHandler<ListTagsForResourcesRequest, ListTagsForResourcesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourcesResult>() {
+        return withAsyncHandler(listTagsForResourcesComposableAsync(listTagsForResourcesRequest),
+                listTagsForResourcesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForResources operation like
+     * {@link #listTagsForResourcesAsync(ListTagsForResourcesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listTagsForResourcesRequest Container for the necessary
+     *           parameters to execute the ListTagsForResources operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForResources service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListTagsForResourcesResult> listTagsForResourcesComposableAsync(final ListTagsForResourcesRequest listTagsForResourcesRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForResourcesResult>() {
             public ListTagsForResourcesResult call() throws Exception {
-              ListTagsForResourcesResult result;
-                try {
-                result = listTagsForResources(listTagsForResourcesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForResourcesRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForResources(listTagsForResourcesRequest);
+            }
+        }, listTagsForResourcesRequest,
+                new ListTagsForResourcesRequestMarshaller(), new ListTagsForResourcesResultStaxUnmarshaller());
     }
     
     /**
@@ -706,11 +741,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteHealthCheckResult> deleteHealthCheckAsync(final DeleteHealthCheckRequest deleteHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHealthCheckResult>() {
-            public DeleteHealthCheckResult call() throws Exception {
-                return deleteHealthCheck(deleteHealthCheckRequest);
-        }
-    });
+        return deleteHealthCheckComposableAsync(deleteHealthCheckRequest);
     }
 
     /**
@@ -753,19 +784,30 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DeleteHealthCheckRequest deleteHealthCheckRequest,
             final AsyncHandler<DeleteHealthCheckRequest, DeleteHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHealthCheckResult>() {
+        return withAsyncHandler(deleteHealthCheckComposableAsync(deleteHealthCheckRequest),
+                deleteHealthCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHealthCheck operation like
+     * {@link #deleteHealthCheckAsync(DeleteHealthCheckRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteHealthCheckRequest Container for the necessary parameters
+     *           to execute the DeleteHealthCheck operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         DeleteHealthCheck service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<DeleteHealthCheckResult> deleteHealthCheckComposableAsync(final DeleteHealthCheckRequest deleteHealthCheckRequest) {
+        return executeAsync(executorService, new Callable<DeleteHealthCheckResult>() {
             public DeleteHealthCheckResult call() throws Exception {
-              DeleteHealthCheckResult result;
-                try {
-                result = deleteHealthCheck(deleteHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHealthCheckRequest, result);
-                 return result;
-        }
-    });
+                return deleteHealthCheck(deleteHealthCheckRequest);
+            }
+        }, deleteHealthCheckRequest,
+                new DeleteHealthCheckRequestMarshaller(), new DeleteHealthCheckResultStaxUnmarshaller());
     }
     
     /**
@@ -841,11 +883,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListResourceRecordSetsResult> listResourceRecordSetsAsync(final ListResourceRecordSetsRequest listResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListResourceRecordSetsResult>() {
-            public ListResourceRecordSetsResult call() throws Exception {
-                return listResourceRecordSets(listResourceRecordSetsRequest);
-        }
-    });
+        return listResourceRecordSetsComposableAsync(listResourceRecordSetsRequest);
     }
 
     /**
@@ -927,19 +965,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListResourceRecordSetsRequest listResourceRecordSetsRequest,
             final AsyncHandler<ListResourceRecordSetsRequest, ListResourceRecordSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListResourceRecordSetsResult>() {
+        return withAsyncHandler(listResourceRecordSetsComposableAsync(listResourceRecordSetsRequest),
+                listResourceRecordSetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListResourceRecordSets operation like
+     * {@link #listResourceRecordSetsAsync(ListResourceRecordSetsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listResourceRecordSetsRequest Container for the necessary
+     *           parameters to execute the ListResourceRecordSets operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListResourceRecordSets service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListResourceRecordSetsResult> listResourceRecordSetsComposableAsync(final ListResourceRecordSetsRequest listResourceRecordSetsRequest) {
+        return executeAsync(executorService, new Callable<ListResourceRecordSetsResult>() {
             public ListResourceRecordSetsResult call() throws Exception {
-              ListResourceRecordSetsResult result;
-                try {
-                result = listResourceRecordSets(listResourceRecordSetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listResourceRecordSetsRequest, result);
-                 return result;
-        }
-    });
+                return listResourceRecordSets(listResourceRecordSetsRequest);
+            }
+        }, listResourceRecordSetsRequest,
+                new ListResourceRecordSetsRequestMarshaller(), new ListResourceRecordSetsResultStaxUnmarshaller());
     }
     
     /**
@@ -976,11 +1026,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteReusableDelegationSetResult> deleteReusableDelegationSetAsync(final DeleteReusableDelegationSetRequest deleteReusableDelegationSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReusableDelegationSetResult>() {
-            public DeleteReusableDelegationSetResult call() throws Exception {
-                return deleteReusableDelegationSet(deleteReusableDelegationSetRequest);
-        }
-    });
+        return deleteReusableDelegationSetComposableAsync(deleteReusableDelegationSetRequest);
     }
 
     /**
@@ -1023,19 +1069,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DeleteReusableDelegationSetRequest deleteReusableDelegationSetRequest,
             final AsyncHandler<DeleteReusableDelegationSetRequest, DeleteReusableDelegationSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReusableDelegationSetResult>() {
+        return withAsyncHandler(deleteReusableDelegationSetComposableAsync(deleteReusableDelegationSetRequest),
+                deleteReusableDelegationSetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteReusableDelegationSet operation
+     * like
+     * {@link #deleteReusableDelegationSetAsync(DeleteReusableDelegationSetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteReusableDelegationSetRequest Container for the necessary
+     *           parameters to execute the DeleteReusableDelegationSet operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         DeleteReusableDelegationSet service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<DeleteReusableDelegationSetResult> deleteReusableDelegationSetComposableAsync(final DeleteReusableDelegationSetRequest deleteReusableDelegationSetRequest) {
+        return executeAsync(executorService, new Callable<DeleteReusableDelegationSetResult>() {
             public DeleteReusableDelegationSetResult call() throws Exception {
-              DeleteReusableDelegationSetResult result;
-                try {
-                result = deleteReusableDelegationSet(deleteReusableDelegationSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteReusableDelegationSetRequest, result);
-                 return result;
-        }
-    });
+                return deleteReusableDelegationSet(deleteReusableDelegationSetRequest);
+            }
+        }, deleteReusableDelegationSetRequest,
+                new DeleteReusableDelegationSetRequestMarshaller(), new DeleteReusableDelegationSetResultStaxUnmarshaller());
     }
     
     /**
@@ -1061,11 +1120,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHealthCheckResult> getHealthCheckAsync(final GetHealthCheckRequest getHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckResult>() {
-            public GetHealthCheckResult call() throws Exception {
-                return getHealthCheck(getHealthCheckRequest);
-        }
-    });
+        return getHealthCheckComposableAsync(getHealthCheckRequest);
     }
 
     /**
@@ -1097,19 +1152,28 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHealthCheckRequest getHealthCheckRequest,
             final AsyncHandler<GetHealthCheckRequest, GetHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckResult>() {
+        return withAsyncHandler(getHealthCheckComposableAsync(getHealthCheckRequest),
+                getHealthCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHealthCheck operation like
+     * {@link #getHealthCheckAsync(GetHealthCheckRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getHealthCheckRequest Container for the necessary parameters to
+     *           execute the GetHealthCheck operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the GetHealthCheck
+     *         service method, as returned by AmazonRoute53.
+     */
+    public ComposableFuture<GetHealthCheckResult> getHealthCheckComposableAsync(final GetHealthCheckRequest getHealthCheckRequest) {
+        return executeAsync(executorService, new Callable<GetHealthCheckResult>() {
             public GetHealthCheckResult call() throws Exception {
-              GetHealthCheckResult result;
-                try {
-                result = getHealthCheck(getHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHealthCheckRequest, result);
-                 return result;
-        }
-    });
+                return getHealthCheck(getHealthCheckRequest);
+            }
+        }, getHealthCheckRequest,
+                new GetHealthCheckRequestMarshaller(), new GetHealthCheckResultStaxUnmarshaller());
     }
     
     /**
@@ -1148,11 +1212,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateReusableDelegationSetResult> createReusableDelegationSetAsync(final CreateReusableDelegationSetRequest createReusableDelegationSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReusableDelegationSetResult>() {
-            public CreateReusableDelegationSetResult call() throws Exception {
-                return createReusableDelegationSet(createReusableDelegationSetRequest);
-        }
-    });
+        return createReusableDelegationSetComposableAsync(createReusableDelegationSetRequest);
     }
 
     /**
@@ -1197,19 +1257,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final CreateReusableDelegationSetRequest createReusableDelegationSetRequest,
             final AsyncHandler<CreateReusableDelegationSetRequest, CreateReusableDelegationSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReusableDelegationSetResult>() {
+        return withAsyncHandler(createReusableDelegationSetComposableAsync(createReusableDelegationSetRequest),
+                createReusableDelegationSetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateReusableDelegationSet operation
+     * like
+     * {@link #createReusableDelegationSetAsync(CreateReusableDelegationSetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createReusableDelegationSetRequest Container for the necessary
+     *           parameters to execute the CreateReusableDelegationSet operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         CreateReusableDelegationSet service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<CreateReusableDelegationSetResult> createReusableDelegationSetComposableAsync(final CreateReusableDelegationSetRequest createReusableDelegationSetRequest) {
+        return executeAsync(executorService, new Callable<CreateReusableDelegationSetResult>() {
             public CreateReusableDelegationSetResult call() throws Exception {
-              CreateReusableDelegationSetResult result;
-                try {
-                result = createReusableDelegationSet(createReusableDelegationSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReusableDelegationSetRequest, result);
-                 return result;
-        }
-    });
+                return createReusableDelegationSet(createReusableDelegationSetRequest);
+            }
+        }, createReusableDelegationSetRequest,
+                new CreateReusableDelegationSetRequestMarshaller(), new CreateReusableDelegationSetResultStaxUnmarshaller());
     }
     
     /**
@@ -1240,11 +1313,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetCheckerIpRangesResult> getCheckerIpRangesAsync(final GetCheckerIpRangesRequest getCheckerIpRangesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCheckerIpRangesResult>() {
-            public GetCheckerIpRangesResult call() throws Exception {
-                return getCheckerIpRanges(getCheckerIpRangesRequest);
-        }
-    });
+        return getCheckerIpRangesComposableAsync(getCheckerIpRangesRequest);
     }
 
     /**
@@ -1281,19 +1350,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetCheckerIpRangesRequest getCheckerIpRangesRequest,
             final AsyncHandler<GetCheckerIpRangesRequest, GetCheckerIpRangesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCheckerIpRangesResult>() {
+        return withAsyncHandler(getCheckerIpRangesComposableAsync(getCheckerIpRangesRequest),
+                getCheckerIpRangesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetCheckerIpRanges operation like
+     * {@link #getCheckerIpRangesAsync(GetCheckerIpRangesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getCheckerIpRangesRequest Container for the necessary
+     *           parameters to execute the GetCheckerIpRanges operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         GetCheckerIpRanges service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<GetCheckerIpRangesResult> getCheckerIpRangesComposableAsync(final GetCheckerIpRangesRequest getCheckerIpRangesRequest) {
+        return executeAsync(executorService, new Callable<GetCheckerIpRangesResult>() {
             public GetCheckerIpRangesResult call() throws Exception {
-              GetCheckerIpRangesResult result;
-                try {
-                result = getCheckerIpRanges(getCheckerIpRangesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getCheckerIpRangesRequest, result);
-                 return result;
-        }
-    });
+                return getCheckerIpRanges(getCheckerIpRangesRequest);
+            }
+        }, getCheckerIpRangesRequest,
+                new GetCheckerIpRangesRequestMarshaller(), new GetCheckerIpRangesResultStaxUnmarshaller());
     }
     
     /**
@@ -1332,11 +1413,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DisassociateVPCFromHostedZoneResult> disassociateVPCFromHostedZoneAsync(final DisassociateVPCFromHostedZoneRequest disassociateVPCFromHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisassociateVPCFromHostedZoneResult>() {
-            public DisassociateVPCFromHostedZoneResult call() throws Exception {
-                return disassociateVPCFromHostedZone(disassociateVPCFromHostedZoneRequest);
-        }
-    });
+        return disassociateVPCFromHostedZoneComposableAsync(disassociateVPCFromHostedZoneRequest);
     }
 
     /**
@@ -1381,19 +1458,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DisassociateVPCFromHostedZoneRequest disassociateVPCFromHostedZoneRequest,
             final AsyncHandler<DisassociateVPCFromHostedZoneRequest, DisassociateVPCFromHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisassociateVPCFromHostedZoneResult>() {
+        return withAsyncHandler(disassociateVPCFromHostedZoneComposableAsync(disassociateVPCFromHostedZoneRequest),
+                disassociateVPCFromHostedZoneRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisassociateVPCFromHostedZone operation
+     * like
+     * {@link #disassociateVPCFromHostedZoneAsync(DisassociateVPCFromHostedZoneRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disassociateVPCFromHostedZoneRequest Container for the
+     *           necessary parameters to execute the DisassociateVPCFromHostedZone
+     *           operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         DisassociateVPCFromHostedZone service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<DisassociateVPCFromHostedZoneResult> disassociateVPCFromHostedZoneComposableAsync(final DisassociateVPCFromHostedZoneRequest disassociateVPCFromHostedZoneRequest) {
+        return executeAsync(executorService, new Callable<DisassociateVPCFromHostedZoneResult>() {
             public DisassociateVPCFromHostedZoneResult call() throws Exception {
-              DisassociateVPCFromHostedZoneResult result;
-                try {
-                result = disassociateVPCFromHostedZone(disassociateVPCFromHostedZoneRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateVPCFromHostedZoneRequest, result);
-                 return result;
-        }
-    });
+                return disassociateVPCFromHostedZone(disassociateVPCFromHostedZoneRequest);
+            }
+        }, disassociateVPCFromHostedZoneRequest,
+                new DisassociateVPCFromHostedZoneRequestMarshaller(), new DisassociateVPCFromHostedZoneResultStaxUnmarshaller());
     }
     
     /**
@@ -1424,11 +1514,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHealthCheckLastFailureReasonResult> getHealthCheckLastFailureReasonAsync(final GetHealthCheckLastFailureReasonRequest getHealthCheckLastFailureReasonRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckLastFailureReasonResult>() {
-            public GetHealthCheckLastFailureReasonResult call() throws Exception {
-                return getHealthCheckLastFailureReason(getHealthCheckLastFailureReasonRequest);
-        }
-    });
+        return getHealthCheckLastFailureReasonComposableAsync(getHealthCheckLastFailureReasonRequest);
     }
 
     /**
@@ -1465,19 +1551,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHealthCheckLastFailureReasonRequest getHealthCheckLastFailureReasonRequest,
             final AsyncHandler<GetHealthCheckLastFailureReasonRequest, GetHealthCheckLastFailureReasonResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckLastFailureReasonResult>() {
+        return withAsyncHandler(getHealthCheckLastFailureReasonComposableAsync(getHealthCheckLastFailureReasonRequest),
+                getHealthCheckLastFailureReasonRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHealthCheckLastFailureReason
+     * operation like
+     * {@link #getHealthCheckLastFailureReasonAsync(GetHealthCheckLastFailureReasonRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getHealthCheckLastFailureReasonRequest Container for the
+     *           necessary parameters to execute the GetHealthCheckLastFailureReason
+     *           operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         GetHealthCheckLastFailureReason service method, as returned
+     *         by AmazonRoute53.
+     */
+    public ComposableFuture<GetHealthCheckLastFailureReasonResult> getHealthCheckLastFailureReasonComposableAsync(final GetHealthCheckLastFailureReasonRequest getHealthCheckLastFailureReasonRequest) {
+        return executeAsync(executorService, new Callable<GetHealthCheckLastFailureReasonResult>() {
             public GetHealthCheckLastFailureReasonResult call() throws Exception {
-              GetHealthCheckLastFailureReasonResult result;
-                try {
-                result = getHealthCheckLastFailureReason(getHealthCheckLastFailureReasonRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHealthCheckLastFailureReasonRequest, result);
-                 return result;
-        }
-    });
+                return getHealthCheckLastFailureReason(getHealthCheckLastFailureReasonRequest);
+            }
+        }, getHealthCheckLastFailureReasonRequest,
+                new GetHealthCheckLastFailureReasonRequestMarshaller(), new GetHealthCheckLastFailureReasonResultStaxUnmarshaller());
     }
     
     /**
@@ -1510,11 +1609,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateHealthCheckResult> createHealthCheckAsync(final CreateHealthCheckRequest createHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHealthCheckResult>() {
-            public CreateHealthCheckResult call() throws Exception {
-                return createHealthCheck(createHealthCheckRequest);
-        }
-    });
+        return createHealthCheckComposableAsync(createHealthCheckRequest);
     }
 
     /**
@@ -1553,19 +1648,30 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final CreateHealthCheckRequest createHealthCheckRequest,
             final AsyncHandler<CreateHealthCheckRequest, CreateHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHealthCheckResult>() {
+        return withAsyncHandler(createHealthCheckComposableAsync(createHealthCheckRequest),
+                createHealthCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHealthCheck operation like
+     * {@link #createHealthCheckAsync(CreateHealthCheckRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createHealthCheckRequest Container for the necessary parameters
+     *           to execute the CreateHealthCheck operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         CreateHealthCheck service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<CreateHealthCheckResult> createHealthCheckComposableAsync(final CreateHealthCheckRequest createHealthCheckRequest) {
+        return executeAsync(executorService, new Callable<CreateHealthCheckResult>() {
             public CreateHealthCheckResult call() throws Exception {
-              CreateHealthCheckResult result;
-                try {
-                result = createHealthCheck(createHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHealthCheckRequest, result);
-                 return result;
-        }
-    });
+                return createHealthCheck(createHealthCheckRequest);
+            }
+        }, createHealthCheckRequest,
+                new CreateHealthCheckRequestMarshaller(), new CreateHealthCheckResultStaxUnmarshaller());
     }
     
     /**
@@ -1602,11 +1708,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListHealthChecksResult> listHealthChecksAsync(final ListHealthChecksRequest listHealthChecksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHealthChecksResult>() {
-            public ListHealthChecksResult call() throws Exception {
-                return listHealthChecks(listHealthChecksRequest);
-        }
-    });
+        return listHealthChecksComposableAsync(listHealthChecksRequest);
     }
 
     /**
@@ -1649,19 +1751,29 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListHealthChecksRequest listHealthChecksRequest,
             final AsyncHandler<ListHealthChecksRequest, ListHealthChecksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHealthChecksResult>() {
+        return withAsyncHandler(listHealthChecksComposableAsync(listHealthChecksRequest),
+                listHealthChecksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListHealthChecks operation like
+     * {@link #listHealthChecksAsync(ListHealthChecksRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listHealthChecksRequest Container for the necessary parameters
+     *           to execute the ListHealthChecks operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListHealthChecks service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListHealthChecksResult> listHealthChecksComposableAsync(final ListHealthChecksRequest listHealthChecksRequest) {
+        return executeAsync(executorService, new Callable<ListHealthChecksResult>() {
             public ListHealthChecksResult call() throws Exception {
-              ListHealthChecksResult result;
-                try {
-                result = listHealthChecks(listHealthChecksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listHealthChecksRequest, result);
-                 return result;
-        }
-    });
+                return listHealthChecks(listHealthChecksRequest);
+            }
+        }, listHealthChecksRequest,
+                new ListHealthChecksRequestMarshaller(), new ListHealthChecksResultStaxUnmarshaller());
     }
     
     /**
@@ -1703,11 +1815,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListGeoLocationsResult> listGeoLocationsAsync(final ListGeoLocationsRequest listGeoLocationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGeoLocationsResult>() {
-            public ListGeoLocationsResult call() throws Exception {
-                return listGeoLocations(listGeoLocationsRequest);
-        }
-    });
+        return listGeoLocationsComposableAsync(listGeoLocationsRequest);
     }
 
     /**
@@ -1755,19 +1863,29 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListGeoLocationsRequest listGeoLocationsRequest,
             final AsyncHandler<ListGeoLocationsRequest, ListGeoLocationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGeoLocationsResult>() {
+        return withAsyncHandler(listGeoLocationsComposableAsync(listGeoLocationsRequest),
+                listGeoLocationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGeoLocations operation like
+     * {@link #listGeoLocationsAsync(ListGeoLocationsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listGeoLocationsRequest Container for the necessary parameters
+     *           to execute the ListGeoLocations operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListGeoLocations service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListGeoLocationsResult> listGeoLocationsComposableAsync(final ListGeoLocationsRequest listGeoLocationsRequest) {
+        return executeAsync(executorService, new Callable<ListGeoLocationsResult>() {
             public ListGeoLocationsResult call() throws Exception {
-              ListGeoLocationsResult result;
-                try {
-                result = listGeoLocations(listGeoLocationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGeoLocationsRequest, result);
-                 return result;
-        }
-    });
+                return listGeoLocations(listGeoLocationsRequest);
+            }
+        }, listGeoLocationsRequest,
+                new ListGeoLocationsRequestMarshaller(), new ListGeoLocationsResultStaxUnmarshaller());
     }
     
     /**
@@ -1795,11 +1913,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHealthCheckCountResult> getHealthCheckCountAsync(final GetHealthCheckCountRequest getHealthCheckCountRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckCountResult>() {
-            public GetHealthCheckCountResult call() throws Exception {
-                return getHealthCheckCount(getHealthCheckCountRequest);
-        }
-    });
+        return getHealthCheckCountComposableAsync(getHealthCheckCountRequest);
     }
 
     /**
@@ -1833,19 +1947,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHealthCheckCountRequest getHealthCheckCountRequest,
             final AsyncHandler<GetHealthCheckCountRequest, GetHealthCheckCountResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckCountResult>() {
+        return withAsyncHandler(getHealthCheckCountComposableAsync(getHealthCheckCountRequest),
+                getHealthCheckCountRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHealthCheckCount operation like
+     * {@link #getHealthCheckCountAsync(GetHealthCheckCountRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getHealthCheckCountRequest Container for the necessary
+     *           parameters to execute the GetHealthCheckCount operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         GetHealthCheckCount service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<GetHealthCheckCountResult> getHealthCheckCountComposableAsync(final GetHealthCheckCountRequest getHealthCheckCountRequest) {
+        return executeAsync(executorService, new Callable<GetHealthCheckCountResult>() {
             public GetHealthCheckCountResult call() throws Exception {
-              GetHealthCheckCountResult result;
-                try {
-                result = getHealthCheckCount(getHealthCheckCountRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHealthCheckCountRequest, result);
-                 return result;
-        }
-    });
+                return getHealthCheckCount(getHealthCheckCountRequest);
+            }
+        }, getHealthCheckCountRequest,
+                new GetHealthCheckCountRequestMarshaller(), new GetHealthCheckCountResultStaxUnmarshaller());
     }
     
     /**
@@ -1868,11 +1994,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ChangeTagsForResourceResult> changeTagsForResourceAsync(final ChangeTagsForResourceRequest changeTagsForResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeTagsForResourceResult>() {
-            public ChangeTagsForResourceResult call() throws Exception {
-                return changeTagsForResource(changeTagsForResourceRequest);
-        }
-    });
+        return changeTagsForResourceComposableAsync(changeTagsForResourceRequest);
     }
 
     /**
@@ -1901,19 +2023,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ChangeTagsForResourceRequest changeTagsForResourceRequest,
             final AsyncHandler<ChangeTagsForResourceRequest, ChangeTagsForResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeTagsForResourceResult>() {
+        return withAsyncHandler(changeTagsForResourceComposableAsync(changeTagsForResourceRequest),
+                changeTagsForResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ChangeTagsForResource operation like
+     * {@link #changeTagsForResourceAsync(ChangeTagsForResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param changeTagsForResourceRequest Container for the necessary
+     *           parameters to execute the ChangeTagsForResource operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ChangeTagsForResource service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ChangeTagsForResourceResult> changeTagsForResourceComposableAsync(final ChangeTagsForResourceRequest changeTagsForResourceRequest) {
+        return executeAsync(executorService, new Callable<ChangeTagsForResourceResult>() {
             public ChangeTagsForResourceResult call() throws Exception {
-              ChangeTagsForResourceResult result;
-                try {
-                result = changeTagsForResource(changeTagsForResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(changeTagsForResourceRequest, result);
-                 return result;
-        }
-    });
+                return changeTagsForResource(changeTagsForResourceRequest);
+            }
+        }, changeTagsForResourceRequest,
+                new ChangeTagsForResourceRequestMarshaller(), new ChangeTagsForResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -1942,11 +2076,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHealthCheckStatusResult> getHealthCheckStatusAsync(final GetHealthCheckStatusRequest getHealthCheckStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckStatusResult>() {
-            public GetHealthCheckStatusResult call() throws Exception {
-                return getHealthCheckStatus(getHealthCheckStatusRequest);
-        }
-    });
+        return getHealthCheckStatusComposableAsync(getHealthCheckStatusRequest);
     }
 
     /**
@@ -1981,19 +2111,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetHealthCheckStatusRequest getHealthCheckStatusRequest,
             final AsyncHandler<GetHealthCheckStatusRequest, GetHealthCheckStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHealthCheckStatusResult>() {
+        return withAsyncHandler(getHealthCheckStatusComposableAsync(getHealthCheckStatusRequest),
+                getHealthCheckStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetHealthCheckStatus operation like
+     * {@link #getHealthCheckStatusAsync(GetHealthCheckStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getHealthCheckStatusRequest Container for the necessary
+     *           parameters to execute the GetHealthCheckStatus operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         GetHealthCheckStatus service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<GetHealthCheckStatusResult> getHealthCheckStatusComposableAsync(final GetHealthCheckStatusRequest getHealthCheckStatusRequest) {
+        return executeAsync(executorService, new Callable<GetHealthCheckStatusResult>() {
             public GetHealthCheckStatusResult call() throws Exception {
-              GetHealthCheckStatusResult result;
-                try {
-                result = getHealthCheckStatus(getHealthCheckStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getHealthCheckStatusRequest, result);
-                 return result;
-        }
-    });
+                return getHealthCheckStatus(getHealthCheckStatusRequest);
+            }
+        }, getHealthCheckStatusRequest,
+                new GetHealthCheckStatusRequestMarshaller(), new GetHealthCheckStatusResultStaxUnmarshaller());
     }
     
     /**
@@ -2030,11 +2172,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListHostedZonesResult> listHostedZonesAsync(final ListHostedZonesRequest listHostedZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHostedZonesResult>() {
-            public ListHostedZonesResult call() throws Exception {
-                return listHostedZones(listHostedZonesRequest);
-        }
-    });
+        return listHostedZonesComposableAsync(listHostedZonesRequest);
     }
 
     /**
@@ -2077,19 +2215,29 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListHostedZonesRequest listHostedZonesRequest,
             final AsyncHandler<ListHostedZonesRequest, ListHostedZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHostedZonesResult>() {
+        return withAsyncHandler(listHostedZonesComposableAsync(listHostedZonesRequest),
+                listHostedZonesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListHostedZones operation like
+     * {@link #listHostedZonesAsync(ListHostedZonesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listHostedZonesRequest Container for the necessary parameters
+     *           to execute the ListHostedZones operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListHostedZones service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListHostedZonesResult> listHostedZonesComposableAsync(final ListHostedZonesRequest listHostedZonesRequest) {
+        return executeAsync(executorService, new Callable<ListHostedZonesResult>() {
             public ListHostedZonesResult call() throws Exception {
-              ListHostedZonesResult result;
-                try {
-                result = listHostedZones(listHostedZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listHostedZonesRequest, result);
-                 return result;
-        }
-    });
+                return listHostedZones(listHostedZonesRequest);
+            }
+        }, listHostedZonesRequest,
+                new ListHostedZonesRequestMarshaller(), new ListHostedZonesResultStaxUnmarshaller());
     }
     
     /**
@@ -2117,11 +2265,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetReusableDelegationSetResult> getReusableDelegationSetAsync(final GetReusableDelegationSetRequest getReusableDelegationSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetReusableDelegationSetResult>() {
-            public GetReusableDelegationSetResult call() throws Exception {
-                return getReusableDelegationSet(getReusableDelegationSetRequest);
-        }
-    });
+        return getReusableDelegationSetComposableAsync(getReusableDelegationSetRequest);
     }
 
     /**
@@ -2155,19 +2299,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final GetReusableDelegationSetRequest getReusableDelegationSetRequest,
             final AsyncHandler<GetReusableDelegationSetRequest, GetReusableDelegationSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetReusableDelegationSetResult>() {
+        return withAsyncHandler(getReusableDelegationSetComposableAsync(getReusableDelegationSetRequest),
+                getReusableDelegationSetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetReusableDelegationSet operation like
+     * {@link #getReusableDelegationSetAsync(GetReusableDelegationSetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getReusableDelegationSetRequest Container for the necessary
+     *           parameters to execute the GetReusableDelegationSet operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         GetReusableDelegationSet service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<GetReusableDelegationSetResult> getReusableDelegationSetComposableAsync(final GetReusableDelegationSetRequest getReusableDelegationSetRequest) {
+        return executeAsync(executorService, new Callable<GetReusableDelegationSetResult>() {
             public GetReusableDelegationSetResult call() throws Exception {
-              GetReusableDelegationSetResult result;
-                try {
-                result = getReusableDelegationSet(getReusableDelegationSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getReusableDelegationSetRequest, result);
-                 return result;
-        }
-    });
+                return getReusableDelegationSet(getReusableDelegationSetRequest);
+            }
+        }, getReusableDelegationSetRequest,
+                new GetReusableDelegationSetRequestMarshaller(), new GetReusableDelegationSetResultStaxUnmarshaller());
     }
     
     /**
@@ -2200,11 +2356,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<UpdateHealthCheckResult> updateHealthCheckAsync(final UpdateHealthCheckRequest updateHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateHealthCheckResult>() {
-            public UpdateHealthCheckResult call() throws Exception {
-                return updateHealthCheck(updateHealthCheckRequest);
-        }
-    });
+        return updateHealthCheckComposableAsync(updateHealthCheckRequest);
     }
 
     /**
@@ -2243,19 +2395,30 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final UpdateHealthCheckRequest updateHealthCheckRequest,
             final AsyncHandler<UpdateHealthCheckRequest, UpdateHealthCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateHealthCheckResult>() {
+        return withAsyncHandler(updateHealthCheckComposableAsync(updateHealthCheckRequest),
+                updateHealthCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateHealthCheck operation like
+     * {@link #updateHealthCheckAsync(UpdateHealthCheckRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param updateHealthCheckRequest Container for the necessary parameters
+     *           to execute the UpdateHealthCheck operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         UpdateHealthCheck service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<UpdateHealthCheckResult> updateHealthCheckComposableAsync(final UpdateHealthCheckRequest updateHealthCheckRequest) {
+        return executeAsync(executorService, new Callable<UpdateHealthCheckResult>() {
             public UpdateHealthCheckResult call() throws Exception {
-              UpdateHealthCheckResult result;
-                try {
-                result = updateHealthCheck(updateHealthCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateHealthCheckRequest, result);
-                 return result;
-        }
-    });
+                return updateHealthCheck(updateHealthCheckRequest);
+            }
+        }, updateHealthCheckRequest,
+                new UpdateHealthCheckRequestMarshaller(), new UpdateHealthCheckResultStaxUnmarshaller());
     }
     
     /**
@@ -2297,11 +2460,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteHostedZoneResult> deleteHostedZoneAsync(final DeleteHostedZoneRequest deleteHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHostedZoneResult>() {
-            public DeleteHostedZoneResult call() throws Exception {
-                return deleteHostedZone(deleteHostedZoneRequest);
-        }
-    });
+        return deleteHostedZoneComposableAsync(deleteHostedZoneRequest);
     }
 
     /**
@@ -2349,19 +2508,29 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final DeleteHostedZoneRequest deleteHostedZoneRequest,
             final AsyncHandler<DeleteHostedZoneRequest, DeleteHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHostedZoneResult>() {
+        return withAsyncHandler(deleteHostedZoneComposableAsync(deleteHostedZoneRequest),
+                deleteHostedZoneRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteHostedZone operation like
+     * {@link #deleteHostedZoneAsync(DeleteHostedZoneRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteHostedZoneRequest Container for the necessary parameters
+     *           to execute the DeleteHostedZone operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         DeleteHostedZone service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<DeleteHostedZoneResult> deleteHostedZoneComposableAsync(final DeleteHostedZoneRequest deleteHostedZoneRequest) {
+        return executeAsync(executorService, new Callable<DeleteHostedZoneResult>() {
             public DeleteHostedZoneResult call() throws Exception {
-              DeleteHostedZoneResult result;
-                try {
-                result = deleteHostedZone(deleteHostedZoneRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteHostedZoneRequest, result);
-                 return result;
-        }
-    });
+                return deleteHostedZone(deleteHostedZoneRequest);
+            }
+        }, deleteHostedZoneRequest,
+                new DeleteHostedZoneRequestMarshaller(), new DeleteHostedZoneResultStaxUnmarshaller());
     }
     
     /**
@@ -2400,11 +2569,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<AssociateVPCWithHostedZoneResult> associateVPCWithHostedZoneAsync(final AssociateVPCWithHostedZoneRequest associateVPCWithHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateVPCWithHostedZoneResult>() {
-            public AssociateVPCWithHostedZoneResult call() throws Exception {
-                return associateVPCWithHostedZone(associateVPCWithHostedZoneRequest);
-        }
-    });
+        return associateVPCWithHostedZoneComposableAsync(associateVPCWithHostedZoneRequest);
     }
 
     /**
@@ -2449,19 +2614,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final AssociateVPCWithHostedZoneRequest associateVPCWithHostedZoneRequest,
             final AsyncHandler<AssociateVPCWithHostedZoneRequest, AssociateVPCWithHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateVPCWithHostedZoneResult>() {
+        return withAsyncHandler(associateVPCWithHostedZoneComposableAsync(associateVPCWithHostedZoneRequest),
+                associateVPCWithHostedZoneRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssociateVPCWithHostedZone operation
+     * like
+     * {@link #associateVPCWithHostedZoneAsync(AssociateVPCWithHostedZoneRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param associateVPCWithHostedZoneRequest Container for the necessary
+     *           parameters to execute the AssociateVPCWithHostedZone operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         AssociateVPCWithHostedZone service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<AssociateVPCWithHostedZoneResult> associateVPCWithHostedZoneComposableAsync(final AssociateVPCWithHostedZoneRequest associateVPCWithHostedZoneRequest) {
+        return executeAsync(executorService, new Callable<AssociateVPCWithHostedZoneResult>() {
             public AssociateVPCWithHostedZoneResult call() throws Exception {
-              AssociateVPCWithHostedZoneResult result;
-                try {
-                result = associateVPCWithHostedZone(associateVPCWithHostedZoneRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateVPCWithHostedZoneRequest, result);
-                 return result;
-        }
-    });
+                return associateVPCWithHostedZone(associateVPCWithHostedZoneRequest);
+            }
+        }, associateVPCWithHostedZoneRequest,
+                new AssociateVPCWithHostedZoneRequestMarshaller(), new AssociateVPCWithHostedZoneResultStaxUnmarshaller());
     }
     
     /**
@@ -2513,11 +2691,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateHostedZoneResult> createHostedZoneAsync(final CreateHostedZoneRequest createHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHostedZoneResult>() {
-            public CreateHostedZoneResult call() throws Exception {
-                return createHostedZone(createHostedZoneRequest);
-        }
-    });
+        return createHostedZoneComposableAsync(createHostedZoneRequest);
     }
 
     /**
@@ -2575,19 +2749,29 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final CreateHostedZoneRequest createHostedZoneRequest,
             final AsyncHandler<CreateHostedZoneRequest, CreateHostedZoneResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHostedZoneResult>() {
+        return withAsyncHandler(createHostedZoneComposableAsync(createHostedZoneRequest),
+                createHostedZoneRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateHostedZone operation like
+     * {@link #createHostedZoneAsync(CreateHostedZoneRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createHostedZoneRequest Container for the necessary parameters
+     *           to execute the CreateHostedZone operation on AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         CreateHostedZone service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<CreateHostedZoneResult> createHostedZoneComposableAsync(final CreateHostedZoneRequest createHostedZoneRequest) {
+        return executeAsync(executorService, new Callable<CreateHostedZoneResult>() {
             public CreateHostedZoneResult call() throws Exception {
-              CreateHostedZoneResult result;
-                try {
-                result = createHostedZone(createHostedZoneRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createHostedZoneRequest, result);
-                 return result;
-        }
-    });
+                return createHostedZone(createHostedZoneRequest);
+            }
+        }, createHostedZoneRequest,
+                new CreateHostedZoneRequestMarshaller(), new CreateHostedZoneResultStaxUnmarshaller());
     }
     
     /**
@@ -2610,11 +2794,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListTagsForResourceResult> listTagsForResourceAsync(final ListTagsForResourceRequest listTagsForResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-        }
-    });
+        return listTagsForResourceComposableAsync(listTagsForResourceRequest);
     }
 
     /**
@@ -2643,19 +2823,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
+        return withAsyncHandler(listTagsForResourceComposableAsync(listTagsForResourceRequest),
+                listTagsForResourceRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForResource operation like
+     * {@link #listTagsForResourceAsync(ListTagsForResourceRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listTagsForResourceRequest Container for the necessary
+     *           parameters to execute the ListTagsForResource operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForResource service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListTagsForResourceResult> listTagsForResourceComposableAsync(final ListTagsForResourceRequest listTagsForResourceRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForResourceResult>() {
             public ListTagsForResourceResult call() throws Exception {
-              ListTagsForResourceResult result;
-                try {
-                result = listTagsForResource(listTagsForResourceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForResource(listTagsForResourceRequest);
+            }
+        }, listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(), new ListTagsForResourceResultStaxUnmarshaller());
     }
     
     /**
@@ -2695,11 +2887,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListReusableDelegationSetsResult> listReusableDelegationSetsAsync(final ListReusableDelegationSetsRequest listReusableDelegationSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReusableDelegationSetsResult>() {
-            public ListReusableDelegationSetsResult call() throws Exception {
-                return listReusableDelegationSets(listReusableDelegationSetsRequest);
-        }
-    });
+        return listReusableDelegationSetsComposableAsync(listReusableDelegationSetsRequest);
     }
 
     /**
@@ -2745,19 +2933,32 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ListReusableDelegationSetsRequest listReusableDelegationSetsRequest,
             final AsyncHandler<ListReusableDelegationSetsRequest, ListReusableDelegationSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReusableDelegationSetsResult>() {
+        return withAsyncHandler(listReusableDelegationSetsComposableAsync(listReusableDelegationSetsRequest),
+                listReusableDelegationSetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListReusableDelegationSets operation
+     * like
+     * {@link #listReusableDelegationSetsAsync(ListReusableDelegationSetsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listReusableDelegationSetsRequest Container for the necessary
+     *           parameters to execute the ListReusableDelegationSets operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ListReusableDelegationSets service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ListReusableDelegationSetsResult> listReusableDelegationSetsComposableAsync(final ListReusableDelegationSetsRequest listReusableDelegationSetsRequest) {
+        return executeAsync(executorService, new Callable<ListReusableDelegationSetsResult>() {
             public ListReusableDelegationSetsResult call() throws Exception {
-              ListReusableDelegationSetsResult result;
-                try {
-                result = listReusableDelegationSets(listReusableDelegationSetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listReusableDelegationSetsRequest, result);
-                 return result;
-        }
-    });
+                return listReusableDelegationSets(listReusableDelegationSetsRequest);
+            }
+        }, listReusableDelegationSetsRequest,
+                new ListReusableDelegationSetsRequestMarshaller(), new ListReusableDelegationSetsResultStaxUnmarshaller());
     }
     
     /**
@@ -2823,11 +3024,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ChangeResourceRecordSetsResult> changeResourceRecordSetsAsync(final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeResourceRecordSetsResult>() {
-            public ChangeResourceRecordSetsResult call() throws Exception {
-                return changeResourceRecordSets(changeResourceRecordSetsRequest);
-        }
-    });
+        return changeResourceRecordSetsComposableAsync(changeResourceRecordSetsRequest);
     }
 
     /**
@@ -2899,19 +3096,31 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
             final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest,
             final AsyncHandler<ChangeResourceRecordSetsRequest, ChangeResourceRecordSetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeResourceRecordSetsResult>() {
+        return withAsyncHandler(changeResourceRecordSetsComposableAsync(changeResourceRecordSetsRequest),
+                changeResourceRecordSetsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ChangeResourceRecordSets operation like
+     * {@link #changeResourceRecordSetsAsync(ChangeResourceRecordSetsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param changeResourceRecordSetsRequest Container for the necessary
+     *           parameters to execute the ChangeResourceRecordSets operation on
+     *           AmazonRoute53.
+     *
+     * @return A composable future for the response from the
+     *         ChangeResourceRecordSets service method, as returned by
+     *         AmazonRoute53.
+     */
+    public ComposableFuture<ChangeResourceRecordSetsResult> changeResourceRecordSetsComposableAsync(final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest) {
+        return executeAsync(executorService, new Callable<ChangeResourceRecordSetsResult>() {
             public ChangeResourceRecordSetsResult call() throws Exception {
-              ChangeResourceRecordSetsResult result;
-                try {
-                result = changeResourceRecordSets(changeResourceRecordSetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(changeResourceRecordSetsRequest, result);
-                 return result;
-        }
-    });
+                return changeResourceRecordSets(changeResourceRecordSetsRequest);
+            }
+        }, changeResourceRecordSetsRequest,
+                new ChangeResourceRecordSetsRequestMarshaller(), new ChangeResourceRecordSetsResultStaxUnmarshaller());
     }
     
 }
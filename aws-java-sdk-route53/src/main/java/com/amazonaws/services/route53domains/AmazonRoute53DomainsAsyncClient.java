@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.route53domains.model.*;
+import com.amazonaws.services.route53domains.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonRoute53Domains.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * 
  */
 public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
@@ -295,11 +299,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<CheckDomainAvailabilityResult> checkDomainAvailabilityAsync(final CheckDomainAvailabilityRequest checkDomainAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDomainAvailabilityResult>() {
-            public CheckDomainAvailabilityResult call() throws Exception {
-                return checkDomainAvailability(checkDomainAvailabilityRequest);
-        }
-    });
+        return checkDomainAvailabilityComposableAsync(checkDomainAvailabilityRequest);
     }
 
     /**
@@ -335,19 +335,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final CheckDomainAvailabilityRequest checkDomainAvailabilityRequest,
             final AsyncHandler<CheckDomainAvailabilityRequest, CheckDomainAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDomainAvailabilityResult>() {
+        return withAsyncHandler(checkDomainAvailabilityComposableAsync(checkDomainAvailabilityRequest),
+                checkDomainAvailabilityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CheckDomainAvailability operation like
+     * {@link #checkDomainAvailabilityAsync(CheckDomainAvailabilityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param checkDomainAvailabilityRequest Container for the necessary
+     *           parameters to execute the CheckDomainAvailability operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         CheckDomainAvailability service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<CheckDomainAvailabilityResult> checkDomainAvailabilityComposableAsync(final CheckDomainAvailabilityRequest checkDomainAvailabilityRequest) {
+        return executeAsync(executorService, new Callable<CheckDomainAvailabilityResult>() {
             public CheckDomainAvailabilityResult call() throws Exception {
-              CheckDomainAvailabilityResult result;
-                try {
-                result = checkDomainAvailability(checkDomainAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(checkDomainAvailabilityRequest, result);
-                 return result;
-        }
-    });
+                return checkDomainAvailability(checkDomainAvailabilityRequest);
+            }
+        }, checkDomainAvailabilityRequest,
+                new CheckDomainAvailabilityRequestMarshaller(), new CheckDomainAvailabilityResultJsonUnmarshaller());
     }
     
     /**
@@ -382,11 +394,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<UpdateDomainContactResult> updateDomainContactAsync(final UpdateDomainContactRequest updateDomainContactRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainContactResult>() {
-            public UpdateDomainContactResult call() throws Exception {
-                return updateDomainContact(updateDomainContactRequest);
-        }
-    });
+        return updateDomainContactComposableAsync(updateDomainContactRequest);
     }
 
     /**
@@ -427,19 +435,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactRequest updateDomainContactRequest,
             final AsyncHandler<UpdateDomainContactRequest, UpdateDomainContactResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainContactResult>() {
+        return withAsyncHandler(updateDomainContactComposableAsync(updateDomainContactRequest),
+                updateDomainContactRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDomainContact operation like
+     * {@link #updateDomainContactAsync(UpdateDomainContactRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDomainContactRequest Container for the necessary
+     *           parameters to execute the UpdateDomainContact operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDomainContact service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<UpdateDomainContactResult> updateDomainContactComposableAsync(final UpdateDomainContactRequest updateDomainContactRequest) {
+        return executeAsync(executorService, new Callable<UpdateDomainContactResult>() {
             public UpdateDomainContactResult call() throws Exception {
-              UpdateDomainContactResult result;
-                try {
-                result = updateDomainContact(updateDomainContactRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDomainContactRequest, result);
-                 return result;
-        }
-    });
+                return updateDomainContact(updateDomainContactRequest);
+            }
+        }, updateDomainContactRequest,
+                new UpdateDomainContactRequestMarshaller(), new UpdateDomainContactResultJsonUnmarshaller());
     }
     
     /**
@@ -476,11 +496,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<EnableDomainAutoRenewResult> enableDomainAutoRenewAsync(final EnableDomainAutoRenewRequest enableDomainAutoRenewRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableDomainAutoRenewResult>() {
-            public EnableDomainAutoRenewResult call() throws Exception {
-                return enableDomainAutoRenew(enableDomainAutoRenewRequest);
-        }
-    });
+        return enableDomainAutoRenewComposableAsync(enableDomainAutoRenewRequest);
     }
 
     /**
@@ -523,19 +539,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainAutoRenewRequest enableDomainAutoRenewRequest,
             final AsyncHandler<EnableDomainAutoRenewRequest, EnableDomainAutoRenewResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableDomainAutoRenewResult>() {
+        return withAsyncHandler(enableDomainAutoRenewComposableAsync(enableDomainAutoRenewRequest),
+                enableDomainAutoRenewRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableDomainAutoRenew operation like
+     * {@link #enableDomainAutoRenewAsync(EnableDomainAutoRenewRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableDomainAutoRenewRequest Container for the necessary
+     *           parameters to execute the EnableDomainAutoRenew operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         EnableDomainAutoRenew service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<EnableDomainAutoRenewResult> enableDomainAutoRenewComposableAsync(final EnableDomainAutoRenewRequest enableDomainAutoRenewRequest) {
+        return executeAsync(executorService, new Callable<EnableDomainAutoRenewResult>() {
             public EnableDomainAutoRenewResult call() throws Exception {
-              EnableDomainAutoRenewResult result;
-                try {
-                result = enableDomainAutoRenew(enableDomainAutoRenewRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableDomainAutoRenewRequest, result);
-                 return result;
-        }
-    });
+                return enableDomainAutoRenew(enableDomainAutoRenewRequest);
+            }
+        }, enableDomainAutoRenewRequest,
+                new EnableDomainAutoRenewRequestMarshaller(), new EnableDomainAutoRenewResultJsonUnmarshaller());
     }
     
     /**
@@ -561,11 +589,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<ListOperationsResult> listOperationsAsync(final ListOperationsRequest listOperationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOperationsResult>() {
-            public ListOperationsResult call() throws Exception {
-                return listOperations(listOperationsRequest);
-        }
-    });
+        return listOperationsComposableAsync(listOperationsRequest);
     }
 
     /**
@@ -597,19 +621,28 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListOperationsRequest listOperationsRequest,
             final AsyncHandler<ListOperationsRequest, ListOperationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListOperationsResult>() {
+        return withAsyncHandler(listOperationsComposableAsync(listOperationsRequest),
+                listOperationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListOperations operation like
+     * {@link #listOperationsAsync(ListOperationsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listOperationsRequest Container for the necessary parameters to
+     *           execute the ListOperations operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the ListOperations
+     *         service method, as returned by AmazonRoute53Domains.
+     */
+    public ComposableFuture<ListOperationsResult> listOperationsComposableAsync(final ListOperationsRequest listOperationsRequest) {
+        return executeAsync(executorService, new Callable<ListOperationsResult>() {
             public ListOperationsResult call() throws Exception {
-              ListOperationsResult result;
-                try {
-                result = listOperations(listOperationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listOperationsRequest, result);
-                 return result;
-        }
-    });
+                return listOperations(listOperationsRequest);
+            }
+        }, listOperationsRequest,
+                new ListOperationsRequestMarshaller(), new ListOperationsResultJsonUnmarshaller());
     }
     
     /**
@@ -635,11 +668,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return listDomainsComposableAsync(listDomainsRequest);
     }
 
     /**
@@ -671,19 +700,28 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
+        return withAsyncHandler(listDomainsComposableAsync(listDomainsRequest),
+                listDomainsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDomains operation like
+     * {@link #listDomainsAsync(ListDomainsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listDomainsRequest Container for the necessary parameters to
+     *           execute the ListDomains operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the ListDomains
+     *         service method, as returned by AmazonRoute53Domains.
+     */
+    public ComposableFuture<ListDomainsResult> listDomainsComposableAsync(final ListDomainsRequest listDomainsRequest) {
+        return executeAsync(executorService, new Callable<ListDomainsResult>() {
             public ListDomainsResult call() throws Exception {
-              ListDomainsResult result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+                return listDomains(listDomainsRequest);
+            }
+        }, listDomainsRequest,
+                new ListDomainsRequestMarshaller(), new ListDomainsResultJsonUnmarshaller());
     }
     
     /**
@@ -711,11 +749,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<GetOperationDetailResult> getOperationDetailAsync(final GetOperationDetailRequest getOperationDetailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOperationDetailResult>() {
-            public GetOperationDetailResult call() throws Exception {
-                return getOperationDetail(getOperationDetailRequest);
-        }
-    });
+        return getOperationDetailComposableAsync(getOperationDetailRequest);
     }
 
     /**
@@ -749,19 +783,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetOperationDetailRequest getOperationDetailRequest,
             final AsyncHandler<GetOperationDetailRequest, GetOperationDetailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetOperationDetailResult>() {
+        return withAsyncHandler(getOperationDetailComposableAsync(getOperationDetailRequest),
+                getOperationDetailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetOperationDetail operation like
+     * {@link #getOperationDetailAsync(GetOperationDetailRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getOperationDetailRequest Container for the necessary
+     *           parameters to execute the GetOperationDetail operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         GetOperationDetail service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<GetOperationDetailResult> getOperationDetailComposableAsync(final GetOperationDetailRequest getOperationDetailRequest) {
+        return executeAsync(executorService, new Callable<GetOperationDetailResult>() {
             public GetOperationDetailResult call() throws Exception {
-              GetOperationDetailResult result;
-                try {
-                result = getOperationDetail(getOperationDetailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getOperationDetailRequest, result);
-                 return result;
-        }
-    });
+                return getOperationDetail(getOperationDetailRequest);
+            }
+        }, getOperationDetailRequest,
+                new GetOperationDetailRequestMarshaller(), new GetOperationDetailResultJsonUnmarshaller());
     }
     
     /**
@@ -794,11 +840,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<DisableDomainTransferLockResult> disableDomainTransferLockAsync(final DisableDomainTransferLockRequest disableDomainTransferLockRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableDomainTransferLockResult>() {
-            public DisableDomainTransferLockResult call() throws Exception {
-                return disableDomainTransferLock(disableDomainTransferLockRequest);
-        }
-    });
+        return disableDomainTransferLockComposableAsync(disableDomainTransferLockRequest);
     }
 
     /**
@@ -837,19 +879,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainTransferLockRequest disableDomainTransferLockRequest,
             final AsyncHandler<DisableDomainTransferLockRequest, DisableDomainTransferLockResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableDomainTransferLockResult>() {
+        return withAsyncHandler(disableDomainTransferLockComposableAsync(disableDomainTransferLockRequest),
+                disableDomainTransferLockRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableDomainTransferLock operation like
+     * {@link #disableDomainTransferLockAsync(DisableDomainTransferLockRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableDomainTransferLockRequest Container for the necessary
+     *           parameters to execute the DisableDomainTransferLock operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         DisableDomainTransferLock service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<DisableDomainTransferLockResult> disableDomainTransferLockComposableAsync(final DisableDomainTransferLockRequest disableDomainTransferLockRequest) {
+        return executeAsync(executorService, new Callable<DisableDomainTransferLockResult>() {
             public DisableDomainTransferLockResult call() throws Exception {
-              DisableDomainTransferLockResult result;
-                try {
-                result = disableDomainTransferLock(disableDomainTransferLockRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableDomainTransferLockRequest, result);
-                 return result;
-        }
-    });
+                return disableDomainTransferLock(disableDomainTransferLockRequest);
+            }
+        }, disableDomainTransferLockRequest,
+                new DisableDomainTransferLockRequestMarshaller(), new DisableDomainTransferLockResultJsonUnmarshaller());
     }
     
     /**
@@ -881,11 +935,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<EnableDomainTransferLockResult> enableDomainTransferLockAsync(final EnableDomainTransferLockRequest enableDomainTransferLockRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableDomainTransferLockResult>() {
-            public EnableDomainTransferLockResult call() throws Exception {
-                return enableDomainTransferLock(enableDomainTransferLockRequest);
-        }
-    });
+        return enableDomainTransferLockComposableAsync(enableDomainTransferLockRequest);
     }
 
     /**
@@ -923,19 +973,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainTransferLockRequest enableDomainTransferLockRequest,
             final AsyncHandler<EnableDomainTransferLockRequest, EnableDomainTransferLockResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableDomainTransferLockResult>() {
+        return withAsyncHandler(enableDomainTransferLockComposableAsync(enableDomainTransferLockRequest),
+                enableDomainTransferLockRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the EnableDomainTransferLock operation like
+     * {@link #enableDomainTransferLockAsync(EnableDomainTransferLockRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param enableDomainTransferLockRequest Container for the necessary
+     *           parameters to execute the EnableDomainTransferLock operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         EnableDomainTransferLock service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<EnableDomainTransferLockResult> enableDomainTransferLockComposableAsync(final EnableDomainTransferLockRequest enableDomainTransferLockRequest) {
+        return executeAsync(executorService, new Callable<EnableDomainTransferLockResult>() {
             public EnableDomainTransferLockResult call() throws Exception {
-              EnableDomainTransferLockResult result;
-                try {
-                result = enableDomainTransferLock(enableDomainTransferLockRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableDomainTransferLockRequest, result);
-                 return result;
-        }
-    });
+                return enableDomainTransferLock(enableDomainTransferLockRequest);
+            }
+        }, enableDomainTransferLockRequest,
+                new EnableDomainTransferLockRequestMarshaller(), new EnableDomainTransferLockResultJsonUnmarshaller());
     }
     
     /**
@@ -971,11 +1033,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<UpdateDomainNameserversResult> updateDomainNameserversAsync(final UpdateDomainNameserversRequest updateDomainNameserversRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainNameserversResult>() {
-            public UpdateDomainNameserversResult call() throws Exception {
-                return updateDomainNameservers(updateDomainNameserversRequest);
-        }
-    });
+        return updateDomainNameserversComposableAsync(updateDomainNameserversRequest);
     }
 
     /**
@@ -1017,19 +1075,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainNameserversRequest updateDomainNameserversRequest,
             final AsyncHandler<UpdateDomainNameserversRequest, UpdateDomainNameserversResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainNameserversResult>() {
+        return withAsyncHandler(updateDomainNameserversComposableAsync(updateDomainNameserversRequest),
+                updateDomainNameserversRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDomainNameservers operation like
+     * {@link #updateDomainNameserversAsync(UpdateDomainNameserversRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDomainNameserversRequest Container for the necessary
+     *           parameters to execute the UpdateDomainNameservers operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDomainNameservers service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<UpdateDomainNameserversResult> updateDomainNameserversComposableAsync(final UpdateDomainNameserversRequest updateDomainNameserversRequest) {
+        return executeAsync(executorService, new Callable<UpdateDomainNameserversResult>() {
             public UpdateDomainNameserversResult call() throws Exception {
-              UpdateDomainNameserversResult result;
-                try {
-                result = updateDomainNameservers(updateDomainNameserversRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDomainNameserversRequest, result);
-                 return result;
-        }
-    });
+                return updateDomainNameservers(updateDomainNameserversRequest);
+            }
+        }, updateDomainNameserversRequest,
+                new UpdateDomainNameserversRequestMarshaller(), new UpdateDomainNameserversResultJsonUnmarshaller());
     }
     
     /**
@@ -1063,11 +1133,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<DisableDomainAutoRenewResult> disableDomainAutoRenewAsync(final DisableDomainAutoRenewRequest disableDomainAutoRenewRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableDomainAutoRenewResult>() {
-            public DisableDomainAutoRenewResult call() throws Exception {
-                return disableDomainAutoRenew(disableDomainAutoRenewRequest);
-        }
-    });
+        return disableDomainAutoRenewComposableAsync(disableDomainAutoRenewRequest);
     }
 
     /**
@@ -1107,19 +1173,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainAutoRenewRequest disableDomainAutoRenewRequest,
             final AsyncHandler<DisableDomainAutoRenewRequest, DisableDomainAutoRenewResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableDomainAutoRenewResult>() {
+        return withAsyncHandler(disableDomainAutoRenewComposableAsync(disableDomainAutoRenewRequest),
+                disableDomainAutoRenewRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableDomainAutoRenew operation like
+     * {@link #disableDomainAutoRenewAsync(DisableDomainAutoRenewRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param disableDomainAutoRenewRequest Container for the necessary
+     *           parameters to execute the DisableDomainAutoRenew operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         DisableDomainAutoRenew service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<DisableDomainAutoRenewResult> disableDomainAutoRenewComposableAsync(final DisableDomainAutoRenewRequest disableDomainAutoRenewRequest) {
+        return executeAsync(executorService, new Callable<DisableDomainAutoRenewResult>() {
             public DisableDomainAutoRenewResult call() throws Exception {
-              DisableDomainAutoRenewResult result;
-                try {
-                result = disableDomainAutoRenew(disableDomainAutoRenewRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableDomainAutoRenewRequest, result);
-                 return result;
-        }
-    });
+                return disableDomainAutoRenew(disableDomainAutoRenewRequest);
+            }
+        }, disableDomainAutoRenewRequest,
+                new DisableDomainAutoRenewRequestMarshaller(), new DisableDomainAutoRenewResultJsonUnmarshaller());
     }
     
     /**
@@ -1171,11 +1249,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<RegisterDomainResult> registerDomainAsync(final RegisterDomainRequest registerDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterDomainResult>() {
-            public RegisterDomainResult call() throws Exception {
-                return registerDomain(registerDomainRequest);
-        }
-    });
+        return registerDomainComposableAsync(registerDomainRequest);
     }
 
     /**
@@ -1233,19 +1307,28 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RegisterDomainRequest registerDomainRequest,
             final AsyncHandler<RegisterDomainRequest, RegisterDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterDomainResult>() {
+        return withAsyncHandler(registerDomainComposableAsync(registerDomainRequest),
+                registerDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterDomain operation like
+     * {@link #registerDomainAsync(RegisterDomainRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerDomainRequest Container for the necessary parameters to
+     *           execute the RegisterDomain operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the RegisterDomain
+     *         service method, as returned by AmazonRoute53Domains.
+     */
+    public ComposableFuture<RegisterDomainResult> registerDomainComposableAsync(final RegisterDomainRequest registerDomainRequest) {
+        return executeAsync(executorService, new Callable<RegisterDomainResult>() {
             public RegisterDomainResult call() throws Exception {
-              RegisterDomainResult result;
-                try {
-                result = registerDomain(registerDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerDomainRequest, result);
-                 return result;
-        }
-    });
+                return registerDomain(registerDomainRequest);
+            }
+        }, registerDomainRequest,
+                new RegisterDomainRequestMarshaller(), new RegisterDomainResultJsonUnmarshaller());
     }
     
     /**
@@ -1271,11 +1354,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<GetDomainDetailResult> getDomainDetailAsync(final GetDomainDetailRequest getDomainDetailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDomainDetailResult>() {
-            public GetDomainDetailResult call() throws Exception {
-                return getDomainDetail(getDomainDetailRequest);
-        }
-    });
+        return getDomainDetailComposableAsync(getDomainDetailRequest);
     }
 
     /**
@@ -1307,19 +1386,29 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetDomainDetailRequest getDomainDetailRequest,
             final AsyncHandler<GetDomainDetailRequest, GetDomainDetailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDomainDetailResult>() {
+        return withAsyncHandler(getDomainDetailComposableAsync(getDomainDetailRequest),
+                getDomainDetailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDomainDetail operation like
+     * {@link #getDomainDetailAsync(GetDomainDetailRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getDomainDetailRequest Container for the necessary parameters
+     *           to execute the GetDomainDetail operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         GetDomainDetail service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<GetDomainDetailResult> getDomainDetailComposableAsync(final GetDomainDetailRequest getDomainDetailRequest) {
+        return executeAsync(executorService, new Callable<GetDomainDetailResult>() {
             public GetDomainDetailResult call() throws Exception {
-              GetDomainDetailResult result;
-                try {
-                result = getDomainDetail(getDomainDetailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDomainDetailRequest, result);
-                 return result;
-        }
-    });
+                return getDomainDetail(getDomainDetailRequest);
+            }
+        }, getDomainDetailRequest,
+                new GetDomainDetailRequestMarshaller(), new GetDomainDetailResultJsonUnmarshaller());
     }
     
     /**
@@ -1350,11 +1439,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<UpdateTagsForDomainResult> updateTagsForDomainAsync(final UpdateTagsForDomainRequest updateTagsForDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTagsForDomainResult>() {
-            public UpdateTagsForDomainResult call() throws Exception {
-                return updateTagsForDomain(updateTagsForDomainRequest);
-        }
-    });
+        return updateTagsForDomainComposableAsync(updateTagsForDomainRequest);
     }
 
     /**
@@ -1391,19 +1476,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateTagsForDomainRequest updateTagsForDomainRequest,
             final AsyncHandler<UpdateTagsForDomainRequest, UpdateTagsForDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTagsForDomainResult>() {
+        return withAsyncHandler(updateTagsForDomainComposableAsync(updateTagsForDomainRequest),
+                updateTagsForDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateTagsForDomain operation like
+     * {@link #updateTagsForDomainAsync(UpdateTagsForDomainRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateTagsForDomainRequest Container for the necessary
+     *           parameters to execute the UpdateTagsForDomain operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         UpdateTagsForDomain service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<UpdateTagsForDomainResult> updateTagsForDomainComposableAsync(final UpdateTagsForDomainRequest updateTagsForDomainRequest) {
+        return executeAsync(executorService, new Callable<UpdateTagsForDomainResult>() {
             public UpdateTagsForDomainResult call() throws Exception {
-              UpdateTagsForDomainResult result;
-                try {
-                result = updateTagsForDomain(updateTagsForDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateTagsForDomainRequest, result);
-                 return result;
-        }
-    });
+                return updateTagsForDomain(updateTagsForDomainRequest);
+            }
+        }, updateTagsForDomainRequest,
+                new UpdateTagsForDomainRequestMarshaller(), new UpdateTagsForDomainResultJsonUnmarshaller());
     }
     
     /**
@@ -1432,11 +1529,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<RetrieveDomainAuthCodeResult> retrieveDomainAuthCodeAsync(final RetrieveDomainAuthCodeRequest retrieveDomainAuthCodeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveDomainAuthCodeResult>() {
-            public RetrieveDomainAuthCodeResult call() throws Exception {
-                return retrieveDomainAuthCode(retrieveDomainAuthCodeRequest);
-        }
-    });
+        return retrieveDomainAuthCodeComposableAsync(retrieveDomainAuthCodeRequest);
     }
 
     /**
@@ -1471,19 +1564,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RetrieveDomainAuthCodeRequest retrieveDomainAuthCodeRequest,
             final AsyncHandler<RetrieveDomainAuthCodeRequest, RetrieveDomainAuthCodeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveDomainAuthCodeResult>() {
+        return withAsyncHandler(retrieveDomainAuthCodeComposableAsync(retrieveDomainAuthCodeRequest),
+                retrieveDomainAuthCodeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RetrieveDomainAuthCode operation like
+     * {@link #retrieveDomainAuthCodeAsync(RetrieveDomainAuthCodeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param retrieveDomainAuthCodeRequest Container for the necessary
+     *           parameters to execute the RetrieveDomainAuthCode operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         RetrieveDomainAuthCode service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<RetrieveDomainAuthCodeResult> retrieveDomainAuthCodeComposableAsync(final RetrieveDomainAuthCodeRequest retrieveDomainAuthCodeRequest) {
+        return executeAsync(executorService, new Callable<RetrieveDomainAuthCodeResult>() {
             public RetrieveDomainAuthCodeResult call() throws Exception {
-              RetrieveDomainAuthCodeResult result;
-                try {
-                result = retrieveDomainAuthCode(retrieveDomainAuthCodeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(retrieveDomainAuthCodeRequest, result);
-                 return result;
-        }
-    });
+                return retrieveDomainAuthCode(retrieveDomainAuthCodeRequest);
+            }
+        }, retrieveDomainAuthCodeRequest,
+                new RetrieveDomainAuthCodeRequestMarshaller(), new RetrieveDomainAuthCodeResultJsonUnmarshaller());
     }
     
     /**
@@ -1537,11 +1642,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<TransferDomainResult> transferDomainAsync(final TransferDomainRequest transferDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TransferDomainResult>() {
-            public TransferDomainResult call() throws Exception {
-                return transferDomain(transferDomainRequest);
-        }
-    });
+        return transferDomainComposableAsync(transferDomainRequest);
     }
 
     /**
@@ -1601,19 +1702,28 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final TransferDomainRequest transferDomainRequest,
             final AsyncHandler<TransferDomainRequest, TransferDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TransferDomainResult>() {
+        return withAsyncHandler(transferDomainComposableAsync(transferDomainRequest),
+                transferDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TransferDomain operation like
+     * {@link #transferDomainAsync(TransferDomainRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param transferDomainRequest Container for the necessary parameters to
+     *           execute the TransferDomain operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the TransferDomain
+     *         service method, as returned by AmazonRoute53Domains.
+     */
+    public ComposableFuture<TransferDomainResult> transferDomainComposableAsync(final TransferDomainRequest transferDomainRequest) {
+        return executeAsync(executorService, new Callable<TransferDomainResult>() {
             public TransferDomainResult call() throws Exception {
-              TransferDomainResult result;
-                try {
-                result = transferDomain(transferDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(transferDomainRequest, result);
-                 return result;
-        }
-    });
+                return transferDomain(transferDomainRequest);
+            }
+        }, transferDomainRequest,
+                new TransferDomainRequestMarshaller(), new TransferDomainResultJsonUnmarshaller());
     }
     
     /**
@@ -1653,11 +1763,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<UpdateDomainContactPrivacyResult> updateDomainContactPrivacyAsync(final UpdateDomainContactPrivacyRequest updateDomainContactPrivacyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainContactPrivacyResult>() {
-            public UpdateDomainContactPrivacyResult call() throws Exception {
-                return updateDomainContactPrivacy(updateDomainContactPrivacyRequest);
-        }
-    });
+        return updateDomainContactPrivacyComposableAsync(updateDomainContactPrivacyRequest);
     }
 
     /**
@@ -1703,19 +1809,32 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactPrivacyRequest updateDomainContactPrivacyRequest,
             final AsyncHandler<UpdateDomainContactPrivacyRequest, UpdateDomainContactPrivacyResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDomainContactPrivacyResult>() {
+        return withAsyncHandler(updateDomainContactPrivacyComposableAsync(updateDomainContactPrivacyRequest),
+                updateDomainContactPrivacyRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateDomainContactPrivacy operation
+     * like
+     * {@link #updateDomainContactPrivacyAsync(UpdateDomainContactPrivacyRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateDomainContactPrivacyRequest Container for the necessary
+     *           parameters to execute the UpdateDomainContactPrivacy operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         UpdateDomainContactPrivacy service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<UpdateDomainContactPrivacyResult> updateDomainContactPrivacyComposableAsync(final UpdateDomainContactPrivacyRequest updateDomainContactPrivacyRequest) {
+        return executeAsync(executorService, new Callable<UpdateDomainContactPrivacyResult>() {
             public UpdateDomainContactPrivacyResult call() throws Exception {
-              UpdateDomainContactPrivacyResult result;
-                try {
-                result = updateDomainContactPrivacy(updateDomainContactPrivacyRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateDomainContactPrivacyRequest, result);
-                 return result;
-        }
-    });
+                return updateDomainContactPrivacy(updateDomainContactPrivacyRequest);
+            }
+        }, updateDomainContactPrivacyRequest,
+                new UpdateDomainContactPrivacyRequestMarshaller(), new UpdateDomainContactPrivacyResultJsonUnmarshaller());
     }
     
     /**
@@ -1745,11 +1864,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<ListTagsForDomainResult> listTagsForDomainAsync(final ListTagsForDomainRequest listTagsForDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForDomainResult>() {
-            public ListTagsForDomainResult call() throws Exception {
-                return listTagsForDomain(listTagsForDomainRequest);
-        }
-    });
+        return listTagsForDomainComposableAsync(listTagsForDomainRequest);
     }
 
     /**
@@ -1785,19 +1900,30 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListTagsForDomainRequest listTagsForDomainRequest,
             final AsyncHandler<ListTagsForDomainRequest, ListTagsForDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForDomainResult>() {
+        return withAsyncHandler(listTagsForDomainComposableAsync(listTagsForDomainRequest),
+                listTagsForDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTagsForDomain operation like
+     * {@link #listTagsForDomainAsync(ListTagsForDomainRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listTagsForDomainRequest Container for the necessary parameters
+     *           to execute the ListTagsForDomain operation on AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         ListTagsForDomain service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<ListTagsForDomainResult> listTagsForDomainComposableAsync(final ListTagsForDomainRequest listTagsForDomainRequest) {
+        return executeAsync(executorService, new Callable<ListTagsForDomainResult>() {
             public ListTagsForDomainResult call() throws Exception {
-              ListTagsForDomainResult result;
-                try {
-                result = listTagsForDomain(listTagsForDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTagsForDomainRequest, result);
-                 return result;
-        }
-    });
+                return listTagsForDomain(listTagsForDomainRequest);
+            }
+        }, listTagsForDomainRequest,
+                new ListTagsForDomainRequestMarshaller(), new ListTagsForDomainResultJsonUnmarshaller());
     }
     
     /**
@@ -1828,11 +1954,7 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public Future<DeleteTagsForDomainResult> deleteTagsForDomainAsync(final DeleteTagsForDomainRequest deleteTagsForDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTagsForDomainResult>() {
-            public DeleteTagsForDomainResult call() throws Exception {
-                return deleteTagsForDomain(deleteTagsForDomainRequest);
-        }
-    });
+        return deleteTagsForDomainComposableAsync(deleteTagsForDomainRequest);
     }
 
     /**
@@ -1869,19 +1991,31 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DeleteTagsForDomainRequest deleteTagsForDomainRequest,
             final AsyncHandler<DeleteTagsForDomainRequest, DeleteTagsForDomainResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTagsForDomainResult>() {
+        return withAsyncHandler(deleteTagsForDomainComposableAsync(deleteTagsForDomainRequest),
+                deleteTagsForDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTagsForDomain operation like
+     * {@link #deleteTagsForDomainAsync(DeleteTagsForDomainRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteTagsForDomainRequest Container for the necessary
+     *           parameters to execute the DeleteTagsForDomain operation on
+     *           AmazonRoute53Domains.
+     *
+     * @return A composable future for the response from the
+     *         DeleteTagsForDomain service method, as returned by
+     *         AmazonRoute53Domains.
+     */
+    public ComposableFuture<DeleteTagsForDomainResult> deleteTagsForDomainComposableAsync(final DeleteTagsForDomainRequest deleteTagsForDomainRequest) {
+        return executeAsync(executorService, new Callable<DeleteTagsForDomainResult>() {
             public DeleteTagsForDomainResult call() throws Exception {
-              DeleteTagsForDomainResult result;
-                try {
-                result = deleteTagsForDomain(deleteTagsForDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsForDomainRequest, result);
-                 return result;
-        }
-    });
+                return deleteTagsForDomain(deleteTagsForDomainRequest);
+            }
+        }, deleteTagsForDomainRequest,
+                new DeleteTagsForDomainRequestMarshaller(), new DeleteTagsForDomainResultJsonUnmarshaller());
     }
     
 }
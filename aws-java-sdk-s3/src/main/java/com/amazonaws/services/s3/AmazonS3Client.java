@@ -15,7 +15,7 @@
 package com.amazonaws.services.s3;
 
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
-import static com.amazonaws.internal.ResettableInputStream.newResettableInputStream;
+import static com.amazonaws.internal.FileRegionInputStream.newFileRegionInputStream;
 import static com.amazonaws.services.s3.model.S3DataSource.Utils.cleanupDataSource;
 import static com.amazonaws.util.LengthCheckInputStream.EXCLUDE_SKIPPED_BYTES;
 import static com.amazonaws.util.LengthCheckInputStream.INCLUDE_SKIPPED_BYTES;
@@ -86,14 +86,16 @@ import com.amazonaws.handlers.HandlerChainFactory;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
 import com.amazonaws.http.HttpResponseHandler;
-import com.amazonaws.internal.ResettableInputStream;
+import com.amazonaws.internal.FileRegionInputStream;
 import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.RegionUtils;
 import com.amazonaws.services.s3.internal.AWSS3V4Signer;
 import com.amazonaws.services.s3.internal.BucketNameUtils;
+import com.amazonaws.services.s3.internal.BucketRegionCache;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
 import com.amazonaws.services.s3.internal.DigestValidationInputStream;
@@ -289,6 +291,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     /** Whether or not this client has an explicit region configured. */
     private boolean hasExplicitRegion;
 
+    /**
+     * The region of the buckets accessed by this client, when it has no
+     * explicit region and the cache is enabled in the client options.
+     */
+    private final BucketRegionCache bucketRegionCache = new BucketRegionCache();
+
     /**
      * Constructs a new client to invoke service methods on Amazon S3. A
      * credentials provider chain will be used that searches for credentials in
@@ -1357,7 +1365,10 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
             }
 
-            if (calculateMD5 && !skipContentMd5Check) {
+            // Otherwise, the MD5 is computed while the file is sent, and
+            // validated against the returned ETag
+            if (calculateMD5 && !skipContentMd5Check
+                    && !clientOptions.isSinglePassFileMd5()) {
                 try {
                     String contentMd5_b64 = Md5Utils.md5AsBase64(file);
                     metadata.setContentMD5(contentMd5_b64);
@@ -1366,7 +1377,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                             "Unable to calculate MD5 hash: " + e.getMessage(), e);
                 }
             }
-            input = newResettableInputStream(file, "Unable to find file to upload");
+            input = newFileRegionInputStream(file, "Unable to find file to upload");
         }
         final ProgressListener listener;
         final ObjectMetadata returnedMetadata;
@@ -2776,18 +2787,22 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     awsreq.getRequestClientOptions()
                         .setReadLimit(bufsize.intValue());
                 }
+                isCurr = new InputSubstream(isCurr,
+                        uploadPartRequest.getFileOffset(),
+                        partSize,
+                        uploadPartRequest.isLastPart());
             } else {
                 try {
-                    isCurr = new ResettableInputStream(fileOrig);
+                    // Only the part is read from the file, and it can be
+                    // transferred to the connection without going through
+                    // the heap
+                    isCurr = new FileRegionInputStream(fileOrig,
+                            uploadPartRequest.getFileOffset(), partSize);
                 } catch(IOException e) {
                     throw new IllegalArgumentException("Failed to open file "
                             + fileOrig, e);
                 }
             }
-            isCurr = new InputSubstream(isCurr,
-                    uploadPartRequest.getFileOffset(),
-                    partSize,
-                    uploadPartRequest.isLastPart());
             MD5DigestCalculatingInputStream md5DigestStream = null;
             if (uploadPartRequest.getMd5Digest() == null
              && !skipContentMd5IntegrityCheck(uploadPartRequest)) {
@@ -3035,10 +3050,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 clientConfiguration != null 
              && clientConfiguration.getSignerOverride() != null;
 
+        // The region of the bucket, if learned from a previous redirect
+        final String bucketRegion = getCachedBucketRegion(bucketName);
+
         if (!isSignerOverridden) {
             final AmazonWebServiceRequest req = request.getOriginalRequest();
 
-            if (!(signer instanceof AWSS3V4Signer) && (upgradeToSigV4(req))) {
+            if (!(signer instanceof AWSS3V4Signer)
+                    && (bucketRegion != null || upgradeToSigV4(req))) {
                 final AWSS3V4Signer v4Signer = new AWSS3V4Signer();
                 // Always set the service name; if the user has overridden it via
                 // setEndpoint(String, String, String), this will return the right
@@ -3050,7 +3069,9 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 // region from the request endpoint.
                 String regionOverride = getSignerRegionOverride();
                 if (regionOverride == null) {
-                    if (!hasExplicitRegion) {
+                    if (bucketRegion != null) {
+                        v4Signer.setRegionName(bucketRegion);
+                    } else if (!hasExplicitRegion) {
                         throw new AmazonClientException(
                             "Signature Version 4 requires knowing the region of "
                             + "the bucket you're trying to access. You can "
@@ -3066,6 +3087,16 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
         }
 
+        if (signer instanceof AWSS3V4Signer && bucketRegion != null
+                && getSignerRegionOverride() == null) {
+            // The signer was configured for the region of the client
+            // endpoint, rather than for the one of the bucket.
+            final AWSS3V4Signer v4Signer = new AWSS3V4Signer();
+            v4Signer.setServiceName(getServiceNameIntern());
+            v4Signer.setRegionName(bucketRegion);
+            return v4Signer;
+        }
+
         if (signer instanceof S3Signer) {
 
             // The old S3Signer needs a method and path passed to its
@@ -3210,6 +3241,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
      *         specified bucket.
      */
     private URI convertToVirtualHostEndpoint(String bucketName) {
+        return convertToVirtualHostEndpoint(endpoint, bucketName);
+    }
+
+    /**
+     * Converts the specified endpoint to a virtual-hosted-style endpoint for
+     * the specified bucket.
+     */
+    private static URI convertToVirtualHostEndpoint(URI endpoint, String bucketName) {
         try {
             return new URI(endpoint.getScheme() + "://" + bucketName + "." + endpoint.getAuthority());
         } catch (URISyntaxException e) {
@@ -3633,10 +3672,11 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     private void configRequest(
         Request<?> request, String bucketName, String key)
     {
+        final URI bucketEndpoint = getBucketEndpoint(bucketName);
         if ( !clientOptions.isPathStyleAccess()
              && BucketNameUtils.isDNSBucketName(bucketName)
              && !validIP(endpoint.getHost()) ) {
-            request.setEndpoint(convertToVirtualHostEndpoint(bucketName));
+            request.setEndpoint(convertToVirtualHostEndpoint(bucketEndpoint, bucketName));
             /*
              * If the key name starts with a slash character, in order to
              * prevent it being treated as a path delimiter, we need to add
@@ -3648,7 +3688,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
             request.setResourcePath(key);
         } else {
-            request.setEndpoint(endpoint);
+            request.setEndpoint(bucketEndpoint);
 
             if (bucketName != null) {
                 request.setResourcePath(bucketName + "/" + (key != null ? key : ""));
@@ -3656,6 +3696,76 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
     }
 
+    /**
+     * Returns the cached region of the specified bucket, if this client has
+     * no explicit region and caches the region of the buckets it accesses;
+     * or null otherwise.
+     */
+    private String getCachedBucketRegion(String bucketName) {
+        if (hasExplicitRegion || !clientOptions.isBucketRegionCache()) {
+            return null;
+        }
+        return bucketRegionCache.getRegion(bucketName);
+    }
+
+    /**
+     * Returns the endpoint of the region of the specified bucket, if known;
+     * or the endpoint of this client otherwise.
+     */
+    private URI getBucketEndpoint(String bucketName) {
+        final String bucketRegion = getCachedBucketRegion(bucketName);
+        return bucketRegion == null ? endpoint
+             : BucketRegionCache.getRegionEndpoint(endpoint, bucketRegion);
+    }
+
+    /**
+     * Caches the region of the specified bucket, as learned from a successful
+     * response to a request initially sent to the specified host.
+     */
+    private void cacheBucketRegion(String bucketName, String sentHost,
+            Request<?> request, Response<?> response) {
+        if (bucketName == null || hasExplicitRegion
+                || !clientOptions.isBucketRegionCache()) {
+            return;
+        }
+        final HttpResponse httpResponse = response.getHttpResponse();
+        final String bucketRegion = BucketRegionCache.regionOf(
+                httpResponse == null ? null : httpResponse.getHeaders(),
+                sentHost, request.getEndpoint().getHost());
+        if (bucketRegionCache.putRegion(bucketName, bucketRegion)
+                && log.isDebugEnabled()) {
+            log.debug("Bucket " + bucketName + " is located in " + bucketRegion);
+        }
+    }
+
+    /**
+     * Caches the region of the specified bucket reported by the specified
+     * error, and reconfigures the request for that region.
+     *
+     * @return true if the request should be retried in the newly learned
+     *         region of the bucket; false otherwise.
+     */
+    private boolean redirectToBucketRegion(Request<?> request,
+            String bucketName, String key, AmazonS3Exception ase) {
+        if (bucketName == null || hasExplicitRegion
+                || !clientOptions.isBucketRegionCache()) {
+            return false;
+        }
+        final String bucketRegion = BucketRegionCache.regionOf(ase);
+        if (!bucketRegionCache.putRegion(bucketName, bucketRegion)) {
+            return false;
+        }
+        final InputStream content = request.getContent();
+        if (content != null && !content.markSupported()) {
+            // The content has already been consumed, and cannot be resent
+            return false;
+        }
+        log.debug("Bucket " + bucketName + " is located in " + bucketRegion
+                + "; retrying the request in that region");
+        configRequest(request, bucketName, key);
+        return true;
+    }
+
     private boolean validIP(String IP) {
         if (IP == null) {
             return false;
@@ -3733,8 +3843,26 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             }
             executionContext.setSigner(createSigner(request, bucket, key));
             executionContext.setCredentials(credentials);
-            response = client.execute(request, responseHandler,
-                    errorResponseHandler, executionContext);
+            final String sentHost = request.getEndpoint().getHost();
+            final Map<String, String> originalHeaders =
+                new HashMap<String, String>(request.getHeaders());
+            final Map<String, String> originalParameters =
+                new HashMap<String, String>(request.getParameters());
+            try {
+                response = client.execute(request, responseHandler,
+                        errorResponseHandler, executionContext);
+            } catch (AmazonS3Exception ase) {
+                if (!redirectToBucketRegion(request, bucket, key, ase)) {
+                    throw ase;
+                }
+                // Retry once in the region the bucket is located in
+                request.setHeaders(originalHeaders);
+                request.setParameters(originalParameters);
+                executionContext.setSigner(createSigner(request, bucket, key));
+                response = client.execute(request, responseHandler,
+                        errorResponseHandler, executionContext);
+            }
+            cacheBucketRegion(bucket, sentHost, request, response);
             return response.getAwsResponse();
         } catch (ResetException ex) {
             ex.setExtraInfo("If the request involves an input stream, the maximum stream buffer size can be configured via request.getRequestClientOptions().setReadLimit(int)");
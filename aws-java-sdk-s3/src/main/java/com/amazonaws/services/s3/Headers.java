@@ -195,4 +195,10 @@ public interface Headers {
      * System key id used for Server Side Encryption.
      */
     public static final String SERVER_SIDE_ENCRYPTION_AWS_KMS_KEYID = "x-amz-server-side-encryption-aws-kms-key-id";
+
+    /**
+     * Header in the response indicating the region in which the bucket of
+     * the request is located.
+     */
+    public static final String S3_BUCKET_REGION = "x-amz-bucket-region";
 }
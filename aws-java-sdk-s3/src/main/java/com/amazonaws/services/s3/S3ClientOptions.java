@@ -22,13 +22,27 @@ public class S3ClientOptions {
     /** The default setting for use of path-style access */
     public static final boolean DEFAULT_PATH_STYLE_ACCESS = false;
 
+    /** The default setting for computing the MD5 of file uploads in a single pass */
+    public static final boolean DEFAULT_SINGLE_PASS_FILE_MD5 = false;
+
+    /** The default setting for caching the region of the buckets accessed */
+    public static final boolean DEFAULT_BUCKET_REGION_CACHE = false;
+
     /** Flag for use of path-style access */
     private boolean pathStyleAccess = DEFAULT_PATH_STYLE_ACCESS;
 
+    /** Flag for computing the MD5 of file uploads while they are sent */
+    private boolean singlePassFileMd5 = DEFAULT_SINGLE_PASS_FILE_MD5;
+
+    /** Flag for sending requests directly to the region of their bucket */
+    private boolean bucketRegionCache = DEFAULT_BUCKET_REGION_CACHE;
+
     public S3ClientOptions() {}
 
     public S3ClientOptions( S3ClientOptions other ) {
         this.pathStyleAccess = other.pathStyleAccess;
+        this.singlePassFileMd5 = other.singlePassFileMd5;
+        this.bucketRegionCache = other.bucketRegionCache;
     }
 
     /**
@@ -103,4 +117,123 @@ public class S3ClientOptions {
       return this;
     }
 
-}
\ No newline at end of file
+    /**
+     * <p>
+     * Returns whether the MD5 of a file uploaded with
+     * {@link AmazonS3#putObject(com.amazonaws.services.s3.model.PutObjectRequest)}
+     * is computed while the file is sent, rather than before.
+     * </p>
+     * <p>
+     * By default, the MD5 of a file to be uploaded is computed beforehand and
+     * sent as the Content-MD5 header, so that Amazon S3 rejects a corrupted
+     * upload; the file is therefore read from disk twice. When this flag is
+     * set, the file is read only once: the MD5 is computed as the content is
+     * sent, and checked against the ETag returned by Amazon S3 once the upload
+     * has completed. A mismatch is then reported as an
+     * {@link com.amazonaws.AmazonClientException}, but the corrupted object
+     * has already been stored and may need to be deleted.
+     * </p>
+     * <p>
+     * Uploads of parts from a file always compute the MD5 in a single pass.
+     * </p>
+     * @return True if the MD5 of file uploads is computed while they are sent
+     */
+    public boolean isSinglePassFileMd5() {
+        return singlePassFileMd5;
+    }
+
+    /**
+     * <p>
+     * Configures the client to compute the MD5 of a file uploaded with
+     * {@link AmazonS3#putObject(com.amazonaws.services.s3.model.PutObjectRequest)}
+     * while the file is sent, rather than before, halving the disk reads of
+     * the upload.
+     * </p>
+     * @param singlePassFileMd5
+     *            True to compute the MD5 of file uploads while they are sent,
+     *            and validate it against the returned ETag.
+     * @see #isSinglePassFileMd5()
+     */
+    public void setSinglePassFileMd5(boolean singlePassFileMd5) {
+        this.singlePassFileMd5 = singlePassFileMd5;
+    }
+
+    /**
+     * <p>
+     * Configures the client to compute the MD5 of a file uploaded with
+     * {@link AmazonS3#putObject(com.amazonaws.services.s3.model.PutObjectRequest)}
+     * while the file is sent, rather than before.
+     * </p>
+     * @param singlePassFileMd5
+     *            True to compute the MD5 of file uploads while they are sent,
+     *            and validate it against the returned ETag.
+     *
+     * @return The updated S3ClientOptions object with the new setting.
+     * @see #isSinglePassFileMd5()
+     */
+    public S3ClientOptions withSinglePassFileMd5(boolean singlePassFileMd5) {
+        setSinglePassFileMd5(singlePassFileMd5);
+        return this;
+    }
+
+    /**
+     * <p>
+     * Returns whether the client remembers the region of the buckets it
+     * accesses, and sends subsequent requests for those buckets directly to
+     * the endpoint of their region.
+     * </p>
+     * <p>
+     * A client configured with the global endpoint (s3.amazonaws.com) and no
+     * explicit region is redirected by Amazon S3 whenever it accesses a bucket
+     * located in another region, and fails outright if the bucket requires
+     * Signature Version 4. When this flag is set, the region of a bucket is
+     * learned from the first such redirect (or from the
+     * <code>x-amz-bucket-region</code> header of a response) and cached, so
+     * that each bucket costs at most one redirect rather than one per request.
+     * Requests for a bucket of known region are signed with Signature Version
+     * 4 for that region. A request failing with a permanent redirect to a
+     * newly learned region is retried once against that region, provided its
+     * content, if any, can be reset.
+     * </p>
+     * <p>
+     * This flag has no effect on a client configured with an explicit region
+     * or a region-specific endpoint.
+     * </p>
+     * @return True if the client caches the region of the buckets it accesses
+     */
+    public boolean isBucketRegionCache() {
+        return bucketRegionCache;
+    }
+
+    /**
+     * <p>
+     * Configures the client to remember the region of the buckets it
+     * accesses, and send subsequent requests for those buckets directly to
+     * the endpoint of their region.
+     * </p>
+     * @param bucketRegionCache
+     *            True to cache the region of the buckets accessed.
+     * @see #isBucketRegionCache()
+     */
+    public void setBucketRegionCache(boolean bucketRegionCache) {
+        this.bucketRegionCache = bucketRegionCache;
+    }
+
+    /**
+     * <p>
+     * Configures the client to remember the region of the buckets it
+     * accesses, and send subsequent requests for those buckets directly to
+     * the endpoint of their region.
+     * </p>
+     * @param bucketRegionCache
+     *            True to cache the region of the buckets accessed.
+     *
+     * @return The updated S3ClientOptions object with the new setting.
+     * @see #isBucketRegionCache()
+     */
+    public S3ClientOptions withBucketRegionCache(boolean bucketRegionCache) {
+        setBucketRegionCache(bucketRegionCache);
+        return this;
+    }
+
+}
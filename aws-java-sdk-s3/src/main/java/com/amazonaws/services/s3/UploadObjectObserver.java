@@ -126,7 +126,8 @@ public class UploadObjectObserver {
      * create an upload-part request for the newly created ciphertext file</li>
      * <li>call {@link #appendUserAgent(AmazonWebServiceRequest, String)} to
      * append the necessary user agent string to the request</li>
-     * <li>and finally submit a concurrent task, which calls the method
+     * <li>and finally call {@link #submitUploadPart(Callable)} to submit a
+     * concurrent task, which calls the method
      * {@link #uploadPart(UploadPartRequest)}, to be performed</li>
      * </ol>
      * <p>
@@ -143,7 +144,7 @@ public class UploadObjectObserver {
             newUploadPartRequest(event, part);
         final OnFileDelete fileDeleteObserver = event.getFileDeleteObserver();
         appendUserAgent(reqUploadPart, AmazonS3EncryptionClient.USER_AGENT);
-        futures.add(es.submit(new Callable<UploadPartResult>() {
+        futures.add(submitUploadPart(new Callable<UploadPartResult>() {
             @Override public UploadPartResult call() {
                 // Upload the ciphertext directly via the non-encrypting
                 // s3 client
@@ -164,6 +165,21 @@ public class UploadObjectObserver {
         }));
     }
 
+    /**
+     * Submits the given task, which uploads a part and then deletes the
+     * corresponding ciphertext file, to the executor service for concurrent
+     * execution. The returned future is waited upon before completing the
+     * multi-part upload.
+     *
+     * @param task
+     *            the task to upload a part
+     * @return the future result of the task
+     */
+    protected Future<UploadPartResult> submitUploadPart(
+            Callable<UploadPartResult> task) {
+        return es.submit(task);
+    }
+
     /**
      * Notified from
      * {@link AmazonS3EncryptionClient#uploadObject(UploadObjectRequest)} when
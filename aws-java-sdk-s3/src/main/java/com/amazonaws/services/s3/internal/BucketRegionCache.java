@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.internal.ConcurrentLRUCache;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.RegionUtils;
+import com.amazonaws.regions.ServiceAbbreviations;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.util.AwsHostNameUtils;
+
+/**
+ * A bounded cache of the region of the buckets accessed by an Amazon S3
+ * client, so that requests for a bucket located in another region than the
+ * one of the client endpoint can be sent directly to the endpoint of the
+ * bucket region, instead of being redirected there on every request.
+ */
+@ThreadSafe
+public class BucketRegionCache {
+    /** The default maximum number of buckets whose region is cached. */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final String ERROR_CODE_PERMANENT_REDIRECT = "PermanentRedirect";
+    private static final String ERROR_CODE_AUTHORIZATION_HEADER_MALFORMED = "AuthorizationHeaderMalformed";
+
+    private final ConcurrentLRUCache<String, String> regions;
+
+    public BucketRegionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize
+     *            the maximum number of buckets whose region is cached
+     */
+    public BucketRegionCache(int maxSize) {
+        this.regions = new ConcurrentLRUCache<String, String>(maxSize);
+    }
+
+    /**
+     * Returns the cached region of the given bucket; or null if unknown.
+     */
+    public String getRegion(String bucketName) {
+        return bucketName == null ? null : regions.get(bucketName);
+    }
+
+    /**
+     * Caches the region of the given bucket.
+     *
+     * @return true if the region of the bucket was previously unknown or
+     *         different; false otherwise.
+     */
+    public boolean putRegion(String bucketName, String regionName) {
+        if (bucketName == null || regionName == null) {
+            return false;
+        }
+        return !regionName.equals(regions.add(bucketName, regionName));
+    }
+
+    /**
+     * Returns the number of buckets whose region is cached.
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Returns the endpoint of Amazon S3 in the given region, using the scheme
+     * of the given endpoint.
+     */
+    public static URI getRegionEndpoint(URI endpoint, String regionName) {
+        String host = null;
+        Region region = RegionUtils.getRegion(regionName);
+        if (region != null) {
+            host = region.getServiceEndpoint(ServiceAbbreviations.S3);
+        }
+        if (host == null) {
+            host = "s3-" + regionName + ".amazonaws.com";
+        }
+        return URI.create(endpoint.getScheme() + "://" + host);
+    }
+
+    /**
+     * Returns the region of the bucket of a successful response, as reported
+     * by the given response headers or implied by the host the request was
+     * eventually sent to; or null if neither tells.
+     *
+     * @param headers
+     *            the headers of the response
+     * @param sentHost
+     *            the host the request was initially sent to
+     * @param finalHost
+     *            the host the request was eventually sent to, which differs
+     *            from the initial one if the request was redirected
+     */
+    public static String regionOf(Map<String, String> headers,
+            String sentHost, String finalHost) {
+        String regionName = headers == null ? null
+                : headers.get(Headers.S3_BUCKET_REGION);
+        if (regionName != null) {
+            return regionName;
+        }
+        if (finalHost == null || finalHost.equals(sentHost)) {
+            return null;
+        }
+        regionName = AwsHostNameUtils.parseRegionName(finalHost,
+                ServiceAbbreviations.S3);
+        // Only trust names of known regions, which excludes the host of the
+        // retries with Signature Version 4, such as s3-external-1.
+        return RegionUtils.getRegion(regionName) == null ? null : regionName;
+    }
+
+    /**
+     * Returns the region of the bucket reported by the given error, if the
+     * error is caused by the request having been sent to the endpoint or
+     * signed for the wrong region; or null otherwise.
+     */
+    public static String regionOf(AmazonS3Exception ase) {
+        final boolean wrongEndpoint = ase.getStatusCode() == 301
+                || ERROR_CODE_PERMANENT_REDIRECT.equals(ase.getErrorCode());
+        final boolean wrongSigningRegion = ase.getStatusCode() == 400
+                && ERROR_CODE_AUTHORIZATION_HEADER_MALFORMED.equals(ase.getErrorCode());
+        if (!wrongEndpoint && !wrongSigningRegion) {
+            return null;
+        }
+        Map<String, String> details = ase.getAdditionalDetails();
+        if (details == null) {
+            return null;
+        }
+        String regionName = details.get(Headers.S3_BUCKET_REGION);
+        if (regionName != null) {
+            return regionName;
+        }
+        if (wrongSigningRegion) {
+            return details.get("Region");
+        }
+        String endpoint = details.get("Endpoint");
+        if (endpoint == null) {
+            return null;
+        }
+        regionName = AwsHostNameUtils.parseRegionName(endpoint,
+                ServiceAbbreviations.S3);
+        return RegionUtils.getRegion(regionName) == null ? null : regionName;
+    }
+}
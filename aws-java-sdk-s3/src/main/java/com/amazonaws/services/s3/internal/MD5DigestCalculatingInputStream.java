@@ -16,16 +16,20 @@ package com.amazonaws.services.s3.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import com.amazonaws.internal.ChannelTransferable;
 import com.amazonaws.internal.SdkFilterInputStream;
 
 /**
  * Simple InputStream wrapper that examines the wrapped stream's contents as
  * they are read and calculates and MD5 digest.
  */
-public class MD5DigestCalculatingInputStream extends SdkFilterInputStream {
+public class MD5DigestCalculatingInputStream extends SdkFilterInputStream
+        implements ChannelTransferable {
     /** The MD5 message digest being calculated by this input stream */
     private MessageDigest digest;
     /**
@@ -101,4 +105,40 @@ public class MD5DigestCalculatingInputStream extends SdkFilterInputStream {
         }
         return result;
     }
+
+    @Override
+    public boolean isChannelTransferable() {
+        return in instanceof ChannelTransferable
+            && ((ChannelTransferable) in).isChannelTransferable();
+    }
+
+    /**
+     * Transfers the next bytes of the wrapped input stream, updating the
+     * message digest with the bytes as they are written to the given channel.
+     */
+    @Override
+    public long transferTo(final WritableByteChannel target, long maxCount)
+            throws IOException {
+        if (!isChannelTransferable())
+            throw new IllegalStateException();
+        return ((ChannelTransferable) in).transferTo(new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                ByteBuffer written = src.duplicate();
+                int n = target.write(src);
+                written.limit(written.position() + n);
+                digest.update(written);
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return target.isOpen();
+            }
+
+            @Override
+            public void close() {
+            }
+        }, maxCount);
+    }
 }
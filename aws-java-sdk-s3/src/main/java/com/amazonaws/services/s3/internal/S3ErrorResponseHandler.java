@@ -21,7 +21,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
@@ -36,6 +35,7 @@ import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.XmlUtils;
 
 /**
  * Response handler for S3 error responses. S3 error responses are different
@@ -53,10 +53,6 @@ public class S3ErrorResponseHandler implements
     private static final Log log = LogFactory
             .getLog(S3ErrorResponseHandler.class);
 
-    /** Shared factory for creating XML event readers */
-    private static final XMLInputFactory xmlInputFactory = XMLInputFactory
-            .newInstance();
-
     private static enum S3ErrorTags {
         Error, Message, Code, RequestId, HostId
     };
@@ -87,16 +83,13 @@ public class S3ErrorResponseHandler implements
         }
 
         /*
-         * XMLInputFactory is not thread safe and hence it is synchronized.
-         * Reference :
+         * XMLInputFactory is not thread safe, hence the use of a factory per
+         * thread. Reference :
          * http://itdoc.hitachi.co.jp/manuals/3020/30203Y2210e/EY220140.HTM
          */
-        XMLStreamReader reader;
-        synchronized (xmlInputFactory) {
-            reader = xmlInputFactory
-                    .createXMLStreamReader(new ByteArrayInputStream(content
-                            .getBytes(UTF8)));
-        }
+        XMLStreamReader reader = XmlUtils.getXmlInputFactory()
+                .createXMLStreamReader(new ByteArrayInputStream(content
+                        .getBytes(UTF8)));
 
         try {
             /*
@@ -110,6 +103,8 @@ public class S3ErrorResponseHandler implements
             final AmazonS3ExceptionBuilder exceptionBuilder = new AmazonS3ExceptionBuilder();
             exceptionBuilder.setErrorResponseXml(content);
             exceptionBuilder.setStatusCode(httpResponse.getStatusCode());
+            exceptionBuilder.addAdditionalDetail(Headers.S3_BUCKET_REGION,
+                    httpResponse.getHeaders().get(Headers.S3_BUCKET_REGION));
 
             boolean hasErrorTagVisited = false;
             while (reader.hasNext()) {
@@ -176,6 +171,8 @@ public class S3ErrorResponseHandler implements
         exceptionBuilder
                 .setExtendedRequestId(headers.get(Headers.EXTENDED_REQUEST_ID));
         exceptionBuilder.setRequestId(headers.get(Headers.REQUEST_ID));
+        exceptionBuilder.addAdditionalDetail(Headers.S3_BUCKET_REGION,
+                headers.get(Headers.S3_BUCKET_REGION));
         exceptionBuilder
                 .setErrorCode(statusCode + " " + errorResponse.getStatusText());
         return exceptionBuilder.build();
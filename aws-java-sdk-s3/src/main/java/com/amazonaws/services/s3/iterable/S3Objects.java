@@ -14,8 +14,19 @@
  */
 package com.amazonaws.services.s3.iterable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
@@ -34,6 +45,13 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Objects#withBatchSize(int)} method.
+ * <p>
+ * With {@link S3Objects#withPrefetch(int, ExecutorService)}, the next pages are
+ * fetched in the background while the current one is being iterated, so that
+ * processing the object summaries overlaps with waiting on Amazon S3. For
+ * buckets whose keys are spread across known prefixes,
+ * {@link S3Objects#withPrefixes(AmazonS3, String, List)} further allows the
+ * prefixes to be listed in parallel.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -41,6 +59,9 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
     private String prefix = null;
     private String bucketName;
     private Integer batchSize = null;
+    private List<String> prefixes = null;
+    private int prefetchDepth = 0;
+    private ExecutorService executorService = null;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -79,6 +100,59 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return objects;
     }
 
+    /**
+     * Constructs an iterable that covers the objects in an Amazon S3 bucket
+     * where the key begins with any of the given prefixes. The objects are
+     * iterated one prefix after the other, in the given order; if prefetching
+     * is enabled, the listings of the upcoming prefixes are started in
+     * parallel with the current one.
+     * <p>
+     * The prefixes should not overlap, or the objects matching more than one
+     * of them will be returned more than once.
+     *
+     * @param s3
+     *            The Amazon S3 client.
+     * @param bucketName
+     *            The bucket name.
+     * @param prefixes
+     *            The prefixes.
+     * @return An iterator for object summaries.
+     */
+    public static S3Objects withPrefixes(AmazonS3 s3, String bucketName, List<String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty())
+            throw new IllegalArgumentException("At least one prefix must be specified");
+        S3Objects objects = new S3Objects(s3, bucketName);
+        objects.prefixes = Collections.unmodifiableList(new ArrayList<String>(prefixes));
+        return objects;
+    }
+
+    /**
+     * Enables fetching pages of object summaries in the background, using the
+     * given executor, while the current page is being iterated. Up to the
+     * given number of pages are fetched ahead of the current one, per prefix;
+     * with {@link #withPrefixes(AmazonS3, String, List)}, the listings of up
+     * to that number of upcoming prefixes are also started ahead.
+     * <p>
+     * Pages are fetched one at a time per prefix, as each request for a page
+     * depends on the previous page, and no thread of the executor ever waits
+     * on the iteration. An iterator that is abandoned simply stops fetching.
+     *
+     * @param prefetchDepth
+     *            The maximum number of pages to fetch ahead; must be positive.
+     * @param executorService
+     *            The executor used to fetch the pages, which is not shut down
+     *            by this object.
+     */
+    public S3Objects withPrefetch(int prefetchDepth, ExecutorService executorService) {
+        if (prefetchDepth < 1)
+            throw new IllegalArgumentException("prefetchDepth must be positive");
+        if (executorService == null)
+            throw new IllegalArgumentException("executorService must be specified");
+        this.prefetchDepth = prefetchDepth;
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Sets the batch size, i.e., how many {@link S3ObjectSummary}s will be
      * fetched at once.
@@ -103,16 +177,136 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return bucketName;
     }
 
+    /**
+     * Returns the prefixes given to {@link #withPrefixes(AmazonS3, String, List)},
+     * or null if the objects are listed under a single prefix.
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Returns the maximum number of pages fetched ahead of the current one,
+     * or zero if pages are fetched synchronously as they are needed.
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
     public AmazonS3 getS3() {
         return s3;
     }
 
+    /**
+     * The pages of object listings under a single prefix.
+     */
+    private class ListingPages {
+        private final String prefix;
+
+        /** Last page fetched synchronously, when not prefetching. */
+        private ObjectListing lastListing = null;
+
+        /** Pages fetched or being fetched ahead, in order. */
+        private final LinkedList<Future<ObjectListing>> pagesAhead =
+                new LinkedList<Future<ObjectListing>>();
+
+        /** The last page requested ahead, if any. */
+        private Future<ObjectListing> lastRequested = null;
+
+        private boolean complete = false;
+
+        ListingPages(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Returns the next page, or null if there are no more pages.
+         */
+        ObjectListing nextPage() {
+            if (executorService == null) {
+                if (complete)
+                    return null;
+                lastListing = fetch(lastListing);
+                complete = !lastListing.isTruncated();
+                return lastListing;
+            }
+            prefetch();
+            Future<ObjectListing> page = pagesAhead.poll();
+            if (page == null)
+                return null;
+            ObjectListing listing = getPage(page);
+            prefetch();
+            return listing;
+        }
+
+        /**
+         * Requests the next page in the background if the previous one has
+         * been fetched and not too many pages are ahead. Never blocks.
+         */
+        void prefetch() {
+            if (executorService == null || complete || pagesAhead.size() >= prefetchDepth)
+                return;
+            final ObjectListing previous;
+            if (lastRequested == null) {
+                previous = null;
+            } else if (lastRequested.isDone()) {
+                previous = getPage(lastRequested);
+                if (!previous.isTruncated()) {
+                    complete = true;
+                    return;
+                }
+            } else {
+                return;
+            }
+            lastRequested = executorService.submit(new Callable<ObjectListing>() {
+                @Override
+                public ObjectListing call() {
+                    return fetch(previous);
+                }
+            });
+            pagesAhead.add(lastRequested);
+        }
+
+        private ObjectListing fetch(ObjectListing previous) {
+            if (previous != null)
+                return getS3().listNextBatchOfObjects(previous);
+            ListObjectsRequest req = new ListObjectsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(prefix);
+            req.setMaxKeys(getBatchSize());
+            return getS3().listObjects(req);
+        }
+
+        private ObjectListing getPage(Future<ObjectListing> page) {
+            try {
+                return page.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AbortedException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw new AmazonClientException("Unable to list objects", cause);
+            }
+        }
+    }
+
     private class S3ObjectIterator implements Iterator<S3ObjectSummary> {
 
-        private ObjectListing currentListing = null;
+        private final List<ListingPages> shards = new ArrayList<ListingPages>();
+
+        private int currentShard = 0;
 
         private Iterator<S3ObjectSummary> currentIterator = null;
 
+        S3ObjectIterator() {
+            for (String prefix : prefixes == null ? Arrays.asList(getPrefix()) : prefixes)
+                shards.add(new ListingPages(prefix));
+        }
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -131,22 +325,33 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         }
 
         private void prepareCurrentListing() {
-            while ( currentListing == null || (!currentIterator.hasNext() && currentListing.isTruncated()) ) {
-
-                if ( currentListing == null ) {
-                    ListObjectsRequest req = new ListObjectsRequest();
-                    req.setBucketName(getBucketName());
-                    req.setPrefix(getPrefix());
-                    req.setMaxKeys(getBatchSize());
-                    currentListing = getS3().listObjects(req);
-                } else {
-                    currentListing = getS3().listNextBatchOfObjects(currentListing);
+            if (currentIterator != null && currentIterator.hasNext()) {
+                if (currentShard < shards.size())
+                    shards.get(currentShard).prefetch();
+                return;
+            }
+            while (currentShard < shards.size()) {
+                prefetchShards();
+                ObjectListing listing = shards.get(currentShard).nextPage();
+                if (listing == null) {
+                    currentShard++;
+                    continue;
                 }
-
-                currentIterator = currentListing.getObjectSummaries().iterator();
+                currentIterator = listing.getObjectSummaries().iterator();
+                if (currentIterator.hasNext())
+                    return;
             }
+            currentIterator = Collections.<S3ObjectSummary>emptyList().iterator();
         }
 
+        /**
+         * Starts the listings of the upcoming prefixes.
+         */
+        private void prefetchShards() {
+            int end = Math.min(shards.size(), currentShard + prefetchDepth + 1);
+            for (int i = currentShard; i < end; i++)
+                shards.get(i).prefetch();
+        }
     }
 
     @Override
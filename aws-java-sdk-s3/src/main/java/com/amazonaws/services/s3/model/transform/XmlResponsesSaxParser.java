@@ -40,7 +40,6 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
-import org.xml.sax.helpers.XMLReaderFactory;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.internal.Constants;
@@ -93,6 +92,7 @@ import com.amazonaws.services.s3.model.StorageClass;
 import com.amazonaws.services.s3.model.TagSet;
 import com.amazonaws.services.s3.model.VersionListing;
 import com.amazonaws.util.DateUtils;
+import com.amazonaws.util.XmlUtils;
 
 /**
  * XML Sax parser to read XML documents returned by S3 via the REST interface,
@@ -101,22 +101,15 @@ import com.amazonaws.util.DateUtils;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
-    private XMLReader xr = null;
-
     private boolean sanitizeXmlDocument = true;
 
     /**
-     * Constructs the XML SAX parser.
+     * Constructs the XML SAX parser. The underlying XML reader is obtained
+     * from a per-thread cache when parsing each document.
      *
      * @throws AmazonClientException
      */
     public XmlResponsesSaxParser() throws AmazonClientException {
-        // Ensure we can load the XML Reader.
-        try {
-            xr = XMLReaderFactory.createXMLReader();
-        } catch (SAXException e) {
-            throw new AmazonClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
-        }
     }
 
     /**
@@ -142,9 +135,12 @@ public class XmlResponsesSaxParser {
 
             BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
                 Constants.DEFAULT_ENCODING));
+            XMLReader xr = getXMLReader();
             xr.setContentHandler(handler);
             xr.setErrorHandler(handler);
             xr.parse(new InputSource(breader));
+            // Only a reader that completed its parse is reused
+            XmlUtils.releaseXMLReader(xr);
 
         } catch (IOException e) {
             throw e;
@@ -162,6 +158,20 @@ public class XmlResponsesSaxParser {
         }
     }
 
+    /**
+     * Returns an XML reader for parsing a single document.
+     *
+     * @throws AmazonClientException
+     *             if no SAX driver can be loaded
+     */
+    private static XMLReader getXMLReader() {
+        try {
+            return XmlUtils.getXMLReader();
+        } catch (SAXException e) {
+            throw new AmazonClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
+        }
+    }
+
     protected InputStream sanitizeXmlDocument(DefaultHandler handler, InputStream inputStream)
             throws IOException {
 
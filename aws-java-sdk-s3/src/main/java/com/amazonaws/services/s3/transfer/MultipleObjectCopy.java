@@ -0,0 +1,78 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.IOException;
+
+/**
+ * Server-side copy of all objects under a key prefix, to another bucket or
+ * key prefix.
+ * <p>
+ * The total number of bytes to transfer grows as the source objects are
+ * listed, and the number of bytes transferred grows as each object copy
+ * completes. No further object copy is started once one has failed; the
+ * {@link #getCheckpoint() checkpoint} of the copy can then be used to resume
+ * it.
+ */
+public interface MultipleObjectCopy extends Transfer {
+
+    /**
+     * Returns the name of the bucket objects are copied from.
+     */
+    public String getSourceBucketName();
+
+    /**
+     * Returns the key prefix of the objects copied.
+     */
+    public String getSourceKeyPrefix();
+
+    /**
+     * Returns the name of the bucket objects are copied to.
+     */
+    public String getDestinationBucketName();
+
+    /**
+     * Returns the key prefix replacing the source key prefix in the keys of
+     * the copies.
+     */
+    public String getDestinationKeyPrefix();
+
+    /**
+     * Returns the number of objects copied so far.
+     */
+    public long getCopiedObjectCount();
+
+    /**
+     * Returns the number of objects that could not be copied.
+     */
+    public long getFailedObjectCount();
+
+    /**
+     * Returns the current checkpoint of this copy, from which it can be
+     * resumed with
+     * {@link TransferManager#resumeDirectoryCopy(PersistableDirectoryCopy)}
+     * once it has failed or been aborted. Objects copied after the checkpoint
+     * are copied again when resuming.
+     */
+    public PersistableDirectoryCopy getCheckpoint();
+
+    /**
+     * Cancels this copy. The object copies in progress complete, but no
+     * further copy is started.
+     *
+     * @throws IOException
+     */
+    public void abort() throws IOException;
+}
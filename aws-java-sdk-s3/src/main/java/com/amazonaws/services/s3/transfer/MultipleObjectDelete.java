@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+
+/**
+ * Deletion of many objects in batches, such as all objects under a key prefix.
+ * <p>
+ * The progress of this transfer counts objects rather than bytes: the number
+ * of bytes to transfer is the number of objects listed so far, and the number
+ * of bytes transferred is the number of objects deleted.
+ */
+public interface MultipleObjectDelete extends Transfer {
+
+    /**
+     * Returns the name of the bucket from which objects are deleted.
+     */
+    public String getBucketName();
+
+    /**
+     * Returns the key prefix of the objects being deleted; or null if the
+     * keys to be deleted were given explicitly.
+     */
+    public String getKeyPrefix();
+
+    /**
+     * Returns the number of objects deleted so far.
+     */
+    public long getDeletedObjectCount();
+
+    /**
+     * Returns the number of objects that could not be deleted, even after
+     * retrying.
+     */
+    public long getFailedObjectCount();
+
+    /**
+     * Returns the errors of the first objects that could not be deleted, even
+     * after retrying. Only a bounded number of errors are kept.
+     */
+    public List<DeleteError> getErrors();
+
+    /**
+     * Cancels this deletion. Objects already deleted are not restored.
+     *
+     * @throws IOException
+     */
+    public void abort() throws IOException;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An opaque token that holds the checkpoint of a directory copy, and can be
+ * used to resume the copy after the last object known to have been copied
+ * along with all the objects before it.
+ */
+public final class PersistableDirectoryCopy extends PersistableTransfer {
+    static final String TYPE = "directoryCopy";
+
+    @JsonProperty
+    private final String pauseType = TYPE;
+
+    /** The name of the bucket objects are copied from. */
+    @JsonProperty
+    private final String sourceBucketName;
+
+    /** The key prefix of the objects copied. */
+    @JsonProperty
+    private final String sourceKeyPrefix;
+
+    /** The name of the bucket objects are copied to. */
+    @JsonProperty
+    private final String destinationBucketName;
+
+    /**
+     * The key prefix replacing the source key prefix in the keys of the
+     * copies.
+     */
+    @JsonProperty
+    private final String destinationKeyPrefix;
+
+    /**
+     * The greatest source key such that it and all keys before it have been
+     * copied; or null if none is known to have been.
+     */
+    @JsonProperty
+    private final String lastCopiedKey;
+
+    public PersistableDirectoryCopy() {
+        this(null, null, null, null, null);
+    }
+
+    public PersistableDirectoryCopy(
+            @JsonProperty(value = "sourceBucketName") String sourceBucketName,
+            @JsonProperty(value = "sourceKeyPrefix") String sourceKeyPrefix,
+            @JsonProperty(value = "destinationBucketName") String destinationBucketName,
+            @JsonProperty(value = "destinationKeyPrefix") String destinationKeyPrefix,
+            @JsonProperty(value = "lastCopiedKey") String lastCopiedKey) {
+        this.sourceBucketName = sourceBucketName;
+        this.sourceKeyPrefix = sourceKeyPrefix;
+        this.destinationBucketName = destinationBucketName;
+        this.destinationKeyPrefix = destinationKeyPrefix;
+        this.lastCopiedKey = lastCopiedKey;
+    }
+
+    /**
+     * Returns the name of the bucket objects are copied from.
+     */
+    String getSourceBucketName() {
+        return sourceBucketName;
+    }
+
+    /**
+     * Returns the key prefix of the objects copied.
+     */
+    String getSourceKeyPrefix() {
+        return sourceKeyPrefix;
+    }
+
+    /**
+     * Returns the name of the bucket objects are copied to.
+     */
+    String getDestinationBucketName() {
+        return destinationBucketName;
+    }
+
+    /**
+     * Returns the key prefix of the copies.
+     */
+    String getDestinationKeyPrefix() {
+        return destinationKeyPrefix;
+    }
+
+    /**
+     * Returns the source key after which the copy is to be resumed; or null
+     * if it is to be started from the first object.
+     */
+    String getLastCopiedKey() {
+        return lastCopiedKey;
+    }
+
+    String getPauseType() {
+        return pauseType;
+    }
+}
@@ -27,9 +27,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * Abstract base class for the information of a pausible upload or download; such
- * information can be used to resume the upload or download later on, and can be
- * serialized/deserialized for persistence purposes.
+ * Abstract base class for the information of a pausible upload or download, or
+ * the checkpoint of a directory copy; such information can be used to resume
+ * the transfer later on, and can be serialized/deserialized for persistence
+ * purposes.
  */
 public abstract class PersistableTransfer {
 
@@ -79,6 +80,8 @@ public abstract class PersistableTransfer {
             clazz = PersistableDownload.class;
         } else if (PersistableUpload.TYPE.equals(type)) {
             clazz = PersistableUpload.class;
+        } else if (PersistableDirectoryCopy.TYPE.equals(type)) {
+            clazz = PersistableDirectoryCopy.class;
         } else {
             throw new UnsupportedOperationException(
                     "Unsupported paused transfer type: " + type);
@@ -14,20 +14,28 @@
  */
 package com.amazonaws.services.s3.transfer;
 
+import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
 import static com.amazonaws.services.s3.internal.ServiceUtils.APPEND_MODE;
 import static com.amazonaws.services.s3.internal.ServiceUtils.OVERWRITE_MODE;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -54,7 +62,9 @@ import com.amazonaws.services.s3.AmazonS3Encryption;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.iterable.S3Objects;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
@@ -67,13 +77,18 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.internal.CompleteMultipartDownload;
 import com.amazonaws.services.s3.transfer.internal.CopyCallable;
 import com.amazonaws.services.s3.transfer.internal.CopyImpl;
 import com.amazonaws.services.s3.transfer.internal.CopyMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
+import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransferMonitor;
+import com.amazonaws.services.s3.transfer.internal.MultipleObjectCopyImpl;
+import com.amazonaws.services.s3.transfer.internal.MultipleObjectDeleteImpl;
+import com.amazonaws.services.s3.transfer.internal.PipelinedMultipleFileDownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileUploadImpl;
 import com.amazonaws.services.s3.transfer.internal.S3ProgressListener;
 import com.amazonaws.services.s3.transfer.internal.S3ProgressListenerChain;
@@ -97,6 +112,14 @@ import com.amazonaws.util.VersionInfoUtils;
  * content sizes and high bandwidth, this can have a significant increase on
  * throughput.
  * <p>
+ * Files are uploaded without copying their content through the Java heap only
+ * if the Amazon S3 client uses the non-blocking transport, as set via
+ * {@link com.amazonaws.ClientConfiguration#setHttpTransportFactory(com.amazonaws.http.HttpTransportFactory)},
+ * and doesn't sign the requests with Signature Version 4, whose aws-chunked
+ * payload signing rewrites the content. Otherwise, such as with the default
+ * Apache HTTP client based transport, the content is streamed through heap
+ * buffers.
+ * <p>
  * <code>TransferManager</code> is responsible for managing resources such as
  * connections and threads; share a single instance of
  * <code>TransferManager</code> whenever possible. <code>TransferManager</code>,
@@ -748,6 +771,19 @@ public class TransferManager {
             final File file, final TransferStateChangeListener stateListener,
             final S3ProgressListener s3progressListener,
             final boolean resumeExistingDownload) {
+        return doDownload(getObjectRequest, file, stateListener,
+                s3progressListener, resumeExistingDownload, null);
+    }
+
+    /**
+     * Same as above, but resumes the given multi-part download, if any, at
+     * part granularity.
+     */
+    private Download doDownload(final GetObjectRequest getObjectRequest,
+            final File file, final TransferStateChangeListener stateListener,
+            final S3ProgressListener s3progressListener,
+            final boolean resumeExistingDownload,
+            final PersistableDownload persistableDownload) {
 
         appendSingleObjectUserAgent(getObjectRequest);
 
@@ -787,11 +823,6 @@ public class TransferManager {
         }
         final ObjectMetadata objectMetadata = s3.getObjectMetadata(getObjectMetadataRequest);
 
-        // We still pass the unfiltered listener chain into DownloadImpl
-        final DownloadImpl download = new DownloadImpl(description,
-                transferProgress, listenerChain, null, stateListener,
-                getObjectRequest, file);
-
         long startingByte = 0;
         long lastByte = objectMetadata.getContentLength() - 1;
 
@@ -804,6 +835,22 @@ public class TransferManager {
         long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
 
+        if (persistableDownload != null && persistableDownload.getPartSize() > 0
+                || !resumeExistingDownload
+                && totalBytesToDownload >= configuration.getMultipartDownloadThreshold()
+                && TransferManagerUtils.isDownloadParallelizable(getObjectRequest,
+                        s3 instanceof AmazonS3Encryption)) {
+            return doMultipartDownload(getObjectRequest, file, stateListener,
+                    description, transferProgress, listenerChain,
+                    objectMetadata, startingByte, lastByte,
+                    persistableDownload);
+        }
+
+        // We still pass the unfiltered listener chain into DownloadImpl
+        final DownloadImpl download = new DownloadImpl(description,
+                transferProgress, listenerChain, null, stateListener,
+                getObjectRequest, file);
+
         if (resumeExistingDownload) {
             if (file.exists()) {
                 long numberOfBytesRead = file.length();
@@ -828,6 +875,182 @@ public class TransferManager {
         return download;
     }
 
+    /**
+     * Downloads the given range of the object as parts fetched in parallel
+     * and written at their position in the file, skipping the parts of the
+     * given paused download that are already in the file.
+     */
+    private Download doMultipartDownload(final GetObjectRequest getObjectRequest,
+            final File file, final TransferStateChangeListener stateListener,
+            final String description, final TransferProgress transferProgress,
+            final S3ProgressListenerChain listenerChain,
+            final ObjectMetadata objectMetadata, final long startingByte,
+            final long lastByte, final PersistableDownload persistableDownload) {
+        final long totalBytesToDownload = lastByte - startingByte + 1;
+        final String eTag = objectMetadata.getETag();
+        long partSize = configuration.getDownloadPartSize();
+        int[] completedParts = null;
+        if (persistableDownload != null && persistableDownload.getPartSize() > 0) {
+            partSize = persistableDownload.getPartSize();
+            // The parts already downloaded can only be kept if they are from
+            // the same object, and the file hasn't been touched since
+            if (eTag != null && eTag.equals(persistableDownload.getETag())
+                    && file.length() == totalBytesToDownload) {
+                completedParts = persistableDownload.getCompletedParts();
+            }
+        }
+        final boolean keepFileContent = completedParts != null;
+
+        // We still pass the unfiltered listener chain into DownloadImpl
+        final DownloadImpl download = new DownloadImpl(description,
+                transferProgress, listenerChain, null, stateListener,
+                getObjectRequest, file, partSize, eTag,
+                keepFileContent ? completedParts : new int[0]);
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(getObjectRequest.getBucketName());
+        s3Object.setKey(getObjectRequest.getKey());
+        s3Object.setObjectMetadata(objectMetadata);
+        download.setS3Object(s3Object);
+
+        if (keepFileContent) {
+            for (int partNumber : completedParts) {
+                long partStart = (partNumber - 1) * partSize;
+                transferProgress.updateProgress(
+                        Math.min(partSize, totalBytesToDownload - partStart));
+            }
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        Future<?> future = submitMultipartDownloadTask(getObjectRequest, file,
+                objectMetadata, startingByte, lastByte, partSize,
+                keepFileContent, listenerChain, latch, download);
+        download.setMonitor(new DownloadMonitor(download, future));
+        latch.countDown();
+        return download;
+    }
+
+    private Future<?> submitMultipartDownloadTask(
+            final GetObjectRequest getObjectRequest, final File file,
+            final ObjectMetadata objectMetadata, final long startingByte,
+            final long lastByte, final long partSize,
+            final boolean keepFileContent,
+            final ProgressListenerChain listenerChain,
+            final CountDownLatch latch,
+            final DownloadImpl download) {
+        // The progress of the individual parts only contributes the bytes
+        // transferred; the download as a whole fires the transfer events.
+        final ProgressListenerChain partListeners = new ProgressListenerChain(
+                new ProgressEventFilter() {
+                    @Override
+                    public ProgressEvent filter(ProgressEvent progressEvent) {
+                        return progressEvent.getEventType().isTransferEvent()
+                             ? null // discard this event
+                             : progressEvent
+                             ;
+                    }
+                }, listenerChain);
+        Future<?> future = threadPool.submit(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                try {
+                    latch.await();
+                    download.setState(TransferState.InProgress);
+                    publishProgress(listenerChain, ProgressEventType.TRANSFER_STARTED_EVENT);
+                    createFile(file, lastByte - startingByte + 1, keepFileContent);
+
+                    List<Future<Long>> futures = new ArrayList<Future<Long>>();
+                    int partNumber = 1;
+                    for (long start = startingByte; start <= lastByte; start += partSize, partNumber++) {
+                        if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+                        if (download.isPartCompleted(partNumber))
+                            continue;
+                        long end = Math.min(start + partSize - 1, lastByte);
+                        GetObjectRequest partRequest = newGetObjectPartRequest(
+                                getObjectRequest, objectMetadata.getETag(),
+                                start, end, partListeners);
+                        Future<Long> partFuture = threadPool.submit(new DownloadPartCallable(
+                                s3, partRequest, file, start - startingByte,
+                                partNumber, download));
+                        download.addPartFuture(partFuture);
+                        futures.add(partFuture);
+                    }
+                    // Hand the rest of the download over to a task waiting
+                    // for the parts, instead of holding this thread
+                    boolean performIntegrityCheck = getObjectRequest.getRange() == null
+                            && getObjectRequest.getSSECustomerKey() == null;
+                    Future<?> completion = threadPool.submit(new CompleteMultipartDownload(
+                            futures, objectMetadata, performIntegrityCheck,
+                            file, download, listenerChain));
+                    download.setMonitor(new DownloadMonitor(download, completion));
+                    return true;
+                } catch (Throwable t) {
+                    // Downloads aren't allowed to move from canceled to failed
+                    if (download.getState() != TransferState.Canceled) {
+                        download.setState(TransferState.Failed);
+                    }
+                    if (t instanceof Exception)
+                        throw (Exception) t;
+                    else
+                        throw (Error) t;
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a request for the given byte range of the object to download,
+     * constrained to the given ETag so that all the parts come from the same
+     * object. The other constraints of the original request aren't carried
+     * over, as requests with constraints are never downloaded in parts.
+     */
+    private static GetObjectRequest newGetObjectPartRequest(
+            GetObjectRequest getObjectRequest, String eTag, long start,
+            long end, ProgressListener progressListener) {
+        GetObjectRequest partRequest = new GetObjectRequest(
+                getObjectRequest.getBucketName(), getObjectRequest.getKey(),
+                getObjectRequest.getVersionId())
+            .withRange(start, end);
+        partRequest.setRequesterPays(getObjectRequest.isRequesterPays());
+        partRequest.setSSECustomerKey(getObjectRequest.getSSECustomerKey());
+        partRequest.setResponseHeaders(getObjectRequest.getResponseHeaders());
+        partRequest.setRequestCredentials(getObjectRequest.getRequestCredentials());
+        partRequest.setRequestMetricCollector(getObjectRequest.getRequestMetricCollector());
+        Map<String, String> headers = getObjectRequest.getCustomRequestHeaders();
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet())
+                partRequest.putCustomRequestHeader(header.getKey(), header.getValue());
+        }
+        if (eTag != null)
+            partRequest.withMatchingETagConstraint(eTag);
+        partRequest.setGeneralProgressListener(progressListener);
+        return appendMultipartUserAgent(partRequest);
+    }
+
+    /**
+     * Creates the file of the given length to write the parts of a multi-part
+     * download into, unless the content of an existing file is to be kept.
+     */
+    private static void createFile(File file, long length, boolean keepFileContent)
+            throws IOException {
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            if (!(parentDirectory.mkdirs())) {
+                throw new AmazonClientException(
+                        "Unable to create directory in the path"
+                                + parentDirectory.getAbsolutePath());
+            }
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            if (!keepFileContent)
+                raf.setLength(0);
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+
     private Future<?> submitDownloadTask(
             final GetObjectRequest getObjectRequest, final File file,
             final boolean resumeExistingDownload,
@@ -914,42 +1137,21 @@ public class TransferManager {
     public MultipleFileDownload downloadDirectory(String bucketName, String keyPrefix, File destinationDirectory) {
         if ( keyPrefix == null )
             keyPrefix = "";
-        List<S3ObjectSummary> objectSummaries = new LinkedList<S3ObjectSummary>();
-        Stack<String> commonPrefixes = new Stack<String>();
-        commonPrefixes.add(keyPrefix);
+        if ( configuration.getDirectoryDownloadQueueSize() > 0 )
+            return downloadDirectoryPipelined(bucketName, keyPrefix, destinationDirectory,
+                    configuration.getDirectoryDownloadQueueSize());
+        final List<S3ObjectSummary> objectSummaries = new LinkedList<S3ObjectSummary>();
+        listDirectory(bucketName, keyPrefix, new DirectoryListingHandler() {
+            @Override
+            public boolean objectListed(S3ObjectSummary summary) {
+                objectSummaries.add(summary);
+                return true;
+            }
+        });
         long totalSize = 0;
-        // Recurse all virtual subdirectories to get a list of object summaries.
-        // This is a depth-first search.
-        do {
-            String prefix = commonPrefixes.pop();
-            ObjectListing listObjectsResponse = null;
-
-            do {
-                if ( listObjectsResponse == null ) {
-                    ListObjectsRequest listObjectsRequest = new ListObjectsRequest().withBucketName(bucketName)
-                            .withDelimiter(DEFAULT_DELIMITER).withPrefix(prefix);
-                    listObjectsResponse = s3.listObjects(listObjectsRequest);
-                } else {
-                    listObjectsResponse = s3.listNextBatchOfObjects(listObjectsResponse);
-                }
-
-                for ( S3ObjectSummary s : listObjectsResponse.getObjectSummaries() ) {
-                    // Skip any files that are also virtual directories, since
-                    // we can't save both a directory and a file of the same
-                    // name.
-                    if ( !s.getKey().equals(prefix)
-                            && !listObjectsResponse.getCommonPrefixes().contains(s.getKey() + DEFAULT_DELIMITER) ) {
-                        objectSummaries.add(s);
-                        totalSize += s.getSize();
-                    } else {
-                        log.debug("Skipping download for object " + s.getKey()
-                                + " since it is also a virtual directory");
-                    }
-                }
-
-                commonPrefixes.addAll(listObjectsResponse.getCommonPrefixes());
-            } while ( listObjectsResponse.isTruncated() );
-        } while ( !commonPrefixes.isEmpty() );
+        for ( S3ObjectSummary s : objectSummaries ) {
+            totalSize += s.getSize();
+        }
 
         /* This is the hook for adding additional progress listeners */
         ProgressListenerChain additionalListeners = new ProgressListenerChain();
@@ -1006,6 +1208,231 @@ public class TransferManager {
         return multipleFileDownload;
     }
 
+    /**
+     * Downloads all objects in the virtual directory while it is being
+     * listed, with at most the given number of downloads queued or in
+     * progress at any one time.
+     *
+     * @see TransferManagerConfiguration#getDirectoryDownloadQueueSize()
+     */
+    private MultipleFileDownload downloadDirectoryPipelined(final String bucketName,
+            final String keyPrefix, final File destinationDirectory, int queueSize) {
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+
+        TransferProgress transferProgress = new TransferProgress();
+        final ProgressListener listener = new MultipleFileTransferProgressUpdatingListener(
+                transferProgress, additionalListeners);
+
+        String description = "Downloading from " + bucketName + "/" + keyPrefix;
+        final PipelinedMultipleFileDownloadImpl multipleFileDownload = new PipelinedMultipleFileDownloadImpl(
+                description, transferProgress, additionalListeners, keyPrefix, bucketName, queueSize);
+
+        FutureTask<Object> listing = new FutureTask<Object>(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                try {
+                    listDirectory(bucketName, keyPrefix, new DirectoryListingHandler() {
+                        @Override
+                        public boolean objectListed(S3ObjectSummary summary) {
+                            try {
+                                if ( !multipleFileDownload.awaitQueueSlot(summary.getSize()) )
+                                    return false;
+                            } catch ( InterruptedException e ) {
+                                // The download has been aborted
+                                Thread.currentThread().interrupt();
+                                return false;
+                            }
+                            queueDirectoryDownload(multipleFileDownload, summary,
+                                    destinationDirectory, listener);
+                            return true;
+                        }
+                    });
+                } catch ( Exception e ) {
+                    multipleFileDownload.setFailure(e);
+                }
+                return multipleFileDownload.awaitCompletion();
+            }
+        });
+        multipleFileDownload.setListing(listing);
+        listingThreadFactory.newThread(listing).start();
+        return multipleFileDownload;
+    }
+
+    /**
+     * Starts the download of the given object of a pipelined directory
+     * download from the thread pool, as starting a download involves a request
+     * for the object metadata.
+     */
+    private void queueDirectoryDownload(
+            final PipelinedMultipleFileDownloadImpl multipleFileDownload,
+            final S3ObjectSummary summary, final File destinationDirectory,
+            final ProgressListener listener) {
+        final TransferStateChangeListener stateListener = multipleFileDownload.newSubTransferListener();
+        try {
+            threadPool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if ( multipleFileDownload.isStopped() ) {
+                            multipleFileDownload.subTransferSkipped(stateListener);
+                            return;
+                        }
+                        File f = new File(destinationDirectory, summary.getKey());
+                        File parentFile = f.getParentFile();
+                        if ( !parentFile.exists() && !parentFile.mkdirs() ) {
+                            throw new AmazonClientException(
+                                    "Couldn't create parent directories for " + f.getAbsolutePath());
+                        }
+                        multipleFileDownload.subTransferStarted(doDownload(
+                                new GetObjectRequest(summary.getBucketName(),
+                                        summary.getKey())
+                                        .<GetObjectRequest>withGeneralProgressListener(
+                                                listener),
+                                f,
+                                stateListener, null, false));
+                    } catch ( Exception e ) {
+                        multipleFileDownload.subTransferFailedToStart(stateListener, e);
+                    }
+                }
+            });
+        } catch ( RejectedExecutionException e ) {
+            multipleFileDownload.subTransferFailedToStart(stateListener,
+                    new CancellationException("TransferManager has been shutdown"));
+        }
+    }
+
+    /**
+     * Deletes all objects whose keys start with the given prefix, in batches
+     * of up to 1000 keys sent concurrently while the rest of the objects are
+     * still being listed.
+     * <p>
+     * Keys which Amazon S3 fails to delete with a transient error, such as
+     * SlowDown, are retried on their own a few times; other errors, such as
+     * AccessDenied, are reported without retrying. The progress of the
+     * returned transfer counts objects rather than bytes.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket to delete objects from.
+     * @param keyPrefix
+     *            The prefix of the keys of the objects to delete; or null or
+     *            the empty string to delete all objects in the bucket.
+     *
+     * @return An object which can be used to check the status of and wait on
+     *         the deletion.
+     * @see TransferManagerConfiguration#getDeleteBatchConcurrency()
+     */
+    public MultipleObjectDelete deleteDirectory(String bucketName, String keyPrefix) {
+        if ( keyPrefix == null )
+            keyPrefix = "";
+        final Iterator<S3ObjectSummary> summaries =
+                S3Objects.withPrefix(s3, bucketName, keyPrefix).iterator();
+        Iterator<KeyVersion> keys = new Iterator<KeyVersion>() {
+            @Override
+            public boolean hasNext() {
+                return summaries.hasNext();
+            }
+
+            @Override
+            public KeyVersion next() {
+                return new KeyVersion(summaries.next().getKey());
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return doDeleteObjects(bucketName, keyPrefix, keys);
+    }
+
+    /**
+     * Deletes the objects of the given keys, in batches of up to 1000 keys
+     * sent concurrently while the rest of the keys are still being iterated.
+     * Failed keys are retried, and progress is reported, as with
+     * {@link #deleteDirectory(String, String)}.
+     *
+     * @param bucketName
+     *            The name of the bucket to delete objects from.
+     * @param keys
+     *            The keys, and optionally versions, of the objects to delete.
+     *            The iterator is consumed from a thread other than the
+     *            caller's.
+     *
+     * @return An object which can be used to check the status of and wait on
+     *         the deletion.
+     * @see TransferManagerConfiguration#getDeleteBatchConcurrency()
+     */
+    public MultipleObjectDelete deleteObjects(String bucketName, Iterator<KeyVersion> keys) {
+        return doDeleteObjects(bucketName, null, keys);
+    }
+
+    private MultipleObjectDelete doDeleteObjects(String bucketName,
+            String keyPrefix, Iterator<KeyVersion> keys) {
+        String description = "Deleting from " + bucketName
+                + (keyPrefix == null ? "" : "/" + keyPrefix);
+        MultipleObjectDeleteImpl multipleObjectDelete = new MultipleObjectDeleteImpl(
+                description, new TransferProgress(), new ProgressListenerChain(),
+                s3, threadPool, timedThreadPool, bucketName, keyPrefix, keys,
+                configuration.getDeleteBatchConcurrency());
+        multipleObjectDelete.start(listingThreadFactory);
+        return multipleObjectDelete;
+    }
+
+    /**
+     * Receives the objects of a virtual directory as it is listed.
+     */
+    private interface DirectoryListingHandler {
+        /**
+         * Called for each object to be downloaded.
+         *
+         * @return false if the listing is to stop.
+         */
+        boolean objectListed(S3ObjectSummary summary);
+    }
+
+    /**
+     * Lists all objects in the virtual directory designated by the given key
+     * prefix, recursing into all virtual subdirectories depth-first, one page
+     * at a time.
+     */
+    private void listDirectory(String bucketName, String keyPrefix,
+            DirectoryListingHandler handler) {
+        Stack<String> commonPrefixes = new Stack<String>();
+        commonPrefixes.add(keyPrefix);
+        do {
+            String prefix = commonPrefixes.pop();
+            ObjectListing listObjectsResponse = null;
+
+            do {
+                if ( listObjectsResponse == null ) {
+                    ListObjectsRequest listObjectsRequest = new ListObjectsRequest().withBucketName(bucketName)
+                            .withDelimiter(DEFAULT_DELIMITER).withPrefix(prefix);
+                    listObjectsResponse = s3.listObjects(listObjectsRequest);
+                } else {
+                    listObjectsResponse = s3.listNextBatchOfObjects(listObjectsResponse);
+                }
+
+                for ( S3ObjectSummary s : listObjectsResponse.getObjectSummaries() ) {
+                    // Skip any files that are also virtual directories, since
+                    // we can't save both a directory and a file of the same
+                    // name.
+                    if ( !s.getKey().equals(prefix)
+                            && !listObjectsResponse.getCommonPrefixes().contains(s.getKey() + DEFAULT_DELIMITER) ) {
+                        if ( !handler.objectListed(s) )
+                            return;
+                    } else {
+                        log.debug("Skipping download for object " + s.getKey()
+                                + " since it is also a virtual directory");
+                    }
+                }
+
+                commonPrefixes.addAll(listObjectsResponse.getCommonPrefixes());
+            } while ( listObjectsResponse.isTruncated() );
+        } while ( !commonPrefixes.isEmpty() );
+    }
+
     /**
      * Uploads all files in the directory given to the bucket named, optionally
      * recursing for all subdirectories.
@@ -1373,6 +1800,22 @@ public class TransferManager {
         }
     };
 
+    /**
+     * Creates the threads listing the objects of pipelined directory downloads,
+     * directory copies and multiple object deletes. They are not taken from
+     * the thread pool, which the requests they queue and wait for may need in
+     * full.
+     */
+    private static final ThreadFactory listingThreadFactory = new ThreadFactory() {
+        final AtomicInteger threadCount = new AtomicInteger( 0 );
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.incrementAndGet();
+            Thread thread = new Thread(r);
+            thread.setName("S3TransferManagerListingThread-" + threadNumber);
+            return thread;
+        }
+    };
+
     /**
      * <p>
      * Schedules a new transfer to copy data from one Amazon S3 location to
@@ -1510,6 +1953,16 @@ public class TransferManager {
                 copyObjectRequest.getDestinationKey(),
                 "The destination object key must be specified when a copy request is initiated.");
 
+        return doCopy(copyObjectRequest, stateChangeListener, configuration);
+    }
+
+    /**
+     * Schedules the copy of a single object, deciding whether to copy it in
+     * parts from the given configuration.
+     */
+    private Copy doCopy(final CopyObjectRequest copyObjectRequest,
+            final TransferStateChangeListener stateChangeListener,
+            final TransferManagerConfiguration copyConfiguration) {
         String description = "Copying object from "
                 + copyObjectRequest.getSourceBucketName() + "/"
                 + copyObjectRequest.getSourceKey() + " to "
@@ -1532,14 +1985,230 @@ public class TransferManager {
         CopyImpl copy = new CopyImpl(description, transferProgress,
                 listenerChain, stateChangeListener);
         CopyCallable copyCallable = new CopyCallable(this, threadPool, copy,
-                copyObjectRequest, metadata, listenerChain);
+                copyObjectRequest, metadata, listenerChain, copyConfiguration);
         CopyMonitor watcher = new CopyMonitor(this, copy, threadPool,
-                copyCallable, copyObjectRequest, listenerChain);
-        watcher.setTimedThreadPool(timedThreadPool);
+                timedThreadPool, copyCallable, copyObjectRequest, listenerChain);
         copy.setMonitor(watcher);
         return copy;
     }
 
+    /**
+     * <p>
+     * Schedules a new transfer to copy all objects whose keys start with the
+     * given source key prefix, to keys starting with the given destination
+     * key prefix instead, possibly in another bucket. This method is
+     * non-blocking and returns immediately (i.e. before the copy has
+     * finished).
+     * </p>
+     * <p>
+     * The objects are copied server-side, while the rest of the objects are
+     * still being listed, with up to
+     * {@link TransferManagerConfiguration#getDirectoryCopyConcurrency()}
+     * objects copied concurrently. Objects over
+     * {@link TransferManagerConfiguration#getDirectoryCopyMultipartThreshold()}
+     * are copied in parts copied in parallel, as with
+     * {@link #copy(CopyObjectRequest)}.
+     * </p>
+     * <p>
+     * The copy can be resumed with
+     * {@link #resumeDirectoryCopy(PersistableDirectoryCopy)} from its
+     * {@link MultipleObjectCopy#getCheckpoint() checkpoint} once it has failed
+     * or been aborted.
+     * </p>
+     * <p>
+     * Within a bucket, neither key prefix may start with the other, as the
+     * copies would otherwise be listed and copied in turn, or overwrite objects
+     * yet to be copied.
+     * </p>
+     *
+     * @param sourceBucketName
+     *            The name of the bucket to copy objects from.
+     * @param sourceKeyPrefix
+     *            The prefix of the keys of the objects to copy; or null or the
+     *            empty string to copy all objects in the bucket.
+     * @param destinationBucketName
+     *            The name of the bucket to copy objects to.
+     * @param destinationKeyPrefix
+     *            The prefix replacing the source key prefix in the keys of the
+     *            copies; or null or the empty string to remove the source key
+     *            prefix.
+     *
+     * @return A new <code>MultipleObjectCopy</code> object to use to check the
+     *         state of the copy.
+     * @throws IllegalArgumentException
+     *             If the key prefixes overlap within the same bucket.
+     */
+    public MultipleObjectCopy copyDirectory(String sourceBucketName,
+            String sourceKeyPrefix, String destinationBucketName,
+            String destinationKeyPrefix) {
+        return copyDirectory(sourceBucketName, sourceKeyPrefix,
+                destinationBucketName, destinationKeyPrefix, null);
+    }
+
+    /**
+     * <p>
+     * Schedules a new transfer to copy all objects whose keys start with the
+     * given source key prefix, to keys starting with the given destination
+     * key prefix instead, possibly in another bucket. This method is
+     * non-blocking and returns immediately (i.e. before the copy has
+     * finished).
+     * </p>
+     * <p>
+     * The given listener is notified of the checkpoint of the copy every so
+     * many objects copied, and once the copy is done, so that the checkpoint
+     * can be persisted and the copy resumed with
+     * {@link #resumeDirectoryCopy(PersistableDirectoryCopy)} should the
+     * process stop.
+     * </p>
+     *
+     * @param sourceBucketName
+     *            The name of the bucket to copy objects from.
+     * @param sourceKeyPrefix
+     *            The prefix of the keys of the objects to copy; or null or the
+     *            empty string to copy all objects in the bucket.
+     * @param destinationBucketName
+     *            The name of the bucket to copy objects to.
+     * @param destinationKeyPrefix
+     *            The prefix replacing the source key prefix in the keys of the
+     *            copies; or null or the empty string to remove the source key
+     *            prefix.
+     * @param progressListener
+     *            An optional callback listener to receive the progress of the
+     *            copy and its checkpoints.
+     *
+     * @return A new <code>MultipleObjectCopy</code> object to use to check the
+     *         state of the copy.
+     * @see #copyDirectory(String, String, String, String)
+     */
+    public MultipleObjectCopy copyDirectory(String sourceBucketName,
+            String sourceKeyPrefix, String destinationBucketName,
+            String destinationKeyPrefix, S3ProgressListener progressListener) {
+        return doCopyDirectory(new PersistableDirectoryCopy(sourceBucketName,
+                sourceKeyPrefix == null ? "" : sourceKeyPrefix,
+                destinationBucketName,
+                destinationKeyPrefix == null ? "" : destinationKeyPrefix,
+                null), progressListener);
+    }
+
+    private MultipleObjectCopy doCopyDirectory(
+            final PersistableDirectoryCopy checkpoint,
+            S3ProgressListener progressListener) {
+        assertParameterNotNull(checkpoint.getSourceBucketName(),
+                "The source bucket name must be specified when a directory copy is initiated.");
+        assertParameterNotNull(checkpoint.getDestinationBucketName(),
+                "The destination bucket name must be specified when a directory copy is initiated.");
+        if (checkpoint.getSourceBucketName().equals(checkpoint.getDestinationBucketName())) {
+            String sourceKeyPrefix = checkpoint.getSourceKeyPrefix() == null
+                    ? "" : checkpoint.getSourceKeyPrefix();
+            String destinationKeyPrefix = checkpoint.getDestinationKeyPrefix() == null
+                    ? "" : checkpoint.getDestinationKeyPrefix();
+            if (sourceKeyPrefix.startsWith(destinationKeyPrefix)
+                    || destinationKeyPrefix.startsWith(sourceKeyPrefix)) {
+                throw new IllegalArgumentException("The source key prefix \""
+                        + sourceKeyPrefix + "\" and the destination key prefix \""
+                        + destinationKeyPrefix + "\" must not overlap when copying within a bucket.");
+            }
+        }
+
+        /*
+         * Objects over the directory copy threshold are copied in parts, but
+         * otherwise the same way as by copy().
+         */
+        final TransferManagerConfiguration partCopyConfiguration = new TransferManagerConfiguration();
+        partCopyConfiguration.setMultipartCopyPartSize(configuration.getMultipartCopyPartSize());
+        partCopyConfiguration.setMultipartCopyThreshold(Math.min(
+                configuration.getMultipartCopyThreshold(),
+                configuration.getDirectoryCopyMultipartThreshold()));
+
+        String description = "Copying objects from "
+                + checkpoint.getSourceBucketName() + "/"
+                + checkpoint.getSourceKeyPrefix() + " to "
+                + checkpoint.getDestinationBucketName() + "/"
+                + checkpoint.getDestinationKeyPrefix();
+        final MultipleObjectCopyImpl multipleObjectCopy = new MultipleObjectCopyImpl(
+                description, new TransferProgress(),
+                new S3ProgressListenerChain(progressListener),
+                checkpoint.getSourceBucketName(), checkpoint.getSourceKeyPrefix(),
+                checkpoint.getDestinationBucketName(), checkpoint.getDestinationKeyPrefix(),
+                checkpoint.getLastCopiedKey(), configuration.getDirectoryCopyConcurrency());
+
+        FutureTask<Object> listing = new FutureTask<Object>(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                multipleObjectCopy.setState(TransferState.InProgress);
+                try {
+                    ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+                            .withBucketName(checkpoint.getSourceBucketName())
+                            .withPrefix(checkpoint.getSourceKeyPrefix())
+                            .withMarker(checkpoint.getLastCopiedKey());
+                    ObjectListing objectListing = s3.listObjects(listObjectsRequest);
+                    while ( queueObjectCopies(multipleObjectCopy,
+                            objectListing.getObjectSummaries(), partCopyConfiguration)
+                            && objectListing.isTruncated() ) {
+                        objectListing = s3.listNextBatchOfObjects(objectListing);
+                    }
+                } catch ( InterruptedException e ) {
+                    throw e;
+                } catch ( Exception e ) {
+                    multipleObjectCopy.setFailure(e);
+                }
+                return multipleObjectCopy.awaitCompletion();
+            }
+        });
+        multipleObjectCopy.setListing(listing);
+        listingThreadFactory.newThread(listing).start();
+        return multipleObjectCopy;
+    }
+
+    /**
+     * Starts the copies of the given objects of a directory copy from the
+     * thread pool, as soon as the directory copy has room for them.
+     *
+     * @return false if no more copy is to be started, as the directory copy
+     *         has been aborted or has failed.
+     */
+    private boolean queueObjectCopies(
+            final MultipleObjectCopyImpl multipleObjectCopy,
+            List<S3ObjectSummary> summaries,
+            final TransferManagerConfiguration partCopyConfiguration)
+            throws InterruptedException {
+        for ( S3ObjectSummary summary : summaries ) {
+            final String sourceKey = summary.getKey();
+            if ( !multipleObjectCopy.awaitCopySlot(sourceKey, summary.getSize()) )
+                return false;
+            final CopyObjectRequest copyObjectRequest = appendSingleObjectUserAgent(
+                    new CopyObjectRequest(multipleObjectCopy.getSourceBucketName(), sourceKey,
+                            multipleObjectCopy.getDestinationBucketName(),
+                            multipleObjectCopy.getDestinationKey(sourceKey)));
+            final boolean inParts = summary.getSize() > partCopyConfiguration.getMultipartCopyThreshold();
+            try {
+                threadPool.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if ( inParts ) {
+                                // Copying in parts requires the object metadata
+                                doCopy(copyObjectRequest,
+                                        multipleObjectCopy.newSubTransferListener(sourceKey),
+                                        partCopyConfiguration);
+                            } else {
+                                s3.copyObject(copyObjectRequest);
+                                multipleObjectCopy.objectCopied(sourceKey);
+                            }
+                        } catch ( Exception e ) {
+                            multipleObjectCopy.objectFailed(sourceKey, e);
+                        }
+                    }
+                });
+            } catch ( RejectedExecutionException e ) {
+                multipleObjectCopy.objectFailed(sourceKey,
+                        new CancellationException("TransferManager has been shutdown"));
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Resumes an upload operation. This upload operation uses the same
      * configuration {@link TransferManagerConfiguration} as the original
@@ -1603,7 +2272,45 @@ public class TransferManager {
         request.setResponseHeaders(persistableDownload.getResponseHeaders());
 
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
-                APPEND_MODE);
+                APPEND_MODE, persistableDownload);
+    }
+
+    /**
+     * Resumes a directory copy after the last object known to have been
+     * copied along with all the objects before it. This copy uses the current
+     * configuration of this <code>TransferManager</code>. Objects copied after
+     * the checkpoint by the original copy are copied again.
+     *
+     * @param persistableCopy
+     *            the checkpoint of the directory copy to resume.
+     * @return A new <code>MultipleObjectCopy</code> object to use to check the
+     *         state of the copy.
+     * @see #copyDirectory(String, String, String, String)
+     */
+    public MultipleObjectCopy resumeDirectoryCopy(PersistableDirectoryCopy persistableCopy) {
+        return resumeDirectoryCopy(persistableCopy, null);
+    }
+
+    /**
+     * Resumes a directory copy after the last object known to have been
+     * copied along with all the objects before it, notifying the given
+     * listener of the progress and checkpoints of the copy.
+     *
+     * @param persistableCopy
+     *            the checkpoint of the directory copy to resume.
+     * @param progressListener
+     *            An optional callback listener to receive the progress of the
+     *            copy and its checkpoints.
+     * @return A new <code>MultipleObjectCopy</code> object to use to check the
+     *         state of the copy.
+     * @see #copyDirectory(String, String, String, String, S3ProgressListener)
+     */
+    public MultipleObjectCopy resumeDirectoryCopy(
+            PersistableDirectoryCopy persistableCopy,
+            S3ProgressListener progressListener) {
+        assertParameterNotNull(persistableCopy,
+                "PersistableDirectoryCopy is mandatory to resume a directory copy.");
+        return doCopyDirectory(persistableCopy, progressListener);
     }
 
     /**
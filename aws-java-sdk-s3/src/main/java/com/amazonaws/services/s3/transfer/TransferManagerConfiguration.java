@@ -39,6 +39,24 @@ public class TransferManagerConfiguration {
     /** Default minimum size of each part for multi-part copy. */
     private static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size threshold for when to use multi-part downloads. */
+    private static final long DEFAULT_MULTIPART_DOWNLOAD_THRESHOLD = 16 * MB;
+
+    /** Default size of each part for multi-part downloads. */
+    private static final long DEFAULT_DOWNLOAD_PART_SIZE = 8 * MB;
+
+    /** Default number of batches a multiple object delete sends concurrently. */
+    private static final int DEFAULT_DELETE_BATCH_CONCURRENCY = 4;
+
+    /** Default number of objects a directory copy copies concurrently. */
+    private static final int DEFAULT_DIRECTORY_COPY_CONCURRENCY = 10;
+
+    /** Default size threshold for when a directory copy copies objects in parts. */
+    private static final long DEFAULT_DIRECTORY_COPY_MULTIPART_THRESHOLD = 2 * DEFAULT_MINIMUM_COPY_PART_SIZE;
+
+    /** Default number of part buffers used by streaming uploads. */
+    private static final int DEFAULT_STREAMING_UPLOAD_BUFFER_COUNT = 4;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -77,6 +95,50 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size threshold, in bytes, for when to use multi-part downloads.
+     * Downloads over this size will automatically be split into byte ranges
+     * fetched in parallel, while downloads smaller than this threshold will
+     * use a single connection to download the whole object.
+     */
+    private long multipartDownloadThreshold = DEFAULT_MULTIPART_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The size in bytes of each byte range fetched by a multi-part download.
+     */
+    private long downloadPartSize = DEFAULT_DOWNLOAD_PART_SIZE;
+
+    /**
+     * The number of part-sized buffers an upload from an input stream of
+     * unknown length, or the temporary files an encrypted multipart upload,
+     * may hold at any one time.
+     */
+    private int streamingUploadBufferCount = DEFAULT_STREAMING_UPLOAD_BUFFER_COUNT;
+
+    /**
+     * The number of downloads a directory download may have queued or in
+     * progress at any one time while it is still listing the directory; or
+     * zero if the directory is listed entirely before any download starts.
+     */
+    private int directoryDownloadQueueSize;
+
+    /**
+     * The number of batches of up to 1000 keys a multiple object delete may
+     * have in progress at any one time.
+     */
+    private int deleteBatchConcurrency = DEFAULT_DELETE_BATCH_CONCURRENCY;
+
+    /**
+     * The number of objects a directory copy may be copying at any one time.
+     */
+    private int directoryCopyConcurrency = DEFAULT_DIRECTORY_COPY_CONCURRENCY;
+
+    /**
+     * The size threshold, in bytes, over which a directory copy copies an
+     * object in parts copied in parallel.
+     */
+    private long directoryCopyMultipartThreshold = DEFAULT_DIRECTORY_COPY_MULTIPART_THRESHOLD;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -192,4 +254,214 @@ public class TransferManagerConfiguration {
     public void setMultipartCopyThreshold(long multipartCopyThreshold) {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the size threshold in bytes for when to use multi-part
+     * downloads. Downloads over this size will automatically be split into
+     * byte ranges that are fetched in parallel and written directly to their
+     * position in the destination file, while downloads smaller than this
+     * threshold will use a single connection to download the whole object.
+     * <p>
+     * Multi-part downloads are not used with the encryption client, or when
+     * the request has constraints (such as a matching ETag) that could make
+     * individual parts fail independently.
+     *
+     * @return The size threshold in bytes for when to use multi-part
+     *         downloads.
+     */
+    public long getMultipartDownloadThreshold() {
+        return multipartDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to use multi-part downloads.
+     * Downloads over this size will automatically be split into byte ranges
+     * that are fetched in parallel, while downloads smaller than this
+     * threshold will use a single connection to download the whole object.
+     * Set it to {@link Long#MAX_VALUE} to always download objects over a
+     * single connection.
+     *
+     * @param multipartDownloadThreshold
+     *            The size threshold in bytes for when to use multi-part
+     *            downloads.
+     */
+    public void setMultipartDownloadThreshold(long multipartDownloadThreshold) {
+        this.multipartDownloadThreshold = multipartDownloadThreshold;
+    }
+
+    /**
+     * Returns the size in bytes of each byte range fetched by a multi-part
+     * download. Paused multi-part downloads are resumed at the granularity of
+     * these parts.
+     *
+     * @return The size in bytes of each part of a multi-part download.
+     */
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range fetched by a multi-part
+     * download. Decreasing the part size increases the number of requests
+     * sent to Amazon S3, while increasing it reduces the parallelism of
+     * smaller downloads.
+     *
+     * @param downloadPartSize
+     *            The size in bytes of each part of a multi-part download.
+     */
+    public void setDownloadPartSize(long downloadPartSize) {
+        this.downloadPartSize = downloadPartSize;
+    }
+
+    /**
+     * Returns the number of part-sized buffers an upload from an input stream
+     * of unknown length may hold at any one time. Such an upload reads the
+     * stream into buffers of the minimum upload part size, and uploads up to
+     * this number of parts concurrently with reading the rest of the stream,
+     * so that its memory use is bounded by this number times the
+     * {@link #getMinimumUploadPartSize() minimum upload part size}.
+     * <p>
+     * Multipart uploads with the encryption client similarly encrypt the
+     * content into up to this number of part-sized temporary files, which are
+     * uploaded in parallel while the rest of the content is encrypted.
+     *
+     * @return The number of part buffers used by a streaming upload.
+     */
+    public int getStreamingUploadBufferCount() {
+        return streamingUploadBufferCount;
+    }
+
+    /**
+     * Sets the number of part-sized buffers an upload from an input stream of
+     * unknown length may hold at any one time. Increasing it allows more parts
+     * to be uploaded in parallel, at the cost of more memory per upload.
+     *
+     * @param streamingUploadBufferCount
+     *            The number of part buffers used by a streaming upload; must
+     *            be at least 2.
+     */
+    public void setStreamingUploadBufferCount(int streamingUploadBufferCount) {
+        if (streamingUploadBufferCount < 2)
+            throw new IllegalArgumentException(
+                    "streamingUploadBufferCount must be at least 2");
+        this.streamingUploadBufferCount = streamingUploadBufferCount;
+    }
+
+    /**
+     * Returns the number of downloads a directory download may have queued or
+     * in progress at any one time while the rest of the directory is still
+     * being listed; or zero, the default, if the directory is listed entirely
+     * before any download starts.
+     * <p>
+     * When positive, the memory used by a directory download is bounded by
+     * this number rather than by the number of objects in the directory, and
+     * the total number of bytes to transfer grows as the directory is listed.
+     *
+     * @return The number of downloads a directory download may have queued.
+     * @see TransferManager#downloadDirectory(String, String, java.io.File)
+     */
+    public int getDirectoryDownloadQueueSize() {
+        return directoryDownloadQueueSize;
+    }
+
+    /**
+     * Sets the number of downloads a directory download may have queued or in
+     * progress at any one time while the rest of the directory is still being
+     * listed.
+     *
+     * @param directoryDownloadQueueSize
+     *            The number of downloads a directory download may have
+     *            queued; or zero if the directory is to be listed entirely
+     *            before any download starts.
+     */
+    public void setDirectoryDownloadQueueSize(int directoryDownloadQueueSize) {
+        if (directoryDownloadQueueSize < 0)
+            throw new IllegalArgumentException(
+                    "directoryDownloadQueueSize must not be negative");
+        this.directoryDownloadQueueSize = directoryDownloadQueueSize;
+    }
+
+    /**
+     * Returns the number of batches of up to 1000 keys a multiple object
+     * delete may have in progress at any one time.
+     *
+     * @return The number of delete batches sent concurrently.
+     * @see TransferManager#deleteDirectory(String, String)
+     */
+    public int getDeleteBatchConcurrency() {
+        return deleteBatchConcurrency;
+    }
+
+    /**
+     * Sets the number of batches of up to 1000 keys a multiple object delete
+     * may have in progress at any one time.
+     *
+     * @param deleteBatchConcurrency
+     *            The number of delete batches sent concurrently; must be at
+     *            least 1.
+     */
+    public void setDeleteBatchConcurrency(int deleteBatchConcurrency) {
+        if (deleteBatchConcurrency < 1)
+            throw new IllegalArgumentException(
+                    "deleteBatchConcurrency must be at least 1");
+        this.deleteBatchConcurrency = deleteBatchConcurrency;
+    }
+
+    /**
+     * Returns the number of objects a directory copy may be copying at any one
+     * time, while the rest of the objects are still being listed.
+     *
+     * @return The number of objects copied concurrently by a directory copy.
+     * @see TransferManager#copyDirectory(String, String, String, String)
+     */
+    public int getDirectoryCopyConcurrency() {
+        return directoryCopyConcurrency;
+    }
+
+    /**
+     * Sets the number of objects a directory copy may be copying at any one
+     * time, while the rest of the objects are still being listed.
+     *
+     * @param directoryCopyConcurrency
+     *            The number of objects copied concurrently by a directory
+     *            copy; must be at least 1.
+     */
+    public void setDirectoryCopyConcurrency(int directoryCopyConcurrency) {
+        if (directoryCopyConcurrency < 1)
+            throw new IllegalArgumentException(
+                    "directoryCopyConcurrency must be at least 1");
+        this.directoryCopyConcurrency = directoryCopyConcurrency;
+    }
+
+    /**
+     * Returns the size threshold, in bytes, over which a directory copy copies
+     * an object in parts copied in parallel, rather than in a single request.
+     * <p>
+     * The many objects of a directory copy are already copied concurrently,
+     * but a single large object copied in one request may then take much
+     * longer than all the others; copying it in parts of the
+     * {@link #getMultipartCopyPartSize() multi-part copy part size} spreads it
+     * over several requests instead. Objects over the
+     * {@link #getMultipartCopyThreshold() multi-part copy threshold} are
+     * always copied in parts.
+     *
+     * @return The size threshold for copying objects of a directory copy in
+     *         parts.
+     * @see TransferManager#copyDirectory(String, String, String, String)
+     */
+    public long getDirectoryCopyMultipartThreshold() {
+        return directoryCopyMultipartThreshold;
+    }
+
+    /**
+     * Sets the size threshold, in bytes, over which a directory copy copies
+     * an object in parts copied in parallel, rather than in a single request.
+     *
+     * @param directoryCopyMultipartThreshold
+     *            The size threshold for copying objects of a directory copy
+     *            in parts.
+     */
+    public void setDirectoryCopyMultipartThreshold(long directoryCopyMultipartThreshold) {
+        this.directoryCopyMultipartThreshold = directoryCopyMultipartThreshold;
+    }
+}
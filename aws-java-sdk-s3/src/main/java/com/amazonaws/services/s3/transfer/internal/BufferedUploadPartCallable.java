@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+/**
+ * Uploads a part of a streaming upload whose content has been read into a
+ * buffer, and hands the buffer back to the given queue of free buffers once
+ * the part is no longer needed, whether or not the upload succeeded.
+ */
+public class BufferedUploadPartCallable implements Callable<PartETag> {
+    private final AmazonS3 s3;
+    private final UploadPartRequest request;
+    private final byte[] buffer;
+    private final Queue<byte[]> freeBuffers;
+
+    public BufferedUploadPartCallable(AmazonS3 s3, UploadPartRequest request,
+            byte[] buffer, Queue<byte[]> freeBuffers) {
+        this.s3 = s3;
+        this.request = request;
+        this.buffer = buffer;
+        this.freeBuffers = freeBuffers;
+    }
+
+    public PartETag call() throws Exception {
+        try {
+            return s3.uploadPart(request).getPartETag();
+        } finally {
+            freeBuffers.offer(buffer);
+        }
+    }
+}
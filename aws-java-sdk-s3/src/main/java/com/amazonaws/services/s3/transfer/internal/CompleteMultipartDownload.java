@@ -0,0 +1,149 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+/**
+ * Waits for all the parts of a TransferManager multi-part download to be
+ * written to the file, and verifies the integrity of the whole file when
+ * possible.
+ */
+public class CompleteMultipartDownload implements Callable<Boolean> {
+    private static final Log log = LogFactory.getLog(CompleteMultipartDownload.class);
+
+    /** The futures of the tasks that download individual parts. */
+    private final List<Future<Long>> futures;
+
+    /** The metadata of the whole object being downloaded. */
+    private final ObjectMetadata objectMetadata;
+
+    /** Whether the whole file can be checked against the ETag of the object. */
+    private final boolean performIntegrityCheck;
+
+    private final File file;
+    private final DownloadImpl download;
+    private final ProgressListenerChain listener;
+
+    public CompleteMultipartDownload(List<Future<Long>> futures,
+            ObjectMetadata objectMetadata, boolean performIntegrityCheck,
+            File file, DownloadImpl download, ProgressListenerChain listener) {
+        this.futures = futures;
+        this.objectMetadata = objectMetadata;
+        this.performIntegrityCheck = performIntegrityCheck;
+        this.file = file;
+        this.download = download;
+        this.listener = listener;
+    }
+
+    @Override
+    public Boolean call() throws Exception {
+        try {
+            waitForParts();
+            verifyIntegrity();
+            download.setState(TransferState.Completed);
+            return true;
+        } catch (Throwable t) {
+            // Downloads aren't allowed to move from canceled to failed
+            if (download.getState() != TransferState.Canceled) {
+                download.setState(TransferState.Failed);
+                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            }
+            if (t instanceof Exception)
+                throw (Exception) t;
+            else
+                throw (Error) t;
+        }
+    }
+
+    /**
+     * Blocks until all the parts have been downloaded, cancelling the
+     * remaining ones as soon as any of them fails.
+     */
+    private void waitForParts() throws InterruptedException {
+        for (Future<Long> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                cancelParts();
+                Throwable cause = e.getCause();
+                if (cause instanceof AmazonClientException)
+                    throw (AmazonClientException) cause;
+                throw new AmazonClientException(
+                        "Unable to complete multi-part download. Individual part download failed : "
+                                + cause.getMessage(), cause);
+            } catch (CancellationException e) {
+                cancelParts();
+                throw e;
+            } catch (InterruptedException e) {
+                cancelParts();
+                throw e;
+            }
+        }
+    }
+
+    private void cancelParts() {
+        for (Future<Long> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Compares the MD5 of the whole file with the ETag of the object, unless
+     * the ETag isn't an MD5 of the content.
+     */
+    private void verifyIntegrity() {
+        if (!performIntegrityCheck
+                || objectMetadata.getETag() == null
+                || ServiceUtils.isMultipartUploadETag(objectMetadata.getETag())
+                || ServiceUtils.skipContentMd5IntegrityCheck(objectMetadata)) {
+            return;
+        }
+        byte[] clientSideHash;
+        byte[] serverSideHash;
+        try {
+            clientSideHash = Md5Utils.computeMD5Hash(file);
+            serverSideHash = BinaryUtils.fromHex(objectMetadata.getETag());
+        } catch (Exception e) {
+            log.warn("Unable to calculate MD5 hash to validate download: " + e.getMessage(), e);
+            return;
+        }
+        if (!Arrays.equals(clientSideHash, serverSideHash)) {
+            throw new AmazonClientException("Unable to verify integrity of data download.  " +
+                    "Client calculated content hash didn't match hash calculated by Amazon S3.  " +
+                    "The data stored in '" + file.getAbsolutePath() + "' may be corrupt.");
+        }
+    }
+}
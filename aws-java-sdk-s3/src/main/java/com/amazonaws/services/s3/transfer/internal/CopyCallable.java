@@ -98,8 +98,22 @@ public class CopyCallable implements Callable<CopyResult> {
             ExecutorService threadPool, CopyImpl copy,
             CopyObjectRequest copyObjectRequest, ObjectMetadata metadata,
             ProgressListenerChain progressListenerChain) {
+        this(transferManager, threadPool, copy, copyObjectRequest, metadata,
+                progressListenerChain, transferManager.getConfiguration());
+    }
+
+    /**
+     * @param configuration
+     *            the configuration deciding when to use multi-part copy, and
+     *            the part size, in place of the one of the transfer manager.
+     */
+    public CopyCallable(TransferManager transferManager,
+            ExecutorService threadPool, CopyImpl copy,
+            CopyObjectRequest copyObjectRequest, ObjectMetadata metadata,
+            ProgressListenerChain progressListenerChain,
+            TransferManagerConfiguration configuration) {
         this.s3 = transferManager.getAmazonS3Client();
-        this.configuration = transferManager.getConfiguration();
+        this.configuration = configuration;
         this.threadPool = threadPool;
         this.copyObjectRequest = copyObjectRequest;
         this.metadata = metadata;
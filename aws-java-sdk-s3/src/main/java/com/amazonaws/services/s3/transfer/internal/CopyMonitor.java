@@ -59,7 +59,7 @@ public class CopyMonitor implements Callable<CopyResult>, TransferMonitor {
      * Thread pool used for scheduling the monitor to check if the copy
      * operation is completed.
      */
-    private ScheduledExecutorService timedThreadPool;
+    private volatile ScheduledExecutorService timedThreadPool;
     /** Reference to the CopyCallable that is used for initiating copy requests. */
     private final CopyCallable multipartCopyCallable;
     private final CopyImpl transfer;
@@ -116,7 +116,40 @@ public class CopyMonitor implements Callable<CopyResult>, TransferMonitor {
             ExecutorService threadPool, CopyCallable multipartCopyCallable,
             CopyObjectRequest copyObjectRequest,
             ProgressListenerChain progressListenerChain) {
+        this(manager, transfer, threadPool, null, multipartCopyCallable,
+                copyObjectRequest, progressListenerChain);
+    }
+
+    /**
+     * Constructs a new watcher for copy operation, which immediately submits
+     * itself to the thread pool, and polls for the completion of the copy
+     * parts using the given timed thread pool.
+     * <p>
+     * The timed thread pool must be given here rather than set afterwards, as
+     * the watcher may need it as soon as it has been submitted.
+     *
+     * @param manager
+     *            The {@link TransferManager} that owns this copy request.
+     * @param threadPool
+     *            The {@link ExecutorService} to which we should submit new
+     *            tasks.
+     * @param timedThreadPool
+     *            The {@link ScheduledExecutorService} used to schedule the
+     *            polls for the completion of the copy parts.
+     * @param multipartCopyCallable
+     *            The callable responsible for processing the copy
+     *            asynchronously
+     * @param copyObjectRequest
+     *            The original CopyObject request
+     */
+    public CopyMonitor(TransferManager manager, CopyImpl transfer,
+            ExecutorService threadPool,
+            ScheduledExecutorService timedThreadPool,
+            CopyCallable multipartCopyCallable,
+            CopyObjectRequest copyObjectRequest,
+            ProgressListenerChain progressListenerChain) {
 
+        this.timedThreadPool = timedThreadPool;
         this.s3 = manager.getAmazonS3Client();
         this.multipartCopyCallable = multipartCopyCallable;
         this.threadPool = threadPool;
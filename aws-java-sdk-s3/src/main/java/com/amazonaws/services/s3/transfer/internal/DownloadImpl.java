@@ -16,6 +16,11 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Future;
 
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressListenerChain;
@@ -35,12 +40,53 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private final PersistableDownload persistableDownload;
 
+    private final GetObjectRequest getObjectRequest;
+    private final File file;
+
+    /**
+     * Size of the byte ranges of a multi-part download; or zero if the object
+     * is downloaded over a single connection.
+     */
+    private final long partSize;
+
+    /** ETag of the object being downloaded in parts. */
+    private final String eTag;
+
+    /** Numbers of the parts that have been written to the file. */
+    private final SortedSet<Integer> completedParts = new TreeSet<Integer>();
+
+    /** Futures of the tasks downloading the parts. */
+    private final List<Future<?>> partFutures = new ArrayList<Future<?>>();
+    private boolean partFuturesCancelled;
+
     public DownloadImpl(String description, TransferProgress transferProgress,
             ProgressListenerChain progressListenerChain, S3Object s3Object,
             TransferStateChangeListener listener,
             GetObjectRequest getObjectRequest, File file) {
+        this(description, transferProgress, progressListenerChain, s3Object,
+                listener, getObjectRequest, file, 0, null, null);
+    }
+
+    /**
+     * Constructs a download whose object is fetched in parts of the given
+     * size, some of which may already have been written to the file by a
+     * previous attempt.
+     */
+    public DownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, S3Object s3Object,
+            TransferStateChangeListener listener,
+            GetObjectRequest getObjectRequest, File file, long partSize,
+            String eTag, int[] completedParts) {
         super(description, transferProgress, progressListenerChain, listener);
         this.s3Object = s3Object;
+        this.getObjectRequest = getObjectRequest;
+        this.file = file;
+        this.partSize = partSize;
+        this.eTag = eTag;
+        if (completedParts != null) {
+            for (int partNumber : completedParts)
+                this.completedParts.add(partNumber);
+        }
         this.persistableDownload = captureDownloadState(getObjectRequest, file);
         S3ProgressPublisher.publishTransferPersistable(progressListenerChain,
                 persistableDownload);
@@ -81,8 +127,9 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     public synchronized void abort() throws IOException {
 
         this.monitor.getFuture().cancel(true);
+        cancelPartFutures();
 
-        if ( s3Object != null ) {
+        if ( s3Object != null && s3Object.getObjectContent() != null ) {
               s3Object.getObjectContent().abort();
         }
         setState(TransferState.Canceled);
@@ -95,9 +142,51 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     public synchronized void abortWithoutNotifyingStateChangeListener() throws IOException {
         this.monitor.getFuture().cancel(true);
+        cancelPartFutures();
         this.state = TransferState.Canceled;
     }
 
+    /**
+     * Returns true if the object is downloaded in parts.
+     */
+    public boolean isMultipartDownload() {
+        return partSize > 0;
+    }
+
+    /**
+     * Returns true if the given part has already been written to the file.
+     */
+    public synchronized boolean isPartCompleted(int partNumber) {
+        return completedParts.contains(partNumber);
+    }
+
+    /**
+     * Records that the given part has been written to the file, so that it
+     * won't be downloaded again if this download is paused and resumed.
+     */
+    public synchronized void partCompleted(int partNumber) {
+        completedParts.add(partNumber);
+    }
+
+    /**
+     * Registers the future of a task downloading a part, to be cancelled if
+     * this download is paused or aborted.
+     */
+    public synchronized void addPartFuture(Future<?> future) {
+        if (partFuturesCancelled)
+            future.cancel(true);
+        else
+            partFutures.add(future);
+    }
+
+    private synchronized void cancelPartFutures() {
+        partFuturesCancelled = true;
+        for (Future<?> f : partFutures) {
+            f.cancel(true);
+        }
+        partFutures.clear();
+    }
+
     /**
      *  Set the S3 object to download.
      */
@@ -130,11 +219,22 @@ public class DownloadImpl extends AbstractTransfer implements Download {
                     getObjectRequest.getKey(), getObjectRequest.getVersionId(),
                     getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(),
-                    getObjectRequest.isRequesterPays(), file.getAbsolutePath());
+                    getObjectRequest.isRequesterPays(), file.getAbsolutePath(),
+                    partSize, eTag, completedParts());
         }
         return null;
     }
 
+    private synchronized int[] completedParts() {
+        if (partSize == 0)
+            return null;
+        int[] parts = new int[completedParts.size()];
+        int i = 0;
+        for (int partNumber : completedParts)
+            parts[i++] = partNumber;
+        return parts;
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -145,11 +245,15 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         boolean forceCancel = true;
         TransferState currentState = getState();
         this.monitor.getFuture().cancel(true);
+        cancelPartFutures();
 
         if (persistableDownload == null) {
             throw new PauseException(TransferManagerUtils.determinePauseStatus(
                     currentState, forceCancel));
         }
-        return persistableDownload;
+        // Capture the parts completed so far
+        return isMultipartDownload()
+             ? captureDownloadState(getObjectRequest, file)
+             : persistableDownload;
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static com.amazonaws.util.IOUtils.closeQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+/**
+ * Downloads a byte range of an object from Amazon S3 and writes it at the
+ * corresponding position of the destination file, for a TransferManager
+ * multi-part download.
+ */
+public class DownloadPartCallable implements Callable<Long> {
+    private static final Log log = LogFactory.getLog(DownloadPartCallable.class);
+    private static final int BUFFER_SIZE = 1024 * 16;
+
+    private final AmazonS3 s3;
+    private final GetObjectRequest request;
+    private final File file;
+    private final long position;
+    private final int partNumber;
+    private final DownloadImpl download;
+
+    /**
+     * @param request
+     *            the ranged request for the part
+     * @param position
+     *            the position in the file where the part starts
+     */
+    public DownloadPartCallable(AmazonS3 s3, GetObjectRequest request,
+            File file, long position, int partNumber, DownloadImpl download) {
+        this.s3 = s3;
+        this.request = request;
+        this.file = file;
+        this.position = position;
+        this.partNumber = partNumber;
+        this.download = download;
+    }
+
+    /**
+     * Downloads the part, retrying once if storing its content fails, and
+     * returns the number of bytes written.
+     */
+    @Override
+    public Long call() throws Exception {
+        boolean hasRetried = false;
+        while (true) {
+            try {
+                long bytes = downloadPart();
+                download.partCompleted(partNumber);
+                return bytes;
+            } catch (AmazonClientException ace) {
+                if (!ace.isRetryable() || hasRetried
+                        || Thread.currentThread().isInterrupted())
+                    throw ace;
+                log.info("Retry the download of part " + partNumber
+                        + " of object " + request.getKey() + " (bucket "
+                        + request.getBucketName() + ")", ace);
+                hasRetried = true;
+            }
+        }
+    }
+
+    private long downloadPart() {
+        S3Object s3Object = s3.getObject(request);
+        if (s3Object == null) {
+            // The object has been replaced since the download started
+            throw new AmazonClientException("Unable to download part "
+                    + partNumber + " of object " + request.getKey()
+                    + ": the object has been modified since the download started");
+        }
+        S3ObjectInputStream content = s3Object.getObjectContent();
+        RandomAccessFile raf = null;
+        long pos = position;
+        try {
+            raf = new RandomAccessFile(file, "rw");
+            FileChannel channel = raf.getChannel();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                byteBuffer.clear();
+                byteBuffer.limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    pos += channel.write(byteBuffer, pos);
+                }
+            }
+        } catch (IOException e) {
+            content.abort();
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            closeQuietly(raf, log);
+            closeQuietly(content, log);
+        }
+        return pos - position;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.MultipleObjectCopy;
+import com.amazonaws.services.s3.transfer.PersistableDirectoryCopy;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+/**
+ * Server-side copy of all objects under a key prefix, which starts copying
+ * objects while the rest of the objects are still being listed, with a bounded
+ * number of object copies in progress at any one time.
+ * <p>
+ * As the objects are listed in key order, the copy keeps track of the greatest
+ * key such that it and all keys before it have been copied, from which the
+ * listing can be resumed. This checkpoint is published to the
+ * {@link S3ProgressListener}s of the copy every {@value #CHECKPOINT_INTERVAL}
+ * objects and once the copy is done. No further object copy is started once
+ * one has failed or the objects could not be listed.
+ */
+public class MultipleObjectCopyImpl extends MultipleFileTransfer<Transfer>
+        implements MultipleObjectCopy {
+
+    /** The number of objects copied between two published checkpoints. */
+    static final int CHECKPOINT_INTERVAL = 1000;
+
+    private final String sourceBucketName;
+    private final String sourceKeyPrefix;
+    private final String destinationBucketName;
+    private final String destinationKeyPrefix;
+    private final int concurrency;
+    /** The permits of the object copies that can be in progress. */
+    private final Semaphore copySlots;
+    private final AtomicLong totalBytesToTransfer = new AtomicLong();
+    private final AtomicLong copiedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    /** The first failed object copy started as a transfer of its own, if any. */
+    private final AtomicReference<Transfer> failedCopy = new AtomicReference<Transfer>();
+    /** The first failure other than that of an object copy transfer, if any. */
+    private final AtomicReference<AmazonClientException> failure = new AtomicReference<AmazonClientException>();
+    private volatile boolean aborted;
+    private volatile Future<?> listing;
+
+    /**
+     * The object copies started and not yet part of the checkpoint, in key
+     * order; guarded by itself.
+     */
+    private final LinkedList<ObjectCopy> pending = new LinkedList<ObjectCopy>();
+    /**
+     * The object copies started and not yet done, by source key; guarded by
+     * pending.
+     */
+    private final Map<String, ObjectCopy> inProgress = new HashMap<String, ObjectCopy>();
+    /** The source key of the checkpoint; guarded by pending. */
+    private String lastCopiedKey;
+    /**
+     * The number of objects copied since the last published checkpoint;
+     * guarded by pending.
+     */
+    private int uncheckpointedCount;
+
+    public MultipleObjectCopyImpl(String description,
+            TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain,
+            String sourceBucketName, String sourceKeyPrefix,
+            String destinationBucketName, String destinationKeyPrefix,
+            String lastCopiedKey, int concurrency) {
+        super(description, transferProgress, progressListenerChain,
+                Collections.<Transfer>emptyList());
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        this.sourceBucketName = sourceBucketName;
+        this.sourceKeyPrefix = sourceKeyPrefix == null ? "" : sourceKeyPrefix;
+        this.destinationBucketName = destinationBucketName;
+        this.destinationKeyPrefix = destinationKeyPrefix == null ? "" : destinationKeyPrefix;
+        this.lastCopiedKey = lastCopiedKey;
+        this.concurrency = concurrency;
+        this.copySlots = new Semaphore(concurrency);
+        transferProgress.setTotalBytesToTransfer(0);
+    }
+
+    /**
+     * Sets the task which lists the objects, starts their copies and
+     * completes once they are all done; it serves as the future of this
+     * transfer.
+     */
+    public void setListing(final Future<?> listing) {
+        this.listing = listing;
+        setMonitor(new TransferMonitor() {
+            @Override
+            public Future<?> getFuture() {
+                return listing;
+            }
+
+            @Override
+            public boolean isDone() {
+                return listing.isDone();
+            }
+        });
+    }
+
+    @Override
+    public String getSourceBucketName() {
+        return sourceBucketName;
+    }
+
+    @Override
+    public String getSourceKeyPrefix() {
+        return sourceKeyPrefix;
+    }
+
+    @Override
+    public String getDestinationBucketName() {
+        return destinationBucketName;
+    }
+
+    @Override
+    public String getDestinationKeyPrefix() {
+        return destinationKeyPrefix;
+    }
+
+    @Override
+    public long getCopiedObjectCount() {
+        return copiedCount.get();
+    }
+
+    @Override
+    public long getFailedObjectCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public PersistableDirectoryCopy getCheckpoint() {
+        synchronized (pending) {
+            return new PersistableDirectoryCopy(sourceBucketName,
+                    sourceKeyPrefix, destinationBucketName,
+                    destinationKeyPrefix, lastCopiedKey);
+        }
+    }
+
+    /**
+     * Returns the destination key of the copy of the given source key.
+     */
+    public String getDestinationKey(String sourceKey) {
+        return destinationKeyPrefix
+                + sourceKey.substring(sourceKeyPrefix.length());
+    }
+
+    /**
+     * Blocks until the copy of the given object can be started, and accounts
+     * for its size in the total number of bytes to transfer. Objects must be
+     * given in key order.
+     *
+     * @return false if no more copy is to be started, as this transfer has
+     *         been aborted or has failed.
+     */
+    public boolean awaitCopySlot(String sourceKey, long size)
+            throws InterruptedException {
+        if (isStopped())
+            return false;
+        copySlots.acquire();
+        if (isStopped()) {
+            copySlots.release();
+            return false;
+        }
+        synchronized (pending) {
+            // A failure clears the pending copies under this lock; checking
+            // again here keeps a copy started after it from becoming the head
+            // and moving the checkpoint past the failed key.
+            if (isStopped()) {
+                copySlots.release();
+                return false;
+            }
+            ObjectCopy objectCopy = new ObjectCopy(sourceKey, size);
+            pending.add(objectCopy);
+            inProgress.put(sourceKey, objectCopy);
+        }
+        getProgress().setTotalBytesToTransfer(
+                totalBytesToTransfer.addAndGet(size));
+        return true;
+    }
+
+    /**
+     * Called once the object of the given key has been copied.
+     */
+    public void objectCopied(String sourceKey) {
+        done(sourceKey, true);
+    }
+
+    /**
+     * Called if the object of the given key could not be copied, or its copy
+     * could not be started.
+     *
+     * @param cause
+     *            the cause of the failure; or null if the object copy was
+     *            started as a transfer of its own, and failed.
+     */
+    public void objectFailed(String sourceKey, Exception cause) {
+        if (cause != null)
+            setFailure(cause);
+        done(sourceKey, false);
+    }
+
+    /**
+     * Returns a new listener to be registered with the transfer copying the
+     * object of the given key, which accounts for the object once the
+     * transfer is done.
+     */
+    public TransferStateChangeListener newSubTransferListener(final String sourceKey) {
+        return new TransferStateChangeListener() {
+            @Override
+            public void transferStateChanged(Transfer transfer, TransferState state) {
+                if (state == TransferState.Completed) {
+                    objectCopied(sourceKey);
+                } else if (state == TransferState.Failed
+                        || state == TransferState.Canceled) {
+                    failedCopy.compareAndSet(null, transfer);
+                    objectFailed(sourceKey, null);
+                }
+            }
+        };
+    }
+
+    /**
+     * Records the failure of the listing or of an object copy, so that no
+     * further copy is started.
+     */
+    public void setFailure(Exception cause) {
+        failure.compareAndSet(null, cause instanceof AmazonClientException
+                ? (AmazonClientException) cause
+                : new AmazonClientException("Unable to copy objects", cause));
+    }
+
+    /** Returns true if no more object copy is to be started. */
+    public boolean isStopped() {
+        return aborted || failure.get() != null || failedCopy.get() != null;
+    }
+
+    /**
+     * Blocks until all the object copies started are done, publishes the
+     * final checkpoint, then sets the final state of this transfer.
+     *
+     * @return this transfer
+     * @throws AmazonClientException
+     *             the first failure of the listing or of an object copy, if
+     *             any.
+     * @throws CancellationException
+     *             if this transfer was aborted.
+     */
+    public Object awaitCompletion() throws InterruptedException {
+        copySlots.acquire(concurrency);
+        copySlots.release(concurrency);
+        if (failure.get() == null && failedCopy.get() != null) {
+            AmazonClientException cause = failedCopy.get().waitForException();
+            failure.compareAndSet(null, cause != null ? cause
+                    : new AmazonClientException("Unable to copy objects: "
+                            + failedCopy.get().getDescription() + " was canceled"));
+        }
+        S3ProgressPublisher.publishTransferPersistable(listenerChain, getCheckpoint());
+        collateFinalState();
+        if (failure.get() != null)
+            throw failure.get();
+        if (aborted)
+            throw new CancellationException("Copy of " + sourceBucketName
+                    + "/" + sourceKeyPrefix + " was canceled");
+        return this;
+    }
+
+    /**
+     * Sets the final state from the outcome of all the object copies.
+     */
+    @Override
+    public void collateFinalState() {
+        if (failure.get() != null)
+            setState(TransferState.Failed);
+        else if (aborted)
+            setState(TransferState.Canceled);
+        else
+            setState(TransferState.Completed);
+    }
+
+    /**
+     * Stops listing the objects; the object copies in progress complete, but
+     * no further copy is started.
+     */
+    @Override
+    public void abort() throws IOException {
+        aborted = true;
+        Future<?> listing = this.listing;
+        if (listing != null)
+            listing.cancel(true);
+        synchronized (this) {
+            if (!isDone())
+                setState(TransferState.Canceled);
+        }
+    }
+
+    /**
+     * Marks the copy of the given key as done, advances the checkpoint past
+     * all the leading copies that succeeded, and releases the copy slot once
+     * the outcome of the copy has been accounted for.
+     */
+    private void done(String sourceKey, boolean copied) {
+        PersistableDirectoryCopy checkpoint = null;
+        long size = 0;
+        synchronized (pending) {
+            ObjectCopy objectCopy = inProgress.remove(sourceKey);
+            if (objectCopy != null) {
+                size = objectCopy.size;
+                objectCopy.state = copied ? ObjectCopy.COPIED : ObjectCopy.FAILED;
+                while (!pending.isEmpty()
+                        && pending.getFirst().state == ObjectCopy.COPIED) {
+                    lastCopiedKey = pending.removeFirst().sourceKey;
+                    uncheckpointedCount++;
+                }
+                if (!pending.isEmpty()
+                        && pending.getFirst().state == ObjectCopy.FAILED) {
+                    // The checkpoint cannot move past a failed copy; only the
+                    // copies still in progress need to be tracked from now on.
+                    pending.clear();
+                }
+                if (uncheckpointedCount >= CHECKPOINT_INTERVAL) {
+                    uncheckpointedCount = 0;
+                    checkpoint = getCheckpoint();
+                }
+            }
+        }
+        if (copied) {
+            copiedCount.incrementAndGet();
+            getProgress().updateProgress(size);
+            fireProgressEvent(ProgressEventType.TRANSFER_PART_COMPLETED_EVENT);
+        } else {
+            failedCount.incrementAndGet();
+        }
+        if (checkpoint != null)
+            S3ProgressPublisher.publishTransferPersistable(listenerChain, checkpoint);
+        copySlots.release();
+    }
+
+    /**
+     * An object copy started and not yet part of the checkpoint.
+     */
+    private static final class ObjectCopy {
+        static final int IN_PROGRESS = 0;
+        static final int COPIED = 1;
+        static final int FAILED = 2;
+
+        final String sourceKey;
+        final long size;
+        int state = IN_PROGRESS;
+
+        ObjectCopy(String sourceKey, long size) {
+            this.sourceKey = sourceKey;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.transfer.MultipleObjectDelete;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+/**
+ * Deletes the objects of the given keys in batches of up to 1000 keys, with a
+ * bounded number of batches in progress at any one time. The keys are consumed
+ * as the batches are sent, so that the memory used does not depend on the
+ * number of keys.
+ * <p>
+ * Keys which Amazon S3 fails to delete, as reported by a
+ * {@link MultiObjectDeleteException}, are retried on their own a few times,
+ * after a delay growing with each attempt.
+ * No further batch is sent once a batch has failed as a whole or the keys
+ * could not be listed.
+ */
+public class MultipleObjectDeleteImpl extends MultipleFileTransfer<Transfer>
+        implements MultipleObjectDelete {
+    private static final Log log = LogFactory.getLog(MultipleObjectDeleteImpl.class);
+
+    /** The maximum number of keys of a multi-object delete request. */
+    static final int BATCH_SIZE = 1000;
+    /** The number of times the keys that failed to be deleted are retried. */
+    static final int MAX_RETRIES = 3;
+    /** The initial delay before retrying the keys that failed to be deleted. */
+    static final long RETRY_DELAY_MILLI = 100;
+    /** The maximum number of errors kept for {@link #getErrors()}. */
+    static final int MAX_ERRORS = 1000;
+    /** The error codes of the keys worth retrying; all others are permanent. */
+    static final Set<String> RETRYABLE_ERROR_CODES = Collections.unmodifiableSet(
+            new HashSet<String>(Arrays.asList(
+                    "InternalError", "SlowDown", "ServiceUnavailable")));
+
+    private final AmazonS3 s3;
+    private final ExecutorService threadPool;
+    /** Used to send the keys to be retried again after a delay. */
+    private final ScheduledExecutorService timedThreadPool;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final Iterator<KeyVersion> keys;
+    private final int concurrency;
+    /** The permits of the batches that can be in progress. */
+    private final Semaphore batchSlots;
+    private final AtomicLong listedCount = new AtomicLong();
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final List<DeleteError> errors = new ArrayList<DeleteError>();
+    /** The first failure of the listing or of a whole batch, if any. */
+    private final AtomicReference<AmazonClientException> failure = new AtomicReference<AmazonClientException>();
+    private volatile boolean aborted;
+    private volatile Future<?> future;
+
+    public MultipleObjectDeleteImpl(String description,
+            TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, AmazonS3 s3,
+            ExecutorService threadPool, ScheduledExecutorService timedThreadPool,
+            String bucketName, String keyPrefix, Iterator<KeyVersion> keys,
+            int concurrency) {
+        super(description, transferProgress, progressListenerChain,
+                Collections.<Transfer>emptyList());
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.timedThreadPool = timedThreadPool;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.keys = keys;
+        this.concurrency = concurrency;
+        this.batchSlots = new Semaphore(concurrency);
+        transferProgress.setTotalBytesToTransfer(0);
+    }
+
+    /**
+     * Starts consuming the keys, and sending the batches to the thread pool,
+     * from a new thread of the given factory.
+     */
+    public void start(ThreadFactory threadFactory) {
+        final FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return deleteAll();
+            }
+        });
+        this.future = task;
+        setMonitor(new TransferMonitor() {
+            @Override
+            public Future<?> getFuture() {
+                return task;
+            }
+
+            @Override
+            public boolean isDone() {
+                return task.isDone();
+            }
+        });
+        threadFactory.newThread(task).start();
+    }
+
+    @Override
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    @Override
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    @Override
+    public long getDeletedObjectCount() {
+        return deletedCount.get();
+    }
+
+    @Override
+    public long getFailedObjectCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public List<DeleteError> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<DeleteError>(errors);
+        }
+    }
+
+    /**
+     * Sets the final state from the outcome of all the batches.
+     */
+    @Override
+    public void collateFinalState() {
+        if (failure.get() != null || failedCount.get() > 0)
+            setState(TransferState.Failed);
+        else
+            setState(TransferState.Completed);
+    }
+
+    /**
+     * Stops sending batches; those in progress complete, but their failed keys
+     * are not retried.
+     */
+    @Override
+    public void abort() throws IOException {
+        aborted = true;
+        Future<?> future = this.future;
+        if (future != null)
+            future.cancel(true);
+        synchronized (this) {
+            if (!isDone())
+                setState(TransferState.Canceled);
+        }
+    }
+
+    private boolean isStopped() {
+        return aborted || failure.get() != null;
+    }
+
+    private void setFailure(Exception cause) {
+        failure.compareAndSet(null, cause instanceof AmazonClientException
+                ? (AmazonClientException) cause
+                : new AmazonClientException("Unable to delete objects", cause));
+    }
+
+    /**
+     * Packs the keys into batches, sends them, and waits for all of them to
+     * complete.
+     */
+    private Object deleteAll() throws InterruptedException {
+        setState(TransferState.InProgress);
+        try {
+            List<KeyVersion> batch = new ArrayList<KeyVersion>(BATCH_SIZE);
+            while (!isStopped() && keys.hasNext()) {
+                batch.add(keys.next());
+                getProgress().setTotalBytesToTransfer(listedCount.incrementAndGet());
+                if (batch.size() == BATCH_SIZE) {
+                    submit(batch);
+                    batch = new ArrayList<KeyVersion>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty() && !isStopped())
+                submit(batch);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            setFailure(e);
+        }
+        batchSlots.acquire(concurrency);
+        batchSlots.release(concurrency);
+        collateFinalState();
+        if (failure.get() != null)
+            throw failure.get();
+        if (failedCount.get() > 0) {
+            DeleteError first = getErrors().get(0);
+            throw new AmazonClientException("Unable to delete "
+                    + failedCount.get() + " of " + listedCount.get()
+                    + " objects from " + bucketName + "; first error: "
+                    + first.getKey() + ": " + first.getCode() + ": "
+                    + first.getMessage());
+        }
+        return this;
+    }
+
+    private void submit(List<KeyVersion> batch) throws InterruptedException {
+        batchSlots.acquire();
+        try {
+            threadPool.execute(new Batch(batch));
+        } catch (RejectedExecutionException e) {
+            batchSlots.release();
+            throw new CancellationException("TransferManager has been shutdown");
+        }
+    }
+
+    /**
+     * A batch of keys to delete, which holds one of the batch slots until its
+     * keys have been deleted or have failed. Keys to be retried are sent again
+     * from the thread pool after a delay, rather than holding a thread of the
+     * pool while waiting.
+     */
+    private class Batch implements Runnable {
+        private List<KeyVersion> batch;
+        private int attempt;
+        /** The errors of the keys to be retried, if any. */
+        private List<DeleteError> retryable;
+
+        Batch(List<KeyVersion> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            if (aborted || !deleteBatch() || !scheduleRetry())
+                batchSlots.release();
+        }
+
+        /**
+         * Deletes the keys of this batch, returning true if some of them failed
+         * with a transient error and are to be retried.
+         */
+        private boolean deleteBatch() {
+            try {
+                s3.deleteObjects(new DeleteObjectsRequest(bucketName)
+                        .withKeys(batch)
+                        .withQuiet(true));
+                deleted(batch.size());
+                return false;
+            } catch (MultiObjectDeleteException e) {
+                List<DeleteError> batchErrors = e.getErrors();
+                deleted(batch.size() - batchErrors.size());
+                if (attempt >= MAX_RETRIES || aborted) {
+                    failed(batchErrors);
+                    return false;
+                }
+                retryable = new ArrayList<DeleteError>(batchErrors.size());
+                List<DeleteError> permanent = new ArrayList<DeleteError>();
+                for (DeleteError error : batchErrors) {
+                    if (RETRYABLE_ERROR_CODES.contains(error.getCode()))
+                        retryable.add(error);
+                    else
+                        permanent.add(error);
+                }
+                if (!permanent.isEmpty())
+                    failed(permanent);
+                if (retryable.isEmpty())
+                    return false;
+                batch = new ArrayList<KeyVersion>(retryable.size());
+                for (DeleteError error : retryable) {
+                    batch.add(new KeyVersion(error.getKey(), error.getVersionId()));
+                }
+                return true;
+            } catch (Exception e) {
+                failedCount.addAndGet(batch.size());
+                setFailure(e);
+                return false;
+            }
+        }
+
+        /**
+         * Schedules the keys to be retried to be sent again, returning true if
+         * successful or false if they have failed since the pools are shut
+         * down.
+         */
+        private boolean scheduleRetry() {
+            if (log.isDebugEnabled()) {
+                log.debug("Retrying the deletion of " + batch.size()
+                        + " objects from " + bucketName);
+            }
+            long delay = RETRY_DELAY_MILLI << attempt;
+            attempt++;
+            try {
+                timedThreadPool.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        resubmit();
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (RejectedExecutionException e) {
+                failed(retryable);
+                return false;
+            }
+        }
+
+        private void resubmit() {
+            try {
+                threadPool.execute(this);
+            } catch (RejectedExecutionException e) {
+                failed(retryable);
+                batchSlots.release();
+            }
+        }
+    }
+
+    private void deleted(int count) {
+        deletedCount.addAndGet(count);
+        getProgress().updateProgress(count);
+        fireProgressEvent(ProgressEventType.TRANSFER_PART_COMPLETED_EVENT);
+    }
+
+    private void failed(List<DeleteError> batchErrors) {
+        failedCount.addAndGet(batchErrors.size());
+        synchronized (errors) {
+            for (DeleteError error : batchErrors) {
+                if (errors.size() >= MAX_ERRORS)
+                    break;
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2012-2015 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.Download;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+/**
+ * Multiple file download of an entire virtual directory, which starts
+ * downloading objects while the rest of the directory is still being listed.
+ * <p>
+ * At most a bounded number of downloads are queued or in progress at any one
+ * time, and only those are held in memory, so that the memory used does not
+ * depend on the number of objects in the directory. The total number of bytes
+ * to transfer grows as the directory is listed. No further download is started
+ * once one has failed or the listing has failed.
+ */
+public class PipelinedMultipleFileDownloadImpl extends MultipleFileDownloadImpl {
+
+    private final int queueSize;
+    /** The permits of the downloads that can be queued or in progress. */
+    private final Semaphore queueSlots;
+    /** The downloads queued or in progress. */
+    private final Set<Download> inFlight;
+    private final AtomicLong totalBytesToTransfer = new AtomicLong();
+    /** The first download that failed, if any. */
+    private final AtomicReference<Transfer> failedDownload = new AtomicReference<Transfer>();
+    /** The first failure other than that of a download, if any. */
+    private final AtomicReference<AmazonClientException> failure = new AtomicReference<AmazonClientException>();
+    private volatile boolean seenCanceled;
+    private volatile boolean aborted;
+    private volatile Future<?> listing;
+
+    public PipelinedMultipleFileDownloadImpl(String description,
+            TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix,
+            String bucketName, int queueSize) {
+        this(description, transferProgress, progressListenerChain, keyPrefix,
+                bucketName, queueSize, Collections.newSetFromMap(
+                        new ConcurrentHashMap<Download, Boolean>()));
+    }
+
+    private PipelinedMultipleFileDownloadImpl(String description,
+            TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix,
+            String bucketName, int queueSize, Set<Download> inFlight) {
+        super(description, transferProgress, progressListenerChain, keyPrefix,
+                bucketName, inFlight);
+        if (queueSize < 1)
+            throw new IllegalArgumentException("queueSize must be at least 1");
+        this.queueSize = queueSize;
+        this.queueSlots = new Semaphore(queueSize);
+        this.inFlight = inFlight;
+        transferProgress.setTotalBytesToTransfer(0);
+    }
+
+    /**
+     * Sets the task which lists the directory, queues the downloads and
+     * completes once they are all done; it serves as the future of this
+     * transfer.
+     */
+    public void setListing(final Future<?> listing) {
+        this.listing = listing;
+        setMonitor(new TransferMonitor() {
+            @Override
+            public Future<?> getFuture() {
+                return listing;
+            }
+
+            @Override
+            public boolean isDone() {
+                return listing.isDone();
+            }
+        });
+    }
+
+    /**
+     * Blocks until a download of the given size can be queued, and accounts
+     * for its size in the total number of bytes to transfer.
+     *
+     * @return false if no more download is to be queued, as this transfer has
+     *         been aborted or has failed.
+     */
+    public boolean awaitQueueSlot(long size) throws InterruptedException {
+        if (isStopped())
+            return false;
+        queueSlots.acquire();
+        if (isStopped()) {
+            queueSlots.release();
+            return false;
+        }
+        getProgress().setTotalBytesToTransfer(
+                totalBytesToTransfer.addAndGet(size));
+        return true;
+    }
+
+    /**
+     * Returns a new listener to be registered with the next download queued,
+     * which releases its queue slot when the download is done.
+     */
+    public TransferStateChangeListener newSubTransferListener() {
+        return new SubTransferListener();
+    }
+
+    /**
+     * Called once the download registered with the given listener has been
+     * started.
+     */
+    public void subTransferStarted(Download download) throws IOException {
+        inFlight.add(download);
+        // The download may have been done before it was added
+        if (download.isDone())
+            inFlight.remove(download);
+        else if (aborted)
+            ((DownloadImpl) download).abort();
+    }
+
+    /**
+     * Called if the download registered with the given listener could not be
+     * started.
+     */
+    public void subTransferFailedToStart(TransferStateChangeListener listener,
+            Exception cause) {
+        setFailure(cause);
+        ((SubTransferListener) listener).done(null, TransferState.Failed);
+    }
+
+    /**
+     * Called if the download registered with the given listener is not to be
+     * started after all, as this transfer has been aborted or has failed.
+     */
+    public void subTransferSkipped(TransferStateChangeListener listener) {
+        ((SubTransferListener) listener).done(null, null);
+    }
+
+    /**
+     * Records the failure of the listing or of the queueing of a download, so
+     * that no further download is started.
+     */
+    public void setFailure(Exception cause) {
+        failure.compareAndSet(null, cause instanceof AmazonClientException
+                ? (AmazonClientException) cause
+                : new AmazonClientException("Unable to download directory", cause));
+    }
+
+    /** Returns true if no more download is to be queued. */
+    public boolean isStopped() {
+        return aborted || failure.get() != null || failedDownload.get() != null;
+    }
+
+    /**
+     * Blocks until all the downloads queued are done, then sets the final
+     * state of this transfer.
+     *
+     * @return this transfer
+     * @throws AmazonClientException
+     *             the first failure of the listing or of a download, if any.
+     * @throws CancellationException
+     *             if any of the downloads was canceled.
+     */
+    public Object awaitCompletion() throws InterruptedException {
+        queueSlots.acquire(queueSize);
+        queueSlots.release(queueSize);
+        if (failure.get() == null && failedDownload.get() != null)
+            failure.compareAndSet(null, failedDownload.get().waitForException());
+        collateFinalState();
+        if (failure.get() != null)
+            throw failure.get();
+        if (seenCanceled)
+            throw new CancellationException("Download of " + getKeyPrefix() + " was canceled");
+        return this;
+    }
+
+    /**
+     * Sets the final state from the outcome of all the downloads, including
+     * those no longer held by this transfer.
+     */
+    @Override
+    public void collateFinalState() {
+        if (failure.get() != null || failedDownload.get() != null)
+            setState(TransferState.Failed);
+        else if (seenCanceled)
+            setState(TransferState.Canceled);
+        else
+            setState(TransferState.Completed);
+    }
+
+    /**
+     * Stops listing the directory and aborts all outstanding downloads.
+     */
+    @Override
+    public void abort() throws IOException {
+        aborted = true;
+        Future<?> listing = this.listing;
+        if (listing != null)
+            listing.cancel(true);
+        super.abort();
+        synchronized (this) {
+            if (!isDone())
+                setState(TransferState.Canceled);
+        }
+    }
+
+    /**
+     * Tracks the state of a single download, releasing its queue slot exactly
+     * once when it is done.
+     */
+    private final class SubTransferListener implements TransferStateChangeListener {
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        @Override
+        public void transferStateChanged(Transfer transfer, TransferState state) {
+            if (state == TransferState.InProgress) {
+                synchronized (PipelinedMultipleFileDownloadImpl.this) {
+                    if (!isDone() && getState() != TransferState.InProgress)
+                        setState(TransferState.InProgress);
+                }
+            } else if (state == TransferState.Completed
+                    || state == TransferState.Failed
+                    || state == TransferState.Canceled) {
+                done(transfer, state);
+            }
+        }
+
+        void done(Transfer transfer, TransferState state) {
+            if (!done.compareAndSet(false, true))
+                return;
+            if (transfer != null) {
+                inFlight.remove(transfer);
+                if (state == TransferState.Failed)
+                    failedDownload.compareAndSet(null, transfer);
+            }
+            if (state == TransferState.Canceled)
+                seenCanceled = true;
+            queueSlots.release();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.UploadObjectObserver;
+import com.amazonaws.services.s3.internal.PartCreationEvent;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * Upload object observer used by {@link UploadCallable} to upload the parts of
+ * an encrypted object in parallel on the thread pool of the transfer manager,
+ * while the object is being encrypted on the thread running the upload.
+ * <p>
+ * The encrypting thread may itself be a thread of the pool, so it never waits
+ * for a part that no pool thread has started: once the given number of parts
+ * are pending, the oldest one is uploaded by the encrypting thread if it
+ * hasn't been started yet, or waited for otherwise. As each pending part holds
+ * a ciphertext file, this also bounds the temporary disk space in use.
+ * <p>
+ * Each part upload is also added to the futures of the upload, so that it is
+ * canceled along with the upload.
+ */
+public class PipelinedUploadObjectObserver extends UploadObjectObserver {
+    private final int maxPendingParts;
+    private final List<Future<PartETag>> uploadFutures;
+    private final LinkedList<FutureTask<UploadPartResult>> pending =
+            new LinkedList<FutureTask<UploadPartResult>>();
+
+    /**
+     * @param maxPendingParts
+     *            the maximum number of parts that may be pending once a part
+     *            has been submitted
+     * @param uploadFutures
+     *            the futures of the upload, to which the future of each part
+     *            upload is added
+     */
+    public PipelinedUploadObjectObserver(int maxPendingParts,
+            List<Future<PartETag>> uploadFutures) {
+        if (maxPendingParts < 1)
+            throw new IllegalArgumentException();
+        this.maxPendingParts = maxPendingParts;
+        this.uploadFutures = uploadFutures;
+    }
+
+    @Override
+    protected Future<UploadPartResult> submitUploadPart(
+            Callable<UploadPartResult> task) {
+        FutureTask<UploadPartResult> future = new CallerRunsFutureTask(task);
+        uploadFutures.add(new PartETagFuture(future));
+        getExecutorService().execute(future);
+        pending.add(future);
+        while (pending.size() > maxPendingParts) {
+            FutureTask<UploadPartResult> oldest = pending.removeFirst();
+            try {
+                oldest.get();
+            } catch (InterruptedException e) {
+                throw new AbortedException(e);
+            } catch (ExecutionException e) {
+                throw new AmazonClientException(
+                        "Unable to upload part: " + e.getCause().getMessage(),
+                        e.getCause());
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Reports the progress of each part upload to the progress listener of the
+     * original request.
+     */
+    @Override
+    protected UploadPartRequest newUploadPartRequest(PartCreationEvent event,
+            File part) {
+        UploadPartRequest request = super.newUploadPartRequest(event, part);
+        request.setGeneralProgressListener(getRequest()
+                .getGeneralProgressListener());
+        return request;
+    }
+
+    /**
+     * A future task that is run by the thread waiting for its result if it
+     * hasn't been started by the executor yet.
+     */
+    private static class CallerRunsFutureTask extends
+            FutureTask<UploadPartResult> {
+        CallerRunsFutureTask(Callable<UploadPartResult> task) {
+            super(task);
+        }
+
+        @Override
+        public UploadPartResult get() throws InterruptedException,
+                ExecutionException {
+            run(); // no-op if already started
+            return super.get();
+        }
+    }
+
+    /**
+     * The future of the ETag of a part, as expected among the futures of an
+     * upload, backed by the future of the part upload.
+     */
+    private static class PartETagFuture implements Future<PartETag> {
+        private final Future<UploadPartResult> future;
+
+        PartETagFuture(Future<UploadPartResult> future) {
+            this.future = future;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public PartETag get() throws InterruptedException, ExecutionException {
+            return future.get().getPartETag();
+        }
+
+        @Override
+        public PartETag get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException,
+                TimeoutException {
+            return future.get(timeout, unit).getPartETag();
+        }
+    }
+}
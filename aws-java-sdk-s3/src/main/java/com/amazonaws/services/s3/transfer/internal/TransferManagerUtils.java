@@ -22,6 +22,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.transfer.PauseStatus;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
@@ -71,6 +72,55 @@ public class TransferManagerUtils {
         return (getRequestFile(putObjectRequest) != null);
     }
 
+    /**
+     * Returns true if the specified upload request reads from an input stream
+     * whose length isn't known, and can therefore be streamed as a multipart
+     * upload through a bounded number of part buffers.
+     *
+     * @param putObjectRequest
+     *            The request to check.
+     * @param isUsingEncryption
+     *            True if the upload is an encrypted upload, otherwise false.
+     *
+     * @return True if this request should be uploaded by streaming its input
+     *         stream in parts.
+     */
+    public static boolean isUploadStreamable(final PutObjectRequest putObjectRequest, final boolean isUsingEncryption) {
+        // The encryption client needs to know the length of the content to
+        // upload it in parts.
+        if (isUsingEncryption) return false;
+
+        return getRequestFile(putObjectRequest) == null
+            && putObjectRequest.getInputStream() != null
+            && getContentLength(putObjectRequest) < 0;
+    }
+
+    /**
+     * Returns true if the specified download request can be split into byte
+     * ranges that are downloaded in parallel.
+     *
+     * @param getObjectRequest
+     *            The request to check.
+     * @param isUsingEncryption
+     *            True if the download is an encrypted download, otherwise
+     *            false.
+     *
+     * @return True if this request can use parallel ranged downloads for
+     *         faster downloads.
+     */
+    public static boolean isDownloadParallelizable(final GetObjectRequest getObjectRequest, final boolean isUsingEncryption) {
+        // Ranges of an encrypted object can't be decrypted independently of
+        // the rest of the object.
+        if (isUsingEncryption) return false;
+
+        // Constraints are evaluated by each ranged request on its own, so
+        // some parts could be downloaded while others are not.
+        return getObjectRequest.getMatchingETagConstraints().isEmpty()
+                && getObjectRequest.getNonmatchingETagConstraints().isEmpty()
+                && getObjectRequest.getModifiedSinceConstraint() == null
+                && getObjectRequest.getUnmodifiedSinceConstraint() == null;
+    }
+
     /**
      * Returns the size of the data in this request, otherwise -1 if the content
      * length is unknown.
@@ -16,23 +16,33 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
@@ -40,12 +50,14 @@ import com.amazonaws.services.s3.model.EncryptedInitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.EncryptedPutObjectRequest;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PartListing;
 import com.amazonaws.services.s3.model.PartSummary;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.StorageClass;
+import com.amazonaws.services.s3.model.UploadObjectRequest;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.transfer.PersistableUpload;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
@@ -63,7 +75,8 @@ public class UploadCallable implements Callable<UploadResult> {
 
     private static final Log log = LogFactory.getLog(UploadCallable.class);
     private final TransferManagerConfiguration configuration;
-    private final List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+    private final List<Future<PartETag>> futures = Collections
+            .synchronizedList(new ArrayList<Future<PartETag>>());
     private final ProgressListenerChain listener;
     private final TransferProgress transferProgress;
 
@@ -75,6 +88,12 @@ public class UploadCallable implements Callable<UploadResult> {
 
     private PersistableUpload persistableUpload;
 
+    /**
+     * True once an upload from an input stream of unknown length has turned
+     * out to be larger than a single part, and is being uploaded in parts.
+     */
+    private volatile boolean isMultipartStream;
+
     public UploadCallable(TransferManager transferManager,
             ExecutorService threadPool, UploadImpl upload,
             PutObjectRequest putObjectRequest,
@@ -112,14 +131,20 @@ public class UploadCallable implements Callable<UploadResult> {
      * @return True if this UploadCallable is processing a multipart upload.
      */
     public boolean isMultipartUpload() {
-        return TransferManagerUtils.shouldUseMultipartUpload(putObjectRequest, configuration);
+        return isMultipartStream
+            || TransferManagerUtils.shouldUseMultipartUpload(putObjectRequest, configuration);
     }
 
     public UploadResult call() throws Exception {
         upload.setState(TransferState.InProgress);
         if ( isMultipartUpload() ) {
             publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            if (multipartUploadId == null && s3 instanceof AmazonS3EncryptionClient)
+                return uploadEncryptedInPipeline();
             return uploadInParts();
+        } else if (multipartUploadId == null && TransferManagerUtils
+                .isUploadStreamable(putObjectRequest, s3 instanceof AmazonS3Encryption)) {
+            return uploadStreamInParts();
         } else {
             return uploadInOneChunk();
         }
@@ -202,6 +227,205 @@ public class UploadCallable implements Callable<UploadResult> {
         }
     }
 
+    /**
+     * Uploads the request with the encryption client by encrypting it into a
+     * bounded number of part-sized temporary files on this thread, while the
+     * parts already encrypted are uploaded in parallel by the thread pool. The
+     * cipher state chains across the parts, so the encryption itself remains
+     * sequential.
+     */
+    private UploadResult uploadEncryptedInPipeline() throws Exception {
+        final long partSize = Math.max(getOptimalPartSize(true), 5 * Constants.MB);
+        final int bufferCount = configuration.getStreamingUploadBufferCount();
+
+        UploadObjectRequest req = putObjectRequest.getFile() != null
+            ? new UploadObjectRequest(putObjectRequest.getBucketName(),
+                    putObjectRequest.getKey(), putObjectRequest.getFile())
+            : new UploadObjectRequest(putObjectRequest.getBucketName(),
+                    putObjectRequest.getKey(), putObjectRequest.getInputStream(),
+                    putObjectRequest.getMetadata());
+        ObjectMetadata metadata = putObjectRequest.getMetadata();
+        req.setMetadata(metadata == null ? null : metadata.clone());
+        req.setAccessControlList(putObjectRequest.getAccessControlList());
+        req.setCannedAcl(putObjectRequest.getCannedAcl());
+        req.setStorageClass(putObjectRequest.getStorageClass());
+        req.setRedirectLocation(putObjectRequest.getRedirectLocation());
+        req.setSSECustomerKey(putObjectRequest.getSSECustomerKey());
+        req.setSSEAwsKeyManagementParams(putObjectRequest.getSSEAwsKeyManagementParams());
+        req.setGeneralProgressListener(putObjectRequest.getGeneralProgressListener());
+        req.setRequestMetricCollector(putObjectRequest.getRequestMetricCollector());
+        if (putObjectRequest instanceof EncryptedPutObjectRequest) {
+            req.setMaterialsDescription(((EncryptedPutObjectRequest) putObjectRequest)
+                    .getMaterialsDescription());
+        }
+        req.withPartSize(partSize)
+            .withDiskLimit(partSize * bufferCount)
+            .withExecutorService(threadPool)
+            .withUploadObjectObserver(new PipelinedUploadObjectObserver(bufferCount - 1, futures));
+
+        try {
+            CompleteMultipartUploadResult completeMultipartUploadResult =
+                ((AmazonS3EncryptionClient) s3).uploadObject(req);
+
+            UploadResult uploadResult = new UploadResult();
+            uploadResult.setBucketName(completeMultipartUploadResult.getBucketName());
+            uploadResult.setKey(completeMultipartUploadResult.getKey());
+            uploadResult.setETag(completeMultipartUploadResult.getETag());
+            uploadResult.setVersionId(completeMultipartUploadResult.getVersionId());
+            return uploadResult;
+        } catch (Exception e) {
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            throw e;
+        }
+    }
+
+    /**
+     * Uploads the input stream of the request, whose length isn't known, by
+     * reading it into a bounded number of part-sized buffers. Parts are
+     * uploaded by the thread pool while the rest of the stream is read; when
+     * all the buffers are in use, the oldest pending part is waited for, or
+     * uploaded in this thread if no pool thread has picked it up yet. A stream
+     * that fits in a single part is uploaded in one chunk instead.
+     * <p>
+     * Returns null once all the parts have been submitted, so that the upload
+     * is completed as for a parallel upload of a file.
+     */
+    private UploadResult uploadStreamInParts() throws Exception {
+        final InputStream input = putObjectRequest.getInputStream();
+        final int partSize = (int) Math.min(
+                configuration.getMinimumUploadPartSize(), Integer.MAX_VALUE - 8);
+        final int bufferCount = configuration.getStreamingUploadBufferCount();
+        final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<byte[]>();
+        final LinkedList<FutureTask<PartETag>> pending = new LinkedList<FutureTask<PartETag>>();
+        int allocated = 0;
+
+        try {
+            byte[] buffer = new byte[partSize];
+            allocated++;
+            int length = readFully(input, buffer);
+            if (length < partSize)
+                return uploadBufferInOneChunk(buffer, length);
+
+            isMultipartStream = true;
+            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            multipartUploadId = initiateMultipartUpload(putObjectRequest, false);
+            UploadPartRequestFactory requestFactory = new UploadPartRequestFactory(
+                    putObjectRequest, multipartUploadId, partSize);
+
+            while (true) {
+                if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
+                // Read the next part ahead, to find out whether the current
+                // part is the last one.
+                byte[] next = freeBuffers.poll();
+                if (next == null && allocated < bufferCount) {
+                    next = new byte[partSize];
+                    allocated++;
+                }
+                // The buffer of a part that completed may already have been
+                // reused, so keep waiting for parts until one is really free.
+                while (next == null && !pending.isEmpty()) {
+                    FutureTask<PartETag> oldest = pending.removeFirst();
+                    oldest.run(); // no-op if already run by the pool
+                    oldest.get();
+                    next = freeBuffers.poll();
+                }
+                if (next == null) {
+                    next = new byte[partSize];
+                    allocated++;
+                }
+                int nextLength = readFully(input, next);
+                if (nextLength == 0) {
+                    submitBufferedPart(requestFactory, buffer, length, true, freeBuffers, pending);
+                    freeBuffers.offer(next);
+                    break;
+                }
+                submitBufferedPart(requestFactory, buffer, length, false, freeBuffers, pending);
+                if (nextLength < partSize) {
+                    submitBufferedPart(requestFactory, next, nextLength, true, freeBuffers, pending);
+                    break;
+                }
+                buffer = next;
+                length = nextLength;
+            }
+            return null;
+        } catch (Exception e) {
+            if (isMultipartStream) {
+                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                synchronized (futures) {
+                    for (Future<PartETag> future : futures)
+                        future.cancel(true);
+                }
+                performAbortMultipartUpload();
+            }
+            throw e;
+        } finally {
+            try {input.close(); } catch (Exception e) {
+                log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Submits the upload of a part of a streaming upload to the thread pool.
+     */
+    private void submitBufferedPart(UploadPartRequestFactory requestFactory,
+            byte[] buffer, int length, boolean isLastPart,
+            Queue<byte[]> freeBuffers, List<FutureTask<PartETag>> pending) {
+        UploadPartRequest request = requestFactory.getNextUploadPartRequest(
+                buffer, length, isLastPart);
+        if (request.getPartNumber() > Constants.MAXIMUM_UPLOAD_PARTS) {
+            throw new AmazonClientException("Unable to upload a stream of more than "
+                    + Constants.MAXIMUM_UPLOAD_PARTS + " parts of "
+                    + configuration.getMinimumUploadPartSize() + " bytes; "
+                    + "specify the content length or increase the minimum upload part size");
+        }
+        FutureTask<PartETag> task = new FutureTask<PartETag>(
+                new BufferedUploadPartCallable(s3, request, buffer, freeBuffers));
+        futures.add(task);
+        pending.add(task);
+        threadPool.execute(task);
+    }
+
+    /**
+     * Uploads the content of a streaming upload that fits in the given buffer
+     * in a single chunk.
+     */
+    private UploadResult uploadBufferInOneChunk(byte[] buffer, int length) {
+        PutObjectRequest request = putObjectRequest.clone();
+        request.setInputStream(new ByteArrayInputStream(buffer, 0, length));
+        ObjectMetadata metadata = request.getMetadata();
+        if (metadata == null) {
+            metadata = new ObjectMetadata();
+            request.setMetadata(metadata);
+        }
+        metadata.setContentLength(length);
+
+        PutObjectResult putObjectResult = s3.putObject(request);
+
+        UploadResult uploadResult = new UploadResult();
+        uploadResult.setBucketName(putObjectRequest.getBucketName());
+        uploadResult.setKey(putObjectRequest.getKey());
+        uploadResult.setETag(putObjectResult.getETag());
+        uploadResult.setVersionId(putObjectResult.getVersionId());
+        return uploadResult;
+    }
+
+    /**
+     * Reads from the given input stream until the given buffer is full or the
+     * end of the stream is reached, and returns the number of bytes read.
+     */
+    private static int readFully(InputStream input, byte[] buffer)
+            throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int bytesRead = input.read(buffer, length, buffer.length - length);
+            if (bytesRead == -1)
+                break;
+            length += bytesRead;
+        }
+        return length;
+    }
+
     /**
      * Performs an
      * {@link AmazonS3#abortMultipartUpload(AbortMultipartUploadRequest)}
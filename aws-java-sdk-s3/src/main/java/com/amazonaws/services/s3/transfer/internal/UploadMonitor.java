@@ -195,7 +195,15 @@ public class UploadMonitor implements Callable<UploadResult>, TransferMonitor {
         for (Future<PartETag> f : futures) {
             f.cancel(true);
         }
-        multipartUploadCallable.getFutures().clear();
+        // Parts may still be submitted by an upload in progress, such as a
+        // streaming or encrypted upload
+        List<Future<PartETag>> callableFutures = multipartUploadCallable.getFutures();
+        synchronized (callableFutures) {
+            for (Future<PartETag> f : callableFutures) {
+                f.cancel(true);
+            }
+            callableFutures.clear();
+        }
         futures.clear();
     }
 
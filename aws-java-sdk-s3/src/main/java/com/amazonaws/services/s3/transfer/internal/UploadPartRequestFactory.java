@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.s3.transfer.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 
 import com.amazonaws.services.s3.internal.InputSubstream;
@@ -98,6 +99,32 @@ public class UploadPartRequestFactory {
         return request;
     }
 
+    /**
+     * Returns the request to upload the next part of a streaming upload, whose
+     * content is the given number of bytes at the start of the given buffer.
+     * The total number of parts of such an upload isn't known in advance.
+     */
+    public synchronized UploadPartRequest getNextUploadPartRequest(
+            byte[] buffer, int length, boolean isLastPart) {
+        UploadPartRequest request = new UploadPartRequest()
+            .withBucketName(bucketName)
+            .withKey(key)
+            .withUploadId(uploadId)
+            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+            .withPartNumber(partNumber++)
+            .withPartSize(length);
+        TransferManager.appendMultipartUserAgent(request);
+
+        if (sseCustomerKey != null) request.setSSECustomerKey(sseCustomerKey);
+
+        offset += length;
+
+        request.setLastPart(isLastPart);
+        request.setGeneralProgressListener(putObjectRequest.getGeneralProgressListener());
+
+        return request;
+    }
+
     public int getTotalNumberOfParts() {
         return totalNumberOfParts;
     }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleEmailService.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Simple Email Service <p>
  * This is the API Reference for Amazon Simple Email Service (Amazon
  * SES). This documentation is intended to be used in conjunction with
@@ -306,11 +310,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteIdentityResult> deleteIdentityAsync(final DeleteIdentityRequest deleteIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-        }
-    });
+        return deleteIdentityComposableAsync(deleteIdentityRequest);
     }
 
     /**
@@ -346,19 +346,28 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
+        return withAsyncHandler(deleteIdentityComposableAsync(deleteIdentityRequest),
+                deleteIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteIdentity operation like
+     * {@link #deleteIdentityAsync(DeleteIdentityRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteIdentityRequest Container for the necessary parameters to
+     *           execute the DeleteIdentity operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the DeleteIdentity
+     *         service method, as returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<DeleteIdentityResult> deleteIdentityComposableAsync(final DeleteIdentityRequest deleteIdentityRequest) {
+        return executeAsync(executorService, new Callable<DeleteIdentityResult>() {
             public DeleteIdentityResult call() throws Exception {
-              DeleteIdentityResult result;
-                try {
-                result = deleteIdentity(deleteIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteIdentityRequest, result);
-                 return result;
-        }
-    });
+                return deleteIdentity(deleteIdentityRequest);
+            }
+        }, deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(), new DeleteIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -394,11 +403,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-        }
-    });
+        return listVerifiedEmailAddressesComposableAsync(listVerifiedEmailAddressesRequest);
     }
 
     /**
@@ -440,19 +445,32 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
+        return withAsyncHandler(listVerifiedEmailAddressesComposableAsync(listVerifiedEmailAddressesRequest),
+                listVerifiedEmailAddressesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListVerifiedEmailAddresses operation
+     * like
+     * {@link #listVerifiedEmailAddressesAsync(ListVerifiedEmailAddressesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listVerifiedEmailAddressesRequest Container for the necessary
+     *           parameters to execute the ListVerifiedEmailAddresses operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         ListVerifiedEmailAddresses service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesComposableAsync(final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) {
+        return executeAsync(executorService, new Callable<ListVerifiedEmailAddressesResult>() {
             public ListVerifiedEmailAddressesResult call() throws Exception {
-              ListVerifiedEmailAddressesResult result;
-                try {
-                result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
-                 return result;
-        }
-    });
+                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
+            }
+        }, listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(), new ListVerifiedEmailAddressesResultStaxUnmarshaller());
     }
     
     /**
@@ -487,11 +505,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(final GetSendStatisticsRequest getSendStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-        }
-    });
+        return getSendStatisticsComposableAsync(getSendStatisticsRequest);
     }
 
     /**
@@ -532,19 +546,31 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
+        return withAsyncHandler(getSendStatisticsComposableAsync(getSendStatisticsRequest),
+                getSendStatisticsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetSendStatistics operation like
+     * {@link #getSendStatisticsAsync(GetSendStatisticsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param getSendStatisticsRequest Container for the necessary parameters
+     *           to execute the GetSendStatistics operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         GetSendStatistics service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<GetSendStatisticsResult> getSendStatisticsComposableAsync(final GetSendStatisticsRequest getSendStatisticsRequest) {
+        return executeAsync(executorService, new Callable<GetSendStatisticsResult>() {
             public GetSendStatisticsResult call() throws Exception {
-              GetSendStatisticsResult result;
-                try {
-                result = getSendStatistics(getSendStatisticsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSendStatisticsRequest, result);
-                 return result;
-        }
-    });
+                return getSendStatistics(getSendStatisticsRequest);
+            }
+        }, getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(), new GetSendStatisticsResultStaxUnmarshaller());
     }
     
     /**
@@ -575,11 +601,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(final VerifyEmailIdentityRequest verifyEmailIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-        }
-    });
+        return verifyEmailIdentityComposableAsync(verifyEmailIdentityRequest);
     }
 
     /**
@@ -616,19 +638,31 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
+        return withAsyncHandler(verifyEmailIdentityComposableAsync(verifyEmailIdentityRequest),
+                verifyEmailIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the VerifyEmailIdentity operation like
+     * {@link #verifyEmailIdentityAsync(VerifyEmailIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param verifyEmailIdentityRequest Container for the necessary
+     *           parameters to execute the VerifyEmailIdentity operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         VerifyEmailIdentity service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<VerifyEmailIdentityResult> verifyEmailIdentityComposableAsync(final VerifyEmailIdentityRequest verifyEmailIdentityRequest) {
+        return executeAsync(executorService, new Callable<VerifyEmailIdentityResult>() {
             public VerifyEmailIdentityResult call() throws Exception {
-              VerifyEmailIdentityResult result;
-                try {
-                result = verifyEmailIdentity(verifyEmailIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyEmailIdentityRequest, result);
-                 return result;
-        }
-    });
+                return verifyEmailIdentity(verifyEmailIdentityRequest);
+            }
+        }, verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(), new VerifyEmailIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -665,11 +699,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-        }
-    });
+        return getIdentityNotificationAttributesComposableAsync(getIdentityNotificationAttributesRequest);
     }
 
     /**
@@ -712,19 +742,32 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
+        return withAsyncHandler(getIdentityNotificationAttributesComposableAsync(getIdentityNotificationAttributesRequest),
+                getIdentityNotificationAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetIdentityNotificationAttributes
+     * operation like
+     * {@link #getIdentityNotificationAttributesAsync(GetIdentityNotificationAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getIdentityNotificationAttributesRequest Container for the
+     *           necessary parameters to execute the GetIdentityNotificationAttributes
+     *           operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         GetIdentityNotificationAttributes service method, as
+     *         returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesComposableAsync(final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetIdentityNotificationAttributesResult>() {
             public GetIdentityNotificationAttributesResult call() throws Exception {
-              GetIdentityNotificationAttributesResult result;
-                try {
-                result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityNotificationAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
+            }
+        }, getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(), new GetIdentityNotificationAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -769,11 +812,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(final VerifyDomainDkimRequest verifyDomainDkimRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                return verifyDomainDkim(verifyDomainDkimRequest);
-        }
-    });
+        return verifyDomainDkimComposableAsync(verifyDomainDkimRequest);
     }
 
     /**
@@ -824,19 +863,29 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
+        return withAsyncHandler(verifyDomainDkimComposableAsync(verifyDomainDkimRequest),
+                verifyDomainDkimRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the VerifyDomainDkim operation like
+     * {@link #verifyDomainDkimAsync(VerifyDomainDkimRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param verifyDomainDkimRequest Container for the necessary parameters
+     *           to execute the VerifyDomainDkim operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         VerifyDomainDkim service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<VerifyDomainDkimResult> verifyDomainDkimComposableAsync(final VerifyDomainDkimRequest verifyDomainDkimRequest) {
+        return executeAsync(executorService, new Callable<VerifyDomainDkimResult>() {
             public VerifyDomainDkimResult call() throws Exception {
-              VerifyDomainDkimResult result;
-                try {
-                result = verifyDomainDkim(verifyDomainDkimRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyDomainDkimRequest, result);
-                 return result;
-        }
-    });
+                return verifyDomainDkim(verifyDomainDkimRequest);
+            }
+        }, verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(), new VerifyDomainDkimResultStaxUnmarshaller());
     }
     
     /**
@@ -890,11 +939,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-        }
-    });
+        return getIdentityDkimAttributesComposableAsync(getIdentityDkimAttributesRequest);
     }
 
     /**
@@ -954,19 +999,31 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
+        return withAsyncHandler(getIdentityDkimAttributesComposableAsync(getIdentityDkimAttributesRequest),
+                getIdentityDkimAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetIdentityDkimAttributes operation like
+     * {@link #getIdentityDkimAttributesAsync(GetIdentityDkimAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getIdentityDkimAttributesRequest Container for the necessary
+     *           parameters to execute the GetIdentityDkimAttributes operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         GetIdentityDkimAttributes service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<GetIdentityDkimAttributesResult> getIdentityDkimAttributesComposableAsync(final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetIdentityDkimAttributesResult>() {
             public GetIdentityDkimAttributesResult call() throws Exception {
-              GetIdentityDkimAttributesResult result;
-                try {
-                result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityDkimAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
+            }
+        }, getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(), new GetIdentityDkimAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1002,12 +1059,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> verifyEmailAddressAsync(final VerifyEmailAddressRequest verifyEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-        }
-    });
+        return verifyEmailAddressComposableAsync(verifyEmailAddressRequest);
     }
 
     /**
@@ -1049,18 +1101,32 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(verifyEmailAddressComposableAsync(verifyEmailAddressRequest),
+                verifyEmailAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the VerifyEmailAddress operation like
+     * {@link #verifyEmailAddressAsync(VerifyEmailAddressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param verifyEmailAddressRequest Container for the necessary
+     *           parameters to execute the VerifyEmailAddress operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         VerifyEmailAddress service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<Void> verifyEmailAddressComposableAsync(final VerifyEmailAddressRequest verifyEmailAddressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 verifyEmailAddress(verifyEmailAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyEmailAddressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(), null);
     }
     
     /**
@@ -1119,11 +1185,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendRawEmailResult> sendRawEmailAsync(final SendRawEmailRequest sendRawEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-        }
-    });
+        return sendRawEmailComposableAsync(sendRawEmailRequest);
     }
 
     /**
@@ -1188,19 +1250,28 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
+        return withAsyncHandler(sendRawEmailComposableAsync(sendRawEmailRequest),
+                sendRawEmailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SendRawEmail operation like
+     * {@link #sendRawEmailAsync(SendRawEmailRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param sendRawEmailRequest Container for the necessary parameters to
+     *           execute the SendRawEmail operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the SendRawEmail
+     *         service method, as returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<SendRawEmailResult> sendRawEmailComposableAsync(final SendRawEmailRequest sendRawEmailRequest) {
+        return executeAsync(executorService, new Callable<SendRawEmailResult>() {
             public SendRawEmailResult call() throws Exception {
-              SendRawEmailResult result;
-                try {
-                result = sendRawEmail(sendRawEmailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendRawEmailRequest, result);
-                 return result;
-        }
-    });
+                return sendRawEmail(sendRawEmailRequest);
+            }
+        }, sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(), new SendRawEmailResultStaxUnmarshaller());
     }
     
     /**
@@ -1231,11 +1302,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListIdentitiesResult> listIdentitiesAsync(final ListIdentitiesRequest listIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-        }
-    });
+        return listIdentitiesComposableAsync(listIdentitiesRequest);
     }
 
     /**
@@ -1272,19 +1339,28 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
+        return withAsyncHandler(listIdentitiesComposableAsync(listIdentitiesRequest),
+                listIdentitiesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListIdentities operation like
+     * {@link #listIdentitiesAsync(ListIdentitiesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listIdentitiesRequest Container for the necessary parameters to
+     *           execute the ListIdentities operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the ListIdentities
+     *         service method, as returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<ListIdentitiesResult> listIdentitiesComposableAsync(final ListIdentitiesRequest listIdentitiesRequest) {
+        return executeAsync(executorService, new Callable<ListIdentitiesResult>() {
             public ListIdentitiesResult call() throws Exception {
-              ListIdentitiesResult result;
-                try {
-                result = listIdentities(listIdentitiesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listIdentitiesRequest, result);
-                 return result;
-        }
-    });
+                return listIdentities(listIdentitiesRequest);
+            }
+        }, listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(), new ListIdentitiesResultStaxUnmarshaller());
     }
     
     /**
@@ -1316,11 +1392,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-        }
-    });
+        return getIdentityVerificationAttributesComposableAsync(getIdentityVerificationAttributesRequest);
     }
 
     /**
@@ -1358,19 +1430,32 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
+        return withAsyncHandler(getIdentityVerificationAttributesComposableAsync(getIdentityVerificationAttributesRequest),
+                getIdentityVerificationAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetIdentityVerificationAttributes
+     * operation like
+     * {@link #getIdentityVerificationAttributesAsync(GetIdentityVerificationAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getIdentityVerificationAttributesRequest Container for the
+     *           necessary parameters to execute the GetIdentityVerificationAttributes
+     *           operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         GetIdentityVerificationAttributes service method, as
+     *         returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesComposableAsync(final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetIdentityVerificationAttributesResult>() {
             public GetIdentityVerificationAttributesResult call() throws Exception {
-              GetIdentityVerificationAttributesResult result;
-                try {
-                result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getIdentityVerificationAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
+            }
+        }, getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(), new GetIdentityVerificationAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1421,11 +1506,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-        }
-    });
+        return setIdentityDkimEnabledComposableAsync(setIdentityDkimEnabledRequest);
     }
 
     /**
@@ -1482,19 +1563,31 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
+        return withAsyncHandler(setIdentityDkimEnabledComposableAsync(setIdentityDkimEnabledRequest),
+                setIdentityDkimEnabledRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetIdentityDkimEnabled operation like
+     * {@link #setIdentityDkimEnabledAsync(SetIdentityDkimEnabledRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setIdentityDkimEnabledRequest Container for the necessary
+     *           parameters to execute the SetIdentityDkimEnabled operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         SetIdentityDkimEnabled service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<SetIdentityDkimEnabledResult> setIdentityDkimEnabledComposableAsync(final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest) {
+        return executeAsync(executorService, new Callable<SetIdentityDkimEnabledResult>() {
             public SetIdentityDkimEnabledResult call() throws Exception {
-              SetIdentityDkimEnabledResult result;
-                try {
-                result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityDkimEnabledRequest, result);
-                 return result;
-        }
-    });
+                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
+            }
+        }, setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(), new SetIdentityDkimEnabledResultStaxUnmarshaller());
     }
     
     /**
@@ -1522,11 +1615,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendQuotaResult> getSendQuotaAsync(final GetSendQuotaRequest getSendQuotaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-        }
-    });
+        return getSendQuotaComposableAsync(getSendQuotaRequest);
     }
 
     /**
@@ -1560,19 +1649,28 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
+        return withAsyncHandler(getSendQuotaComposableAsync(getSendQuotaRequest),
+                getSendQuotaRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetSendQuota operation like
+     * {@link #getSendQuotaAsync(GetSendQuotaRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param getSendQuotaRequest Container for the necessary parameters to
+     *           execute the GetSendQuota operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the GetSendQuota
+     *         service method, as returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<GetSendQuotaResult> getSendQuotaComposableAsync(final GetSendQuotaRequest getSendQuotaRequest) {
+        return executeAsync(executorService, new Callable<GetSendQuotaResult>() {
             public GetSendQuotaResult call() throws Exception {
-              GetSendQuotaResult result;
-                try {
-                result = getSendQuota(getSendQuotaRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSendQuotaRequest, result);
-                 return result;
-        }
-    });
+                return getSendQuota(getSendQuotaRequest);
+            }
+        }, getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(), new GetSendQuotaResultStaxUnmarshaller());
     }
     
     /**
@@ -1618,11 +1716,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-        }
-    });
+        return setIdentityFeedbackForwardingEnabledComposableAsync(setIdentityFeedbackForwardingEnabledRequest);
     }
 
     /**
@@ -1674,19 +1768,33 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
+        return withAsyncHandler(setIdentityFeedbackForwardingEnabledComposableAsync(setIdentityFeedbackForwardingEnabledRequest),
+                setIdentityFeedbackForwardingEnabledRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetIdentityFeedbackForwardingEnabled
+     * operation like
+     * {@link #setIdentityFeedbackForwardingEnabledAsync(SetIdentityFeedbackForwardingEnabledRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setIdentityFeedbackForwardingEnabledRequest Container for the
+     *           necessary parameters to execute the
+     *           SetIdentityFeedbackForwardingEnabled operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         SetIdentityFeedbackForwardingEnabled service method, as
+     *         returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledComposableAsync(final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest) {
+        return executeAsync(executorService, new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
             public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-              SetIdentityFeedbackForwardingEnabledResult result;
-                try {
-                result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityFeedbackForwardingEnabledRequest, result);
-                 return result;
-        }
-    });
+                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
+            }
+        }, setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(), new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller());
     }
     
     /**
@@ -1716,11 +1824,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(final VerifyDomainIdentityRequest verifyDomainIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-        }
-    });
+        return verifyDomainIdentityComposableAsync(verifyDomainIdentityRequest);
     }
 
     /**
@@ -1756,19 +1860,31 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
+        return withAsyncHandler(verifyDomainIdentityComposableAsync(verifyDomainIdentityRequest),
+                verifyDomainIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the VerifyDomainIdentity operation like
+     * {@link #verifyDomainIdentityAsync(VerifyDomainIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param verifyDomainIdentityRequest Container for the necessary
+     *           parameters to execute the VerifyDomainIdentity operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         VerifyDomainIdentity service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<VerifyDomainIdentityResult> verifyDomainIdentityComposableAsync(final VerifyDomainIdentityRequest verifyDomainIdentityRequest) {
+        return executeAsync(executorService, new Callable<VerifyDomainIdentityResult>() {
             public VerifyDomainIdentityResult call() throws Exception {
-              VerifyDomainIdentityResult result;
-                try {
-                result = verifyDomainIdentity(verifyDomainIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(verifyDomainIdentityRequest, result);
-                 return result;
-        }
-    });
+                return verifyDomainIdentity(verifyDomainIdentityRequest);
+            }
+        }, verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(), new VerifyDomainIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -1819,11 +1935,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-        }
-    });
+        return sendEmailComposableAsync(sendEmailRequest);
     }
 
     /**
@@ -1880,19 +1992,28 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
+        return withAsyncHandler(sendEmailComposableAsync(sendEmailRequest),
+                sendEmailRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SendEmail operation like
+     * {@link #sendEmailAsync(SendEmailRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param sendEmailRequest Container for the necessary parameters to
+     *           execute the SendEmail operation on AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the SendEmail
+     *         service method, as returned by AmazonSimpleEmailService.
+     */
+    public ComposableFuture<SendEmailResult> sendEmailComposableAsync(final SendEmailRequest sendEmailRequest) {
+        return executeAsync(executorService, new Callable<SendEmailResult>() {
             public SendEmailResult call() throws Exception {
-              SendEmailResult result;
-                try {
-                result = sendEmail(sendEmailRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendEmailRequest, result);
-                 return result;
-        }
-    });
+                return sendEmail(sendEmailRequest);
+            }
+        }, sendEmailRequest,
+                new SendEmailRequestMarshaller(), new SendEmailResultStaxUnmarshaller());
     }
     
     /**
@@ -1928,12 +2049,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> deleteVerifiedEmailAddressAsync(final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-        }
-    });
+        return deleteVerifiedEmailAddressComposableAsync(deleteVerifiedEmailAddressRequest);
     }
 
     /**
@@ -1975,18 +2091,33 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteVerifiedEmailAddressComposableAsync(deleteVerifiedEmailAddressRequest),
+                deleteVerifiedEmailAddressRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVerifiedEmailAddress operation
+     * like
+     * {@link #deleteVerifiedEmailAddressAsync(DeleteVerifiedEmailAddressRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteVerifiedEmailAddressRequest Container for the necessary
+     *           parameters to execute the DeleteVerifiedEmailAddress operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         DeleteVerifiedEmailAddress service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<Void> deleteVerifiedEmailAddressComposableAsync(final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(), null);
     }
     
     /**
@@ -2029,11 +2160,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-        }
-    });
+        return setIdentityNotificationTopicComposableAsync(setIdentityNotificationTopicRequest);
     }
 
     /**
@@ -2082,19 +2209,32 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
+        return withAsyncHandler(setIdentityNotificationTopicComposableAsync(setIdentityNotificationTopicRequest),
+                setIdentityNotificationTopicRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetIdentityNotificationTopic operation
+     * like
+     * {@link #setIdentityNotificationTopicAsync(SetIdentityNotificationTopicRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setIdentityNotificationTopicRequest Container for the necessary
+     *           parameters to execute the SetIdentityNotificationTopic operation on
+     *           AmazonSimpleEmailService.
+     *
+     * @return A composable future for the response from the
+     *         SetIdentityNotificationTopic service method, as returned by
+     *         AmazonSimpleEmailService.
+     */
+    public ComposableFuture<SetIdentityNotificationTopicResult> setIdentityNotificationTopicComposableAsync(final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest) {
+        return executeAsync(executorService, new Callable<SetIdentityNotificationTopicResult>() {
             public SetIdentityNotificationTopicResult call() throws Exception {
-              SetIdentityNotificationTopicResult result;
-                try {
-                result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setIdentityNotificationTopicRequest, result);
-                 return result;
-        }
-    });
+                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
+            }
+        }, setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(), new SetIdentityNotificationTopicResultStaxUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.simpledb.model.*;
+import com.amazonaws.services.simpledb.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleDB.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon SimpleDB <p>
  * Amazon SimpleDB is a web service providing the core database
  * functions of data indexing and querying in the cloud. By offloading
@@ -326,11 +330,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<SelectResult> selectAsync(final SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-                return select(selectRequest);
-        }
-    });
+        return selectComposableAsync(selectRequest);
     }
 
     /**
@@ -375,19 +375,28 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final SelectRequest selectRequest,
             final AsyncHandler<SelectRequest, SelectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
+        return withAsyncHandler(selectComposableAsync(selectRequest),
+                selectRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Select operation like
+     * {@link #selectAsync(SelectRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param selectRequest Container for the necessary parameters to execute
+     *           the Select operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the Select service
+     *         method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<SelectResult> selectComposableAsync(final SelectRequest selectRequest) {
+        return executeAsync(executorService, new Callable<SelectResult>() {
             public SelectResult call() throws Exception {
-              SelectResult result;
-                try {
-                result = select(selectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(selectRequest, result);
-                 return result;
-        }
-    });
+                return select(selectRequest);
+            }
+        }, selectRequest,
+                new SelectRequestMarshaller(), new SelectResultStaxUnmarshaller());
     }
     
     /**
@@ -462,12 +471,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putAttributes(putAttributesRequest);
-                return null;
-        }
-    });
+        return putAttributesComposableAsync(putAttributesRequest);
     }
 
     /**
@@ -548,18 +552,29 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final PutAttributesRequest putAttributesRequest,
             final AsyncHandler<PutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(putAttributesComposableAsync(putAttributesRequest),
+                putAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PutAttributes operation like
+     * {@link #putAttributesAsync(PutAttributesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param putAttributesRequest Container for the necessary parameters to
+     *           execute the PutAttributes operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the PutAttributes
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> putAttributesComposableAsync(final PutAttributesRequest putAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 putAttributes(putAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, putAttributesRequest,
+                new PutAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -611,12 +626,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-                return null;
-        }
-    });
+        return batchDeleteAttributesComposableAsync(batchDeleteAttributesRequest);
     }
 
     /**
@@ -674,18 +684,32 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchDeleteAttributesRequest batchDeleteAttributesRequest,
             final AsyncHandler<BatchDeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(batchDeleteAttributesComposableAsync(batchDeleteAttributesRequest),
+                batchDeleteAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchDeleteAttributes operation like
+     * {@link #batchDeleteAttributesAsync(BatchDeleteAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param batchDeleteAttributesRequest Container for the necessary
+     *           parameters to execute the BatchDeleteAttributes operation on
+     *           AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the
+     *         BatchDeleteAttributes service method, as returned by
+     *         AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> batchDeleteAttributesComposableAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 batchDeleteAttributes(batchDeleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchDeleteAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, batchDeleteAttributesRequest,
+                new BatchDeleteAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -718,12 +742,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDomain(deleteDomainRequest);
-                return null;
-        }
-    });
+        return deleteDomainComposableAsync(deleteDomainRequest);
     }
 
     /**
@@ -762,18 +781,29 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteDomainComposableAsync(deleteDomainRequest),
+                deleteDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDomain operation like
+     * {@link #deleteDomainAsync(DeleteDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteDomainRequest Container for the necessary parameters to
+     *           execute the DeleteDomain operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the DeleteDomain
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> deleteDomainComposableAsync(final DeleteDomainRequest deleteDomainRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(), null);
     }
     
     /**
@@ -814,12 +844,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createDomain(createDomainRequest);
-                return null;
-        }
-    });
+        return createDomainComposableAsync(createDomainRequest);
     }
 
     /**
@@ -866,18 +891,29 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(createDomainComposableAsync(createDomainRequest),
+                createDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDomain operation like
+     * {@link #createDomainAsync(CreateDomainRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param createDomainRequest Container for the necessary parameters to
+     *           execute the CreateDomain operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the CreateDomain
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> createDomainComposableAsync(final CreateDomainRequest createDomainRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, createDomainRequest,
+                new CreateDomainRequestMarshaller(), null);
     }
     
     /**
@@ -920,12 +956,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAttributes(deleteAttributesRequest);
-                return null;
-        }
-    });
+        return deleteAttributesComposableAsync(deleteAttributesRequest);
     }
 
     /**
@@ -974,18 +1005,30 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DeleteAttributesRequest deleteAttributesRequest,
             final AsyncHandler<DeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteAttributesComposableAsync(deleteAttributesRequest),
+                deleteAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAttributes operation like
+     * {@link #deleteAttributesAsync(DeleteAttributesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteAttributesRequest Container for the necessary parameters
+     *           to execute the DeleteAttributes operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAttributes service method, as returned by
+     *         AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> deleteAttributesComposableAsync(final DeleteAttributesRequest deleteAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteAttributes(deleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteAttributesRequest,
+                new DeleteAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -1017,11 +1060,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return listDomainsComposableAsync(listDomainsRequest);
     }
 
     /**
@@ -1059,19 +1098,28 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
+        return withAsyncHandler(listDomainsComposableAsync(listDomainsRequest),
+                listDomainsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDomains operation like
+     * {@link #listDomainsAsync(ListDomainsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listDomainsRequest Container for the necessary parameters to
+     *           execute the ListDomains operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the ListDomains
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<ListDomainsResult> listDomainsComposableAsync(final ListDomainsRequest listDomainsRequest) {
+        return executeAsync(executorService, new Callable<ListDomainsResult>() {
             public ListDomainsResult call() throws Exception {
-              ListDomainsResult result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+                return listDomains(listDomainsRequest);
+            }
+        }, listDomainsRequest,
+                new ListDomainsRequestMarshaller(), new ListDomainsResultStaxUnmarshaller());
     }
     
     /**
@@ -1108,11 +1156,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-                return getAttributes(getAttributesRequest);
-        }
-    });
+        return getAttributesComposableAsync(getAttributesRequest);
     }
 
     /**
@@ -1155,19 +1199,28 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final GetAttributesRequest getAttributesRequest,
             final AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
+        return withAsyncHandler(getAttributesComposableAsync(getAttributesRequest),
+                getAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetAttributes operation like
+     * {@link #getAttributesAsync(GetAttributesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getAttributesRequest Container for the necessary parameters to
+     *           execute the GetAttributes operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the GetAttributes
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<GetAttributesResult> getAttributesComposableAsync(final GetAttributesRequest getAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetAttributesResult>() {
             public GetAttributesResult call() throws Exception {
-              GetAttributesResult result;
-                try {
-                result = getAttributes(getAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getAttributes(getAttributesRequest);
+            }
+        }, getAttributesRequest,
+                new GetAttributesRequestMarshaller(), new GetAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1260,12 +1313,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchPutAttributes(batchPutAttributesRequest);
-                return null;
-        }
-    });
+        return batchPutAttributesComposableAsync(batchPutAttributesRequest);
     }
 
     /**
@@ -1364,18 +1412,32 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final BatchPutAttributesRequest batchPutAttributesRequest,
             final AsyncHandler<BatchPutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(batchPutAttributesComposableAsync(batchPutAttributesRequest),
+                batchPutAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the BatchPutAttributes operation like
+     * {@link #batchPutAttributesAsync(BatchPutAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param batchPutAttributesRequest Container for the necessary
+     *           parameters to execute the BatchPutAttributes operation on
+     *           AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the
+     *         BatchPutAttributes service method, as returned by
+     *         AmazonSimpleDB.
+     */
+    public ComposableFuture<Void> batchPutAttributesComposableAsync(final BatchPutAttributesRequest batchPutAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 batchPutAttributes(batchPutAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchPutAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, batchPutAttributesRequest,
+                new BatchPutAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -1402,11 +1464,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public Future<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-                return domainMetadata(domainMetadataRequest);
-        }
-    });
+        return domainMetadataComposableAsync(domainMetadataRequest);
     }
 
     /**
@@ -1439,19 +1497,28 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
             final DomainMetadataRequest domainMetadataRequest,
             final AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
+        return withAsyncHandler(domainMetadataComposableAsync(domainMetadataRequest),
+                domainMetadataRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DomainMetadata operation like
+     * {@link #domainMetadataAsync(DomainMetadataRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param domainMetadataRequest Container for the necessary parameters to
+     *           execute the DomainMetadata operation on AmazonSimpleDB.
+     *
+     * @return A composable future for the response from the DomainMetadata
+     *         service method, as returned by AmazonSimpleDB.
+     */
+    public ComposableFuture<DomainMetadataResult> domainMetadataComposableAsync(final DomainMetadataRequest domainMetadataRequest) {
+        return executeAsync(executorService, new Callable<DomainMetadataResult>() {
             public DomainMetadataResult call() throws Exception {
-              DomainMetadataResult result;
-                try {
-                result = domainMetadata(domainMetadataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(domainMetadataRequest, result);
-                 return result;
-        }
-    });
+                return domainMetadata(domainMetadataRequest);
+            }
+        }, domainMetadataRequest,
+                new DomainMetadataRequestMarshaller(), new DomainMetadataResultStaxUnmarshaller());
     }
     
 }
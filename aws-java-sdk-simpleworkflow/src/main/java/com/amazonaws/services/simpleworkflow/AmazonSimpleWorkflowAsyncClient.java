@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.simpleworkflow.model.*;
+import com.amazonaws.services.simpleworkflow.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleWorkflow.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Simple Workflow Service <p>
  * The Amazon Simple Workflow Service (Amazon SWF) makes it easy to build
  * applications that use Amazon's cloud to coordinate work across
@@ -353,12 +357,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateWorkflowTypeAsync(final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateWorkflowType(deprecateWorkflowTypeRequest);
-                return null;
-        }
-    });
+        return deprecateWorkflowTypeComposableAsync(deprecateWorkflowTypeRequest);
     }
 
     /**
@@ -433,18 +432,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest,
             final AsyncHandler<DeprecateWorkflowTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deprecateWorkflowTypeComposableAsync(deprecateWorkflowTypeRequest),
+                deprecateWorkflowTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeprecateWorkflowType operation like
+     * {@link #deprecateWorkflowTypeAsync(DeprecateWorkflowTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deprecateWorkflowTypeRequest Container for the necessary
+     *           parameters to execute the DeprecateWorkflowType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DeprecateWorkflowType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> deprecateWorkflowTypeComposableAsync(final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deprecateWorkflowType(deprecateWorkflowTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deprecateWorkflowTypeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deprecateWorkflowTypeRequest,
+                new DeprecateWorkflowTypeRequestMarshaller(), null);
     }
     
     /**
@@ -504,12 +517,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateDomainAsync(final DeprecateDomainRequest deprecateDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateDomain(deprecateDomainRequest);
-                return null;
-        }
-    });
+        return deprecateDomainComposableAsync(deprecateDomainRequest);
     }
 
     /**
@@ -575,18 +583,30 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateDomainRequest deprecateDomainRequest,
             final AsyncHandler<DeprecateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deprecateDomainComposableAsync(deprecateDomainRequest),
+                deprecateDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeprecateDomain operation like
+     * {@link #deprecateDomainAsync(DeprecateDomainRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deprecateDomainRequest Container for the necessary parameters
+     *           to execute the DeprecateDomain operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DeprecateDomain service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> deprecateDomainComposableAsync(final DeprecateDomainRequest deprecateDomainRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deprecateDomain(deprecateDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deprecateDomainRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deprecateDomainRequest,
+                new DeprecateDomainRequestMarshaller(), null);
     }
     
     /**
@@ -660,12 +680,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerWorkflowTypeAsync(final RegisterWorkflowTypeRequest registerWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerWorkflowType(registerWorkflowTypeRequest);
-                return null;
-        }
-    });
+        return registerWorkflowTypeComposableAsync(registerWorkflowTypeRequest);
     }
 
     /**
@@ -745,18 +760,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterWorkflowTypeRequest registerWorkflowTypeRequest,
             final AsyncHandler<RegisterWorkflowTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(registerWorkflowTypeComposableAsync(registerWorkflowTypeRequest),
+                registerWorkflowTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterWorkflowType operation like
+     * {@link #registerWorkflowTypeAsync(RegisterWorkflowTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerWorkflowTypeRequest Container for the necessary
+     *           parameters to execute the RegisterWorkflowType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RegisterWorkflowType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> registerWorkflowTypeComposableAsync(final RegisterWorkflowTypeRequest registerWorkflowTypeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 registerWorkflowType(registerWorkflowTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerWorkflowTypeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, registerWorkflowTypeRequest,
+                new RegisterWorkflowTypeRequestMarshaller(), null);
     }
     
     /**
@@ -809,11 +838,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeInfos> listWorkflowTypesAsync(final ListWorkflowTypesRequest listWorkflowTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeInfos>() {
-            public WorkflowTypeInfos call() throws Exception {
-                return listWorkflowTypes(listWorkflowTypesRequest);
-        }
-    });
+        return listWorkflowTypesComposableAsync(listWorkflowTypesRequest);
     }
 
     /**
@@ -872,19 +897,30 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListWorkflowTypesRequest listWorkflowTypesRequest,
             final AsyncHandler<ListWorkflowTypesRequest, WorkflowTypeInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeInfos>() {
+        return withAsyncHandler(listWorkflowTypesComposableAsync(listWorkflowTypesRequest),
+                listWorkflowTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListWorkflowTypes operation like
+     * {@link #listWorkflowTypesAsync(ListWorkflowTypesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listWorkflowTypesRequest Container for the necessary parameters
+     *           to execute the ListWorkflowTypes operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         ListWorkflowTypes service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowTypeInfos> listWorkflowTypesComposableAsync(final ListWorkflowTypesRequest listWorkflowTypesRequest) {
+        return executeAsync(executorService, new Callable<WorkflowTypeInfos>() {
             public WorkflowTypeInfos call() throws Exception {
-              WorkflowTypeInfos result;
-                try {
-                result = listWorkflowTypes(listWorkflowTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listWorkflowTypesRequest, result);
-                 return result;
-        }
-    });
+                return listWorkflowTypes(listWorkflowTypesRequest);
+            }
+        }, listWorkflowTypesRequest,
+                new ListWorkflowTypesRequestMarshaller(), new WorkflowTypeInfosJsonUnmarshaller());
     }
     
     /**
@@ -961,11 +997,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Run> startWorkflowExecutionAsync(final StartWorkflowExecutionRequest startWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Run>() {
-            public Run call() throws Exception {
-                return startWorkflowExecution(startWorkflowExecutionRequest);
-        }
-    });
+        return startWorkflowExecutionComposableAsync(startWorkflowExecutionRequest);
     }
 
     /**
@@ -1048,19 +1080,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final StartWorkflowExecutionRequest startWorkflowExecutionRequest,
             final AsyncHandler<StartWorkflowExecutionRequest, Run> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Run>() {
+        return withAsyncHandler(startWorkflowExecutionComposableAsync(startWorkflowExecutionRequest),
+                startWorkflowExecutionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartWorkflowExecution operation like
+     * {@link #startWorkflowExecutionAsync(StartWorkflowExecutionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param startWorkflowExecutionRequest Container for the necessary
+     *           parameters to execute the StartWorkflowExecution operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         StartWorkflowExecution service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Run> startWorkflowExecutionComposableAsync(final StartWorkflowExecutionRequest startWorkflowExecutionRequest) {
+        return executeAsync(executorService, new Callable<Run>() {
             public Run call() throws Exception {
-              Run result;
-                try {
-                result = startWorkflowExecution(startWorkflowExecutionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startWorkflowExecutionRequest, result);
-                 return result;
-        }
-    });
+                return startWorkflowExecution(startWorkflowExecutionRequest);
+            }
+        }, startWorkflowExecutionRequest,
+                new StartWorkflowExecutionRequestMarshaller(), new RunJsonUnmarshaller());
     }
     
     /**
@@ -1126,12 +1170,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> signalWorkflowExecutionAsync(final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                signalWorkflowExecution(signalWorkflowExecutionRequest);
-                return null;
-        }
-    });
+        return signalWorkflowExecutionComposableAsync(signalWorkflowExecutionRequest);
     }
 
     /**
@@ -1203,18 +1242,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest,
             final AsyncHandler<SignalWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(signalWorkflowExecutionComposableAsync(signalWorkflowExecutionRequest),
+                signalWorkflowExecutionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SignalWorkflowExecution operation like
+     * {@link #signalWorkflowExecutionAsync(SignalWorkflowExecutionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param signalWorkflowExecutionRequest Container for the necessary
+     *           parameters to execute the SignalWorkflowExecution operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         SignalWorkflowExecution service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> signalWorkflowExecutionComposableAsync(final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 signalWorkflowExecution(signalWorkflowExecutionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(signalWorkflowExecutionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, signalWorkflowExecutionRequest,
+                new SignalWorkflowExecutionRequestMarshaller(), null);
     }
     
     /**
@@ -1273,11 +1326,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainInfos> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainInfos>() {
-            public DomainInfos call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return listDomainsComposableAsync(listDomainsRequest);
     }
 
     /**
@@ -1342,19 +1391,28 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, DomainInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainInfos>() {
+        return withAsyncHandler(listDomainsComposableAsync(listDomainsRequest),
+                listDomainsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDomains operation like
+     * {@link #listDomainsAsync(ListDomainsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listDomainsRequest Container for the necessary parameters to
+     *           execute the ListDomains operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the ListDomains
+     *         service method, as returned by AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<DomainInfos> listDomainsComposableAsync(final ListDomainsRequest listDomainsRequest) {
+        return executeAsync(executorService, new Callable<DomainInfos>() {
             public DomainInfos call() throws Exception {
-              DomainInfos result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+                return listDomains(listDomainsRequest);
+            }
+        }, listDomainsRequest,
+                new ListDomainsRequestMarshaller(), new DomainInfosJsonUnmarshaller());
     }
     
     /**
@@ -1423,12 +1481,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> requestCancelWorkflowExecutionAsync(final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                requestCancelWorkflowExecution(requestCancelWorkflowExecutionRequest);
-                return null;
-        }
-    });
+        return requestCancelWorkflowExecutionComposableAsync(requestCancelWorkflowExecutionRequest);
     }
 
     /**
@@ -1503,18 +1556,33 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest,
             final AsyncHandler<RequestCancelWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(requestCancelWorkflowExecutionComposableAsync(requestCancelWorkflowExecutionRequest),
+                requestCancelWorkflowExecutionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RequestCancelWorkflowExecution operation
+     * like
+     * {@link #requestCancelWorkflowExecutionAsync(RequestCancelWorkflowExecutionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param requestCancelWorkflowExecutionRequest Container for the
+     *           necessary parameters to execute the RequestCancelWorkflowExecution
+     *           operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RequestCancelWorkflowExecution service method, as returned
+     *         by AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> requestCancelWorkflowExecutionComposableAsync(final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 requestCancelWorkflowExecution(requestCancelWorkflowExecutionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestCancelWorkflowExecutionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, requestCancelWorkflowExecutionRequest,
+                new RequestCancelWorkflowExecutionRequestMarshaller(), null);
     }
     
     /**
@@ -1577,11 +1645,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeDetail> describeWorkflowTypeAsync(final DescribeWorkflowTypeRequest describeWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeDetail>() {
-            public WorkflowTypeDetail call() throws Exception {
-                return describeWorkflowType(describeWorkflowTypeRequest);
-        }
-    });
+        return describeWorkflowTypeComposableAsync(describeWorkflowTypeRequest);
     }
 
     /**
@@ -1650,19 +1714,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowTypeRequest describeWorkflowTypeRequest,
             final AsyncHandler<DescribeWorkflowTypeRequest, WorkflowTypeDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeDetail>() {
+        return withAsyncHandler(describeWorkflowTypeComposableAsync(describeWorkflowTypeRequest),
+                describeWorkflowTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeWorkflowType operation like
+     * {@link #describeWorkflowTypeAsync(DescribeWorkflowTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeWorkflowTypeRequest Container for the necessary
+     *           parameters to execute the DescribeWorkflowType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DescribeWorkflowType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowTypeDetail> describeWorkflowTypeComposableAsync(final DescribeWorkflowTypeRequest describeWorkflowTypeRequest) {
+        return executeAsync(executorService, new Callable<WorkflowTypeDetail>() {
             public WorkflowTypeDetail call() throws Exception {
-              WorkflowTypeDetail result;
-                try {
-                result = describeWorkflowType(describeWorkflowTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeWorkflowTypeRequest, result);
-                 return result;
-        }
-    });
+                return describeWorkflowType(describeWorkflowTypeRequest);
+            }
+        }, describeWorkflowTypeRequest,
+                new DescribeWorkflowTypeRequestMarshaller(), new WorkflowTypeDetailJsonUnmarshaller());
     }
     
     /**
@@ -1730,12 +1806,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateActivityTypeAsync(final DeprecateActivityTypeRequest deprecateActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateActivityType(deprecateActivityTypeRequest);
-                return null;
-        }
-    });
+        return deprecateActivityTypeComposableAsync(deprecateActivityTypeRequest);
     }
 
     /**
@@ -1809,18 +1880,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateActivityTypeRequest deprecateActivityTypeRequest,
             final AsyncHandler<DeprecateActivityTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deprecateActivityTypeComposableAsync(deprecateActivityTypeRequest),
+                deprecateActivityTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeprecateActivityType operation like
+     * {@link #deprecateActivityTypeAsync(DeprecateActivityTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deprecateActivityTypeRequest Container for the necessary
+     *           parameters to execute the DeprecateActivityType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DeprecateActivityType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> deprecateActivityTypeComposableAsync(final DeprecateActivityTypeRequest deprecateActivityTypeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deprecateActivityType(deprecateActivityTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deprecateActivityTypeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deprecateActivityTypeRequest,
+                new DeprecateActivityTypeRequestMarshaller(), null);
     }
     
     /**
@@ -1888,11 +1973,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countClosedWorkflowExecutionsAsync(final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
-            public WorkflowExecutionCount call() throws Exception {
-                return countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
-        }
-    });
+        return countClosedWorkflowExecutionsComposableAsync(countClosedWorkflowExecutionsRequest);
     }
 
     /**
@@ -1966,19 +2047,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest,
             final AsyncHandler<CountClosedWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return withAsyncHandler(countClosedWorkflowExecutionsComposableAsync(countClosedWorkflowExecutionsRequest),
+                countClosedWorkflowExecutionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CountClosedWorkflowExecutions operation
+     * like
+     * {@link #countClosedWorkflowExecutionsAsync(CountClosedWorkflowExecutionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param countClosedWorkflowExecutionsRequest Container for the
+     *           necessary parameters to execute the CountClosedWorkflowExecutions
+     *           operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         CountClosedWorkflowExecutions service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowExecutionCount> countClosedWorkflowExecutionsComposableAsync(final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest) {
+        return executeAsync(executorService, new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
-              WorkflowExecutionCount result;
-                try {
-                result = countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(countClosedWorkflowExecutionsRequest, result);
-                 return result;
-        }
-    });
+                return countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
+            }
+        }, countClosedWorkflowExecutionsRequest,
+                new CountClosedWorkflowExecutionsRequestMarshaller(), new WorkflowExecutionCountJsonUnmarshaller());
     }
     
     /**
@@ -2035,11 +2129,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingActivityTasksAsync(final CountPendingActivityTasksRequest countPendingActivityTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
-            public PendingTaskCount call() throws Exception {
-                return countPendingActivityTasks(countPendingActivityTasksRequest);
-        }
-    });
+        return countPendingActivityTasksComposableAsync(countPendingActivityTasksRequest);
     }
 
     /**
@@ -2102,19 +2192,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingActivityTasksRequest countPendingActivityTasksRequest,
             final AsyncHandler<CountPendingActivityTasksRequest, PendingTaskCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return withAsyncHandler(countPendingActivityTasksComposableAsync(countPendingActivityTasksRequest),
+                countPendingActivityTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CountPendingActivityTasks operation like
+     * {@link #countPendingActivityTasksAsync(CountPendingActivityTasksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param countPendingActivityTasksRequest Container for the necessary
+     *           parameters to execute the CountPendingActivityTasks operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         CountPendingActivityTasks service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<PendingTaskCount> countPendingActivityTasksComposableAsync(final CountPendingActivityTasksRequest countPendingActivityTasksRequest) {
+        return executeAsync(executorService, new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
-              PendingTaskCount result;
-                try {
-                result = countPendingActivityTasks(countPendingActivityTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(countPendingActivityTasksRequest, result);
-                 return result;
-        }
-    });
+                return countPendingActivityTasks(countPendingActivityTasksRequest);
+            }
+        }, countPendingActivityTasksRequest,
+                new CountPendingActivityTasksRequestMarshaller(), new PendingTaskCountJsonUnmarshaller());
     }
     
     /**
@@ -2188,12 +2290,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCanceledAsync(final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskCanceled(respondActivityTaskCanceledRequest);
-                return null;
-        }
-    });
+        return respondActivityTaskCanceledComposableAsync(respondActivityTaskCanceledRequest);
     }
 
     /**
@@ -2273,18 +2370,33 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest,
             final AsyncHandler<RespondActivityTaskCanceledRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(respondActivityTaskCanceledComposableAsync(respondActivityTaskCanceledRequest),
+                respondActivityTaskCanceledRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RespondActivityTaskCanceled operation
+     * like
+     * {@link #respondActivityTaskCanceledAsync(RespondActivityTaskCanceledRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param respondActivityTaskCanceledRequest Container for the necessary
+     *           parameters to execute the RespondActivityTaskCanceled operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RespondActivityTaskCanceled service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> respondActivityTaskCanceledComposableAsync(final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 respondActivityTaskCanceled(respondActivityTaskCanceledRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(respondActivityTaskCanceledRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, respondActivityTaskCanceledRequest,
+                new RespondActivityTaskCanceledRequestMarshaller(), null);
     }
     
     /**
@@ -2334,12 +2446,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondDecisionTaskCompletedAsync(final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondDecisionTaskCompleted(respondDecisionTaskCompletedRequest);
-                return null;
-        }
-    });
+        return respondDecisionTaskCompletedComposableAsync(respondDecisionTaskCompletedRequest);
     }
 
     /**
@@ -2395,18 +2502,33 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest,
             final AsyncHandler<RespondDecisionTaskCompletedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(respondDecisionTaskCompletedComposableAsync(respondDecisionTaskCompletedRequest),
+                respondDecisionTaskCompletedRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RespondDecisionTaskCompleted operation
+     * like
+     * {@link #respondDecisionTaskCompletedAsync(RespondDecisionTaskCompletedRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param respondDecisionTaskCompletedRequest Container for the necessary
+     *           parameters to execute the RespondDecisionTaskCompleted operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RespondDecisionTaskCompleted service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> respondDecisionTaskCompletedComposableAsync(final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 respondDecisionTaskCompleted(respondDecisionTaskCompletedRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(respondDecisionTaskCompletedRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, respondDecisionTaskCompletedRequest,
+                new RespondDecisionTaskCompletedRequestMarshaller(), null);
     }
     
     /**
@@ -2478,12 +2600,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCompletedAsync(final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskCompleted(respondActivityTaskCompletedRequest);
-                return null;
-        }
-    });
+        return respondActivityTaskCompletedComposableAsync(respondActivityTaskCompletedRequest);
     }
 
     /**
@@ -2561,18 +2678,33 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest,
             final AsyncHandler<RespondActivityTaskCompletedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(respondActivityTaskCompletedComposableAsync(respondActivityTaskCompletedRequest),
+                respondActivityTaskCompletedRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RespondActivityTaskCompleted operation
+     * like
+     * {@link #respondActivityTaskCompletedAsync(RespondActivityTaskCompletedRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param respondActivityTaskCompletedRequest Container for the necessary
+     *           parameters to execute the RespondActivityTaskCompleted operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RespondActivityTaskCompleted service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> respondActivityTaskCompletedComposableAsync(final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 respondActivityTaskCompleted(respondActivityTaskCompletedRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(respondActivityTaskCompletedRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, respondActivityTaskCompletedRequest,
+                new RespondActivityTaskCompletedRequestMarshaller(), null);
     }
     
     /**
@@ -2639,11 +2771,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTask> pollForActivityTaskAsync(final PollForActivityTaskRequest pollForActivityTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTask>() {
-            public ActivityTask call() throws Exception {
-                return pollForActivityTask(pollForActivityTaskRequest);
-        }
-    });
+        return pollForActivityTaskComposableAsync(pollForActivityTaskRequest);
     }
 
     /**
@@ -2716,19 +2844,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForActivityTaskRequest pollForActivityTaskRequest,
             final AsyncHandler<PollForActivityTaskRequest, ActivityTask> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTask>() {
+        return withAsyncHandler(pollForActivityTaskComposableAsync(pollForActivityTaskRequest),
+                pollForActivityTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PollForActivityTask operation like
+     * {@link #pollForActivityTaskAsync(PollForActivityTaskRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param pollForActivityTaskRequest Container for the necessary
+     *           parameters to execute the PollForActivityTask operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         PollForActivityTask service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<ActivityTask> pollForActivityTaskComposableAsync(final PollForActivityTaskRequest pollForActivityTaskRequest) {
+        return executeAsync(executorService, new Callable<ActivityTask>() {
             public ActivityTask call() throws Exception {
-              ActivityTask result;
-                try {
-                result = pollForActivityTask(pollForActivityTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(pollForActivityTaskRequest, result);
-                 return result;
-        }
-    });
+                return pollForActivityTask(pollForActivityTaskRequest);
+            }
+        }, pollForActivityTaskRequest,
+                new PollForActivityTaskRequestMarshaller(), new ActivityTaskJsonUnmarshaller());
     }
     
     /**
@@ -2796,11 +2936,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countOpenWorkflowExecutionsAsync(final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
-            public WorkflowExecutionCount call() throws Exception {
-                return countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
-        }
-    });
+        return countOpenWorkflowExecutionsComposableAsync(countOpenWorkflowExecutionsRequest);
     }
 
     /**
@@ -2874,19 +3010,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest,
             final AsyncHandler<CountOpenWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
+        return withAsyncHandler(countOpenWorkflowExecutionsComposableAsync(countOpenWorkflowExecutionsRequest),
+                countOpenWorkflowExecutionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CountOpenWorkflowExecutions operation
+     * like
+     * {@link #countOpenWorkflowExecutionsAsync(CountOpenWorkflowExecutionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param countOpenWorkflowExecutionsRequest Container for the necessary
+     *           parameters to execute the CountOpenWorkflowExecutions operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         CountOpenWorkflowExecutions service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowExecutionCount> countOpenWorkflowExecutionsComposableAsync(final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest) {
+        return executeAsync(executorService, new Callable<WorkflowExecutionCount>() {
             public WorkflowExecutionCount call() throws Exception {
-              WorkflowExecutionCount result;
-                try {
-                result = countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(countOpenWorkflowExecutionsRequest, result);
-                 return result;
-        }
-    });
+                return countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
+            }
+        }, countOpenWorkflowExecutionsRequest,
+                new CountOpenWorkflowExecutionsRequestMarshaller(), new WorkflowExecutionCountJsonUnmarshaller());
     }
     
     /**
@@ -2949,11 +3098,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeDetail> describeActivityTypeAsync(final DescribeActivityTypeRequest describeActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeDetail>() {
-            public ActivityTypeDetail call() throws Exception {
-                return describeActivityType(describeActivityTypeRequest);
-        }
-    });
+        return describeActivityTypeComposableAsync(describeActivityTypeRequest);
     }
 
     /**
@@ -3022,19 +3167,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeActivityTypeRequest describeActivityTypeRequest,
             final AsyncHandler<DescribeActivityTypeRequest, ActivityTypeDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeDetail>() {
+        return withAsyncHandler(describeActivityTypeComposableAsync(describeActivityTypeRequest),
+                describeActivityTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeActivityType operation like
+     * {@link #describeActivityTypeAsync(DescribeActivityTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeActivityTypeRequest Container for the necessary
+     *           parameters to execute the DescribeActivityType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DescribeActivityType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<ActivityTypeDetail> describeActivityTypeComposableAsync(final DescribeActivityTypeRequest describeActivityTypeRequest) {
+        return executeAsync(executorService, new Callable<ActivityTypeDetail>() {
             public ActivityTypeDetail call() throws Exception {
-              ActivityTypeDetail result;
-                try {
-                result = describeActivityType(describeActivityTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeActivityTypeRequest, result);
-                 return result;
-        }
-    });
+                return describeActivityType(describeActivityTypeRequest);
+            }
+        }, describeActivityTypeRequest,
+                new DescribeActivityTypeRequestMarshaller(), new ActivityTypeDetailJsonUnmarshaller());
     }
     
     /**
@@ -3104,11 +3261,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listOpenWorkflowExecutionsAsync(final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
-            public WorkflowExecutionInfos call() throws Exception {
-                return listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
-        }
-    });
+        return listOpenWorkflowExecutionsComposableAsync(listOpenWorkflowExecutionsRequest);
     }
 
     /**
@@ -3184,19 +3337,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest,
             final AsyncHandler<ListOpenWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return withAsyncHandler(listOpenWorkflowExecutionsComposableAsync(listOpenWorkflowExecutionsRequest),
+                listOpenWorkflowExecutionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListOpenWorkflowExecutions operation
+     * like
+     * {@link #listOpenWorkflowExecutionsAsync(ListOpenWorkflowExecutionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listOpenWorkflowExecutionsRequest Container for the necessary
+     *           parameters to execute the ListOpenWorkflowExecutions operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         ListOpenWorkflowExecutions service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowExecutionInfos> listOpenWorkflowExecutionsComposableAsync(final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest) {
+        return executeAsync(executorService, new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
-              WorkflowExecutionInfos result;
-                try {
-                result = listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listOpenWorkflowExecutionsRequest, result);
-                 return result;
-        }
-    });
+                return listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
+            }
+        }, listOpenWorkflowExecutionsRequest,
+                new ListOpenWorkflowExecutionsRequestMarshaller(), new WorkflowExecutionInfosJsonUnmarshaller());
     }
     
     /**
@@ -3256,11 +3422,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<History> getWorkflowExecutionHistoryAsync(final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<History>() {
-            public History call() throws Exception {
-                return getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
-        }
-    });
+        return getWorkflowExecutionHistoryComposableAsync(getWorkflowExecutionHistoryRequest);
     }
 
     /**
@@ -3326,19 +3488,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest,
             final AsyncHandler<GetWorkflowExecutionHistoryRequest, History> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<History>() {
+        return withAsyncHandler(getWorkflowExecutionHistoryComposableAsync(getWorkflowExecutionHistoryRequest),
+                getWorkflowExecutionHistoryRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetWorkflowExecutionHistory operation
+     * like
+     * {@link #getWorkflowExecutionHistoryAsync(GetWorkflowExecutionHistoryRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getWorkflowExecutionHistoryRequest Container for the necessary
+     *           parameters to execute the GetWorkflowExecutionHistory operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         GetWorkflowExecutionHistory service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<History> getWorkflowExecutionHistoryComposableAsync(final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest) {
+        return executeAsync(executorService, new Callable<History>() {
             public History call() throws Exception {
-              History result;
-                try {
-                result = getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getWorkflowExecutionHistoryRequest, result);
-                 return result;
-        }
-    });
+                return getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
+            }
+        }, getWorkflowExecutionHistoryRequest,
+                new GetWorkflowExecutionHistoryRequestMarshaller(), new HistoryJsonUnmarshaller());
     }
     
     /**
@@ -3390,12 +3565,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerDomainAsync(final RegisterDomainRequest registerDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerDomain(registerDomainRequest);
-                return null;
-        }
-    });
+        return registerDomainComposableAsync(registerDomainRequest);
     }
 
     /**
@@ -3453,18 +3623,29 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterDomainRequest registerDomainRequest,
             final AsyncHandler<RegisterDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(registerDomainComposableAsync(registerDomainRequest),
+                registerDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterDomain operation like
+     * {@link #registerDomainAsync(RegisterDomainRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param registerDomainRequest Container for the necessary parameters to
+     *           execute the RegisterDomain operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the RegisterDomain
+     *         service method, as returned by AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> registerDomainComposableAsync(final RegisterDomainRequest registerDomainRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 registerDomain(registerDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerDomainRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, registerDomainRequest,
+                new RegisterDomainRequestMarshaller(), null);
     }
     
     /**
@@ -3534,12 +3715,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerActivityTypeAsync(final RegisterActivityTypeRequest registerActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerActivityType(registerActivityTypeRequest);
-                return null;
-        }
-    });
+        return registerActivityTypeComposableAsync(registerActivityTypeRequest);
     }
 
     /**
@@ -3615,18 +3791,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterActivityTypeRequest registerActivityTypeRequest,
             final AsyncHandler<RegisterActivityTypeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(registerActivityTypeComposableAsync(registerActivityTypeRequest),
+                registerActivityTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RegisterActivityType operation like
+     * {@link #registerActivityTypeAsync(RegisterActivityTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param registerActivityTypeRequest Container for the necessary
+     *           parameters to execute the RegisterActivityType operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RegisterActivityType service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> registerActivityTypeComposableAsync(final RegisterActivityTypeRequest registerActivityTypeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 registerActivityType(registerActivityTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerActivityTypeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, registerActivityTypeRequest,
+                new RegisterActivityTypeRequestMarshaller(), null);
     }
     
     /**
@@ -3696,11 +3886,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listClosedWorkflowExecutionsAsync(final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
-            public WorkflowExecutionInfos call() throws Exception {
-                return listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
-        }
-    });
+        return listClosedWorkflowExecutionsComposableAsync(listClosedWorkflowExecutionsRequest);
     }
 
     /**
@@ -3776,19 +3962,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest,
             final AsyncHandler<ListClosedWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
+        return withAsyncHandler(listClosedWorkflowExecutionsComposableAsync(listClosedWorkflowExecutionsRequest),
+                listClosedWorkflowExecutionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListClosedWorkflowExecutions operation
+     * like
+     * {@link #listClosedWorkflowExecutionsAsync(ListClosedWorkflowExecutionsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listClosedWorkflowExecutionsRequest Container for the necessary
+     *           parameters to execute the ListClosedWorkflowExecutions operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         ListClosedWorkflowExecutions service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowExecutionInfos> listClosedWorkflowExecutionsComposableAsync(final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest) {
+        return executeAsync(executorService, new Callable<WorkflowExecutionInfos>() {
             public WorkflowExecutionInfos call() throws Exception {
-              WorkflowExecutionInfos result;
-                try {
-                result = listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listClosedWorkflowExecutionsRequest, result);
-                 return result;
-        }
-    });
+                return listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
+            }
+        }, listClosedWorkflowExecutionsRequest,
+                new ListClosedWorkflowExecutionsRequestMarshaller(), new WorkflowExecutionInfosJsonUnmarshaller());
     }
     
     /**
@@ -3878,11 +4077,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTaskStatus> recordActivityTaskHeartbeatAsync(final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTaskStatus>() {
-            public ActivityTaskStatus call() throws Exception {
-                return recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
-        }
-    });
+        return recordActivityTaskHeartbeatComposableAsync(recordActivityTaskHeartbeatRequest);
     }
 
     /**
@@ -3978,19 +4173,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest,
             final AsyncHandler<RecordActivityTaskHeartbeatRequest, ActivityTaskStatus> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTaskStatus>() {
+        return withAsyncHandler(recordActivityTaskHeartbeatComposableAsync(recordActivityTaskHeartbeatRequest),
+                recordActivityTaskHeartbeatRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RecordActivityTaskHeartbeat operation
+     * like
+     * {@link #recordActivityTaskHeartbeatAsync(RecordActivityTaskHeartbeatRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param recordActivityTaskHeartbeatRequest Container for the necessary
+     *           parameters to execute the RecordActivityTaskHeartbeat operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RecordActivityTaskHeartbeat service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<ActivityTaskStatus> recordActivityTaskHeartbeatComposableAsync(final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest) {
+        return executeAsync(executorService, new Callable<ActivityTaskStatus>() {
             public ActivityTaskStatus call() throws Exception {
-              ActivityTaskStatus result;
-                try {
-                result = recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(recordActivityTaskHeartbeatRequest, result);
-                 return result;
-        }
-    });
+                return recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
+            }
+        }, recordActivityTaskHeartbeatRequest,
+                new RecordActivityTaskHeartbeatRequestMarshaller(), new ActivityTaskStatusJsonUnmarshaller());
     }
     
     /**
@@ -4070,11 +4278,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DecisionTask> pollForDecisionTaskAsync(final PollForDecisionTaskRequest pollForDecisionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecisionTask>() {
-            public DecisionTask call() throws Exception {
-                return pollForDecisionTask(pollForDecisionTaskRequest);
-        }
-    });
+        return pollForDecisionTaskComposableAsync(pollForDecisionTaskRequest);
     }
 
     /**
@@ -4160,19 +4364,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForDecisionTaskRequest pollForDecisionTaskRequest,
             final AsyncHandler<PollForDecisionTaskRequest, DecisionTask> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecisionTask>() {
+        return withAsyncHandler(pollForDecisionTaskComposableAsync(pollForDecisionTaskRequest),
+                pollForDecisionTaskRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PollForDecisionTask operation like
+     * {@link #pollForDecisionTaskAsync(PollForDecisionTaskRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param pollForDecisionTaskRequest Container for the necessary
+     *           parameters to execute the PollForDecisionTask operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         PollForDecisionTask service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<DecisionTask> pollForDecisionTaskComposableAsync(final PollForDecisionTaskRequest pollForDecisionTaskRequest) {
+        return executeAsync(executorService, new Callable<DecisionTask>() {
             public DecisionTask call() throws Exception {
-              DecisionTask result;
-                try {
-                result = pollForDecisionTask(pollForDecisionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(pollForDecisionTaskRequest, result);
-                 return result;
-        }
-    });
+                return pollForDecisionTask(pollForDecisionTaskRequest);
+            }
+        }, pollForDecisionTaskRequest,
+                new PollForDecisionTaskRequestMarshaller(), new DecisionTaskJsonUnmarshaller());
     }
     
     /**
@@ -4228,11 +4444,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeInfos> listActivityTypesAsync(final ListActivityTypesRequest listActivityTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeInfos>() {
-            public ActivityTypeInfos call() throws Exception {
-                return listActivityTypes(listActivityTypesRequest);
-        }
-    });
+        return listActivityTypesComposableAsync(listActivityTypesRequest);
     }
 
     /**
@@ -4294,19 +4506,30 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListActivityTypesRequest listActivityTypesRequest,
             final AsyncHandler<ListActivityTypesRequest, ActivityTypeInfos> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeInfos>() {
+        return withAsyncHandler(listActivityTypesComposableAsync(listActivityTypesRequest),
+                listActivityTypesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListActivityTypes operation like
+     * {@link #listActivityTypesAsync(ListActivityTypesRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listActivityTypesRequest Container for the necessary parameters
+     *           to execute the ListActivityTypes operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         ListActivityTypes service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<ActivityTypeInfos> listActivityTypesComposableAsync(final ListActivityTypesRequest listActivityTypesRequest) {
+        return executeAsync(executorService, new Callable<ActivityTypeInfos>() {
             public ActivityTypeInfos call() throws Exception {
-              ActivityTypeInfos result;
-                try {
-                result = listActivityTypes(listActivityTypesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listActivityTypesRequest, result);
-                 return result;
-        }
-    });
+                return listActivityTypes(listActivityTypesRequest);
+            }
+        }, listActivityTypesRequest,
+                new ListActivityTypesRequestMarshaller(), new ActivityTypeInfosJsonUnmarshaller());
     }
     
     /**
@@ -4358,11 +4581,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainDetail> describeDomainAsync(final DescribeDomainRequest describeDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainDetail>() {
-            public DomainDetail call() throws Exception {
-                return describeDomain(describeDomainRequest);
-        }
-    });
+        return describeDomainComposableAsync(describeDomainRequest);
     }
 
     /**
@@ -4420,19 +4639,28 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeDomainRequest describeDomainRequest,
             final AsyncHandler<DescribeDomainRequest, DomainDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainDetail>() {
+        return withAsyncHandler(describeDomainComposableAsync(describeDomainRequest),
+                describeDomainRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDomain operation like
+     * {@link #describeDomainAsync(DescribeDomainRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeDomainRequest Container for the necessary parameters to
+     *           execute the DescribeDomain operation on AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the DescribeDomain
+     *         service method, as returned by AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<DomainDetail> describeDomainComposableAsync(final DescribeDomainRequest describeDomainRequest) {
+        return executeAsync(executorService, new Callable<DomainDetail>() {
             public DomainDetail call() throws Exception {
-              DomainDetail result;
-                try {
-                result = describeDomain(describeDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDomainRequest, result);
-                 return result;
-        }
-    });
+                return describeDomain(describeDomainRequest);
+            }
+        }, describeDomainRequest,
+                new DescribeDomainRequestMarshaller(), new DomainDetailJsonUnmarshaller());
     }
     
     /**
@@ -4498,12 +4726,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskFailedAsync(final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskFailed(respondActivityTaskFailedRequest);
-                return null;
-        }
-    });
+        return respondActivityTaskFailedComposableAsync(respondActivityTaskFailedRequest);
     }
 
     /**
@@ -4575,18 +4798,32 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest,
             final AsyncHandler<RespondActivityTaskFailedRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(respondActivityTaskFailedComposableAsync(respondActivityTaskFailedRequest),
+                respondActivityTaskFailedRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RespondActivityTaskFailed operation like
+     * {@link #respondActivityTaskFailedAsync(RespondActivityTaskFailedRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param respondActivityTaskFailedRequest Container for the necessary
+     *           parameters to execute the RespondActivityTaskFailed operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         RespondActivityTaskFailed service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> respondActivityTaskFailedComposableAsync(final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 respondActivityTaskFailed(respondActivityTaskFailedRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(respondActivityTaskFailedRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, respondActivityTaskFailedRequest,
+                new RespondActivityTaskFailedRequestMarshaller(), null);
     }
     
     /**
@@ -4643,11 +4880,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingDecisionTasksAsync(final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
-            public PendingTaskCount call() throws Exception {
-                return countPendingDecisionTasks(countPendingDecisionTasksRequest);
-        }
-    });
+        return countPendingDecisionTasksComposableAsync(countPendingDecisionTasksRequest);
     }
 
     /**
@@ -4710,19 +4943,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest,
             final AsyncHandler<CountPendingDecisionTasksRequest, PendingTaskCount> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
+        return withAsyncHandler(countPendingDecisionTasksComposableAsync(countPendingDecisionTasksRequest),
+                countPendingDecisionTasksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CountPendingDecisionTasks operation like
+     * {@link #countPendingDecisionTasksAsync(CountPendingDecisionTasksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param countPendingDecisionTasksRequest Container for the necessary
+     *           parameters to execute the CountPendingDecisionTasks operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         CountPendingDecisionTasks service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<PendingTaskCount> countPendingDecisionTasksComposableAsync(final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest) {
+        return executeAsync(executorService, new Callable<PendingTaskCount>() {
             public PendingTaskCount call() throws Exception {
-              PendingTaskCount result;
-                try {
-                result = countPendingDecisionTasks(countPendingDecisionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(countPendingDecisionTasksRequest, result);
-                 return result;
-        }
-    });
+                return countPendingDecisionTasks(countPendingDecisionTasksRequest);
+            }
+        }, countPendingDecisionTasksRequest,
+                new CountPendingDecisionTasksRequestMarshaller(), new PendingTaskCountJsonUnmarshaller());
     }
     
     /**
@@ -4793,12 +5038,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> terminateWorkflowExecutionAsync(final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                terminateWorkflowExecution(terminateWorkflowExecutionRequest);
-                return null;
-        }
-    });
+        return terminateWorkflowExecutionComposableAsync(terminateWorkflowExecutionRequest);
     }
 
     /**
@@ -4875,18 +5115,33 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest,
             final AsyncHandler<TerminateWorkflowExecutionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(terminateWorkflowExecutionComposableAsync(terminateWorkflowExecutionRequest),
+                terminateWorkflowExecutionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the TerminateWorkflowExecution operation
+     * like
+     * {@link #terminateWorkflowExecutionAsync(TerminateWorkflowExecutionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param terminateWorkflowExecutionRequest Container for the necessary
+     *           parameters to execute the TerminateWorkflowExecution operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         TerminateWorkflowExecution service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<Void> terminateWorkflowExecutionComposableAsync(final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 terminateWorkflowExecution(terminateWorkflowExecutionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateWorkflowExecutionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, terminateWorkflowExecutionRequest,
+                new TerminateWorkflowExecutionRequestMarshaller(), null);
     }
     
     /**
@@ -4944,11 +5199,7 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionDetail> describeWorkflowExecutionAsync(final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionDetail>() {
-            public WorkflowExecutionDetail call() throws Exception {
-                return describeWorkflowExecution(describeWorkflowExecutionRequest);
-        }
-    });
+        return describeWorkflowExecutionComposableAsync(describeWorkflowExecutionRequest);
     }
 
     /**
@@ -5012,19 +5263,31 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest,
             final AsyncHandler<DescribeWorkflowExecutionRequest, WorkflowExecutionDetail> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionDetail>() {
+        return withAsyncHandler(describeWorkflowExecutionComposableAsync(describeWorkflowExecutionRequest),
+                describeWorkflowExecutionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeWorkflowExecution operation like
+     * {@link #describeWorkflowExecutionAsync(DescribeWorkflowExecutionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeWorkflowExecutionRequest Container for the necessary
+     *           parameters to execute the DescribeWorkflowExecution operation on
+     *           AmazonSimpleWorkflow.
+     *
+     * @return A composable future for the response from the
+     *         DescribeWorkflowExecution service method, as returned by
+     *         AmazonSimpleWorkflow.
+     */
+    public ComposableFuture<WorkflowExecutionDetail> describeWorkflowExecutionComposableAsync(final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest) {
+        return executeAsync(executorService, new Callable<WorkflowExecutionDetail>() {
             public WorkflowExecutionDetail call() throws Exception {
-              WorkflowExecutionDetail result;
-                try {
-                result = describeWorkflowExecution(describeWorkflowExecutionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeWorkflowExecutionRequest, result);
-                 return result;
-        }
-    });
+                return describeWorkflowExecution(describeWorkflowExecutionRequest);
+            }
+        }, describeWorkflowExecutionRequest,
+                new DescribeWorkflowExecutionRequestMarshaller(), new WorkflowExecutionDetailJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.sns.model.*;
+import com.amazonaws.services.sns.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSNS.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Simple Notification Service <p>
  * Amazon Simple Notification Service (Amazon SNS) is a web service that
  * enables you to build distributed web-enabled applications.
@@ -312,11 +316,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(final ConfirmSubscriptionRequest confirmSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                return confirmSubscription(confirmSubscriptionRequest);
-        }
-    });
+        return confirmSubscriptionComposableAsync(confirmSubscriptionRequest);
     }
 
     /**
@@ -352,19 +352,30 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
+        return withAsyncHandler(confirmSubscriptionComposableAsync(confirmSubscriptionRequest),
+                confirmSubscriptionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ConfirmSubscription operation like
+     * {@link #confirmSubscriptionAsync(ConfirmSubscriptionRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param confirmSubscriptionRequest Container for the necessary
+     *           parameters to execute the ConfirmSubscription operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         ConfirmSubscription service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<ConfirmSubscriptionResult> confirmSubscriptionComposableAsync(final ConfirmSubscriptionRequest confirmSubscriptionRequest) {
+        return executeAsync(executorService, new Callable<ConfirmSubscriptionResult>() {
             public ConfirmSubscriptionResult call() throws Exception {
-              ConfirmSubscriptionResult result;
-                try {
-                result = confirmSubscription(confirmSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmSubscriptionRequest, result);
-                 return result;
-        }
-    });
+                return confirmSubscription(confirmSubscriptionRequest);
+            }
+        }, confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(), new ConfirmSubscriptionResultStaxUnmarshaller());
     }
     
     /**
@@ -406,11 +417,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(final CreatePlatformApplicationRequest createPlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                return createPlatformApplication(createPlatformApplicationRequest);
-        }
-    });
+        return createPlatformApplicationComposableAsync(createPlatformApplicationRequest);
     }
 
     /**
@@ -458,19 +465,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
+        return withAsyncHandler(createPlatformApplicationComposableAsync(createPlatformApplicationRequest),
+                createPlatformApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePlatformApplication operation like
+     * {@link #createPlatformApplicationAsync(CreatePlatformApplicationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPlatformApplicationRequest Container for the necessary
+     *           parameters to execute the CreatePlatformApplication operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         CreatePlatformApplication service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<CreatePlatformApplicationResult> createPlatformApplicationComposableAsync(final CreatePlatformApplicationRequest createPlatformApplicationRequest) {
+        return executeAsync(executorService, new Callable<CreatePlatformApplicationResult>() {
             public CreatePlatformApplicationResult call() throws Exception {
-              CreatePlatformApplicationResult result;
-                try {
-                result = createPlatformApplication(createPlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlatformApplicationRequest, result);
-                 return result;
-        }
-    });
+                return createPlatformApplication(createPlatformApplicationRequest);
+            }
+        }, createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(), new CreatePlatformApplicationResultStaxUnmarshaller());
     }
     
     /**
@@ -496,11 +515,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetTopicAttributesResult> getTopicAttributesAsync(final GetTopicAttributesRequest getTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                return getTopicAttributes(getTopicAttributesRequest);
-        }
-    });
+        return getTopicAttributesComposableAsync(getTopicAttributesRequest);
     }
 
     /**
@@ -532,19 +547,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
+        return withAsyncHandler(getTopicAttributesComposableAsync(getTopicAttributesRequest),
+                getTopicAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetTopicAttributes operation like
+     * {@link #getTopicAttributesAsync(GetTopicAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getTopicAttributesRequest Container for the necessary
+     *           parameters to execute the GetTopicAttributes operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         GetTopicAttributes service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<GetTopicAttributesResult> getTopicAttributesComposableAsync(final GetTopicAttributesRequest getTopicAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetTopicAttributesResult>() {
             public GetTopicAttributesResult call() throws Exception {
-              GetTopicAttributesResult result;
-                try {
-                result = getTopicAttributes(getTopicAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getTopicAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getTopicAttributes(getTopicAttributesRequest);
+            }
+        }, getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(), new GetTopicAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -573,11 +598,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                return subscribe(subscribeRequest);
-        }
-    });
+        return subscribeComposableAsync(subscribeRequest);
     }
 
     /**
@@ -612,19 +633,28 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
+        return withAsyncHandler(subscribeComposableAsync(subscribeRequest),
+                subscribeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Subscribe operation like
+     * {@link #subscribeAsync(SubscribeRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param subscribeRequest Container for the necessary parameters to
+     *           execute the Subscribe operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the Subscribe
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<SubscribeResult> subscribeComposableAsync(final SubscribeRequest subscribeRequest) {
+        return executeAsync(executorService, new Callable<SubscribeResult>() {
             public SubscribeResult call() throws Exception {
-              SubscribeResult result;
-                try {
-                result = subscribe(subscribeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(subscribeRequest, result);
-                 return result;
-        }
-    });
+                return subscribe(subscribeRequest);
+            }
+        }, subscribeRequest,
+                new SubscribeRequestMarshaller(), new SubscribeResultStaxUnmarshaller());
     }
     
     /**
@@ -652,12 +682,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEndpoint(deleteEndpointRequest);
-                return null;
-        }
-    });
+        return deleteEndpointComposableAsync(deleteEndpointRequest);
     }
 
     /**
@@ -691,18 +716,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteEndpointComposableAsync(deleteEndpointRequest),
+                deleteEndpointRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteEndpoint operation like
+     * {@link #deleteEndpointAsync(DeleteEndpointRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteEndpointRequest Container for the necessary parameters to
+     *           execute the DeleteEndpoint operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the DeleteEndpoint
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> deleteEndpointComposableAsync(final DeleteEndpointRequest deleteEndpointRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteEndpoint(deleteEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteEndpointRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(), null);
     }
     
     /**
@@ -727,12 +763,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setTopicAttributesAsync(final SetTopicAttributesRequest setTopicAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTopicAttributes(setTopicAttributesRequest);
-                return null;
-        }
-    });
+        return setTopicAttributesComposableAsync(setTopicAttributesRequest);
     }
 
     /**
@@ -763,18 +794,30 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setTopicAttributesComposableAsync(setTopicAttributesRequest),
+                setTopicAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetTopicAttributes operation like
+     * {@link #setTopicAttributesAsync(SetTopicAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setTopicAttributesRequest Container for the necessary
+     *           parameters to execute the SetTopicAttributes operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         SetTopicAttributes service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> setTopicAttributesComposableAsync(final SetTopicAttributesRequest setTopicAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setTopicAttributes(setTopicAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setTopicAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -799,12 +842,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-        }
-    });
+        return removePermissionComposableAsync(removePermissionRequest);
     }
 
     /**
@@ -835,18 +873,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removePermissionComposableAsync(removePermissionRequest),
+                removePermissionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemovePermission operation like
+     * {@link #removePermissionAsync(RemovePermissionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         RemovePermission service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> removePermissionComposableAsync(final RemovePermissionRequest removePermissionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removePermission(removePermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removePermissionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removePermissionRequest,
+                new RemovePermissionRequestMarshaller(), null);
     }
     
     /**
@@ -876,11 +925,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(final GetEndpointAttributesRequest getEndpointAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                return getEndpointAttributes(getEndpointAttributesRequest);
-        }
-    });
+        return getEndpointAttributesComposableAsync(getEndpointAttributesRequest);
     }
 
     /**
@@ -916,19 +961,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
+        return withAsyncHandler(getEndpointAttributesComposableAsync(getEndpointAttributesRequest),
+                getEndpointAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetEndpointAttributes operation like
+     * {@link #getEndpointAttributesAsync(GetEndpointAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getEndpointAttributesRequest Container for the necessary
+     *           parameters to execute the GetEndpointAttributes operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         GetEndpointAttributes service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<GetEndpointAttributesResult> getEndpointAttributesComposableAsync(final GetEndpointAttributesRequest getEndpointAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetEndpointAttributesResult>() {
             public GetEndpointAttributesResult call() throws Exception {
-              GetEndpointAttributesResult result;
-                try {
-                result = getEndpointAttributes(getEndpointAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getEndpointAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getEndpointAttributes(getEndpointAttributesRequest);
+            }
+        }, getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(), new GetEndpointAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -957,11 +1014,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListSubscriptionsResult> listSubscriptionsAsync(final ListSubscriptionsRequest listSubscriptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                return listSubscriptions(listSubscriptionsRequest);
-        }
-    });
+        return listSubscriptionsComposableAsync(listSubscriptionsRequest);
     }
 
     /**
@@ -996,19 +1049,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
+        return withAsyncHandler(listSubscriptionsComposableAsync(listSubscriptionsRequest),
+                listSubscriptionsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListSubscriptions operation like
+     * {@link #listSubscriptionsAsync(ListSubscriptionsRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param listSubscriptionsRequest Container for the necessary parameters
+     *           to execute the ListSubscriptions operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         ListSubscriptions service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<ListSubscriptionsResult> listSubscriptionsComposableAsync(final ListSubscriptionsRequest listSubscriptionsRequest) {
+        return executeAsync(executorService, new Callable<ListSubscriptionsResult>() {
             public ListSubscriptionsResult call() throws Exception {
-              ListSubscriptionsResult result;
-                try {
-                result = listSubscriptions(listSubscriptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSubscriptionsRequest, result);
-                 return result;
-        }
-    });
+                return listSubscriptions(listSubscriptionsRequest);
+            }
+        }, listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(), new ListSubscriptionsResultStaxUnmarshaller());
     }
     
     /**
@@ -1054,11 +1117,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(final CreatePlatformEndpointRequest createPlatformEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                return createPlatformEndpoint(createPlatformEndpointRequest);
-        }
-    });
+        return createPlatformEndpointComposableAsync(createPlatformEndpointRequest);
     }
 
     /**
@@ -1110,19 +1169,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
+        return withAsyncHandler(createPlatformEndpointComposableAsync(createPlatformEndpointRequest),
+                createPlatformEndpointRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreatePlatformEndpoint operation like
+     * {@link #createPlatformEndpointAsync(CreatePlatformEndpointRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createPlatformEndpointRequest Container for the necessary
+     *           parameters to execute the CreatePlatformEndpoint operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         CreatePlatformEndpoint service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<CreatePlatformEndpointResult> createPlatformEndpointComposableAsync(final CreatePlatformEndpointRequest createPlatformEndpointRequest) {
+        return executeAsync(executorService, new Callable<CreatePlatformEndpointResult>() {
             public CreatePlatformEndpointResult call() throws Exception {
-              CreatePlatformEndpointResult result;
-                try {
-                result = createPlatformEndpoint(createPlatformEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlatformEndpointRequest, result);
-                 return result;
-        }
-    });
+                return createPlatformEndpoint(createPlatformEndpointRequest);
+            }
+        }, createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(), new CreatePlatformEndpointResultStaxUnmarshaller());
     }
     
     /**
@@ -1149,12 +1220,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setSubscriptionAttributesAsync(final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                return null;
-        }
-    });
+        return setSubscriptionAttributesComposableAsync(setSubscriptionAttributesRequest);
     }
 
     /**
@@ -1187,18 +1253,32 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setSubscriptionAttributesComposableAsync(setSubscriptionAttributesRequest),
+                setSubscriptionAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetSubscriptionAttributes operation like
+     * {@link #setSubscriptionAttributesAsync(SetSubscriptionAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setSubscriptionAttributesRequest Container for the necessary
+     *           parameters to execute the SetSubscriptionAttributes operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         SetSubscriptionAttributes service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<Void> setSubscriptionAttributesComposableAsync(final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setSubscriptionAttributes(setSubscriptionAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setSubscriptionAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -1228,11 +1308,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                return createTopic(createTopicRequest);
-        }
-    });
+        return createTopicComposableAsync(createTopicRequest);
     }
 
     /**
@@ -1268,19 +1344,28 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
+        return withAsyncHandler(createTopicComposableAsync(createTopicRequest),
+                createTopicRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTopic operation like
+     * {@link #createTopicAsync(CreateTopicRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTopicRequest Container for the necessary parameters to
+     *           execute the CreateTopic operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the CreateTopic
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<CreateTopicResult> createTopicComposableAsync(final CreateTopicRequest createTopicRequest) {
+        return executeAsync(executorService, new Callable<CreateTopicResult>() {
             public CreateTopicResult call() throws Exception {
-              CreateTopicResult result;
-                try {
-                result = createTopic(createTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTopicRequest, result);
-                 return result;
-        }
-    });
+                return createTopic(createTopicRequest);
+            }
+        }, createTopicRequest,
+                new CreateTopicRequestMarshaller(), new CreateTopicResultStaxUnmarshaller());
     }
     
     /**
@@ -1306,11 +1391,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
-        }
-    });
+        return getSubscriptionAttributesComposableAsync(getSubscriptionAttributesRequest);
     }
 
     /**
@@ -1342,19 +1423,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
+        return withAsyncHandler(getSubscriptionAttributesComposableAsync(getSubscriptionAttributesRequest),
+                getSubscriptionAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetSubscriptionAttributes operation like
+     * {@link #getSubscriptionAttributesAsync(GetSubscriptionAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getSubscriptionAttributesRequest Container for the necessary
+     *           parameters to execute the GetSubscriptionAttributes operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         GetSubscriptionAttributes service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<GetSubscriptionAttributesResult> getSubscriptionAttributesComposableAsync(final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetSubscriptionAttributesResult>() {
             public GetSubscriptionAttributesResult call() throws Exception {
-              GetSubscriptionAttributesResult result;
-                try {
-                result = getSubscriptionAttributes(getSubscriptionAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSubscriptionAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
+            }
+        }, getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(), new GetSubscriptionAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1383,11 +1476,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                return listTopics(listTopicsRequest);
-        }
-    });
+        return listTopicsComposableAsync(listTopicsRequest);
     }
 
     /**
@@ -1422,19 +1511,28 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
+        return withAsyncHandler(listTopicsComposableAsync(listTopicsRequest),
+                listTopicsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListTopics operation like
+     * {@link #listTopicsAsync(ListTopicsRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listTopicsRequest Container for the necessary parameters to
+     *           execute the ListTopics operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the ListTopics
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<ListTopicsResult> listTopicsComposableAsync(final ListTopicsRequest listTopicsRequest) {
+        return executeAsync(executorService, new Callable<ListTopicsResult>() {
             public ListTopicsResult call() throws Exception {
-              ListTopicsResult result;
-                try {
-                result = listTopics(listTopicsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listTopicsRequest, result);
-                 return result;
-        }
-    });
+                return listTopics(listTopicsRequest);
+            }
+        }, listTopicsRequest,
+                new ListTopicsRequestMarshaller(), new ListTopicsResultStaxUnmarshaller());
     }
     
     /**
@@ -1463,12 +1561,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deletePlatformApplicationAsync(final DeletePlatformApplicationRequest deletePlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-                return null;
-        }
-    });
+        return deletePlatformApplicationComposableAsync(deletePlatformApplicationRequest);
     }
 
     /**
@@ -1503,18 +1596,32 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deletePlatformApplicationComposableAsync(deletePlatformApplicationRequest),
+                deletePlatformApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeletePlatformApplication operation like
+     * {@link #deletePlatformApplicationAsync(DeletePlatformApplicationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deletePlatformApplicationRequest Container for the necessary
+     *           parameters to execute the DeletePlatformApplication operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         DeletePlatformApplication service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<Void> deletePlatformApplicationComposableAsync(final DeletePlatformApplicationRequest deletePlatformApplicationRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deletePlatformApplication(deletePlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlatformApplicationRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(), null);
     }
     
     /**
@@ -1550,11 +1657,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(final ListPlatformApplicationsRequest listPlatformApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                return listPlatformApplications(listPlatformApplicationsRequest);
-        }
-    });
+        return listPlatformApplicationsComposableAsync(listPlatformApplicationsRequest);
     }
 
     /**
@@ -1596,19 +1699,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
+        return withAsyncHandler(listPlatformApplicationsComposableAsync(listPlatformApplicationsRequest),
+                listPlatformApplicationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListPlatformApplications operation like
+     * {@link #listPlatformApplicationsAsync(ListPlatformApplicationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listPlatformApplicationsRequest Container for the necessary
+     *           parameters to execute the ListPlatformApplications operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         ListPlatformApplications service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<ListPlatformApplicationsResult> listPlatformApplicationsComposableAsync(final ListPlatformApplicationsRequest listPlatformApplicationsRequest) {
+        return executeAsync(executorService, new Callable<ListPlatformApplicationsResult>() {
             public ListPlatformApplicationsResult call() throws Exception {
-              ListPlatformApplicationsResult result;
-                try {
-                result = listPlatformApplications(listPlatformApplicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listPlatformApplicationsRequest, result);
-                 return result;
-        }
-    });
+                return listPlatformApplications(listPlatformApplicationsRequest);
+            }
+        }, listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(), new ListPlatformApplicationsResultStaxUnmarshaller());
     }
     
     /**
@@ -1638,12 +1753,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setEndpointAttributesAsync(final SetEndpointAttributesRequest setEndpointAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setEndpointAttributes(setEndpointAttributesRequest);
-                return null;
-        }
-    });
+        return setEndpointAttributesComposableAsync(setEndpointAttributesRequest);
     }
 
     /**
@@ -1679,18 +1789,32 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setEndpointAttributesComposableAsync(setEndpointAttributesRequest),
+                setEndpointAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetEndpointAttributes operation like
+     * {@link #setEndpointAttributesAsync(SetEndpointAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setEndpointAttributesRequest Container for the necessary
+     *           parameters to execute the SetEndpointAttributes operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         SetEndpointAttributes service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<Void> setEndpointAttributesComposableAsync(final SetEndpointAttributesRequest setEndpointAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setEndpointAttributes(setEndpointAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setEndpointAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -1722,12 +1846,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unsubscribe(unsubscribeRequest);
-                return null;
-        }
-    });
+        return unsubscribeComposableAsync(unsubscribeRequest);
     }
 
     /**
@@ -1765,18 +1884,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(unsubscribeComposableAsync(unsubscribeRequest),
+                unsubscribeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Unsubscribe operation like
+     * {@link #unsubscribeAsync(UnsubscribeRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param unsubscribeRequest Container for the necessary parameters to
+     *           execute the Unsubscribe operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the Unsubscribe
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> unsubscribeComposableAsync(final UnsubscribeRequest unsubscribeRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 unsubscribe(unsubscribeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unsubscribeRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, unsubscribeRequest,
+                new UnsubscribeRequestMarshaller(), null);
     }
     
     /**
@@ -1804,12 +1934,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTopic(deleteTopicRequest);
-                return null;
-        }
-    });
+        return deleteTopicComposableAsync(deleteTopicRequest);
     }
 
     /**
@@ -1843,18 +1968,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteTopicComposableAsync(deleteTopicRequest),
+                deleteTopicRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTopic operation like
+     * {@link #deleteTopicAsync(DeleteTopicRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTopicRequest Container for the necessary parameters to
+     *           execute the DeleteTopic operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the DeleteTopic
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> deleteTopicComposableAsync(final DeleteTopicRequest deleteTopicRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteTopic(deleteTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTopicRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteTopicRequest,
+                new DeleteTopicRequestMarshaller(), null);
     }
     
     /**
@@ -1885,11 +2021,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-        }
-    });
+        return getPlatformApplicationAttributesComposableAsync(getPlatformApplicationAttributesRequest);
     }
 
     /**
@@ -1926,19 +2058,32 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
+        return withAsyncHandler(getPlatformApplicationAttributesComposableAsync(getPlatformApplicationAttributesRequest),
+                getPlatformApplicationAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetPlatformApplicationAttributes
+     * operation like
+     * {@link #getPlatformApplicationAttributesAsync(GetPlatformApplicationAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getPlatformApplicationAttributesRequest Container for the
+     *           necessary parameters to execute the GetPlatformApplicationAttributes
+     *           operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         GetPlatformApplicationAttributes service method, as returned
+     *         by AmazonSNS.
+     */
+    public ComposableFuture<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesComposableAsync(final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetPlatformApplicationAttributesResult>() {
             public GetPlatformApplicationAttributesResult call() throws Exception {
-              GetPlatformApplicationAttributesResult result;
-                try {
-                result = getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPlatformApplicationAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
+            }
+        }, getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(), new GetPlatformApplicationAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1969,12 +2114,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> setPlatformApplicationAttributesAsync(final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                return null;
-        }
-    });
+        return setPlatformApplicationAttributesComposableAsync(setPlatformApplicationAttributesRequest);
     }
 
     /**
@@ -2011,18 +2151,33 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setPlatformApplicationAttributesComposableAsync(setPlatformApplicationAttributesRequest),
+                setPlatformApplicationAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetPlatformApplicationAttributes
+     * operation like
+     * {@link #setPlatformApplicationAttributesAsync(SetPlatformApplicationAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setPlatformApplicationAttributesRequest Container for the
+     *           necessary parameters to execute the SetPlatformApplicationAttributes
+     *           operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         SetPlatformApplicationAttributes service method, as returned
+     *         by AmazonSNS.
+     */
+    public ComposableFuture<Void> setPlatformApplicationAttributesComposableAsync(final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setPlatformApplicationAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -2048,12 +2203,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-        }
-    });
+        return addPermissionComposableAsync(addPermissionRequest);
     }
 
     /**
@@ -2085,18 +2235,29 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addPermissionComposableAsync(addPermissionRequest),
+                addPermissionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddPermission operation like
+     * {@link #addPermissionAsync(AddPermissionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the AddPermission
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<Void> addPermissionComposableAsync(final AddPermissionRequest addPermissionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addPermission(addPermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addPermissionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addPermissionRequest,
+                new AddPermissionRequestMarshaller(), null);
     }
     
     /**
@@ -2134,11 +2295,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-        }
-    });
+        return listEndpointsByPlatformApplicationComposableAsync(listEndpointsByPlatformApplicationRequest);
     }
 
     /**
@@ -2182,19 +2339,32 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
+        return withAsyncHandler(listEndpointsByPlatformApplicationComposableAsync(listEndpointsByPlatformApplicationRequest),
+                listEndpointsByPlatformApplicationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListEndpointsByPlatformApplication
+     * operation like
+     * {@link #listEndpointsByPlatformApplicationAsync(ListEndpointsByPlatformApplicationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listEndpointsByPlatformApplicationRequest Container for the
+     *           necessary parameters to execute the ListEndpointsByPlatformApplication
+     *           operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         ListEndpointsByPlatformApplication service method, as
+     *         returned by AmazonSNS.
+     */
+    public ComposableFuture<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationComposableAsync(final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest) {
+        return executeAsync(executorService, new Callable<ListEndpointsByPlatformApplicationResult>() {
             public ListEndpointsByPlatformApplicationResult call() throws Exception {
-              ListEndpointsByPlatformApplicationResult result;
-                try {
-                result = listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listEndpointsByPlatformApplicationRequest, result);
-                 return result;
-        }
-    });
+                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
+            }
+        }, listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(), new ListEndpointsByPlatformApplicationResultStaxUnmarshaller());
     }
     
     /**
@@ -2224,11 +2394,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-        }
-    });
+        return listSubscriptionsByTopicComposableAsync(listSubscriptionsByTopicRequest);
     }
 
     /**
@@ -2264,19 +2430,31 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
+        return withAsyncHandler(listSubscriptionsByTopicComposableAsync(listSubscriptionsByTopicRequest),
+                listSubscriptionsByTopicRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListSubscriptionsByTopic operation like
+     * {@link #listSubscriptionsByTopicAsync(ListSubscriptionsByTopicRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listSubscriptionsByTopicRequest Container for the necessary
+     *           parameters to execute the ListSubscriptionsByTopic operation on
+     *           AmazonSNS.
+     *
+     * @return A composable future for the response from the
+     *         ListSubscriptionsByTopic service method, as returned by
+     *         AmazonSNS.
+     */
+    public ComposableFuture<ListSubscriptionsByTopicResult> listSubscriptionsByTopicComposableAsync(final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest) {
+        return executeAsync(executorService, new Callable<ListSubscriptionsByTopicResult>() {
             public ListSubscriptionsByTopicResult call() throws Exception {
-              ListSubscriptionsByTopicResult result;
-                try {
-                result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
-                 return result;
-        }
-    });
+                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
+            }
+        }, listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(), new ListSubscriptionsByTopicResultStaxUnmarshaller());
     }
     
     /**
@@ -2313,11 +2491,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
      */
     public Future<PublishResult> publishAsync(final PublishRequest publishRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                return publish(publishRequest);
-        }
-    });
+        return publishComposableAsync(publishRequest);
     }
 
     /**
@@ -2360,19 +2534,28 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient
             final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
+        return withAsyncHandler(publishComposableAsync(publishRequest),
+                publishRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the Publish operation like
+     * {@link #publishAsync(PublishRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param publishRequest Container for the necessary parameters to
+     *           execute the Publish operation on AmazonSNS.
+     *
+     * @return A composable future for the response from the Publish
+     *         service method, as returned by AmazonSNS.
+     */
+    public ComposableFuture<PublishResult> publishComposableAsync(final PublishRequest publishRequest) {
+        return executeAsync(executorService, new Callable<PublishResult>() {
             public PublishResult call() throws Exception {
-              PublishResult result;
-                try {
-                result = publish(publishRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(publishRequest, result);
-                 return result;
-        }
-    });
+                return publish(publishRequest);
+            }
+        }, publishRequest,
+                new PublishRequestMarshaller(), new PublishResultStaxUnmarshaller());
     }
     
 }
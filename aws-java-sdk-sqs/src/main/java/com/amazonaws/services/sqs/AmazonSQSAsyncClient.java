@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.sqs.model.*;
+import com.amazonaws.services.sqs.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSQS.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * Amazon Simple Queue Service <p>
  * Welcome to the <i>Amazon Simple Queue Service API Reference</i> . This
  * section describes who should read this guide, how the guide is
@@ -356,12 +360,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> setQueueAttributesAsync(final SetQueueAttributesRequest setQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setQueueAttributes(setQueueAttributesRequest);
-                return null;
-        }
-    });
+        return setQueueAttributesComposableAsync(setQueueAttributesRequest);
     }
 
     /**
@@ -401,18 +400,30 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final SetQueueAttributesRequest setQueueAttributesRequest,
             final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(setQueueAttributesComposableAsync(setQueueAttributesRequest),
+                setQueueAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SetQueueAttributes operation like
+     * {@link #setQueueAttributesAsync(SetQueueAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param setQueueAttributesRequest Container for the necessary
+     *           parameters to execute the SetQueueAttributes operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         SetQueueAttributes service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> setQueueAttributesComposableAsync(final SetQueueAttributesRequest setQueueAttributesRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 setQueueAttributes(setQueueAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(setQueueAttributesRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, setQueueAttributesRequest,
+                new SetQueueAttributesRequestMarshaller(), null);
     }
     
     /**
@@ -460,11 +471,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-        }
-    });
+        return changeMessageVisibilityBatchComposableAsync(changeMessageVisibilityBatchRequest);
     }
 
     /**
@@ -518,19 +525,32 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
             final AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
+        return withAsyncHandler(changeMessageVisibilityBatchComposableAsync(changeMessageVisibilityBatchRequest),
+                changeMessageVisibilityBatchRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ChangeMessageVisibilityBatch operation
+     * like
+     * {@link #changeMessageVisibilityBatchAsync(ChangeMessageVisibilityBatchRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param changeMessageVisibilityBatchRequest Container for the necessary
+     *           parameters to execute the ChangeMessageVisibilityBatch operation on
+     *           AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         ChangeMessageVisibilityBatch service method, as returned by
+     *         AmazonSQS.
+     */
+    public ComposableFuture<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchComposableAsync(final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) {
+        return executeAsync(executorService, new Callable<ChangeMessageVisibilityBatchResult>() {
             public ChangeMessageVisibilityBatchResult call() throws Exception {
-              ChangeMessageVisibilityBatchResult result;
-                try {
-                result = changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(changeMessageVisibilityBatchRequest, result);
-                 return result;
-        }
-    });
+                return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+            }
+        }, changeMessageVisibilityBatchRequest,
+                new ChangeMessageVisibilityBatchRequestMarshaller(), new ChangeMessageVisibilityBatchResultStaxUnmarshaller());
     }
     
     /**
@@ -595,12 +615,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> changeMessageVisibilityAsync(final ChangeMessageVisibilityRequest changeMessageVisibilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changeMessageVisibility(changeMessageVisibilityRequest);
-                return null;
-        }
-    });
+        return changeMessageVisibilityComposableAsync(changeMessageVisibilityRequest);
     }
 
     /**
@@ -671,18 +686,32 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
             final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(changeMessageVisibilityComposableAsync(changeMessageVisibilityRequest),
+                changeMessageVisibilityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ChangeMessageVisibility operation like
+     * {@link #changeMessageVisibilityAsync(ChangeMessageVisibilityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param changeMessageVisibilityRequest Container for the necessary
+     *           parameters to execute the ChangeMessageVisibility operation on
+     *           AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         ChangeMessageVisibility service method, as returned by
+     *         AmazonSQS.
+     */
+    public ComposableFuture<Void> changeMessageVisibilityComposableAsync(final ChangeMessageVisibilityRequest changeMessageVisibilityRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 changeMessageVisibility(changeMessageVisibilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(changeMessageVisibilityRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, changeMessageVisibilityRequest,
+                new ChangeMessageVisibilityRequestMarshaller(), null);
     }
     
     /**
@@ -717,11 +746,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                return getQueueUrl(getQueueUrlRequest);
-        }
-    });
+        return getQueueUrlComposableAsync(getQueueUrlRequest);
     }
 
     /**
@@ -762,19 +787,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final GetQueueUrlRequest getQueueUrlRequest,
             final AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
+        return withAsyncHandler(getQueueUrlComposableAsync(getQueueUrlRequest),
+                getQueueUrlRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetQueueUrl operation like
+     * {@link #getQueueUrlAsync(GetQueueUrlRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getQueueUrlRequest Container for the necessary parameters to
+     *           execute the GetQueueUrl operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the GetQueueUrl
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<GetQueueUrlResult> getQueueUrlComposableAsync(final GetQueueUrlRequest getQueueUrlRequest) {
+        return executeAsync(executorService, new Callable<GetQueueUrlResult>() {
             public GetQueueUrlResult call() throws Exception {
-              GetQueueUrlResult result;
-                try {
-                result = getQueueUrl(getQueueUrlRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getQueueUrlRequest, result);
-                 return result;
-        }
-    });
+                return getQueueUrl(getQueueUrlRequest);
+            }
+        }, getQueueUrlRequest,
+                new GetQueueUrlRequestMarshaller(), new GetQueueUrlResultStaxUnmarshaller());
     }
     
     /**
@@ -801,12 +835,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-        }
-    });
+        return removePermissionComposableAsync(removePermissionRequest);
     }
 
     /**
@@ -839,18 +868,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(removePermissionComposableAsync(removePermissionRequest),
+                removePermissionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RemovePermission operation like
+     * {@link #removePermissionAsync(RemovePermissionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param removePermissionRequest Container for the necessary parameters
+     *           to execute the RemovePermission operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         RemovePermission service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> removePermissionComposableAsync(final RemovePermissionRequest removePermissionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 removePermission(removePermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(removePermissionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, removePermissionRequest,
+                new RemovePermissionRequestMarshaller(), null);
     }
     
     /**
@@ -936,11 +976,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<GetQueueAttributesResult> getQueueAttributesAsync(final GetQueueAttributesRequest getQueueAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                return getQueueAttributes(getQueueAttributesRequest);
-        }
-    });
+        return getQueueAttributesComposableAsync(getQueueAttributesRequest);
     }
 
     /**
@@ -1032,19 +1068,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final GetQueueAttributesRequest getQueueAttributesRequest,
             final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
+        return withAsyncHandler(getQueueAttributesComposableAsync(getQueueAttributesRequest),
+                getQueueAttributesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetQueueAttributes operation like
+     * {@link #getQueueAttributesAsync(GetQueueAttributesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getQueueAttributesRequest Container for the necessary
+     *           parameters to execute the GetQueueAttributes operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         GetQueueAttributes service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<GetQueueAttributesResult> getQueueAttributesComposableAsync(final GetQueueAttributesRequest getQueueAttributesRequest) {
+        return executeAsync(executorService, new Callable<GetQueueAttributesResult>() {
             public GetQueueAttributesResult call() throws Exception {
-              GetQueueAttributesResult result;
-                try {
-                result = getQueueAttributes(getQueueAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getQueueAttributesRequest, result);
-                 return result;
-        }
-    });
+                return getQueueAttributes(getQueueAttributesRequest);
+            }
+        }, getQueueAttributesRequest,
+                new GetQueueAttributesRequestMarshaller(), new GetQueueAttributesResultStaxUnmarshaller());
     }
     
     /**
@@ -1106,11 +1152,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<SendMessageBatchResult> sendMessageBatchAsync(final SendMessageBatchRequest sendMessageBatchRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                return sendMessageBatch(sendMessageBatchRequest);
-        }
-    });
+        return sendMessageBatchComposableAsync(sendMessageBatchRequest);
     }
 
     /**
@@ -1178,19 +1220,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final SendMessageBatchRequest sendMessageBatchRequest,
             final AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
+        return withAsyncHandler(sendMessageBatchComposableAsync(sendMessageBatchRequest),
+                sendMessageBatchRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SendMessageBatch operation like
+     * {@link #sendMessageBatchAsync(SendMessageBatchRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param sendMessageBatchRequest Container for the necessary parameters
+     *           to execute the SendMessageBatch operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         SendMessageBatch service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<SendMessageBatchResult> sendMessageBatchComposableAsync(final SendMessageBatchRequest sendMessageBatchRequest) {
+        return executeAsync(executorService, new Callable<SendMessageBatchResult>() {
             public SendMessageBatchResult call() throws Exception {
-              SendMessageBatchResult result;
-                try {
-                result = sendMessageBatch(sendMessageBatchRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendMessageBatchRequest, result);
-                 return result;
-        }
-    });
+                return sendMessageBatch(sendMessageBatchRequest);
+            }
+        }, sendMessageBatchRequest,
+                new SendMessageBatchRequestMarshaller(), new SendMessageBatchResultStaxUnmarshaller());
     }
     
     /**
@@ -1227,12 +1278,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                purgeQueue(purgeQueueRequest);
-                return null;
-        }
-    });
+        return purgeQueueComposableAsync(purgeQueueRequest);
     }
 
     /**
@@ -1275,18 +1321,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final PurgeQueueRequest purgeQueueRequest,
             final AsyncHandler<PurgeQueueRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(purgeQueueComposableAsync(purgeQueueRequest),
+                purgeQueueRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the PurgeQueue operation like
+     * {@link #purgeQueueAsync(PurgeQueueRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param purgeQueueRequest Container for the necessary parameters to
+     *           execute the PurgeQueue operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the PurgeQueue
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> purgeQueueComposableAsync(final PurgeQueueRequest purgeQueueRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 purgeQueue(purgeQueueRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purgeQueueRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, purgeQueueRequest,
+                new PurgeQueueRequestMarshaller(), null);
     }
     
     /**
@@ -1318,11 +1375,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-        }
-    });
+        return listDeadLetterSourceQueuesComposableAsync(listDeadLetterSourceQueuesRequest);
     }
 
     /**
@@ -1360,19 +1413,32 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
             final AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
+        return withAsyncHandler(listDeadLetterSourceQueuesComposableAsync(listDeadLetterSourceQueuesRequest),
+                listDeadLetterSourceQueuesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDeadLetterSourceQueues operation
+     * like
+     * {@link #listDeadLetterSourceQueuesAsync(ListDeadLetterSourceQueuesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listDeadLetterSourceQueuesRequest Container for the necessary
+     *           parameters to execute the ListDeadLetterSourceQueues operation on
+     *           AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         ListDeadLetterSourceQueues service method, as returned by
+     *         AmazonSQS.
+     */
+    public ComposableFuture<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesComposableAsync(final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest) {
+        return executeAsync(executorService, new Callable<ListDeadLetterSourceQueuesResult>() {
             public ListDeadLetterSourceQueuesResult call() throws Exception {
-              ListDeadLetterSourceQueuesResult result;
-                try {
-                result = listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDeadLetterSourceQueuesRequest, result);
-                 return result;
-        }
-    });
+                return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
+            }
+        }, listDeadLetterSourceQueuesRequest,
+                new ListDeadLetterSourceQueuesRequestMarshaller(), new ListDeadLetterSourceQueuesResultStaxUnmarshaller());
     }
     
     /**
@@ -1417,12 +1483,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQueue(deleteQueueRequest);
-                return null;
-        }
-    });
+        return deleteQueueComposableAsync(deleteQueueRequest);
     }
 
     /**
@@ -1473,18 +1534,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteQueueComposableAsync(deleteQueueRequest),
+                deleteQueueRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteQueue operation like
+     * {@link #deleteQueueAsync(DeleteQueueRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteQueueRequest Container for the necessary parameters to
+     *           execute the DeleteQueue operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the DeleteQueue
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> deleteQueueComposableAsync(final DeleteQueueRequest deleteQueueRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteQueue(deleteQueueRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteQueueRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(), null);
     }
     
     /**
@@ -1521,11 +1593,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-        }
-    });
+        return sendMessageComposableAsync(sendMessageRequest);
     }
 
     /**
@@ -1568,19 +1636,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
+        return withAsyncHandler(sendMessageComposableAsync(sendMessageRequest),
+                sendMessageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the SendMessage operation like
+     * {@link #sendMessageAsync(SendMessageRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param sendMessageRequest Container for the necessary parameters to
+     *           execute the SendMessage operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the SendMessage
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<SendMessageResult> sendMessageComposableAsync(final SendMessageRequest sendMessageRequest) {
+        return executeAsync(executorService, new Callable<SendMessageResult>() {
             public SendMessageResult call() throws Exception {
-              SendMessageResult result;
-                try {
-                result = sendMessage(sendMessageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(sendMessageRequest, result);
-                 return result;
-        }
-    });
+                return sendMessage(sendMessageRequest);
+            }
+        }, sendMessageRequest,
+                new SendMessageRequestMarshaller(), new SendMessageResultStaxUnmarshaller());
     }
     
     /**
@@ -1673,11 +1750,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<ReceiveMessageResult> receiveMessageAsync(final ReceiveMessageRequest receiveMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                return receiveMessage(receiveMessageRequest);
-        }
-    });
+        return receiveMessageComposableAsync(receiveMessageRequest);
     }
 
     /**
@@ -1776,19 +1849,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final ReceiveMessageRequest receiveMessageRequest,
             final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
+        return withAsyncHandler(receiveMessageComposableAsync(receiveMessageRequest),
+                receiveMessageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ReceiveMessage operation like
+     * {@link #receiveMessageAsync(ReceiveMessageRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param receiveMessageRequest Container for the necessary parameters to
+     *           execute the ReceiveMessage operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the ReceiveMessage
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<ReceiveMessageResult> receiveMessageComposableAsync(final ReceiveMessageRequest receiveMessageRequest) {
+        return executeAsync(executorService, new Callable<ReceiveMessageResult>() {
             public ReceiveMessageResult call() throws Exception {
-              ReceiveMessageResult result;
-                try {
-                result = receiveMessage(receiveMessageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(receiveMessageRequest, result);
-                 return result;
-        }
-    });
+                return receiveMessage(receiveMessageRequest);
+            }
+        }, receiveMessageRequest,
+                new ReceiveMessageRequestMarshaller(), new ReceiveMessageResultStaxUnmarshaller());
     }
     
     /**
@@ -1816,11 +1898,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-        }
-    });
+        return listQueuesComposableAsync(listQueuesRequest);
     }
 
     /**
@@ -1854,19 +1932,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
+        return withAsyncHandler(listQueuesComposableAsync(listQueuesRequest),
+                listQueuesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListQueues operation like
+     * {@link #listQueuesAsync(ListQueuesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listQueuesRequest Container for the necessary parameters to
+     *           execute the ListQueues operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the ListQueues
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<ListQueuesResult> listQueuesComposableAsync(final ListQueuesRequest listQueuesRequest) {
+        return executeAsync(executorService, new Callable<ListQueuesResult>() {
             public ListQueuesResult call() throws Exception {
-              ListQueuesResult result;
-                try {
-                result = listQueues(listQueuesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listQueuesRequest, result);
-                 return result;
-        }
-    });
+                return listQueues(listQueuesRequest);
+            }
+        }, listQueuesRequest,
+                new ListQueuesRequestMarshaller(), new ListQueuesResultStaxUnmarshaller());
     }
     
     /**
@@ -1911,11 +1998,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(final DeleteMessageBatchRequest deleteMessageBatchRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                return deleteMessageBatch(deleteMessageBatchRequest);
-        }
-    });
+        return deleteMessageBatchComposableAsync(deleteMessageBatchRequest);
     }
 
     /**
@@ -1966,19 +2049,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final DeleteMessageBatchRequest deleteMessageBatchRequest,
             final AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
+        return withAsyncHandler(deleteMessageBatchComposableAsync(deleteMessageBatchRequest),
+                deleteMessageBatchRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteMessageBatch operation like
+     * {@link #deleteMessageBatchAsync(DeleteMessageBatchRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteMessageBatchRequest Container for the necessary
+     *           parameters to execute the DeleteMessageBatch operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the
+     *         DeleteMessageBatch service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<DeleteMessageBatchResult> deleteMessageBatchComposableAsync(final DeleteMessageBatchRequest deleteMessageBatchRequest) {
+        return executeAsync(executorService, new Callable<DeleteMessageBatchResult>() {
             public DeleteMessageBatchResult call() throws Exception {
-              DeleteMessageBatchResult result;
-                try {
-                result = deleteMessageBatch(deleteMessageBatchRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteMessageBatchRequest, result);
-                 return result;
-        }
-    });
+                return deleteMessageBatch(deleteMessageBatchRequest);
+            }
+        }, deleteMessageBatchRequest,
+                new DeleteMessageBatchRequestMarshaller(), new DeleteMessageBatchResultStaxUnmarshaller());
     }
     
     /**
@@ -2039,11 +2132,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                return createQueue(createQueueRequest);
-        }
-    });
+        return createQueueComposableAsync(createQueueRequest);
     }
 
     /**
@@ -2110,19 +2199,28 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
+        return withAsyncHandler(createQueueComposableAsync(createQueueRequest),
+                createQueueRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateQueue operation like
+     * {@link #createQueueAsync(CreateQueueRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createQueueRequest Container for the necessary parameters to
+     *           execute the CreateQueue operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the CreateQueue
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<CreateQueueResult> createQueueComposableAsync(final CreateQueueRequest createQueueRequest) {
+        return executeAsync(executorService, new Callable<CreateQueueResult>() {
             public CreateQueueResult call() throws Exception {
-              CreateQueueResult result;
-                try {
-                result = createQueue(createQueueRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createQueueRequest, result);
-                 return result;
-        }
-    });
+                return createQueue(createQueueRequest);
+            }
+        }, createQueueRequest,
+                new CreateQueueRequestMarshaller(), new CreateQueueResultStaxUnmarshaller());
     }
     
     /**
@@ -2174,12 +2272,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-        }
-    });
+        return addPermissionComposableAsync(addPermissionRequest);
     }
 
     /**
@@ -2237,18 +2330,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(addPermissionComposableAsync(addPermissionRequest),
+                addPermissionRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddPermission operation like
+     * {@link #addPermissionAsync(AddPermissionRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addPermissionRequest Container for the necessary parameters to
+     *           execute the AddPermission operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the AddPermission
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> addPermissionComposableAsync(final AddPermissionRequest addPermissionRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 addPermission(addPermissionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addPermissionRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, addPermissionRequest,
+                new AddPermissionRequestMarshaller(), null);
     }
     
     /**
@@ -2296,12 +2400,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
      */
     public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMessage(deleteMessageRequest);
-                return null;
-        }
-    });
+        return deleteMessageComposableAsync(deleteMessageRequest);
     }
 
     /**
@@ -2355,18 +2454,29 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient
             final DeleteMessageRequest deleteMessageRequest,
             final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
+        return withAsyncHandler(deleteMessageComposableAsync(deleteMessageRequest),
+                deleteMessageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteMessage operation like
+     * {@link #deleteMessageAsync(DeleteMessageRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteMessageRequest Container for the necessary parameters to
+     *           execute the DeleteMessage operation on AmazonSQS.
+     *
+     * @return A composable future for the response from the DeleteMessage
+     *         service method, as returned by AmazonSQS.
+     */
+    public ComposableFuture<Void> deleteMessageComposableAsync(final DeleteMessageRequest deleteMessageRequest) {
+        return executeAsync(executorService, new Callable<Void>() {
             public Void call() throws Exception {
-              try {
                 deleteMessage(deleteMessageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteMessageRequest, null);
-                 return null;
-        }
-    });
+                return null;
+            }
+        }, deleteMessageRequest,
+                new DeleteMessageRequestMarshaller(), null);
     }
     
 }
@@ -402,6 +402,24 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
         return toReturn;
     }
 
+    /**
+     * Returns a snapshot of the state of the receive buffer of the given
+     * queue: how many pre-fetched messages it holds, and how long receive
+     * calls waited for messages.
+     *
+     * @param queueUrl
+     *            the URL of the queue
+     * @return the statistics, or null if this client has no buffer for the
+     *         queue, because it wasn't used yet or its buffer was evicted
+     */
+    public ReceiveQueueBufferStatistics getReceiveBufferStatistics(String queueUrl) {
+        QueueBuffer buffer;
+        synchronized (this) {
+            buffer = buffers.get(queueUrl);
+        }
+        return buffer == null ? null : buffer.getReceiveBufferStatistics();
+    }
+
     class CachingMap extends LinkedHashMap<String, QueueBuffer > {
         private static final long serialVersionUID = 1;
         private static final int MAX_ENTRIES = 100;
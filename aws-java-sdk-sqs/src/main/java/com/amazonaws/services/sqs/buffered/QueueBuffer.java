@@ -18,6 +18,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -65,11 +66,18 @@ class QueueBuffer {
      *  */
     static ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory());;
 
+    /** This timer closes the open outbound batches of all queue buffers once they
+     * time out, and checks whether pre-fetched messages are likely to expire.
+     * Its tasks never block, and hand any work to the executor, so a single
+     * thread serves any number of queues.
+     *  */
+    static ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+
     QueueBuffer( QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs) {
         realSqs = sqs;
         config = paramConfig;
-        sendBuffer = new SendQueueBuffer(sqs, executor, paramConfig, url);
-        receiveBuffer =  new ReceiveQueueBuffer(sqs, executor, paramConfig, url);
+        sendBuffer = new SendQueueBuffer(sqs, executor, timer, paramConfig, url);
+        receiveBuffer =  new ReceiveQueueBuffer(sqs, executor, timer, paramConfig, url);
     }
 
 
@@ -192,6 +200,13 @@ class QueueBuffer {
         return waitForFuture(future);
     }
 
+    /**
+     * @return a snapshot of the statistics of the receive buffer
+     */
+    public ReceiveQueueBufferStatistics getReceiveBufferStatistics() {
+        return receiveBuffer.getStatistics();
+    }
+
     /**
      * Shuts down the queue buffer.  Once this method has been called, the
      * queue buffer is not operational and all subsequent calls to it may fail
@@ -125,6 +125,21 @@ public class QueueBufferConfig {
 
     public static final int LONGPOLL_WAIT_TIMEOUT_SECONDS_DEFAULT = 20;
 
+    /**
+     * Should the number of receive batches be adapted to the rate at which
+     * messages are consumed from the buffer?
+     *
+     * When enabled, maxInflightReceiveBatches and maxDoneReceiveBatches are
+     * upper bounds: the buffer only pre-fetches enough batches to cover the
+     * messages consumed while a receive call is in flight, and returns
+     * pre-fetched messages to the queue when they are unlikely to be consumed
+     * before their visibility timeout expires.
+     * */
+    private boolean adaptivePrefetching;
+
+    /** false */
+    public static final boolean ADAPTIVE_PREFETCHING_DEFAULT = false;
+
     public QueueBufferConfig( long maxBatchOpenMs,
             int maxInflightOutboundBatches,
             int maxInflightReceiveBatches,
@@ -145,6 +160,7 @@ public class QueueBufferConfig {
         this.visibilityTimeoutSeconds = visibilityTimeout;
         this.longPollWaitTimeoutSeconds = longPollTimeout;
         this.maxBatchSize = maxBatch;
+        this.adaptivePrefetching = ADAPTIVE_PREFETCHING_DEFAULT;
     }
 
     public QueueBufferConfig() {
@@ -171,6 +187,7 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptivePrefetching = other.adaptivePrefetching;
     }
 
 
@@ -185,7 +202,8 @@ public class QueueBufferConfig {
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes="
                 + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
                 + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds="
-                + longPollWaitTimeoutSeconds + "]";
+                + longPollWaitTimeoutSeconds + ", adaptivePrefetching="
+                + adaptivePrefetching + "]";
     }
 
     /**
@@ -450,6 +468,37 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * Specifies whether the number of receive batches is adapted to the rate
+     * at which messages are consumed from the buffer. When enabled,
+     * maxInflightReceiveBatches and maxDoneReceiveBatches are upper bounds:
+     * the buffer only pre-fetches enough batches to cover the messages
+     * consumed while a receive call is in flight, and returns pre-fetched
+     * messages to the queue when they are unlikely to be consumed before their
+     * visibility timeout expires.
+     * */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * Specifies whether the number of receive batches is adapted to the rate
+     * at which messages are consumed from the buffer. When enabled,
+     * maxInflightReceiveBatches and maxDoneReceiveBatches are upper bounds:
+     * the buffer only pre-fetches enough batches to cover the messages
+     * consumed while a receive call is in flight, and returns pre-fetched
+     * messages to the queue when they are unlikely to be consumed before their
+     * visibility timeout expires.
+     * */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be
      * invalid, an informative exception is thrown.
@@ -17,10 +17,14 @@ package com.amazonaws.services.sqs.buffered;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,13 +44,27 @@ import com.amazonaws.services.sqs.model.ReceiveMessageResult;
  * pre-fetched and kept in the buffer, as well as the maximum number of threads used to retrieve
  * the messages are configurable. <p>
  *
+ * With adaptive prefetching, the number of batches kept in flight and in the
+ * buffer follows the rate at which messages are consumed, up to the configured
+ * maximums: enough messages are pre-fetched to cover the consumption during a
+ * receive call, and pre-fetched messages that are unlikely to be consumed
+ * before their visibility timeout expires are returned to the queue, so that
+ * other consumers can receive them. <p>
+ *
  *  Synchronization strategy:
- *  - Threads must hold the TaskSpawnSyncPoint object monitor to spawn a new task or modify
- *    the number of inflight tasks
- *  - Threads must hold the monitor of the "futures" list to modify the list
- *  - Threads must hold the monitor of the "finishedTasks" list to modify the list
- *  - If you need to lock both futures and finishedTasks, lock futures first and
- *    finishedTasks second
+ *  - The issued futures and the finished batches are kept in lock-free
+ *    queues, and the messages of a batch are claimed by advancing its read
+ *    index atomically, so receive calls don't serialize on a lock
+ *  - A receive call takes messages directly when no earlier call is waiting.
+ *    Otherwise, and if there are none, its future is queued
+ *  - Every thread adding a future or a finished batch attempts to satisfy the
+ *    futures afterwards. A future taken off the queue that can't be satisfied
+ *    is put back before checking for finished batches again, so that a batch
+ *    finishing meanwhile is never missed
+ *  - Receive tasks are spawned by incrementing the number of inflight batches
+ *    with a compare-and-set, up to the limit
+ *  - Threads must hold the TaskSpawnSyncPoint object monitor to look up the
+ *    queue visibility timeout
  * */
 public class ReceiveQueueBuffer {
 
@@ -58,27 +76,31 @@ public class ReceiveQueueBuffer {
 
     private final Executor executor;
 
+    /**
+     * The timer checking whether pre-fetched messages are likely to expire,
+     * in adaptive mode.
+     */
+    private final ScheduledExecutorService timer;
+
     private final AmazonSQS sqsClient;
 
-    private long bufferCounter = 0;
+    private final AtomicLong bufferCounter = new AtomicLong();
 
     /**
      * This buffer's queue visibility timeout. Used to detect expired message
      * that should not be returned by the {@code receiveMessage} call.
-     * Synchronized by {@code receiveMessageLock}. -1 indicates that the time is
-     * uninitialized.
+     * Initialized while holding {@code taskSpawnSyncPoint}. -1 indicates that
+     * the time is uninitialized.
      */
     private volatile long visibilityTimeoutNanos = -1;
 
     /**
      * Used as permits controlling the number of in flight receive batches.
-     * Synchronized by {@code taskSpawnSyncPoint}.
      */
-    private volatile int inflightReceiveMessageBatches;
+    private final AtomicInteger inflightReceiveMessageBatches = new AtomicInteger();
 
     /**
-     * synchronize on this object to create new receive batches or modify
-     * inflight message count
+     * synchronize on this object to look up the queue visibility timeout
      */
     private final Object taskSpawnSyncPoint = new Object();
 
@@ -87,14 +109,47 @@ public class ReceiveQueueBuffer {
     volatile boolean shutDown = false;
 
     /** message delivery futures we gave out */
-    private final LinkedList< ReceiveMessageFuture > futures = new LinkedList<ReceiveMessageFuture>();
+    private final Queue<ReceiveMessageFuture> futures = new ConcurrentLinkedQueue<ReceiveMessageFuture>();
+
+    /**
+     * The number of futures not satisfied yet; kept apart because the size of
+     * {@code futures} takes linear time.
+     */
+    private final AtomicInteger waitingFutures = new AtomicInteger();
+
+    /** finished batches are stored in this queue. */
+    private final Queue<ReceiveMessageBatchTask> finishedTasks = new ConcurrentLinkedQueue<ReceiveMessageBatchTask>();
+
+    /** The number of batches in {@code finishedTasks}. */
+    private final AtomicInteger finishedBatches = new AtomicInteger();
 
-    /** finished batches are stored in this list. */
-    private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
+    /** The number of receive calls satisfied, for the statistics. */
+    private final AtomicLong receiveCount = new AtomicLong();
+
+    /**
+     * The total time receive calls waited to be satisfied, in nanoseconds,
+     * for the statistics.
+     */
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /**
+     * The rate at which messages are handed out to receive calls. Only
+     * tracked in adaptive mode.
+     */
+    private final DecayingRate dequeueRate = new DecayingRate();
+
+    /**
+     * The smoothed duration of the receive calls made to SQS, in nanoseconds,
+     * or -1 until the first one completes. Batches finishing at the same time
+     * may overwrite each other's update, which only affects the smoothing.
+     */
+    private volatile long receiveLatencyNanos = -1;
 
-    ReceiveQueueBuffer( AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url ) {
+    ReceiveQueueBuffer( AmazonSQS paramSQS, Executor paramExecutor, ScheduledExecutorService paramTimer,
+            QueueBufferConfig paramConfig, String url ) {
         config = paramConfig;
         executor = paramExecutor;
+        timer = paramTimer;
         sqsClient = paramSQS;
         qUrl = url;
 
@@ -107,7 +162,7 @@ public class ReceiveQueueBuffer {
     public void shutdown() {
         shutDown = true;
         try {
-        while ( inflightReceiveMessageBatches > 0 )
+        while ( inflightReceiveMessageBatches.get() > 0 )
             Thread.sleep(100);
         } catch( InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -133,10 +188,14 @@ public class ReceiveQueueBuffer {
         if ( rq.getMaxNumberOfMessages() != null ) {
             numMessages = rq.getMaxNumberOfMessages();
         }
-        QueueBufferFuture<ReceiveMessageRequest,ReceiveMessageResult> toReturn = issueFuture(numMessages, callback);
+        ReceiveMessageFuture toReturn = new ReceiveMessageFuture(callback, numMessages);
 
-        //attempt to satisfy it right away...
-        satisfyFuturesFromBuffer();
+        //attempt to satisfy it right away, unless earlier requests are
+        //waiting for messages. otherwise, queue it...
+        if ( !futures.isEmpty() || !fillFuture( toReturn ) ) {
+            issueFuture( toReturn );
+            satisfyFuturesFromBuffer();
+        }
 
         //spawn more receive tasks if we need them...
         spawnMoreReceiveTasks();
@@ -145,17 +204,11 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Creates and returns a new future object. Sleeps if the list of
-     * already-issued but as yet unsatisfied futures is over a throttle limit.
-     *
-     * @return never null
+     * Adds the future to the futures waiting for messages.
      */
-    private ReceiveMessageFuture issueFuture( int size, QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> callback) {
-        synchronized( futures )    {
-            ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
-            futures.addLast(theFuture);
-            return theFuture;
-        }
+    private void issueFuture( ReceiveMessageFuture theFuture ) {
+        waitingFutures.incrementAndGet();
+        futures.offer(theFuture);
     }
 
     /**
@@ -164,82 +217,95 @@ public class ReceiveQueueBuffer {
      * won't do anything.
      * */
     private void satisfyFuturesFromBuffer()    {
-        synchronized( futures )    {
-            synchronized( finishedTasks ) {
-                //attempt to satisfy futures until we run out of either futures or
-                //finished tasks
-                while ( (!futures.isEmpty())  &&  (!finishedTasks.isEmpty()) )    {
-                    ReceiveMessageFuture currentFuture = futures.poll();
-                    fillFuture( currentFuture);
-                }
+        //attempt to satisfy futures until we run out of either futures or
+        //finished tasks
+        while ( (!futures.isEmpty())  &&  (!finishedTasks.isEmpty()) )    {
+            ReceiveMessageFuture currentFuture = futures.poll();
+            if ( currentFuture == null ) {
+                break;
+            }
+            if ( fillFuture( currentFuture ) ) {
+                waitingFutures.decrementAndGet();
+            } else {
+                //other threads took the messages first. the loop checks
+                //again for batches finished while we held the future.
+                futures.offer( currentFuture );
             }
         }
     }
 
     /**
-     * Fills the future with whatever results were received by the full batch
+     * Fills the future with whatever results were received by the batch
      * currently at the head of the completed batch queue.  Those results may be retrieved
-     * messages, or an exception.
+     * messages, or an exception. Batches drained by other threads in the
+     * meantime are skipped.
      *
-     * this method assumes that you are holding the finished tasks lock
-     * locks when invoking it.  violate this assumption at
-     * your own peril */
-    private void fillFuture( ReceiveMessageFuture f ){
-        ReceiveMessageResult r = new ReceiveMessageResult();
-        LinkedList<Message> messages = new LinkedList<Message>();
-        r.setMessages(messages);
-        Exception exception = null;
-
-        if ( !finishedTasks.isEmpty() ) {
-            ReceiveMessageBatchTask t = finishedTasks.getFirst();
-
-            exception = t.getException();
-            int retrieved = 0;
-            boolean batchDone = false;
-            while (  retrieved < f.getRequestedSize() )
-            {
-                Message m = t.removeMessage();
-                // a non-empty batch can still give back a null
-                // message if the message expired.
-                if ( null != m) {
-                    messages.add(m);
-                    ++retrieved;
-                }
-                else {
-                    batchDone = true;
-                    break;
+     * @return false if there was no batch to fill the future from
+     */
+    private boolean fillFuture( ReceiveMessageFuture f ){
+        ReceiveMessageBatchTask t;
+        while ( (t = finishedTasks.peek()) != null ) {
+            Exception exception = t.getException();
+            if ( exception != null ) {
+                //the thread removing the batch reports its error
+                if ( removeFinished(t) ) {
+                    complete(f, null, exception);
+                    return true;
                 }
+                continue;
+            }
 
+            List<Message> messages = t.removeMessages(f.getRequestedSize());
+            if ( !messages.isEmpty() ) {
+                //we may have just drained the batch.
+                if ( t.isEmpty() ) {
+                    removeFinished(t);
+                }
+                if ( config.isAdaptivePrefetching() ) {
+                    dequeueRate.add(messages.size(), System.nanoTime());
+                }
+                complete(f, messages, null);
+                return true;
             }
-            //we may have just drained the batch.
-            batchDone = batchDone || t.isEmpty() || ( exception != null );
-            if ( batchDone) {
-                finishedTasks.removeFirst();
+
+            //a batch that received no messages answers a single receive call
+            //with no messages. throw away batches that were drained, or whose
+            //messages expired.
+            if ( removeFinished(t) && t.getReceivedCount() == 0 ) {
+                complete(f, Collections.<Message>emptyList(), null);
+                return true;
             }
-            r.setMessages(messages);
         }
+        return false;
+    }
 
-        //if after the above runs the exception is not null,
-        //the finished batch has encountered an error, and we will
+    private void complete( ReceiveMessageFuture f, List<Message> messages, Exception exception ) {
+        receiveCount.incrementAndGet();
+        totalWaitNanos.addAndGet(System.nanoTime() - f.getIssueNanos());
+
+        //if the finished batch has encountered an error, we will
         //report that in the Future.  Otherwise, we will fill
         //the future with the receive result
-        if ( exception != null )
+        if ( exception != null ) {
             f.setFailure(exception);
-        else
+        } else {
+            ReceiveMessageResult r = new ReceiveMessageResult();
+            r.setMessages(messages);
             f.setSuccess(r);
+        }
+    }
 
-        //now, a bit of maintenance.  remove empty non-exception-bearing
-        //batches so we can get new ones.
-        while ( !finishedTasks.isEmpty() ) {
-            ReceiveMessageBatchTask t = finishedTasks.getFirst();
-            if ( (!t.isEmpty()) || (t.getException() != null) ) {
-                //if we found a finished task that has useful content,
-                //our cleanup is done
-                break;
-            }
-            //throw away the empty batch.
-            finishedTasks.removeFirst();
+    /**
+     * Removes the batch from the finished batches.
+     *
+     * @return false if another thread removed it first
+     */
+    private boolean removeFinished( ReceiveMessageBatchTask t ) {
+        if ( finishedTasks.remove(t) ) {
+            finishedBatches.decrementAndGet();
+            return true;
         }
+        return false;
     }
 
     /**
@@ -252,47 +318,109 @@ public class ReceiveQueueBuffer {
         if( shutDown )
             return;
 
+        int adaptiveInflightBatches = Integer.MAX_VALUE;
+        int adaptiveDoneBatches = Integer.MAX_VALUE;
+        if ( config.isAdaptivePrefetching() ) {
+            int waiting = waitingFutures.get();
+            adaptiveInflightBatches = adaptiveInflightBatches(waiting);
+            adaptiveDoneBatches = adaptiveDoneBatches(adaptiveInflightBatches);
+            // batches in flight end up in the buffer, so don't fetch more than
+            // can be consumed in time, unless receive calls are waiting
+            adaptiveInflightBatches = Math.min(adaptiveInflightBatches,
+                    Math.max(adaptiveDoneBatches, waiting));
+        }
         int desiredBatches = config.getMaxDoneReceiveBatches();
         desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        desiredBatches = Math.min(desiredBatches, adaptiveDoneBatches);
 
-        synchronized( finishedTasks ) {
-            if (  finishedTasks.size() >= desiredBatches )
-                return;
+        int finished = finishedBatches.get();
+        if (  finished >= desiredBatches )
+            return;
+
+        //if we have some finished batches already, and
+        //existing inflight batches will bring us to the limit,
+        //don't spawn more. if our finished tasks cache is empty, we will
+        //always spawn a thread.
+        if ( finished > 0 && ( finished + inflightReceiveMessageBatches.get() ) >= desiredBatches )
+            return;
+
+        if (visibilityTimeoutNanos == -1) {
+            synchronized (taskSpawnSyncPoint) {
+                if (visibilityTimeoutNanos == -1) {
+                    GetQueueAttributesRequest request = new GetQueueAttributesRequest().
+                            withQueueUrl(qUrl).
+                            withAttributeNames("VisibilityTimeout");
+                    ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
+                    long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes( request ).getAttributes().get("VisibilityTimeout"));
+                    visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
+                }
+            }
+        }
 
-            //if we have some finished batches already, and
-            //existing inflight batches will bring us to the limit,
-            //don't spawn more. if our finished tasks cache is empty, we will
-            //always spawn a thread.
-            if ( finishedTasks.size() > 0 && ( finishedTasks.size() + inflightReceiveMessageBatches ) >= desiredBatches )
+        int max = config.getMaxInflightReceiveBatches();
+        //must allow at least one inflight receive task, or receive won't
+        //work at all.
+        max = max > 0 ? max : 1;
+        max = Math.min(max, adaptiveInflightBatches);
+        int inflight;
+        do {
+            inflight = inflightReceiveMessageBatches.get();
+            if ( inflight >= max )
                 return;
+        } while ( !inflightReceiveMessageBatches.compareAndSet(inflight, inflight + 1) );
+
+        ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this );
+        long counter = bufferCounter.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Spawned receive batch #" + counter + " (" + (inflight + 1)
+                    + " of " + max + " inflight) for queue " + qUrl);
         }
+        executor.execute(task);
+    }
 
-        synchronized (taskSpawnSyncPoint) {
-            if (visibilityTimeoutNanos == -1) {
-                GetQueueAttributesRequest request = new GetQueueAttributesRequest().
-                        withQueueUrl(qUrl).
-                        withAttributeNames("VisibilityTimeout");
-                ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
-                long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes( request ).getAttributes().get("VisibilityTimeout"));
-                visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
-            }
+    /**
+     * Returns the number of receive batches to keep in flight to keep up with
+     * the consumers in adaptive mode: the batches holding the messages
+     * consumed during a receive call (Little's law), plus one batch for each
+     * receive call waiting for messages, plus one so that a batch is always
+     * ahead.
+     */
+    private int adaptiveInflightBatches( int waiting ) {
+        long latencyNanos = receiveLatencyNanos;
+        double inflightMessages = latencyNanos < 0 ? 0
+                : dequeueRate.perNano(System.nanoTime()) * latencyNanos;
+        return 1 + waiting + (int) Math.ceil(inflightMessages / batchSize());
+    }
 
-            int max = config.getMaxInflightReceiveBatches();
-            //must allow at least one inflight receive task, or receive won't
-            //work at all.
-            max = max > 0 ? max : 1;
-            int toSpawn =  max - inflightReceiveMessageBatches;
-            if (toSpawn > 0) {
-                ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this );
-                ++inflightReceiveMessageBatches;
-                ++bufferCounter;
-                if (log.isTraceEnabled()) {
-                    log.trace("Spawned receive batch #" + bufferCounter + " (" + inflightReceiveMessageBatches
-                            + " of " + max + " inflight) for queue " + qUrl);
-                }
-                executor.execute(task);
-            }
+    /**
+     * Returns the number of completed receive batches to keep in the buffer in
+     * adaptive mode: as many as kept in flight, but no more than the consumers
+     * are expected to consume before the visibility timeout of their messages
+     * expires, and at least one.
+     */
+    private int adaptiveDoneBatches( int inflightBatches ) {
+        long visibilityNanos = visibilityTimeoutNanosInEffect();
+        if ( visibilityNanos < 0 ) {
+            return inflightBatches;
         }
+        double consumable = dequeueRate.perNano(System.nanoTime())
+                * (visibilityNanos - visibilityNanos / EXPIRY_MARGIN_DIVISOR);
+        return Math.max(1, Math.min(inflightBatches, (int) (consumable / batchSize())));
+    }
+
+    private int batchSize() {
+        return Math.max(1, config.getMaxBatchSize());
+    }
+
+    /**
+     * @return the visibility timeout of the messages received, or -1 if it
+     *         isn't known yet
+     */
+    private long visibilityTimeoutNanosInEffect() {
+        if ( config.getVisibilityTimeoutSeconds() > 0 ) {
+            return TimeUnit.SECONDS.toNanos(config.getVisibilityTimeoutSeconds());
+        }
+        return visibilityTimeoutNanos;
     }
 
     /**
@@ -302,36 +430,150 @@ public class ReceiveQueueBuffer {
      * */
     void reportBatchFinished( ReceiveMessageBatchTask batch )
     {
-        synchronized( finishedTasks ) {
-            finishedTasks.addLast( batch );
-            if ( log.isTraceEnabled() ) {
-                log.info("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
-            }
-        }
-        synchronized( taskSpawnSyncPoint )    {
-            --inflightReceiveMessageBatches;
+        finishedBatches.incrementAndGet();
+        finishedTasks.offer( batch );
+        if ( log.isTraceEnabled() ) {
+            log.trace("Queue " + qUrl + " now has " + finishedBatches.get() + " receive results cached ");
         }
+        inflightReceiveMessageBatches.decrementAndGet();
+        long latency = batch.getDurationNanos();
+        long previousLatency = receiveLatencyNanos;
+        receiveLatencyNanos = previousLatency < 0 ? latency
+                : (previousLatency * 4 + latency) / 5;
+
         satisfyFuturesFromBuffer();
+        if ( config.isAdaptivePrefetching() ) {
+            checkExpiry(batch);
+        }
         spawnMoreReceiveTasks();
     }
 
+    /**
+     * Returns the messages of the given batch to the queue if they are not
+     * likely to be consumed before their visibility timeout expires, less a
+     * margin for processing them; otherwise, checks again when that would be
+     * the case at the current consumption rate. Called in adaptive mode only.
+     */
+    private void checkExpiry( final ReceiveMessageBatchTask batch ) {
+        long now = System.nanoTime();
+        int ahead = 0;
+        boolean found = false;
+        for ( ReceiveMessageBatchTask t : finishedTasks ) {
+            if ( t == batch ) {
+                found = true;
+                break;
+            }
+            ahead += t.getSize();
+        }
+        if ( !found || batch.isEmpty() || batch.getException() != null ) {
+            // consumed or cleared already
+            return;
+        }
+        double rate = dequeueRate.perNano(now);
+        long latestStartNanos = batch.getVisibilityDeadlineNanos() - now
+                - batch.getVisibilityTimeoutNanos() / EXPIRY_MARGIN_DIVISOR;
+        // without a dequeue rate, or at a negligible one, the cast saturates
+        long consumeNanos = rate <= 0 ? Long.MAX_VALUE
+                : (long) ((ahead + batch.getSize()) / rate);
+
+        // compared rather than subtracted, which could overflow once the
+        // latest start has passed
+        if ( latestStartNanos <= consumeNanos ) {
+            if ( !removeFinished(batch) ) {
+                return;
+            }
+            if ( log.isDebugEnabled() ) {
+                log.debug("Queue " + qUrl + " returning " + batch.getSize()
+                        + " pre-fetched messages that are likely to expire");
+            }
+            // clearing the batch calls SQS, which the timer mustn't wait for
+            executor.execute(new Runnable() {
+                public void run() {
+                    batch.clear();
+                }
+            });
+        } else if ( !shutDown ) {
+            timer.schedule(new Runnable() {
+                public void run() {
+                    checkExpiry(batch);
+                }
+            }, Math.max(latestStartNanos - consumeNanos, MIN_EXPIRY_CHECK_NANOS),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
 
     /**
      * Clears and nacks any pre-fetched messages in this buffer.
      */
     public void clear() {
-        boolean done = false;
-        while ( !done ) {
-            ReceiveMessageBatchTask currentBatch = null;
-            synchronized (finishedTasks) {
-                currentBatch = finishedTasks.poll();
-            }
+        ReceiveMessageBatchTask currentBatch;
+        while ( (currentBatch = finishedTasks.poll()) != null ) {
+            finishedBatches.decrementAndGet();
+            currentBatch.clear();
+        }
+    }
 
-            if ( currentBatch != null ) {
-                currentBatch.clear();
-            } else {
-                //ran out of batches to clear
-                done = true;
+    /**
+     * Returns a snapshot of the statistics of this buffer. The counts of
+     * buffered messages and batches are approximate while messages are being
+     * received.
+     */
+    public ReceiveQueueBufferStatistics getStatistics() {
+        int bufferedMessages = 0;
+        int bufferedBatches = 0;
+        for ( ReceiveMessageBatchTask t : finishedTasks ) {
+            bufferedMessages += t.getSize();
+            ++bufferedBatches;
+        }
+        return new ReceiveQueueBufferStatistics(qUrl, bufferedMessages, bufferedBatches,
+                inflightReceiveMessageBatches.get(), waitingFutures.get(),
+                receiveCount.get(), totalWaitNanos.get());
+    }
+
+    /**
+     * Pre-fetched messages are returned to the queue unless they are likely to
+     * be consumed while more than 1/EXPIRY_MARGIN_DIVISOR of their visibility
+     * timeout remains, to leave time to process them.
+     */
+    private static final int EXPIRY_MARGIN_DIVISOR = 10;
+
+    /** The minimum interval between two checks of the same batch. */
+    private static final long MIN_EXPIRY_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final Message[] NO_MESSAGES = new Message[0];
+
+    /**
+     * An exponentially decaying rate of events, which weights the events of
+     * the last few seconds most: both the events and the time over which they
+     * were counted decay, so that the rate isn't underestimated at first.
+     */
+    private static class DecayingRate {
+        private static final double TIME_CONSTANT_NANOS = TimeUnit.SECONDS.toNanos(5);
+        private static final double MIN_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private double events;
+        private double windowNanos;
+        private long lastUpdateNanos = System.nanoTime();
+
+        synchronized void add( int count, long nowNanos ) {
+            decay(nowNanos);
+            events += count;
+        }
+
+        /** @return the number of events per nanosecond */
+        synchronized double perNano( long nowNanos ) {
+            decay(nowNanos);
+            return events / Math.max(windowNanos, MIN_WINDOW_NANOS);
+        }
+
+        private void decay( long nowNanos ) {
+            long elapsed = nowNanos - lastUpdateNanos;
+            if ( elapsed > 0 ) {
+                double factor = Math.exp(-elapsed / TIME_CONSTANT_NANOS);
+                events *= factor;
+                windowNanos = windowNanos * factor + TIME_CONSTANT_NANOS * (1 - factor);
+                lastUpdateNanos = nowNanos;
             }
         }
     }
@@ -341,6 +583,9 @@ public class ReceiveQueueBuffer {
         /* how many messages did the request ask for*/
         private int requestedSize;
 
+        /* when the request was issued, to measure how long it waited */
+        private final long issueNanos = System.nanoTime();
+
         ReceiveMessageFuture( int paramSize ) {
             this(null,paramSize);
         }
@@ -354,104 +599,134 @@ public class ReceiveQueueBuffer {
             return requestedSize;
         }
 
+        long getIssueNanos() {
+            return issueNanos;
+        }
+
     }
 
     /**
      * Task to receive messages from SQS.
      * <p>
-     * The batch task is constructed {@code !open} until the
-     * {@code ReceiveMessage} completes. At that point, the batch opens and its
-     * messages (if any) become available to read.
+     * The batch task is only reachable from the buffer once the
+     * {@code ReceiveMessage} completes; its fields are published by adding it
+     * to the finished batches. The received messages are kept in an array and
+     * claimed by advancing {@code nextMessage}, without locking.
      */
     private class ReceiveMessageBatchTask implements Runnable {
         private Exception exception = null;
-        private List<Message> messages;
+        private Message[] messages = NO_MESSAGES;
+        private final AtomicInteger nextMessage = new AtomicInteger();
         private long visibilityDeadlineNano;
-        private boolean open = false;
+        private long visibilityTimeoutNanos;
+        private long startNanos;
+        private long durationNanos;
         private ReceiveQueueBuffer parentBuffer;
 
         /**
-         * Constructs a receive task waiting the specified time before calling
-         * SQS.
+         * Constructs a receive task.
          *
-         * @param waitTimeMs
-         *            the time to wait before calling SQS
+         * @param paramParentBuffer
+         *            the buffer to report the finished batch to
          */
         ReceiveMessageBatchTask(ReceiveQueueBuffer paramParentBuffer) {
             parentBuffer = paramParentBuffer;
-            messages = Collections.emptyList();
         }
 
-        synchronized int getSize()    {
-            if (!open)
-                throw new IllegalStateException("batch is not open");
-
-            return messages.size();
-
+        int getSize()    {
+            return messages.length - Math.min(nextMessage.get(), messages.length);
         }
 
-        synchronized boolean isEmpty() {
-            if (!open)
-                throw new IllegalStateException("batch is not open");
+        boolean isEmpty() {
+            return getSize() == 0;
+        }
 
-            return messages.isEmpty();
+        /** @return the number of messages SQS returned */
+        int getReceivedCount() {
+            return messages.length;
         }
 
         /** @return the exception that was thrown during execution, or null
          * if there was no exception */
-        synchronized Exception getException() {
-            if (!open)
-                throw new IllegalStateException("batch is not open");
-
+        Exception getException() {
             return exception;
         }
 
+        long getVisibilityDeadlineNanos() {
+            return visibilityDeadlineNano;
+        }
+
+        long getVisibilityTimeoutNanos() {
+            return visibilityTimeoutNanos;
+        }
+
+        /** @return how long the receive call to SQS took */
+        long getDurationNanos() {
+            return durationNanos;
+        }
+
         /**
-         * Returns a message if one is available.
-         * <p>
-         * The call adjusts the message count.
+         * Claims up to {@code max} messages, if any are available.
          *
-         * @return a message or {@code null} if none is available
+         * @return the messages, empty if none is available or the messages
+         *         expired
          */
-        synchronized Message removeMessage() {
-            if (!open)
-                throw new IllegalStateException("batch is not open");
-
+        List<Message> removeMessages(int max) {
             // our messages expired.
             if ( System.nanoTime() > visibilityDeadlineNano ) {
-                messages.clear();
-                return null;
+                claim(messages.length);
+                return Collections.emptyList();
             }
 
-            if (messages.isEmpty())
-                return null;
-            else
-                return messages.remove(messages.size() - 1);
+            int from = claim(max);
+            int to = Math.min(from + max, messages.length);
+            if ( from >= to ) {
+                return Collections.emptyList();
+            }
+            List<Message> claimed = new ArrayList<Message>(to - from);
+            for ( int i = from; i < to; ++i ) {
+                claimed.add(messages[i]);
+            }
+            return claimed;
         }
 
         /**
-         * Nacks and clears all messages remaining in the batch.
+         * Advances the read index by up to {@code count} messages.
+         *
+         * @return the index of the first message claimed
          */
-        synchronized void clear() {
-            if (!open)
-                throw new IllegalStateException("batch is not open");
+        private int claim(int count) {
+            while ( true ) {
+                int from = nextMessage.get();
+                if ( from >= messages.length ) {
+                    return messages.length;
+                }
+                int to = Math.min(from + Math.max(count, 0), messages.length);
+                if ( nextMessage.compareAndSet(from, to) ) {
+                    return from;
+                }
+            }
+        }
 
-            if (System.nanoTime() < visibilityDeadlineNano) {
+        /**
+         * Nacks and clears all messages remaining in the batch.
+         */
+        void clear() {
+            int from = claim(messages.length);
+            if (from < messages.length && System.nanoTime() < visibilityDeadlineNano) {
                 ChangeMessageVisibilityBatchRequest batchRequest = new ChangeMessageVisibilityBatchRequest()
                 .withQueueUrl(qUrl);
                 ResultConverter.appendUserAgent(batchRequest, AmazonSQSBufferedAsyncClient.USER_AGENT);
 
                 List<ChangeMessageVisibilityBatchRequestEntry> entries =
-                    new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(messages.size());
+                    new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(messages.length - from);
 
-                int i = 0;
-                for (Message m : messages) {
+                for (int i = from; i < messages.length; ++i) {
 
                     entries.add(new ChangeMessageVisibilityBatchRequestEntry()
                             .withId(Integer.toString(i))
-                            .withReceiptHandle(m.getReceiptHandle())
+                            .withReceiptHandle(messages[i].getReceiptHandle())
                             .withVisibilityTimeout(0));
-                    ++i;
                 }
 
                 try {
@@ -462,35 +737,38 @@ public class ReceiveQueueBuffer {
                     log.warn("ReceiveMessageBatchTask: changeMessageVisibility failed "    + e);
                 }
             }
-            messages.clear();
         }
 
         /**
          * Attempts to retrieve messages from SQS and upon completion (successful or
-         * unsuccessful) reports the batch as complete and open
+         * unsuccessful) reports the batch as complete
          * */
         public void run() {
 
             try {
-                visibilityDeadlineNano = System.nanoTime() + visibilityTimeoutNanos;
+                startNanos = System.nanoTime();
+                visibilityTimeoutNanos = ReceiveQueueBuffer.this.visibilityTimeoutNanos;
+                visibilityDeadlineNano = startNanos + visibilityTimeoutNanos;
                 ReceiveMessageRequest request = new ReceiveMessageRequest(qUrl).withMaxNumberOfMessages(config.getMaxBatchSize());
                 ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
 
                 if ( config.getVisibilityTimeoutSeconds() > 0 ) {
                     request.setVisibilityTimeout(config.getVisibilityTimeoutSeconds());
-                    visibilityDeadlineNano = System.nanoTime() + TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(), TimeUnit.SECONDS);
+                    visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(), TimeUnit.SECONDS);
+                    visibilityDeadlineNano = System.nanoTime() + visibilityTimeoutNanos;
                 }
 
                 if ( config.isLongPoll() ) {
                     request.withWaitTimeSeconds(config.getLongPollWaitTimeoutSeconds());
                 }
 
-                messages = sqsClient.receiveMessage(request).getMessages();
+                List<Message> received = sqsClient.receiveMessage(request).getMessages();
+                messages = received.toArray(new Message[received.size()]);
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
-                //whatever happened, we are done and can be considered open
-                open = true;
+                //whatever happened, we are done and can hand out the results
+                durationNanos = System.nanoTime() - startNanos;
                 parentBuffer.reportBatchFinished(this);
             }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2015 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.sqs.buffered;
+
+/**
+ * A snapshot of the state of the receive buffer of a single queue, as
+ * returned by
+ * {@link AmazonSQSBufferedAsyncClient#getReceiveBufferStatistics(String)}.
+ * <p>
+ * The receive count and the total wait time are cumulative since the buffer
+ * was created, so that rates and average wait times over an interval can be
+ * computed from two snapshots.
+ */
+public class ReceiveQueueBufferStatistics {
+
+    private final String queueUrl;
+    private final int bufferedMessageCount;
+    private final int bufferedBatchCount;
+    private final int inflightReceiveBatchCount;
+    private final int waitingReceiveCount;
+    private final long receiveCount;
+    private final long totalWaitTimeNanos;
+
+    ReceiveQueueBufferStatistics(String queueUrl, int bufferedMessageCount,
+            int bufferedBatchCount, int inflightReceiveBatchCount,
+            int waitingReceiveCount, long receiveCount, long totalWaitTimeNanos) {
+        this.queueUrl = queueUrl;
+        this.bufferedMessageCount = bufferedMessageCount;
+        this.bufferedBatchCount = bufferedBatchCount;
+        this.inflightReceiveBatchCount = inflightReceiveBatchCount;
+        this.waitingReceiveCount = waitingReceiveCount;
+        this.receiveCount = receiveCount;
+        this.totalWaitTimeNanos = totalWaitTimeNanos;
+    }
+
+    /** @return the URL of the queue */
+    public String getQueueUrl() {
+        return queueUrl;
+    }
+
+    /** @return the number of pre-fetched messages in the buffer */
+    public int getBufferedMessageCount() {
+        return bufferedMessageCount;
+    }
+
+    /**
+     * @return the number of completed receive batches in the buffer, including
+     *         the ones that received no messages or failed
+     */
+    public int getBufferedBatchCount() {
+        return bufferedBatchCount;
+    }
+
+    /** @return the number of receive batches in flight to SQS */
+    public int getInflightReceiveBatchCount() {
+        return inflightReceiveBatchCount;
+    }
+
+    /** @return the number of receive calls waiting for messages */
+    public int getWaitingReceiveCount() {
+        return waitingReceiveCount;
+    }
+
+    /** @return the number of receive calls completed */
+    public long getReceiveCount() {
+        return receiveCount;
+    }
+
+    /**
+     * @return the total time the completed receive calls waited for messages,
+     *         in nanoseconds
+     */
+    public long getTotalWaitTimeNanos() {
+        return totalWaitTimeNanos;
+    }
+
+    /**
+     * @return the average time the completed receive calls waited for
+     *         messages, in milliseconds, or 0 if none completed
+     */
+    public double getAverageWaitTimeMillis() {
+        return receiveCount == 0 ? 0 : totalWaitTimeNanos / 1e6 / receiveCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ReceiveQueueBufferStatistics [queueUrl=" + queueUrl
+                + ", bufferedMessageCount=" + bufferedMessageCount
+                + ", bufferedBatchCount=" + bufferedBatchCount
+                + ", inflightReceiveBatchCount=" + inflightReceiveBatchCount
+                + ", waitingReceiveCount=" + waitingReceiveCount
+                + ", receiveCount=" + receiveCount
+                + ", averageWaitTimeMillis=" + getAverageWaitTimeMillis() + "]";
+    }
+}
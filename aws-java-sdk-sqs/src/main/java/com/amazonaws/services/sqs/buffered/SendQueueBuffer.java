@@ -17,9 +17,11 @@ package com.amazonaws.services.sqs.buffered;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -55,6 +57,11 @@ import com.amazonaws.services.sqs.model.SendMessageResult;
  * outstanding). When the outstanding batch becomes full, or when a configurable
  * timeout expires, the buffer makes a call to SQS to execute the current batch. <br>
  *
+ * Open batches don't hold any thread: the timeout of each batch is a task
+ * scheduled on a timer shared by all buffers, and a batch is only handed to the
+ * executor once it has been closed, either by that task or by the request that
+ * filled it. <br>
+ *
  * Internally, the batch objects maintain a list of futures corresponding to the
  * requests added to them. When a batch completes, it loads the results into the
  * futures and marks the futures as complete.
@@ -83,6 +90,12 @@ public class SendQueueBuffer {
      */
     private final Executor executor;
 
+    /**
+     * The timer closing the open batches once they have been open for
+     * {@code maxBatchOpenMs}.
+     */
+    private final ScheduledExecutorService batchCloser;
+
     /**
      * Object used to serialize sendMessage calls.
      */
@@ -99,23 +112,25 @@ public class SendQueueBuffer {
     private final Object changeMessageVisibilityLock = new Object();
 
     /**
-     * Current batching task for sendMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code sendMessageLock}.
+     * Current batching task for sendMessage. Replaced while holding
+     * {@code sendMessageLock}, but requests are added to the current task
+     * without it.
      */
-    private final SendMessageBatchTask[] openSendMessageBatchTask = new SendMessageBatchTask[1];
+    private final AtomicReference<SendMessageBatchTask> openSendMessageBatchTask = new AtomicReference<SendMessageBatchTask>();
 
     /**
-     * Current batching task for deleteMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code deleteMessageLock}.
+     * Current batching task for deleteMessage. Replaced while holding
+     * {@code deleteMessageLock}, but requests are added to the current task
+     * without it.
      */
-    private final DeleteMessageBatchTask[] openDeleteMessageBatchTask = new DeleteMessageBatchTask[1];
+    private final AtomicReference<DeleteMessageBatchTask> openDeleteMessageBatchTask = new AtomicReference<DeleteMessageBatchTask>();
 
     /**
-     * Current batching task for changeMessageVisibility. Using a size 1 array
-     * to allow "passing by reference". Synchronized by
-     * {@code changeMessageVisibilityLock}.
+     * Current batching task for changeMessageVisibility. Replaced while
+     * holding {@code changeMessageVisibilityLock}, but requests are added to
+     * the current task without it.
      */
-    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTask = new ChangeMessageVisibilityBatchTask[1];
+    private final AtomicReference<ChangeMessageVisibilityBatchTask> openChangeMessageVisibilityBatchTask = new AtomicReference<ChangeMessageVisibilityBatchTask>();
 
     /**
      * Permits controlling the number of in flight SendMessage batches.
@@ -133,9 +148,11 @@ public class SendQueueBuffer {
      */
     private final Semaphore inflightChangeMessageVisibilityBatches;
 
-    SendQueueBuffer(AmazonSQS sqsClient, Executor executor, QueueBufferConfig paramConfig, String url) {
+    SendQueueBuffer(AmazonSQS sqsClient, Executor executor, ScheduledExecutorService batchCloser,
+            QueueBufferConfig paramConfig, String url) {
         this.sqsClient = sqsClient;
         this.executor = executor;
+        this.batchCloser = batchCloser;
         this.config = paramConfig;
         qUrl = url;
         int maxBatch = config.getMaxInflightOutboundBatches();
@@ -206,24 +223,28 @@ public class SendQueueBuffer {
      * {@code DeleteMessage}, {@code ChangeMessageVisibility}) in this buffer.
      * <p>
      * The call returns successfully when all outstanding outbound requests
-     * submitted before the call are completed (i.e. processed by SQS).
+     * submitted before the call are completed (i.e. processed by SQS). The
+     * open batches are closed right away, rather than when they time out.
      */
     public void flush() {
 
         try {
             synchronized (sendMessageLock) {
+                closeOpenBatch(openSendMessageBatchTask);
                 inflightSendMessageBatches
                         .acquire(config.getMaxInflightOutboundBatches());
                 inflightSendMessageBatches
                         .release(config.getMaxInflightOutboundBatches());
             }
             synchronized (deleteMessageLock) {
+                closeOpenBatch(openDeleteMessageBatchTask);
                 inflightDeleteMessageBatches
                         .acquire(config.getMaxInflightOutboundBatches());
                 inflightDeleteMessageBatches
                         .release(config.getMaxInflightOutboundBatches());
             }
             synchronized (changeMessageVisibilityLock) {
+                closeOpenBatch(openChangeMessageVisibilityBatchTask);
                 inflightChangeMessageVisibilityBatches
                         .acquire(config.getMaxInflightOutboundBatches());
                 inflightChangeMessageVisibilityBatches
@@ -234,6 +255,12 @@ public class SendQueueBuffer {
         }
     }
 
+    private void closeOpenBatch(AtomicReference<? extends OutboundBatchTask<?, ?>> openOutboundBatchTask) {
+        OutboundBatchTask<?, ?> obt = openOutboundBatchTask.get();
+        if (obt != null)
+            obt.close();
+    }
+
     /**
      * Submits an outbound request for delivery to the queue associated with
      * this buffer.
@@ -256,7 +283,7 @@ public class SendQueueBuffer {
     @SuppressWarnings("unchecked")
     <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(
             Object operationLock,
-            OBT[] openOutboundBatchTask,
+            AtomicReference<OBT> openOutboundBatchTask,
             R request,
             final Semaphore inflightOperationBatches,
             QueueBufferCallback<R, Result> callback) {
@@ -265,17 +292,28 @@ public class SendQueueBuffer {
          * until it is full or maxBatchOpenMs elapses. The total number of batch
          * task in flight is controlled by the inflightOperationBatch semaphore
          * capped at maxInflightOutboundBatches.
+         *
+         * The open batch task synchronizes its own additions, so the operation
+         * lock is only taken to replace it once it has been closed.
          */
-        QueueBufferFuture<R, Result> theFuture = null;
+        OBT obt = openOutboundBatchTask.get();
+        QueueBufferFuture<R, Result> theFuture = (obt == null) ? null : obt.addRequest(request, callback);
+        if (theFuture != null)
+            return theFuture;
+
         try {
             synchronized (operationLock) {
-                if (openOutboundBatchTask[0] == null || ((theFuture = openOutboundBatchTask[0].addRequest(request, callback))) == null) {
-                    OBT obt = (OBT) newOutboundBatchTask(request);
+                // another caller may have replaced the closed batch task
+                // while this one was waiting for the lock
+                OBT current = openOutboundBatchTask.get();
+                if (current != obt && current != null)
+                    theFuture = current.addRequest(request, callback);
+                if (theFuture == null) {
+                    obt = (OBT) newOutboundBatchTask(request);
                     inflightOperationBatches.acquire();
-                    openOutboundBatchTask[0] = obt;
                     // Register a listener for the event signaling that the
                     // batch task has completed (successfully or not).
-                    openOutboundBatchTask[0].onCompleted = new Listener<OutboundBatchTask<R, Result>>() {
+                    obt.onCompleted = new Listener<OutboundBatchTask<R, Result>>() {
                         public void invoke(OutboundBatchTask<R, Result> task) {
                             inflightOperationBatches.release();
                         }
@@ -287,8 +325,16 @@ public class SendQueueBuffer {
                                 + " free slots remain");
                     }
 
-                    theFuture = openOutboundBatchTask[0].addRequest(request, callback);
-                    executor.execute(openOutboundBatchTask[0]);
+                    theFuture = obt.addRequest(request, callback);
+                    if (obt.isOpen()) {
+                        final OutboundBatchTask<R, Result> toClose = obt;
+                        batchCloser.schedule(new Runnable() {
+                            public void run() {
+                                toClose.close();
+                            }
+                        }, config.getMaxBatchOpenMs(), TimeUnit.MILLISECONDS);
+                    }
+                    openOutboundBatchTask.set(obt);
                     if ( null == theFuture ) {
                         //this can happen only if the request itself is flawed,
                         //so that it can't be added to any batch, even a brand
@@ -313,8 +359,9 @@ public class SendQueueBuffer {
      * Task to send a batch of outbound requests to SQS.
      * <p>
      * The batch task is constructed open and accepts requests until full, or
-     * until {@code maxBatchOpenMs} elapses. At that point, the batch closes and
-     * the collected requests are assembled into a single batch request to SQS.
+     * until {@code maxBatchOpenMs} elapses. At that point, the batch closes, is
+     * submitted to the executor, and the collected requests are assembled into
+     * a single batch request to SQS.
      * Specialized for each type of outbound request.
      * <p>
      * Instances of this class (and subclasses) are thread-safe.
@@ -327,7 +374,7 @@ public class SendQueueBuffer {
     private abstract class OutboundBatchTask<R extends AmazonWebServiceRequest, Result> implements Runnable {
         final List<R> requests;
         final ArrayList<QueueBufferFuture<R, Result>> futures;
-        AtomicBoolean open = new AtomicBoolean(true);
+        final AtomicBoolean open = new AtomicBoolean(true);
         volatile Listener<OutboundBatchTask<R, Result>> onCompleted = null;
 
         OutboundBatchTask() {
@@ -348,19 +395,29 @@ public class SendQueueBuffer {
             QueueBufferFuture<R, Result> theFuture = addIfAllowed(request, callback);
 
             // if the addition did not work, or this addition made us full,
-            // we can close the request
-            if ((null == theFuture) || isFull()) {
-                open.set(false);
-            }
-
             // the batch request is as full as it will ever be. no need to wait
             // for the timeout, we can run it now.
-            if (!open.get())
-                notify();
+            if ((null == theFuture) || isFull()) {
+                close();
+            }
 
             return theFuture;
         }
 
+        boolean isOpen() {
+            return open.get();
+        }
+
+        /**
+         * Closes the batch, if it is still open, and submits it to the
+         * executor. Called when the batch is full, when {@code maxBatchOpenMs}
+         * elapses, or when the buffer is flushed.
+         */
+        void close() {
+            if (open.compareAndSet(true, false))
+                executor.execute(this);
+        }
+
         /**
          * Adds the request to the batch if capacity allows it.
          *
@@ -402,24 +459,13 @@ public class SendQueueBuffer {
          */
         abstract void process();
 
+        /**
+         * Processes the batch. Only run once the batch has been closed.
+         */
         @Override
         public synchronized void run() {
             try {
-                long deadlineMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS ) +
-                        config.getMaxBatchOpenMs() +1;
-                long t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS );
-                while (open.get()  && (t  < deadlineMs ) ) {
-                    t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS );
-
-                    //zero means "wait forever", can't have that.
-                    long toWait = Math.max(1, deadlineMs - t);
-                    wait(toWait);
-                }
-
-                open.set(false);
                 process();
-            } catch (InterruptedException e) {
-                failAll( e );
             } catch (AmazonClientException e) {
                 failAll( e );
             } catch (RuntimeException e) {
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.simplesystemsmanagement.model.*;
+import com.amazonaws.services.simplesystemsmanagement.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSSimpleSystemsManagement.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * <p>
  * AWS Simple Systems Management enables you to configure and manage your
  * EC2 instances. You can create a configuration document and then
@@ -327,11 +331,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<DeleteDocumentResult> deleteDocumentAsync(final DeleteDocumentRequest deleteDocumentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentResult>() {
-            public DeleteDocumentResult call() throws Exception {
-                return deleteDocument(deleteDocumentRequest);
-        }
-    });
+        return deleteDocumentComposableAsync(deleteDocumentRequest);
     }
 
     /**
@@ -367,19 +367,28 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final DeleteDocumentRequest deleteDocumentRequest,
             final AsyncHandler<DeleteDocumentRequest, DeleteDocumentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentResult>() {
+        return withAsyncHandler(deleteDocumentComposableAsync(deleteDocumentRequest),
+                deleteDocumentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteDocument operation like
+     * {@link #deleteDocumentAsync(DeleteDocumentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteDocumentRequest Container for the necessary parameters to
+     *           execute the DeleteDocument operation on AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the DeleteDocument
+     *         service method, as returned by AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<DeleteDocumentResult> deleteDocumentComposableAsync(final DeleteDocumentRequest deleteDocumentRequest) {
+        return executeAsync(executorService, new Callable<DeleteDocumentResult>() {
             public DeleteDocumentResult call() throws Exception {
-              DeleteDocumentResult result;
-                try {
-                result = deleteDocument(deleteDocumentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDocumentRequest, result);
-                 return result;
-        }
-    });
+                return deleteDocument(deleteDocumentRequest);
+            }
+        }, deleteDocumentRequest,
+                new DeleteDocumentRequestMarshaller(), new DeleteDocumentResultJsonUnmarshaller());
     }
     
     /**
@@ -407,11 +416,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<DescribeAssociationResult> describeAssociationAsync(final DescribeAssociationRequest describeAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAssociationResult>() {
-            public DescribeAssociationResult call() throws Exception {
-                return describeAssociation(describeAssociationRequest);
-        }
-    });
+        return describeAssociationComposableAsync(describeAssociationRequest);
     }
 
     /**
@@ -445,19 +450,31 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final DescribeAssociationRequest describeAssociationRequest,
             final AsyncHandler<DescribeAssociationRequest, DescribeAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAssociationResult>() {
+        return withAsyncHandler(describeAssociationComposableAsync(describeAssociationRequest),
+                describeAssociationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAssociation operation like
+     * {@link #describeAssociationAsync(DescribeAssociationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAssociationRequest Container for the necessary
+     *           parameters to execute the DescribeAssociation operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAssociation service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<DescribeAssociationResult> describeAssociationComposableAsync(final DescribeAssociationRequest describeAssociationRequest) {
+        return executeAsync(executorService, new Callable<DescribeAssociationResult>() {
             public DescribeAssociationResult call() throws Exception {
-              DescribeAssociationResult result;
-                try {
-                result = describeAssociation(describeAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAssociationRequest, result);
-                 return result;
-        }
-    });
+                return describeAssociation(describeAssociationRequest);
+            }
+        }, describeAssociationRequest,
+                new DescribeAssociationRequestMarshaller(), new DescribeAssociationResultJsonUnmarshaller());
     }
     
     /**
@@ -495,11 +512,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<CreateAssociationResult> createAssociationAsync(final CreateAssociationRequest createAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAssociationResult>() {
-            public CreateAssociationResult call() throws Exception {
-                return createAssociation(createAssociationRequest);
-        }
-    });
+        return createAssociationComposableAsync(createAssociationRequest);
     }
 
     /**
@@ -543,19 +556,31 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final CreateAssociationRequest createAssociationRequest,
             final AsyncHandler<CreateAssociationRequest, CreateAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAssociationResult>() {
+        return withAsyncHandler(createAssociationComposableAsync(createAssociationRequest),
+                createAssociationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAssociation operation like
+     * {@link #createAssociationAsync(CreateAssociationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param createAssociationRequest Container for the necessary parameters
+     *           to execute the CreateAssociation operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateAssociation service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<CreateAssociationResult> createAssociationComposableAsync(final CreateAssociationRequest createAssociationRequest) {
+        return executeAsync(executorService, new Callable<CreateAssociationResult>() {
             public CreateAssociationResult call() throws Exception {
-              CreateAssociationResult result;
-                try {
-                result = createAssociation(createAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAssociationRequest, result);
-                 return result;
-        }
-    });
+                return createAssociation(createAssociationRequest);
+            }
+        }, createAssociationRequest,
+                new CreateAssociationRequestMarshaller(), new CreateAssociationResultJsonUnmarshaller());
     }
     
     /**
@@ -593,11 +618,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<CreateAssociationBatchResult> createAssociationBatchAsync(final CreateAssociationBatchRequest createAssociationBatchRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAssociationBatchResult>() {
-            public CreateAssociationBatchResult call() throws Exception {
-                return createAssociationBatch(createAssociationBatchRequest);
-        }
-    });
+        return createAssociationBatchComposableAsync(createAssociationBatchRequest);
     }
 
     /**
@@ -641,19 +662,31 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final CreateAssociationBatchRequest createAssociationBatchRequest,
             final AsyncHandler<CreateAssociationBatchRequest, CreateAssociationBatchResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAssociationBatchResult>() {
+        return withAsyncHandler(createAssociationBatchComposableAsync(createAssociationBatchRequest),
+                createAssociationBatchRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateAssociationBatch operation like
+     * {@link #createAssociationBatchAsync(CreateAssociationBatchRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createAssociationBatchRequest Container for the necessary
+     *           parameters to execute the CreateAssociationBatch operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         CreateAssociationBatch service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<CreateAssociationBatchResult> createAssociationBatchComposableAsync(final CreateAssociationBatchRequest createAssociationBatchRequest) {
+        return executeAsync(executorService, new Callable<CreateAssociationBatchResult>() {
             public CreateAssociationBatchResult call() throws Exception {
-              CreateAssociationBatchResult result;
-                try {
-                result = createAssociationBatch(createAssociationBatchRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createAssociationBatchRequest, result);
-                 return result;
-        }
-    });
+                return createAssociationBatch(createAssociationBatchRequest);
+            }
+        }, createAssociationBatchRequest,
+                new CreateAssociationBatchRequestMarshaller(), new CreateAssociationBatchResultJsonUnmarshaller());
     }
     
     /**
@@ -680,11 +713,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<DescribeDocumentResult> describeDocumentAsync(final DescribeDocumentRequest describeDocumentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentResult>() {
-            public DescribeDocumentResult call() throws Exception {
-                return describeDocument(describeDocumentRequest);
-        }
-    });
+        return describeDocumentComposableAsync(describeDocumentRequest);
     }
 
     /**
@@ -717,19 +746,30 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final DescribeDocumentRequest describeDocumentRequest,
             final AsyncHandler<DescribeDocumentRequest, DescribeDocumentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentResult>() {
+        return withAsyncHandler(describeDocumentComposableAsync(describeDocumentRequest),
+                describeDocumentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeDocument operation like
+     * {@link #describeDocumentAsync(DescribeDocumentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeDocumentRequest Container for the necessary parameters
+     *           to execute the DescribeDocument operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         DescribeDocument service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<DescribeDocumentResult> describeDocumentComposableAsync(final DescribeDocumentRequest describeDocumentRequest) {
+        return executeAsync(executorService, new Callable<DescribeDocumentResult>() {
             public DescribeDocumentResult call() throws Exception {
-              DescribeDocumentResult result;
-                try {
-                result = describeDocument(describeDocumentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDocumentRequest, result);
-                 return result;
-        }
-    });
+                return describeDocument(describeDocumentRequest);
+            }
+        }, describeDocumentRequest,
+                new DescribeDocumentRequestMarshaller(), new DescribeDocumentResultJsonUnmarshaller());
     }
     
     /**
@@ -757,11 +797,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<UpdateAssociationStatusResult> updateAssociationStatusAsync(final UpdateAssociationStatusRequest updateAssociationStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAssociationStatusResult>() {
-            public UpdateAssociationStatusResult call() throws Exception {
-                return updateAssociationStatus(updateAssociationStatusRequest);
-        }
-    });
+        return updateAssociationStatusComposableAsync(updateAssociationStatusRequest);
     }
 
     /**
@@ -795,19 +831,31 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final UpdateAssociationStatusRequest updateAssociationStatusRequest,
             final AsyncHandler<UpdateAssociationStatusRequest, UpdateAssociationStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateAssociationStatusResult>() {
+        return withAsyncHandler(updateAssociationStatusComposableAsync(updateAssociationStatusRequest),
+                updateAssociationStatusRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateAssociationStatus operation like
+     * {@link #updateAssociationStatusAsync(UpdateAssociationStatusRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateAssociationStatusRequest Container for the necessary
+     *           parameters to execute the UpdateAssociationStatus operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         UpdateAssociationStatus service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<UpdateAssociationStatusResult> updateAssociationStatusComposableAsync(final UpdateAssociationStatusRequest updateAssociationStatusRequest) {
+        return executeAsync(executorService, new Callable<UpdateAssociationStatusResult>() {
             public UpdateAssociationStatusResult call() throws Exception {
-              UpdateAssociationStatusResult result;
-                try {
-                result = updateAssociationStatus(updateAssociationStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateAssociationStatusRequest, result);
-                 return result;
-        }
-    });
+                return updateAssociationStatus(updateAssociationStatusRequest);
+            }
+        }, updateAssociationStatusRequest,
+                new UpdateAssociationStatusRequestMarshaller(), new UpdateAssociationStatusResultJsonUnmarshaller());
     }
     
     /**
@@ -835,11 +883,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<ListAssociationsResult> listAssociationsAsync(final ListAssociationsRequest listAssociationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAssociationsResult>() {
-            public ListAssociationsResult call() throws Exception {
-                return listAssociations(listAssociationsRequest);
-        }
-    });
+        return listAssociationsComposableAsync(listAssociationsRequest);
     }
 
     /**
@@ -873,19 +917,30 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final ListAssociationsRequest listAssociationsRequest,
             final AsyncHandler<ListAssociationsRequest, ListAssociationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAssociationsResult>() {
+        return withAsyncHandler(listAssociationsComposableAsync(listAssociationsRequest),
+                listAssociationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListAssociations operation like
+     * {@link #listAssociationsAsync(ListAssociationsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listAssociationsRequest Container for the necessary parameters
+     *           to execute the ListAssociations operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         ListAssociations service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<ListAssociationsResult> listAssociationsComposableAsync(final ListAssociationsRequest listAssociationsRequest) {
+        return executeAsync(executorService, new Callable<ListAssociationsResult>() {
             public ListAssociationsResult call() throws Exception {
-              ListAssociationsResult result;
-                try {
-                result = listAssociations(listAssociationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listAssociationsRequest, result);
-                 return result;
-        }
-    });
+                return listAssociations(listAssociationsRequest);
+            }
+        }, listAssociationsRequest,
+                new ListAssociationsRequestMarshaller(), new ListAssociationsResultJsonUnmarshaller());
     }
     
     /**
@@ -911,11 +966,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<ListDocumentsResult> listDocumentsAsync(final ListDocumentsRequest listDocumentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentsResult>() {
-            public ListDocumentsResult call() throws Exception {
-                return listDocuments(listDocumentsRequest);
-        }
-    });
+        return listDocumentsComposableAsync(listDocumentsRequest);
     }
 
     /**
@@ -947,19 +998,28 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final ListDocumentsRequest listDocumentsRequest,
             final AsyncHandler<ListDocumentsRequest, ListDocumentsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentsResult>() {
+        return withAsyncHandler(listDocumentsComposableAsync(listDocumentsRequest),
+                listDocumentsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListDocuments operation like
+     * {@link #listDocumentsAsync(ListDocumentsRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listDocumentsRequest Container for the necessary parameters to
+     *           execute the ListDocuments operation on AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the ListDocuments
+     *         service method, as returned by AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<ListDocumentsResult> listDocumentsComposableAsync(final ListDocumentsRequest listDocumentsRequest) {
+        return executeAsync(executorService, new Callable<ListDocumentsResult>() {
             public ListDocumentsResult call() throws Exception {
-              ListDocumentsResult result;
-                try {
-                result = listDocuments(listDocumentsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDocumentsRequest, result);
-                 return result;
-        }
-    });
+                return listDocuments(listDocumentsRequest);
+            }
+        }, listDocumentsRequest,
+                new ListDocumentsRequestMarshaller(), new ListDocumentsResultJsonUnmarshaller());
     }
     
     /**
@@ -994,11 +1054,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<DeleteAssociationResult> deleteAssociationAsync(final DeleteAssociationRequest deleteAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteAssociationResult>() {
-            public DeleteAssociationResult call() throws Exception {
-                return deleteAssociation(deleteAssociationRequest);
-        }
-    });
+        return deleteAssociationComposableAsync(deleteAssociationRequest);
     }
 
     /**
@@ -1039,19 +1095,31 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final DeleteAssociationRequest deleteAssociationRequest,
             final AsyncHandler<DeleteAssociationRequest, DeleteAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteAssociationResult>() {
+        return withAsyncHandler(deleteAssociationComposableAsync(deleteAssociationRequest),
+                deleteAssociationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteAssociation operation like
+     * {@link #deleteAssociationAsync(DeleteAssociationRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteAssociationRequest Container for the necessary parameters
+     *           to execute the DeleteAssociation operation on
+     *           AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the
+     *         DeleteAssociation service method, as returned by
+     *         AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<DeleteAssociationResult> deleteAssociationComposableAsync(final DeleteAssociationRequest deleteAssociationRequest) {
+        return executeAsync(executorService, new Callable<DeleteAssociationResult>() {
             public DeleteAssociationResult call() throws Exception {
-              DeleteAssociationResult result;
-                try {
-                result = deleteAssociation(deleteAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAssociationRequest, result);
-                 return result;
-        }
-    });
+                return deleteAssociation(deleteAssociationRequest);
+            }
+        }, deleteAssociationRequest,
+                new DeleteAssociationRequestMarshaller(), new DeleteAssociationResultJsonUnmarshaller());
     }
     
     /**
@@ -1081,11 +1149,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<CreateDocumentResult> createDocumentAsync(final CreateDocumentRequest createDocumentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentResult>() {
-            public CreateDocumentResult call() throws Exception {
-                return createDocument(createDocumentRequest);
-        }
-    });
+        return createDocumentComposableAsync(createDocumentRequest);
     }
 
     /**
@@ -1121,19 +1185,28 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final CreateDocumentRequest createDocumentRequest,
             final AsyncHandler<CreateDocumentRequest, CreateDocumentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentResult>() {
+        return withAsyncHandler(createDocumentComposableAsync(createDocumentRequest),
+                createDocumentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateDocument operation like
+     * {@link #createDocumentAsync(CreateDocumentRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createDocumentRequest Container for the necessary parameters to
+     *           execute the CreateDocument operation on AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the CreateDocument
+     *         service method, as returned by AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<CreateDocumentResult> createDocumentComposableAsync(final CreateDocumentRequest createDocumentRequest) {
+        return executeAsync(executorService, new Callable<CreateDocumentResult>() {
             public CreateDocumentResult call() throws Exception {
-              CreateDocumentResult result;
-                try {
-                result = createDocument(createDocumentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDocumentRequest, result);
-                 return result;
-        }
-    });
+                return createDocument(createDocumentRequest);
+            }
+        }, createDocumentRequest,
+                new CreateDocumentRequestMarshaller(), new CreateDocumentResultJsonUnmarshaller());
     }
     
     /**
@@ -1158,11 +1231,7 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
      */
     public Future<GetDocumentResult> getDocumentAsync(final GetDocumentRequest getDocumentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentResult>() {
-            public GetDocumentResult call() throws Exception {
-                return getDocument(getDocumentRequest);
-        }
-    });
+        return getDocumentComposableAsync(getDocumentRequest);
     }
 
     /**
@@ -1193,19 +1262,28 @@ public class AWSSimpleSystemsManagementAsyncClient extends AWSSimpleSystemsManag
             final GetDocumentRequest getDocumentRequest,
             final AsyncHandler<GetDocumentRequest, GetDocumentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentResult>() {
+        return withAsyncHandler(getDocumentComposableAsync(getDocumentRequest),
+                getDocumentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetDocument operation like
+     * {@link #getDocumentAsync(GetDocumentRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param getDocumentRequest Container for the necessary parameters to
+     *           execute the GetDocument operation on AWSSimpleSystemsManagement.
+     *
+     * @return A composable future for the response from the GetDocument
+     *         service method, as returned by AWSSimpleSystemsManagement.
+     */
+    public ComposableFuture<GetDocumentResult> getDocumentComposableAsync(final GetDocumentRequest getDocumentRequest) {
+        return executeAsync(executorService, new Callable<GetDocumentResult>() {
             public GetDocumentResult call() throws Exception {
-              GetDocumentResult result;
-                try {
-                result = getDocument(getDocumentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getDocumentRequest, result);
-                 return result;
-        }
-    });
+                return getDocument(getDocumentRequest);
+            }
+        }, getDocumentRequest,
+                new GetDocumentRequestMarshaller(), new GetDocumentResultJsonUnmarshaller());
     }
     
 }
@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.storagegateway.model.*;
+import com.amazonaws.services.storagegateway.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSStorageGateway.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Storage Gateway Service <p>
  * AWS Storage Gateway is the service that connects an on-premises
  * software appliance with cloud-based storage to provide seamless and
@@ -340,11 +344,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteSnapshotScheduleResult> deleteSnapshotScheduleAsync(final DeleteSnapshotScheduleRequest deleteSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSnapshotScheduleResult>() {
-            public DeleteSnapshotScheduleResult call() throws Exception {
-                return deleteSnapshotSchedule(deleteSnapshotScheduleRequest);
-        }
-    });
+        return deleteSnapshotScheduleComposableAsync(deleteSnapshotScheduleRequest);
     }
 
     /**
@@ -389,19 +389,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteSnapshotScheduleRequest deleteSnapshotScheduleRequest,
             final AsyncHandler<DeleteSnapshotScheduleRequest, DeleteSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteSnapshotScheduleResult>() {
+        return withAsyncHandler(deleteSnapshotScheduleComposableAsync(deleteSnapshotScheduleRequest),
+                deleteSnapshotScheduleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteSnapshotSchedule operation like
+     * {@link #deleteSnapshotScheduleAsync(DeleteSnapshotScheduleRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteSnapshotScheduleRequest Container for the necessary
+     *           parameters to execute the DeleteSnapshotSchedule operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DeleteSnapshotSchedule service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteSnapshotScheduleResult> deleteSnapshotScheduleComposableAsync(final DeleteSnapshotScheduleRequest deleteSnapshotScheduleRequest) {
+        return executeAsync(executorService, new Callable<DeleteSnapshotScheduleResult>() {
             public DeleteSnapshotScheduleResult call() throws Exception {
-              DeleteSnapshotScheduleResult result;
-                try {
-                result = deleteSnapshotSchedule(deleteSnapshotScheduleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotScheduleRequest, result);
-                 return result;
-        }
-    });
+                return deleteSnapshotSchedule(deleteSnapshotScheduleRequest);
+            }
+        }, deleteSnapshotScheduleRequest,
+                new DeleteSnapshotScheduleRequestMarshaller(), new DeleteSnapshotScheduleResultJsonUnmarshaller());
     }
     
     /**
@@ -430,11 +442,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeMaintenanceStartTimeResult> describeMaintenanceStartTimeAsync(final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMaintenanceStartTimeResult>() {
-            public DescribeMaintenanceStartTimeResult call() throws Exception {
-                return describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
-        }
-    });
+        return describeMaintenanceStartTimeComposableAsync(describeMaintenanceStartTimeRequest);
     }
 
     /**
@@ -469,19 +477,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest,
             final AsyncHandler<DescribeMaintenanceStartTimeRequest, DescribeMaintenanceStartTimeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMaintenanceStartTimeResult>() {
+        return withAsyncHandler(describeMaintenanceStartTimeComposableAsync(describeMaintenanceStartTimeRequest),
+                describeMaintenanceStartTimeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeMaintenanceStartTime operation
+     * like
+     * {@link #describeMaintenanceStartTimeAsync(DescribeMaintenanceStartTimeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeMaintenanceStartTimeRequest Container for the necessary
+     *           parameters to execute the DescribeMaintenanceStartTime operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeMaintenanceStartTime service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeMaintenanceStartTimeResult> describeMaintenanceStartTimeComposableAsync(final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest) {
+        return executeAsync(executorService, new Callable<DescribeMaintenanceStartTimeResult>() {
             public DescribeMaintenanceStartTimeResult call() throws Exception {
-              DescribeMaintenanceStartTimeResult result;
-                try {
-                result = describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMaintenanceStartTimeRequest, result);
-                 return result;
-        }
-    });
+                return describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
+            }
+        }, describeMaintenanceStartTimeRequest,
+                new DescribeMaintenanceStartTimeRequestMarshaller(), new DescribeMaintenanceStartTimeResultJsonUnmarshaller());
     }
     
     /**
@@ -524,11 +545,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateStorediSCSIVolumeResult> createStorediSCSIVolumeAsync(final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorediSCSIVolumeResult>() {
-            public CreateStorediSCSIVolumeResult call() throws Exception {
-                return createStorediSCSIVolume(createStorediSCSIVolumeRequest);
-        }
-    });
+        return createStorediSCSIVolumeComposableAsync(createStorediSCSIVolumeRequest);
     }
 
     /**
@@ -577,19 +594,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest,
             final AsyncHandler<CreateStorediSCSIVolumeRequest, CreateStorediSCSIVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorediSCSIVolumeResult>() {
+        return withAsyncHandler(createStorediSCSIVolumeComposableAsync(createStorediSCSIVolumeRequest),
+                createStorediSCSIVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateStorediSCSIVolume operation like
+     * {@link #createStorediSCSIVolumeAsync(CreateStorediSCSIVolumeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createStorediSCSIVolumeRequest Container for the necessary
+     *           parameters to execute the CreateStorediSCSIVolume operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         CreateStorediSCSIVolume service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<CreateStorediSCSIVolumeResult> createStorediSCSIVolumeComposableAsync(final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest) {
+        return executeAsync(executorService, new Callable<CreateStorediSCSIVolumeResult>() {
             public CreateStorediSCSIVolumeResult call() throws Exception {
-              CreateStorediSCSIVolumeResult result;
-                try {
-                result = createStorediSCSIVolume(createStorediSCSIVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createStorediSCSIVolumeRequest, result);
-                 return result;
-        }
-    });
+                return createStorediSCSIVolume(createStorediSCSIVolumeRequest);
+            }
+        }, createStorediSCSIVolumeRequest,
+                new CreateStorediSCSIVolumeRequestMarshaller(), new CreateStorediSCSIVolumeResultJsonUnmarshaller());
     }
     
     /**
@@ -639,11 +668,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return createSnapshotComposableAsync(createSnapshotRequest);
     }
 
     /**
@@ -699,19 +724,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
+        return withAsyncHandler(createSnapshotComposableAsync(createSnapshotRequest),
+                createSnapshotRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSnapshot operation like
+     * {@link #createSnapshotAsync(CreateSnapshotRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param createSnapshotRequest Container for the necessary parameters to
+     *           execute the CreateSnapshot operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the CreateSnapshot
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<CreateSnapshotResult> createSnapshotComposableAsync(final CreateSnapshotRequest createSnapshotRequest) {
+        return executeAsync(executorService, new Callable<CreateSnapshotResult>() {
             public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+                return createSnapshot(createSnapshotRequest);
+            }
+        }, createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(), new CreateSnapshotResultJsonUnmarshaller());
     }
     
     /**
@@ -750,11 +784,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddWorkingStorageResult> addWorkingStorageAsync(final AddWorkingStorageRequest addWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddWorkingStorageResult>() {
-            public AddWorkingStorageResult call() throws Exception {
-                return addWorkingStorage(addWorkingStorageRequest);
-        }
-    });
+        return addWorkingStorageComposableAsync(addWorkingStorageRequest);
     }
 
     /**
@@ -799,19 +829,30 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddWorkingStorageRequest addWorkingStorageRequest,
             final AsyncHandler<AddWorkingStorageRequest, AddWorkingStorageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddWorkingStorageResult>() {
+        return withAsyncHandler(addWorkingStorageComposableAsync(addWorkingStorageRequest),
+                addWorkingStorageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddWorkingStorage operation like
+     * {@link #addWorkingStorageAsync(AddWorkingStorageRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param addWorkingStorageRequest Container for the necessary parameters
+     *           to execute the AddWorkingStorage operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         AddWorkingStorage service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<AddWorkingStorageResult> addWorkingStorageComposableAsync(final AddWorkingStorageRequest addWorkingStorageRequest) {
+        return executeAsync(executorService, new Callable<AddWorkingStorageResult>() {
             public AddWorkingStorageResult call() throws Exception {
-              AddWorkingStorageResult result;
-                try {
-                result = addWorkingStorage(addWorkingStorageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addWorkingStorageRequest, result);
-                 return result;
-        }
-    });
+                return addWorkingStorage(addWorkingStorageRequest);
+            }
+        }, addWorkingStorageRequest,
+                new AddWorkingStorageRequestMarshaller(), new AddWorkingStorageResultJsonUnmarshaller());
     }
     
     /**
@@ -838,11 +879,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CancelRetrievalResult> cancelRetrievalAsync(final CancelRetrievalRequest cancelRetrievalRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelRetrievalResult>() {
-            public CancelRetrievalResult call() throws Exception {
-                return cancelRetrieval(cancelRetrievalRequest);
-        }
-    });
+        return cancelRetrievalComposableAsync(cancelRetrievalRequest);
     }
 
     /**
@@ -875,19 +912,29 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelRetrievalRequest cancelRetrievalRequest,
             final AsyncHandler<CancelRetrievalRequest, CancelRetrievalResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelRetrievalResult>() {
+        return withAsyncHandler(cancelRetrievalComposableAsync(cancelRetrievalRequest),
+                cancelRetrievalRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelRetrieval operation like
+     * {@link #cancelRetrievalAsync(CancelRetrievalRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param cancelRetrievalRequest Container for the necessary parameters
+     *           to execute the CancelRetrieval operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         CancelRetrieval service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<CancelRetrievalResult> cancelRetrievalComposableAsync(final CancelRetrievalRequest cancelRetrievalRequest) {
+        return executeAsync(executorService, new Callable<CancelRetrievalResult>() {
             public CancelRetrievalResult call() throws Exception {
-              CancelRetrievalResult result;
-                try {
-                result = cancelRetrieval(cancelRetrievalRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelRetrievalRequest, result);
-                 return result;
-        }
-    });
+                return cancelRetrieval(cancelRetrievalRequest);
+            }
+        }, cancelRetrievalRequest,
+                new CancelRetrievalRequestMarshaller(), new CancelRetrievalResultJsonUnmarshaller());
     }
     
     /**
@@ -923,11 +970,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeBandwidthRateLimitResult> describeBandwidthRateLimitAsync(final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBandwidthRateLimitResult>() {
-            public DescribeBandwidthRateLimitResult call() throws Exception {
-                return describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
-        }
-    });
+        return describeBandwidthRateLimitComposableAsync(describeBandwidthRateLimitRequest);
     }
 
     /**
@@ -969,19 +1012,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest,
             final AsyncHandler<DescribeBandwidthRateLimitRequest, DescribeBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBandwidthRateLimitResult>() {
+        return withAsyncHandler(describeBandwidthRateLimitComposableAsync(describeBandwidthRateLimitRequest),
+                describeBandwidthRateLimitRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeBandwidthRateLimit operation
+     * like
+     * {@link #describeBandwidthRateLimitAsync(DescribeBandwidthRateLimitRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeBandwidthRateLimitRequest Container for the necessary
+     *           parameters to execute the DescribeBandwidthRateLimit operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeBandwidthRateLimit service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeBandwidthRateLimitResult> describeBandwidthRateLimitComposableAsync(final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest) {
+        return executeAsync(executorService, new Callable<DescribeBandwidthRateLimitResult>() {
             public DescribeBandwidthRateLimitResult call() throws Exception {
-              DescribeBandwidthRateLimitResult result;
-                try {
-                result = describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBandwidthRateLimitRequest, result);
-                 return result;
-        }
-    });
+                return describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
+            }
+        }, describeBandwidthRateLimitRequest,
+                new DescribeBandwidthRateLimitRequestMarshaller(), new DescribeBandwidthRateLimitResultJsonUnmarshaller());
     }
     
     /**
@@ -1009,11 +1065,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeTapesResult> describeTapesAsync(final DescribeTapesRequest describeTapesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapesResult>() {
-            public DescribeTapesResult call() throws Exception {
-                return describeTapes(describeTapesRequest);
-        }
-    });
+        return describeTapesComposableAsync(describeTapesRequest);
     }
 
     /**
@@ -1047,19 +1099,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapesRequest describeTapesRequest,
             final AsyncHandler<DescribeTapesRequest, DescribeTapesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapesResult>() {
+        return withAsyncHandler(describeTapesComposableAsync(describeTapesRequest),
+                describeTapesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTapes operation like
+     * {@link #describeTapesAsync(DescribeTapesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeTapesRequest Container for the necessary parameters to
+     *           execute the DescribeTapes operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DescribeTapes
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeTapesResult> describeTapesComposableAsync(final DescribeTapesRequest describeTapesRequest) {
+        return executeAsync(executorService, new Callable<DescribeTapesResult>() {
             public DescribeTapesResult call() throws Exception {
-              DescribeTapesResult result;
-                try {
-                result = describeTapes(describeTapesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTapesRequest, result);
-                 return result;
-        }
-    });
+                return describeTapes(describeTapesRequest);
+            }
+        }, describeTapesRequest,
+                new DescribeTapesRequestMarshaller(), new DescribeTapesResultJsonUnmarshaller());
     }
     
     /**
@@ -1097,11 +1158,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<RetrieveTapeRecoveryPointResult> retrieveTapeRecoveryPointAsync(final RetrieveTapeRecoveryPointRequest retrieveTapeRecoveryPointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveTapeRecoveryPointResult>() {
-            public RetrieveTapeRecoveryPointResult call() throws Exception {
-                return retrieveTapeRecoveryPoint(retrieveTapeRecoveryPointRequest);
-        }
-    });
+        return retrieveTapeRecoveryPointComposableAsync(retrieveTapeRecoveryPointRequest);
     }
 
     /**
@@ -1145,19 +1202,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeRecoveryPointRequest retrieveTapeRecoveryPointRequest,
             final AsyncHandler<RetrieveTapeRecoveryPointRequest, RetrieveTapeRecoveryPointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveTapeRecoveryPointResult>() {
+        return withAsyncHandler(retrieveTapeRecoveryPointComposableAsync(retrieveTapeRecoveryPointRequest),
+                retrieveTapeRecoveryPointRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RetrieveTapeRecoveryPoint operation like
+     * {@link #retrieveTapeRecoveryPointAsync(RetrieveTapeRecoveryPointRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param retrieveTapeRecoveryPointRequest Container for the necessary
+     *           parameters to execute the RetrieveTapeRecoveryPoint operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         RetrieveTapeRecoveryPoint service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<RetrieveTapeRecoveryPointResult> retrieveTapeRecoveryPointComposableAsync(final RetrieveTapeRecoveryPointRequest retrieveTapeRecoveryPointRequest) {
+        return executeAsync(executorService, new Callable<RetrieveTapeRecoveryPointResult>() {
             public RetrieveTapeRecoveryPointResult call() throws Exception {
-              RetrieveTapeRecoveryPointResult result;
-                try {
-                result = retrieveTapeRecoveryPoint(retrieveTapeRecoveryPointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(retrieveTapeRecoveryPointRequest, result);
-                 return result;
-        }
-    });
+                return retrieveTapeRecoveryPoint(retrieveTapeRecoveryPointRequest);
+            }
+        }, retrieveTapeRecoveryPointRequest,
+                new RetrieveTapeRecoveryPointRequestMarshaller(), new RetrieveTapeRecoveryPointResultJsonUnmarshaller());
     }
     
     /**
@@ -1188,11 +1257,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateTapesResult> createTapesAsync(final CreateTapesRequest createTapesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTapesResult>() {
-            public CreateTapesResult call() throws Exception {
-                return createTapes(createTapesRequest);
-        }
-    });
+        return createTapesComposableAsync(createTapesRequest);
     }
 
     /**
@@ -1229,19 +1294,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateTapesRequest createTapesRequest,
             final AsyncHandler<CreateTapesRequest, CreateTapesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTapesResult>() {
+        return withAsyncHandler(createTapesComposableAsync(createTapesRequest),
+                createTapesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateTapes operation like
+     * {@link #createTapesAsync(CreateTapesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createTapesRequest Container for the necessary parameters to
+     *           execute the CreateTapes operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the CreateTapes
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<CreateTapesResult> createTapesComposableAsync(final CreateTapesRequest createTapesRequest) {
+        return executeAsync(executorService, new Callable<CreateTapesResult>() {
             public CreateTapesResult call() throws Exception {
-              CreateTapesResult result;
-                try {
-                result = createTapes(createTapesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTapesRequest, result);
-                 return result;
-        }
-    });
+                return createTapes(createTapesRequest);
+            }
+        }, createTapesRequest,
+                new CreateTapesRequestMarshaller(), new CreateTapesResultJsonUnmarshaller());
     }
     
     /**
@@ -1274,11 +1348,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeUploadBufferResult> describeUploadBufferAsync(final DescribeUploadBufferRequest describeUploadBufferRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUploadBufferResult>() {
-            public DescribeUploadBufferResult call() throws Exception {
-                return describeUploadBuffer(describeUploadBufferRequest);
-        }
-    });
+        return describeUploadBufferComposableAsync(describeUploadBufferRequest);
     }
 
     /**
@@ -1317,19 +1387,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeUploadBufferRequest describeUploadBufferRequest,
             final AsyncHandler<DescribeUploadBufferRequest, DescribeUploadBufferResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUploadBufferResult>() {
+        return withAsyncHandler(describeUploadBufferComposableAsync(describeUploadBufferRequest),
+                describeUploadBufferRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeUploadBuffer operation like
+     * {@link #describeUploadBufferAsync(DescribeUploadBufferRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeUploadBufferRequest Container for the necessary
+     *           parameters to execute the DescribeUploadBuffer operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeUploadBuffer service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeUploadBufferResult> describeUploadBufferComposableAsync(final DescribeUploadBufferRequest describeUploadBufferRequest) {
+        return executeAsync(executorService, new Callable<DescribeUploadBufferResult>() {
             public DescribeUploadBufferResult call() throws Exception {
-              DescribeUploadBufferResult result;
-                try {
-                result = describeUploadBuffer(describeUploadBufferRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeUploadBufferRequest, result);
-                 return result;
-        }
-    });
+                return describeUploadBuffer(describeUploadBufferRequest);
+            }
+        }, describeUploadBufferRequest,
+                new DescribeUploadBufferRequestMarshaller(), new DescribeUploadBufferResultJsonUnmarshaller());
     }
     
     /**
@@ -1357,11 +1439,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteChapCredentialsResult> deleteChapCredentialsAsync(final DeleteChapCredentialsRequest deleteChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteChapCredentialsResult>() {
-            public DeleteChapCredentialsResult call() throws Exception {
-                return deleteChapCredentials(deleteChapCredentialsRequest);
-        }
-    });
+        return deleteChapCredentialsComposableAsync(deleteChapCredentialsRequest);
     }
 
     /**
@@ -1395,19 +1473,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteChapCredentialsRequest deleteChapCredentialsRequest,
             final AsyncHandler<DeleteChapCredentialsRequest, DeleteChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteChapCredentialsResult>() {
+        return withAsyncHandler(deleteChapCredentialsComposableAsync(deleteChapCredentialsRequest),
+                deleteChapCredentialsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteChapCredentials operation like
+     * {@link #deleteChapCredentialsAsync(DeleteChapCredentialsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteChapCredentialsRequest Container for the necessary
+     *           parameters to execute the DeleteChapCredentials operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DeleteChapCredentials service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteChapCredentialsResult> deleteChapCredentialsComposableAsync(final DeleteChapCredentialsRequest deleteChapCredentialsRequest) {
+        return executeAsync(executorService, new Callable<DeleteChapCredentialsResult>() {
             public DeleteChapCredentialsResult call() throws Exception {
-              DeleteChapCredentialsResult result;
-                try {
-                result = deleteChapCredentials(deleteChapCredentialsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteChapCredentialsRequest, result);
-                 return result;
-        }
-    });
+                return deleteChapCredentials(deleteChapCredentialsRequest);
+            }
+        }, deleteChapCredentialsRequest,
+                new DeleteChapCredentialsRequestMarshaller(), new DeleteChapCredentialsResultJsonUnmarshaller());
     }
     
     /**
@@ -1441,11 +1531,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddCacheResult> addCacheAsync(final AddCacheRequest addCacheRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCacheResult>() {
-            public AddCacheResult call() throws Exception {
-                return addCache(addCacheRequest);
-        }
-    });
+        return addCacheComposableAsync(addCacheRequest);
     }
 
     /**
@@ -1485,19 +1571,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddCacheRequest addCacheRequest,
             final AsyncHandler<AddCacheRequest, AddCacheResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCacheResult>() {
+        return withAsyncHandler(addCacheComposableAsync(addCacheRequest),
+                addCacheRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddCache operation like
+     * {@link #addCacheAsync(AddCacheRequest)}, returning a future to which
+     * further processing can be chained without blocking.
+     *
+     * @param addCacheRequest Container for the necessary parameters to
+     *           execute the AddCache operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the AddCache
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<AddCacheResult> addCacheComposableAsync(final AddCacheRequest addCacheRequest) {
+        return executeAsync(executorService, new Callable<AddCacheResult>() {
             public AddCacheResult call() throws Exception {
-              AddCacheResult result;
-                try {
-                result = addCache(addCacheRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addCacheRequest, result);
-                 return result;
-        }
-    });
+                return addCache(addCacheRequest);
+            }
+        }, addCacheRequest,
+                new AddCacheRequestMarshaller(), new AddCacheResultJsonUnmarshaller());
     }
     
     /**
@@ -1527,11 +1622,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeGatewayInformationResult> describeGatewayInformationAsync(final DescribeGatewayInformationRequest describeGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGatewayInformationResult>() {
-            public DescribeGatewayInformationResult call() throws Exception {
-                return describeGatewayInformation(describeGatewayInformationRequest);
-        }
-    });
+        return describeGatewayInformationComposableAsync(describeGatewayInformationRequest);
     }
 
     /**
@@ -1567,19 +1658,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeGatewayInformationRequest describeGatewayInformationRequest,
             final AsyncHandler<DescribeGatewayInformationRequest, DescribeGatewayInformationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGatewayInformationResult>() {
+        return withAsyncHandler(describeGatewayInformationComposableAsync(describeGatewayInformationRequest),
+                describeGatewayInformationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeGatewayInformation operation
+     * like
+     * {@link #describeGatewayInformationAsync(DescribeGatewayInformationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeGatewayInformationRequest Container for the necessary
+     *           parameters to execute the DescribeGatewayInformation operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeGatewayInformation service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeGatewayInformationResult> describeGatewayInformationComposableAsync(final DescribeGatewayInformationRequest describeGatewayInformationRequest) {
+        return executeAsync(executorService, new Callable<DescribeGatewayInformationResult>() {
             public DescribeGatewayInformationResult call() throws Exception {
-              DescribeGatewayInformationResult result;
-                try {
-                result = describeGatewayInformation(describeGatewayInformationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeGatewayInformationRequest, result);
-                 return result;
-        }
-    });
+                return describeGatewayInformation(describeGatewayInformationRequest);
+            }
+        }, describeGatewayInformationRequest,
+                new DescribeGatewayInformationRequestMarshaller(), new DescribeGatewayInformationResultJsonUnmarshaller());
     }
     
     /**
@@ -1615,11 +1719,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListLocalDisksResult> listLocalDisksAsync(final ListLocalDisksRequest listLocalDisksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLocalDisksResult>() {
-            public ListLocalDisksResult call() throws Exception {
-                return listLocalDisks(listLocalDisksRequest);
-        }
-    });
+        return listLocalDisksComposableAsync(listLocalDisksRequest);
     }
 
     /**
@@ -1661,19 +1761,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListLocalDisksRequest listLocalDisksRequest,
             final AsyncHandler<ListLocalDisksRequest, ListLocalDisksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLocalDisksResult>() {
+        return withAsyncHandler(listLocalDisksComposableAsync(listLocalDisksRequest),
+                listLocalDisksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListLocalDisks operation like
+     * {@link #listLocalDisksAsync(ListLocalDisksRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param listLocalDisksRequest Container for the necessary parameters to
+     *           execute the ListLocalDisks operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the ListLocalDisks
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<ListLocalDisksResult> listLocalDisksComposableAsync(final ListLocalDisksRequest listLocalDisksRequest) {
+        return executeAsync(executorService, new Callable<ListLocalDisksResult>() {
             public ListLocalDisksResult call() throws Exception {
-              ListLocalDisksResult result;
-                try {
-                result = listLocalDisks(listLocalDisksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listLocalDisksRequest, result);
-                 return result;
-        }
-    });
+                return listLocalDisks(listLocalDisksRequest);
+            }
+        }, listLocalDisksRequest,
+                new ListLocalDisksRequestMarshaller(), new ListLocalDisksResultJsonUnmarshaller());
     }
     
     /**
@@ -1704,11 +1813,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeCacheResult> describeCacheAsync(final DescribeCacheRequest describeCacheRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheResult>() {
-            public DescribeCacheResult call() throws Exception {
-                return describeCache(describeCacheRequest);
-        }
-    });
+        return describeCacheComposableAsync(describeCacheRequest);
     }
 
     /**
@@ -1745,19 +1850,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCacheRequest describeCacheRequest,
             final AsyncHandler<DescribeCacheRequest, DescribeCacheResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheResult>() {
+        return withAsyncHandler(describeCacheComposableAsync(describeCacheRequest),
+                describeCacheRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCache operation like
+     * {@link #describeCacheAsync(DescribeCacheRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeCacheRequest Container for the necessary parameters to
+     *           execute the DescribeCache operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DescribeCache
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeCacheResult> describeCacheComposableAsync(final DescribeCacheRequest describeCacheRequest) {
+        return executeAsync(executorService, new Callable<DescribeCacheResult>() {
             public DescribeCacheResult call() throws Exception {
-              DescribeCacheResult result;
-                try {
-                result = describeCache(describeCacheRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCacheRequest, result);
-                 return result;
-        }
-    });
+                return describeCache(describeCacheRequest);
+            }
+        }, describeCacheRequest,
+                new DescribeCacheRequestMarshaller(), new DescribeCacheResultJsonUnmarshaller());
     }
     
     /**
@@ -1791,11 +1905,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DisableGatewayResult> disableGatewayAsync(final DisableGatewayRequest disableGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableGatewayResult>() {
-            public DisableGatewayResult call() throws Exception {
-                return disableGateway(disableGatewayRequest);
-        }
-    });
+        return disableGatewayComposableAsync(disableGatewayRequest);
     }
 
     /**
@@ -1835,19 +1945,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DisableGatewayRequest disableGatewayRequest,
             final AsyncHandler<DisableGatewayRequest, DisableGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableGatewayResult>() {
+        return withAsyncHandler(disableGatewayComposableAsync(disableGatewayRequest),
+                disableGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DisableGateway operation like
+     * {@link #disableGatewayAsync(DisableGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param disableGatewayRequest Container for the necessary parameters to
+     *           execute the DisableGateway operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DisableGateway
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DisableGatewayResult> disableGatewayComposableAsync(final DisableGatewayRequest disableGatewayRequest) {
+        return executeAsync(executorService, new Callable<DisableGatewayResult>() {
             public DisableGatewayResult call() throws Exception {
-              DisableGatewayResult result;
-                try {
-                result = disableGateway(disableGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableGatewayRequest, result);
-                 return result;
-        }
-    });
+                return disableGateway(disableGatewayRequest);
+            }
+        }, disableGatewayRequest,
+                new DisableGatewayRequestMarshaller(), new DisableGatewayResultJsonUnmarshaller());
     }
     
     /**
@@ -1872,11 +1991,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteTapeResult> deleteTapeAsync(final DeleteTapeRequest deleteTapeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTapeResult>() {
-            public DeleteTapeResult call() throws Exception {
-                return deleteTape(deleteTapeRequest);
-        }
-    });
+        return deleteTapeComposableAsync(deleteTapeRequest);
     }
 
     /**
@@ -1907,19 +2022,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeRequest deleteTapeRequest,
             final AsyncHandler<DeleteTapeRequest, DeleteTapeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTapeResult>() {
+        return withAsyncHandler(deleteTapeComposableAsync(deleteTapeRequest),
+                deleteTapeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTape operation like
+     * {@link #deleteTapeAsync(DeleteTapeRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param deleteTapeRequest Container for the necessary parameters to
+     *           execute the DeleteTape operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DeleteTape
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteTapeResult> deleteTapeComposableAsync(final DeleteTapeRequest deleteTapeRequest) {
+        return executeAsync(executorService, new Callable<DeleteTapeResult>() {
             public DeleteTapeResult call() throws Exception {
-              DeleteTapeResult result;
-                try {
-                result = deleteTape(deleteTapeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTapeRequest, result);
-                 return result;
-        }
-    });
+                return deleteTape(deleteTapeRequest);
+            }
+        }, deleteTapeRequest,
+                new DeleteTapeRequestMarshaller(), new DeleteTapeResultJsonUnmarshaller());
     }
     
     /**
@@ -1958,11 +2082,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<StartGatewayResult> startGatewayAsync(final StartGatewayRequest startGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartGatewayResult>() {
-            public StartGatewayResult call() throws Exception {
-                return startGateway(startGatewayRequest);
-        }
-    });
+        return startGatewayComposableAsync(startGatewayRequest);
     }
 
     /**
@@ -2007,19 +2127,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final StartGatewayRequest startGatewayRequest,
             final AsyncHandler<StartGatewayRequest, StartGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartGatewayResult>() {
+        return withAsyncHandler(startGatewayComposableAsync(startGatewayRequest),
+                startGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the StartGateway operation like
+     * {@link #startGatewayAsync(StartGatewayRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param startGatewayRequest Container for the necessary parameters to
+     *           execute the StartGateway operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the StartGateway
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<StartGatewayResult> startGatewayComposableAsync(final StartGatewayRequest startGatewayRequest) {
+        return executeAsync(executorService, new Callable<StartGatewayResult>() {
             public StartGatewayResult call() throws Exception {
-              StartGatewayResult result;
-                try {
-                result = startGateway(startGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startGatewayRequest, result);
-                 return result;
-        }
-    });
+                return startGateway(startGatewayRequest);
+            }
+        }, startGatewayRequest,
+                new StartGatewayRequestMarshaller(), new StartGatewayResultJsonUnmarshaller());
     }
     
     /**
@@ -2069,11 +2198,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateSnapshotFromVolumeRecoveryPointResult> createSnapshotFromVolumeRecoveryPointAsync(final CreateSnapshotFromVolumeRecoveryPointRequest createSnapshotFromVolumeRecoveryPointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
-            public CreateSnapshotFromVolumeRecoveryPointResult call() throws Exception {
-                return createSnapshotFromVolumeRecoveryPoint(createSnapshotFromVolumeRecoveryPointRequest);
-        }
-    });
+        return createSnapshotFromVolumeRecoveryPointComposableAsync(createSnapshotFromVolumeRecoveryPointRequest);
     }
 
     /**
@@ -2129,19 +2254,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotFromVolumeRecoveryPointRequest createSnapshotFromVolumeRecoveryPointRequest,
             final AsyncHandler<CreateSnapshotFromVolumeRecoveryPointRequest, CreateSnapshotFromVolumeRecoveryPointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
+        return withAsyncHandler(createSnapshotFromVolumeRecoveryPointComposableAsync(createSnapshotFromVolumeRecoveryPointRequest),
+                createSnapshotFromVolumeRecoveryPointRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateSnapshotFromVolumeRecoveryPoint
+     * operation like
+     * {@link #createSnapshotFromVolumeRecoveryPointAsync(CreateSnapshotFromVolumeRecoveryPointRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createSnapshotFromVolumeRecoveryPointRequest Container for the
+     *           necessary parameters to execute the
+     *           CreateSnapshotFromVolumeRecoveryPoint operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         CreateSnapshotFromVolumeRecoveryPoint service method, as
+     *         returned by AWSStorageGateway.
+     */
+    public ComposableFuture<CreateSnapshotFromVolumeRecoveryPointResult> createSnapshotFromVolumeRecoveryPointComposableAsync(final CreateSnapshotFromVolumeRecoveryPointRequest createSnapshotFromVolumeRecoveryPointRequest) {
+        return executeAsync(executorService, new Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
             public CreateSnapshotFromVolumeRecoveryPointResult call() throws Exception {
-              CreateSnapshotFromVolumeRecoveryPointResult result;
-                try {
-                result = createSnapshotFromVolumeRecoveryPoint(createSnapshotFromVolumeRecoveryPointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotFromVolumeRecoveryPointRequest, result);
-                 return result;
-        }
-    });
+                return createSnapshotFromVolumeRecoveryPoint(createSnapshotFromVolumeRecoveryPointRequest);
+            }
+        }, createSnapshotFromVolumeRecoveryPointRequest,
+                new CreateSnapshotFromVolumeRecoveryPointRequestMarshaller(), new CreateSnapshotFromVolumeRecoveryPointResultJsonUnmarshaller());
     }
     
     /**
@@ -2183,11 +2321,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateCachediSCSIVolumeResult> createCachediSCSIVolumeAsync(final CreateCachediSCSIVolumeRequest createCachediSCSIVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCachediSCSIVolumeResult>() {
-            public CreateCachediSCSIVolumeResult call() throws Exception {
-                return createCachediSCSIVolume(createCachediSCSIVolumeRequest);
-        }
-    });
+        return createCachediSCSIVolumeComposableAsync(createCachediSCSIVolumeRequest);
     }
 
     /**
@@ -2235,19 +2369,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateCachediSCSIVolumeRequest createCachediSCSIVolumeRequest,
             final AsyncHandler<CreateCachediSCSIVolumeRequest, CreateCachediSCSIVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCachediSCSIVolumeResult>() {
+        return withAsyncHandler(createCachediSCSIVolumeComposableAsync(createCachediSCSIVolumeRequest),
+                createCachediSCSIVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCachediSCSIVolume operation like
+     * {@link #createCachediSCSIVolumeAsync(CreateCachediSCSIVolumeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param createCachediSCSIVolumeRequest Container for the necessary
+     *           parameters to execute the CreateCachediSCSIVolume operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         CreateCachediSCSIVolume service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<CreateCachediSCSIVolumeResult> createCachediSCSIVolumeComposableAsync(final CreateCachediSCSIVolumeRequest createCachediSCSIVolumeRequest) {
+        return executeAsync(executorService, new Callable<CreateCachediSCSIVolumeResult>() {
             public CreateCachediSCSIVolumeResult call() throws Exception {
-              CreateCachediSCSIVolumeResult result;
-                try {
-                result = createCachediSCSIVolume(createCachediSCSIVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCachediSCSIVolumeRequest, result);
-                 return result;
-        }
-    });
+                return createCachediSCSIVolume(createCachediSCSIVolumeRequest);
+            }
+        }, createCachediSCSIVolumeRequest,
+                new CreateCachediSCSIVolumeRequestMarshaller(), new CreateCachediSCSIVolumeResultJsonUnmarshaller());
     }
     
     /**
@@ -2301,11 +2447,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ShutdownGatewayResult> shutdownGatewayAsync(final ShutdownGatewayRequest shutdownGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ShutdownGatewayResult>() {
-            public ShutdownGatewayResult call() throws Exception {
-                return shutdownGateway(shutdownGatewayRequest);
-        }
-    });
+        return shutdownGatewayComposableAsync(shutdownGatewayRequest);
     }
 
     /**
@@ -2365,19 +2507,29 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ShutdownGatewayRequest shutdownGatewayRequest,
             final AsyncHandler<ShutdownGatewayRequest, ShutdownGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ShutdownGatewayResult>() {
+        return withAsyncHandler(shutdownGatewayComposableAsync(shutdownGatewayRequest),
+                shutdownGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ShutdownGateway operation like
+     * {@link #shutdownGatewayAsync(ShutdownGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param shutdownGatewayRequest Container for the necessary parameters
+     *           to execute the ShutdownGateway operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         ShutdownGateway service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<ShutdownGatewayResult> shutdownGatewayComposableAsync(final ShutdownGatewayRequest shutdownGatewayRequest) {
+        return executeAsync(executorService, new Callable<ShutdownGatewayResult>() {
             public ShutdownGatewayResult call() throws Exception {
-              ShutdownGatewayResult result;
-                try {
-                result = shutdownGateway(shutdownGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(shutdownGatewayRequest, result);
-                 return result;
-        }
-    });
+                return shutdownGateway(shutdownGatewayRequest);
+            }
+        }, shutdownGatewayRequest,
+                new ShutdownGatewayRequestMarshaller(), new ShutdownGatewayResultJsonUnmarshaller());
     }
     
     /**
@@ -2411,11 +2563,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeTapeRecoveryPointsResult> describeTapeRecoveryPointsAsync(final DescribeTapeRecoveryPointsRequest describeTapeRecoveryPointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapeRecoveryPointsResult>() {
-            public DescribeTapeRecoveryPointsResult call() throws Exception {
-                return describeTapeRecoveryPoints(describeTapeRecoveryPointsRequest);
-        }
-    });
+        return describeTapeRecoveryPointsComposableAsync(describeTapeRecoveryPointsRequest);
     }
 
     /**
@@ -2455,19 +2603,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeRecoveryPointsRequest describeTapeRecoveryPointsRequest,
             final AsyncHandler<DescribeTapeRecoveryPointsRequest, DescribeTapeRecoveryPointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapeRecoveryPointsResult>() {
+        return withAsyncHandler(describeTapeRecoveryPointsComposableAsync(describeTapeRecoveryPointsRequest),
+                describeTapeRecoveryPointsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTapeRecoveryPoints operation
+     * like
+     * {@link #describeTapeRecoveryPointsAsync(DescribeTapeRecoveryPointsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTapeRecoveryPointsRequest Container for the necessary
+     *           parameters to execute the DescribeTapeRecoveryPoints operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTapeRecoveryPoints service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeTapeRecoveryPointsResult> describeTapeRecoveryPointsComposableAsync(final DescribeTapeRecoveryPointsRequest describeTapeRecoveryPointsRequest) {
+        return executeAsync(executorService, new Callable<DescribeTapeRecoveryPointsResult>() {
             public DescribeTapeRecoveryPointsResult call() throws Exception {
-              DescribeTapeRecoveryPointsResult result;
-                try {
-                result = describeTapeRecoveryPoints(describeTapeRecoveryPointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTapeRecoveryPointsRequest, result);
-                 return result;
-        }
-    });
+                return describeTapeRecoveryPoints(describeTapeRecoveryPointsRequest);
+            }
+        }, describeTapeRecoveryPointsRequest,
+                new DescribeTapeRecoveryPointsRequestMarshaller(), new DescribeTapeRecoveryPointsResultJsonUnmarshaller());
     }
     
     /**
@@ -2505,11 +2666,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListGatewaysResult> listGatewaysAsync(final ListGatewaysRequest listGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGatewaysResult>() {
-            public ListGatewaysResult call() throws Exception {
-                return listGateways(listGatewaysRequest);
-        }
-    });
+        return listGatewaysComposableAsync(listGatewaysRequest);
     }
 
     /**
@@ -2553,19 +2710,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListGatewaysRequest listGatewaysRequest,
             final AsyncHandler<ListGatewaysRequest, ListGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGatewaysResult>() {
+        return withAsyncHandler(listGatewaysComposableAsync(listGatewaysRequest),
+                listGatewaysRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListGateways operation like
+     * {@link #listGatewaysAsync(ListGatewaysRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param listGatewaysRequest Container for the necessary parameters to
+     *           execute the ListGateways operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the ListGateways
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<ListGatewaysResult> listGatewaysComposableAsync(final ListGatewaysRequest listGatewaysRequest) {
+        return executeAsync(executorService, new Callable<ListGatewaysResult>() {
             public ListGatewaysResult call() throws Exception {
-              ListGatewaysResult result;
-                try {
-                result = listGateways(listGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listGatewaysRequest, result);
-                 return result;
-        }
-    });
+                return listGateways(listGatewaysRequest);
+            }
+        }, listGatewaysRequest,
+                new ListGatewaysRequestMarshaller(), new ListGatewaysResultJsonUnmarshaller());
     }
     
     /**
@@ -2595,11 +2761,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeStorediSCSIVolumesResult> describeStorediSCSIVolumesAsync(final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStorediSCSIVolumesResult>() {
-            public DescribeStorediSCSIVolumesResult call() throws Exception {
-                return describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
-        }
-    });
+        return describeStorediSCSIVolumesComposableAsync(describeStorediSCSIVolumesRequest);
     }
 
     /**
@@ -2635,19 +2797,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest,
             final AsyncHandler<DescribeStorediSCSIVolumesRequest, DescribeStorediSCSIVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStorediSCSIVolumesResult>() {
+        return withAsyncHandler(describeStorediSCSIVolumesComposableAsync(describeStorediSCSIVolumesRequest),
+                describeStorediSCSIVolumesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeStorediSCSIVolumes operation
+     * like
+     * {@link #describeStorediSCSIVolumesAsync(DescribeStorediSCSIVolumesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeStorediSCSIVolumesRequest Container for the necessary
+     *           parameters to execute the DescribeStorediSCSIVolumes operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeStorediSCSIVolumes service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeStorediSCSIVolumesResult> describeStorediSCSIVolumesComposableAsync(final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest) {
+        return executeAsync(executorService, new Callable<DescribeStorediSCSIVolumesResult>() {
             public DescribeStorediSCSIVolumesResult call() throws Exception {
-              DescribeStorediSCSIVolumesResult result;
-                try {
-                result = describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStorediSCSIVolumesRequest, result);
-                 return result;
-        }
-    });
+                return describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
+            }
+        }, describeStorediSCSIVolumesRequest,
+                new DescribeStorediSCSIVolumesRequestMarshaller(), new DescribeStorediSCSIVolumesResultJsonUnmarshaller());
     }
     
     /**
@@ -2683,11 +2858,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListVolumeRecoveryPointsResult> listVolumeRecoveryPointsAsync(final ListVolumeRecoveryPointsRequest listVolumeRecoveryPointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumeRecoveryPointsResult>() {
-            public ListVolumeRecoveryPointsResult call() throws Exception {
-                return listVolumeRecoveryPoints(listVolumeRecoveryPointsRequest);
-        }
-    });
+        return listVolumeRecoveryPointsComposableAsync(listVolumeRecoveryPointsRequest);
     }
 
     /**
@@ -2729,19 +2900,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeRecoveryPointsRequest listVolumeRecoveryPointsRequest,
             final AsyncHandler<ListVolumeRecoveryPointsRequest, ListVolumeRecoveryPointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumeRecoveryPointsResult>() {
+        return withAsyncHandler(listVolumeRecoveryPointsComposableAsync(listVolumeRecoveryPointsRequest),
+                listVolumeRecoveryPointsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListVolumeRecoveryPoints operation like
+     * {@link #listVolumeRecoveryPointsAsync(ListVolumeRecoveryPointsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param listVolumeRecoveryPointsRequest Container for the necessary
+     *           parameters to execute the ListVolumeRecoveryPoints operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         ListVolumeRecoveryPoints service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<ListVolumeRecoveryPointsResult> listVolumeRecoveryPointsComposableAsync(final ListVolumeRecoveryPointsRequest listVolumeRecoveryPointsRequest) {
+        return executeAsync(executorService, new Callable<ListVolumeRecoveryPointsResult>() {
             public ListVolumeRecoveryPointsResult call() throws Exception {
-              ListVolumeRecoveryPointsResult result;
-                try {
-                result = listVolumeRecoveryPoints(listVolumeRecoveryPointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVolumeRecoveryPointsRequest, result);
-                 return result;
-        }
-    });
+                return listVolumeRecoveryPoints(listVolumeRecoveryPointsRequest);
+            }
+        }, listVolumeRecoveryPointsRequest,
+                new ListVolumeRecoveryPointsRequestMarshaller(), new ListVolumeRecoveryPointsResultJsonUnmarshaller());
     }
     
     /**
@@ -2772,11 +2955,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeVTLDevicesResult> describeVTLDevicesAsync(final DescribeVTLDevicesRequest describeVTLDevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVTLDevicesResult>() {
-            public DescribeVTLDevicesResult call() throws Exception {
-                return describeVTLDevices(describeVTLDevicesRequest);
-        }
-    });
+        return describeVTLDevicesComposableAsync(describeVTLDevicesRequest);
     }
 
     /**
@@ -2813,19 +2992,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeVTLDevicesRequest describeVTLDevicesRequest,
             final AsyncHandler<DescribeVTLDevicesRequest, DescribeVTLDevicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVTLDevicesResult>() {
+        return withAsyncHandler(describeVTLDevicesComposableAsync(describeVTLDevicesRequest),
+                describeVTLDevicesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeVTLDevices operation like
+     * {@link #describeVTLDevicesAsync(DescribeVTLDevicesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeVTLDevicesRequest Container for the necessary
+     *           parameters to execute the DescribeVTLDevices operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeVTLDevices service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeVTLDevicesResult> describeVTLDevicesComposableAsync(final DescribeVTLDevicesRequest describeVTLDevicesRequest) {
+        return executeAsync(executorService, new Callable<DescribeVTLDevicesResult>() {
             public DescribeVTLDevicesResult call() throws Exception {
-              DescribeVTLDevicesResult result;
-                try {
-                result = describeVTLDevices(describeVTLDevicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVTLDevicesRequest, result);
-                 return result;
-        }
-    });
+                return describeVTLDevices(describeVTLDevicesRequest);
+            }
+        }, describeVTLDevicesRequest,
+                new DescribeVTLDevicesRequestMarshaller(), new DescribeVTLDevicesResultJsonUnmarshaller());
     }
     
     /**
@@ -2851,11 +3042,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CancelArchivalResult> cancelArchivalAsync(final CancelArchivalRequest cancelArchivalRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelArchivalResult>() {
-            public CancelArchivalResult call() throws Exception {
-                return cancelArchival(cancelArchivalRequest);
-        }
-    });
+        return cancelArchivalComposableAsync(cancelArchivalRequest);
     }
 
     /**
@@ -2887,19 +3074,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelArchivalRequest cancelArchivalRequest,
             final AsyncHandler<CancelArchivalRequest, CancelArchivalResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelArchivalResult>() {
+        return withAsyncHandler(cancelArchivalComposableAsync(cancelArchivalRequest),
+                cancelArchivalRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CancelArchival operation like
+     * {@link #cancelArchivalAsync(CancelArchivalRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param cancelArchivalRequest Container for the necessary parameters to
+     *           execute the CancelArchival operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the CancelArchival
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<CancelArchivalResult> cancelArchivalComposableAsync(final CancelArchivalRequest cancelArchivalRequest) {
+        return executeAsync(executorService, new Callable<CancelArchivalResult>() {
             public CancelArchivalResult call() throws Exception {
-              CancelArchivalResult result;
-                try {
-                result = cancelArchival(cancelArchivalRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelArchivalRequest, result);
-                 return result;
-        }
-    });
+                return cancelArchival(cancelArchivalRequest);
+            }
+        }, cancelArchivalRequest,
+                new CancelArchivalRequestMarshaller(), new CancelArchivalResultJsonUnmarshaller());
     }
     
     /**
@@ -2941,11 +3137,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewaySoftwareNowResult> updateGatewaySoftwareNowAsync(final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewaySoftwareNowResult>() {
-            public UpdateGatewaySoftwareNowResult call() throws Exception {
-                return updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
-        }
-    });
+        return updateGatewaySoftwareNowComposableAsync(updateGatewaySoftwareNowRequest);
     }
 
     /**
@@ -2993,19 +3185,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest,
             final AsyncHandler<UpdateGatewaySoftwareNowRequest, UpdateGatewaySoftwareNowResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewaySoftwareNowResult>() {
+        return withAsyncHandler(updateGatewaySoftwareNowComposableAsync(updateGatewaySoftwareNowRequest),
+                updateGatewaySoftwareNowRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateGatewaySoftwareNow operation like
+     * {@link #updateGatewaySoftwareNowAsync(UpdateGatewaySoftwareNowRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateGatewaySoftwareNowRequest Container for the necessary
+     *           parameters to execute the UpdateGatewaySoftwareNow operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateGatewaySoftwareNow service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateGatewaySoftwareNowResult> updateGatewaySoftwareNowComposableAsync(final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest) {
+        return executeAsync(executorService, new Callable<UpdateGatewaySoftwareNowResult>() {
             public UpdateGatewaySoftwareNowResult call() throws Exception {
-              UpdateGatewaySoftwareNowResult result;
-                try {
-                result = updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateGatewaySoftwareNowRequest, result);
-                 return result;
-        }
-    });
+                return updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
+            }
+        }, updateGatewaySoftwareNowRequest,
+                new UpdateGatewaySoftwareNowRequestMarshaller(), new UpdateGatewaySoftwareNowResultJsonUnmarshaller());
     }
     
     /**
@@ -3033,11 +3237,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ResetCacheResult> resetCacheAsync(final ResetCacheRequest resetCacheRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheResult>() {
-            public ResetCacheResult call() throws Exception {
-                return resetCache(resetCacheRequest);
-        }
-    });
+        return resetCacheComposableAsync(resetCacheRequest);
     }
 
     /**
@@ -3071,19 +3271,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ResetCacheRequest resetCacheRequest,
             final AsyncHandler<ResetCacheRequest, ResetCacheResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheResult>() {
+        return withAsyncHandler(resetCacheComposableAsync(resetCacheRequest),
+                resetCacheRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResetCache operation like
+     * {@link #resetCacheAsync(ResetCacheRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param resetCacheRequest Container for the necessary parameters to
+     *           execute the ResetCache operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the ResetCache
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<ResetCacheResult> resetCacheComposableAsync(final ResetCacheRequest resetCacheRequest) {
+        return executeAsync(executorService, new Callable<ResetCacheResult>() {
             public ResetCacheResult call() throws Exception {
-              ResetCacheResult result;
-                try {
-                result = resetCache(resetCacheRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetCacheRequest, result);
-                 return result;
-        }
-    });
+                return resetCache(resetCacheRequest);
+            }
+        }, resetCacheRequest,
+                new ResetCacheRequestMarshaller(), new ResetCacheResultJsonUnmarshaller());
     }
     
     /**
@@ -3118,11 +3327,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateChapCredentialsResult> updateChapCredentialsAsync(final UpdateChapCredentialsRequest updateChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateChapCredentialsResult>() {
-            public UpdateChapCredentialsResult call() throws Exception {
-                return updateChapCredentials(updateChapCredentialsRequest);
-        }
-    });
+        return updateChapCredentialsComposableAsync(updateChapCredentialsRequest);
     }
 
     /**
@@ -3163,19 +3368,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateChapCredentialsRequest updateChapCredentialsRequest,
             final AsyncHandler<UpdateChapCredentialsRequest, UpdateChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateChapCredentialsResult>() {
+        return withAsyncHandler(updateChapCredentialsComposableAsync(updateChapCredentialsRequest),
+                updateChapCredentialsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateChapCredentials operation like
+     * {@link #updateChapCredentialsAsync(UpdateChapCredentialsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateChapCredentialsRequest Container for the necessary
+     *           parameters to execute the UpdateChapCredentials operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateChapCredentials service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateChapCredentialsResult> updateChapCredentialsComposableAsync(final UpdateChapCredentialsRequest updateChapCredentialsRequest) {
+        return executeAsync(executorService, new Callable<UpdateChapCredentialsResult>() {
             public UpdateChapCredentialsResult call() throws Exception {
-              UpdateChapCredentialsResult result;
-                try {
-                result = updateChapCredentials(updateChapCredentialsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateChapCredentialsRequest, result);
-                 return result;
-        }
-    });
+                return updateChapCredentials(updateChapCredentialsRequest);
+            }
+        }, updateChapCredentialsRequest,
+                new UpdateChapCredentialsRequestMarshaller(), new UpdateChapCredentialsResultJsonUnmarshaller());
     }
     
     /**
@@ -3212,11 +3429,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ActivateGatewayResult> activateGatewayAsync(final ActivateGatewayRequest activateGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateGatewayResult>() {
-            public ActivateGatewayResult call() throws Exception {
-                return activateGateway(activateGatewayRequest);
-        }
-    });
+        return activateGatewayComposableAsync(activateGatewayRequest);
     }
 
     /**
@@ -3259,19 +3472,29 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ActivateGatewayRequest activateGatewayRequest,
             final AsyncHandler<ActivateGatewayRequest, ActivateGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateGatewayResult>() {
+        return withAsyncHandler(activateGatewayComposableAsync(activateGatewayRequest),
+                activateGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ActivateGateway operation like
+     * {@link #activateGatewayAsync(ActivateGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param activateGatewayRequest Container for the necessary parameters
+     *           to execute the ActivateGateway operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         ActivateGateway service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<ActivateGatewayResult> activateGatewayComposableAsync(final ActivateGatewayRequest activateGatewayRequest) {
+        return executeAsync(executorService, new Callable<ActivateGatewayResult>() {
             public ActivateGatewayResult call() throws Exception {
-              ActivateGatewayResult result;
-                try {
-                result = activateGateway(activateGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(activateGatewayRequest, result);
-                 return result;
-        }
-    });
+                return activateGateway(activateGatewayRequest);
+            }
+        }, activateGatewayRequest,
+                new ActivateGatewayRequestMarshaller(), new ActivateGatewayResultJsonUnmarshaller());
     }
     
     /**
@@ -3300,11 +3523,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateVTLDeviceTypeResult> updateVTLDeviceTypeAsync(final UpdateVTLDeviceTypeRequest updateVTLDeviceTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVTLDeviceTypeResult>() {
-            public UpdateVTLDeviceTypeResult call() throws Exception {
-                return updateVTLDeviceType(updateVTLDeviceTypeRequest);
-        }
-    });
+        return updateVTLDeviceTypeComposableAsync(updateVTLDeviceTypeRequest);
     }
 
     /**
@@ -3339,19 +3558,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateVTLDeviceTypeRequest updateVTLDeviceTypeRequest,
             final AsyncHandler<UpdateVTLDeviceTypeRequest, UpdateVTLDeviceTypeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVTLDeviceTypeResult>() {
+        return withAsyncHandler(updateVTLDeviceTypeComposableAsync(updateVTLDeviceTypeRequest),
+                updateVTLDeviceTypeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateVTLDeviceType operation like
+     * {@link #updateVTLDeviceTypeAsync(UpdateVTLDeviceTypeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateVTLDeviceTypeRequest Container for the necessary
+     *           parameters to execute the UpdateVTLDeviceType operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateVTLDeviceType service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateVTLDeviceTypeResult> updateVTLDeviceTypeComposableAsync(final UpdateVTLDeviceTypeRequest updateVTLDeviceTypeRequest) {
+        return executeAsync(executorService, new Callable<UpdateVTLDeviceTypeResult>() {
             public UpdateVTLDeviceTypeResult call() throws Exception {
-              UpdateVTLDeviceTypeResult result;
-                try {
-                result = updateVTLDeviceType(updateVTLDeviceTypeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateVTLDeviceTypeRequest, result);
-                 return result;
-        }
-    });
+                return updateVTLDeviceType(updateVTLDeviceTypeRequest);
+            }
+        }, updateVTLDeviceTypeRequest,
+                new UpdateVTLDeviceTypeRequestMarshaller(), new UpdateVTLDeviceTypeResultJsonUnmarshaller());
     }
     
     /**
@@ -3383,11 +3614,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeTapeArchivesResult> describeTapeArchivesAsync(final DescribeTapeArchivesRequest describeTapeArchivesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapeArchivesResult>() {
-            public DescribeTapeArchivesResult call() throws Exception {
-                return describeTapeArchives(describeTapeArchivesRequest);
-        }
-    });
+        return describeTapeArchivesComposableAsync(describeTapeArchivesRequest);
     }
 
     /**
@@ -3425,19 +3652,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeArchivesRequest describeTapeArchivesRequest,
             final AsyncHandler<DescribeTapeArchivesRequest, DescribeTapeArchivesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTapeArchivesResult>() {
+        return withAsyncHandler(describeTapeArchivesComposableAsync(describeTapeArchivesRequest),
+                describeTapeArchivesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTapeArchives operation like
+     * {@link #describeTapeArchivesAsync(DescribeTapeArchivesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTapeArchivesRequest Container for the necessary
+     *           parameters to execute the DescribeTapeArchives operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTapeArchives service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeTapeArchivesResult> describeTapeArchivesComposableAsync(final DescribeTapeArchivesRequest describeTapeArchivesRequest) {
+        return executeAsync(executorService, new Callable<DescribeTapeArchivesResult>() {
             public DescribeTapeArchivesResult call() throws Exception {
-              DescribeTapeArchivesResult result;
-                try {
-                result = describeTapeArchives(describeTapeArchivesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTapeArchivesRequest, result);
-                 return result;
-        }
-    });
+                return describeTapeArchives(describeTapeArchivesRequest);
+            }
+        }, describeTapeArchivesRequest,
+                new DescribeTapeArchivesRequestMarshaller(), new DescribeTapeArchivesResultJsonUnmarshaller());
     }
     
     /**
@@ -3466,11 +3705,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewayInformationResult> updateGatewayInformationAsync(final UpdateGatewayInformationRequest updateGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewayInformationResult>() {
-            public UpdateGatewayInformationResult call() throws Exception {
-                return updateGatewayInformation(updateGatewayInformationRequest);
-        }
-    });
+        return updateGatewayInformationComposableAsync(updateGatewayInformationRequest);
     }
 
     /**
@@ -3505,19 +3740,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewayInformationRequest updateGatewayInformationRequest,
             final AsyncHandler<UpdateGatewayInformationRequest, UpdateGatewayInformationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewayInformationResult>() {
+        return withAsyncHandler(updateGatewayInformationComposableAsync(updateGatewayInformationRequest),
+                updateGatewayInformationRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateGatewayInformation operation like
+     * {@link #updateGatewayInformationAsync(UpdateGatewayInformationRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateGatewayInformationRequest Container for the necessary
+     *           parameters to execute the UpdateGatewayInformation operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateGatewayInformation service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateGatewayInformationResult> updateGatewayInformationComposableAsync(final UpdateGatewayInformationRequest updateGatewayInformationRequest) {
+        return executeAsync(executorService, new Callable<UpdateGatewayInformationResult>() {
             public UpdateGatewayInformationResult call() throws Exception {
-              UpdateGatewayInformationResult result;
-                try {
-                result = updateGatewayInformation(updateGatewayInformationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateGatewayInformationRequest, result);
-                 return result;
-        }
-    });
+                return updateGatewayInformation(updateGatewayInformationRequest);
+            }
+        }, updateGatewayInformationRequest,
+                new UpdateGatewayInformationRequestMarshaller(), new UpdateGatewayInformationResultJsonUnmarshaller());
     }
     
     /**
@@ -3542,11 +3789,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteTapeArchiveResult> deleteTapeArchiveAsync(final DeleteTapeArchiveRequest deleteTapeArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTapeArchiveResult>() {
-            public DeleteTapeArchiveResult call() throws Exception {
-                return deleteTapeArchive(deleteTapeArchiveRequest);
-        }
-    });
+        return deleteTapeArchiveComposableAsync(deleteTapeArchiveRequest);
     }
 
     /**
@@ -3577,19 +3820,30 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeArchiveRequest deleteTapeArchiveRequest,
             final AsyncHandler<DeleteTapeArchiveRequest, DeleteTapeArchiveResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTapeArchiveResult>() {
+        return withAsyncHandler(deleteTapeArchiveComposableAsync(deleteTapeArchiveRequest),
+                deleteTapeArchiveRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteTapeArchive operation like
+     * {@link #deleteTapeArchiveAsync(DeleteTapeArchiveRequest)}, returning
+     * a future to which further processing can be chained without
+     * blocking.
+     *
+     * @param deleteTapeArchiveRequest Container for the necessary parameters
+     *           to execute the DeleteTapeArchive operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DeleteTapeArchive service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteTapeArchiveResult> deleteTapeArchiveComposableAsync(final DeleteTapeArchiveRequest deleteTapeArchiveRequest) {
+        return executeAsync(executorService, new Callable<DeleteTapeArchiveResult>() {
             public DeleteTapeArchiveResult call() throws Exception {
-              DeleteTapeArchiveResult result;
-                try {
-                result = deleteTapeArchive(deleteTapeArchiveRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTapeArchiveRequest, result);
-                 return result;
-        }
-    });
+                return deleteTapeArchive(deleteTapeArchiveRequest);
+            }
+        }, deleteTapeArchiveRequest,
+                new DeleteTapeArchiveRequestMarshaller(), new DeleteTapeArchiveResultJsonUnmarshaller());
     }
     
     /**
@@ -3629,11 +3883,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateBandwidthRateLimitResult> updateBandwidthRateLimitAsync(final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateBandwidthRateLimitResult>() {
-            public UpdateBandwidthRateLimitResult call() throws Exception {
-                return updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
-        }
-    });
+        return updateBandwidthRateLimitComposableAsync(updateBandwidthRateLimitRequest);
     }
 
     /**
@@ -3679,19 +3929,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest,
             final AsyncHandler<UpdateBandwidthRateLimitRequest, UpdateBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateBandwidthRateLimitResult>() {
+        return withAsyncHandler(updateBandwidthRateLimitComposableAsync(updateBandwidthRateLimitRequest),
+                updateBandwidthRateLimitRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateBandwidthRateLimit operation like
+     * {@link #updateBandwidthRateLimitAsync(UpdateBandwidthRateLimitRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateBandwidthRateLimitRequest Container for the necessary
+     *           parameters to execute the UpdateBandwidthRateLimit operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateBandwidthRateLimit service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateBandwidthRateLimitResult> updateBandwidthRateLimitComposableAsync(final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest) {
+        return executeAsync(executorService, new Callable<UpdateBandwidthRateLimitResult>() {
             public UpdateBandwidthRateLimitResult call() throws Exception {
-              UpdateBandwidthRateLimitResult result;
-                try {
-                result = updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateBandwidthRateLimitRequest, result);
-                 return result;
-        }
-    });
+                return updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
+            }
+        }, updateBandwidthRateLimitRequest,
+                new UpdateBandwidthRateLimitRequestMarshaller(), new UpdateBandwidthRateLimitResultJsonUnmarshaller());
     }
     
     /**
@@ -3731,11 +3993,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeWorkingStorageResult> describeWorkingStorageAsync(final DescribeWorkingStorageRequest describeWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeWorkingStorageResult>() {
-            public DescribeWorkingStorageResult call() throws Exception {
-                return describeWorkingStorage(describeWorkingStorageRequest);
-        }
-    });
+        return describeWorkingStorageComposableAsync(describeWorkingStorageRequest);
     }
 
     /**
@@ -3781,19 +4039,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeWorkingStorageRequest describeWorkingStorageRequest,
             final AsyncHandler<DescribeWorkingStorageRequest, DescribeWorkingStorageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeWorkingStorageResult>() {
+        return withAsyncHandler(describeWorkingStorageComposableAsync(describeWorkingStorageRequest),
+                describeWorkingStorageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeWorkingStorage operation like
+     * {@link #describeWorkingStorageAsync(DescribeWorkingStorageRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeWorkingStorageRequest Container for the necessary
+     *           parameters to execute the DescribeWorkingStorage operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeWorkingStorage service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeWorkingStorageResult> describeWorkingStorageComposableAsync(final DescribeWorkingStorageRequest describeWorkingStorageRequest) {
+        return executeAsync(executorService, new Callable<DescribeWorkingStorageResult>() {
             public DescribeWorkingStorageResult call() throws Exception {
-              DescribeWorkingStorageResult result;
-                try {
-                result = describeWorkingStorage(describeWorkingStorageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeWorkingStorageRequest, result);
-                 return result;
-        }
-    });
+                return describeWorkingStorage(describeWorkingStorageRequest);
+            }
+        }, describeWorkingStorageRequest,
+                new DescribeWorkingStorageRequestMarshaller(), new DescribeWorkingStorageResultJsonUnmarshaller());
     }
     
     /**
@@ -3822,11 +4092,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateMaintenanceStartTimeResult> updateMaintenanceStartTimeAsync(final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMaintenanceStartTimeResult>() {
-            public UpdateMaintenanceStartTimeResult call() throws Exception {
-                return updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
-        }
-    });
+        return updateMaintenanceStartTimeComposableAsync(updateMaintenanceStartTimeRequest);
     }
 
     /**
@@ -3861,19 +4127,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest,
             final AsyncHandler<UpdateMaintenanceStartTimeRequest, UpdateMaintenanceStartTimeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMaintenanceStartTimeResult>() {
+        return withAsyncHandler(updateMaintenanceStartTimeComposableAsync(updateMaintenanceStartTimeRequest),
+                updateMaintenanceStartTimeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateMaintenanceStartTime operation
+     * like
+     * {@link #updateMaintenanceStartTimeAsync(UpdateMaintenanceStartTimeRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateMaintenanceStartTimeRequest Container for the necessary
+     *           parameters to execute the UpdateMaintenanceStartTime operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateMaintenanceStartTime service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateMaintenanceStartTimeResult> updateMaintenanceStartTimeComposableAsync(final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest) {
+        return executeAsync(executorService, new Callable<UpdateMaintenanceStartTimeResult>() {
             public UpdateMaintenanceStartTimeResult call() throws Exception {
-              UpdateMaintenanceStartTimeResult result;
-                try {
-                result = updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateMaintenanceStartTimeRequest, result);
-                 return result;
-        }
-    });
+                return updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
+            }
+        }, updateMaintenanceStartTimeRequest,
+                new UpdateMaintenanceStartTimeRequestMarshaller(), new UpdateMaintenanceStartTimeResultJsonUnmarshaller());
     }
     
     /**
@@ -3902,11 +4181,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeChapCredentialsResult> describeChapCredentialsAsync(final DescribeChapCredentialsRequest describeChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeChapCredentialsResult>() {
-            public DescribeChapCredentialsResult call() throws Exception {
-                return describeChapCredentials(describeChapCredentialsRequest);
-        }
-    });
+        return describeChapCredentialsComposableAsync(describeChapCredentialsRequest);
     }
 
     /**
@@ -3941,19 +4216,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeChapCredentialsRequest describeChapCredentialsRequest,
             final AsyncHandler<DescribeChapCredentialsRequest, DescribeChapCredentialsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeChapCredentialsResult>() {
+        return withAsyncHandler(describeChapCredentialsComposableAsync(describeChapCredentialsRequest),
+                describeChapCredentialsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeChapCredentials operation like
+     * {@link #describeChapCredentialsAsync(DescribeChapCredentialsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeChapCredentialsRequest Container for the necessary
+     *           parameters to execute the DescribeChapCredentials operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeChapCredentials service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeChapCredentialsResult> describeChapCredentialsComposableAsync(final DescribeChapCredentialsRequest describeChapCredentialsRequest) {
+        return executeAsync(executorService, new Callable<DescribeChapCredentialsResult>() {
             public DescribeChapCredentialsResult call() throws Exception {
-              DescribeChapCredentialsResult result;
-                try {
-                result = describeChapCredentials(describeChapCredentialsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeChapCredentialsRequest, result);
-                 return result;
-        }
-    });
+                return describeChapCredentials(describeChapCredentialsRequest);
+            }
+        }, describeChapCredentialsRequest,
+                new DescribeChapCredentialsRequestMarshaller(), new DescribeChapCredentialsResultJsonUnmarshaller());
     }
     
     /**
@@ -3982,11 +4269,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeSnapshotScheduleResult> describeSnapshotScheduleAsync(final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotScheduleResult>() {
-            public DescribeSnapshotScheduleResult call() throws Exception {
-                return describeSnapshotSchedule(describeSnapshotScheduleRequest);
-        }
-    });
+        return describeSnapshotScheduleComposableAsync(describeSnapshotScheduleRequest);
     }
 
     /**
@@ -4021,19 +4304,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest,
             final AsyncHandler<DescribeSnapshotScheduleRequest, DescribeSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotScheduleResult>() {
+        return withAsyncHandler(describeSnapshotScheduleComposableAsync(describeSnapshotScheduleRequest),
+                describeSnapshotScheduleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSnapshotSchedule operation like
+     * {@link #describeSnapshotScheduleAsync(DescribeSnapshotScheduleRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSnapshotScheduleRequest Container for the necessary
+     *           parameters to execute the DescribeSnapshotSchedule operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSnapshotSchedule service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeSnapshotScheduleResult> describeSnapshotScheduleComposableAsync(final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest) {
+        return executeAsync(executorService, new Callable<DescribeSnapshotScheduleResult>() {
             public DescribeSnapshotScheduleResult call() throws Exception {
-              DescribeSnapshotScheduleResult result;
-                try {
-                result = describeSnapshotSchedule(describeSnapshotScheduleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotScheduleRequest, result);
-                 return result;
-        }
-    });
+                return describeSnapshotSchedule(describeSnapshotScheduleRequest);
+            }
+        }, describeSnapshotScheduleRequest,
+                new DescribeSnapshotScheduleRequestMarshaller(), new DescribeSnapshotScheduleResultJsonUnmarshaller());
     }
     
     /**
@@ -4076,11 +4371,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteVolumeResult> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVolumeResult>() {
-            public DeleteVolumeResult call() throws Exception {
-                return deleteVolume(deleteVolumeRequest);
-        }
-    });
+        return deleteVolumeComposableAsync(deleteVolumeRequest);
     }
 
     /**
@@ -4129,19 +4420,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVolumeResult>() {
+        return withAsyncHandler(deleteVolumeComposableAsync(deleteVolumeRequest),
+                deleteVolumeRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteVolume operation like
+     * {@link #deleteVolumeAsync(DeleteVolumeRequest)}, returning a future
+     * to which further processing can be chained without blocking.
+     *
+     * @param deleteVolumeRequest Container for the necessary parameters to
+     *           execute the DeleteVolume operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DeleteVolume
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteVolumeResult> deleteVolumeComposableAsync(final DeleteVolumeRequest deleteVolumeRequest) {
+        return executeAsync(executorService, new Callable<DeleteVolumeResult>() {
             public DeleteVolumeResult call() throws Exception {
-              DeleteVolumeResult result;
-                try {
-                result = deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, result);
-                 return result;
-        }
-    });
+                return deleteVolume(deleteVolumeRequest);
+            }
+        }, deleteVolumeRequest,
+                new DeleteVolumeRequestMarshaller(), new DeleteVolumeResultJsonUnmarshaller());
     }
     
     /**
@@ -4186,11 +4486,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteGatewayResult> deleteGatewayAsync(final DeleteGatewayRequest deleteGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteGatewayResult>() {
-            public DeleteGatewayResult call() throws Exception {
-                return deleteGateway(deleteGatewayRequest);
-        }
-    });
+        return deleteGatewayComposableAsync(deleteGatewayRequest);
     }
 
     /**
@@ -4241,19 +4537,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteGatewayRequest deleteGatewayRequest,
             final AsyncHandler<DeleteGatewayRequest, DeleteGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteGatewayResult>() {
+        return withAsyncHandler(deleteGatewayComposableAsync(deleteGatewayRequest),
+                deleteGatewayRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteGateway operation like
+     * {@link #deleteGatewayAsync(DeleteGatewayRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param deleteGatewayRequest Container for the necessary parameters to
+     *           execute the DeleteGateway operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the DeleteGateway
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteGatewayResult> deleteGatewayComposableAsync(final DeleteGatewayRequest deleteGatewayRequest) {
+        return executeAsync(executorService, new Callable<DeleteGatewayResult>() {
             public DeleteGatewayResult call() throws Exception {
-              DeleteGatewayResult result;
-                try {
-                result = deleteGateway(deleteGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteGatewayRequest, result);
-                 return result;
-        }
-    });
+                return deleteGateway(deleteGatewayRequest);
+            }
+        }, deleteGatewayRequest,
+                new DeleteGatewayRequestMarshaller(), new DeleteGatewayResultJsonUnmarshaller());
     }
     
     /**
@@ -4284,11 +4589,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteBandwidthRateLimitResult> deleteBandwidthRateLimitAsync(final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBandwidthRateLimitResult>() {
-            public DeleteBandwidthRateLimitResult call() throws Exception {
-                return deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
-        }
-    });
+        return deleteBandwidthRateLimitComposableAsync(deleteBandwidthRateLimitRequest);
     }
 
     /**
@@ -4325,19 +4626,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest,
             final AsyncHandler<DeleteBandwidthRateLimitRequest, DeleteBandwidthRateLimitResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBandwidthRateLimitResult>() {
+        return withAsyncHandler(deleteBandwidthRateLimitComposableAsync(deleteBandwidthRateLimitRequest),
+                deleteBandwidthRateLimitRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DeleteBandwidthRateLimit operation like
+     * {@link #deleteBandwidthRateLimitAsync(DeleteBandwidthRateLimitRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param deleteBandwidthRateLimitRequest Container for the necessary
+     *           parameters to execute the DeleteBandwidthRateLimit operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DeleteBandwidthRateLimit service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DeleteBandwidthRateLimitResult> deleteBandwidthRateLimitComposableAsync(final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest) {
+        return executeAsync(executorService, new Callable<DeleteBandwidthRateLimitResult>() {
             public DeleteBandwidthRateLimitResult call() throws Exception {
-              DeleteBandwidthRateLimitResult result;
-                try {
-                result = deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteBandwidthRateLimitRequest, result);
-                 return result;
-        }
-    });
+                return deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
+            }
+        }, deleteBandwidthRateLimitRequest,
+                new DeleteBandwidthRateLimitRequestMarshaller(), new DeleteBandwidthRateLimitResultJsonUnmarshaller());
     }
     
     /**
@@ -4374,11 +4687,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListVolumesResult> listVolumesAsync(final ListVolumesRequest listVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumesResult>() {
-            public ListVolumesResult call() throws Exception {
-                return listVolumes(listVolumesRequest);
-        }
-    });
+        return listVolumesComposableAsync(listVolumesRequest);
     }
 
     /**
@@ -4421,19 +4730,28 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumesRequest listVolumesRequest,
             final AsyncHandler<ListVolumesRequest, ListVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumesResult>() {
+        return withAsyncHandler(listVolumesComposableAsync(listVolumesRequest),
+                listVolumesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ListVolumes operation like
+     * {@link #listVolumesAsync(ListVolumesRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param listVolumesRequest Container for the necessary parameters to
+     *           execute the ListVolumes operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the ListVolumes
+     *         service method, as returned by AWSStorageGateway.
+     */
+    public ComposableFuture<ListVolumesResult> listVolumesComposableAsync(final ListVolumesRequest listVolumesRequest) {
+        return executeAsync(executorService, new Callable<ListVolumesResult>() {
             public ListVolumesResult call() throws Exception {
-              ListVolumesResult result;
-                try {
-                result = listVolumes(listVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listVolumesRequest, result);
-                 return result;
-        }
-    });
+                return listVolumes(listVolumesRequest);
+            }
+        }, listVolumesRequest,
+                new ListVolumesRequestMarshaller(), new ListVolumesResultJsonUnmarshaller());
     }
     
     /**
@@ -4472,11 +4790,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateSnapshotScheduleResult> updateSnapshotScheduleAsync(final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSnapshotScheduleResult>() {
-            public UpdateSnapshotScheduleResult call() throws Exception {
-                return updateSnapshotSchedule(updateSnapshotScheduleRequest);
-        }
-    });
+        return updateSnapshotScheduleComposableAsync(updateSnapshotScheduleRequest);
     }
 
     /**
@@ -4521,19 +4835,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest,
             final AsyncHandler<UpdateSnapshotScheduleRequest, UpdateSnapshotScheduleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSnapshotScheduleResult>() {
+        return withAsyncHandler(updateSnapshotScheduleComposableAsync(updateSnapshotScheduleRequest),
+                updateSnapshotScheduleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the UpdateSnapshotSchedule operation like
+     * {@link #updateSnapshotScheduleAsync(UpdateSnapshotScheduleRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param updateSnapshotScheduleRequest Container for the necessary
+     *           parameters to execute the UpdateSnapshotSchedule operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         UpdateSnapshotSchedule service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<UpdateSnapshotScheduleResult> updateSnapshotScheduleComposableAsync(final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest) {
+        return executeAsync(executorService, new Callable<UpdateSnapshotScheduleResult>() {
             public UpdateSnapshotScheduleResult call() throws Exception {
-              UpdateSnapshotScheduleResult result;
-                try {
-                result = updateSnapshotSchedule(updateSnapshotScheduleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(updateSnapshotScheduleRequest, result);
-                 return result;
-        }
-    });
+                return updateSnapshotSchedule(updateSnapshotScheduleRequest);
+            }
+        }, updateSnapshotScheduleRequest,
+                new UpdateSnapshotScheduleRequestMarshaller(), new UpdateSnapshotScheduleResultJsonUnmarshaller());
     }
     
     /**
@@ -4565,11 +4891,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddUploadBufferResult> addUploadBufferAsync(final AddUploadBufferRequest addUploadBufferRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddUploadBufferResult>() {
-            public AddUploadBufferResult call() throws Exception {
-                return addUploadBuffer(addUploadBufferRequest);
-        }
-    });
+        return addUploadBufferComposableAsync(addUploadBufferRequest);
     }
 
     /**
@@ -4607,19 +4929,29 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddUploadBufferRequest addUploadBufferRequest,
             final AsyncHandler<AddUploadBufferRequest, AddUploadBufferResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddUploadBufferResult>() {
+        return withAsyncHandler(addUploadBufferComposableAsync(addUploadBufferRequest),
+                addUploadBufferRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddUploadBuffer operation like
+     * {@link #addUploadBufferAsync(AddUploadBufferRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param addUploadBufferRequest Container for the necessary parameters
+     *           to execute the AddUploadBuffer operation on AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         AddUploadBuffer service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<AddUploadBufferResult> addUploadBufferComposableAsync(final AddUploadBufferRequest addUploadBufferRequest) {
+        return executeAsync(executorService, new Callable<AddUploadBufferResult>() {
             public AddUploadBufferResult call() throws Exception {
-              AddUploadBufferResult result;
-                try {
-                result = addUploadBuffer(addUploadBufferRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addUploadBufferRequest, result);
-                 return result;
-        }
-    });
+                return addUploadBuffer(addUploadBufferRequest);
+            }
+        }, addUploadBufferRequest,
+                new AddUploadBufferRequestMarshaller(), new AddUploadBufferResultJsonUnmarshaller());
     }
     
     /**
@@ -4653,11 +4985,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeCachediSCSIVolumesResult> describeCachediSCSIVolumesAsync(final DescribeCachediSCSIVolumesRequest describeCachediSCSIVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCachediSCSIVolumesResult>() {
-            public DescribeCachediSCSIVolumesResult call() throws Exception {
-                return describeCachediSCSIVolumes(describeCachediSCSIVolumesRequest);
-        }
-    });
+        return describeCachediSCSIVolumesComposableAsync(describeCachediSCSIVolumesRequest);
     }
 
     /**
@@ -4697,19 +5025,32 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCachediSCSIVolumesRequest describeCachediSCSIVolumesRequest,
             final AsyncHandler<DescribeCachediSCSIVolumesRequest, DescribeCachediSCSIVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCachediSCSIVolumesResult>() {
+        return withAsyncHandler(describeCachediSCSIVolumesComposableAsync(describeCachediSCSIVolumesRequest),
+                describeCachediSCSIVolumesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCachediSCSIVolumes operation
+     * like
+     * {@link #describeCachediSCSIVolumesAsync(DescribeCachediSCSIVolumesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCachediSCSIVolumesRequest Container for the necessary
+     *           parameters to execute the DescribeCachediSCSIVolumes operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCachediSCSIVolumes service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<DescribeCachediSCSIVolumesResult> describeCachediSCSIVolumesComposableAsync(final DescribeCachediSCSIVolumesRequest describeCachediSCSIVolumesRequest) {
+        return executeAsync(executorService, new Callable<DescribeCachediSCSIVolumesResult>() {
             public DescribeCachediSCSIVolumesResult call() throws Exception {
-              DescribeCachediSCSIVolumesResult result;
-                try {
-                result = describeCachediSCSIVolumes(describeCachediSCSIVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCachediSCSIVolumesRequest, result);
-                 return result;
-        }
-    });
+                return describeCachediSCSIVolumes(describeCachediSCSIVolumesRequest);
+            }
+        }, describeCachediSCSIVolumesRequest,
+                new DescribeCachediSCSIVolumesRequestMarshaller(), new DescribeCachediSCSIVolumesResultJsonUnmarshaller());
     }
     
     /**
@@ -4743,11 +5084,7 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<RetrieveTapeArchiveResult> retrieveTapeArchiveAsync(final RetrieveTapeArchiveRequest retrieveTapeArchiveRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveTapeArchiveResult>() {
-            public RetrieveTapeArchiveResult call() throws Exception {
-                return retrieveTapeArchive(retrieveTapeArchiveRequest);
-        }
-    });
+        return retrieveTapeArchiveComposableAsync(retrieveTapeArchiveRequest);
     }
 
     /**
@@ -4787,19 +5124,31 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeArchiveRequest retrieveTapeArchiveRequest,
             final AsyncHandler<RetrieveTapeArchiveRequest, RetrieveTapeArchiveResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveTapeArchiveResult>() {
+        return withAsyncHandler(retrieveTapeArchiveComposableAsync(retrieveTapeArchiveRequest),
+                retrieveTapeArchiveRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RetrieveTapeArchive operation like
+     * {@link #retrieveTapeArchiveAsync(RetrieveTapeArchiveRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param retrieveTapeArchiveRequest Container for the necessary
+     *           parameters to execute the RetrieveTapeArchive operation on
+     *           AWSStorageGateway.
+     *
+     * @return A composable future for the response from the
+     *         RetrieveTapeArchive service method, as returned by
+     *         AWSStorageGateway.
+     */
+    public ComposableFuture<RetrieveTapeArchiveResult> retrieveTapeArchiveComposableAsync(final RetrieveTapeArchiveRequest retrieveTapeArchiveRequest) {
+        return executeAsync(executorService, new Callable<RetrieveTapeArchiveResult>() {
             public RetrieveTapeArchiveResult call() throws Exception {
-              RetrieveTapeArchiveResult result;
-                try {
-                result = retrieveTapeArchive(retrieveTapeArchiveRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(retrieveTapeArchiveRequest, result);
-                 return result;
-        }
-    });
+                return retrieveTapeArchive(retrieveTapeArchiveRequest);
+            }
+        }, retrieveTapeArchiveRequest,
+                new RetrieveTapeArchiveRequestMarshaller(), new RetrieveTapeArchiveResultJsonUnmarshaller());
     }
     
 }
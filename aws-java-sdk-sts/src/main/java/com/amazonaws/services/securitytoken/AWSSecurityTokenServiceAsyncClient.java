@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.securitytoken.model.*;
+import com.amazonaws.services.securitytoken.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSSecurityTokenService.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Security Token Service <p>
  * The AWS Security Token Service (STS) is a web service that enables you
  * to request temporary, limited-privilege credentials for AWS Identity
@@ -382,11 +386,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetSessionTokenResult> getSessionTokenAsync(final GetSessionTokenRequest getSessionTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSessionTokenResult>() {
-            public GetSessionTokenResult call() throws Exception {
-                return getSessionToken(getSessionTokenRequest);
-        }
-    });
+        return getSessionTokenComposableAsync(getSessionTokenRequest);
     }
 
     /**
@@ -457,19 +457,29 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final GetSessionTokenRequest getSessionTokenRequest,
             final AsyncHandler<GetSessionTokenRequest, GetSessionTokenResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSessionTokenResult>() {
+        return withAsyncHandler(getSessionTokenComposableAsync(getSessionTokenRequest),
+                getSessionTokenRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetSessionToken operation like
+     * {@link #getSessionTokenAsync(GetSessionTokenRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param getSessionTokenRequest Container for the necessary parameters
+     *           to execute the GetSessionToken operation on AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the
+     *         GetSessionToken service method, as returned by
+     *         AWSSecurityTokenService.
+     */
+    public ComposableFuture<GetSessionTokenResult> getSessionTokenComposableAsync(final GetSessionTokenRequest getSessionTokenRequest) {
+        return executeAsync(executorService, new Callable<GetSessionTokenResult>() {
             public GetSessionTokenResult call() throws Exception {
-              GetSessionTokenResult result;
-                try {
-                result = getSessionToken(getSessionTokenRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getSessionTokenRequest, result);
-                 return result;
-        }
-    });
+                return getSessionToken(getSessionTokenRequest);
+            }
+        }, getSessionTokenRequest,
+                new GetSessionTokenRequestMarshaller(), new GetSessionTokenResultStaxUnmarshaller());
     }
     
     /**
@@ -535,11 +545,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<DecodeAuthorizationMessageResult> decodeAuthorizationMessageAsync(final DecodeAuthorizationMessageRequest decodeAuthorizationMessageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecodeAuthorizationMessageResult>() {
-            public DecodeAuthorizationMessageResult call() throws Exception {
-                return decodeAuthorizationMessage(decodeAuthorizationMessageRequest);
-        }
-    });
+        return decodeAuthorizationMessageComposableAsync(decodeAuthorizationMessageRequest);
     }
 
     /**
@@ -611,19 +617,32 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final DecodeAuthorizationMessageRequest decodeAuthorizationMessageRequest,
             final AsyncHandler<DecodeAuthorizationMessageRequest, DecodeAuthorizationMessageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecodeAuthorizationMessageResult>() {
+        return withAsyncHandler(decodeAuthorizationMessageComposableAsync(decodeAuthorizationMessageRequest),
+                decodeAuthorizationMessageRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DecodeAuthorizationMessage operation
+     * like
+     * {@link #decodeAuthorizationMessageAsync(DecodeAuthorizationMessageRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param decodeAuthorizationMessageRequest Container for the necessary
+     *           parameters to execute the DecodeAuthorizationMessage operation on
+     *           AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the
+     *         DecodeAuthorizationMessage service method, as returned by
+     *         AWSSecurityTokenService.
+     */
+    public ComposableFuture<DecodeAuthorizationMessageResult> decodeAuthorizationMessageComposableAsync(final DecodeAuthorizationMessageRequest decodeAuthorizationMessageRequest) {
+        return executeAsync(executorService, new Callable<DecodeAuthorizationMessageResult>() {
             public DecodeAuthorizationMessageResult call() throws Exception {
-              DecodeAuthorizationMessageResult result;
-                try {
-                result = decodeAuthorizationMessage(decodeAuthorizationMessageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(decodeAuthorizationMessageRequest, result);
-                 return result;
-        }
-    });
+                return decodeAuthorizationMessage(decodeAuthorizationMessageRequest);
+            }
+        }, decodeAuthorizationMessageRequest,
+                new DecodeAuthorizationMessageRequestMarshaller(), new DecodeAuthorizationMessageResultStaxUnmarshaller());
     }
     
     /**
@@ -730,11 +749,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<AssumeRoleWithSAMLResult> assumeRoleWithSAMLAsync(final AssumeRoleWithSAMLRequest assumeRoleWithSAMLRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleWithSAMLResult>() {
-            public AssumeRoleWithSAMLResult call() throws Exception {
-                return assumeRoleWithSAML(assumeRoleWithSAMLRequest);
-        }
-    });
+        return assumeRoleWithSAMLComposableAsync(assumeRoleWithSAMLRequest);
     }
 
     /**
@@ -847,19 +862,31 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final AssumeRoleWithSAMLRequest assumeRoleWithSAMLRequest,
             final AsyncHandler<AssumeRoleWithSAMLRequest, AssumeRoleWithSAMLResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleWithSAMLResult>() {
+        return withAsyncHandler(assumeRoleWithSAMLComposableAsync(assumeRoleWithSAMLRequest),
+                assumeRoleWithSAMLRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssumeRoleWithSAML operation like
+     * {@link #assumeRoleWithSAMLAsync(AssumeRoleWithSAMLRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param assumeRoleWithSAMLRequest Container for the necessary
+     *           parameters to execute the AssumeRoleWithSAML operation on
+     *           AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the
+     *         AssumeRoleWithSAML service method, as returned by
+     *         AWSSecurityTokenService.
+     */
+    public ComposableFuture<AssumeRoleWithSAMLResult> assumeRoleWithSAMLComposableAsync(final AssumeRoleWithSAMLRequest assumeRoleWithSAMLRequest) {
+        return executeAsync(executorService, new Callable<AssumeRoleWithSAMLResult>() {
             public AssumeRoleWithSAMLResult call() throws Exception {
-              AssumeRoleWithSAMLResult result;
-                try {
-                result = assumeRoleWithSAML(assumeRoleWithSAMLRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assumeRoleWithSAMLRequest, result);
-                 return result;
-        }
-    });
+                return assumeRoleWithSAML(assumeRoleWithSAMLRequest);
+            }
+        }, assumeRoleWithSAMLRequest,
+                new AssumeRoleWithSAMLRequestMarshaller(), new AssumeRoleWithSAMLResultStaxUnmarshaller());
     }
     
     /**
@@ -976,11 +1003,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<AssumeRoleWithWebIdentityResult> assumeRoleWithWebIdentityAsync(final AssumeRoleWithWebIdentityRequest assumeRoleWithWebIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleWithWebIdentityResult>() {
-            public AssumeRoleWithWebIdentityResult call() throws Exception {
-                return assumeRoleWithWebIdentity(assumeRoleWithWebIdentityRequest);
-        }
-    });
+        return assumeRoleWithWebIdentityComposableAsync(assumeRoleWithWebIdentityRequest);
     }
 
     /**
@@ -1103,19 +1126,31 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final AssumeRoleWithWebIdentityRequest assumeRoleWithWebIdentityRequest,
             final AsyncHandler<AssumeRoleWithWebIdentityRequest, AssumeRoleWithWebIdentityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleWithWebIdentityResult>() {
+        return withAsyncHandler(assumeRoleWithWebIdentityComposableAsync(assumeRoleWithWebIdentityRequest),
+                assumeRoleWithWebIdentityRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssumeRoleWithWebIdentity operation like
+     * {@link #assumeRoleWithWebIdentityAsync(AssumeRoleWithWebIdentityRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param assumeRoleWithWebIdentityRequest Container for the necessary
+     *           parameters to execute the AssumeRoleWithWebIdentity operation on
+     *           AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the
+     *         AssumeRoleWithWebIdentity service method, as returned by
+     *         AWSSecurityTokenService.
+     */
+    public ComposableFuture<AssumeRoleWithWebIdentityResult> assumeRoleWithWebIdentityComposableAsync(final AssumeRoleWithWebIdentityRequest assumeRoleWithWebIdentityRequest) {
+        return executeAsync(executorService, new Callable<AssumeRoleWithWebIdentityResult>() {
             public AssumeRoleWithWebIdentityResult call() throws Exception {
-              AssumeRoleWithWebIdentityResult result;
-                try {
-                result = assumeRoleWithWebIdentity(assumeRoleWithWebIdentityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assumeRoleWithWebIdentityRequest, result);
-                 return result;
-        }
-    });
+                return assumeRoleWithWebIdentity(assumeRoleWithWebIdentityRequest);
+            }
+        }, assumeRoleWithWebIdentityRequest,
+                new AssumeRoleWithWebIdentityRequestMarshaller(), new AssumeRoleWithWebIdentityResultStaxUnmarshaller());
     }
     
     /**
@@ -1223,11 +1258,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetFederationTokenResult> getFederationTokenAsync(final GetFederationTokenRequest getFederationTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                return getFederationToken(getFederationTokenRequest);
-        }
-    });
+        return getFederationTokenComposableAsync(getFederationTokenRequest);
     }
 
     /**
@@ -1341,19 +1372,31 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
+        return withAsyncHandler(getFederationTokenComposableAsync(getFederationTokenRequest),
+                getFederationTokenRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the GetFederationToken operation like
+     * {@link #getFederationTokenAsync(GetFederationTokenRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param getFederationTokenRequest Container for the necessary
+     *           parameters to execute the GetFederationToken operation on
+     *           AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the
+     *         GetFederationToken service method, as returned by
+     *         AWSSecurityTokenService.
+     */
+    public ComposableFuture<GetFederationTokenResult> getFederationTokenComposableAsync(final GetFederationTokenRequest getFederationTokenRequest) {
+        return executeAsync(executorService, new Callable<GetFederationTokenResult>() {
             public GetFederationTokenResult call() throws Exception {
-              GetFederationTokenResult result;
-                try {
-                result = getFederationToken(getFederationTokenRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getFederationTokenRequest, result);
-                 return result;
-        }
-    });
+                return getFederationToken(getFederationTokenRequest);
+            }
+        }, getFederationTokenRequest,
+                new GetFederationTokenRequestMarshaller(), new GetFederationTokenResultStaxUnmarshaller());
     }
     
     /**
@@ -1486,11 +1529,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<AssumeRoleResult> assumeRoleAsync(final AssumeRoleRequest assumeRoleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleResult>() {
-            public AssumeRoleResult call() throws Exception {
-                return assumeRole(assumeRoleRequest);
-        }
-    });
+        return assumeRoleComposableAsync(assumeRoleRequest);
     }
 
     /**
@@ -1629,19 +1668,28 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
             final AssumeRoleRequest assumeRoleRequest,
             final AsyncHandler<AssumeRoleRequest, AssumeRoleResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssumeRoleResult>() {
+        return withAsyncHandler(assumeRoleComposableAsync(assumeRoleRequest),
+                assumeRoleRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AssumeRole operation like
+     * {@link #assumeRoleAsync(AssumeRoleRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param assumeRoleRequest Container for the necessary parameters to
+     *           execute the AssumeRole operation on AWSSecurityTokenService.
+     *
+     * @return A composable future for the response from the AssumeRole
+     *         service method, as returned by AWSSecurityTokenService.
+     */
+    public ComposableFuture<AssumeRoleResult> assumeRoleComposableAsync(final AssumeRoleRequest assumeRoleRequest) {
+        return executeAsync(executorService, new Callable<AssumeRoleResult>() {
             public AssumeRoleResult call() throws Exception {
-              AssumeRoleResult result;
-                try {
-                result = assumeRole(assumeRoleRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assumeRoleRequest, result);
-                 return result;
-        }
-    });
+                return assumeRole(assumeRoleRequest);
+            }
+        }, assumeRoleRequest,
+                new AssumeRoleRequestMarshaller(), new AssumeRoleResultStaxUnmarshaller());
     }
     
 }
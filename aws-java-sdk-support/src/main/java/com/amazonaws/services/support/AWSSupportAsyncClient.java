@@ -26,14 +26,18 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.concurrent.ComposableFuture;
 
 import com.amazonaws.services.support.model.*;
+import com.amazonaws.services.support.model.transform.*;
 
 /**
  * Asynchronous client for accessing AWSSupport.
  * All asynchronous calls made using this client are non-blocking. Callers could either
  * process the result and handle the exceptions in the worker thread by providing a callback handler
  * when making the call, or use the returned Future object to check the result of the call in the calling thread.
+ * The <code>ComposableAsync</code> variants of the calls return a {@link ComposableFuture}, to which further
+ * processing can be chained without blocking.
  * AWS Support <p>
  * The AWS Support API reference is intended for programmers who need
  * detailed information about the AWS Support operations and data types.
@@ -359,11 +363,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeTrustedAdvisorCheckRefreshStatusesResult> describeTrustedAdvisorCheckRefreshStatusesAsync(final DescribeTrustedAdvisorCheckRefreshStatusesRequest describeTrustedAdvisorCheckRefreshStatusesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckRefreshStatusesResult>() {
-            public DescribeTrustedAdvisorCheckRefreshStatusesResult call() throws Exception {
-                return describeTrustedAdvisorCheckRefreshStatuses(describeTrustedAdvisorCheckRefreshStatusesRequest);
-        }
-    });
+        return describeTrustedAdvisorCheckRefreshStatusesComposableAsync(describeTrustedAdvisorCheckRefreshStatusesRequest);
     }
 
     /**
@@ -398,19 +398,32 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeTrustedAdvisorCheckRefreshStatusesRequest describeTrustedAdvisorCheckRefreshStatusesRequest,
             final AsyncHandler<DescribeTrustedAdvisorCheckRefreshStatusesRequest, DescribeTrustedAdvisorCheckRefreshStatusesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckRefreshStatusesResult>() {
+        return withAsyncHandler(describeTrustedAdvisorCheckRefreshStatusesComposableAsync(describeTrustedAdvisorCheckRefreshStatusesRequest),
+                describeTrustedAdvisorCheckRefreshStatusesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTrustedAdvisorCheckRefreshStatuses
+     * operation like
+     * {@link #describeTrustedAdvisorCheckRefreshStatusesAsync(DescribeTrustedAdvisorCheckRefreshStatusesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTrustedAdvisorCheckRefreshStatusesRequest Container for
+     *           the necessary parameters to execute the
+     *           DescribeTrustedAdvisorCheckRefreshStatuses operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTrustedAdvisorCheckRefreshStatuses service method,
+     *         as returned by AWSSupport.
+     */
+    public ComposableFuture<DescribeTrustedAdvisorCheckRefreshStatusesResult> describeTrustedAdvisorCheckRefreshStatusesComposableAsync(final DescribeTrustedAdvisorCheckRefreshStatusesRequest describeTrustedAdvisorCheckRefreshStatusesRequest) {
+        return executeAsync(executorService, new Callable<DescribeTrustedAdvisorCheckRefreshStatusesResult>() {
             public DescribeTrustedAdvisorCheckRefreshStatusesResult call() throws Exception {
-              DescribeTrustedAdvisorCheckRefreshStatusesResult result;
-                try {
-                result = describeTrustedAdvisorCheckRefreshStatuses(describeTrustedAdvisorCheckRefreshStatusesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTrustedAdvisorCheckRefreshStatusesRequest, result);
-                 return result;
-        }
-    });
+                return describeTrustedAdvisorCheckRefreshStatuses(describeTrustedAdvisorCheckRefreshStatusesRequest);
+            }
+        }, describeTrustedAdvisorCheckRefreshStatusesRequest,
+                new DescribeTrustedAdvisorCheckRefreshStatusesRequestMarshaller(), new DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller());
     }
     
     /**
@@ -454,11 +467,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeCasesResult> describeCasesAsync(final DescribeCasesRequest describeCasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCasesResult>() {
-            public DescribeCasesResult call() throws Exception {
-                return describeCases(describeCasesRequest);
-        }
-    });
+        return describeCasesComposableAsync(describeCasesRequest);
     }
 
     /**
@@ -508,19 +517,28 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeCasesRequest describeCasesRequest,
             final AsyncHandler<DescribeCasesRequest, DescribeCasesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCasesResult>() {
+        return withAsyncHandler(describeCasesComposableAsync(describeCasesRequest),
+                describeCasesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCases operation like
+     * {@link #describeCasesAsync(DescribeCasesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeCasesRequest Container for the necessary parameters to
+     *           execute the DescribeCases operation on AWSSupport.
+     *
+     * @return A composable future for the response from the DescribeCases
+     *         service method, as returned by AWSSupport.
+     */
+    public ComposableFuture<DescribeCasesResult> describeCasesComposableAsync(final DescribeCasesRequest describeCasesRequest) {
+        return executeAsync(executorService, new Callable<DescribeCasesResult>() {
             public DescribeCasesResult call() throws Exception {
-              DescribeCasesResult result;
-                try {
-                result = describeCases(describeCasesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCasesRequest, result);
-                 return result;
-        }
-    });
+                return describeCases(describeCasesRequest);
+            }
+        }, describeCasesRequest,
+                new DescribeCasesRequestMarshaller(), new DescribeCasesResultJsonUnmarshaller());
     }
     
     /**
@@ -557,11 +575,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<AddAttachmentsToSetResult> addAttachmentsToSetAsync(final AddAttachmentsToSetRequest addAttachmentsToSetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddAttachmentsToSetResult>() {
-            public AddAttachmentsToSetResult call() throws Exception {
-                return addAttachmentsToSet(addAttachmentsToSetRequest);
-        }
-    });
+        return addAttachmentsToSetComposableAsync(addAttachmentsToSetRequest);
     }
 
     /**
@@ -604,19 +618,30 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final AddAttachmentsToSetRequest addAttachmentsToSetRequest,
             final AsyncHandler<AddAttachmentsToSetRequest, AddAttachmentsToSetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddAttachmentsToSetResult>() {
+        return withAsyncHandler(addAttachmentsToSetComposableAsync(addAttachmentsToSetRequest),
+                addAttachmentsToSetRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddAttachmentsToSet operation like
+     * {@link #addAttachmentsToSetAsync(AddAttachmentsToSetRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param addAttachmentsToSetRequest Container for the necessary
+     *           parameters to execute the AddAttachmentsToSet operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         AddAttachmentsToSet service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<AddAttachmentsToSetResult> addAttachmentsToSetComposableAsync(final AddAttachmentsToSetRequest addAttachmentsToSetRequest) {
+        return executeAsync(executorService, new Callable<AddAttachmentsToSetResult>() {
             public AddAttachmentsToSetResult call() throws Exception {
-              AddAttachmentsToSetResult result;
-                try {
-                result = addAttachmentsToSet(addAttachmentsToSetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addAttachmentsToSetRequest, result);
-                 return result;
-        }
-    });
+                return addAttachmentsToSet(addAttachmentsToSetRequest);
+            }
+        }, addAttachmentsToSetRequest,
+                new AddAttachmentsToSetRequestMarshaller(), new AddAttachmentsToSetResultJsonUnmarshaller());
     }
     
     /**
@@ -644,11 +669,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeSeverityLevelsResult> describeSeverityLevelsAsync(final DescribeSeverityLevelsRequest describeSeverityLevelsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSeverityLevelsResult>() {
-            public DescribeSeverityLevelsResult call() throws Exception {
-                return describeSeverityLevels(describeSeverityLevelsRequest);
-        }
-    });
+        return describeSeverityLevelsComposableAsync(describeSeverityLevelsRequest);
     }
 
     /**
@@ -682,19 +703,31 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeSeverityLevelsRequest describeSeverityLevelsRequest,
             final AsyncHandler<DescribeSeverityLevelsRequest, DescribeSeverityLevelsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSeverityLevelsResult>() {
+        return withAsyncHandler(describeSeverityLevelsComposableAsync(describeSeverityLevelsRequest),
+                describeSeverityLevelsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeSeverityLevels operation like
+     * {@link #describeSeverityLevelsAsync(DescribeSeverityLevelsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeSeverityLevelsRequest Container for the necessary
+     *           parameters to execute the DescribeSeverityLevels operation on
+     *           AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeSeverityLevels service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<DescribeSeverityLevelsResult> describeSeverityLevelsComposableAsync(final DescribeSeverityLevelsRequest describeSeverityLevelsRequest) {
+        return executeAsync(executorService, new Callable<DescribeSeverityLevelsResult>() {
             public DescribeSeverityLevelsResult call() throws Exception {
-              DescribeSeverityLevelsResult result;
-                try {
-                result = describeSeverityLevels(describeSeverityLevelsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSeverityLevelsRequest, result);
-                 return result;
-        }
-    });
+                return describeSeverityLevels(describeSeverityLevelsRequest);
+            }
+        }, describeSeverityLevelsRequest,
+                new DescribeSeverityLevelsRequestMarshaller(), new DescribeSeverityLevelsResultJsonUnmarshaller());
     }
     
     /**
@@ -736,11 +769,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeCommunicationsResult> describeCommunicationsAsync(final DescribeCommunicationsRequest describeCommunicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommunicationsResult>() {
-            public DescribeCommunicationsResult call() throws Exception {
-                return describeCommunications(describeCommunicationsRequest);
-        }
-    });
+        return describeCommunicationsComposableAsync(describeCommunicationsRequest);
     }
 
     /**
@@ -788,19 +817,31 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeCommunicationsRequest describeCommunicationsRequest,
             final AsyncHandler<DescribeCommunicationsRequest, DescribeCommunicationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCommunicationsResult>() {
+        return withAsyncHandler(describeCommunicationsComposableAsync(describeCommunicationsRequest),
+                describeCommunicationsRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeCommunications operation like
+     * {@link #describeCommunicationsAsync(DescribeCommunicationsRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeCommunicationsRequest Container for the necessary
+     *           parameters to execute the DescribeCommunications operation on
+     *           AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeCommunications service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<DescribeCommunicationsResult> describeCommunicationsComposableAsync(final DescribeCommunicationsRequest describeCommunicationsRequest) {
+        return executeAsync(executorService, new Callable<DescribeCommunicationsResult>() {
             public DescribeCommunicationsResult call() throws Exception {
-              DescribeCommunicationsResult result;
-                try {
-                result = describeCommunications(describeCommunicationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCommunicationsRequest, result);
-                 return result;
-        }
-    });
+                return describeCommunications(describeCommunicationsRequest);
+            }
+        }, describeCommunicationsRequest,
+                new DescribeCommunicationsRequestMarshaller(), new DescribeCommunicationsResultJsonUnmarshaller());
     }
     
     /**
@@ -829,11 +870,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeAttachmentResult> describeAttachmentAsync(final DescribeAttachmentRequest describeAttachmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAttachmentResult>() {
-            public DescribeAttachmentResult call() throws Exception {
-                return describeAttachment(describeAttachmentRequest);
-        }
-    });
+        return describeAttachmentComposableAsync(describeAttachmentRequest);
     }
 
     /**
@@ -868,19 +905,30 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeAttachmentRequest describeAttachmentRequest,
             final AsyncHandler<DescribeAttachmentRequest, DescribeAttachmentResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAttachmentResult>() {
+        return withAsyncHandler(describeAttachmentComposableAsync(describeAttachmentRequest),
+                describeAttachmentRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeAttachment operation like
+     * {@link #describeAttachmentAsync(DescribeAttachmentRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeAttachmentRequest Container for the necessary
+     *           parameters to execute the DescribeAttachment operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeAttachment service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<DescribeAttachmentResult> describeAttachmentComposableAsync(final DescribeAttachmentRequest describeAttachmentRequest) {
+        return executeAsync(executorService, new Callable<DescribeAttachmentResult>() {
             public DescribeAttachmentResult call() throws Exception {
-              DescribeAttachmentResult result;
-                try {
-                result = describeAttachment(describeAttachmentRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAttachmentRequest, result);
-                 return result;
-        }
-    });
+                return describeAttachment(describeAttachmentRequest);
+            }
+        }, describeAttachmentRequest,
+                new DescribeAttachmentRequestMarshaller(), new DescribeAttachmentResultJsonUnmarshaller());
     }
     
     /**
@@ -907,11 +955,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<ResolveCaseResult> resolveCaseAsync(final ResolveCaseRequest resolveCaseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResolveCaseResult>() {
-            public ResolveCaseResult call() throws Exception {
-                return resolveCase(resolveCaseRequest);
-        }
-    });
+        return resolveCaseComposableAsync(resolveCaseRequest);
     }
 
     /**
@@ -944,19 +988,28 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final ResolveCaseRequest resolveCaseRequest,
             final AsyncHandler<ResolveCaseRequest, ResolveCaseResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResolveCaseResult>() {
+        return withAsyncHandler(resolveCaseComposableAsync(resolveCaseRequest),
+                resolveCaseRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the ResolveCase operation like
+     * {@link #resolveCaseAsync(ResolveCaseRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param resolveCaseRequest Container for the necessary parameters to
+     *           execute the ResolveCase operation on AWSSupport.
+     *
+     * @return A composable future for the response from the ResolveCase
+     *         service method, as returned by AWSSupport.
+     */
+    public ComposableFuture<ResolveCaseResult> resolveCaseComposableAsync(final ResolveCaseRequest resolveCaseRequest) {
+        return executeAsync(executorService, new Callable<ResolveCaseResult>() {
             public ResolveCaseResult call() throws Exception {
-              ResolveCaseResult result;
-                try {
-                result = resolveCase(resolveCaseRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resolveCaseRequest, result);
-                 return result;
-        }
-    });
+                return resolveCase(resolveCaseRequest);
+            }
+        }, resolveCaseRequest,
+                new ResolveCaseRequestMarshaller(), new ResolveCaseResultJsonUnmarshaller());
     }
     
     /**
@@ -995,11 +1048,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeServicesResult> describeServicesAsync(final DescribeServicesRequest describeServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServicesResult>() {
-            public DescribeServicesResult call() throws Exception {
-                return describeServices(describeServicesRequest);
-        }
-    });
+        return describeServicesComposableAsync(describeServicesRequest);
     }
 
     /**
@@ -1044,19 +1093,28 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeServicesRequest describeServicesRequest,
             final AsyncHandler<DescribeServicesRequest, DescribeServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServicesResult>() {
+        return withAsyncHandler(describeServicesComposableAsync(describeServicesRequest),
+                describeServicesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeServices operation like
+     * {@link #describeServicesAsync(DescribeServicesRequest)}, returning a
+     * future to which further processing can be chained without blocking.
+     *
+     * @param describeServicesRequest Container for the necessary parameters
+     *           to execute the DescribeServices operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeServices service method, as returned by AWSSupport.
+     */
+    public ComposableFuture<DescribeServicesResult> describeServicesComposableAsync(final DescribeServicesRequest describeServicesRequest) {
+        return executeAsync(executorService, new Callable<DescribeServicesResult>() {
             public DescribeServicesResult call() throws Exception {
-              DescribeServicesResult result;
-                try {
-                result = describeServices(describeServicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeServicesRequest, result);
-                 return result;
-        }
-    });
+                return describeServices(describeServicesRequest);
+            }
+        }, describeServicesRequest,
+                new DescribeServicesRequestMarshaller(), new DescribeServicesResultJsonUnmarshaller());
     }
     
     /**
@@ -1094,11 +1152,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<AddCommunicationToCaseResult> addCommunicationToCaseAsync(final AddCommunicationToCaseRequest addCommunicationToCaseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCommunicationToCaseResult>() {
-            public AddCommunicationToCaseResult call() throws Exception {
-                return addCommunicationToCase(addCommunicationToCaseRequest);
-        }
-    });
+        return addCommunicationToCaseComposableAsync(addCommunicationToCaseRequest);
     }
 
     /**
@@ -1142,19 +1196,31 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final AddCommunicationToCaseRequest addCommunicationToCaseRequest,
             final AsyncHandler<AddCommunicationToCaseRequest, AddCommunicationToCaseResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddCommunicationToCaseResult>() {
+        return withAsyncHandler(addCommunicationToCaseComposableAsync(addCommunicationToCaseRequest),
+                addCommunicationToCaseRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the AddCommunicationToCase operation like
+     * {@link #addCommunicationToCaseAsync(AddCommunicationToCaseRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param addCommunicationToCaseRequest Container for the necessary
+     *           parameters to execute the AddCommunicationToCase operation on
+     *           AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         AddCommunicationToCase service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<AddCommunicationToCaseResult> addCommunicationToCaseComposableAsync(final AddCommunicationToCaseRequest addCommunicationToCaseRequest) {
+        return executeAsync(executorService, new Callable<AddCommunicationToCaseResult>() {
             public AddCommunicationToCaseResult call() throws Exception {
-              AddCommunicationToCaseResult result;
-                try {
-                result = addCommunicationToCase(addCommunicationToCaseRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(addCommunicationToCaseRequest, result);
-                 return result;
-        }
-    });
+                return addCommunicationToCase(addCommunicationToCaseRequest);
+            }
+        }, addCommunicationToCaseRequest,
+                new AddCommunicationToCaseRequestMarshaller(), new AddCommunicationToCaseResultJsonUnmarshaller());
     }
     
     /**
@@ -1221,11 +1287,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<CreateCaseResult> createCaseAsync(final CreateCaseRequest createCaseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCaseResult>() {
-            public CreateCaseResult call() throws Exception {
-                return createCase(createCaseRequest);
-        }
-    });
+        return createCaseComposableAsync(createCaseRequest);
     }
 
     /**
@@ -1298,19 +1360,28 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final CreateCaseRequest createCaseRequest,
             final AsyncHandler<CreateCaseRequest, CreateCaseResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCaseResult>() {
+        return withAsyncHandler(createCaseComposableAsync(createCaseRequest),
+                createCaseRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the CreateCase operation like
+     * {@link #createCaseAsync(CreateCaseRequest)}, returning a future to
+     * which further processing can be chained without blocking.
+     *
+     * @param createCaseRequest Container for the necessary parameters to
+     *           execute the CreateCase operation on AWSSupport.
+     *
+     * @return A composable future for the response from the CreateCase
+     *         service method, as returned by AWSSupport.
+     */
+    public ComposableFuture<CreateCaseResult> createCaseComposableAsync(final CreateCaseRequest createCaseRequest) {
+        return executeAsync(executorService, new Callable<CreateCaseResult>() {
             public CreateCaseResult call() throws Exception {
-              CreateCaseResult result;
-                try {
-                result = createCase(createCaseRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCaseRequest, result);
-                 return result;
-        }
-    });
+                return createCase(createCaseRequest);
+            }
+        }, createCaseRequest,
+                new CreateCaseRequestMarshaller(), new CreateCaseResultJsonUnmarshaller());
     }
     
     /**
@@ -1341,11 +1412,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeTrustedAdvisorChecksResult> describeTrustedAdvisorChecksAsync(final DescribeTrustedAdvisorChecksRequest describeTrustedAdvisorChecksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorChecksResult>() {
-            public DescribeTrustedAdvisorChecksResult call() throws Exception {
-                return describeTrustedAdvisorChecks(describeTrustedAdvisorChecksRequest);
-        }
-    });
+        return describeTrustedAdvisorChecksComposableAsync(describeTrustedAdvisorChecksRequest);
     }
 
     /**
@@ -1382,19 +1449,32 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeTrustedAdvisorChecksRequest describeTrustedAdvisorChecksRequest,
             final AsyncHandler<DescribeTrustedAdvisorChecksRequest, DescribeTrustedAdvisorChecksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorChecksResult>() {
+        return withAsyncHandler(describeTrustedAdvisorChecksComposableAsync(describeTrustedAdvisorChecksRequest),
+                describeTrustedAdvisorChecksRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTrustedAdvisorChecks operation
+     * like
+     * {@link #describeTrustedAdvisorChecksAsync(DescribeTrustedAdvisorChecksRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTrustedAdvisorChecksRequest Container for the necessary
+     *           parameters to execute the DescribeTrustedAdvisorChecks operation on
+     *           AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTrustedAdvisorChecks service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<DescribeTrustedAdvisorChecksResult> describeTrustedAdvisorChecksComposableAsync(final DescribeTrustedAdvisorChecksRequest describeTrustedAdvisorChecksRequest) {
+        return executeAsync(executorService, new Callable<DescribeTrustedAdvisorChecksResult>() {
             public DescribeTrustedAdvisorChecksResult call() throws Exception {
-              DescribeTrustedAdvisorChecksResult result;
-                try {
-                result = describeTrustedAdvisorChecks(describeTrustedAdvisorChecksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTrustedAdvisorChecksRequest, result);
-                 return result;
-        }
-    });
+                return describeTrustedAdvisorChecks(describeTrustedAdvisorChecksRequest);
+            }
+        }, describeTrustedAdvisorChecksRequest,
+                new DescribeTrustedAdvisorChecksRequestMarshaller(), new DescribeTrustedAdvisorChecksResultJsonUnmarshaller());
     }
     
     /**
@@ -1446,11 +1526,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeTrustedAdvisorCheckResultResult> describeTrustedAdvisorCheckResultAsync(final DescribeTrustedAdvisorCheckResultRequest describeTrustedAdvisorCheckResultRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckResultResult>() {
-            public DescribeTrustedAdvisorCheckResultResult call() throws Exception {
-                return describeTrustedAdvisorCheckResult(describeTrustedAdvisorCheckResultRequest);
-        }
-    });
+        return describeTrustedAdvisorCheckResultComposableAsync(describeTrustedAdvisorCheckResultRequest);
     }
 
     /**
@@ -1508,19 +1584,32 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeTrustedAdvisorCheckResultRequest describeTrustedAdvisorCheckResultRequest,
             final AsyncHandler<DescribeTrustedAdvisorCheckResultRequest, DescribeTrustedAdvisorCheckResultResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckResultResult>() {
+        return withAsyncHandler(describeTrustedAdvisorCheckResultComposableAsync(describeTrustedAdvisorCheckResultRequest),
+                describeTrustedAdvisorCheckResultRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTrustedAdvisorCheckResult
+     * operation like
+     * {@link #describeTrustedAdvisorCheckResultAsync(DescribeTrustedAdvisorCheckResultRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTrustedAdvisorCheckResultRequest Container for the
+     *           necessary parameters to execute the DescribeTrustedAdvisorCheckResult
+     *           operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTrustedAdvisorCheckResult service method, as
+     *         returned by AWSSupport.
+     */
+    public ComposableFuture<DescribeTrustedAdvisorCheckResultResult> describeTrustedAdvisorCheckResultComposableAsync(final DescribeTrustedAdvisorCheckResultRequest describeTrustedAdvisorCheckResultRequest) {
+        return executeAsync(executorService, new Callable<DescribeTrustedAdvisorCheckResultResult>() {
             public DescribeTrustedAdvisorCheckResultResult call() throws Exception {
-              DescribeTrustedAdvisorCheckResultResult result;
-                try {
-                result = describeTrustedAdvisorCheckResult(describeTrustedAdvisorCheckResultRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTrustedAdvisorCheckResultRequest, result);
-                 return result;
-        }
-    });
+                return describeTrustedAdvisorCheckResult(describeTrustedAdvisorCheckResultRequest);
+            }
+        }, describeTrustedAdvisorCheckResultRequest,
+                new DescribeTrustedAdvisorCheckResultRequestMarshaller(), new DescribeTrustedAdvisorCheckResultResultJsonUnmarshaller());
     }
     
     /**
@@ -1561,11 +1650,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<RefreshTrustedAdvisorCheckResult> refreshTrustedAdvisorCheckAsync(final RefreshTrustedAdvisorCheckRequest refreshTrustedAdvisorCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RefreshTrustedAdvisorCheckResult>() {
-            public RefreshTrustedAdvisorCheckResult call() throws Exception {
-                return refreshTrustedAdvisorCheck(refreshTrustedAdvisorCheckRequest);
-        }
-    });
+        return refreshTrustedAdvisorCheckComposableAsync(refreshTrustedAdvisorCheckRequest);
     }
 
     /**
@@ -1612,19 +1697,32 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final RefreshTrustedAdvisorCheckRequest refreshTrustedAdvisorCheckRequest,
             final AsyncHandler<RefreshTrustedAdvisorCheckRequest, RefreshTrustedAdvisorCheckResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RefreshTrustedAdvisorCheckResult>() {
+        return withAsyncHandler(refreshTrustedAdvisorCheckComposableAsync(refreshTrustedAdvisorCheckRequest),
+                refreshTrustedAdvisorCheckRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the RefreshTrustedAdvisorCheck operation
+     * like
+     * {@link #refreshTrustedAdvisorCheckAsync(RefreshTrustedAdvisorCheckRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param refreshTrustedAdvisorCheckRequest Container for the necessary
+     *           parameters to execute the RefreshTrustedAdvisorCheck operation on
+     *           AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         RefreshTrustedAdvisorCheck service method, as returned by
+     *         AWSSupport.
+     */
+    public ComposableFuture<RefreshTrustedAdvisorCheckResult> refreshTrustedAdvisorCheckComposableAsync(final RefreshTrustedAdvisorCheckRequest refreshTrustedAdvisorCheckRequest) {
+        return executeAsync(executorService, new Callable<RefreshTrustedAdvisorCheckResult>() {
             public RefreshTrustedAdvisorCheckResult call() throws Exception {
-              RefreshTrustedAdvisorCheckResult result;
-                try {
-                result = refreshTrustedAdvisorCheck(refreshTrustedAdvisorCheckRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(refreshTrustedAdvisorCheckRequest, result);
-                 return result;
-        }
-    });
+                return refreshTrustedAdvisorCheck(refreshTrustedAdvisorCheckRequest);
+            }
+        }, refreshTrustedAdvisorCheckRequest,
+                new RefreshTrustedAdvisorCheckRequestMarshaller(), new RefreshTrustedAdvisorCheckResultJsonUnmarshaller());
     }
     
     /**
@@ -1656,11 +1754,7 @@ public class AWSSupportAsyncClient extends AWSSupportClient
      */
     public Future<DescribeTrustedAdvisorCheckSummariesResult> describeTrustedAdvisorCheckSummariesAsync(final DescribeTrustedAdvisorCheckSummariesRequest describeTrustedAdvisorCheckSummariesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckSummariesResult>() {
-            public DescribeTrustedAdvisorCheckSummariesResult call() throws Exception {
-                return describeTrustedAdvisorCheckSummaries(describeTrustedAdvisorCheckSummariesRequest);
-        }
-    });
+        return describeTrustedAdvisorCheckSummariesComposableAsync(describeTrustedAdvisorCheckSummariesRequest);
     }
 
     /**
@@ -1698,19 +1792,32 @@ public class AWSSupportAsyncClient extends AWSSupportClient
             final DescribeTrustedAdvisorCheckSummariesRequest describeTrustedAdvisorCheckSummariesRequest,
             final AsyncHandler<DescribeTrustedAdvisorCheckSummariesRequest, DescribeTrustedAdvisorCheckSummariesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTrustedAdvisorCheckSummariesResult>() {
+        return withAsyncHandler(describeTrustedAdvisorCheckSummariesComposableAsync(describeTrustedAdvisorCheckSummariesRequest),
+                describeTrustedAdvisorCheckSummariesRequest, asyncHandler);
+    }
+
+    /**
+     * Asynchronously executes the DescribeTrustedAdvisorCheckSummaries
+     * operation like
+     * {@link #describeTrustedAdvisorCheckSummariesAsync(DescribeTrustedAdvisorCheckSummariesRequest)},
+     * returning a future to which further processing can be chained
+     * without blocking.
+     *
+     * @param describeTrustedAdvisorCheckSummariesRequest Container for the
+     *           necessary parameters to execute the
+     *           DescribeTrustedAdvisorCheckSummaries operation on AWSSupport.
+     *
+     * @return A composable future for the response from the
+     *         DescribeTrustedAdvisorCheckSummaries service method, as
+     *         returned by AWSSupport.
+     */
+    public ComposableFuture<DescribeTrustedAdvisorCheckSummariesResult> describeTrustedAdvisorCheckSummariesComposableAsync(final DescribeTrustedAdvisorCheckSummariesRequest describeTrustedAdvisorCheckSummariesRequest) {
+        return executeAsync(executorService, new Callable<DescribeTrustedAdvisorCheckSummariesResult>() {
             public DescribeTrustedAdvisorCheckSummariesResult call() throws Exception {
-              DescribeTrustedAdvisorCheckSummariesResult result;
-                try {
-                result = describeTrustedAdvisorCheckSummaries(describeTrustedAdvisorCheckSummariesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTrustedAdvisorCheckSummariesRequest, result);
-                 return result;
-        }
-    });
+                return describeTrustedAdvisorCheckSummaries(describeTrustedAdvisorCheckSummariesRequest);
+            }
+        }, describeTrustedAdvisorCheckSummariesRequest,
+                new DescribeTrustedAdvisorCheckSummariesRequestMarshaller(), new DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller());
     }
     
 }